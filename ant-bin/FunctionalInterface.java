@@ -0,0 +1,3 @@
+@interface FunctionalInterface {
+
+}
\ No newline at end of file
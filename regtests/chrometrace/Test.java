@@ -0,0 +1,32 @@
+import java.util.ArrayList;
+import java.util.List;
+
+public class Test {
+  interface Shape {
+    double area();
+  }
+
+  static class Square implements Shape {
+    private final double side;
+
+    Square(double side) {
+      this.side = side;
+    }
+
+    public double area() {
+      return side * side;
+    }
+  }
+
+  public static void main(String[] args) {
+    List<Shape> shapes = new ArrayList<Shape>();
+    for (int i = 1; i <= 3; i++) {
+      shapes.add(new Square(i));
+    }
+    double total = 0;
+    for (Shape shape : shapes) {
+      total += shape.area();
+    }
+    System.out.println(total);
+  }
+}
@@ -0,0 +1,64 @@
+#!/bin/sh
+# Regression test for using the -Xtrace and -Xtrace-chrome options together.
+#
+# Usage: run.sh [extendj.jar]
+#
+# JAVA_HOME must point to a Java 8 JDK. Test.java is compiled with
+# -Xtrace-chrome, and then with both -Xtrace-chrome and -Xtrace. The Chrome
+# trace must contain the same number of phase and attribute events in both
+# cases, so no event is written twice. The -Xtrace address has no listener,
+# so the compiler only warns that it can not send the trace.
+
+set -e
+EXTENDJ=${1:-$(dirname "$0")/../../java8/extendj.jar}
+case "$EXTENDJ" in
+  /*) ;;
+  *) EXTENDJ="$PWD/$EXTENDJ" ;;
+esac
+cd "$(dirname "$0")"
+JAVA="$JAVA_HOME/bin/java"
+RT="$JAVA_HOME/jre/lib/rt.jar"
+TMP=$(mktemp -d)
+trap 'rm -rf "$TMP"' EXIT
+
+extendj() {
+  "$JAVA" -cp "$EXTENDJ" org.extendj.JavaCompiler "$@"
+}
+
+fail() {
+  echo "FAIL: $1"
+  exit 1
+}
+
+# Prints the number of events in a Chrome trace with the given category and
+# phase (B or E).
+count() {
+  grep -c "\"cat\":\"$2\",\"ph\":\"$3\"" "$1" || true
+}
+
+# Compiles Test.java with the given extra options, writing the Chrome trace
+# to $TMP/<name>.json.
+check() {
+  name=$1
+  shift
+  mkdir "$TMP/$name"
+  extendj -bootclasspath "$RT" -d "$TMP/$name" -Xtrace-chrome "$TMP/$name.json" "$@" \
+      Test.java > "$TMP/$name.log" 2>&1 || fail "$name: Test.java did not compile"
+  for cat in phase attribute; do
+    begin=$(count "$TMP/$name.json" $cat B)
+    end=$(count "$TMP/$name.json" $cat E)
+    [ "$begin" -gt 0 ] || fail "$name: no $cat events"
+    [ "$begin" -eq "$end" ] || fail "$name: $begin $cat begin events, but $end end events"
+  done
+}
+
+check chrome
+check both -Xtrace localhost:1
+for cat in phase attribute; do
+  chrome=$(count "$TMP/chrome.json" $cat B)
+  both=$(count "$TMP/both.json" $cat B)
+  [ "$chrome" -eq "$both" ] \
+      || fail "$cat events: $chrome with -Xtrace-chrome, $both with -Xtrace too"
+done
+
+echo "PASS"
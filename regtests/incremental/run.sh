@@ -0,0 +1,67 @@
+#!/bin/sh
+# Regression test for the -Xincremental option.
+#
+# Usage: run.sh [extendj.jar]
+#
+# JAVA_HOME must point to a Java 8 JDK. A.java, B.java and C.java from v1/
+# are compiled with -Xincremental. A uses a constant and a method of B, and C
+# is independent. Then:
+#   - The constant in B is changed (v2/B.java). A inlines the constant, so A
+#     and B must be compiled again, and C must not.
+#   - An overload of the method is added to B (v3/B.java). The call in A must
+#     now use the new overload.
+#   - A.class is deleted. Only A must be compiled again.
+# After each step the program output is compared to the expected output.
+
+set -e
+EXTENDJ=${1:-$(dirname "$0")/../../java8/extendj.jar}
+case "$EXTENDJ" in
+  /*) ;;
+  *) EXTENDJ="$PWD/$EXTENDJ" ;;
+esac
+cd "$(dirname "$0")"
+JAVA="$JAVA_HOME/bin/java"
+TMP=$(mktemp -d)
+trap 'rm -rf "$TMP"' EXIT
+
+fail() {
+  echo "FAIL: $1"
+  exit 1
+}
+
+mkdir "$TMP/src" "$TMP/out"
+cp v1/A.java v1/B.java v1/C.java "$TMP/src"
+
+# Compiles the sources incrementally, and checks the program output and the
+# names of the class files that were written.
+check() {
+  name=$1
+  expected_output=$2
+  expected_written=$3
+  (cd "$TMP/src" && "$JAVA" -cp "$EXTENDJ" org.extendj.JavaCompiler -verbose \
+      -Xincremental "$TMP/deps.bin" -d "$TMP/out" A.java B.java C.java) \
+      > "$TMP/$name.log" || fail "$name: did not compile"
+  written=$(sed -n 's|^Writing class file to .*/||p' "$TMP/$name.log" | sort | tr '\n' ' ')
+  [ "$written" = "$expected_written" ] \
+      || fail "$name: wrote '$written', expected '$expected_written'"
+  output=$("$JAVA" -cp "$TMP/out" A | tr '\n' ' ')
+  [ "$output" = "$expected_output" ] \
+      || fail "$name: output '$output', expected '$expected_output'"
+}
+
+check initial "1 g(long) " "A.class B.class C.class "
+check unchanged "1 g(long) " ""
+
+# Source modification times are compared, so wait before changing a file.
+sleep 1
+cp v2/B.java "$TMP/src"
+check constant "2 g(long) " "A.class B.class "
+
+sleep 1
+cp v3/B.java "$TMP/src"
+check overload "2 g(int) " "A.class B.class "
+
+rm "$TMP/out/A.class"
+check deleted "2 g(int) " "A.class "
+
+echo "PASS"
@@ -0,0 +1,6 @@
+public class A {
+  public static void main(String[] args) {
+    System.out.println(B.C);
+    B.g(1);
+  }
+}
@@ -0,0 +1,3 @@
+public class C {
+  static final int D = 3;
+}
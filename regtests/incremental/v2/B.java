@@ -0,0 +1,7 @@
+public class B {
+  static final int C = 2;
+
+  static void g(long x) {
+    System.out.println("g(long)");
+  }
+}
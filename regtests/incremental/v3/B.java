@@ -0,0 +1,11 @@
+public class B {
+  static final int C = 2;
+
+  static void g(long x) {
+    System.out.println("g(long)");
+  }
+
+  static void g(int x) {
+    System.out.println("g(int)");
+  }
+}
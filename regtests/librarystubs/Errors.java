@@ -0,0 +1,8 @@
+import q.B;
+
+public class Errors {
+  int hidden(B b) {
+    // B.x is private, and hides the public field A.x.
+    return b.x;
+  }
+}
@@ -0,0 +1,10 @@
+import q.B;
+
+public class Test {
+  public static void main(String[] args) {
+    B b = new B();
+    System.out.println(b.y);
+    System.out.println(b.get());
+    System.out.println(b.value());
+  }
+}
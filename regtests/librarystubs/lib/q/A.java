@@ -0,0 +1,11 @@
+package q;
+
+public class A {
+  public int x = 1;
+
+  public int y = 2;
+
+  public int get() {
+    return x + y;
+  }
+}
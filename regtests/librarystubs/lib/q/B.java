@@ -0,0 +1,21 @@
+package q;
+
+public class B extends A {
+  private int x = 3;
+
+  private B(int x) {
+    this.x = x;
+  }
+
+  public B() {
+    this(4);
+  }
+
+  private int twice() {
+    return 2 * x;
+  }
+
+  public int value() {
+    return twice() + y;
+  }
+}
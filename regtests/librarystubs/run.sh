@@ -0,0 +1,59 @@
+#!/bin/sh
+# Regression test for the -Xlibrary-stubs option.
+#
+# Usage: run.sh [extendj.jar]
+#
+# JAVA_HOME must point to a Java 8 JDK. A Jar file is built from lib/, where
+# q.B has a private field that hides a public field of its superclass q.A,
+# and private methods and constructors. Test.java is compiled against the Jar
+# file with and without -Xlibrary-stubs, and the program output is compared
+# to the expected file. Errors.java uses the hidden field, and must give the
+# same errors in both modes.
+
+set -e
+EXTENDJ=${1:-$(dirname "$0")/../../java8/extendj.jar}
+case "$EXTENDJ" in
+  /*) ;;
+  *) EXTENDJ="$PWD/$EXTENDJ" ;;
+esac
+cd "$(dirname "$0")"
+JAVA="$JAVA_HOME/bin/java"
+JAR="$JAVA_HOME/bin/jar"
+RT="$JAVA_HOME/jre/lib/rt.jar"
+TMP=$(mktemp -d)
+trap 'rm -rf "$TMP"' EXIT
+
+extendj() {
+  "$JAVA" -cp "$EXTENDJ" org.extendj.JavaCompiler "$@"
+}
+
+fail() {
+  echo "FAIL: $1"
+  exit 1
+}
+
+mkdir "$TMP/lib"
+extendj -bootclasspath "$RT" -d "$TMP/lib" lib/q/A.java lib/q/B.java
+"$JAR" cf "$TMP/lib.jar" -C "$TMP/lib" .
+
+# Compiles and runs Test.java, and compiles Errors.java, with the given
+# extra options. The output goes to $TMP/<name>.*.
+check() {
+  name=$1
+  shift
+  mkdir "$TMP/$name"
+  extendj -bootclasspath "$RT" -classpath "$TMP/lib.jar" -d "$TMP/$name" "$@" Test.java \
+      || fail "$name: Test.java did not compile"
+  "$JAVA" -cp "$TMP/$name:$TMP/lib.jar" Test > "$TMP/$name.out"
+  diff Test.out.expected "$TMP/$name.out" || fail "$name: wrong program output"
+  if extendj -bootclasspath "$RT" -classpath "$TMP/lib.jar" -d "$TMP/$name" "$@" \
+      Errors.java 2> "$TMP/$name.err"; then
+    fail "$name: Errors.java compiled without errors"
+  fi
+}
+
+check plain
+check stubs -Xlibrary-stubs
+diff "$TMP/plain.err" "$TMP/stubs.err" || fail "stubs: different error messages"
+
+echo "PASS"
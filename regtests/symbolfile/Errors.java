@@ -0,0 +1,13 @@
+// Compiled with and without -Xsymbol-file by run.sh. The errors must match
+// Errors.err.expected in both cases.
+import java.util.List;
+import q.Lib;
+
+public class Errors {
+  void m(List<String> list) {
+    int n = list.length;
+    list.add(1);
+    String s = Lib.greeting(1);
+    Object o = new Lib.Missing();
+  }
+}
@@ -0,0 +1,29 @@
+// Compiled with and without -Xsymbol-file by run.sh. The output of the
+// compiled program must match Test.out.expected in both cases.
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import q.Lib;
+
+public class Test {
+  public static void main(String[] args) {
+    Map<String, Integer> counts = new TreeMap<String, Integer>();
+    for (String word : "b a c a b a".split(" ")) {
+      Integer count = counts.get(word);
+      counts.put(word, count == null ? 1 : count + 1);
+    }
+    for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+      System.out.println(entry.getKey() + "=" + entry.getValue());
+    }
+    List<Integer> values = new ArrayList<Integer>(counts.values());
+    Collections.sort(values, Collections.reverseOrder());
+    System.out.println(values);
+    System.out.println(TimeUnit.SECONDS.toMillis(2));
+    StringBuilder buf = new StringBuilder();
+    buf.append(Lib.greeting()).append(' ').append(Lib.Nested.VALUE);
+    System.out.println(buf);
+  }
+}
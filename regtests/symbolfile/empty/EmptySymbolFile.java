@@ -0,0 +1,11 @@
+import java.io.File;
+import java.util.ArrayList;
+
+import org.extendj.ast.SymbolFile;
+
+/** Writes a symbol file that lists no Jar files. */
+public class EmptySymbolFile {
+  public static void main(String[] args) throws Exception {
+    SymbolFile.write(new ArrayList<File>(), new File(args[0]));
+  }
+}
@@ -0,0 +1,11 @@
+package q;
+
+public class Lib {
+  public static String greeting() {
+    return "hello";
+  }
+
+  public static class Nested {
+    public static final int VALUE = 42;
+  }
+}
@@ -0,0 +1,90 @@
+#!/bin/sh
+# Regression test for the -Xsymbol-file option.
+#
+# Usage: run.sh [extendj.jar]
+#
+# JAVA_HOME must point to a Java 8 JDK. A Jar file is built from lib/, and a
+# symbol file is written for rt.jar and that Jar file. Test.java and
+# Errors.java are then compiled with and without the symbol file, and the
+# program output and error messages are compared to the expected files.
+# Finally the Jar file is touched, and the compiler must warn that the
+# symbol file is out of date and fall back to the Jar files. A boot class
+# path without Jar files must make the writer fail, and a symbol file that
+# lists no Jar files must be ignored with a warning.
+
+set -e
+EXTENDJ=${1:-$(dirname "$0")/../../java8/extendj.jar}
+case "$EXTENDJ" in
+  /*) ;;
+  *) EXTENDJ="$PWD/$EXTENDJ" ;;
+esac
+cd "$(dirname "$0")"
+JAVA="$JAVA_HOME/bin/java"
+JAR="$JAVA_HOME/bin/jar"
+RT="$JAVA_HOME/jre/lib/rt.jar"
+TMP=$(mktemp -d)
+trap 'rm -rf "$TMP"' EXIT
+
+extendj() {
+  "$JAVA" -cp "$EXTENDJ" org.extendj.JavaCompiler "$@"
+}
+
+fail() {
+  echo "FAIL: $1"
+  exit 1
+}
+
+mkdir "$TMP/lib"
+extendj -bootclasspath "$RT" -d "$TMP/lib" lib/q/Lib.java
+"$JAR" cf "$TMP/lib.jar" -C "$TMP/lib" .
+BOOT="$RT:$TMP/lib.jar"
+"$JAVA" -cp "$EXTENDJ" org.extendj.SymbolFileWriter -bootclasspath "$BOOT" \
+    "$TMP/boot.sym" > /dev/null
+
+# Compiles and runs Test.java, and compiles Errors.java, with the given
+# extra options. The output goes to $TMP/<name>.*.
+check() {
+  name=$1
+  shift
+  mkdir "$TMP/$name"
+  extendj -bootclasspath "$BOOT" -d "$TMP/$name" "$@" Test.java \
+      2> "$TMP/$name.warnings" || fail "$name: Test.java did not compile"
+  "$JAVA" -cp "$TMP/$name:$TMP/lib.jar" Test > "$TMP/$name.out"
+  diff Test.out.expected "$TMP/$name.out" || fail "$name: wrong program output"
+  if extendj -bootclasspath "$BOOT" -d "$TMP/$name" "$@" Errors.java \
+      2> "$TMP/$name.err"; then
+    fail "$name: Errors.java compiled without errors"
+  fi
+  grep -v "^Warning:" "$TMP/$name.err" > "$TMP/$name.errors" || true
+  diff Errors.err.expected "$TMP/$name.errors" || fail "$name: wrong error messages"
+}
+
+check plain
+check symbols -Xsymbol-file "$TMP/boot.sym"
+if [ -s "$TMP/symbols.warnings" ]; then
+  cat "$TMP/symbols.warnings"
+  fail "symbols: the symbol file was not used"
+fi
+
+# Modify the Jar file: the symbol file is stale and must not be used.
+touch -t 200001010000 "$TMP/lib.jar"
+check stale -Xsymbol-file "$TMP/boot.sym"
+grep -q "^Warning: the symbol file .* is out of date" "$TMP/stale.warnings" \
+    || fail "stale: no warning for the modified Jar file"
+
+# No Jar files on the boot class path: the writer must fail.
+if "$JAVA" -cp "$EXTENDJ" org.extendj.SymbolFileWriter -bootclasspath "$TMP" \
+    "$TMP/none.sym" > /dev/null 2>&1; then
+  fail "none: the writer accepted a boot class path without Jar files"
+fi
+
+# A symbol file without Jar files must not be used.
+mkdir "$TMP/gen"
+extendj -bootclasspath "$RT" -classpath "$EXTENDJ" -d "$TMP/gen" \
+    empty/EmptySymbolFile.java
+"$JAVA" -cp "$TMP/gen:$EXTENDJ" EmptySymbolFile "$TMP/empty.sym"
+check empty -Xsymbol-file "$TMP/empty.sym"
+grep -q "^Warning: the symbol file .* lists no Jar files" "$TMP/empty.warnings" \
+    || fail "empty: no warning for the empty symbol file"
+
+echo "PASS"
@@ -0,0 +1,102 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import org.extendj.ast.Frontend;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+
+/**
+ * Sends a compile request to a running {@link CompileServer}.
+ *
+ * <p>The command-line arguments are the same as for {@link JavaCompiler}. The
+ * server port is given by the system property {@code extendj.server.port}.
+ * The client authenticates with the token that the server stores in
+ * {@link CompileServer#tokenFile(int)}.
+ */
+public class CompileClient {
+
+  /**
+   * Entry point for the compile client.
+   * @param args command-line arguments
+   */
+  public static void main(String args[]) {
+    int port = Integer.getInteger("extendj.server.port", CompileServer.DEFAULT_PORT);
+    int exitCode;
+    try {
+      exitCode = compile("localhost", port, args);
+    } catch (IOException e) {
+      System.err.format("Error: could not connect to compile server at port %d: %s%n",
+          port, e.getMessage());
+      exitCode = Frontend.EXIT_SYSTEM_ERROR;
+    }
+    if (exitCode != 0) {
+      System.exit(exitCode);
+    }
+  }
+
+  /**
+   * Send a compile request to the server and copy the output of the
+   * compilation to standard output and standard error.
+   *
+   * @return the exit code of the compiler
+   */
+  public static int compile(String host, int port, String[] args) throws IOException {
+    Socket socket = new Socket(host, port);
+    try {
+      DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+      out.writeUTF(CompileServer.readToken(port));
+      out.writeUTF(System.getProperty("user.dir"));
+      out.writeInt(args.length);
+      for (String arg : args) {
+        out.writeUTF(arg);
+      }
+      out.flush();
+      DataInputStream in = new DataInputStream(socket.getInputStream());
+      int exitCode = in.readInt();
+      copyOutput(in, System.out);
+      copyOutput(in, System.err);
+      return exitCode;
+    } finally {
+      socket.close();
+    }
+  }
+
+  private static void copyOutput(DataInputStream in, OutputStream out) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    out.write(bytes);
+    out.flush();
+  }
+}
@@ -0,0 +1,345 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import org.extendj.ast.Frontend;
+import org.extendj.ast.Program;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A compile server that keeps library classes loaded between compilations.
+ *
+ * <p>The server listens on a local TCP port for requests sent by
+ * {@link CompileClient}. Each request contains the command-line arguments
+ * for one run of {@link JavaCompiler}. A program is kept for each distinct
+ * set of options (all arguments except source files), so that the class path
+ * and the loaded library compilation units can be reused by later requests
+ * with the same options. Library compilation units are loaded again if their
+ * class file or Jar file has been modified.
+ *
+ * <p>Requests are handled one at a time. Relative paths are resolved against
+ * the working directory of the server, so requests are only accepted from
+ * clients running in the same directory.
+ *
+ * <p>Only clients that can read the token file of the server are served. The
+ * token is a random string written to {@code ~/.extendj/compile-server-<port>}
+ * when the server starts. The directory and the file are only accessible by
+ * the user running the server.
+ *
+ * <p>Protocol: the client sends the token (UTF), its working directory (UTF),
+ * the number of arguments (int), and the arguments (UTF). The server responds
+ * with the exit code (int), followed by the standard output and standard
+ * error of the compilation, each as a byte count (int) followed by the bytes.
+ *
+ * <p>A kept program is flushed before each compilation: its source
+ * compilation units, attribute caches and provenance tables are cleared, and
+ * only the unmodified library compilation units remain.
+ */
+public class CompileServer {
+
+  /** Default server port. */
+  public static final int DEFAULT_PORT = 6835;
+
+  /** The maximum number of programs to keep between compilations. */
+  private static final int MAX_PROGRAMS = 4;
+
+  /** The maximum number of arguments in a request. */
+  private static final int MAX_ARGUMENTS = 1 << 16;
+
+  /**
+   * The number of milliseconds to wait for a client to send its request.
+   * A client that stops sending would otherwise block all other clients.
+   */
+  private static final int READ_TIMEOUT = 30000;
+
+  /**
+   * Entry point for the compile server.
+   * @param args command-line arguments
+   */
+  public static void main(String args[]) {
+    int port = DEFAULT_PORT;
+    for (int i = 0; i < args.length; i++) {
+      if (args[i].equals("-port") && i + 1 < args.length) {
+        try {
+          port = Integer.parseInt(args[++i]);
+        } catch (NumberFormatException e) {
+          System.err.println("Error: invalid port number: " + args[i]);
+          System.exit(Frontend.EXIT_CONFIG_ERROR);
+        }
+      } else {
+        printHelp();
+        System.exit(args[i].equals("-help") ? Frontend.EXIT_SUCCESS : Frontend.EXIT_CONFIG_ERROR);
+      }
+    }
+    try {
+      new CompileServer().serve(port);
+    } catch (IOException e) {
+      System.err.println("Error: " + e.getMessage());
+      System.exit(Frontend.EXIT_SYSTEM_ERROR);
+    }
+  }
+
+  public static void printHelp() {
+    System.out.println("Usage: CompileServer [-port <port>]");
+    System.out.println();
+    System.out.println("Serves compile requests from CompileClient on the given local port.");
+    System.out.format("The default port is %d.%n", DEFAULT_PORT);
+  }
+
+  /**
+   * @return the file holding the token of the compile server on the given
+   * port
+   */
+  public static File tokenFile(int port) {
+    return new File(new File(System.getProperty("user.home"), ".extendj"),
+        "compile-server-" + port);
+  }
+
+  /**
+   * Reads the token of the compile server on the given port.
+   */
+  public static String readToken(int port) throws IOException {
+    File file = tokenFile(port);
+    DataInputStream in = new DataInputStream(new FileInputStream(file));
+    try {
+      return in.readUTF();
+    } finally {
+      in.close();
+    }
+  }
+
+  private final String workingDirectory = System.getProperty("user.dir");
+
+  private String token;
+
+  /** Programs kept between compilations, in least recently used order. */
+  private final Map<String, Program> programs = new LinkedHashMap<String, Program>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Program> eldest) {
+      return size() > MAX_PROGRAMS;
+    }
+  };
+
+  /**
+   * Serve compile requests until the server is terminated.
+   */
+  public void serve(int port) throws IOException {
+    ServerSocket server = new ServerSocket(port, 50, InetAddress.getByName("localhost"));
+    File tokenFile = tokenFile(server.getLocalPort());
+    try {
+      token = writeToken(tokenFile);
+      System.out.format("ExtendJ compile server listening on port %d%n", server.getLocalPort());
+      while (true) {
+        Socket socket = server.accept();
+        try {
+          socket.setSoTimeout(READ_TIMEOUT);
+          handleRequest(socket);
+        } catch (IOException e) {
+          System.err.println("Warning: failed to handle request: " + e.getMessage());
+        } finally {
+          socket.close();
+        }
+      }
+    } finally {
+      tokenFile.delete();
+      server.close();
+    }
+  }
+
+  /**
+   * Writes a new random token to the given file. The file and its directory
+   * are made accessible only to the current user before the token is written.
+   *
+   * @return the token
+   */
+  private static String writeToken(File file) throws IOException {
+    File directory = file.getParentFile();
+    if (!directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("could not create directory " + directory);
+    }
+    if (!setOwnerOnly(directory) || !directory.setExecutable(false, false)
+        || !directory.setExecutable(true, true)) {
+      throw new IOException("could not restrict access to " + directory);
+    }
+    byte[] bytes = new byte[32];
+    new SecureRandom().nextBytes(bytes);
+    StringBuilder token = new StringBuilder();
+    for (byte b : bytes) {
+      token.append(String.format("%02x", b & 0xFF));
+    }
+    File temp = File.createTempFile("token", null, directory);
+    try {
+      if (!setOwnerOnly(temp)) {
+        throw new IOException("could not restrict access to " + temp);
+      }
+      DataOutputStream out = new DataOutputStream(new FileOutputStream(temp));
+      try {
+        out.writeUTF(token.toString());
+      } finally {
+        out.close();
+      }
+      file.delete();
+      if (!temp.renameTo(file)) {
+        throw new IOException("could not write " + file);
+      }
+    } finally {
+      temp.delete();
+    }
+    file.deleteOnExit();
+    return token.toString();
+  }
+
+  /**
+   * Makes a file readable and writable only by its owner.
+   *
+   * @return {@code true} if the permissions were changed
+   */
+  private static boolean setOwnerOnly(File file) {
+    return file.setReadable(false, false) && file.setReadable(true, true)
+        && file.setWritable(false, false) && file.setWritable(true, true);
+  }
+
+  private void handleRequest(Socket socket) throws IOException {
+    DataInputStream in = new DataInputStream(socket.getInputStream());
+    DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+    byte[] clientToken = in.readUTF().getBytes("UTF-8");
+    if (!MessageDigest.isEqual(clientToken, token.getBytes("UTF-8"))) {
+      throw new IOException("the client sent an invalid token");
+    }
+    String directory = in.readUTF();
+    int numArgs = in.readInt();
+    if (numArgs < 0 || numArgs > MAX_ARGUMENTS) {
+      throw new IOException("invalid number of arguments: " + numArgs);
+    }
+    String[] args = new String[numArgs];
+    for (int i = 0; i < args.length; i++) {
+      args[i] = in.readUTF();
+    }
+    ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+    ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+    int exitCode;
+    if (!directory.equals(workingDirectory)) {
+      PrintStream err = new PrintStream(stderr, true, "UTF-8");
+      err.format("Error: the compile server runs in %s, but the client runs in %s%n",
+          workingDirectory, directory);
+      exitCode = Frontend.EXIT_CONFIG_ERROR;
+    } else {
+      try {
+        exitCode = compile(args, stdout, stderr);
+      } catch (RuntimeException e) {
+        PrintStream err = new PrintStream(stderr, true, "UTF-8");
+        err.println("Error: the compile server failed to handle the request:");
+        e.printStackTrace(err);
+        exitCode = Frontend.EXIT_UNHANDLED_ERROR;
+      }
+    }
+    out.writeInt(exitCode);
+    out.writeInt(stdout.size());
+    stdout.writeTo(out);
+    out.writeInt(stderr.size());
+    stderr.writeTo(out);
+    out.flush();
+  }
+
+  /**
+   * Compile with the given arguments, reusing a program from an earlier
+   * compilation with the same options if possible.
+   *
+   * @return the exit code of the compiler
+   */
+  public int compile(String[] args, ByteArrayOutputStream stdout, ByteArrayOutputStream stderr)
+      throws IOException {
+    PrintStream oldOut = System.out;
+    PrintStream oldErr = System.err;
+    try {
+      System.setOut(new PrintStream(stdout, true, "UTF-8"));
+      System.setErr(new PrintStream(stderr, true, "UTF-8"));
+      String key;
+      try {
+        key = new ResidentCompiler(new Program()).optionsKey(args);
+      } catch (Error e) {
+        // The option parser reports malformed arguments by throwing Error.
+        System.err.println(e.getMessage());
+        return Frontend.EXIT_CONFIG_ERROR;
+      }
+      Program program = programs.remove(key);
+      if (program != null) {
+        program.flushSourceCompilationUnits();
+      } else {
+        program = new Program();
+      }
+      int exitCode = new ResidentCompiler(program).run(args);
+      if (exitCode != Frontend.EXIT_UNHANDLED_ERROR) {
+        // The program may be in an inconsistent state after an unhandled error,
+        // so it is only kept after normal compilations.
+        programs.put(key, program);
+      }
+      return exitCode;
+    } finally {
+      System.setOut(oldOut);
+      System.setErr(oldErr);
+    }
+  }
+
+  /**
+   * Java compiler using a program kept by the compile server.
+   */
+  private static class ResidentCompiler extends JavaCompiler {
+    ResidentCompiler(Program program) {
+      super("ExtendJ", program);
+    }
+
+    /**
+     * Parses the arguments with the options of the compiler.
+     *
+     * @return a string representing all arguments except source files
+     */
+    String optionsKey(String[] args) {
+      initOptions();
+      program.options().addOptions(args);
+      return dependencyOptions(args, program.options().files());
+    }
+  }
+}
@@ -31,6 +31,7 @@
 package org.extendj;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
 
 import org.extendj.ast.CompilationUnit;
@@ -81,6 +82,15 @@ public class JavaCompiler extends Frontend {
     super(toolName, ExtendJVersion.getVersion());
   }
 
+  /**
+   * Initialize the compiler with an existing program.
+   * @param toolName the name of the compiler
+   * @param program the program to compile with
+   */
+  protected JavaCompiler(String toolName, Program program) {
+    super(toolName, ExtendJVersion.getVersion(), program);
+  }
+
   /**
    * @param args command-line arguments
    * @return {@code true} on success, {@code false} on error
@@ -155,6 +165,15 @@ public class JavaCompiler extends Frontend {
     }
   }
 
+  @Override
+  protected Collection<String> outputFiles(CompilationUnit unit) {
+    Collection<String> paths = new ArrayList<String>();
+    if (mode == Mode.COMPILE) {
+      unit.classfilePaths(paths);
+    }
+    return paths;
+  }
+
   @Override
   protected void initOptions() {
     super.initOptions();
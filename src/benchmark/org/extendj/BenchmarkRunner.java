@@ -0,0 +1,91 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.util.Arrays;
+
+/**
+ * Runs the rounds of the main()-driven benchmarks.
+ *
+ * <p>One warm-up round is run first and is not measured. The time of each
+ * measured round is printed, and the median time is returned.
+ */
+public class BenchmarkRunner {
+
+  /** One round of a benchmark. */
+  public interface Round {
+    /**
+     * Runs the round.
+     *
+     * @return the time of the round, in nanoseconds
+     */
+    long run() throws Exception;
+  }
+
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * Runs a warm-up round and the given number of measured rounds.
+   *
+   * @return the median time of the measured rounds, in nanoseconds
+   */
+  public static long measure(int rounds, Round round) throws Exception {
+    if (rounds < 1) {
+      throw new IllegalArgumentException("rounds must be at least 1: " + rounds);
+    }
+    round.run();
+    long[] times = new long[rounds];
+    for (int i = 0; i < rounds; ++i) {
+      times[i] = round.run();
+      System.out.format("round %d: %d ms%n", i + 1, times[i] / 1000000);
+    }
+    Arrays.sort(times);
+    return Math.max(1, times[rounds / 2]);
+  }
+
+  /**
+   * Parses the count argument of a command-line option. Prints an error and
+   * exits if the argument is not a positive integer.
+   */
+  public static int parseCount(String option, String arg) {
+    try {
+      int count = Integer.parseInt(arg);
+      if (count >= 1) {
+        return count;
+      }
+    } catch (NumberFormatException e) {
+      // Handled below.
+    }
+    System.err.println("Error: " + option + " must be a positive integer, got " + arg);
+    System.exit(1);
+    return 0;
+  }
+}
@@ -0,0 +1,187 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.extendj.ast.Frontend;
+import org.extendj.ast.Program;
+
+/**
+ * Measures the throughput of concurrent class path lookups.
+ *
+ * <p>Each thread repeatedly checks the package of, and opens the class file
+ * of, a fixed set of standard library types. The remaining command-line
+ * arguments are passed to the compiler, so the class path can be given with
+ * -classpath and -bootclasspath as usual.
+ */
+public class ClassPathBenchmark extends Frontend {
+
+  /** Standard library types that exist in all supported Java versions. */
+  private static final String[] TYPES = {
+    "java.lang.Object", "java.lang.String", "java.lang.Integer", "java.lang.Long",
+    "java.lang.Math", "java.lang.System", "java.lang.Thread", "java.lang.Class",
+    "java.lang.StringBuilder", "java.lang.Iterable", "java.lang.Comparable",
+    "java.lang.Exception", "java.lang.RuntimeException", "java.lang.Error",
+    "java.util.List", "java.util.ArrayList", "java.util.LinkedList", "java.util.Map",
+    "java.util.HashMap", "java.util.TreeMap", "java.util.Set", "java.util.HashSet",
+    "java.util.Collections", "java.util.Arrays", "java.util.Iterator",
+    "java.io.File", "java.io.InputStream", "java.io.OutputStream", "java.io.IOException",
+    "java.io.PrintStream", "java.util.concurrent.ConcurrentHashMap",
+    "java.util.concurrent.ExecutorService", "java.util.zip.ZipFile",
+  };
+
+  public static void main(String[] args) {
+    int threads = 4;
+    int rounds = 5;
+    int passes = 200;
+    List<String> rest = new ArrayList<String>();
+    for (int i = 0; i < args.length; ++i) {
+      String arg = args[i];
+      if (arg.equals("-h")) {
+        printHelp();
+        System.exit(0);
+      } else if (arg.equals("-threads") && i + 1 < args.length) {
+        threads = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else if (arg.equals("-rounds") && i + 1 < args.length) {
+        rounds = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else if (arg.equals("-passes") && i + 1 < args.length) {
+        passes = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else {
+        rest.add(arg);
+      }
+    }
+    ClassPathBenchmark benchmark = new ClassPathBenchmark();
+    if (benchmark.setup(rest.toArray(new String[rest.size()])) != EXIT_SUCCESS) {
+      System.exit(EXIT_CONFIG_ERROR);
+    }
+    try {
+      benchmark.measure(threads, rounds, passes);
+    } catch (Exception e) {
+      System.err.println("Error: " + e.getMessage());
+      System.exit(EXIT_SYSTEM_ERROR);
+    }
+  }
+
+  public static void printHelp() {
+    System.out.println("Usage: ClassPathBenchmark [OPTIONS] [COMPILER OPTIONS]");
+    System.out.println();
+    System.out.println("OPTIONS:");
+    System.out.println("  -threads <N>  Number of threads doing lookups (default 4).");
+    System.out.println("  -rounds <N>   Number of measured rounds (default 5).");
+    System.out.println("  -passes <N>   Passes over the type list per thread and round");
+    System.out.println("                (default 200).");
+    System.out.println();
+    System.out.println("Prints the time of each round and the median number of lookups");
+    System.out.println("per millisecond. One round is run first as warm-up.");
+  }
+
+  public ClassPathBenchmark() {
+    super("ClassPath Benchmark", ExtendJVersion.getVersion());
+  }
+
+  private int setup(String[] args) {
+    program.initBytecodeReader(Program.defaultBytecodeReader());
+    program.initJavaParser(Program.defaultJavaParser());
+    initOptions();
+    return processArgs(args);
+  }
+
+  private void measure(int threads, int rounds, int passes) throws Exception {
+    // Initializes the class path, and checks that all types exist.
+    for (String type : TYPES) {
+      if (!program.isPackage(packageName(type))) {
+        throw new Error("package not found on the class path: " + packageName(type));
+      }
+      program.getInputStream(type).close();
+    }
+    long lookups = 2L * TYPES.length * passes * threads;
+    final int numThreads = threads;
+    final int numPasses = passes;
+    long median = BenchmarkRunner.measure(rounds, new BenchmarkRunner.Round() {
+      @Override
+      public long run() throws InterruptedException {
+        return runRound(numThreads, numPasses);
+      }
+    });
+    System.out.format("%d threads, %d lookups per round: %d lookups/ms (median)%n",
+        threads, lookups, lookups * 1000000 / median);
+  }
+
+  /**
+   * @return the wall clock time of the round, in nanoseconds
+   */
+  private long runRound(int threads, final int passes) throws InterruptedException {
+    final CountDownLatch start = new CountDownLatch(1);
+    final CountDownLatch done = new CountDownLatch(threads);
+    final Throwable[] failure = new Throwable[1];
+    for (int i = 0; i < threads; ++i) {
+      new Thread() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+            for (int pass = 0; pass < passes; ++pass) {
+              for (String type : TYPES) {
+                program.isPackage(packageName(type));
+                InputStream in = program.getInputStream(type);
+                in.close();
+              }
+            }
+          } catch (Throwable e) {
+            synchronized (failure) {
+              failure[0] = e;
+            }
+          } finally {
+            done.countDown();
+          }
+        }
+      }.start();
+    }
+    long begin = System.nanoTime();
+    start.countDown();
+    done.await();
+    long time = System.nanoTime() - begin;
+    synchronized (failure) {
+      if (failure[0] != null) {
+        throw new Error("lookup failed", failure[0]);
+      }
+    }
+    return time;
+  }
+
+  private static String packageName(String type) {
+    return type.substring(0, type.lastIndexOf('.'));
+  }
+}
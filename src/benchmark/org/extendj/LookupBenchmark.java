@@ -0,0 +1,194 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.extendj.ast.ASTNode;
+import org.extendj.ast.CompilationUnit;
+import org.extendj.ast.Frontend;
+import org.extendj.ast.MethodAccess;
+import org.extendj.ast.Program;
+import org.extendj.ast.VarAccess;
+
+/**
+ * Measures method and field lookups in a class with many members.
+ *
+ * <p>The input is generated: a class A with the overloads m(I0) .. m(IN-1)
+ * and the fields f0 .. fN-1, the classes I0 .. IN-1, and a subclass B of A
+ * that calls each overload and assigns each field. Each round flushes the
+ * attribute caches of the source compilation units and then evaluates
+ * MethodAccess.decls() and VarAccess.decls() for all calls and field
+ * accesses in B. The remaining command-line arguments are passed to the
+ * compiler, so the boot class path can be given with -bootclasspath.
+ */
+public class LookupBenchmark extends Frontend {
+  private final List<CompilationUnit> units = new ArrayList<CompilationUnit>();
+  private final List<MethodAccess> methodAccesses = new ArrayList<MethodAccess>();
+  private final List<VarAccess> fieldAccesses = new ArrayList<VarAccess>();
+
+  public static void main(String[] args) throws Exception {
+    int rounds = 5;
+    int size = 300;
+    List<String> rest = new ArrayList<String>();
+    for (int i = 0; i < args.length; ++i) {
+      String arg = args[i];
+      if (arg.equals("-h")) {
+        printHelp();
+        System.exit(0);
+      } else if (arg.equals("-rounds") && i + 1 < args.length) {
+        rounds = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else if (arg.equals("-size") && i + 1 < args.length) {
+        size = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else {
+        rest.add(arg);
+      }
+    }
+    final LookupBenchmark benchmark = new LookupBenchmark();
+    if (benchmark.setup(rest.toArray(new String[rest.size()])) != EXIT_SUCCESS) {
+      System.exit(EXIT_CONFIG_ERROR);
+    }
+    benchmark.addInput(size);
+    long median = BenchmarkRunner.measure(rounds, new BenchmarkRunner.Round() {
+      @Override
+      public long run() {
+        return benchmark.runRound();
+      }
+    });
+    System.out.format("%d overloads and %d fields: %d ms per round (median)%n",
+        size, size, median / 1000000);
+  }
+
+  public static void printHelp() {
+    System.out.println("Usage: LookupBenchmark [OPTIONS] [COMPILER OPTIONS]");
+    System.out.println();
+    System.out.println("OPTIONS:");
+    System.out.println("  -rounds <N>  Number of measured rounds (default 5).");
+    System.out.println("  -size <N>    Number of overloads and fields in A (default 300).");
+    System.out.println();
+    System.out.println("Prints the time of each round and the median time per round.");
+    System.out.println("One round is run first as warm-up.");
+  }
+
+  public LookupBenchmark() {
+    super("Lookup Benchmark", ExtendJVersion.getVersion());
+  }
+
+  private int setup(String[] args) {
+    program.initBytecodeReader(Program.defaultBytecodeReader());
+    program.initJavaParser(Program.defaultJavaParser());
+    initOptions();
+    return processArgs(args);
+  }
+
+  /**
+   * Generates the input classes in a temporary directory, and adds them to
+   * the program.
+   */
+  private void addInput(int size) throws IOException {
+    File dir = File.createTempFile("lookup", "");
+    if (!dir.delete() || !dir.mkdir()) {
+      throw new IOException("could not create directory " + dir);
+    }
+    try {
+      File a = new File(dir, "A.java");
+      PrintWriter out = new PrintWriter(new FileWriter(a));
+      out.println("class A {");
+      for (int i = 0; i < size; ++i) {
+        out.format("  void m(I%d a) {}%n", i);
+        out.format("  int f%d;%n", i);
+      }
+      out.println("}");
+      for (int i = 0; i < size; ++i) {
+        out.format("class I%d {}%n", i);
+      }
+      out.close();
+      File b = new File(dir, "B.java");
+      out = new PrintWriter(new FileWriter(b));
+      out.println("class B extends A {");
+      out.println("  void t() {");
+      for (int i = 0; i < size; ++i) {
+        out.format("    m(new I%d());%n", i);
+        out.format("    f%d = %d;%n", i, i);
+      }
+      out.println("  }");
+      out.println("}");
+      out.close();
+      units.add(program.addSourceFile(a.getPath()));
+      units.add(program.addSourceFile(b.getPath()));
+      a.delete();
+      b.delete();
+    } finally {
+      dir.delete();
+    }
+    collectAccesses(units.get(1));
+    if (methodAccesses.size() != size || fieldAccesses.size() != size) {
+      throw new Error("unexpected input: " + methodAccesses.size() + " calls and "
+          + fieldAccesses.size() + " field accesses");
+    }
+  }
+
+  private void collectAccesses(ASTNode<?> node) {
+    if (node instanceof MethodAccess) {
+      methodAccesses.add((MethodAccess) node);
+    } else if (node instanceof VarAccess) {
+      fieldAccesses.add((VarAccess) node);
+    }
+    for (int i = 0; i < node.getNumChild(); ++i) {
+      collectAccesses(node.getChild(i));
+    }
+  }
+
+  /**
+   * @return the time of the lookups, in nanoseconds
+   */
+  private long runRound() {
+    for (CompilationUnit unit : units) {
+      unit.flushTreeCache();
+    }
+    long start = System.nanoTime();
+    for (MethodAccess access : methodAccesses) {
+      if (access.decls().size() != 1) {
+        throw new Error("call not resolved: " + access.prettyPrint());
+      }
+    }
+    for (VarAccess access : fieldAccesses) {
+      if (access.decls().size() != 1) {
+        throw new Error("field not resolved: " + access.prettyPrint());
+      }
+    }
+    return System.nanoTime() - start;
+  }
+}
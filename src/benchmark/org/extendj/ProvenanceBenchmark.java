@@ -0,0 +1,175 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import org.extendj.ast.ASTNode;
+import org.extendj.ast.Opt;
+
+/**
+ * Measures the throughput of the provenance tracker on a synthetic stream of
+ * attribute evaluation events.
+ *
+ * <p>The events are generated from a fixed random seed, so each run replays
+ * the same evaluation: nested attribute computations over a set of nodes,
+ * file reads, and cache reads of attributes computed earlier. Only the
+ * public event methods of {@link ProvenanceStackMachine} are used.
+ */
+public class ProvenanceBenchmark {
+  private static final String[] ATTRIBUTES = {
+    "type", "decl", "lookupType", "lookupVariable", "localLookup",
+    "memberFields", "methodsSignature", "constant",
+  };
+
+  private final ASTNode[] nodes;
+  private final String[] files;
+  private final int depth;
+  private long seed;
+  private long events;
+
+  public static void main(String[] args) throws Exception {
+    int rounds = 5;
+    int numNodes = 5000;
+    int numFiles = 200;
+    int evaluations = 20000;
+    int depth = 6;
+    for (int i = 0; i < args.length; ++i) {
+      String arg = args[i];
+      if (arg.equals("-h")) {
+        printHelp();
+        System.exit(0);
+      } else if (arg.equals("-rounds") && i + 1 < args.length) {
+        rounds = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else if (arg.equals("-nodes") && i + 1 < args.length) {
+        numNodes = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else if (arg.equals("-files") && i + 1 < args.length) {
+        numFiles = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else if (arg.equals("-evaluations") && i + 1 < args.length) {
+        evaluations = BenchmarkRunner.parseCount(arg, args[++i]);
+      } else if (arg.equals("-depth") && i + 1 < args.length) {
+        depth = Integer.parseInt(args[++i]);
+      } else {
+        System.err.println("Unknown argument: " + arg);
+        printHelp();
+        System.exit(1);
+      }
+    }
+    final ProvenanceBenchmark benchmark = new ProvenanceBenchmark(numNodes, numFiles, depth);
+    final ProvenanceStackMachine provenance = new ProvenanceStackMachine();
+    final int numEvaluations = evaluations;
+    long median = BenchmarkRunner.measure(rounds, new BenchmarkRunner.Round() {
+      @Override
+      public long run() {
+        long start = System.nanoTime();
+        benchmark.runRound(provenance, numEvaluations);
+        return System.nanoTime() - start;
+      }
+    });
+    System.out.format("%d events per round: %d events/ms (median)%n",
+        benchmark.events, benchmark.events * 1000000 / median);
+  }
+
+  public static void printHelp() {
+    System.out.println("Usage: ProvenanceBenchmark [OPTIONS]");
+    System.out.println();
+    System.out.println("OPTIONS:");
+    System.out.println("  -rounds <N>       Number of measured rounds (default 5).");
+    System.out.println("  -nodes <N>        Number of AST nodes (default 5000).");
+    System.out.println("  -files <N>        Number of distinct file names (default 200).");
+    System.out.println("  -evaluations <N>  Top-level attribute evaluations per round");
+    System.out.println("                    (default 20000).");
+    System.out.println("  -depth <N>        Maximum nesting of attribute evaluations (default 6).");
+    System.out.println();
+    System.out.println("Prints the time of each round and the median number of events per");
+    System.out.println("millisecond. One round is run first as warm-up.");
+  }
+
+  public ProvenanceBenchmark(int numNodes, int numFiles, int depth) {
+    nodes = new ASTNode[numNodes];
+    for (int i = 0; i < numNodes; ++i) {
+      nodes[i] = new Opt<ASTNode>();
+    }
+    files = new String[numFiles];
+    for (int i = 0; i < numFiles; ++i) {
+      files[i] = "src/p" + (i % 10) + "/File" + i + ".java";
+    }
+    this.depth = depth;
+  }
+
+  /**
+   * Replays the event stream once, starting from an empty tracker.
+   *
+   * @return the number of events
+   */
+  public long runRound(ProvenanceStackMachine provenance, int evaluations) {
+    provenance.reset();
+    seed = 42;
+    events = 0;
+    for (int i = 0; i < evaluations; ++i) {
+      evaluate(provenance, 0);
+    }
+    return events;
+  }
+
+  private void evaluate(ProvenanceStackMachine provenance, int level) {
+    ASTNode node = nodes[next(nodes.length)];
+    String attribute = ATTRIBUTES[next(ATTRIBUTES.length)];
+    Object params = next(4) == 0 ? "" : ATTRIBUTES[next(ATTRIBUTES.length)];
+    provenance.attributeBegin(node, attribute, params);
+    events += 1;
+    int steps = 1 + next(3);
+    for (int i = 0; i < steps; ++i) {
+      switch (next(4)) {
+        case 0:
+          provenance.fileRead(files[next(files.length)]);
+          events += 1;
+          break;
+        case 1:
+          provenance.cacheRead(nodes[next(nodes.length)], ATTRIBUTES[next(ATTRIBUTES.length)],
+              "");
+          events += 1;
+          break;
+        default:
+          if (level < depth) {
+            evaluate(provenance, level + 1);
+          }
+      }
+    }
+    provenance.attributeEnd(node, attribute, params);
+    events += 1;
+  }
+
+  /**
+   * @return the next pseudo-random number in [0, bound)
+   */
+  private int next(int bound) {
+    seed = (seed * 0x5DEECE66DL + 0xBL) & ((1L << 48) - 1);
+    return (int) ((seed >>> 17) % bound);
+  }
+}
@@ -0,0 +1,98 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import org.extendj.ast.SymbolFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a symbol file for the Jar files on a boot class path. The symbol
+ * file is used by the compiler with the -Xsymbol-file option.
+ */
+public class SymbolFileWriter {
+
+  public static void main(String[] args) {
+    String bootclasspath = System.getProperty("sun.boot.class.path", "");
+    String output = null;
+    for (int i = 0; i < args.length; ++i) {
+      String arg = args[i];
+      if (arg.equals("-h")) {
+        printHelp();
+        System.exit(0);
+      } else if (arg.equals("-bootclasspath") && i + 1 < args.length) {
+        bootclasspath = args[++i];
+      } else if (output == null) {
+        output = arg;
+      } else {
+        System.err.println("Expected one symbol file!");
+        printHelp();
+        System.exit(1);
+      }
+    }
+    if (output == null) {
+      System.err.println("Expected one symbol file!");
+      printHelp();
+      System.exit(1);
+    }
+    List<File> jars = new ArrayList<File>();
+    for (String path : bootclasspath.split(File.pathSeparator)) {
+      File file = new File(path);
+      String name = file.getName().toLowerCase();
+      if (file.isFile() && (name.endsWith(".jar") || name.endsWith(".zip"))) {
+        jars.add(file);
+      }
+    }
+    if (jars.isEmpty()) {
+      System.err.println("No Jar files found on the boot class path!"
+          + " Use -bootclasspath to list the Jar files.");
+      System.exit(1);
+    }
+    try {
+      SymbolFile.write(jars, new File(output));
+      System.out.format("Wrote symbol file for %d Jar files to %s%n", jars.size(), output);
+    } catch (IOException e) {
+      System.err.println("Could not write symbol file: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+
+  private static void printHelp() {
+    System.out.println("Usage: SymbolFileWriter [-bootclasspath <path>] <symbol file>");
+    System.out.println("  Writes the classes of the Jar files on the boot class path,");
+    System.out.println("  without method code and debug information, to a symbol file.");
+    System.out.println("  The boot class path of the running JVM is used by default.");
+    System.out.println("  Java 9 and later have no boot class path, so -bootclasspath");
+    System.out.println("  must be given there.");
+  }
+}
@@ -0,0 +1,468 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Prints hotspot reports for trace files written by {@link Trace}.
+ *
+ * <p>Trace format version 2 (pre-order events, as written by older versions of
+ * dumpTrace) and versions 3 and 4 (post-order records, with thread ids in
+ * version 4) can be read, compressed or not. The trace is streamed: only the
+ * events on the current path from the root, and for versions 3 and 4 the
+ * completed events waiting for their parent, are kept in memory.
+ */
+public class TraceAnalyzer {
+
+  /** Events with a file name as metadata, reported per file. */
+  private static final String[] FILE_EVENTS = {
+    "Java parsing", "processCompilationUnit", "processNoErrors"
+  };
+
+  /** Aggregated times for one event name. */
+  static class NameStats {
+    final String name;
+    long count = 0;
+    long selfNanos = 0;
+    long totalNanos = 0; // Includes nested events with the same name.
+
+    NameStats(String name) {
+      this.name = name;
+    }
+  }
+
+  /**
+   * A chain of events, each followed by its longest child.
+   */
+  static class Chain {
+    final String name;
+    final String metadata;
+    final long duration;
+    final Chain next;
+
+    Chain(String name, String metadata, long duration, Chain next) {
+      this.name = name;
+      this.metadata = metadata;
+      this.duration = duration;
+      this.next = next;
+    }
+  }
+
+  /** A completed event that has not yet been added to its parent. */
+  private static class Completed {
+    final long duration;
+    final Chain chain;
+
+    Completed(long duration, Chain chain) {
+      this.duration = duration;
+      this.chain = chain;
+    }
+  }
+
+  /** An event whose children are being read, in a version 2 trace. */
+  private static class Open {
+    final String name;
+    final String metadata;
+    final long duration;
+    int remaining;
+    long childNanos = 0;
+    Chain longestChild = null;
+
+    Open(String name, String metadata, long duration, int remaining) {
+      this.name = name;
+      this.metadata = metadata;
+      this.duration = duration;
+      this.remaining = remaining;
+    }
+  }
+
+  private final Map<String, NameStats> names = new HashMap<String, NameStats>();
+  private final Map<String, long[]> files = new HashMap<String, long[]>();
+  private Chain criticalPath = null;
+
+  public static void main(String[] args) {
+    int top = 20;
+    List<String> traces = new ArrayList<String>();
+    boolean diff = false;
+    for (int i = 0; i < args.length; ++i) {
+      String arg = args[i];
+      if (arg.equals("-h")) {
+        printHelp();
+        System.exit(0);
+      } else if (arg.equals("-n") && i + 1 < args.length) {
+        top = Integer.parseInt(args[++i]);
+      } else if (arg.equals("--diff")) {
+        diff = true;
+      } else {
+        traces.add(arg);
+      }
+    }
+    if (traces.size() != (diff ? 2 : 1)) {
+      System.err.println(diff ? "Expected two trace files!" : "Expected one trace file!");
+      printHelp();
+      System.exit(1);
+    }
+    try {
+      if (diff) {
+        TraceAnalyzer before = new TraceAnalyzer();
+        before.read(traces.get(0));
+        TraceAnalyzer after = new TraceAnalyzer();
+        after.read(traces.get(1));
+        printDiff(before, after, top);
+      } else {
+        TraceAnalyzer analyzer = new TraceAnalyzer();
+        analyzer.read(traces.get(0));
+        analyzer.printReport(top);
+      }
+    } catch (IOException e) {
+      System.err.println("Error: could not read trace: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+
+  public static void printHelp() {
+    System.out.println("Usage: TraceAnalyzer [OPTIONS] <trace file>");
+    System.out.println("       TraceAnalyzer [OPTIONS] --diff <trace file> <trace file>");
+    System.out.println();
+    System.out.println("OPTIONS:");
+    System.out.println("  -n <N>    Number of entries in each report (default 20).");
+    System.out.println("  --diff    Compare the self time per event name of two traces.");
+    System.out.println();
+    System.out.println("Prints the events with the highest self time, the critical path");
+    System.out.println("(the chain of longest child events from the root), and the time");
+    System.out.println("spent on each source file.");
+  }
+
+  /**
+   * Reads and aggregates a trace file.
+   */
+  public void read(String filename) throws IOException {
+    InputStream in = new BufferedInputStream(new FileInputStream(filename));
+    try {
+      in.mark(1);
+      int first = in.read();
+      in.reset();
+      if (first == 0x78) {
+        // Deflated stream (zlib header).
+        in = new BufferedInputStream(new InflaterInputStream(in));
+      }
+      DataInputStream data = new DataInputStream(in);
+      int version = -data.readInt();
+      switch (version) {
+        case 2:
+          readVersion2(data);
+          break;
+        case 3:
+          readPostOrder(data, false);
+          break;
+        case 4:
+          readPostOrder(data, true);
+          break;
+        default:
+          throw new IOException("unsupported trace format version " + version);
+      }
+    } finally {
+      in.close();
+    }
+  }
+
+  private void readVersion2(DataInputStream in) throws IOException {
+    int numNames = in.readInt();
+    String[] nameTable = new String[numNames];
+    for (int i = 0; i < numNames; ++i) {
+      nameTable[i] = in.readUTF();
+    }
+    Stack<Open> stack = new Stack<Open>();
+    do {
+      String name = nameTable[in.readInt()];
+      String metadata = in.readUTF();
+      long start = in.readLong();
+      long end = in.readLong();
+      int numChildren = in.readShort() & 0xFFFF;
+      Open event = new Open(name, metadata, end - start, numChildren);
+      stack.push(event);
+      // Complete events with no remaining children.
+      while (!stack.isEmpty() && stack.peek().remaining == 0) {
+        Open done = stack.pop();
+        Chain chain = complete(done.name, done.metadata, done.duration, done.childNanos,
+            done.longestChild);
+        if (stack.isEmpty()) {
+          criticalPath = chain;
+        } else {
+          Open parent = stack.peek();
+          parent.remaining -= 1;
+          parent.childNanos += done.duration;
+          if (parent.longestChild == null || done.duration > parent.longestChild.duration) {
+            parent.longestChild = chain;
+          }
+        }
+      }
+    } while (!stack.isEmpty());
+  }
+
+  /**
+   * Reads a version 3 or 4 trace. Version 4 event records start with a
+   * thread id, and the completed events are kept per thread until their
+   * parent on the same thread is read.
+   */
+  private void readPostOrder(DataInputStream in, boolean hasThreads) throws IOException {
+    List<String> nameTable = new ArrayList<String>();
+    Map<Long, ArrayList<Completed>> pending = new HashMap<Long, ArrayList<Completed>>();
+    int numPending = 0;
+    while (true) {
+      int tag = in.read();
+      if (tag == -1) {
+        break;
+      }
+      if (tag == 0) {
+        nameTable.add(readString(in));
+      } else if (tag == 1) {
+        long thread = hasThreads ? readVarLong(in) : 0;
+        String name = nameTable.get((int) readVarLong(in));
+        String metadata = readString(in);
+        readVarLong(in); // Start time.
+        long duration = readVarLong(in);
+        int numChildren = (int) readVarLong(in);
+        ArrayList<Completed> siblings = pending.get(thread);
+        if (siblings == null) {
+          siblings = new ArrayList<Completed>();
+          pending.put(thread, siblings);
+        }
+        List<Completed> children;
+        if (numChildren <= siblings.size()) {
+          children = siblings.subList(siblings.size() - numChildren, siblings.size());
+        } else if (numChildren == numPending) {
+          // The root event: its children are the outermost events of all threads.
+          children = new ArrayList<Completed>();
+          for (ArrayList<Completed> events : pending.values()) {
+            children.addAll(events);
+            events.clear();
+          }
+        } else {
+          throw new IOException("malformed trace: missing child events");
+        }
+        long childNanos = 0;
+        Chain longestChild = null;
+        for (Completed child : children) {
+          childNanos += child.duration;
+          if (longestChild == null || child.duration > longestChild.duration) {
+            longestChild = child.chain;
+          }
+        }
+        children.clear();
+        numPending -= numChildren;
+        siblings.add(new Completed(duration,
+              complete(name, metadata, duration, childNanos, longestChild)));
+        numPending += 1;
+      } else {
+        throw new IOException("malformed trace: unknown record type " + tag);
+      }
+    }
+    if (numPending != 1) {
+      throw new IOException("malformed trace: expected one root event");
+    }
+    criticalPath = pending.get(0L).get(0).chain;
+  }
+
+  private static long readVarLong(DataInputStream in) throws IOException {
+    long value = 0;
+    int shift = 0;
+    while (true) {
+      int b = in.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+      shift += 7;
+    }
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[(int) readVarLong(in)];
+    in.readFully(bytes);
+    return new String(bytes, "UTF-8");
+  }
+
+  /**
+   * Adds a completed event to the statistics.
+   *
+   * @return the longest chain of events starting at the completed event
+   */
+  private Chain complete(String name, String metadata, long duration, long childNanos,
+      Chain longestChild) {
+    NameStats stats = names.get(name);
+    if (stats == null) {
+      stats = new NameStats(name);
+      names.put(name, stats);
+    }
+    stats.count += 1;
+    // Events on other threads can overlap, so the children of the root may
+    // add up to more than its duration.
+    stats.selfNanos += Math.max(0, duration - childNanos);
+    stats.totalNanos += duration;
+    if (!metadata.isEmpty()) {
+      for (int i = 0; i < FILE_EVENTS.length; ++i) {
+        if (FILE_EVENTS[i].equals(name)) {
+          long[] times = files.get(metadata);
+          if (times == null) {
+            times = new long[FILE_EVENTS.length];
+            files.put(metadata, times);
+          }
+          times[i] += duration;
+        }
+      }
+    }
+    return new Chain(name, metadata, duration, longestChild);
+  }
+
+  private List<NameStats> sortedBySelfTime() {
+    List<NameStats> list = new ArrayList<NameStats>(names.values());
+    Collections.sort(list, new Comparator<NameStats>() {
+      @Override
+      public int compare(NameStats a, NameStats b) {
+        if (a.selfNanos != b.selfNanos) {
+          return a.selfNanos > b.selfNanos ? -1 : 1;
+        }
+        return a.name.compareTo(b.name);
+      }
+    });
+    return list;
+  }
+
+  public void printReport(int top) {
+    long rootNanos = criticalPath == null ? 0 : criticalPath.duration;
+    System.out.println("Hotspots by self time (ms):");
+    System.out.format("%12s %12s %10s  %s%n", "self", "total", "count", "event");
+    int n = 0;
+    for (NameStats stats : sortedBySelfTime()) {
+      if (n++ == top) {
+        break;
+      }
+      System.out.format("%12.3f %12.3f %10d  %s%n", stats.selfNanos / 1e6,
+          stats.totalNanos / 1e6, stats.count, stats.name);
+    }
+
+    System.out.println();
+    System.out.println("Critical path (ms):");
+    n = 0;
+    for (Chain chain = criticalPath; chain != null && n < top; chain = chain.next, ++n) {
+      System.out.format("%12.3f %5.1f%%  %s%s%n", chain.duration / 1e6,
+          rootNanos == 0 ? 0.0 : 100.0 * chain.duration / rootNanos, chain.name,
+          chain.metadata.isEmpty() ? "" : " [" + chain.metadata + "]");
+    }
+
+    System.out.println();
+    System.out.println("Time per file (ms):");
+    System.out.format("%12s %12s %12s  %s%n", "parse", "check", "codegen", "file");
+    List<Map.Entry<String, long[]>> list = new ArrayList<Map.Entry<String, long[]>>(files.entrySet());
+    Collections.sort(list, new Comparator<Map.Entry<String, long[]>>() {
+      @Override
+      public int compare(Map.Entry<String, long[]> a, Map.Entry<String, long[]> b) {
+        long x = sum(a.getValue());
+        long y = sum(b.getValue());
+        if (x != y) {
+          return x > y ? -1 : 1;
+        }
+        return a.getKey().compareTo(b.getKey());
+      }
+    });
+    n = 0;
+    for (Map.Entry<String, long[]> entry : list) {
+      if (n++ == top) {
+        break;
+      }
+      long[] times = entry.getValue();
+      System.out.format("%12.3f %12.3f %12.3f  %s%n", times[0] / 1e6, times[1] / 1e6,
+          times[2] / 1e6, entry.getKey());
+    }
+  }
+
+  private static long sum(long[] values) {
+    long sum = 0;
+    for (long value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  /**
+   * Prints the event names with the largest change in self time.
+   */
+  public static void printDiff(TraceAnalyzer before, TraceAnalyzer after, int top) {
+    Set<String> all = new HashSet<String>(before.names.keySet());
+    all.addAll(after.names.keySet());
+    List<String> list = new ArrayList<String>(all);
+    final Map<String, Long> delta = new HashMap<String, Long>();
+    for (String name : list) {
+      delta.put(name, selfNanos(after, name) - selfNanos(before, name));
+    }
+    Collections.sort(list, new Comparator<String>() {
+      @Override
+      public int compare(String a, String b) {
+        long x = Math.abs(delta.get(a));
+        long y = Math.abs(delta.get(b));
+        if (x != y) {
+          return x > y ? -1 : 1;
+        }
+        return a.compareTo(b);
+      }
+    });
+    System.out.println("Change in self time (ms):");
+    System.out.format("%12s %12s %12s  %s%n", "delta", "before", "after", "event");
+    int n = 0;
+    for (String name : list) {
+      if (n++ == top) {
+        break;
+      }
+      System.out.format("%+12.3f %12.3f %12.3f  %s%n", delta.get(name) / 1e6,
+          selfNanos(before, name) / 1e6, selfNanos(after, name) / 1e6, name);
+    }
+  }
+
+  private static long selfNanos(TraceAnalyzer analyzer, String name) {
+    NameStats stats = analyzer.names.get(name);
+    return stats == null ? 0 : stats.selfNanos;
+  }
+}
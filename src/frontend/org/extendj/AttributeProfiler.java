@@ -0,0 +1,253 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.extendj.ast.ASTNode;
+import org.extendj.ast.ASTState;
+
+/**
+ * Aggregates attribute evaluation statistics per attribute and node type.
+ *
+ * <p>For each attribute and node type this counts the number of
+ * computations and cache reads, and measures the inclusive and self time of
+ * the computations. Inclusive time is only measured for the outermost
+ * computation of a recursive attribute, so it is not counted twice. For
+ * circular attributes it counts the number of fixpoint evaluations started by
+ * the attribute, and the number of iterations computed in those evaluations.
+ *
+ * <p>The profiler expects COMPUTE_BEGIN, COMPUTE_END, CACHE_READ, and the
+ * CIRCULAR_CASE1 and CIRCULAR_NTA_CASE1 start and return events, from a
+ * single thread. The circular events are only sent when the AST was
+ * generated with circular tracing, which is off by default. Without them
+ * the fixpoint evaluation and iteration counts are zero.
+ */
+public class AttributeProfiler implements ASTState.Trace.Receiver {
+
+  /**
+   * Evaluation statistics for one attribute on one node type.
+   */
+  public static class Stats {
+    public final String attribute;
+    public final String nodeType;
+    public long computations = 0;
+    public long cacheReads = 0;
+    public long inclusiveNanos = 0;
+    public long selfNanos = 0;
+    public int maxRecursion = 0;
+    public long fixpoints = 0;
+    public long iterations = 0;
+
+    private int active = 0; // Number of active computations.
+    private int activeFixpoints = 0;
+
+    Stats(String attribute, String nodeType) {
+      this.attribute = attribute;
+      this.nodeType = nodeType;
+    }
+
+    /**
+     * @return the fraction of attribute uses that read a cached value
+     */
+    public double cacheHitRatio() {
+      long uses = computations + cacheReads;
+      return uses == 0 ? 0 : (double) cacheReads / uses;
+    }
+  }
+
+  private final Map<Class<?>, Map<String, Stats>> stats =
+      new HashMap<Class<?>, Map<String, Stats>>();
+
+  // The evaluation stack.
+  private int depth = 0;
+  private Stats[] stack = new Stats[64];
+  private long[] start = new long[64];
+  private long[] childNanos = new long[64];
+
+  private Stats stats(ASTNode node, String attribute) {
+    Map<String, Stats> map = stats.get(node.getClass());
+    if (map == null) {
+      map = new HashMap<String, Stats>();
+      stats.put(node.getClass(), map);
+    }
+    Stats result = map.get(attribute);
+    if (result == null) {
+      result = new Stats(attribute, node.getClass().getSimpleName());
+      map.put(attribute, result);
+    }
+    return result;
+  }
+
+  @Override
+  public void accept(ASTState.Trace.Event event, ASTNode node, String attribute,
+      Object params, Object value) {
+    switch (event) {
+      case COMPUTE_BEGIN: {
+        Stats s = stats(node, attribute);
+        s.computations += 1;
+        if (s.activeFixpoints > 0) {
+          s.iterations += 1;
+        }
+        s.active += 1;
+        if (s.active > s.maxRecursion) {
+          s.maxRecursion = s.active;
+        }
+        if (depth == stack.length) {
+          stack = Arrays.copyOf(stack, depth * 2);
+          start = Arrays.copyOf(start, depth * 2);
+          childNanos = Arrays.copyOf(childNanos, depth * 2);
+        }
+        stack[depth] = s;
+        childNanos[depth] = 0;
+        start[depth] = System.nanoTime();
+        depth += 1;
+        break;
+      }
+      case COMPUTE_END: {
+        long end = System.nanoTime();
+        if (depth == 0) {
+          break;
+        }
+        depth -= 1;
+        Stats s = stack[depth];
+        stack[depth] = null;
+        long elapsed = end - start[depth];
+        s.selfNanos += elapsed - childNanos[depth];
+        s.active -= 1;
+        if (s.active == 0) {
+          s.inclusiveNanos += elapsed;
+        }
+        if (depth > 0) {
+          childNanos[depth - 1] += elapsed;
+        }
+        break;
+      }
+      case CACHE_READ: {
+        stats(node, attribute).cacheReads += 1;
+        break;
+      }
+      case CIRCULAR_CASE1_START:
+      case CIRCULAR_NTA_CASE1_START: {
+        Stats s = stats(node, attribute);
+        s.fixpoints += 1;
+        s.activeFixpoints += 1;
+        break;
+      }
+      case CIRCULAR_CASE1_RETURN:
+      case CIRCULAR_NTA_CASE1_RETURN: {
+        Stats s = stats(node, attribute);
+        if (s.activeFixpoints > 0) {
+          s.activeFixpoints -= 1;
+        }
+        break;
+      }
+    }
+  }
+
+  /**
+   * @return the statistics for all evaluated attributes, sorted by
+   * decreasing self time
+   */
+  public List<Stats> getStats() {
+    List<Stats> result = new ArrayList<Stats>();
+    for (Map<String, Stats> map : stats.values()) {
+      result.addAll(map.values());
+    }
+    Collections.sort(result, new Comparator<Stats>() {
+      @Override
+      public int compare(Stats a, Stats b) {
+        if (a.selfNanos != b.selfNanos) {
+          return a.selfNanos > b.selfNanos ? -1 : 1;
+        }
+        int order = a.attribute.compareTo(b.attribute);
+        return order != 0 ? order : a.nodeType.compareTo(b.nodeType);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Prints the statistics as a table, sorted by decreasing self time.
+   * Times are in milliseconds.
+   */
+  public void printReport(PrintStream out) {
+    out.format("%10s %10s %10s %10s %6s %5s %9s %10s  %s%n",
+        "self", "inclusive", "computed", "cached", "hit%", "depth",
+        "fixpoints", "iterations", "attribute (node type)");
+    for (Stats s : getStats()) {
+      out.format("%10.3f %10.3f %10d %10d %6.1f %5d %9d %10d  %s (%s)%n",
+          s.selfNanos / 1e6, s.inclusiveNanos / 1e6, s.computations, s.cacheReads,
+          100 * s.cacheHitRatio(), s.maxRecursion, s.fixpoints, s.iterations,
+          s.attribute, s.nodeType);
+    }
+  }
+
+  /**
+   * Prints the statistics as a JSON array, sorted by decreasing self time.
+   * Times are in nanoseconds.
+   */
+  public void printJson(PrintStream out) {
+    out.println("[");
+    List<Stats> list = getStats();
+    for (int i = 0; i < list.size(); ++i) {
+      Stats s = list.get(i);
+      out.format("  {\"attribute\": \"%s\", \"nodeType\": \"%s\", \"computations\": %d, "
+          + "\"cacheReads\": %d, \"cacheHitRatio\": %s, \"inclusiveNanos\": %d, "
+          + "\"selfNanos\": %d, \"maxRecursion\": %d, \"fixpoints\": %d, "
+          + "\"iterations\": %d}%s%n",
+          escape(s.attribute), escape(s.nodeType), s.computations, s.cacheReads,
+          Double.toString(s.cacheHitRatio()), s.inclusiveNanos, s.selfNanos,
+          s.maxRecursion, s.fixpoints, s.iterations, i + 1 < list.size() ? "," : "");
+    }
+    out.println("]");
+  }
+
+  private static String escape(String value) {
+    StringBuilder buf = new StringBuilder();
+    for (int i = 0; i < value.length(); ++i) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        buf.append('\\').append(c);
+      } else if (c < 0x20) {
+        buf.append(String.format("\\u%04x", (int) c));
+      } else {
+        buf.append(c);
+      }
+    }
+    return buf.toString();
+  }
+}
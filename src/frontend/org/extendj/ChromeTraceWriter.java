@@ -0,0 +1,171 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import org.extendj.ast.ASTNode;
+import org.extendj.ast.ASTState;
+
+/**
+ * Writes trace events in the Chrome Trace Event JSON format, which can be
+ * viewed in chrome://tracing or the Perfetto UI.
+ *
+ * <p>This receives compiler phase events as a {@link Trace.Listener} and
+ * attribute COMPUTE_BEGIN and COMPUTE_END events as a trace receiver. Events
+ * are written as begin/end duration events as soon as they occur, on the
+ * track of the thread that reported them. Trace keeps a separate event stack
+ * for each thread, so the phase events of parser threads nest on their own
+ * tracks. Writing is synchronized.
+ */
+public class ChromeTraceWriter implements ASTState.Trace.Receiver, Trace.Listener {
+  private final long start = System.nanoTime();
+  private final Writer out;
+  private final Set<Long> threads = new HashSet<Long>();
+  private boolean first = true;
+  private IOException error = null; // The first write error.
+
+  public ChromeTraceWriter(String file) throws IOException {
+    out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+    out.write("{\"traceEvents\":[\n");
+  }
+
+  @Override
+  public void eventBegin(String name, String metadata) {
+    write('B', name, "phase", metadata);
+  }
+
+  @Override
+  public void eventEnd(String name) {
+    write('E', name, "phase", "");
+  }
+
+  @Override
+  public void accept(ASTState.Trace.Event event, ASTNode node, String attribute,
+      Object params, Object value) {
+    switch (event) {
+      case COMPUTE_BEGIN: {
+        write('B', attribute, "attribute", params instanceof String ? (String) params : "");
+        break;
+      }
+      case COMPUTE_END: {
+        write('E', attribute, "attribute", "");
+        break;
+      }
+    }
+  }
+
+  private synchronized void write(char phase, String name, String category, String metadata) {
+    long time = System.nanoTime() - start;
+    long tid = Thread.currentThread().getId();
+    try {
+      if (threads.add(tid)) {
+        // Name the track of a new thread.
+        separator();
+        out.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":");
+        out.write(Long.toString(tid));
+        out.write(",\"args\":{\"name\":");
+        string(Thread.currentThread().getName());
+        out.write("}}");
+      }
+      separator();
+      out.write("{\"name\":");
+      string(name);
+      out.write(",\"cat\":\"");
+      out.write(category);
+      out.write("\",\"ph\":\"");
+      out.write(phase);
+      out.write("\",\"ts\":");
+      out.write(Long.toString(time / 1000));
+      out.write('.');
+      long fraction = time % 1000;
+      if (fraction < 100) {
+        out.write(fraction < 10 ? "00" : "0");
+      }
+      out.write(Long.toString(fraction));
+      out.write(",\"pid\":1,\"tid\":");
+      out.write(Long.toString(tid));
+      if (!metadata.isEmpty()) {
+        out.write(",\"args\":{\"metadata\":");
+        string(metadata);
+        out.write('}');
+      }
+      out.write('}');
+    } catch (IOException e) {
+      // Write errors are reported on close.
+      if (error == null) {
+        error = e;
+      }
+    }
+  }
+
+  private void separator() throws IOException {
+    if (first) {
+      first = false;
+    } else {
+      out.write(",\n");
+    }
+  }
+
+  private void string(String value) throws IOException {
+    out.write('"');
+    for (int i = 0; i < value.length(); ++i) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        out.write('\\');
+        out.write(c);
+      } else if (c < 0x20) {
+        out.write(String.format("\\u%04x", (int) c));
+      } else {
+        out.write(c);
+      }
+    }
+    out.write('"');
+  }
+
+  /**
+   * Completes the JSON document and closes the output file.
+   */
+  public synchronized void close() throws IOException {
+    try {
+      out.write("\n]}\n");
+    } finally {
+      out.close();
+    }
+    if (error != null) {
+      throw error;
+    }
+  }
+}
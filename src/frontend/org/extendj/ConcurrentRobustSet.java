@@ -0,0 +1,130 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A set with insertion-ordered iterators that can iterate over the set
+ * simultaneously with it being mutated, like RobustSet, but without locking.
+ *
+ * <p>The elements are kept in a concurrent hash set, for membership tests,
+ * and in a concurrent queue, for iteration. An element is appended to the
+ * queue only by the thread that added it to the hash set, so each element
+ * occurs once in the queue.
+ *
+ * <p>Iterators are weakly consistent: an iterator visits the elements added
+ * before it was created, unless they have been removed, and the elements
+ * added while iterating that come after its position. This matches the
+ * robust iterators of RobustSet, where elements added during iteration are
+ * also visited.
+ *
+ * <p>Concurrent calls to clear() and add() may leave the queue and the hash
+ * set inconsistent, so clear() should only be called when no other thread
+ * uses the set.
+ *
+ * @param <V> Value type
+ */
+public class ConcurrentRobustSet<V> extends AbstractSet<V> {
+
+  private final Set<V> set = Collections.newSetFromMap(new ConcurrentHashMap<V, Boolean>());
+
+  private final Queue<V> queue = new ConcurrentLinkedQueue<V>();
+
+  @Override
+  public boolean add(V v) {
+    if (set.add(v)) {
+      queue.add(v);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void clear() {
+    set.clear();
+    queue.clear();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return set.contains(o);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return set.isEmpty();
+  }
+
+  @Override
+  public Iterator<V> iterator() {
+    final Iterator<V> iterator = queue.iterator();
+    return new Iterator<V>() {
+      private V last = null;
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public V next() {
+        last = iterator.next();
+        return last;
+      }
+
+      @Override
+      public void remove() {
+        iterator.remove();
+        set.remove(last);
+      }
+    };
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (set.remove(o)) {
+      queue.remove(o);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public int size() {
+    return set.size();
+  }
+}
@@ -0,0 +1,326 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Source file dependencies for incremental compilation.
+ *
+ * <p>For each compiled source file this records the modification time of the
+ * file and the set of files that were read while checking and generating code
+ * for it, as tracked by {@link ProvenanceStackMachine}. The attribute file sets
+ * include the files read by all attributes that were evaluated, including
+ * attributes that had been cached earlier, so the recorded set is transitively
+ * closed over attribute dependencies.
+ *
+ * <p>A source file needs to be recompiled if it, or any file it depends on,
+ * has been modified since the previous build. The output files generated for
+ * each source file are also recorded, and a source file is recompiled if one
+ * of its output files is missing or older than the source file.
+ *
+ * <p>Library files are shared by all source files, so they are recorded for
+ * the whole build: the size and modification time of each class file, Jar
+ * file, and source path file that was loaded. The names of types that were
+ * looked up but not found are also recorded, because adding such a type can
+ * change the meaning of a source file that did not read it. If a library file
+ * changed, or a missing type now exists, all source files are recompiled.
+ */
+public class FileDependencies {
+  private static final int FORMAT_VERSION = 3;
+
+  private final String options;
+  private final Map<String, Long> lastModified = new LinkedHashMap<String, Long>();
+  private final Map<String, Set<String>> dependencies = new LinkedHashMap<String, Set<String>>();
+  private final Map<String, Collection<String>> outputs =
+      new HashMap<String, Collection<String>>();
+  private final Map<String, long[]> libraries = new LinkedHashMap<String, long[]>();
+  private final Set<String> missingTypes = new HashSet<String>();
+
+  /**
+   * @param options the compiler options, excluding source file names. A
+   * change in options causes a full rebuild.
+   */
+  public FileDependencies(String options) {
+    this.options = options;
+  }
+
+  /**
+   * Records the dependencies for a source file, along with the current
+   * modification time of the file.
+   */
+  public void add(String file, Collection<String> deps) {
+    lastModified.put(file, new File(file).lastModified());
+    Set<String> set = dependencies.get(file);
+    if (set == null) {
+      set = new HashSet<String>();
+      dependencies.put(file, set);
+    }
+    set.addAll(deps);
+  }
+
+  /**
+   * Records the output files that were generated for a source file.
+   */
+  public void addOutputs(String file, Collection<String> paths) {
+    outputs.put(file, new ArrayList<String>(paths));
+  }
+
+  /**
+   * Copies the dependencies and output files for an up-to-date source file
+   * from a previous build.
+   */
+  public void copy(FileDependencies previous, String file) {
+    lastModified.put(file, previous.lastModified.get(file));
+    dependencies.put(file, previous.dependencies.get(file));
+    outputs.put(file, previous.outputs(file));
+  }
+
+  /**
+   * @return the output files recorded for a source file
+   */
+  private Collection<String> outputs(String file) {
+    Collection<String> paths = outputs.get(file);
+    return paths != null ? paths : Collections.<String>emptyList();
+  }
+
+  /**
+   * @return {@code true} if all output files of the source file exist and are
+   * not older than the source file
+   */
+  private boolean hasOutputs(String file) {
+    long sourceModified = new File(file).lastModified();
+    for (String path : outputs(file)) {
+      File output = new File(path);
+      if (!output.isFile() || output.lastModified() < sourceModified) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Records the current size and modification time of a library file that
+   * was read during this build. Names that are not files, such as the
+   * sources of built-in types, are ignored.
+   */
+  public void addLibrary(String path) {
+    File file = new File(path);
+    if (file.isFile() && !libraries.containsKey(path)) {
+      libraries.put(path, new long[] { file.length(), file.lastModified() });
+    }
+  }
+
+  /**
+   * Records the fully qualified names of types that were looked up but not
+   * found during this build.
+   */
+  public void addMissingTypes(Collection<String> names) {
+    missingTypes.addAll(names);
+  }
+
+  /**
+   * Copies the library files and missing types of a previous build. This is
+   * needed after a partial build, because the source files that were not
+   * recompiled may depend on them.
+   */
+  public void copyLibraries(FileDependencies previous) {
+    for (Map.Entry<String, long[]> entry : previous.libraries.entrySet()) {
+      if (!libraries.containsKey(entry.getKey())) {
+        libraries.put(entry.getKey(), entry.getValue());
+      }
+    }
+    missingTypes.addAll(previous.missingTypes);
+  }
+
+  /**
+   * @return the fully qualified names of the types that were missing in the
+   * build that stored these dependencies
+   */
+  public Collection<String> missingTypes() {
+    return Collections.unmodifiableSet(missingTypes);
+  }
+
+  /**
+   * Finds the source files that need to be recompiled.
+   *
+   * <p>A full rebuild is needed if the options have changed, if source
+   * files have been added or removed, or if a library file has been modified
+   * or removed. Otherwise a source file is recompiled if it or a file it
+   * depends on was modified, or if one of its output files is missing or
+   * older than it. The caller must also check that the missing types are
+   * still missing.
+   *
+   * @param options the current compiler options, excluding source file names
+   * @param files the current source files
+   * @return the source files to recompile, or {@code null} if all files must
+   * be recompiled
+   */
+  public Set<String> affectedFiles(String options, Collection<String> files) {
+    if (!this.options.equals(options)
+        || !lastModified.keySet().equals(new HashSet<String>(files))) {
+      return null;
+    }
+    for (Map.Entry<String, long[]> entry : libraries.entrySet()) {
+      File file = new File(entry.getKey());
+      long[] stamp = entry.getValue();
+      if (!file.isFile() || file.length() != stamp[0] || file.lastModified() != stamp[1]) {
+        return null;
+      }
+    }
+    Set<String> changed = new HashSet<String>();
+    for (String file : files) {
+      if (new File(file).lastModified() != lastModified.get(file)) {
+        changed.add(file);
+      }
+    }
+    Set<String> affected = new HashSet<String>();
+    for (String file : files) {
+      if (changed.contains(file)
+          || !Collections.disjoint(dependencies.get(file), changed)
+          || !hasOutputs(file)) {
+        affected.add(file);
+      }
+    }
+    return affected;
+  }
+
+  /**
+   * Reads the dependencies stored by a previous build.
+   *
+   * @return the stored dependencies, or {@code null} if the file does not
+   * exist or could not be read
+   */
+  public static FileDependencies read(File file) {
+    if (!file.isFile()) {
+      return null;
+    }
+    DataInputStream in = null;
+    try {
+      in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+      if (in.readInt() != FORMAT_VERSION) {
+        return null;
+      }
+      FileDependencies result = new FileDependencies(in.readUTF());
+      int numFiles = in.readInt();
+      for (int i = 0; i < numFiles; ++i) {
+        String name = in.readUTF();
+        result.lastModified.put(name, in.readLong());
+        int numDeps = in.readInt();
+        Set<String> deps = new HashSet<String>();
+        for (int j = 0; j < numDeps; ++j) {
+          deps.add(in.readUTF());
+        }
+        result.dependencies.put(name, deps);
+        int numOutputs = in.readInt();
+        Collection<String> paths = new ArrayList<String>(numOutputs);
+        for (int j = 0; j < numOutputs; ++j) {
+          paths.add(in.readUTF());
+        }
+        result.outputs.put(name, paths);
+      }
+      int numLibraries = in.readInt();
+      for (int i = 0; i < numLibraries; ++i) {
+        String name = in.readUTF();
+        result.libraries.put(name, new long[] { in.readLong(), in.readLong() });
+      }
+      int numMissing = in.readInt();
+      for (int i = 0; i < numMissing; ++i) {
+        result.missingTypes.add(in.readUTF());
+      }
+      return result;
+    } catch (IOException e) {
+      System.err.println("Warning: could not read dependencies from " + file + ": "
+          + e.getMessage());
+      return null;
+    } finally {
+      if (in != null) {
+        try {
+          in.close();
+        } catch (IOException ignored) {
+        }
+      }
+    }
+  }
+
+  /**
+   * Stores the dependencies for the next build.
+   */
+  public void write(File file) throws IOException {
+    DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(new FileOutputStream(file)));
+    try {
+      out.writeInt(FORMAT_VERSION);
+      out.writeUTF(options);
+      out.writeInt(lastModified.size());
+      for (Map.Entry<String, Long> entry : lastModified.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeLong(entry.getValue());
+        Set<String> deps = dependencies.get(entry.getKey());
+        out.writeInt(deps.size());
+        for (String dep : deps) {
+          out.writeUTF(dep);
+        }
+        Collection<String> paths = outputs(entry.getKey());
+        out.writeInt(paths.size());
+        for (String path : paths) {
+          out.writeUTF(path);
+        }
+      }
+      out.writeInt(libraries.size());
+      for (Map.Entry<String, long[]> entry : libraries.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeLong(entry.getValue()[0]);
+        out.writeLong(entry.getValue()[1]);
+      }
+      out.writeInt(missingTypes.size());
+      for (String name : missingTypes) {
+        out.writeUTF(name);
+      }
+    } finally {
+      out.close();
+    }
+  }
+}
@@ -1,200 +1,410 @@
 package org.extendj;
 
-import java.util.Stack;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
-import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.extendj.ast.ASTNode;
 import org.extendj.ast.ASTState;
-import java.util.Collections;
 
-interface StackEntry {
-	public Object execute(Stack<StackEntry> stack);
-}
+/**
+ * Tracks the files read during attribute evaluation.
+ *
+ * <p>The machine receives the attribute tracing events COMPUTE_BEGIN,
+ * COMPUTE_END and CACHE_READ, as well as file read events. For each evaluated
+ * attribute instance it records the set of files read while computing the
+ * attribute, including the files recorded for the cached attributes that the
+ * computation used.
+ *
+ * <p>This runs for every attribute evaluation, so the events are handled
+ * without allocating objects. The evaluation stack is stored in parallel arrays
+ * indexed by stack depth, and file sets are bitsets over interned file ids.
+ * The bitset for each stack depth is reused, so only recording a new file set
+ * allocates memory.
+ *
+ * <p>Many attributes depend on the same files, so the recorded file sets are
+ * hash-consed: equal sets are shared between attribute instances. Each set
+ * stores only the range of bitset words between its lowest and highest file
+ * id.
+ *
+ * <p>Attributes may be evaluated concurrently on several threads. Each thread
+ * has its own evaluation stack, while the recorded file sets are kept in
+ * shared tables split into segments with one lock each. When an attribute
+ * instance is computed more than once, possibly by different threads, the
+ * recorded file sets are merged.
+ */
+public class ProvenanceStackMachine implements ASTState.Trace.Receiver {
+	private static final int INITIAL_DEPTH = 64;
+	private static final int INITIAL_CAPACITY = 64;
+	private static final int SEGMENTS = 16; // Must be a power of two.
 
-class AttributeValue {
-	private ASTNode n;
-	private String attribute;
-	private Object params;
+	/** Interned file ids. */
+	private final ConcurrentMap<String, Integer> fileIds = new ConcurrentHashMap<String, Integer>();
+	private final ArrayList<String> fileNames = new ArrayList<String>(); // Guarded by itself.
 
-	public AttributeValue(ASTNode n, String attribute, Object params) {
-		this.n = n;
-		this.attribute = attribute;
-		this.params = params;
-	}
+	private volatile ThreadLocal<EvaluationStack> stacks = newStacks();
 
-	@Override public boolean equals(Object other) {
-		if (!(other instanceof AttributeValue))
-			return false;
-		AttributeValue attr = (AttributeValue) other;
-		return n == attr.n // reference equality for nodes
-			&& attribute.equals(attr.attribute)
-			&& params.equals(attr.params);
-	}
+	/** Set while the receiver is installed, see setEnabled(boolean). */
+	private volatile boolean enabled = false;
 
-	@Override public int hashCode() {
-		int m = 31;
-		int r = n.hashCode();
-		r = r * 31 + attribute.hashCode();
-		if (params != null) {
-			r = r * 31 + params.hashCode();
-		}
-		return r;
-	}
+	// The recorded file set for each attribute instance.
+	private final AttributeTable[] attributes = new AttributeTable[SEGMENTS];
 
-	@Override public String toString() {
-		return n.getClass() + "::" + attribute;
-	}
-}
+	// The distinct file sets.
+	private final FileSetTable[] fileSets = new FileSetTable[SEGMENTS];
 
-class AttributeBegin implements StackEntry {
-	private AttributeValue attr;
-	public AttributeBegin(AttributeValue attr) {
-		this.attr = attr;
-	}
+	/**
+	 * An immutable set of file ids, stored as the non-zero range of a bitset.
+	 */
+	private static final class FileSet {
+		final int offset; // Index of the first word.
+		final long[] words; // The first and last words are non-zero.
+		final int hash;
 
-	public AttributeValue getAttributeValue() {
-		return attr;
-	}
+		FileSet(int offset, long[] words, int hash) {
+			this.offset = offset;
+			this.words = words;
+			this.hash = hash;
+		}
 
-	@Override public Object execute(Stack<StackEntry> stack) {
-		// do nothing
-		return null;
+		/**
+		 * @return {@code true} if this set has the given bitset words
+		 */
+		boolean matches(long[] bits, int first, int end) {
+			if (offset != first || words.length != end - first) {
+				return false;
+			}
+			for (int i = 0; i < words.length; ++i) {
+				if (words[i] != bits[first + i]) {
+					return false;
+				}
+			}
+			return true;
+		}
 	}
 
-	@Override public String toString() {
-		return "ATTRIBUTE-BEGIN: " + attr;
-	}
-}
+	/**
+	 * The attribute evaluation stack of one thread.
+	 * Depth zero collects the files read outside of attribute computations.
+	 */
+	private static final class EvaluationStack {
+		int depth = 0;
+		ASTNode[] node = new ASTNode[INITIAL_DEPTH];
+		String[] attribute = new String[INITIAL_DEPTH];
+		Object[] params = new Object[INITIAL_DEPTH];
+		long[][] files = new long[INITIAL_DEPTH][];
+		int[] words = new int[INITIAL_DEPTH]; // Number of used words in each bitset.
+
+		/**
+		 * The files of the last completed or cached attribute, if that was the
+		 * last event.
+		 */
+		FileSet lastFiles = null;
+
+		EvaluationStack() {
+			files[0] = new long[1];
+		}
 
-class AttributeEnd implements StackEntry {
-	private Map<AttributeValue, Set<String>> attrFileDeps;
-	private AttributeValue attr;
-	public AttributeEnd(AttributeValue attr, Map<AttributeValue, Set<String>> attrFileDeps) {
-		this.attrFileDeps = attrFileDeps;
-		this.attr = attr;
-	}
-
-	@Override public Object execute(Stack<StackEntry> stack) {
-		// System.out.println(">>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>");
-		// System.out.println(stack);
-		// System.out.println("====================================");
-
-		StackEntry top = stack.pop();
-		assert top == this;
-
-		// lookup a file list for this attribute, if it already
-		// exists
-		Set<String> fileList = attrFileDeps.get(attr);
-		if (fileList == null) {
-			fileList = new HashSet<String>();
-		}
-
-		// collect the files read for computing this attribute
-		do {
-			if (stack.peek() instanceof FileRead) {
-				top = stack.pop();
-				fileList.add(((FileRead) top).getFile());
-			} else if (stack.peek() instanceof FileSet) {
-				top = stack.pop();
-				fileList.addAll(((FileSet) top).getFiles());
-			} else if (stack.peek() instanceof AttributeBegin) {
-				top = stack.pop();
-				assert ((AttributeBegin) top).getAttributeValue().equals(attr);
-				if (!fileList.isEmpty())
-					stack.push(new FileSet(fileList));
-				break;
-			} else {
-				throw new RuntimeException("Unexpected entry on top of the stack: " + stack.peek());
+		void add(int id) {
+			int word = id >>> 6;
+			long[] bits = files[depth];
+			if (word >= bits.length) {
+				bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+				files[depth] = bits;
 			}
-		} while (!stack.empty());
-
-		// if the computation of this attribute used any
-		// files, record them
-		if (!fileList.isEmpty())
-			attrFileDeps.put(attr, fileList);
-
-		return null;
-	}
+			bits[word] |= 1L << id;
+			if (word >= words[depth]) {
+				words[depth] = word + 1;
+			}
+		}
 
-	@Override public String toString() {
-		return "ATTRIBUTE-END: " + attr;
-	}
-}
+		/**
+		 * Adds a file set to the bitset at the top of the stack.
+		 */
+		void include(FileSet set) {
+			int end = set.offset + set.words.length;
+			long[] bits = files[depth];
+			if (end > bits.length) {
+				bits = Arrays.copyOf(bits, Math.max(end, bits.length * 2));
+				files[depth] = bits;
+			}
+			for (int i = 0; i < set.words.length; ++i) {
+				bits[set.offset + i] |= set.words[i];
+			}
+			if (end > words[depth]) {
+				words[depth] = end;
+			}
+		}
 
-class FileSet implements StackEntry {
-	private Set<String> fileSet;
-	public FileSet(Set<String> fileSet) {
-		this.fileSet = fileSet;
-	}
+		void push(ASTNode n, String attr, Object p) {
+			depth += 1;
+			if (depth == node.length) {
+				int length = node.length * 2;
+				node = Arrays.copyOf(node, length);
+				attribute = Arrays.copyOf(attribute, length);
+				params = Arrays.copyOf(params, length);
+				files = Arrays.copyOf(files, length);
+				words = Arrays.copyOf(words, length);
+			}
+			node[depth] = n;
+			attribute[depth] = attr;
+			params[depth] = p;
+			if (files[depth] == null) {
+				files[depth] = new long[files[depth - 1].length];
+			} else {
+				Arrays.fill(files[depth], 0, words[depth], 0L);
+			}
+			words[depth] = 0;
+		}
 
-	@Override public Object execute(Stack<StackEntry> stack) {
-		return null;
+		void pop() {
+			node[depth] = null;
+			attribute[depth] = null;
+			params[depth] = null;
+			depth -= 1;
+		}
 	}
 
-	public Set<String> getFiles() {
-		return fileSet;
-	}
+	/**
+	 * One segment of the attribute file set table, using open addressing.
+	 * Nodes are compared by reference equality.
+	 */
+	private static final class AttributeTable {
+		int size = 0;
+		ASTNode[] node = new ASTNode[INITIAL_CAPACITY];
+		String[] attribute = new String[INITIAL_CAPACITY];
+		Object[] params = new Object[INITIAL_CAPACITY];
+		int[] hash = new int[INITIAL_CAPACITY];
+		FileSet[] values = new FileSet[INITIAL_CAPACITY];
+
+		/**
+		 * @return the slot holding the attribute instance, or the empty slot
+		 * where it should be inserted
+		 */
+		int slot(ASTNode n, String attr, Object p, int h) {
+			int mask = node.length - 1;
+			int slot = (h >>> 4) & mask;
+			while (node[slot] != null) {
+				if (node[slot] == n && hash[slot] == h
+						&& (attribute[slot] == attr || attribute[slot].equals(attr))
+						&& (p == null ? params[slot] == null : p.equals(params[slot]))) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
 
-	@Override public String toString() {
-		return "FILE-SET: " + fileSet;
+		void put(int slot, ASTNode n, String attr, Object p, int h, FileSet files) {
+			if (node[slot] != null) {
+				values[slot] = files;
+				return;
+			}
+			node[slot] = n;
+			attribute[slot] = attr;
+			params[slot] = p;
+			hash[slot] = h;
+			values[slot] = files;
+			size += 1;
+			if (size * 2 > node.length) {
+				ASTNode[] oldNode = node;
+				String[] oldAttribute = attribute;
+				Object[] oldParams = params;
+				int[] oldHash = hash;
+				FileSet[] oldValues = values;
+				int capacity = oldNode.length * 2;
+				node = new ASTNode[capacity];
+				attribute = new String[capacity];
+				params = new Object[capacity];
+				hash = new int[capacity];
+				values = new FileSet[capacity];
+				int mask = capacity - 1;
+				for (int i = 0; i < oldNode.length; ++i) {
+					if (oldNode[i] != null) {
+						int s = (oldHash[i] >>> 4) & mask;
+						while (node[s] != null) {
+							s = (s + 1) & mask;
+						}
+						node[s] = oldNode[i];
+						attribute[s] = oldAttribute[i];
+						params[s] = oldParams[i];
+						hash[s] = oldHash[i];
+						values[s] = oldValues[i];
+					}
+				}
+			}
+		}
 	}
-}
 
-class FileRead implements StackEntry {
-	private String file;
-	public FileRead(String file) {
-		this.file = file;
+	/**
+	 * One segment of the table of distinct file sets, using open addressing.
+	 */
+	private static final class FileSetTable {
+		int size = 0;
+		FileSet[] sets = new FileSet[INITIAL_CAPACITY];
+
+		/**
+		 * Finds the file set with the given bitset words, or adds a new one.
+		 */
+		FileSet intern(long[] bits, int first, int end, int h) {
+			int mask = sets.length - 1;
+			int slot = (h >>> 4) & mask;
+			while (sets[slot] != null) {
+				FileSet set = sets[slot];
+				if (set.hash == h && set.matches(bits, first, end)) {
+					return set;
+				}
+				slot = (slot + 1) & mask;
+			}
+			FileSet result = new FileSet(first, Arrays.copyOfRange(bits, first, end), h);
+			sets[slot] = result;
+			size += 1;
+			if (size * 2 > sets.length) {
+				FileSet[] old = sets;
+				sets = new FileSet[old.length * 2];
+				mask = sets.length - 1;
+				for (FileSet set : old) {
+					if (set != null) {
+						slot = (set.hash >>> 4) & mask;
+						while (sets[slot] != null) {
+							slot = (slot + 1) & mask;
+						}
+						sets[slot] = set;
+					}
+				}
+			}
+			return result;
+		}
 	}
 
-	@Override public Object execute(Stack<StackEntry> stack) {
-		return null;
+	public ProvenanceStackMachine() {
+		for (int i = 0; i < SEGMENTS; ++i) {
+			attributes[i] = new AttributeTable();
+			fileSets[i] = new FileSetTable();
+		}
 	}
 
-	String getFile() {
-		return file;
+	private static ThreadLocal<EvaluationStack> newStacks() {
+		return new ThreadLocal<EvaluationStack>() {
+			@Override
+			protected EvaluationStack initialValue() {
+				return new EvaluationStack();
+			}
+		};
 	}
 
-	@Override public String toString() {
-		return "FILE-READ: " + file;
+	/**
+	 * Marks whether this receiver is installed. Callers of fileRead(String)
+	 * check isEnabled() first, so that file reads cost nothing when provenance
+	 * tracking is off.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
 	}
-}
-
-public class ProvenanceStackMachine implements ASTState.Trace.Receiver {
-	private Stack<StackEntry> stack = new Stack<StackEntry>();
-	private Map<AttributeValue, Set<String>> attrToFile = new HashMap<AttributeValue, Set<String>>();
 
-	private void addAndExecute(StackEntry e) {
-		stack.push(e);
-		e.execute(stack);
+	/**
+	 * @return {@code true} if file reads should be recorded
+	 */
+	public boolean isEnabled() {
+		return enabled;
 	}
 
 	public void fileRead(String path) {
-		addAndExecute(new FileRead(path));
+		Integer id = fileIds.get(path);
+		if (id == null) {
+			synchronized (fileNames) {
+				id = fileIds.get(path);
+				if (id == null) {
+					id = fileNames.size();
+					fileNames.add(path);
+					fileIds.put(path, id);
+				}
+			}
+		}
+		EvaluationStack stack = stacks.get();
+		stack.add(id);
+		stack.lastFiles = null;
 	}
 
 	public void attributeBegin(ASTNode node, String attribute, Object params) {
-		addAndExecute(new AttributeBegin(new AttributeValue(node, attribute, params)));
+		EvaluationStack stack = stacks.get();
+		stack.push(node, attribute, params);
+		stack.lastFiles = null;
 	}
 
 	public void attributeEnd(ASTNode node, String attribute, Object params) {
-		addAndExecute(new AttributeEnd(new AttributeValue(node, attribute, params), attrToFile));
+		EvaluationStack stack = stacks.get();
+		if (stack.depth == 0) {
+			throw new RuntimeException("Unexpected end of attribute " + attribute);
+		}
+		assert stack.node[stack.depth] == node && stack.attribute[stack.depth].equals(attribute);
+
+		// Merge with the files previously recorded for this attribute.
+		int h = hash(node, attribute, params);
+		AttributeTable table = attributes[h & (SEGMENTS - 1)];
+		FileSet files;
+		synchronized (table) {
+			int slot = table.slot(node, attribute, params, h);
+			files = table.values[slot];
+			if (files != null) {
+				stack.include(files);
+			}
+			if (stack.words[stack.depth] > 0) {
+				files = fileSet(stack.files[stack.depth], stack.words[stack.depth]);
+				table.put(slot, node, attribute, params, h, files);
+			}
+		}
+
+		stack.pop();
+
+		// The files used by this attribute are also used by the enclosing computation.
+		if (files != null) {
+			stack.include(files);
+		}
+		stack.lastFiles = files;
 	}
 
 	public void cacheRead(ASTNode node, String attribute, Object params) {
-		Set<String> files = attrToFile.getOrDefault(new AttributeValue(node, attribute, params), Collections.<String>emptySet());
-		addAndExecute(new FileSet(files));
+		EvaluationStack stack = stacks.get();
+		FileSet files = lookup(node, attribute, params);
+		if (files != null) {
+			stack.include(files);
+		}
+		stack.lastFiles = files;
+	}
+
+	/**
+	 * @return the files read while computing the given attribute instance
+	 */
+	public Set<String> getFiles(ASTNode node, String attribute, Object params) {
+		return toSet(lookup(node, attribute, params));
 	}
 
+	/**
+	 * @return the files of the last completed or cached attribute on the
+	 * current thread, if no other event has occurred since then
+	 */
 	public Set<String> getSourcesFromTopOfStack() {
-		if (stack.empty())
-			return Collections.emptySet();
-		return ((FileSet) stack.peek()).getFiles();
+		return toSet(stacks.get().lastFiles);
 	}
 
+	/**
+	 * Discards all recorded dependencies. Must not be called while attributes
+	 * are being evaluated.
+	 */
 	public void reset() {
-		stack.clear();
+		stacks = newStacks();
+		for (int i = 0; i < SEGMENTS; ++i) {
+			attributes[i] = new AttributeTable();
+			fileSets[i] = new FileSetTable();
+		}
+		synchronized (fileNames) {
+			fileIds.clear();
+			fileNames.clear();
+		}
 	}
 
 	@Override
@@ -216,7 +426,82 @@ public class ProvenanceStackMachine implements ASTState.Trace.Receiver {
 		}
 	}
 
+	private static int hash(ASTNode node, String attribute, Object params) {
+		int h = System.identityHashCode(node);
+		h = h * 31 + attribute.hashCode();
+		if (params != null) {
+			h = h * 31 + params.hashCode();
+		}
+		return h ^ (h >>> 16);
+	}
+
+	private FileSet lookup(ASTNode node, String attribute, Object params) {
+		int h = hash(node, attribute, params);
+		AttributeTable table = attributes[h & (SEGMENTS - 1)];
+		synchronized (table) {
+			return table.values[table.slot(node, attribute, params, h)];
+		}
+	}
+
+	/**
+	 * Finds the shared file set equal to a non-empty bitset, or adds a new one.
+	 *
+	 * @param bits the bitset
+	 * @param end the number of used words in the bitset. The last used word
+	 * must be non-zero.
+	 */
+	private FileSet fileSet(long[] bits, int end) {
+		int first = 0;
+		while (bits[first] == 0) {
+			first += 1;
+		}
+		int h = first;
+		for (int i = first; i < end; ++i) {
+			h = h * 31 + (int) (bits[i] ^ (bits[i] >>> 32));
+		}
+		h ^= h >>> 16;
+		FileSetTable table = fileSets[h & (SEGMENTS - 1)];
+		synchronized (table) {
+			return table.intern(bits, first, end, h);
+		}
+	}
+
+	private Set<String> toSet(FileSet files) {
+		if (files == null) {
+			return Collections.emptySet();
+		}
+		Set<String> set = new HashSet<String>();
+		synchronized (fileNames) {
+			for (int i = 0; i < files.words.length; ++i) {
+				long word = files.words[i];
+				while (word != 0) {
+					int id = (files.offset + i) * 64 + Long.numberOfTrailingZeros(word);
+					set.add(fileNames.get(id));
+					word &= word - 1;
+				}
+			}
+		}
+		return set;
+	}
+
 	@Override public String toString() {
-		return stack.toString() + "\n" + attrToFile.toString();
+		StringBuilder buf = new StringBuilder();
+		buf.append("depth: ").append(stacks.get().depth).append("\n{");
+		boolean first = true;
+		for (AttributeTable table : attributes) {
+			synchronized (table) {
+				for (int i = 0; i < table.node.length; ++i) {
+					if (table.node[i] != null) {
+						if (!first) {
+							buf.append(", ");
+						}
+						first = false;
+						buf.append(table.node[i].getClass()).append("::").append(table.attribute[i]);
+						buf.append("=").append(toSet(table.values[i]));
+					}
+				}
+			}
+		}
+		return buf.append("}").toString();
 	}
 }
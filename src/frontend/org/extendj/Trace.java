@@ -29,45 +29,127 @@
  */
 package org.extendj;
 
-import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.net.Socket;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
 import java.util.Stack;
 import java.util.zip.DeflaterOutputStream;
 
 /**
  * General purpose event tracing framework.
  *
- * <p>Events are logged by pushEvent() and popEvent(). The resulting trace
- * can be sent via a socket to a profiling tool.
+ * <p>Events are logged by pushEvent() and popEvent(). After recording has been
+ * started with startRecording(), each completed event is written to a spool
+ * file, so only the currently open events are kept in memory. The resulting
+ * trace can be written to a compressed file or sent via a socket to a
+ * profiling tool. Profiling tools that only read trace format version 2 can
+ * not read the trace, but TraceAnalyzer can.
+ *
+ * <p>Each thread has its own stack of open events, so events may be pushed and
+ * popped by several threads. An event popped by a thread is a child of the
+ * event below it on the same thread's stack, or of the root event if there is
+ * no such event.
+ *
+ * <p>Trace format version 4 is a sequence of records. Integers are written as
+ * unsigned variable-length integers (seven bits per byte, least significant
+ * group first, high bit set on all but the last byte) and strings as a length
+ * followed by UTF-8 bytes. The stream starts with the format version as a
+ * negative 32-bit big-endian integer, followed by records of two kinds:
+ * <ul>
+ * <li>Tag 0, name: defines the next event name id (counting from zero).
+ * <li>Tag 1, event: thread id, name id, metadata, start time, duration,
+ * number of children. Times are in nanoseconds, relative to the start of the
+ * trace. Thread ids are small numbers starting at zero. A thread takes the
+ * lowest free id when it pushes an event while it has no open events, and
+ * frees the id when its outermost event ends, so an id may be reused by
+ * another thread. Thread zero started the recording.
+ * </ul>
+ * Events are written in post-order: the children of an event are the
+ * preceding events of the same thread at the next nesting level. The last
+ * event is the root, on thread zero. The children of the root are the
+ * outermost events of all threads.
  */
 public class Trace {
   private long start; // Start of time scale in nanoseconds.
-  private static final int TRACE_FORMAT_VERSION = 2;
-
+  private static final int TRACE_FORMAT_VERSION = 4;
 
   // Version 2: switched child count from int to short.
+  // Version 3: streaming post-order records with variable-length integers and
+  //            names defined on first use.
+  // Version 4: thread id in event records.
+
+  private static final int NAME_RECORD = 0;
+  private static final int EVENT_RECORD = 1;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  private final String name;
+
+  /** The open events of one thread. */
+  private static class Lane {
+    final int id;
+    final Stack<Event> events = new Stack<Event>();
+
+    Lane(int id) {
+      this.id = id;
+    }
+  }
 
-  public Stack<Event> events = new Stack<Event>();
+  /** The lane of each thread, if it belongs to the current recording. */
+  private final ThreadLocal<Lane> lane = new ThreadLocal<Lane>();
+
+  /**
+   * The lanes of the threads with open events, indexed by thread id. The
+   * slot of a lane is set to null when the outermost event of its thread ends.
+   */
+  private final List<Lane> lanes = new ArrayList<Lane>();
+
+  private Event root;
+
+  /** The spool file that completed events are written to while recording. */
+  private File spool = null;
+  private FileChannel channel = null;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private final Map<String, Integer> nameMap = new HashMap<String, Integer>();
+
+  private volatile Listener[] listeners = new Listener[0];
+
+  /**
+   * Receives trace events as they are pushed and popped.
+   *
+   * <p>A listener is called on the thread that pushed or popped the event, so
+   * the events of each thread are received in nesting order. Events added by
+   * beginEvent() and endEvent(), such as the attribute events recorded by
+   * TraceReceiver, are not received.
+   */
+  public interface Listener {
+    void eventBegin(String name, String metadata);
+    void eventEnd(String name);
+  }
 
   public static class Event {
     public String name;
     public final long start;
     public final String metadata;
     public long end;
-    public List<Event> children = new ArrayList<Event>();
+    public int numChildren = 0;
 
     public Event(String name, long start) {
       this(name, start, "");
@@ -81,10 +163,44 @@ public class Trace {
   }
 
   public Trace(String name) {
+    this.name = name;
+    pushRoot();
+  }
+
+  /**
+   * Starts a new root event. The current thread gets thread id zero, and
+   * other threads get new lanes when they push their next event.
+   */
+  private synchronized void pushRoot() {
     start = System.nanoTime();
     Date timestamp = new Date();
-    events.push(new Event(String.format("%s %tF %tT", name, timestamp, timestamp),
-        System.nanoTime()));
+    root = new Event(String.format("%s %tF %tT", name, timestamp, timestamp),
+        System.nanoTime());
+    lanes.clear();
+    lane.set(newLane());
+  }
+
+  private Lane newLane() {
+    int id = lanes.indexOf(null);
+    if (id == -1) {
+      id = lanes.size();
+      lanes.add(null);
+    }
+    Lane result = new Lane(id);
+    lanes.set(id, result);
+    return result;
+  }
+
+  /**
+   * @return the lane of the current thread in the current recording.
+   */
+  private Lane lane() {
+    Lane result = lane.get();
+    if (result == null || result.id >= lanes.size() || lanes.get(result.id) != result) {
+      result = newLane();
+      lane.set(result);
+    }
+    return result;
   }
 
   /**
@@ -94,6 +210,44 @@ public class Trace {
     this.start = start;
   }
 
+  /**
+   * Adds a listener that is notified of each pushed and popped event.
+   */
+  public synchronized void addListener(Listener listener) {
+    listeners = Arrays.copyOf(listeners, listeners.length + 1);
+    listeners[listeners.length - 1] = listener;
+  }
+
+  public synchronized void removeListener(Listener listener) {
+    for (int i = 0; i < listeners.length; ++i) {
+      if (listeners[i] == listener) {
+        Listener[] list = new Listener[listeners.length - 1];
+        System.arraycopy(listeners, 0, list, 0, i);
+        System.arraycopy(listeners, i + 1, list, i, list.length - i);
+        listeners = list;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Starts writing completed events to a temporary spool file.
+   * This restarts the trace with a new root event.
+   */
+  public void startRecording() throws IOException {
+    closeChannel();
+    if (spool != null) {
+      spool.delete();
+    }
+    spool = File.createTempFile("extendj", ".trace");
+    spool.deleteOnExit();
+    channel = new RandomAccessFile(spool, "rw").getChannel();
+    ((Buffer) buffer).clear();
+    nameMap.clear();
+    pushRoot();
+    buffer.putInt(-TRACE_FORMAT_VERSION);
+  }
+
   /**
    * Adds a new event to the trace.
    * The new event should be popped by a later call to popEvent().
@@ -107,18 +261,66 @@ public class Trace {
    * The new event should be popped by a later call to popEvent().
    */
   public void pushEvent(String name, String metadata) {
-    Event event = new Event(name, System.nanoTime(), metadata);
-    events.push(event);
+    beginEvent(name, metadata);
+    for (Listener listener : listeners) {
+      listener.eventBegin(name, metadata);
+    }
   }
 
   /**
    * Pop the current event from the trace stack and update the end time.
    */
   public void popEvent() {
+    Event event = endEvent();
+    for (Listener listener : listeners) {
+      listener.eventEnd(event.name);
+    }
+  }
+
+  /**
+   * Adds a new event to the trace without notifying the listeners.
+   * The new event should be ended by a later call to endEvent().
+   */
+  protected void beginEvent(String name, String metadata) {
+    Event event = new Event(name, System.nanoTime(), metadata);
+    synchronized (this) {
+      lane().events.push(event);
+    }
+  }
+
+  /**
+   * Ends the current event without notifying the listeners.
+   *
+   * @return the ended event
+   */
+  protected Event endEvent() {
     long end = System.nanoTime();
-    Event event = events.pop();
+    synchronized (this) {
+      Lane current = lane();
+      Event event = popEvent(current, end);
+      if (current.events.isEmpty()) {
+        // The outermost event of this thread has ended. The lane is dropped so
+        // that threads which stop tracing do not keep a lane.
+        lanes.set(current.id, null);
+        lane.remove();
+      }
+      return event;
+    }
+  }
+
+  /**
+   * Pops the top event of a lane and writes it to the spool file.
+   */
+  private Event popEvent(Lane current, long end) {
+    Event event = current.events.pop();
     event.end = end;
-    events.peek().children.add(event);
+    if (current.events.isEmpty()) {
+      root.numChildren += 1;
+    } else {
+      current.events.peek().numChildren += 1;
+    }
+    writeEvent(current.id, event);
+    return event;
   }
 
   /**
@@ -127,10 +329,6 @@ public class Trace {
    * @param prefix the prefix to give the trace files
    */
   public void dumpTrace(String prefix) {
-    if (events.size() != 1) {
-      System.err.format("Warning: tracing event stack has unexpected size %d. "
-          + "Only the top event will be reported.%n", events.size());
-    }
     int suffix = 0;
     File dest;
     Date timestamp = new Date();
@@ -142,61 +340,142 @@ public class Trace {
     } while (dest.exists());
     try {
       System.err.format("Writing trace to %s%n", dest.getAbsolutePath());
-      writeTrace(new DataOutputStream(new DeflaterOutputStream(new FileOutputStream(dest))), start);
+      DeflaterOutputStream out = new DeflaterOutputStream(new FileOutputStream(dest));
+      try {
+        writeTrace(out);
+      } finally {
+        out.close();
+      }
     } catch (IOException ignored) {
     }
   }
 
-  private void writeTrace(OutputStream output, long t0) throws IOException {
-    DataOutputStream out = new DataOutputStream(output);
-    out.writeInt(-TRACE_FORMAT_VERSION);
-    Event root = events.peek();
-    root.end = System.nanoTime();
-    Set<String> eventNames = getEventNames(root);
-    Map<String, Integer> nameMap = new HashMap<String, Integer>();
-    out.writeInt(eventNames.size());
-    int id = 0;
-    for (String name : eventNames) {
-      nameMap.put(name, id++);
-      out.writeUTF(name);
+  public void sendTo(String host, int port) throws IOException {
+    System.err.format("Sending trace to: %s:%d%n", host, port);
+    Socket socket = new Socket(host, port);
+    try {
+      writeTrace(socket.getOutputStream());
+    } finally {
+      socket.close();
+    }
+  }
+
+  /**
+   * Completes the trace and copies it to the output stream.
+   */
+  private synchronized void writeTrace(OutputStream out) throws IOException {
+    if (channel == null) {
+      if (spool == null) {
+        System.err.println("Warning: no trace has been recorded.");
+        return;
+      }
+    } else {
+      int open = 0;
+      for (Lane current : lanes) {
+        if (current != null) {
+          open += current.events.size();
+        }
+      }
+      if (open != 0) {
+        System.err.format("Warning: %d tracing events are still open. "
+            + "Open events are ended at the current time.%n", open);
+      }
+      long end = System.nanoTime();
+      for (Lane current : lanes) {
+        while (current != null && !current.events.isEmpty()) {
+          popEvent(current, end);
+        }
+      }
+      root.end = end;
+      writeEvent(0, root);
+      if (channel != null) {
+        flush();
+      }
+      closeChannel();
+    }
+    InputStream in = new FileInputStream(spool);
+    try {
+      byte[] bytes = new byte[BUFFER_SIZE];
+      int len;
+      while ((len = in.read(bytes)) != -1) {
+        out.write(bytes, 0, len);
+      }
+      out.flush();
+    } finally {
+      in.close();
+    }
+  }
+
+  private void writeEvent(int thread, Event event) {
+    if (channel == null) {
+      return;
+    }
+    try {
+      Integer id = nameMap.get(event.name);
+      if (id == null) {
+        id = nameMap.size();
+        nameMap.put(event.name, id);
+        writeVarLong(NAME_RECORD);
+        writeString(event.name);
+      }
+      writeVarLong(EVENT_RECORD);
+      writeVarLong(thread);
+      writeVarLong(id);
+      writeString(event.metadata);
+      writeVarLong(Math.max(0, event.start - start));
+      writeVarLong(Math.max(0, event.end - event.start));
+      writeVarLong(event.numChildren);
+    } catch (IOException e) {
+      System.err.println("Warning: failed to write trace: " + e.getMessage());
+      closeChannel();
     }
-    writeEvent(out, root, nameMap, t0);
-    out.close();
   }
 
-  private static void writeEvent(DataOutputStream out, Event event, Map<String, Integer> nameMap,
-      long t0) throws IOException {
-    out.writeInt(nameMap.get(event.name));
-    out.writeUTF(event.metadata);
-    out.writeLong(event.start - t0);
-    out.writeLong(event.end - t0);
-    if (event.children.size() > Short.MAX_VALUE) {
-      throw new Error(String.format("Event has too many children to serialize (%d)!",
-            event.children.size()));
+  private void writeVarLong(long value) throws IOException {
+    if (buffer.remaining() < 10) {
+      flush();
     }
-    out.writeShort(event.children.size());
-    for (Event child : event.children) {
-      writeEvent(out, child, nameMap, t0);
+    while ((value & ~0x7FL) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
     }
+    buffer.put((byte) value);
   }
 
-  private static Set<String> getEventNames(Event root) {
-    Set<String> names = new HashSet<String>();
-    Queue<Event> queue = new LinkedList<Event>();
-    queue.add(root);
-    while (!queue.isEmpty()) {
-      Event event = queue.poll();
-      names.add(event.name);
-      queue.addAll(event.children);
+  private void writeString(String value) throws IOException {
+    byte[] bytes = value.getBytes(UTF8);
+    writeVarLong(bytes.length);
+    if (bytes.length > buffer.remaining()) {
+      flush();
+      if (bytes.length > buffer.capacity()) {
+        ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+        while (wrapped.hasRemaining()) {
+          channel.write(wrapped);
+        }
+        return;
+      }
     }
-    return names;
+    buffer.put(bytes);
   }
 
-  public void sendTo(String host, int port) throws IOException {
-    System.err.format("Sending trace to: %s:%d%n", host, port);
-    Socket socket = new Socket(host, port);
-    writeTrace(socket.getOutputStream(), start);
-    //socket.close();
+  // The buffer is accessed as a Buffer for flip() and clear() so that the class
+  // runs on Java 8 even when compiled by a newer JDK.
+  private void flush() throws IOException {
+    ((Buffer) buffer).flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    ((Buffer) buffer).clear();
+  }
+
+  private void closeChannel() {
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (IOException ignored) {
+      }
+      channel = null;
+    }
   }
 
 }
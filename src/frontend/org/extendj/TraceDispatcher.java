@@ -0,0 +1,124 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj;
+
+import java.util.Arrays;
+import java.util.Set;
+import org.extendj.ast.ASTNode;
+import org.extendj.ast.ASTState;
+
+/**
+ * Dispatches attribute tracing events to multiple receivers.
+ *
+ * <p>Each receiver is registered with the set of event kinds it handles, and
+ * only gets events of those kinds. When no receiver is registered, handling
+ * an event costs a single branch.
+ *
+ * <p>Receivers can be added and removed while events are dispatched on other
+ * threads, but the receivers themselves must be thread-safe if events are
+ * generated on multiple threads.
+ */
+public class TraceDispatcher implements ASTState.Trace.Receiver {
+  private static final int NUM_EVENTS = ASTState.Trace.Event.values().length;
+
+  /**
+   * The receivers for each event kind, indexed by event ordinal. This is
+   * {@code null} when there are no receivers.
+   */
+  private volatile ASTState.Trace.Receiver[][] receivers = null;
+
+  /**
+   * Adds a receiver for the given event kinds.
+   */
+  public synchronized void addReceiver(ASTState.Trace.Receiver receiver,
+      Set<ASTState.Trace.Event> events) {
+    ASTState.Trace.Receiver[][] table = receivers == null
+        ? new ASTState.Trace.Receiver[NUM_EVENTS][]
+        : receivers.clone();
+    for (ASTState.Trace.Event event : events) {
+      ASTState.Trace.Receiver[] old = table[event.ordinal()];
+      ASTState.Trace.Receiver[] list = old == null
+          ? new ASTState.Trace.Receiver[1]
+          : Arrays.copyOf(old, old.length + 1);
+      list[list.length - 1] = receiver;
+      table[event.ordinal()] = list;
+    }
+    receivers = table;
+  }
+
+  /**
+   * Removes a receiver for all event kinds.
+   */
+  public synchronized void removeReceiver(ASTState.Trace.Receiver receiver) {
+    if (receivers == null) {
+      return;
+    }
+    ASTState.Trace.Receiver[][] table = new ASTState.Trace.Receiver[NUM_EVENTS][];
+    boolean empty = true;
+    for (int i = 0; i < NUM_EVENTS; ++i) {
+      ASTState.Trace.Receiver[] old = receivers[i];
+      if (old != null) {
+        int count = 0;
+        ASTState.Trace.Receiver[] list = new ASTState.Trace.Receiver[old.length];
+        for (ASTState.Trace.Receiver r : old) {
+          if (r != receiver) {
+            list[count++] = r;
+          }
+        }
+        if (count > 0) {
+          table[i] = Arrays.copyOf(list, count);
+          empty = false;
+        }
+      }
+    }
+    receivers = empty ? null : table;
+  }
+
+  /**
+   * @return {@code true} if no receivers are registered
+   */
+  public boolean isEmpty() {
+    return receivers == null;
+  }
+
+  @Override
+  public void accept(ASTState.Trace.Event event, ASTNode node, String attribute,
+      Object params, Object value) {
+    ASTState.Trace.Receiver[][] table = receivers;
+    if (table != null) {
+      ASTState.Trace.Receiver[] list = table[event.ordinal()];
+      if (list != null) {
+        for (ASTState.Trace.Receiver receiver : list) {
+          receiver.accept(event, node, attribute, params, value);
+        }
+      }
+    }
+  }
+}
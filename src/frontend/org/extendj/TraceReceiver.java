@@ -43,15 +43,13 @@ public class TraceReceiver extends Trace implements ASTState.Trace.Receiver {
       Object params, Object value) {
     switch (event) {
       case COMPUTE_BEGIN: {
-        if (params instanceof String) {
-          pushEvent(attribute, (String) params);
-        } else {
-          pushEvent(attribute);
-        }
+        // Listeners are not notified of attribute events. They can receive
+        // them from the AST directly.
+        beginEvent(attribute, params instanceof String ? (String) params : "");
         break;
       }
       case COMPUTE_END: {
-        popEvent();
+        endEvent();
         break;
       }
     }
@@ -0,0 +1,268 @@
+/* Copyright (c) 2019, ExtendJ Committers
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation
+ * and/or other materials provided with the distribution.
+ *
+ * 3. Neither the name of the copyright holder nor the names of its
+ * contributors may be used to endorse or promote products derived from this
+ * software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.extendj.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Finds the package name and the names of the top-level types declared in a
+ * Java source file, without parsing the file.
+ *
+ * <p>This is used to look up source types before their source files have
+ * been parsed. Only comments, string and character literals, identifiers and
+ * brackets are recognized. The bodies of the type declarations are skipped by
+ * matching braces.
+ *
+ * <p>If the scanner finds anything that it does not recognize at the top
+ * level of the file, the scan fails. The caller should then parse the file
+ * before it looks up any type. This is the case for syntax added by an
+ * extension, for example.
+ */
+public class DeclarationScanner {
+  private final Reader in;
+  private int next;
+
+  /** The current token. */
+  private String token;
+
+  private String packageName = "";
+  private final Collection<String> typeNames = new ArrayList<String>();
+
+  /**
+   * The source file is read as UTF-8, like the Java parser does.
+   */
+  public DeclarationScanner(InputStream in) throws IOException {
+    this.in = new UnicodeEscapeReader(in);
+    next = this.in.read();
+  }
+
+  /** @return the package name, or the empty string for the default package */
+  public String packageName() {
+    return packageName;
+  }
+
+  /** @return the simple names of the top-level types, in declaration order */
+  public Collection<String> typeNames() {
+    return typeNames;
+  }
+
+  /**
+   * Scans the source file.
+   *
+   * @return {@code true} if all top-level declarations were recognized
+   */
+  public boolean scan() throws IOException {
+    advance();
+    // Package annotations, or annotations of the first type declaration.
+    while ("@".equals(token)) {
+      advance();
+      if ("interface".equals(token)) {
+        return typeDeclaration() && typeDeclarations();
+      }
+      annotation();
+    }
+    if ("package".equals(token)) {
+      advance();
+      packageName = qualifiedName();
+      if (!";".equals(token)) {
+        return false;
+      }
+      advance();
+    }
+    return typeDeclarations();
+  }
+
+  /** Scans the imports and type declarations that follow the package declaration. */
+  private boolean typeDeclarations() throws IOException {
+    while (token != null) {
+      if (token.equals(";")) {
+        advance();
+      } else if (token.equals("import")) {
+        while (token != null && !token.equals(";")) {
+          advance();
+        }
+        advance();
+      } else if (isModifier(token)) {
+        advance();
+      } else if (token.equals("@")) {
+        advance();
+        if (token == null) {
+          return false;
+        } else if (token.equals("interface")) {
+          if (!typeDeclaration()) {
+            return false;
+          }
+        } else {
+          annotation();
+        }
+      } else if (token.equals("class") || token.equals("interface")
+          || token.equals("enum")) {
+        if (!typeDeclaration()) {
+          return false;
+        }
+      } else {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Scans a type declaration, starting at the class, interface or enum
+   * keyword.
+   */
+  private boolean typeDeclaration() throws IOException {
+    advance();
+    if (token == null || !Character.isJavaIdentifierStart(token.charAt(0))) {
+      return false;
+    }
+    typeNames.add(token);
+    // Skip the type parameters and supertypes.
+    while (token != null && !token.equals("{")) {
+      if (token.equals("(")) {
+        skipBalanced("(", ")");
+      } else {
+        advance();
+      }
+    }
+    if (token == null) {
+      return false;
+    }
+    skipBalanced("{", "}");
+    return true;
+  }
+
+  /** Skips the name and arguments of an annotation, after the at sign. */
+  private void annotation() throws IOException {
+    qualifiedName();
+    if ("(".equals(token)) {
+      skipBalanced("(", ")");
+    }
+  }
+
+  /** Skips tokens up to and including the bracket that closes the current one. */
+  private void skipBalanced(String open, String close) throws IOException {
+    int depth = 0;
+    do {
+      if (token.equals(open)) {
+        depth += 1;
+      } else if (token.equals(close)) {
+        depth -= 1;
+      }
+      advance();
+    } while (token != null && depth > 0);
+  }
+
+  private String qualifiedName() throws IOException {
+    StringBuilder name = new StringBuilder();
+    while (token != null && Character.isJavaIdentifierStart(token.charAt(0))) {
+      name.append(token);
+      advance();
+      if (!".".equals(token)) {
+        break;
+      }
+      name.append('.');
+      advance();
+    }
+    return name.toString();
+  }
+
+  private static boolean isModifier(String token) {
+    return token.equals("public") || token.equals("protected")
+        || token.equals("private") || token.equals("abstract")
+        || token.equals("static") || token.equals("final")
+        || token.equals("strictfp");
+  }
+
+  /**
+   * Reads the next token. Identifiers and keywords are returned as one token,
+   * other characters one at a time. Literals are returned as a single quote.
+   * The token is null at the end of the file.
+   */
+  private void advance() throws IOException {
+    while (true) {
+      while (next != -1 && Character.isWhitespace(next)) {
+        next = in.read();
+      }
+      if (next == '/') {
+        next = in.read();
+        if (next == '/') {
+          while (next != -1 && next != '\n' && next != '\r') {
+            next = in.read();
+          }
+          continue;
+        } else if (next == '*') {
+          next = in.read();
+          int prev = 0;
+          while (next != -1 && !(prev == '*' && next == '/')) {
+            prev = next;
+            next = in.read();
+          }
+          next = in.read();
+          continue;
+        }
+        token = "/";
+        return;
+      }
+      break;
+    }
+    if (next == -1) {
+      token = null;
+    } else if (Character.isJavaIdentifierStart(next) || Character.isDigit(next)) {
+      // Numeric literals are read like identifiers, which is enough to skip them.
+      StringBuilder buf = new StringBuilder();
+      while (next != -1 && Character.isJavaIdentifierPart(next)) {
+        buf.append((char) next);
+        next = in.read();
+      }
+      token = buf.toString();
+    } else if (next == '"' || next == '\'') {
+      int quote = next;
+      next = in.read();
+      while (next != -1 && next != quote && next != '\n') {
+        if (next == '\\') {
+          next = in.read();
+        }
+        if (next != -1) {
+          next = in.read();
+        }
+      }
+      next = in.read();
+      token = "\"";
+    } else {
+      token = String.valueOf((char) next);
+      next = in.read();
+    }
+  }
+}
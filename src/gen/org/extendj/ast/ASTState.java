@@ -0,0 +1,550 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @declaredat ASTState:2
+ */
+public class ASTState extends java.lang.Object {
+  
+  /** @apilevel internal */
+  protected static class CircularValue {
+    Object value;
+    Cycle cycle;
+  }
+
+  
+
+  /**
+   * Instances of this class are used to uniquely identify circular evaluation cycles.
+   * @apilevel internal
+   */
+  protected static class Cycle {
+  }
+
+  
+
+  /** The cycle ID used outside of circular evaluation. */
+  public static final Cycle NON_CYCLE = new Cycle();
+
+  
+
+  /**
+   * Tracks the state of the current circular evaluation. This class defines a
+   * stack structure where the next element on the stack is pointed to by the
+   * {@code next} field.
+   * @apilevel internal
+   */
+  protected static class CircleState {
+    final CircleState next;
+    boolean inCircle = false;
+    boolean change = false;
+
+    /** Evaluation depth of lazy attributes. */
+    int lazyAttribute = 0;
+
+    /** Cycle ID of the latest cycle in this circular evaluation. */
+    Cycle cycle = NON_CYCLE;
+
+    protected CircleState(CircleState next) {
+      this.next = next;
+    }
+  }
+
+  
+
+  /** Sentinel circle state representing non-circular evaluation. */
+  private static final CircleState CIRCLE_BOTTOM = new CircleState(null);
+
+  
+
+  /**
+   * Current circular state.
+   * @apilevel internal
+   */
+  private CircleState circle = CIRCLE_BOTTOM;
+
+  
+
+  /** @apilevel internal */
+  protected boolean inCircle() {
+    return circle.inCircle;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected boolean calledByLazyAttribute() {
+    return circle.lazyAttribute > 0;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected void enterLazyAttribute() {
+    circle.lazyAttribute += 1;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected void leaveLazyAttribute() {
+    circle.lazyAttribute -= 1;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected void enterCircle() {
+    CircleState next = new CircleState(circle);
+    next.inCircle = true;
+    circle = next;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected void leaveCircle() {
+    circle = circle.next;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected Cycle nextCycle() {
+    Cycle cycle = new Cycle();
+    circle.cycle = cycle;
+    return cycle;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected Cycle cycle() {
+    return circle.cycle;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected CircleState currentCircle() {
+    return circle;
+  }
+
+  
+
+
+  /** @apilevel internal */
+  protected void setChangeInCycle() {
+    circle.change = true;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected boolean testAndClearChangeInCycle() {
+    boolean change = circle.change;
+    circle.change = false;
+    return change;
+  }
+
+  
+
+  /** @apilevel internal */
+  protected boolean changeInCycle() {
+    return circle.change;
+  }
+
+  
+
+
+  protected ASTState() {
+  }
+
+  
+
+  private Trace trace = null;
+
+  
+
+  /** @return the tracer instance used for tracing attribute evaluation in this AST. */
+  public Trace trace() {
+    if (trace == null) {
+      trace = new Trace();
+    }
+    return trace;
+  }
+
+  
+
+  public static class Trace {
+    /**
+     * Trace events corresponding to attribute evaluation events.
+     *
+     * <p>These events can be filtered statically using the flag --tracing to
+     * JastAdd2. For example, the flag {@code --tracing=compute,cache} will only trace
+     * compute events and cache events. The flag --tracing will enable all events.
+     *
+     * <p>To access the trace events you will need to register an event receiver.
+     * This can be done using the method setReceiver(ASTState.Trace.Receiver).
+     */
+    public enum Event {
+      // Flag: --tracing=compute
+      COMPUTE_BEGIN,
+      COMPUTE_END,
+  
+      // Flag: --tracing=cache
+      CACHE_WRITE,
+      CACHE_READ,
+      CACHE_ABORT,
+  
+      // Flag: --tracing=rewrite
+      REWRITE_CASE1_START,
+      REWRITE_CASE1_CHANGE,
+      REWRITE_CASE1_RETURN,
+      REWRITE_CASE2_RETURN,
+      REWRITE_CASE3_RETURN,
+  
+      // Flag: --tracing=circular
+      CIRCULAR_NTA_CASE1_START,
+      CIRCULAR_NTA_CASE1_CHANGE,
+      CIRCULAR_NTA_CASE1_RETURN,
+      CIRCULAR_NTA_CASE2_START,
+      CIRCULAR_NTA_CASE2_CHANGE,
+      CIRCULAR_NTA_CASE2_RETURN,
+      CIRCULAR_NTA_CASE3_RETURN,
+      CIRCULAR_CASE1_START,
+      CIRCULAR_CASE1_CHANGE,
+      CIRCULAR_CASE1_RETURN,
+      CIRCULAR_CASE2_START,
+      CIRCULAR_CASE2_CHANGE,
+      CIRCULAR_CASE2_RETURN,
+      CIRCULAR_CASE3_RETURN,
+  
+      // Flag: --tracing=copy
+      COPY_NODE,
+  
+      // Flag: --tracing=flush
+      FLUSH_ATTR,
+      FLUSH_REWRITE,
+      FLUSH_REWRITE_INIT;
+    }
+  
+    /**
+     * Functional interface for a trace event receiver.
+     * This can be implemented by applications that want to trace attribute evaluation.
+     */
+    public interface Receiver {
+      void accept(ASTState.Trace.Event event, ASTNode node, String attribute,
+          Object params, Object value);
+    }
+  
+    // The default event receiver does nothing.
+    private Receiver receiver = new Receiver() {
+      public void accept(ASTState.Trace.Event event, ASTNode node, String attribute,
+          Object params, Object value) {
+      }
+    };
+  
+    /**
+     * Registers an input filter to use during tracing.
+     * @param filter The input filter to register.
+     */
+    public void setReceiver(ASTState.Trace.Receiver receiver) {
+      this.receiver = receiver;
+    }
+  
+    /**
+     * Add a trace event for an attribute instance.
+     * @param node The host node.
+     * @param attr The attribute name.
+     * @param params The parameter list.
+     * @param value The current value of the attribute instance.
+     */
+    private void add(ASTState.Trace.Event evt, ASTNode node, String attr, Object params, Object value) {
+      receiver.accept(evt, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that an attribute instance started its computation.
+     * @param value The value of the attribute instance.
+     */
+    public void computeBegin(ASTNode node, String attr, Object params, Object value) {
+      add(Event.COMPUTE_BEGIN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that an attribute instance ended its computation.
+     * @param value The value of the attribute instance.
+     */
+    public void computeEnd(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.COMPUTE_END, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that the cache of an attribute instances was read.
+     * @param value The value of the attribute instance.
+     */
+    public void cacheRead(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CACHE_READ, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that an attribute instance was cached.
+     * @param value The value of the attribute instance.
+     */
+    public void cacheWrite(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CACHE_WRITE, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that the caching of an attribute instance was aborted.
+     * @param value The value of the attribute instance.
+     */
+    public void cacheAbort(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CACHE_ABORT, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a rewrite evaluation entered case 1.
+     * @param value The value of the rewrite.
+     */
+    public void enterRewriteCase1(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.REWRITE_CASE1_START, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a rewrite in evaluation case 1 changed value.
+     * @param value The value of the rewrite before and after.
+     */
+    public void rewriteChange(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.REWRITE_CASE1_CHANGE, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a rewrite returned from evaluation case 1.
+     * @param value The value of the rewrite.
+     */
+    public void exitRewriteCase1(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.REWRITE_CASE1_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a rewrite returned from evaluation case 2.
+     * @param value The value of the rewrite.
+     */
+    public void exitRewriteCase2(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.REWRITE_CASE2_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a rewrite returned from evaluation case 3.
+     * @param value The value of the rewrite.
+     */
+    public void exitRewriteCase3(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.REWRITE_CASE3_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular attribute instance entered evaluation case 1.
+     * @param value The value of the circular attribute instance.
+     */
+    public void enterCircularCase1(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_CASE1_START, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular attribute instance in evaluation case 1 changed value.
+     * @param value The value of the circular attribute instance, before and after.
+     */
+    public void circularCase1Change(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_CASE1_CHANGE, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular attribute instance returned from evaluation case 1.
+     * @param value The value of the circular attribute instance.
+     */
+    public void exitCircularCase1(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_CASE1_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular attribute instance entered evaluation case 2.
+     * @param value The value of the circular attribute instance.
+     */
+    public void enterCircularCase2(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_CASE2_START, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular attribute instance in evaluation case 2 changed value.
+     * @param value The value of the circular attribute instance, before and after.
+     */
+    public void circularCase2Change(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_CASE2_CHANGE, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular attribute instance returned from evaluation case 2.
+     * @param value The value of the circular attribute instance.
+     */
+    public void exitCircularCase2(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_CASE2_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular attribute instance returned from evaluation case 2.
+     * @param value The value of the circular attribute instance.
+     */
+    public void exitCircularCase3(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_CASE3_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular NTA entered evaluation case 1.
+     * @param value The value of the circular NTA.
+     */
+    public void enterCircularNTACase1(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_NTA_CASE1_START, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular NTA in evaluation case 1 changed value.
+     * @param value The value of the circular NTA, before and after.
+     */
+    public void circularNTACase1Change(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_NTA_CASE1_CHANGE, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular NTA returned from evaluation case 1.
+     * @param value The value of the circular NTA.
+     */
+    public void exitCircularNTACase1(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_NTA_CASE1_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular NTA entered evaluation case 2.
+     * @param value The value of the circular NTA.
+     */
+    public void enterCircularNTACase2(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_NTA_CASE2_START, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular NTA in evaluation case 2 changed value.
+     * @param value The value of the circular NTA, before and after.
+     */
+    public void circularNTACase2Change(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_NTA_CASE2_CHANGE, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular NTA returned from evaluation case 2.
+     * @param value The value of the circular NTA.
+     */
+    public void exitCircularNTACase2(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_NTA_CASE2_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that a circular NTA returned from evaluation case 2.
+     * @param value The value of the circular NTA.
+     */
+    public void exitCircularNTACase3(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.CIRCULAR_NTA_CASE3_RETURN, node, attr, params, value);
+    }
+  
+    /**
+     * Trace that an AST node was copied.
+     * @param node The copied node.
+     * @param value The value of the node.
+     */
+    public void copyNode(ASTNode node, Object value) {
+      add(ASTState.Trace.Event.COPY_NODE, node, "ASTNode.copy", "", value);
+    }
+  
+    /**
+     * Trace that an attribute was flushed.
+     * @param value The value of the attribute.
+     */
+    public void flushAttr(ASTNode node, String attr, Object params, Object value) {
+      add(ASTState.Trace.Event.FLUSH_ATTR, node, attr, params, value);
+    }
+  }
+
+  public void reset() {
+    // Reset circular evaluation state.
+    circle = CIRCLE_BOTTOM;
+  }
+
+
+}
@@ -0,0 +1,680 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect ClassfileParser
+ * @declaredat /root/project/java4/frontend/ClassfileParser.jrag:49
+ */
+public abstract class AbstractClassfileParser extends java.lang.Object {
+  
+
+    public static class ClassfileFormatError extends Error {
+      public ClassfileFormatError(String message) {
+        super(message);
+      }
+    }
+
+  
+
+    public static final boolean VERBOSE = false;
+
+  
+
+    protected static final int CONSTANT_Class = 7;
+
+  
+    protected static final int CONSTANT_FieldRef = 9;
+
+  
+    protected static final int CONSTANT_MethodRef = 10;
+
+  
+    protected static final int CONSTANT_InterfaceMethodRef = 11;
+
+  
+    protected static final int CONSTANT_String = 8;
+
+  
+    protected static final int CONSTANT_Integer = 3;
+
+  
+    protected static final int CONSTANT_Float = 4;
+
+  
+    protected static final int CONSTANT_Long = 5;
+
+  
+    protected static final int CONSTANT_Double = 6;
+
+  
+    protected static final int CONSTANT_NameAndType = 12;
+
+  
+    protected static final int CONSTANT_Utf8 = 1;
+
+  
+
+    /**
+     * Files at least this large are memory-mapped instead of read into a
+     * byte array.
+     */
+    private static final long MAP_THRESHOLD = 1 << 16;
+
+  
+
+    /** The classfile, or {@code null} if it has not yet been read from the input stream. */
+    private ByteBuffer buffer;
+
+  
+
+    /** The input stream to read the classfile from, or {@code null}. */
+    private InputStream in;
+
+  
+
+    /** The position of the next byte to read in the buffer. */
+    private int pos;
+
+  
+
+    public final String name;
+
+  
+    public CONSTANT_Class_Info classInfo;
+
+  
+    public CONSTANT_Info[] constantPool = null;
+
+  
+
+    // For Java 5 and later.
+    public boolean isInnerClass = false;
+
+  
+
+    /**
+     * If {@code true}, private methods and constructors are skipped instead of
+     * being added to the type declaration. They are not accessible from other
+     * classes, and a private method can not block the inheritance of a method
+     * with the same signature, because it would then be an error to compile
+     * the class. Private fields are not skipped, because they hide fields with
+     * the same name in supertypes.
+     */
+    public boolean skipPrivateMethods = false;
+
+  
+
+    /**
+     * Parses a classfile from an input stream. The whole input stream is read
+     * by parseMagic(), and the classfile is then parsed from memory. The input
+     * stream is not closed.
+     */
+    public AbstractClassfileParser(InputStream in, String name) {
+      this.in = in;
+      this.name = name;
+    }
+
+  
+
+    /**
+     * Parses a classfile from the remaining bytes of the buffer. The buffer
+     * must not be modified while the parser, or any constant pool entry
+     * read by the parser, is in use.
+     */
+    public AbstractClassfileParser(ByteBuffer buffer, String name) {
+      this.buffer = buffer;
+      this.pos = buffer.position();
+      this.name = name;
+    }
+
+  
+
+    private static ByteBuffer readClassfile(InputStream in) throws IOException {
+      if (in instanceof BufferInputStream) {
+        return ((BufferInputStream) in).buffer;
+      }
+      if (in instanceof FileInputStream) {
+        FileChannel channel = ((FileInputStream) in).getChannel();
+        long size = channel.size() - channel.position();
+        if (size >= MAP_THRESHOLD) {
+          return channel.map(FileChannel.MapMode.READ_ONLY, channel.position(), size);
+        }
+      }
+      // The available bytes are the uncompressed size for Jar file entries, and
+      // the remaining size for files, so usually only one read is needed.
+      byte[] bytes = new byte[Math.max(in.available(), 1024)];
+      int length = 0;
+      while (true) {
+        int n = in.read(bytes, length, bytes.length - length);
+        if (n == -1) {
+          break;
+        }
+        length += n;
+        if (length == bytes.length) {
+          int next = in.read();
+          if (next == -1) {
+            break;
+          }
+          bytes = Arrays.copyOf(bytes, bytes.length * 2);
+          bytes[length++] = (byte) next;
+        }
+      }
+      return ByteBuffer.wrap(bytes, 0, length);
+    }
+
+  
+
+    /**
+     * An input stream reading from a byte buffer. The classfile parser uses
+     * the buffer directly, without copying it.
+     */
+    public static class BufferInputStream extends InputStream {
+      private final ByteBuffer buffer;
+      private final ByteBuffer stream;
+
+      public BufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.stream = buffer.duplicate();
+      }
+
+      @Override
+      public int read() {
+        return stream.hasRemaining() ? stream.get() & 0xFF : -1;
+      }
+
+      @Override
+      public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+          return 0;
+        }
+        if (!stream.hasRemaining()) {
+          return -1;
+        }
+        length = Math.min(length, stream.remaining());
+        stream.get(bytes, offset, length);
+        return length;
+      }
+
+      @Override
+      public int available() {
+        return stream.remaining();
+      }
+    }
+
+  
+
+    public abstract boolean outerClassNameEquals(String name);
+
+  
+
+    /**
+     * @return the current position in the buffer
+     */
+    public final int position() {
+      return pos;
+    }
+
+  
+
+    private void require(int length) throws IOException {
+      if (length > buffer.limit() - pos) {
+        throw new EOFException("Unexpected end of classfile " + name);
+      }
+    }
+
+  
+
+    public final int next() throws IOException {
+      if (pos >= buffer.limit()) {
+        return -1;
+      }
+      return buffer.get(pos++) & 0xFF;
+    }
+
+  
+
+    public final int u1() throws IOException {
+      require(1);
+      return buffer.get(pos++) & 0xFF;
+    }
+
+  
+
+    public final int u2() throws IOException {
+      require(2);
+      int value = buffer.getShort(pos) & 0xFFFF;
+      pos += 2;
+      return value;
+    }
+
+  
+
+    public final int u4() throws IOException {
+      return readInt();
+    }
+
+  
+
+    public final int readInt() throws IOException {
+      require(4);
+      int value = buffer.getInt(pos);
+      pos += 4;
+      return value;
+    }
+
+  
+
+    public final float readFloat() throws IOException {
+      return Float.intBitsToFloat(readInt());
+    }
+
+  
+
+    public final long readLong() throws IOException {
+      require(8);
+      long value = buffer.getLong(pos);
+      pos += 8;
+      return value;
+    }
+
+  
+
+    public final double readDouble() throws IOException {
+      return Double.longBitsToDouble(readLong());
+    }
+
+  
+
+    public final String readUTF() throws IOException {
+      int length = u2();
+      require(length);
+      String value = utf8(pos, length);
+      pos += length;
+      return value;
+    }
+
+  
+
+    /**
+     * Skips a UTF-8 string without decoding it.
+     *
+     * @return the position of the first byte of the string
+     */
+    public final int skipUTF() throws IOException {
+      int length = u2();
+      require(length);
+      int start = pos;
+      pos += length;
+      return start;
+    }
+
+  
+
+    public final void skip(int length) throws IOException {
+      require(length);
+      pos += length;
+    }
+
+  
+
+    /**
+     * @return {@code true} if private methods should be skipped and the next
+     * method is private
+     */
+    protected final boolean skipNextMethod() throws IOException {
+      if (!skipPrivateMethods) {
+        return false;
+      }
+      require(2);
+      // ACC_PRIVATE in the access flags of the method.
+      return (buffer.getShort(pos) & 0x0002) != 0;
+    }
+
+  
+
+    /**
+     * Skips a field_info or method_info structure, including all of its
+     * attributes.
+     */
+    protected final void skipMember() throws IOException {
+      skip(6); // access_flags, name_index, descriptor_index
+      int attributes_count = u2();
+      for (int i = 0; i < attributes_count; i++) {
+        skip(2); // attribute_name_index
+        skip(u4());
+      }
+    }
+
+  
+
+    /**
+     * Decodes a modified UTF-8 string, as written by
+     * DataOutput.writeUTF(), from the buffer.
+     *
+     * @param start the position of the first byte of the string
+     * @param length the number of bytes in the string
+     */
+    public final String utf8(int start, int length) throws UTFDataFormatException {
+      char[] chars = new char[length];
+      int count = 0;
+      int i = start;
+      int end = start + length;
+      while (i < end) {
+        int c = buffer.get(i) & 0xFF;
+        if (c < 0x80) {
+          i += 1;
+          chars[count++] = (char) c;
+        } else if ((c & 0xE0) == 0xC0) {
+          if (i + 2 > end) {
+            throw new UTFDataFormatException("Truncated UTF-8 string in " + name);
+          }
+          int c2 = buffer.get(i + 1);
+          if ((c2 & 0xC0) != 0x80) {
+            throw new UTFDataFormatException("Malformed UTF-8 string in " + name);
+          }
+          i += 2;
+          chars[count++] = (char) (((c & 0x1F) << 6) | (c2 & 0x3F));
+        } else if ((c & 0xF0) == 0xE0) {
+          if (i + 3 > end) {
+            throw new UTFDataFormatException("Truncated UTF-8 string in " + name);
+          }
+          int c2 = buffer.get(i + 1);
+          int c3 = buffer.get(i + 2);
+          if ((c2 & 0xC0) != 0x80 || (c3 & 0xC0) != 0x80) {
+            throw new UTFDataFormatException("Malformed UTF-8 string in " + name);
+          }
+          i += 3;
+          chars[count++] = (char) (((c & 0x0F) << 12) | ((c2 & 0x3F) << 6) | (c3 & 0x3F));
+        } else {
+          throw new UTFDataFormatException("Malformed UTF-8 string in " + name);
+        }
+      }
+      return new String(chars, 0, count);
+    }
+
+  
+
+    public void error(String msg) throws ClassfileFormatError {
+      throw new ClassfileFormatError(msg);
+    }
+
+  
+
+    public final void print(String s) {
+    }
+
+  
+
+    public final void println(String s) {
+      print(s + "\n");
+    }
+
+  
+
+    public final void println() {
+      print("\n");
+    }
+
+  
+
+    public final void format(String fmt, Object... args) {
+      print(String.format(fmt, args));
+    }
+
+  
+
+    /**
+     * Checks the magic number at the start of the classfile. If the parser was
+     * created with an input stream, the input stream is read first.
+     */
+    public final void parseMagic() throws IOException {
+      if (buffer == null) {
+        buffer = readClassfile(in);
+        pos = buffer.position();
+        in = null;
+      }
+      if (next() != 0xca || next() != 0xfe || next() != 0xba || next() != 0xbe) {
+        error("magic error");
+      }
+    }
+
+  
+
+    public final int parseMinor() throws IOException {
+      return u2();
+    }
+
+  
+
+    public final int parseMajor() throws IOException {
+      return u2();
+    }
+
+  
+
+    public final String parseThisClass() throws IOException {
+      int index = u2();
+      CONSTANT_Class_Info info = (CONSTANT_Class_Info) constantPool[index];
+      classInfo = info;
+      return info.simpleName();
+    }
+
+  
+
+    public final Access parseSuperClass() throws IOException {
+      int index = u2();
+      if (index == 0) {
+        return null;
+      }
+      CONSTANT_Class_Info info = (CONSTANT_Class_Info) constantPool[index];
+      return info.access();
+    }
+
+  
+
+    public final List parseInterfaces(List list) throws IOException {
+      int count = u2();
+      for (int i = 0; i < count; i++) {
+        CONSTANT_Class_Info info = (CONSTANT_Class_Info) constantPool[u2()];
+        list.add(info.access());
+      }
+      return list;
+    }
+
+  
+
+    public void parseFields(TypeDecl typeDecl) throws IOException {
+      int count = u2();
+      if (VERBOSE) {
+        println("Fields (" + count + "):");
+      }
+      for (int i = 0; i < count; i++) {
+        if (VERBOSE) {
+          print(" Field nbr " + i + " ");
+        }
+        FieldInfo fieldInfo = new FieldInfo(this);
+        if (!fieldInfo.isSynthetic()) {
+          typeDecl.addBodyDecl(fieldInfo.bodyDecl());
+        }
+      }
+    }
+
+  
+
+    public static Modifiers modifiers(int flags) {
+      Modifiers m = new Modifiers();
+      if ((flags & 0x0001) != 0) {
+        m.addModifier(new Modifier("public"));
+      }
+      if ((flags & 0x0002) != 0) {
+        m.addModifier(new Modifier("private"));
+      }
+      if ((flags & 0x0004) != 0) {
+        m.addModifier(new Modifier("protected"));
+      }
+      if ((flags & 0x0008) != 0) {
+        m.addModifier(new Modifier("static"));
+      }
+      if ((flags & 0x0010) != 0) {
+        m.addModifier(new Modifier("final"));
+      }
+      if ((flags & 0x0020) != 0) {
+        m.addModifier(new Modifier("synchronized"));
+      }
+      if ((flags & 0x0040) != 0) {
+        m.addModifier(new Modifier("volatile"));
+      }
+      if ((flags & 0x0080) != 0) {
+        m.addModifier(new Modifier("transient"));
+      }
+      if ((flags & 0x0100) != 0) {
+        m.addModifier(new Modifier("native"));
+      }
+      if ((flags & 0x0400) != 0) {
+        m.addModifier(new Modifier("abstract"));
+      }
+      if ((flags & 0x0800) != 0) {
+        m.addModifier(new Modifier("strictfp"));
+      }
+      return m;
+    }
+
+  
+
+    private void checkLengthAndNull(int index) {
+      if (index >= constantPool.length) {
+        throw new Error("Trying to access element " + index  + " in constant pool of length "
+            + constantPool.length);
+      }
+      if (constantPool[index] == null) {
+        throw new Error("Unexpected null element in constant pool at index " + index);
+      }
+    }
+
+  
+
+    public boolean validConstantPoolIndex(int index) {
+      return index < constantPool.length && constantPool[index] != null;
+    }
+
+  
+
+    public CONSTANT_Info getCONSTANT_Info(int index) {
+      checkLengthAndNull(index);
+      return constantPool[index];
+    }
+
+  
+
+    public CONSTANT_Utf8_Info getCONSTANT_Utf8_Info(int index) {
+      checkLengthAndNull(index);
+      CONSTANT_Info info = constantPool[index];
+      if (!(info instanceof CONSTANT_Utf8_Info)) {
+        throw new Error("Expected CONSTANT_Utf8_info at " + index + " in constant pool but found "
+            + info.getClass().getName());
+      }
+      return (CONSTANT_Utf8_Info) info;
+    }
+
+  
+
+    public CONSTANT_Class_Info getCONSTANT_Class_Info(int index) {
+      checkLengthAndNull(index);
+      CONSTANT_Info info = constantPool[index];
+      if (!(info instanceof CONSTANT_Class_Info)) {
+        throw new Error("Expected CONSTANT_Class_info at " + index + " in constant pool but found "
+            + info.getClass().getName());
+      }
+      return (CONSTANT_Class_Info) info;
+    }
+
+  
+
+    public void parseConstantPool() throws IOException {
+      int count = u2();
+      if (VERBOSE) {
+        println("constant_pool_count: " + count);
+      }
+      constantPool = new CONSTANT_Info[count + 1];
+      for (int i = 1; i < count; i++) {
+        parseConstantPoolEntry(i);
+        if (constantPool[i] instanceof CONSTANT_Long_Info
+            || constantPool[i] instanceof CONSTANT_Double_Info) {
+          i++;
+        }
+      }
+    }
+
+  
+
+    protected abstract void parseConstantPoolEntry(int i) throws IOException;
+
+
+}
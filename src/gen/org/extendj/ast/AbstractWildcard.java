@@ -0,0 +1,194 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Generics.ast:65
+ * @production AbstractWildcard : {@link Access};
+
+ */
+public abstract class AbstractWildcard extends Access implements Cloneable {
+  /**
+   * @aspect FunctionalInterface
+   * @declaredat /root/project/java8/frontend/FunctionalInterface.jrag:253
+   */
+  public boolean sameType(AbstractWildcard w) {
+    if (this instanceof Wildcard && w instanceof Wildcard) {
+      return true;
+    } else if (this instanceof WildcardExtends && w instanceof WildcardExtends) {
+      Access a1 = ((WildcardExtends) this).getAccess();
+      Access a2 = ((WildcardExtends) w).getAccess();
+      return a1.sameType(a2);
+    } else if (this instanceof WildcardSuper && w instanceof WildcardSuper) {
+      Access a1 = ((WildcardSuper) this).getAccess();
+      Access a2 = ((WildcardSuper) w).getAccess();
+      return a1.sameType(a2);
+    } else {
+      return false;
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public AbstractWildcard() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:31
+   */
+  public AbstractWildcard clone() throws CloneNotSupportedException {
+    AbstractWildcard node = (AbstractWildcard) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:42
+   */
+  @Deprecated
+  public abstract AbstractWildcard fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:50
+   */
+  public abstract AbstractWildcard treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:58
+   */
+  public abstract AbstractWildcard treeCopy();
+  /**
+   * WARNING: this attribute is not the same as TypeDecl.isWildcard,
+   * which returns true for any wildcard type (even bounded wildcard types).
+   * @return {@code true} if this is an unbounded wildcard access
+   * @attribute syn
+   * @aspect ReifiableTypes
+   * @declaredat /root/project/java5/frontend/ReifiableTypes.jrag:106
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReifiableTypes", declaredAt="/root/project/java5/frontend/ReifiableTypes.jrag:106")
+  public boolean isWildcard() {
+    state().trace().computeBegin(this, "Access.isWildcard()", "", "");
+    boolean isWildcard_value = true;
+    state().trace().computeEnd(this, "Access.isWildcard()", "", isWildcard_value);
+    return isWildcard_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
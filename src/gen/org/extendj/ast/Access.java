@@ -0,0 +1,701 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * An abstract access.
+ * Concrete subclasses include field, method, and type access.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:69
+ * @production Access : {@link Expr};
+
+ */
+public abstract class Access extends Expr implements Cloneable {
+  /**
+   * Used by the parser to build a method access from a parsed, potentially qualified, name.
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:452
+   */
+  public Access buildMethodAccess(List<Expr> arguments) {
+    throw new Error("Can not build method access from access of type "
+        + getClass().getSimpleName());
+  }
+  /**
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:475
+   */
+  public Access addArrayDims(List list) {
+    Access a = this;
+    for (int i = 0; i < list.getNumChildNoTransform(); i++) {
+      Dims dims = (Dims) list.getChildNoTransform(i);
+      Opt<Expr> opt = dims.getExprOpt();
+      if (opt.getNumChildNoTransform() == 1) {
+        a = new ArrayTypeWithSizeAccess(a, (Expr) opt.getChildNoTransform(0));
+      } else {
+        a = new ArrayTypeAccess(a);
+      }
+      a.setStart(dims.start());
+      a.setEnd(dims.end());
+    }
+    return a;
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:631
+   */
+  protected void emitLoadLocalInNestedClass(CodeGeneration gen, Variable v) {
+    if (inExplicitConstructorInvocation() && enclosingBodyDecl() instanceof ConstructorDecl) {
+      ConstructorDecl c = (ConstructorDecl) enclosingBodyDecl();
+      v.type().emitLoadLocal(gen, c.localIndexOfEnclosingVariable(v));
+    } else {
+      String classname = hostType().constantPoolName();
+      String      name = "val$" + v.name();
+      int index = gen.constantPool().addFieldref(classname, name, v.type());
+      gen.ALOAD(0, hostType());
+      gen.GETFIELD(index, v.type());
+    }
+  }
+  /**
+   * Generate bytecode to push on the stack the qualifier to access the variable v.
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:647
+   */
+  protected void createLoadQualifier(CodeGeneration gen, Variable v) {
+    if (v.isField()) {
+      if (hasPrevExpr()) {
+        // Load explicit qualifier.
+        prevExpr().createBCode(gen);
+        // Pop qualifier stack element for class variables.
+        // This qualifier must be computed to ensure side effects are evaluated.
+        if (!prevExpr().isTypeAccess() && v.isClassVariable()) {
+          gen.POP(prevExpr().type());
+        } else {
+          prevExpr().emitCastTo(gen, fieldQualifierType());
+        }
+      } else if (v.isInstanceVariable()) {
+        emitThis(gen, fieldQualifierType());
+      }
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:754
+   */
+  public void emitThis(CodeGeneration gen, TypeDecl targetDecl) {
+    if (targetDecl == hostType()) {
+      gen.ALOAD(0, hostType());
+    } else {
+      TypeDecl enclosing = hostType();
+      if (inExplicitConstructorInvocation()) {
+        gen.ALOAD(1, enclosing.enclosing());
+        enclosing = enclosing.enclosing();
+      } else {
+        gen.ALOAD(0, enclosing);
+      }
+      while (enclosing != targetDecl) {
+        String classname = enclosing.constantPoolName();
+        enclosing = enclosing.enclosingType();
+        int index = gen.constantPool().addFieldref(classname, "this$0", enclosing);
+        gen.GETFIELD(index, enclosing);
+      }
+    }
+  }
+  /**
+   * Builds a copy of this Access node where all occurrences
+   * of type variables in the original type parameter list have been replaced
+   * by the substitution type parameters.
+   * 
+   * <p>This should only be used to generate candidate methods for Diamond type
+   * inference.
+   * 
+   * @return the substituted Access node
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:251
+   */
+  public Access substituted(Map<TypeVariable, String>  substitution) {
+    return (Access) treeCopyNoTransform();
+  }
+  /**
+   * Checks that two type accesses are the same, while taking type variable
+   * substitution into account.
+   * @aspect FunctionalInterface
+   * @declaredat /root/project/java8/frontend/FunctionalInterface.jrag:164
+   */
+  public boolean sameType(Access a) {
+    if (this instanceof ArrayTypeAccess && a instanceof ArrayTypeAccess) {
+      ArrayTypeAccess at1 = (ArrayTypeAccess) this;
+      ArrayTypeAccess at2 = (ArrayTypeAccess) a;
+      return at1.sameType(at2);
+    } else if (this instanceof AbstractWildcard && a instanceof AbstractWildcard) {
+      AbstractWildcard w1 = (AbstractWildcard) this;
+      AbstractWildcard w2 = (AbstractWildcard) a;
+      return w1.sameType(w2);
+    } else if (this instanceof TypeAccess && a instanceof TypeAccess) {
+      TypeAccess t1 = (TypeAccess) this;
+      TypeAccess t2 = (TypeAccess) a;
+      return t1.sameType(t2);
+    } else if (this instanceof ParTypeAccess && a instanceof ParTypeAccess) {
+      ParTypeAccess pta1 = (ParTypeAccess) this;
+      ParTypeAccess pta2 = (ParTypeAccess) a;
+      return pta1.sameType(pta2);
+    } else {
+      return false;
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public Access() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    type_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:32
+   */
+  public Access clone() throws CloneNotSupportedException {
+    Access node = (Access) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:43
+   */
+  @Deprecated
+  public abstract Access fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:51
+   */
+  public abstract Access treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:59
+   */
+  public abstract Access treeCopy();
+  /**
+   * Find the outermost qualified expression this access.
+   * 
+   * <p>If this is not a qualified access, then this access is returned.
+   * 
+   * <p>For example, if {@code unqualifiedScope()} is evaluated for the {@code
+   * MethodAccess} inside the expression {@code Dot(FieldAccess,
+   * Dot(FieldAccess, MethodAcceess))}, then the outermost {@code Dot} is the
+   * unqualified scope of the {@code MethodAccess}.
+   * @attribute syn
+   * @aspect LookupMethod
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:87
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupMethod", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:87")
+  public Expr unqualifiedScope() {
+    state().trace().computeBegin(this, "Access.unqualifiedScope()", "", "");
+    Expr unqualifiedScope_value = isQualified() ? nestedScope() : this;
+    state().trace().computeEnd(this, "Access.unqualifiedScope()", "", unqualifiedScope_value);
+    return unqualifiedScope_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:164
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:164")
+  public boolean isQualified() {
+    state().trace().computeBegin(this, "Access.isQualified()", "", "");
+    boolean isQualified_value = hasPrevExpr();
+    state().trace().computeEnd(this, "Access.isQualified()", "", isQualified_value);
+    return isQualified_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:167
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:167")
+  public Expr qualifier() {
+    state().trace().computeBegin(this, "Access.qualifier()", "", "");
+    Expr qualifier_value = prevExpr();
+    state().trace().computeEnd(this, "Access.qualifier()", "", qualifier_value);
+    return qualifier_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:174
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:174")
+  public Access lastAccess() {
+    state().trace().computeBegin(this, "Access.lastAccess()", "", "");
+    Access lastAccess_value = this;
+    state().trace().computeEnd(this, "Access.lastAccess()", "", lastAccess_value);
+    return lastAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:184
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:184")
+  public boolean hasPrevExpr() {
+    state().trace().computeBegin(this, "Access.hasPrevExpr()", "", "");
+    boolean hasPrevExpr_value = isRightChildOfDot();
+    state().trace().computeEnd(this, "Access.hasPrevExpr()", "", hasPrevExpr_value);
+    return hasPrevExpr_value;
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    try {
+        switch (nameType()) {
+          case PACKAGE_NAME:
+            return NameType.PACKAGE_NAME;
+          case TYPE_NAME:
+          case PACKAGE_OR_TYPE_NAME:
+            return NameType.PACKAGE_OR_TYPE_NAME;
+          case AMBIGUOUS_NAME:
+          case EXPRESSION_NAME:
+            return NameType.AMBIGUOUS_NAME;
+          case NOT_CLASSIFIED:
+          default:
+            return NameType.NOT_CLASSIFIED;
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "Access.predNameType()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = unknownType();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CodeGeneration", declaredAt="/root/project/java4/backend/CodeGeneration.jrag:38")
+  public int sourceLineNumber() {
+    state().trace().computeBegin(this, "ASTNode.sourceLineNumber()", "", "");
+    int sourceLineNumber_value = findFirstSourceLineNumber();
+    state().trace().computeEnd(this, "ASTNode.sourceLineNumber()", "", sourceLineNumber_value);
+    return sourceLineNumber_value;
+  }
+  /**
+   * @return {@code true} if this access is a method call of a non-static method.
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:450
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:450")
+  public boolean isInstanceMethodAccess() {
+    state().trace().computeBegin(this, "Access.isInstanceMethodAccess()", "", "");
+    boolean isInstanceMethodAccess_value = false;
+    state().trace().computeEnd(this, "Access.isInstanceMethodAccess()", "", isInstanceMethodAccess_value);
+    return isInstanceMethodAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:57
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:57")
+  public TypeDecl fieldQualifierType() {
+    state().trace().computeBegin(this, "Access.fieldQualifierType()", "", "");
+    try {
+        throw new Error("Can not evaluate fieldQualifierType() on node of type "
+            + getClass().getSimpleName());
+      }
+    finally {
+      state().trace().computeEnd(this, "Access.fieldQualifierType()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:129
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:129")
+  public TypeDecl superConstructorQualifier(TypeDecl targetEnclosingType) {
+    Object _parameters = targetEnclosingType;
+    state().trace().computeBegin(this, "Access.superConstructorQualifier(TypeDecl)", _parameters, "");
+    try {
+        TypeDecl enclosing = hostType();
+        while (!enclosing.subtype(targetEnclosingType)) {
+          enclosing = enclosing.enclosingType();
+        }
+        return enclosing;
+      }
+    finally {
+      state().trace().computeEnd(this, "Access.superConstructorQualifier(TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:390
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:390")
+  public boolean requiresAccessor() {
+    state().trace().computeBegin(this, "Access.requiresAccessor()", "", "");
+    try {
+        throw new Error("Can not evaluate requiresAccessor() on node of type "
+            + getClass().getSimpleName());
+      }
+    finally {
+      state().trace().computeEnd(this, "Access.requiresAccessor()", "", "");
+    }
+  }
+  /**
+   * Creates a copy of this access where parameterized types have been erased.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1616
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1616")
+  public Access erasedCopy() {
+    state().trace().computeBegin(this, "Access.erasedCopy()", "", "");
+    Access erasedCopy_value = treeCopyNoTransform();
+    state().trace().computeEnd(this, "Access.erasedCopy()", "", erasedCopy_value);
+    return erasedCopy_value;
+  }
+  /**
+   * WARNING: this attribute is not the same as TypeDecl.isWildcard,
+   * which returns true for any wildcard type (even bounded wildcard types).
+   * @return {@code true} if this is an unbounded wildcard access
+   * @attribute syn
+   * @aspect ReifiableTypes
+   * @declaredat /root/project/java5/frontend/ReifiableTypes.jrag:106
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReifiableTypes", declaredAt="/root/project/java5/frontend/ReifiableTypes.jrag:106")
+  public boolean isWildcard() {
+    state().trace().computeBegin(this, "Access.isWildcard()", "", "");
+    boolean isWildcard_value = false;
+    state().trace().computeEnd(this, "Access.isWildcard()", "", isWildcard_value);
+    return isWildcard_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:92
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Diamond", declaredAt="/root/project/java7/frontend/Diamond.jrag:92")
+  public boolean isDiamond() {
+    state().trace().computeBegin(this, "Access.isDiamond()", "", "");
+    boolean isDiamond_value = false;
+    state().trace().computeEnd(this, "Access.isDiamond()", "", isDiamond_value);
+    return isDiamond_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LambdaParametersInference
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:624
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaParametersInference", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:624")
+  public boolean mentionsTypeVariable(TypeVariable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Access.mentionsTypeVariable(TypeVariable)", _parameters, "");
+    boolean mentionsTypeVariable_TypeVariable_value = false;
+    state().trace().computeEnd(this, "Access.mentionsTypeVariable(TypeVariable)", _parameters, mentionsTypeVariable_TypeVariable_value);
+    return mentionsTypeVariable_TypeVariable_value;
+  }
+  /**
+   * Find the outermost qualified expression of a qualified access.
+   * 
+   * <p>It is an error if this attribute is evaluated on an unqualified
+   * access.
+   * 
+   * @throws UnsupportedOperationException if evaluated on an unqualified
+   * access.
+   * @attribute inh
+   * @aspect LookupMethod
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:98
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupMethod", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:98")
+  public Expr nestedScope() {
+    state().trace().computeBegin(this, "Access.nestedScope()", "", "");
+    Expr nestedScope_value = getParent().Define_nestedScope(this, null);
+    state().trace().computeEnd(this, "Access.nestedScope()", "", nestedScope_value);
+    return nestedScope_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:401
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:401")
+  public TypeDecl unknownType() {
+    state().trace().computeBegin(this, "Access.unknownType()", "", "");
+    TypeDecl unknownType_value = getParent().Define_unknownType(this, null);
+    state().trace().computeEnd(this, "Access.unknownType()", "", unknownType_value);
+    return unknownType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect VariableScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:386
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScopePropagation", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:386")
+  public Variable unknownField() {
+    state().trace().computeBegin(this, "Access.unknownField()", "", "");
+    Variable unknownField_value = getParent().Define_unknownField(this, null);
+    state().trace().computeEnd(this, "Access.unknownField()", "", unknownField_value);
+    return unknownField_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:629
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:629")
+  public boolean inExplicitConstructorInvocation() {
+    state().trace().computeBegin(this, "Access.inExplicitConstructorInvocation()", "", "");
+    boolean inExplicitConstructorInvocation_value = getParent().Define_inExplicitConstructorInvocation(this, null);
+    state().trace().computeEnd(this, "Access.inExplicitConstructorInvocation()", "", inExplicitConstructorInvocation_value);
+    return inExplicitConstructorInvocation_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:400
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:400")
+  public boolean withinSuppressWarnings(String annot) {
+    Object _parameters = annot;
+    state().trace().computeBegin(this, "Access.withinSuppressWarnings(String)", _parameters, "");
+    boolean withinSuppressWarnings_String_value = getParent().Define_withinSuppressWarnings(this, null, annot);
+    state().trace().computeEnd(this, "Access.withinSuppressWarnings(String)", _parameters, withinSuppressWarnings_String_value);
+    return withinSuppressWarnings_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:531
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:531")
+  public boolean withinDeprecatedAnnotation() {
+    state().trace().computeBegin(this, "Access.withinDeprecatedAnnotation()", "", "");
+    boolean withinDeprecatedAnnotation_value = getParent().Define_withinDeprecatedAnnotation(this, null);
+    state().trace().computeEnd(this, "Access.withinDeprecatedAnnotation()", "", withinDeprecatedAnnotation_value);
+    return withinDeprecatedAnnotation_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:86
+   * @apilevel internal
+   */
+  public boolean Define_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:101
+   * @apilevel internal
+   */
+  public boolean Define_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:118
+   * @apilevel internal
+   */
+  public Expr Define_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return prevExprError();
+  }
+  protected boolean canDefine_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:142
+   * @apilevel internal
+   */
+  public Access Define_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return nextAccessError();
+  }
+  protected boolean canDefine_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
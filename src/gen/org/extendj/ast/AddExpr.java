@@ -0,0 +1,544 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:281
+ * @production AddExpr : {@link AdditiveExpr};
+
+ */
+public class AddExpr extends AdditiveExpr implements Cloneable {
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:467
+   */
+  void emitOperation(CodeGeneration gen) { type().add(gen); }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1124
+   */
+  public void createBCode(CodeGeneration gen) {
+    if (!type().isString()) {
+      super.createBCode(gen);
+    } else if (isConstant()) {
+      StringLiteral.push(gen, constant().stringValue());
+    } else {
+      TypeDecl stringType = typeString();
+      TypeDecl builderType = lookupType("java.lang", "StringBuilder");
+
+      // To avoid redundant StringBuilders, only create a new one for the outermost string add.
+      boolean outerStringAdd = !inStringAdd();
+
+      String classname = builderType.constantPoolName();
+      String desc;
+      int index;
+      TypeDecl argumentType;
+      if (outerStringAdd) {
+        gen.NEW(builderType); // new StringBuilder()
+        gen.DUP();
+        desc = "()V";
+        index = gen.constantPool().addMethodref(classname, "<init>", desc);
+        gen.INVOKESPECIAL_void(index, 1); // StringBuilder.<init>()
+        gen.initializedRef(builderType);
+      }
+
+      // Left subexpression.
+      left().createBCode(gen);
+      if (!left().isStringAdd()) {
+        argumentType = left().type().stringPromotion();
+        left().emitCastTo(gen, argumentType);
+        desc = "(" + argumentType.typeDescriptor() + ")" + builderType.typeDescriptor();
+        index = gen.constantPool().addMethodref(classname, "append", desc);
+        gen.INVOKEVIRTUAL(index, 2, builderType); // StringBuilder.append(left)
+      }
+
+      // Right subexpression.
+      right().createBCode(gen);
+      if (!right().isStringAdd()) {
+        argumentType = right().type().stringPromotion();
+        right().emitCastTo(gen, argumentType);
+        desc = "(" + argumentType.typeDescriptor() + ")" + builderType.typeDescriptor();
+        index = gen.constantPool().addMethodref(classname, "append", desc);
+        gen.INVOKEVIRTUAL(index, 2, builderType);
+      }
+
+      if (outerStringAdd) {
+        desc = "()" + type().typeDescriptor();
+        index = gen.constantPool().addMethodref(classname, "toString", desc);
+        gen.INVOKEVIRTUAL(index, 1, stringType);
+      }
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public AddExpr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public AddExpr(Expr p0, Expr p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    type_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public AddExpr clone() throws CloneNotSupportedException {
+    AddExpr node = (AddExpr) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public AddExpr copy() {
+    try {
+      AddExpr node = (AddExpr) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:61
+   */
+  @Deprecated
+  public AddExpr fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:71
+   */
+  public AddExpr treeCopyNoTransform() {
+    AddExpr tree = (AddExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:91
+   */
+  public AddExpr treeCopy() {
+    AddExpr tree = (AddExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:105
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the LeftOperand child.
+   * @param node The new node to replace the LeftOperand child.
+   * @apilevel high-level
+   */
+  public void setLeftOperand(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the LeftOperand child.
+   * @return The current node used as the LeftOperand child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="LeftOperand")
+  public Expr getLeftOperand() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the LeftOperand child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the LeftOperand child.
+   * @apilevel low-level
+   */
+  public Expr getLeftOperandNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the RightOperand child.
+   * @param node The new node to replace the RightOperand child.
+   * @apilevel high-level
+   */
+  public void setRightOperand(Expr node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the RightOperand child.
+   * @return The current node used as the RightOperand child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="RightOperand")
+  public Expr getRightOperand() {
+    return (Expr) getChild(1);
+  }
+  /**
+   * Retrieves the RightOperand child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the RightOperand child.
+   * @apilevel low-level
+   */
+  public Expr getRightOperandNoTransform() {
+    return (Expr) getChildNoTransform(1);
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:32")
+  public Constant constant() {
+    state().trace().computeBegin(this, "Expr.constant()", "", "");
+    Constant constant_value = type().add(getLeftOperand().constant(), getRightOperand().constant());
+    state().trace().computeEnd(this, "Expr.constant()", "", constant_value);
+    return constant_value;
+  }
+  /** The operator string used for pretty printing this expression. 
+   * @attribute syn
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:361
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PrettyPrintUtil", declaredAt="/root/project/java4/frontend/PrettyPrintUtil.jrag:361")
+  public String printOp() {
+    state().trace().computeBegin(this, "Binary.printOp()", "", "");
+    String printOp_value = "+";
+    state().trace().computeEnd(this, "Binary.printOp()", "", printOp_value);
+    return printOp_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = type_compute();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl type_compute() {
+      TypeDecl left = getLeftOperand().type();
+      TypeDecl right = getRightOperand().type();
+      if (!left.isString() && !right.isString()) {
+        return super.type();
+      } else {
+        if (left.isVoid() || right.isVoid()) {
+          return unknownType();
+        }
+        // pick the string type
+        return left.isString() ? left : right;
+      }
+    }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:224
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:224")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "AdditiveExpr.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        TypeDecl left = getLeftOperand().type();
+        TypeDecl right = getRightOperand().type();
+        if (!left.isString() && !right.isString()) {
+          return super.typeProblems();
+        } else if (left.isVoid()) {
+          problems.add(error("The type void of the left hand side is not numeric"));
+        } else if (right.isVoid()) {
+          problems.add(error("The type void of the right hand side is not numeric"));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "AdditiveExpr.typeProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1108
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1108")
+  public boolean isStringAdd() {
+    state().trace().computeBegin(this, "Expr.isStringAdd()", "", "");
+    boolean isStringAdd_value = type().isString() && !isConstant();
+    state().trace().computeEnd(this, "Expr.isStringAdd()", "", isStringAdd_value);
+    return isStringAdd_value;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1116
+   * @apilevel internal
+   */
+  public boolean Define_inStringAdd(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return isStringAdd();
+  }
+  protected boolean canDefine_inStringAdd(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:39
+   * @apilevel internal
+   */
+  public TypeDecl Define_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightOperandNoTransform() != null && _callerNode == getRightOperand()) {
+      // @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:58
+      return getLeftOperand().type().isString() ? typeObject() : typeNull();
+    }
+    else if (getLeftOperandNoTransform() != null && _callerNode == getLeftOperand()) {
+      // @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:54
+      return getRightOperand().type().isString() ? typeObject() : typeNull();
+    }
+    else {
+      return getParent().Define_assignConvertedType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   * @apilevel internal
+   */
+  public TypeDecl Define_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightOperandNoTransform() != null && _callerNode == getRightOperand()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:71
+      {
+          if (getRightOperand().stringContext()) {
+            return getLeftOperand().type();
+          } else if (!getLeftOperand().isPolyExpression() && !getRightOperand().isPolyExpression()) {
+            return type();
+          } else {
+            return targetType();
+          }
+        }
+    }
+    else if (getLeftOperandNoTransform() != null && _callerNode == getLeftOperand()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:61
+      {
+          if (getLeftOperand().stringContext()) {
+            return getRightOperand().type();
+          } else if (!getLeftOperand().isPolyExpression() && !getRightOperand().isPolyExpression()) {
+            return type();
+          } else {
+            return targetType();
+          }
+        }
+    }
+    else {
+      return super.Define_targetType(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightOperandNoTransform() != null && _callerNode == getRightOperand()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:291
+      {
+          if (!getRightOperand().isPolyExpression() && !getLeftOperand().isPolyExpression()) {
+            if (getLeftOperand().type().isString() && !getRightOperand().type().isString()) {
+              return true;
+            }
+          }
+          return false;
+        }
+    }
+    else if (getLeftOperandNoTransform() != null && _callerNode == getLeftOperand()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:282
+      {
+          if (!getRightOperand().isPolyExpression() && !getLeftOperand().isPolyExpression()) {
+            if (getRightOperand().type().isString() && !getLeftOperand().type().isString()) {
+              return true;
+            }
+          }
+          return false;
+        }
+    }
+    else {
+      return super.Define_stringContext(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
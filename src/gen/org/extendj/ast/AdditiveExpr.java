@@ -0,0 +1,297 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:280
+ * @production AdditiveExpr : {@link ArithmeticExpr};
+
+ */
+public abstract class AdditiveExpr extends ArithmeticExpr implements Cloneable {
+  /**
+   * @declaredat ASTNode:1
+   */
+  public AdditiveExpr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public AdditiveExpr(Expr p0, Expr p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    type_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public AdditiveExpr clone() throws CloneNotSupportedException {
+    AdditiveExpr node = (AdditiveExpr) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:48
+   */
+  @Deprecated
+  public abstract AdditiveExpr fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:56
+   */
+  public abstract AdditiveExpr treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:64
+   */
+  public abstract AdditiveExpr treeCopy();
+  /**
+   * Replaces the LeftOperand child.
+   * @param node The new node to replace the LeftOperand child.
+   * @apilevel high-level
+   */
+  public void setLeftOperand(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the LeftOperand child.
+   * @return The current node used as the LeftOperand child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="LeftOperand")
+  public Expr getLeftOperand() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the LeftOperand child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the LeftOperand child.
+   * @apilevel low-level
+   */
+  public Expr getLeftOperandNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the RightOperand child.
+   * @param node The new node to replace the RightOperand child.
+   * @apilevel high-level
+   */
+  public void setRightOperand(Expr node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the RightOperand child.
+   * @return The current node used as the RightOperand child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="RightOperand")
+  public Expr getRightOperand() {
+    return (Expr) getChild(1);
+  }
+  /**
+   * Retrieves the RightOperand child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the RightOperand child.
+   * @apilevel low-level
+   */
+  public Expr getRightOperandNoTransform() {
+    return (Expr) getChildNoTransform(1);
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = getLeftOperand().type().binaryNumericPromotion(getRightOperand().type());
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:224
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:224")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "AdditiveExpr.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (!getLeftOperand().type().isNumericType()) {
+          problems.add(errorf("%s is not numeric", getLeftOperand().type().typeName()));
+        }
+        if (!getRightOperand().type().isNumericType()) {
+          problems.add(errorf("%s is not numeric", getRightOperand().type().typeName()));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "AdditiveExpr.typeProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:221
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+  }
+}
@@ -0,0 +1,297 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:290
+ * @production AndBitwiseExpr : {@link BitwiseExpr};
+
+ */
+public class AndBitwiseExpr extends BitwiseExpr implements Cloneable {
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:477
+   */
+  void emitOperation(CodeGeneration gen) { type().bitand(gen); }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public AndBitwiseExpr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public AndBitwiseExpr(Expr p0, Expr p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:32
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public AndBitwiseExpr clone() throws CloneNotSupportedException {
+    AndBitwiseExpr node = (AndBitwiseExpr) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public AndBitwiseExpr copy() {
+    try {
+      AndBitwiseExpr node = (AndBitwiseExpr) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:60
+   */
+  @Deprecated
+  public AndBitwiseExpr fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:70
+   */
+  public AndBitwiseExpr treeCopyNoTransform() {
+    AndBitwiseExpr tree = (AndBitwiseExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:90
+   */
+  public AndBitwiseExpr treeCopy() {
+    AndBitwiseExpr tree = (AndBitwiseExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:104
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the LeftOperand child.
+   * @param node The new node to replace the LeftOperand child.
+   * @apilevel high-level
+   */
+  public void setLeftOperand(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the LeftOperand child.
+   * @return The current node used as the LeftOperand child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="LeftOperand")
+  public Expr getLeftOperand() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the LeftOperand child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the LeftOperand child.
+   * @apilevel low-level
+   */
+  public Expr getLeftOperandNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the RightOperand child.
+   * @param node The new node to replace the RightOperand child.
+   * @apilevel high-level
+   */
+  public void setRightOperand(Expr node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the RightOperand child.
+   * @return The current node used as the RightOperand child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="RightOperand")
+  public Expr getRightOperand() {
+    return (Expr) getChild(1);
+  }
+  /**
+   * Retrieves the RightOperand child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the RightOperand child.
+   * @apilevel low-level
+   */
+  public Expr getRightOperandNoTransform() {
+    return (Expr) getChildNoTransform(1);
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:32")
+  public Constant constant() {
+    state().trace().computeBegin(this, "Expr.constant()", "", "");
+    Constant constant_value = type().andBitwise(getLeftOperand().constant(), getRightOperand().constant());
+    state().trace().computeEnd(this, "Expr.constant()", "", constant_value);
+    return constant_value;
+  }
+  /** The operator string used for pretty printing this expression. 
+   * @attribute syn
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:361
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PrettyPrintUtil", declaredAt="/root/project/java4/frontend/PrettyPrintUtil.jrag:361")
+  public String printOp() {
+    state().trace().computeBegin(this, "Binary.printOp()", "", "");
+    String printOp_value = "&";
+    state().trace().computeEnd(this, "Binary.printOp()", "", printOp_value);
+    return printOp_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,712 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * An array type access.
+ * 
+ * <p>Array accesses only occur as suffixes to another qualifying expression,
+ * possibly including other array accesses.  The last array access will be the
+ * innermost nested expression in a Dot chain starting with the array itself.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:127
+ * @production ArrayAccess : {@link Access} ::= <span class="component">{@link Expr}</span>;
+
+ */
+public class ArrayAccess extends Access implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:35
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("[");
+    out.print(getExpr());
+    out.print("]");
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:254
+   */
+  public void emitStore(CodeGeneration gen) {
+    type().emitArrayStore(gen);
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:499
+   */
+  public void createPushAssignmentResult(CodeGeneration gen) {
+    gen.DUP_X2(type());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ArrayAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ArrayAccess(Expr p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    unassignedAfter_Variable_reset();
+    type_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public ArrayAccess clone() throws CloneNotSupportedException {
+    ArrayAccess node = (ArrayAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public ArrayAccess copy() {
+    try {
+      ArrayAccess node = (ArrayAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:61
+   */
+  @Deprecated
+  public ArrayAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:71
+   */
+  public ArrayAccess treeCopyNoTransform() {
+    ArrayAccess tree = (ArrayAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:91
+   */
+  public ArrayAccess treeCopy() {
+    ArrayAccess tree = (ArrayAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:105
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Expr child.
+   * @param node The new node to replace the Expr child.
+   * @apilevel high-level
+   */
+  public void setExpr(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Expr child.
+   * @return The current node used as the Expr child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Expr")
+  public Expr getExpr() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the Expr child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Expr child.
+   * @apilevel low-level
+   */
+  public Expr getExprNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:443
+   */
+    public void createAssignSimpleLoadDest(CodeGeneration gen) {
+    prevExpr().createBCode(gen);
+    prevExpr().emitCastTo(gen, type().arrayType());
+    getExpr().createBCode(gen);
+    getExpr().emitCastTo(gen, typeInt());
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:450
+   */
+    public void createAssignLoadDest(CodeGeneration gen) {
+    prevExpr().createBCode(gen);
+    prevExpr().emitCastTo(gen, type().arrayType());
+    gen.DUP();
+    getExpr().createBCode(gen);
+    getExpr().emitCastTo(gen, typeInt());
+    gen.DUP_X1(typeInt());
+    type().emitArrayLoad(gen);
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:435
+   */
+    public void createBCode(CodeGeneration gen) {
+    prevExpr().createBCode(gen);
+    prevExpr().emitCastTo(gen, type().arrayType());
+    getExpr().createBCode(gen);
+    getExpr().emitCastTo(gen, typeInt());
+    type().emitArrayLoad(gen);
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = getExpr().assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = getExpr().unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = getExpr().unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:72")
+  public boolean isArrayAccess() {
+    state().trace().computeBegin(this, "Expr.isArrayAccess()", "", "");
+    boolean isArrayAccess_value = true;
+    state().trace().computeEnd(this, "Expr.isArrayAccess()", "", isArrayAccess_value);
+    return isArrayAccess_value;
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    NameType predNameType_value = NameType.EXPRESSION_NAME;
+    state().trace().computeEnd(this, "Access.predNameType()", "", predNameType_value);
+    return predNameType_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = isQualified() ? qualifier().type().componentType() : unknownType();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:33")
+  public boolean isVariable() {
+    state().trace().computeBegin(this, "Expr.isVariable()", "", "");
+    boolean isVariable_value = true;
+    state().trace().computeEnd(this, "Expr.isVariable()", "", isVariable_value);
+    return isVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:176
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:176")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "ArrayAccess.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (isQualified() && !qualifier().type().isArrayDecl() && !qualifier().type().isUnknown()) {
+          problems.add(errorf("the type %s of the indexed element is not an array",
+                qualifier().type().name()));
+        }
+        if (!getExpr().type().unaryNumericPromotion().isInt() || !getExpr().type().isIntegralType()) {
+          problems.add(errorf("array index must be int after unary numeric promotion which %s is not",
+              getExpr().type().typeName()));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "ArrayAccess.typeProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:145")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = getExpr().modifiedInScope(var);
+    state().trace().computeEnd(this, "Expr.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:303
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:303")
+  public TypeDecl unknownType() {
+    state().trace().computeBegin(this, "ArrayAccess.unknownType()", "", "");
+    TypeDecl unknownType_value = getParent().Define_unknownType(this, null);
+    state().trace().computeEnd(this, "ArrayAccess.unknownType()", "", unknownType_value);
+    return unknownType_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:34
+   * @apilevel internal
+   */
+  public boolean Define_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:53
+      return false;
+    }
+    else {
+      return getParent().Define_isDest(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:44
+   * @apilevel internal
+   */
+  public boolean Define_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:54
+      return true;
+    }
+    else {
+      return getParent().Define_isSource(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:116
+   * @apilevel internal
+   */
+  public Collection<MethodDecl> Define_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java4/frontend/LookupMethod.jrag:132
+      return unqualifiedScope().lookupMethod(name);
+    }
+    else {
+      return getParent().Define_lookupMethod(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:116
+   * @apilevel internal
+   */
+  public boolean Define_hasPackage(ASTNode _callerNode, ASTNode _childNode, String packageName) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java4/frontend/LookupType.jrag:123
+      return unqualifiedScope().hasPackage(packageName);
+    }
+    else {
+      return getParent().Define_hasPackage(this, _callerNode, packageName);
+    }
+  }
+  protected boolean canDefine_hasPackage(ASTNode _callerNode, ASTNode _childNode, String packageName) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:231
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java4/frontend/LookupType.jrag:461
+      return unqualifiedScope().lookupType(name);
+    }
+    else {
+      return getParent().Define_lookupType(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:248
+      return unqualifiedScope().lookupVariable(name);
+    }
+    else {
+      return getParent().Define_lookupVariable(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:141
+      return NameType.EXPRESSION_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:331
+      return false;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:332
+      return false;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:333
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:334
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:335
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:174
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+  }
+}
@@ -0,0 +1,663 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:252
+ * @production ArrayCreationExpr : {@link PrimaryExpr} ::= <span class="component">TypeAccess:{@link Access}</span> <span class="component">[{@link ArrayInit}]</span>;
+
+ */
+public class ArrayCreationExpr extends PrimaryExpr implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:40
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("new ");
+    out.print(getTypeAccess());
+    if (hasArrayInit()) {
+      out.print(" ");
+      out.print(getArrayInit());
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ArrayCreationExpr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+    setChild(new Opt(), 1);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public ArrayCreationExpr(Access p0, Opt<ArrayInit> p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    unassignedAfterCreation_Variable_reset();
+    unassignedAfter_Variable_reset();
+    type_reset();
+    numArrays_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public ArrayCreationExpr clone() throws CloneNotSupportedException {
+    ArrayCreationExpr node = (ArrayCreationExpr) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:46
+   */
+  public ArrayCreationExpr copy() {
+    try {
+      ArrayCreationExpr node = (ArrayCreationExpr) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:65
+   */
+  @Deprecated
+  public ArrayCreationExpr fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:75
+   */
+  public ArrayCreationExpr treeCopyNoTransform() {
+    ArrayCreationExpr tree = (ArrayCreationExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:95
+   */
+  public ArrayCreationExpr treeCopy() {
+    ArrayCreationExpr tree = (ArrayCreationExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:109
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the TypeAccess child.
+   * @param node The new node to replace the TypeAccess child.
+   * @apilevel high-level
+   */
+  public void setTypeAccess(Access node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * @return The current node used as the TypeAccess child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="TypeAccess")
+  public Access getTypeAccess() {
+    return (Access) getChild(0);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the optional node for the ArrayInit child. This is the <code>Opt</code>
+   * node containing the child ArrayInit, not the actual child!
+   * @param opt The new node to be used as the optional node for the ArrayInit child.
+   * @apilevel low-level
+   */
+  public void setArrayInitOpt(Opt<ArrayInit> opt) {
+    setChild(opt, 1);
+  }
+  /**
+   * Replaces the (optional) ArrayInit child.
+   * @param node The new node to be used as the ArrayInit child.
+   * @apilevel high-level
+   */
+  public void setArrayInit(ArrayInit node) {
+    getArrayInitOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional ArrayInit child exists.
+   * @return {@code true} if the optional ArrayInit child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasArrayInit() {
+    return getArrayInitOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) ArrayInit child.
+   * @return The ArrayInit child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public ArrayInit getArrayInit() {
+    return (ArrayInit) getArrayInitOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the ArrayInit child. This is the <code>Opt</code> node containing the child ArrayInit, not the actual child!
+   * @return The optional node for child the ArrayInit child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="ArrayInit")
+  public Opt<ArrayInit> getArrayInitOpt() {
+    return (Opt<ArrayInit>) getChild(1);
+  }
+  /**
+   * Retrieves the optional node for child ArrayInit. This is the <code>Opt</code> node containing the child ArrayInit, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child ArrayInit.
+   * @apilevel low-level
+   */
+  public Opt<ArrayInit> getArrayInitOptNoTransform() {
+    return (Opt<ArrayInit>) getChildNoTransform(1);
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:278
+   */
+    public void createBCode(CodeGeneration gen) {
+    if (hasArrayInit()){
+      getArrayInit().createBCode(gen);
+    } else {
+      getTypeAccess().createBCode(gen); // push array sizes
+      if (type().componentType().isPrimitive() && !type().componentType().isReferenceType()) {
+        gen.NEWARRAY(type());
+      } else {
+        if (numArrays() == 1) {
+          gen.ANEWARRAY(type());
+        } else {
+          gen.MULTIANEWARRAY(type(), numArrays());
+        }
+      }
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:538
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:538")
+  public boolean assignedAfterCreation(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "ArrayCreationExpr.assignedAfterCreation(Variable)", _parameters, "");
+    boolean assignedAfterCreation_Variable_value = getTypeAccess().assignedAfter(v);
+    state().trace().computeEnd(this, "ArrayCreationExpr.assignedAfterCreation(Variable)", _parameters, assignedAfterCreation_Variable_value);
+    return assignedAfterCreation_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = hasArrayInit() ? getArrayInit().assignedAfter(v) : assignedAfterCreation(v);
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfterCreation_Variable_reset() {
+    unassignedAfterCreation_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterCreation_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1147")
+  public boolean unassignedAfterCreation(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterCreation_Variable_values == null) unassignedAfterCreation_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterCreation_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterCreation_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ArrayCreationExpr.unassignedAfterCreation(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterCreation_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterCreation_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ArrayCreationExpr.unassignedAfterCreation(Variable)", _parameters, "");
+        new_unassignedAfterCreation_Variable_value = getTypeAccess().unassignedAfter(v);
+        state().trace().computeEnd(this, "ArrayCreationExpr.unassignedAfterCreation(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterCreation_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterCreation_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterCreation_Variable_values.put(_parameters, new_unassignedAfterCreation_Variable_value);
+      state().trace().cacheWrite(this, "ArrayCreationExpr.unassignedAfterCreation(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterCreation_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ArrayCreationExpr.unassignedAfterCreation(Variable)", _parameters, "");
+      boolean new_unassignedAfterCreation_Variable_value = getTypeAccess().unassignedAfter(v);
+      state().trace().computeEnd(this, "ArrayCreationExpr.unassignedAfterCreation(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterCreation_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterCreation_Variable_value;
+      }
+      return new_unassignedAfterCreation_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = hasArrayInit() ? getArrayInit().unassignedAfter(v) : unassignedAfterCreation(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = hasArrayInit() ? getArrayInit().unassignedAfter(v) : unassignedAfterCreation(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = getTypeAccess().type();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /** @apilevel internal */
+  private void numArrays_reset() {
+    numArrays_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle numArrays_computed = null;
+
+  /** @apilevel internal */
+  protected int numArrays_value;
+
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:112
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:112")
+  public int numArrays() {
+    ASTState state = state();
+    if (numArrays_computed == ASTState.NON_CYCLE || numArrays_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ArrayCreationExpr.numArrays()", "", numArrays_value);
+      return numArrays_value;
+    }
+    state().trace().computeBegin(this, "ArrayCreationExpr.numArrays()", "", "");
+    numArrays_value = numArrays_compute();
+    state().trace().computeEnd(this, "ArrayCreationExpr.numArrays()", "", numArrays_value);
+    if (state().inCircle()) {
+      numArrays_computed = state().cycle();
+      state().trace().cacheWrite(this, "ArrayCreationExpr.numArrays()", "", numArrays_value);
+    } else {
+      numArrays_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ArrayCreationExpr.numArrays()", "", numArrays_value);
+    }
+    return numArrays_value;
+  }
+  /** @apilevel internal */
+  private int numArrays_compute() {
+      int dims = type().dimension();
+      Access a = getTypeAccess();
+      while (a instanceof ArrayTypeAccess && !(a instanceof ArrayTypeWithSizeAccess)) {
+        dims -= 1;
+        a = ((ArrayTypeAccess) a).getAccess();
+      }
+      return dims;
+    }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:145")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = hasArrayInit() && getArrayInit().modifiedInScope(var);
+    state().trace().computeEnd(this, "Expr.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getArrayInitOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:544
+      return assignedAfterCreation(v);
+    }
+    else {
+      return getParent().Define_assignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getArrayInitOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1153
+      return unassignedAfterCreation(v);
+    }
+    else {
+      return getParent().Define_unassignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:110
+      return NameType.TYPE_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:723
+   * @apilevel internal
+   */
+  public TypeDecl Define_declType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArrayInitOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:282
+      return type();
+    }
+    else {
+      return getParent().Define_declType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_declType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:104
+   * @apilevel internal
+   */
+  public TypeDecl Define_expectedType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArrayInitOptNoTransform()) {
+      // @declaredat /root/project/java4/backend/InnerClasses.jrag:108
+      return type().componentType();
+    }
+    else {
+      return getParent().Define_expectedType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_expectedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java5/frontend/Generics.jrag:480
+    if (!type().isReifiable()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (!type().isReifiable()) {
+      collection.add(error("can not create array with non-reifiable element type"));
+    }
+  }
+}
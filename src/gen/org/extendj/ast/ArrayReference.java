@@ -0,0 +1,548 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java8/grammar/ConstructorReference.ast:4
+ * @production ArrayReference : {@link ConstructorReference};
+
+ */
+public class ArrayReference extends ConstructorReference implements Cloneable {
+  /**
+   * @aspect Java8PrettyPrint
+   * @declaredat /root/project/java8/frontend/PrettyPrint.jadd:35
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getTypeAccess());
+    out.print("::new");
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ArrayReference() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ArrayReference(Access p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    congruentTo_FunctionDescriptor_reset();
+    isExact_reset();
+    potentiallyCompatible_TypeDecl_BodyDecl_reset();
+    toBlock_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public ArrayReference clone() throws CloneNotSupportedException {
+    ArrayReference node = (ArrayReference) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public ArrayReference copy() {
+    try {
+      ArrayReference node = (ArrayReference) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:63
+   */
+  @Deprecated
+  public ArrayReference fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:73
+   */
+  public ArrayReference treeCopyNoTransform() {
+    ArrayReference tree = (ArrayReference) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:93
+   */
+  public ArrayReference treeCopy() {
+    ArrayReference tree = (ArrayReference) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:107
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the TypeAccess child.
+   * @param node The new node to replace the TypeAccess child.
+   * @apilevel high-level
+   */
+  public void setTypeAccess(Access node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * @return The current node used as the TypeAccess child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="TypeAccess")
+  public Access getTypeAccess() {
+    return (Access) getChild(0);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(0);
+  }
+  /** @apilevel internal */
+  private void congruentTo_FunctionDescriptor_reset() {
+    congruentTo_FunctionDescriptor_computed = new java.util.HashMap(4);
+    congruentTo_FunctionDescriptor_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map congruentTo_FunctionDescriptor_values;
+  /** @apilevel internal */
+  protected java.util.Map congruentTo_FunctionDescriptor_computed;
+  /**
+   * @attribute syn
+   * @aspect ConstructorReference
+   * @declaredat /root/project/java8/frontend/ConstructorReference.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReference", declaredAt="/root/project/java8/frontend/ConstructorReference.jrag:72")
+  public boolean congruentTo(FunctionDescriptor fd) {
+    Object _parameters = fd;
+    if (congruentTo_FunctionDescriptor_computed == null) congruentTo_FunctionDescriptor_computed = new java.util.HashMap(4);
+    if (congruentTo_FunctionDescriptor_values == null) congruentTo_FunctionDescriptor_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (congruentTo_FunctionDescriptor_values.containsKey(_parameters) && congruentTo_FunctionDescriptor_computed != null
+        && congruentTo_FunctionDescriptor_computed.containsKey(_parameters)
+        && (congruentTo_FunctionDescriptor_computed.get(_parameters) == ASTState.NON_CYCLE || congruentTo_FunctionDescriptor_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ConstructorReference.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_values.get(_parameters));
+      return (Boolean) congruentTo_FunctionDescriptor_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ConstructorReference.congruentTo(FunctionDescriptor)", _parameters, "");
+    boolean congruentTo_FunctionDescriptor_value = congruentTo_compute(fd);
+    state().trace().computeEnd(this, "ConstructorReference.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    if (state().inCircle()) {
+      congruentTo_FunctionDescriptor_values.put(_parameters, congruentTo_FunctionDescriptor_value);
+      congruentTo_FunctionDescriptor_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ConstructorReference.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    } else {
+      congruentTo_FunctionDescriptor_values.put(_parameters, congruentTo_FunctionDescriptor_value);
+      congruentTo_FunctionDescriptor_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ConstructorReference.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    }
+    return congruentTo_FunctionDescriptor_value;
+  }
+  /** @apilevel internal */
+  private boolean congruentTo_compute(FunctionDescriptor fd) {
+      if (fd.method.hasValue()) {
+        MethodDecl targetMethod = fd.method.get();
+        if (targetMethod.getNumParameter() != 1) {
+          return false;
+        }
+        if (!targetMethod.getParameter(0).type()
+            .assignConversionTo(fd.fromInterface().typeInt(), null)) {
+          return false;
+        }
+        if (!targetMethod.type().isVoid()) {
+          if (!getTypeAccess().type().assignConversionTo(targetMethod.type(), null)) {
+            return false;
+          }
+        }
+        return true;
+      } else {
+        // No target method.
+        return false;
+      }
+    }
+  /** @apilevel internal */
+  private void isExact_reset() {
+    isExact_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isExact_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isExact_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstructorReference
+   * @declaredat /root/project/java8/frontend/ConstructorReference.jrag:153
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReference", declaredAt="/root/project/java8/frontend/ConstructorReference.jrag:153")
+  public boolean isExact() {
+    ASTState state = state();
+    if (isExact_computed == ASTState.NON_CYCLE || isExact_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConstructorReference.isExact()", "", isExact_value);
+      return isExact_value;
+    }
+    state().trace().computeBegin(this, "ConstructorReference.isExact()", "", "");
+    isExact_value = true;
+    state().trace().computeEnd(this, "ConstructorReference.isExact()", "", isExact_value);
+    if (state().inCircle()) {
+      isExact_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConstructorReference.isExact()", "", isExact_value);
+    } else {
+      isExact_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConstructorReference.isExact()", "", isExact_value);
+    }
+    return isExact_value;
+  }
+  /** @apilevel internal */
+  private void potentiallyCompatible_TypeDecl_BodyDecl_reset() {
+    potentiallyCompatible_TypeDecl_BodyDecl_computed = new java.util.HashMap(4);
+    potentiallyCompatible_TypeDecl_BodyDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map potentiallyCompatible_TypeDecl_BodyDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map potentiallyCompatible_TypeDecl_BodyDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:511
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:511")
+  public boolean potentiallyCompatible(TypeDecl type, BodyDecl candidateDecl) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(type);
+    _parameters.add(candidateDecl);
+    if (potentiallyCompatible_TypeDecl_BodyDecl_computed == null) potentiallyCompatible_TypeDecl_BodyDecl_computed = new java.util.HashMap(4);
+    if (potentiallyCompatible_TypeDecl_BodyDecl_values == null) potentiallyCompatible_TypeDecl_BodyDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (potentiallyCompatible_TypeDecl_BodyDecl_values.containsKey(_parameters) && potentiallyCompatible_TypeDecl_BodyDecl_computed != null
+        && potentiallyCompatible_TypeDecl_BodyDecl_computed.containsKey(_parameters)
+        && (potentiallyCompatible_TypeDecl_BodyDecl_computed.get(_parameters) == ASTState.NON_CYCLE || potentiallyCompatible_TypeDecl_BodyDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_values.get(_parameters));
+      return (Boolean) potentiallyCompatible_TypeDecl_BodyDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, "");
+    boolean potentiallyCompatible_TypeDecl_BodyDecl_value = potentiallyCompatible_compute(type, candidateDecl);
+    state().trace().computeEnd(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    if (state().inCircle()) {
+      potentiallyCompatible_TypeDecl_BodyDecl_values.put(_parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+      potentiallyCompatible_TypeDecl_BodyDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    } else {
+      potentiallyCompatible_TypeDecl_BodyDecl_values.put(_parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+      potentiallyCompatible_TypeDecl_BodyDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    }
+    return potentiallyCompatible_TypeDecl_BodyDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean potentiallyCompatible_compute(TypeDecl type, BodyDecl candidateDecl) {
+      if (super.potentiallyCompatible(type, candidateDecl) && type.isTypeVariable()) {
+        return true;
+      } else if (!super.potentiallyCompatible(type, candidateDecl)) {
+        return false;
+      }
+      InterfaceDecl iDecl = (InterfaceDecl) type;
+      FunctionDescriptor fd = iDecl.functionDescriptor();
+      if (fd.method.hasValue()) {
+        return fd.method.get().arity() == 1;
+      } else {
+        return false;
+      }
+    }
+  /**
+   * @attribute syn
+   * @aspect Java8NameCheck
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:534
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java8NameCheck", declaredAt="/root/project/java8/frontend/NameCheck.jrag:534")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "ArrayReference.nameProblems()", "", "");
+    try {
+        Access typeAccess = getTypeAccess();
+        while (typeAccess instanceof ArrayTypeAccess) {
+          typeAccess = ((ArrayTypeAccess) typeAccess).getAccess();
+        }
+        if (typeAccess instanceof ParTypeAccess) {
+          return Collections.singletonList(error("Cannot create array of generic type"));
+        }
+        return Collections.emptyList();
+      }
+    finally {
+      state().trace().computeEnd(this, "ArrayReference.nameProblems()", "", "");
+    }
+  }
+  /**
+   * Build a nested ArrayTypeWithSizeAccess from the normal
+   * ArrayTypeAccess.  This is to be used when generating
+   * the anonymous inner class which must instantiate a new
+   * array according to the array reference.
+   * @attribute syn
+   * @aspect ConstructorReferenceToClass
+   * @declaredat /root/project/java8/backend/ConstructorReferenceToClass.jrag:42
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReferenceToClass", declaredAt="/root/project/java8/backend/ConstructorReferenceToClass.jrag:42")
+  public ArrayTypeAccess getArrayTypeWithSizeAccess(Expr expr) {
+    Object _parameters = expr;
+    state().trace().computeBegin(this, "ArrayReference.getArrayTypeWithSizeAccess(Expr)", _parameters, "");
+    try {
+        return recursiveArrayTypeWithSizeAccess((ArrayTypeAccess) getTypeAccess(),
+            (Expr) expr.treeCopyNoTransform());
+      }
+    finally {
+      state().trace().computeEnd(this, "ArrayReference.getArrayTypeWithSizeAccess(Expr)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstructorReferenceToClass
+   * @declaredat /root/project/java8/backend/ConstructorReferenceToClass.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReferenceToClass", declaredAt="/root/project/java8/backend/ConstructorReferenceToClass.jrag:47")
+  public ArrayTypeAccess recursiveArrayTypeWithSizeAccess(ArrayTypeAccess access, Expr expr) {
+    Object _parameters = java.util.Arrays.asList(access, expr);
+    state().trace().computeBegin(this, "ArrayReference.recursiveArrayTypeWithSizeAccess(ArrayTypeAccess,Expr)", _parameters, "");
+    try {
+        if (!(access.getAccess() instanceof ArrayTypeAccess)) {
+          return new ArrayTypeWithSizeAccess(access.getAccess().treeCopy(), expr);
+        } else {
+          return new ArrayTypeAccess(
+              recursiveArrayTypeWithSizeAccess((ArrayTypeAccess) access.getAccess(), expr));
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "ArrayReference.recursiveArrayTypeWithSizeAccess(ArrayTypeAccess,Expr)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void toBlock_reset() {
+    toBlock_computed = null;
+    toBlock_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle toBlock_computed = null;
+
+  /** @apilevel internal */
+  protected Block toBlock_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstructorReferenceToClass
+   * @declaredat /root/project/java8/backend/ConstructorReferenceToClass.jrag:97
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReferenceToClass", declaredAt="/root/project/java8/backend/ConstructorReferenceToClass.jrag:97")
+  public Block toBlock() {
+    ASTState state = state();
+    if (toBlock_computed == ASTState.NON_CYCLE || toBlock_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConstructorReference.toBlock()", "", toBlock_value);
+      return toBlock_value;
+    }
+    state().trace().computeBegin(this, "ConstructorReference.toBlock()", "", "");
+    toBlock_value = toBlock_compute();
+    state().trace().computeEnd(this, "ConstructorReference.toBlock()", "", toBlock_value);
+    if (state().inCircle()) {
+      toBlock_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConstructorReference.toBlock()", "", toBlock_value);
+    } else {
+      toBlock_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConstructorReference.toBlock()", "", toBlock_value);
+    }
+    return toBlock_value;
+  }
+  /** @apilevel internal */
+  private Block toBlock_compute() {
+      // First, build an ArrayCreationExpr used in the block.
+      MethodDecl targetMethod = targetInterface().functionDescriptor().method.get();
+      String paramName = targetMethod.getParameter(0).name();
+      VarAccess paramAccess = new VarAccess(paramName);
+      ArrayCreationExpr arrayExpr = new ArrayCreationExpr(getArrayTypeWithSizeAccess(paramAccess),
+          new Opt());
+  
+      // Next, build actual block.
+      Stmt blockStmt = null;
+      if (targetMethod.type().isVoid()) {
+        blockStmt = new ExprStmt(arrayExpr);
+      } else {
+        blockStmt = new ReturnStmt(arrayExpr);
+      }
+      List<Stmt> stmtList = new List<Stmt>();
+      stmtList.add(blockStmt);
+      return new Block(stmtList);
+    }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java8/frontend/NameCheck.jrag:532
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+  }
+}
@@ -0,0 +1,547 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:100
+ * @production ArrayTypeAccess : {@link TypeAccess} ::= <span class="component">&lt;Package:String&gt;</span> <span class="component">&lt;ID:String&gt;</span> <span class="component">{@link Access}</span>;
+
+ */
+public class ArrayTypeAccess extends TypeAccess implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:58
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getAccess());
+    out.print("[]");
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:87
+   */
+  @Override public String toString() {
+    return getAccessNoTransform().toString() + "[]";
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:991
+   */
+  public void createBCode(CodeGeneration gen) {
+    getAccess().createBCode(gen);
+  }
+  /**
+   * @aspect FunctionalInterface
+   * @declaredat /root/project/java8/frontend/FunctionalInterface.jrag:269
+   */
+  public boolean sameType(ArrayTypeAccess a) {
+    ArrayTypeAccess at1 = this;
+    ArrayTypeAccess at2 = a;
+    while (true) {
+      Access a1 = at1.getAccess();
+      Access a2 = at2.getAccess();
+      if (a1 instanceof ArrayTypeAccess && a2 instanceof ArrayTypeAccess) {
+        at1 = (ArrayTypeAccess) a1;
+        at2 = (ArrayTypeAccess) a2;
+        continue;
+      } else {
+        return a1.sameType(a2);
+      }
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ArrayTypeAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ArrayTypeAccess(Access p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    getPackage_reset();
+    getID_reset();
+    unassignedAfter_Variable_reset();
+    decl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public ArrayTypeAccess clone() throws CloneNotSupportedException {
+    ArrayTypeAccess node = (ArrayTypeAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public ArrayTypeAccess copy() {
+    try {
+      ArrayTypeAccess node = (ArrayTypeAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:63
+   */
+  @Deprecated
+  public ArrayTypeAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:73
+   */
+  public ArrayTypeAccess treeCopyNoTransform() {
+    ArrayTypeAccess tree = (ArrayTypeAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:93
+   */
+  public ArrayTypeAccess treeCopy() {
+    ArrayTypeAccess tree = (ArrayTypeAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:107
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Access child.
+   * @param node The new node to replace the Access child.
+   * @apilevel high-level
+   */
+  public void setAccess(Access node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Access child.
+   * @return The current node used as the Access child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Access")
+  public Access getAccess() {
+    return (Access) getChild(0);
+  }
+  /**
+   * Retrieves the Access child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Access child.
+   * @apilevel low-level
+   */
+  public Access getAccessNoTransform() {
+    return (Access) getChildNoTransform(0);
+  }
+  /**
+   * This method should not be called. This method throws an exception due to
+   * the corresponding child being an NTA shadowing a non-NTA child.
+   * @param node
+   * @apilevel internal
+   */
+  public void setPackage(String node) {
+    throw new Error("Can not replace NTA child Package in ArrayTypeAccess!");
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_Package;
+  /**
+   * This method should not be called. This method throws an exception due to
+   * the corresponding child being an NTA shadowing a non-NTA child.
+   * @param node
+   * @apilevel internal
+   */
+  public void setID(String node) {
+    throw new Error("Can not replace NTA child ID in ArrayTypeAccess!");
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_ID;
+  /** @apilevel internal */
+  private void getPackage_reset() {
+    getPackage_computed = null;
+    getPackage_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle getPackage_computed = null;
+
+  /** @apilevel internal */
+  protected String getPackage_value;
+
+  /**
+   * @attribute syn nta
+   * @aspect Arrays
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:95
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="Arrays", declaredAt="/root/project/java4/frontend/Arrays.jrag:95")
+  public String getPackage() {
+    ASTState state = state();
+    if (getPackage_computed == ASTState.NON_CYCLE || getPackage_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ArrayTypeAccess.getPackage()", "", getPackage_value);
+      return getPackage_value;
+    }
+    state().trace().computeBegin(this, "ArrayTypeAccess.getPackage()", "", "");
+    getPackage_value = getAccess().type().packageName();
+    state().trace().computeEnd(this, "ArrayTypeAccess.getPackage()", "", getPackage_value);
+    if (state().inCircle()) {
+      getPackage_computed = state().cycle();
+      state().trace().cacheWrite(this, "ArrayTypeAccess.getPackage()", "", getPackage_value);
+    } else {
+      getPackage_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ArrayTypeAccess.getPackage()", "", getPackage_value);
+    }
+    return getPackage_value;
+  }
+  /** @apilevel internal */
+  private void getID_reset() {
+    getID_computed = null;
+    getID_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle getID_computed = null;
+
+  /** @apilevel internal */
+  protected String getID_value;
+
+  /**
+   * @attribute syn nta
+   * @aspect Arrays
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:97
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="Arrays", declaredAt="/root/project/java4/frontend/Arrays.jrag:97")
+  public String getID() {
+    ASTState state = state();
+    if (getID_computed == ASTState.NON_CYCLE || getID_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ArrayTypeAccess.getID()", "", getID_value);
+      return getID_value;
+    }
+    state().trace().computeBegin(this, "ArrayTypeAccess.getID()", "", "");
+    getID_value = getAccess().type().name();
+    state().trace().computeEnd(this, "ArrayTypeAccess.getID()", "", getID_value);
+    if (state().inCircle()) {
+      getID_computed = state().cycle();
+      state().trace().cacheWrite(this, "ArrayTypeAccess.getID()", "", getID_value);
+    } else {
+      getID_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ArrayTypeAccess.getID()", "", getID_value);
+    }
+    return getID_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = getAccess().assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = getAccess().unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = getAccess().unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void decl_reset() {
+    decl_computed = null;
+    decl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle decl_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl decl_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:441
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:441")
+  public TypeDecl decl() {
+    ASTState state = state();
+    if (decl_computed == ASTState.NON_CYCLE || decl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ArrayTypeAccess.decl()", "", decl_value);
+      return decl_value;
+    }
+    state().trace().computeBegin(this, "ArrayTypeAccess.decl()", "", "");
+    decl_value = getAccess().type().arrayType();
+    state().trace().computeEnd(this, "ArrayTypeAccess.decl()", "", decl_value);
+    if (state().inCircle()) {
+      decl_computed = state().cycle();
+      state().trace().cacheWrite(this, "ArrayTypeAccess.decl()", "", decl_value);
+    } else {
+      decl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ArrayTypeAccess.decl()", "", decl_value);
+    }
+    return decl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:236
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:236")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "TypeAccess.nameProblems()", "", "");
+    try {
+        if (decl().elementType().isUnknown()) {
+          return Collections.singletonList(errorf("no type named %s", decl().elementType().typeName()));
+        }
+        return Collections.emptyList();
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeAccess.nameProblems()", "", "");
+    }
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    NameType predNameType_value = NameType.AMBIGUOUS_NAME;
+    state().trace().computeEnd(this, "Access.predNameType()", "", predNameType_value);
+    return predNameType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:240
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:240")
+  public boolean staticContextQualifier() {
+    state().trace().computeBegin(this, "Expr.staticContextQualifier()", "", "");
+    boolean staticContextQualifier_value = true;
+    state().trace().computeEnd(this, "Expr.staticContextQualifier()", "", staticContextQualifier_value);
+    return staticContextQualifier_value;
+  }
+  /**
+   * Creates a copy of this access where parameterized types have been erased.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1616
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1616")
+  public Access erasedCopy() {
+    state().trace().computeBegin(this, "Access.erasedCopy()", "", "");
+    Access erasedCopy_value = new ArrayTypeAccess(getAccess().erasedCopy());
+    state().trace().computeEnd(this, "Access.erasedCopy()", "", erasedCopy_value);
+    return erasedCopy_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,244 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:243
+ * @production AssignBitwiseExpr : {@link AssignExpr};
+
+ */
+public abstract class AssignBitwiseExpr extends AssignExpr implements Cloneable {
+  /**
+   * @declaredat ASTNode:1
+   */
+  public AssignBitwiseExpr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public AssignBitwiseExpr(Expr p0, Expr p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:32
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public AssignBitwiseExpr clone() throws CloneNotSupportedException {
+    AssignBitwiseExpr node = (AssignBitwiseExpr) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:47
+   */
+  @Deprecated
+  public abstract AssignBitwiseExpr fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:55
+   */
+  public abstract AssignBitwiseExpr treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:63
+   */
+  public abstract AssignBitwiseExpr treeCopy();
+  /**
+   * Replaces the Dest child.
+   * @param node The new node to replace the Dest child.
+   * @apilevel high-level
+   */
+  public void setDest(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Dest child.
+   * @return The current node used as the Dest child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Dest")
+  public Expr getDest() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the Dest child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Dest child.
+   * @apilevel low-level
+   */
+  public Expr getDestNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the Source child.
+   * @param node The new node to replace the Source child.
+   * @apilevel high-level
+   */
+  public void setSource(Expr node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the Source child.
+   * @return The current node used as the Source child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Source")
+  public Expr getSource() {
+    return (Expr) getChild(1);
+  }
+  /**
+   * Retrieves the Source child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Source child.
+   * @apilevel low-level
+   */
+  public Expr getSourceNoTransform() {
+    return (Expr) getChildNoTransform(1);
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:136
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:136")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "AssignBitwiseExpr.typeProblems()", "", "");
+    try {
+        TypeDecl source = getSource().type();
+        TypeDecl dest = getDest().type();
+        if (source.isIntegralType() && dest.isIntegralType()) {
+          return super.typeProblems();
+        } else if (source.isBoolean() && dest.isBoolean()) {
+          return super.typeProblems();
+        } else {
+          return Collections.singletonList(
+              error("Operator only operates on integral and boolean types"));
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "AssignBitwiseExpr.typeProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,904 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:225
+ * @production AssignExpr : {@link Expr} ::= <span class="component">Dest:{@link Expr}</span> <span class="component">Source:{@link Expr}</span>;
+
+ */
+public abstract class AssignExpr extends Expr implements Cloneable {
+  /**
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:587
+   */
+  protected boolean checkDUeverywhere(Variable v) {
+    if (getDest().isVariable() && getDest().varDecl() == v) {
+      if (!getSource().assignedAfter(v)) {
+        return false;
+      }
+    }
+    return super.checkDUeverywhere(v);
+  }
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:96
+   */
+  public static Stmt asStmt(Expr left, Expr right) {
+    return new ExprStmt(new AssignSimpleExpr(left, right));
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:81
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getDest());
+    out.print(" ");
+    out.print(printOp());
+    out.print(" ");
+    out.print(getSource());
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:433
+   */
+  public void emitShiftExpr(CodeGeneration gen) {
+    TypeDecl dest = getDest().type();
+    TypeDecl source = getSource().type();
+    TypeDecl type = dest.unaryNumericPromotion();
+    getDest().createAssignLoadDest(gen);
+    dest.emitCastTo(gen, type);
+    getSource().createBCode(gen);
+    source.emitCastTo(gen, typeInt());
+    emitAssignOp(gen, type);
+    type.emitCastTo(gen, dest);
+    if (needsPush()) {
+      getDest().createPushAssignmentResult(gen);
+    }
+    getDest().emitStore(gen);
+  }
+  /** Select the typed operation for a compound assign expression. 
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:546
+   */
+  public void emitAssignOp(CodeGeneration gen, TypeDecl type) {
+    throw new Error("Operation emitAssignOp is not implemented for type " + getClass().getName());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public AssignExpr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public AssignExpr(Expr p0, Expr p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    unassignedAfter_Variable_reset();
+    unassignedAfterTrue_Variable_reset();
+    unassignedAfterFalse_Variable_reset();
+    type_reset();
+    stmtCompatible_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public AssignExpr clone() throws CloneNotSupportedException {
+    AssignExpr node = (AssignExpr) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:52
+   */
+  @Deprecated
+  public abstract AssignExpr fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:60
+   */
+  public abstract AssignExpr treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:68
+   */
+  public abstract AssignExpr treeCopy();
+  /**
+   * Replaces the Dest child.
+   * @param node The new node to replace the Dest child.
+   * @apilevel high-level
+   */
+  public void setDest(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Dest child.
+   * @return The current node used as the Dest child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Dest")
+  public Expr getDest() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the Dest child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Dest child.
+   * @apilevel low-level
+   */
+  public Expr getDestNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the Source child.
+   * @param node The new node to replace the Source child.
+   * @apilevel high-level
+   */
+  public void setSource(Expr node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the Source child.
+   * @return The current node used as the Source child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Source")
+  public Expr getSource() {
+    return (Expr) getChild(1);
+  }
+  /**
+   * Retrieves the Source child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Source child.
+   * @apilevel low-level
+   */
+  public Expr getSourceNoTransform() {
+    return (Expr) getChildNoTransform(1);
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:353
+   */
+    public void createBCode(CodeGeneration gen) {
+    TypeDecl dest = getDest().type();
+    TypeDecl source = getSource().type();
+    TypeDecl type;
+    if (dest.isNumericType() && source.isNumericType()) {
+      type = dest.binaryNumericPromotion(source);
+    } else if (dest.isBoolean() && source.isBoolean()) {
+      type = dest.isReferenceType() ? dest.unboxed() : dest;
+    } else {
+      type = dest;
+    }
+    getDest().createAssignLoadDest(gen);
+    dest.emitCastTo(gen, type);
+    getSource().createBCode(gen);
+    getSource().emitCastTo(gen, type);
+    emitAssignOp(gen, type);
+    type.emitCastTo(gen, dest);
+    if (needsPush()) {
+      getDest().createPushAssignmentResult(gen);
+    }
+    getDest().emitStore(gen);
+  }
+  /** The operator string used for pretty printing this expression. 
+   * @attribute syn
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:383
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PrettyPrintUtil", declaredAt="/root/project/java4/frontend/PrettyPrintUtil.jrag:383")
+  public abstract String printOp();
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = (getDest().isVariable() && getDest().varDecl() == v) || getSource().assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:375
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:375")
+  public boolean assignedAfterTrue(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfterTrue(Variable)", _parameters, "");
+    boolean assignedAfterTrue_Variable_value = isFalse() || assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfterTrue(Variable)", _parameters, assignedAfterTrue_Variable_value);
+    return assignedAfterTrue_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:377
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:377")
+  public boolean assignedAfterFalse(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfterFalse(Variable)", _parameters, "");
+    boolean assignedAfterFalse_Variable_value = isTrue() || assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfterFalse(Variable)", _parameters, assignedAfterFalse_Variable_value);
+    return assignedAfterFalse_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = unassignedAfter_compute(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = unassignedAfter_compute(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean unassignedAfter_compute(Variable v) {
+      if (getDest().isVariable() && getDest().varDecl() == v) {
+        return false;
+      } else {
+        return getSource().unassignedAfter(v);
+      }
+    }
+  /** @apilevel internal */
+  private void unassignedAfterTrue_Variable_reset() {
+    unassignedAfterTrue_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterTrue_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:905")
+  public boolean unassignedAfterTrue(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterTrue_Variable_values == null) unassignedAfterTrue_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterTrue_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterTrue_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterTrue_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterTrue_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfterTrue(Variable)", _parameters, "");
+        new_unassignedAfterTrue_Variable_value = unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterTrue_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterTrue_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterTrue_Variable_values.put(_parameters, new_unassignedAfterTrue_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterTrue_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfterTrue(Variable)", _parameters, "");
+      boolean new_unassignedAfterTrue_Variable_value = unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterTrue_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterTrue_Variable_value;
+      }
+      return new_unassignedAfterTrue_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfterFalse_Variable_reset() {
+    unassignedAfterFalse_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterFalse_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:907")
+  public boolean unassignedAfterFalse(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterFalse_Variable_values == null) unassignedAfterFalse_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterFalse_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterFalse_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterFalse_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterFalse_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfterFalse(Variable)", _parameters, "");
+        new_unassignedAfterFalse_Variable_value = unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterFalse_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterFalse_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterFalse_Variable_values.put(_parameters, new_unassignedAfterFalse_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterFalse_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfterFalse(Variable)", _parameters, "");
+      boolean new_unassignedAfterFalse_Variable_value = unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterFalse_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterFalse_Variable_value;
+      }
+      return new_unassignedAfterFalse_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = getDest().type();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:80
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:80")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "AssignExpr.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (!getDest().isVariable()) {
+          return Collections.singletonList((error("left hand side is not a variable")));
+        } else {
+          TypeDecl source = getSource().type();
+          TypeDecl dest = getDest().type();
+          if (getSource().type().isPrimitive() && getDest().type().isPrimitive()) {
+            return Collections.emptyList();
+          }
+          return Collections.singletonList(errorf("can not assign %s of type %s a value of type %s",
+              getDest().prettyPrint(), getDest().type().typeName(), getSource().type().typeName()));
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "AssignExpr.typeProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:300
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:300")
+  public boolean needsPop() {
+    state().trace().computeBegin(this, "Expr.needsPop()", "", "");
+    boolean needsPop_value = getDest().isVarAccessWithAccessor();
+    state().trace().computeEnd(this, "Expr.needsPop()", "", needsPop_value);
+    return needsPop_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:145")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    try {
+        boolean isLeft = getDest().isVariable(var);
+        if (isLeft && var instanceof VariableDeclarator) {
+          VariableDeclarator decl = (VariableDeclarator) var;
+          if (!decl.hasInit()) {
+            // Variable is being written to in an inner class.
+            if (decl.hostType() != hostType()) {
+              return true;
+            }
+            // 4.12.4;
+            return !getSource().unassignedAfter(var);
+          }
+          return true;
+        } else {
+          return isLeft || getSource().modifiedInScope(var);
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void stmtCompatible_reset() {
+    stmtCompatible_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle stmtCompatible_computed = null;
+
+  /** @apilevel internal */
+  protected boolean stmtCompatible_value;
+
+  /**
+   * @attribute syn
+   * @aspect StmtCompatible
+   * @declaredat /root/project/java8/frontend/LambdaExpr.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StmtCompatible", declaredAt="/root/project/java8/frontend/LambdaExpr.jrag:145")
+  public boolean stmtCompatible() {
+    ASTState state = state();
+    if (stmtCompatible_computed == ASTState.NON_CYCLE || stmtCompatible_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+      return stmtCompatible_value;
+    }
+    state().trace().computeBegin(this, "Expr.stmtCompatible()", "", "");
+    stmtCompatible_value = true;
+    state().trace().computeEnd(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    if (state().inCircle()) {
+      stmtCompatible_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    } else {
+      stmtCompatible_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    }
+    return stmtCompatible_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:34
+   * @apilevel internal
+   */
+  public boolean Define_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:38
+      return false;
+    }
+    else if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:37
+      return true;
+    }
+    else {
+      return getParent().Define_isDest(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:44
+   * @apilevel internal
+   */
+  public boolean Define_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:48
+      return true;
+    }
+    else if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:47
+      return true;
+    }
+    else {
+      return getParent().Define_isSource(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:476
+      return assignedBefore(v);
+    }
+    else if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:474
+      return getDest().assignedAfter(v);
+    }
+    else {
+      return getParent().Define_assignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1080
+      return unassignedBefore(v);
+    }
+    else if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1078
+      return getDest().unassignedAfter(v);
+    }
+    else {
+      return getParent().Define_unassignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:122
+      return NameType.EXPRESSION_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   * @apilevel internal
+   */
+  public TypeDecl Define_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:55
+      return getDest().type();
+    }
+    else {
+      return getParent().Define_targetType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:356
+      return true;
+    }
+    else if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:350
+      return false;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:357
+      return false;
+    }
+    else if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:351
+      return false;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:358
+      return false;
+    }
+    else if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:352
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:360
+      return false;
+    }
+    else if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:353
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:359
+      return false;
+    }
+    else if (getDestNoTransform() != null && _callerNode == getDest()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:354
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:78
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+  }
+}
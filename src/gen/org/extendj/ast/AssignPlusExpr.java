@@ -0,0 +1,385 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:235
+ * @production AssignPlusExpr : {@link AssignAdditiveExpr};
+
+ */
+public class AssignPlusExpr extends AssignAdditiveExpr implements Cloneable {
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:379
+   */
+  public void createBCode(CodeGeneration gen) {
+    TypeDecl dest = getDest().type();
+    if (dest.isString()) {
+      TypeDecl stringType = typeString();
+      TypeDecl builderType = lookupType("java.lang", "StringBuilder");
+
+      getDest().createAssignLoadDest(gen);
+
+      // Create new StringBuilder instance.
+      String classname = builderType.constantPoolName();
+      String desc;
+      int index;
+      TypeDecl argumentType;
+      gen.NEW(builderType);
+      gen.DUP();
+      desc = "()V";
+      index = gen.constantPool().addMethodref(classname, "<init>", desc);
+      gen.INVOKESPECIAL_void(index, 1); // StringBuilder.<init>()
+      gen.initializedRef(builderType);
+
+      gen.SWAP();
+
+      // Call append(dest).
+      argumentType = dest.stringPromotion();
+      getDest().emitCastTo(gen, argumentType);
+      desc = "(" + argumentType.typeDescriptor() + ")" + builderType.typeDescriptor();
+      index = gen.constantPool().addMethodref(classname, "append", desc);
+      gen.INVOKEVIRTUAL(index, 2, builderType);
+
+      // Call append(source).
+      getSource().createBCode(gen);
+      if (!getSource().isStringAdd()) {
+        argumentType = getSource().type().stringPromotion();
+        getSource().emitCastTo(gen, argumentType);
+        desc = "(" + argumentType.typeDescriptor() + ")" + builderType.typeDescriptor();
+        index = gen.constantPool().addMethodref(classname, "append", desc);
+        gen.INVOKEVIRTUAL(index, 2, builderType);
+      }
+
+      // Call toString().
+      desc = "()" + type().typeDescriptor();
+      index = gen.constantPool().addMethodref(classname, "toString", desc);
+      gen.INVOKEVIRTUAL(index, 1, stringType);
+
+      if (needsPush()) {
+        getDest().createPushAssignmentResult(gen);
+      }
+      getDest().emitStore(gen);
+    } else {
+      super.createBCode(gen);
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:553
+   */
+  public void emitAssignOp(CodeGeneration gen, TypeDecl type)    { type.add(gen); }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public AssignPlusExpr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public AssignPlusExpr(Expr p0, Expr p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:32
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public AssignPlusExpr clone() throws CloneNotSupportedException {
+    AssignPlusExpr node = (AssignPlusExpr) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public AssignPlusExpr copy() {
+    try {
+      AssignPlusExpr node = (AssignPlusExpr) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:60
+   */
+  @Deprecated
+  public AssignPlusExpr fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:70
+   */
+  public AssignPlusExpr treeCopyNoTransform() {
+    AssignPlusExpr tree = (AssignPlusExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:90
+   */
+  public AssignPlusExpr treeCopy() {
+    AssignPlusExpr tree = (AssignPlusExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:104
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Dest child.
+   * @param node The new node to replace the Dest child.
+   * @apilevel high-level
+   */
+  public void setDest(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Dest child.
+   * @return The current node used as the Dest child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Dest")
+  public Expr getDest() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the Dest child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Dest child.
+   * @apilevel low-level
+   */
+  public Expr getDestNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the Source child.
+   * @param node The new node to replace the Source child.
+   * @apilevel high-level
+   */
+  public void setSource(Expr node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the Source child.
+   * @return The current node used as the Source child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Source")
+  public Expr getSource() {
+    return (Expr) getChild(1);
+  }
+  /**
+   * Retrieves the Source child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Source child.
+   * @apilevel low-level
+   */
+  public Expr getSourceNoTransform() {
+    return (Expr) getChildNoTransform(1);
+  }
+  /** The operator string used for pretty printing this expression. 
+   * @attribute syn
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:383
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PrettyPrintUtil", declaredAt="/root/project/java4/frontend/PrettyPrintUtil.jrag:383")
+  public String printOp() {
+    state().trace().computeBegin(this, "AssignExpr.printOp()", "", "");
+    String printOp_value = "+=";
+    state().trace().computeEnd(this, "AssignExpr.printOp()", "", printOp_value);
+    return printOp_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:80
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:80")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "AssignExpr.typeProblems()", "", "");
+    try {
+        if (!getDest().isVariable()) {
+          return Collections.singletonList(error("left hand side is not a variable"));
+        } else if (getSource().type().isUnknown() || getDest().type().isUnknown()) {
+          return Collections.emptyList();
+        } else if (getDest().type().isString() && !(getSource().type().isVoid())) {
+          return Collections.emptyList();
+        } else if (getSource().type().isBoolean() || getDest().type().isBoolean()) {
+          return Collections.singletonList(error("Operator + does not operate on boolean types"));
+        } else if (getSource().type().isPrimitive() && getDest().type().isPrimitive()) {
+          return Collections.emptyList();
+        } else {
+          return Collections.singletonList(errorf("can not assign %s of type %s a value of type %s",
+              getDest().prettyPrint(), getDest().type().typeName(), getSource().type().typeName()));
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "AssignExpr.typeProblems()", "", "");
+    }
+  }
+  /**
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1116
+   * @apilevel internal
+   */
+  public boolean Define_inStringAdd(ASTNode _callerNode, ASTNode _childNode) {
+    if (getSourceNoTransform() != null && _callerNode == getSource()) {
+      // @declaredat /root/project/java4/backend/CreateBCode.jrag:1120
+      return getDest().type().isString();
+    }
+    else {
+      return super.Define_inStringAdd(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_inStringAdd(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
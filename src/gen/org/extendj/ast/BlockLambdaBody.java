@@ -0,0 +1,707 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java8/grammar/Lambda.ast:12
+ * @production BlockLambdaBody : {@link LambdaBody} ::= <span class="component">{@link Block}</span>;
+
+ */
+public class BlockLambdaBody extends LambdaBody implements Cloneable {
+  /**
+   * @aspect LambdaToClass
+   * @declaredat /root/project/java8/frontend/LambdaAnonymousDecl.jrag:88
+   */
+  protected Block toBlock() {
+    return getBlock().treeCopyNoTransform();
+  }
+  /**
+   * @aspect ReturnCompatible
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:60
+   */
+  public boolean noReturnsHasResult() {
+    ArrayList<ReturnStmt> returnList = lambdaReturns();
+    for (int i = 0; i < returnList.size(); i++) {
+      if (returnList.get(i).hasResult()) {
+        return false;
+      }
+    }
+    return true;
+  }
+  /**
+   * @aspect ReturnCompatible
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:70
+   */
+  public boolean allReturnsHasResult() {
+    ArrayList<ReturnStmt> returnList = lambdaReturns();
+    for (int i = 0; i < returnList.size(); i++) {
+      if (!returnList.get(i).hasResult()) {
+        return false;
+      }
+    }
+    return true;
+  }
+  /**
+   * @aspect Java8PrettyPrint
+   * @declaredat /root/project/java8/frontend/PrettyPrint.jadd:39
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getBlock());
+  }
+  /**
+   * @aspect PrettyPrintUtil8
+   * @declaredat /root/project/java8/frontend/PrettyPrintUtil.jadd:79
+   */
+  @Override public String toString() {
+    return "{ ... }";
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BlockLambdaBody() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public BlockLambdaBody(Block p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    isBlockBody_reset();
+    isExprBody_reset();
+    voidCompatible_reset();
+    valueCompatible_reset();
+    congruentTo_FunctionDescriptor_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+    BlockLambdaBody_lambdaReturns_computed = null;
+    BlockLambdaBody_lambdaReturns_value = null;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public BlockLambdaBody clone() throws CloneNotSupportedException {
+    BlockLambdaBody node = (BlockLambdaBody) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:47
+   */
+  public BlockLambdaBody copy() {
+    try {
+      BlockLambdaBody node = (BlockLambdaBody) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:66
+   */
+  @Deprecated
+  public BlockLambdaBody fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:76
+   */
+  public BlockLambdaBody treeCopyNoTransform() {
+    BlockLambdaBody tree = (BlockLambdaBody) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:96
+   */
+  public BlockLambdaBody treeCopy() {
+    BlockLambdaBody tree = (BlockLambdaBody) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:110
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Block child.
+   * @param node The new node to replace the Block child.
+   * @apilevel high-level
+   */
+  public void setBlock(Block node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Block child.
+   * @return The current node used as the Block child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Block")
+  public Block getBlock() {
+    return (Block) getChild(0);
+  }
+  /**
+   * Retrieves the Block child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Block child.
+   * @apilevel low-level
+   */
+  public Block getBlockNoTransform() {
+    return (Block) getChildNoTransform(0);
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:43")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "LambdaBody.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = getBlock().modifiedInScope(var);
+    state().trace().computeEnd(this, "LambdaBody.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /** @apilevel internal */
+  private void isBlockBody_reset() {
+    isBlockBody_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isBlockBody_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isBlockBody_value;
+
+  /**
+   * @attribute syn
+   * @aspect LambdaBody
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:29
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaBody", declaredAt="/root/project/java8/frontend/LambdaBody.jrag:29")
+  public boolean isBlockBody() {
+    ASTState state = state();
+    if (isBlockBody_computed == ASTState.NON_CYCLE || isBlockBody_computed == state().cycle()) {
+      state().trace().cacheRead(this, "LambdaBody.isBlockBody()", "", isBlockBody_value);
+      return isBlockBody_value;
+    }
+    state().trace().computeBegin(this, "LambdaBody.isBlockBody()", "", "");
+    isBlockBody_value = true;
+    state().trace().computeEnd(this, "LambdaBody.isBlockBody()", "", isBlockBody_value);
+    if (state().inCircle()) {
+      isBlockBody_computed = state().cycle();
+      state().trace().cacheWrite(this, "LambdaBody.isBlockBody()", "", isBlockBody_value);
+    } else {
+      isBlockBody_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "LambdaBody.isBlockBody()", "", isBlockBody_value);
+    }
+    return isBlockBody_value;
+  }
+  /** @apilevel internal */
+  private void isExprBody_reset() {
+    isExprBody_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isExprBody_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isExprBody_value;
+
+  /**
+   * @attribute syn
+   * @aspect LambdaBody
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:30
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaBody", declaredAt="/root/project/java8/frontend/LambdaBody.jrag:30")
+  public boolean isExprBody() {
+    ASTState state = state();
+    if (isExprBody_computed == ASTState.NON_CYCLE || isExprBody_computed == state().cycle()) {
+      state().trace().cacheRead(this, "LambdaBody.isExprBody()", "", isExprBody_value);
+      return isExprBody_value;
+    }
+    state().trace().computeBegin(this, "LambdaBody.isExprBody()", "", "");
+    isExprBody_value = false;
+    state().trace().computeEnd(this, "LambdaBody.isExprBody()", "", isExprBody_value);
+    if (state().inCircle()) {
+      isExprBody_computed = state().cycle();
+      state().trace().cacheWrite(this, "LambdaBody.isExprBody()", "", isExprBody_value);
+    } else {
+      isExprBody_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "LambdaBody.isExprBody()", "", isExprBody_value);
+    }
+    return isExprBody_value;
+  }
+  /** @apilevel internal */
+  private void voidCompatible_reset() {
+    voidCompatible_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle voidCompatible_computed = null;
+
+  /** @apilevel internal */
+  protected boolean voidCompatible_value;
+
+  /**
+   * @attribute syn
+   * @aspect ReturnCompatible
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:40
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReturnCompatible", declaredAt="/root/project/java8/frontend/LambdaBody.jrag:40")
+  public boolean voidCompatible() {
+    ASTState state = state();
+    if (voidCompatible_computed == ASTState.NON_CYCLE || voidCompatible_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BlockLambdaBody.voidCompatible()", "", voidCompatible_value);
+      return voidCompatible_value;
+    }
+    state().trace().computeBegin(this, "BlockLambdaBody.voidCompatible()", "", "");
+    voidCompatible_value = noReturnsHasResult();
+    state().trace().computeEnd(this, "BlockLambdaBody.voidCompatible()", "", voidCompatible_value);
+    if (state().inCircle()) {
+      voidCompatible_computed = state().cycle();
+      state().trace().cacheWrite(this, "BlockLambdaBody.voidCompatible()", "", voidCompatible_value);
+    } else {
+      voidCompatible_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BlockLambdaBody.voidCompatible()", "", voidCompatible_value);
+    }
+    return voidCompatible_value;
+  }
+  /** @apilevel internal */
+  private void valueCompatible_reset() {
+    valueCompatible_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle valueCompatible_computed = null;
+
+  /** @apilevel internal */
+  protected boolean valueCompatible_value;
+
+  /**
+   * @attribute syn
+   * @aspect ReturnCompatible
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReturnCompatible", declaredAt="/root/project/java8/frontend/LambdaBody.jrag:41")
+  public boolean valueCompatible() {
+    ASTState state = state();
+    if (valueCompatible_computed == ASTState.NON_CYCLE || valueCompatible_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BlockLambdaBody.valueCompatible()", "", valueCompatible_value);
+      return valueCompatible_value;
+    }
+    state().trace().computeBegin(this, "BlockLambdaBody.valueCompatible()", "", "");
+    valueCompatible_value = allReturnsHasResult() && !getBlock().canCompleteNormally();
+    state().trace().computeEnd(this, "BlockLambdaBody.valueCompatible()", "", valueCompatible_value);
+    if (state().inCircle()) {
+      valueCompatible_computed = state().cycle();
+      state().trace().cacheWrite(this, "BlockLambdaBody.valueCompatible()", "", valueCompatible_value);
+    } else {
+      valueCompatible_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BlockLambdaBody.valueCompatible()", "", valueCompatible_value);
+    }
+    return valueCompatible_value;
+  }
+  /** @apilevel internal */
+  private void congruentTo_FunctionDescriptor_reset() {
+    congruentTo_FunctionDescriptor_computed = new java.util.HashMap(4);
+    congruentTo_FunctionDescriptor_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map congruentTo_FunctionDescriptor_values;
+  /** @apilevel internal */
+  protected java.util.Map congruentTo_FunctionDescriptor_computed;
+  /**
+   * @attribute syn
+   * @aspect LambdaExpr
+   * @declaredat /root/project/java8/frontend/LambdaExpr.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaExpr", declaredAt="/root/project/java8/frontend/LambdaExpr.jrag:89")
+  public boolean congruentTo(FunctionDescriptor fd) {
+    Object _parameters = fd;
+    if (congruentTo_FunctionDescriptor_computed == null) congruentTo_FunctionDescriptor_computed = new java.util.HashMap(4);
+    if (congruentTo_FunctionDescriptor_values == null) congruentTo_FunctionDescriptor_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (congruentTo_FunctionDescriptor_values.containsKey(_parameters) && congruentTo_FunctionDescriptor_computed != null
+        && congruentTo_FunctionDescriptor_computed.containsKey(_parameters)
+        && (congruentTo_FunctionDescriptor_computed.get(_parameters) == ASTState.NON_CYCLE || congruentTo_FunctionDescriptor_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_values.get(_parameters));
+      return (Boolean) congruentTo_FunctionDescriptor_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, "");
+    boolean congruentTo_FunctionDescriptor_value = congruentTo_compute(fd);
+    state().trace().computeEnd(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    if (state().inCircle()) {
+      congruentTo_FunctionDescriptor_values.put(_parameters, congruentTo_FunctionDescriptor_value);
+      congruentTo_FunctionDescriptor_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    } else {
+      congruentTo_FunctionDescriptor_values.put(_parameters, congruentTo_FunctionDescriptor_value);
+      congruentTo_FunctionDescriptor_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    }
+    return congruentTo_FunctionDescriptor_value;
+  }
+  /** @apilevel internal */
+  private boolean congruentTo_compute(FunctionDescriptor fd) {
+      if (fd.method.hasValue()) {
+        TypeDecl methodType = fd.method.get().type();
+        if (methodType.isVoid()) {
+          return voidCompatible();
+        } else {
+          if (!valueCompatible()) {
+            return false;
+          }
+          for (ReturnStmt returnStmt : lambdaReturns()) {
+            if (!returnStmt.getResult().assignConversionTo(methodType)) {
+              return false;
+            }
+          }
+          return true;
+        }
+      } else {
+        return false;
+      }
+    }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:270
+      return false;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:271
+      return false;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:272
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:273
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:274
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:537
+   * @apilevel internal
+   */
+  public TypeDecl Define_returnType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java8/frontend/TypeCheck.jrag:39
+      {
+          TypeDecl decl = enclosingLambda().targetType();
+          if (decl == null) {
+            return unknownType();
+          } else if (!(decl instanceof InterfaceDecl)) {
+            return unknownType();
+          } else {
+            InterfaceDecl iDecl = (InterfaceDecl) decl;
+            if (!iDecl.isFunctional()) {
+              return unknownType();
+            } else {
+              FunctionDescriptor fd = iDecl.functionDescriptor();
+              if (fd.method.hasValue()) {
+                return fd.method.get().type();
+              } else {
+                return unknownType();
+              }
+            }
+          }
+        }
+    }
+    else {
+      return getParent().Define_returnType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_returnType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:49
+   * @apilevel internal
+   */
+  public boolean Define_reachable(ASTNode _callerNode, ASTNode _childNode) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java8/frontend/UnreachableStatements.jrag:29
+      return true;
+    }
+    else {
+      return getParent().Define_reachable(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_reachable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  /**
+   * @attribute coll
+   * @aspect ReturnCompatible
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.COLL)
+  @ASTNodeAnnotation.Source(aspect="ReturnCompatible", declaredAt="/root/project/java8/frontend/LambdaBody.jrag:50")
+  public ArrayList<ReturnStmt> lambdaReturns() {
+    ASTState state = state();
+    if (BlockLambdaBody_lambdaReturns_computed == ASTState.NON_CYCLE || BlockLambdaBody_lambdaReturns_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BlockLambdaBody.lambdaReturns()", "", BlockLambdaBody_lambdaReturns_value);
+      return BlockLambdaBody_lambdaReturns_value;
+    }
+    state().trace().computeBegin(this, "BlockLambdaBody.lambdaReturns()", "", "");
+    BlockLambdaBody_lambdaReturns_value = lambdaReturns_compute();
+    state().trace().computeEnd(this, "BlockLambdaBody.lambdaReturns()", "", BlockLambdaBody_lambdaReturns_value);
+    if (state().inCircle()) {
+      BlockLambdaBody_lambdaReturns_computed = state().cycle();
+      state().trace().cacheWrite(this, "BlockLambdaBody.lambdaReturns()", "", BlockLambdaBody_lambdaReturns_value);
+    } else {
+      BlockLambdaBody_lambdaReturns_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BlockLambdaBody.lambdaReturns()", "", BlockLambdaBody_lambdaReturns_value);
+    }
+    return BlockLambdaBody_lambdaReturns_value;
+  }
+  /** @apilevel internal */
+  private ArrayList<ReturnStmt> lambdaReturns_compute() {
+    ASTNode node = this;
+    while (node != null && !(node instanceof CompilationUnit)) {
+      node = node.getParent();
+    }
+    CompilationUnit root = (CompilationUnit) node;
+    root.survey_BlockLambdaBody_lambdaReturns();
+    ArrayList<ReturnStmt> _computedValue = new ArrayList<ReturnStmt>();
+    if (root.contributorMap_BlockLambdaBody_lambdaReturns.containsKey(this)) {
+      for (ASTNode contributor : root.contributorMap_BlockLambdaBody_lambdaReturns.get(this)) {
+        contributor.contributeTo_BlockLambdaBody_lambdaReturns(_computedValue);
+      }
+    }
+    return _computedValue;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle BlockLambdaBody_lambdaReturns_computed = null;
+
+  /** @apilevel internal */
+  protected ArrayList<ReturnStmt> BlockLambdaBody_lambdaReturns_value;
+
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java8/frontend/TypeCheck.jrag:207
+    if (!voidCompatible() && !valueCompatible()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (!voidCompatible() && !valueCompatible()) {
+      collection.add(error("Block lambda bodies must be either void or value compatible"));
+    }
+  }
+}
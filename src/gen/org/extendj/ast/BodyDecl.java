@@ -0,0 +1,1179 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:186
+ * @production BodyDecl : {@link ASTNode};
+
+ */
+public abstract class BodyDecl extends ASTNode<ASTNode> implements Cloneable {
+  /**
+   * @aspect DocumentationComments
+   * @declaredat /root/project/java4/frontend/DocumentationComments.jadd:36
+   */
+  public String docComment = "";
+  /**
+   * @aspect ReleaseBodies
+   * @declaredat /root/project/java4/frontend/ReleaseBodies.jadd:60
+   */
+  public void releaseBody() {
+  }
+  /**
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:314
+   */
+  public void generateMethod(DataOutputStream out, ConstantPool cp) throws IOException {
+  }
+  /**
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:338
+   */
+  public void touchMethod(ConstantPool cp) {
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BodyDecl() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    assignedAfter_Variable_reset();
+    assignedBefore_Variable_reset();
+    unassignedAfter_Variable_reset();
+    attributes_reset();
+    typeThrowable_reset();
+    lookupVariable_String_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public BodyDecl clone() throws CloneNotSupportedException {
+    BodyDecl node = (BodyDecl) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:48
+   */
+  @Deprecated
+  public abstract BodyDecl fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:56
+   */
+  public abstract BodyDecl treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:64
+   */
+  public abstract BodyDecl treeCopy();
+  /** @return {@code true} if the field declaration is inside this node. 
+   * @attribute syn
+   * @aspect DeclareBeforeUse
+   * @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DeclareBeforeUse", declaredAt="/root/project/java4/frontend/DeclareBeforeUse.jrag:46")
+  public boolean declaredIn(Variable decl) {
+    Object _parameters = decl;
+    state().trace().computeBegin(this, "BodyDecl.declaredIn(Variable)", _parameters, "");
+    boolean declaredIn_Variable_value = declaredBefore(decl);
+    state().trace().computeEnd(this, "BodyDecl.declaredIn(Variable)", _parameters, declaredIn_Variable_value);
+    return declaredIn_Variable_value;
+  }
+  /** @apilevel internal */
+  private void assignedAfter_Variable_reset() {
+    assignedAfter_Variable_values = null;
+  }
+  protected java.util.Map assignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:272")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    if (assignedAfter_Variable_values == null) assignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "BodyDecl.assignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "BodyDecl.assignedAfter(Variable)", _parameters, "");
+        new_assignedAfter_Variable_value = true;
+        state().trace().computeEnd(this, "BodyDecl.assignedAfter(Variable)", _parameters, _value.value);
+        if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfter_Variable_values.put(_parameters, new_assignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "BodyDecl.assignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "BodyDecl.assignedAfter(Variable)", _parameters, "");
+      boolean new_assignedAfter_Variable_value = true;
+      state().trace().computeEnd(this, "BodyDecl.assignedAfter(Variable)", _parameters, _value.value);
+      if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfter_Variable_value;
+      }
+      return new_assignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void assignedBefore_Variable_reset() {
+    assignedBefore_Variable_values = null;
+  }
+  protected java.util.Map assignedBefore_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:278")
+  public boolean assignedBefore(Variable v) {
+    Object _parameters = v;
+    if (assignedBefore_Variable_values == null) assignedBefore_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedBefore_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedBefore_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "BodyDecl.assignedBefore(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedBefore_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedBefore_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "BodyDecl.assignedBefore(Variable)", _parameters, "");
+        new_assignedBefore_Variable_value = assignedBefore(v, this);
+        state().trace().computeEnd(this, "BodyDecl.assignedBefore(Variable)", _parameters, _value.value);
+        if (new_assignedBefore_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedBefore_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedBefore_Variable_values.put(_parameters, new_assignedBefore_Variable_value);
+      state().trace().cacheWrite(this, "BodyDecl.assignedBefore(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedBefore_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "BodyDecl.assignedBefore(Variable)", _parameters, "");
+      boolean new_assignedBefore_Variable_value = assignedBefore(v, this);
+      state().trace().computeEnd(this, "BodyDecl.assignedBefore(Variable)", _parameters, _value.value);
+      if (new_assignedBefore_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedBefore_Variable_value;
+      }
+      return new_assignedBefore_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:911")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "BodyDecl.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "BodyDecl.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = true;
+        state().trace().computeEnd(this, "BodyDecl.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "BodyDecl.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "BodyDecl.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = true;
+      state().trace().computeEnd(this, "BodyDecl.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteUnassignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:917
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:917")
+  public boolean unassignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "BodyDecl.unassignedBefore(Variable)", _parameters, "");
+    boolean unassignedBefore_Variable_value = unassignedBefore(v, this);
+    state().trace().computeEnd(this, "BodyDecl.unassignedBefore(Variable)", _parameters, unassignedBefore_Variable_value);
+    return unassignedBefore_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DocumentationComments
+   * @declaredat /root/project/java4/frontend/DocumentationComments.jadd:42
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DocumentationComments", declaredAt="/root/project/java4/frontend/DocumentationComments.jadd:42")
+  public String docComment() {
+    state().trace().computeBegin(this, "BodyDecl.docComment()", "", "");
+    String docComment_value = docComment;
+    state().trace().computeEnd(this, "BodyDecl.docComment()", "", docComment_value);
+    return docComment_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DocumentationComments
+   * @declaredat /root/project/java4/frontend/DocumentationComments.jadd:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DocumentationComments", declaredAt="/root/project/java4/frontend/DocumentationComments.jadd:46")
+  public boolean hasDocComment() {
+    state().trace().computeBegin(this, "BodyDecl.hasDocComment()", "", "");
+    boolean hasDocComment_value = !docComment.isEmpty();
+    state().trace().computeEnd(this, "BodyDecl.hasDocComment()", "", hasDocComment_value);
+    return hasDocComment_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:729
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:729")
+  public boolean declaresType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "BodyDecl.declaresType(String)", _parameters, "");
+    boolean declaresType_String_value = false;
+    state().trace().computeEnd(this, "BodyDecl.declaresType(String)", _parameters, declaresType_String_value);
+    return declaresType_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:731
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:731")
+  public TypeDecl type(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "BodyDecl.type(String)", _parameters, "");
+    TypeDecl type_String_value = null;
+    state().trace().computeEnd(this, "BodyDecl.type(String)", _parameters, type_String_value);
+    return type_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:247
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:247")
+  public boolean isSynthetic() {
+    state().trace().computeBegin(this, "BodyDecl.isSynthetic()", "", "");
+    boolean isSynthetic_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isSynthetic()", "", isSynthetic_value);
+    return isSynthetic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:291
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:291")
+  public boolean isVoid() {
+    state().trace().computeBegin(this, "BodyDecl.isVoid()", "", "");
+    boolean isVoid_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isVoid()", "", isVoid_value);
+    return isVoid_value;
+  }
+  /** @apilevel internal */
+  private void attributes_reset() {
+    attributes_computed = null;
+    attributes_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle attributes_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<Attribute> attributes_value;
+
+  /**
+   * @attribute syn
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:274
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Attributes", declaredAt="/root/project/java4/backend/Attributes.jrag:274")
+  public Collection<Attribute> attributes() {
+    ASTState state = state();
+    if (attributes_computed == ASTState.NON_CYCLE || attributes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BodyDecl.attributes()", "", attributes_value);
+      return attributes_value;
+    }
+    state().trace().computeBegin(this, "BodyDecl.attributes()", "", "");
+    attributes_value = Collections.emptyList();
+    state().trace().computeEnd(this, "BodyDecl.attributes()", "", attributes_value);
+    if (state().inCircle()) {
+      attributes_computed = state().cycle();
+      state().trace().cacheWrite(this, "BodyDecl.attributes()", "", attributes_value);
+    } else {
+      attributes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BodyDecl.attributes()", "", attributes_value);
+    }
+    return attributes_value;
+  }
+  /**
+   * @return all fields declared in this body decl
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:401
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:401")
+  public Collection<FieldDeclarator> fieldDeclarations() {
+    state().trace().computeBegin(this, "BodyDecl.fieldDeclarations()", "", "");
+    Collection<FieldDeclarator> fieldDeclarations_value = Collections.emptyList();
+    state().trace().computeEnd(this, "BodyDecl.fieldDeclarations()", "", fieldDeclarations_value);
+    return fieldDeclarations_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:475
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:475")
+  public boolean isField() {
+    state().trace().computeBegin(this, "BodyDecl.isField()", "", "");
+    boolean isField_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isField()", "", isField_value);
+    return isField_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:479
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:479")
+  public boolean isMethodOrConstructor() {
+    state().trace().computeBegin(this, "BodyDecl.isMethodOrConstructor()", "", "");
+    boolean isMethodOrConstructor_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isMethodOrConstructor()", "", isMethodOrConstructor_value);
+    return isMethodOrConstructor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:425
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:425")
+  public boolean hasAnnotationSuppressWarnings(String annot) {
+    Object _parameters = annot;
+    state().trace().computeBegin(this, "BodyDecl.hasAnnotationSuppressWarnings(String)", _parameters, "");
+    boolean hasAnnotationSuppressWarnings_String_value = false;
+    state().trace().computeEnd(this, "BodyDecl.hasAnnotationSuppressWarnings(String)", _parameters, hasAnnotationSuppressWarnings_String_value);
+    return hasAnnotationSuppressWarnings_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:486
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:486")
+  public boolean isDeprecated() {
+    state().trace().computeBegin(this, "BodyDecl.isDeprecated()", "", "");
+    boolean isDeprecated_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isDeprecated()", "", isDeprecated_value);
+    return isDeprecated_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:50")
+  public boolean isEnumConstant() {
+    state().trace().computeBegin(this, "BodyDecl.isEnumConstant()", "", "");
+    boolean isEnumConstant_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isEnumConstant()", "", isEnumConstant_value);
+    return isEnumConstant_value;
+  }
+  /**
+   * Copies the signature of this body decl. The type and name and parameters
+   * are copied where applicable, but the body or initializer is not copied.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1436
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1436")
+  public BodyDecl signatureCopy() {
+    state().trace().computeBegin(this, "BodyDecl.signatureCopy()", "", "");
+    try {
+        throw new Error("Can not susbtitute type parameters in body decl of type "
+            + getClass().getSimpleName());
+      }
+    finally {
+      state().trace().computeEnd(this, "BodyDecl.signatureCopy()", "", "");
+    }
+  }
+  /**
+   * Creates an erased copy of the signature of this body declaration.
+   * 
+   * <p>Occurrences of type variables are replaced by their type bound.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1538
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1538")
+  public BodyDecl erasedCopy() {
+    state().trace().computeBegin(this, "BodyDecl.erasedCopy()", "", "");
+    try {
+        throw new Error("Can not erase types in body decl of type " + getClass().getSimpleName());
+      }
+    finally {
+      state().trace().computeEnd(this, "BodyDecl.erasedCopy()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1734
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1734")
+  public boolean isSubstitutable() {
+    state().trace().computeBegin(this, "BodyDecl.isSubstitutable()", "", "");
+    boolean isSubstitutable_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isSubstitutable()", "", isSubstitutable_value);
+    return isSubstitutable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsParTypeDecl
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:98
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsParTypeDecl", declaredAt="/root/project/java5/frontend/GenericsParTypeDecl.jrag:98")
+  public boolean visibleTypeParameters() {
+    state().trace().computeBegin(this, "BodyDecl.visibleTypeParameters()", "", "");
+    boolean visibleTypeParameters_value = true;
+    state().trace().computeEnd(this, "BodyDecl.visibleTypeParameters()", "", visibleTypeParameters_value);
+    return visibleTypeParameters_value;
+  }
+  /**
+   * @return {@code true} if this is a generic method or constructor, or a
+   * substitued generic method or constructor.
+   * @attribute syn
+   * @aspect MethodSignature15
+   * @declaredat /root/project/java5/frontend/MethodSignature.jrag:415
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature15", declaredAt="/root/project/java5/frontend/MethodSignature.jrag:415")
+  public boolean isGeneric() {
+    state().trace().computeBegin(this, "BodyDecl.isGeneric()", "", "");
+    boolean isGeneric_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isGeneric()", "", isGeneric_value);
+    return isGeneric_value;
+  }
+  /**
+   * Note: isGeneric must be called first to check if this declaration is generic.
+   * Otherwise this attribute will throw an error!
+   * @return type parameters for this declaration.
+   * @attribute syn
+   * @aspect MethodSignature15
+   * @declaredat /root/project/java5/frontend/MethodSignature.jrag:450
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature15", declaredAt="/root/project/java5/frontend/MethodSignature.jrag:450")
+  public List<TypeVariable> typeParameters() {
+    state().trace().computeBegin(this, "BodyDecl.typeParameters()", "", "");
+    try {
+        throw new Error("can not evaulate type parameters for non-generic declaration");
+      }
+    finally {
+      state().trace().computeEnd(this, "BodyDecl.typeParameters()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:436
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:436")
+  public boolean needsSignatureAttribute() {
+    state().trace().computeBegin(this, "BodyDecl.needsSignatureAttribute()", "", "");
+    boolean needsSignatureAttribute_value = false;
+    state().trace().computeEnd(this, "BodyDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    return needsSignatureAttribute_value;
+  }
+  /**
+   * @return true if the modifier list includes the SafeVarargs annotation
+   * @attribute syn
+   * @aspect SafeVarargs
+   * @declaredat /root/project/java7/frontend/SafeVarargs.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SafeVarargs", declaredAt="/root/project/java7/frontend/SafeVarargs.jrag:41")
+  public boolean hasAnnotationSafeVarargs() {
+    state().trace().computeBegin(this, "BodyDecl.hasAnnotationSafeVarargs()", "", "");
+    boolean hasAnnotationSafeVarargs_value = false;
+    state().trace().computeEnd(this, "BodyDecl.hasAnnotationSafeVarargs()", "", hasAnnotationSafeVarargs_value);
+    return hasAnnotationSafeVarargs_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect SafeVarargs
+   * @declaredat /root/project/java7/frontend/SafeVarargs.jrag:93
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SafeVarargs", declaredAt="/root/project/java7/frontend/SafeVarargs.jrag:93")
+  public Collection<Problem> safeVarargsProblems() {
+    state().trace().computeBegin(this, "BodyDecl.safeVarargsProblems()", "", "");
+    try {
+        if (hasAnnotationSafeVarargs()) {
+          return Collections.singleton(error(
+                "the @SafeVarargs annotation is only allowed on constructor or method declarations."));
+        } else {
+          return Collections.emptySet();
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "BodyDecl.safeVarargsProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:40
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:40")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "BodyDecl.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = false;
+    state().trace().computeEnd(this, "BodyDecl.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @return {@code true} if this method is a substituted method declaration with
+   * the source declaration being identical to the given method.
+   * @attribute syn
+   * @aspect LambdaParametersInference
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:565
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaParametersInference", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:565")
+  public boolean isSubstitutionOf(MethodDecl method) {
+    Object _parameters = method;
+    state().trace().computeBegin(this, "BodyDecl.isSubstitutionOf(MethodDecl)", _parameters, "");
+    boolean isSubstitutionOf_MethodDecl_value = false;
+    state().trace().computeEnd(this, "BodyDecl.isSubstitutionOf(MethodDecl)", _parameters, isSubstitutionOf_MethodDecl_value);
+    return isSubstitutionOf_MethodDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:280
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:280")
+  public boolean assignedBefore(Variable v, BodyDecl b) {
+    Object _parameters = java.util.Arrays.asList(v, b);
+    state().trace().computeBegin(this, "BodyDecl.assignedBefore(Variable,BodyDecl)", _parameters, "");
+    boolean assignedBefore_Variable_BodyDecl_value = getParent().Define_assignedBefore(this, null, v, b);
+    state().trace().computeEnd(this, "BodyDecl.assignedBefore(Variable,BodyDecl)", _parameters, assignedBefore_Variable_BodyDecl_value);
+    return assignedBefore_Variable_BodyDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteUnassignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:923
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:923")
+  public boolean unassignedBefore(Variable v, BodyDecl b) {
+    Object _parameters = java.util.Arrays.asList(v, b);
+    state().trace().computeBegin(this, "BodyDecl.unassignedBefore(Variable,BodyDecl)", _parameters, "");
+    boolean unassignedBefore_Variable_BodyDecl_value = getParent().Define_unassignedBefore(this, null, v, b);
+    state().trace().computeEnd(this, "BodyDecl.unassignedBefore(Variable,BodyDecl)", _parameters, unassignedBefore_Variable_BodyDecl_value);
+    return unassignedBefore_Variable_BodyDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:60")
+  public TypeDecl typeThrowable() {
+    ASTState state = state();
+    if (typeThrowable_computed == ASTState.NON_CYCLE || typeThrowable_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BodyDecl.typeThrowable()", "", typeThrowable_value);
+      return typeThrowable_value;
+    }
+    state().trace().computeBegin(this, "BodyDecl.typeThrowable()", "", "");
+    typeThrowable_value = getParent().Define_typeThrowable(this, null);
+    state().trace().computeEnd(this, "BodyDecl.typeThrowable()", "", typeThrowable_value);
+    if (state().inCircle()) {
+      typeThrowable_computed = state().cycle();
+      state().trace().cacheWrite(this, "BodyDecl.typeThrowable()", "", typeThrowable_value);
+    } else {
+      typeThrowable_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BodyDecl.typeThrowable()", "", typeThrowable_value);
+    }
+    return typeThrowable_value;
+  }
+  /** @apilevel internal */
+  private void typeThrowable_reset() {
+    typeThrowable_computed = null;
+    typeThrowable_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeThrowable_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeThrowable_value;
+
+  /**
+   * Find all visible methods with the given name in the local scope.
+   * @attribute inh
+   * @aspect LookupMethod
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:121
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupMethod", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:121")
+  public Collection<MethodDecl> lookupMethod(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "BodyDecl.lookupMethod(String)", _parameters, "");
+    Collection<MethodDecl> lookupMethod_String_value = getParent().Define_lookupMethod(this, null, name);
+    state().trace().computeEnd(this, "BodyDecl.lookupMethod(String)", _parameters, lookupMethod_String_value);
+    return lookupMethod_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:132
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:132")
+  public TypeDecl lookupType(String packageName, String typeName) {
+    Object _parameters = java.util.Arrays.asList(packageName, typeName);
+    state().trace().computeBegin(this, "BodyDecl.lookupType(String,String)", _parameters, "");
+    TypeDecl lookupType_String_String_value = getParent().Define_lookupType(this, null, packageName, typeName);
+    state().trace().computeEnd(this, "BodyDecl.lookupType(String,String)", _parameters, lookupType_String_String_value);
+    return lookupType_String_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:470
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:470")
+  public SimpleSet<TypeDecl> lookupType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "BodyDecl.lookupType(String)", _parameters, "");
+    SimpleSet<TypeDecl> lookupType_String_value = getParent().Define_lookupType(this, null, name);
+    state().trace().computeEnd(this, "BodyDecl.lookupType(String)", _parameters, lookupType_String_value);
+    return lookupType_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:39")
+  public SimpleSet<Variable> lookupVariable(String name) {
+    Object _parameters = name;
+    if (lookupVariable_String_computed == null) lookupVariable_String_computed = new java.util.HashMap(4);
+    if (lookupVariable_String_values == null) lookupVariable_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupVariable_String_values.containsKey(_parameters) && lookupVariable_String_computed != null
+        && lookupVariable_String_computed.containsKey(_parameters)
+        && (lookupVariable_String_computed.get(_parameters) == ASTState.NON_CYCLE || lookupVariable_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "BodyDecl.lookupVariable(String)", _parameters, lookupVariable_String_values.get(_parameters));
+      return (SimpleSet<Variable>) lookupVariable_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "BodyDecl.lookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> lookupVariable_String_value = getParent().Define_lookupVariable(this, null, name);
+    state().trace().computeEnd(this, "BodyDecl.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    if (state().inCircle()) {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "BodyDecl.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    } else {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "BodyDecl.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    }
+    return lookupVariable_String_value;
+  }
+  /** @apilevel internal */
+  private void lookupVariable_String_reset() {
+    lookupVariable_String_computed = new java.util.HashMap(4);
+    lookupVariable_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_computed;
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:678
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:678")
+  public String hostPackage() {
+    state().trace().computeBegin(this, "BodyDecl.hostPackage()", "", "");
+    String hostPackage_value = getParent().Define_hostPackage(this, null);
+    state().trace().computeEnd(this, "BodyDecl.hostPackage()", "", hostPackage_value);
+    return hostPackage_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:694
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:694")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "BodyDecl.hostType()", "", "");
+    TypeDecl hostType_value = getParent().Define_hostType(this, null);
+    state().trace().computeEnd(this, "BodyDecl.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:402
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:402")
+  public boolean withinSuppressWarnings(String annot) {
+    Object _parameters = annot;
+    state().trace().computeBegin(this, "BodyDecl.withinSuppressWarnings(String)", _parameters, "");
+    boolean withinSuppressWarnings_String_value = getParent().Define_withinSuppressWarnings(this, null, annot);
+    state().trace().computeEnd(this, "BodyDecl.withinSuppressWarnings(String)", _parameters, withinSuppressWarnings_String_value);
+    return withinSuppressWarnings_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:533
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:533")
+  public boolean withinDeprecatedAnnotation() {
+    state().trace().computeBegin(this, "BodyDecl.withinDeprecatedAnnotation()", "", "");
+    boolean withinDeprecatedAnnotation_value = getParent().Define_withinDeprecatedAnnotation(this, null);
+    state().trace().computeEnd(this, "BodyDecl.withinDeprecatedAnnotation()", "", withinDeprecatedAnnotation_value);
+    return withinDeprecatedAnnotation_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:230
+   * @apilevel internal
+   */
+  public Stmt Define_branchTarget(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new Error("Found no branch targets for " + branch.getClass().getName());
+      }
+  }
+  protected boolean canDefine_branchTarget(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:273
+   * @apilevel internal
+   */
+  public FinallyHost Define_enclosingFinally(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_enclosingFinally(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return assignedBefore(v, this);
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unassignedBefore(v, this);
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:682
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_otherLocalClassDecls(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return emptySet();
+  }
+  protected boolean canDefine_otherLocalClassDecls(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:86
+   * @apilevel internal
+   */
+  public boolean Define_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:101
+   * @apilevel internal
+   */
+  public boolean Define_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:118
+   * @apilevel internal
+   */
+  public Expr Define_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return prevExprError();
+  }
+  protected boolean canDefine_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:142
+   * @apilevel internal
+   */
+  public Access Define_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return nextAccessError();
+  }
+  protected boolean canDefine_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:541
+   * @apilevel internal
+   */
+  public boolean Define_canResolve(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return true;
+  }
+  protected boolean canDefine_canResolve(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:30
+   * @apilevel internal
+   */
+  public BodyDecl Define_enclosingBodyDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return this;
+  }
+  protected boolean canDefine_enclosingBodyDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1935
+   * @apilevel internal
+   */
+  public boolean Define_leavesMonitor(ASTNode _callerNode, ASTNode _childNode, Stmt branch, SynchronizedStmt monitor) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new Error("Enclosing monitor not found!");
+      }
+  }
+  protected boolean canDefine_leavesMonitor(ASTNode _callerNode, ASTNode _childNode, Stmt branch, SynchronizedStmt monitor) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:95
+   * @apilevel internal
+   */
+  public boolean Define_inComplexAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inComplexAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/SuppressWarnings.jrag:37
+   * @apilevel internal
+   */
+  public boolean Define_withinSuppressWarnings(ASTNode _callerNode, ASTNode _childNode, String annot) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return hasAnnotationSuppressWarnings(annot)
+          || hasAnnotationSuppressWarnings(annot)
+          || withinSuppressWarnings(annot);
+  }
+  protected boolean canDefine_withinSuppressWarnings(ASTNode _callerNode, ASTNode _childNode, String annot) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:533
+   * @apilevel internal
+   */
+  public boolean Define_withinDeprecatedAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return isDeprecated() || isDeprecated() || withinDeprecatedAnnotation();
+  }
+  protected boolean canDefine_withinDeprecatedAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Enums.jrag:130
+   * @apilevel internal
+   */
+  public boolean Define_isOriginalEnumConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isOriginalEnumConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:99
+   * @apilevel internal
+   */
+  public ClassInstanceExpr Define_getClassInstanceExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_getClassInstanceExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/TryWithResources.jrag:178
+   * @apilevel internal
+   */
+  public boolean Define_resourcePreviouslyDeclared(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int i = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_resourcePreviouslyDeclared(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java7/frontend/SafeVarargs.jrag:91
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : safeVarargsProblems()) {
+      collection.add(value);
+    }
+  }
+}
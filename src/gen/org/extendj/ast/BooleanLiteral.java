@@ -0,0 +1,369 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * Represents a Java boolean value: either {@code true} or {@code false}.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Literals.ast:10
+ * @production BooleanLiteral : {@link Literal};
+
+ */
+public class BooleanLiteral extends Literal implements Cloneable {
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:66
+   */
+  public BooleanLiteral(boolean b) {
+    this(b ? "true" : "false");
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:107
+   */
+  public static void push(CodeGeneration gen, boolean value) {
+    gen.ICONST(value);
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:149
+   */
+  public void emitPushConstant(CodeGeneration gen) {
+    BooleanLiteral.push(gen, constant().booleanValue());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BooleanLiteral() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public BooleanLiteral(String p0) {
+    setLITERAL(p0);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public BooleanLiteral(beaver.Symbol p0) {
+    setLITERAL(p0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    constant_reset();
+    type_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public BooleanLiteral clone() throws CloneNotSupportedException {
+    BooleanLiteral node = (BooleanLiteral) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public BooleanLiteral copy() {
+    try {
+      BooleanLiteral node = (BooleanLiteral) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:63
+   */
+  @Deprecated
+  public BooleanLiteral fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:73
+   */
+  public BooleanLiteral treeCopyNoTransform() {
+    BooleanLiteral tree = (BooleanLiteral) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:93
+   */
+  public BooleanLiteral treeCopy() {
+    BooleanLiteral tree = (BooleanLiteral) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:107
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_LITERAL == ((BooleanLiteral) node).tokenString_LITERAL);    
+  }
+  /**
+   * Replaces the lexeme LITERAL.
+   * @param value The new value for the lexeme LITERAL.
+   * @apilevel high-level
+   */
+  public void setLITERAL(String value) {
+    tokenString_LITERAL = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme LITERAL using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme LITERAL
+   * @apilevel internal
+   */
+  public void setLITERAL(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setLITERAL is only valid for String lexemes");
+    tokenString_LITERAL = (String)symbol.value;
+    LITERALstart = symbol.getStart();
+    LITERALend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme LITERAL.
+   * @return The value for the lexeme LITERAL.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="LITERAL")
+  public String getLITERAL() {
+    return tokenString_LITERAL != null ? tokenString_LITERAL : "";
+  }
+  /** @apilevel internal */
+  private void constant_reset() {
+    constant_computed = null;
+    constant_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constant_computed = null;
+
+  /** @apilevel internal */
+  protected Constant constant_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:38")
+  public Constant constant() {
+    ASTState state = state();
+    if (constant_computed == ASTState.NON_CYCLE || constant_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Literal.constant()", "", constant_value);
+      return constant_value;
+    }
+    state().trace().computeBegin(this, "Literal.constant()", "", "");
+    constant_value = Constant.create(Boolean.valueOf(getLITERAL()).booleanValue());
+    state().trace().computeEnd(this, "Literal.constant()", "", constant_value);
+    if (state().inCircle()) {
+      constant_computed = state().cycle();
+      state().trace().cacheWrite(this, "Literal.constant()", "", constant_value);
+    } else {
+      constant_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Literal.constant()", "", constant_value);
+    }
+    return constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:435
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:435")
+  public boolean isTrue() {
+    state().trace().computeBegin(this, "Expr.isTrue()", "", "");
+    boolean isTrue_value = constant().booleanValue();
+    state().trace().computeEnd(this, "Expr.isTrue()", "", isTrue_value);
+    return isTrue_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:438
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:438")
+  public boolean isFalse() {
+    state().trace().computeBegin(this, "Expr.isFalse()", "", "");
+    boolean isFalse_value = !constant().booleanValue();
+    state().trace().computeEnd(this, "Expr.isFalse()", "", isFalse_value);
+    return isFalse_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = typeBoolean();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,741 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:168
+ * @production BooleanType : {@link PrimitiveType};
+
+ */
+public class BooleanType extends PrimitiveType implements Cloneable {
+  /**
+   * @aspect JavaDLInfo
+   * @declaredat /root/project/java4/frontend/JavaDLInfo.jrag:136
+   */
+  public boolean numberPrimitiveType(Map<ASTNode, Long> nodeToId) {
+		doNodeNumberingNTA(100, nodeToId);
+		return true;
+	}
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:116
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("boolean");
+  }
+  /**
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:121
+   */
+  public int addConstant(ConstantPool p, Constant c) {
+    return p.addConstant(c.booleanValue() ? 1 : 0);
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:197
+   */
+  public void emitArrayLoad(CodeGeneration gen)   { gen.BALOAD(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:267
+   */
+  public void emitArrayStore(CodeGeneration gen)    { gen.BASTORE(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:491
+   */
+  void logNot(CodeGeneration gen) { gen.ICONST(1); gen.IXOR(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:538
+   */
+  void bitand(CodeGeneration gen)  { gen.IAND(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:543
+   */
+  void bitor(CodeGeneration gen)  { gen.IOR(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:548
+   */
+  void bitxor(CodeGeneration gen)  { gen.IXOR(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:605
+   */
+  public void branchEQ(CodeGeneration gen, int label)   { gen.IF_ICMPEQ(label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:616
+   */
+  public void branchNE(CodeGeneration gen, int label)   { gen.IF_ICMPNE(label); }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:245
+   */
+  public int addAnnotConstant(ConstantPool p, Constant c)  {
+    return addConstant(p, c);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BooleanType() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+    setChild(new List(), 1);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public BooleanType(Modifiers p0, String p1, List<BodyDecl> p2) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+  }
+  /**
+   * @declaredat ASTNode:19
+   */
+  public BooleanType(Modifiers p0, beaver.Symbol p1, List<BodyDecl> p2) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:25
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:31
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    typeDescriptor_reset();
+    jvmName_reset();
+    verificationType_reset();
+    boxed_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:43
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:47
+   */
+  public BooleanType clone() throws CloneNotSupportedException {
+    BooleanType node = (BooleanType) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:52
+   */
+  public BooleanType copy() {
+    try {
+      BooleanType node = (BooleanType) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:71
+   */
+  @Deprecated
+  public BooleanType fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:81
+   */
+  public BooleanType treeCopyNoTransform() {
+    BooleanType tree = (BooleanType) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:101
+   */
+  public BooleanType treeCopy() {
+    BooleanType tree = (BooleanType) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:115
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((BooleanType) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the BodyDecl list.
+   * @param list The new list node to be used as the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void setBodyDeclList(List<BodyDecl> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="BodyDecl")
+  public List<BodyDecl> getBodyDeclList() {
+    List<BodyDecl> list = (List<BodyDecl>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:36
+   */
+    void emitCastTo(CodeGeneration gen, TypeDecl type) {
+    // For a well-typed expression, the target type will be either
+    // java.lang.Boolean or BooleanType, so we use type equality to
+    // determine if a boxing operation is needed.
+    if (type != this) {
+      boxed().emitBoxingOperation(gen);
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:95
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:95")
+  public Constant cast(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.cast(Constant)", _parameters, "");
+    Constant cast_Constant_value = Constant.create(c.booleanValue());
+    state().trace().computeEnd(this, "TypeDecl.cast(Constant)", _parameters, cast_Constant_value);
+    return cast_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:257
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:257")
+  public Constant andBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.andBitwise(Constant,Constant)", _parameters, "");
+    Constant andBitwise_Constant_Constant_value = Constant.create(c1.booleanValue() & c2.booleanValue());
+    state().trace().computeEnd(this, "TypeDecl.andBitwise(Constant,Constant)", _parameters, andBitwise_Constant_Constant_value);
+    return andBitwise_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:271
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:271")
+  public Constant xorBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.xorBitwise(Constant,Constant)", _parameters, "");
+    Constant xorBitwise_Constant_Constant_value = Constant.create(c1.booleanValue() ^ c2.booleanValue());
+    state().trace().computeEnd(this, "TypeDecl.xorBitwise(Constant,Constant)", _parameters, xorBitwise_Constant_Constant_value);
+    return xorBitwise_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:285
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:285")
+  public Constant orBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.orBitwise(Constant,Constant)", _parameters, "");
+    Constant orBitwise_Constant_Constant_value = Constant.create(c1.booleanValue() | c2.booleanValue());
+    state().trace().computeEnd(this, "TypeDecl.orBitwise(Constant,Constant)", _parameters, orBitwise_Constant_Constant_value);
+    return orBitwise_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:299
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:299")
+  public Constant questionColon(Constant cond, Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(cond, c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.questionColon(Constant,Constant,Constant)", _parameters, "");
+    Constant questionColon_Constant_Constant_Constant_value = Constant.create(cond.booleanValue() ? c1.booleanValue() : c2.booleanValue());
+    state().trace().computeEnd(this, "TypeDecl.questionColon(Constant,Constant,Constant)", _parameters, questionColon_Constant_Constant_Constant_value);
+    return questionColon_Constant_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:499
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:499")
+  public boolean eqIsTrue(Expr left, Expr right) {
+    Object _parameters = java.util.Arrays.asList(left, right);
+    state().trace().computeBegin(this, "TypeDecl.eqIsTrue(Expr,Expr)", _parameters, "");
+    boolean eqIsTrue_Expr_Expr_value = left.isTrue() && right.isTrue() || left.isFalse() && right.isFalse();
+    state().trace().computeEnd(this, "TypeDecl.eqIsTrue(Expr,Expr)", _parameters, eqIsTrue_Expr_Expr_value);
+    return eqIsTrue_Expr_Expr_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:194
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:194")
+  public boolean isBoolean() {
+    state().trace().computeBegin(this, "TypeDecl.isBoolean()", "", "");
+    boolean isBoolean_value = true;
+    state().trace().computeEnd(this, "TypeDecl.isBoolean()", "", isBoolean_value);
+    return isBoolean_value;
+  }
+  /** @apilevel internal */
+  private void typeDescriptor_reset() {
+    typeDescriptor_computed = null;
+    typeDescriptor_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeDescriptor_computed = null;
+
+  /** @apilevel internal */
+  protected String typeDescriptor_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:78")
+  public String typeDescriptor() {
+    ASTState state = state();
+    if (typeDescriptor_computed == ASTState.NON_CYCLE || typeDescriptor_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+      return typeDescriptor_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeDescriptor()", "", "");
+    typeDescriptor_value = "Z";
+    state().trace().computeEnd(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    if (state().inCircle()) {
+      typeDescriptor_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    } else {
+      typeDescriptor_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    }
+    return typeDescriptor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1004
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1004")
+  public int arrayPrimitiveTypeDescriptor() {
+    state().trace().computeBegin(this, "TypeDecl.arrayPrimitiveTypeDescriptor()", "", "");
+    int arrayPrimitiveTypeDescriptor_value = 4;
+    state().trace().computeEnd(this, "TypeDecl.arrayPrimitiveTypeDescriptor()", "", arrayPrimitiveTypeDescriptor_value);
+    return arrayPrimitiveTypeDescriptor_value;
+  }
+  /** @apilevel internal */
+  private void jvmName_reset() {
+    jvmName_computed = null;
+    jvmName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle jvmName_computed = null;
+
+  /** @apilevel internal */
+  protected String jvmName_value;
+
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:37
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:37")
+  public String jvmName() {
+    ASTState state = state();
+    if (jvmName_computed == ASTState.NON_CYCLE || jvmName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.jvmName()", "", jvmName_value);
+      return jvmName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.jvmName()", "", "");
+    jvmName_value = "Z";
+    state().trace().computeEnd(this, "TypeDecl.jvmName()", "", jvmName_value);
+    if (state().inCircle()) {
+      jvmName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.jvmName()", "", jvmName_value);
+    } else {
+      jvmName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.jvmName()", "", jvmName_value);
+    }
+    return jvmName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:75
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:75")
+  public String primitiveClassName() {
+    state().trace().computeBegin(this, "TypeDecl.primitiveClassName()", "", "");
+    String primitiveClassName_value = "Boolean";
+    state().trace().computeEnd(this, "TypeDecl.primitiveClassName()", "", primitiveClassName_value);
+    return primitiveClassName_value;
+  }
+  /** @apilevel internal */
+  private void verificationType_reset() {
+    verificationType_computed = null;
+    verificationType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle verificationType_computed = null;
+
+  /** @apilevel internal */
+  protected VerificationType verificationType_value;
+
+  /**
+   * @attribute syn
+   * @aspect VerificationTypes
+   * @declaredat /root/project/java4/backend/VerificationTypes.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VerificationTypes", declaredAt="/root/project/java4/backend/VerificationTypes.jrag:41")
+  public VerificationType verificationType() {
+    ASTState state = state();
+    if (verificationType_computed == ASTState.NON_CYCLE || verificationType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.verificationType()", "", verificationType_value);
+      return verificationType_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.verificationType()", "", "");
+    verificationType_value = VerificationTypes.INT;
+    state().trace().computeEnd(this, "TypeDecl.verificationType()", "", verificationType_value);
+    if (state().inCircle()) {
+      verificationType_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.verificationType()", "", verificationType_value);
+    } else {
+      verificationType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.verificationType()", "", verificationType_value);
+    }
+    return verificationType_value;
+  }
+  /** @apilevel internal */
+  private void boxed_reset() {
+    boxed_computed = null;
+    boxed_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle boxed_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl boxed_value;
+
+  /** Mapping between Primitive type and corresponding boxed Reference type. 
+   * @attribute syn
+   * @aspect AutoBoxing
+   * @declaredat /root/project/java5/frontend/AutoBoxing.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AutoBoxing", declaredAt="/root/project/java5/frontend/AutoBoxing.jrag:53")
+  public TypeDecl boxed() {
+    ASTState state = state();
+    if (boxed_computed == ASTState.NON_CYCLE || boxed_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.boxed()", "", boxed_value);
+      return boxed_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.boxed()", "", "");
+    boxed_value = lookupType("java.lang", "Boolean");
+    state().trace().computeEnd(this, "TypeDecl.boxed()", "", boxed_value);
+    if (state().inCircle()) {
+      boxed_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.boxed()", "", boxed_value);
+    } else {
+      boxed_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.boxed()", "", boxed_value);
+    }
+    return boxed_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
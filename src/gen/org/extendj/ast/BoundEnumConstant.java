@@ -0,0 +1,320 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Enums.ast:8
+ * @production BoundEnumConstant : {@link VarAccess} ::= <span class="component">&lt;EnumConstant:EnumConstant&gt;</span>;
+
+ */
+public class BoundEnumConstant extends VarAccess implements Cloneable {
+  /**
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:427
+   */
+  public boolean isExactVarAccess() {
+    return false;
+  }
+  /**
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:431
+   */
+  public BoundEnumConstant(EnumConstant c) {
+    this(c.name(), c);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BoundEnumConstant() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public BoundEnumConstant(String p0, EnumConstant p1) {
+    setID(p0);
+    setEnumConstant(p1);
+  }
+  /**
+   * @declaredat ASTNode:16
+   */
+  public BoundEnumConstant(beaver.Symbol p0, EnumConstant p1) {
+    setID(p0);
+    setEnumConstant(p1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:21
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:27
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:31
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    decl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:40
+   */
+  public BoundEnumConstant clone() throws CloneNotSupportedException {
+    BoundEnumConstant node = (BoundEnumConstant) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:45
+   */
+  public BoundEnumConstant copy() {
+    try {
+      BoundEnumConstant node = (BoundEnumConstant) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:64
+   */
+  @Deprecated
+  public BoundEnumConstant fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:74
+   */
+  public BoundEnumConstant treeCopyNoTransform() {
+    BoundEnumConstant tree = (BoundEnumConstant) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:94
+   */
+  public BoundEnumConstant treeCopy() {
+    BoundEnumConstant tree = (BoundEnumConstant) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:108
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((BoundEnumConstant) node).tokenString_ID) && (tokenEnumConstant_EnumConstant == ((BoundEnumConstant) node).tokenEnumConstant_EnumConstant);    
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the lexeme EnumConstant.
+   * @param value The new value for the lexeme EnumConstant.
+   * @apilevel high-level
+   */
+  public void setEnumConstant(EnumConstant value) {
+    tokenEnumConstant_EnumConstant = value;
+  }
+  /** @apilevel internal 
+   */
+  protected EnumConstant tokenEnumConstant_EnumConstant;
+  /**
+   * Retrieves the value for the lexeme EnumConstant.
+   * @return The value for the lexeme EnumConstant.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="EnumConstant")
+  public EnumConstant getEnumConstant() {
+    return tokenEnumConstant_EnumConstant;
+  }
+  /** @apilevel internal */
+  private void decl_reset() {
+    decl_computed = null;
+    decl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle decl_computed = null;
+
+  /** @apilevel internal */
+  protected Variable decl_value;
+
+  /**
+   * @attribute syn
+   * @aspect VariableScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:405
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScopePropagation", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:405")
+  public Variable decl() {
+    ASTState state = state();
+    if (decl_computed == ASTState.NON_CYCLE || decl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VarAccess.decl()", "", decl_value);
+      return decl_value;
+    }
+    state().trace().computeBegin(this, "VarAccess.decl()", "", "");
+    decl_value = getEnumConstant();
+    state().trace().computeEnd(this, "VarAccess.decl()", "", decl_value);
+    if (state().inCircle()) {
+      decl_computed = state().cycle();
+      state().trace().cacheWrite(this, "VarAccess.decl()", "", decl_value);
+    } else {
+      decl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VarAccess.decl()", "", decl_value);
+    }
+    return decl_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,472 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/BoundNames.ast:3
+ * @production BoundMethodAccess : {@link MethodAccess};
+
+ */
+public class BoundMethodAccess extends MethodAccess implements Cloneable {
+  /**
+   * A BoundMethodAccess is a MethodAccess where the name analysis is bypassed
+   * by explicitly setting the desired binding. This is useful when name
+   * binding is cached and recomputation is undesired.
+   * 
+   * <p>Specifying the hostType changes the target qualifier type which is used
+   * to invoke the bound method.
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:68
+   */
+  public BoundMethodAccess(String name, List args, MethodDecl methodDecl,
+      TypeDecl hostType) {
+    this(name, args);
+    this.methodDecl = methodDecl;
+    this.boundHostType = hostType;
+  }
+  /**
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:75
+   */
+  public BoundMethodAccess(String name, List args, MethodDecl methodDecl) {
+    this(name, args, methodDecl, methodDecl.hostType());
+  }
+  /**
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:79
+   */
+  private MethodDecl methodDecl;
+  /**
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:81
+   */
+  private TypeDecl boundHostType;
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:113
+   */
+  @Override public String toString() {
+    return methodDecl.toString();
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BoundMethodAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+    setChild(new List(), 0);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public BoundMethodAccess(String p0, List<Expr> p1) {
+    setID(p0);
+    setChild(p1, 0);
+  }
+  /**
+   * @declaredat ASTNode:18
+   */
+  public BoundMethodAccess(beaver.Symbol p0, List<Expr> p1) {
+    setID(p0);
+    setChild(p1, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:23
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:29
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    decl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public BoundMethodAccess clone() throws CloneNotSupportedException {
+    BoundMethodAccess node = (BoundMethodAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:47
+   */
+  public BoundMethodAccess copy() {
+    try {
+      BoundMethodAccess node = (BoundMethodAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:66
+   */
+  @Deprecated
+  public BoundMethodAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:76
+   */
+  public BoundMethodAccess treeCopyNoTransform() {
+    BoundMethodAccess tree = (BoundMethodAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:96
+   */
+  public BoundMethodAccess treeCopy() {
+    BoundMethodAccess tree = (BoundMethodAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:110
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((BoundMethodAccess) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the Arg list.
+   * @param list The new list node to be used as the Arg list.
+   * @apilevel high-level
+   */
+  public void setArgList(List<Expr> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the Arg list.
+   * @return Number of children in the Arg list.
+   * @apilevel high-level
+   */
+  public int getNumArg() {
+    return getArgList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Arg list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Arg list.
+   * @apilevel low-level
+   */
+  public int getNumArgNoTransform() {
+    return getArgListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Arg list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Arg list.
+   * @apilevel high-level
+   */
+  public Expr getArg(int i) {
+    return (Expr) getArgList().getChild(i);
+  }
+  /**
+   * Check whether the Arg list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasArg() {
+    return getArgList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Arg list.
+   * @param node The element to append to the Arg list.
+   * @apilevel high-level
+   */
+  public void addArg(Expr node) {
+    List<Expr> list = (parent == null) ? getArgListNoTransform() : getArgList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addArgNoTransform(Expr node) {
+    List<Expr> list = getArgListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Arg list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setArg(Expr node, int i) {
+    List<Expr> list = getArgList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Arg list.
+   * @return The node representing the Arg list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Arg")
+  public List<Expr> getArgList() {
+    List<Expr> list = (List<Expr>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the Arg list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Arg list.
+   * @apilevel low-level
+   */
+  public List<Expr> getArgListNoTransform() {
+    return (List<Expr>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the Arg list without
+   * triggering rewrites.
+   */
+  public Expr getArgNoTransform(int i) {
+    return (Expr) getArgListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Arg list.
+   * @return The node representing the Arg list.
+   * @apilevel high-level
+   */
+  public List<Expr> getArgs() {
+    return getArgList();
+  }
+  /**
+   * Retrieves the Arg list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Arg list.
+   * @apilevel low-level
+   */
+  public List<Expr> getArgsNoTransform() {
+    return getArgListNoTransform();
+  }
+  /** @apilevel internal */
+  private void decl_reset() {
+    decl_computed = null;
+    decl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle decl_computed = null;
+
+  /** @apilevel internal */
+  protected MethodDecl decl_value;
+
+  /**
+   * Find the single method declaration matching this invocation.
+   * 
+   * <p>If no such declaration exists, the unknown method declaration is returned
+   * instead.
+   * @attribute syn
+   * @aspect LookupMethod
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:260
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupMethod", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:260")
+  public MethodDecl decl() {
+    ASTState state = state();
+    if (decl_computed == ASTState.NON_CYCLE || decl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "MethodAccess.decl()", "", decl_value);
+      return decl_value;
+    }
+    state().trace().computeBegin(this, "MethodAccess.decl()", "", "");
+    decl_value = methodDecl;
+    state().trace().computeEnd(this, "MethodAccess.decl()", "", decl_value);
+    if (state().inCircle()) {
+      decl_computed = state().cycle();
+      state().trace().cacheWrite(this, "MethodAccess.decl()", "", decl_value);
+    } else {
+      decl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "MethodAccess.decl()", "", decl_value);
+    }
+    return decl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:85
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:85")
+  public TypeDecl methodQualifierType() {
+    state().trace().computeBegin(this, "MethodAccess.methodQualifierType()", "", "");
+    TypeDecl methodQualifierType_value = boundHostType;
+    state().trace().computeEnd(this, "MethodAccess.methodQualifierType()", "", methodQualifierType_value);
+    return methodQualifierType_value;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:39
+   * @apilevel internal
+   */
+  public TypeDecl Define_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:196
+      int index = _callerNode.getIndexOfChild(_childNode);
+      return decl().paramType(index);
+    }
+    else {
+      return super.Define_assignConvertedType(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,343 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/BoundNames.ast:8
+ * @production BoundTypeAccess : {@link TypeAccess} ::= <span class="component">&lt;TypeDecl:TypeDecl&gt;</span>;
+
+ */
+public class BoundTypeAccess extends TypeAccess implements Cloneable {
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:83
+   */
+  @Override public String toString() {
+    return getTypeDecl().toString(); // TypeDecl is a token: no rewrites apply.
+  }
+  /**
+   * @aspect GenericsTypeAnalysis
+   * @declaredat /root/project/java5/frontend/Generics.jrag:447
+   */
+  public boolean isRaw() {
+    return getTypeDecl().isRawType();
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BoundTypeAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public BoundTypeAccess(String p0, String p1, TypeDecl p2) {
+    setPackage(p0);
+    setID(p1);
+    setTypeDecl(p2);
+  }
+  /**
+   * @declaredat ASTNode:17
+   */
+  public BoundTypeAccess(beaver.Symbol p0, beaver.Symbol p1, TypeDecl p2) {
+    setPackage(p0);
+    setID(p1);
+    setTypeDecl(p2);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:23
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:29
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public BoundTypeAccess clone() throws CloneNotSupportedException {
+    BoundTypeAccess node = (BoundTypeAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:46
+   */
+  public BoundTypeAccess copy() {
+    try {
+      BoundTypeAccess node = (BoundTypeAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:65
+   */
+  @Deprecated
+  public BoundTypeAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:75
+   */
+  public BoundTypeAccess treeCopyNoTransform() {
+    BoundTypeAccess tree = (BoundTypeAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:95
+   */
+  public BoundTypeAccess treeCopy() {
+    BoundTypeAccess tree = (BoundTypeAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:109
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_Package == ((BoundTypeAccess) node).tokenString_Package) && (tokenString_ID == ((BoundTypeAccess) node).tokenString_ID) && (tokenTypeDecl_TypeDecl == ((BoundTypeAccess) node).tokenTypeDecl_TypeDecl);    
+  }
+  /**
+   * Replaces the lexeme Package.
+   * @param value The new value for the lexeme Package.
+   * @apilevel high-level
+   */
+  public void setPackage(String value) {
+    tokenString_Package = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme Package using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme Package
+   * @apilevel internal
+   */
+  public void setPackage(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setPackage is only valid for String lexemes");
+    tokenString_Package = (String)symbol.value;
+    Packagestart = symbol.getStart();
+    Packageend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme Package.
+   * @return The value for the lexeme Package.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="Package")
+  public String getPackage() {
+    return tokenString_Package != null ? tokenString_Package : "";
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the lexeme TypeDecl.
+   * @param value The new value for the lexeme TypeDecl.
+   * @apilevel high-level
+   */
+  public void setTypeDecl(TypeDecl value) {
+    tokenTypeDecl_TypeDecl = value;
+  }
+  /** @apilevel internal 
+   */
+  protected TypeDecl tokenTypeDecl_TypeDecl;
+  /**
+   * Retrieves the value for the lexeme TypeDecl.
+   * @return The value for the lexeme TypeDecl.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="TypeDecl")
+  public TypeDecl getTypeDecl() {
+    return tokenTypeDecl_TypeDecl;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:404
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:404")
+  public SimpleSet<TypeDecl> decls() {
+    state().trace().computeBegin(this, "TypeAccess.decls()", "", "");
+    SimpleSet<TypeDecl> decls_value = getTypeDecl();
+    state().trace().computeEnd(this, "TypeAccess.decls()", "", decls_value);
+    return decls_value;
+  }
+  /**
+   * WARNING: this attribute is not the same as TypeDecl.isWildcard,
+   * which returns true for any wildcard type (even bounded wildcard types).
+   * @return {@code true} if this is an unbounded wildcard access
+   * @attribute syn
+   * @aspect ReifiableTypes
+   * @declaredat /root/project/java5/frontend/ReifiableTypes.jrag:106
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReifiableTypes", declaredAt="/root/project/java5/frontend/ReifiableTypes.jrag:106")
+  public boolean isWildcard() {
+    state().trace().computeBegin(this, "Access.isWildcard()", "", "");
+    boolean isWildcard_value = getTypeDecl() instanceof WildcardType;
+    state().trace().computeEnd(this, "Access.isWildcard()", "", isWildcard_value);
+    return isWildcard_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,541 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * A statement that can be reached by {@code break} or {@code continue}.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:326
+ * @production BranchTargetStmt : {@link Stmt};
+
+ */
+public abstract class BranchTargetStmt extends Stmt implements Cloneable {
+  /**
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:112
+   */
+  public void collectBranches(Collection<Stmt> c) {
+    c.addAll(escapedBranches());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BranchTargetStmt() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    targetBranches_reset();
+    escapedBranches_reset();
+    branches_reset();
+    targetContinues_reset();
+    targetBreaks_reset();
+    reachableBreak_reset();
+    reachableContinue_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:34
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public BranchTargetStmt clone() throws CloneNotSupportedException {
+    BranchTargetStmt node = (BranchTargetStmt) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:49
+   */
+  @Deprecated
+  public abstract BranchTargetStmt fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:57
+   */
+  public abstract BranchTargetStmt treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:65
+   */
+  public abstract BranchTargetStmt treeCopy();
+  /** @apilevel internal */
+  private void targetBranches_reset() {
+    targetBranches_computed = null;
+    targetBranches_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle targetBranches_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<Stmt> targetBranches_value;
+
+  /**
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:88
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:88")
+  public Collection<Stmt> targetBranches() {
+    ASTState state = state();
+    if (targetBranches_computed == ASTState.NON_CYCLE || targetBranches_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BranchTargetStmt.targetBranches()", "", targetBranches_value);
+      return targetBranches_value;
+    }
+    state().trace().computeBegin(this, "BranchTargetStmt.targetBranches()", "", "");
+    targetBranches_value = targetBranches_compute();
+    state().trace().computeEnd(this, "BranchTargetStmt.targetBranches()", "", targetBranches_value);
+    if (state().inCircle()) {
+      targetBranches_computed = state().cycle();
+      state().trace().cacheWrite(this, "BranchTargetStmt.targetBranches()", "", targetBranches_value);
+    } else {
+      targetBranches_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BranchTargetStmt.targetBranches()", "", targetBranches_value);
+    }
+    return targetBranches_value;
+  }
+  /** @apilevel internal */
+  private Collection<Stmt> targetBranches_compute() {
+      Collection<Stmt> set = new HashSet<Stmt>();
+      for (Stmt branch : branches()) {
+        if (potentialTargetOf(branch)) {
+          set.add(branch);
+        }
+      }
+      return set;
+    }
+  /** @apilevel internal */
+  private void escapedBranches_reset() {
+    escapedBranches_computed = null;
+    escapedBranches_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle escapedBranches_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<Stmt> escapedBranches_value;
+
+  /**
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:90
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:90")
+  public Collection<Stmt> escapedBranches() {
+    ASTState state = state();
+    if (escapedBranches_computed == ASTState.NON_CYCLE || escapedBranches_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BranchTargetStmt.escapedBranches()", "", escapedBranches_value);
+      return escapedBranches_value;
+    }
+    state().trace().computeBegin(this, "BranchTargetStmt.escapedBranches()", "", "");
+    escapedBranches_value = escapedBranches_compute();
+    state().trace().computeEnd(this, "BranchTargetStmt.escapedBranches()", "", escapedBranches_value);
+    if (state().inCircle()) {
+      escapedBranches_computed = state().cycle();
+      state().trace().cacheWrite(this, "BranchTargetStmt.escapedBranches()", "", escapedBranches_value);
+    } else {
+      escapedBranches_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BranchTargetStmt.escapedBranches()", "", escapedBranches_value);
+    }
+    return escapedBranches_value;
+  }
+  /** @apilevel internal */
+  private Collection<Stmt> escapedBranches_compute() {
+      Collection<Stmt> set = new HashSet<Stmt>();
+      for (Stmt branch : branches()) {
+        if (!potentialTargetOf(branch)) {
+          set.add(branch);
+        } else if (branch instanceof ReturnStmt) {
+          set.add(branch);
+        }
+      }
+      return set;
+    }
+  /** @apilevel internal */
+  private void branches_reset() {
+    branches_computed = null;
+    branches_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle branches_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<Stmt> branches_value;
+
+  /**
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:92
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:92")
+  public Collection<Stmt> branches() {
+    ASTState state = state();
+    if (branches_computed == ASTState.NON_CYCLE || branches_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BranchTargetStmt.branches()", "", branches_value);
+      return branches_value;
+    }
+    state().trace().computeBegin(this, "BranchTargetStmt.branches()", "", "");
+    branches_value = branches_compute();
+    state().trace().computeEnd(this, "BranchTargetStmt.branches()", "", branches_value);
+    if (state().inCircle()) {
+      branches_computed = state().cycle();
+      state().trace().cacheWrite(this, "BranchTargetStmt.branches()", "", branches_value);
+    } else {
+      branches_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BranchTargetStmt.branches()", "", branches_value);
+    }
+    return branches_value;
+  }
+  /** @apilevel internal */
+  private Collection<Stmt> branches_compute() {
+      Collection<Stmt> set = new HashSet<Stmt>();
+      super.collectBranches(set);
+      return set;
+    }
+  /**
+   * @return <code>true</code> if this statement is a potential
+   * branch target of the given branch statement.
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:215
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:215")
+  public boolean potentialTargetOf(Stmt branch) {
+    Object _parameters = branch;
+    state().trace().computeBegin(this, "BranchTargetStmt.potentialTargetOf(Stmt)", _parameters, "");
+    boolean potentialTargetOf_Stmt_value = false;
+    state().trace().computeEnd(this, "BranchTargetStmt.potentialTargetOf(Stmt)", _parameters, potentialTargetOf_Stmt_value);
+    return potentialTargetOf_Stmt_value;
+  }
+  /** @apilevel internal */
+  private void targetContinues_reset() {
+    targetContinues_computed = null;
+    targetContinues_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle targetContinues_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<ContinueStmt> targetContinues_value;
+
+  /**
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:84
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:84")
+  public Collection<ContinueStmt> targetContinues() {
+    ASTState state = state();
+    if (targetContinues_computed == ASTState.NON_CYCLE || targetContinues_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BranchTargetStmt.targetContinues()", "", targetContinues_value);
+      return targetContinues_value;
+    }
+    state().trace().computeBegin(this, "BranchTargetStmt.targetContinues()", "", "");
+    targetContinues_value = targetContinues_compute();
+    state().trace().computeEnd(this, "BranchTargetStmt.targetContinues()", "", targetContinues_value);
+    if (state().inCircle()) {
+      targetContinues_computed = state().cycle();
+      state().trace().cacheWrite(this, "BranchTargetStmt.targetContinues()", "", targetContinues_value);
+    } else {
+      targetContinues_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BranchTargetStmt.targetContinues()", "", targetContinues_value);
+    }
+    return targetContinues_value;
+  }
+  /** @apilevel internal */
+  private Collection<ContinueStmt> targetContinues_compute() {
+      Collection<ContinueStmt> set = new HashSet<ContinueStmt>();
+      for (Stmt branch : targetBranches()) {
+        if (branch instanceof ContinueStmt) {
+          set.add((ContinueStmt) branch);
+        }
+      }
+      if (getParent() instanceof LabeledStmt) {
+        for (Stmt branch : ((LabeledStmt) getParent()).targetBranches()) {
+          if (branch instanceof ContinueStmt) {
+            set.add((ContinueStmt) branch);
+          }
+        }
+      }
+      return set;
+    }
+  /** @apilevel internal */
+  private void targetBreaks_reset() {
+    targetBreaks_computed = null;
+    targetBreaks_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle targetBreaks_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<BreakStmt> targetBreaks_value;
+
+  /**
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:86")
+  public Collection<BreakStmt> targetBreaks() {
+    ASTState state = state();
+    if (targetBreaks_computed == ASTState.NON_CYCLE || targetBreaks_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BranchTargetStmt.targetBreaks()", "", targetBreaks_value);
+      return targetBreaks_value;
+    }
+    state().trace().computeBegin(this, "BranchTargetStmt.targetBreaks()", "", "");
+    targetBreaks_value = targetBreaks_compute();
+    state().trace().computeEnd(this, "BranchTargetStmt.targetBreaks()", "", targetBreaks_value);
+    if (state().inCircle()) {
+      targetBreaks_computed = state().cycle();
+      state().trace().cacheWrite(this, "BranchTargetStmt.targetBreaks()", "", targetBreaks_value);
+    } else {
+      targetBreaks_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BranchTargetStmt.targetBreaks()", "", targetBreaks_value);
+    }
+    return targetBreaks_value;
+  }
+  /** @apilevel internal */
+  private Collection<BreakStmt> targetBreaks_compute() {
+      Collection<BreakStmt> set = new HashSet<BreakStmt>();
+      for (Stmt branch : targetBranches()) {
+        if (branch instanceof BreakStmt) {
+          set.add((BreakStmt) branch);
+        }
+      }
+      return set;
+    }
+  /** @apilevel internal */
+  private void reachableBreak_reset() {
+    reachableBreak_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle reachableBreak_computed = null;
+
+  /** @apilevel internal */
+  protected boolean reachableBreak_value;
+
+  /**
+   * @attribute syn
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:85
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:85")
+  public boolean reachableBreak() {
+    ASTState state = state();
+    if (reachableBreak_computed == ASTState.NON_CYCLE || reachableBreak_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BranchTargetStmt.reachableBreak()", "", reachableBreak_value);
+      return reachableBreak_value;
+    }
+    state().trace().computeBegin(this, "BranchTargetStmt.reachableBreak()", "", "");
+    reachableBreak_value = reachableBreak_compute();
+    state().trace().computeEnd(this, "BranchTargetStmt.reachableBreak()", "", reachableBreak_value);
+    if (state().inCircle()) {
+      reachableBreak_computed = state().cycle();
+      state().trace().cacheWrite(this, "BranchTargetStmt.reachableBreak()", "", reachableBreak_value);
+    } else {
+      reachableBreak_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BranchTargetStmt.reachableBreak()", "", reachableBreak_value);
+    }
+    return reachableBreak_value;
+  }
+  /** @apilevel internal */
+  private boolean reachableBreak_compute() {
+      for (BreakStmt stmt : targetBreaks()) {
+        if (stmt.reachable()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  /** @apilevel internal */
+  private void reachableContinue_reset() {
+    reachableContinue_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle reachableContinue_computed = null;
+
+  /** @apilevel internal */
+  protected boolean reachableContinue_value;
+
+  /**
+   * @attribute syn
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:140
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:140")
+  public boolean reachableContinue() {
+    ASTState state = state();
+    if (reachableContinue_computed == ASTState.NON_CYCLE || reachableContinue_computed == state().cycle()) {
+      state().trace().cacheRead(this, "BranchTargetStmt.reachableContinue()", "", reachableContinue_value);
+      return reachableContinue_value;
+    }
+    state().trace().computeBegin(this, "BranchTargetStmt.reachableContinue()", "", "");
+    reachableContinue_value = reachableContinue_compute();
+    state().trace().computeEnd(this, "BranchTargetStmt.reachableContinue()", "", reachableContinue_value);
+    if (state().inCircle()) {
+      reachableContinue_computed = state().cycle();
+      state().trace().cacheWrite(this, "BranchTargetStmt.reachableContinue()", "", reachableContinue_value);
+    } else {
+      reachableContinue_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "BranchTargetStmt.reachableContinue()", "", reachableContinue_value);
+    }
+    return reachableContinue_value;
+  }
+  /** @apilevel internal */
+  private boolean reachableContinue_compute() {
+      for (Stmt stmt : targetContinues()) {
+        if (stmt.reachable()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  /**
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:273
+   * @apilevel internal
+   */
+  public FinallyHost Define_enclosingFinally(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return potentialTargetOf(branch) ? null : enclosingFinally(branch);
+  }
+  protected boolean canDefine_enclosingFinally(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1935
+   * @apilevel internal
+   */
+  public boolean Define_leavesMonitor(ASTNode _callerNode, ASTNode _childNode, Stmt branch, SynchronizedStmt monitor) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        if (potentialTargetOf(branch)) {
+          return false;
+        } else {
+          return leavesMonitor(branch, monitor);
+        }
+      }
+  }
+  protected boolean canDefine_leavesMonitor(ASTNode _callerNode, ASTNode _childNode, Stmt branch, SynchronizedStmt monitor) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,627 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Generics.ast:125
+ * @production BridgeMethodDecl : {@link MethodDecl};
+
+ */
+public class BridgeMethodDecl extends MethodDecl implements Cloneable {
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BridgeMethodDecl() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[5];
+    setChild(new List(), 2);
+    setChild(new List(), 3);
+    setChild(new Opt(), 4);
+  }
+  /**
+   * @declaredat ASTNode:16
+   */
+  public BridgeMethodDecl(Modifiers p0, Access p1, String p2, List<ParameterDeclaration> p3, List<Access> p4, Opt<Block> p5) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+    setID(p2);
+    setChild(p3, 2);
+    setChild(p4, 3);
+    setChild(p5, 4);
+  }
+  /**
+   * @declaredat ASTNode:24
+   */
+  public BridgeMethodDecl(Modifiers p0, Access p1, beaver.Symbol p2, List<ParameterDeclaration> p3, List<Access> p4, Opt<Block> p5) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+    setID(p2);
+    setChild(p3, 2);
+    setChild(p4, 3);
+    setChild(p5, 4);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:33
+   */
+  protected int numChildren() {
+    return 5;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:39
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:43
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    flags_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:48
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:52
+   */
+  public BridgeMethodDecl clone() throws CloneNotSupportedException {
+    BridgeMethodDecl node = (BridgeMethodDecl) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:57
+   */
+  public BridgeMethodDecl copy() {
+    try {
+      BridgeMethodDecl node = (BridgeMethodDecl) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:76
+   */
+  @Deprecated
+  public BridgeMethodDecl fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:86
+   */
+  public BridgeMethodDecl treeCopyNoTransform() {
+    BridgeMethodDecl tree = (BridgeMethodDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:106
+   */
+  public BridgeMethodDecl treeCopy() {
+    BridgeMethodDecl tree = (BridgeMethodDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:120
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((BridgeMethodDecl) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the TypeAccess child.
+   * @param node The new node to replace the TypeAccess child.
+   * @apilevel high-level
+   */
+  public void setTypeAccess(Access node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * @return The current node used as the TypeAccess child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="TypeAccess")
+  public Access getTypeAccess() {
+    return (Access) getChild(1);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(1);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the Parameter list.
+   * @param list The new list node to be used as the Parameter list.
+   * @apilevel high-level
+   */
+  public void setParameterList(List<ParameterDeclaration> list) {
+    setChild(list, 2);
+  }
+  /**
+   * Retrieves the number of children in the Parameter list.
+   * @return Number of children in the Parameter list.
+   * @apilevel high-level
+   */
+  public int getNumParameter() {
+    return getParameterList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Parameter list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Parameter list.
+   * @apilevel low-level
+   */
+  public int getNumParameterNoTransform() {
+    return getParameterListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Parameter list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Parameter list.
+   * @apilevel high-level
+   */
+  public ParameterDeclaration getParameter(int i) {
+    return (ParameterDeclaration) getParameterList().getChild(i);
+  }
+  /**
+   * Check whether the Parameter list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasParameter() {
+    return getParameterList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Parameter list.
+   * @param node The element to append to the Parameter list.
+   * @apilevel high-level
+   */
+  public void addParameter(ParameterDeclaration node) {
+    List<ParameterDeclaration> list = (parent == null) ? getParameterListNoTransform() : getParameterList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addParameterNoTransform(ParameterDeclaration node) {
+    List<ParameterDeclaration> list = getParameterListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Parameter list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setParameter(ParameterDeclaration node, int i) {
+    List<ParameterDeclaration> list = getParameterList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Parameter list.
+   * @return The node representing the Parameter list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Parameter")
+  public List<ParameterDeclaration> getParameterList() {
+    List<ParameterDeclaration> list = (List<ParameterDeclaration>) getChild(2);
+    return list;
+  }
+  /**
+   * Retrieves the Parameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Parameter list.
+   * @apilevel low-level
+   */
+  public List<ParameterDeclaration> getParameterListNoTransform() {
+    return (List<ParameterDeclaration>) getChildNoTransform(2);
+  }
+  /**
+   * @return the element at index {@code i} in the Parameter list without
+   * triggering rewrites.
+   */
+  public ParameterDeclaration getParameterNoTransform(int i) {
+    return (ParameterDeclaration) getParameterListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Parameter list.
+   * @return The node representing the Parameter list.
+   * @apilevel high-level
+   */
+  public List<ParameterDeclaration> getParameters() {
+    return getParameterList();
+  }
+  /**
+   * Retrieves the Parameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Parameter list.
+   * @apilevel low-level
+   */
+  public List<ParameterDeclaration> getParametersNoTransform() {
+    return getParameterListNoTransform();
+  }
+  /**
+   * Replaces the Exception list.
+   * @param list The new list node to be used as the Exception list.
+   * @apilevel high-level
+   */
+  public void setExceptionList(List<Access> list) {
+    setChild(list, 3);
+  }
+  /**
+   * Retrieves the number of children in the Exception list.
+   * @return Number of children in the Exception list.
+   * @apilevel high-level
+   */
+  public int getNumException() {
+    return getExceptionList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Exception list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Exception list.
+   * @apilevel low-level
+   */
+  public int getNumExceptionNoTransform() {
+    return getExceptionListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Exception list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Exception list.
+   * @apilevel high-level
+   */
+  public Access getException(int i) {
+    return (Access) getExceptionList().getChild(i);
+  }
+  /**
+   * Check whether the Exception list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasException() {
+    return getExceptionList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Exception list.
+   * @param node The element to append to the Exception list.
+   * @apilevel high-level
+   */
+  public void addException(Access node) {
+    List<Access> list = (parent == null) ? getExceptionListNoTransform() : getExceptionList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addExceptionNoTransform(Access node) {
+    List<Access> list = getExceptionListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Exception list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setException(Access node, int i) {
+    List<Access> list = getExceptionList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Exception list.
+   * @return The node representing the Exception list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Exception")
+  public List<Access> getExceptionList() {
+    List<Access> list = (List<Access>) getChild(3);
+    return list;
+  }
+  /**
+   * Retrieves the Exception list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Exception list.
+   * @apilevel low-level
+   */
+  public List<Access> getExceptionListNoTransform() {
+    return (List<Access>) getChildNoTransform(3);
+  }
+  /**
+   * @return the element at index {@code i} in the Exception list without
+   * triggering rewrites.
+   */
+  public Access getExceptionNoTransform(int i) {
+    return (Access) getExceptionListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Exception list.
+   * @return The node representing the Exception list.
+   * @apilevel high-level
+   */
+  public List<Access> getExceptions() {
+    return getExceptionList();
+  }
+  /**
+   * Retrieves the Exception list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Exception list.
+   * @apilevel low-level
+   */
+  public List<Access> getExceptionsNoTransform() {
+    return getExceptionListNoTransform();
+  }
+  /**
+   * Replaces the optional node for the Block child. This is the <code>Opt</code>
+   * node containing the child Block, not the actual child!
+   * @param opt The new node to be used as the optional node for the Block child.
+   * @apilevel low-level
+   */
+  public void setBlockOpt(Opt<Block> opt) {
+    setChild(opt, 4);
+  }
+  /**
+   * Replaces the (optional) Block child.
+   * @param node The new node to be used as the Block child.
+   * @apilevel high-level
+   */
+  public void setBlock(Block node) {
+    getBlockOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional Block child exists.
+   * @return {@code true} if the optional Block child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasBlock() {
+    return getBlockOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) Block child.
+   * @return The Block child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Block getBlock() {
+    return (Block) getBlockOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the Block child. This is the <code>Opt</code> node containing the child Block, not the actual child!
+   * @return The optional node for child the Block child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="Block")
+  public Opt<Block> getBlockOpt() {
+    return (Opt<Block>) getChild(4);
+  }
+  /**
+   * Retrieves the optional node for child Block. This is the <code>Opt</code> node containing the child Block, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child Block.
+   * @apilevel low-level
+   */
+  public Opt<Block> getBlockOptNoTransform() {
+    return (Opt<Block>) getChildNoTransform(4);
+  }
+  /** @apilevel internal */
+  private void flags_reset() {
+    flags_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle flags_computed = null;
+
+  /** @apilevel internal */
+  protected int flags_value;
+
+  /**
+   * @attribute syn
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Flags", declaredAt="/root/project/java4/backend/Flags.jrag:60")
+  public int flags() {
+    ASTState state = state();
+    if (flags_computed == ASTState.NON_CYCLE || flags_computed == state().cycle()) {
+      state().trace().cacheRead(this, "MethodDecl.flags()", "", flags_value);
+      return flags_value;
+    }
+    state().trace().computeBegin(this, "MethodDecl.flags()", "", "");
+    flags_value = flags_compute();
+    state().trace().computeEnd(this, "MethodDecl.flags()", "", flags_value);
+    if (state().inCircle()) {
+      flags_computed = state().cycle();
+      state().trace().cacheWrite(this, "MethodDecl.flags()", "", flags_value);
+    } else {
+      flags_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "MethodDecl.flags()", "", flags_value);
+    }
+    return flags_value;
+  }
+  /** @apilevel internal */
+  private int flags_compute() {
+      int res = super.flags();
+      res |= Modifiers.ACC_BRIDGE;
+      res |= Modifiers.ACC_SYNTHETIC;
+      return res;
+    }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,379 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/BoundNames.ast:10
+ * @production BytecodeTypeAccess : {@link TypeAccess};
+
+ */
+public class BytecodeTypeAccess extends TypeAccess implements Cloneable {
+  /**
+   * @declaredat ASTNode:1
+   */
+  public BytecodeTypeAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public BytecodeTypeAccess(String p0, String p1) {
+    setPackage(p0);
+    setID(p1);
+  }
+  /**
+   * @declaredat ASTNode:16
+   */
+  public BytecodeTypeAccess(beaver.Symbol p0, beaver.Symbol p1) {
+    setPackage(p0);
+    setID(p1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:21
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:27
+   */
+  public boolean mayHaveRewrite() {
+    return true;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:31
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    rewrittenNode_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:40
+   */
+  public BytecodeTypeAccess clone() throws CloneNotSupportedException {
+    BytecodeTypeAccess node = (BytecodeTypeAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:45
+   */
+  public BytecodeTypeAccess copy() {
+    try {
+      BytecodeTypeAccess node = (BytecodeTypeAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:64
+   */
+  @Deprecated
+  public BytecodeTypeAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:74
+   */
+  public BytecodeTypeAccess treeCopyNoTransform() {
+    BytecodeTypeAccess tree = (BytecodeTypeAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:94
+   */
+  public BytecodeTypeAccess treeCopy() {
+    BytecodeTypeAccess tree = (BytecodeTypeAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:108
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_Package == ((BytecodeTypeAccess) node).tokenString_Package) && (tokenString_ID == ((BytecodeTypeAccess) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the lexeme Package.
+   * @param value The new value for the lexeme Package.
+   * @apilevel high-level
+   */
+  public void setPackage(String value) {
+    tokenString_Package = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme Package using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme Package
+   * @apilevel internal
+   */
+  public void setPackage(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setPackage is only valid for String lexemes");
+    tokenString_Package = (String)symbol.value;
+    Packagestart = symbol.getStart();
+    Packageend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme Package.
+   * @return The value for the lexeme Package.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="Package")
+  public String getPackage() {
+    return tokenString_Package != null ? tokenString_Package : "";
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    // Declared at /root/project/java4/frontend/BoundNames.jrag:125
+    return rewriteRule0();
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:125
+   * @apilevel internal
+   */
+  private Access rewriteRule0() {
+{
+      if (name().indexOf("$") == -1) {
+        return new TypeAccess(packageName(), name());
+      } else {
+        String[] names = name().split("\\$");
+        Access a = null; // The resulting access.
+        String newName = null; // The subname to try.
+        TypeDecl type = null; // Qualifying type if one.
+        for (int i = 0; i < names.length; i++) {
+          newName = (newName == null) ? names[i] : (newName + "$" + names[i]);
+          SimpleSet<TypeDecl> set;
+          if (type != null) {
+            set = type.memberTypes(newName);
+          } else if (packageName().equals("")) {
+            set = lookupType(newName);
+          } else {
+            set = toSet(lookupType(packageName(), newName));
+          }
+          if (set.isSingleton()) {
+            a = (a == null)
+                ? new TypeAccess(packageName(), newName)
+                : a.qualifiesAccess(new TypeAccess(newName));
+            type = set.singletonValue();
+            newName = null; // Reset subname.
+          }
+        }
+        return (a != null) ? a : new TypeAccess(packageName(), name());
+      }
+    }  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return true;
+  }
+  /** @apilevel internal */
+  private void rewrittenNode_reset() {
+    rewrittenNode_computed = false;
+    rewrittenNode_initialized = false;
+    rewrittenNode_value = null;
+    rewrittenNode_cycle = null;
+  }
+/** @apilevel internal */
+protected ASTState.Cycle rewrittenNode_cycle = null;
+  /** @apilevel internal */
+  protected boolean rewrittenNode_computed = false;
+
+  /** @apilevel internal */
+  protected ASTNode rewrittenNode_value;
+  /** @apilevel internal */
+  protected boolean rewrittenNode_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="", declaredAt=":0")
+  public ASTNode rewrittenNode() {
+    if (rewrittenNode_computed) {
+      state().trace().cacheRead(this, "BytecodeTypeAccess.rewrittenNode()", "", rewrittenNode_value);
+      return rewrittenNode_value;
+    }
+    ASTState state = state();
+    if (!rewrittenNode_initialized) {
+      rewrittenNode_initialized = true;
+      rewrittenNode_value = this;
+      if (rewrittenNode_value != null) {
+        rewrittenNode_value.setParent(getParent());
+      }
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        rewrittenNode_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "BytecodeTypeAccess.rewrittenNode()", "", "");
+        ASTNode new_rewrittenNode_value = rewrittenNode_value.rewriteTo();
+        state().trace().computeEnd(this, "BytecodeTypeAccess.rewrittenNode()", "", rewrittenNode_value);
+        if (new_rewrittenNode_value != rewrittenNode_value || new_rewrittenNode_value.canRewrite()) {
+          state.setChangeInCycle();
+        }
+        rewrittenNode_value = new_rewrittenNode_value;
+        if (rewrittenNode_value != null) {
+          rewrittenNode_value.setParent(getParent());
+        }
+      } while (state.testAndClearChangeInCycle());
+      rewrittenNode_computed = true;
+      state().trace().cacheWrite(this, "BytecodeTypeAccess.rewrittenNode()", "", rewrittenNode_value);
+      state.leaveCircle();
+    } else if (rewrittenNode_cycle != state.cycle()) {
+      rewrittenNode_cycle = state.cycle();
+      state().trace().computeBegin(this, "BytecodeTypeAccess.rewrittenNode()", "", "");
+      ASTNode new_rewrittenNode_value = rewrittenNode_value.rewriteTo();
+      state().trace().computeEnd(this, "BytecodeTypeAccess.rewrittenNode()", "", rewrittenNode_value);
+      if (new_rewrittenNode_value != rewrittenNode_value || new_rewrittenNode_value.canRewrite()) {
+        state.setChangeInCycle();
+      }
+      rewrittenNode_value = new_rewrittenNode_value;
+      if (rewrittenNode_value != null) {
+        rewrittenNode_value.setParent(getParent());
+      }
+    } else {
+    }
+    return rewrittenNode_value;
+  }
+}
@@ -0,0 +1,135 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect BytecodeCONSTANT
+ * @declaredat /root/project/java4/frontend/BytecodeCONSTANT.jrag:32
+ */
+ class CONSTANT_Class_Info extends CONSTANT_Info {
+  
+    public int name_index;
+
+  
+
+    public CONSTANT_Class_Info(AbstractClassfileParser parser) throws IOException {
+      super(parser);
+      name_index = p.u2();
+    }
+
+  
+
+    @Override
+    public String toString() {
+      return "ClassInfo: " + name();
+    }
+
+  
+
+    public String name() {
+      String name = ((CONSTANT_Utf8_Info) p.constantPool[name_index]).string();
+      name = name.replace('/', '.');
+      return name;
+    }
+
+  
+
+    public String simpleName() {
+      String name = name();
+      int pos = name.lastIndexOf('.');
+      return name.substring(pos + 1, name.length());
+    }
+
+  
+
+    public String packageDecl() {
+      String name = name();
+      int pos = name.lastIndexOf('.');
+      if (pos == -1) {
+        return "";
+      }
+      return name.substring(0, pos);
+    }
+
+  
+
+    public Access access() {
+      String name = name();
+      int pos = name.lastIndexOf('.');
+      String typeName = name.substring(pos + 1, name.length());
+      String packageName = pos == -1 ? "" : name.substring(0, pos);
+      if (typeName.indexOf('$') != -1) {
+        return new BytecodeTypeAccess(packageName, typeName);
+      } else {
+        return new TypeAccess(packageName, typeName);
+      }
+    }
+
+
+}
@@ -0,0 +1,500 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:342
+ * @production Case : {@link Stmt};
+
+ */
+public abstract class Case extends Stmt implements Cloneable {
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1633
+   */
+  public void createBCode(CodeGeneration gen) {
+    gen.addLabel(label());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public Case() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    assignedBefore_Variable_reset();
+    assignedAfter_Variable_reset();
+    unassignedAfter_Variable_reset();
+    label_reset();
+    previousCase_Case_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:32
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public Case clone() throws CloneNotSupportedException {
+    Case node = (Case) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:47
+   */
+  @Deprecated
+  public abstract Case fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:55
+   */
+  public abstract Case treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:63
+   */
+  public abstract Case treeCopy();
+  /**
+   * @return {@code true} if this case label has the same constant value as
+   * the argument case label.
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:667
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:667")
+  public abstract boolean constValue(Case c);
+  /** @apilevel internal */
+  private void assignedBefore_Variable_reset() {
+    assignedBefore_Variable_values = null;
+  }
+  protected java.util.Map assignedBefore_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:731")
+  public boolean assignedBefore(Variable v) {
+    Object _parameters = v;
+    if (assignedBefore_Variable_values == null) assignedBefore_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedBefore_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedBefore_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Case.assignedBefore(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedBefore_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedBefore_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Case.assignedBefore(Variable)", _parameters, "");
+        new_assignedBefore_Variable_value = getParent().getParent() instanceof Block
+              && ((Block) getParent().getParent()).assignedBefore(v)
+              && super.assignedBefore(v);
+        state().trace().computeEnd(this, "Case.assignedBefore(Variable)", _parameters, _value.value);
+        if (new_assignedBefore_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedBefore_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedBefore_Variable_values.put(_parameters, new_assignedBefore_Variable_value);
+      state().trace().cacheWrite(this, "Case.assignedBefore(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedBefore_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Case.assignedBefore(Variable)", _parameters, "");
+      boolean new_assignedBefore_Variable_value = getParent().getParent() instanceof Block
+            && ((Block) getParent().getParent()).assignedBefore(v)
+            && super.assignedBefore(v);
+      state().trace().computeEnd(this, "Case.assignedBefore(Variable)", _parameters, _value.value);
+      if (new_assignedBefore_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedBefore_Variable_value;
+      }
+      return new_assignedBefore_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void assignedAfter_Variable_reset() {
+    assignedAfter_Variable_values = null;
+  }
+  protected java.util.Map assignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:264")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    if (assignedAfter_Variable_values == null) assignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.assignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+        new_assignedAfter_Variable_value = assignedBefore(v);
+        state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+        if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfter_Variable_values.put(_parameters, new_assignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+      boolean new_assignedAfter_Variable_value = assignedBefore(v);
+      state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfter_Variable_value;
+      }
+      return new_assignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteUnassignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1390
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1390")
+  public boolean unassignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Case.unassignedBefore(Variable)", _parameters, "");
+    boolean unassignedBefore_Variable_value = getParent().getParent() instanceof Block
+          && ((Block) getParent().getParent()).unassignedBefore(v)
+          && super.unassignedBefore(v);
+    state().trace().computeEnd(this, "Case.unassignedBefore(Variable)", _parameters, unassignedBefore_Variable_value);
+    return unassignedBefore_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:895")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = unassignedBefore(v);
+        state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = unassignedBefore(v);
+      state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:127
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:127")
+  public boolean reachable() {
+    state().trace().computeBegin(this, "Case.reachable()", "", "");
+    boolean reachable_value = getParent().getParent() instanceof Block && ((Block) getParent().getParent()).reachable();
+    state().trace().computeEnd(this, "Case.reachable()", "", reachable_value);
+    return reachable_value;
+  }
+  /** @apilevel internal */
+  private void label_reset() {
+    label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle label_computed = null;
+
+  /** @apilevel internal */
+  protected int label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1631
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1631")
+  public int label() {
+    ASTState state = state();
+    if (label_computed == ASTState.NON_CYCLE || label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Case.label()", "", label_value);
+      return label_value;
+    }
+    state().trace().computeBegin(this, "Case.label()", "", "");
+    label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "Case.label()", "", label_value);
+    if (state().inCircle()) {
+      label_computed = state().cycle();
+      state().trace().cacheWrite(this, "Case.label()", "", label_value);
+    } else {
+      label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Case.label()", "", label_value);
+    }
+    return label_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:78")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Stmt.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = false;
+    state().trace().computeEnd(this, "Stmt.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StringsInSwitch
+   * @declaredat /root/project/java7/frontend/StringsInSwitch.jrag:61
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StringsInSwitch", declaredAt="/root/project/java7/frontend/StringsInSwitch.jrag:61")
+  public boolean isDefaultCase() {
+    state().trace().computeBegin(this, "Case.isDefaultCase()", "", "");
+    boolean isDefaultCase_value = false;
+    state().trace().computeEnd(this, "Case.isDefaultCase()", "", isDefaultCase_value);
+    return isDefaultCase_value;
+  }
+  /**
+   * Finds the first case label that has the same constant expression as
+   * this case label in the immediately enclosing switch statement.
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:594
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:594")
+  public Case previousCase(Case c) {
+    Object _parameters = c;
+    if (previousCase_Case_computed == null) previousCase_Case_computed = new java.util.HashMap(4);
+    if (previousCase_Case_values == null) previousCase_Case_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (previousCase_Case_values.containsKey(_parameters) && previousCase_Case_computed != null
+        && previousCase_Case_computed.containsKey(_parameters)
+        && (previousCase_Case_computed.get(_parameters) == ASTState.NON_CYCLE || previousCase_Case_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Case.previousCase(Case)", _parameters, previousCase_Case_values.get(_parameters));
+      return (Case) previousCase_Case_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Case.previousCase(Case)", _parameters, "");
+    Case previousCase_Case_value = getParent().Define_previousCase(this, null, c);
+    state().trace().computeEnd(this, "Case.previousCase(Case)", _parameters, previousCase_Case_value);
+    if (state().inCircle()) {
+      previousCase_Case_values.put(_parameters, previousCase_Case_value);
+      previousCase_Case_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Case.previousCase(Case)", _parameters, previousCase_Case_value);
+    } else {
+      previousCase_Case_values.put(_parameters, previousCase_Case_value);
+      previousCase_Case_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Case.previousCase(Case)", _parameters, previousCase_Case_value);
+    }
+    return previousCase_Case_value;
+  }
+  /** @apilevel internal */
+  private void previousCase_Case_reset() {
+    previousCase_Case_computed = new java.util.HashMap(4);
+    previousCase_Case_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map previousCase_Case_values;
+  /** @apilevel internal */
+  protected java.util.Map previousCase_Case_computed;
+  /**
+   * @attribute inh
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:485
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:485")
+  public TypeDecl switchType() {
+    state().trace().computeBegin(this, "Case.switchType()", "", "");
+    TypeDecl switchType_value = getParent().Define_switchType(this, null);
+    state().trace().computeEnd(this, "Case.switchType()", "", switchType_value);
+    return switchType_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,515 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * Abstract superclass for catch clauses.
+ * @ast node
+ * @declaredat /root/project/java7/grammar/MultiCatch.ast:4
+ * @production CatchClause : {@link ASTNode} ::= <span class="component">{@link Block}</span>;
+
+ */
+public abstract class CatchClause extends ASTNode<ASTNode> implements Cloneable, VariableScope {
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:39
+   */
+  public abstract void exceptionTableEntries(CodeGeneration gen,
+      int begin_lbl, int end_lbl);
+  /**
+   * @declaredat ASTNode:1
+   */
+  public CatchClause() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public CatchClause(Block p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    parameterDeclaration_String_reset();
+    label_reset();
+    typeThrowable_reset();
+    lookupVariable_String_reset();
+    reachableCatchClause_TypeDecl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:40
+   */
+  public CatchClause clone() throws CloneNotSupportedException {
+    CatchClause node = (CatchClause) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:51
+   */
+  @Deprecated
+  public abstract CatchClause fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:59
+   */
+  public abstract CatchClause treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:67
+   */
+  public abstract CatchClause treeCopy();
+  /**
+   * Replaces the Block child.
+   * @param node The new node to replace the Block child.
+   * @apilevel high-level
+   */
+  public void setBlock(Block node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Block child.
+   * @return The current node used as the Block child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Block")
+  public Block getBlock() {
+    return (Block) getChild(0);
+  }
+  /**
+   * Retrieves the Block child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Block child.
+   * @apilevel low-level
+   */
+  public Block getBlockNoTransform() {
+    return (Block) getChildNoTransform(0);
+  }
+  /**
+   * @attribute syn
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:279
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:279")
+  public boolean handles(TypeDecl exceptionType) {
+    Object _parameters = exceptionType;
+    state().trace().computeBegin(this, "CatchClause.handles(TypeDecl)", _parameters, "");
+    boolean handles_TypeDecl_value = false;
+    state().trace().computeEnd(this, "CatchClause.handles(TypeDecl)", _parameters, handles_TypeDecl_value);
+    return handles_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void parameterDeclaration_String_reset() {
+    parameterDeclaration_String_computed = new java.util.HashMap(4);
+    parameterDeclaration_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map parameterDeclaration_String_values;
+  /** @apilevel internal */
+  protected java.util.Map parameterDeclaration_String_computed;
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:192
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:192")
+  public SimpleSet<Variable> parameterDeclaration(String name) {
+    Object _parameters = name;
+    if (parameterDeclaration_String_computed == null) parameterDeclaration_String_computed = new java.util.HashMap(4);
+    if (parameterDeclaration_String_values == null) parameterDeclaration_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (parameterDeclaration_String_values.containsKey(_parameters) && parameterDeclaration_String_computed != null
+        && parameterDeclaration_String_computed.containsKey(_parameters)
+        && (parameterDeclaration_String_computed.get(_parameters) == ASTState.NON_CYCLE || parameterDeclaration_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "CatchClause.parameterDeclaration(String)", _parameters, parameterDeclaration_String_values.get(_parameters));
+      return (SimpleSet<Variable>) parameterDeclaration_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "CatchClause.parameterDeclaration(String)", _parameters, "");
+    SimpleSet<Variable> parameterDeclaration_String_value = emptySet();
+    state().trace().computeEnd(this, "CatchClause.parameterDeclaration(String)", _parameters, parameterDeclaration_String_value);
+    if (state().inCircle()) {
+      parameterDeclaration_String_values.put(_parameters, parameterDeclaration_String_value);
+      parameterDeclaration_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "CatchClause.parameterDeclaration(String)", _parameters, parameterDeclaration_String_value);
+    } else {
+      parameterDeclaration_String_values.put(_parameters, parameterDeclaration_String_value);
+      parameterDeclaration_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "CatchClause.parameterDeclaration(String)", _parameters, parameterDeclaration_String_value);
+    }
+    return parameterDeclaration_String_value;
+  }
+  /** @apilevel internal */
+  private void label_reset() {
+    label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle label_computed = null;
+
+  /** @apilevel internal */
+  protected int label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1901
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1901")
+  public int label() {
+    ASTState state = state();
+    if (label_computed == ASTState.NON_CYCLE || label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "CatchClause.label()", "", label_value);
+      return label_value;
+    }
+    state().trace().computeBegin(this, "CatchClause.label()", "", "");
+    label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "CatchClause.label()", "", label_value);
+    if (state().inCircle()) {
+      label_computed = state().cycle();
+      state().trace().cacheWrite(this, "CatchClause.label()", "", label_value);
+    } else {
+      label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "CatchClause.label()", "", label_value);
+    }
+    return label_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:144
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:144")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "CatchClause.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = getBlock().modifiedInScope(var);
+    state().trace().computeEnd(this, "CatchClause.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:100")
+  public TypeDecl typeThrowable() {
+    ASTState state = state();
+    if (typeThrowable_computed == ASTState.NON_CYCLE || typeThrowable_computed == state().cycle()) {
+      state().trace().cacheRead(this, "CatchClause.typeThrowable()", "", typeThrowable_value);
+      return typeThrowable_value;
+    }
+    state().trace().computeBegin(this, "CatchClause.typeThrowable()", "", "");
+    typeThrowable_value = getParent().Define_typeThrowable(this, null);
+    state().trace().computeEnd(this, "CatchClause.typeThrowable()", "", typeThrowable_value);
+    if (state().inCircle()) {
+      typeThrowable_computed = state().cycle();
+      state().trace().cacheWrite(this, "CatchClause.typeThrowable()", "", typeThrowable_value);
+    } else {
+      typeThrowable_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "CatchClause.typeThrowable()", "", typeThrowable_value);
+    }
+    return typeThrowable_value;
+  }
+  /** @apilevel internal */
+  private void typeThrowable_reset() {
+    typeThrowable_computed = null;
+    typeThrowable_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeThrowable_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeThrowable_value;
+
+  /**
+   * @attribute inh
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:44")
+  public SimpleSet<Variable> lookupVariable(String name) {
+    Object _parameters = name;
+    if (lookupVariable_String_computed == null) lookupVariable_String_computed = new java.util.HashMap(4);
+    if (lookupVariable_String_values == null) lookupVariable_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupVariable_String_values.containsKey(_parameters) && lookupVariable_String_computed != null
+        && lookupVariable_String_computed.containsKey(_parameters)
+        && (lookupVariable_String_computed.get(_parameters) == ASTState.NON_CYCLE || lookupVariable_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "CatchClause.lookupVariable(String)", _parameters, lookupVariable_String_values.get(_parameters));
+      return (SimpleSet<Variable>) lookupVariable_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "CatchClause.lookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> lookupVariable_String_value = getParent().Define_lookupVariable(this, null, name);
+    state().trace().computeEnd(this, "CatchClause.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    if (state().inCircle()) {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "CatchClause.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    } else {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "CatchClause.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    }
+    return lookupVariable_String_value;
+  }
+  /** @apilevel internal */
+  private void lookupVariable_String_reset() {
+    lookupVariable_String_computed = new java.util.HashMap(4);
+    lookupVariable_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_computed;
+  /**
+   * @return true if an exception of type exceptionType is catchable by the catch clause
+   * @attribute inh
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:182
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:182")
+  public boolean reachableCatchClause(TypeDecl exceptionType) {
+    Object _parameters = exceptionType;
+    if (reachableCatchClause_TypeDecl_computed == null) reachableCatchClause_TypeDecl_computed = new java.util.HashMap(4);
+    if (reachableCatchClause_TypeDecl_values == null) reachableCatchClause_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (reachableCatchClause_TypeDecl_values.containsKey(_parameters) && reachableCatchClause_TypeDecl_computed != null
+        && reachableCatchClause_TypeDecl_computed.containsKey(_parameters)
+        && (reachableCatchClause_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || reachableCatchClause_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "CatchClause.reachableCatchClause(TypeDecl)", _parameters, reachableCatchClause_TypeDecl_values.get(_parameters));
+      return (Boolean) reachableCatchClause_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "CatchClause.reachableCatchClause(TypeDecl)", _parameters, "");
+    boolean reachableCatchClause_TypeDecl_value = getParent().Define_reachableCatchClause(this, null, exceptionType);
+    state().trace().computeEnd(this, "CatchClause.reachableCatchClause(TypeDecl)", _parameters, reachableCatchClause_TypeDecl_value);
+    if (state().inCircle()) {
+      reachableCatchClause_TypeDecl_values.put(_parameters, reachableCatchClause_TypeDecl_value);
+      reachableCatchClause_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "CatchClause.reachableCatchClause(TypeDecl)", _parameters, reachableCatchClause_TypeDecl_value);
+    } else {
+      reachableCatchClause_TypeDecl_values.put(_parameters, reachableCatchClause_TypeDecl_value);
+      reachableCatchClause_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "CatchClause.reachableCatchClause(TypeDecl)", _parameters, reachableCatchClause_TypeDecl_value);
+    }
+    return reachableCatchClause_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void reachableCatchClause_TypeDecl_reset() {
+    reachableCatchClause_TypeDecl_computed = new java.util.HashMap(4);
+    reachableCatchClause_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map reachableCatchClause_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map reachableCatchClause_TypeDecl_computed;
+  /**
+   * @attribute inh
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:37
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:37")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "CatchClause.hostType()", "", "");
+    TypeDecl hostType_value = getParent().Define_hostType(this, null);
+    state().trace().computeEnd(this, "CatchClause.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:217
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:217")
+  public Collection<TypeDecl> caughtExceptions() {
+    state().trace().computeBegin(this, "CatchClause.caughtExceptions()", "", "");
+    Collection<TypeDecl> caughtExceptions_value = getParent().Define_caughtExceptions(this, null);
+    state().trace().computeEnd(this, "CatchClause.caughtExceptions()", "", caughtExceptions_value);
+    return caughtExceptions_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:280
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:280")
+  public boolean reportUnreachable() {
+    state().trace().computeBegin(this, "CatchClause.reportUnreachable()", "", "");
+    boolean reportUnreachable_value = getParent().Define_reportUnreachable(this, null);
+    state().trace().computeEnd(this, "CatchClause.reportUnreachable()", "", reportUnreachable_value);
+    return reportUnreachable_value;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:138
+      {
+          SimpleSet<Variable> result = parameterDeclaration(name);
+          if (!result.isEmpty()) {
+            return result;
+          }
+          return lookupVariable(name);
+        }
+    }
+    else {
+      return getParent().Define_lookupVariable(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:209
+   * @apilevel internal
+   */
+  public CatchClause Define_catchClause(ASTNode _callerNode, ASTNode _childNode) {
+    int i = this.getIndexOfChild(_callerNode);
+    return this;
+  }
+  protected boolean canDefine_catchClause(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:280
+   * @apilevel internal
+   */
+  public boolean Define_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    if (getBlockNoTransform() != null && _callerNode == getBlock()) {
+      // @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:281
+      return false;
+    }
+    else {
+      return getParent().Define_reportUnreachable(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
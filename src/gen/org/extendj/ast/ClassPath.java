@@ -0,0 +1,644 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect ClassPath
+ * @declaredat /root/project/java4/frontend/ClassPath.jrag:335
+ */
+public class ClassPath extends java.lang.Object {
+  
+
+    /**
+     * Tracks all currently available packages in the program classpath.
+     */
+    private final Set<String> packages =
+        Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+  
+
+    /**
+     * Type names that were not found on the source path or class path. This
+     * is kept when the class path is flushed, unless a path part has changed.
+     */
+    private final Set<String> missingTypes =
+        Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+  
+
+    private volatile boolean pathsInitialized = false;
+
+  
+
+    private volatile java.util.List<PathPart> classPath = Collections.emptyList();
+
+  
+
+    private volatile java.util.List<PathPart> sourcePath = Collections.emptyList();
+
+  
+
+    /**
+     * Maps type names to the position in the class path of the first indexed
+     * Jar file containing the type. This is {@code null} if the class path
+     * index is not used.
+     */
+    private volatile Map<String, Integer> typeIndex = null;
+
+  
+
+    private final Program program;
+
+  
+
+    public ClassPath(Program program) {
+      this.program = program;
+    }
+
+  
+
+    /**
+     * Used to make the classpath empty, in case you want more control
+     * over the classpath initialization. Usually you would use
+     * addClassPath to manually setup the classpath after this.
+     */
+    public synchronized void initEmptyPaths() {
+      pathsInitialized = true;
+    }
+
+  
+
+    /**
+     * Set up the classpaths (standard + boot classpath).
+     */
+    private void initPaths() {
+      if (!pathsInitialized) {
+        synchronized (this) {
+          if (!pathsInitialized) {
+            setupPaths();
+            pathsInitialized = true;
+          }
+        }
+      }
+    }
+
+  
+
+    private void setupPaths() {
+      ArrayList<String> classPaths = new ArrayList<String>();
+      ArrayList<String> sourcePaths = new ArrayList<String>();
+
+      String bootclasspath;
+      if (program.options().hasValueForOption("-bootclasspath")) {
+        bootclasspath = program.options().getValueForOption("-bootclasspath");
+      } else {
+        bootclasspath = System.getProperty("sun.boot.class.path", "");
+      }
+      for (String path : bootclasspath.split(File.pathSeparator)) {
+        classPaths.add(path);
+      }
+
+      String extdirs;
+      if (program.options().hasValueForOption("-extdirs")) {
+        extdirs = program.options().getValueForOption("-extdirs");
+      } else {
+        extdirs = System.getProperty("java.ext.dirs", "");
+      }
+      for (String path : extdirs.split(File.pathSeparator)) {
+        File dir = new File(path);
+        if (dir.isDirectory()) {
+          for (File jar : dir.listFiles()) {
+            if (jar.getName().toLowerCase().endsWith(".jar")) {
+              classPaths.add(jar.getPath());
+            }
+          }
+        }
+      }
+
+      String[] userClasses;
+      if (program.options().hasValueForOption("-classpath")) {
+        userClasses = program.options().getValueForOption("-classpath").split(File.pathSeparator);
+      } else if (program.options().hasValueForOption("-cp")) {
+        userClasses = program.options().getValueForOption("-cp").split(File.pathSeparator);
+      } else {
+        userClasses = new String[] { "." };
+      }
+      if (!program.options().hasValueForOption("-sourcepath")) {
+        for (String path : userClasses) {
+          classPaths.add(path);
+          sourcePaths.add(path);
+        }
+      } else {
+        for (String path : userClasses) {
+          classPaths.add(path);
+        }
+        userClasses = program.options().getValueForOption("-sourcepath").split(File.pathSeparator);
+        for (String path : userClasses) {
+          sourcePaths.add(path);
+        }
+      }
+
+      for (String path : classPaths) {
+        PathPart part = PathPart.createClassPath(path);
+        if (part != null) {
+          addClassPath(part);
+        } else if (program.options().verbose()) {
+          System.out.println("Warning: Could not use " + path + " as class path");
+        }
+      }
+      for (String path : sourcePaths) {
+        PathPart part = PathPart.createSourcePath(path);
+        if (part != null) {
+          addSourcePath(part);
+        } else if(program.options().verbose()) {
+          System.out.println("Warning: Could not use " + path + " as source path");
+        }
+      }
+
+      if (program.options().hasValueForOption("-Xsymbol-file")) {
+        useSymbolFile(new File(program.options().getValueForOption("-Xsymbol-file")));
+      }
+
+      if (program.options().hasValueForOption("-Xclasspath-index")) {
+        ClassPathIndex index = new ClassPathIndex(
+            new File(program.options().getValueForOption("-Xclasspath-index")));
+        for (PathPart part : classPath) {
+          if (part instanceof JarFilePath) {
+            index.index((JarFilePath) part);
+          }
+        }
+        try {
+          index.save();
+        } catch (IOException e) {
+          System.err.println("Warning: could not write class path index: " + e.getMessage());
+        }
+        buildTypeIndex();
+      }
+    }
+
+  
+
+    /**
+     * Replaces the Jar files in a symbol file by the symbol file. The Jar files
+     * must be unmodified, and must be in the same order and next to each other
+     * on the class path. Otherwise the symbol file is not used.
+     */
+    private void useSymbolFile(File file) {
+      SymbolFile symbolFile;
+      try {
+        symbolFile = SymbolFile.open(file);
+      } catch (IOException e) {
+        System.err.println("Warning: could not read symbol file: " + e.getMessage());
+        return;
+      }
+      java.util.List<String> jarPaths = symbolFile.getJarPaths();
+      if (jarPaths.isEmpty()) {
+        System.err.println("Warning: the symbol file " + file
+            + " lists no Jar files, and is not used.");
+        return;
+      }
+      java.util.List<PathPart> classPath = new ArrayList<PathPart>(this.classPath);
+      int start = -1;
+      for (int i = 0; i < classPath.size() && start == -1; ++i) {
+        if (jarPaths.get(0).equals(canonicalPath(classPath.get(i)))) {
+          start = i;
+        }
+      }
+      if (start == -1 || start + jarPaths.size() > classPath.size()) {
+        System.err.println("Warning: the symbol file " + file
+            + " does not match the class path, and is not used.");
+        return;
+      }
+      java.util.List<String> paths = new ArrayList<String>();
+      for (int i = 0; i < jarPaths.size(); ++i) {
+        PathPart part = classPath.get(start + i);
+        if (!(part instanceof JarFilePath) || !jarPaths.get(i).equals(canonicalPath(part))) {
+          System.err.println("Warning: the symbol file " + file
+              + " does not match the class path, and is not used.");
+          return;
+        }
+        if (!symbolFile.isUpToDate(i)) {
+          System.err.println("Warning: the symbol file " + file + " is out of date: "
+              + part.getPath() + " has been modified.");
+          return;
+        }
+        paths.add(part.getPath());
+      }
+      java.util.List<PathPart> run = classPath.subList(start, start + jarPaths.size());
+      for (PathPart part : run) {
+        try {
+          ((JarFilePath) part).close();
+        } catch (IOException e) {
+          // Ignored: the Jar file is not used.
+        }
+      }
+      run.clear();
+      classPath.add(start, new SymbolFilePath(symbolFile, paths));
+      this.classPath = Collections.unmodifiableList(classPath);
+    }
+
+  
+
+    private static String canonicalPath(PathPart part) {
+      try {
+        return new File(part.getPath()).getCanonicalPath();
+      } catch (IOException e) {
+        return part.getPath();
+      }
+    }
+
+  
+
+    /**
+     * Maps each type in an indexed Jar file to the position of the first Jar
+     * file on the class path containing it.
+     */
+    private void buildTypeIndex() {
+      java.util.List<PathPart> classPath = this.classPath;
+      Map<String, Integer> typeIndex = new HashMap<String, Integer>();
+      for (int i = 0; i < classPath.size(); ++i) {
+        PathPart part = classPath.get(i);
+        if (part instanceof JarFilePath) {
+          Collection<String> entries = ((JarFilePath) part).getEntries();
+          if (entries != null) {
+            for (String entry : entries) {
+              String typeName = entry.substring(0, entry.length() - ".class".length())
+                  .replace('/', '.');
+              if (!typeIndex.containsKey(typeName)) {
+                typeIndex.put(typeName, i);
+              }
+            }
+          }
+        }
+      }
+      this.typeIndex = typeIndex;
+    }
+
+  
+
+    /**
+     * Finds a class file on the class path.
+     *
+     * <p>If the class path index is used, the class path parts before the
+     * first Jar file containing the type that are not indexed Jar files are
+     * searched, and then the Jar file. Otherwise, all class path parts are
+     * searched in order.
+     */
+    private ClassSource findClassSource(String typeName) {
+      // The type index positions refer to this class path list. Both are
+      // replaced by flush(), which is only called between compilations.
+      java.util.List<PathPart> classPath = this.classPath;
+      Map<String, Integer> typeIndex = this.typeIndex;
+      int end = classPath.size();
+      Integer position = null;
+      if (typeIndex != null) {
+        position = typeIndex.get(typeName);
+        if (position != null) {
+          end = position;
+        }
+      }
+      for (int i = 0; i < end; ++i) {
+        PathPart part = classPath.get(i);
+        if (typeIndex != null && part instanceof JarFilePath
+            && ((JarFilePath) part).getEntries() != null) {
+          // Indexed Jar files before the position do not contain the type.
+          continue;
+        }
+        ClassSource source = part.findSource(typeName);
+        if (source != ClassSource.NONE) {
+          return source;
+        }
+      }
+      if (position != null) {
+        return classPath.get(position).findSource(typeName);
+      }
+      return ClassSource.NONE;
+    }
+
+  
+
+    /**
+     * Get the input stream for a compilation unit specified using a canonical
+     * name. This is used by the bytecode reader to load nested types.
+     * Nested class files are found in the same way as other class files, using
+     * the class path index if it is enabled.
+     * @param name The canonical name of the compilation unit.
+     */
+    public InputStream getInputStream(String name) {
+      try {
+        ClassSource source = findClassSource(name);
+        if (source != ClassSource.NONE) {
+          return source.openInputStream();
+        }
+      } catch(IOException e) {
+      }
+      throw new Error("Could not find nested type " + name);
+    }
+
+  
+
+    /**
+     * Load a compilation unit from disk based on a classname. A class file is parsed if one exists
+     * matching the classname that is not older than a corresponding source file, otherwise the
+     * source file is selected.
+     *
+     * <p>This method is called by the LibCompilationUnit NTA.  We rely on the result of this method
+     * being cached because it will return a newly parsed compilation unit each time it is called.
+     *
+     * @return the loaded compilation unit, or the provided default compilation unit if no matching
+     * compilation unit was found.
+     */
+    public CompilationUnit getCompilationUnit(String typeName,
+        CompilationUnit defaultCompilationUnit) {
+      if (missingTypes.contains(typeName)) {
+        return defaultCompilationUnit;
+      }
+      try {
+        initPaths();
+        ClassSource sourcePart = ClassSource.NONE;
+        ClassSource classPart = ClassSource.NONE;
+        for (PathPart part : sourcePath) {
+          sourcePart = part.findSource(typeName);
+          if (sourcePart != ClassSource.NONE) {
+            break;
+          }
+        }
+        classPart = findClassSource(typeName);
+
+        if (sourcePart == ClassSource.NONE && classPart == ClassSource.NONE) {
+          missingTypes.add(typeName);
+          return defaultCompilationUnit;
+        }
+
+        if (sourcePart != ClassSource.NONE) /* && (classPart == ClassSource.NONE
+                                               || classPart.lastModified() < sourcePart.lastModified()))*/ {
+          CompilationUnit unit = sourcePart.parseCompilationUnit(program);
+          int index = typeName.lastIndexOf('.');
+          if (index == -1) {
+            return unit;
+          }
+          String pkgName = typeName.substring(0, index);
+          if (pkgName.equals(unit.getPackageDecl())) {
+            return unit;
+          }
+        }
+        if (classPart != ClassSource.NONE) {
+          CompilationUnit unit = classPart.parseCompilationUnit(program);
+          int index = typeName.lastIndexOf('.');
+          if (index == -1) {
+            return unit;
+          }
+          String pkgName = typeName.substring(0, index);
+          if (pkgName.equals(unit.getPackageDecl())) {
+            return unit;
+          }
+        }
+        return defaultCompilationUnit;
+      } catch (IOException e) {
+        // Attributes can't throw checked exceptions, so convert this to an Error.
+        throw new Error(e);
+      }
+    }
+
+  
+
+    /**
+     * @return {@code true} if a previous call to getCompilationUnit found no
+     * source file or class file for the type
+     */
+    public boolean isMissing(String typeName) {
+      return missingTypes.contains(typeName);
+    }
+
+  
+
+    /**
+     * Add a package name to available package set.
+     */
+    public void addPackage(String packageName) {
+      int end = packageName.length();
+      while (end > 0 && packages.add(packageName.substring(0, end))) {
+        end = packageName.lastIndexOf('.', end - 1);
+      }
+    }
+
+  
+
+    /**
+     * Add a path part to the library class path. The missing type names are
+     * cleared, because the new path part may contain them.
+     */
+    public synchronized void addClassPath(PathPart pathPart) {
+      classPath = append(classPath, pathPart);
+      missingTypes.clear();
+    }
+
+  
+
+    /**
+     * Add a path part to the user class path. The missing type names are
+     * cleared, because the new path part may contain them.
+     */
+    public synchronized void addSourcePath(PathPart pathPart) {
+      sourcePath = append(sourcePath, pathPart);
+      missingTypes.clear();
+    }
+
+  
+
+    private static java.util.List<PathPart> append(java.util.List<PathPart> parts,
+        PathPart pathPart) {
+      java.util.List<PathPart> list = new ArrayList<PathPart>(parts.size() + 1);
+      list.addAll(parts);
+      list.add(pathPart);
+      return Collections.unmodifiableList(list);
+    }
+
+  
+
+    /**
+     * Quick pass, slow fail. Cache existing package names in a concurrent set.
+     * @return <code>true</code> if there is a package with the given name on
+     * the classpath
+     */
+    public boolean isPackage(String packageName) {
+      initPaths();
+      if (packages.contains(packageName)) {
+        return true;
+      }
+      for (PathPart part : classPath) {
+        if (part.hasPackage(packageName)) {
+          addPackage(packageName);
+          return true;
+        }
+      }
+      for (PathPart part : sourcePath) {
+        if (part.hasPackage(packageName)) {
+          addPackage(packageName);
+          return true;
+        }
+      }
+      return false;
+    }
+
+  
+
+    /**
+     * Prepare the class path for reuse in a new compilation.
+     *
+     * <p>Jar files that have been modified since they were opened are reopened,
+     * directory listings of modified folders are discarded, and the cached
+     * package names are cleared. The missing type names are cleared if any
+     * path part was modified.
+     *
+     * @return the replaced path parts
+     */
+    public synchronized Collection<PathPart> flush() {
+      packages.clear();
+      boolean modified = revalidate(this.classPath);
+      modified |= revalidate(sourcePath);
+      Collection<PathPart> replaced = new ArrayList<PathPart>();
+      java.util.List<PathPart> classPath = new ArrayList<PathPart>(this.classPath);
+      for (int i = 0; i < classPath.size(); i++) {
+        PathPart part = classPath.get(i);
+        if (part instanceof JarFilePath && ((JarFilePath) part).isModified()) {
+          replaced.add(part);
+          try {
+            ((JarFilePath) part).close();
+          } catch (IOException e) {
+            // Ignored: the Jar file is replaced anyway.
+          }
+          PathPart fresh = PathPart.createClassPath(part.getPath());
+          if (fresh != null) {
+            classPath.set(i, fresh);
+          } else {
+            classPath.remove(i--);
+          }
+        }
+      }
+      this.classPath = Collections.unmodifiableList(classPath);
+      if (modified || !replaced.isEmpty()) {
+        missingTypes.clear();
+      }
+      if (typeIndex != null && !replaced.isEmpty()) {
+        // Replaced Jar files are scanned again, but not stored in the index
+        // file until the next initialization.
+        for (PathPart part : classPath) {
+          if (part instanceof JarFilePath && ((JarFilePath) part).getEntries() == null) {
+            JarFilePath jar = (JarFilePath) part;
+            jar.setEntries(jar.scanEntries());
+          }
+        }
+        buildTypeIndex();
+      }
+      return replaced;
+    }
+
+  
+
+    /**
+     * Revalidates the directory listings of folder path parts.
+     *
+     * @return {@code true} if a path part may have been modified
+     */
+    private static boolean revalidate(java.util.List<PathPart> parts) {
+      boolean modified = false;
+      for (PathPart part : parts) {
+        if (part instanceof FolderPath) {
+          modified |= ((FolderPath) part).revalidate();
+        } else if (part instanceof SymbolFilePath) {
+          modified |= ((SymbolFilePath) part).isModified();
+        } else if (!(part instanceof JarFilePath)) {
+          // Other path parts can not be revalidated.
+          modified = true;
+        }
+      }
+      return modified;
+    }
+
+  
+
+    /**
+     * @return a copy of the source path parts
+     */
+    public Collection<PathPart> getSourcePath() {
+      return new ArrayList<PathPart>(sourcePath);
+    }
+
+  
+
+    /**
+     * @return a copy of the class path parts
+     */
+    public Collection<PathPart> getClassPath() {
+      return new ArrayList<PathPart>(classPath);
+    }
+
+
+}
@@ -0,0 +1,235 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect ClassPathIndex
+ * @declaredat /root/project/java4/frontend/ClassPathIndex.jadd:55
+ */
+public class ClassPathIndex extends java.lang.Object {
+  
+    private static final int MAGIC = 0x454A4349;
+
+   // "EJCI"
+    private static final int VERSION = 2;
+
+  
+
+    /** Indexed Jar file contents. */
+    private static class JarIndex {
+      final long size;
+      final long lastModified;
+      final String[] entries;
+
+      JarIndex(long size, long lastModified, String[] entries) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.entries = entries;
+      }
+    }
+
+  
+
+    private final File file;
+
+  
+    private final Map<String, JarIndex> jars = new LinkedHashMap<String, JarIndex>();
+
+  
+    private boolean modified = false;
+
+  
+
+    /**
+     * Loads the index from the given file, if it exists.
+     */
+    public ClassPathIndex(File file) {
+      this.file = file;
+      if (file.isFile()) {
+        try {
+          load();
+        } catch (EOFException e) {
+          System.err.println("Warning: class path index " + file + " is truncated");
+          jars.clear();
+        } catch (IOException e) {
+          System.err.println("Warning: could not read class path index " + file
+              + ": " + e.getMessage());
+          jars.clear();
+        }
+      }
+    }
+
+  
+
+    private void load() throws IOException {
+      DataInputStream in = new DataInputStream(
+          new BufferedInputStream(new FileInputStream(file)));
+      try {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+          // Unknown format: the index is rebuilt.
+          return;
+        }
+        int numJars = in.readInt();
+        if (numJars < 0) {
+          throw new IOException("malformed index file");
+        }
+        for (int i = 0; i < numJars; ++i) {
+          String path = in.readUTF();
+          long size = in.readLong();
+          long lastModified = in.readLong();
+          int numEntries = in.readInt();
+          if (numEntries < 0) {
+            throw new IOException("malformed index file");
+          }
+          String[] entries = new String[numEntries];
+          for (int j = 0; j < entries.length; ++j) {
+            entries[j] = in.readUTF();
+          }
+          jars.put(path, new JarIndex(size, lastModified, entries));
+        }
+      } finally {
+        in.close();
+      }
+    }
+
+  
+
+    /**
+     * Sets the class entries of a Jar file from the index. If the Jar file is
+     * not indexed, or has been modified, it is scanned and added to the index.
+     */
+    public void index(JarFilePath jar) {
+      File jarFile = new File(jar.getPath());
+      String key;
+      try {
+        key = jarFile.getCanonicalPath();
+      } catch (IOException e) {
+        key = jarFile.getAbsolutePath();
+      }
+      long size = jarFile.length();
+      long lastModified = jarFile.lastModified();
+      JarIndex index = jars.get(key);
+      if (index == null || index.size != size || index.lastModified != lastModified) {
+        index = new JarIndex(size, lastModified, jar.scanEntries());
+        jars.put(key, index);
+        modified = true;
+      }
+      jar.setEntries(index.entries);
+    }
+
+  
+
+    /**
+     * Writes the index file if any Jar file was added or updated.
+     * The file is replaced atomically.
+     */
+    public void save() throws IOException {
+      if (!modified) {
+        return;
+      }
+      File dir = file.getAbsoluteFile().getParentFile();
+      File temp = File.createTempFile(file.getName(), ".tmp", dir);
+      DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(new FileOutputStream(temp)));
+      boolean written = false;
+      try {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(jars.size());
+        for (Map.Entry<String, JarIndex> entry : jars.entrySet()) {
+          JarIndex index = entry.getValue();
+          // Strings longer than 65535 bytes make writeUTF throw an exception,
+          // and then the index file is not replaced.
+          out.writeUTF(entry.getKey());
+          out.writeLong(index.size);
+          out.writeLong(index.lastModified);
+          out.writeInt(index.entries.length);
+          for (String name : index.entries) {
+            out.writeUTF(name);
+          }
+        }
+        written = true;
+      } finally {
+        out.close();
+        if (!written) {
+          temp.delete();
+        }
+      }
+      if (!temp.renameTo(file)) {
+        file.delete();
+        if (!temp.renameTo(file)) {
+          temp.delete();
+          throw new IOException("could not replace " + file);
+        }
+      }
+      modified = false;
+    }
+
+
+}
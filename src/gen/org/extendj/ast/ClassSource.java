@@ -0,0 +1,254 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect PathPart
+ * @declaredat /root/project/java4/frontend/PathPart.jadd:49
+ */
+public abstract class ClassSource extends java.lang.Object {
+  
+    protected final PathPart sourcePath;
+
+  
+
+    /**
+     * Used to represent an non-existent compilation unit source file.
+     *
+     * <p>This class source should never be used to attempt to load a class, it
+     * is simply used as a marker to indicate failure to find a compilation
+     * unit.
+     */
+    public static final ClassSource NONE = new ClassSource(null) {
+      @Override
+      public long lastModified() {
+        return 0;
+      }
+      @Override
+      public InputStream openInputStream() {
+        throw new UnsupportedOperationException(
+            "ClassSource.NONE can not open an input stream!");
+      }
+      @Override
+      public String pathName() {
+        return "<Unknown Source>";
+      }
+    };
+
+  
+
+    public ClassSource(PathPart sourcePath) {
+      this.sourcePath = sourcePath;
+    }
+
+  
+
+    public PathPart getSourcePath() {
+      return sourcePath;
+    }
+
+  
+
+    /**
+     * @return Last modification time of the class source.
+     */
+    abstract public long lastModified();
+
+  
+
+    /**
+     * @return Input stream pointing to the class source.
+     */
+    abstract public InputStream openInputStream() throws IOException;
+
+  
+
+    /**
+     * Test if the class source has been modified after a compilation unit was
+     * loaded from it. This is used to decide if a library compilation unit can
+     * be reused for a later compilation.
+     *
+     * @return {@code true} if the class source may have been modified
+     */
+    public boolean isModified() {
+      return true;
+    }
+
+  
+
+    /**
+     * It is sufficient to only overload pathName if sourceName=pathName
+     * @return the full name of the class source (e.g. file path).
+     */
+    public String sourceName() {
+      return pathName();
+    }
+
+  
+
+    /**
+     * @return the path to the source file or the enclosing jar file
+     */
+    abstract public String pathName();
+
+  
+
+    /**
+     * It is sufficient to only overload pathName if relativeName = pathName
+     * @return the path to the source file, or the path to the file inside a
+     * jar file
+     */
+    public String relativeName() {
+      return pathName();
+    }
+
+  
+
+    @Override
+    public String toString() {
+      return sourceName();
+    }
+
+  
+
+    /**
+     * Parses the compilation unit from this class source.
+     *
+     * NB only call this once! The input stream is closed after the compilation
+     * unit is parsed.
+     *
+     * @return parsed compilation unit, or {@code null} if something failed
+     */
+    public CompilationUnit parseCompilationUnit(Program program) throws IOException {
+      return parseSource(program, false);
+    }
+
+  
+
+    /**
+     * Parses the compilation unit from this source file.
+     *
+     * <p>This does not modify the program AST, so it can be used to parse
+     * multiple source files concurrently. With {@code concurrent} set, the
+     * verbose message is printed as one line so that the messages of
+     * concurrent parses do not interleave.
+     *
+     * NB only call this once! The input stream is closed after the compilation
+     * unit is parsed.
+     *
+     * @param concurrent {@code true} if other source files may be parsed at
+     * the same time
+     * @return parsed compilation unit
+     */
+    public CompilationUnit parseSource(Program program, boolean concurrent) throws IOException {
+      InputStream is = openInputStream();
+      try {
+        program.trace.pushEvent("Java parsing", pathName());
+        if (program.provenance.isEnabled()) {
+          program.provenance.fileRead(relativeName());
+        }
+        if (program.options().verbose() && !concurrent) {
+          System.out.print("Loading " + sourceName());
+        }
+
+        long start = System.nanoTime();
+        CompilationUnit u = program.javaParser.parse(is, sourceName());
+        long elapsed = System.nanoTime() - start;
+        synchronized (program) {
+          program.javaParseTime += elapsed;
+          program.numJavaFiles += 1;
+        }
+
+        u.setFromSource(true);
+        u.setClassSource(this);
+
+        if (program.options().verbose()) {
+          if (concurrent) {
+            System.out.println("Loading " + sourceName() + " in " + (elapsed / 1000000) + " ms");
+          } else {
+            System.out.println(" in " + (elapsed / 1000000) + " ms");
+          }
+        }
+        return u;
+      } catch (Exception e) {
+        System.err.println("Unexpected error of kind " + e.getClass().getName());
+        throw new Error(sourceName() + ": " + e.getMessage(), e);
+      } finally {
+        program.trace.popEvent();
+        if (is != null) {
+          try {
+            is.close();
+          } catch (IOException e) {
+          }
+        }
+      }
+    }
+
+
+}
@@ -0,0 +1,1660 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:310
+ * @production ConditionalExpr : {@link Expr} ::= <span class="component">Condition:{@link Expr}</span> <span class="component">TrueExpr:{@link Expr}</span> <span class="component">FalseExpr:{@link Expr}</span>;
+
+ */
+public class ConditionalExpr extends Expr implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:236
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getCondition());
+    out.print(" ? ");
+    out.print(getTrueExpr());
+    out.print(" : ");
+    out.print(getFalseExpr());
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1230
+   */
+  public void createBCode(CodeGeneration gen) {
+    int end_label = -1;
+    int false_label = -1;
+    if (!getCondition().isConstant()) {
+      false_label = gen.constantPool().newLabel();
+      getCondition().branchFalse(gen, false_label);
+    }
+    if (getCondition().canBeTrue()) {
+      getTrueExpr().createBCode(gen);
+      getTrueExpr().emitCastTo(gen, type());
+      if (getCondition().canBeFalse()) {
+        end_label = gen.constantPool().newLabel();
+        gen.GOTO(end_label);
+      }
+    }
+    if (false_label != -1) {
+      gen.addLabel(false_label);
+    }
+    if (getCondition().canBeFalse()) {
+      getFalseExpr().createBCode(gen);
+      getFalseExpr().emitCastTo(gen, type());
+    }
+    if (end_label != -1) {
+      gen.addLabel(end_label);
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1320
+   */
+  public void branchTrue(CodeGeneration gen, int target) {
+    // Branch when true.
+    int else_label = -1;
+    int end_label = -1;
+    if (!getCondition().isConstant()) {
+      else_label = gen.constantPool().newLabel();
+      getCondition().branchFalse(gen, else_label);
+    }
+    if (getCondition().canBeTrue()) {
+      getTrueExpr().branchTrue(gen, target);
+      if (getCondition().canBeFalse() && getTrueExpr().canBeFalse()) {
+        end_label = gen.constantPool().newLabel();
+        gen.GOTO(end_label);
+      }
+    }
+    if (else_label != -1) {
+      gen.addLabel(else_label);
+    }
+    if (getCondition().canBeFalse()) {
+      getFalseExpr().branchTrue(gen, target);
+    }
+    if (end_label != -1) {
+      gen.addLabel(end_label);
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1431
+   */
+  public void branchFalse(CodeGeneration gen, int target) {
+    // Branch when false.
+    int else_label = -1;
+    int end_label = -1;
+    if (!getCondition().isConstant()) {
+      else_label = gen.constantPool().newLabel();
+      getCondition().branchFalse(gen, else_label);
+    }
+    if (getCondition().canBeTrue()) {
+      getTrueExpr().branchFalse(gen, target);
+      if (getCondition().canBeFalse() && getTrueExpr().canBeTrue()) {
+        end_label = gen.constantPool().newLabel();
+        gen.GOTO(end_label);
+      }
+    }
+    if (else_label != -1) {
+      gen.addLabel(else_label);
+    }
+    if (getCondition().canBeFalse()) {
+      getFalseExpr().branchFalse(gen, target);
+    }
+    if (end_label != -1) {
+      gen.addLabel(end_label);
+    }
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:460
+   */
+  public void emitBooleanCondition(CodeGeneration gen) {
+    super.emitBooleanCondition(gen);
+    if (type().isReferenceType()) {
+      type().emitBoxingOperation(gen);
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ConditionalExpr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[3];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ConditionalExpr(Expr p0, Expr p1, Expr p2) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+    setChild(p2, 2);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 3;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    constant_reset();
+    isConstant_reset();
+    booleanOperator_reset();
+    unassignedAfterTrue_Variable_reset();
+    unassignedAfterFalse_Variable_reset();
+    unassignedAfter_Variable_reset();
+    type_reset();
+    compatibleStrictContext_TypeDecl_reset();
+    compatibleLooseContext_TypeDecl_reset();
+    pertinentToApplicability_Expr_BodyDecl_int_reset();
+    moreSpecificThan_TypeDecl_TypeDecl_reset();
+    potentiallyCompatible_TypeDecl_BodyDecl_reset();
+    isBooleanExpression_reset();
+    isBooleanConditional_reset();
+    isNumericExpression_reset();
+    isNumericConditional_reset();
+    isReferenceConditional_reset();
+    isPolyExpression_reset();
+    assignConversionTo_TypeDecl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:52
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:56
+   */
+  public ConditionalExpr clone() throws CloneNotSupportedException {
+    ConditionalExpr node = (ConditionalExpr) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:61
+   */
+  public ConditionalExpr copy() {
+    try {
+      ConditionalExpr node = (ConditionalExpr) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:80
+   */
+  @Deprecated
+  public ConditionalExpr fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:90
+   */
+  public ConditionalExpr treeCopyNoTransform() {
+    ConditionalExpr tree = (ConditionalExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:110
+   */
+  public ConditionalExpr treeCopy() {
+    ConditionalExpr tree = (ConditionalExpr) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:124
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Condition child.
+   * @param node The new node to replace the Condition child.
+   * @apilevel high-level
+   */
+  public void setCondition(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Condition child.
+   * @return The current node used as the Condition child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Condition")
+  public Expr getCondition() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the Condition child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Condition child.
+   * @apilevel low-level
+   */
+  public Expr getConditionNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the TrueExpr child.
+   * @param node The new node to replace the TrueExpr child.
+   * @apilevel high-level
+   */
+  public void setTrueExpr(Expr node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the TrueExpr child.
+   * @return The current node used as the TrueExpr child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="TrueExpr")
+  public Expr getTrueExpr() {
+    return (Expr) getChild(1);
+  }
+  /**
+   * Retrieves the TrueExpr child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TrueExpr child.
+   * @apilevel low-level
+   */
+  public Expr getTrueExprNoTransform() {
+    return (Expr) getChildNoTransform(1);
+  }
+  /**
+   * Replaces the FalseExpr child.
+   * @param node The new node to replace the FalseExpr child.
+   * @apilevel high-level
+   */
+  public void setFalseExpr(Expr node) {
+    setChild(node, 2);
+  }
+  /**
+   * Retrieves the FalseExpr child.
+   * @return The current node used as the FalseExpr child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="FalseExpr")
+  public Expr getFalseExpr() {
+    return (Expr) getChild(2);
+  }
+  /**
+   * Retrieves the FalseExpr child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the FalseExpr child.
+   * @apilevel low-level
+   */
+  public Expr getFalseExprNoTransform() {
+    return (Expr) getChildNoTransform(2);
+  }
+  /**
+   * @aspect AutoBoxing
+   * @declaredat /root/project/java5/frontend/AutoBoxing.jrag:252
+   */
+  private TypeDecl refined_AutoBoxing_ConditionalExpr_type()
+{
+    TypeDecl second = getTrueExpr().type();
+    TypeDecl third = getFalseExpr().type();
+
+    if (second == third) {
+      return second;
+    } else if (second.isReferenceType() && third.isNull()) {
+      return second;
+    } else if (second.isNull() && third.isReferenceType()) {
+      return third;
+    }
+
+    if (second.isPrimitiveType()) {
+      if (!second.isNull() && third.isNull()) {
+        return second.boxed();
+      }
+    } else if (!second.unboxed().isUnknown()) {
+      second = second.unboxed();
+    }
+
+    if (third.isPrimitiveType()) {
+      if (!third.isNull() && second.isNull()) {
+        return third.boxed();
+      }
+    } else if (!third.unboxed().isUnknown()) {
+      third = third.unboxed();
+    }
+
+    return conditionalExprType(second, third);
+  }
+  /** @apilevel internal */
+  private void constant_reset() {
+    constant_computed = null;
+    constant_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constant_computed = null;
+
+  /** @apilevel internal */
+  protected Constant constant_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:85
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:85")
+  public Constant constant() {
+    ASTState state = state();
+    if (constant_computed == ASTState.NON_CYCLE || constant_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConditionalExpr.constant()", "", constant_value);
+      return constant_value;
+    }
+    state().trace().computeBegin(this, "ConditionalExpr.constant()", "", "");
+    constant_value = type().questionColon(getCondition().constant(),
+              getTrueExpr().constant(),getFalseExpr().constant());
+    state().trace().computeEnd(this, "ConditionalExpr.constant()", "", constant_value);
+    if (state().inCircle()) {
+      constant_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConditionalExpr.constant()", "", constant_value);
+    } else {
+      constant_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConditionalExpr.constant()", "", constant_value);
+    }
+    return constant_value;
+  }
+  /** @apilevel internal */
+  private void isConstant_reset() {
+    isConstant_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isConstant_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isConstant_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:406
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:406")
+  public boolean isConstant() {
+    ASTState state = state();
+    if (isConstant_computed == ASTState.NON_CYCLE || isConstant_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConditionalExpr.isConstant()", "", isConstant_value);
+      return isConstant_value;
+    }
+    state().trace().computeBegin(this, "ConditionalExpr.isConstant()", "", "");
+    isConstant_value = getCondition().isConstant() && getTrueExpr().isConstant() && getFalseExpr().isConstant();
+    state().trace().computeEnd(this, "ConditionalExpr.isConstant()", "", isConstant_value);
+    if (state().inCircle()) {
+      isConstant_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConditionalExpr.isConstant()", "", isConstant_value);
+    } else {
+      isConstant_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConditionalExpr.isConstant()", "", isConstant_value);
+    }
+    return isConstant_value;
+  }
+  /** @apilevel internal */
+  private void booleanOperator_reset() {
+    booleanOperator_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle booleanOperator_computed = null;
+
+  /** @apilevel internal */
+  protected boolean booleanOperator_value;
+
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:253
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:253")
+  public boolean booleanOperator() {
+    ASTState state = state();
+    if (booleanOperator_computed == ASTState.NON_CYCLE || booleanOperator_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConditionalExpr.booleanOperator()", "", booleanOperator_value);
+      return booleanOperator_value;
+    }
+    state().trace().computeBegin(this, "ConditionalExpr.booleanOperator()", "", "");
+    booleanOperator_value = getTrueExpr().type().isBoolean() && getFalseExpr().type().isBoolean();
+    state().trace().computeEnd(this, "ConditionalExpr.booleanOperator()", "", booleanOperator_value);
+    if (state().inCircle()) {
+      booleanOperator_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConditionalExpr.booleanOperator()", "", booleanOperator_value);
+    } else {
+      booleanOperator_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConditionalExpr.booleanOperator()", "", booleanOperator_value);
+    }
+    return booleanOperator_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:375
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:375")
+  public boolean assignedAfterTrue(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfterTrue(Variable)", _parameters, "");
+    boolean assignedAfterTrue_Variable_value = isFalse() || (getTrueExpr().assignedAfterTrue(v) && getFalseExpr().assignedAfterTrue(v));
+    state().trace().computeEnd(this, "Expr.assignedAfterTrue(Variable)", _parameters, assignedAfterTrue_Variable_value);
+    return assignedAfterTrue_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:377
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:377")
+  public boolean assignedAfterFalse(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfterFalse(Variable)", _parameters, "");
+    boolean assignedAfterFalse_Variable_value = isTrue() || (getTrueExpr().assignedAfterFalse(v) && getFalseExpr().assignedAfterFalse(v));
+    state().trace().computeEnd(this, "Expr.assignedAfterFalse(Variable)", _parameters, assignedAfterFalse_Variable_value);
+    return assignedAfterFalse_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = booleanOperator()
+          ? assignedAfterTrue(v) && assignedAfterFalse(v)
+          : getTrueExpr().assignedAfter(v) && getFalseExpr().assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfterTrue_Variable_reset() {
+    unassignedAfterTrue_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterTrue_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:905")
+  public boolean unassignedAfterTrue(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterTrue_Variable_values == null) unassignedAfterTrue_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterTrue_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterTrue_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterTrue_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterTrue_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfterTrue(Variable)", _parameters, "");
+        new_unassignedAfterTrue_Variable_value = getTrueExpr().unassignedAfterTrue(v) && getFalseExpr().unassignedAfterTrue(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterTrue_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterTrue_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterTrue_Variable_values.put(_parameters, new_unassignedAfterTrue_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterTrue_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfterTrue(Variable)", _parameters, "");
+      boolean new_unassignedAfterTrue_Variable_value = getTrueExpr().unassignedAfterTrue(v) && getFalseExpr().unassignedAfterTrue(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterTrue_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterTrue_Variable_value;
+      }
+      return new_unassignedAfterTrue_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfterFalse_Variable_reset() {
+    unassignedAfterFalse_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterFalse_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:907")
+  public boolean unassignedAfterFalse(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterFalse_Variable_values == null) unassignedAfterFalse_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterFalse_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterFalse_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterFalse_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterFalse_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfterFalse(Variable)", _parameters, "");
+        new_unassignedAfterFalse_Variable_value = getTrueExpr().unassignedAfterFalse(v) && getFalseExpr().unassignedAfterFalse(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterFalse_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterFalse_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterFalse_Variable_values.put(_parameters, new_unassignedAfterFalse_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterFalse_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfterFalse(Variable)", _parameters, "");
+      boolean new_unassignedAfterFalse_Variable_value = getTrueExpr().unassignedAfterFalse(v) && getFalseExpr().unassignedAfterFalse(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterFalse_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterFalse_Variable_value;
+      }
+      return new_unassignedAfterFalse_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = booleanOperator()
+              ? unassignedAfterTrue(v) && unassignedAfterFalse(v)
+              : getTrueExpr().unassignedAfter(v) && getFalseExpr().unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = booleanOperator()
+            ? unassignedAfterTrue(v) && unassignedAfterFalse(v)
+            : getTrueExpr().unassignedAfter(v) && getFalseExpr().unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = type_compute();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl type_compute() {
+      TypeDecl type = refined_AutoBoxing_ConditionalExpr_type();
+      if (type.isUnknown()) {
+        TypeDecl trueType = getTrueExpr().type();
+        TypeDecl falseType = getFalseExpr().type();
+        if (!trueType.isReferenceType() && !trueType.boxed().isUnknown()) {
+          trueType = trueType.boxed();
+        }
+        if (!falseType.isReferenceType() && !falseType.boxed().isUnknown()) {
+          falseType = falseType.boxed();
+        }
+        ArrayList<TypeDecl> list = new ArrayList<TypeDecl>();
+        list.add(trueType);
+        list.add(falseType);
+        return type.lookupLUBType(list).lub();
+      }
+      return type;
+    }
+  /**
+   * Returns the type of a conditional expression, given the types of the
+   * second and third operands.
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:395
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:395")
+  public TypeDecl conditionalExprType(TypeDecl second, TypeDecl third) {
+    Object _parameters = java.util.Arrays.asList(second, third);
+    state().trace().computeBegin(this, "ConditionalExpr.conditionalExprType(TypeDecl,TypeDecl)", _parameters, "");
+    try {
+        if (second == third) {
+          return second;
+        }
+    
+        if (second.isNumericType() && third.isNumericType()) {
+          if (second.isByte() && third.isShort()) {
+            return third;
+          }
+          if (second.isShort() && third.isByte()) {
+            return second;
+          }
+          if ((second.isByte() || second.isShort() || second.isChar())
+              && third.isInt() && getFalseExpr().isConstant()
+              && getFalseExpr().representableIn(second)) {
+            return second;
+          }
+          if ((third.isByte() || third.isShort() || third.isChar())
+              && second.isInt() && getTrueExpr().isConstant()
+              && getTrueExpr().representableIn(third)) {
+            return third;
+          }
+          return second.binaryNumericPromotion(third);
+        } else if (second.isBoolean() && third.isBoolean()) {
+          return second;
+        } else if (second.isReferenceType() && third.isNull()) {
+          return second;
+        } else if (second.isNull() && third.isReferenceType()) {
+          return third;
+        } else if (second.isReferenceType() && third.isReferenceType()) {
+          if (second.assignConversionTo(third, null)) {
+            return third;
+          }
+          if (third.assignConversionTo(second, null)) {
+            return second;
+          }
+          return unknownType();
+        } else {
+          return unknownType();
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "ConditionalExpr.conditionalExprType(TypeDecl,TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1177
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1177")
+  public boolean canBeTrue() {
+    state().trace().computeBegin(this, "Expr.canBeTrue()", "", "");
+    boolean canBeTrue_value = type().isBoolean()
+          && (getCondition().canBeTrue() && getTrueExpr().canBeTrue()
+              || getCondition().canBeFalse() && getFalseExpr().canBeTrue());
+    state().trace().computeEnd(this, "Expr.canBeTrue()", "", canBeTrue_value);
+    return canBeTrue_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1189
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1189")
+  public boolean canBeFalse() {
+    state().trace().computeBegin(this, "Expr.canBeFalse()", "", "");
+    boolean canBeFalse_value = type().isBoolean()
+          && (getCondition().canBeTrue() && getTrueExpr().canBeFalse()
+              || getCondition().canBeFalse() && getFalseExpr().canBeFalse());
+    state().trace().computeEnd(this, "Expr.canBeFalse()", "", canBeFalse_value);
+    return canBeFalse_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:145")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = getCondition().modifiedInScope(var)
+          || getTrueExpr().modifiedInScope(var)
+          || getFalseExpr().modifiedInScope(var);
+    state().trace().computeEnd(this, "Expr.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /** @apilevel internal */
+  private void compatibleStrictContext_TypeDecl_reset() {
+    compatibleStrictContext_TypeDecl_computed = new java.util.HashMap(4);
+    compatibleStrictContext_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map compatibleStrictContext_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map compatibleStrictContext_TypeDecl_computed;
+  /** Used to compute compatibility during phase 1 of overload resolution. 
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:58")
+  public boolean compatibleStrictContext(TypeDecl type) {
+    Object _parameters = type;
+    if (compatibleStrictContext_TypeDecl_computed == null) compatibleStrictContext_TypeDecl_computed = new java.util.HashMap(4);
+    if (compatibleStrictContext_TypeDecl_values == null) compatibleStrictContext_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (compatibleStrictContext_TypeDecl_values.containsKey(_parameters) && compatibleStrictContext_TypeDecl_computed != null
+        && compatibleStrictContext_TypeDecl_computed.containsKey(_parameters)
+        && (compatibleStrictContext_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || compatibleStrictContext_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_values.get(_parameters));
+      return (Boolean) compatibleStrictContext_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, "");
+    boolean compatibleStrictContext_TypeDecl_value = compatibleStrictContext_compute(type);
+    state().trace().computeEnd(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    if (state().inCircle()) {
+      compatibleStrictContext_TypeDecl_values.put(_parameters, compatibleStrictContext_TypeDecl_value);
+      compatibleStrictContext_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    } else {
+      compatibleStrictContext_TypeDecl_values.put(_parameters, compatibleStrictContext_TypeDecl_value);
+      compatibleStrictContext_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    }
+    return compatibleStrictContext_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean compatibleStrictContext_compute(TypeDecl type) {
+      if (isPolyExpression()) {
+        return getTrueExpr().compatibleStrictContext(type)
+            && getFalseExpr().compatibleStrictContext(type);
+      } else {
+        return super.compatibleStrictContext(type);
+      }
+    }
+  /** @apilevel internal */
+  private void compatibleLooseContext_TypeDecl_reset() {
+    compatibleLooseContext_TypeDecl_computed = new java.util.HashMap(4);
+    compatibleLooseContext_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map compatibleLooseContext_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map compatibleLooseContext_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:102
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:102")
+  public boolean compatibleLooseContext(TypeDecl type) {
+    Object _parameters = type;
+    if (compatibleLooseContext_TypeDecl_computed == null) compatibleLooseContext_TypeDecl_computed = new java.util.HashMap(4);
+    if (compatibleLooseContext_TypeDecl_values == null) compatibleLooseContext_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (compatibleLooseContext_TypeDecl_values.containsKey(_parameters) && compatibleLooseContext_TypeDecl_computed != null
+        && compatibleLooseContext_TypeDecl_computed.containsKey(_parameters)
+        && (compatibleLooseContext_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || compatibleLooseContext_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_values.get(_parameters));
+      return (Boolean) compatibleLooseContext_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, "");
+    boolean compatibleLooseContext_TypeDecl_value = compatibleLooseContext_compute(type);
+    state().trace().computeEnd(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    if (state().inCircle()) {
+      compatibleLooseContext_TypeDecl_values.put(_parameters, compatibleLooseContext_TypeDecl_value);
+      compatibleLooseContext_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    } else {
+      compatibleLooseContext_TypeDecl_values.put(_parameters, compatibleLooseContext_TypeDecl_value);
+      compatibleLooseContext_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    }
+    return compatibleLooseContext_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean compatibleLooseContext_compute(TypeDecl type) {
+      if (isPolyExpression()) {
+        return getTrueExpr().compatibleLooseContext(type)
+            && getFalseExpr().compatibleLooseContext(type);
+      } else {
+        return super.compatibleLooseContext(type);
+      }
+    }
+  /** @apilevel internal */
+  private void pertinentToApplicability_Expr_BodyDecl_int_reset() {
+    pertinentToApplicability_Expr_BodyDecl_int_computed = new java.util.HashMap(4);
+    pertinentToApplicability_Expr_BodyDecl_int_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map pertinentToApplicability_Expr_BodyDecl_int_values;
+  /** @apilevel internal */
+  protected java.util.Map pertinentToApplicability_Expr_BodyDecl_int_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:130
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:130")
+  public boolean pertinentToApplicability(Expr access, BodyDecl decl, int argIndex) {
+    java.util.List _parameters = new java.util.ArrayList(3);
+    _parameters.add(access);
+    _parameters.add(decl);
+    _parameters.add(argIndex);
+    if (pertinentToApplicability_Expr_BodyDecl_int_computed == null) pertinentToApplicability_Expr_BodyDecl_int_computed = new java.util.HashMap(4);
+    if (pertinentToApplicability_Expr_BodyDecl_int_values == null) pertinentToApplicability_Expr_BodyDecl_int_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (pertinentToApplicability_Expr_BodyDecl_int_values.containsKey(_parameters) && pertinentToApplicability_Expr_BodyDecl_int_computed != null
+        && pertinentToApplicability_Expr_BodyDecl_int_computed.containsKey(_parameters)
+        && (pertinentToApplicability_Expr_BodyDecl_int_computed.get(_parameters) == ASTState.NON_CYCLE || pertinentToApplicability_Expr_BodyDecl_int_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_values.get(_parameters));
+      return (Boolean) pertinentToApplicability_Expr_BodyDecl_int_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, "");
+    boolean pertinentToApplicability_Expr_BodyDecl_int_value = getFalseExpr().pertinentToApplicability(access, decl, argIndex)
+          && getTrueExpr().pertinentToApplicability(access, decl, argIndex);
+    state().trace().computeEnd(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    if (state().inCircle()) {
+      pertinentToApplicability_Expr_BodyDecl_int_values.put(_parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+      pertinentToApplicability_Expr_BodyDecl_int_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    } else {
+      pertinentToApplicability_Expr_BodyDecl_int_values.put(_parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+      pertinentToApplicability_Expr_BodyDecl_int_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    }
+    return pertinentToApplicability_Expr_BodyDecl_int_value;
+  }
+  /** @apilevel internal */
+  private void moreSpecificThan_TypeDecl_TypeDecl_reset() {
+    moreSpecificThan_TypeDecl_TypeDecl_computed = new java.util.HashMap(4);
+    moreSpecificThan_TypeDecl_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map moreSpecificThan_TypeDecl_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map moreSpecificThan_TypeDecl_TypeDecl_computed;
+  /**
+   * Computes which type is more specific for a specific argument, as defined in 15.12.2.5
+   * @param type1
+   * @param type2
+   * @return {@code true} if type1 is more specific than type2, {@code false} otherwise
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:256
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:256")
+  public boolean moreSpecificThan(TypeDecl type1, TypeDecl type2) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(type1);
+    _parameters.add(type2);
+    if (moreSpecificThan_TypeDecl_TypeDecl_computed == null) moreSpecificThan_TypeDecl_TypeDecl_computed = new java.util.HashMap(4);
+    if (moreSpecificThan_TypeDecl_TypeDecl_values == null) moreSpecificThan_TypeDecl_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (moreSpecificThan_TypeDecl_TypeDecl_values.containsKey(_parameters) && moreSpecificThan_TypeDecl_TypeDecl_computed != null
+        && moreSpecificThan_TypeDecl_TypeDecl_computed.containsKey(_parameters)
+        && (moreSpecificThan_TypeDecl_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || moreSpecificThan_TypeDecl_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_values.get(_parameters));
+      return (Boolean) moreSpecificThan_TypeDecl_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, "");
+    boolean moreSpecificThan_TypeDecl_TypeDecl_value = moreSpecificThan_compute(type1, type2);
+    state().trace().computeEnd(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    if (state().inCircle()) {
+      moreSpecificThan_TypeDecl_TypeDecl_values.put(_parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+      moreSpecificThan_TypeDecl_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    } else {
+      moreSpecificThan_TypeDecl_TypeDecl_values.put(_parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+      moreSpecificThan_TypeDecl_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    }
+    return moreSpecificThan_TypeDecl_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean moreSpecificThan_compute(TypeDecl type1, TypeDecl type2) {
+      if (super.moreSpecificThan(type1, type2)) {
+        return true;
+      }
+      return getTrueExpr().moreSpecificThan(type1, type2)
+          && getFalseExpr().moreSpecificThan(type1, type2);
+    }
+  /** @apilevel internal */
+  private void potentiallyCompatible_TypeDecl_BodyDecl_reset() {
+    potentiallyCompatible_TypeDecl_BodyDecl_computed = new java.util.HashMap(4);
+    potentiallyCompatible_TypeDecl_BodyDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map potentiallyCompatible_TypeDecl_BodyDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map potentiallyCompatible_TypeDecl_BodyDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:511
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:511")
+  public boolean potentiallyCompatible(TypeDecl type, BodyDecl candidateDecl) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(type);
+    _parameters.add(candidateDecl);
+    if (potentiallyCompatible_TypeDecl_BodyDecl_computed == null) potentiallyCompatible_TypeDecl_BodyDecl_computed = new java.util.HashMap(4);
+    if (potentiallyCompatible_TypeDecl_BodyDecl_values == null) potentiallyCompatible_TypeDecl_BodyDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (potentiallyCompatible_TypeDecl_BodyDecl_values.containsKey(_parameters) && potentiallyCompatible_TypeDecl_BodyDecl_computed != null
+        && potentiallyCompatible_TypeDecl_BodyDecl_computed.containsKey(_parameters)
+        && (potentiallyCompatible_TypeDecl_BodyDecl_computed.get(_parameters) == ASTState.NON_CYCLE || potentiallyCompatible_TypeDecl_BodyDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_values.get(_parameters));
+      return (Boolean) potentiallyCompatible_TypeDecl_BodyDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, "");
+    boolean potentiallyCompatible_TypeDecl_BodyDecl_value = potentiallyCompatible_compute(type, candidateDecl);
+    state().trace().computeEnd(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    if (state().inCircle()) {
+      potentiallyCompatible_TypeDecl_BodyDecl_values.put(_parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+      potentiallyCompatible_TypeDecl_BodyDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    } else {
+      potentiallyCompatible_TypeDecl_BodyDecl_values.put(_parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+      potentiallyCompatible_TypeDecl_BodyDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    }
+    return potentiallyCompatible_TypeDecl_BodyDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean potentiallyCompatible_compute(TypeDecl type, BodyDecl candidateDecl) {
+      if (!isPolyExpression()) {
+        return true;
+      }
+      return getTrueExpr().potentiallyCompatible(type, candidateDecl)
+          && getFalseExpr().potentiallyCompatible(type, candidateDecl);
+    }
+  /** @apilevel internal */
+  private void isBooleanExpression_reset() {
+    isBooleanExpression_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isBooleanExpression_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isBooleanExpression_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:29
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:29")
+  public boolean isBooleanExpression() {
+    ASTState state = state();
+    if (isBooleanExpression_computed == ASTState.NON_CYCLE || isBooleanExpression_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.isBooleanExpression()", "", isBooleanExpression_value);
+      return isBooleanExpression_value;
+    }
+    state().trace().computeBegin(this, "Expr.isBooleanExpression()", "", "");
+    isBooleanExpression_value = isBooleanConditional();
+    state().trace().computeEnd(this, "Expr.isBooleanExpression()", "", isBooleanExpression_value);
+    if (state().inCircle()) {
+      isBooleanExpression_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.isBooleanExpression()", "", isBooleanExpression_value);
+    } else {
+      isBooleanExpression_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.isBooleanExpression()", "", isBooleanExpression_value);
+    }
+    return isBooleanExpression_value;
+  }
+  /** @apilevel internal */
+  private void isBooleanConditional_reset() {
+    isBooleanConditional_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isBooleanConditional_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isBooleanConditional_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:55
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:55")
+  public boolean isBooleanConditional() {
+    ASTState state = state();
+    if (isBooleanConditional_computed == ASTState.NON_CYCLE || isBooleanConditional_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConditionalExpr.isBooleanConditional()", "", isBooleanConditional_value);
+      return isBooleanConditional_value;
+    }
+    state().trace().computeBegin(this, "ConditionalExpr.isBooleanConditional()", "", "");
+    isBooleanConditional_value = getTrueExpr().isBooleanExpression() && getFalseExpr().isBooleanExpression()
+          || getTrueExpr().isBooleanExpression() && getFalseExpr().isNullLiteral()
+          || getFalseExpr().isBooleanExpression() && getTrueExpr().isNullLiteral();
+    state().trace().computeEnd(this, "ConditionalExpr.isBooleanConditional()", "", isBooleanConditional_value);
+    if (state().inCircle()) {
+      isBooleanConditional_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConditionalExpr.isBooleanConditional()", "", isBooleanConditional_value);
+    } else {
+      isBooleanConditional_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConditionalExpr.isBooleanConditional()", "", isBooleanConditional_value);
+    }
+    return isBooleanConditional_value;
+  }
+  /** @apilevel internal */
+  private void isNumericExpression_reset() {
+    isNumericExpression_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isNumericExpression_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isNumericExpression_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:60")
+  public boolean isNumericExpression() {
+    ASTState state = state();
+    if (isNumericExpression_computed == ASTState.NON_CYCLE || isNumericExpression_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.isNumericExpression()", "", isNumericExpression_value);
+      return isNumericExpression_value;
+    }
+    state().trace().computeBegin(this, "Expr.isNumericExpression()", "", "");
+    isNumericExpression_value = isNumericConditional();
+    state().trace().computeEnd(this, "Expr.isNumericExpression()", "", isNumericExpression_value);
+    if (state().inCircle()) {
+      isNumericExpression_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.isNumericExpression()", "", isNumericExpression_value);
+    } else {
+      isNumericExpression_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.isNumericExpression()", "", isNumericExpression_value);
+    }
+    return isNumericExpression_value;
+  }
+  /** @apilevel internal */
+  private void isNumericConditional_reset() {
+    isNumericConditional_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isNumericConditional_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isNumericConditional_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:78")
+  public boolean isNumericConditional() {
+    ASTState state = state();
+    if (isNumericConditional_computed == ASTState.NON_CYCLE || isNumericConditional_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConditionalExpr.isNumericConditional()", "", isNumericConditional_value);
+      return isNumericConditional_value;
+    }
+    state().trace().computeBegin(this, "ConditionalExpr.isNumericConditional()", "", "");
+    isNumericConditional_value = getTrueExpr().isNumericExpression() && getFalseExpr().isNumericExpression()
+          || getTrueExpr().isNumericExpression() && getFalseExpr().isNullLiteral()
+          || getFalseExpr().isNumericExpression() && getTrueExpr().isNullLiteral();
+    state().trace().computeEnd(this, "ConditionalExpr.isNumericConditional()", "", isNumericConditional_value);
+    if (state().inCircle()) {
+      isNumericConditional_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConditionalExpr.isNumericConditional()", "", isNumericConditional_value);
+    } else {
+      isNumericConditional_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConditionalExpr.isNumericConditional()", "", isNumericConditional_value);
+    }
+    return isNumericConditional_value;
+  }
+  /** @apilevel internal */
+  private void isReferenceConditional_reset() {
+    isReferenceConditional_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isReferenceConditional_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isReferenceConditional_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:83
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:83")
+  public boolean isReferenceConditional() {
+    ASTState state = state();
+    if (isReferenceConditional_computed == ASTState.NON_CYCLE || isReferenceConditional_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConditionalExpr.isReferenceConditional()", "", isReferenceConditional_value);
+      return isReferenceConditional_value;
+    }
+    state().trace().computeBegin(this, "ConditionalExpr.isReferenceConditional()", "", "");
+    isReferenceConditional_value = !isBooleanConditional() && !isNumericConditional();
+    state().trace().computeEnd(this, "ConditionalExpr.isReferenceConditional()", "", isReferenceConditional_value);
+    if (state().inCircle()) {
+      isReferenceConditional_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConditionalExpr.isReferenceConditional()", "", isReferenceConditional_value);
+    } else {
+      isReferenceConditional_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConditionalExpr.isReferenceConditional()", "", isReferenceConditional_value);
+    }
+    return isReferenceConditional_value;
+  }
+  /** @apilevel internal */
+  private void isPolyExpression_reset() {
+    isPolyExpression_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isPolyExpression_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isPolyExpression_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:86")
+  public boolean isPolyExpression() {
+    ASTState state = state();
+    if (isPolyExpression_computed == ASTState.NON_CYCLE || isPolyExpression_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+      return isPolyExpression_value;
+    }
+    state().trace().computeBegin(this, "Expr.isPolyExpression()", "", "");
+    isPolyExpression_value = isReferenceConditional() && (assignmentContext() || invocationContext());
+    state().trace().computeEnd(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    if (state().inCircle()) {
+      isPolyExpression_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    } else {
+      isPolyExpression_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    }
+    return isPolyExpression_value;
+  }
+  /** @apilevel internal */
+  private void assignConversionTo_TypeDecl_reset() {
+    assignConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    assignConversionTo_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map assignConversionTo_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map assignConversionTo_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:149
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:149")
+  public boolean assignConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    if (assignConversionTo_TypeDecl_computed == null) assignConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    if (assignConversionTo_TypeDecl_values == null) assignConversionTo_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (assignConversionTo_TypeDecl_values.containsKey(_parameters) && assignConversionTo_TypeDecl_computed != null
+        && assignConversionTo_TypeDecl_computed.containsKey(_parameters)
+        && (assignConversionTo_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || assignConversionTo_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_values.get(_parameters));
+      return (Boolean) assignConversionTo_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.assignConversionTo(TypeDecl)", _parameters, "");
+    boolean assignConversionTo_TypeDecl_value = assignConversionTo_compute(type);
+    state().trace().computeEnd(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    if (state().inCircle()) {
+      assignConversionTo_TypeDecl_values.put(_parameters, assignConversionTo_TypeDecl_value);
+      assignConversionTo_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    } else {
+      assignConversionTo_TypeDecl_values.put(_parameters, assignConversionTo_TypeDecl_value);
+      assignConversionTo_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    }
+    return assignConversionTo_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean assignConversionTo_compute(TypeDecl type) {
+      if (!isPolyExpression()) {
+        return type().assignConversionTo(type, this);
+      } else {
+        return getTrueExpr().assignConversionTo(type) && getFalseExpr().assignConversionTo(type);
+      }
+    }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (getFalseExprNoTransform() != null && _callerNode == getFalseExpr()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:463
+      return getCondition().assignedAfterFalse(v);
+    }
+    else if (getTrueExprNoTransform() != null && _callerNode == getTrueExpr()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:461
+      return getCondition().assignedAfterTrue(v);
+    }
+    else if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:459
+      return assignedBefore(v);
+    }
+    else {
+      return getParent().Define_assignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (getFalseExprNoTransform() != null && _callerNode == getFalseExpr()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1059
+      return getCondition().unassignedAfterFalse(v);
+    }
+    else if (getTrueExprNoTransform() != null && _callerNode == getTrueExpr()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1056
+      return getCondition().unassignedAfterTrue(v);
+    }
+    else if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1054
+      return unassignedBefore(v);
+    }
+    else {
+      return getParent().Define_unassignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   * @apilevel internal
+   */
+  public TypeDecl Define_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getFalseExprNoTransform() != null && _callerNode == getFalseExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:53
+      return targetType();
+    }
+    else if (getTrueExprNoTransform() != null && _callerNode == getTrueExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:52
+      return targetType();
+    }
+    else {
+      return getParent().Define_targetType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:315
+      return false;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:316
+      return false;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getFalseExprNoTransform() != null && _callerNode == getFalseExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:327
+      return false;
+    }
+    else if (getTrueExprNoTransform() != null && _callerNode == getTrueExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:322
+      return false;
+    }
+    else if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:317
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getFalseExprNoTransform() != null && _callerNode == getFalseExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:329
+      return false;
+    }
+    else if (getTrueExprNoTransform() != null && _callerNode == getTrueExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:324
+      return false;
+    }
+    else if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:318
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getFalseExprNoTransform() != null && _callerNode == getFalseExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:328
+      return false;
+    }
+    else if (getTrueExprNoTransform() != null && _callerNode == getTrueExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:323
+      return false;
+    }
+    else if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:319
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:743
+    if (!getCondition().type().isBoolean()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:748
+    if (type().isUnknown() && !getTrueExpr().type().isUnknown()
+              && !getFalseExpr().type().isUnknown()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (!getCondition().type().isBoolean()) {
+      collection.add(error("The first operand of a conditional expression must be a boolean"));
+    }
+    if (type().isUnknown() && !getTrueExpr().type().isUnknown()
+              && !getFalseExpr().type().isUnknown()) {
+      collection.add(error("The types of the second and third operand in "
+                + "this conditional expression do not match"));
+    }
+  }
+}
@@ -0,0 +1,1298 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/** A constructor invocation. 
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:93
+ * @production ConstructorAccess : {@link Access} ::= <span class="component">&lt;ID:String&gt;</span> <span class="component">Arg:{@link Expr}*</span>;
+
+ */
+public class ConstructorAccess extends Access implements Cloneable {
+  /**
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:356
+   */
+  protected boolean reachedException(TypeDecl catchType) {
+    for (Access exception : decl().getExceptionList()) {
+      TypeDecl exceptionType = exception.type();
+      if (catchType.mayCatch(exceptionType)) {
+        return true;
+      }
+    }
+    return super.reachedException(catchType);
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:248
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getID());
+    out.print("(");
+    out.join(getArgList(), new PrettyPrinter.Joiner() {
+      @Override
+      public void printSeparator(PrettyPrinter out) {
+        out.print(", ");
+      }
+    });
+    out.print(")");
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:774
+   */
+  public void createBCode(CodeGeneration gen) {
+    if (transformed() != this) {
+      // Ensure bytecode is generated for the transformed access.
+      transformed().createBCode(gen);
+      return;
+    }
+
+    ConstructorDecl decl = decl().bytecodeTarget();
+    int index = 0;
+    // Push this argument.
+    gen.ALOAD(index++, VerificationTypes.UNINITIALIZED_THIS);
+    // Push this$0 argument.
+    if (decl.needsEnclosing()) {
+      gen.ALOAD(index++, hostType().enclosing());
+    }
+    if (decl.needsSuperEnclosing()) {
+      gen.ALOAD(index++, hostType().superEnclosing());
+    }
+    // Push formal arguments.
+    for (int i = 0; i < getNumArg(); ++i) {
+      getArg(i).createBCode(gen);
+      // Method invocation conversion:
+      getArg(i).emitCastTo(gen, decl.paramType(i));
+    }
+    // Push enclosing variable arguments.
+    for (Variable var : decl.hostType().enclosingVariables()) {
+      var.emitLoadVariable(gen, this);
+    }
+    if (decl.isPrivate() && decl.hostType() != hostType()) {
+      gen.ACONST_NULL();
+      decl.createAccessor().emitInvokeConstructor(gen);
+    } else {
+      decl.emitInvokeConstructor(gen);
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ConstructorAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+    setChild(new List(), 0);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public ConstructorAccess(String p0, List<Expr> p1) {
+    setID(p0);
+    setChild(p1, 0);
+  }
+  /**
+   * @declaredat ASTNode:18
+   */
+  public ConstructorAccess(beaver.Symbol p0, List<Expr> p1) {
+    setID(p0);
+    setChild(p1, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:23
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:29
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    unassignedAfter_Variable_reset();
+    decls_reset();
+    decl_reset();
+    type_reset();
+    transformedVariableArity_reset();
+    stmtCompatible_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:43
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:47
+   */
+  public ConstructorAccess clone() throws CloneNotSupportedException {
+    ConstructorAccess node = (ConstructorAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:52
+   */
+  public ConstructorAccess copy() {
+    try {
+      ConstructorAccess node = (ConstructorAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:71
+   */
+  @Deprecated
+  public ConstructorAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:81
+   */
+  public ConstructorAccess treeCopyNoTransform() {
+    ConstructorAccess tree = (ConstructorAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:101
+   */
+  public ConstructorAccess treeCopy() {
+    ConstructorAccess tree = (ConstructorAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:115
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((ConstructorAccess) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_ID;
+  /**
+   */
+  public int IDstart;
+  /**
+   */
+  public int IDend;
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the Arg list.
+   * @param list The new list node to be used as the Arg list.
+   * @apilevel high-level
+   */
+  public void setArgList(List<Expr> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the Arg list.
+   * @return Number of children in the Arg list.
+   * @apilevel high-level
+   */
+  public int getNumArg() {
+    return getArgList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Arg list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Arg list.
+   * @apilevel low-level
+   */
+  public int getNumArgNoTransform() {
+    return getArgListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Arg list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Arg list.
+   * @apilevel high-level
+   */
+  public Expr getArg(int i) {
+    return (Expr) getArgList().getChild(i);
+  }
+  /**
+   * Check whether the Arg list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasArg() {
+    return getArgList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Arg list.
+   * @param node The element to append to the Arg list.
+   * @apilevel high-level
+   */
+  public void addArg(Expr node) {
+    List<Expr> list = (parent == null) ? getArgListNoTransform() : getArgList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addArgNoTransform(Expr node) {
+    List<Expr> list = getArgListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Arg list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setArg(Expr node, int i) {
+    List<Expr> list = getArgList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Arg list.
+   * @return The node representing the Arg list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Arg")
+  public List<Expr> getArgList() {
+    List<Expr> list = (List<Expr>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the Arg list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Arg list.
+   * @apilevel low-level
+   */
+  public List<Expr> getArgListNoTransform() {
+    return (List<Expr>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the Arg list without
+   * triggering rewrites.
+   */
+  public Expr getArgNoTransform(int i) {
+    return (Expr) getArgListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Arg list.
+   * @return The node representing the Arg list.
+   * @apilevel high-level
+   */
+  public List<Expr> getArgs() {
+    return getArgList();
+  }
+  /**
+   * Retrieves the Arg list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Arg list.
+   * @apilevel low-level
+   */
+  public List<Expr> getArgsNoTransform() {
+    return getArgListNoTransform();
+  }
+  /**
+   * @aspect Transformations
+   * @declaredat /root/project/java4/backend/Transformations.jrag:86
+   */
+  private ConstructorAccess refined_Transformations_ConstructorAccess_transformed()
+{ return this; }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = v.isField();
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = !v.isField();
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = !v.isField();
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:152
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:152")
+  public Collection<Problem> exceptionHandlingProblems() {
+    state().trace().computeBegin(this, "ConstructorAccess.exceptionHandlingProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        for (Access exception : decl().getExceptionList()) {
+          TypeDecl exceptionType = exception.type();
+          if (exceptionType.isCheckedException() && !handlesException(exceptionType)) {
+            problems.add(errorf("%s may throw uncaught exception %s",
+                this.prettyPrint(), exceptionType.fullName()));
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "ConstructorAccess.exceptionHandlingProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstructScope
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:85
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructScope", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:85")
+  public boolean applicableAndAccessible(ConstructorDecl decl) {
+    Object _parameters = decl;
+    state().trace().computeBegin(this, "Expr.applicableAndAccessible(ConstructorDecl)", _parameters, "");
+    boolean applicableAndAccessible_ConstructorDecl_value = decl.applicable(getArgList()) && decl.accessibleFrom(hostType());
+    state().trace().computeEnd(this, "Expr.applicableAndAccessible(ConstructorDecl)", _parameters, applicableAndAccessible_ConstructorDecl_value);
+    return applicableAndAccessible_ConstructorDecl_value;
+  }
+  /** @apilevel internal */
+  private void decls_reset() {
+    decls_computed = null;
+    decls_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle decls_computed = null;
+
+  /** @apilevel internal */
+  protected SimpleSet<ConstructorDecl> decls_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstructScope
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:94
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructScope", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:94")
+  public SimpleSet<ConstructorDecl> decls() {
+    ASTState state = state();
+    if (decls_computed == ASTState.NON_CYCLE || decls_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConstructorAccess.decls()", "", decls_value);
+      return decls_value;
+    }
+    state().trace().computeBegin(this, "ConstructorAccess.decls()", "", "");
+    decls_value = chooseConstructor(lookupConstructor(), getArgList());
+    state().trace().computeEnd(this, "ConstructorAccess.decls()", "", decls_value);
+    if (state().inCircle()) {
+      decls_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConstructorAccess.decls()", "", decls_value);
+    } else {
+      decls_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConstructorAccess.decls()", "", decls_value);
+    }
+    return decls_value;
+  }
+  /** @apilevel internal */
+  private void decl_reset() {
+    decl_computed = null;
+    decl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle decl_computed = null;
+
+  /** @apilevel internal */
+  protected ConstructorDecl decl_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstructScope
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:102
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructScope", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:102")
+  public ConstructorDecl decl() {
+    ASTState state = state();
+    if (decl_computed == ASTState.NON_CYCLE || decl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConstructorAccess.decl()", "", decl_value);
+      return decl_value;
+    }
+    state().trace().computeBegin(this, "ConstructorAccess.decl()", "", "");
+    decl_value = decl_compute();
+    state().trace().computeEnd(this, "ConstructorAccess.decl()", "", decl_value);
+    if (state().inCircle()) {
+      decl_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConstructorAccess.decl()", "", decl_value);
+    } else {
+      decl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConstructorAccess.decl()", "", decl_value);
+    }
+    return decl_value;
+  }
+  /** @apilevel internal */
+  private ConstructorDecl decl_compute() {
+      SimpleSet<ConstructorDecl> decls = decls();
+      if (decls.isSingleton()) {
+        return decls.singletonValue();
+      }
+      return unknownConstructor();
+    }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:174
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:174")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "ConstructorAccess.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        ConstructorDecl decl = (ConstructorDecl) enclosingBodyDecl();
+        if (((ExprStmt) decl.getConstructorInvocation()).getExpr() == this) {
+          // Don't error-check the parsed constructor invocation in case it is not the used one.
+          if (decls().isEmpty()) {
+            problems.add(errorf("no constructor matches %s", this.prettyPrint()));
+          } else if (decls().size() > 1 && validArgs()) {
+            problems.add(errorf("several most specific constructors for %s", this.prettyPrint()));
+            for (ConstructorDecl cons : decls()) {
+              problems.add(errorf("         %s", cons.signature()));
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "ConstructorAccess.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:191
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:191")
+  public boolean validArgs() {
+    state().trace().computeBegin(this, "ConstructorAccess.validArgs()", "", "");
+    try {
+        for (int i = 0; i < getNumArg(); i++) {
+          if (!getArg(i).isPolyExpression() && getArg(i).type().isUnknown()) {
+            return false;
+          }
+        }
+        return true;
+      }
+    finally {
+      state().trace().computeEnd(this, "ConstructorAccess.validArgs()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:37
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:37")
+  public String name() {
+    state().trace().computeBegin(this, "ConstructorAccess.name()", "", "");
+    String name_value = "this";
+    state().trace().computeEnd(this, "ConstructorAccess.name()", "", name_value);
+    return name_value;
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    NameType predNameType_value = NameType.AMBIGUOUS_NAME;
+    state().trace().computeEnd(this, "Access.predNameType()", "", predNameType_value);
+    return predNameType_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = decl().type();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:300
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:300")
+  public boolean needsPop() {
+    state().trace().computeBegin(this, "Expr.needsPop()", "", "");
+    boolean needsPop_value = false;
+    state().trace().computeEnd(this, "Expr.needsPop()", "", needsPop_value);
+    return needsPop_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Transformations
+   * @declaredat /root/project/java4/backend/Transformations.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Transformations", declaredAt="/root/project/java4/backend/Transformations.jrag:86")
+  public ConstructorAccess transformed() {
+    state().trace().computeBegin(this, "ConstructorAccess.transformed()", "", "");
+    try {
+        if (decl().isVariableArity() && !invokesVariableArityAsArray()) {
+          return transformedVariableArity();
+        } else {
+          return refined_Transformations_ConstructorAccess_transformed();
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "ConstructorAccess.transformed()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect MethodSignature15
+   * @declaredat /root/project/java5/frontend/MethodSignature.jrag:696
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature15", declaredAt="/root/project/java5/frontend/MethodSignature.jrag:696")
+  public int arity() {
+    state().trace().computeBegin(this, "ConstructorAccess.arity()", "", "");
+    int arity_value = getNumArg();
+    state().trace().computeEnd(this, "ConstructorAccess.arity()", "", arity_value);
+    return arity_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect VariableArityParameters
+   * @declaredat /root/project/java5/frontend/VariableArityParameters.jrag:75
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableArityParameters", declaredAt="/root/project/java5/frontend/VariableArityParameters.jrag:75")
+  public boolean invokesVariableArityAsArray() {
+    state().trace().computeBegin(this, "ConstructorAccess.invokesVariableArityAsArray()", "", "");
+    try {
+        if (!decl().isVariableArity()) {
+          return false;
+        }
+        if (arity() != decl().arity()) {
+          return false;
+        }
+        return getArg(getNumArg()-1).type().methodInvocationConversionTo(decl().lastParameter().type());
+      }
+    finally {
+      state().trace().computeEnd(this, "ConstructorAccess.invokesVariableArityAsArray()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void transformedVariableArity_reset() {
+    transformedVariableArity_computed = false;
+    
+    transformedVariableArity_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean transformedVariableArity_computed = false;
+
+  /** @apilevel internal */
+  protected ConstructorAccess transformedVariableArity_value;
+
+  /**
+   * @attribute syn
+   * @aspect VariableArityParametersCodegen
+   * @declaredat /root/project/java5/backend/VariableArityParametersCodegen.jrag:125
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="VariableArityParametersCodegen", declaredAt="/root/project/java5/backend/VariableArityParametersCodegen.jrag:125")
+  public ConstructorAccess transformedVariableArity() {
+    ASTState state = state();
+    if (transformedVariableArity_computed) {
+      state().trace().cacheRead(this, "ConstructorAccess.transformedVariableArity()", "", transformedVariableArity_value);
+      return transformedVariableArity_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "ConstructorAccess.transformedVariableArity()", "", "");
+    transformedVariableArity_value = transformedVariableArity_compute();
+    state().trace().computeEnd(this, "ConstructorAccess.transformedVariableArity()", "", transformedVariableArity_value);
+    transformedVariableArity_value.setParent(this);
+    transformedVariableArity_computed = true;
+    state().trace().cacheWrite(this, "ConstructorAccess.transformedVariableArity()", "", transformedVariableArity_value);
+    state().leaveLazyAttribute();
+    return transformedVariableArity_value;
+  }
+  /** @apilevel internal */
+  private ConstructorAccess transformedVariableArity_compute() {
+      ConstructorDecl decl = decl();
+      // Arguments to normal parameters.
+      List<Expr> args = new List<Expr>();
+      for (int i = 0; i < decl.getNumParameter() - 1; i++) {
+        args.add(getArg(i).treeCopyNoTransform());
+      }
+      // Arguments to variable arity parameters.
+      List<Expr> last = new List<Expr>();
+      for (int i = decl.getNumParameter() - 1; i < getNumArg(); i++) {
+        last.add(getArg(i).treeCopyNoTransform());
+      }
+      // Build an array holding arguments.
+      Access typeAccess = decl.lastParameter().type().elementType().createQualifiedAccess();
+      for (int i = 0; i < decl.lastParameter().type().dimension(); i++) {
+        typeAccess = new ArrayTypeAccess(typeAccess);
+      }
+      args.add(new ArrayCreationExpr(typeAccess, new Opt(new ArrayInit(last))));
+      return new ConstructorAccess(getID(), args);
+    }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:145")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    try {
+        for (int i = 0; i < getNumArg(); ++i) {
+          if (getArg(i).modifiedInScope(var)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void stmtCompatible_reset() {
+    stmtCompatible_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle stmtCompatible_computed = null;
+
+  /** @apilevel internal */
+  protected boolean stmtCompatible_value;
+
+  /**
+   * @attribute syn
+   * @aspect StmtCompatible
+   * @declaredat /root/project/java8/frontend/LambdaExpr.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StmtCompatible", declaredAt="/root/project/java8/frontend/LambdaExpr.jrag:145")
+  public boolean stmtCompatible() {
+    ASTState state = state();
+    if (stmtCompatible_computed == ASTState.NON_CYCLE || stmtCompatible_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+      return stmtCompatible_value;
+    }
+    state().trace().computeBegin(this, "Expr.stmtCompatible()", "", "");
+    stmtCompatible_value = true;
+    state().trace().computeEnd(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    if (state().inCircle()) {
+      stmtCompatible_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    } else {
+      stmtCompatible_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    }
+    return stmtCompatible_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:89")
+  public boolean handlesException(TypeDecl exceptionType) {
+    Object _parameters = exceptionType;
+    state().trace().computeBegin(this, "ConstructorAccess.handlesException(TypeDecl)", _parameters, "");
+    boolean handlesException_TypeDecl_value = getParent().Define_handlesException(this, null, exceptionType);
+    state().trace().computeEnd(this, "ConstructorAccess.handlesException(TypeDecl)", _parameters, handlesException_TypeDecl_value);
+    return handlesException_TypeDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect ConstructScope
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="ConstructScope", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:35")
+  public Collection<ConstructorDecl> lookupConstructor() {
+    state().trace().computeBegin(this, "ConstructorAccess.lookupConstructor()", "", "");
+    Collection<ConstructorDecl> lookupConstructor_value = getParent().Define_lookupConstructor(this, null);
+    state().trace().computeEnd(this, "ConstructorAccess.lookupConstructor()", "", lookupConstructor_value);
+    return lookupConstructor_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect ConstructScope
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:110
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="ConstructScope", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:110")
+  public ConstructorDecl unknownConstructor() {
+    state().trace().computeBegin(this, "ConstructorAccess.unknownConstructor()", "", "");
+    ConstructorDecl unknownConstructor_value = getParent().Define_unknownConstructor(this, null);
+    state().trace().computeEnd(this, "ConstructorAccess.unknownConstructor()", "", unknownConstructor_value);
+    return unknownConstructor_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:116
+   * @apilevel internal
+   */
+  public Collection<MethodDecl> Define_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupMethod.jrag:130
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return unqualifiedScope().lookupMethod(name);
+    }
+    else {
+      return getParent().Define_lookupMethod(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:116
+   * @apilevel internal
+   */
+  public boolean Define_hasPackage(ASTNode _callerNode, ASTNode _childNode, String packageName) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupType.jrag:119
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return unqualifiedScope().hasPackage(packageName);
+    }
+    else {
+      return getParent().Define_hasPackage(this, _callerNode, packageName);
+    }
+  }
+  protected boolean canDefine_hasPackage(ASTNode _callerNode, ASTNode _childNode, String packageName) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:231
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupType.jrag:459
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return unqualifiedScope().lookupType(name);
+    }
+    else {
+      return getParent().Define_lookupType(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:242
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return unqualifiedScope().lookupVariable(name);
+    }
+    else {
+      return getParent().Define_lookupVariable(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:140
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return NameType.EXPRESSION_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:33
+   * @apilevel internal
+   */
+  public String Define_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unqualifiedScope().methodHost();
+  }
+  protected boolean canDefine_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:204
+   * @apilevel internal
+   */
+  public boolean Define_inExplicitConstructorInvocation(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:207
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return true;
+    }
+    else {
+      return getParent().Define_inExplicitConstructorInvocation(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_inExplicitConstructorInvocation(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:212
+   * @apilevel internal
+   */
+  public TypeDecl Define_enclosingExplicitConstructorHostType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:216
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return hostType();
+    }
+    else {
+      return getParent().Define_enclosingExplicitConstructorHostType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_enclosingExplicitConstructorHostType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   * @apilevel internal
+   */
+  public TypeDecl Define_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:118
+      int i = _callerNode.getIndexOfChild(_childNode);
+      {
+          ConstructorDecl decl = decl();
+          if (unknownConstructor() == decl) {
+            return decl.type().unknownType();
+          }
+      
+          if (decl.isVariableArity() && i >= decl.arity() - 1) {
+            return decl.getParameter(decl.arity() - 1).type().componentType();
+          } else {
+            return decl.getParameter(i).type();
+          }
+        }
+    }
+    else {
+      return getParent().Define_targetType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:374
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:375
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return true;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:376
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:377
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getArgListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:378
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:150
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:172
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java5/frontend/Annotations.jrag:513
+    if (decl().isDeprecated()
+              && !withinDeprecatedAnnotation()
+              && hostType().topLevelType() != decl().hostType().topLevelType()
+              && !withinSuppressWarnings("deprecation")) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void collect_contributors_TypeDecl_accessors(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/backend/GenerateClassfile.jrag:417
+    if (decl().isPrivate() && type() != hostType()) {
+      {
+        TypeDecl target = (TypeDecl) (decl().createAccessor().hostType());
+        java.util.Set<ASTNode> contributors = _map.get(target);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) target, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_TypeDecl_accessors(_root, _map);
+  }
+  protected void collect_contributors_TypeDecl_nestedTypes(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+
+
+  
+{
+    if (transformed() != this) {
+      transformed().collect_contributors_TypeDecl_nestedTypes(_root, _map);
+    } else {
+      super.collect_contributors_TypeDecl_nestedTypes(_root, _map);
+    }
+  }
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : exceptionHandlingProblems()) {
+      collection.add(value);
+    }
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+    if (decl().isDeprecated()
+              && !withinDeprecatedAnnotation()
+              && hostType().topLevelType() != decl().hostType().topLevelType()
+              && !withinSuppressWarnings("deprecation")) {
+      collection.add(warning(decl().signature() + " in " + decl().hostType().typeName() + " has been deprecated"));
+    }
+  }
+  protected void contributeTo_TypeDecl_accessors(LinkedHashSet<BodyDecl> collection) {
+    super.contributeTo_TypeDecl_accessors(collection);
+    if (decl().isPrivate() && type() != hostType()) {
+      collection.add(decl().createAccessor());
+    }
+  }
+}
@@ -0,0 +1,726 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Generics.ast:80
+ * @production ConstructorDeclSubstituted : {@link ConstructorDecl} ::= <span class="component">&lt;Original:ConstructorDecl&gt;</span>;
+
+ */
+public class ConstructorDeclSubstituted extends ConstructorDecl implements Cloneable {
+  /**
+   * @aspect JavaDLInfo
+   * @declaredat /root/project/java4/frontend/JavaDLInfo.jrag:209
+   */
+  public ASTNode unwrapNTANode() {
+		return sourceConstructorDecl();
+	}
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:239
+   */
+  public void emitInvokeConstructor(CodeGeneration gen) {
+    erasedConstructor().emitInvokeConstructor(gen);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ConstructorDeclSubstituted() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[6];
+    setChild(new List(), 1);
+    setChild(new List(), 2);
+    setChild(new Opt(), 3);
+  }
+  /**
+   * @declaredat ASTNode:16
+   */
+  public ConstructorDeclSubstituted(Modifiers p0, String p1, List<ParameterDeclaration> p2, List<Access> p3, Opt<Stmt> p4, Block p5, ConstructorDecl p6) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+    setChild(p4, 3);
+    setChild(p5, 4);
+    setOriginal(p6);
+  }
+  /**
+   * @declaredat ASTNode:25
+   */
+  public ConstructorDeclSubstituted(Modifiers p0, beaver.Symbol p1, List<ParameterDeclaration> p2, List<Access> p3, Opt<Stmt> p4, Block p5, ConstructorDecl p6) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+    setChild(p4, 3);
+    setChild(p5, 4);
+    setOriginal(p6);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:35
+   */
+  protected int numChildren() {
+    return 5;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:41
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:45
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    sourceConstructorDecl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:50
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:54
+   */
+  public ConstructorDeclSubstituted clone() throws CloneNotSupportedException {
+    ConstructorDeclSubstituted node = (ConstructorDeclSubstituted) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:59
+   */
+  public ConstructorDeclSubstituted copy() {
+    try {
+      ConstructorDeclSubstituted node = (ConstructorDeclSubstituted) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:78
+   */
+  @Deprecated
+  public ConstructorDeclSubstituted fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:88
+   */
+  public ConstructorDeclSubstituted treeCopyNoTransform() {
+    ConstructorDeclSubstituted tree = (ConstructorDeclSubstituted) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 5:
+          tree.children[i] = null;
+          continue;
+        }
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:113
+   */
+  public ConstructorDeclSubstituted treeCopy() {
+    ConstructorDeclSubstituted tree = (ConstructorDeclSubstituted) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 5:
+          tree.children[i] = null;
+          continue;
+        }
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:132
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((ConstructorDeclSubstituted) node).tokenString_ID) && (tokenConstructorDecl_Original == ((ConstructorDeclSubstituted) node).tokenConstructorDecl_Original);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the Parameter list.
+   * @param list The new list node to be used as the Parameter list.
+   * @apilevel high-level
+   */
+  public void setParameterList(List<ParameterDeclaration> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the Parameter list.
+   * @return Number of children in the Parameter list.
+   * @apilevel high-level
+   */
+  public int getNumParameter() {
+    return getParameterList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Parameter list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Parameter list.
+   * @apilevel low-level
+   */
+  public int getNumParameterNoTransform() {
+    return getParameterListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Parameter list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Parameter list.
+   * @apilevel high-level
+   */
+  public ParameterDeclaration getParameter(int i) {
+    return (ParameterDeclaration) getParameterList().getChild(i);
+  }
+  /**
+   * Check whether the Parameter list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasParameter() {
+    return getParameterList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Parameter list.
+   * @param node The element to append to the Parameter list.
+   * @apilevel high-level
+   */
+  public void addParameter(ParameterDeclaration node) {
+    List<ParameterDeclaration> list = (parent == null) ? getParameterListNoTransform() : getParameterList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addParameterNoTransform(ParameterDeclaration node) {
+    List<ParameterDeclaration> list = getParameterListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Parameter list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setParameter(ParameterDeclaration node, int i) {
+    List<ParameterDeclaration> list = getParameterList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Parameter list.
+   * @return The node representing the Parameter list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Parameter")
+  public List<ParameterDeclaration> getParameterList() {
+    List<ParameterDeclaration> list = (List<ParameterDeclaration>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the Parameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Parameter list.
+   * @apilevel low-level
+   */
+  public List<ParameterDeclaration> getParameterListNoTransform() {
+    return (List<ParameterDeclaration>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the Parameter list without
+   * triggering rewrites.
+   */
+  public ParameterDeclaration getParameterNoTransform(int i) {
+    return (ParameterDeclaration) getParameterListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Parameter list.
+   * @return The node representing the Parameter list.
+   * @apilevel high-level
+   */
+  public List<ParameterDeclaration> getParameters() {
+    return getParameterList();
+  }
+  /**
+   * Retrieves the Parameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Parameter list.
+   * @apilevel low-level
+   */
+  public List<ParameterDeclaration> getParametersNoTransform() {
+    return getParameterListNoTransform();
+  }
+  /**
+   * Replaces the Exception list.
+   * @param list The new list node to be used as the Exception list.
+   * @apilevel high-level
+   */
+  public void setExceptionList(List<Access> list) {
+    setChild(list, 2);
+  }
+  /**
+   * Retrieves the number of children in the Exception list.
+   * @return Number of children in the Exception list.
+   * @apilevel high-level
+   */
+  public int getNumException() {
+    return getExceptionList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Exception list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Exception list.
+   * @apilevel low-level
+   */
+  public int getNumExceptionNoTransform() {
+    return getExceptionListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Exception list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Exception list.
+   * @apilevel high-level
+   */
+  public Access getException(int i) {
+    return (Access) getExceptionList().getChild(i);
+  }
+  /**
+   * Check whether the Exception list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasException() {
+    return getExceptionList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Exception list.
+   * @param node The element to append to the Exception list.
+   * @apilevel high-level
+   */
+  public void addException(Access node) {
+    List<Access> list = (parent == null) ? getExceptionListNoTransform() : getExceptionList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addExceptionNoTransform(Access node) {
+    List<Access> list = getExceptionListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Exception list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setException(Access node, int i) {
+    List<Access> list = getExceptionList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Exception list.
+   * @return The node representing the Exception list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Exception")
+  public List<Access> getExceptionList() {
+    List<Access> list = (List<Access>) getChild(2);
+    return list;
+  }
+  /**
+   * Retrieves the Exception list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Exception list.
+   * @apilevel low-level
+   */
+  public List<Access> getExceptionListNoTransform() {
+    return (List<Access>) getChildNoTransform(2);
+  }
+  /**
+   * @return the element at index {@code i} in the Exception list without
+   * triggering rewrites.
+   */
+  public Access getExceptionNoTransform(int i) {
+    return (Access) getExceptionListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Exception list.
+   * @return The node representing the Exception list.
+   * @apilevel high-level
+   */
+  public List<Access> getExceptions() {
+    return getExceptionList();
+  }
+  /**
+   * Retrieves the Exception list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Exception list.
+   * @apilevel low-level
+   */
+  public List<Access> getExceptionsNoTransform() {
+    return getExceptionListNoTransform();
+  }
+  /**
+   * Replaces the optional node for the ParsedConstructorInvocation child. This is the <code>Opt</code>
+   * node containing the child ParsedConstructorInvocation, not the actual child!
+   * @param opt The new node to be used as the optional node for the ParsedConstructorInvocation child.
+   * @apilevel low-level
+   */
+  public void setParsedConstructorInvocationOpt(Opt<Stmt> opt) {
+    setChild(opt, 3);
+  }
+  /**
+   * Replaces the (optional) ParsedConstructorInvocation child.
+   * @param node The new node to be used as the ParsedConstructorInvocation child.
+   * @apilevel high-level
+   */
+  public void setParsedConstructorInvocation(Stmt node) {
+    getParsedConstructorInvocationOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional ParsedConstructorInvocation child exists.
+   * @return {@code true} if the optional ParsedConstructorInvocation child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasParsedConstructorInvocation() {
+    return getParsedConstructorInvocationOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) ParsedConstructorInvocation child.
+   * @return The ParsedConstructorInvocation child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Stmt getParsedConstructorInvocation() {
+    return (Stmt) getParsedConstructorInvocationOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the ParsedConstructorInvocation child. This is the <code>Opt</code> node containing the child ParsedConstructorInvocation, not the actual child!
+   * @return The optional node for child the ParsedConstructorInvocation child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="ParsedConstructorInvocation")
+  public Opt<Stmt> getParsedConstructorInvocationOpt() {
+    return (Opt<Stmt>) getChild(3);
+  }
+  /**
+   * Retrieves the optional node for child ParsedConstructorInvocation. This is the <code>Opt</code> node containing the child ParsedConstructorInvocation, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child ParsedConstructorInvocation.
+   * @apilevel low-level
+   */
+  public Opt<Stmt> getParsedConstructorInvocationOptNoTransform() {
+    return (Opt<Stmt>) getChildNoTransform(3);
+  }
+  /**
+   * Replaces the Block child.
+   * @param node The new node to replace the Block child.
+   * @apilevel high-level
+   */
+  public void setBlock(Block node) {
+    setChild(node, 4);
+  }
+  /**
+   * Retrieves the Block child.
+   * @return The current node used as the Block child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Block")
+  public Block getBlock() {
+    return (Block) getChild(4);
+  }
+  /**
+   * Retrieves the Block child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Block child.
+   * @apilevel low-level
+   */
+  public Block getBlockNoTransform() {
+    return (Block) getChildNoTransform(4);
+  }
+  /**
+   * Replaces the lexeme Original.
+   * @param value The new value for the lexeme Original.
+   * @apilevel high-level
+   */
+  public void setOriginal(ConstructorDecl value) {
+    tokenConstructorDecl_Original = value;
+  }
+  /** @apilevel internal 
+   */
+  protected ConstructorDecl tokenConstructorDecl_Original;
+  /**
+   * Retrieves the value for the lexeme Original.
+   * @return The value for the lexeme Original.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="Original")
+  public ConstructorDecl getOriginal() {
+    return tokenConstructorDecl_Original;
+  }
+  /**
+   * Retrieves the ImplicitConstructorInvocation child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the ImplicitConstructorInvocation child.
+   * @apilevel low-level
+   */
+  public Stmt getImplicitConstructorInvocationNoTransform() {
+    return (Stmt) getChildNoTransform(5);
+  }
+  /**
+   * Retrieves the child position of the optional child ImplicitConstructorInvocation.
+   * @return The the child position of the optional child ImplicitConstructorInvocation.
+   * @apilevel low-level
+   */
+  protected int getImplicitConstructorInvocationChildPosition() {
+    return 5;
+  }
+  /** @apilevel internal */
+  private void sourceConstructorDecl_reset() {
+    sourceConstructorDecl_computed = null;
+    sourceConstructorDecl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle sourceConstructorDecl_computed = null;
+
+  /** @apilevel internal */
+  protected ConstructorDecl sourceConstructorDecl_value;
+
+  /**
+   * @attribute syn
+   * @aspect SourceDeclarations
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1917
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SourceDeclarations", declaredAt="/root/project/java5/frontend/Generics.jrag:1917")
+  public ConstructorDecl sourceConstructorDecl() {
+    ASTState state = state();
+    if (sourceConstructorDecl_computed == ASTState.NON_CYCLE || sourceConstructorDecl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConstructorDecl.sourceConstructorDecl()", "", sourceConstructorDecl_value);
+      return sourceConstructorDecl_value;
+    }
+    state().trace().computeBegin(this, "ConstructorDecl.sourceConstructorDecl()", "", "");
+    sourceConstructorDecl_value = getOriginal().sourceConstructorDecl();
+    state().trace().computeEnd(this, "ConstructorDecl.sourceConstructorDecl()", "", sourceConstructorDecl_value);
+    if (state().inCircle()) {
+      sourceConstructorDecl_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConstructorDecl.sourceConstructorDecl()", "", sourceConstructorDecl_value);
+    } else {
+      sourceConstructorDecl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConstructorDecl.sourceConstructorDecl()", "", sourceConstructorDecl_value);
+    }
+    return sourceConstructorDecl_value;
+  }
+  /**
+   * Note: isGeneric must be called first to check if this declaration is generic.
+   * Otherwise this attribute will throw an error!
+   * @return type parameters for this declaration.
+   * @attribute syn
+   * @aspect MethodSignature15
+   * @declaredat /root/project/java5/frontend/MethodSignature.jrag:450
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature15", declaredAt="/root/project/java5/frontend/MethodSignature.jrag:450")
+  public List<TypeVariable> typeParameters() {
+    state().trace().computeBegin(this, "BodyDecl.typeParameters()", "", "");
+    List<TypeVariable> typeParameters_value = sourceConstructorDecl().typeParameters();
+    state().trace().computeEnd(this, "BodyDecl.typeParameters()", "", typeParameters_value);
+    return typeParameters_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:513
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:513")
+  public ConstructorDecl createAccessor() {
+    state().trace().computeBegin(this, "ConstructorDecl.createAccessor()", "", "");
+    ConstructorDecl createAccessor_value = sourceConstructorDecl().createAccessor();
+    state().trace().computeEnd(this, "ConstructorDecl.createAccessor()", "", createAccessor_value);
+    return createAccessor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:247
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:247")
+  public ConstructorDecl erasedConstructor() {
+    state().trace().computeBegin(this, "ConstructorDecl.erasedConstructor()", "", "");
+    ConstructorDecl erasedConstructor_value = getOriginal().erasedConstructor();
+    state().trace().computeEnd(this, "ConstructorDecl.erasedConstructor()", "", erasedConstructor_value);
+    return erasedConstructor_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
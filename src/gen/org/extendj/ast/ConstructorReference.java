@@ -0,0 +1,1165 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java8/grammar/ConstructorReference.ast:1
+ * @production ConstructorReference : {@link Expr} ::= <span class="component">TypeAccess:{@link Access}</span>;
+
+ */
+public abstract class ConstructorReference extends Expr implements Cloneable {
+  /**
+   * @aspect PrettyPrintUtil8
+   * @declaredat /root/project/java8/frontend/PrettyPrintUtil.jadd:83
+   */
+  @Override public String toString() {
+    return String.format("%s::new", getTypeAccessNoTransform().toString());
+  }
+  /**
+   * @aspect Java8CreateBCode
+   * @declaredat /root/project/java8/backend/CreateBCode.jrag:42
+   */
+  public void createBCode(CodeGeneration gen) {
+    toClass().createBCode(gen);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ConstructorReference() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ConstructorReference(Access p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    compatibleStrictContext_TypeDecl_reset();
+    compatibleLooseContext_TypeDecl_reset();
+    pertinentToApplicability_Expr_BodyDecl_int_reset();
+    moreSpecificThan_TypeDecl_TypeDecl_reset();
+    potentiallyCompatible_TypeDecl_BodyDecl_reset();
+    isPolyExpression_reset();
+    assignConversionTo_TypeDecl_reset();
+    targetInterface_reset();
+    type_reset();
+    toClass_reset();
+    toParameterList_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:46
+   */
+  public ConstructorReference clone() throws CloneNotSupportedException {
+    ConstructorReference node = (ConstructorReference) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:57
+   */
+  @Deprecated
+  public abstract ConstructorReference fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:65
+   */
+  public abstract ConstructorReference treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:73
+   */
+  public abstract ConstructorReference treeCopy();
+  /**
+   * Replaces the TypeAccess child.
+   * @param node The new node to replace the TypeAccess child.
+   * @apilevel high-level
+   */
+  public void setTypeAccess(Access node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * @return The current node used as the TypeAccess child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="TypeAccess")
+  public Access getTypeAccess() {
+    return (Access) getChild(0);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(0);
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstructorReference
+   * @declaredat /root/project/java8/frontend/ConstructorReference.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReference", declaredAt="/root/project/java8/frontend/ConstructorReference.jrag:72")
+  public abstract boolean congruentTo(FunctionDescriptor fd);
+  /**
+   * @attribute syn
+   * @aspect ConstructorReference
+   * @declaredat /root/project/java8/frontend/ConstructorReference.jrag:153
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReference", declaredAt="/root/project/java8/frontend/ConstructorReference.jrag:153")
+  public abstract boolean isExact();
+  /**
+   * @attribute syn
+   * @aspect ConstructorReferenceToClass
+   * @declaredat /root/project/java8/backend/ConstructorReferenceToClass.jrag:97
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReferenceToClass", declaredAt="/root/project/java8/backend/ConstructorReferenceToClass.jrag:97")
+  public abstract Block toBlock();
+  /** @apilevel internal */
+  private void compatibleStrictContext_TypeDecl_reset() {
+    compatibleStrictContext_TypeDecl_computed = new java.util.HashMap(4);
+    compatibleStrictContext_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map compatibleStrictContext_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map compatibleStrictContext_TypeDecl_computed;
+  /** Used to compute compatibility during phase 1 of overload resolution. 
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:58")
+  public boolean compatibleStrictContext(TypeDecl type) {
+    Object _parameters = type;
+    if (compatibleStrictContext_TypeDecl_computed == null) compatibleStrictContext_TypeDecl_computed = new java.util.HashMap(4);
+    if (compatibleStrictContext_TypeDecl_values == null) compatibleStrictContext_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (compatibleStrictContext_TypeDecl_values.containsKey(_parameters) && compatibleStrictContext_TypeDecl_computed != null
+        && compatibleStrictContext_TypeDecl_computed.containsKey(_parameters)
+        && (compatibleStrictContext_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || compatibleStrictContext_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_values.get(_parameters));
+      return (Boolean) compatibleStrictContext_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, "");
+    boolean compatibleStrictContext_TypeDecl_value = compatibleStrictContext_compute(type);
+    state().trace().computeEnd(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    if (state().inCircle()) {
+      compatibleStrictContext_TypeDecl_values.put(_parameters, compatibleStrictContext_TypeDecl_value);
+      compatibleStrictContext_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    } else {
+      compatibleStrictContext_TypeDecl_values.put(_parameters, compatibleStrictContext_TypeDecl_value);
+      compatibleStrictContext_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    }
+    return compatibleStrictContext_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean compatibleStrictContext_compute(TypeDecl type) {
+      if (!type.isFunctionalInterface()) {
+        return false;
+      }
+      InterfaceDecl iDecl = (InterfaceDecl) type;
+      return congruentTo(iDecl.functionDescriptor());
+    }
+  /** @apilevel internal */
+  private void compatibleLooseContext_TypeDecl_reset() {
+    compatibleLooseContext_TypeDecl_computed = new java.util.HashMap(4);
+    compatibleLooseContext_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map compatibleLooseContext_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map compatibleLooseContext_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:102
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:102")
+  public boolean compatibleLooseContext(TypeDecl type) {
+    Object _parameters = type;
+    if (compatibleLooseContext_TypeDecl_computed == null) compatibleLooseContext_TypeDecl_computed = new java.util.HashMap(4);
+    if (compatibleLooseContext_TypeDecl_values == null) compatibleLooseContext_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (compatibleLooseContext_TypeDecl_values.containsKey(_parameters) && compatibleLooseContext_TypeDecl_computed != null
+        && compatibleLooseContext_TypeDecl_computed.containsKey(_parameters)
+        && (compatibleLooseContext_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || compatibleLooseContext_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_values.get(_parameters));
+      return (Boolean) compatibleLooseContext_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, "");
+    boolean compatibleLooseContext_TypeDecl_value = compatibleStrictContext(type);
+    state().trace().computeEnd(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    if (state().inCircle()) {
+      compatibleLooseContext_TypeDecl_values.put(_parameters, compatibleLooseContext_TypeDecl_value);
+      compatibleLooseContext_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    } else {
+      compatibleLooseContext_TypeDecl_values.put(_parameters, compatibleLooseContext_TypeDecl_value);
+      compatibleLooseContext_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    }
+    return compatibleLooseContext_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void pertinentToApplicability_Expr_BodyDecl_int_reset() {
+    pertinentToApplicability_Expr_BodyDecl_int_computed = new java.util.HashMap(4);
+    pertinentToApplicability_Expr_BodyDecl_int_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map pertinentToApplicability_Expr_BodyDecl_int_values;
+  /** @apilevel internal */
+  protected java.util.Map pertinentToApplicability_Expr_BodyDecl_int_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:130
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:130")
+  public boolean pertinentToApplicability(Expr access, BodyDecl decl, int argIndex) {
+    java.util.List _parameters = new java.util.ArrayList(3);
+    _parameters.add(access);
+    _parameters.add(decl);
+    _parameters.add(argIndex);
+    if (pertinentToApplicability_Expr_BodyDecl_int_computed == null) pertinentToApplicability_Expr_BodyDecl_int_computed = new java.util.HashMap(4);
+    if (pertinentToApplicability_Expr_BodyDecl_int_values == null) pertinentToApplicability_Expr_BodyDecl_int_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (pertinentToApplicability_Expr_BodyDecl_int_values.containsKey(_parameters) && pertinentToApplicability_Expr_BodyDecl_int_computed != null
+        && pertinentToApplicability_Expr_BodyDecl_int_computed.containsKey(_parameters)
+        && (pertinentToApplicability_Expr_BodyDecl_int_computed.get(_parameters) == ASTState.NON_CYCLE || pertinentToApplicability_Expr_BodyDecl_int_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_values.get(_parameters));
+      return (Boolean) pertinentToApplicability_Expr_BodyDecl_int_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, "");
+    boolean pertinentToApplicability_Expr_BodyDecl_int_value = pertinentToApplicability_compute(access, decl, argIndex);
+    state().trace().computeEnd(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    if (state().inCircle()) {
+      pertinentToApplicability_Expr_BodyDecl_int_values.put(_parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+      pertinentToApplicability_Expr_BodyDecl_int_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    } else {
+      pertinentToApplicability_Expr_BodyDecl_int_values.put(_parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+      pertinentToApplicability_Expr_BodyDecl_int_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    }
+    return pertinentToApplicability_Expr_BodyDecl_int_value;
+  }
+  /** @apilevel internal */
+  private boolean pertinentToApplicability_compute(Expr access, BodyDecl decl, int argIndex) {
+      if (!isExact()) {
+        return false;
+      }
+      if (decl instanceof MethodDecl
+          && decl.isGeneric()
+          && !(access instanceof ParMethodAccess)
+          && ((MethodDecl) decl).genericDecl().getParameter(argIndex).type().isTypeVariable()) {
+        GenericMethodDecl genericDecl = ((MethodDecl) decl).genericDecl();
+        TypeVariable typeVar = (TypeVariable) genericDecl.getParameter(argIndex).type();
+        for (int i = 0; i < genericDecl.getNumTypeParameter(); i++) {
+          if (typeVar == genericDecl.getTypeParameter(i)) {
+            return false;
+          }
+        }
+      } else if (decl instanceof ConstructorDecl
+          && decl.isGeneric()
+          && !(access instanceof ParConstructorAccess)
+          && !(access instanceof ParSuperConstructorAccess)
+          && !(access instanceof ParClassInstanceExpr)
+          && ((ConstructorDecl) decl).genericDecl().getParameter(argIndex).type().isTypeVariable()) {
+        GenericConstructorDecl genericDecl = ((ConstructorDecl) decl).genericDecl();
+        TypeVariable typeVar = (TypeVariable) genericDecl.getParameter(argIndex).type();
+        for (int i = 0; i < genericDecl.getNumTypeParameter(); i++) {
+          if (typeVar == genericDecl.getTypeParameter(i)) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void moreSpecificThan_TypeDecl_TypeDecl_reset() {
+    moreSpecificThan_TypeDecl_TypeDecl_computed = new java.util.HashMap(4);
+    moreSpecificThan_TypeDecl_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map moreSpecificThan_TypeDecl_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map moreSpecificThan_TypeDecl_TypeDecl_computed;
+  /**
+   * Computes which type is more specific for a specific argument, as defined in 15.12.2.5
+   * @param type1
+   * @param type2
+   * @return {@code true} if type1 is more specific than type2, {@code false} otherwise
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:256
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:256")
+  public boolean moreSpecificThan(TypeDecl type1, TypeDecl type2) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(type1);
+    _parameters.add(type2);
+    if (moreSpecificThan_TypeDecl_TypeDecl_computed == null) moreSpecificThan_TypeDecl_TypeDecl_computed = new java.util.HashMap(4);
+    if (moreSpecificThan_TypeDecl_TypeDecl_values == null) moreSpecificThan_TypeDecl_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (moreSpecificThan_TypeDecl_TypeDecl_values.containsKey(_parameters) && moreSpecificThan_TypeDecl_TypeDecl_computed != null
+        && moreSpecificThan_TypeDecl_TypeDecl_computed.containsKey(_parameters)
+        && (moreSpecificThan_TypeDecl_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || moreSpecificThan_TypeDecl_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_values.get(_parameters));
+      return (Boolean) moreSpecificThan_TypeDecl_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, "");
+    boolean moreSpecificThan_TypeDecl_TypeDecl_value = moreSpecificThan_compute(type1, type2);
+    state().trace().computeEnd(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    if (state().inCircle()) {
+      moreSpecificThan_TypeDecl_TypeDecl_values.put(_parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+      moreSpecificThan_TypeDecl_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    } else {
+      moreSpecificThan_TypeDecl_TypeDecl_values.put(_parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+      moreSpecificThan_TypeDecl_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    }
+    return moreSpecificThan_TypeDecl_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean moreSpecificThan_compute(TypeDecl type1, TypeDecl type2) {
+      if (super.moreSpecificThan(type1, type2)) {
+        return true;
+      }
+      if (!type1.isFunctionalInterface() || !type2.isFunctionalInterface()) {
+        return false;
+      }
+      if (type2.subtype(type1)) {
+        return false;
+      }
+      InterfaceDecl iDecl1 = (InterfaceDecl) type1;
+      InterfaceDecl iDecl2 = (InterfaceDecl) type2;
+  
+      if (!isExact()) {
+        return false;
+      }
+  
+      FunctionDescriptor fd1 = iDecl1.functionDescriptor();
+      FunctionDescriptor fd2 = iDecl2.functionDescriptor();
+      if (fd1.method.hasValue() && fd2.method.hasValue()) {
+        // Can only compare method types if both function descriptors have target methods.
+        MethodDecl method1 = fd1.method.get();
+        MethodDecl method2 = fd2.method.get();
+        TypeDecl methodType1 = method1.type();
+        TypeDecl methodType2 = method2.type();
+  
+        if (method1.arity() != method2.arity()) {
+          return false;
+        }
+  
+        for (int i = 0; i < method1.getNumParameter(); i++) {
+          if (method1.getParameter(i).type() != method2.getParameter(i).type()) {
+            return false;
+          }
+        }
+  
+        // First bullet
+        if (methodType2.isVoid()) {
+          return true;
+        }
+  
+        // Second bullet
+        if (methodType1.subtype(methodType2)) {
+          return true;
+        }
+  
+        // Third bullet
+        if (methodType1.isPrimitiveType() && methodType2.isReferenceType()) {
+          // A constructor can never have primitive return type
+          return false;
+        }
+  
+        // Fourth bullet
+        if (methodType1.isReferenceType() && methodType2.isPrimitiveType()) {
+          // A constructor always have reference return type
+          return true;
+        }
+      }
+  
+      return false;
+  
+    }
+  /** @apilevel internal */
+  private void potentiallyCompatible_TypeDecl_BodyDecl_reset() {
+    potentiallyCompatible_TypeDecl_BodyDecl_computed = new java.util.HashMap(4);
+    potentiallyCompatible_TypeDecl_BodyDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map potentiallyCompatible_TypeDecl_BodyDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map potentiallyCompatible_TypeDecl_BodyDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:511
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:511")
+  public boolean potentiallyCompatible(TypeDecl type, BodyDecl candidateDecl) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(type);
+    _parameters.add(candidateDecl);
+    if (potentiallyCompatible_TypeDecl_BodyDecl_computed == null) potentiallyCompatible_TypeDecl_BodyDecl_computed = new java.util.HashMap(4);
+    if (potentiallyCompatible_TypeDecl_BodyDecl_values == null) potentiallyCompatible_TypeDecl_BodyDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (potentiallyCompatible_TypeDecl_BodyDecl_values.containsKey(_parameters) && potentiallyCompatible_TypeDecl_BodyDecl_computed != null
+        && potentiallyCompatible_TypeDecl_BodyDecl_computed.containsKey(_parameters)
+        && (potentiallyCompatible_TypeDecl_BodyDecl_computed.get(_parameters) == ASTState.NON_CYCLE || potentiallyCompatible_TypeDecl_BodyDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_values.get(_parameters));
+      return (Boolean) potentiallyCompatible_TypeDecl_BodyDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, "");
+    boolean potentiallyCompatible_TypeDecl_BodyDecl_value = potentiallyCompatible_compute(type, candidateDecl);
+    state().trace().computeEnd(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    if (state().inCircle()) {
+      potentiallyCompatible_TypeDecl_BodyDecl_values.put(_parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+      potentiallyCompatible_TypeDecl_BodyDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    } else {
+      potentiallyCompatible_TypeDecl_BodyDecl_values.put(_parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+      potentiallyCompatible_TypeDecl_BodyDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    }
+    return potentiallyCompatible_TypeDecl_BodyDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean potentiallyCompatible_compute(TypeDecl type, BodyDecl candidateDecl) {
+      if (type.isTypeVariable()) {
+        if (candidateDecl.isGeneric()) {
+          boolean foundTypeVariable = false;
+          List<TypeVariable> typeParams = candidateDecl.typeParameters();
+          for (int i = 0; i < typeParams.getNumChild(); i++) {
+            if (type == typeParams.getChild(i)) {
+              foundTypeVariable = true;
+              break;
+            }
+          }
+          return foundTypeVariable;
+        } else {
+          return false;
+        }
+      }
+  
+      if (!type.isFunctionalInterface()) {
+        return false;
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void isPolyExpression_reset() {
+    isPolyExpression_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isPolyExpression_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isPolyExpression_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:86")
+  public boolean isPolyExpression() {
+    ASTState state = state();
+    if (isPolyExpression_computed == ASTState.NON_CYCLE || isPolyExpression_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+      return isPolyExpression_value;
+    }
+    state().trace().computeBegin(this, "Expr.isPolyExpression()", "", "");
+    isPolyExpression_value = true;
+    state().trace().computeEnd(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    if (state().inCircle()) {
+      isPolyExpression_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    } else {
+      isPolyExpression_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    }
+    return isPolyExpression_value;
+  }
+  /** @apilevel internal */
+  private void assignConversionTo_TypeDecl_reset() {
+    assignConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    assignConversionTo_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map assignConversionTo_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map assignConversionTo_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:149
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:149")
+  public boolean assignConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    if (assignConversionTo_TypeDecl_computed == null) assignConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    if (assignConversionTo_TypeDecl_values == null) assignConversionTo_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (assignConversionTo_TypeDecl_values.containsKey(_parameters) && assignConversionTo_TypeDecl_computed != null
+        && assignConversionTo_TypeDecl_computed.containsKey(_parameters)
+        && (assignConversionTo_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || assignConversionTo_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_values.get(_parameters));
+      return (Boolean) assignConversionTo_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.assignConversionTo(TypeDecl)", _parameters, "");
+    boolean assignConversionTo_TypeDecl_value = assignConversionTo_compute(type);
+    state().trace().computeEnd(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    if (state().inCircle()) {
+      assignConversionTo_TypeDecl_values.put(_parameters, assignConversionTo_TypeDecl_value);
+      assignConversionTo_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    } else {
+      assignConversionTo_TypeDecl_values.put(_parameters, assignConversionTo_TypeDecl_value);
+      assignConversionTo_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    }
+    return assignConversionTo_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean assignConversionTo_compute(TypeDecl type) {
+      if (!type.isFunctionalInterface()) {
+        return false;
+      }
+      FunctionDescriptor f = ((InterfaceDecl) type).functionDescriptor();
+      return congruentTo(f);
+    }
+  /** @apilevel internal */
+  private void targetInterface_reset() {
+    targetInterface_computed = null;
+    targetInterface_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle targetInterface_computed = null;
+
+  /** @apilevel internal */
+  protected InterfaceDecl targetInterface_value;
+
+  /**
+   * @attribute syn
+   * @aspect TargetType
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:185
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TargetType", declaredAt="/root/project/java8/frontend/TargetType.jrag:185")
+  public InterfaceDecl targetInterface() {
+    ASTState state = state();
+    if (targetInterface_computed == ASTState.NON_CYCLE || targetInterface_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConstructorReference.targetInterface()", "", targetInterface_value);
+      return targetInterface_value;
+    }
+    state().trace().computeBegin(this, "ConstructorReference.targetInterface()", "", "");
+    targetInterface_value = targetInterface_compute();
+    state().trace().computeEnd(this, "ConstructorReference.targetInterface()", "", targetInterface_value);
+    if (state().inCircle()) {
+      targetInterface_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConstructorReference.targetInterface()", "", targetInterface_value);
+    } else {
+      targetInterface_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConstructorReference.targetInterface()", "", targetInterface_value);
+    }
+    return targetInterface_value;
+  }
+  /** @apilevel internal */
+  private InterfaceDecl targetInterface_compute() {
+      if (targetType().isNull()) {
+        return null;
+      } else if (!(targetType() instanceof InterfaceDecl)) {
+        return null;
+      } else {
+        return (InterfaceDecl) targetType();
+      }
+    }
+/** @apilevel internal */
+protected ASTState.Cycle type_cycle = null;
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = false;
+    type_initialized = false;
+    type_value = null;
+    type_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean type_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+  /** @apilevel internal */
+  protected boolean type_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:102")
+  public TypeDecl type() {
+    if (type_computed) {
+      state().trace().cacheRead(this, "ConstructorReference.type()", "", type_value);
+      return type_value;
+    }
+    ASTState state = state();
+    if (!type_initialized) {
+      type_initialized = true;
+      type_value = unknownType();
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        type_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ConstructorReference.type()", "", "");
+        TypeDecl new_type_value = type_compute();
+        state().trace().computeEnd(this, "ConstructorReference.type()", "", type_value);
+        if ((new_type_value == null && type_value != null) || (new_type_value != null && !new_type_value.equals(type_value))) {
+          state.setChangeInCycle();
+        }
+        type_value = new_type_value;
+      } while (state.testAndClearChangeInCycle());
+      type_computed = true;
+      state().trace().cacheWrite(this, "ConstructorReference.type()", "", type_value);
+      state.leaveCircle();
+    } else if (type_cycle != state.cycle()) {
+      type_cycle = state.cycle();
+      state().trace().computeBegin(this, "ConstructorReference.type()", "", "");
+      TypeDecl new_type_value = type_compute();
+      state().trace().computeEnd(this, "ConstructorReference.type()", "", type_value);
+      if ((new_type_value == null && type_value != null) || (new_type_value != null && !new_type_value.equals(type_value))) {
+        state.setChangeInCycle();
+      }
+      type_value = new_type_value;
+    } else {
+    }
+    return type_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl type_compute() {
+      // 15.13.1
+      if (!assignmentContext() && !castContext() && !invocationContext()) {
+        return unknownType();
+      }
+      if (targetInterface() == null) {
+        return unknownType();
+      }
+  
+      InterfaceDecl iDecl = targetInterface();
+      if (!iDecl.isFunctional()) {
+        return unknownType();
+      }
+  
+      return iDecl;
+    }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:393
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:393")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "ConstructorReference.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (!assignmentContext() && !castContext() && !invocationContext()) {
+          problems.add(error("Constructor references must target a functional interface"));
+          return problems;
+        }
+    
+        // This means there was an error in the overload resolution, will be reported elsewhere
+        if (invocationContext() && targetType() == unknownType()) {
+          return problems;
+        }
+    
+        if (!targetType().isFunctionalInterface()) {
+          problems.add(error("Constructor references must target a functional interface"));
+          return problems;
+        }
+        InterfaceDecl iDecl = targetInterface();
+    
+        if (!iDecl.isFunctional()) {
+          problems.add(errorf("Interface %s is not functional and can therefore not be targeted by a constructor reference",
+              iDecl.typeName()));
+          return problems;
+        }
+    
+        FunctionDescriptor fd = iDecl.functionDescriptor();
+        if (!fd.method.hasValue()) {
+          problems.add(errorf(
+                "Found no matching method in the interface %s for this constructor reference.",
+                iDecl.typeName()));
+        } else {
+          MethodDecl targetMethod = fd.method.get();
+          if (this instanceof ClassReference) {
+            ClassReference ref = (ClassReference) this;
+            ConstructorDecl decl = ref.targetConstructor(fd);
+            if (unknownConstructor() == decl) {
+              problems.add(errorf("Found no constructor for the type %s that is compatible with "
+                  + "the method %s in interface %s",
+                  getTypeAccess().type().typeName(), targetMethod.fullSignature(), iDecl.typeName()));
+            }
+            if (!targetMethod.type().isVoid()) {
+              // 15.13.1
+              TypeDecl returnType = ref.syntheticInstanceExpr(fd).type();
+              if (!returnType.assignConversionTo(targetMethod.type(), null)) {
+                problems.add(errorf("Return type of method %s in interface %s is not compatible with"
+                    + " referenced constructor which has return type: %s",
+                    targetMethod.fullSignature(), iDecl.typeName(), returnType.typeName()));
+              }
+            }
+            for (int i = 0; i < decl.getNumException(); i++) {
+              TypeDecl exception = decl.getException(i).type();
+              if (exception.isUncheckedException()) {
+                continue;
+              }
+    
+              boolean legalException = false;
+              for (TypeDecl descriptorThrows : iDecl.functionDescriptor().throwsList) {
+                if (exception.strictSubtype(descriptorThrows)) {
+                  legalException = true;
+                  break;
+                }
+              }
+              if (!legalException) {
+                // 15.13.1
+                problems.add(errorf("Referenced constructor %s throws unhandled exception type %s",
+                    decl.name(), exception.typeName()));
+              }
+            }
+            problems.addAll(ref.syntheticInstanceExpr(fd).typeProblems());
+          } else {
+            ArrayReference ref = (ArrayReference) this;
+            if (targetMethod.getNumParameter() != 1) {
+              problems.add(errorf("Array reference not compatible with method %s in interface %s,"
+                  + " should have a single parameter of type int",
+                  targetMethod.fullSignature(), iDecl.typeName()));
+              return problems;
+            }
+            if (!targetMethod.paramType(0).assignConversionTo(iDecl.typeInt(), null)) {
+              problems.add(errorf("Array reference not compatible with method %s in interface %s,"
+                  + " should have a single parameter of type int",
+                  targetMethod.fullSignature(), iDecl.typeName()));
+              return problems;
+            }
+            if (!targetMethod.type().isVoid()) {
+              if (!getTypeAccess().type().assignConversionTo(targetMethod.type(), null)) {
+                problems.add(errorf("Return type %s of method %s in interface %s is not compatible with"
+                    + " the array reference type %s",
+                    targetMethod.type().typeName(), targetMethod.fullSignature(), iDecl.typeName(),
+                    getTypeAccess().type().typeName()));
+              }
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "ConstructorReference.typeProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void toClass_reset() {
+    toClass_computed = false;
+    
+    toClass_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean toClass_computed = false;
+
+  /** @apilevel internal */
+  protected ClassInstanceExpr toClass_value;
+
+  /** Build an anonymous inner class for bytecode generation. 
+   * @attribute syn
+   * @aspect ConstructorReferenceToClass
+   * @declaredat /root/project/java8/backend/ConstructorReferenceToClass.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReferenceToClass", declaredAt="/root/project/java8/backend/ConstructorReferenceToClass.jrag:58")
+  public ClassInstanceExpr toClass() {
+    ASTState state = state();
+    if (toClass_computed) {
+      state().trace().cacheRead(this, "ConstructorReference.toClass()", "", toClass_value);
+      return toClass_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "ConstructorReference.toClass()", "", "");
+    toClass_value = toClass_compute();
+    state().trace().computeEnd(this, "ConstructorReference.toClass()", "", toClass_value);
+    toClass_value.setParent(this);
+    toClass_computed = true;
+    state().trace().cacheWrite(this, "ConstructorReference.toClass()", "", toClass_value);
+    state().leaveLazyAttribute();
+    return toClass_value;
+  }
+  /** @apilevel internal */
+  private ClassInstanceExpr toClass_compute() {
+      List<Access> implementsList = new List<Access>();
+      InterfaceDecl iDecl = targetInterface();
+  
+      // First compute the interface implemented by the anonymous class.
+      TypeDecl nonWildcard = targetInterface().nonWildcardParameterization().getOrElse(unknownType());
+      implementsList.add(nonWildcard.createQualifiedAccess());
+  
+      // Next, compute the BodyDecls for the anonymous class.
+      List<BodyDecl> bodyDecls = new List<BodyDecl>();
+  
+      // Which means we must build the method overriding the abstract methods.
+      Modifiers methodModifiers = new Modifiers(new List<Modifier>().add(new Modifier("public")));
+      MethodDecl targetMethod = iDecl.functionDescriptor().method.get();
+      Access returnType = new SyntheticTypeAccess(targetMethod.type());
+      List<ParameterDeclaration> methodParams = toParameterList();
+      List<Access> methodThrows = new List<Access>();
+      for (TypeDecl throwsType : iDecl.functionDescriptor().throwsList) {
+        methodThrows.add(new SyntheticTypeAccess(throwsType));
+      }
+      Opt<Block> methodBlock = new Opt<Block>(toBlock());
+      MethodDecl method = new MethodDecl(methodModifiers, returnType,
+          targetMethod.name(),
+          methodParams, methodThrows, methodBlock);
+  
+      bodyDecls.add(method);
+  
+      // Now the anonymous class can be built. We use the type
+      // LambdaAnonymousDecl instead of a normal AnonymousDecl in order for this
+      // and super keywords to get the type of the outer scope.
+      LambdaAnonymousDecl anonymousDecl = new LambdaAnonymousDecl(new Modifiers(),
+          "ConstructorReference", implementsList, bodyDecls);
+  
+      return new ClassInstanceExpr(
+          iDecl.createQualifiedAccess(),
+          new List<Expr>(),
+          new Opt<TypeDecl>(anonymousDecl));
+    }
+  /** @apilevel internal */
+  private void toParameterList_reset() {
+    toParameterList_computed = null;
+    toParameterList_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle toParameterList_computed = null;
+
+  /** @apilevel internal */
+  protected List<ParameterDeclaration> toParameterList_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstructorReferenceToClass
+   * @declaredat /root/project/java8/backend/ConstructorReferenceToClass.jrag:99
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReferenceToClass", declaredAt="/root/project/java8/backend/ConstructorReferenceToClass.jrag:99")
+  public List<ParameterDeclaration> toParameterList() {
+    ASTState state = state();
+    if (toParameterList_computed == ASTState.NON_CYCLE || toParameterList_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ConstructorReference.toParameterList()", "", toParameterList_value);
+      return toParameterList_value;
+    }
+    state().trace().computeBegin(this, "ConstructorReference.toParameterList()", "", "");
+    toParameterList_value = toParameterList_compute();
+    state().trace().computeEnd(this, "ConstructorReference.toParameterList()", "", toParameterList_value);
+    if (state().inCircle()) {
+      toParameterList_computed = state().cycle();
+      state().trace().cacheWrite(this, "ConstructorReference.toParameterList()", "", toParameterList_value);
+    } else {
+      toParameterList_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ConstructorReference.toParameterList()", "", toParameterList_value);
+    }
+    return toParameterList_value;
+  }
+  /** @apilevel internal */
+  private List<ParameterDeclaration> toParameterList_compute() {
+      List<ParameterDeclaration> list = new List<ParameterDeclaration>();
+      MethodDecl targetMethod = targetInterface().functionDescriptor().method.get();
+      for (int i = 0; i < targetMethod.getNumParameter(); i++) {
+        TypeDecl paramType = targetMethod.getParameter(i).type();
+        String paramName = targetMethod.getParameter(i).name();
+        list.add(new ParameterDeclaration(new SyntheticTypeAccess(paramType), paramName));
+      }
+      return list;
+    }
+  /**
+   * @attribute inh
+   * @aspect ConstructorReference
+   * @declaredat /root/project/java8/frontend/ConstructorReference.jrag:30
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="ConstructorReference", declaredAt="/root/project/java8/frontend/ConstructorReference.jrag:30")
+  public ConstructorDecl unknownConstructor() {
+    state().trace().computeBegin(this, "ConstructorReference.unknownConstructor()", "", "");
+    ConstructorDecl unknownConstructor_value = getParent().Define_unknownConstructor(this, null);
+    state().trace().computeEnd(this, "ConstructorReference.unknownConstructor()", "", unknownConstructor_value);
+    return unknownConstructor_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java8/frontend/ConstructorReference.jrag:70
+      return NameType.TYPE_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:422
+      return false;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:423
+      return false;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:424
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:425
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:426
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java8/frontend/TypeCheck.jrag:390
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void collect_contributors_TypeDecl_nestedTypes(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java8/backend/ConstructorReferenceToClass.jrag:30
+    {
+      TypeDecl target = (TypeDecl) (hostType());
+      java.util.Set<ASTNode> contributors = _map.get(target);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) target, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_TypeDecl_nestedTypes(_root, _map);
+  }
+  protected void collect_contributors_TypeDecl_accessors(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+
+
+  
+toClass().collect_contributors_TypeDecl_accessors(_root, _map);
+    super.collect_contributors_TypeDecl_accessors(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+  }
+  protected void contributeTo_TypeDecl_nestedTypes(LinkedList<TypeDecl> collection) {
+    super.contributeTo_TypeDecl_nestedTypes(collection);
+    collection.add(toClass().getTypeDecl());
+  }
+}
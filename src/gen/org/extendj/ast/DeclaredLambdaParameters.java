@@ -0,0 +1,601 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java8/grammar/Lambda.ast:9
+ * @production DeclaredLambdaParameters : {@link LambdaParameters} ::= <span class="component">Parameter:{@link ParameterDeclaration}*</span>;
+
+ */
+public class DeclaredLambdaParameters extends LambdaParameters implements Cloneable {
+  /**
+   * @aspect LambdaToClass
+   * @declaredat /root/project/java8/frontend/LambdaAnonymousDecl.jrag:117
+   */
+  protected List<ParameterDeclaration> toParameterList() {
+    return getParameterList().treeCopyNoTransform();
+  }
+  /**
+   * @aspect Java8PrettyPrint
+   * @declaredat /root/project/java8/frontend/PrettyPrint.jadd:57
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("(");
+    out.join(getParameters(), new PrettyPrinter.Joiner() {
+      @Override
+      public void printSeparator(PrettyPrinter out) {
+        out.print(", ");
+      }
+    });
+    out.print(")");
+  }
+  /**
+   * @aspect PrettyPrintUtil8
+   * @declaredat /root/project/java8/frontend/PrettyPrintUtil.jadd:58
+   */
+  @Override public String toString() {
+    int numParams = 0;
+    StringBuilder params = new StringBuilder();
+    for (ParameterDeclaration param : getParameterListNoTransform()) {
+      if (numParams > 0) {
+        params.append(", ");
+      }
+      params.append(param.toString());
+      numParams += 1;
+    }
+    return String.format("(%s)", params.toString());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public DeclaredLambdaParameters() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+    setChild(new List(), 0);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public DeclaredLambdaParameters(List<ParameterDeclaration> p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    numParameters_reset();
+    congruentTo_FunctionDescriptor_reset();
+    parameterDeclaration_String_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public DeclaredLambdaParameters clone() throws CloneNotSupportedException {
+    DeclaredLambdaParameters node = (DeclaredLambdaParameters) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public DeclaredLambdaParameters copy() {
+    try {
+      DeclaredLambdaParameters node = (DeclaredLambdaParameters) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:63
+   */
+  @Deprecated
+  public DeclaredLambdaParameters fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:73
+   */
+  public DeclaredLambdaParameters treeCopyNoTransform() {
+    DeclaredLambdaParameters tree = (DeclaredLambdaParameters) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:93
+   */
+  public DeclaredLambdaParameters treeCopy() {
+    DeclaredLambdaParameters tree = (DeclaredLambdaParameters) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:107
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Parameter list.
+   * @param list The new list node to be used as the Parameter list.
+   * @apilevel high-level
+   */
+  public void setParameterList(List<ParameterDeclaration> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the Parameter list.
+   * @return Number of children in the Parameter list.
+   * @apilevel high-level
+   */
+  public int getNumParameter() {
+    return getParameterList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Parameter list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Parameter list.
+   * @apilevel low-level
+   */
+  public int getNumParameterNoTransform() {
+    return getParameterListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Parameter list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Parameter list.
+   * @apilevel high-level
+   */
+  public ParameterDeclaration getParameter(int i) {
+    return (ParameterDeclaration) getParameterList().getChild(i);
+  }
+  /**
+   * Check whether the Parameter list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasParameter() {
+    return getParameterList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Parameter list.
+   * @param node The element to append to the Parameter list.
+   * @apilevel high-level
+   */
+  public void addParameter(ParameterDeclaration node) {
+    List<ParameterDeclaration> list = (parent == null) ? getParameterListNoTransform() : getParameterList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addParameterNoTransform(ParameterDeclaration node) {
+    List<ParameterDeclaration> list = getParameterListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Parameter list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setParameter(ParameterDeclaration node, int i) {
+    List<ParameterDeclaration> list = getParameterList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Parameter list.
+   * @return The node representing the Parameter list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Parameter")
+  public List<ParameterDeclaration> getParameterList() {
+    List<ParameterDeclaration> list = (List<ParameterDeclaration>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the Parameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Parameter list.
+   * @apilevel low-level
+   */
+  public List<ParameterDeclaration> getParameterListNoTransform() {
+    return (List<ParameterDeclaration>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the Parameter list without
+   * triggering rewrites.
+   */
+  public ParameterDeclaration getParameterNoTransform(int i) {
+    return (ParameterDeclaration) getParameterListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Parameter list.
+   * @return The node representing the Parameter list.
+   * @apilevel high-level
+   */
+  public List<ParameterDeclaration> getParameters() {
+    return getParameterList();
+  }
+  /**
+   * Retrieves the Parameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Parameter list.
+   * @apilevel low-level
+   */
+  public List<ParameterDeclaration> getParametersNoTransform() {
+    return getParameterListNoTransform();
+  }
+  /** @apilevel internal */
+  private void numParameters_reset() {
+    numParameters_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle numParameters_computed = null;
+
+  /** @apilevel internal */
+  protected int numParameters_value;
+
+  /**
+   * @attribute syn
+   * @aspect LambdaExpr
+   * @declaredat /root/project/java8/frontend/LambdaExpr.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaExpr", declaredAt="/root/project/java8/frontend/LambdaExpr.jrag:47")
+  public int numParameters() {
+    ASTState state = state();
+    if (numParameters_computed == ASTState.NON_CYCLE || numParameters_computed == state().cycle()) {
+      state().trace().cacheRead(this, "LambdaParameters.numParameters()", "", numParameters_value);
+      return numParameters_value;
+    }
+    state().trace().computeBegin(this, "LambdaParameters.numParameters()", "", "");
+    numParameters_value = getNumParameter();
+    state().trace().computeEnd(this, "LambdaParameters.numParameters()", "", numParameters_value);
+    if (state().inCircle()) {
+      numParameters_computed = state().cycle();
+      state().trace().cacheWrite(this, "LambdaParameters.numParameters()", "", numParameters_value);
+    } else {
+      numParameters_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "LambdaParameters.numParameters()", "", numParameters_value);
+    }
+    return numParameters_value;
+  }
+  /** @apilevel internal */
+  private void congruentTo_FunctionDescriptor_reset() {
+    congruentTo_FunctionDescriptor_computed = new java.util.HashMap(4);
+    congruentTo_FunctionDescriptor_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map congruentTo_FunctionDescriptor_values;
+  /** @apilevel internal */
+  protected java.util.Map congruentTo_FunctionDescriptor_computed;
+  /**
+   * @attribute syn
+   * @aspect LambdaExpr
+   * @declaredat /root/project/java8/frontend/LambdaExpr.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaExpr", declaredAt="/root/project/java8/frontend/LambdaExpr.jrag:53")
+  public boolean congruentTo(FunctionDescriptor fd) {
+    Object _parameters = fd;
+    if (congruentTo_FunctionDescriptor_computed == null) congruentTo_FunctionDescriptor_computed = new java.util.HashMap(4);
+    if (congruentTo_FunctionDescriptor_values == null) congruentTo_FunctionDescriptor_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (congruentTo_FunctionDescriptor_values.containsKey(_parameters) && congruentTo_FunctionDescriptor_computed != null
+        && congruentTo_FunctionDescriptor_computed.containsKey(_parameters)
+        && (congruentTo_FunctionDescriptor_computed.get(_parameters) == ASTState.NON_CYCLE || congruentTo_FunctionDescriptor_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "LambdaParameters.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_values.get(_parameters));
+      return (Boolean) congruentTo_FunctionDescriptor_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "LambdaParameters.congruentTo(FunctionDescriptor)", _parameters, "");
+    boolean congruentTo_FunctionDescriptor_value = congruentTo_compute(fd);
+    state().trace().computeEnd(this, "LambdaParameters.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    if (state().inCircle()) {
+      congruentTo_FunctionDescriptor_values.put(_parameters, congruentTo_FunctionDescriptor_value);
+      congruentTo_FunctionDescriptor_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "LambdaParameters.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    } else {
+      congruentTo_FunctionDescriptor_values.put(_parameters, congruentTo_FunctionDescriptor_value);
+      congruentTo_FunctionDescriptor_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "LambdaParameters.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    }
+    return congruentTo_FunctionDescriptor_value;
+  }
+  /** @apilevel internal */
+  private boolean congruentTo_compute(FunctionDescriptor fd) {
+      if (fd.method.hasValue()) {
+        MethodDecl targetMethod = fd.method.get();
+        if (numParameters() != targetMethod.getNumParameter()) {
+          return false;
+        }
+        for (int i = 0; i < numParameters(); i++) {
+          // Lambdas can't declare type variables so that doesn't need to be taken into account.
+          if (getParameter(i).type() != targetMethod.getParameter(i).type() &&
+              getParameter(i).type() != targetMethod.getParameter(i).type().erasure()) {
+            return false;
+          }
+        }
+        return true;
+      } else {
+        return false;
+      }
+    }
+  /** @apilevel internal */
+  private void parameterDeclaration_String_reset() {
+    parameterDeclaration_String_computed = new java.util.HashMap(4);
+    parameterDeclaration_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map parameterDeclaration_String_values;
+  /** @apilevel internal */
+  protected java.util.Map parameterDeclaration_String_computed;
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java8/frontend/LookupVariable.jrag:38")
+  public SimpleSet<Variable> parameterDeclaration(String name) {
+    Object _parameters = name;
+    if (parameterDeclaration_String_computed == null) parameterDeclaration_String_computed = new java.util.HashMap(4);
+    if (parameterDeclaration_String_values == null) parameterDeclaration_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (parameterDeclaration_String_values.containsKey(_parameters) && parameterDeclaration_String_computed != null
+        && parameterDeclaration_String_computed.containsKey(_parameters)
+        && (parameterDeclaration_String_computed.get(_parameters) == ASTState.NON_CYCLE || parameterDeclaration_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "DeclaredLambdaParameters.parameterDeclaration(String)", _parameters, parameterDeclaration_String_values.get(_parameters));
+      return (SimpleSet<Variable>) parameterDeclaration_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "DeclaredLambdaParameters.parameterDeclaration(String)", _parameters, "");
+    SimpleSet<Variable> parameterDeclaration_String_value = parameterDeclaration_compute(name);
+    state().trace().computeEnd(this, "DeclaredLambdaParameters.parameterDeclaration(String)", _parameters, parameterDeclaration_String_value);
+    if (state().inCircle()) {
+      parameterDeclaration_String_values.put(_parameters, parameterDeclaration_String_value);
+      parameterDeclaration_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "DeclaredLambdaParameters.parameterDeclaration(String)", _parameters, parameterDeclaration_String_value);
+    } else {
+      parameterDeclaration_String_values.put(_parameters, parameterDeclaration_String_value);
+      parameterDeclaration_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "DeclaredLambdaParameters.parameterDeclaration(String)", _parameters, parameterDeclaration_String_value);
+    }
+    return parameterDeclaration_String_value;
+  }
+  /** @apilevel internal */
+  private SimpleSet<Variable> parameterDeclaration_compute(String name) {
+      for (ParameterDeclaration param : getParameterList()) {
+        if (param.name().equals(name)) {
+          return param;
+        }
+      }
+      return emptySet();
+    }
+  /**
+   * @attribute syn
+   * @aspect Java8NameCheck
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:547
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java8NameCheck", declaredAt="/root/project/java8/frontend/NameCheck.jrag:547")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "DeclaredLambdaParameters.nameProblems()", "", "");
+    try {
+        for (int i = 0; i < getNumParameter(); i++) {
+          if (getParameter(i).name().equals("_")) {
+            // 15.27.1
+            return Collections.singletonList(
+                error("Underscore is not a valid identifier for a lambda parameter"));
+          }
+        }
+        return Collections.emptyList();
+      }
+    finally {
+      state().trace().computeEnd(this, "DeclaredLambdaParameters.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:30
+   * @apilevel internal
+   */
+  public boolean Define_inhModifiedInScope(ASTNode _callerNode, ASTNode _childNode, Variable var) {
+    if (_callerNode == getParameterListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:35
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return inhModifiedInScope(var);
+    }
+    else {
+      return getParent().Define_inhModifiedInScope(this, _callerNode, var);
+    }
+  }
+  protected boolean canDefine_inhModifiedInScope(ASTNode _callerNode, ASTNode _childNode, Variable var) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getParameterListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/LookupVariable.jrag:33
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return parameterDeclaration(name);
+    }
+    else {
+      return getParent().Define_lookupVariable(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/VariableArityParameters.jrag:46
+   * @apilevel internal
+   */
+  public boolean Define_variableArityValid(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getParameterListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/VariableArityParameters.jrag:30
+      int i = _callerNode.getIndexOfChild(_childNode);
+      return i == getNumParameter() - 1;
+    }
+    else {
+      return getParent().Define_variableArityValid(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_variableArityValid(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java8/frontend/NameCheck.jrag:545
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+  }
+}
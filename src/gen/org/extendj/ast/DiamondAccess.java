@@ -0,0 +1,506 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * Type access for a generic class with an empty type parameter list.
+ * @ast node
+ * @declaredat /root/project/java7/grammar/Diamond.ast:4
+ * @production DiamondAccess : {@link Access} ::= <span class="component">TypeAccess:{@link Access}</span>;
+
+ */
+public class DiamondAccess extends Access implements Cloneable {
+  /**
+   * Choose a constructor for the diamond operator using stand-in
+   * methods. One stand-in method is generated for each constructor
+   * of the generic type. Type inference is then used to select the
+   * type arguments for the method, which can be used as the type
+   * arguments of the generic type.
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:112
+   */
+  protected SimpleSet<MethodDecl> chooseConstructor() {
+    TypeDecl type = getTypeAccess().type();
+
+    assert type instanceof ParClassDecl;
+
+    GenericClassDecl genericType = (GenericClassDecl) ((ParClassDecl) type).genericDecl();
+
+    List<MethodDecl> placeholderMethods = genericType.getSurrogateMethodList();
+    return methodAccess().maxSpecific(placeholderMethods);
+  }
+  /**
+   * @aspect Java7PrettyPrint
+   * @declaredat /root/project/java7/frontend/PrettyPrint.jadd:46
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getTypeAccess());
+    out.print("<>");
+  }
+  /**
+   * @aspect Java7PrettyPrintUtil
+   * @declaredat /root/project/java7/frontend/PrettyPrintUtil.jrag:35
+   */
+  @Override public String toString() {
+    return getTypeAccess().toString() + "<>";
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public DiamondAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public DiamondAccess(Access p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    methodAccess_reset();
+    type_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public DiamondAccess clone() throws CloneNotSupportedException {
+    DiamondAccess node = (DiamondAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public DiamondAccess copy() {
+    try {
+      DiamondAccess node = (DiamondAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:61
+   */
+  @Deprecated
+  public DiamondAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:71
+   */
+  public DiamondAccess treeCopyNoTransform() {
+    DiamondAccess tree = (DiamondAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:91
+   */
+  public DiamondAccess treeCopy() {
+    DiamondAccess tree = (DiamondAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:105
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the TypeAccess child.
+   * @param node The new node to replace the TypeAccess child.
+   * @apilevel high-level
+   */
+  public void setTypeAccess(Access node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * @return The current node used as the TypeAccess child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="TypeAccess")
+  public Access getTypeAccess() {
+    return (Access) getChild(0);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(0);
+  }
+  /** @apilevel internal */
+  private void methodAccess_reset() {
+    methodAccess_computed = false;
+    
+    methodAccess_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean methodAccess_computed = false;
+
+  /** @apilevel internal */
+  protected MethodAccess methodAccess_value;
+
+  /**
+   * Creates a synthetic method access that is used to perform type inference
+   * for the diamond access.
+   * @attribute syn
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:49
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="Diamond", declaredAt="/root/project/java7/frontend/Diamond.jrag:49")
+  public MethodAccess methodAccess() {
+    ASTState state = state();
+    if (methodAccess_computed) {
+      state().trace().cacheRead(this, "DiamondAccess.methodAccess()", "", methodAccess_value);
+      return methodAccess_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "DiamondAccess.methodAccess()", "", "");
+    methodAccess_value = new MethodAccess("#" + getTypeAccess().type().name(),
+              getClassInstanceExpr().getArgList().treeCopyNoTransform());
+    state().trace().computeEnd(this, "DiamondAccess.methodAccess()", "", methodAccess_value);
+    methodAccess_value.setParent(this);
+    methodAccess_computed = true;
+    state().trace().cacheWrite(this, "DiamondAccess.methodAccess()", "", methodAccess_value);
+    state().leaveLazyAttribute();
+    return methodAccess_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = type_compute();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl type_compute() {
+      TypeDecl accessType = getTypeAccess().type();
+  
+      if (isAnonymousDecl()) {
+        return accessType;
+      }
+  
+      if (getClassInstanceExpr() == null) {
+        // It is an error if the DiamondAccess does not occurr
+        // within a class instance creation expression, but this
+        // error is handled in typeCheck.
+        return accessType;
+      }
+  
+      if (!(accessType instanceof ParClassDecl)) {
+        // It is an error if the TypeDecl of a DiamondAccess is not
+        // a generic type, but this error is handled in typeCheck.
+        return accessType;
+      }
+  
+      SimpleSet<MethodDecl> maxSpecific = chooseConstructor();
+  
+      if (maxSpecific.isEmpty()) {
+        return getTypeAccess().type();
+      }
+  
+      MethodDecl constructor = maxSpecific.iterator().next();
+      return constructor.type();
+    }
+  /**
+   * @attribute syn
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:92
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Diamond", declaredAt="/root/project/java7/frontend/Diamond.jrag:92")
+  public boolean isDiamond() {
+    state().trace().computeBegin(this, "Access.isDiamond()", "", "");
+    boolean isDiamond_value = true;
+    state().trace().computeEnd(this, "Access.isDiamond()", "", isDiamond_value);
+    return isDiamond_value;
+  }
+  /**
+   * Checks if this diamond access is legal.
+   * 
+   * <p>The diamond access is not legal if it either is part of an inner class
+   * declaration, if it is used to access a non-generic type, or if it is
+   * part of a call to a generic constructor with explicit type arguments.
+   * @attribute syn
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:315
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Diamond", declaredAt="/root/project/java7/frontend/Diamond.jrag:315")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "DiamondAccess.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (isAnonymousDecl()) {
+          problems.add(error("the diamond operator can not be used with anonymous classes"));
+        }
+        if (isExplicitGenericConstructorAccess()) {
+          problems.add(error("the diamond operator may not be used with generic "
+              + "constructors with explicit type parameters"));
+        }
+        if (getClassInstanceExpr() == null) {
+          problems.add(error("the diamond operator can only be used in class instance expressions"));
+        }
+        if (!(getTypeAccess().type() instanceof ParClassDecl)) {
+          problems.add(error("the diamond operator can only be used to instantiate generic classes"));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "DiamondAccess.typeProblems()", "", "");
+    }
+  }
+  /**
+   * @return the nearest enclosing class instance expression, or {@code null}
+   * if there is no enclosing class instance expression.
+   * @attribute inh
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:99
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Diamond", declaredAt="/root/project/java7/frontend/Diamond.jrag:99")
+  public ClassInstanceExpr getClassInstanceExpr() {
+    state().trace().computeBegin(this, "DiamondAccess.getClassInstanceExpr()", "", "");
+    ClassInstanceExpr getClassInstanceExpr_value = getParent().Define_getClassInstanceExpr(this, null);
+    state().trace().computeEnd(this, "DiamondAccess.getClassInstanceExpr()", "", getClassInstanceExpr_value);
+    return getClassInstanceExpr_value;
+  }
+  /**
+   * @return true if this access is part of an anonymous class declaration
+   * @attribute inh
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:284
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Diamond", declaredAt="/root/project/java7/frontend/Diamond.jrag:284")
+  public boolean isAnonymousDecl() {
+    state().trace().computeBegin(this, "DiamondAccess.isAnonymousDecl()", "", "");
+    boolean isAnonymousDecl_value = getParent().Define_isAnonymousDecl(this, null);
+    state().trace().computeEnd(this, "DiamondAccess.isAnonymousDecl()", "", isAnonymousDecl_value);
+    return isAnonymousDecl_value;
+  }
+  /**
+   * @return true if the Access is part of a generic constructor invocation
+   * with explicit type arguments
+   * @attribute inh
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:300
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Diamond", declaredAt="/root/project/java7/frontend/Diamond.jrag:300")
+  public boolean isExplicitGenericConstructorAccess() {
+    state().trace().computeBegin(this, "DiamondAccess.isExplicitGenericConstructorAccess()", "", "");
+    boolean isExplicitGenericConstructorAccess_value = getParent().Define_isExplicitGenericConstructorAccess(this, null);
+    state().trace().computeEnd(this, "DiamondAccess.isExplicitGenericConstructorAccess()", "", isExplicitGenericConstructorAccess_value);
+    return isExplicitGenericConstructorAccess_value;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:231
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == methodAccess_value) {
+      // @declaredat /root/project/java7/frontend/Diamond.jrag:54
+      return unqualifiedScope().lookupType(name);
+    }
+    else {
+      return getParent().Define_lookupType(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java7/frontend/Diamond.jrag:306
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+  }
+}
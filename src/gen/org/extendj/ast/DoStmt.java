@@ -0,0 +1,861 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:348
+ * @production DoStmt : {@link BranchTargetStmt} ::= <span class="component">{@link Stmt}</span> <span class="component">Condition:{@link Expr}</span>;
+
+ */
+public class DoStmt extends BranchTargetStmt implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:330
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("do ");
+    out.print(getStmt());
+    out.print(" while(");
+    out.print(getCondition());
+    out.print(");");
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1689
+   */
+  public void createBCode(CodeGeneration gen) {
+    super.createBCode(gen);
+    gen.addLabel(begin_label());
+    getStmt().createBCode(gen);
+    gen.addLabel(cond_label());
+    getCondition().branchTrue(gen, begin_label());
+    gen.addLabel(end_label());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public DoStmt() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public DoStmt(Stmt p0, Expr p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    assignedAfter_Variable_reset();
+    unassignedAfter_Variable_reset();
+    unassignedBeforeCondition_Variable_reset();
+    canCompleteNormally_reset();
+    begin_label_reset();
+    cond_label_reset();
+    end_label_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:43
+   */
+  public DoStmt clone() throws CloneNotSupportedException {
+    DoStmt node = (DoStmt) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:48
+   */
+  public DoStmt copy() {
+    try {
+      DoStmt node = (DoStmt) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:67
+   */
+  @Deprecated
+  public DoStmt fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:77
+   */
+  public DoStmt treeCopyNoTransform() {
+    DoStmt tree = (DoStmt) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:97
+   */
+  public DoStmt treeCopy() {
+    DoStmt tree = (DoStmt) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:111
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Stmt child.
+   * @param node The new node to replace the Stmt child.
+   * @apilevel high-level
+   */
+  public void setStmt(Stmt node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Stmt child.
+   * @return The current node used as the Stmt child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Stmt")
+  public Stmt getStmt() {
+    return (Stmt) getChild(0);
+  }
+  /**
+   * Retrieves the Stmt child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Stmt child.
+   * @apilevel low-level
+   */
+  public Stmt getStmtNoTransform() {
+    return (Stmt) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the Condition child.
+   * @param node The new node to replace the Condition child.
+   * @apilevel high-level
+   */
+  public void setCondition(Expr node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the Condition child.
+   * @return The current node used as the Condition child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Condition")
+  public Expr getCondition() {
+    return (Expr) getChild(1);
+  }
+  /**
+   * Retrieves the Condition child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Condition child.
+   * @apilevel low-level
+   */
+  public Expr getConditionNoTransform() {
+    return (Expr) getChildNoTransform(1);
+  }
+  /**
+   * @return <code>true</code> if this statement is a potential
+   * branch target of the given branch statement.
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:215
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:215")
+  public boolean potentialTargetOf(Stmt branch) {
+    Object _parameters = branch;
+    state().trace().computeBegin(this, "BranchTargetStmt.potentialTargetOf(Stmt)", _parameters, "");
+    boolean potentialTargetOf_Stmt_value = branch.canBranchTo(this);
+    state().trace().computeEnd(this, "BranchTargetStmt.potentialTargetOf(Stmt)", _parameters, potentialTargetOf_Stmt_value);
+    return potentialTargetOf_Stmt_value;
+  }
+  /** @apilevel internal */
+  private void assignedAfter_Variable_reset() {
+    assignedAfter_Variable_values = null;
+  }
+  protected java.util.Map assignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:264")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    if (assignedAfter_Variable_values == null) assignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.assignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+        new_assignedAfter_Variable_value = assignedAfter_compute(v);
+        state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+        if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfter_Variable_values.put(_parameters, new_assignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+      boolean new_assignedAfter_Variable_value = assignedAfter_compute(v);
+      state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfter_Variable_value;
+      }
+      return new_assignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean assignedAfter_compute(Variable v) {
+      if (!getCondition().assignedAfterFalse(v)) {
+        return false;
+      }
+      for (BreakStmt stmt : targetBreaks()) {
+        if (!stmt.assignedAfterReachedFinallyBlocks(v)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:895")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = unassignedAfter_compute(v);
+        state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = unassignedAfter_compute(v);
+      state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean unassignedAfter_compute(Variable v) {
+      if (!unassignedBeforeCondition(v)) { // Starts a circular evaluation here.
+        return false;
+      }
+      if (!getCondition().unassignedAfterFalse(v)) {
+        return false;
+      }
+      for (BreakStmt stmt : targetBreaks()) {
+        if (!stmt.unassignedAfterReachedFinallyBlocks(v)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void unassignedBeforeCondition_Variable_reset() {
+    unassignedBeforeCondition_Variable_values = null;
+  }
+  protected java.util.Map unassignedBeforeCondition_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1456")
+  public boolean unassignedBeforeCondition(Variable v) {
+    Object _parameters = v;
+    if (unassignedBeforeCondition_Variable_values == null) unassignedBeforeCondition_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedBeforeCondition_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedBeforeCondition_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "DoStmt.unassignedBeforeCondition(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedBeforeCondition_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedBeforeCondition_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "DoStmt.unassignedBeforeCondition(Variable)", _parameters, "");
+        new_unassignedBeforeCondition_Variable_value = unassignedBeforeCondition_compute(v);
+        state().trace().computeEnd(this, "DoStmt.unassignedBeforeCondition(Variable)", _parameters, _value.value);
+        if (new_unassignedBeforeCondition_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedBeforeCondition_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedBeforeCondition_Variable_values.put(_parameters, new_unassignedBeforeCondition_Variable_value);
+      state().trace().cacheWrite(this, "DoStmt.unassignedBeforeCondition(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedBeforeCondition_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "DoStmt.unassignedBeforeCondition(Variable)", _parameters, "");
+      boolean new_unassignedBeforeCondition_Variable_value = unassignedBeforeCondition_compute(v);
+      state().trace().computeEnd(this, "DoStmt.unassignedBeforeCondition(Variable)", _parameters, _value.value);
+      if (new_unassignedBeforeCondition_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedBeforeCondition_Variable_value;
+      }
+      return new_unassignedBeforeCondition_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean unassignedBeforeCondition_compute(Variable v) {
+      if (!getStmt().unassignedAfter(v)) {
+        return false;
+      } else {
+        for (ContinueStmt stmt : targetContinues()) {
+          if (!stmt.unassignedAfterReachedFinallyBlocks(v)) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:569
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:569")
+  public boolean continueLabel() {
+    state().trace().computeBegin(this, "Stmt.continueLabel()", "", "");
+    boolean continueLabel_value = true;
+    state().trace().computeEnd(this, "Stmt.continueLabel()", "", continueLabel_value);
+    return continueLabel_value;
+  }
+  /** @apilevel internal */
+  private void canCompleteNormally_reset() {
+    canCompleteNormally_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle canCompleteNormally_computed = null;
+
+  /** @apilevel internal */
+  protected boolean canCompleteNormally_value;
+
+  /**
+   * @attribute syn
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:50")
+  public boolean canCompleteNormally() {
+    ASTState state = state();
+    if (canCompleteNormally_computed == ASTState.NON_CYCLE || canCompleteNormally_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+      return canCompleteNormally_value;
+    }
+    state().trace().computeBegin(this, "Stmt.canCompleteNormally()", "", "");
+    canCompleteNormally_value = getStmt().canCompleteNormally() && (!getCondition().isConstant() || !getCondition().isTrue())
+          || reachableContinue() && (!getCondition().isConstant() || !getCondition().isTrue())
+          || reachableBreak();
+    state().trace().computeEnd(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    if (state().inCircle()) {
+      canCompleteNormally_computed = state().cycle();
+      state().trace().cacheWrite(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    } else {
+      canCompleteNormally_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    }
+    return canCompleteNormally_value;
+  }
+  /** @apilevel internal */
+  private void begin_label_reset() {
+    begin_label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle begin_label_computed = null;
+
+  /** @apilevel internal */
+  protected int begin_label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1685
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1685")
+  public int begin_label() {
+    ASTState state = state();
+    if (begin_label_computed == ASTState.NON_CYCLE || begin_label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "DoStmt.begin_label()", "", begin_label_value);
+      return begin_label_value;
+    }
+    state().trace().computeBegin(this, "DoStmt.begin_label()", "", "");
+    begin_label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "DoStmt.begin_label()", "", begin_label_value);
+    if (state().inCircle()) {
+      begin_label_computed = state().cycle();
+      state().trace().cacheWrite(this, "DoStmt.begin_label()", "", begin_label_value);
+    } else {
+      begin_label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "DoStmt.begin_label()", "", begin_label_value);
+    }
+    return begin_label_value;
+  }
+  /** @apilevel internal */
+  private void cond_label_reset() {
+    cond_label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle cond_label_computed = null;
+
+  /** @apilevel internal */
+  protected int cond_label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1686
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1686")
+  public int cond_label() {
+    ASTState state = state();
+    if (cond_label_computed == ASTState.NON_CYCLE || cond_label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "DoStmt.cond_label()", "", cond_label_value);
+      return cond_label_value;
+    }
+    state().trace().computeBegin(this, "DoStmt.cond_label()", "", "");
+    cond_label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "DoStmt.cond_label()", "", cond_label_value);
+    if (state().inCircle()) {
+      cond_label_computed = state().cycle();
+      state().trace().cacheWrite(this, "DoStmt.cond_label()", "", cond_label_value);
+    } else {
+      cond_label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "DoStmt.cond_label()", "", cond_label_value);
+    }
+    return cond_label_value;
+  }
+  /** @apilevel internal */
+  private void end_label_reset() {
+    end_label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle end_label_computed = null;
+
+  /** @apilevel internal */
+  protected int end_label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1687
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1687")
+  public int end_label() {
+    ASTState state = state();
+    if (end_label_computed == ASTState.NON_CYCLE || end_label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "DoStmt.end_label()", "", end_label_value);
+      return end_label_value;
+    }
+    state().trace().computeBegin(this, "DoStmt.end_label()", "", "");
+    end_label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "DoStmt.end_label()", "", end_label_value);
+    if (state().inCircle()) {
+      end_label_computed = state().cycle();
+      state().trace().cacheWrite(this, "DoStmt.end_label()", "", end_label_value);
+    } else {
+      end_label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "DoStmt.end_label()", "", end_label_value);
+    }
+    return end_label_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1725
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1725")
+  public int break_label() {
+    state().trace().computeBegin(this, "Stmt.break_label()", "", "");
+    int break_label_value = end_label();
+    state().trace().computeEnd(this, "Stmt.break_label()", "", break_label_value);
+    return break_label_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1750
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1750")
+  public int continue_label() {
+    state().trace().computeBegin(this, "Stmt.continue_label()", "", "");
+    int continue_label_value = cond_label();
+    state().trace().computeEnd(this, "Stmt.continue_label()", "", continue_label_value);
+    return continue_label_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:78")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Stmt.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = getStmt().modifiedInScope(var);
+    state().trace().computeEnd(this, "Stmt.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:230
+   * @apilevel internal
+   */
+  public Stmt Define_branchTarget(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return branch.canBranchTo(this) ? this : branchTarget(branch);
+  }
+  protected boolean canDefine_branchTarget(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:768
+      {
+          if (!getStmt().assignedAfter(v)) {
+            return false;
+          }
+          for (ContinueStmt stmt : targetContinues()) {
+            if (!stmt.assignedAfterReachedFinallyBlocks(v)) {
+              return false;
+            }
+          }
+          return true;
+        }
+    }
+    else if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:766
+      return assignedBefore(v);
+    }
+    else {
+      return getParent().Define_assignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (getConditionNoTransform() != null && _callerNode == getCondition()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1454
+      return unassignedBeforeCondition(v);
+    }
+    else if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1451
+      return unassignedBefore(v) && getCondition().unassignedAfterTrue(v);
+    }
+    else {
+      return getParent().Define_unassignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:525
+   * @apilevel internal
+   */
+  public boolean Define_insideLoop(ASTNode _callerNode, ASTNode _childNode) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/NameCheck.jrag:531
+      return true;
+    }
+    else {
+      return getParent().Define_insideLoop(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_insideLoop(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:49
+   * @apilevel internal
+   */
+  public boolean Define_reachable(ASTNode _callerNode, ASTNode _childNode) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:149
+      return reachable();
+    }
+    else {
+      return getParent().Define_reachable(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_reachable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:280
+   * @apilevel internal
+   */
+  public boolean Define_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:212
+      return reachable();
+    }
+    else {
+      return getParent().Define_reportUnreachable(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:30
+   * @apilevel internal
+   */
+  public boolean Define_inhModifiedInScope(ASTNode _callerNode, ASTNode _childNode, Variable var) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:54
+      return false;
+    }
+    else {
+      return getParent().Define_inhModifiedInScope(this, _callerNode, var);
+    }
+  }
+  protected boolean canDefine_inhModifiedInScope(ASTNode _callerNode, ASTNode _childNode, Variable var) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:448
+    if (!getCondition().type().isBoolean()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (!getCondition().type().isBoolean()) {
+      collection.add(errorf("the type of \"%s\" is %s which is not boolean",
+                getCondition().prettyPrint(), getCondition().type().name()));
+    }
+  }
+}
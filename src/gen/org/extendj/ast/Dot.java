@@ -0,0 +1,1694 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * A qualified expression.
+ * The left hand side qualifies the right hand side.
+ * 
+ * <p>Note: this type can represent more than a simple "dot"
+ * expression. There can be an array access as the right hand side,
+ * e.g., {@code left[3] }.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:79
+ * @production Dot : {@link Access} ::= <span class="component">Left:{@link Expr}</span> <span class="component">Right:{@link Access}</span>;
+
+ */
+public class Dot extends Access implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:337
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    if (needsDot()) {
+      out.print(getLeft());
+      out.print(".");
+      out.print(getRight());
+    } else {
+      out.print(getLeft());
+      out.print(getRight());
+    }
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:147
+   */
+  @Override public String toString() {
+    Expr left = getLeftNoTransform();
+    Expr right = getRightNoTransform();
+    if (!(right instanceof ArrayAccess)) {
+      return String.format("%s.%s",
+          left.toString(),
+          right.toString());
+    } else {
+      ArrayAccess array = (ArrayAccess) right;
+      return String.format("%s[%s]",
+          left.toString(),
+          array.getExprNoTransform().toString());
+
+    }
+  }
+  /**
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:190
+   */
+  public Dot lastDot() {
+    Dot node = this;
+    while (node.getRightNoTransform() instanceof Dot) {
+      node = (Dot) node.getRightNoTransform();
+    }
+    return node;
+  }
+  /**
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:208
+   */
+  public Access qualifiesAccess(Access access) {
+    Dot lastDot = lastDot();
+    Expr last = lastDot.getRightNoTransform();
+    lastDot.setRight(null); // Take out the old right hand side.
+    Access qualified = last.qualifiesAccess(access);
+    qualified.setEnd(access.getEnd());
+    lastDot.setRight(qualified); // Insert new right hand side.
+    return this;
+  }
+  /**
+   * Used when replacing pairs from a list to concatenate the result to the
+   * tail of the current location.
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:236
+   */
+  private Access qualifyTailWith(Access expr) {
+    if (getRight() instanceof Dot) {
+      Dot dot = (Dot) getRight();
+      return expr.qualifiesAccess(dot.getRight().treeCopyNoTransform());
+    }
+    return expr;
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:227
+   */
+  public void emitStore(CodeGeneration gen) {
+    lastAccess().emitStore(gen);
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:465
+   */
+  public void createAssignSimpleLoadDest(CodeGeneration gen) {
+    lastAccess().createAssignSimpleLoadDest(gen);
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:484
+   */
+  public void createPushAssignmentResult(CodeGeneration gen) {
+    lastAccess().createPushAssignmentResult(gen);
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:507
+   */
+  public void createAssignLoadDest(CodeGeneration gen) {
+    lastAccess().createAssignLoadDest(gen);
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:562
+   */
+  public void createBCode(CodeGeneration gen) {
+    if (transformed() != this) {
+      transformed().createBCode(gen);
+    } else {
+      getRight().createBCode(gen);
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1281
+   */
+  public void branchTrue(CodeGeneration gen, int target) {
+    // Branch when true.
+    lastAccess().branchTrue(gen, target);
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1392
+   */
+  public void branchFalse(CodeGeneration gen, int target) {
+    // Branch when false.
+    lastAccess().branchFalse(gen, target);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public Dot() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public Dot(Expr p0, Access p1) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    unassignedAfterTrue_Variable_reset();
+    unassignedAfterFalse_Variable_reset();
+    unassignedAfter_Variable_reset();
+    type_reset();
+    transformed_reset();
+    transformedSuperAccessor_reset();
+    stmtCompatible_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:43
+   */
+  public Dot clone() throws CloneNotSupportedException {
+    Dot node = (Dot) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:48
+   */
+  public Dot copy() {
+    try {
+      Dot node = (Dot) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:67
+   */
+  @Deprecated
+  public Dot fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:77
+   */
+  public Dot treeCopyNoTransform() {
+    Dot tree = (Dot) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:97
+   */
+  public Dot treeCopy() {
+    Dot tree = (Dot) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:111
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Left child.
+   * @param node The new node to replace the Left child.
+   * @apilevel high-level
+   */
+  public void setLeft(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Left child.
+   * @return The current node used as the Left child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Left")
+  public Expr getLeft() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the Left child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Left child.
+   * @apilevel low-level
+   */
+  public Expr getLeftNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the Right child.
+   * @param node The new node to replace the Right child.
+   * @apilevel high-level
+   */
+  public void setRight(Access node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the Right child.
+   * @return The current node used as the Right child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Right")
+  public Access getRight() {
+    return (Access) getChild(1);
+  }
+  /**
+   * Retrieves the Right child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Right child.
+   * @apilevel low-level
+   */
+  public Access getRightNoTransform() {
+    return (Access) getChildNoTransform(1);
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:32")
+  public Constant constant() {
+    state().trace().computeBegin(this, "Expr.constant()", "", "");
+    Constant constant_value = lastAccess().constant();
+    state().trace().computeEnd(this, "Expr.constant()", "", constant_value);
+    return constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:383
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:383")
+  public boolean isConstant() {
+    state().trace().computeBegin(this, "Expr.isConstant()", "", "");
+    boolean isConstant_value = lastAccess().isConstant();
+    state().trace().computeEnd(this, "Expr.isConstant()", "", isConstant_value);
+    return isConstant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:77")
+  public Variable varDecl() {
+    state().trace().computeBegin(this, "Expr.varDecl()", "", "");
+    Variable varDecl_value = lastAccess().varDecl();
+    state().trace().computeEnd(this, "Expr.varDecl()", "", varDecl_value);
+    return varDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:375
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:375")
+  public boolean assignedAfterTrue(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfterTrue(Variable)", _parameters, "");
+    boolean assignedAfterTrue_Variable_value = assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfterTrue(Variable)", _parameters, assignedAfterTrue_Variable_value);
+    return assignedAfterTrue_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:377
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:377")
+  public boolean assignedAfterFalse(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfterFalse(Variable)", _parameters, "");
+    boolean assignedAfterFalse_Variable_value = assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfterFalse(Variable)", _parameters, assignedAfterFalse_Variable_value);
+    return assignedAfterFalse_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = lastAccess().assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfterTrue_Variable_reset() {
+    unassignedAfterTrue_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterTrue_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:905")
+  public boolean unassignedAfterTrue(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterTrue_Variable_values == null) unassignedAfterTrue_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterTrue_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterTrue_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterTrue_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterTrue_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfterTrue(Variable)", _parameters, "");
+        new_unassignedAfterTrue_Variable_value = unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterTrue_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterTrue_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterTrue_Variable_values.put(_parameters, new_unassignedAfterTrue_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterTrue_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfterTrue(Variable)", _parameters, "");
+      boolean new_unassignedAfterTrue_Variable_value = unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterTrue_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterTrue_Variable_value;
+      }
+      return new_unassignedAfterTrue_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfterFalse_Variable_reset() {
+    unassignedAfterFalse_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterFalse_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:907")
+  public boolean unassignedAfterFalse(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterFalse_Variable_values == null) unassignedAfterFalse_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterFalse_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterFalse_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterFalse_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterFalse_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfterFalse(Variable)", _parameters, "");
+        new_unassignedAfterFalse_Variable_value = unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterFalse_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterFalse_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterFalse_Variable_values.put(_parameters, new_unassignedAfterFalse_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterFalse_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfterFalse(Variable)", _parameters, "");
+      boolean new_unassignedAfterFalse_Variable_value = unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterFalse_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterFalse_Variable_value;
+      }
+      return new_unassignedAfterFalse_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = lastAccess().unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = lastAccess().unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * Pretty-printed qualified expression needs a dot unless the right
+   * hand side is an array access.
+   * @attribute syn
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:358
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PrettyPrintUtil", declaredAt="/root/project/java4/frontend/PrettyPrintUtil.jrag:358")
+  public boolean needsDot() {
+    state().trace().computeBegin(this, "Dot.needsDot()", "", "");
+    boolean needsDot_value = !(rightSide() instanceof ArrayAccess);
+    state().trace().computeEnd(this, "Dot.needsDot()", "", needsDot_value);
+    return needsDot_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:73
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:73")
+  public String typeName() {
+    state().trace().computeBegin(this, "Expr.typeName()", "", "");
+    String typeName_value = lastAccess().typeName();
+    state().trace().computeEnd(this, "Expr.typeName()", "", typeName_value);
+    return typeName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:35")
+  public boolean isTypeAccess() {
+    state().trace().computeBegin(this, "Expr.isTypeAccess()", "", "");
+    boolean isTypeAccess_value = getRight().isTypeAccess();
+    state().trace().computeEnd(this, "Expr.isTypeAccess()", "", isTypeAccess_value);
+    return isTypeAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:47")
+  public boolean isMethodAccess() {
+    state().trace().computeBegin(this, "Expr.isMethodAccess()", "", "");
+    boolean isMethodAccess_value = getRight().isMethodAccess();
+    state().trace().computeEnd(this, "Expr.isMethodAccess()", "", isMethodAccess_value);
+    return isMethodAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:51
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:51")
+  public boolean isFieldAccess() {
+    state().trace().computeBegin(this, "Expr.isFieldAccess()", "", "");
+    boolean isFieldAccess_value = getRight().isFieldAccess();
+    state().trace().computeEnd(this, "Expr.isFieldAccess()", "", isFieldAccess_value);
+    return isFieldAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:56
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:56")
+  public boolean isSuperAccess() {
+    state().trace().computeBegin(this, "Expr.isSuperAccess()", "", "");
+    boolean isSuperAccess_value = getRight().isSuperAccess();
+    state().trace().computeEnd(this, "Expr.isSuperAccess()", "", isSuperAccess_value);
+    return isSuperAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:62
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:62")
+  public boolean isThisAccess() {
+    state().trace().computeBegin(this, "Expr.isThisAccess()", "", "");
+    boolean isThisAccess_value = getRight().isThisAccess();
+    state().trace().computeEnd(this, "Expr.isThisAccess()", "", isThisAccess_value);
+    return isThisAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:68
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:68")
+  public boolean isPackageAccess() {
+    state().trace().computeBegin(this, "Expr.isPackageAccess()", "", "");
+    boolean isPackageAccess_value = getRight().isPackageAccess();
+    state().trace().computeEnd(this, "Expr.isPackageAccess()", "", isPackageAccess_value);
+    return isPackageAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:72")
+  public boolean isArrayAccess() {
+    state().trace().computeBegin(this, "Expr.isArrayAccess()", "", "");
+    boolean isArrayAccess_value = getRight().isArrayAccess();
+    state().trace().computeEnd(this, "Expr.isArrayAccess()", "", isArrayAccess_value);
+    return isArrayAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:76
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:76")
+  public boolean isClassAccess() {
+    state().trace().computeBegin(this, "Expr.isClassAccess()", "", "");
+    boolean isClassAccess_value = getRight().isClassAccess();
+    state().trace().computeEnd(this, "Expr.isClassAccess()", "", isClassAccess_value);
+    return isClassAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:80
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:80")
+  public boolean isSuperConstructorAccess() {
+    state().trace().computeBegin(this, "Expr.isSuperConstructorAccess()", "", "");
+    boolean isSuperConstructorAccess_value = getRight().isSuperConstructorAccess();
+    state().trace().computeEnd(this, "Expr.isSuperConstructorAccess()", "", isSuperConstructorAccess_value);
+    return isSuperConstructorAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:164
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:164")
+  public boolean isQualified() {
+    state().trace().computeBegin(this, "Access.isQualified()", "", "");
+    boolean isQualified_value = hasParentDot();
+    state().trace().computeEnd(this, "Access.isQualified()", "", isQualified_value);
+    return isQualified_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:169
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:169")
+  public Expr leftSide() {
+    state().trace().computeBegin(this, "Dot.leftSide()", "", "");
+    Expr leftSide_value = getLeft();
+    state().trace().computeEnd(this, "Dot.leftSide()", "", leftSide_value);
+    return leftSide_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:171
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:171")
+  public Access rightSide() {
+    state().trace().computeBegin(this, "Dot.rightSide()", "", "");
+    Access rightSide_value = getRight() instanceof Dot ?
+        (Access)((Dot) getRight()).getLeft() : (Access) getRight();
+    state().trace().computeEnd(this, "Dot.rightSide()", "", rightSide_value);
+    return rightSide_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:174
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:174")
+  public Access lastAccess() {
+    state().trace().computeBegin(this, "Access.lastAccess()", "", "");
+    Access lastAccess_value = getRight().lastAccess();
+    state().trace().computeEnd(this, "Access.lastAccess()", "", lastAccess_value);
+    return lastAccess_value;
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    NameType predNameType_value = getLeft() instanceof Access
+          ? ((Access) getLeft()).predNameType()
+          : NameType.NOT_CLASSIFIED;
+    state().trace().computeEnd(this, "Access.predNameType()", "", predNameType_value);
+    return predNameType_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = lastAccess().type();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:33")
+  public boolean isVariable() {
+    state().trace().computeBegin(this, "Expr.isVariable()", "", "");
+    boolean isVariable_value = lastAccess().isVariable();
+    state().trace().computeEnd(this, "Expr.isVariable()", "", isVariable_value);
+    return isVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:240
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:240")
+  public boolean staticContextQualifier() {
+    state().trace().computeBegin(this, "Expr.staticContextQualifier()", "", "");
+    boolean staticContextQualifier_value = lastAccess().staticContextQualifier();
+    state().trace().computeEnd(this, "Expr.staticContextQualifier()", "", staticContextQualifier_value);
+    return staticContextQualifier_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:300
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:300")
+  public boolean needsPop() {
+    state().trace().computeBegin(this, "Expr.needsPop()", "", "");
+    boolean needsPop_value = lastAccess().needsPop();
+    state().trace().computeEnd(this, "Expr.needsPop()", "", needsPop_value);
+    return needsPop_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:313
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:313")
+  public boolean isVarAccessWithAccessor() {
+    state().trace().computeBegin(this, "Expr.isVarAccessWithAccessor()", "", "");
+    boolean isVarAccessWithAccessor_value = lastAccess().isVarAccessWithAccessor();
+    state().trace().computeEnd(this, "Expr.isVarAccessWithAccessor()", "", isVarAccessWithAccessor_value);
+    return isVarAccessWithAccessor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1177
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1177")
+  public boolean canBeTrue() {
+    state().trace().computeBegin(this, "Expr.canBeTrue()", "", "");
+    boolean canBeTrue_value = lastAccess().canBeTrue();
+    state().trace().computeEnd(this, "Expr.canBeTrue()", "", canBeTrue_value);
+    return canBeTrue_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1189
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1189")
+  public boolean canBeFalse() {
+    state().trace().computeBegin(this, "Expr.canBeFalse()", "", "");
+    boolean canBeFalse_value = lastAccess().canBeFalse();
+    state().trace().computeEnd(this, "Expr.canBeFalse()", "", canBeFalse_value);
+    return canBeFalse_value;
+  }
+  /** @return {@code true} if this is a method call that requires a super accessor. 
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:439
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:439")
+  public boolean requiresSuperAccessor() {
+    state().trace().computeBegin(this, "Dot.requiresSuperAccessor()", "", "");
+    boolean requiresSuperAccessor_value = leftSide().isSuperAccess()
+          && rightSide().isInstanceMethodAccess()
+          && !leftSide().type().isInterfaceDecl()
+          && !hostType().subtype(leftSide().type());
+    state().trace().computeEnd(this, "Dot.requiresSuperAccessor()", "", requiresSuperAccessor_value);
+    return requiresSuperAccessor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:444
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:444")
+  public MethodDecl superAccessorTargetMethod() {
+    state().trace().computeBegin(this, "Dot.superAccessorTargetMethod()", "", "");
+    MethodDecl superAccessorTargetMethod_value = ((MethodAccess) rightSide()).decl().erasedMethod();
+    state().trace().computeEnd(this, "Dot.superAccessorTargetMethod()", "", superAccessorTargetMethod_value);
+    return superAccessorTargetMethod_value;
+  }
+  /** @apilevel internal */
+  private void transformed_reset() {
+    transformed_computed = null;
+    transformed_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle transformed_computed = null;
+
+  /** @apilevel internal */
+  protected Access transformed_value;
+
+  /**
+   * Normalized version of this qualified access.
+   * @attribute syn
+   * @aspect Transformations
+   * @declaredat /root/project/java4/backend/Transformations.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Transformations", declaredAt="/root/project/java4/backend/Transformations.jrag:58")
+  public Access transformed() {
+    ASTState state = state();
+    if (transformed_computed == ASTState.NON_CYCLE || transformed_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Dot.transformed()", "", transformed_value);
+      return transformed_value;
+    }
+    state().trace().computeBegin(this, "Dot.transformed()", "", "");
+    transformed_value = transformed_compute();
+    state().trace().computeEnd(this, "Dot.transformed()", "", transformed_value);
+    if (state().inCircle()) {
+      transformed_computed = state().cycle();
+      state().trace().cacheWrite(this, "Dot.transformed()", "", transformed_value);
+    } else {
+      transformed_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Dot.transformed()", "", transformed_value);
+    }
+    return transformed_value;
+  }
+  /** @apilevel internal */
+  private Access transformed_compute() {
+      // Note: this attribute should return a Dot that can not be transformed further!
+      if (requiresSuperAccessor()) {
+        return transformedSuperAccessor();
+      } else {
+        return this;
+      }
+    }
+  /** @apilevel internal */
+  private void transformedSuperAccessor_reset() {
+    transformedSuperAccessor_computed = false;
+    
+    transformedSuperAccessor_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean transformedSuperAccessor_computed = false;
+
+  /** @apilevel internal */
+  protected Access transformedSuperAccessor_value;
+
+  /**
+   * Builds a transformed version of this expression that calls
+   * a generated super accessor method.
+   * @attribute syn
+   * @aspect Transformations
+   * @declaredat /root/project/java4/backend/Transformations.jrag:71
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="Transformations", declaredAt="/root/project/java4/backend/Transformations.jrag:71")
+  public Access transformedSuperAccessor() {
+    ASTState state = state();
+    if (transformedSuperAccessor_computed) {
+      state().trace().cacheRead(this, "Dot.transformedSuperAccessor()", "", transformedSuperAccessor_value);
+      return transformedSuperAccessor_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "Dot.transformedSuperAccessor()", "", "");
+    transformedSuperAccessor_value = transformedSuperAccessor_compute();
+    state().trace().computeEnd(this, "Dot.transformedSuperAccessor()", "", transformedSuperAccessor_value);
+    transformedSuperAccessor_value.setParent(this);
+    transformedSuperAccessor_computed = true;
+    state().trace().cacheWrite(this, "Dot.transformedSuperAccessor()", "", transformedSuperAccessor_value);
+    state().leaveLazyAttribute();
+    return transformedSuperAccessor_value;
+  }
+  /** @apilevel internal */
+  private Access transformedSuperAccessor_compute() {
+      MethodAccess method = (MethodAccess) rightSide();
+      List<Expr> args = new List<Expr>();
+      if (isQualified()) {
+        args.add(qualifier().treeCopyNoTransform().qualifiesAccess(new ThisAccess()));
+      } else {
+        args.add(new ThisAccess());
+      }
+      for (Expr arg : method.getArgList()) {
+        args.add(arg.treeCopyNoTransform());
+      }
+      return ((SuperAccess) leftSide()).superAccessorTarget()
+          .superAccessor(superAccessorTargetMethod()).createBoundAccess(args);
+    }
+  /**
+   * Creates a copy of this access where parameterized types have been erased.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1616
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1616")
+  public Access erasedCopy() {
+    state().trace().computeBegin(this, "Access.erasedCopy()", "", "");
+    Access erasedCopy_value = new Dot(getLeft().erasedCopy(), getRight().erasedCopy());
+    state().trace().computeEnd(this, "Access.erasedCopy()", "", erasedCopy_value);
+    return erasedCopy_value;
+  }
+  /**
+   * Finds the host type declaration of a class access.
+   * 
+   * <p>Call this attribute only on expressions that return {@code true} for
+   * isClassAccess or it may throw an error!
+   * 
+   * @return the TypeDecl corresponding to the accesssed class.
+   * @attribute syn
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:278
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AnnotationsCodegen", declaredAt="/root/project/java5/backend/AnnotationsCodegen.jrag:278")
+  public TypeDecl classAccess() {
+    state().trace().computeBegin(this, "Expr.classAccess()", "", "");
+    try {
+        if (getRight() instanceof ClassAccess) {
+          return getLeft().classAccess();
+        } else {
+          return getRight().classAccess();
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.classAccess()", "", "");
+    }
+  }
+  /**
+   * This finds the erased runtime type of this expression.
+   * 
+   * <p>The erased type of a field or method depends on the original
+   * declaration of the field or method (without generic type substitution).
+   * 
+   * <p>The erased type is used to determine when a checkcast conversion is
+   * needed to cast a generic type to the expected type.
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:147
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:147")
+  public TypeDecl erasedType() {
+    state().trace().computeBegin(this, "Expr.erasedType()", "", "");
+    TypeDecl erasedType_value = getRight().erasedType();
+    state().trace().computeEnd(this, "Expr.erasedType()", "", erasedType_value);
+    return erasedType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:145")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = getLeft().modifiedInScope(var) || getRight().modifiedInScope(var);
+    state().trace().computeEnd(this, "Expr.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /** @apilevel internal */
+  private void stmtCompatible_reset() {
+    stmtCompatible_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle stmtCompatible_computed = null;
+
+  /** @apilevel internal */
+  protected boolean stmtCompatible_value;
+
+  /**
+   * @attribute syn
+   * @aspect StmtCompatible
+   * @declaredat /root/project/java8/frontend/LambdaExpr.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StmtCompatible", declaredAt="/root/project/java8/frontend/LambdaExpr.jrag:145")
+  public boolean stmtCompatible() {
+    ASTState state = state();
+    if (stmtCompatible_computed == ASTState.NON_CYCLE || stmtCompatible_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+      return stmtCompatible_value;
+    }
+    state().trace().computeBegin(this, "Expr.stmtCompatible()", "", "");
+    stmtCompatible_value = getRight().stmtCompatible();
+    state().trace().computeEnd(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    if (state().inCircle()) {
+      stmtCompatible_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    } else {
+      stmtCompatible_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    }
+    return stmtCompatible_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteUnassignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:903
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:903")
+  public boolean unassignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Dot.unassignedBefore(Variable)", _parameters, "");
+    boolean unassignedBefore_Variable_value = getParent().Define_unassignedBefore(this, null, v);
+    state().trace().computeEnd(this, "Dot.unassignedBefore(Variable)", _parameters, unassignedBefore_Variable_value);
+    return unassignedBefore_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:542
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameResolution", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:542")
+  public boolean canResolve() {
+    state().trace().computeBegin(this, "Dot.canResolve()", "", "");
+    boolean canResolve_value = getParent().Define_canResolve(this, null);
+    state().trace().computeEnd(this, "Dot.canResolve()", "", canResolve_value);
+    return canResolve_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:34
+   * @apilevel internal
+   */
+  public boolean Define_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:40
+      return false;
+    }
+    else {
+      return getParent().Define_isDest(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:44
+   * @apilevel internal
+   */
+  public boolean Define_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:50
+      return true;
+    }
+    else {
+      return getParent().Define_isSource(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:400
+      return getLeft().assignedAfter(v);
+    }
+    else {
+      return getParent().Define_assignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1088
+      return getLeft().unassignedAfter(v);
+    }
+    else {
+      return getParent().Define_unassignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:35
+   * @apilevel internal
+   */
+  public Collection<ConstructorDecl> Define_lookupConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/LookupConstructor.jrag:41
+      return getLeft().type().constructors();
+    }
+    else {
+      return getParent().Define_lookupConstructor(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_lookupConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:43
+   * @apilevel internal
+   */
+  public Collection<ConstructorDecl> Define_lookupSuperConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/LookupConstructor.jrag:56
+      return getLeft().type().lookupSuperConstructor();
+    }
+    else {
+      return getParent().Define_lookupSuperConstructor(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_lookupSuperConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:98
+   * @apilevel internal
+   */
+  public Expr Define_nestedScope(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return isQualified() ? nestedScope() : this;
+  }
+  protected boolean canDefine_nestedScope(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:116
+   * @apilevel internal
+   */
+  public Collection<MethodDecl> Define_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/LookupMethod.jrag:194
+      return getLeft().type().memberMethods(name);
+    }
+    else {
+      return getParent().Define_lookupMethod(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:116
+   * @apilevel internal
+   */
+  public boolean Define_hasPackage(ASTNode _callerNode, ASTNode _childNode, String packageName) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/LookupType.jrag:111
+      return getLeft().hasQualifiedPackage(packageName);
+    }
+    else {
+      return getParent().Define_hasPackage(this, _callerNode, packageName);
+    }
+  }
+  protected boolean canDefine_hasPackage(ASTNode _callerNode, ASTNode _childNode, String packageName) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:231
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/LookupType.jrag:682
+      return getLeft().qualifiedLookupType(name);
+    }
+    else {
+      return getParent().Define_lookupType(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:257
+      return getLeft().qualifiedLookupVariable(name);
+    }
+    else {
+      return getParent().Define_lookupVariable(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:86
+   * @apilevel internal
+   */
+  public boolean Define_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:90
+      return false;
+    }
+    else if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:89
+      return true;
+    }
+    else {
+      return super.Define_isLeftChildOfDot(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:101
+   * @apilevel internal
+   */
+  public boolean Define_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:105
+      return true;
+    }
+    else if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:104
+      return isRightChildOfDot();
+    }
+    else {
+      return super.Define_isRightChildOfDot(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:118
+   * @apilevel internal
+   */
+  public Expr Define_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:121
+      return getLeft();
+    }
+    else if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:120
+      return prevExpr();
+    }
+    else {
+      return super.Define_prevExpr(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:142
+   * @apilevel internal
+   */
+  public Access Define_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:145
+      return nextAccessError();
+    }
+    else if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:144
+      return getRight();
+    }
+    else {
+      return super.Define_nextAccess(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:541
+   * @apilevel internal
+   */
+  public boolean Define_canResolve(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:551
+      return !getLeft().containsParseName() && canResolve();
+    }
+    else {
+      return getParent().Define_canResolve(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_canResolve(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:81
+      return getRightNoTransform().predNameType();
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:672
+   * @apilevel internal
+   */
+  public TypeDecl Define_enclosingInstance(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/TypeCheck.jrag:689
+      return getLeft().type();
+    }
+    else {
+      return getParent().Define_enclosingInstance(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_enclosingInstance(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:33
+   * @apilevel internal
+   */
+  public String Define_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    if (getRightNoTransform() != null && _callerNode == getRight()) {
+      // @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:37
+      return getLeft().type().typeName();
+    }
+    else {
+      return getParent().Define_methodHost(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:39
+   * @apilevel internal
+   */
+  public TypeDecl Define_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:45
+      return typeNull();
+    }
+    else {
+      return getParent().Define_assignConvertedType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   * @apilevel internal
+   */
+  public TypeDecl Define_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:50
+      return typeNull();
+    }
+    else {
+      return getParent().Define_targetType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:337
+      return false;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:338
+      return false;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:339
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:340
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getLeftNoTransform() != null && _callerNode == getLeft()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:341
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_TypeDecl_accessors(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/backend/GenerateClassfile.jrag:431
+    if (requiresSuperAccessor()) {
+      {
+        TypeDecl target = (TypeDecl) (((SuperAccess) leftSide()).superAccessorTarget());
+        java.util.Set<ASTNode> contributors = _map.get(target);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) target, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_TypeDecl_accessors(_root, _map);
+  }
+  protected void contributeTo_TypeDecl_accessors(LinkedHashSet<BodyDecl> collection) {
+    super.contributeTo_TypeDecl_accessors(collection);
+    if (requiresSuperAccessor()) {
+      collection.add(((SuperAccess) leftSide()).superAccessorTarget()
+                .superAccessor(superAccessorTargetMethod()));
+    }
+  }
+}
@@ -0,0 +1,458 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * Java double-precision floating point literal.
+ * Can store any value representable as an
+ * IEEE 754 64-bit double-precision floating point number.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Literals.ast:54
+ * @production DoubleLiteral : {@link Literal};
+
+ */
+public class DoubleLiteral extends Literal implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:347
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getLITERAL());
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:95
+   */
+  public static void push(CodeGeneration gen, double value) {
+    gen.DCONST(value);
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:137
+   */
+  public void emitPushConstant(CodeGeneration gen) {
+    DoubleLiteral.push(gen, constant().doubleValue());
+  }
+  /**
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:898
+   */
+  protected Constant constant = null;
+  /**
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:900
+   */
+  public DoubleLiteral(String literal, Constant constant) {
+    this(literal);
+    this.constant = constant;
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public DoubleLiteral() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public DoubleLiteral(String p0) {
+    setLITERAL(p0);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public DoubleLiteral(beaver.Symbol p0) {
+    setLITERAL(p0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    type_reset();
+    isZero_reset();
+    constant_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:40
+   */
+  public DoubleLiteral clone() throws CloneNotSupportedException {
+    DoubleLiteral node = (DoubleLiteral) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:45
+   */
+  public DoubleLiteral copy() {
+    try {
+      DoubleLiteral node = (DoubleLiteral) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:64
+   */
+  @Deprecated
+  public DoubleLiteral fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:74
+   */
+  public DoubleLiteral treeCopyNoTransform() {
+    DoubleLiteral tree = (DoubleLiteral) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:94
+   */
+  public DoubleLiteral treeCopy() {
+    DoubleLiteral tree = (DoubleLiteral) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:108
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_LITERAL == ((DoubleLiteral) node).tokenString_LITERAL);    
+  }
+  /**
+   * Replaces the lexeme LITERAL.
+   * @param value The new value for the lexeme LITERAL.
+   * @apilevel high-level
+   */
+  public void setLITERAL(String value) {
+    tokenString_LITERAL = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme LITERAL using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme LITERAL
+   * @apilevel internal
+   */
+  public void setLITERAL(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setLITERAL is only valid for String lexemes");
+    tokenString_LITERAL = (String)symbol.value;
+    LITERALstart = symbol.getStart();
+    LITERALend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme LITERAL.
+   * @return The value for the lexeme LITERAL.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="LITERAL")
+  public String getLITERAL() {
+    return tokenString_LITERAL != null ? tokenString_LITERAL : "";
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = typeDouble();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /** @apilevel internal */
+  private void isZero_reset() {
+    isZero_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isZero_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isZero_value;
+
+  /**
+   * @return true if this floating point literal is equivalent to a zero literal
+   * @attribute syn
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:61
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java7Literals", declaredAt="/root/project/java7/frontend/Literals.jrag:61")
+  public boolean isZero() {
+    ASTState state = state();
+    if (isZero_computed == ASTState.NON_CYCLE || isZero_computed == state().cycle()) {
+      state().trace().cacheRead(this, "DoubleLiteral.isZero()", "", isZero_value);
+      return isZero_value;
+    }
+    state().trace().computeBegin(this, "DoubleLiteral.isZero()", "", "");
+    isZero_value = isZero_compute();
+    state().trace().computeEnd(this, "DoubleLiteral.isZero()", "", isZero_value);
+    if (state().inCircle()) {
+      isZero_computed = state().cycle();
+      state().trace().cacheWrite(this, "DoubleLiteral.isZero()", "", isZero_value);
+    } else {
+      isZero_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "DoubleLiteral.isZero()", "", isZero_value);
+    }
+    return isZero_value;
+  }
+  /** @apilevel internal */
+  private boolean isZero_compute() {
+      String digits = normalizedValueDigits();
+      for (int i = 0; i < digits.length(); i++) {
+        char c = digits.charAt(i);
+        if (c == 'e' || c == 'p') {
+          break;
+        }
+        if (c != '0' && c != '.' && c != 'x') {
+          return false;
+        }
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void constant_reset() {
+    constant_computed = null;
+    constant_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constant_computed = null;
+
+  /** @apilevel internal */
+  protected Constant constant_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:38")
+  public Constant constant() {
+    ASTState state = state();
+    if (constant_computed == ASTState.NON_CYCLE || constant_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Literal.constant()", "", constant_value);
+      return constant_value;
+    }
+    state().trace().computeBegin(this, "Literal.constant()", "", "");
+    constant_value = constant_compute();
+    state().trace().computeEnd(this, "Literal.constant()", "", constant_value);
+    if (state().inCircle()) {
+      constant_computed = state().cycle();
+      state().trace().cacheWrite(this, "Literal.constant()", "", constant_value);
+    } else {
+      constant_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Literal.constant()", "", constant_value);
+    }
+    return constant_value;
+  }
+  /** @apilevel internal */
+  private Constant constant_compute() {
+      if (constant != null) {
+        return constant;
+      }
+      try {
+        return Constant.create(Double.parseDouble(normalizedDigits()));
+      } catch (NumberFormatException e) {
+        Constant c = Constant.create(0.0d);
+        c.error = true;
+        return c;
+      }
+    }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:783
+    if (!isZero() && constant().doubleValue() == 0.0f) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:788
+    if (constant().doubleValue() == Double.NEGATIVE_INFINITY
+              || constant().doubleValue() == Double.POSITIVE_INFINITY) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (!isZero() && constant().doubleValue() == 0.0f) {
+      collection.add(errorf("It is an error for nonzero floating-point %s to round to zero", getLITERAL()));
+    }
+    if (constant().doubleValue() == Double.NEGATIVE_INFINITY
+              || constant().doubleValue() == Double.POSITIVE_INFINITY) {
+      collection.add(errorf("the floating-point literal \"%s\" is too large", getLITERAL()));
+    }
+  }
+}
@@ -0,0 +1,470 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Annotations.ast:11
+ * @production ElementConstantValue : {@link ElementValue} ::= <span class="component">{@link Expr}</span>;
+
+ */
+public class ElementConstantValue extends ElementValue implements Cloneable {
+  /**
+   * @aspect Java5PrettyPrint
+   * @declaredat /root/project/java5/frontend/PrettyPrint.jadd:99
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getExpr());
+  }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:292
+   */
+  public void appendAsAttributeTo(Attribute buf) {
+    if (getExpr().isConstant() && !getExpr().type().isEnumDecl()) {
+      TypeDecl targetType = declType();
+      char tag = targetType.isString() ? 's' : targetType.typeDescriptor().charAt(0);
+      int const_value_index = targetType.addAnnotConstant(hostType().constantPool(),
+          getExpr().constant());
+      buf.u1(tag);
+      buf.u2(const_value_index);
+    } else if (getExpr().isClassAccess()) {
+      int const_class_index = hostType().constantPool()
+          .addUtf8(getExpr().classAccess().typeDescriptor());
+      buf.u1('c');
+      buf.u2(const_class_index);
+    } else {
+      Variable v = getExpr().varDecl();
+      if (v == null) {
+        throw new Error("Expected Enumeration constant");
+      }
+
+      int type_name_index = hostType().constantPool().addUtf8(v.type().typeDescriptor());
+      int const_name_index = hostType().constantPool().addUtf8(v.name());
+      buf.u1('e');
+      buf.u2(type_name_index);
+      buf.u2(const_name_index);
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ElementConstantValue() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ElementConstantValue(Expr p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:31
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public ElementConstantValue clone() throws CloneNotSupportedException {
+    ElementConstantValue node = (ElementConstantValue) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:40
+   */
+  public ElementConstantValue copy() {
+    try {
+      ElementConstantValue node = (ElementConstantValue) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:59
+   */
+  @Deprecated
+  public ElementConstantValue fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:69
+   */
+  public ElementConstantValue treeCopyNoTransform() {
+    ElementConstantValue tree = (ElementConstantValue) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:89
+   */
+  public ElementConstantValue treeCopy() {
+    ElementConstantValue tree = (ElementConstantValue) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:103
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Expr child.
+   * @param node The new node to replace the Expr child.
+   * @apilevel high-level
+   */
+  public void setExpr(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Expr child.
+   * @return The current node used as the Expr child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Expr")
+  public Expr getExpr() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the Expr child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Expr child.
+   * @apilevel low-level
+   */
+  public Expr getExprNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:111
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:111")
+  public boolean validTarget(Annotation a) {
+    Object _parameters = a;
+    state().trace().computeBegin(this, "ElementValue.validTarget(Annotation)", _parameters, "");
+    try {
+        Variable v = getExpr().varDecl();
+        if (v == null) {
+          return true;
+        }
+        return v.hostType().fullName().equals("java.lang.annotation.ElementType")
+            && a.mayUseAnnotationTarget(v.name());
+      }
+    finally {
+      state().trace().computeEnd(this, "ElementValue.validTarget(Annotation)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:265
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:265")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "ElementConstantValue.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (enclosingAnnotationDecl().fullName().equals("java.lang.annotation.Target")) {
+          Variable v = getExpr().varDecl();
+          if (v != null && v.hostType().fullName().equals("java.lang.annotation.ElementType")) {
+            if (lookupElementTypeValue(v.name()) != this) {
+              problems.add(error("repeated annotation target"));
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "ElementConstantValue.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:285
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:285")
+  public ElementValue definesElementTypeValue(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "ElementValue.definesElementTypeValue(String)", _parameters, "");
+    try {
+        Variable v = getExpr().varDecl();
+        if (v != null && v.hostType().fullName().equals("java.lang.annotation.ElementType") && v.name().equals(name)) {
+          return this;
+        }
+        return null;
+      }
+    finally {
+      state().trace().computeEnd(this, "ElementValue.definesElementTypeValue(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:448
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:448")
+  public boolean hasValue(String annot) {
+    Object _parameters = annot;
+    state().trace().computeBegin(this, "ElementValue.hasValue(String)", _parameters, "");
+    boolean hasValue_String_value = getExpr().type().isString()
+          && getExpr().isConstant()
+          && getExpr().constant().stringValue().equals(annot);
+    state().trace().computeEnd(this, "ElementValue.hasValue(String)", _parameters, hasValue_String_value);
+    return hasValue_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:675
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:675")
+  public boolean commensurateWithTypeDecl(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "ElementValue.commensurateWithTypeDecl(TypeDecl)", _parameters, "");
+    try {
+        Expr v = getExpr();
+        if (!v.type().assignConversionTo(type, v)) {
+          return false;
+        }
+        if ((type.isPrimitive() || type.isString()) && !v.isConstant()) {
+          return false;
+        }
+        if (v.type().isNull()) {
+          return false;
+        }
+        if (type.fullName().equals("java.lang.Class") && !v.isClassAccess()) {
+          return false;
+        }
+        if (type.isEnumDecl() && (v.varDecl() == null || !(v.varDecl() instanceof EnumConstant))) {
+          return false;
+        }
+        return true;
+      }
+    finally {
+      state().trace().computeEnd(this, "ElementValue.commensurateWithTypeDecl(TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:731
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:731")
+  public TypeDecl type() {
+    state().trace().computeBegin(this, "ElementValue.type()", "", "");
+    TypeDecl type_value = getExpr().type();
+    state().trace().computeEnd(this, "ElementValue.type()", "", type_value);
+    return type_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:278
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:278")
+  public ElementValue lookupElementTypeValue(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "ElementConstantValue.lookupElementTypeValue(String)", _parameters, "");
+    ElementValue lookupElementTypeValue_String_value = getParent().Define_lookupElementTypeValue(this, null, name);
+    state().trace().computeEnd(this, "ElementConstantValue.lookupElementTypeValue(String)", _parameters, lookupElementTypeValue_String_value);
+    return lookupElementTypeValue_String_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java5/frontend/Annotations.jrag:778
+      return NameType.EXPRESSION_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:33
+   * @apilevel internal
+   */
+  public String Define_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java5/frontend/Annotations.jrag:783
+      return enclosingAnnotationDecl().typeName();
+    }
+    else {
+      return getParent().Define_methodHost(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java5/frontend/Annotations.jrag:263
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+  }
+}
@@ -0,0 +1,461 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Annotations.ast:8
+ * @production ElementValuePair : {@link ASTNode} ::= <span class="component">&lt;Name:String&gt;</span> <span class="component">{@link ElementValue}</span>;
+
+ */
+public class ElementValuePair extends ASTNode<ASTNode> implements Cloneable {
+  /**
+   * @aspect Java5PrettyPrint
+   * @declaredat /root/project/java5/frontend/PrettyPrint.jadd:102
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getName());
+    out.print(" = ");
+    out.print(getElementValue());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ElementValuePair() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ElementValuePair(String p0, ElementValue p1) {
+    setName(p0);
+    setChild(p1, 0);
+  }
+  /**
+   * @declaredat ASTNode:17
+   */
+  public ElementValuePair(beaver.Symbol p0, ElementValue p1) {
+    setName(p0);
+    setChild(p1, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:22
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:28
+   */
+  public boolean mayHaveRewrite() {
+    return true;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:32
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    rewrittenNode_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public ElementValuePair clone() throws CloneNotSupportedException {
+    ElementValuePair node = (ElementValuePair) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:46
+   */
+  public ElementValuePair copy() {
+    try {
+      ElementValuePair node = (ElementValuePair) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:65
+   */
+  @Deprecated
+  public ElementValuePair fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:75
+   */
+  public ElementValuePair treeCopyNoTransform() {
+    ElementValuePair tree = (ElementValuePair) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:95
+   */
+  public ElementValuePair treeCopy() {
+    ElementValuePair tree = (ElementValuePair) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:109
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_Name == ((ElementValuePair) node).tokenString_Name);    
+  }
+  /**
+   * Replaces the lexeme Name.
+   * @param value The new value for the lexeme Name.
+   * @apilevel high-level
+   */
+  public void setName(String value) {
+    tokenString_Name = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_Name;
+  /**
+   */
+  public int Namestart;
+  /**
+   */
+  public int Nameend;
+  /**
+   * JastAdd-internal setter for lexeme Name using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme Name
+   * @apilevel internal
+   */
+  public void setName(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setName is only valid for String lexemes");
+    tokenString_Name = (String)symbol.value;
+    Namestart = symbol.getStart();
+    Nameend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme Name.
+   * @return The value for the lexeme Name.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="Name")
+  public String getName() {
+    return tokenString_Name != null ? tokenString_Name : "";
+  }
+  /**
+   * Replaces the ElementValue child.
+   * @param node The new node to replace the ElementValue child.
+   * @apilevel high-level
+   */
+  public void setElementValue(ElementValue node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the ElementValue child.
+   * @return The current node used as the ElementValue child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="ElementValue")
+  public ElementValue getElementValue() {
+    return (ElementValue) getChild(0);
+  }
+  /**
+   * Retrieves the ElementValue child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the ElementValue child.
+   * @apilevel low-level
+   */
+  public ElementValue getElementValueNoTransform() {
+    return (ElementValue) getChildNoTransform(0);
+  }
+  /**
+   * The return type of this method defines the element type of the element-value
+   * pair. An ElementValueArrayInitializer is similar to a normal array initializer
+   * (\ufffd10.6), except that annotations are permitted in place of expressions.
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:634
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:634")
+  public TypeDecl type() {
+    state().trace().computeBegin(this, "ElementValuePair.type()", "", "");
+    try {
+        SimpleSet<MethodDecl> set = enclosingAnnotationDecl()
+            .localMethodsSignature(getName() + "()");
+        if (set.isSingleton()) {
+          return set.singletonValue().type();
+        } else {
+          return unknownType();
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "ElementValuePair.type()", "", "");
+    }
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:644
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:644")
+  public TypeDecl unknownType() {
+    state().trace().computeBegin(this, "ElementValuePair.unknownType()", "", "");
+    TypeDecl unknownType_value = getParent().Define_unknownType(this, null);
+    state().trace().computeEnd(this, "ElementValuePair.unknownType()", "", unknownType_value);
+    return unknownType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:646
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:646")
+  public TypeDecl enclosingAnnotationDecl() {
+    state().trace().computeBegin(this, "ElementValuePair.enclosingAnnotationDecl()", "", "");
+    TypeDecl enclosingAnnotationDecl_value = getParent().Define_enclosingAnnotationDecl(this, null);
+    state().trace().computeEnd(this, "ElementValuePair.enclosingAnnotationDecl()", "", enclosingAnnotationDecl_value);
+    return enclosingAnnotationDecl_value;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:723
+   * @apilevel internal
+   */
+  public TypeDecl Define_declType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return type();
+  }
+  protected boolean canDefine_declType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    // Declared at /root/project/java5/frontend/Annotations.jrag:751
+    if (type().isArrayDecl() && getElementValue() instanceof ElementConstantValue) {
+      return rewriteRule0();
+    }
+    return super.rewriteTo();
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:751
+   * @apilevel internal
+   */
+  private ElementValuePair rewriteRule0() {
+{
+      return new ElementValuePair(getName(),
+          new ElementArrayValue(new List().add(getElementValue())));
+    }  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    // Declared at /root/project/java5/frontend/Annotations.jrag:751
+    if (type().isArrayDecl() && getElementValue() instanceof ElementConstantValue) {
+      return true;
+    }
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java5/frontend/Annotations.jrag:716
+    if (!type().commensurateWith(getElementValue())) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (!type().commensurateWith(getElementValue())) {
+      collection.add(errorf("can not construct annotation with %s = %s; %s is not commensurate with %s",
+                getName(), getElementValue().prettyPrint(),
+                type().typeName(), getElementValue().type().typeName()));
+    }
+  }
+  /** @apilevel internal */
+  private void rewrittenNode_reset() {
+    rewrittenNode_computed = false;
+    rewrittenNode_initialized = false;
+    rewrittenNode_value = null;
+    rewrittenNode_cycle = null;
+  }
+/** @apilevel internal */
+protected ASTState.Cycle rewrittenNode_cycle = null;
+  /** @apilevel internal */
+  protected boolean rewrittenNode_computed = false;
+
+  /** @apilevel internal */
+  protected ASTNode rewrittenNode_value;
+  /** @apilevel internal */
+  protected boolean rewrittenNode_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="", declaredAt=":0")
+  public ASTNode rewrittenNode() {
+    if (rewrittenNode_computed) {
+      state().trace().cacheRead(this, "ElementValuePair.rewrittenNode()", "", rewrittenNode_value);
+      return rewrittenNode_value;
+    }
+    ASTState state = state();
+    if (!rewrittenNode_initialized) {
+      rewrittenNode_initialized = true;
+      rewrittenNode_value = this;
+      if (rewrittenNode_value != null) {
+        rewrittenNode_value.setParent(getParent());
+      }
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        rewrittenNode_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ElementValuePair.rewrittenNode()", "", "");
+        ASTNode new_rewrittenNode_value = rewrittenNode_value.rewriteTo();
+        state().trace().computeEnd(this, "ElementValuePair.rewrittenNode()", "", rewrittenNode_value);
+        if (new_rewrittenNode_value != rewrittenNode_value || new_rewrittenNode_value.canRewrite()) {
+          state.setChangeInCycle();
+        }
+        rewrittenNode_value = new_rewrittenNode_value;
+        if (rewrittenNode_value != null) {
+          rewrittenNode_value.setParent(getParent());
+        }
+      } while (state.testAndClearChangeInCycle());
+      rewrittenNode_computed = true;
+      state().trace().cacheWrite(this, "ElementValuePair.rewrittenNode()", "", rewrittenNode_value);
+      state.leaveCircle();
+    } else if (rewrittenNode_cycle != state.cycle()) {
+      rewrittenNode_cycle = state.cycle();
+      state().trace().computeBegin(this, "ElementValuePair.rewrittenNode()", "", "");
+      ASTNode new_rewrittenNode_value = rewrittenNode_value.rewriteTo();
+      state().trace().computeEnd(this, "ElementValuePair.rewrittenNode()", "", rewrittenNode_value);
+      if (new_rewrittenNode_value != rewrittenNode_value || new_rewrittenNode_value.canRewrite()) {
+        state.setChangeInCycle();
+      }
+      rewrittenNode_value = new_rewrittenNode_value;
+      if (rewrittenNode_value != null) {
+        rewrittenNode_value.setParent(getParent());
+      }
+    } else {
+    }
+    return rewrittenNode_value;
+  }
+}
@@ -0,0 +1,1324 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Enums.ast:3
+ * @production EnumConstant : {@link BodyDecl} ::= <span class="component">{@link Modifiers}</span> <span class="component">&lt;ID:String&gt;</span> <span class="component">Arg:{@link Expr}*</span> <span class="component">[Init:{@link Expr}]</span> <span class="component">TypeAccess:{@link Access}</span>;
+
+ */
+public class EnumConstant extends BodyDecl implements Cloneable, Variable {
+  /**
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:279
+   */
+  public EnumConstant(Modifiers mods, String name, List<Expr> args,
+      List<BodyDecl> bds) {
+    this(mods, name, args, new Opt<Expr>(new EnumInstanceExpr(createOptAnonymousDecl(bds))));
+  }
+  /**
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:321
+   */
+  private static Opt<TypeDecl> createOptAnonymousDecl(List<BodyDecl> bds) {
+    if (bds.getNumChildNoTransform() == 0) {
+      return new Opt<TypeDecl>();
+    }
+    return new Opt<TypeDecl>(
+      new AnonymousDecl(
+        new Modifiers(),
+        "Anonymous",
+        bds
+      )
+    );
+  }
+  /**
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:335
+   */
+  public int getNumBodyDecl() {
+    int cnt = 0;
+    ClassInstanceExpr init = (ClassInstanceExpr) getInit();
+    if (!init.hasTypeDecl()) {
+      return 0;
+    }
+    for (BodyDecl bd : init.getTypeDecl().getBodyDecls()) {
+      if (!(bd instanceof ConstructorDecl)) {
+        ++cnt;
+      }
+    }
+    return cnt;
+  }
+  /**
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:349
+   */
+  public BodyDecl getBodyDecl(int i) {
+    ClassInstanceExpr init = (ClassInstanceExpr) getInit();
+    if (init.hasTypeDecl()) {
+      for (BodyDecl bd : init.getTypeDecl().getBodyDecls()) {
+        if (!(bd instanceof ConstructorDecl)) {
+          if (i-- == 0) {
+            return bd;
+          }
+        }
+      }
+    }
+    throw new ArrayIndexOutOfBoundsException(i);
+  }
+  /**
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:364
+   */
+  public boolean hasBodyDecl() {
+    ClassInstanceExpr init = (ClassInstanceExpr) getInit();
+    if (init.hasTypeDecl()) {
+      return init.getTypeDecl().hasBodyDecl();
+    }
+    return false;
+  }
+  /**
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:373
+   */
+  public List<BodyDecl> getBodyDeclList() {
+    ClassInstanceExpr init = (ClassInstanceExpr) getInit();
+    if (init.hasTypeDecl()) {
+      return init.getTypeDecl().getBodyDeclList();
+    }
+    throw new Error("Enum has no body decl list.");
+  }
+  /** Create an access to this field. 
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:417
+   */
+  public Access createBoundAccess() {
+    if (isStatic()) {
+      return hostType().createQualifiedAccess().qualifiesAccess(new BoundEnumConstant(this));
+    } else {
+      return new ThisAccess().qualifiesAccess(new BoundEnumConstant(this));
+    }
+  }
+  /**
+   * @aspect Java5PrettyPrint
+   * @declaredat /root/project/java5/frontend/PrettyPrint.jadd:107
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getModifiers());
+    out.print(getID());
+    if (hasBodyDecl()) {
+      out.print("(");
+      out.join(getArgList(), new PrettyPrinter.Joiner() {
+        @Override
+        public void printSeparator(PrettyPrinter out) {
+          out.print(", ");
+        }
+      });
+      out.print(") {");
+      out.println();
+      out.indent(1);
+      out.join(getBodyDeclList(), new PrettyPrinter.Joiner() {
+        @Override
+        public void printSeparator(PrettyPrinter out) {
+          out.println();
+          out.println();
+        }
+      });
+      if (!out.isNewLine()) {
+        out.println();
+      }
+      out.print("}");
+    } else {
+      if (hasArg()) {
+        out.print("(");
+        out.join(getArgList(), new PrettyPrinter.Joiner() {
+          @Override
+          public void printSeparator(PrettyPrinter out) {
+            out.print(", ");
+          }
+        });
+        out.print(")");
+      }
+    }
+  }
+  /**
+   * @aspect EnumsCodegen
+   * @declaredat /root/project/java5/backend/EnumsCodegen.jrag:298
+   */
+  protected void emitInitializerBCode(CodeGeneration gen) {
+    getInit().createBCode(gen);
+    getInit().emitAssignConvTo(gen, type());
+  }
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:119
+   */
+  public void emitLoadVariable(CodeGeneration gen, Access access) {
+    access.createLoadQualifier(gen, this);
+    emitLoadField(gen, access.fieldQualifierType());
+  }
+  /** Generate bytecode to load this field. 
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:208
+   */
+  public void emitLoadField(CodeGeneration gen, TypeDecl hostType) {
+    if (hostType().isArrayDecl() && name().equals("length")) {
+      gen.ARRAYLENGTH();
+      return;
+    }
+    String classname = hostType.constantPoolName();
+    String name = name();
+    int index = gen.constantPool().addFieldref(classname, name, type());
+    if (isStatic()) {
+      gen.GETSTATIC(index, type());
+    } else {
+      gen.GETFIELD(index, type());
+    }
+  }
+  /** Generate bytecode to store a field in the given hostType. 
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:270
+   */
+  public void emitStoreField(CodeGeneration gen, TypeDecl hostType) {
+    String classname = hostType.constantPoolName();
+    String name = name();
+    int index = gen.constantPool().addFieldref(classname, name, type());
+    if (isStatic()) {
+      gen.PUTSTATIC(index);
+    } else {
+      gen.PUTFIELD(index);
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public EnumConstant() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[4];
+    setChild(new List(), 1);
+    setChild(new Opt(), 2);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public EnumConstant(Modifiers p0, String p1, List<Expr> p2, Opt<Expr> p3) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+  }
+  /**
+   * @declaredat ASTNode:21
+   */
+  public EnumConstant(Modifiers p0, beaver.Symbol p1, List<Expr> p2, Opt<Expr> p3) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:28
+   */
+  protected int numChildren() {
+    return 3;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:34
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    isEffectivelyFinal_reset();
+    throwTypes_reset();
+    getTypeAccess_reset();
+    localMethodsSignatureMap_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:46
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:50
+   */
+  public EnumConstant clone() throws CloneNotSupportedException {
+    EnumConstant node = (EnumConstant) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:55
+   */
+  public EnumConstant copy() {
+    try {
+      EnumConstant node = (EnumConstant) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:74
+   */
+  @Deprecated
+  public EnumConstant fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:84
+   */
+  public EnumConstant treeCopyNoTransform() {
+    EnumConstant tree = (EnumConstant) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 3:
+          tree.children[i] = null;
+          continue;
+        }
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:109
+   */
+  public EnumConstant treeCopy() {
+    EnumConstant tree = (EnumConstant) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 3:
+          tree.children[i] = null;
+          continue;
+        }
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:128
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((EnumConstant) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_ID;
+  /**
+   */
+  public int IDstart;
+  /**
+   */
+  public int IDend;
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the Arg list.
+   * @param list The new list node to be used as the Arg list.
+   * @apilevel high-level
+   */
+  public void setArgList(List<Expr> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the Arg list.
+   * @return Number of children in the Arg list.
+   * @apilevel high-level
+   */
+  public int getNumArg() {
+    return getArgList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Arg list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Arg list.
+   * @apilevel low-level
+   */
+  public int getNumArgNoTransform() {
+    return getArgListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Arg list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Arg list.
+   * @apilevel high-level
+   */
+  public Expr getArg(int i) {
+    return (Expr) getArgList().getChild(i);
+  }
+  /**
+   * Check whether the Arg list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasArg() {
+    return getArgList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Arg list.
+   * @param node The element to append to the Arg list.
+   * @apilevel high-level
+   */
+  public void addArg(Expr node) {
+    List<Expr> list = (parent == null) ? getArgListNoTransform() : getArgList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addArgNoTransform(Expr node) {
+    List<Expr> list = getArgListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Arg list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setArg(Expr node, int i) {
+    List<Expr> list = getArgList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Arg list.
+   * @return The node representing the Arg list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Arg")
+  public List<Expr> getArgList() {
+    List<Expr> list = (List<Expr>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the Arg list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Arg list.
+   * @apilevel low-level
+   */
+  public List<Expr> getArgListNoTransform() {
+    return (List<Expr>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the Arg list without
+   * triggering rewrites.
+   */
+  public Expr getArgNoTransform(int i) {
+    return (Expr) getArgListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Arg list.
+   * @return The node representing the Arg list.
+   * @apilevel high-level
+   */
+  public List<Expr> getArgs() {
+    return getArgList();
+  }
+  /**
+   * Retrieves the Arg list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Arg list.
+   * @apilevel low-level
+   */
+  public List<Expr> getArgsNoTransform() {
+    return getArgListNoTransform();
+  }
+  /**
+   * Replaces the optional node for the Init child. This is the <code>Opt</code>
+   * node containing the child Init, not the actual child!
+   * @param opt The new node to be used as the optional node for the Init child.
+   * @apilevel low-level
+   */
+  public void setInitOpt(Opt<Expr> opt) {
+    setChild(opt, 2);
+  }
+  /**
+   * Replaces the (optional) Init child.
+   * @param node The new node to be used as the Init child.
+   * @apilevel high-level
+   */
+  public void setInit(Expr node) {
+    getInitOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional Init child exists.
+   * @return {@code true} if the optional Init child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasInit() {
+    return getInitOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) Init child.
+   * @return The Init child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Expr getInit() {
+    return (Expr) getInitOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the Init child. This is the <code>Opt</code> node containing the child Init, not the actual child!
+   * @return The optional node for child the Init child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="Init")
+  public Opt<Expr> getInitOpt() {
+    return (Opt<Expr>) getChild(2);
+  }
+  /**
+   * Retrieves the optional node for child Init. This is the <code>Opt</code> node containing the child Init, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child Init.
+   * @apilevel low-level
+   */
+  public Opt<Expr> getInitOptNoTransform() {
+    return (Opt<Expr>) getChildNoTransform(2);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(3);
+  }
+  /**
+   * Retrieves the child position of the optional child TypeAccess.
+   * @return The the child position of the optional child TypeAccess.
+   * @apilevel low-level
+   */
+  protected int getTypeAccessChildPosition() {
+    return 3;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:50")
+  public boolean isEnumConstant() {
+    state().trace().computeBegin(this, "BodyDecl.isEnumConstant()", "", "");
+    boolean isEnumConstant_value = true;
+    state().trace().computeEnd(this, "BodyDecl.isEnumConstant()", "", isEnumConstant_value);
+    return isEnumConstant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:54
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:54")
+  public String name() {
+    state().trace().computeBegin(this, "EnumConstant.name()", "", "");
+    String name_value = getID();
+    state().trace().computeEnd(this, "EnumConstant.name()", "", name_value);
+    return name_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:212
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:212")
+  public boolean isField() {
+    state().trace().computeBegin(this, "EnumConstant.isField()", "", "");
+    boolean isField_value = true;
+    state().trace().computeEnd(this, "EnumConstant.isField()", "", isField_value);
+    return isField_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:214
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:214")
+  public boolean isPublic() {
+    state().trace().computeBegin(this, "EnumConstant.isPublic()", "", "");
+    boolean isPublic_value = true;
+    state().trace().computeEnd(this, "EnumConstant.isPublic()", "", isPublic_value);
+    return isPublic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:215
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:215")
+  public boolean isStatic() {
+    state().trace().computeBegin(this, "EnumConstant.isStatic()", "", "");
+    boolean isStatic_value = true;
+    state().trace().computeEnd(this, "EnumConstant.isStatic()", "", isStatic_value);
+    return isStatic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:216
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:216")
+  public boolean isFinal() {
+    state().trace().computeBegin(this, "EnumConstant.isFinal()", "", "");
+    boolean isFinal_value = true;
+    state().trace().computeEnd(this, "EnumConstant.isFinal()", "", isFinal_value);
+    return isFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:217
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:217")
+  public boolean isTransient() {
+    state().trace().computeBegin(this, "EnumConstant.isTransient()", "", "");
+    boolean isTransient_value = getModifiers().isTransient();
+    state().trace().computeEnd(this, "EnumConstant.isTransient()", "", isTransient_value);
+    return isTransient_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:218
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:218")
+  public boolean isVolatile() {
+    state().trace().computeBegin(this, "EnumConstant.isVolatile()", "", "");
+    boolean isVolatile_value = getModifiers().isVolatile();
+    state().trace().computeEnd(this, "EnumConstant.isVolatile()", "", isVolatile_value);
+    return isVolatile_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:219
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:219")
+  public boolean isSynthetic() {
+    state().trace().computeBegin(this, "EnumConstant.isSynthetic()", "", "");
+    boolean isSynthetic_value = getModifiers().isSynthetic();
+    state().trace().computeEnd(this, "EnumConstant.isSynthetic()", "", isSynthetic_value);
+    return isSynthetic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:220
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:220")
+  public boolean isClassVariable() {
+    state().trace().computeBegin(this, "EnumConstant.isClassVariable()", "", "");
+    boolean isClassVariable_value = true;
+    state().trace().computeEnd(this, "EnumConstant.isClassVariable()", "", isClassVariable_value);
+    return isClassVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:221
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:221")
+  public boolean isInstanceVariable() {
+    state().trace().computeBegin(this, "EnumConstant.isInstanceVariable()", "", "");
+    boolean isInstanceVariable_value = false;
+    state().trace().computeEnd(this, "EnumConstant.isInstanceVariable()", "", isInstanceVariable_value);
+    return isInstanceVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:222
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:222")
+  public boolean isLocalVariable() {
+    state().trace().computeBegin(this, "EnumConstant.isLocalVariable()", "", "");
+    boolean isLocalVariable_value = false;
+    state().trace().computeEnd(this, "EnumConstant.isLocalVariable()", "", isLocalVariable_value);
+    return isLocalVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:223
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:223")
+  public boolean isBlank() {
+    state().trace().computeBegin(this, "EnumConstant.isBlank()", "", "");
+    boolean isBlank_value = !hasInit();
+    state().trace().computeEnd(this, "EnumConstant.isBlank()", "", isBlank_value);
+    return isBlank_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:224
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:224")
+  public boolean isParameter() {
+    state().trace().computeBegin(this, "EnumConstant.isParameter()", "", "");
+    boolean isParameter_value = false;
+    state().trace().computeEnd(this, "EnumConstant.isParameter()", "", isParameter_value);
+    return isParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:225
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:225")
+  public boolean isMethodParameter() {
+    state().trace().computeBegin(this, "EnumConstant.isMethodParameter()", "", "");
+    boolean isMethodParameter_value = false;
+    state().trace().computeEnd(this, "EnumConstant.isMethodParameter()", "", isMethodParameter_value);
+    return isMethodParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:226
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:226")
+  public boolean isConstructorParameter() {
+    state().trace().computeBegin(this, "EnumConstant.isConstructorParameter()", "", "");
+    boolean isConstructorParameter_value = false;
+    state().trace().computeEnd(this, "EnumConstant.isConstructorParameter()", "", isConstructorParameter_value);
+    return isConstructorParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:227
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:227")
+  public boolean isExceptionHandlerParameter() {
+    state().trace().computeBegin(this, "EnumConstant.isExceptionHandlerParameter()", "", "");
+    boolean isExceptionHandlerParameter_value = !hasInit();
+    state().trace().computeEnd(this, "EnumConstant.isExceptionHandlerParameter()", "", isExceptionHandlerParameter_value);
+    return isExceptionHandlerParameter_value;
+  }
+  /** @apilevel internal */
+  private void isEffectivelyFinal_reset() {
+    isEffectivelyFinal_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isEffectivelyFinal_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isEffectivelyFinal_value;
+
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:228
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:228")
+  public boolean isEffectivelyFinal() {
+    ASTState state = state();
+    if (isEffectivelyFinal_computed == ASTState.NON_CYCLE || isEffectivelyFinal_computed == state().cycle()) {
+      state().trace().cacheRead(this, "EnumConstant.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+      return isEffectivelyFinal_value;
+    }
+    state().trace().computeBegin(this, "EnumConstant.isEffectivelyFinal()", "", "");
+    isEffectivelyFinal_value = isFinal();
+    state().trace().computeEnd(this, "EnumConstant.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    if (state().inCircle()) {
+      isEffectivelyFinal_computed = state().cycle();
+      state().trace().cacheWrite(this, "EnumConstant.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    } else {
+      isEffectivelyFinal_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "EnumConstant.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    }
+    return isEffectivelyFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:230
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:230")
+  public boolean accessibleFrom(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "EnumConstant.accessibleFrom(TypeDecl)", _parameters, "");
+    try {
+        if (isPublic()) {
+          return true;
+        } else if (isProtected()) {
+          if (hostPackage().equals(type.hostPackage())) {
+            return true;
+          }
+          if (type.withinBodyThatSubclasses(hostType()) != null) {
+            return true;
+          }
+          return false;
+        } else if (isPrivate()) {
+          return hostType().topLevelType() == type.topLevelType();
+        } else {
+          return hostPackage().equals(type.hostPackage());
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "EnumConstant.accessibleFrom(TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:248
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:248")
+  public boolean isConstant() {
+    state().trace().computeBegin(this, "EnumConstant.isConstant()", "", "");
+    boolean isConstant_value = true;
+    state().trace().computeEnd(this, "EnumConstant.isConstant()", "", isConstant_value);
+    return isConstant_value;
+  }
+  /** The constant value of an enum constant is the ID. 
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:251
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:251")
+  public Constant constant() {
+    state().trace().computeBegin(this, "EnumConstant.constant()", "", "");
+    Constant constant_value = Constant.create(getID());
+    state().trace().computeEnd(this, "EnumConstant.constant()", "", constant_value);
+    return constant_value;
+  }
+  /** @apilevel internal */
+  private void throwTypes_reset() {
+    throwTypes_computed = null;
+    throwTypes_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle throwTypes_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<TypeDecl> throwTypes_value;
+
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:253
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:253")
+  public Collection<TypeDecl> throwTypes() {
+    ASTState state = state();
+    if (throwTypes_computed == ASTState.NON_CYCLE || throwTypes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "EnumConstant.throwTypes()", "", throwTypes_value);
+      return throwTypes_value;
+    }
+    state().trace().computeBegin(this, "EnumConstant.throwTypes()", "", "");
+    throwTypes_value = throwTypes_compute();
+    state().trace().computeEnd(this, "EnumConstant.throwTypes()", "", throwTypes_value);
+    if (state().inCircle()) {
+      throwTypes_computed = state().cycle();
+      state().trace().cacheWrite(this, "EnumConstant.throwTypes()", "", throwTypes_value);
+    } else {
+      throwTypes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "EnumConstant.throwTypes()", "", throwTypes_value);
+    }
+    return throwTypes_value;
+  }
+  /** @apilevel internal */
+  private Collection<TypeDecl> throwTypes_compute() {
+      Collection<TypeDecl> tts = new LinkedList<TypeDecl>();
+      tts.add(type());
+      return tts;
+    }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:275
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:275")
+  public TypeDecl type() {
+    state().trace().computeBegin(this, "EnumConstant.type()", "", "");
+    TypeDecl type_value = hostType();
+    state().trace().computeEnd(this, "EnumConstant.type()", "", type_value);
+    return type_value;
+  }
+  /** @apilevel internal */
+  private void getTypeAccess_reset() {
+    getTypeAccess_computed = false;
+    
+    getTypeAccess_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean getTypeAccess_computed = false;
+
+  /** @apilevel internal */
+  protected Access getTypeAccess_value;
+
+  /**
+   * @attribute syn nta
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:277
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:277")
+  public Access getTypeAccess() {
+    ASTState state = state();
+    if (getTypeAccess_computed) {
+      state().trace().cacheRead(this, "EnumConstant.getTypeAccess()", "", getTypeAccess_value);
+      return (Access) getChild(getTypeAccessChildPosition());
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "EnumConstant.getTypeAccess()", "", "");
+    getTypeAccess_value = hostType().createQualifiedAccess();
+    state().trace().computeEnd(this, "EnumConstant.getTypeAccess()", "", getTypeAccess_value);
+    setChild(getTypeAccess_value, getTypeAccessChildPosition());
+    getTypeAccess_computed = true;
+    state().trace().cacheWrite(this, "EnumConstant.getTypeAccess()", "", getTypeAccess_value);
+    state().leaveLazyAttribute();
+    Access node = (Access) this.getChild(getTypeAccessChildPosition());
+    return node;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:801
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:801")
+  public SimpleSet<MethodDecl> localMethodsSignature(String signature) {
+    Object _parameters = signature;
+    state().trace().computeBegin(this, "EnumConstant.localMethodsSignature(String)", _parameters, "");
+    try {
+        SimpleSet<MethodDecl> set = localMethodsSignatureMap().get(signature);
+        if (set != null) {
+          return set;
+        }
+        return emptySet();
+      }
+    finally {
+      state().trace().computeEnd(this, "EnumConstant.localMethodsSignature(String)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void localMethodsSignatureMap_reset() {
+    localMethodsSignatureMap_computed = null;
+    localMethodsSignatureMap_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localMethodsSignatureMap_computed = null;
+
+  /** @apilevel internal */
+  protected Map<String, SimpleSet<MethodDecl>> localMethodsSignatureMap_value;
+
+  /** Maps method signature to method declaration. 
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:810
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:810")
+  public Map<String, SimpleSet<MethodDecl>> localMethodsSignatureMap() {
+    ASTState state = state();
+    if (localMethodsSignatureMap_computed == ASTState.NON_CYCLE || localMethodsSignatureMap_computed == state().cycle()) {
+      state().trace().cacheRead(this, "EnumConstant.localMethodsSignatureMap()", "", localMethodsSignatureMap_value);
+      return localMethodsSignatureMap_value;
+    }
+    state().trace().computeBegin(this, "EnumConstant.localMethodsSignatureMap()", "", "");
+    localMethodsSignatureMap_value = localMethodsSignatureMap_compute();
+    state().trace().computeEnd(this, "EnumConstant.localMethodsSignatureMap()", "", localMethodsSignatureMap_value);
+    if (state().inCircle()) {
+      localMethodsSignatureMap_computed = state().cycle();
+      state().trace().cacheWrite(this, "EnumConstant.localMethodsSignatureMap()", "", localMethodsSignatureMap_value);
+    } else {
+      localMethodsSignatureMap_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "EnumConstant.localMethodsSignatureMap()", "", localMethodsSignatureMap_value);
+    }
+    return localMethodsSignatureMap_value;
+  }
+  /** @apilevel internal */
+  private Map<String, SimpleSet<MethodDecl>> localMethodsSignatureMap_compute() {
+      Map<String, SimpleSet<MethodDecl>> map = new HashMap<String, SimpleSet<MethodDecl>>(
+          getNumBodyDecl());
+      for (int i = 0; i < getNumBodyDecl(); i++) {
+        if (getBodyDecl(i) instanceof MethodDecl) {
+          MethodDecl decl = (MethodDecl) getBodyDecl(i);
+          putSimpleSetElement(map, decl.signature(), decl);
+        }
+      }
+      return map;
+    }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:835
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:835")
+  public boolean implementsMethod(MethodDecl method) {
+    Object _parameters = method;
+    state().trace().computeBegin(this, "EnumConstant.implementsMethod(MethodDecl)", _parameters, "");
+    try {
+        SimpleSet<MethodDecl> methods = localMethodsSignature(method.signature());
+        if (methods.isSingleton()) {
+          MethodDecl n = methods.singletonValue();
+          if (!n.isAbstract()) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "EnumConstant.implementsMethod(MethodDecl)", _parameters, "");
+    }
+  }
+  /** @return {@code true} if the field declaration is inside this node. 
+   * @attribute syn
+   * @aspect DeclareBeforeUse
+   * @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DeclareBeforeUse", declaredAt="/root/project/java4/frontend/DeclareBeforeUse.jrag:46")
+  public boolean declaredIn(Variable decl) {
+    Object _parameters = decl;
+    state().trace().computeBegin(this, "BodyDecl.declaredIn(Variable)", _parameters, "");
+    boolean declaredIn_Variable_value = this == decl || declaredBefore(decl);
+    state().trace().computeEnd(this, "BodyDecl.declaredIn(Variable)", _parameters, declaredIn_Variable_value);
+    return declaredIn_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect EnumsCodegen
+   * @declaredat /root/project/java5/backend/EnumsCodegen.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EnumsCodegen", declaredAt="/root/project/java5/backend/EnumsCodegen.jrag:43")
+  public int flags() {
+    state().trace().computeBegin(this, "EnumConstant.flags()", "", "");
+    try {
+        int flags = Modifiers.ACC_ENUM;
+        if (isPublic()) {
+          flags |= Modifiers.ACC_PUBLIC;
+        }
+        if (isPrivate()) {
+          flags |= Modifiers.ACC_PRIVATE;
+        }
+        if (isProtected()) {
+          flags |= Modifiers.ACC_PROTECTED;
+        }
+        if (isStatic()) {
+          flags |= Modifiers.ACC_STATIC;
+        }
+        if (isFinal()) {
+          flags |= Modifiers.ACC_FINAL;
+        }
+        if (isVolatile()) {
+          flags |= Modifiers.ACC_VOLATILE;
+        }
+        if (isTransient()) {
+          flags |= Modifiers.ACC_TRANSIENT;
+        }
+        if (isSynthetic()) {
+          flags |= Modifiers.ACC_SYNTHETIC;
+        }
+        return flags;
+      }
+    finally {
+      state().trace().computeEnd(this, "EnumConstant.flags()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:278
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:278")
+  public boolean isProtected() {
+    state().trace().computeBegin(this, "EnumConstant.isProtected()", "", "");
+    boolean isProtected_value = getModifiers().isProtected();
+    state().trace().computeEnd(this, "EnumConstant.isProtected()", "", isProtected_value);
+    return isProtected_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:280
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:280")
+  public boolean isPrivate() {
+    state().trace().computeBegin(this, "EnumConstant.isPrivate()", "", "");
+    boolean isPrivate_value = getModifiers().isPrivate();
+    state().trace().computeEnd(this, "EnumConstant.isPrivate()", "", isPrivate_value);
+    return isPrivate_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:157
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:157")
+  public TypeDecl erasedType() {
+    state().trace().computeBegin(this, "EnumConstant.erasedType()", "", "");
+    TypeDecl erasedType_value = type();
+    state().trace().computeEnd(this, "EnumConstant.erasedType()", "", erasedType_value);
+    return erasedType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:680
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:680")
+  public String hostPackage() {
+    state().trace().computeBegin(this, "EnumConstant.hostPackage()", "", "");
+    String hostPackage_value = getParent().Define_hostPackage(this, null);
+    state().trace().computeEnd(this, "EnumConstant.hostPackage()", "", hostPackage_value);
+    return hostPackage_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1404
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1404")
+  public FieldDecl fieldDecl() {
+    state().trace().computeBegin(this, "EnumConstant.fieldDecl()", "", "");
+    FieldDecl fieldDecl_value = getParent().Define_fieldDecl(this, null);
+    state().trace().computeEnd(this, "EnumConstant.fieldDecl()", "", fieldDecl_value);
+    return fieldDecl_value;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:131
+   * @apilevel internal
+   */
+  public boolean Define_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java5/frontend/Annotations.jrag:147
+      return name.equals("FIELD");
+    }
+    else {
+      return getParent().Define_mayUseAnnotationTarget(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:223
+   * @apilevel internal
+   */
+  public boolean Define_inStaticContext(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return isStatic();
+  }
+  protected boolean canDefine_inStaticContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java5/frontend/Enums.jrag:628
+      return NameType.TYPE_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
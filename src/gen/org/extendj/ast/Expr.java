@@ -0,0 +1,2801 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:223
+ * @production Expr : {@link ASTNode};
+
+ */
+public abstract class Expr extends ASTNode<ASTNode> implements Cloneable {
+  /**
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:711
+   */
+  public SimpleSet<TypeDecl> keepAccessibleTypes(SimpleSet<TypeDecl> types) {
+    SimpleSet<TypeDecl> result = emptySet();
+    TypeDecl hostType = hostType();
+    for (TypeDecl type : types) {
+      if ((hostType != null && type.accessibleFrom(hostType))
+          || (hostType == null && type.accessibleFromPackage(hostPackage()))) {
+        result = result.add(type);
+      }
+    }
+    return result;
+  }
+  /**
+   * Remove fields that are not accessible when using this Expr as qualifier.
+   * 
+   * @return a set containing the accessible fields
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:290
+   */
+  public SimpleSet<Variable> keepAccessibleFields(SimpleSet<Variable> fields) {
+    return hostType().keepAccessibleFields(type(), fields);
+  }
+  /**
+   * Creates a qualified expression. This will not be subject to rewriting.
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:201
+   */
+  public Access qualifiesAccess(Access access) {
+    Dot dot = new Dot(this, access);
+    dot.setStart(this.getStart());
+    dot.setEnd(access.getEnd());
+    return dot;
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:223
+   */
+  public void emitStore(CodeGeneration gen) {
+    error("emitStore called with " + getClass().getName());
+  }
+  /**
+   * Outputs the desired operation on the operand(s) on the stack.
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:456
+   */
+  void emitOperation(CodeGeneration gen) {
+    codeGenError("expression");
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:290
+   */
+  protected boolean needsPush() {
+    ASTNode n = getParent();
+    while (n instanceof ParExpr) {
+      n = n.getParent();
+    }
+    return !(n instanceof ExprStmt);
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:462
+   */
+  public void createAssignSimpleLoadDest(CodeGeneration gen) {
+  }
+  /**
+   * Duplicate top value on stack and store below destination element.
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:481
+   */
+  public void createPushAssignmentResult(CodeGeneration gen) {
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:504
+   */
+  public void createAssignLoadDest(CodeGeneration gen) {
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1205
+   */
+  protected void emitBooleanCondition(CodeGeneration gen) {
+    int end_label = -1;
+    int false_label = -1;
+    if (!isConstant()) {
+      false_label = gen.constantPool().newLabel();
+      branchFalse(gen, false_label);
+    }
+    if (canBeTrue()) {
+      BooleanLiteral.push(gen, true);
+      if (canBeFalse()) {
+        end_label = gen.constantPool().newLabel();
+        gen.GOTO(end_label);
+      }
+    }
+    if (false_label != -1) {
+      gen.addLabel(false_label);
+    }
+    if (canBeFalse()) {
+      BooleanLiteral.push(gen, false);
+    }
+    if (end_label != -1) {
+      gen.addLabel(end_label);
+    }
+  }
+  /**
+   * Generate a conditional branch statement. The branch should be taken if the
+   * expression evaluates to true. May in some cases not result in an actual
+   * branch statement if the branch would never be taken.
+   * @param gen code generator
+   * @param target target label to jump to if the condition was true
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1264
+   */
+  public void refined_CreateBCode_Expr_branchTrue(CodeGeneration gen, int target) {
+    // Branch when true.
+    if (isConstant()) {
+      if (isTrue()) {
+        gen.GOTO(target);
+      }
+    } else {
+      createBCode(gen);
+      gen.IFNE(target);
+    }
+  }
+  /**
+   * Generate a conditional branch statement. The branch should be taken if the
+   * expression evaluates to false. May in some cases not result in an actual
+   * branch statement if the branch would never be taken.
+   * @param gen code generator
+   * @param target target label to jump to if the condition was false
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1375
+   */
+  public void refined_CreateBCode_Expr_branchFalse(CodeGeneration gen, int target) {
+    // Branch when false.
+    if (isConstant()) {
+      if (isFalse()) {
+        gen.GOTO(target);
+      }
+    } else {
+      createBCode(gen);
+      gen.IFEQ(target);
+    }
+  }
+  /**
+   * @aspect MethodSignature15
+   * @declaredat /root/project/java5/frontend/MethodSignature.jrag:162
+   */
+  protected static SimpleSet<ConstructorDecl> mostSpecific(
+      SimpleSet<ConstructorDecl> maxSpecific, ConstructorDecl decl) {
+    if (maxSpecific.isEmpty()) {
+      maxSpecific = maxSpecific.add(decl);
+    } else {
+      ConstructorDecl other = maxSpecific.iterator().next();
+      if (decl.moreSpecificThan(other)) {
+        maxSpecific = ASTNode.<ConstructorDecl>emptySet().add(decl);
+      } else if (!other.moreSpecificThan(decl)) {
+        maxSpecific = maxSpecific.add(decl);
+      }
+    }
+    return maxSpecific;
+  }
+  /**
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:1122
+   */
+  protected static boolean moreSpecificThan(ConstructorDecl m1, ConstructorDecl m2,
+      List<Expr> argList) {
+    if (m1 instanceof ParConstructorDecl) {
+      return m1.moreSpecificThan(m2);
+    }
+    if (m1.getNumParameter() == 0) {
+      return false;
+    }
+    if (!m1.isVariableArity() && !m2.isVariableArity()) {
+      for (int i = 0; i < m1.getNumParameter(); i++) {
+        Expr arg = argList.getChild(i);
+        if (!arg.moreSpecificThan(m1.getParameter(i).type(), m2.getParameter(i).type())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean expandVarargs = m1.isVariableArity() && m2.isVariableArity();
+
+    int num = argList.getNumChild();
+    for (int i = 0; i < num; i++) {
+      ParameterDeclaration p1 = i < m1.getNumParameter()
+          ? m1.getParameter(i)
+          : m1.getParameter(m1.getNumParameter() - 1);
+      ParameterDeclaration p2 = i < m2.getNumParameter()
+          ? m2.getParameter(i)
+          : m2.getParameter(m2.getNumParameter() - 1);
+      TypeDecl t1 = expandVarargs && p1.isVariableArity() ? p1.type().componentType() : p1.type();
+      TypeDecl t2 = expandVarargs && p2.isVariableArity() ? p2.type().componentType() : p2.type();
+      Expr arg = argList.getChild(i);
+      if (!arg.moreSpecificThan(t1, t2)) {
+          return false;
+      }
+    }
+    num++;
+    if (m2.getNumParameter() == num) {
+      ParameterDeclaration p1 = num < m1.getNumParameter()
+          ? m1.getParameter(num)
+          : m1.getParameter(m1.getNumParameter() - 1);
+      ParameterDeclaration p2 = num < m2.getNumParameter()
+          ? m2.getParameter(num)
+          : m2.getParameter(m2.getNumParameter() - 1);
+      TypeDecl t1 = expandVarargs && p1.isVariableArity() ? p1.type().componentType() : p1.type();
+      TypeDecl t2 = expandVarargs && p2.isVariableArity() ? p2.type().componentType() : p2.type();
+      if (!t1.subtype(t2) && !t1.withinBounds(t2)) {
+        return false;
+      }
+    }
+    return true;
+  }
+  /**
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:1174
+   */
+  protected static SimpleSet<ConstructorDecl> mostSpecific(
+      SimpleSet<ConstructorDecl> maxSpecific, ConstructorDecl decl, List<Expr> argList) {
+    SimpleSet<ConstructorDecl> newMax;
+    if (maxSpecific.isEmpty()) {
+      newMax = maxSpecific.add(decl);
+    } else {
+      boolean foundStricter = false;
+      newMax = emptySet();
+      for (ConstructorDecl toCompare : maxSpecific) {
+        if (!(moreSpecificThan(decl, toCompare, argList)
+            && !moreSpecificThan(toCompare, decl, argList))) {
+          newMax = newMax.add(toCompare);
+        }
+        if (!moreSpecificThan(decl, toCompare, argList)
+            && moreSpecificThan(toCompare, decl, argList)) {
+          foundStricter = true;
+        }
+      }
+      if (!foundStricter) {
+        newMax = newMax.add(decl);
+      }
+    }
+    return newMax;
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public Expr() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    unassignedAfterFalse_Variable_reset();
+    unassignedAfterTrue_Variable_reset();
+    unassignedAfter_Variable_reset();
+    inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__reset();
+    stmtCompatible_reset();
+    compatibleStrictContext_TypeDecl_reset();
+    compatibleLooseContext_TypeDecl_reset();
+    pertinentToApplicability_Expr_BodyDecl_int_reset();
+    moreSpecificThan_TypeDecl_TypeDecl_reset();
+    potentiallyCompatible_TypeDecl_BodyDecl_reset();
+    isBooleanExpression_reset();
+    isNumericExpression_reset();
+    isPolyExpression_reset();
+    assignConversionTo_TypeDecl_reset();
+    targetType_reset();
+    assignmentContext_reset();
+    invocationContext_reset();
+    castContext_reset();
+    stringContext_reset();
+    numericContext_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:47
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:51
+   */
+  public Expr clone() throws CloneNotSupportedException {
+    Expr node = (Expr) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:62
+   */
+  @Deprecated
+  public abstract Expr fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:70
+   */
+  public abstract Expr treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:78
+   */
+  public abstract Expr treeCopy();
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:124
+   */
+   
+  void emitAssignConvTo(CodeGeneration gen, TypeDecl type) {
+    // The bytecode type of this expression is the erased type, and that
+    // is the type that should be cast to the target type.
+    erasedType().emitAssignConvTo(gen, type);
+  }
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:131
+   */
+   
+  void emitCastTo(CodeGeneration gen, TypeDecl type) {
+    // The bytecode type of this expression is the erased type, and that
+    // is the type that should be cast to the target type.
+    erasedType().emitCastTo(gen, type);
+  }
+  /**
+   * Generate unboxing code for conditions
+   * 14.9 If, 14.12 While, 14.13 Do, 14.14 For
+   * 
+   * branchTrue is used to emit the condition from these constructs
+   * refine behavior to include unboxing of the value when needed
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:173
+   */
+    public void branchTrue(CodeGeneration gen, int target) {
+    // Branch when true.
+    if (type().isReferenceType()) {
+      createBCode(gen);
+      emitCastTo(gen, typeBoolean());
+      gen.IFNE(target);
+    } else {
+      refined_CreateBCode_Expr_branchTrue(gen, target);
+    }
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:184
+   */
+    public void branchFalse(CodeGeneration gen, int target) {
+    // Branch when false.
+    if (type().isReferenceType()) {
+      createBCode(gen);
+      emitCastTo(gen, typeBoolean());
+      gen.IFEQ(target);
+    } else {
+      refined_CreateBCode_Expr_branchFalse(gen, target);
+    }
+  }
+  /**
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:974
+   */
+   
+  protected SimpleSet<ConstructorDecl> chooseConstructor(
+      Collection<ConstructorDecl> constructors, List<Expr> argList) {
+    SimpleSet<ConstructorDecl> potentiallyApplicable = emptySet();
+
+    // Select potentially applicable constructors.
+    for (ConstructorDecl decl : constructors) {
+      if (decl.potentiallyApplicable(argList) && decl.accessibleFrom(hostType())) {
+        if (decl.isGeneric()) {
+          GenericConstructorDecl gc = decl.genericDecl();
+          decl = gc.lookupParConstructorDecl(
+              inferTypeArguments(
+                  gc.type(),
+                  gc.getParameterList(),
+                  argList,
+                  gc.getTypeParameterList(),
+                  gc.getExceptionList()));
+        }
+        potentiallyApplicable = potentiallyApplicable.add(decl);
+      }
+    }
+
+    // First phase.
+    SimpleSet<ConstructorDecl> maxSpecific = emptySet();
+    for (ConstructorDecl decl : potentiallyApplicable) {
+      if (decl.applicableByStrictInvocation(this, argList)) {
+        maxSpecific = mostSpecific(maxSpecific, decl, argList);
+      }
+    }
+
+    // Second phase.
+    if (maxSpecific.isEmpty()) {
+      for (ConstructorDecl decl : potentiallyApplicable) {
+        if (decl.applicableByLooseInvocation(this, argList)) {
+          maxSpecific = mostSpecific(maxSpecific, decl, argList);
+        }
+      }
+    }
+
+    // Third phase.
+    if (maxSpecific.isEmpty()) {
+      for (ConstructorDecl decl : potentiallyApplicable) {
+        if (decl.isVariableArity() && decl.applicableByVariableArityInvocation(this, argList)) {
+          maxSpecific = mostSpecific(maxSpecific, decl, argList);
+        }
+      }
+    }
+    return maxSpecific;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public abstract TypeDecl type();
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:32")
+  public Constant constant() {
+    state().trace().computeBegin(this, "Expr.constant()", "", "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation constant"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.constant()", "", "");
+    }
+  }
+  /**
+   * representableIn(T) is true if and only if the the expression is a
+   * compile-time constant of type byte, char, short or int, and the value
+   * of the expression can be represented (by an expression) in the type T
+   * where T must be byte, char or short.
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:328
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:328")
+  public boolean representableIn(TypeDecl t) {
+    Object _parameters = t;
+    state().trace().computeBegin(this, "Expr.representableIn(TypeDecl)", _parameters, "");
+    try {
+        if (!type().isByte() && !type().isChar() && !type().isShort() && !type().isInt()) {
+          return false;
+        }
+        if (t.isByte()) {
+          return constant().intValue() >= Byte.MIN_VALUE && constant().intValue() <= Byte.MAX_VALUE;
+        }
+        if (t.isChar()) {
+          return constant().intValue() >= Character.MIN_VALUE
+              && constant().intValue() <= Character.MAX_VALUE;
+        }
+        if (t.isShort()) {
+          return constant().intValue() >= Short.MIN_VALUE && constant().intValue() <= Short.MAX_VALUE;
+        }
+        if (t.isInt()) {
+          return constant().intValue() >= Integer.MIN_VALUE
+              && constant().intValue() <= Integer.MAX_VALUE;
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.representableIn(TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:383
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:383")
+  public boolean isConstant() {
+    state().trace().computeBegin(this, "Expr.isConstant()", "", "");
+    boolean isConstant_value = false;
+    state().trace().computeEnd(this, "Expr.isConstant()", "", isConstant_value);
+    return isConstant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:435
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:435")
+  public boolean isTrue() {
+    state().trace().computeBegin(this, "Expr.isTrue()", "", "");
+    boolean isTrue_value = isConstant() && type() instanceof BooleanType && constant().booleanValue();
+    state().trace().computeEnd(this, "Expr.isTrue()", "", isTrue_value);
+    return isTrue_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:438
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:438")
+  public boolean isFalse() {
+    state().trace().computeBegin(this, "Expr.isFalse()", "", "");
+    boolean isFalse_value = isConstant() && type() instanceof BooleanType && !constant().booleanValue();
+    state().trace().computeEnd(this, "Expr.isFalse()", "", isFalse_value);
+    return isFalse_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:77")
+  public Variable varDecl() {
+    state().trace().computeBegin(this, "Expr.varDecl()", "", "");
+    Variable varDecl_value = null;
+    state().trace().computeEnd(this, "Expr.varDecl()", "", varDecl_value);
+    return varDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:377
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:377")
+  public boolean assignedAfterFalse(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfterFalse(Variable)", _parameters, "");
+    boolean assignedAfterFalse_Variable_value = isTrue() || assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfterFalse(Variable)", _parameters, assignedAfterFalse_Variable_value);
+    return assignedAfterFalse_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:375
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:375")
+  public boolean assignedAfterTrue(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfterTrue(Variable)", _parameters, "");
+    boolean assignedAfterTrue_Variable_value = isFalse() || assignedAfter(v);
+    state().trace().computeEnd(this, "Expr.assignedAfterTrue(Variable)", _parameters, assignedAfterTrue_Variable_value);
+    return assignedAfterTrue_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = assignedBefore(v);
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfterFalse_Variable_reset() {
+    unassignedAfterFalse_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterFalse_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:907")
+  public boolean unassignedAfterFalse(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterFalse_Variable_values == null) unassignedAfterFalse_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterFalse_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterFalse_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterFalse_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterFalse_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfterFalse(Variable)", _parameters, "");
+        new_unassignedAfterFalse_Variable_value = isTrue() || unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterFalse_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterFalse_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterFalse_Variable_values.put(_parameters, new_unassignedAfterFalse_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterFalse_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfterFalse(Variable)", _parameters, "");
+      boolean new_unassignedAfterFalse_Variable_value = isTrue() || unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfterFalse(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterFalse_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterFalse_Variable_value;
+      }
+      return new_unassignedAfterFalse_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfterTrue_Variable_reset() {
+    unassignedAfterTrue_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterTrue_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:905")
+  public boolean unassignedAfterTrue(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterTrue_Variable_values == null) unassignedAfterTrue_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterTrue_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterTrue_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterTrue_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterTrue_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfterTrue(Variable)", _parameters, "");
+        new_unassignedAfterTrue_Variable_value = isFalse() || unassignedAfter(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterTrue_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterTrue_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterTrue_Variable_values.put(_parameters, new_unassignedAfterTrue_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterTrue_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfterTrue(Variable)", _parameters, "");
+      boolean new_unassignedAfterTrue_Variable_value = isFalse() || unassignedAfter(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfterTrue(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterTrue_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterTrue_Variable_value;
+      }
+      return new_unassignedAfterTrue_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = unassignedBefore(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = unassignedBefore(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * Compute the most specific constructor in a collection.
+   * The constructor is invoked with the arguments specified in argList.
+   * The curent context (this) is used to evaluate the hostType for accessibility.
+   * @attribute syn
+   * @aspect ConstructScope
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:65
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructScope", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:65")
+  public SimpleSet<ConstructorDecl> mostSpecificConstructor(Collection<ConstructorDecl> constructors) {
+    Object _parameters = constructors;
+    state().trace().computeBegin(this, "Expr.mostSpecificConstructor(Collection_ConstructorDecl_)", _parameters, "");
+    try {
+        SimpleSet<ConstructorDecl> maxSpecific = emptySet();
+        for (ConstructorDecl decl : constructors) {
+          if (applicableAndAccessible(decl)) {
+            if (maxSpecific.isEmpty()) {
+              maxSpecific = maxSpecific.add(decl);
+            } else {
+              ConstructorDecl other = maxSpecific.iterator().next();
+              if (decl.moreSpecificThan(other)) {
+                maxSpecific = ASTNode.<ConstructorDecl>emptySet().add(decl);
+              } else if (!other.moreSpecificThan(decl)) {
+                maxSpecific = maxSpecific.add(decl);
+              }
+            }
+          }
+        }
+        return maxSpecific;
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.mostSpecificConstructor(Collection_ConstructorDecl_)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstructScope
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:85
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructScope", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:85")
+  public boolean applicableAndAccessible(ConstructorDecl decl) {
+    Object _parameters = decl;
+    state().trace().computeBegin(this, "Expr.applicableAndAccessible(ConstructorDecl)", _parameters, "");
+    boolean applicableAndAccessible_ConstructorDecl_value = false;
+    state().trace().computeEnd(this, "Expr.applicableAndAccessible(ConstructorDecl)", _parameters, applicableAndAccessible_ConstructorDecl_value);
+    return applicableAndAccessible_ConstructorDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:113
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:113")
+  public boolean hasQualifiedPackage(String packageName) {
+    Object _parameters = packageName;
+    state().trace().computeBegin(this, "Expr.hasQualifiedPackage(String)", _parameters, "");
+    boolean hasQualifiedPackage_String_value = false;
+    state().trace().computeEnd(this, "Expr.hasQualifiedPackage(String)", _parameters, hasQualifiedPackage_String_value);
+    return hasQualifiedPackage_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:684
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:684")
+  public SimpleSet<TypeDecl> qualifiedLookupType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.qualifiedLookupType(String)", _parameters, "");
+    SimpleSet<TypeDecl> qualifiedLookupType_String_value = keepAccessibleTypes(type().memberTypes(name));
+    state().trace().computeEnd(this, "Expr.qualifiedLookupType(String)", _parameters, qualifiedLookupType_String_value);
+    return qualifiedLookupType_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:264
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:264")
+  public SimpleSet<Variable> qualifiedLookupVariable(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.qualifiedLookupVariable(String)", _parameters, "");
+    try {
+        if (type().accessibleFrom(hostType())) {
+          return keepAccessibleFields(type().memberFields(name));
+        }
+        return emptySet();
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.qualifiedLookupVariable(String)", _parameters, "");
+    }
+  }
+  /**
+   * Test if this expression may access the given field.
+   * 
+   * @see <a href="https://docs.oracle.com/javase/specs/jls/se6/html/names.html#6.6.1">JLS6 \ufffd\ufffd6.6.1</a>
+   * @return true if the expression may access the given field
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:333
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:333")
+  public boolean mayAccess(Variable f) {
+    Object _parameters = f;
+    state().trace().computeBegin(this, "Expr.mayAccess(Variable)", _parameters, "");
+    boolean mayAccess_Variable_value = hostType().mayAccess(type(), f);
+    state().trace().computeEnd(this, "Expr.mayAccess(Variable)", _parameters, mayAccess_Variable_value);
+    return mayAccess_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PositiveLiterals
+   * @declaredat /root/project/java4/frontend/PositiveLiterals.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PositiveLiterals", declaredAt="/root/project/java4/frontend/PositiveLiterals.jrag:36")
+  public boolean isPositive() {
+    state().trace().computeBegin(this, "Expr.isPositive()", "", "");
+    boolean isPositive_value = false;
+    state().trace().computeEnd(this, "Expr.isPositive()", "", isPositive_value);
+    return isPositive_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:43")
+  public String packageName() {
+    state().trace().computeBegin(this, "Expr.packageName()", "", "");
+    String packageName_value = "";
+    state().trace().computeEnd(this, "Expr.packageName()", "", packageName_value);
+    return packageName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:73
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:73")
+  public String typeName() {
+    state().trace().computeBegin(this, "Expr.typeName()", "", "");
+    String typeName_value = "";
+    state().trace().computeEnd(this, "Expr.typeName()", "", typeName_value);
+    return typeName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:35")
+  public boolean isTypeAccess() {
+    state().trace().computeBegin(this, "Expr.isTypeAccess()", "", "");
+    boolean isTypeAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isTypeAccess()", "", isTypeAccess_value);
+    return isTypeAccess_value;
+  }
+  /**
+   * Tests if this is a qualified type access expression for
+   * the given type.
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:43")
+  public boolean isTypeAccess(String packageName, String type) {
+    Object _parameters = java.util.Arrays.asList(packageName, type);
+    state().trace().computeBegin(this, "Expr.isTypeAccess(String,String)", _parameters, "");
+    boolean isTypeAccess_String_String_value = false;
+    state().trace().computeEnd(this, "Expr.isTypeAccess(String,String)", _parameters, isTypeAccess_String_String_value);
+    return isTypeAccess_String_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:47")
+  public boolean isMethodAccess() {
+    state().trace().computeBegin(this, "Expr.isMethodAccess()", "", "");
+    boolean isMethodAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isMethodAccess()", "", isMethodAccess_value);
+    return isMethodAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:51
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:51")
+  public boolean isFieldAccess() {
+    state().trace().computeBegin(this, "Expr.isFieldAccess()", "", "");
+    boolean isFieldAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isFieldAccess()", "", isFieldAccess_value);
+    return isFieldAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:56
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:56")
+  public boolean isSuperAccess() {
+    state().trace().computeBegin(this, "Expr.isSuperAccess()", "", "");
+    boolean isSuperAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isSuperAccess()", "", isSuperAccess_value);
+    return isSuperAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:62
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:62")
+  public boolean isThisAccess() {
+    state().trace().computeBegin(this, "Expr.isThisAccess()", "", "");
+    boolean isThisAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isThisAccess()", "", isThisAccess_value);
+    return isThisAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:68
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:68")
+  public boolean isPackageAccess() {
+    state().trace().computeBegin(this, "Expr.isPackageAccess()", "", "");
+    boolean isPackageAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isPackageAccess()", "", isPackageAccess_value);
+    return isPackageAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:72")
+  public boolean isArrayAccess() {
+    state().trace().computeBegin(this, "Expr.isArrayAccess()", "", "");
+    boolean isArrayAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isArrayAccess()", "", isArrayAccess_value);
+    return isArrayAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:76
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:76")
+  public boolean isClassAccess() {
+    state().trace().computeBegin(this, "Expr.isClassAccess()", "", "");
+    boolean isClassAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isClassAccess()", "", isClassAccess_value);
+    return isClassAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:80
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:80")
+  public boolean isSuperConstructorAccess() {
+    state().trace().computeBegin(this, "Expr.isSuperConstructorAccess()", "", "");
+    boolean isSuperConstructorAccess_value = false;
+    state().trace().computeEnd(this, "Expr.isSuperConstructorAccess()", "", isSuperConstructorAccess_value);
+    return isSuperConstructorAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:177
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:177")
+  public Dot parentDot() {
+    state().trace().computeBegin(this, "Expr.parentDot()", "", "");
+    Dot parentDot_value = getParent() instanceof Dot ?
+        (Dot) getParent() : null;
+    state().trace().computeEnd(this, "Expr.parentDot()", "", parentDot_value);
+    return parentDot_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:180
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:180")
+  public boolean hasParentDot() {
+    state().trace().computeBegin(this, "Expr.hasParentDot()", "", "");
+    boolean hasParentDot_value = parentDot() != null;
+    state().trace().computeEnd(this, "Expr.hasParentDot()", "", hasParentDot_value);
+    return hasParentDot_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:182
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:182")
+  public boolean hasNextAccess() {
+    state().trace().computeBegin(this, "Expr.hasNextAccess()", "", "");
+    boolean hasNextAccess_value = isLeftChildOfDot();
+    state().trace().computeEnd(this, "Expr.hasNextAccess()", "", hasNextAccess_value);
+    return hasNextAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:494
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameResolution", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:494")
+  public boolean isParseName() {
+    state().trace().computeBegin(this, "Expr.isParseName()", "", "");
+    boolean isParseName_value = false;
+    state().trace().computeEnd(this, "Expr.isParseName()", "", isParseName_value);
+    return isParseName_value;
+  }
+  /**
+   * Test if an expression contains an unresolved parse name.
+   * @attribute syn
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:556
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameResolution", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:556")
+  public boolean containsParseName() {
+    state().trace().computeBegin(this, "Expr.containsParseName()", "", "");
+    boolean containsParseName_value = false;
+    state().trace().computeEnd(this, "Expr.containsParseName()", "", containsParseName_value);
+    return containsParseName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:602
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:602")
+  public Stmt enclosingStmt() {
+    state().trace().computeBegin(this, "Expr.enclosingStmt()", "", "");
+    try {
+        ASTNode node = this;
+        while (node != null && !(node instanceof Stmt)) {
+          node = node.getParent();
+        }
+        return (Stmt) node;
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.enclosingStmt()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:33")
+  public boolean isVariable() {
+    state().trace().computeBegin(this, "Expr.isVariable()", "", "");
+    boolean isVariable_value = false;
+    state().trace().computeEnd(this, "Expr.isVariable()", "", isVariable_value);
+    return isVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:47")
+  public boolean isUnknown() {
+    state().trace().computeBegin(this, "Expr.isUnknown()", "", "");
+    boolean isUnknown_value = type().isUnknown();
+    state().trace().computeEnd(this, "Expr.isUnknown()", "", isUnknown_value);
+    return isUnknown_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:240
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:240")
+  public boolean staticContextQualifier() {
+    state().trace().computeBegin(this, "Expr.staticContextQualifier()", "", "");
+    boolean staticContextQualifier_value = false;
+    state().trace().computeEnd(this, "Expr.staticContextQualifier()", "", staticContextQualifier_value);
+    return staticContextQualifier_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:300
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:300")
+  public boolean needsPop() {
+    state().trace().computeBegin(this, "Expr.needsPop()", "", "");
+    boolean needsPop_value = true;
+    state().trace().computeEnd(this, "Expr.needsPop()", "", needsPop_value);
+    return needsPop_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:313
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:313")
+  public boolean isVarAccessWithAccessor() {
+    state().trace().computeBegin(this, "Expr.isVarAccessWithAccessor()", "", "");
+    boolean isVarAccessWithAccessor_value = false;
+    state().trace().computeEnd(this, "Expr.isVarAccessWithAccessor()", "", isVarAccessWithAccessor_value);
+    return isVarAccessWithAccessor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1108
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1108")
+  public boolean isStringAdd() {
+    state().trace().computeBegin(this, "Expr.isStringAdd()", "", "");
+    boolean isStringAdd_value = false;
+    state().trace().computeEnd(this, "Expr.isStringAdd()", "", isStringAdd_value);
+    return isStringAdd_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1177
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1177")
+  public boolean canBeTrue() {
+    state().trace().computeBegin(this, "Expr.canBeTrue()", "", "");
+    boolean canBeTrue_value = !isFalse();
+    state().trace().computeEnd(this, "Expr.canBeTrue()", "", canBeTrue_value);
+    return canBeTrue_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1189
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1189")
+  public boolean canBeFalse() {
+    state().trace().computeBegin(this, "Expr.canBeFalse()", "", "");
+    boolean canBeFalse_value = !isTrue();
+    state().trace().computeEnd(this, "Expr.canBeFalse()", "", canBeFalse_value);
+    return canBeFalse_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:645
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:645")
+  public boolean isEnumConstant() {
+    state().trace().computeBegin(this, "Expr.isEnumConstant()", "", "");
+    boolean isEnumConstant_value = false;
+    state().trace().computeEnd(this, "Expr.isEnumConstant()", "", isEnumConstant_value);
+    return isEnumConstant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1624
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1624")
+  public Expr erasedCopy() {
+    state().trace().computeBegin(this, "Expr.erasedCopy()", "", "");
+    Expr erasedCopy_value = treeCopyNoTransform();
+    state().trace().computeEnd(this, "Expr.erasedCopy()", "", erasedCopy_value);
+    return erasedCopy_value;
+  }
+  /** @apilevel internal */
+  private void inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__reset() {
+    inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed = new java.util.HashMap(4);
+    inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values;
+  /** @apilevel internal */
+  protected java.util.Map inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed;
+  /**
+   * Infers type arguments for a generic method invocation.
+   * 
+   * <p>The type arguments are inferred based on the actual argument types and
+   * result assignment type.
+   * 
+   * @param resultType the expected result type of this expression. The
+   * inferred expression type is assignable to this type.
+   * @param params the parameter declartions (in declaration order) of the method for
+   * which types are being inferred.
+   * @param args the arguments of the method invocation. The argument types are
+   * assignable to the inferred parameter types.
+   * @param typeParams the type variables which types should be inferred for.
+   * @param thrownTypes the types used in the throws clause of the inferred generic method.
+   * @return the inferred types for the given type variables. The order
+   * of the result types matches the order of the type variables in typeParams.
+   * @attribute syn
+   * @aspect MethodSignature15
+   * @declaredat /root/project/java5/frontend/MethodSignature.jrag:548
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature15", declaredAt="/root/project/java5/frontend/MethodSignature.jrag:548")
+  public ArrayList<TypeDecl> inferTypeArguments(TypeDecl resultType, List<ParameterDeclaration> params, List<Expr> args, List<TypeVariable> typeParams, List<Access> thrownTypes) {
+    java.util.List _parameters = new java.util.ArrayList(5);
+    _parameters.add(resultType);
+    _parameters.add(params);
+    _parameters.add(args);
+    _parameters.add(typeParams);
+    _parameters.add(thrownTypes);
+    if (inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed == null) inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed = new java.util.HashMap(4);
+    if (inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values == null) inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values.containsKey(_parameters) && inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed != null
+        && inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed.containsKey(_parameters)
+        && (inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed.get(_parameters) == ASTState.NON_CYCLE || inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.inferTypeArguments(TypeDecl,List_ParameterDeclaration_,List_Expr_,List_TypeVariable_,List_Access_)", _parameters, inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values.get(_parameters));
+      return (ArrayList<TypeDecl>) inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.inferTypeArguments(TypeDecl,List_ParameterDeclaration_,List_Expr_,List_TypeVariable_,List_Access_)", _parameters, "");
+    ArrayList<TypeDecl> inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__value = inferTypeArguments_compute(resultType, params, args, typeParams, thrownTypes);
+    state().trace().computeEnd(this, "Expr.inferTypeArguments(TypeDecl,List_ParameterDeclaration_,List_Expr_,List_TypeVariable_,List_Access_)", _parameters, inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__value);
+    if (state().inCircle()) {
+      inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values.put(_parameters, inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__value);
+      inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.inferTypeArguments(TypeDecl,List_ParameterDeclaration_,List_Expr_,List_TypeVariable_,List_Access_)", _parameters, inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__value);
+    } else {
+      inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__values.put(_parameters, inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__value);
+      inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.inferTypeArguments(TypeDecl,List_ParameterDeclaration_,List_Expr_,List_TypeVariable_,List_Access_)", _parameters, inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__value);
+    }
+    return inferTypeArguments_TypeDecl_List_ParameterDeclaration__List_Expr__List_TypeVariable__List_Access__value;
+  }
+  /** @apilevel internal */
+  private ArrayList<TypeDecl> inferTypeArguments_compute(TypeDecl resultType, List<ParameterDeclaration> params, List<Expr> args, List<TypeVariable> typeParams, List<Access> thrownTypes) {
+      Constraints constraints = new Constraints();
+  
+      // Store type parameters.
+      for (TypeVariable p : typeParams) {
+        constraints.addTypeVariable(p);
+      }
+  
+      // Add initial constraints.
+      for (int i = 0; i < args.getNumChild(); i++) {
+        TypeDecl A = args.getChild(i).type();
+        int index = i >= params.getNumChild() ? params.getNumChild() - 1 : i;
+        TypeDecl F = params.getChild(index).type();
+        if (params.getChild(index) instanceof VariableArityParameterDeclaration
+            && (args.getNumChild() != params.getNumChild() || !A.isArrayDecl())) {
+          F = F.componentType();
+        }
+        constraints.convertibleTo(A, F);
+      }
+  
+      if (constraints.rawAccess) {
+        return new ArrayList<TypeDecl>();
+      }
+  
+      constraints.resolveEqualityConstraints();
+      constraints.resolveSupertypeConstraints();
+  
+      if (constraints.unresolvedTypeArguments()) {
+        TypeDecl S = assignConvertedType();
+        if (!S.isNull()) {
+          if (S.isUnboxedPrimitive()) {
+            S = S.boxed();
+          }
+          TypeDecl R = resultType;
+          if (R.isVoid()) {
+            R = typeObject();
+          }
+          constraints.convertibleFrom(S, R);
+        }
+        // Build the last constraints by substituting type bounds using the
+        // already-inferred type variables.
+        Collection<TypeDecl> substArgs = new ArrayList<TypeDecl>();
+        for (TypeVariable p : typeParams) {
+          TypeDecl arg = constraints.constraintsMap.get(p).typeArgument;
+          if (arg != null) {
+            substArgs.add(arg);
+          } else {
+            substArgs.add(p);
+          }
+        }
+        Parameterization partialSubst = new Parameterization(typeParams, substArgs);
+        for (TypeVariable p : typeParams) {
+          if (!p.firstBound().type().isObject()) {
+            TypeDecl Bp = constraints.constraintsMap.get(p).typeArgument;
+            if (Bp == null) {
+              Bp = p;
+            }
+            TypeDecl Bi_sub = p.substituted(partialSubst).firstBound().type();
+            constraints.convertibleFrom(Bi_sub, p);
+            constraints.convertibleTo(Bp, Bi_sub);
+          }
+        }
+        constraints.resolveEqualityConstraints();
+        constraints.resolveSupertypeConstraints();
+        constraints.resolveSubtypeConstraints();
+      }
+  
+      ArrayList<TypeDecl> typeArguments = new ArrayList<TypeDecl>();
+      int i = 0;
+      for (TypeDecl type : constraints.typeArguments()) {
+        if (type == null) {
+          TypeVariable v = typeParams.getChild(i);
+          type = v.lubType();
+        } else if (type.isTypeVariable()) {
+          TypeVariable v = (TypeVariable) type;
+          // Replace the type variable if it is not defined in an outer scope.
+          // This is needed for handling constructor reference type inference (in Java 8).
+          // TODO(joqvist): is this needed also for Java 5?
+          if (enclosingBlock() != null) {
+            if (enclosingBlock().lookupType(v.name()) != v) {
+              type = v.lubType();
+            }
+          } else {
+            if (enclosingMemberDecl().lookupType(v.name()) != v) {
+              type = v.lubType();
+            }
+          }
+        }
+        typeArguments.add(type);
+        i += 1;
+      }
+      return typeArguments;
+    }
+  /**
+   * Finds the host type declaration of a class access.
+   * 
+   * <p>Call this attribute only on expressions that return {@code true} for
+   * isClassAccess or it may throw an error!
+   * 
+   * @return the TypeDecl corresponding to the accesssed class.
+   * @attribute syn
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:278
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AnnotationsCodegen", declaredAt="/root/project/java5/backend/AnnotationsCodegen.jrag:278")
+  public TypeDecl classAccess() {
+    state().trace().computeBegin(this, "Expr.classAccess()", "", "");
+    try {
+        throw new Error("Class access can only be computed for class access expressions");
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.classAccess()", "", "");
+    }
+  }
+  /**
+   * This finds the erased runtime type of this expression.
+   * 
+   * <p>The erased type of a field or method depends on the original
+   * declaration of the field or method (without generic type substitution).
+   * 
+   * <p>The erased type is used to determine when a checkcast conversion is
+   * needed to cast a generic type to the expected type.
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:147
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:147")
+  public TypeDecl erasedType() {
+    state().trace().computeBegin(this, "Expr.erasedType()", "", "");
+    TypeDecl erasedType_value = type().erasure();
+    state().trace().computeEnd(this, "Expr.erasedType()", "", erasedType_value);
+    return erasedType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:33")
+  public Collection<TypeDecl> throwTypes() {
+    state().trace().computeBegin(this, "Expr.throwTypes()", "", "");
+    try {
+        Collection<TypeDecl> tts = new LinkedList<TypeDecl>();
+        tts.add(type());
+        return tts;
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.throwTypes()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:145")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = false;
+    state().trace().computeEnd(this, "Expr.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:196
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:196")
+  public boolean isVariable(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.isVariable(Variable)", _parameters, "");
+    boolean isVariable_Variable_value = false;
+    state().trace().computeEnd(this, "Expr.isVariable(Variable)", _parameters, isVariable_Variable_value);
+    return isVariable_Variable_value;
+  }
+  /** @apilevel internal */
+  private void stmtCompatible_reset() {
+    stmtCompatible_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle stmtCompatible_computed = null;
+
+  /** @apilevel internal */
+  protected boolean stmtCompatible_value;
+
+  /**
+   * @attribute syn
+   * @aspect StmtCompatible
+   * @declaredat /root/project/java8/frontend/LambdaExpr.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StmtCompatible", declaredAt="/root/project/java8/frontend/LambdaExpr.jrag:145")
+  public boolean stmtCompatible() {
+    ASTState state = state();
+    if (stmtCompatible_computed == ASTState.NON_CYCLE || stmtCompatible_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+      return stmtCompatible_value;
+    }
+    state().trace().computeBegin(this, "Expr.stmtCompatible()", "", "");
+    stmtCompatible_value = false;
+    state().trace().computeEnd(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    if (state().inCircle()) {
+      stmtCompatible_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    } else {
+      stmtCompatible_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.stmtCompatible()", "", stmtCompatible_value);
+    }
+    return stmtCompatible_value;
+  }
+  /** @apilevel internal */
+  private void compatibleStrictContext_TypeDecl_reset() {
+    compatibleStrictContext_TypeDecl_computed = new java.util.HashMap(4);
+    compatibleStrictContext_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map compatibleStrictContext_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map compatibleStrictContext_TypeDecl_computed;
+  /** Used to compute compatibility during phase 1 of overload resolution. 
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:58")
+  public boolean compatibleStrictContext(TypeDecl type) {
+    Object _parameters = type;
+    if (compatibleStrictContext_TypeDecl_computed == null) compatibleStrictContext_TypeDecl_computed = new java.util.HashMap(4);
+    if (compatibleStrictContext_TypeDecl_values == null) compatibleStrictContext_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (compatibleStrictContext_TypeDecl_values.containsKey(_parameters) && compatibleStrictContext_TypeDecl_computed != null
+        && compatibleStrictContext_TypeDecl_computed.containsKey(_parameters)
+        && (compatibleStrictContext_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || compatibleStrictContext_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_values.get(_parameters));
+      return (Boolean) compatibleStrictContext_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, "");
+    boolean compatibleStrictContext_TypeDecl_value = type().subtype(type);
+    state().trace().computeEnd(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    if (state().inCircle()) {
+      compatibleStrictContext_TypeDecl_values.put(_parameters, compatibleStrictContext_TypeDecl_value);
+      compatibleStrictContext_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    } else {
+      compatibleStrictContext_TypeDecl_values.put(_parameters, compatibleStrictContext_TypeDecl_value);
+      compatibleStrictContext_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.compatibleStrictContext(TypeDecl)", _parameters, compatibleStrictContext_TypeDecl_value);
+    }
+    return compatibleStrictContext_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void compatibleLooseContext_TypeDecl_reset() {
+    compatibleLooseContext_TypeDecl_computed = new java.util.HashMap(4);
+    compatibleLooseContext_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map compatibleLooseContext_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map compatibleLooseContext_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:102
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:102")
+  public boolean compatibleLooseContext(TypeDecl type) {
+    Object _parameters = type;
+    if (compatibleLooseContext_TypeDecl_computed == null) compatibleLooseContext_TypeDecl_computed = new java.util.HashMap(4);
+    if (compatibleLooseContext_TypeDecl_values == null) compatibleLooseContext_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (compatibleLooseContext_TypeDecl_values.containsKey(_parameters) && compatibleLooseContext_TypeDecl_computed != null
+        && compatibleLooseContext_TypeDecl_computed.containsKey(_parameters)
+        && (compatibleLooseContext_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || compatibleLooseContext_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_values.get(_parameters));
+      return (Boolean) compatibleLooseContext_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, "");
+    boolean compatibleLooseContext_TypeDecl_value = type().methodInvocationConversionTo(type)
+          || type().boxed().withinBounds(type);
+    state().trace().computeEnd(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    if (state().inCircle()) {
+      compatibleLooseContext_TypeDecl_values.put(_parameters, compatibleLooseContext_TypeDecl_value);
+      compatibleLooseContext_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    } else {
+      compatibleLooseContext_TypeDecl_values.put(_parameters, compatibleLooseContext_TypeDecl_value);
+      compatibleLooseContext_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.compatibleLooseContext(TypeDecl)", _parameters, compatibleLooseContext_TypeDecl_value);
+    }
+    return compatibleLooseContext_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void pertinentToApplicability_Expr_BodyDecl_int_reset() {
+    pertinentToApplicability_Expr_BodyDecl_int_computed = new java.util.HashMap(4);
+    pertinentToApplicability_Expr_BodyDecl_int_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map pertinentToApplicability_Expr_BodyDecl_int_values;
+  /** @apilevel internal */
+  protected java.util.Map pertinentToApplicability_Expr_BodyDecl_int_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:130
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:130")
+  public boolean pertinentToApplicability(Expr access, BodyDecl decl, int argIndex) {
+    java.util.List _parameters = new java.util.ArrayList(3);
+    _parameters.add(access);
+    _parameters.add(decl);
+    _parameters.add(argIndex);
+    if (pertinentToApplicability_Expr_BodyDecl_int_computed == null) pertinentToApplicability_Expr_BodyDecl_int_computed = new java.util.HashMap(4);
+    if (pertinentToApplicability_Expr_BodyDecl_int_values == null) pertinentToApplicability_Expr_BodyDecl_int_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (pertinentToApplicability_Expr_BodyDecl_int_values.containsKey(_parameters) && pertinentToApplicability_Expr_BodyDecl_int_computed != null
+        && pertinentToApplicability_Expr_BodyDecl_int_computed.containsKey(_parameters)
+        && (pertinentToApplicability_Expr_BodyDecl_int_computed.get(_parameters) == ASTState.NON_CYCLE || pertinentToApplicability_Expr_BodyDecl_int_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_values.get(_parameters));
+      return (Boolean) pertinentToApplicability_Expr_BodyDecl_int_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, "");
+    boolean pertinentToApplicability_Expr_BodyDecl_int_value = true;
+    state().trace().computeEnd(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    if (state().inCircle()) {
+      pertinentToApplicability_Expr_BodyDecl_int_values.put(_parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+      pertinentToApplicability_Expr_BodyDecl_int_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    } else {
+      pertinentToApplicability_Expr_BodyDecl_int_values.put(_parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+      pertinentToApplicability_Expr_BodyDecl_int_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.pertinentToApplicability(Expr,BodyDecl,int)", _parameters, pertinentToApplicability_Expr_BodyDecl_int_value);
+    }
+    return pertinentToApplicability_Expr_BodyDecl_int_value;
+  }
+  /** @apilevel internal */
+  private void moreSpecificThan_TypeDecl_TypeDecl_reset() {
+    moreSpecificThan_TypeDecl_TypeDecl_computed = new java.util.HashMap(4);
+    moreSpecificThan_TypeDecl_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map moreSpecificThan_TypeDecl_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map moreSpecificThan_TypeDecl_TypeDecl_computed;
+  /**
+   * Computes which type is more specific for a specific argument, as defined in 15.12.2.5
+   * @param type1
+   * @param type2
+   * @return {@code true} if type1 is more specific than type2, {@code false} otherwise
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:256
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:256")
+  public boolean moreSpecificThan(TypeDecl type1, TypeDecl type2) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(type1);
+    _parameters.add(type2);
+    if (moreSpecificThan_TypeDecl_TypeDecl_computed == null) moreSpecificThan_TypeDecl_TypeDecl_computed = new java.util.HashMap(4);
+    if (moreSpecificThan_TypeDecl_TypeDecl_values == null) moreSpecificThan_TypeDecl_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (moreSpecificThan_TypeDecl_TypeDecl_values.containsKey(_parameters) && moreSpecificThan_TypeDecl_TypeDecl_computed != null
+        && moreSpecificThan_TypeDecl_TypeDecl_computed.containsKey(_parameters)
+        && (moreSpecificThan_TypeDecl_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || moreSpecificThan_TypeDecl_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_values.get(_parameters));
+      return (Boolean) moreSpecificThan_TypeDecl_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, "");
+    boolean moreSpecificThan_TypeDecl_TypeDecl_value = type1.subtype(type2) || type1.withinBounds(type2);
+    state().trace().computeEnd(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    if (state().inCircle()) {
+      moreSpecificThan_TypeDecl_TypeDecl_values.put(_parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+      moreSpecificThan_TypeDecl_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    } else {
+      moreSpecificThan_TypeDecl_TypeDecl_values.put(_parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+      moreSpecificThan_TypeDecl_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.moreSpecificThan(TypeDecl,TypeDecl)", _parameters, moreSpecificThan_TypeDecl_TypeDecl_value);
+    }
+    return moreSpecificThan_TypeDecl_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void potentiallyCompatible_TypeDecl_BodyDecl_reset() {
+    potentiallyCompatible_TypeDecl_BodyDecl_computed = new java.util.HashMap(4);
+    potentiallyCompatible_TypeDecl_BodyDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map potentiallyCompatible_TypeDecl_BodyDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map potentiallyCompatible_TypeDecl_BodyDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect MethodSignature18
+   * @declaredat /root/project/java8/frontend/MethodSignature.jrag:511
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature18", declaredAt="/root/project/java8/frontend/MethodSignature.jrag:511")
+  public boolean potentiallyCompatible(TypeDecl type, BodyDecl candidateDecl) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(type);
+    _parameters.add(candidateDecl);
+    if (potentiallyCompatible_TypeDecl_BodyDecl_computed == null) potentiallyCompatible_TypeDecl_BodyDecl_computed = new java.util.HashMap(4);
+    if (potentiallyCompatible_TypeDecl_BodyDecl_values == null) potentiallyCompatible_TypeDecl_BodyDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (potentiallyCompatible_TypeDecl_BodyDecl_values.containsKey(_parameters) && potentiallyCompatible_TypeDecl_BodyDecl_computed != null
+        && potentiallyCompatible_TypeDecl_BodyDecl_computed.containsKey(_parameters)
+        && (potentiallyCompatible_TypeDecl_BodyDecl_computed.get(_parameters) == ASTState.NON_CYCLE || potentiallyCompatible_TypeDecl_BodyDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_values.get(_parameters));
+      return (Boolean) potentiallyCompatible_TypeDecl_BodyDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, "");
+    boolean potentiallyCompatible_TypeDecl_BodyDecl_value = true;
+    state().trace().computeEnd(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    if (state().inCircle()) {
+      potentiallyCompatible_TypeDecl_BodyDecl_values.put(_parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+      potentiallyCompatible_TypeDecl_BodyDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    } else {
+      potentiallyCompatible_TypeDecl_BodyDecl_values.put(_parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+      potentiallyCompatible_TypeDecl_BodyDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.potentiallyCompatible(TypeDecl,BodyDecl)", _parameters, potentiallyCompatible_TypeDecl_BodyDecl_value);
+    }
+    return potentiallyCompatible_TypeDecl_BodyDecl_value;
+  }
+  /** @apilevel internal */
+  private void isBooleanExpression_reset() {
+    isBooleanExpression_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isBooleanExpression_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isBooleanExpression_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:29
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:29")
+  public boolean isBooleanExpression() {
+    ASTState state = state();
+    if (isBooleanExpression_computed == ASTState.NON_CYCLE || isBooleanExpression_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.isBooleanExpression()", "", isBooleanExpression_value);
+      return isBooleanExpression_value;
+    }
+    state().trace().computeBegin(this, "Expr.isBooleanExpression()", "", "");
+    isBooleanExpression_value = !isPolyExpression() && type().isBoolean();
+    state().trace().computeEnd(this, "Expr.isBooleanExpression()", "", isBooleanExpression_value);
+    if (state().inCircle()) {
+      isBooleanExpression_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.isBooleanExpression()", "", isBooleanExpression_value);
+    } else {
+      isBooleanExpression_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.isBooleanExpression()", "", isBooleanExpression_value);
+    }
+    return isBooleanExpression_value;
+  }
+  /** @apilevel internal */
+  private void isNumericExpression_reset() {
+    isNumericExpression_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isNumericExpression_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isNumericExpression_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:60")
+  public boolean isNumericExpression() {
+    ASTState state = state();
+    if (isNumericExpression_computed == ASTState.NON_CYCLE || isNumericExpression_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.isNumericExpression()", "", isNumericExpression_value);
+      return isNumericExpression_value;
+    }
+    state().trace().computeBegin(this, "Expr.isNumericExpression()", "", "");
+    isNumericExpression_value = !isPolyExpression() && type().isNumericType();
+    state().trace().computeEnd(this, "Expr.isNumericExpression()", "", isNumericExpression_value);
+    if (state().inCircle()) {
+      isNumericExpression_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.isNumericExpression()", "", isNumericExpression_value);
+    } else {
+      isNumericExpression_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.isNumericExpression()", "", isNumericExpression_value);
+    }
+    return isNumericExpression_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:72")
+  public boolean isNullLiteral() {
+    state().trace().computeBegin(this, "Expr.isNullLiteral()", "", "");
+    boolean isNullLiteral_value = false;
+    state().trace().computeEnd(this, "Expr.isNullLiteral()", "", isNullLiteral_value);
+    return isNullLiteral_value;
+  }
+  /** @apilevel internal */
+  private void isPolyExpression_reset() {
+    isPolyExpression_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isPolyExpression_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isPolyExpression_value;
+
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:86")
+  public boolean isPolyExpression() {
+    ASTState state = state();
+    if (isPolyExpression_computed == ASTState.NON_CYCLE || isPolyExpression_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+      return isPolyExpression_value;
+    }
+    state().trace().computeBegin(this, "Expr.isPolyExpression()", "", "");
+    isPolyExpression_value = false;
+    state().trace().computeEnd(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    if (state().inCircle()) {
+      isPolyExpression_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    } else {
+      isPolyExpression_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.isPolyExpression()", "", isPolyExpression_value);
+    }
+    return isPolyExpression_value;
+  }
+  /** @apilevel internal */
+  private void assignConversionTo_TypeDecl_reset() {
+    assignConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    assignConversionTo_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map assignConversionTo_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map assignConversionTo_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect PolyExpressions
+   * @declaredat /root/project/java8/frontend/PolyExpressions.jrag:149
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PolyExpressions", declaredAt="/root/project/java8/frontend/PolyExpressions.jrag:149")
+  public boolean assignConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    if (assignConversionTo_TypeDecl_computed == null) assignConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    if (assignConversionTo_TypeDecl_values == null) assignConversionTo_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (assignConversionTo_TypeDecl_values.containsKey(_parameters) && assignConversionTo_TypeDecl_computed != null
+        && assignConversionTo_TypeDecl_computed.containsKey(_parameters)
+        && (assignConversionTo_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || assignConversionTo_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_values.get(_parameters));
+      return (Boolean) assignConversionTo_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Expr.assignConversionTo(TypeDecl)", _parameters, "");
+    boolean assignConversionTo_TypeDecl_value = type().assignConversionTo(type, this);
+    state().trace().computeEnd(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    if (state().inCircle()) {
+      assignConversionTo_TypeDecl_values.put(_parameters, assignConversionTo_TypeDecl_value);
+      assignConversionTo_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    } else {
+      assignConversionTo_TypeDecl_values.put(_parameters, assignConversionTo_TypeDecl_value);
+      assignConversionTo_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Expr.assignConversionTo(TypeDecl)", _parameters, assignConversionTo_TypeDecl_value);
+    }
+    return assignConversionTo_TypeDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:34
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:34")
+  public boolean isDest() {
+    state().trace().computeBegin(this, "Expr.isDest()", "", "");
+    boolean isDest_value = getParent().Define_isDest(this, null);
+    state().trace().computeEnd(this, "Expr.isDest()", "", isDest_value);
+    return isDest_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:44")
+  public boolean isSource() {
+    state().trace().computeBegin(this, "Expr.isSource()", "", "");
+    boolean isSource_value = getParent().Define_isSource(this, null);
+    state().trace().computeEnd(this, "Expr.isSource()", "", isSource_value);
+    return isSource_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:66
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:66")
+  public boolean isIncOrDec() {
+    state().trace().computeBegin(this, "Expr.isIncOrDec()", "", "");
+    boolean isIncOrDec_value = getParent().Define_isIncOrDec(this, null);
+    state().trace().computeEnd(this, "Expr.isIncOrDec()", "", isIncOrDec_value);
+    return isIncOrDec_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:266
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:266")
+  public boolean assignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedBefore(Variable)", _parameters, "");
+    boolean assignedBefore_Variable_value = getParent().Define_assignedBefore(this, null, v);
+    state().trace().computeEnd(this, "Expr.assignedBefore(Variable)", _parameters, assignedBefore_Variable_value);
+    return assignedBefore_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteUnassignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:897
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:897")
+  public boolean unassignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.unassignedBefore(Variable)", _parameters, "");
+    boolean unassignedBefore_Variable_value = getParent().Define_unassignedBefore(this, null, v);
+    state().trace().computeEnd(this, "Expr.unassignedBefore(Variable)", _parameters, unassignedBefore_Variable_value);
+    return unassignedBefore_Variable_value;
+  }
+  /**
+   * Find all visible methods with the given name in the local
+   * scope or a qualified scope.
+   * @attribute inh
+   * @aspect LookupMethod
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:111
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupMethod", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:111")
+  public Collection<MethodDecl> lookupMethod(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.lookupMethod(String)", _parameters, "");
+    Collection<MethodDecl> lookupMethod_String_value = getParent().Define_lookupMethod(this, null, name);
+    state().trace().computeEnd(this, "Expr.lookupMethod(String)", _parameters, lookupMethod_String_value);
+    return lookupMethod_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:81
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:81")
+  public TypeDecl typeBoolean() {
+    state().trace().computeBegin(this, "Expr.typeBoolean()", "", "");
+    TypeDecl typeBoolean_value = getParent().Define_typeBoolean(this, null);
+    state().trace().computeEnd(this, "Expr.typeBoolean()", "", typeBoolean_value);
+    return typeBoolean_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:82
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:82")
+  public TypeDecl typeByte() {
+    state().trace().computeBegin(this, "Expr.typeByte()", "", "");
+    TypeDecl typeByte_value = getParent().Define_typeByte(this, null);
+    state().trace().computeEnd(this, "Expr.typeByte()", "", typeByte_value);
+    return typeByte_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:83
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:83")
+  public TypeDecl typeShort() {
+    state().trace().computeBegin(this, "Expr.typeShort()", "", "");
+    TypeDecl typeShort_value = getParent().Define_typeShort(this, null);
+    state().trace().computeEnd(this, "Expr.typeShort()", "", typeShort_value);
+    return typeShort_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:84
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:84")
+  public TypeDecl typeChar() {
+    state().trace().computeBegin(this, "Expr.typeChar()", "", "");
+    TypeDecl typeChar_value = getParent().Define_typeChar(this, null);
+    state().trace().computeEnd(this, "Expr.typeChar()", "", typeChar_value);
+    return typeChar_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:85
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:85")
+  public TypeDecl typeInt() {
+    state().trace().computeBegin(this, "Expr.typeInt()", "", "");
+    TypeDecl typeInt_value = getParent().Define_typeInt(this, null);
+    state().trace().computeEnd(this, "Expr.typeInt()", "", typeInt_value);
+    return typeInt_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:86")
+  public TypeDecl typeLong() {
+    state().trace().computeBegin(this, "Expr.typeLong()", "", "");
+    TypeDecl typeLong_value = getParent().Define_typeLong(this, null);
+    state().trace().computeEnd(this, "Expr.typeLong()", "", typeLong_value);
+    return typeLong_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:87
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:87")
+  public TypeDecl typeFloat() {
+    state().trace().computeBegin(this, "Expr.typeFloat()", "", "");
+    TypeDecl typeFloat_value = getParent().Define_typeFloat(this, null);
+    state().trace().computeEnd(this, "Expr.typeFloat()", "", typeFloat_value);
+    return typeFloat_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:88
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:88")
+  public TypeDecl typeDouble() {
+    state().trace().computeBegin(this, "Expr.typeDouble()", "", "");
+    TypeDecl typeDouble_value = getParent().Define_typeDouble(this, null);
+    state().trace().computeEnd(this, "Expr.typeDouble()", "", typeDouble_value);
+    return typeDouble_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:89")
+  public TypeDecl typeString() {
+    state().trace().computeBegin(this, "Expr.typeString()", "", "");
+    TypeDecl typeString_value = getParent().Define_typeString(this, null);
+    state().trace().computeEnd(this, "Expr.typeString()", "", typeString_value);
+    return typeString_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:90
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:90")
+  public TypeDecl typeVoid() {
+    state().trace().computeBegin(this, "Expr.typeVoid()", "", "");
+    TypeDecl typeVoid_value = getParent().Define_typeVoid(this, null);
+    state().trace().computeEnd(this, "Expr.typeVoid()", "", typeVoid_value);
+    return typeVoid_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:91
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:91")
+  public TypeDecl typeNull() {
+    state().trace().computeBegin(this, "Expr.typeNull()", "", "");
+    TypeDecl typeNull_value = getParent().Define_typeNull(this, null);
+    state().trace().computeEnd(this, "Expr.typeNull()", "", typeNull_value);
+    return typeNull_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:104
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:104")
+  public TypeDecl unknownType() {
+    state().trace().computeBegin(this, "Expr.unknownType()", "", "");
+    TypeDecl unknownType_value = getParent().Define_unknownType(this, null);
+    state().trace().computeEnd(this, "Expr.unknownType()", "", unknownType_value);
+    return unknownType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:116
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:116")
+  public boolean hasPackage(String packageName) {
+    Object _parameters = packageName;
+    state().trace().computeBegin(this, "Expr.hasPackage(String)", _parameters, "");
+    boolean hasPackage_String_value = getParent().Define_hasPackage(this, null, packageName);
+    state().trace().computeEnd(this, "Expr.hasPackage(String)", _parameters, hasPackage_String_value);
+    return hasPackage_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:130
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:130")
+  public TypeDecl lookupType(String packageName, String typeName) {
+    Object _parameters = java.util.Arrays.asList(packageName, typeName);
+    state().trace().computeBegin(this, "Expr.lookupType(String,String)", _parameters, "");
+    TypeDecl lookupType_String_String_value = getParent().Define_lookupType(this, null, packageName, typeName);
+    state().trace().computeEnd(this, "Expr.lookupType(String,String)", _parameters, lookupType_String_String_value);
+    return lookupType_String_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:473
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:473")
+  public SimpleSet<TypeDecl> lookupType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.lookupType(String)", _parameters, "");
+    SimpleSet<TypeDecl> lookupType_String_value = getParent().Define_lookupType(this, null, name);
+    state().trace().computeEnd(this, "Expr.lookupType(String)", _parameters, lookupType_String_value);
+    return lookupType_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:43")
+  public SimpleSet<Variable> lookupVariable(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.lookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> lookupVariable_String_value = getParent().Define_lookupVariable(this, null, name);
+    state().trace().computeEnd(this, "Expr.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    return lookupVariable_String_value;
+  }
+  /**
+   * @return the directly enclosing member declaration, or {@code null} if there is none.
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:378
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:378")
+  public BodyDecl enclosingMemberDecl() {
+    state().trace().computeBegin(this, "Expr.enclosingMemberDecl()", "", "");
+    BodyDecl enclosingMemberDecl_value = getParent().Define_enclosingMemberDecl(this, null);
+    state().trace().computeEnd(this, "Expr.enclosingMemberDecl()", "", enclosingMemberDecl_value);
+    return enclosingMemberDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:86")
+  public boolean isLeftChildOfDot() {
+    state().trace().computeBegin(this, "Expr.isLeftChildOfDot()", "", "");
+    boolean isLeftChildOfDot_value = getParent().Define_isLeftChildOfDot(this, null);
+    state().trace().computeEnd(this, "Expr.isLeftChildOfDot()", "", isLeftChildOfDot_value);
+    return isLeftChildOfDot_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:101
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:101")
+  public boolean isRightChildOfDot() {
+    state().trace().computeBegin(this, "Expr.isRightChildOfDot()", "", "");
+    boolean isRightChildOfDot_value = getParent().Define_isRightChildOfDot(this, null);
+    state().trace().computeEnd(this, "Expr.isRightChildOfDot()", "", isRightChildOfDot_value);
+    return isRightChildOfDot_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:118
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:118")
+  public Expr prevExpr() {
+    state().trace().computeBegin(this, "Expr.prevExpr()", "", "");
+    Expr prevExpr_value = getParent().Define_prevExpr(this, null);
+    state().trace().computeEnd(this, "Expr.prevExpr()", "", prevExpr_value);
+    return prevExpr_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:142
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="QualifiedNames", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:142")
+  public Access nextAccess() {
+    state().trace().computeBegin(this, "Expr.nextAccess()", "", "");
+    Access nextAccess_value = getParent().Define_nextAccess(this, null);
+    state().trace().computeEnd(this, "Expr.nextAccess()", "", nextAccess_value);
+    return nextAccess_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:36")
+  public NameType nameType() {
+    state().trace().computeBegin(this, "Expr.nameType()", "", "");
+    NameType nameType_value = getParent().Define_nameType(this, null);
+    state().trace().computeEnd(this, "Expr.nameType()", "", nameType_value);
+    return nameType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:610
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:610")
+  public BodyDecl enclosingBodyDecl() {
+    state().trace().computeBegin(this, "Expr.enclosingBodyDecl()", "", "");
+    BodyDecl enclosingBodyDecl_value = getParent().Define_enclosingBodyDecl(this, null);
+    state().trace().computeEnd(this, "Expr.enclosingBodyDecl()", "", enclosingBodyDecl_value);
+    return enclosingBodyDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:679
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:679")
+  public String hostPackage() {
+    state().trace().computeBegin(this, "Expr.hostPackage()", "", "");
+    String hostPackage_value = getParent().Define_hostPackage(this, null);
+    state().trace().computeEnd(this, "Expr.hostPackage()", "", hostPackage_value);
+    return hostPackage_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:695
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:695")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "Expr.hostType()", "", "");
+    TypeDecl hostType_value = getParent().Define_hostType(this, null);
+    state().trace().computeEnd(this, "Expr.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:33")
+  public String methodHost() {
+    state().trace().computeBegin(this, "Expr.methodHost()", "", "");
+    String methodHost_value = getParent().Define_methodHost(this, null);
+    state().trace().computeEnd(this, "Expr.methodHost()", "", methodHost_value);
+    return methodHost_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:223
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:223")
+  public boolean inStaticContext() {
+    state().trace().computeBegin(this, "Expr.inStaticContext()", "", "");
+    boolean inStaticContext_value = getParent().Define_inStaticContext(this, null);
+    state().trace().computeEnd(this, "Expr.inStaticContext()", "", inStaticContext_value);
+    return inStaticContext_value;
+  }
+  /**
+   * Used to decide for which sub-expressions to create a new StringBuilder
+   * to perform string concatentations.
+   * @attribute inh
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1116
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1116")
+  public boolean inStringAdd() {
+    state().trace().computeBegin(this, "Expr.inStringAdd()", "", "");
+    boolean inStringAdd_value = getParent().Define_inStringAdd(this, null);
+    state().trace().computeEnd(this, "Expr.inStringAdd()", "", inStringAdd_value);
+    return inStringAdd_value;
+  }
+  /**
+   * The assign converted type is used in type inference to get the
+   * target type of an inferred method invocation.
+   * 
+   * Returns the null type if there is no target type.
+   * @attribute inh
+   * @aspect AssignConvertedType
+   * @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="AssignConvertedType", declaredAt="/root/project/java5/frontend/AssignConvertedType.jrag:39")
+  public TypeDecl assignConvertedType() {
+    state().trace().computeBegin(this, "Expr.assignConvertedType()", "", "");
+    TypeDecl assignConvertedType_value = getParent().Define_assignConvertedType(this, null);
+    state().trace().computeEnd(this, "Expr.assignConvertedType()", "", assignConvertedType_value);
+    return assignConvertedType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect AssignConvertedType
+   * @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:63
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="AssignConvertedType", declaredAt="/root/project/java5/frontend/AssignConvertedType.jrag:63")
+  public TypeDecl typeObject() {
+    state().trace().computeBegin(this, "Expr.typeObject()", "", "");
+    TypeDecl typeObject_value = getParent().Define_typeObject(this, null);
+    state().trace().computeEnd(this, "Expr.typeObject()", "", typeObject_value);
+    return typeObject_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect GenericsTypeAnalysis
+   * @declaredat /root/project/java5/frontend/Generics.jrag:383
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="GenericsTypeAnalysis", declaredAt="/root/project/java5/frontend/Generics.jrag:383")
+  public boolean inExtendsOrImplements() {
+    state().trace().computeBegin(this, "Expr.inExtendsOrImplements()", "", "");
+    boolean inExtendsOrImplements_value = getParent().Define_inExtendsOrImplements(this, null);
+    state().trace().computeEnd(this, "Expr.inExtendsOrImplements()", "", inExtendsOrImplements_value);
+    return inExtendsOrImplements_value;
+  }
+  /**
+   * @return the directly enclosing block of this statement.
+   * @attribute inh
+   * @aspect MethodSignature15
+   * @declaredat /root/project/java5/frontend/MethodSignature.jrag:522
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="MethodSignature15", declaredAt="/root/project/java5/frontend/MethodSignature.jrag:522")
+  public Block enclosingBlock() {
+    state().trace().computeBegin(this, "Expr.enclosingBlock()", "", "");
+    Block enclosingBlock_value = getParent().Define_enclosingBlock(this, null);
+    state().trace().computeEnd(this, "Expr.enclosingBlock()", "", enclosingBlock_value);
+    return enclosingBlock_value;
+  }
+  /**
+   * Computes the target type of this expression.
+   * 
+   * <p>The target type depends on the context of the expression and is used for
+   * inferring type parameters and finding functional interfaces for lambda expressions.
+   * 
+   * <p>Returns the null type if there is no target type.
+   * @attribute inh
+   * @aspect TargetType
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TargetType", declaredAt="/root/project/java8/frontend/TargetType.jrag:44")
+  public TypeDecl targetType() {
+    ASTState state = state();
+    if (targetType_computed == ASTState.NON_CYCLE || targetType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.targetType()", "", targetType_value);
+      return targetType_value;
+    }
+    state().trace().computeBegin(this, "Expr.targetType()", "", "");
+    targetType_value = getParent().Define_targetType(this, null);
+    state().trace().computeEnd(this, "Expr.targetType()", "", targetType_value);
+    if (state().inCircle()) {
+      targetType_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.targetType()", "", targetType_value);
+    } else {
+      targetType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.targetType()", "", targetType_value);
+    }
+    return targetType_value;
+  }
+  /** @apilevel internal */
+  private void targetType_reset() {
+    targetType_computed = null;
+    targetType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle targetType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl targetType_value;
+
+  /**
+   * @attribute inh
+   * @aspect Contexts
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Contexts", declaredAt="/root/project/java8/frontend/TargetType.jrag:252")
+  public boolean assignmentContext() {
+    ASTState state = state();
+    if (assignmentContext_computed == ASTState.NON_CYCLE || assignmentContext_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.assignmentContext()", "", assignmentContext_value);
+      return assignmentContext_value;
+    }
+    state().trace().computeBegin(this, "Expr.assignmentContext()", "", "");
+    assignmentContext_value = getParent().Define_assignmentContext(this, null);
+    state().trace().computeEnd(this, "Expr.assignmentContext()", "", assignmentContext_value);
+    if (state().inCircle()) {
+      assignmentContext_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.assignmentContext()", "", assignmentContext_value);
+    } else {
+      assignmentContext_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.assignmentContext()", "", assignmentContext_value);
+    }
+    return assignmentContext_value;
+  }
+  /** @apilevel internal */
+  private void assignmentContext_reset() {
+    assignmentContext_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle assignmentContext_computed = null;
+
+  /** @apilevel internal */
+  protected boolean assignmentContext_value;
+
+  /**
+   * @attribute inh
+   * @aspect Contexts
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Contexts", declaredAt="/root/project/java8/frontend/TargetType.jrag:253")
+  public boolean invocationContext() {
+    ASTState state = state();
+    if (invocationContext_computed == ASTState.NON_CYCLE || invocationContext_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.invocationContext()", "", invocationContext_value);
+      return invocationContext_value;
+    }
+    state().trace().computeBegin(this, "Expr.invocationContext()", "", "");
+    invocationContext_value = getParent().Define_invocationContext(this, null);
+    state().trace().computeEnd(this, "Expr.invocationContext()", "", invocationContext_value);
+    if (state().inCircle()) {
+      invocationContext_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.invocationContext()", "", invocationContext_value);
+    } else {
+      invocationContext_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.invocationContext()", "", invocationContext_value);
+    }
+    return invocationContext_value;
+  }
+  /** @apilevel internal */
+  private void invocationContext_reset() {
+    invocationContext_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle invocationContext_computed = null;
+
+  /** @apilevel internal */
+  protected boolean invocationContext_value;
+
+  /**
+   * @attribute inh
+   * @aspect Contexts
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Contexts", declaredAt="/root/project/java8/frontend/TargetType.jrag:254")
+  public boolean castContext() {
+    ASTState state = state();
+    if (castContext_computed == ASTState.NON_CYCLE || castContext_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.castContext()", "", castContext_value);
+      return castContext_value;
+    }
+    state().trace().computeBegin(this, "Expr.castContext()", "", "");
+    castContext_value = getParent().Define_castContext(this, null);
+    state().trace().computeEnd(this, "Expr.castContext()", "", castContext_value);
+    if (state().inCircle()) {
+      castContext_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.castContext()", "", castContext_value);
+    } else {
+      castContext_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.castContext()", "", castContext_value);
+    }
+    return castContext_value;
+  }
+  /** @apilevel internal */
+  private void castContext_reset() {
+    castContext_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle castContext_computed = null;
+
+  /** @apilevel internal */
+  protected boolean castContext_value;
+
+  /**
+   * @attribute inh
+   * @aspect Contexts
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Contexts", declaredAt="/root/project/java8/frontend/TargetType.jrag:255")
+  public boolean stringContext() {
+    ASTState state = state();
+    if (stringContext_computed == ASTState.NON_CYCLE || stringContext_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.stringContext()", "", stringContext_value);
+      return stringContext_value;
+    }
+    state().trace().computeBegin(this, "Expr.stringContext()", "", "");
+    stringContext_value = getParent().Define_stringContext(this, null);
+    state().trace().computeEnd(this, "Expr.stringContext()", "", stringContext_value);
+    if (state().inCircle()) {
+      stringContext_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.stringContext()", "", stringContext_value);
+    } else {
+      stringContext_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.stringContext()", "", stringContext_value);
+    }
+    return stringContext_value;
+  }
+  /** @apilevel internal */
+  private void stringContext_reset() {
+    stringContext_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle stringContext_computed = null;
+
+  /** @apilevel internal */
+  protected boolean stringContext_value;
+
+  /**
+   * @attribute inh
+   * @aspect Contexts
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Contexts", declaredAt="/root/project/java8/frontend/TargetType.jrag:256")
+  public boolean numericContext() {
+    ASTState state = state();
+    if (numericContext_computed == ASTState.NON_CYCLE || numericContext_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.numericContext()", "", numericContext_value);
+      return numericContext_value;
+    }
+    state().trace().computeBegin(this, "Expr.numericContext()", "", "");
+    numericContext_value = getParent().Define_numericContext(this, null);
+    state().trace().computeEnd(this, "Expr.numericContext()", "", numericContext_value);
+    if (state().inCircle()) {
+      numericContext_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.numericContext()", "", numericContext_value);
+    } else {
+      numericContext_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.numericContext()", "", numericContext_value);
+    }
+    return numericContext_value;
+  }
+  /** @apilevel internal */
+  private void numericContext_reset() {
+    numericContext_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle numericContext_computed = null;
+
+  /** @apilevel internal */
+  protected boolean numericContext_value;
+
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:86
+   * @apilevel internal
+   */
+  public boolean Define_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:101
+   * @apilevel internal
+   */
+  public boolean Define_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:118
+   * @apilevel internal
+   */
+  public Expr Define_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return prevExprError();
+  }
+  protected boolean canDefine_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:142
+   * @apilevel internal
+   */
+  public Access Define_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return nextAccessError();
+  }
+  protected boolean canDefine_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1116
+   * @apilevel internal
+   */
+  public boolean Define_inStringAdd(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inStringAdd(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,531 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java8/grammar/Lambda.ast:13
+ * @production ExprLambdaBody : {@link LambdaBody} ::= <span class="component">{@link Expr}</span>;
+
+ */
+public class ExprLambdaBody extends LambdaBody implements Cloneable {
+  /**
+   * @aspect LambdaToClass
+   * @declaredat /root/project/java8/frontend/LambdaAnonymousDecl.jrag:92
+   */
+  protected Block toBlock() {
+    List<Stmt> stmtList = new List<Stmt>();
+    Expr expr = getExpr().treeCopyNoTransform();
+    boolean voidType;
+    FunctionDescriptor fd = enclosingLambda().targetInterface().functionDescriptor();
+    if (fd.method.hasValue()) {
+      voidType = fd.method.get().type().isVoid();
+    } else {
+      voidType = false;
+    }
+    if (voidType) {
+      // Return type is void: insert ExprStmt in list.
+      stmtList.add(new ExprStmt(expr));
+    } else {
+      // Otherwise, insert return statement.
+      stmtList.add(new ReturnStmt(expr));
+    }
+    return new Block(stmtList);
+  }
+  /**
+   * @aspect Java8PrettyPrint
+   * @declaredat /root/project/java8/frontend/PrettyPrint.jadd:67
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getExpr());
+  }
+  /**
+   * @aspect PrettyPrintUtil8
+   * @declaredat /root/project/java8/frontend/PrettyPrintUtil.jadd:75
+   */
+  @Override public String toString() {
+    return getExprNoTransform().toString();
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ExprLambdaBody() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ExprLambdaBody(Expr p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    isBlockBody_reset();
+    isExprBody_reset();
+    congruentTo_FunctionDescriptor_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:34
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public ExprLambdaBody clone() throws CloneNotSupportedException {
+    ExprLambdaBody node = (ExprLambdaBody) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:43
+   */
+  public ExprLambdaBody copy() {
+    try {
+      ExprLambdaBody node = (ExprLambdaBody) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:62
+   */
+  @Deprecated
+  public ExprLambdaBody fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:72
+   */
+  public ExprLambdaBody treeCopyNoTransform() {
+    ExprLambdaBody tree = (ExprLambdaBody) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:92
+   */
+  public ExprLambdaBody treeCopy() {
+    ExprLambdaBody tree = (ExprLambdaBody) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:106
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Expr child.
+   * @param node The new node to replace the Expr child.
+   * @apilevel high-level
+   */
+  public void setExpr(Expr node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Expr child.
+   * @return The current node used as the Expr child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Expr")
+  public Expr getExpr() {
+    return (Expr) getChild(0);
+  }
+  /**
+   * Retrieves the Expr child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Expr child.
+   * @apilevel low-level
+   */
+  public Expr getExprNoTransform() {
+    return (Expr) getChildNoTransform(0);
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:43")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "LambdaBody.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = getExpr().modifiedInScope(var);
+    state().trace().computeEnd(this, "LambdaBody.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /** @apilevel internal */
+  private void isBlockBody_reset() {
+    isBlockBody_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isBlockBody_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isBlockBody_value;
+
+  /**
+   * @attribute syn
+   * @aspect LambdaBody
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:29
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaBody", declaredAt="/root/project/java8/frontend/LambdaBody.jrag:29")
+  public boolean isBlockBody() {
+    ASTState state = state();
+    if (isBlockBody_computed == ASTState.NON_CYCLE || isBlockBody_computed == state().cycle()) {
+      state().trace().cacheRead(this, "LambdaBody.isBlockBody()", "", isBlockBody_value);
+      return isBlockBody_value;
+    }
+    state().trace().computeBegin(this, "LambdaBody.isBlockBody()", "", "");
+    isBlockBody_value = false;
+    state().trace().computeEnd(this, "LambdaBody.isBlockBody()", "", isBlockBody_value);
+    if (state().inCircle()) {
+      isBlockBody_computed = state().cycle();
+      state().trace().cacheWrite(this, "LambdaBody.isBlockBody()", "", isBlockBody_value);
+    } else {
+      isBlockBody_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "LambdaBody.isBlockBody()", "", isBlockBody_value);
+    }
+    return isBlockBody_value;
+  }
+  /** @apilevel internal */
+  private void isExprBody_reset() {
+    isExprBody_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isExprBody_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isExprBody_value;
+
+  /**
+   * @attribute syn
+   * @aspect LambdaBody
+   * @declaredat /root/project/java8/frontend/LambdaBody.jrag:30
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaBody", declaredAt="/root/project/java8/frontend/LambdaBody.jrag:30")
+  public boolean isExprBody() {
+    ASTState state = state();
+    if (isExprBody_computed == ASTState.NON_CYCLE || isExprBody_computed == state().cycle()) {
+      state().trace().cacheRead(this, "LambdaBody.isExprBody()", "", isExprBody_value);
+      return isExprBody_value;
+    }
+    state().trace().computeBegin(this, "LambdaBody.isExprBody()", "", "");
+    isExprBody_value = true;
+    state().trace().computeEnd(this, "LambdaBody.isExprBody()", "", isExprBody_value);
+    if (state().inCircle()) {
+      isExprBody_computed = state().cycle();
+      state().trace().cacheWrite(this, "LambdaBody.isExprBody()", "", isExprBody_value);
+    } else {
+      isExprBody_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "LambdaBody.isExprBody()", "", isExprBody_value);
+    }
+    return isExprBody_value;
+  }
+  /** @apilevel internal */
+  private void congruentTo_FunctionDescriptor_reset() {
+    congruentTo_FunctionDescriptor_computed = new java.util.HashMap(4);
+    congruentTo_FunctionDescriptor_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map congruentTo_FunctionDescriptor_values;
+  /** @apilevel internal */
+  protected java.util.Map congruentTo_FunctionDescriptor_computed;
+  /**
+   * @attribute syn
+   * @aspect LambdaExpr
+   * @declaredat /root/project/java8/frontend/LambdaExpr.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaExpr", declaredAt="/root/project/java8/frontend/LambdaExpr.jrag:89")
+  public boolean congruentTo(FunctionDescriptor fd) {
+    Object _parameters = fd;
+    if (congruentTo_FunctionDescriptor_computed == null) congruentTo_FunctionDescriptor_computed = new java.util.HashMap(4);
+    if (congruentTo_FunctionDescriptor_values == null) congruentTo_FunctionDescriptor_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (congruentTo_FunctionDescriptor_values.containsKey(_parameters) && congruentTo_FunctionDescriptor_computed != null
+        && congruentTo_FunctionDescriptor_computed.containsKey(_parameters)
+        && (congruentTo_FunctionDescriptor_computed.get(_parameters) == ASTState.NON_CYCLE || congruentTo_FunctionDescriptor_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_values.get(_parameters));
+      return (Boolean) congruentTo_FunctionDescriptor_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, "");
+    boolean congruentTo_FunctionDescriptor_value = congruentTo_compute(fd);
+    state().trace().computeEnd(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    if (state().inCircle()) {
+      congruentTo_FunctionDescriptor_values.put(_parameters, congruentTo_FunctionDescriptor_value);
+      congruentTo_FunctionDescriptor_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    } else {
+      congruentTo_FunctionDescriptor_values.put(_parameters, congruentTo_FunctionDescriptor_value);
+      congruentTo_FunctionDescriptor_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "LambdaBody.congruentTo(FunctionDescriptor)", _parameters, congruentTo_FunctionDescriptor_value);
+    }
+    return congruentTo_FunctionDescriptor_value;
+  }
+  /** @apilevel internal */
+  private boolean congruentTo_compute(FunctionDescriptor fd) {
+      if (fd.method.hasValue()) {
+        if (fd.method.get().type().isVoid()) {
+          return getExpr().stmtCompatible();
+        } else {
+          return getExpr().assignConversionTo(fd.method.get().type());
+        }
+      } else {
+        return false;
+      }
+    }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   * @apilevel internal
+   */
+  public TypeDecl Define_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:144
+      {
+          TypeDecl decl = enclosingLambda().targetType();
+          if (decl.isNull()) {
+            return unknownType();
+          } else if (!(decl instanceof InterfaceDecl)) {
+            return unknownType();
+          } else {
+            InterfaceDecl iDecl = (InterfaceDecl) decl;
+            if (!iDecl.isFunctional()) {
+              return unknownType();
+            } else {
+              FunctionDescriptor fd = iDecl.functionDescriptor();
+              if (fd.method.hasValue()) {
+                return fd.method.get().type();
+              } else {
+                return unknownType();
+              }
+            }
+          }
+        }
+    }
+    else {
+      return getParent().Define_targetType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:264
+      return true;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:265
+      return false;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:266
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:267
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (getExprNoTransform() != null && _callerNode == getExpr()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:268
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
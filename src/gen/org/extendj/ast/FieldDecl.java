@@ -0,0 +1,1367 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:193
+ * @production FieldDecl : {@link MemberDecl} ::= <span class="component">{@link Modifiers}</span> <span class="component">TypeAccess:{@link Access}</span> <span class="component">Declarator:{@link FieldDeclarator}*</span>;
+
+ */
+public class FieldDecl extends MemberDecl implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:360
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    if (!isSynthetic()) {
+      if (hasDocComment()) {
+        out.print(docComment());
+      }
+      if (!out.isNewLine()) {
+        out.println();
+      }
+      out.print(getModifiers());
+      out.print(getTypeAccess());
+      out.print(" ");
+      out.join(getDeclarators(), new PrettyPrinter.Joiner() {
+        @Override
+        public void printSeparator(PrettyPrinter out) {
+          out.print(", ");
+        }
+      });
+      out.print(";");
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public FieldDecl() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[3];
+    setChild(new List(), 2);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public FieldDecl(Modifiers p0, Access p1, List<FieldDeclarator> p2) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+    setChild(p2, 2);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:20
+   */
+  protected int numChildren() {
+    return 3;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:26
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:30
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    assignedAfter_Variable_reset();
+    unassignedAfter_Variable_reset();
+    hasInit_reset();
+    usesTypeVariable_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public FieldDecl clone() throws CloneNotSupportedException {
+    FieldDecl node = (FieldDecl) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:47
+   */
+  public FieldDecl copy() {
+    try {
+      FieldDecl node = (FieldDecl) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:66
+   */
+  @Deprecated
+  public FieldDecl fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:76
+   */
+  public FieldDecl treeCopyNoTransform() {
+    FieldDecl tree = (FieldDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:96
+   */
+  public FieldDecl treeCopy() {
+    FieldDecl tree = (FieldDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:110
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the TypeAccess child.
+   * @param node The new node to replace the TypeAccess child.
+   * @apilevel high-level
+   */
+  public void setTypeAccess(Access node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * @return The current node used as the TypeAccess child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="TypeAccess")
+  public Access getTypeAccess() {
+    return (Access) getChild(1);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(1);
+  }
+  /**
+   * Replaces the Declarator list.
+   * @param list The new list node to be used as the Declarator list.
+   * @apilevel high-level
+   */
+  public void setDeclaratorList(List<FieldDeclarator> list) {
+    setChild(list, 2);
+  }
+  /**
+   * Retrieves the number of children in the Declarator list.
+   * @return Number of children in the Declarator list.
+   * @apilevel high-level
+   */
+  public int getNumDeclarator() {
+    return getDeclaratorList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Declarator list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Declarator list.
+   * @apilevel low-level
+   */
+  public int getNumDeclaratorNoTransform() {
+    return getDeclaratorListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Declarator list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Declarator list.
+   * @apilevel high-level
+   */
+  public FieldDeclarator getDeclarator(int i) {
+    return (FieldDeclarator) getDeclaratorList().getChild(i);
+  }
+  /**
+   * Check whether the Declarator list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasDeclarator() {
+    return getDeclaratorList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Declarator list.
+   * @param node The element to append to the Declarator list.
+   * @apilevel high-level
+   */
+  public void addDeclarator(FieldDeclarator node) {
+    List<FieldDeclarator> list = (parent == null) ? getDeclaratorListNoTransform() : getDeclaratorList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addDeclaratorNoTransform(FieldDeclarator node) {
+    List<FieldDeclarator> list = getDeclaratorListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Declarator list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setDeclarator(FieldDeclarator node, int i) {
+    List<FieldDeclarator> list = getDeclaratorList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Declarator list.
+   * @return The node representing the Declarator list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Declarator")
+  public List<FieldDeclarator> getDeclaratorList() {
+    List<FieldDeclarator> list = (List<FieldDeclarator>) getChild(2);
+    return list;
+  }
+  /**
+   * Retrieves the Declarator list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Declarator list.
+   * @apilevel low-level
+   */
+  public List<FieldDeclarator> getDeclaratorListNoTransform() {
+    return (List<FieldDeclarator>) getChildNoTransform(2);
+  }
+  /**
+   * @return the element at index {@code i} in the Declarator list without
+   * triggering rewrites.
+   */
+  public FieldDeclarator getDeclaratorNoTransform(int i) {
+    return (FieldDeclarator) getDeclaratorListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Declarator list.
+   * @return The node representing the Declarator list.
+   * @apilevel high-level
+   */
+  public List<FieldDeclarator> getDeclarators() {
+    return getDeclaratorList();
+  }
+  /**
+   * Retrieves the Declarator list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Declarator list.
+   * @apilevel low-level
+   */
+  public List<FieldDeclarator> getDeclaratorsNoTransform() {
+    return getDeclaratorListNoTransform();
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:358
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:358")
+  public boolean isConstant() {
+    state().trace().computeBegin(this, "MemberDecl.isConstant()", "", "");
+    try {
+        if (!isFinal()) {
+          return false;
+        }
+        for (FieldDeclarator decl : getDeclaratorList()) {
+          TypeDecl type = decl.type();
+          if (!decl.hasInit() || !decl.getInit().isConstant()
+              || !(decl.type() instanceof PrimitiveType || decl.type().isString())) {
+            return false;
+          }
+        }
+        return true;
+      }
+    finally {
+      state().trace().computeEnd(this, "MemberDecl.isConstant()", "", "");
+    }
+  }
+  /** @return {@code true} if the field declaration is inside this node. 
+   * @attribute syn
+   * @aspect DeclareBeforeUse
+   * @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DeclareBeforeUse", declaredAt="/root/project/java4/frontend/DeclareBeforeUse.jrag:46")
+  public boolean declaredIn(Variable decl) {
+    Object _parameters = decl;
+    state().trace().computeBegin(this, "BodyDecl.declaredIn(Variable)", _parameters, "");
+    try {
+        for (FieldDeclarator field : getDeclaratorList()) {
+          if (field == decl) {
+            return true;
+          }
+        }
+        return declaredBefore(decl);
+      }
+    finally {
+      state().trace().computeEnd(this, "BodyDecl.declaredIn(Variable)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void assignedAfter_Variable_reset() {
+    assignedAfter_Variable_values = null;
+  }
+  protected java.util.Map assignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:272")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    if (assignedAfter_Variable_values == null) assignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "BodyDecl.assignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "BodyDecl.assignedAfter(Variable)", _parameters, "");
+        new_assignedAfter_Variable_value = getDeclarator(getNumDeclarator() - 1).assignedAfter(v);
+        state().trace().computeEnd(this, "BodyDecl.assignedAfter(Variable)", _parameters, _value.value);
+        if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfter_Variable_values.put(_parameters, new_assignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "BodyDecl.assignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "BodyDecl.assignedAfter(Variable)", _parameters, "");
+      boolean new_assignedAfter_Variable_value = getDeclarator(getNumDeclarator() - 1).assignedAfter(v);
+      state().trace().computeEnd(this, "BodyDecl.assignedAfter(Variable)", _parameters, _value.value);
+      if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfter_Variable_value;
+      }
+      return new_assignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:911")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "BodyDecl.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "BodyDecl.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = getDeclarator(getNumDeclarator() - 1).unassignedAfter(v);
+        state().trace().computeEnd(this, "BodyDecl.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "BodyDecl.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "BodyDecl.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = getDeclarator(getNumDeclarator() - 1).unassignedAfter(v);
+      state().trace().computeEnd(this, "BodyDecl.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:128
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:128")
+  public Collection<Problem> modifierProblems() {
+    state().trace().computeBegin(this, "FieldDecl.modifierProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (hostType().isInterfaceDecl()) {
+          if (isProtected()) {
+            problems.add(error("an interface field may not be protected"));
+          }
+          if (isPrivate()) {
+            problems.add(error("an interface field may not be private"));
+          }
+          if (isTransient()) {
+            problems.add(error("an interface field may not be transient"));
+          }
+          if (isVolatile()) {
+            problems.add(error("an interface field may not be volatile"));
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "FieldDecl.modifierProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:247
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:247")
+  public boolean isSynthetic() {
+    state().trace().computeBegin(this, "BodyDecl.isSynthetic()", "", "");
+    boolean isSynthetic_value = getModifiers().isSynthetic();
+    state().trace().computeEnd(this, "BodyDecl.isSynthetic()", "", isSynthetic_value);
+    return isSynthetic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:282
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:282")
+  public boolean isPublic() {
+    state().trace().computeBegin(this, "FieldDecl.isPublic()", "", "");
+    boolean isPublic_value = getModifiers().isPublic() || hostType().isInterfaceDecl();
+    state().trace().computeEnd(this, "FieldDecl.isPublic()", "", isPublic_value);
+    return isPublic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:284
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:284")
+  public boolean isPrivate() {
+    state().trace().computeBegin(this, "FieldDecl.isPrivate()", "", "");
+    boolean isPrivate_value = getModifiers().isPrivate();
+    state().trace().computeEnd(this, "FieldDecl.isPrivate()", "", isPrivate_value);
+    return isPrivate_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:285
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:285")
+  public boolean isProtected() {
+    state().trace().computeBegin(this, "FieldDecl.isProtected()", "", "");
+    boolean isProtected_value = getModifiers().isProtected();
+    state().trace().computeEnd(this, "FieldDecl.isProtected()", "", isProtected_value);
+    return isProtected_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:286
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:286")
+  public boolean isStatic() {
+    state().trace().computeBegin(this, "FieldDecl.isStatic()", "", "");
+    boolean isStatic_value = getModifiers().isStatic() || hostType().isInterfaceDecl();
+    state().trace().computeEnd(this, "FieldDecl.isStatic()", "", isStatic_value);
+    return isStatic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:288
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:288")
+  public boolean isFinal() {
+    state().trace().computeBegin(this, "FieldDecl.isFinal()", "", "");
+    boolean isFinal_value = getModifiers().isFinal() || hostType().isInterfaceDecl();
+    state().trace().computeEnd(this, "FieldDecl.isFinal()", "", isFinal_value);
+    return isFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:289
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:289")
+  public boolean isTransient() {
+    state().trace().computeBegin(this, "FieldDecl.isTransient()", "", "");
+    boolean isTransient_value = getModifiers().isTransient();
+    state().trace().computeEnd(this, "FieldDecl.isTransient()", "", isTransient_value);
+    return isTransient_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:290
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:290")
+  public boolean isVolatile() {
+    state().trace().computeBegin(this, "FieldDecl.isVolatile()", "", "");
+    boolean isVolatile_value = getModifiers().isVolatile();
+    state().trace().computeEnd(this, "FieldDecl.isVolatile()", "", isVolatile_value);
+    return isVolatile_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:336
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PrettyPrintUtil", declaredAt="/root/project/java4/frontend/PrettyPrintUtil.jrag:336")
+  public boolean hasModifiers() {
+    state().trace().computeBegin(this, "FieldDecl.hasModifiers()", "", "");
+    boolean hasModifiers_value = getModifiers().getNumModifier() > 0;
+    state().trace().computeEnd(this, "FieldDecl.hasModifiers()", "", hasModifiers_value);
+    return hasModifiers_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:268")
+  public TypeDecl type() {
+    state().trace().computeBegin(this, "FieldDecl.type()", "", "");
+    TypeDecl type_value = getTypeAccess().type();
+    state().trace().computeEnd(this, "FieldDecl.type()", "", type_value);
+    return type_value;
+  }
+  /** @apilevel internal */
+  private void hasInit_reset() {
+    hasInit_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle hasInit_computed = null;
+
+  /** @apilevel internal */
+  protected boolean hasInit_value;
+
+  /**
+   * @return {@code true} if any of the contained field declarations has an
+   * initializer
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:64
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:64")
+  public boolean hasInit() {
+    ASTState state = state();
+    if (hasInit_computed == ASTState.NON_CYCLE || hasInit_computed == state().cycle()) {
+      state().trace().cacheRead(this, "FieldDecl.hasInit()", "", hasInit_value);
+      return hasInit_value;
+    }
+    state().trace().computeBegin(this, "FieldDecl.hasInit()", "", "");
+    hasInit_value = hasInit_compute();
+    state().trace().computeEnd(this, "FieldDecl.hasInit()", "", hasInit_value);
+    if (state().inCircle()) {
+      hasInit_computed = state().cycle();
+      state().trace().cacheWrite(this, "FieldDecl.hasInit()", "", hasInit_value);
+    } else {
+      hasInit_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "FieldDecl.hasInit()", "", hasInit_value);
+    }
+    return hasInit_value;
+  }
+  /** @apilevel internal */
+  private boolean hasInit_compute() {
+      for (FieldDeclarator decl : getDeclaratorList()) {
+        if (decl.hasInit()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  /**
+   * @return all fields declared in this body decl
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:401
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:401")
+  public Collection<FieldDeclarator> fieldDeclarations() {
+    state().trace().computeBegin(this, "BodyDecl.fieldDeclarations()", "", "");
+    try {
+        Collection<FieldDeclarator> fields = new ArrayList<FieldDeclarator>();
+        for (FieldDeclarator decl : getDeclaratorList()) {
+          fields.add(decl);
+        }
+        return fields;
+      }
+    finally {
+      state().trace().computeEnd(this, "BodyDecl.fieldDeclarations()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:475
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:475")
+  public boolean isField() {
+    state().trace().computeBegin(this, "BodyDecl.isField()", "", "");
+    boolean isField_value = true;
+    state().trace().computeEnd(this, "BodyDecl.isField()", "", isField_value);
+    return isField_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:48
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:48")
+  public boolean hasField(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "FieldDecl.hasField(String)", _parameters, "");
+    try {
+        for (FieldDeclarator decl : getDeclaratorList()) {
+          if (decl.name().equals(name)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "FieldDecl.hasField(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:425
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:425")
+  public boolean hasAnnotationSuppressWarnings(String annot) {
+    Object _parameters = annot;
+    state().trace().computeBegin(this, "BodyDecl.hasAnnotationSuppressWarnings(String)", _parameters, "");
+    boolean hasAnnotationSuppressWarnings_String_value = getModifiers().hasAnnotationSuppressWarnings(annot);
+    state().trace().computeEnd(this, "BodyDecl.hasAnnotationSuppressWarnings(String)", _parameters, hasAnnotationSuppressWarnings_String_value);
+    return hasAnnotationSuppressWarnings_String_value;
+  }
+  /** @apilevel internal */
+  private void usesTypeVariable_reset() {
+    usesTypeVariable_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle usesTypeVariable_computed = null;
+
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_value;
+
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1335
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1335")
+  public boolean usesTypeVariable() {
+    ASTState state = state();
+    if (usesTypeVariable_computed == ASTState.NON_CYCLE || usesTypeVariable_computed == state().cycle()) {
+      state().trace().cacheRead(this, "FieldDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      return usesTypeVariable_value;
+    }
+    state().trace().computeBegin(this, "FieldDecl.usesTypeVariable()", "", "");
+    usesTypeVariable_value = getTypeAccess().usesTypeVariable();
+    state().trace().computeEnd(this, "FieldDecl.usesTypeVariable()", "", usesTypeVariable_value);
+    if (state().inCircle()) {
+      usesTypeVariable_computed = state().cycle();
+      state().trace().cacheWrite(this, "FieldDecl.usesTypeVariable()", "", usesTypeVariable_value);
+    } else {
+      usesTypeVariable_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "FieldDecl.usesTypeVariable()", "", usesTypeVariable_value);
+    }
+    return usesTypeVariable_value;
+  }
+  /**
+   * Copies the signature of this body decl. The type and name and parameters
+   * are copied where applicable, but the body or initializer is not copied.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1436
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1436")
+  public BodyDecl signatureCopy() {
+    state().trace().computeBegin(this, "BodyDecl.signatureCopy()", "", "");
+    try {
+        List<FieldDeclarator> decls = new List<FieldDeclarator>();
+        for (FieldDeclarator decl : getDeclaratorList()) {
+          decls.add(decl.signatureCopy());
+        }
+        return new FieldDeclSubstituted(
+            getModifiers().treeCopyNoTransform(),
+            getTypeAccessNoTransform().treeCopyNoTransform(),
+            decls,
+            this);
+      }
+    finally {
+      state().trace().computeEnd(this, "BodyDecl.signatureCopy()", "", "");
+    }
+  }
+  /**
+   * Creates an erased copy of the signature of this body declaration.
+   * 
+   * <p>Occurrences of type variables are replaced by their type bound.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1538
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1538")
+  public BodyDecl erasedCopy() {
+    state().trace().computeBegin(this, "BodyDecl.erasedCopy()", "", "");
+    try {
+        List<FieldDeclarator> decls = new List<FieldDeclarator>();
+        for (FieldDeclarator decl : getDeclaratorList()) {
+          decls.add(decl.signatureCopy());
+        }
+        return new FieldDeclSubstituted(
+            getModifiers().treeCopyNoTransform(),
+            getTypeAccess().erasedCopy(),
+            decls,
+            this);
+      }
+    finally {
+      state().trace().computeEnd(this, "BodyDecl.erasedCopy()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1734
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1734")
+  public boolean isSubstitutable() {
+    state().trace().computeBegin(this, "BodyDecl.isSubstitutable()", "", "");
+    boolean isSubstitutable_value = !isStatic();
+    state().trace().computeEnd(this, "BodyDecl.isSubstitutable()", "", isSubstitutable_value);
+    return isSubstitutable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsParTypeDecl
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsParTypeDecl", declaredAt="/root/project/java5/frontend/GenericsParTypeDecl.jrag:100")
+  public boolean visibleTypeParameters() {
+    state().trace().computeBegin(this, "FieldDecl.visibleTypeParameters()", "", "");
+    boolean visibleTypeParameters_value = !isStatic();
+    state().trace().computeEnd(this, "FieldDecl.visibleTypeParameters()", "", visibleTypeParameters_value);
+    return visibleTypeParameters_value;
+  }
+  /**
+   * @return true if the modifier list includes the SafeVarargs annotation
+   * @attribute syn
+   * @aspect SafeVarargs
+   * @declaredat /root/project/java7/frontend/SafeVarargs.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SafeVarargs", declaredAt="/root/project/java7/frontend/SafeVarargs.jrag:41")
+  public boolean hasAnnotationSafeVarargs() {
+    state().trace().computeBegin(this, "BodyDecl.hasAnnotationSafeVarargs()", "", "");
+    boolean hasAnnotationSafeVarargs_value = getModifiers().hasAnnotationSafeVarargs();
+    state().trace().computeEnd(this, "BodyDecl.hasAnnotationSafeVarargs()", "", hasAnnotationSafeVarargs_value);
+    return hasAnnotationSafeVarargs_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect SuppressWarnings
+   * @declaredat /root/project/java7/frontend/SuppressWarnings.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SuppressWarnings", declaredAt="/root/project/java7/frontend/SuppressWarnings.jrag:43")
+  public boolean suppressWarnings(String type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "FieldDecl.suppressWarnings(String)", _parameters, "");
+    boolean suppressWarnings_String_value = hasAnnotationSuppressWarnings(type) || withinSuppressWarnings(type);
+    state().trace().computeEnd(this, "FieldDecl.suppressWarnings(String)", _parameters, suppressWarnings_String_value);
+    return suppressWarnings_String_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:58
+   * @apilevel internal
+   */
+  public boolean Define_declaredBefore(ASTNode _callerNode, ASTNode _childNode, Variable decl) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:62
+      int index = _callerNode.getIndexOfChild(_childNode);
+      {
+          for (int i = index - 1; i >= 0; --i) {
+            if (getDeclarator(i) == decl) {
+              return true;
+            }
+          }
+          return declaredBefore(decl);
+        }
+    }
+    else {
+      return getParent().Define_declaredBefore(this, _callerNode, decl);
+    }
+  }
+  protected boolean canDefine_declaredBefore(ASTNode _callerNode, ASTNode _childNode, Variable decl) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:66
+   * @apilevel internal
+   */
+  public boolean Define_isIncOrDec(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:71
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_isIncOrDec(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isIncOrDec(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:563
+      int index = _callerNode.getIndexOfChild(_childNode);
+      return index == 0 ? assignedBefore(v) : getDeclarator(index - 1).assignedAfter(v);
+    }
+    else {
+      return super.Define_assignedBefore(_callerNode, _childNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1170
+      int index = _callerNode.getIndexOfChild(_childNode);
+      return index == 0 ? unassignedBefore(v) : getDeclarator(index - 1).unassignedAfter(v);
+    }
+    else {
+      return super.Define_unassignedBefore(_callerNode, _childNode, v);
+    }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/TryWithResources.jrag:112
+   * @apilevel internal
+   */
+  public boolean Define_handlesException(ASTNode _callerNode, ASTNode _childNode, TypeDecl exceptionType) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        if (hostType().isAnonymous()) {
+          return true;
+        }
+        for (ConstructorDecl decl : hostType().constructors()) {
+          if (!decl.throwsException(exceptionType)) {
+            return false;
+          }
+        }
+        return true;
+      }
+  }
+  protected boolean canDefine_handlesException(ASTNode _callerNode, ASTNode _childNode, TypeDecl exceptionType) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:430
+   * @apilevel internal
+   */
+  public boolean Define_mayBePublic(ASTNode _callerNode, ASTNode _childNode) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:312
+      return true;
+    }
+    else {
+      return getParent().Define_mayBePublic(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBePublic(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:432
+   * @apilevel internal
+   */
+  public boolean Define_mayBeProtected(ASTNode _callerNode, ASTNode _childNode) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:313
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeProtected(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeProtected(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:431
+   * @apilevel internal
+   */
+  public boolean Define_mayBePrivate(ASTNode _callerNode, ASTNode _childNode) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:314
+      return true;
+    }
+    else {
+      return getParent().Define_mayBePrivate(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBePrivate(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:433
+   * @apilevel internal
+   */
+  public boolean Define_mayBeStatic(ASTNode _callerNode, ASTNode _childNode) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:315
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeStatic(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeStatic(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:434
+   * @apilevel internal
+   */
+  public boolean Define_mayBeFinal(ASTNode _callerNode, ASTNode _childNode) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:316
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeFinal(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeFinal(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:437
+   * @apilevel internal
+   */
+  public boolean Define_mayBeTransient(ASTNode _callerNode, ASTNode _childNode) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:317
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeTransient(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeTransient(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:436
+   * @apilevel internal
+   */
+  public boolean Define_mayBeVolatile(ASTNode _callerNode, ASTNode _childNode) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:318
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeVolatile(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeVolatile(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:101
+      return NameType.TYPE_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:723
+   * @apilevel internal
+   */
+  public TypeDecl Define_declType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:278
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return null;
+    }
+    else {
+      return getParent().Define_declType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_declType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:223
+   * @apilevel internal
+   */
+  public boolean Define_inStaticContext(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return isStatic();
+  }
+  protected boolean canDefine_inStaticContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:133
+   * @apilevel internal
+   */
+  public Modifiers Define_declarationModifiers(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:137
+      int index = _callerNode.getIndexOfChild(_childNode);
+      return getModifiers();
+    }
+    else {
+      return getParent().Define_declarationModifiers(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_declarationModifiers(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:144
+   * @apilevel internal
+   */
+  public Access Define_declarationType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:148
+      int index = _callerNode.getIndexOfChild(_childNode);
+      return getTypeAccess();
+    }
+    else {
+      return getParent().Define_declarationType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_declarationType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:131
+   * @apilevel internal
+   */
+  public boolean Define_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java5/frontend/Annotations.jrag:145
+      return name.equals("FIELD");
+    }
+    else {
+      return getParent().Define_mayUseAnnotationTarget(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Enums.jrag:563
+   * @apilevel internal
+   */
+  public boolean Define_inEnumInitializer(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return !isStatic() && hostType().isEnumDecl();
+  }
+  protected boolean canDefine_inEnumInitializer(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1404
+   * @apilevel internal
+   */
+  public FieldDecl Define_fieldDecl(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Generics.jrag:1406
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return this;
+    }
+    else {
+      return getParent().Define_fieldDecl(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_fieldDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1663
+   * @apilevel internal
+   */
+  public FieldDeclarator Define_erasedField(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Generics.jrag:1665
+      int index = _callerNode.getIndexOfChild(_childNode);
+      return getDeclarator(index);
+    }
+    else {
+      return getParent().Define_erasedField(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_erasedField(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:30
+   * @apilevel internal
+   */
+  public boolean Define_inhModifiedInScope(ASTNode _callerNode, ASTNode _childNode, Variable var) {
+    if (_callerNode == getDeclaratorListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:58
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_inhModifiedInScope(this, _callerNode, var);
+    }
+  }
+  protected boolean canDefine_inhModifiedInScope(ASTNode _callerNode, ASTNode _childNode, Variable var) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/Modifiers.jrag:126
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : modifierProblems()) {
+      collection.add(value);
+    }
+  }
+}
@@ -0,0 +1,1404 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:201
+ * @production FieldDeclarator : {@link Declarator};
+
+ */
+public class FieldDeclarator extends Declarator implements Cloneable {
+  /** Create an access to this field. 
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:33
+   */
+  public Access createBoundAccess() {
+    if (isStatic()) {
+      return hostType().createQualifiedAccess().qualifiesAccess(new BoundFieldAccess(this));
+    } else {
+      return new ThisAccess().qualifiesAccess(new BoundFieldAccess(this));
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:596
+   */
+  public void refined_CreateBCode_FieldDeclarator_emitLoadVariable(CodeGeneration gen, Access access) {
+    access.createLoadQualifier(gen, this);
+    if (isConstant() && (type().isPrimitive() || type().isString())) {
+      if (!isStatic()) {
+        gen.POP(access.fieldQualifierType());
+      }
+      constant().createBCode(gen);
+    } else if (access.requiresAccessor()) {
+      access.fieldQualifierType().fieldAccessor(this).emitInvokeMethod(gen,
+          access.fieldQualifierType());
+    } else {
+      emitLoadField(gen, access.fieldQualifierType());
+    }
+  }
+  /**
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:385
+   */
+  protected Access createAccess() {
+    Access fieldAccess = new BoundFieldAccess(this);
+    return isStatic() ? fieldAccess : new VarAccess("that").qualifiesAccess(fieldAccess);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public FieldDeclarator() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[3];
+    setChild(new List(), 0);
+    setChild(new Opt(), 1);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public FieldDeclarator(String p0, List<Dims> p1, Opt<Expr> p2) {
+    setID(p0);
+    setChild(p1, 0);
+    setChild(p2, 1);
+  }
+  /**
+   * @declaredat ASTNode:20
+   */
+  public FieldDeclarator(beaver.Symbol p0, List<Dims> p1, Opt<Expr> p2) {
+    setID(p0);
+    setChild(p1, 0);
+    setChild(p2, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:26
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:32
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    accessibleFrom_TypeDecl_reset();
+    exceptions_reset();
+    assignedAfter_Variable_reset();
+    unassignedAfter_Variable_reset();
+    constant_reset();
+    attributes_reset();
+    flags_reset();
+    usesTypeVariable_reset();
+    isEffectivelyFinal_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:49
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:53
+   */
+  public FieldDeclarator clone() throws CloneNotSupportedException {
+    FieldDeclarator node = (FieldDeclarator) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:58
+   */
+  public FieldDeclarator copy() {
+    try {
+      FieldDeclarator node = (FieldDeclarator) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:77
+   */
+  @Deprecated
+  public FieldDeclarator fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:87
+   */
+  public FieldDeclarator treeCopyNoTransform() {
+    FieldDeclarator tree = (FieldDeclarator) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 2:
+          tree.children[i] = null;
+          continue;
+        }
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:112
+   */
+  public FieldDeclarator treeCopy() {
+    FieldDeclarator tree = (FieldDeclarator) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 2:
+          tree.children[i] = null;
+          continue;
+        }
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:131
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((FieldDeclarator) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the Dims list.
+   * @param list The new list node to be used as the Dims list.
+   * @apilevel high-level
+   */
+  public void setDimsList(List<Dims> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the Dims list.
+   * @return Number of children in the Dims list.
+   * @apilevel high-level
+   */
+  public int getNumDims() {
+    return getDimsList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Dims list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Dims list.
+   * @apilevel low-level
+   */
+  public int getNumDimsNoTransform() {
+    return getDimsListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Dims list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Dims list.
+   * @apilevel high-level
+   */
+  public Dims getDims(int i) {
+    return (Dims) getDimsList().getChild(i);
+  }
+  /**
+   * Check whether the Dims list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasDims() {
+    return getDimsList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Dims list.
+   * @param node The element to append to the Dims list.
+   * @apilevel high-level
+   */
+  public void addDims(Dims node) {
+    List<Dims> list = (parent == null) ? getDimsListNoTransform() : getDimsList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addDimsNoTransform(Dims node) {
+    List<Dims> list = getDimsListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Dims list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setDims(Dims node, int i) {
+    List<Dims> list = getDimsList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Dims list.
+   * @return The node representing the Dims list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Dims")
+  public List<Dims> getDimsList() {
+    List<Dims> list = (List<Dims>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the Dims list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Dims list.
+   * @apilevel low-level
+   */
+  public List<Dims> getDimsListNoTransform() {
+    return (List<Dims>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the Dims list without
+   * triggering rewrites.
+   */
+  public Dims getDimsNoTransform(int i) {
+    return (Dims) getDimsListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Dims list.
+   * @return The node representing the Dims list.
+   * @apilevel high-level
+   */
+  public List<Dims> getDimss() {
+    return getDimsList();
+  }
+  /**
+   * Retrieves the Dims list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Dims list.
+   * @apilevel low-level
+   */
+  public List<Dims> getDimssNoTransform() {
+    return getDimsListNoTransform();
+  }
+  /**
+   * Replaces the optional node for the Init child. This is the <code>Opt</code>
+   * node containing the child Init, not the actual child!
+   * @param opt The new node to be used as the optional node for the Init child.
+   * @apilevel low-level
+   */
+  public void setInitOpt(Opt<Expr> opt) {
+    setChild(opt, 1);
+  }
+  /**
+   * Replaces the (optional) Init child.
+   * @param node The new node to be used as the Init child.
+   * @apilevel high-level
+   */
+  public void setInit(Expr node) {
+    getInitOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional Init child exists.
+   * @return {@code true} if the optional Init child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasInit() {
+    return getInitOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) Init child.
+   * @return The Init child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Expr getInit() {
+    return (Expr) getInitOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the Init child. This is the <code>Opt</code> node containing the child Init, not the actual child!
+   * @return The optional node for child the Init child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="Init")
+  public Opt<Expr> getInitOpt() {
+    return (Opt<Expr>) getChild(1);
+  }
+  /**
+   * Retrieves the optional node for child Init. This is the <code>Opt</code> node containing the child Init, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child Init.
+   * @apilevel low-level
+   */
+  public Opt<Expr> getInitOptNoTransform() {
+    return (Opt<Expr>) getChildNoTransform(1);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(2);
+  }
+  /**
+   * Retrieves the child position of the optional child TypeAccess.
+   * @return The the child position of the optional child TypeAccess.
+   * @apilevel low-level
+   */
+  protected int getTypeAccessChildPosition() {
+    return 2;
+  }
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:110
+   */
+   
+  public void emitLoadVariable(CodeGeneration gen, Access access) {
+    if (erasedField() != this) {
+      erasedField().emitLoadVariable(gen, access);
+    } else {
+      refined_CreateBCode_FieldDeclarator_emitLoadVariable(gen, access);
+    }
+  }
+  /**
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:276
+   */
+  private Collection<Attribute> refined_Attributes_FieldDeclarator_attributes()
+{
+    Collection<Attribute> attributes = new ArrayList<Attribute>();
+    if (isFinal() && isConstant() && (type().isPrimitive() || type().isString())) {
+      attributes.add(new ConstantValueAttribute(hostType().constantPool(), this));
+    }
+    return attributes;
+  }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:39
+   */
+  private Collection<Attribute> refined_AnnotationsCodegen_FieldDeclarator_attributes()
+{
+    Collection<Attribute> attributes = refined_Attributes_FieldDeclarator_attributes();
+    getModifiers().addRuntimeVisibleAnnotationsAttribute(attributes);
+    getModifiers().addRuntimeInvisibleAnnotationsAttribute(attributes);
+    return attributes;
+  }
+  /** @apilevel internal */
+  private void accessibleFrom_TypeDecl_reset() {
+    accessibleFrom_TypeDecl_computed = new java.util.HashMap(4);
+    accessibleFrom_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map accessibleFrom_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map accessibleFrom_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect AccessControl
+   * @declaredat /root/project/java4/frontend/AccessControl.jrag:138
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessControl", declaredAt="/root/project/java4/frontend/AccessControl.jrag:138")
+  public boolean accessibleFrom(TypeDecl type) {
+    Object _parameters = type;
+    if (accessibleFrom_TypeDecl_computed == null) accessibleFrom_TypeDecl_computed = new java.util.HashMap(4);
+    if (accessibleFrom_TypeDecl_values == null) accessibleFrom_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (accessibleFrom_TypeDecl_values.containsKey(_parameters) && accessibleFrom_TypeDecl_computed != null
+        && accessibleFrom_TypeDecl_computed.containsKey(_parameters)
+        && (accessibleFrom_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || accessibleFrom_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "FieldDeclarator.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_values.get(_parameters));
+      return (Boolean) accessibleFrom_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "FieldDeclarator.accessibleFrom(TypeDecl)", _parameters, "");
+    boolean accessibleFrom_TypeDecl_value = accessibleFrom_compute(type);
+    state().trace().computeEnd(this, "FieldDeclarator.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    if (state().inCircle()) {
+      accessibleFrom_TypeDecl_values.put(_parameters, accessibleFrom_TypeDecl_value);
+      accessibleFrom_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "FieldDeclarator.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    } else {
+      accessibleFrom_TypeDecl_values.put(_parameters, accessibleFrom_TypeDecl_value);
+      accessibleFrom_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "FieldDeclarator.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    }
+    return accessibleFrom_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean accessibleFrom_compute(TypeDecl type) {
+      if (isPublic()) {
+        return true;
+      } else if (isProtected()) {
+        if (hostPackage().equals(type.hostPackage())) {
+          return true;
+        }
+        if (type.withinBodyThatSubclasses(hostType()) != null) {
+          return true;
+        }
+        return false;
+      } else if (isPrivate()) {
+        return hostType().topLevelType() == type.topLevelType();
+      } else {
+        return hostPackage().equals(type.hostPackage());
+      }
+    }
+  /** @apilevel internal */
+  private void exceptions_reset() {
+    exceptions_computed = null;
+    exceptions_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle exceptions_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<TypeDecl> exceptions_value;
+
+  /**
+   * Used in bytecode generation to generate the exception list for this field.
+   * @attribute syn
+   * @aspect AnonymousClasses
+   * @declaredat /root/project/java4/frontend/AnonymousClasses.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AnonymousClasses", declaredAt="/root/project/java4/frontend/AnonymousClasses.jrag:100")
+  public Collection<TypeDecl> exceptions() {
+    ASTState state = state();
+    if (exceptions_computed == ASTState.NON_CYCLE || exceptions_computed == state().cycle()) {
+      state().trace().cacheRead(this, "FieldDeclarator.exceptions()", "", exceptions_value);
+      return exceptions_value;
+    }
+    state().trace().computeBegin(this, "FieldDeclarator.exceptions()", "", "");
+    exceptions_value = exceptions_compute();
+    state().trace().computeEnd(this, "FieldDeclarator.exceptions()", "", exceptions_value);
+    if (state().inCircle()) {
+      exceptions_computed = state().cycle();
+      state().trace().cacheWrite(this, "FieldDeclarator.exceptions()", "", exceptions_value);
+    } else {
+      exceptions_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "FieldDeclarator.exceptions()", "", exceptions_value);
+    }
+    return exceptions_value;
+  }
+  /** @apilevel internal */
+  private Collection<TypeDecl> exceptions_compute() {
+      Collection<TypeDecl> exceptions = new HashSet<TypeDecl>();
+      if (isInstanceVariable() && hasInit()) {
+        collectExceptions(exceptions);
+      }
+      return exceptions;
+    }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:197
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:197")
+  public Collection<Problem> definiteAssignmentProblems() {
+    state().trace().computeBegin(this, "FieldDeclarator.definiteAssignmentProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (isBlank() && isFinal() && isClassVariable()) {
+          boolean found = false;
+          TypeDecl typeDecl = hostType();
+          for (int i = 0; i < typeDecl.getNumBodyDecl(); i++) {
+            if (typeDecl.getBodyDecl(i) instanceof StaticInitializer) {
+              StaticInitializer s = (StaticInitializer) typeDecl.getBodyDecl(i);
+              if (s.assignedAfter(this)) {
+                found = true;
+              }
+            } else if (typeDecl.getBodyDecl(i) instanceof FieldDecl) {
+              FieldDecl f = (FieldDecl) typeDecl.getBodyDecl(i);
+              if (f.isStatic() && f.assignedAfter(this)) {
+                found = true;
+              }
+            }
+          }
+          if (!found) {
+            problems.add(errorf("blank final class variable %s in %s is not definitely assigned "
+                + "in static initializer", name(), hostType().typeName()));
+          }
+        }
+        if (isBlank() && isFinal() && isInstanceVariable()) {
+          TypeDecl typeDecl = hostType();
+          boolean found = false;
+          for (int i = 0; !found && i < typeDecl.getNumBodyDecl(); i++) {
+            if (typeDecl.getBodyDecl(i) instanceof FieldDecl) {
+              FieldDecl f = (FieldDecl) typeDecl.getBodyDecl(i);
+              if (!f.isStatic() && f.assignedAfter(this)) {
+                found = true;
+              }
+            } else if (typeDecl.getBodyDecl(i) instanceof InstanceInitializer) {
+              InstanceInitializer ii = (InstanceInitializer) typeDecl.getBodyDecl(i);
+              if (ii.getBlock().assignedAfter(this)) {
+                found = true;
+              }
+            }
+          }
+          if (!found) {
+            for (ConstructorDecl cons : typeDecl.constructors()) {
+              if (!cons.assignedAfter(this)) {
+                problems.add(errorf(
+                    "blank final instance variable %s in %s is not definitely assigned after %s",
+                    name(), hostType().typeName(), cons.signature()));
+              }
+            }
+          }
+        }
+        if (isBlank() && hostType().isInterfaceDecl()) {
+          problems.add(errorf("variable  %s in %s which is an interface must have an initializer",
+              name(), hostType().typeName()));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "FieldDeclarator.definiteAssignmentProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void assignedAfter_Variable_reset() {
+    assignedAfter_Variable_values = null;
+  }
+  protected java.util.Map assignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:632")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    if (assignedAfter_Variable_values == null) assignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Declarator.assignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Declarator.assignedAfter(Variable)", _parameters, "");
+        new_assignedAfter_Variable_value = hasInit()
+              ? v == this || getInit().assignedAfter(v)
+              : assignedBefore(v);
+        state().trace().computeEnd(this, "Declarator.assignedAfter(Variable)", _parameters, _value.value);
+        if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfter_Variable_values.put(_parameters, new_assignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Declarator.assignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Declarator.assignedAfter(Variable)", _parameters, "");
+      boolean new_assignedAfter_Variable_value = hasInit()
+            ? v == this || getInit().assignedAfter(v)
+            : assignedBefore(v);
+      state().trace().computeEnd(this, "Declarator.assignedAfter(Variable)", _parameters, _value.value);
+      if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfter_Variable_value;
+      }
+      return new_assignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1181")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Declarator.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Declarator.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = hasInit()
+              ? v != this && getInit().unassignedAfter(v)
+              : v == this || unassignedBefore(v);
+        state().trace().computeEnd(this, "Declarator.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Declarator.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Declarator.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = hasInit()
+            ? v != this && getInit().unassignedAfter(v)
+            : v == this || unassignedBefore(v);
+      state().trace().computeEnd(this, "Declarator.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:273
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:273")
+  public boolean isPublic() {
+    state().trace().computeBegin(this, "Declarator.isPublic()", "", "");
+    boolean isPublic_value = getModifiers().isPublic() || hostType().isInterfaceDecl();
+    state().trace().computeEnd(this, "Declarator.isPublic()", "", isPublic_value);
+    return isPublic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:292
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:292")
+  public boolean isStatic() {
+    state().trace().computeBegin(this, "FieldDeclarator.isStatic()", "", "");
+    boolean isStatic_value = getModifiers().isStatic() || hostType().isInterfaceDecl();
+    state().trace().computeEnd(this, "FieldDeclarator.isStatic()", "", isStatic_value);
+    return isStatic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:294
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:294")
+  public boolean isFinal() {
+    state().trace().computeBegin(this, "FieldDeclarator.isFinal()", "", "");
+    boolean isFinal_value = getModifiers().isFinal() || hostType().isInterfaceDecl();
+    state().trace().computeEnd(this, "FieldDeclarator.isFinal()", "", isFinal_value);
+    return isFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:295")
+  public boolean isTransient() {
+    state().trace().computeBegin(this, "FieldDeclarator.isTransient()", "", "");
+    boolean isTransient_value = getModifiers().isTransient();
+    state().trace().computeEnd(this, "FieldDeclarator.isTransient()", "", isTransient_value);
+    return isTransient_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:296
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:296")
+  public boolean isVolatile() {
+    state().trace().computeBegin(this, "FieldDeclarator.isVolatile()", "", "");
+    boolean isVolatile_value = getModifiers().isVolatile();
+    state().trace().computeEnd(this, "FieldDeclarator.isVolatile()", "", isVolatile_value);
+    return isVolatile_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:430
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:430")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "FieldDeclarator.nameProblems()", "", "");
+    try {
+        // 8.3
+        for (Variable v : hostType().memberFields(name())) {
+          if (v != this && v.hostType() == hostType()) {
+            return Collections.singletonList(errorf("field named %s is multiply declared in type %s",
+                name(), hostType().typeName()));
+          }
+        }
+        return Collections.emptyList();
+      }
+    finally {
+      state().trace().computeEnd(this, "FieldDeclarator.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:51
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:51")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "FieldDeclarator.typeProblems()", "", "");
+    try {
+        if (hasInit()) {
+          TypeDecl source = getInit().type();
+          TypeDecl dest = type();
+          if (!source.assignConversionTo(dest, getInit())
+              && !getInit().type().isUnknown()) {
+            return Collections.singletonList(errorf(
+                "can not assign field %s of type %s a value of type %s",
+                name(), dest.typeName(), source.typeName()));
+          }
+        }
+        return Collections.emptyList();
+      }
+    finally {
+      state().trace().computeEnd(this, "FieldDeclarator.typeProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:55
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:55")
+  public boolean isParameter() {
+    state().trace().computeBegin(this, "FieldDeclarator.isParameter()", "", "");
+    boolean isParameter_value = false;
+    state().trace().computeEnd(this, "FieldDeclarator.isParameter()", "", isParameter_value);
+    return isParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:57
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:57")
+  public boolean isClassVariable() {
+    state().trace().computeBegin(this, "FieldDeclarator.isClassVariable()", "", "");
+    boolean isClassVariable_value = isStatic() || hostType().isInterfaceDecl();
+    state().trace().computeEnd(this, "FieldDeclarator.isClassVariable()", "", isClassVariable_value);
+    return isClassVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:58")
+  public boolean isInstanceVariable() {
+    state().trace().computeBegin(this, "FieldDeclarator.isInstanceVariable()", "", "");
+    boolean isInstanceVariable_value = (hostType().isClassDecl() || hostType().isAnonymous()) && !isStatic();
+    state().trace().computeEnd(this, "FieldDeclarator.isInstanceVariable()", "", isInstanceVariable_value);
+    return isInstanceVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:60")
+  public boolean isMethodParameter() {
+    state().trace().computeBegin(this, "FieldDeclarator.isMethodParameter()", "", "");
+    boolean isMethodParameter_value = false;
+    state().trace().computeEnd(this, "FieldDeclarator.isMethodParameter()", "", isMethodParameter_value);
+    return isMethodParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:61
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:61")
+  public boolean isConstructorParameter() {
+    state().trace().computeBegin(this, "FieldDeclarator.isConstructorParameter()", "", "");
+    boolean isConstructorParameter_value = false;
+    state().trace().computeEnd(this, "FieldDeclarator.isConstructorParameter()", "", isConstructorParameter_value);
+    return isConstructorParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:62
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:62")
+  public boolean isExceptionHandlerParameter() {
+    state().trace().computeBegin(this, "FieldDeclarator.isExceptionHandlerParameter()", "", "");
+    boolean isExceptionHandlerParameter_value = false;
+    state().trace().computeEnd(this, "FieldDeclarator.isExceptionHandlerParameter()", "", isExceptionHandlerParameter_value);
+    return isExceptionHandlerParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:63
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:63")
+  public boolean isLocalVariable() {
+    state().trace().computeBegin(this, "FieldDeclarator.isLocalVariable()", "", "");
+    boolean isLocalVariable_value = false;
+    state().trace().computeEnd(this, "FieldDeclarator.isLocalVariable()", "", isLocalVariable_value);
+    return isLocalVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:64
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:64")
+  public boolean isField() {
+    state().trace().computeBegin(this, "FieldDeclarator.isField()", "", "");
+    boolean isField_value = true;
+    state().trace().computeEnd(this, "FieldDeclarator.isField()", "", isField_value);
+    return isField_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:66
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:66")
+  public boolean isBlank() {
+    state().trace().computeBegin(this, "FieldDeclarator.isBlank()", "", "");
+    boolean isBlank_value = !hasInit();
+    state().trace().computeEnd(this, "FieldDeclarator.isBlank()", "", isBlank_value);
+    return isBlank_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:68
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:68")
+  public String name() {
+    state().trace().computeBegin(this, "FieldDeclarator.name()", "", "");
+    String name_value = getID();
+    state().trace().computeEnd(this, "FieldDeclarator.name()", "", name_value);
+    return name_value;
+  }
+  /** @apilevel internal */
+  private void constant_reset() {
+    constant_computed = null;
+    constant_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constant_computed = null;
+
+  /** @apilevel internal */
+  protected Constant constant_value;
+
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:69
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:69")
+  public Constant constant() {
+    ASTState state = state();
+    if (constant_computed == ASTState.NON_CYCLE || constant_computed == state().cycle()) {
+      state().trace().cacheRead(this, "FieldDeclarator.constant()", "", constant_value);
+      return constant_value;
+    }
+    state().trace().computeBegin(this, "FieldDeclarator.constant()", "", "");
+    constant_value = type().cast(getInit().constant());
+    state().trace().computeEnd(this, "FieldDeclarator.constant()", "", constant_value);
+    if (state().inCircle()) {
+      constant_computed = state().cycle();
+      state().trace().cacheWrite(this, "FieldDeclarator.constant()", "", constant_value);
+    } else {
+      constant_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "FieldDeclarator.constant()", "", constant_value);
+    }
+    return constant_value;
+  }
+  /** @apilevel internal */
+  private void attributes_reset() {
+    attributes_computed = null;
+    attributes_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle attributes_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<Attribute> attributes_value;
+
+  /**
+   * @attribute syn
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:276
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Attributes", declaredAt="/root/project/java4/backend/Attributes.jrag:276")
+  public Collection<Attribute> attributes() {
+    ASTState state = state();
+    if (attributes_computed == ASTState.NON_CYCLE || attributes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "FieldDeclarator.attributes()", "", attributes_value);
+      return attributes_value;
+    }
+    state().trace().computeBegin(this, "FieldDeclarator.attributes()", "", "");
+    attributes_value = attributes_compute();
+    state().trace().computeEnd(this, "FieldDeclarator.attributes()", "", attributes_value);
+    if (state().inCircle()) {
+      attributes_computed = state().cycle();
+      state().trace().cacheWrite(this, "FieldDeclarator.attributes()", "", attributes_value);
+    } else {
+      attributes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "FieldDeclarator.attributes()", "", attributes_value);
+    }
+    return attributes_value;
+  }
+  /** @apilevel internal */
+  private Collection<Attribute> attributes_compute() {
+      Collection<Attribute> attributes = refined_AnnotationsCodegen_FieldDeclarator_attributes();
+      if (needsSignatureAttribute()) {
+        attributes.add(new SignatureAttribute(hostType().constantPool(),
+            type().fieldTypeSignature()));
+      }
+      return attributes;
+    }
+  /** @apilevel internal */
+  private void flags_reset() {
+    flags_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle flags_computed = null;
+
+  /** @apilevel internal */
+  protected int flags_value;
+
+  /**
+   * @attribute syn
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:138
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Flags", declaredAt="/root/project/java4/backend/Flags.jrag:138")
+  public int flags() {
+    ASTState state = state();
+    if (flags_computed == ASTState.NON_CYCLE || flags_computed == state().cycle()) {
+      state().trace().cacheRead(this, "FieldDeclarator.flags()", "", flags_value);
+      return flags_value;
+    }
+    state().trace().computeBegin(this, "FieldDeclarator.flags()", "", "");
+    flags_value = flags_compute();
+    state().trace().computeEnd(this, "FieldDeclarator.flags()", "", flags_value);
+    if (state().inCircle()) {
+      flags_computed = state().cycle();
+      state().trace().cacheWrite(this, "FieldDeclarator.flags()", "", flags_value);
+    } else {
+      flags_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "FieldDeclarator.flags()", "", flags_value);
+    }
+    return flags_value;
+  }
+  /** @apilevel internal */
+  private int flags_compute() {
+      int res = 0;
+      if (isPublic()) {
+        res |= Modifiers.ACC_PUBLIC;
+      }
+      if (isPrivate()) {
+        res |= Modifiers.ACC_PRIVATE;
+      }
+      if (isProtected()) {
+        res |= Modifiers.ACC_PROTECTED;
+      }
+      if (isStatic()) {
+        res |= Modifiers.ACC_STATIC;
+      }
+      if (isFinal()) {
+        res |= Modifiers.ACC_FINAL;
+      }
+      if (isVolatile()) {
+        res |= Modifiers.ACC_VOLATILE;
+      }
+      if (isTransient()) {
+        res |= Modifiers.ACC_TRANSIENT;
+      }
+      if (isSynthetic()) {
+        res |= Modifiers.ACC_SYNTHETIC;
+      }
+      return res;
+    }
+  /** @apilevel internal */
+  private void usesTypeVariable_reset() {
+    usesTypeVariable_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle usesTypeVariable_computed = null;
+
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_value;
+
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1337
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1337")
+  public boolean usesTypeVariable() {
+    ASTState state = state();
+    if (usesTypeVariable_computed == ASTState.NON_CYCLE || usesTypeVariable_computed == state().cycle()) {
+      state().trace().cacheRead(this, "FieldDeclarator.usesTypeVariable()", "", usesTypeVariable_value);
+      return usesTypeVariable_value;
+    }
+    state().trace().computeBegin(this, "FieldDeclarator.usesTypeVariable()", "", "");
+    usesTypeVariable_value = getTypeAccess().usesTypeVariable();
+    state().trace().computeEnd(this, "FieldDeclarator.usesTypeVariable()", "", usesTypeVariable_value);
+    if (state().inCircle()) {
+      usesTypeVariable_computed = state().cycle();
+      state().trace().cacheWrite(this, "FieldDeclarator.usesTypeVariable()", "", usesTypeVariable_value);
+    } else {
+      usesTypeVariable_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "FieldDeclarator.usesTypeVariable()", "", usesTypeVariable_value);
+    }
+    return usesTypeVariable_value;
+  }
+  /**
+   * Copies the declarator without initializer.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1506
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1506")
+  public FieldDeclarator signatureCopy() {
+    state().trace().computeBegin(this, "FieldDeclarator.signatureCopy()", "", "");
+    try {
+        return new FieldDeclarator(getID(), getDimsList().treeCopyNoTransform(), new Opt<Expr>());
+      }
+    finally {
+      state().trace().computeEnd(this, "FieldDeclarator.signatureCopy()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:157
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:157")
+  public TypeDecl erasedType() {
+    state().trace().computeBegin(this, "Declarator.erasedType()", "", "");
+    TypeDecl erasedType_value = erasedField().type();
+    state().trace().computeEnd(this, "Declarator.erasedType()", "", erasedType_value);
+    return erasedType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:462
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:462")
+  public boolean needsSignatureAttribute() {
+    state().trace().computeBegin(this, "FieldDeclarator.needsSignatureAttribute()", "", "");
+    boolean needsSignatureAttribute_value = type().needsSignatureAttribute();
+    state().trace().computeEnd(this, "FieldDeclarator.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    return needsSignatureAttribute_value;
+  }
+  /** @apilevel internal */
+  private void isEffectivelyFinal_reset() {
+    isEffectivelyFinal_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isEffectivelyFinal_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isEffectivelyFinal_value;
+
+  /**
+   * @attribute syn
+   * @aspect EffectivelyFinal
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:139
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EffectivelyFinal", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:139")
+  public boolean isEffectivelyFinal() {
+    ASTState state = state();
+    if (isEffectivelyFinal_computed == ASTState.NON_CYCLE || isEffectivelyFinal_computed == state().cycle()) {
+      state().trace().cacheRead(this, "FieldDeclarator.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+      return isEffectivelyFinal_value;
+    }
+    state().trace().computeBegin(this, "FieldDeclarator.isEffectivelyFinal()", "", "");
+    isEffectivelyFinal_value = isFinal();
+    state().trace().computeEnd(this, "FieldDeclarator.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    if (state().inCircle()) {
+      isEffectivelyFinal_computed = state().cycle();
+      state().trace().cacheWrite(this, "FieldDeclarator.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    } else {
+      isEffectivelyFinal_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "FieldDeclarator.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    }
+    return isEffectivelyFinal_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1663
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1663")
+  public FieldDeclarator erasedField() {
+    state().trace().computeBegin(this, "FieldDeclarator.erasedField()", "", "");
+    FieldDeclarator erasedField_value = getParent().Define_erasedField(this, null);
+    state().trace().computeEnd(this, "FieldDeclarator.erasedField()", "", erasedField_value);
+    return erasedField_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getInitOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:368
+      return assignedBefore(v);
+    }
+    else {
+      return super.Define_assignedBefore(_callerNode, _childNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:195
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:428
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:49
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java7/frontend/UncheckedConversion.jrag:46
+    if (hasInit() && !suppressWarnings("unchecked")) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : definiteAssignmentProblems()) {
+      collection.add(value);
+    }
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+    if (hasInit() && !suppressWarnings("unchecked")) {
+      for (Problem value : uncheckedConversionWarnings(getInit().type(), type())) {
+        collection.add(value);
+      }
+    }
+  }
+}
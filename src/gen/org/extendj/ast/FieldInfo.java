@@ -0,0 +1,162 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect BytecodeDescriptor
+ * @declaredat /root/project/java5/frontend/BytecodeDescriptor.jrag:55
+ */
+ class FieldInfo extends java.lang.Object {
+  
+    private AbstractClassfileParser p;
+
+  
+    String name;
+
+  
+    int flags;
+
+  
+    private FieldDescriptor fieldDescriptor;
+
+  
+    private Attributes.FieldAttributes attributes;
+
+  
+
+    public FieldInfo(AbstractClassfileParser parser) throws IOException {
+      p = parser;
+      flags = p.u2();
+      if (AbstractClassfileParser.VERBOSE) {
+        p.print("Flags: " + flags);
+      }
+      int name_index = p.u2();
+      name = ((CONSTANT_Utf8_Info) p.constantPool[name_index]).string();
+
+      fieldDescriptor = new FieldDescriptor(p, name);
+      attributes = new Attributes.FieldAttributes(p);
+      if (attributes.isSynthetic()) {
+        flags |= Flags.ACC_SYNTHETIC;
+      }
+    }
+
+  
+
+    public BodyDecl bodyDecl() {
+      if ((flags & Flags.ACC_ENUM) != 0) {
+        EnumConstant constant = new EnumConstant(
+            AbstractClassfileParser.modifiers(flags),
+            name,
+            new List(),
+            new List());
+        if (attributes.constantValue() != null) {
+          if (fieldDescriptor.isBoolean()) {
+            constant.setInit(attributes.constantValue().exprAsBoolean());
+          } else {
+            constant.setInit(attributes.constantValue().expr());
+          }
+        }
+        if (attributes.annotations != null) {
+          for (Annotation annotation : attributes.annotations) {
+            constant.getModifiersNoTransform().addModifier(annotation);
+          }
+        }
+        return constant;
+      } else {
+        Signatures.FieldSignature s = attributes.fieldSignature;
+        Access type = s != null ? s.fieldTypeAccess() : fieldDescriptor.type();
+        FieldDeclarator decl = new FieldDeclarator(name, new List<Dims>(), new Opt<Expr>());
+        FieldDecl f = new FieldDecl(
+            AbstractClassfileParser.modifiers(flags),
+            type,
+            new List<FieldDeclarator>(decl));
+        if (attributes.constantValue() != null) {
+          if (fieldDescriptor.isBoolean()) {
+            decl.setInit(attributes.constantValue().exprAsBoolean());
+          } else {
+            decl.setInit(attributes.constantValue().expr());
+          }
+        }
+        if (attributes.annotations != null) {
+          for (Annotation annotation : attributes.annotations) {
+            f.getModifiersNoTransform().addModifier(annotation);
+          }
+        }
+        return f;
+      }
+    }
+
+  
+
+    public boolean isSynthetic() {
+      return (flags & Flags.ACC_SYNTHETIC) != 0;
+    }
+
+
+}
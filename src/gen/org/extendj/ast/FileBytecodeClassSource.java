@@ -0,0 +1,131 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect PathPart
+ * @declaredat /root/project/java4/frontend/PathPart.jadd:280
+ */
+public class FileBytecodeClassSource extends BytecodeClassSource {
+  
+    private final String filePath;
+
+  
+
+    /** Modification time of the class file when it was parsed. */
+    private long parsedLastModified = 0;
+
+  
+
+    public FileBytecodeClassSource(PathPart sourcePath, String path) {
+      super(sourcePath);
+      this.filePath = path;
+    }
+
+  
+
+    @Override
+    public CompilationUnit parseCompilationUnit(Program program) throws IOException {
+      parsedLastModified = lastModified();
+      return super.parseCompilationUnit(program);
+    }
+
+  
+
+    @Override
+    public boolean isModified() {
+      return parsedLastModified == 0 || lastModified() != parsedLastModified;
+    }
+
+  
+
+    @Override
+    public long lastModified() {
+      // last modification time computed only when needed
+      File file = new File(filePath);
+      return file.lastModified();
+    }
+
+  
+
+    @Override
+    public InputStream openInputStream() throws IOException {
+      File file = new File(filePath);
+      return new FileInputStream(file);
+    }
+
+  
+
+    @Override
+    public String pathName() {
+      return filePath;
+    }
+
+
+}
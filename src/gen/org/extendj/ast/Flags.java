@@ -0,0 +1,130 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast interface
+ * @aspect BytecodeSignatures
+ * @declaredat /root/project/java5/frontend/BytecodeSignatures.jrag:396
+ */
+public interface Flags {
+
+     
+    public int ACC_PUBLIC = 0x0001;
+
+     
+    public int ACC_PRIVATE = 0x0002;
+
+     
+    public int ACC_PROTECTED = 0x0004;
+
+     
+    public int ACC_STATIC = 0x0008;
+
+     
+    public int ACC_FINAL = 0x0010;
+
+     
+    public int ACC_SUPER = 0x0020;
+
+     
+    public int ACC_SYNCHRONIZED = 0x0020;
+
+     
+    public int ACC_VOLATILE = 0x0040;
+
+     
+    public int ACC_BRIDGE = 0x0040;
+
+     
+    public int ACC_TRANSIENT = 0x0080;
+
+     
+    public int ACC_VARARGS = 0x0080;
+
+     
+    public int ACC_NATIVE = 0x0100;
+
+     
+    public int ACC_INTERFACE = 0x0200;
+
+     
+    public int ACC_ABSTRACT = 0x0400;
+
+     
+    public int ACC_STRICT = 0x0800;
+
+     
+    public int ACC_SYNTHETIC = 0x1000;
+
+     
+    public int ACC_ANNOTATION = 0x2000;
+
+     
+    public int ACC_ENUM = 0x4000;
+}
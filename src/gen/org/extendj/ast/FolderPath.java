@@ -0,0 +1,250 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect PathPart
+ * @declaredat /root/project/java4/frontend/PathPart.jadd:464
+ */
+public abstract class FolderPath extends PathPart {
+  
+    /**
+     * The root folder of this path part.
+     */
+    private final File folder;
+
+  
+    private final String folderPath;
+
+  
+
+    /**
+     * Directory listings, indexed by package name.
+     */
+    private final ConcurrentMap<String, PackageListing> listings =
+        new ConcurrentHashMap<String, PackageListing>();
+
+  
+
+    protected FolderPath(String folderPath, boolean isSource) {
+      super(isSource);
+      this.folder = new File(folderPath);
+      this.folderPath = folderPath;
+    }
+
+  
+
+    protected FolderPath(File folder, boolean isSource) {
+      super(isSource);
+      this.folder = folder;
+      this.folderPath = folder.getPath();
+    }
+
+  
+
+    @Override
+    public String getPath() {
+      return folderPath;
+    }
+
+  
+
+    /**
+     * Check if the package exists as a subdirectory.
+     *
+     * <p>We need to use getCanonicalFile in order to get the case-sensitive
+     * package name on case-insensitive file systems or we might incorrectly
+     * report a package name conflict.
+     *
+     * <p>NB: This does not work well with symlinks!
+     *
+     * @param name The qualified name of the package
+     * @return {@code true} if the subdirectory matching the package exists
+     * and contains at least one source or class file.
+     */
+    @Override
+    public boolean hasPackage(String name) {
+      return listing(name).hasPackage;
+    }
+
+  
+
+    @Override
+    public ClassSource findSource(String name) {
+      int index = name.lastIndexOf('.');
+      String packageName = index == -1 ? "" : name.substring(0, index);
+      String fileName = name.substring(index + 1) + fileSuffix;
+      if (!listing(packageName).contains(fileName)) {
+        return ClassSource.NONE;
+      }
+      // The file is not checked again. A stale listing is discarded by revalidate().
+      String filePath = name.replace('.', File.separatorChar) + fileSuffix;
+      String pathName = new File(folder, filePath).getPath();
+      if (isSource) {
+        return new FileClassSource(this, pathName);
+      } else {
+        return new FileBytecodeClassSource(this, pathName);
+      }
+    }
+
+  
+
+    /**
+     * Discards the listings of package directories that have been modified,
+     * created, or removed since they were listed.
+     *
+     * @return {@code true} if any listing was discarded
+     */
+    public boolean revalidate() {
+      boolean modified = false;
+      for (Map.Entry<String, PackageListing> entry : listings.entrySet()) {
+        PackageListing listing = entry.getValue();
+        if (packageFolder(entry.getKey()).lastModified() != listing.lastModified) {
+          listings.remove(entry.getKey(), listing);
+          modified = true;
+        }
+      }
+      return modified;
+    }
+
+  
+
+    private File packageFolder(String packageName) {
+      return new File(folder, packageName.replace('.', File.separatorChar));
+    }
+
+  
+
+    private PackageListing listing(String packageName) {
+      PackageListing listing = listings.get(packageName);
+      if (listing == null) {
+        listing = listPackage(packageName);
+        PackageListing old = listings.putIfAbsent(packageName, listing);
+        if (old != null) {
+          listing = old;
+        }
+      }
+      return listing;
+    }
+
+  
+
+    /**
+     * Lists the files with the file suffix of this path part in a package
+     * directory.
+     */
+    private PackageListing listPackage(String packageName) {
+      File pkgFolder = packageFolder(packageName);
+      long lastModified = pkgFolder.lastModified();
+      String[] names = pkgFolder.list();
+      if (names == null) {
+        return new PackageListing(new String[0], false, lastModified);
+      }
+      int count = 0;
+      for (String name : names) {
+        if (name.endsWith(fileSuffix)) {
+          names[count++] = name;
+        }
+      }
+      names = Arrays.copyOf(names, count);
+      Arrays.sort(names);
+
+      boolean packageIsEmpty = true;
+      int index = packageName.lastIndexOf('.');
+      String basePackageName = packageName.substring(index == -1 ? 0 : index+1);
+      try {
+        // Make sure that there exists a directory with the same name
+        // (case-sensitive) as the requested package
+        File canonical = pkgFolder.getCanonicalFile();
+        if (packageName.isEmpty() || canonical.getName().equals(basePackageName)) {
+          for (String name : names) {
+            if (new File(pkgFolder, name).isFile()) {
+              // found one source file in the package
+              packageIsEmpty = false;
+              break;
+            }
+          }
+        }
+      } catch (Exception e) {
+        // If an exception is thrown then packageIsEmpty will be false
+        // which indicates that the package does not exist.
+        // The likely cause of the exception would be getCanonicalFile.
+      }
+      return new PackageListing(names, !packageIsEmpty, lastModified);
+    }
+
+  
+
+    @Override
+    public String toString() {
+      return folder.getPath();
+    }
+
+
+}
@@ -0,0 +1,1714 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:349
+ * @production ForStmt : {@link BranchTargetStmt} ::= <span class="component">InitStmt:{@link Stmt}*</span> <span class="component">[Condition:{@link Expr}]</span> <span class="component">UpdateStmt:{@link Stmt}*</span> <span class="component">{@link Stmt}</span>;
+
+ */
+public class ForStmt extends BranchTargetStmt implements Cloneable, VariableScope {
+  /**
+   * Manually implemented because it is too complex for a template.
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:204
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("for (");
+    if (getNumInitStmt() > 0) {
+      if (getInitStmt(0) instanceof ExprStmt) {
+        ExprStmt stmt = (ExprStmt) getInitStmt(0);
+        out.print(stmt.getExpr());
+        for (int i = 1; i < getNumInitStmt(); i++) {
+          out.print(", ");
+          stmt = (ExprStmt) getInitStmt(i);
+          out.print(stmt.getExpr());
+        }
+        out.print("; ");
+      } else {
+        out.print(getInitStmt(0));
+        out.print(" ");
+      }
+    } else {
+      out.print(" ; ");
+    }
+
+    if (hasCondition()) {
+      out.print(getCondition());
+    }
+    out.print("; ");
+
+    // Print update statements.
+    for (int i = 0; i < getNumUpdateStmt(); i++) {
+      if (i > 0) {
+        out.print(", ");
+      }
+      ExprStmt update = (ExprStmt) getUpdateStmt(i);
+      out.print(update.getExpr());
+    }
+
+    out.print(") ");
+    if (getStmt() instanceof Block) {
+      out.print(getStmt());
+    } else {
+      out.print("{");
+      out.println();
+      out.indent(1);
+      out.print(getStmt());
+      out.println();
+      out.print("}");
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1703
+   */
+  public void createBCode(CodeGeneration gen) {
+    super.createBCode(gen);
+    for (Stmt stmt : getInitStmtList()) {
+      stmt.createBCode(gen);
+    }
+    gen.addLabel(cond_label());
+    if (hasCondition() && !getCondition().isConstant()) {
+      getCondition().branchFalse(gen, end_label());
+    }
+    if (!hasCondition() || getCondition().canBeTrue()) {
+      gen.addLabel(begin_label());
+      getStmt().createBCode(gen);
+      gen.addLabel(update_label());
+      for (Stmt stmt : getUpdateStmtList()) {
+        stmt.createBCode(gen);
+      }
+      gen.GOTO(cond_label());
+    }
+    gen.addLabel(end_label());
+    gen.addVariableScopeLabel(variableScopeEndLabel(gen));
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ForStmt() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[4];
+    setChild(new List(), 0);
+    setChild(new Opt(), 1);
+    setChild(new List(), 2);
+  }
+  /**
+   * @declaredat ASTNode:16
+   */
+  public ForStmt(List<Stmt> p0, Opt<Expr> p1, List<Stmt> p2, Stmt p3) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+    setChild(p2, 2);
+    setChild(p3, 3);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:23
+   */
+  protected int numChildren() {
+    return 4;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:29
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    assignedAfter_Variable_reset();
+    unassignedAfter_Variable_reset();
+    unassignedAfterInit_Variable_reset();
+    unassignedBeforeCondition_Variable_reset();
+    unassignedAfterUpdate_Variable_reset();
+    localLookup_String_reset();
+    localVariableDeclaration_String_reset();
+    canCompleteNormally_reset();
+    variableScopeEndLabel_CodeGeneration_reset();
+    cond_label_reset();
+    begin_label_reset();
+    update_label_reset();
+    end_label_reset();
+    lookupVariable_String_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:51
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:55
+   */
+  public ForStmt clone() throws CloneNotSupportedException {
+    ForStmt node = (ForStmt) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:60
+   */
+  public ForStmt copy() {
+    try {
+      ForStmt node = (ForStmt) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:79
+   */
+  @Deprecated
+  public ForStmt fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:89
+   */
+  public ForStmt treeCopyNoTransform() {
+    ForStmt tree = (ForStmt) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:109
+   */
+  public ForStmt treeCopy() {
+    ForStmt tree = (ForStmt) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:123
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the InitStmt list.
+   * @param list The new list node to be used as the InitStmt list.
+   * @apilevel high-level
+   */
+  public void setInitStmtList(List<Stmt> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the InitStmt list.
+   * @return Number of children in the InitStmt list.
+   * @apilevel high-level
+   */
+  public int getNumInitStmt() {
+    return getInitStmtList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the InitStmt list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the InitStmt list.
+   * @apilevel low-level
+   */
+  public int getNumInitStmtNoTransform() {
+    return getInitStmtListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the InitStmt list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the InitStmt list.
+   * @apilevel high-level
+   */
+  public Stmt getInitStmt(int i) {
+    return (Stmt) getInitStmtList().getChild(i);
+  }
+  /**
+   * Check whether the InitStmt list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasInitStmt() {
+    return getInitStmtList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the InitStmt list.
+   * @param node The element to append to the InitStmt list.
+   * @apilevel high-level
+   */
+  public void addInitStmt(Stmt node) {
+    List<Stmt> list = (parent == null) ? getInitStmtListNoTransform() : getInitStmtList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addInitStmtNoTransform(Stmt node) {
+    List<Stmt> list = getInitStmtListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the InitStmt list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setInitStmt(Stmt node, int i) {
+    List<Stmt> list = getInitStmtList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the InitStmt list.
+   * @return The node representing the InitStmt list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="InitStmt")
+  public List<Stmt> getInitStmtList() {
+    List<Stmt> list = (List<Stmt>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the InitStmt list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the InitStmt list.
+   * @apilevel low-level
+   */
+  public List<Stmt> getInitStmtListNoTransform() {
+    return (List<Stmt>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the InitStmt list without
+   * triggering rewrites.
+   */
+  public Stmt getInitStmtNoTransform(int i) {
+    return (Stmt) getInitStmtListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the InitStmt list.
+   * @return The node representing the InitStmt list.
+   * @apilevel high-level
+   */
+  public List<Stmt> getInitStmts() {
+    return getInitStmtList();
+  }
+  /**
+   * Retrieves the InitStmt list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the InitStmt list.
+   * @apilevel low-level
+   */
+  public List<Stmt> getInitStmtsNoTransform() {
+    return getInitStmtListNoTransform();
+  }
+  /**
+   * Replaces the optional node for the Condition child. This is the <code>Opt</code>
+   * node containing the child Condition, not the actual child!
+   * @param opt The new node to be used as the optional node for the Condition child.
+   * @apilevel low-level
+   */
+  public void setConditionOpt(Opt<Expr> opt) {
+    setChild(opt, 1);
+  }
+  /**
+   * Replaces the (optional) Condition child.
+   * @param node The new node to be used as the Condition child.
+   * @apilevel high-level
+   */
+  public void setCondition(Expr node) {
+    getConditionOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional Condition child exists.
+   * @return {@code true} if the optional Condition child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasCondition() {
+    return getConditionOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) Condition child.
+   * @return The Condition child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Expr getCondition() {
+    return (Expr) getConditionOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the Condition child. This is the <code>Opt</code> node containing the child Condition, not the actual child!
+   * @return The optional node for child the Condition child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="Condition")
+  public Opt<Expr> getConditionOpt() {
+    return (Opt<Expr>) getChild(1);
+  }
+  /**
+   * Retrieves the optional node for child Condition. This is the <code>Opt</code> node containing the child Condition, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child Condition.
+   * @apilevel low-level
+   */
+  public Opt<Expr> getConditionOptNoTransform() {
+    return (Opt<Expr>) getChildNoTransform(1);
+  }
+  /**
+   * Replaces the UpdateStmt list.
+   * @param list The new list node to be used as the UpdateStmt list.
+   * @apilevel high-level
+   */
+  public void setUpdateStmtList(List<Stmt> list) {
+    setChild(list, 2);
+  }
+  /**
+   * Retrieves the number of children in the UpdateStmt list.
+   * @return Number of children in the UpdateStmt list.
+   * @apilevel high-level
+   */
+  public int getNumUpdateStmt() {
+    return getUpdateStmtList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the UpdateStmt list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the UpdateStmt list.
+   * @apilevel low-level
+   */
+  public int getNumUpdateStmtNoTransform() {
+    return getUpdateStmtListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the UpdateStmt list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the UpdateStmt list.
+   * @apilevel high-level
+   */
+  public Stmt getUpdateStmt(int i) {
+    return (Stmt) getUpdateStmtList().getChild(i);
+  }
+  /**
+   * Check whether the UpdateStmt list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasUpdateStmt() {
+    return getUpdateStmtList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the UpdateStmt list.
+   * @param node The element to append to the UpdateStmt list.
+   * @apilevel high-level
+   */
+  public void addUpdateStmt(Stmt node) {
+    List<Stmt> list = (parent == null) ? getUpdateStmtListNoTransform() : getUpdateStmtList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addUpdateStmtNoTransform(Stmt node) {
+    List<Stmt> list = getUpdateStmtListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the UpdateStmt list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setUpdateStmt(Stmt node, int i) {
+    List<Stmt> list = getUpdateStmtList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the UpdateStmt list.
+   * @return The node representing the UpdateStmt list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="UpdateStmt")
+  public List<Stmt> getUpdateStmtList() {
+    List<Stmt> list = (List<Stmt>) getChild(2);
+    return list;
+  }
+  /**
+   * Retrieves the UpdateStmt list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the UpdateStmt list.
+   * @apilevel low-level
+   */
+  public List<Stmt> getUpdateStmtListNoTransform() {
+    return (List<Stmt>) getChildNoTransform(2);
+  }
+  /**
+   * @return the element at index {@code i} in the UpdateStmt list without
+   * triggering rewrites.
+   */
+  public Stmt getUpdateStmtNoTransform(int i) {
+    return (Stmt) getUpdateStmtListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the UpdateStmt list.
+   * @return The node representing the UpdateStmt list.
+   * @apilevel high-level
+   */
+  public List<Stmt> getUpdateStmts() {
+    return getUpdateStmtList();
+  }
+  /**
+   * Retrieves the UpdateStmt list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the UpdateStmt list.
+   * @apilevel low-level
+   */
+  public List<Stmt> getUpdateStmtsNoTransform() {
+    return getUpdateStmtListNoTransform();
+  }
+  /**
+   * Replaces the Stmt child.
+   * @param node The new node to replace the Stmt child.
+   * @apilevel high-level
+   */
+  public void setStmt(Stmt node) {
+    setChild(node, 3);
+  }
+  /**
+   * Retrieves the Stmt child.
+   * @return The current node used as the Stmt child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Stmt")
+  public Stmt getStmt() {
+    return (Stmt) getChild(3);
+  }
+  /**
+   * Retrieves the Stmt child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Stmt child.
+   * @apilevel low-level
+   */
+  public Stmt getStmtNoTransform() {
+    return (Stmt) getChildNoTransform(3);
+  }
+  /**
+   * @return <code>true</code> if this statement is a potential
+   * branch target of the given branch statement.
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:215
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:215")
+  public boolean potentialTargetOf(Stmt branch) {
+    Object _parameters = branch;
+    state().trace().computeBegin(this, "BranchTargetStmt.potentialTargetOf(Stmt)", _parameters, "");
+    boolean potentialTargetOf_Stmt_value = branch.canBranchTo(this);
+    state().trace().computeEnd(this, "BranchTargetStmt.potentialTargetOf(Stmt)", _parameters, potentialTargetOf_Stmt_value);
+    return potentialTargetOf_Stmt_value;
+  }
+  /** @apilevel internal */
+  private void assignedAfter_Variable_reset() {
+    assignedAfter_Variable_values = null;
+  }
+  protected java.util.Map assignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:264")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    if (assignedAfter_Variable_values == null) assignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.assignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+        new_assignedAfter_Variable_value = assignedAfter_compute(v);
+        state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+        if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfter_Variable_values.put(_parameters, new_assignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+      boolean new_assignedAfter_Variable_value = assignedAfter_compute(v);
+      state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfter_Variable_value;
+      }
+      return new_assignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean assignedAfter_compute(Variable v) {
+      if (!(!hasCondition() || getCondition().assignedAfterFalse(v))) {
+        return false;
+      }
+      for (BreakStmt stmt : targetBreaks()) {
+        if (!stmt.assignedAfterReachedFinallyBlocks(v)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:798
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:798")
+  public boolean assignedAfterInitialization(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "ForStmt.assignedAfterInitialization(Variable)", _parameters, "");
+    boolean assignedAfterInitialization_Variable_value = getNumInitStmt() == 0
+          ? assignedBefore(v)
+          : getInitStmt(getNumInitStmt()-1).assignedAfter(v);
+    state().trace().computeEnd(this, "ForStmt.assignedAfterInitialization(Variable)", _parameters, assignedAfterInitialization_Variable_value);
+    return assignedAfterInitialization_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:895")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = unassignedAfter_compute(v);
+        state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = unassignedAfter_compute(v);
+      state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean unassignedAfter_compute(Variable v) {
+      if (!unassignedBeforeCondition(v)) { // Start a circular evaluation here.
+        return false;
+      }
+      if (!(!hasCondition() || getCondition().unassignedAfterFalse(v))) {
+        return false;
+      }
+      for (BreakStmt stmt : targetBreaks()) {
+        if (!stmt.unassignedAfterReachedFinallyBlocks(v)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void unassignedAfterInit_Variable_reset() {
+    unassignedAfterInit_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterInit_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1493")
+  public boolean unassignedAfterInit(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterInit_Variable_values == null) unassignedAfterInit_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterInit_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterInit_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ForStmt.unassignedAfterInit(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterInit_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterInit_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ForStmt.unassignedAfterInit(Variable)", _parameters, "");
+        new_unassignedAfterInit_Variable_value = getNumInitStmt() == 0
+              ? unassignedBefore(v)
+              : getInitStmt(getNumInitStmt()-1).unassignedAfter(v);
+        state().trace().computeEnd(this, "ForStmt.unassignedAfterInit(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterInit_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterInit_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterInit_Variable_values.put(_parameters, new_unassignedAfterInit_Variable_value);
+      state().trace().cacheWrite(this, "ForStmt.unassignedAfterInit(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterInit_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ForStmt.unassignedAfterInit(Variable)", _parameters, "");
+      boolean new_unassignedAfterInit_Variable_value = getNumInitStmt() == 0
+            ? unassignedBefore(v)
+            : getInitStmt(getNumInitStmt()-1).unassignedAfter(v);
+      state().trace().computeEnd(this, "ForStmt.unassignedAfterInit(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterInit_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterInit_Variable_value;
+      }
+      return new_unassignedAfterInit_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedBeforeCondition_Variable_reset() {
+    unassignedBeforeCondition_Variable_values = null;
+  }
+  protected java.util.Map unassignedBeforeCondition_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1499")
+  public boolean unassignedBeforeCondition(Variable v) {
+    Object _parameters = v;
+    if (unassignedBeforeCondition_Variable_values == null) unassignedBeforeCondition_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedBeforeCondition_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedBeforeCondition_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ForStmt.unassignedBeforeCondition(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedBeforeCondition_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedBeforeCondition_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ForStmt.unassignedBeforeCondition(Variable)", _parameters, "");
+        new_unassignedBeforeCondition_Variable_value = unassignedBeforeCondition_compute(v);
+        state().trace().computeEnd(this, "ForStmt.unassignedBeforeCondition(Variable)", _parameters, _value.value);
+        if (new_unassignedBeforeCondition_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedBeforeCondition_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedBeforeCondition_Variable_values.put(_parameters, new_unassignedBeforeCondition_Variable_value);
+      state().trace().cacheWrite(this, "ForStmt.unassignedBeforeCondition(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedBeforeCondition_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ForStmt.unassignedBeforeCondition(Variable)", _parameters, "");
+      boolean new_unassignedBeforeCondition_Variable_value = unassignedBeforeCondition_compute(v);
+      state().trace().computeEnd(this, "ForStmt.unassignedBeforeCondition(Variable)", _parameters, _value.value);
+      if (new_unassignedBeforeCondition_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedBeforeCondition_Variable_value;
+      }
+      return new_unassignedBeforeCondition_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean unassignedBeforeCondition_compute(Variable v) {
+      if (!unassignedAfterInit(v)) {
+        return false;
+      } else if (!unassignedAfterUpdate(v)) {
+        return false;
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void unassignedAfterUpdate_Variable_reset() {
+    unassignedAfterUpdate_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterUpdate_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1514")
+  public boolean unassignedAfterUpdate(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterUpdate_Variable_values == null) unassignedAfterUpdate_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterUpdate_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterUpdate_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ForStmt.unassignedAfterUpdate(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterUpdate_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterUpdate_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ForStmt.unassignedAfterUpdate(Variable)", _parameters, "");
+        new_unassignedAfterUpdate_Variable_value = unassignedAfterUpdate_compute(v);
+        state().trace().computeEnd(this, "ForStmt.unassignedAfterUpdate(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterUpdate_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterUpdate_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterUpdate_Variable_values.put(_parameters, new_unassignedAfterUpdate_Variable_value);
+      state().trace().cacheWrite(this, "ForStmt.unassignedAfterUpdate(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterUpdate_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ForStmt.unassignedAfterUpdate(Variable)", _parameters, "");
+      boolean new_unassignedAfterUpdate_Variable_value = unassignedAfterUpdate_compute(v);
+      state().trace().computeEnd(this, "ForStmt.unassignedAfterUpdate(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterUpdate_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterUpdate_Variable_value;
+      }
+      return new_unassignedAfterUpdate_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean unassignedAfterUpdate_compute(Variable v) {
+      if (!unassignedBeforeCondition(v)) { // Starts a circular evaluation here.
+        return false;
+      }
+      if (getNumUpdateStmt() > 0) {
+        return getUpdateStmt(getNumUpdateStmt() - 1).unassignedAfter(v);
+      }
+      if (!getStmt().unassignedAfter(v)) {
+        return false;
+      }
+      for (ContinueStmt stmt : targetContinues()) {
+        if (!stmt.unassignedAfterReachedFinallyBlocks(v)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void localLookup_String_reset() {
+    localLookup_String_computed = new java.util.HashMap(4);
+    localLookup_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map localLookup_String_values;
+  /** @apilevel internal */
+  protected java.util.Map localLookup_String_computed;
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:165
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:165")
+  public SimpleSet<Variable> localLookup(String name) {
+    Object _parameters = name;
+    if (localLookup_String_computed == null) localLookup_String_computed = new java.util.HashMap(4);
+    if (localLookup_String_values == null) localLookup_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (localLookup_String_values.containsKey(_parameters) && localLookup_String_computed != null
+        && localLookup_String_computed.containsKey(_parameters)
+        && (localLookup_String_computed.get(_parameters) == ASTState.NON_CYCLE || localLookup_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ForStmt.localLookup(String)", _parameters, localLookup_String_values.get(_parameters));
+      return (SimpleSet<Variable>) localLookup_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ForStmt.localLookup(String)", _parameters, "");
+    SimpleSet<Variable> localLookup_String_value = localLookup_compute(name);
+    state().trace().computeEnd(this, "ForStmt.localLookup(String)", _parameters, localLookup_String_value);
+    if (state().inCircle()) {
+      localLookup_String_values.put(_parameters, localLookup_String_value);
+      localLookup_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ForStmt.localLookup(String)", _parameters, localLookup_String_value);
+    } else {
+      localLookup_String_values.put(_parameters, localLookup_String_value);
+      localLookup_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ForStmt.localLookup(String)", _parameters, localLookup_String_value);
+    }
+    return localLookup_String_value;
+  }
+  /** @apilevel internal */
+  private SimpleSet<Variable> localLookup_compute(String name) {
+      VariableDeclarator v = localVariableDeclaration(name);
+      if (v != null) {
+        return v;
+      }
+      return lookupVariable(name);
+    }
+  /** @apilevel internal */
+  private void localVariableDeclaration_String_reset() {
+    localVariableDeclaration_String_computed = new java.util.HashMap(4);
+    localVariableDeclaration_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map localVariableDeclaration_String_values;
+  /** @apilevel internal */
+  protected java.util.Map localVariableDeclaration_String_computed;
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:209
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:209")
+  public VariableDeclarator localVariableDeclaration(String name) {
+    Object _parameters = name;
+    if (localVariableDeclaration_String_computed == null) localVariableDeclaration_String_computed = new java.util.HashMap(4);
+    if (localVariableDeclaration_String_values == null) localVariableDeclaration_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (localVariableDeclaration_String_values.containsKey(_parameters) && localVariableDeclaration_String_computed != null
+        && localVariableDeclaration_String_computed.containsKey(_parameters)
+        && (localVariableDeclaration_String_computed.get(_parameters) == ASTState.NON_CYCLE || localVariableDeclaration_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ForStmt.localVariableDeclaration(String)", _parameters, localVariableDeclaration_String_values.get(_parameters));
+      return (VariableDeclarator) localVariableDeclaration_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ForStmt.localVariableDeclaration(String)", _parameters, "");
+    VariableDeclarator localVariableDeclaration_String_value = localVariableDeclaration_compute(name);
+    state().trace().computeEnd(this, "ForStmt.localVariableDeclaration(String)", _parameters, localVariableDeclaration_String_value);
+    if (state().inCircle()) {
+      localVariableDeclaration_String_values.put(_parameters, localVariableDeclaration_String_value);
+      localVariableDeclaration_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ForStmt.localVariableDeclaration(String)", _parameters, localVariableDeclaration_String_value);
+    } else {
+      localVariableDeclaration_String_values.put(_parameters, localVariableDeclaration_String_value);
+      localVariableDeclaration_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ForStmt.localVariableDeclaration(String)", _parameters, localVariableDeclaration_String_value);
+    }
+    return localVariableDeclaration_String_value;
+  }
+  /** @apilevel internal */
+  private VariableDeclarator localVariableDeclaration_compute(String name) {
+      for (Stmt stmt : getInitStmtList()) {
+        VariableDeclarator decl = stmt.variableDeclaration(name);
+        if (decl != null) {
+          return decl;
+        }
+      }
+      return null;
+    }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:569
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:569")
+  public boolean continueLabel() {
+    state().trace().computeBegin(this, "Stmt.continueLabel()", "", "");
+    boolean continueLabel_value = true;
+    state().trace().computeEnd(this, "Stmt.continueLabel()", "", continueLabel_value);
+    return continueLabel_value;
+  }
+  /** @apilevel internal */
+  private void canCompleteNormally_reset() {
+    canCompleteNormally_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle canCompleteNormally_computed = null;
+
+  /** @apilevel internal */
+  protected boolean canCompleteNormally_value;
+
+  /**
+   * @attribute syn
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:50")
+  public boolean canCompleteNormally() {
+    ASTState state = state();
+    if (canCompleteNormally_computed == ASTState.NON_CYCLE || canCompleteNormally_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+      return canCompleteNormally_value;
+    }
+    state().trace().computeBegin(this, "Stmt.canCompleteNormally()", "", "");
+    canCompleteNormally_value = reachable() && hasCondition()
+          && (!getCondition().isConstant() || !getCondition().isTrue()) || reachableBreak();
+    state().trace().computeEnd(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    if (state().inCircle()) {
+      canCompleteNormally_computed = state().cycle();
+      state().trace().cacheWrite(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    } else {
+      canCompleteNormally_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    }
+    return canCompleteNormally_value;
+  }
+  /** @apilevel internal */
+  private void variableScopeEndLabel_CodeGeneration_reset() {
+    variableScopeEndLabel_CodeGeneration_computed = new java.util.HashMap(4);
+    variableScopeEndLabel_CodeGeneration_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map variableScopeEndLabel_CodeGeneration_values;
+  /** @apilevel internal */
+  protected java.util.Map variableScopeEndLabel_CodeGeneration_computed;
+  /**
+   * @attribute syn
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CodeGeneration", declaredAt="/root/project/java4/backend/CodeGeneration.jrag:77")
+  public int variableScopeEndLabel(CodeGeneration gen) {
+    Object _parameters = gen;
+    if (variableScopeEndLabel_CodeGeneration_computed == null) variableScopeEndLabel_CodeGeneration_computed = new java.util.HashMap(4);
+    if (variableScopeEndLabel_CodeGeneration_values == null) variableScopeEndLabel_CodeGeneration_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (variableScopeEndLabel_CodeGeneration_values.containsKey(_parameters) && variableScopeEndLabel_CodeGeneration_computed != null
+        && variableScopeEndLabel_CodeGeneration_computed.containsKey(_parameters)
+        && (variableScopeEndLabel_CodeGeneration_computed.get(_parameters) == ASTState.NON_CYCLE || variableScopeEndLabel_CodeGeneration_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ForStmt.variableScopeEndLabel(CodeGeneration)", _parameters, variableScopeEndLabel_CodeGeneration_values.get(_parameters));
+      return (Integer) variableScopeEndLabel_CodeGeneration_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ForStmt.variableScopeEndLabel(CodeGeneration)", _parameters, "");
+    int variableScopeEndLabel_CodeGeneration_value = gen.variableScopeLabel();
+    state().trace().computeEnd(this, "ForStmt.variableScopeEndLabel(CodeGeneration)", _parameters, variableScopeEndLabel_CodeGeneration_value);
+    if (state().inCircle()) {
+      variableScopeEndLabel_CodeGeneration_values.put(_parameters, variableScopeEndLabel_CodeGeneration_value);
+      variableScopeEndLabel_CodeGeneration_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ForStmt.variableScopeEndLabel(CodeGeneration)", _parameters, variableScopeEndLabel_CodeGeneration_value);
+    } else {
+      variableScopeEndLabel_CodeGeneration_values.put(_parameters, variableScopeEndLabel_CodeGeneration_value);
+      variableScopeEndLabel_CodeGeneration_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ForStmt.variableScopeEndLabel(CodeGeneration)", _parameters, variableScopeEndLabel_CodeGeneration_value);
+    }
+    return variableScopeEndLabel_CodeGeneration_value;
+  }
+  /** @apilevel internal */
+  private void cond_label_reset() {
+    cond_label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle cond_label_computed = null;
+
+  /** @apilevel internal */
+  protected int cond_label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1698
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1698")
+  public int cond_label() {
+    ASTState state = state();
+    if (cond_label_computed == ASTState.NON_CYCLE || cond_label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ForStmt.cond_label()", "", cond_label_value);
+      return cond_label_value;
+    }
+    state().trace().computeBegin(this, "ForStmt.cond_label()", "", "");
+    cond_label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "ForStmt.cond_label()", "", cond_label_value);
+    if (state().inCircle()) {
+      cond_label_computed = state().cycle();
+      state().trace().cacheWrite(this, "ForStmt.cond_label()", "", cond_label_value);
+    } else {
+      cond_label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ForStmt.cond_label()", "", cond_label_value);
+    }
+    return cond_label_value;
+  }
+  /** @apilevel internal */
+  private void begin_label_reset() {
+    begin_label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle begin_label_computed = null;
+
+  /** @apilevel internal */
+  protected int begin_label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1699
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1699")
+  public int begin_label() {
+    ASTState state = state();
+    if (begin_label_computed == ASTState.NON_CYCLE || begin_label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ForStmt.begin_label()", "", begin_label_value);
+      return begin_label_value;
+    }
+    state().trace().computeBegin(this, "ForStmt.begin_label()", "", "");
+    begin_label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "ForStmt.begin_label()", "", begin_label_value);
+    if (state().inCircle()) {
+      begin_label_computed = state().cycle();
+      state().trace().cacheWrite(this, "ForStmt.begin_label()", "", begin_label_value);
+    } else {
+      begin_label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ForStmt.begin_label()", "", begin_label_value);
+    }
+    return begin_label_value;
+  }
+  /** @apilevel internal */
+  private void update_label_reset() {
+    update_label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle update_label_computed = null;
+
+  /** @apilevel internal */
+  protected int update_label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1700
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1700")
+  public int update_label() {
+    ASTState state = state();
+    if (update_label_computed == ASTState.NON_CYCLE || update_label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ForStmt.update_label()", "", update_label_value);
+      return update_label_value;
+    }
+    state().trace().computeBegin(this, "ForStmt.update_label()", "", "");
+    update_label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "ForStmt.update_label()", "", update_label_value);
+    if (state().inCircle()) {
+      update_label_computed = state().cycle();
+      state().trace().cacheWrite(this, "ForStmt.update_label()", "", update_label_value);
+    } else {
+      update_label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ForStmt.update_label()", "", update_label_value);
+    }
+    return update_label_value;
+  }
+  /** @apilevel internal */
+  private void end_label_reset() {
+    end_label_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle end_label_computed = null;
+
+  /** @apilevel internal */
+  protected int end_label_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1701
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1701")
+  public int end_label() {
+    ASTState state = state();
+    if (end_label_computed == ASTState.NON_CYCLE || end_label_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ForStmt.end_label()", "", end_label_value);
+      return end_label_value;
+    }
+    state().trace().computeBegin(this, "ForStmt.end_label()", "", "");
+    end_label_value = hostType().constantPool().newLabel();
+    state().trace().computeEnd(this, "ForStmt.end_label()", "", end_label_value);
+    if (state().inCircle()) {
+      end_label_computed = state().cycle();
+      state().trace().cacheWrite(this, "ForStmt.end_label()", "", end_label_value);
+    } else {
+      end_label_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ForStmt.end_label()", "", end_label_value);
+    }
+    return end_label_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1725
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1725")
+  public int break_label() {
+    state().trace().computeBegin(this, "Stmt.break_label()", "", "");
+    int break_label_value = end_label();
+    state().trace().computeEnd(this, "Stmt.break_label()", "", break_label_value);
+    return break_label_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1750
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1750")
+  public int continue_label() {
+    state().trace().computeBegin(this, "Stmt.continue_label()", "", "");
+    int continue_label_value = update_label();
+    state().trace().computeEnd(this, "Stmt.continue_label()", "", continue_label_value);
+    return continue_label_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:78")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Stmt.modifiedInScope(Variable)", _parameters, "");
+    try {
+        for (Stmt stmt : getInitStmtList()) {
+          if (stmt.modifiedInScope(var)) {
+            return true;
+          }
+        }
+        for (Stmt stmt : getUpdateStmtList()) {
+          if (stmt.modifiedInScope(var)) {
+            return true;
+          }
+        }
+        return getStmt().modifiedInScope(var);
+      }
+    finally {
+      state().trace().computeEnd(this, "Stmt.modifiedInScope(Variable)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute inh
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:42
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:42")
+  public SimpleSet<Variable> lookupVariable(String name) {
+    Object _parameters = name;
+    if (lookupVariable_String_computed == null) lookupVariable_String_computed = new java.util.HashMap(4);
+    if (lookupVariable_String_values == null) lookupVariable_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupVariable_String_values.containsKey(_parameters) && lookupVariable_String_computed != null
+        && lookupVariable_String_computed.containsKey(_parameters)
+        && (lookupVariable_String_computed.get(_parameters) == ASTState.NON_CYCLE || lookupVariable_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ForStmt.lookupVariable(String)", _parameters, lookupVariable_String_values.get(_parameters));
+      return (SimpleSet<Variable>) lookupVariable_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ForStmt.lookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> lookupVariable_String_value = getParent().Define_lookupVariable(this, null, name);
+    state().trace().computeEnd(this, "ForStmt.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    if (state().inCircle()) {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ForStmt.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    } else {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ForStmt.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    }
+    return lookupVariable_String_value;
+  }
+  /** @apilevel internal */
+  private void lookupVariable_String_reset() {
+    lookupVariable_String_computed = new java.util.HashMap(4);
+    lookupVariable_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_computed;
+  /**
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:230
+   * @apilevel internal
+   */
+  public Stmt Define_branchTarget(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return branch.canBranchTo(this) ? this : branchTarget(branch);
+  }
+  protected boolean canDefine_branchTarget(ASTNode _callerNode, ASTNode _childNode, Stmt branch) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getUpdateStmtListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:817
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      {
+          if (!getStmt().assignedAfter(v)) {
+            return false;
+          }
+          for (ContinueStmt stmt :  targetContinues()) {
+            if (!stmt.assignedAfterReachedFinallyBlocks(v)) {
+              return false;
+            }
+          }
+          return true;
+        }
+    }
+    else if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:806
+      {
+          if (hasCondition() && getCondition().assignedAfterTrue(v)) {
+            return true;
+          }
+          if (!hasCondition() && assignedAfterInitialization(v)) {
+            return true;
+          }
+          return false;
+        }
+    }
+    else if (_callerNode == getConditionOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:803
+      return assignedAfterInitialization(v);
+    }
+    else if (_callerNode == getInitStmtListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:794
+      int i = _callerNode.getIndexOfChild(_childNode);
+      return i == 0 ? assignedBefore(v) : getInitStmt(i - 1).assignedAfter(v);
+    }
+    else {
+      return getParent().Define_assignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getUpdateStmtListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1533
+      int i = _callerNode.getIndexOfChild(_childNode);
+      {
+          if (!unassignedBeforeCondition(v)) { // Starts a circular evaluation here.
+            return false;
+          }
+          if (i == 0) {
+            if (!getStmt().unassignedAfter(v)) {
+              return false;
+            }
+            for (ContinueStmt stmt : targetContinues()) {
+              if (!stmt.unassignedAfterReachedFinallyBlocks(v)) {
+                return false;
+              }
+            }
+            return true;
+          } else {
+            return getUpdateStmt(i - 1).unassignedAfter(v);
+          }
+        }
+    }
+    else if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1509
+      return unassignedBeforeCondition(v) && (hasCondition()
+            ? getCondition().unassignedAfterTrue(v)
+            : unassignedAfterInit(v));
+    }
+    else if (_callerNode == getConditionOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1490
+      return unassignedBeforeCondition(v);
+    }
+    else if (_callerNode == getInitStmtListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1486
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return childIndex == 0 ? unassignedBefore(v) : getInitStmt(childIndex-1).unassignedAfter(v);
+    }
+    else {
+      return getParent().Define_unassignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:163
+      return localLookup(name);
+    }
+    else if (_callerNode == getUpdateStmtListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:161
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return localLookup(name);
+    }
+    else if (_callerNode == getConditionOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:159
+      return localLookup(name);
+    }
+    else if (_callerNode == getInitStmtListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:149
+      int index = _callerNode.getIndexOfChild(_childNode);
+      {
+          for (int i = index - 1; i >= 0; i -= 1) {
+            VariableDeclarator decl = getInitStmt(i).variableDeclaration(name);
+            if (decl != null) {
+              return decl;
+            }
+          }
+          return lookupVariable(name);
+        }
+    }
+    else {
+      return getParent().Define_lookupVariable(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:31
+   * @apilevel internal
+   */
+  public VariableScope Define_outerScope(ASTNode _callerNode, ASTNode _childNode) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/NameCheck.jrag:453
+      return this;
+    }
+    else if (_callerNode == getInitStmtListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/NameCheck.jrag:451
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return this;
+    }
+    else {
+      return getParent().Define_outerScope(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_outerScope(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:525
+   * @apilevel internal
+   */
+  public boolean Define_insideLoop(ASTNode _callerNode, ASTNode _childNode) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/NameCheck.jrag:529
+      return true;
+    }
+    else {
+      return getParent().Define_insideLoop(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_insideLoop(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:49
+   * @apilevel internal
+   */
+  public boolean Define_reachable(ASTNode _callerNode, ASTNode _childNode) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:155
+      return reachable()
+            && (!hasCondition() || (!getCondition().isConstant() || !getCondition().isFalse()));
+    }
+    else {
+      return getParent().Define_reachable(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_reachable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:280
+   * @apilevel internal
+   */
+  public boolean Define_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:211
+      return reachable();
+    }
+    else {
+      return getParent().Define_reportUnreachable(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:71
+   * @apilevel internal
+   */
+  public int Define_variableScopeEndLabel(ASTNode _callerNode, ASTNode _childNode, CodeGeneration gen) {
+    if (_callerNode == getInitStmtListNoTransform()) {
+      // @declaredat /root/project/java4/backend/CodeGeneration.jrag:79
+      int i = _callerNode.getIndexOfChild(_childNode);
+      return variableScopeEndLabel(gen);
+    }
+    else {
+      return getParent().Define_variableScopeEndLabel(this, _callerNode, gen);
+    }
+  }
+  protected boolean canDefine_variableScopeEndLabel(ASTNode _callerNode, ASTNode _childNode, CodeGeneration gen) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/backend/MultiCatch.jrag:53
+   * @apilevel internal
+   */
+  public int Define_localNum(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getInitStmtListNoTransform()) {
+      // @declaredat /root/project/java4/backend/LocalNum.jrag:170
+      int index = _callerNode.getIndexOfChild(_childNode);
+      {
+          if (index == 0) {
+            return localNum();
+          } else {
+            return getInitStmt(index-1).localNum() + getInitStmt(index-1).localSize();
+          }
+        }
+    }
+    else if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java4/backend/LocalNum.jrag:161
+      {
+          if (getNumInitStmt() == 0) {
+            return localNum();
+          } else {
+            Stmt last = getInitStmt(getNumInitStmt()-1);
+            return last.localNum() + last.localSize();
+          }
+        }
+    }
+    else {
+      return getParent().Define_localNum(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_localNum(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:30
+   * @apilevel internal
+   */
+  public boolean Define_inhModifiedInScope(ASTNode _callerNode, ASTNode _childNode, Variable var) {
+    if (getStmtNoTransform() != null && _callerNode == getStmt()) {
+      // @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:57
+      return false;
+    }
+    else if (_callerNode == getUpdateStmtListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:56
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return modifiedInScope(var);
+    }
+    else if (_callerNode == getInitStmtListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:55
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return modifiedInScope(var);
+    }
+    else {
+      return getParent().Define_inhModifiedInScope(this, _callerNode, var);
+    }
+  }
+  protected boolean canDefine_inhModifiedInScope(ASTNode _callerNode, ASTNode _childNode, Variable var) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:454
+    if (hasCondition() && !getCondition().type().isBoolean()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (hasCondition() && !getCondition().type().isBoolean()) {
+      collection.add(errorf("the type of \"%s\" is %s which is not boolean",
+                getCondition().prettyPrint(), getCondition().type().name()));
+    }
+  }
+}
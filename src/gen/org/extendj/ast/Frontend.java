@@ -0,0 +1,904 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect FrontendMain
+ * @declaredat /root/project/java4/frontend/FrontendMain.jrag:91
+ */
+abstract public class Frontend extends java.lang.Object {
+  
+    protected Program program;
+
+  
+
+    /** Compile success. */
+    public static final int EXIT_SUCCESS = 0;
+
+  
+
+    /** Lexical/semantic error. */
+    public static final int EXIT_ERROR = 1;
+
+  
+
+    /** Command-line configuration error. */
+    public static final int EXIT_CONFIG_ERROR = 2;
+
+  
+
+    /** The compiler terminated by system error. */
+    public static final int EXIT_SYSTEM_ERROR = 3;
+
+  
+
+    /** The compiler terminated abnormally. */
+    public static final int EXIT_UNHANDLED_ERROR = 4;
+
+  
+
+    private final String name;
+
+  
+
+    private final String version;
+
+  
+
+    /** Dependencies recorded for incremental compilation, or {@code null}. */
+    private FileDependencies dependencies = null;
+
+  
+
+    /** Root node for AST debugging. */
+    public static Program DrAST_root_node;
+
+  
+
+    /**
+     * Initializes the AST root (Program).
+     */
+    protected Frontend() {
+      this("Unknown", "0");
+    }
+
+  
+
+    /**
+     * Initializes the AST and sets compiler name and version.
+     *
+     * @param name compiler name.
+     * @param version compiler version.
+     */
+    protected Frontend(String name, String version) {
+      this(name, version, new Program());
+    }
+
+  
+
+    /**
+     * Sets compiler name and version, and uses an existing AST.
+     *
+     * @param name compiler name.
+     * @param version compiler version.
+     * @param program the AST root, for example a program kept from an
+     * earlier compilation.
+     */
+    protected Frontend(String name, String version, Program program) {
+      this.name = name;
+      this.version = version;
+      this.program = program;
+      DrAST_root_node = program;
+      program.state().reset();
+    }
+
+  
+
+    /**
+     * Run the compiler with the supplied arguments.
+     *
+     * <p>Argument processing is done using the processArgs method. Override that
+     * if you want to change the argument handling. Compilation options are stored
+     * in {@code program.options()}.
+     *
+     * <p>In normal operation this method is used to compile a set of source files.
+     * If the -help or -version options are provided then comilation is skipped.
+     *
+     * <p>The return value indicates whether there were any errors during compilation.
+     *
+     * @return 0 on success, 1 on error, 2 on configuration error, 3 on system
+     * error, 4 on unhandled error
+     */
+    public int run(String[] args, BytecodeReader reader, JavaParser parser) {
+      program.resetStatistics();
+      program.initBytecodeReader(reader);
+      program.initJavaParser(parser);
+
+      initOptions();
+      int argResult = processArgs(args);
+      if (argResult != 0) {
+        return argResult;
+      }
+
+      Collection<String> files = program.options().files();
+
+      if (program.options().hasOption("-version")) {
+        printVersion();
+        return EXIT_SUCCESS;
+      }
+
+      if (program.options().hasOption("-help") || files.isEmpty()) {
+        printUsage();
+        return EXIT_SUCCESS;
+      }
+
+      int numThreads = numThreads();
+
+      if (program.options().hasOption("-Xtrace")) {
+        try {
+          program.trace.startRecording();
+        } catch (IOException e) {
+          System.err.println("Warning: could not record trace: " + e.getMessage());
+        }
+      }
+
+      TraceDispatcher dispatcher = new TraceDispatcher();
+      if (program.options().hasOption("-Xtrace")) {
+        dispatcher.addReceiver(program.trace, EnumSet.of(
+            ASTState.Trace.Event.COMPUTE_BEGIN,
+            ASTState.Trace.Event.COMPUTE_END));
+      }
+      ChromeTraceWriter chromeTrace = null;
+      if (program.options().hasValueForOption("-Xtrace-chrome")) {
+        try {
+          chromeTrace = new ChromeTraceWriter(program.options().getValueForOption("-Xtrace-chrome"));
+          program.trace.addListener(chromeTrace);
+          dispatcher.addReceiver(chromeTrace, EnumSet.of(
+              ASTState.Trace.Event.COMPUTE_BEGIN,
+              ASTState.Trace.Event.COMPUTE_END));
+        } catch (IOException e) {
+          System.err.println("Warning: could not write trace: " + e.getMessage());
+        }
+      }
+      AttributeProfiler profiler = null;
+      if (program.options().hasOption("-Xprofile-attributes")
+          || program.options().hasValueForOption("-Xprofile-attributes-json")) {
+        // The profiler is not thread-safe, so it is only used when no other
+        // thread parses source or class files.
+        if (numThreads > 1 || program.options().hasOption("-Xpipeline")
+            || program.options().hasValueForOption("-Xprefetch")) {
+          System.err.println("Warning: attribute profiling is not supported with parser threads"
+              + " (-j, -Xpipeline or -Xprefetch).");
+        } else {
+          profiler = new AttributeProfiler();
+          dispatcher.addReceiver(profiler, EnumSet.of(
+              ASTState.Trace.Event.COMPUTE_BEGIN,
+              ASTState.Trace.Event.COMPUTE_END,
+              ASTState.Trace.Event.CACHE_READ,
+              ASTState.Trace.Event.CIRCULAR_CASE1_START,
+              ASTState.Trace.Event.CIRCULAR_CASE1_RETURN,
+              ASTState.Trace.Event.CIRCULAR_NTA_CASE1_START,
+              ASTState.Trace.Event.CIRCULAR_NTA_CASE1_RETURN));
+        }
+      }
+      boolean provenance = program.options().hasOption("-Xprovenance")
+          || program.options().hasValueForOption("-Xincremental");
+      program.provenance.setEnabled(provenance);
+      if (provenance) {
+        dispatcher.addReceiver(program.provenance, EnumSet.of(
+            ASTState.Trace.Event.COMPUTE_BEGIN,
+            ASTState.Trace.Event.COMPUTE_END,
+            ASTState.Trace.Event.CACHE_READ));
+      }
+      program.trace().setReceiver(dispatcher);
+
+      // In pipelined mode, code is generated for each compilation unit as soon as it
+      // has been checked without errors. Otherwise, code generation starts only after
+      // all compilation units have been checked, and only if there were no errors.
+      // Checking and code generation both run on this thread, one unit at a time,
+      // while the source files are parsed in the background.
+      boolean pipeline = program.options().hasOption("-Xpipeline");
+      ExecutorService pool = null;
+
+      try {
+        if (program.options().hasValueForOption("-Xprefetch")) {
+          program.startPrefetch(
+              Integer.parseInt(program.options().getValueForOption("-Xprefetch")));
+        }
+        program.trace.pushEvent("Sourcefile parsing");
+        if (pipeline) {
+          pool = Executors.newFixedThreadPool(numThreads);
+          parseInBackground(files, pool);
+        } else if (numThreads > 1) {
+          parseInParallel(files, numThreads);
+        } else {
+          for (String file : files) {
+            program.addSourceFile(file);
+          }
+        }
+        program.trace.popEvent();
+
+        TypeDecl object = program.lookupType("java.lang", "Object");
+        if (object.isUnknown()) {
+          // If we try to continue without java.lang.Object, we'll just get a stack overflow
+          // in member lookups because the unknown (Object) type would be treated as circular.
+          System.err.println("Error: java.lang.Object is missing."
+              + " The Java standard library was not found.");
+          return EXIT_UNHANDLED_ERROR;
+        }
+
+        // In incremental mode, only the source files affected by changes since the
+        // previous successful build are checked and compiled. All source files are
+        // still parsed so that types can be looked up from unaffected files.
+        FileDependencies previous = null;
+        Set<String> affected = null;
+        dependencies = null;
+        if (program.options().hasValueForOption("-Xincremental")) {
+          String options = dependencyOptions(args, files);
+          dependencies = new FileDependencies(options);
+          previous = FileDependencies.read(
+              new File(program.options().getValueForOption("-Xincremental")));
+          if (previous != null) {
+            affected = previous.affectedFiles(options, files);
+            if (affected != null) {
+              for (String name : previous.missingTypes()) {
+                // A type that was missing in the previous build can now shadow
+                // a type that an unaffected file imports on demand.
+                int dot = name.lastIndexOf('.');
+                String pkg = dot == -1 ? "" : name.substring(0, dot);
+                if (!program.lookupType(pkg, name.substring(dot + 1)).isUnknown()) {
+                  affected = null;
+                  break;
+                }
+              }
+            }
+          }
+        }
+
+        // Compilation units waiting for code generation.
+        Collection<CompilationUnit> work = new LinkedList<CompilationUnit>();
+
+        int compileResult = EXIT_SUCCESS;
+
+        // Process source compilation units.
+        // In pipelined mode, the loop also adds the source files that are still
+        // being parsed, in order.
+        Iterator<CompilationUnit> iter = program.compilationUnitIterator();
+        while (iter.hasNext() || program.addPendingSourceFile()) {
+          CompilationUnit unit = iter.next();
+          if (affected != null && !affected.contains(unit.relativeName())) {
+            // Up to date since the previous build.
+            continue;
+          }
+          beginDependencies(unit);
+          int result = processCompilationUnit(unit);
+          endDependencies(unit);
+          switch (result) {
+            case EXIT_SUCCESS:
+              if (pipeline) {
+                generateCode(unit);
+                // The compilation unit stays in the program, because its types are
+                // still referenced by the other units, but its method bodies are
+                // no longer needed.
+                unit.releaseBodies();
+              } else {
+                work.add(unit);
+              }
+              break;
+            case EXIT_UNHANDLED_ERROR:
+              return result;
+            default:
+              compileResult = result;
+          }
+        }
+
+        // Process library compilation units.
+        Iterator<CompilationUnit> libraryIterator = program.libraryCompilationUnitIterator();
+        while (libraryIterator.hasNext()) {
+          CompilationUnit unit = libraryIterator.next();
+          int result = processCompilationUnit(unit);
+          switch (result) {
+            case EXIT_SUCCESS:
+              if (pipeline) {
+                generateCode(unit);
+              } else {
+                work.add(unit);
+              }
+              break;
+            case EXIT_UNHANDLED_ERROR:
+              return result;
+            default:
+              compileResult = result;
+          }
+        }
+
+        if (compileResult != EXIT_SUCCESS) {
+          return compileResult;
+        }
+
+        if (!pipeline) {
+          program.trace.pushEvent("Code generation");
+          for (CompilationUnit unit : work) {
+            generateCode(unit);
+          }
+          program.trace.popEvent();
+        }
+
+        if (dependencies != null) {
+          iter = program.compilationUnitIterator();
+          while (iter.hasNext()) {
+            CompilationUnit unit = iter.next();
+            String file = unit.relativeName();
+            if (affected != null && !affected.contains(file)) {
+              dependencies.copy(previous, file);
+            } else {
+              dependencies.add(file,
+                  program.provenance.getFiles(unit, "Frontend.dependencies", ""));
+            }
+          }
+          if (affected != null) {
+            dependencies.copyLibraries(previous);
+          }
+          Iterator<CompilationUnit> libraryUnits = program.libraryCompilationUnitIterator();
+          while (libraryUnits.hasNext()) {
+            dependencies.addLibrary(libraryUnits.next().pathName());
+          }
+          dependencies.addMissingTypes(program.missingTypes());
+          dependencies.write(new File(program.options().getValueForOption("-Xincremental")));
+        }
+
+      } catch (AbstractClassfileParser.ClassfileFormatError e) {
+        System.err.println(e.getMessage());
+        return EXIT_UNHANDLED_ERROR;
+      } catch (Throwable t) {
+        System.err.println("Fatal exception:");
+        t.printStackTrace(System.err);
+        return EXIT_UNHANDLED_ERROR;
+      } finally {
+        if (pool != null) {
+          pool.shutdownNow();
+        }
+        program.stopPrefetch();
+        if (program.options().hasOption("-Xtrace")) {
+          try {
+            String host = "localhost";
+            int port = 6834;
+            if (program.options().hasValueForOption("-Xtrace")) {
+              String address = program.options().getValueForOption("-Xtrace");
+              int sep = address.indexOf(':');
+              if (sep == -1) {
+                host = address;
+              } else {
+                host = address.substring(0, sep);
+                port = Integer.parseInt(address.substring(sep + 1, address.length()));
+              }
+            }
+            program.trace.sendTo(host, port);
+          } catch (IOException e) {
+            e.printStackTrace();
+          }
+        }
+        if (program.options().hasOption("-profile")) {
+          program.printStatistics(System.out);
+        }
+        if (chromeTrace != null) {
+          program.trace.removeListener(chromeTrace);
+          try {
+            chromeTrace.close();
+          } catch (IOException e) {
+            System.err.println("Warning: could not write trace: " + e.getMessage());
+          }
+        }
+        if (profiler != null) {
+          if (program.options().hasOption("-Xprofile-attributes")) {
+            profiler.printReport(System.out);
+          }
+          if (program.options().hasValueForOption("-Xprofile-attributes-json")) {
+            String file = program.options().getValueForOption("-Xprofile-attributes-json");
+            try {
+              PrintStream out = new PrintStream(new FileOutputStream(file));
+              profiler.printJson(out);
+              out.close();
+            } catch (IOException e) {
+              System.err.println("Warning: could not write attribute profile: "
+                  + e.getMessage());
+            }
+          }
+        }
+      }
+      return EXIT_SUCCESS;
+    }
+
+  
+
+    /**
+     * Runs processNoErrors for a compilation unit if it is from source.
+     */
+    private void generateCode(CompilationUnit unit) {
+      if (unit != null && unit.fromSource()) {
+        long start = System.nanoTime();
+        program.trace.pushEvent("processNoErrors", unit.pathName());
+        beginDependencies(unit);
+        processNoErrors(unit);
+        endDependencies(unit);
+        if (dependencies != null) {
+          dependencies.addOutputs(unit.relativeName(), outputFiles(unit));
+        }
+        program.trace.popEvent();
+        program.codeGenTime += System.nanoTime() - start;
+      }
+    }
+
+  
+
+    /**
+     * @return the paths of the files that processNoErrors writes for a source
+     * compilation unit. In incremental mode, a unit is compiled again if one
+     * of these files is missing or older than its source file.
+     */
+    protected Collection<String> outputFiles(CompilationUnit unit) {
+      return Collections.emptyList();
+    }
+
+  
+
+    /**
+     * Starts recording the files read while processing a source compilation
+     * unit, if incremental compilation is enabled.
+     */
+    private void beginDependencies(CompilationUnit unit) {
+      if (dependencies != null && unit != null && unit.fromSource()) {
+        program.provenance.attributeBegin(unit, "Frontend.dependencies", "");
+      }
+    }
+
+  
+
+    /**
+     * Stops recording the files read while processing a source compilation
+     * unit.
+     */
+    private void endDependencies(CompilationUnit unit) {
+      if (dependencies != null && unit != null && unit.fromSource()) {
+        program.provenance.attributeEnd(unit, "Frontend.dependencies", "");
+      }
+    }
+
+  
+
+    /**
+     * @return the command-line arguments that are not source files. The
+     * previous build is reused only if these are unchanged.
+     */
+    protected static String dependencyOptions(String[] args, Collection<String> files) {
+      StringBuilder buf = new StringBuilder();
+      for (String arg : args) {
+        if (!files.contains(arg)) {
+          buf.append(arg).append('\n');
+        }
+      }
+      return buf.toString();
+    }
+
+  
+
+    // This is a commonly used singleton value, so we store it here to avoid a method call.
+    // NOTE(joqvist): this probably doesn't make a noticeable difference.
+    private Collection<Problem> EMPTY_PROBLEM_LIST = Collections.emptyList();
+
+  
+
+    /**
+     * Processes from-source compilation units by error-checking them.
+     * This method only report semantic errors and warnings.
+     *
+     * @return zero on success, non-zero on error
+     */
+    protected int processCompilationUnit(CompilationUnit unit) throws Error {
+      if (unit != null && unit.fromSource()) {
+        try {
+          program.trace.pushEvent("processCompilationUnit", unit.pathName());
+          Collection<Problem> errors = unit.parseErrors();
+          Collection<Problem> warnings = EMPTY_PROBLEM_LIST;
+          // Compute static semantic errors when there are no parse errors
+          // or the recover from parse errors option is specified.
+          if (errors.isEmpty() || program.options().hasOption("-recover")) {
+            long start = System.nanoTime();
+            errors = unit.errors();
+            warnings = unit.warnings();
+            program.errorCheckTime += System.nanoTime() - start;
+          }
+          if (!errors.isEmpty()) {
+            processErrors(errors, unit);
+            return EXIT_ERROR;
+          } else {
+            if (!warnings.isEmpty() && !program.options().hasOption("-nowarn")) {
+              processWarnings(warnings, unit);
+            }
+          }
+        } catch (Error e) {
+          System.err.println("Encountered error while processing " + unit.pathName());
+          throw e;
+        } finally {
+          program.trace.popEvent();
+        }
+      }
+      return EXIT_SUCCESS;
+    }
+
+  
+
+    /**
+     * Parses the given source files on a thread pool.
+     *
+     * <p>The parsed compilation units are added to the program in the same
+     * order as the source files are given, so the resulting AST is identical
+     * to the one built by sequential parsing. Each compilation unit is added as
+     * soon as it and all preceding files have been parsed.
+     *
+     * <p>Only parsing is done on the thread pool. Attribute evaluation is not
+     * thread-safe, so error checking and code generation run on the calling
+     * thread after all source files have been added.
+     *
+     * @param files the source files to parse
+     * @param numThreads the number of parser threads
+     */
+    protected void parseInParallel(Collection<String> files, int numThreads) throws Throwable {
+      ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+      try {
+        Collection<Future<CompilationUnit>> results = new ArrayList<Future<CompilationUnit>>();
+        for (String name : files) {
+          final String file = name;
+          results.add(pool.submit(new Callable<CompilationUnit>() {
+            @Override
+            public CompilationUnit call() throws IOException {
+              return program.parseSourceFile(file);
+            }
+          }));
+        }
+        for (Future<CompilationUnit> result : results) {
+          try {
+            program.addParsedSourceFile(result.get());
+          } catch (ExecutionException e) {
+            throw e.getCause();
+          }
+        }
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+
+  
+
+    /**
+     * Starts parsing the given source files on a thread pool, and adds them to
+     * the program as pending source files. This lets error checking start
+     * before all source files have been parsed.
+     *
+     * <p>The package and type names of each source file are first found with a
+     * DeclarationScanner, so that type lookups can wait for the source file
+     * that declares the type. If any source file can not be scanned, this
+     * method instead waits for all source files to be parsed and adds them to
+     * the program, like parseInParallel.
+     *
+     * @param files the source files to parse
+     * @param pool the thread pool to parse on, shut down by the caller
+     */
+    protected void parseInBackground(Collection<String> files, ExecutorService pool)
+        throws Throwable {
+      Collection<Future<DeclarationScanner>> scans = new ArrayList<Future<DeclarationScanner>>();
+      Collection<Future<CompilationUnit>> results = new ArrayList<Future<CompilationUnit>>();
+      for (String name : files) {
+        final String file = name;
+        scans.add(pool.submit(new Callable<DeclarationScanner>() {
+          @Override
+          public DeclarationScanner call() throws IOException {
+            InputStream in = new FileInputStream(file);
+            try {
+              DeclarationScanner scanner = new DeclarationScanner(in);
+              return scanner.scan() ? scanner : null;
+            } finally {
+              in.close();
+            }
+          }
+        }));
+      }
+      for (String name : files) {
+        final String file = name;
+        results.add(pool.submit(new Callable<CompilationUnit>() {
+          @Override
+          public CompilationUnit call() throws IOException {
+            return program.parseSourceFile(file);
+          }
+        }));
+      }
+      boolean scanned = true;
+      Collection<DeclarationScanner> scanners = new ArrayList<DeclarationScanner>();
+      for (Future<DeclarationScanner> scan : scans) {
+        try {
+          DeclarationScanner scanner = scan.get();
+          scanned &= scanner != null;
+          scanners.add(scanner);
+        } catch (ExecutionException e) {
+          // The parser reports the error.
+          scanned = false;
+        }
+      }
+      Iterator<DeclarationScanner> scanner = scanners.iterator();
+      for (Future<CompilationUnit> result : results) {
+        if (scanned) {
+          DeclarationScanner declarations = scanner.next();
+          program.addPendingSourceFile(declarations.packageName(),
+              declarations.typeNames(), result);
+        } else {
+          try {
+            program.addParsedSourceFile(result.get());
+          } catch (ExecutionException e) {
+            throw e.getCause();
+          }
+        }
+      }
+    }
+
+  
+
+    /**
+     * @return the number of threads to use for parsing source files, given by
+     * the -j option. The default is one thread.
+     */
+    protected int numThreads() {
+      if (program.options().hasValueForOption("-j")) {
+        return Integer.parseInt(program.options().getValueForOption("-j"));
+      }
+      return 1;
+    }
+
+  
+
+    /**
+     * Initialize the command-line options.
+     * Override this method to add your own command-line options.
+     */
+    protected void initOptions() {
+      Options options = program.options();
+      options.initOptions();
+      options.addKeyOption("-version");
+      options.addKeyOption("-print");
+      options.addKeyOption("-g");
+      options.addKeyOption("-g:none");
+      options.addKeyOption("-g:lines,vars,source");
+      options.addKeyOption("-nowarn");
+      options.addKeyOption("-verbose");
+      options.addKeyOption("-deprecation");
+      options.addKeyValueOption("-classpath");
+      options.addKeyValueOption("-cp");
+      options.addKeyValueOption("-sourcepath");
+      options.addKeyValueOption("-bootclasspath");
+      options.addKeyValueOption("-extdirs");
+      options.addKeyValueOption("-d");
+      options.addKeyValueOption("-encoding");
+      options.addKeyValueOption("-source");
+      options.addKeyValueOption("-target");
+      options.addKeyOption("-help");
+      options.addKeyOption("-O");
+      options.addKeyOption("-J-Xmx128M");
+      options.addKeyOption("-recover");
+      options.addKeyOption("-XprettyPrint");
+      options.addKeyOption("-XdumpTree");
+
+      // Non-javac options.
+      options.addKeyOption("-profile"); // Output profiling information.
+      options.addKeyOption("-debug"); // Extra debug checks and information.
+
+      options.addKeyValueOption("-Xtrace"); // Log attribute evaluation traces.
+          // The value for -Xtrace is the network address (host:port) to send the trace to.
+      options.addKeyValueOption("-j"); // Number of threads used for parsing source files.
+      options.addKeyOption("-Xpipeline"); // Check units while parsing in the background.
+      options.addKeyValueOption("-Xprefetch"); // Number of threads that load library types early.
+      options.addKeyValueOption("-Xclasspath-index"); // Index Jar files between compilations.
+          // The value for -Xclasspath-index is the file where the index is stored.
+      options.addKeyOption("-Xlibrary-stubs"); // Skip private methods of library classes.
+      options.addKeyValueOption("-Xsymbol-file"); // Read boot class path Jar files from a symbol file.
+          // The value for -Xsymbol-file is a symbol file written by SymbolFileWriter.
+      options.addKeyValueOption("-Xtrace-chrome"); // Write a Chrome Trace Event JSON file.
+          // The value for -Xtrace-chrome is the file to write the trace to.
+      options.addKeyOption("-Xprofile-attributes"); // Print attribute evaluation statistics.
+      options.addKeyValueOption("-Xprofile-attributes-json"); // Write the statistics as JSON.
+          // The value for -Xprofile-attributes-json is the file to write to.
+      options.addKeyOption("-Xprovenance"); // Track the files read by each attribute.
+      options.addKeyValueOption("-Xincremental"); // Recompile only files affected by changes.
+          // The value for -Xincremental is the file where dependencies are stored between builds.
+
+      // These unused nonstandard options with arguments are here added so that
+      // their arguments are discarded when parsing command-line options.
+      options.addKeyValueOption("-Xmaxerrs");
+      options.addKeyValueOption("-Xmaxwarns");
+      options.addKeyValueOption("-Xstdout");
+    }
+
+  
+
+    /**
+     * Configure the compiler with command-line arguments.
+     *
+     * @return 0 if there were no configuration errors
+     */
+    protected int processArgs(String[] args) {
+      program.options().addOptions(args);
+      boolean error = false;
+      Collection<String> files = program.options().files();
+      for (String file : files) {
+        if (!new File(file).isFile()) {
+          System.err.println("Error: neither a valid option nor a filename: " + file);
+          error = true;
+        }
+      }
+      for (String option : new String[] { "-j", "-Xprefetch" }) {
+        if (program.options().hasValueForOption(option)) {
+          String value = program.options().getValueForOption(option);
+          try {
+            if (Integer.parseInt(value) < 1) {
+              System.err.println("Error: the number of threads must be positive: " + value);
+              error = true;
+            }
+          } catch (NumberFormatException e) {
+            System.err.println("Error: invalid number of threads: " + value);
+            error = true;
+          }
+        }
+      }
+      return error ? EXIT_CONFIG_ERROR : EXIT_SUCCESS;
+    }
+
+  
+
+    /**
+     * Print errors for a compilation unit.
+     *
+     * @param errors collection of compile problems
+     * @param unit affected compilation unit
+     */
+    protected void processErrors(Collection<Problem> errors, CompilationUnit unit) {
+      for (Problem error : errors) {
+        System.err.println(error);
+      }
+    }
+
+  
+
+    /**
+     * Print the warnings for a compilation unit.
+     *
+     * @param warnings collection of warnings
+     * @param unit affected compilation unit
+     */
+    protected void processWarnings(Collection<Problem> warnings, CompilationUnit unit) {
+      for (Problem warning : warnings) {
+        System.err.println(warning);
+      }
+    }
+
+  
+
+    /**
+     * Called for each from-source compilation unit with no errors.
+     */
+    protected void processNoErrors(CompilationUnit unit) {
+    }
+
+  
+
+    /**
+     * Print the command-line usage help to stdout.
+     */
+    protected void printUsage() {
+      System.out.println(name() + " " + version());
+      System.out.println("\n"
+          + "Usage: java " + name() + " <options> <source files>\n"
+          + "  -verbose                  Output messages about what the compiler is doing\n"
+          + "  -classpath <path>         Specify where to find user class files\n"
+          + "  -sourcepath <path>        Specify where to find input source files\n"
+          + "  -bootclasspath <path>     Override location of bootstrap class files\n"
+          + "  -extdirs <dirs>           Override location of installed extensions\n"
+          + "  -d <directory>            Specify where to place generated class files\n"
+          + "  -nowarn                   Disable warning messages\n"
+          + "  -j <n>                    Parse source files using n threads\n"
+          + "  -help                     Print a synopsis of standard options\n"
+          + "  -version                  Print version information");
+    }
+
+  
+
+    /**
+     * Echo the version to sysout.
+     */
+    protected void printVersion() {
+      System.out.println(name() + " " + version());
+    }
+
+  
+
+    /**
+     * @return the name of the compiler.
+     */
+    protected String name() {
+      return name;
+    }
+
+  
+
+    /**
+     * @return the version of the compiler.
+     */
+    protected String version() {
+      return version;
+    }
+
+
+}
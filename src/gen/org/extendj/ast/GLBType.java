@@ -0,0 +1,723 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Generics.ast:121
+ * @production GLBType : {@link ReferenceType} ::= <span class="component">{@link Modifiers}</span> <span class="component">&lt;ID:String&gt;</span> <span class="component">{@link BodyDecl}*</span> <span class="component">TypeBound:{@link Access}*</span>;
+
+ */
+public class GLBType extends ReferenceType implements Cloneable {
+  /**
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1878
+   */
+  public Collection<InterfaceDecl> implementedInterfaces() {
+    Collection<InterfaceDecl> ret = new HashSet<InterfaceDecl>();
+    for (int i = 0; i < getNumTypeBound(); i++) {
+      ret.addAll(getTypeBound(i).type().implementedInterfaces());
+    }
+    return ret;
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public GLBType() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[3];
+    setChild(new List(), 1);
+    setChild(new List(), 2);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public GLBType(Modifiers p0, String p1, List<BodyDecl> p2, List<Access> p3) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+  }
+  /**
+   * @declaredat ASTNode:21
+   */
+  public GLBType(Modifiers p0, beaver.Symbol p1, List<BodyDecl> p2, List<Access> p3) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:28
+   */
+  protected int numChildren() {
+    return 3;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:34
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    subtype_TypeDecl_reset();
+    strictSubtype_TypeDecl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:48
+   */
+  public GLBType clone() throws CloneNotSupportedException {
+    GLBType node = (GLBType) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:53
+   */
+  public GLBType copy() {
+    try {
+      GLBType node = (GLBType) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:72
+   */
+  @Deprecated
+  public GLBType fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:82
+   */
+  public GLBType treeCopyNoTransform() {
+    GLBType tree = (GLBType) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:102
+   */
+  public GLBType treeCopy() {
+    GLBType tree = (GLBType) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:116
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((GLBType) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the BodyDecl list.
+   * @param list The new list node to be used as the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void setBodyDeclList(List<BodyDecl> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="BodyDecl")
+  public List<BodyDecl> getBodyDeclList() {
+    List<BodyDecl> list = (List<BodyDecl>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+  /**
+   * Replaces the TypeBound list.
+   * @param list The new list node to be used as the TypeBound list.
+   * @apilevel high-level
+   */
+  public void setTypeBoundList(List<Access> list) {
+    setChild(list, 2);
+  }
+  /**
+   * Retrieves the number of children in the TypeBound list.
+   * @return Number of children in the TypeBound list.
+   * @apilevel high-level
+   */
+  public int getNumTypeBound() {
+    return getTypeBoundList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the TypeBound list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the TypeBound list.
+   * @apilevel low-level
+   */
+  public int getNumTypeBoundNoTransform() {
+    return getTypeBoundListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the TypeBound list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the TypeBound list.
+   * @apilevel high-level
+   */
+  public Access getTypeBound(int i) {
+    return (Access) getTypeBoundList().getChild(i);
+  }
+  /**
+   * Check whether the TypeBound list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasTypeBound() {
+    return getTypeBoundList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the TypeBound list.
+   * @param node The element to append to the TypeBound list.
+   * @apilevel high-level
+   */
+  public void addTypeBound(Access node) {
+    List<Access> list = (parent == null) ? getTypeBoundListNoTransform() : getTypeBoundList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addTypeBoundNoTransform(Access node) {
+    List<Access> list = getTypeBoundListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the TypeBound list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setTypeBound(Access node, int i) {
+    List<Access> list = getTypeBoundList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the TypeBound list.
+   * @return The node representing the TypeBound list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="TypeBound")
+  public List<Access> getTypeBoundList() {
+    List<Access> list = (List<Access>) getChild(2);
+    return list;
+  }
+  /**
+   * Retrieves the TypeBound list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeBound list.
+   * @apilevel low-level
+   */
+  public List<Access> getTypeBoundListNoTransform() {
+    return (List<Access>) getChildNoTransform(2);
+  }
+  /**
+   * @return the element at index {@code i} in the TypeBound list without
+   * triggering rewrites.
+   */
+  public Access getTypeBoundNoTransform(int i) {
+    return (Access) getTypeBoundListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the TypeBound list.
+   * @return The node representing the TypeBound list.
+   * @apilevel high-level
+   */
+  public List<Access> getTypeBounds() {
+    return getTypeBoundList();
+  }
+  /**
+   * Retrieves the TypeBound list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeBound list.
+   * @apilevel low-level
+   */
+  public List<Access> getTypeBoundsNoTransform() {
+    return getTypeBoundListNoTransform();
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1866
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1866")
+  public String typeName() {
+    state().trace().computeBegin(this, "GLBType.typeName()", "", "");
+    try {
+        if (getNumTypeBound() == 0) {
+          return "<NOTYPE>";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(getTypeBound(0).type().typeName());
+        for (int i = 1; i < getNumTypeBound(); i++) {
+          sb.append(" & " + getTypeBound(i).type().typeName());
+        }
+        return sb.toString();
+      }
+    finally {
+      state().trace().computeEnd(this, "GLBType.typeName()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:414
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:414")
+  public boolean supertypeLUBType(LUBType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeLUBType(LUBType)", _parameters, "");
+    try {
+        // TODO(joqvist): changed from Access to TypeDecl, is this correct?
+        ArrayList<TypeDecl> bounds = new ArrayList<TypeDecl>(getNumTypeBound());
+        for (int i = 0; i < getNumTypeBound(); i++) {
+          bounds.add(getTypeBound(i).type());
+        }
+        return type == lookupLUBType(bounds);
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.supertypeLUBType(LUBType)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void subtype_TypeDecl_reset() {
+    subtype_TypeDecl_values = null;
+  }
+  protected java.util.Map subtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:456")
+  public boolean subtype(TypeDecl type) {
+    Object _parameters = type;
+    if (subtype_TypeDecl_values == null) subtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (subtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = subtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.subtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      subtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_subtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+        new_subtype_TypeDecl_value = type.supertypeGLBType(this);
+        state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+        if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_subtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      subtype_TypeDecl_values.put(_parameters, new_subtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_subtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+      boolean new_subtype_TypeDecl_value = type.supertypeGLBType(this);
+      state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_subtype_TypeDecl_value;
+      }
+      return new_subtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:438
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:438")
+  public boolean supertypeGLBType(GLBType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGLBType(GLBType)", _parameters, "");
+    boolean supertypeGLBType_GLBType_value = this == type;
+    state().trace().computeEnd(this, "TypeDecl.supertypeGLBType(GLBType)", _parameters, supertypeGLBType_GLBType_value);
+    return supertypeGLBType_GLBType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:321
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:321")
+  public boolean strictSupertypeLUBType(LUBType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeLUBType(LUBType)", _parameters, "");
+    try {
+        // TODO(joqvist): changed from Access to TypeDecl, is this correct?
+        ArrayList<TypeDecl> bounds = new ArrayList<TypeDecl>(getNumTypeBound());
+        for (int i = 0; i < getNumTypeBound(); i++) {
+          bounds.add(getTypeBound(i).type());
+        }
+        return type == lookupLUBType(bounds);
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.strictSupertypeLUBType(LUBType)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void strictSubtype_TypeDecl_reset() {
+    strictSubtype_TypeDecl_values = null;
+  }
+  protected java.util.Map strictSubtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:363")
+  public boolean strictSubtype(TypeDecl type) {
+    Object _parameters = type;
+    if (strictSubtype_TypeDecl_values == null) strictSubtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (strictSubtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = strictSubtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      strictSubtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_strictSubtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+        new_strictSubtype_TypeDecl_value = type.strictSupertypeGLBType(this);
+        state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+        if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_strictSubtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      strictSubtype_TypeDecl_values.put(_parameters, new_strictSubtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_strictSubtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+      boolean new_strictSubtype_TypeDecl_value = type.strictSupertypeGLBType(this);
+      state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_strictSubtype_TypeDecl_value;
+      }
+      return new_strictSubtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:342
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:342")
+  public boolean strictSupertypeGLBType(GLBType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGLBType(GLBType)", _parameters, "");
+    boolean strictSupertypeGLBType_GLBType_value = this == type;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeGLBType(GLBType)", _parameters, strictSupertypeGLBType_GLBType_value);
+    return strictSupertypeGLBType_GLBType_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,1347 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * This is a "signature" copy of a class declaration used inside a
+ * parameterized declaration.
+ * 
+ * <p>Member declaration signatures are copied on demand by the BodyDecl NTA.
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Generics.ast:107
+ * @production GenericClassDeclSubstituted : {@link GenericClassDecl} ::= <span class="component">&lt;Original:TypeDecl&gt;</span> <span class="component">{@link BodyDecl}*</span>;
+
+ */
+public class GenericClassDeclSubstituted extends GenericClassDecl implements Cloneable, MemberSubstitutor {
+  /**
+   * @declaredat ASTNode:1
+   */
+  public GenericClassDeclSubstituted() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[6];
+    setChild(new Opt(), 1);
+    setChild(new List(), 2);
+    setChild(new List(), 3);
+    setChild(new Opt(), 4);
+    setChild(new List(), 5);
+  }
+  /**
+   * @declaredat ASTNode:18
+   */
+  public GenericClassDeclSubstituted(Modifiers p0, String p1, Opt<Access> p2, List<Access> p3, List<TypeVariable> p4, TypeDecl p5) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+    setChild(p4, 3);
+    setOriginal(p5);
+  }
+  /**
+   * @declaredat ASTNode:26
+   */
+  public GenericClassDeclSubstituted(Modifiers p0, beaver.Symbol p1, Opt<Access> p2, List<Access> p3, List<TypeVariable> p4, TypeDecl p5) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+    setChild(p4, 3);
+    setOriginal(p5);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:35
+   */
+  protected int numChildren() {
+    return 4;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:41
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:45
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    getBodyDeclList_reset();
+    sourceTypeDecl_reset();
+    subtype_TypeDecl_reset();
+    typeDescriptor_reset();
+    constantPoolName_reset();
+    uniqueIndex_reset();
+    strictSubtype_TypeDecl_reset();
+    localMethods_reset();
+    localFields_String_reset();
+    localTypeDecls_String_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:59
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:63
+   */
+  public GenericClassDeclSubstituted clone() throws CloneNotSupportedException {
+    GenericClassDeclSubstituted node = (GenericClassDeclSubstituted) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:68
+   */
+  public GenericClassDeclSubstituted copy() {
+    try {
+      GenericClassDeclSubstituted node = (GenericClassDeclSubstituted) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:87
+   */
+  @Deprecated
+  public GenericClassDeclSubstituted fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:97
+   */
+  public GenericClassDeclSubstituted treeCopyNoTransform() {
+    GenericClassDeclSubstituted tree = (GenericClassDeclSubstituted) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 4:
+          tree.children[i] = new Opt();
+          continue;
+        case 5:
+          tree.children[i] = new List();
+          continue;
+        }
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:125
+   */
+  public GenericClassDeclSubstituted treeCopy() {
+    GenericClassDeclSubstituted tree = (GenericClassDeclSubstituted) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 4:
+          tree.children[i] = new Opt();
+          continue;
+        case 5:
+          tree.children[i] = new List();
+          continue;
+        }
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:147
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((GenericClassDeclSubstituted) node).tokenString_ID) && (tokenTypeDecl_Original == ((GenericClassDeclSubstituted) node).tokenTypeDecl_Original);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the optional node for the SuperClass child. This is the <code>Opt</code>
+   * node containing the child SuperClass, not the actual child!
+   * @param opt The new node to be used as the optional node for the SuperClass child.
+   * @apilevel low-level
+   */
+  public void setSuperClassOpt(Opt<Access> opt) {
+    setChild(opt, 1);
+  }
+  /**
+   * Replaces the (optional) SuperClass child.
+   * @param node The new node to be used as the SuperClass child.
+   * @apilevel high-level
+   */
+  public void setSuperClass(Access node) {
+    getSuperClassOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional SuperClass child exists.
+   * @return {@code true} if the optional SuperClass child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasSuperClass() {
+    return getSuperClassOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) SuperClass child.
+   * @return The SuperClass child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Access getSuperClass() {
+    return (Access) getSuperClassOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the SuperClass child. This is the <code>Opt</code> node containing the child SuperClass, not the actual child!
+   * @return The optional node for child the SuperClass child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="SuperClass")
+  public Opt<Access> getSuperClassOpt() {
+    return (Opt<Access>) getChild(1);
+  }
+  /**
+   * Retrieves the optional node for child SuperClass. This is the <code>Opt</code> node containing the child SuperClass, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child SuperClass.
+   * @apilevel low-level
+   */
+  public Opt<Access> getSuperClassOptNoTransform() {
+    return (Opt<Access>) getChildNoTransform(1);
+  }
+  /**
+   * Replaces the Implements list.
+   * @param list The new list node to be used as the Implements list.
+   * @apilevel high-level
+   */
+  public void setImplementsList(List<Access> list) {
+    setChild(list, 2);
+  }
+  /**
+   * Retrieves the number of children in the Implements list.
+   * @return Number of children in the Implements list.
+   * @apilevel high-level
+   */
+  public int getNumImplements() {
+    return getImplementsList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Implements list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Implements list.
+   * @apilevel low-level
+   */
+  public int getNumImplementsNoTransform() {
+    return getImplementsListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Implements list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Implements list.
+   * @apilevel high-level
+   */
+  public Access getImplements(int i) {
+    return (Access) getImplementsList().getChild(i);
+  }
+  /**
+   * Check whether the Implements list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasImplements() {
+    return getImplementsList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Implements list.
+   * @param node The element to append to the Implements list.
+   * @apilevel high-level
+   */
+  public void addImplements(Access node) {
+    List<Access> list = (parent == null) ? getImplementsListNoTransform() : getImplementsList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addImplementsNoTransform(Access node) {
+    List<Access> list = getImplementsListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Implements list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setImplements(Access node, int i) {
+    List<Access> list = getImplementsList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Implements list.
+   * @return The node representing the Implements list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Implements")
+  public List<Access> getImplementsList() {
+    List<Access> list = (List<Access>) getChild(2);
+    return list;
+  }
+  /**
+   * Retrieves the Implements list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Implements list.
+   * @apilevel low-level
+   */
+  public List<Access> getImplementsListNoTransform() {
+    return (List<Access>) getChildNoTransform(2);
+  }
+  /**
+   * @return the element at index {@code i} in the Implements list without
+   * triggering rewrites.
+   */
+  public Access getImplementsNoTransform(int i) {
+    return (Access) getImplementsListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Implements list.
+   * @return The node representing the Implements list.
+   * @apilevel high-level
+   */
+  public List<Access> getImplementss() {
+    return getImplementsList();
+  }
+  /**
+   * Retrieves the Implements list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Implements list.
+   * @apilevel low-level
+   */
+  public List<Access> getImplementssNoTransform() {
+    return getImplementsListNoTransform();
+  }
+  /**
+   * Replaces the TypeParameter list.
+   * @param list The new list node to be used as the TypeParameter list.
+   * @apilevel high-level
+   */
+  public void setTypeParameterList(List<TypeVariable> list) {
+    setChild(list, 3);
+  }
+  /**
+   * Retrieves the number of children in the TypeParameter list.
+   * @return Number of children in the TypeParameter list.
+   * @apilevel high-level
+   */
+  public int getNumTypeParameter() {
+    return getTypeParameterList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the TypeParameter list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the TypeParameter list.
+   * @apilevel low-level
+   */
+  public int getNumTypeParameterNoTransform() {
+    return getTypeParameterListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the TypeParameter list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the TypeParameter list.
+   * @apilevel high-level
+   */
+  public TypeVariable getTypeParameter(int i) {
+    return (TypeVariable) getTypeParameterList().getChild(i);
+  }
+  /**
+   * Check whether the TypeParameter list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasTypeParameter() {
+    return getTypeParameterList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the TypeParameter list.
+   * @param node The element to append to the TypeParameter list.
+   * @apilevel high-level
+   */
+  public void addTypeParameter(TypeVariable node) {
+    List<TypeVariable> list = (parent == null) ? getTypeParameterListNoTransform() : getTypeParameterList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addTypeParameterNoTransform(TypeVariable node) {
+    List<TypeVariable> list = getTypeParameterListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the TypeParameter list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setTypeParameter(TypeVariable node, int i) {
+    List<TypeVariable> list = getTypeParameterList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * @return The node representing the TypeParameter list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="TypeParameter")
+  public List<TypeVariable> getTypeParameterList() {
+    List<TypeVariable> list = (List<TypeVariable>) getChild(3);
+    return list;
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeParameter list.
+   * @apilevel low-level
+   */
+  public List<TypeVariable> getTypeParameterListNoTransform() {
+    return (List<TypeVariable>) getChildNoTransform(3);
+  }
+  /**
+   * @return the element at index {@code i} in the TypeParameter list without
+   * triggering rewrites.
+   */
+  public TypeVariable getTypeParameterNoTransform(int i) {
+    return (TypeVariable) getTypeParameterListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * @return The node representing the TypeParameter list.
+   * @apilevel high-level
+   */
+  public List<TypeVariable> getTypeParameters() {
+    return getTypeParameterList();
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeParameter list.
+   * @apilevel low-level
+   */
+  public List<TypeVariable> getTypeParametersNoTransform() {
+    return getTypeParameterListNoTransform();
+  }
+  /**
+   * Replaces the lexeme Original.
+   * @param value The new value for the lexeme Original.
+   * @apilevel high-level
+   */
+  public void setOriginal(TypeDecl value) {
+    tokenTypeDecl_Original = value;
+  }
+  /** @apilevel internal 
+   */
+  protected TypeDecl tokenTypeDecl_Original;
+  /**
+   * Retrieves the value for the lexeme Original.
+   * @return The value for the lexeme Original.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="Original")
+  public TypeDecl getOriginal() {
+    return tokenTypeDecl_Original;
+  }
+  /**
+   * Replaces the (optional) ImplicitConstructor child.
+   * @param node The new node to be used as the ImplicitConstructor child.
+   * @apilevel high-level
+   */
+  public void setImplicitConstructor(ConstructorDecl node) {
+    getImplicitConstructorOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional ImplicitConstructor child exists.
+   * @return {@code true} if the optional ImplicitConstructor child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasImplicitConstructor() {
+    return getImplicitConstructorOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) ImplicitConstructor child.
+   * @return The ImplicitConstructor child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public ConstructorDecl getImplicitConstructor() {
+    return (ConstructorDecl) getImplicitConstructorOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for child ImplicitConstructor. This is the <code>Opt</code> node containing the child ImplicitConstructor, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child ImplicitConstructor.
+   * @apilevel low-level
+   */
+  public Opt<ConstructorDecl> getImplicitConstructorOptNoTransform() {
+    return (Opt<ConstructorDecl>) getChildNoTransform(4);
+  }
+  /**
+   * Retrieves the child position of the optional child ImplicitConstructor.
+   * @return The the child position of the optional child ImplicitConstructor.
+   * @apilevel low-level
+   */
+  protected int getImplicitConstructorOptChildPosition() {
+    return 4;
+  }
+  /**
+   * This method should not be called. This method throws an exception due to
+   * the corresponding child being an NTA shadowing a non-NTA child.
+   * @param node
+   * @apilevel internal
+   */
+  public void setBodyDeclList(List<BodyDecl> node) {
+    throw new Error("Can not replace NTA child BodyDeclList in GenericClassDeclSubstituted!");
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the child position of the BodyDecl list.
+   * @return The the child position of the BodyDecl list.
+   * @apilevel low-level
+   */
+  protected int getBodyDeclListChildPosition() {
+    return 5;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(5);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:682
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:682")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "TypeDecl.hostType()", "", "");
+    TypeDecl hostType_value = getOriginal();
+    state().trace().computeEnd(this, "TypeDecl.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1684
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1684")
+  public TypeDecl original() {
+    state().trace().computeBegin(this, "TypeDecl.original()", "", "");
+    TypeDecl original_value = getOriginal().original();
+    state().trace().computeEnd(this, "TypeDecl.original()", "", original_value);
+    return original_value;
+  }
+  /** @apilevel internal */
+  private void getBodyDeclList_reset() {
+    getBodyDeclList_computed = false;
+    
+    getBodyDeclList_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean getBodyDeclList_computed = false;
+
+  /** @apilevel internal */
+  protected List<BodyDecl> getBodyDeclList_value;
+
+  /**
+   * @attribute syn nta
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1716
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1716")
+  public List<BodyDecl> getBodyDeclList() {
+    ASTState state = state();
+    if (getBodyDeclList_computed) {
+      state().trace().cacheRead(this, "GenericClassDeclSubstituted.getBodyDeclList()", "", getBodyDeclList_value);
+      return (List<BodyDecl>) getChild(getBodyDeclListChildPosition());
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "GenericClassDeclSubstituted.getBodyDeclList()", "", "");
+    getBodyDeclList_value = getOriginal().substitutedBodyDecls();
+    state().trace().computeEnd(this, "GenericClassDeclSubstituted.getBodyDeclList()", "", getBodyDeclList_value);
+    setChild(getBodyDeclList_value, getBodyDeclListChildPosition());
+    getBodyDeclList_computed = true;
+    state().trace().cacheWrite(this, "GenericClassDeclSubstituted.getBodyDeclList()", "", getBodyDeclList_value);
+    state().leaveLazyAttribute();
+    List<BodyDecl> node = (List<BodyDecl>) this.getChild(getBodyDeclListChildPosition());
+    return node;
+  }
+  /** @apilevel internal */
+  private void sourceTypeDecl_reset() {
+    sourceTypeDecl_computed = null;
+    sourceTypeDecl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle sourceTypeDecl_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl sourceTypeDecl_value;
+
+  /**
+   * @attribute syn
+   * @aspect SourceDeclarations
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1906
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SourceDeclarations", declaredAt="/root/project/java5/frontend/Generics.jrag:1906")
+  public TypeDecl sourceTypeDecl() {
+    ASTState state = state();
+    if (sourceTypeDecl_computed == ASTState.NON_CYCLE || sourceTypeDecl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+      return sourceTypeDecl_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.sourceTypeDecl()", "", "");
+    sourceTypeDecl_value = original().sourceTypeDecl();
+    state().trace().computeEnd(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    if (state().inCircle()) {
+      sourceTypeDecl_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    } else {
+      sourceTypeDecl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    }
+    return sourceTypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void subtype_TypeDecl_reset() {
+    subtype_TypeDecl_values = null;
+  }
+  protected java.util.Map subtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:456")
+  public boolean subtype(TypeDecl type) {
+    Object _parameters = type;
+    if (subtype_TypeDecl_values == null) subtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (subtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = subtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.subtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      subtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_subtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+        new_subtype_TypeDecl_value = type.supertypeGenericClassDeclSubstituted(this);
+        state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+        if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_subtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      subtype_TypeDecl_values.put(_parameters, new_subtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_subtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+      boolean new_subtype_TypeDecl_value = type.supertypeGenericClassDeclSubstituted(this);
+      state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_subtype_TypeDecl_value;
+      }
+      return new_subtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:489
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:489")
+  public boolean supertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted)", _parameters, "");
+    boolean supertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value = original() == type.original() && type.enclosingType().subtype(enclosingType())
+              || super.supertypeGenericClassDeclSubstituted(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted)", _parameters, supertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value);
+    return supertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:41")
+  public boolean supertypeGenericClassDecl(GenericClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGenericClassDecl(GenericClassDecl)", _parameters, "");
+    boolean supertypeGenericClassDecl_GenericClassDecl_value = super.supertypeGenericClassDecl(type) || original().supertypeGenericClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeGenericClassDecl(GenericClassDecl)", _parameters, supertypeGenericClassDecl_GenericClassDecl_value);
+    return supertypeGenericClassDecl_GenericClassDecl_value;
+  }
+  /** @apilevel internal */
+  private void typeDescriptor_reset() {
+    typeDescriptor_computed = null;
+    typeDescriptor_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeDescriptor_computed = null;
+
+  /** @apilevel internal */
+  protected String typeDescriptor_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:78")
+  public String typeDescriptor() {
+    ASTState state = state();
+    if (typeDescriptor_computed == ASTState.NON_CYCLE || typeDescriptor_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+      return typeDescriptor_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeDescriptor()", "", "");
+    typeDescriptor_value = original().typeDescriptor();
+    state().trace().computeEnd(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    if (state().inCircle()) {
+      typeDescriptor_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    } else {
+      typeDescriptor_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    }
+    return typeDescriptor_value;
+  }
+  /** @apilevel internal */
+  private void constantPoolName_reset() {
+    constantPoolName_computed = null;
+    constantPoolName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constantPoolName_computed = null;
+
+  /** @apilevel internal */
+  protected String constantPoolName_value;
+
+  /**
+   * For a top-level type the constant pool name of the type is the same as the
+   * canonical name but with dots replaced by solidus.
+   * 
+   * <p>For nested types the constant pool name is based on the enclosing top-level
+   * types constant pool name followed by a dollar sign and a unique index and/or
+   * the type name.
+   * 
+   * @return constant pool name of this type
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:44")
+  public String constantPoolName() {
+    ASTState state = state();
+    if (constantPoolName_computed == ASTState.NON_CYCLE || constantPoolName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+      return constantPoolName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.constantPoolName()", "", "");
+    constantPoolName_value = original().constantPoolName();
+    state().trace().computeEnd(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    if (state().inCircle()) {
+      constantPoolName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    } else {
+      constantPoolName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    }
+    return constantPoolName_value;
+  }
+  /** @apilevel internal */
+  private void uniqueIndex_reset() {
+    uniqueIndex_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle uniqueIndex_computed = null;
+
+  /** @apilevel internal */
+  protected int uniqueIndex_value;
+
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:35")
+  public int uniqueIndex() {
+    ASTState state = state();
+    if (uniqueIndex_computed == ASTState.NON_CYCLE || uniqueIndex_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+      return uniqueIndex_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.uniqueIndex()", "", "");
+    uniqueIndex_value = original().uniqueIndex();
+    state().trace().computeEnd(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    if (state().inCircle()) {
+      uniqueIndex_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    } else {
+      uniqueIndex_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    }
+    return uniqueIndex_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:999
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:999")
+  public String arrayTypeDescriptor() {
+    state().trace().computeBegin(this, "TypeDecl.arrayTypeDescriptor()", "", "");
+    String arrayTypeDescriptor_value = original().arrayTypeDescriptor();
+    state().trace().computeEnd(this, "TypeDecl.arrayTypeDescriptor()", "", arrayTypeDescriptor_value);
+    return arrayTypeDescriptor_value;
+  }
+  /** @apilevel internal */
+  private void strictSubtype_TypeDecl_reset() {
+    strictSubtype_TypeDecl_values = null;
+  }
+  protected java.util.Map strictSubtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:363")
+  public boolean strictSubtype(TypeDecl type) {
+    Object _parameters = type;
+    if (strictSubtype_TypeDecl_values == null) strictSubtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (strictSubtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = strictSubtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      strictSubtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_strictSubtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+        new_strictSubtype_TypeDecl_value = type.strictSupertypeGenericClassDeclSubstituted(this);
+        state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+        if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_strictSubtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      strictSubtype_TypeDecl_values.put(_parameters, new_strictSubtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_strictSubtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+      boolean new_strictSubtype_TypeDecl_value = type.strictSupertypeGenericClassDeclSubstituted(this);
+      state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_strictSubtype_TypeDecl_value;
+      }
+      return new_strictSubtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:465
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:465")
+  public boolean strictSupertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted)", _parameters, "");
+    boolean strictSupertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value = original() == type.original() && type.enclosingType().strictSubtype(enclosingType())
+          || super.strictSupertypeGenericClassDeclSubstituted(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted)", _parameters, strictSupertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value);
+    return strictSupertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:39")
+  public boolean strictSupertypeGenericClassDecl(GenericClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGenericClassDecl(GenericClassDecl)", _parameters, "");
+    boolean strictSupertypeGenericClassDecl_GenericClassDecl_value = super.strictSupertypeGenericClassDecl(type)
+          || original().strictSupertypeGenericClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeGenericClassDecl(GenericClassDecl)", _parameters, strictSupertypeGenericClassDecl_GenericClassDecl_value);
+    return strictSupertypeGenericClassDecl_GenericClassDecl_value;
+  }
+  /** @apilevel internal */
+  private void localMethods_reset() {
+    localMethods_computed = null;
+    localMethods_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localMethods_computed = null;
+
+  /** @apilevel internal */
+  protected java.util.List<MethodDecl> localMethods_value;
+
+  /**
+   * Substituted local methods.
+   * 
+   * <p>Includes all non-substitutable original methods plus all substituted methods.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1368
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1368")
+  public java.util.List<MethodDecl> localMethods() {
+    ASTState state = state();
+    if (localMethods_computed == ASTState.NON_CYCLE || localMethods_computed == state().cycle()) {
+      state().trace().cacheRead(this, "GenericClassDeclSubstituted.localMethods()", "", localMethods_value);
+      return localMethods_value;
+    }
+    state().trace().computeBegin(this, "GenericClassDeclSubstituted.localMethods()", "", "");
+    localMethods_value = localMethods_compute();
+    state().trace().computeEnd(this, "GenericClassDeclSubstituted.localMethods()", "", localMethods_value);
+    if (state().inCircle()) {
+      localMethods_computed = state().cycle();
+      state().trace().cacheWrite(this, "GenericClassDeclSubstituted.localMethods()", "", localMethods_value);
+    } else {
+      localMethods_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "GenericClassDeclSubstituted.localMethods()", "", localMethods_value);
+    }
+    return localMethods_value;
+  }
+  /** @apilevel internal */
+  private java.util.List<MethodDecl> localMethods_compute() {
+      ArrayList<MethodDecl> methods = new ArrayList<MethodDecl>();
+      for (MethodDecl m : original().localMethods()) {
+        if (!m.isSubstitutable()) {
+          methods.add(m);
+        }
+      }
+      for (BodyDecl decl : getBodyDeclList()) {
+        if (decl instanceof MethodDecl) {
+          methods.add((MethodDecl) decl);
+        }
+      }
+      return methods;
+    }
+  /** @apilevel internal */
+  private void localFields_String_reset() {
+    localFields_String_computed = new java.util.HashMap(4);
+    localFields_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map localFields_String_values;
+  /** @apilevel internal */
+  protected java.util.Map localFields_String_computed;
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1383
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1383")
+  public SimpleSet<Variable> localFields(String name) {
+    Object _parameters = name;
+    if (localFields_String_computed == null) localFields_String_computed = new java.util.HashMap(4);
+    if (localFields_String_values == null) localFields_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (localFields_String_values.containsKey(_parameters) && localFields_String_computed != null
+        && localFields_String_computed.containsKey(_parameters)
+        && (localFields_String_computed.get(_parameters) == ASTState.NON_CYCLE || localFields_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "GenericClassDeclSubstituted.localFields(String)", _parameters, localFields_String_values.get(_parameters));
+      return (SimpleSet<Variable>) localFields_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "GenericClassDeclSubstituted.localFields(String)", _parameters, "");
+    SimpleSet<Variable> localFields_String_value = localFields_compute(name);
+    state().trace().computeEnd(this, "GenericClassDeclSubstituted.localFields(String)", _parameters, localFields_String_value);
+    if (state().inCircle()) {
+      localFields_String_values.put(_parameters, localFields_String_value);
+      localFields_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "GenericClassDeclSubstituted.localFields(String)", _parameters, localFields_String_value);
+    } else {
+      localFields_String_values.put(_parameters, localFields_String_value);
+      localFields_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "GenericClassDeclSubstituted.localFields(String)", _parameters, localFields_String_value);
+    }
+    return localFields_String_value;
+  }
+  /** @apilevel internal */
+  private SimpleSet<Variable> localFields_compute(String name) {
+      SimpleSet<Variable> set = emptySet();
+      for (Variable field : original().localFields(name)) {
+        if (field.name().equals(name)
+            && field.fieldDecl() != null && !field.fieldDecl().isSubstitutable()) {
+          set = set.add(field);
+        }
+      }
+      for (BodyDecl decl : getBodyDeclList()) {
+        if (decl instanceof FieldDecl) {
+          FieldDecl field = (FieldDecl) decl;
+          for (FieldDeclarator f : field.getDeclaratorList()) {
+            if (f.name().equals(name)) {
+              set = set.add(f);
+            }
+          }
+        }
+      }
+      return set;
+    }
+  /** @apilevel internal */
+  private void localTypeDecls_String_reset() {
+    localTypeDecls_String_values = null;
+  }
+  protected java.util.Map localTypeDecls_String_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1414")
+  public SimpleSet<TypeDecl> localTypeDecls(String name) {
+    Object _parameters = name;
+    if (localTypeDecls_String_values == null) localTypeDecls_String_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (localTypeDecls_String_values.containsKey(_parameters)) {
+      Object _cache = localTypeDecls_String_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "GenericClassDeclSubstituted.localTypeDecls(String)", _parameters, _cache);
+        return (SimpleSet<TypeDecl>) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      localTypeDecls_String_values.put(_parameters, _value);
+      _value.value = emptySet();
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      SimpleSet<TypeDecl> new_localTypeDecls_String_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "GenericClassDeclSubstituted.localTypeDecls(String)", _parameters, "");
+        new_localTypeDecls_String_value = localTypeDecls_compute(name);
+        state().trace().computeEnd(this, "GenericClassDeclSubstituted.localTypeDecls(String)", _parameters, _value.value);
+        if ((new_localTypeDecls_String_value == null && ((SimpleSet<TypeDecl>)_value.value) != null) || (new_localTypeDecls_String_value != null && !new_localTypeDecls_String_value.equals(((SimpleSet<TypeDecl>)_value.value)))) {
+          state.setChangeInCycle();
+          _value.value = new_localTypeDecls_String_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      localTypeDecls_String_values.put(_parameters, new_localTypeDecls_String_value);
+      state().trace().cacheWrite(this, "GenericClassDeclSubstituted.localTypeDecls(String)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_localTypeDecls_String_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "GenericClassDeclSubstituted.localTypeDecls(String)", _parameters, "");
+      SimpleSet<TypeDecl> new_localTypeDecls_String_value = localTypeDecls_compute(name);
+      state().trace().computeEnd(this, "GenericClassDeclSubstituted.localTypeDecls(String)", _parameters, _value.value);
+      if ((new_localTypeDecls_String_value == null && ((SimpleSet<TypeDecl>)_value.value) != null) || (new_localTypeDecls_String_value != null && !new_localTypeDecls_String_value.equals(((SimpleSet<TypeDecl>)_value.value)))) {
+        state.setChangeInCycle();
+        _value.value = new_localTypeDecls_String_value;
+      }
+      return new_localTypeDecls_String_value;
+    } else {
+      return (SimpleSet<TypeDecl>) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private SimpleSet<TypeDecl> localTypeDecls_compute(String name) {
+      SimpleSet<TypeDecl> set = emptySet();
+      for (TypeDecl type : original().localTypeDecls(name)) {
+        if (type.isStatic()) {
+          set = set.add(type);
+        }
+      }
+      for (BodyDecl decl : getBodyDeclList()) {
+        if (decl instanceof MemberClassDecl) {
+          ClassDecl typeDecl = ((MemberClassDecl) decl).getClassDecl();
+          if (typeDecl.name().equals(name)) {
+            set = set.add(typeDecl);
+          }
+        }
+      }
+      return set;
+    }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,1388 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Generics.ast:4
+ * @production GenericInterfaceDecl : {@link InterfaceDecl} ::= <span class="component">{@link Modifiers}</span> <span class="component">&lt;ID:String&gt;</span> <span class="component">SuperInterface:{@link Access}*</span> <span class="component">{@link BodyDecl}*</span> <span class="component">TypeParameter:{@link TypeVariable}*</span>;
+
+ */
+public class GenericInterfaceDecl extends InterfaceDecl implements Cloneable, GenericTypeDecl {
+  /**
+   * @aspect Java5PrettyPrint
+   * @declaredat /root/project/java5/frontend/PrettyPrint.jadd:247
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    if (hasDocComment()) {
+      out.print(docComment());
+    }
+    if (!out.isNewLine()) {
+      out.println();
+    }
+    out.print(getModifiers());
+    out.print("interface ");
+    out.print(getID());
+    out.print("<");
+    out.join(getTypeParameterList(), new PrettyPrinter.Joiner() {
+      @Override
+      public void printSeparator(PrettyPrinter out) {
+        out.print(", ");
+      }
+    });
+    out.print(">");
+    if (hasSuperInterface()) {
+      out.print(" extends ");
+      out.join(getSuperInterfaceList(), new PrettyPrinter.Joiner() {
+        @Override
+        public void printSeparator(PrettyPrinter out) {
+          out.print(", ");
+        }
+      });
+    }
+    out.print(" {");
+    out.println();
+    out.indent(1);
+    out.join(getBodyDecls(), new PrettyPrinter.Joiner() {
+      @Override
+      public void printSeparator(PrettyPrinter out) {
+        out.println();
+        out.println();
+      }
+    });
+    if (!out.isNewLine()) {
+      out.println();
+    }
+    out.print("}");
+  }
+  /**
+   * @aspect PrettyPrintUtil5
+   * @declaredat /root/project/java5/frontend/PrettyPrintUtil.jrag:80
+   */
+  @Override public String toString() {
+    StringBuilder params = new StringBuilder();
+    for (TypeVariable var : getTypeParameterListNoTransform()) {
+      if (params.length() > 0) {
+        params.append(", ");
+      }
+      params.append(var.toString());
+    }
+    return String.format("%s<%s>", getID(), params.toString());
+  }
+  /**
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:333
+   */
+  public TypeDecl makeGeneric(Signatures.ClassSignature s) {
+    return (TypeDecl) this;
+  }
+  /**
+   * Helper method used to interject type variable substitution into the type
+   * lookup process for generic type scopes.
+   * 
+   * <p>When the type variables should be visible to a typename lookup from
+   * inside this generic type scope, this helper method will check if there
+   * exists a type variable with the given name. If so, that type variable is
+   * the target for the lookup.
+   * @aspect GenericsNameBinding
+   * @declaredat /root/project/java5/frontend/Generics.jrag:769
+   */
+  public SimpleSet<TypeDecl> addTypeVariables(SimpleSet<TypeDecl> types,
+      String name) {
+    GenericTypeDecl original = (GenericTypeDecl) original();
+    for (int i = 0; i < original.getNumTypeParameter(); i++) {
+      TypeVariable p = original.getTypeParameter(i);
+      if (p.name().equals(name)) {
+        types = types.add(p);
+      }
+    }
+    return types;
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public GenericInterfaceDecl() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[4];
+    setChild(new List(), 1);
+    setChild(new List(), 2);
+    setChild(new List(), 3);
+  }
+  /**
+   * @declaredat ASTNode:16
+   */
+  public GenericInterfaceDecl(Modifiers p0, String p1, List<Access> p2, List<BodyDecl> p3, List<TypeVariable> p4) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+    setChild(p4, 3);
+  }
+  /**
+   * @declaredat ASTNode:23
+   */
+  public GenericInterfaceDecl(Modifiers p0, beaver.Symbol p1, List<Access> p2, List<BodyDecl> p3, List<TypeVariable> p4) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+    setChild(p4, 3);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:31
+   */
+  protected int numChildren() {
+    return 4;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:37
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    rawType_reset();
+    lookupParTypeDecl_Collection_TypeDecl__reset();
+    usesTypeVariable_reset();
+    subtype_TypeDecl_reset();
+    needsSignatureAttribute_reset();
+    classSignature_reset();
+    strictSubtype_TypeDecl_reset();
+    lookupParTypeDecl_ParTypeAccess_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:53
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:57
+   */
+  public GenericInterfaceDecl clone() throws CloneNotSupportedException {
+    GenericInterfaceDecl node = (GenericInterfaceDecl) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:62
+   */
+  public GenericInterfaceDecl copy() {
+    try {
+      GenericInterfaceDecl node = (GenericInterfaceDecl) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:81
+   */
+  @Deprecated
+  public GenericInterfaceDecl fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:91
+   */
+  public GenericInterfaceDecl treeCopyNoTransform() {
+    GenericInterfaceDecl tree = (GenericInterfaceDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:111
+   */
+  public GenericInterfaceDecl treeCopy() {
+    GenericInterfaceDecl tree = (GenericInterfaceDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:125
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((GenericInterfaceDecl) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the SuperInterface list.
+   * @param list The new list node to be used as the SuperInterface list.
+   * @apilevel high-level
+   */
+  public void setSuperInterfaceList(List<Access> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the SuperInterface list.
+   * @return Number of children in the SuperInterface list.
+   * @apilevel high-level
+   */
+  public int getNumSuperInterface() {
+    return getSuperInterfaceList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the SuperInterface list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the SuperInterface list.
+   * @apilevel low-level
+   */
+  public int getNumSuperInterfaceNoTransform() {
+    return getSuperInterfaceListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the SuperInterface list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the SuperInterface list.
+   * @apilevel high-level
+   */
+  public Access getSuperInterface(int i) {
+    return (Access) getSuperInterfaceList().getChild(i);
+  }
+  /**
+   * Check whether the SuperInterface list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasSuperInterface() {
+    return getSuperInterfaceList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the SuperInterface list.
+   * @param node The element to append to the SuperInterface list.
+   * @apilevel high-level
+   */
+  public void addSuperInterface(Access node) {
+    List<Access> list = (parent == null) ? getSuperInterfaceListNoTransform() : getSuperInterfaceList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addSuperInterfaceNoTransform(Access node) {
+    List<Access> list = getSuperInterfaceListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the SuperInterface list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setSuperInterface(Access node, int i) {
+    List<Access> list = getSuperInterfaceList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the SuperInterface list.
+   * @return The node representing the SuperInterface list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="SuperInterface")
+  public List<Access> getSuperInterfaceList() {
+    List<Access> list = (List<Access>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the SuperInterface list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the SuperInterface list.
+   * @apilevel low-level
+   */
+  public List<Access> getSuperInterfaceListNoTransform() {
+    return (List<Access>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the SuperInterface list without
+   * triggering rewrites.
+   */
+  public Access getSuperInterfaceNoTransform(int i) {
+    return (Access) getSuperInterfaceListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the SuperInterface list.
+   * @return The node representing the SuperInterface list.
+   * @apilevel high-level
+   */
+  public List<Access> getSuperInterfaces() {
+    return getSuperInterfaceList();
+  }
+  /**
+   * Retrieves the SuperInterface list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the SuperInterface list.
+   * @apilevel low-level
+   */
+  public List<Access> getSuperInterfacesNoTransform() {
+    return getSuperInterfaceListNoTransform();
+  }
+  /**
+   * Replaces the BodyDecl list.
+   * @param list The new list node to be used as the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void setBodyDeclList(List<BodyDecl> list) {
+    setChild(list, 2);
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="BodyDecl")
+  public List<BodyDecl> getBodyDeclList() {
+    List<BodyDecl> list = (List<BodyDecl>) getChild(2);
+    return list;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(2);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+  /**
+   * Replaces the TypeParameter list.
+   * @param list The new list node to be used as the TypeParameter list.
+   * @apilevel high-level
+   */
+  public void setTypeParameterList(List<TypeVariable> list) {
+    setChild(list, 3);
+  }
+  /**
+   * Retrieves the number of children in the TypeParameter list.
+   * @return Number of children in the TypeParameter list.
+   * @apilevel high-level
+   */
+  public int getNumTypeParameter() {
+    return getTypeParameterList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the TypeParameter list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the TypeParameter list.
+   * @apilevel low-level
+   */
+  public int getNumTypeParameterNoTransform() {
+    return getTypeParameterListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the TypeParameter list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the TypeParameter list.
+   * @apilevel high-level
+   */
+  public TypeVariable getTypeParameter(int i) {
+    return (TypeVariable) getTypeParameterList().getChild(i);
+  }
+  /**
+   * Check whether the TypeParameter list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasTypeParameter() {
+    return getTypeParameterList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the TypeParameter list.
+   * @param node The element to append to the TypeParameter list.
+   * @apilevel high-level
+   */
+  public void addTypeParameter(TypeVariable node) {
+    List<TypeVariable> list = (parent == null) ? getTypeParameterListNoTransform() : getTypeParameterList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addTypeParameterNoTransform(TypeVariable node) {
+    List<TypeVariable> list = getTypeParameterListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the TypeParameter list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setTypeParameter(TypeVariable node, int i) {
+    List<TypeVariable> list = getTypeParameterList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * @return The node representing the TypeParameter list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="TypeParameter")
+  public List<TypeVariable> getTypeParameterList() {
+    List<TypeVariable> list = (List<TypeVariable>) getChild(3);
+    return list;
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeParameter list.
+   * @apilevel low-level
+   */
+  public List<TypeVariable> getTypeParameterListNoTransform() {
+    return (List<TypeVariable>) getChildNoTransform(3);
+  }
+  /**
+   * @return the element at index {@code i} in the TypeParameter list without
+   * triggering rewrites.
+   */
+  public TypeVariable getTypeParameterNoTransform(int i) {
+    return (TypeVariable) getTypeParameterListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * @return The node representing the TypeParameter list.
+   * @apilevel high-level
+   */
+  public List<TypeVariable> getTypeParameters() {
+    return getTypeParameterList();
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeParameter list.
+   * @apilevel low-level
+   */
+  public List<TypeVariable> getTypeParametersNoTransform() {
+    return getTypeParameterListNoTransform();
+  }
+  /** @apilevel internal */
+  private void rawType_reset() {
+    rawType_computed = null;
+    rawType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle rawType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl rawType_value;
+
+  /**
+   * @attribute syn
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:248
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Generics", declaredAt="/root/project/java5/frontend/Generics.jrag:248")
+  public TypeDecl rawType() {
+    ASTState state = state();
+    if (rawType_computed == ASTState.NON_CYCLE || rawType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "GenericInterfaceDecl.rawType()", "", rawType_value);
+      return rawType_value;
+    }
+    state().trace().computeBegin(this, "GenericInterfaceDecl.rawType()", "", "");
+    rawType_value = lookupParTypeDecl(Collections.<TypeDecl>emptyList());
+    state().trace().computeEnd(this, "GenericInterfaceDecl.rawType()", "", rawType_value);
+    if (state().inCircle()) {
+      rawType_computed = state().cycle();
+      state().trace().cacheWrite(this, "GenericInterfaceDecl.rawType()", "", rawType_value);
+    } else {
+      rawType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "GenericInterfaceDecl.rawType()", "", rawType_value);
+    }
+    return rawType_value;
+  }
+  /** @apilevel internal */
+  private void lookupParTypeDecl_Collection_TypeDecl__reset() {
+    lookupParTypeDecl_Collection_TypeDecl__values = null;
+    lookupParTypeDecl_Collection_TypeDecl__proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode lookupParTypeDecl_Collection_TypeDecl__proxy;
+  /** @apilevel internal */
+  protected java.util.Map lookupParTypeDecl_Collection_TypeDecl__values;
+
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:945
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:945")
+  public TypeDecl lookupParTypeDecl(Collection<TypeDecl> typeArgs) {
+    Object _parameters = typeArgs;
+    if (lookupParTypeDecl_Collection_TypeDecl__values == null) lookupParTypeDecl_Collection_TypeDecl__values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupParTypeDecl_Collection_TypeDecl__values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "GenericInterfaceDecl.lookupParTypeDecl(Collection_TypeDecl_)", _parameters, lookupParTypeDecl_Collection_TypeDecl__values.get(_parameters));
+      return (TypeDecl) lookupParTypeDecl_Collection_TypeDecl__values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "GenericInterfaceDecl.lookupParTypeDecl(Collection_TypeDecl_)", _parameters, "");
+    TypeDecl lookupParTypeDecl_Collection_TypeDecl__value = lookupParTypeDecl_compute(typeArgs);
+    state().trace().computeEnd(this, "GenericInterfaceDecl.lookupParTypeDecl(Collection_TypeDecl_)", _parameters, lookupParTypeDecl_Collection_TypeDecl__value);
+    if (lookupParTypeDecl_Collection_TypeDecl__proxy == null) {
+      lookupParTypeDecl_Collection_TypeDecl__proxy = new ASTNode();
+      lookupParTypeDecl_Collection_TypeDecl__proxy.setParent(this);
+    }
+    if (lookupParTypeDecl_Collection_TypeDecl__value != null) {
+      lookupParTypeDecl_Collection_TypeDecl__value.setParent(lookupParTypeDecl_Collection_TypeDecl__proxy);
+      if (lookupParTypeDecl_Collection_TypeDecl__value.mayHaveRewrite()) {
+        lookupParTypeDecl_Collection_TypeDecl__value = (TypeDecl) lookupParTypeDecl_Collection_TypeDecl__value.rewrittenNode();
+        lookupParTypeDecl_Collection_TypeDecl__value.setParent(lookupParTypeDecl_Collection_TypeDecl__proxy);
+      }
+    }
+    lookupParTypeDecl_Collection_TypeDecl__values.put(_parameters, lookupParTypeDecl_Collection_TypeDecl__value);
+    state().trace().cacheWrite(this, "GenericInterfaceDecl.lookupParTypeDecl(Collection_TypeDecl_)", _parameters, lookupParTypeDecl_Collection_TypeDecl__value);
+    state().leaveLazyAttribute();
+    return lookupParTypeDecl_Collection_TypeDecl__value;
+  }
+  /** @apilevel internal */
+  private TypeDecl lookupParTypeDecl_compute(Collection<TypeDecl> typeArgs) {
+      Parameterization parameterization = new Parameterization(getTypeParameterList(), typeArgs);
+      Modifiers modifiers = getModifiers().treeCopyNoTransform();
+      ParInterfaceDecl typeDecl;
+      if (typeArgs.isEmpty()) {
+        // According to JLSv8 4.6 (Type Erasure), the signature of members in the
+        // erased type have no parameterized types or type variables.
+        typeDecl = new RawInterfaceDecl(
+            getModifiers().treeCopyNoTransform(),
+            getID(),
+            getTypeParameterList().treeCopyNoTransform(),
+            parameterization,
+            erasedAccessList(getSuperInterfaceList()));
+      } else {
+        typeDecl = new ParInterfaceDecl(
+            getModifiers().treeCopyNoTransform(),
+            getID(),
+            getTypeParameterList().treeCopyNoTransform(),
+            parameterization,
+            getSuperInterfaceList().treeCopyNoTransform());
+      }
+      return typeDecl;
+    }
+/** @apilevel internal */
+protected ASTState.Cycle usesTypeVariable_cycle = null;
+  /** @apilevel internal */
+  private void usesTypeVariable_reset() {
+    usesTypeVariable_computed = false;
+    usesTypeVariable_initialized = false;
+    usesTypeVariable_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_computed = false;
+
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_value;
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1341")
+  public boolean usesTypeVariable() {
+    if (usesTypeVariable_computed) {
+      state().trace().cacheRead(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      return usesTypeVariable_value;
+    }
+    ASTState state = state();
+    if (!usesTypeVariable_initialized) {
+      usesTypeVariable_initialized = true;
+      usesTypeVariable_value = false;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        usesTypeVariable_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.usesTypeVariable()", "", "");
+        boolean new_usesTypeVariable_value = true;
+        state().trace().computeEnd(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+        if (new_usesTypeVariable_value != usesTypeVariable_value) {
+          state.setChangeInCycle();
+        }
+        usesTypeVariable_value = new_usesTypeVariable_value;
+      } while (state.testAndClearChangeInCycle());
+      usesTypeVariable_computed = true;
+      state().trace().cacheWrite(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      state.leaveCircle();
+    } else if (usesTypeVariable_cycle != state.cycle()) {
+      usesTypeVariable_cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.usesTypeVariable()", "", "");
+      boolean new_usesTypeVariable_value = true;
+      state().trace().computeEnd(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      if (new_usesTypeVariable_value != usesTypeVariable_value) {
+        state.setChangeInCycle();
+      }
+      usesTypeVariable_value = new_usesTypeVariable_value;
+    } else {
+    }
+    return usesTypeVariable_value;
+  }
+  /** @apilevel internal */
+  private void subtype_TypeDecl_reset() {
+    subtype_TypeDecl_values = null;
+  }
+  protected java.util.Map subtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:456")
+  public boolean subtype(TypeDecl type) {
+    Object _parameters = type;
+    if (subtype_TypeDecl_values == null) subtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (subtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = subtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.subtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      subtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_subtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+        new_subtype_TypeDecl_value = type.supertypeGenericInterfaceDecl(this);
+        state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+        if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_subtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      subtype_TypeDecl_values.put(_parameters, new_subtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_subtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+      boolean new_subtype_TypeDecl_value = type.supertypeGenericInterfaceDecl(this);
+      state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_subtype_TypeDecl_value;
+      }
+      return new_subtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:152
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:152")
+  public boolean supertypeParClassDecl(ParClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeParClassDecl(ParClassDecl)", _parameters, "");
+    boolean supertypeParClassDecl_ParClassDecl_value = type.genericDecl().original().subtype(this);
+    state().trace().computeEnd(this, "TypeDecl.supertypeParClassDecl(ParClassDecl)", _parameters, supertypeParClassDecl_ParClassDecl_value);
+    return supertypeParClassDecl_ParClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:156
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:156")
+  public boolean supertypeParInterfaceDecl(ParInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, "");
+    boolean supertypeParInterfaceDecl_ParInterfaceDecl_value = type.genericDecl().original().subtype(this);
+    state().trace().computeEnd(this, "TypeDecl.supertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, supertypeParInterfaceDecl_ParInterfaceDecl_value);
+    return supertypeParInterfaceDecl_ParInterfaceDecl_value;
+  }
+  /**
+   * A type is reifiable if it either refers to a non-parameterized type,
+   * is a raw type, is a parameterized type with only unbound wildcard
+   * parameters or is an array type with a reifiable type parameter.
+   * 
+   * @see "JLS SE7 &sect;4.7"
+   * @attribute syn
+   * @aspect ReifiableTypes
+   * @declaredat /root/project/java5/frontend/ReifiableTypes.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReifiableTypes", declaredAt="/root/project/java5/frontend/ReifiableTypes.jrag:39")
+  public boolean isReifiable() {
+    state().trace().computeBegin(this, "TypeDecl.isReifiable()", "", "");
+    boolean isReifiable_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isReifiable()", "", isReifiable_value);
+    return isReifiable_value;
+  }
+  /** @apilevel internal */
+  private void needsSignatureAttribute_reset() {
+    needsSignatureAttribute_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle needsSignatureAttribute_computed = null;
+
+  /** @apilevel internal */
+  protected boolean needsSignatureAttribute_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:406
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:406")
+  public boolean needsSignatureAttribute() {
+    ASTState state = state();
+    if (needsSignatureAttribute_computed == ASTState.NON_CYCLE || needsSignatureAttribute_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+      return needsSignatureAttribute_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.needsSignatureAttribute()", "", "");
+    needsSignatureAttribute_value = true;
+    state().trace().computeEnd(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    if (state().inCircle()) {
+      needsSignatureAttribute_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    } else {
+      needsSignatureAttribute_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    }
+    return needsSignatureAttribute_value;
+  }
+  /** @apilevel internal */
+  private void classSignature_reset() {
+    classSignature_computed = null;
+    classSignature_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle classSignature_computed = null;
+
+  /** @apilevel internal */
+  protected String classSignature_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:465
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:465")
+  public String classSignature() {
+    ASTState state = state();
+    if (classSignature_computed == ASTState.NON_CYCLE || classSignature_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.classSignature()", "", classSignature_value);
+      return classSignature_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.classSignature()", "", "");
+    classSignature_value = classSignature_compute();
+    state().trace().computeEnd(this, "TypeDecl.classSignature()", "", classSignature_value);
+    if (state().inCircle()) {
+      classSignature_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.classSignature()", "", classSignature_value);
+    } else {
+      classSignature_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.classSignature()", "", classSignature_value);
+    }
+    return classSignature_value;
+  }
+  /** @apilevel internal */
+  private String classSignature_compute() {
+      StringBuilder buf = new StringBuilder();
+      buf.append("<");
+      for (int i = 0; i < getNumTypeParameter(); i++) {
+        buf.append(getTypeParameter(i).formalTypeParameter());
+      }
+      buf.append(">");
+      buf.append(super.classSignature());
+      return buf.toString();
+    }
+  /** @apilevel internal */
+  private void strictSubtype_TypeDecl_reset() {
+    strictSubtype_TypeDecl_values = null;
+  }
+  protected java.util.Map strictSubtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:363")
+  public boolean strictSubtype(TypeDecl type) {
+    Object _parameters = type;
+    if (strictSubtype_TypeDecl_values == null) strictSubtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (strictSubtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = strictSubtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      strictSubtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_strictSubtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+        new_strictSubtype_TypeDecl_value = type.strictSupertypeGenericInterfaceDecl(this);
+        state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+        if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_strictSubtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      strictSubtype_TypeDecl_values.put(_parameters, new_strictSubtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_strictSubtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+      boolean new_strictSubtype_TypeDecl_value = type.strictSupertypeGenericInterfaceDecl(this);
+      state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_strictSubtype_TypeDecl_value;
+      }
+      return new_strictSubtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:149
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:149")
+  public boolean strictSupertypeParClassDecl(ParClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeParClassDecl(ParClassDecl)", _parameters, "");
+    boolean strictSupertypeParClassDecl_ParClassDecl_value = type.genericDecl().original().strictSubtype(this);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeParClassDecl(ParClassDecl)", _parameters, strictSupertypeParClassDecl_ParClassDecl_value);
+    return strictSupertypeParClassDecl_ParClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:153
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:153")
+  public boolean strictSupertypeParInterfaceDecl(ParInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, "");
+    boolean strictSupertypeParInterfaceDecl_ParInterfaceDecl_value = type.genericDecl().original().strictSubtype(this);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, strictSupertypeParInterfaceDecl_ParInterfaceDecl_value);
+    return strictSupertypeParInterfaceDecl_ParInterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:243
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Generics", declaredAt="/root/project/java5/frontend/Generics.jrag:243")
+  public boolean isGenericType() {
+    state().trace().computeBegin(this, "GenericInterfaceDecl.isGenericType()", "", "");
+    boolean isGenericType_value = true;
+    state().trace().computeEnd(this, "GenericInterfaceDecl.isGenericType()", "", isGenericType_value);
+    return isGenericType_value;
+  }
+  /** @apilevel internal */
+  private void lookupParTypeDecl_ParTypeAccess_reset() {
+    lookupParTypeDecl_ParTypeAccess_computed = new java.util.HashMap(4);
+    lookupParTypeDecl_ParTypeAccess_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupParTypeDecl_ParTypeAccess_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupParTypeDecl_ParTypeAccess_computed;
+  /** Transforms the parameter and calls the lookupParTypeDecl attribute for ArrayList arguments. 
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:937
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:937")
+  public TypeDecl lookupParTypeDecl(ParTypeAccess p) {
+    Object _parameters = p;
+    if (lookupParTypeDecl_ParTypeAccess_computed == null) lookupParTypeDecl_ParTypeAccess_computed = new java.util.HashMap(4);
+    if (lookupParTypeDecl_ParTypeAccess_values == null) lookupParTypeDecl_ParTypeAccess_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupParTypeDecl_ParTypeAccess_values.containsKey(_parameters) && lookupParTypeDecl_ParTypeAccess_computed != null
+        && lookupParTypeDecl_ParTypeAccess_computed.containsKey(_parameters)
+        && (lookupParTypeDecl_ParTypeAccess_computed.get(_parameters) == ASTState.NON_CYCLE || lookupParTypeDecl_ParTypeAccess_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "GenericInterfaceDecl.lookupParTypeDecl(ParTypeAccess)", _parameters, lookupParTypeDecl_ParTypeAccess_values.get(_parameters));
+      return (TypeDecl) lookupParTypeDecl_ParTypeAccess_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "GenericInterfaceDecl.lookupParTypeDecl(ParTypeAccess)", _parameters, "");
+    TypeDecl lookupParTypeDecl_ParTypeAccess_value = lookupParTypeDecl_compute(p);
+    state().trace().computeEnd(this, "GenericInterfaceDecl.lookupParTypeDecl(ParTypeAccess)", _parameters, lookupParTypeDecl_ParTypeAccess_value);
+    if (state().inCircle()) {
+      lookupParTypeDecl_ParTypeAccess_values.put(_parameters, lookupParTypeDecl_ParTypeAccess_value);
+      lookupParTypeDecl_ParTypeAccess_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "GenericInterfaceDecl.lookupParTypeDecl(ParTypeAccess)", _parameters, lookupParTypeDecl_ParTypeAccess_value);
+    } else {
+      lookupParTypeDecl_ParTypeAccess_values.put(_parameters, lookupParTypeDecl_ParTypeAccess_value);
+      lookupParTypeDecl_ParTypeAccess_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "GenericInterfaceDecl.lookupParTypeDecl(ParTypeAccess)", _parameters, lookupParTypeDecl_ParTypeAccess_value);
+    }
+    return lookupParTypeDecl_ParTypeAccess_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl lookupParTypeDecl_compute(ParTypeAccess p) {
+      Collection<TypeDecl> typeArguments = new ArrayList<TypeDecl>();
+      for (Access argument : p.getTypeArgumentList()) {
+        typeArguments.add(argument.type());
+      }
+      return lookupParTypeDecl(typeArguments);
+    }
+  /**
+   * @attribute inh
+   * @aspect GenericsTypeCheck
+   * @declaredat /root/project/java5/frontend/Generics.jrag:677
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="GenericsTypeCheck", declaredAt="/root/project/java5/frontend/Generics.jrag:677")
+  public TypeDecl typeThrowable() {
+    state().trace().computeBegin(this, "GenericInterfaceDecl.typeThrowable()", "", "");
+    TypeDecl typeThrowable_value = getParent().Define_typeThrowable(this, null);
+    state().trace().computeEnd(this, "GenericInterfaceDecl.typeThrowable()", "", typeThrowable_value);
+    return typeThrowable_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:619
+   * @apilevel internal
+   */
+  public boolean Define_isNestedType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getTypeParameterListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Generics.jrag:757
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return true;
+    }
+    else {
+      return super.Define_isNestedType(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_isNestedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:594
+   * @apilevel internal
+   */
+  public TypeDecl Define_enclosingType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getTypeParameterListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Generics.jrag:758
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return this;
+    }
+    else {
+      return super.Define_enclosingType(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_enclosingType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:231
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Generics.jrag:818
+      int index = _callerNode.getIndexOfChild(_childNode);
+      {
+          SimpleSet<TypeDecl> result = memberTypes(name);
+          if (getBodyDecl(index).visibleTypeParameters()) {
+            result = addTypeVariables(result, name);
+          }
+          if (!result.isEmpty()) {
+            return result;
+          }
+          // 8.5.2
+          if (isClassDecl() && isStatic() && !isTopLevelType()) {
+            for (TypeDecl type : lookupType(name)) {
+              if (type.isStatic() || (type.enclosingType() != null && subtype(type.enclosingType()))) {
+                result = result.add(type);
+              }
+            }
+          } else {
+            result = lookupType(name);
+          }
+          if (!result.isEmpty()) {
+            return result;
+          }
+          return topLevelType().lookupType(name); // Fix to search imports.
+          // Include type parameters if not static.
+        }
+    }
+    else if (_callerNode == getTypeParameterListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Generics.jrag:796
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      {
+          SimpleSet<TypeDecl> result = memberTypes(name);
+          result = addTypeVariables(result, name);
+          if (!result.isEmpty()) {
+            return result;
+          }
+          // 8.5.2
+          if (isClassDecl() && isStatic() && !isTopLevelType()) {
+            for (TypeDecl type : lookupType(name)) {
+              if (type.isStatic() || (type.enclosingType() != null && subtype(type.enclosingType()))) {
+                result = result.add(type);
+              }
+            }
+          } else {
+            result = lookupType(name);
+          }
+          if (!result.isEmpty()) {
+            return result;
+          }
+          return topLevelType().lookupType(name); // Fix to search imports.
+        }
+    }
+    else if (_callerNode == getSuperInterfaceListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Generics.jrag:781
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      {
+          SimpleSet<TypeDecl> result = addTypeVariables(ASTNode.<TypeDecl>emptySet(), name);
+          return !result.isEmpty() ? result : lookupType(name);
+        }
+    }
+    else {
+      return super.Define_lookupType(_callerNode, _childNode, name);
+    }
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:74
+   * @apilevel internal
+   */
+  public TypeDecl Define_genericDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return this;
+  }
+  protected boolean canDefine_genericDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TypeVariablePositions.jrag:29
+   * @apilevel internal
+   */
+  public int Define_typeVarPosition(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getTypeParameterListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TypeVariablePositions.jrag:46
+      int i = _callerNode.getIndexOfChild(_childNode);
+      return i;
+    }
+    else {
+      return getParent().Define_typeVarPosition(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_typeVarPosition(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TypeVariablePositions.jrag:32
+   * @apilevel internal
+   */
+  public boolean Define_typeVarInMethod(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getTypeParameterListNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TypeVariablePositions.jrag:47
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_typeVarInMethod(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_typeVarInMethod(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java5/frontend/Generics.jrag:670
+    if (subtype(typeThrowable())) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (subtype(typeThrowable())) {
+      collection.add(errorf("generic interface %s may not directly or indirectly inherit java.lang.Throwable",
+                typeName()));
+    }
+  }
+}
@@ -0,0 +1,521 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * An abstract import declaration.
+ * 
+ * <p>Multiple concrete subclasses exist for different kind of
+ * import declarations. More import declarations were added in Java 5.
+ * 
+ * See JLS 6 &sect;7.5.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:61
+ * @production ImportDecl : {@link ASTNode} ::= <span class="component">{@link Access}</span>;
+
+ */
+public abstract class ImportDecl extends ASTNode<ASTNode> implements Cloneable {
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ImportDecl() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ImportDecl(Access p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    importedTypes_String_reset();
+    importedTypes_reset();
+    importedFields_String_reset();
+    importedMethods_String_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public ImportDecl clone() throws CloneNotSupportedException {
+    ImportDecl node = (ImportDecl) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:50
+   */
+  @Deprecated
+  public abstract ImportDecl fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:58
+   */
+  public abstract ImportDecl treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:66
+   */
+  public abstract ImportDecl treeCopy();
+  /**
+   * Replaces the Access child.
+   * @param node The new node to replace the Access child.
+   * @apilevel high-level
+   */
+  public void setAccess(Access node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Access child.
+   * @return The current node used as the Access child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Access")
+  public Access getAccess() {
+    return (Access) getChild(0);
+  }
+  /**
+   * Retrieves the Access child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Access child.
+   * @apilevel low-level
+   */
+  public Access getAccessNoTransform() {
+    return (Access) getChildNoTransform(0);
+  }
+  /** @apilevel internal */
+  private void importedTypes_String_reset() {
+    importedTypes_String_computed = new java.util.HashMap(4);
+    importedTypes_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map importedTypes_String_values;
+  /** @apilevel internal */
+  protected java.util.Map importedTypes_String_computed;
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:555
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:555")
+  public SimpleSet<TypeDecl> importedTypes(String name) {
+    Object _parameters = name;
+    if (importedTypes_String_computed == null) importedTypes_String_computed = new java.util.HashMap(4);
+    if (importedTypes_String_values == null) importedTypes_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (importedTypes_String_values.containsKey(_parameters) && importedTypes_String_computed != null
+        && importedTypes_String_computed.containsKey(_parameters)
+        && (importedTypes_String_computed.get(_parameters) == ASTState.NON_CYCLE || importedTypes_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ImportDecl.importedTypes(String)", _parameters, importedTypes_String_values.get(_parameters));
+      return (SimpleSet<TypeDecl>) importedTypes_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ImportDecl.importedTypes(String)", _parameters, "");
+    SimpleSet<TypeDecl> importedTypes_String_value = emptySet();
+    state().trace().computeEnd(this, "ImportDecl.importedTypes(String)", _parameters, importedTypes_String_value);
+    if (state().inCircle()) {
+      importedTypes_String_values.put(_parameters, importedTypes_String_value);
+      importedTypes_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ImportDecl.importedTypes(String)", _parameters, importedTypes_String_value);
+    } else {
+      importedTypes_String_values.put(_parameters, importedTypes_String_value);
+      importedTypes_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ImportDecl.importedTypes(String)", _parameters, importedTypes_String_value);
+    }
+    return importedTypes_String_value;
+  }
+  /** @apilevel internal */
+  private void importedTypes_reset() {
+    importedTypes_computed = null;
+    importedTypes_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle importedTypes_computed = null;
+
+  /** @apilevel internal */
+  protected SimpleSet<TypeDecl> importedTypes_value;
+
+  /**
+   * For a single-import declaration this will return a SimpleSet
+   * containing the TypeDecl for the imported type. For dynamic
+   * import declarations this returns the empty set.
+   * @return TypeDecl of imported type wrapped in SimpleSet
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:572
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:572")
+  public SimpleSet<TypeDecl> importedTypes() {
+    ASTState state = state();
+    if (importedTypes_computed == ASTState.NON_CYCLE || importedTypes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ImportDecl.importedTypes()", "", importedTypes_value);
+      return importedTypes_value;
+    }
+    state().trace().computeBegin(this, "ImportDecl.importedTypes()", "", "");
+    importedTypes_value = emptySet();
+    state().trace().computeEnd(this, "ImportDecl.importedTypes()", "", importedTypes_value);
+    if (state().inCircle()) {
+      importedTypes_computed = state().cycle();
+      state().trace().cacheWrite(this, "ImportDecl.importedTypes()", "", importedTypes_value);
+    } else {
+      importedTypes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ImportDecl.importedTypes()", "", importedTypes_value);
+    }
+    return importedTypes_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:603
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:603")
+  public boolean isOnDemand() {
+    state().trace().computeBegin(this, "ImportDecl.isOnDemand()", "", "");
+    boolean isOnDemand_value = false;
+    state().trace().computeEnd(this, "ImportDecl.isOnDemand()", "", isOnDemand_value);
+    return isOnDemand_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:60")
+  public String typeName() {
+    state().trace().computeBegin(this, "ImportDecl.typeName()", "", "");
+    try {
+        Access a = getAccess().lastAccess();
+        String name = a.isTypeAccess() ? ((TypeAccess) a).nameWithPackage() : "";
+        while (a.hasPrevExpr() && a.prevExpr() instanceof Access) {
+          Access pred = (Access) a.prevExpr();
+          if (pred.isTypeAccess()) {
+            name = ((TypeAccess) pred).nameWithPackage() + "." + name;
+          }
+          a = pred;
+        }
+        return name;
+      }
+    finally {
+      state().trace().computeEnd(this, "ImportDecl.typeName()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void importedFields_String_reset() {
+    importedFields_String_values = null;
+  }
+  protected java.util.Map importedFields_String_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="StaticImports", declaredAt="/root/project/java5/frontend/StaticImports.jrag:63")
+  public SimpleSet<Variable> importedFields(String name) {
+    Object _parameters = name;
+    if (importedFields_String_values == null) importedFields_String_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (importedFields_String_values.containsKey(_parameters)) {
+      Object _cache = importedFields_String_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ImportDecl.importedFields(String)", _parameters, _cache);
+        return (SimpleSet<Variable>) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      importedFields_String_values.put(_parameters, _value);
+      _value.value = emptySet();
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      SimpleSet<Variable> new_importedFields_String_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ImportDecl.importedFields(String)", _parameters, "");
+        new_importedFields_String_value = emptySet();
+        state().trace().computeEnd(this, "ImportDecl.importedFields(String)", _parameters, _value.value);
+        if ((new_importedFields_String_value == null && ((SimpleSet<Variable>)_value.value) != null) || (new_importedFields_String_value != null && !new_importedFields_String_value.equals(((SimpleSet<Variable>)_value.value)))) {
+          state.setChangeInCycle();
+          _value.value = new_importedFields_String_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      importedFields_String_values.put(_parameters, new_importedFields_String_value);
+      state().trace().cacheWrite(this, "ImportDecl.importedFields(String)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_importedFields_String_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ImportDecl.importedFields(String)", _parameters, "");
+      SimpleSet<Variable> new_importedFields_String_value = emptySet();
+      state().trace().computeEnd(this, "ImportDecl.importedFields(String)", _parameters, _value.value);
+      if ((new_importedFields_String_value == null && ((SimpleSet<Variable>)_value.value) != null) || (new_importedFields_String_value != null && !new_importedFields_String_value.equals(((SimpleSet<Variable>)_value.value)))) {
+        state.setChangeInCycle();
+        _value.value = new_importedFields_String_value;
+      }
+      return new_importedFields_String_value;
+    } else {
+      return (SimpleSet<Variable>) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void importedMethods_String_reset() {
+    importedMethods_String_computed = new java.util.HashMap(4);
+    importedMethods_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map importedMethods_String_values;
+  /** @apilevel internal */
+  protected java.util.Map importedMethods_String_computed;
+  /**
+   * @attribute syn
+   * @aspect StaticImports
+   * @declaredat /root/project/java5/frontend/StaticImports.jrag:84
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StaticImports", declaredAt="/root/project/java5/frontend/StaticImports.jrag:84")
+  public Collection<MethodDecl> importedMethods(String name) {
+    Object _parameters = name;
+    if (importedMethods_String_computed == null) importedMethods_String_computed = new java.util.HashMap(4);
+    if (importedMethods_String_values == null) importedMethods_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (importedMethods_String_values.containsKey(_parameters) && importedMethods_String_computed != null
+        && importedMethods_String_computed.containsKey(_parameters)
+        && (importedMethods_String_computed.get(_parameters) == ASTState.NON_CYCLE || importedMethods_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ImportDecl.importedMethods(String)", _parameters, importedMethods_String_values.get(_parameters));
+      return (Collection<MethodDecl>) importedMethods_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ImportDecl.importedMethods(String)", _parameters, "");
+    Collection<MethodDecl> importedMethods_String_value = Collections.EMPTY_LIST;
+    state().trace().computeEnd(this, "ImportDecl.importedMethods(String)", _parameters, importedMethods_String_value);
+    if (state().inCircle()) {
+      importedMethods_String_values.put(_parameters, importedMethods_String_value);
+      importedMethods_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ImportDecl.importedMethods(String)", _parameters, importedMethods_String_value);
+    } else {
+      importedMethods_String_values.put(_parameters, importedMethods_String_value);
+      importedMethods_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ImportDecl.importedMethods(String)", _parameters, importedMethods_String_value);
+    }
+    return importedMethods_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:601
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:601")
+  public String packageName() {
+    state().trace().computeBegin(this, "ImportDecl.packageName()", "", "");
+    String packageName_value = getParent().Define_packageName(this, null);
+    state().trace().computeEnd(this, "ImportDecl.packageName()", "", packageName_value);
+    return packageName_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:51
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:51")
+  public SimpleSet<TypeDecl> allImportedTypes(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "ImportDecl.allImportedTypes(String)", _parameters, "");
+    SimpleSet<TypeDecl> allImportedTypes_String_value = getParent().Define_allImportedTypes(this, null, name);
+    state().trace().computeEnd(this, "ImportDecl.allImportedTypes(String)", _parameters, allImportedTypes_String_value);
+    return allImportedTypes_String_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:34
+   * @apilevel internal
+   */
+  public boolean Define_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    if (getAccessNoTransform() != null && _callerNode == getAccess()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:42
+      return false;
+    }
+    else {
+      return getParent().Define_isDest(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:44
+   * @apilevel internal
+   */
+  public boolean Define_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    if (getAccessNoTransform() != null && _callerNode == getAccess()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:51
+      return true;
+    }
+    else {
+      return getParent().Define_isSource(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:86
+   * @apilevel internal
+   */
+  public boolean Define_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:101
+   * @apilevel internal
+   */
+  public boolean Define_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:118
+   * @apilevel internal
+   */
+  public Expr Define_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return prevExprError();
+  }
+  protected boolean canDefine_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:142
+   * @apilevel internal
+   */
+  public Access Define_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return nextAccessError();
+  }
+  protected boolean canDefine_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,1037 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java8/grammar/Lambda.ast:6
+ * @production InferredParameterDeclaration : {@link ASTNode} ::= <span class="component">&lt;ID:String&gt;</span>;
+
+ */
+public class InferredParameterDeclaration extends ASTNode<ASTNode> implements Cloneable, SimpleSet<Variable>, Variable {
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java8/frontend/DataStructures.jrag:34
+   */
+  @Override
+  public int size() {
+    return 1;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java8/frontend/DataStructures.jrag:39
+   */
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java8/frontend/DataStructures.jrag:44
+   */
+  public SimpleSet<Variable> add(Variable o) {
+    return new SimpleSetImpl<Variable>(this, o);
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java8/frontend/DataStructures.jrag:48
+   */
+  @Override
+  public boolean contains(Object o) {
+    return this == o;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java8/frontend/DataStructures.jrag:53
+   */
+  @Override
+  public boolean isSingleton() {
+    return true;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java8/frontend/DataStructures.jrag:58
+   */
+  @Override
+  public boolean isSingleton(Variable o) {
+    return contains(o);
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java8/frontend/DataStructures.jrag:63
+   */
+  @Override
+  public Variable singletonValue() {
+    return this;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java8/frontend/DataStructures.jrag:68
+   */
+  public Iterator<Variable> iterator() {
+    return new SingleItemIterator(this);
+  }
+  /**
+   * @aspect Java8PrettyPrint
+   * @declaredat /root/project/java8/frontend/PrettyPrint.jadd:95
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(name());
+  }
+  /**
+   * @aspect PrettyPrintUtil8
+   * @declaredat /root/project/java8/frontend/PrettyPrintUtil.jadd:71
+   */
+  @Override public String toString() {
+    return getID();
+  }
+  /**
+   * @aspect Java8CreateBCode
+   * @declaredat /root/project/java8/backend/CreateBCode.jrag:89
+   */
+  public void emitLoadVariable(CodeGeneration gen, Access access) {
+    throw new Error("Can not generate bytecode for inferred parameter declarations.");
+  }
+  /** Generate bytecode to load this field. 
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:208
+   */
+  public void emitLoadField(CodeGeneration gen, TypeDecl hostType) {
+    if (hostType().isArrayDecl() && name().equals("length")) {
+      gen.ARRAYLENGTH();
+      return;
+    }
+    String classname = hostType.constantPoolName();
+    String name = name();
+    int index = gen.constantPool().addFieldref(classname, name, type());
+    if (isStatic()) {
+      gen.GETSTATIC(index, type());
+    } else {
+      gen.GETFIELD(index, type());
+    }
+  }
+  /** Generate bytecode to store a field in the given hostType. 
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:270
+   */
+  public void emitStoreField(CodeGeneration gen, TypeDecl hostType) {
+    String classname = hostType.constantPoolName();
+    String name = name();
+    int index = gen.constantPool().addFieldref(classname, name, type());
+    if (isStatic()) {
+      gen.PUTSTATIC(index);
+    } else {
+      gen.PUTFIELD(index);
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public InferredParameterDeclaration() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public InferredParameterDeclaration(String p0) {
+    setID(p0);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public InferredParameterDeclaration(beaver.Symbol p0) {
+    setID(p0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    isEffectivelyFinal_reset();
+    enclosingLambda_reset();
+    lookupVariable_String_reset();
+    inferredType_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public InferredParameterDeclaration clone() throws CloneNotSupportedException {
+    InferredParameterDeclaration node = (InferredParameterDeclaration) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:46
+   */
+  public InferredParameterDeclaration copy() {
+    try {
+      InferredParameterDeclaration node = (InferredParameterDeclaration) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:65
+   */
+  @Deprecated
+  public InferredParameterDeclaration fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:75
+   */
+  public InferredParameterDeclaration treeCopyNoTransform() {
+    InferredParameterDeclaration tree = (InferredParameterDeclaration) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:95
+   */
+  public InferredParameterDeclaration treeCopy() {
+    InferredParameterDeclaration tree = (InferredParameterDeclaration) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:109
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((InferredParameterDeclaration) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_ID;
+  /**
+   */
+  public int IDstart;
+  /**
+   */
+  public int IDend;
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /** @apilevel internal */
+  private void isEffectivelyFinal_reset() {
+    isEffectivelyFinal_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isEffectivelyFinal_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isEffectivelyFinal_value;
+
+  /**
+   * @attribute syn
+   * @aspect EffectivelyFinal
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:136
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EffectivelyFinal", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:136")
+  public boolean isEffectivelyFinal() {
+    ASTState state = state();
+    if (isEffectivelyFinal_computed == ASTState.NON_CYCLE || isEffectivelyFinal_computed == state().cycle()) {
+      state().trace().cacheRead(this, "InferredParameterDeclaration.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+      return isEffectivelyFinal_value;
+    }
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isEffectivelyFinal()", "", "");
+    isEffectivelyFinal_value = isFinal() || !inhModifiedInScope(this);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    if (state().inCircle()) {
+      isEffectivelyFinal_computed = state().cycle();
+      state().trace().cacheWrite(this, "InferredParameterDeclaration.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    } else {
+      isEffectivelyFinal_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "InferredParameterDeclaration.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    }
+    return isEffectivelyFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Java8NameCheck
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java8NameCheck", declaredAt="/root/project/java8/frontend/NameCheck.jrag:41")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        SimpleSet<Variable> decls = outerScope().lookupVariable(name());
+        for (Variable var : decls) {
+          if (var instanceof VariableDeclarator) {
+            VariableDeclarator decl = (VariableDeclarator) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of parameter %s", name()));
+            }
+          } else if (var instanceof ParameterDeclaration) {
+            ParameterDeclaration decl = (ParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of parameter %s", name()));
+            }
+          } else if (var instanceof InferredParameterDeclaration) {
+            InferredParameterDeclaration decl = (InferredParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of parameter %s", name()));
+            }
+          } else if (var instanceof CatchParameterDeclaration) {
+            CatchParameterDeclaration decl = (CatchParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of parameter %s", name()));
+            }
+          }
+        }
+    
+        // 8.4.1
+        if (!lookupVariable(name()).contains(this)) {
+          problems.add(errorf("duplicate declaration of parameter %s", name()));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "InferredParameterDeclaration.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java8/frontend/QualifiedNames.jrag:29
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java8/frontend/QualifiedNames.jrag:29")
+  public String name() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.name()", "", "");
+    String name_value = getID();
+    state().trace().computeEnd(this, "InferredParameterDeclaration.name()", "", name_value);
+    return name_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:30
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:30")
+  public boolean isParameter() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isParameter()", "", "");
+    boolean isParameter_value = true;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isParameter()", "", isParameter_value);
+    return isParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:31
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:31")
+  public boolean isClassVariable() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isClassVariable()", "", "");
+    boolean isClassVariable_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isClassVariable()", "", isClassVariable_value);
+    return isClassVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:32")
+  public boolean isInstanceVariable() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isInstanceVariable()", "", "");
+    boolean isInstanceVariable_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isInstanceVariable()", "", isInstanceVariable_value);
+    return isInstanceVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:33")
+  public boolean isConstructorParameter() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isConstructorParameter()", "", "");
+    boolean isConstructorParameter_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isConstructorParameter()", "", isConstructorParameter_value);
+    return isConstructorParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:34
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:34")
+  public boolean isExceptionHandlerParameter() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isExceptionHandlerParameter()", "", "");
+    boolean isExceptionHandlerParameter_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isExceptionHandlerParameter()", "", isExceptionHandlerParameter_value);
+    return isExceptionHandlerParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:35")
+  public boolean isMethodParameter() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isMethodParameter()", "", "");
+    boolean isMethodParameter_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isMethodParameter()", "", isMethodParameter_value);
+    return isMethodParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:36")
+  public boolean isLocalVariable() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isLocalVariable()", "", "");
+    boolean isLocalVariable_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isLocalVariable()", "", isLocalVariable_value);
+    return isLocalVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:37
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:37")
+  public boolean isField() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isField()", "", "");
+    boolean isField_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isField()", "", isField_value);
+    return isField_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:38")
+  public boolean isFinal() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isFinal()", "", "");
+    boolean isFinal_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isFinal()", "", isFinal_value);
+    return isFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:39")
+  public boolean isVolatile() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isVolatile()", "", "");
+    boolean isVolatile_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isVolatile()", "", isVolatile_value);
+    return isVolatile_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:40
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:40")
+  public boolean isBlank() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isBlank()", "", "");
+    boolean isBlank_value = true;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isBlank()", "", isBlank_value);
+    return isBlank_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:41")
+  public boolean isStatic() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isStatic()", "", "");
+    boolean isStatic_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isStatic()", "", isStatic_value);
+    return isStatic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:42
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:42")
+  public boolean isSynthetic() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isSynthetic()", "", "");
+    boolean isSynthetic_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isSynthetic()", "", isSynthetic_value);
+    return isSynthetic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:44")
+  public Modifiers getModifiers() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.getModifiers()", "", "");
+    Modifiers getModifiers_value = null;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.getModifiers()", "", getModifiers_value);
+    return getModifiers_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:46")
+  public boolean hasInit() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.hasInit()", "", "");
+    boolean hasInit_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.hasInit()", "", hasInit_value);
+    return hasInit_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:48
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:48")
+  public boolean isConstant() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isConstant()", "", "");
+    boolean isConstant_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isConstant()", "", isConstant_value);
+    return isConstant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:50")
+  public boolean isPublic() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isPublic()", "", "");
+    boolean isPublic_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isPublic()", "", isPublic_value);
+    return isPublic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:52
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:52")
+  public boolean accessibleFrom(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "InferredParameterDeclaration.accessibleFrom(TypeDecl)", _parameters, "");
+    boolean accessibleFrom_TypeDecl_value = false;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    return accessibleFrom_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:54
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:54")
+  public Expr getInit() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.getInit()", "", "");
+    try {
+        throw new UnsupportedOperationException();
+      }
+    finally {
+      state().trace().computeEnd(this, "InferredParameterDeclaration.getInit()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:58")
+  public Constant constant() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.constant()", "", "");
+    try {
+        throw new UnsupportedOperationException();
+      }
+    finally {
+      state().trace().computeEnd(this, "InferredParameterDeclaration.constant()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:62
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:62")
+  public Collection<TypeDecl> throwTypes() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.throwTypes()", "", "");
+    Collection<TypeDecl> throwTypes_value = null;
+    state().trace().computeEnd(this, "InferredParameterDeclaration.throwTypes()", "", throwTypes_value);
+    return throwTypes_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:75
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:75")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.hostType()", "", "");
+    TypeDecl hostType_value = enclosingLambdaType();
+    state().trace().computeEnd(this, "InferredParameterDeclaration.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:81
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:81")
+  public TypeDecl type() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.type()", "", "");
+    TypeDecl type_value = inferredType();
+    state().trace().computeEnd(this, "InferredParameterDeclaration.type()", "", type_value);
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:278
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:278")
+  public boolean isProtected() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isProtected()", "", "");
+    boolean isProtected_value = getModifiers().isProtected();
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isProtected()", "", isProtected_value);
+    return isProtected_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:280
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:280")
+  public boolean isPrivate() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.isPrivate()", "", "");
+    boolean isPrivate_value = getModifiers().isPrivate();
+    state().trace().computeEnd(this, "InferredParameterDeclaration.isPrivate()", "", isPrivate_value);
+    return isPrivate_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:157
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:157")
+  public TypeDecl erasedType() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.erasedType()", "", "");
+    TypeDecl erasedType_value = type();
+    state().trace().computeEnd(this, "InferredParameterDeclaration.erasedType()", "", erasedType_value);
+    return erasedType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:30
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:30")
+  public boolean inhModifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "InferredParameterDeclaration.inhModifiedInScope(Variable)", _parameters, "");
+    boolean inhModifiedInScope_Variable_value = getParent().Define_inhModifiedInScope(this, null, var);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.inhModifiedInScope(Variable)", _parameters, inhModifiedInScope_Variable_value);
+    return inhModifiedInScope_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect EnclosingLambda
+   * @declaredat /root/project/java8/frontend/EnclosingLambda.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="EnclosingLambda", declaredAt="/root/project/java8/frontend/EnclosingLambda.jrag:35")
+  public LambdaExpr enclosingLambda() {
+    ASTState state = state();
+    if (enclosingLambda_computed == ASTState.NON_CYCLE || enclosingLambda_computed == state().cycle()) {
+      state().trace().cacheRead(this, "InferredParameterDeclaration.enclosingLambda()", "", enclosingLambda_value);
+      return enclosingLambda_value;
+    }
+    state().trace().computeBegin(this, "InferredParameterDeclaration.enclosingLambda()", "", "");
+    enclosingLambda_value = getParent().Define_enclosingLambda(this, null);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.enclosingLambda()", "", enclosingLambda_value);
+    if (state().inCircle()) {
+      enclosingLambda_computed = state().cycle();
+      state().trace().cacheWrite(this, "InferredParameterDeclaration.enclosingLambda()", "", enclosingLambda_value);
+    } else {
+      enclosingLambda_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "InferredParameterDeclaration.enclosingLambda()", "", enclosingLambda_value);
+    }
+    return enclosingLambda_value;
+  }
+  /** @apilevel internal */
+  private void enclosingLambda_reset() {
+    enclosingLambda_computed = null;
+    enclosingLambda_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle enclosingLambda_computed = null;
+
+  /** @apilevel internal */
+  protected LambdaExpr enclosingLambda_value;
+
+  /**
+   * @attribute inh
+   * @aspect VariableScope
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:31
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java8/frontend/LookupVariable.jrag:31")
+  public SimpleSet<Variable> lookupVariable(String name) {
+    Object _parameters = name;
+    if (lookupVariable_String_computed == null) lookupVariable_String_computed = new java.util.HashMap(4);
+    if (lookupVariable_String_values == null) lookupVariable_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupVariable_String_values.containsKey(_parameters) && lookupVariable_String_computed != null
+        && lookupVariable_String_computed.containsKey(_parameters)
+        && (lookupVariable_String_computed.get(_parameters) == ASTState.NON_CYCLE || lookupVariable_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "InferredParameterDeclaration.lookupVariable(String)", _parameters, lookupVariable_String_values.get(_parameters));
+      return (SimpleSet<Variable>) lookupVariable_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "InferredParameterDeclaration.lookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> lookupVariable_String_value = getParent().Define_lookupVariable(this, null, name);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    if (state().inCircle()) {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "InferredParameterDeclaration.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    } else {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "InferredParameterDeclaration.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    }
+    return lookupVariable_String_value;
+  }
+  /** @apilevel internal */
+  private void lookupVariable_String_reset() {
+    lookupVariable_String_computed = new java.util.HashMap(4);
+    lookupVariable_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_computed;
+  /**
+   * @attribute inh
+   * @aspect Java8NameCheck
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:30
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Java8NameCheck", declaredAt="/root/project/java8/frontend/NameCheck.jrag:30")
+  public BodyDecl enclosingBodyDecl() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.enclosingBodyDecl()", "", "");
+    BodyDecl enclosingBodyDecl_value = getParent().Define_enclosingBodyDecl(this, null);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.enclosingBodyDecl()", "", enclosingBodyDecl_value);
+    return enclosingBodyDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Java8NameCheck
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:31
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Java8NameCheck", declaredAt="/root/project/java8/frontend/NameCheck.jrag:31")
+  public VariableScope outerScope() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.outerScope()", "", "");
+    VariableScope outerScope_value = getParent().Define_outerScope(this, null);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.outerScope()", "", outerScope_value);
+    return outerScope_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeCheck
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:31
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:31")
+  public TypeDecl unknownType() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.unknownType()", "", "");
+    TypeDecl unknownType_value = getParent().Define_unknownType(this, null);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.unknownType()", "", unknownType_value);
+    return unknownType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LambdaParametersInference
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:506
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LambdaParametersInference", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:506")
+  public TypeDecl inferredType() {
+    ASTState state = state();
+    if (inferredType_computed == ASTState.NON_CYCLE || inferredType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "InferredParameterDeclaration.inferredType()", "", inferredType_value);
+      return inferredType_value;
+    }
+    state().trace().computeBegin(this, "InferredParameterDeclaration.inferredType()", "", "");
+    inferredType_value = getParent().Define_inferredType(this, null);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.inferredType()", "", inferredType_value);
+    if (state().inCircle()) {
+      inferredType_computed = state().cycle();
+      state().trace().cacheWrite(this, "InferredParameterDeclaration.inferredType()", "", inferredType_value);
+    } else {
+      inferredType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "InferredParameterDeclaration.inferredType()", "", inferredType_value);
+    }
+    return inferredType_value;
+  }
+  /** @apilevel internal */
+  private void inferredType_reset() {
+    inferredType_computed = null;
+    inferredType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle inferredType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl inferredType_value;
+
+  /**
+   * @attribute inh
+   * @aspect Variables
+   * @declaredat /root/project/java8/frontend/VariableDeclaration.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java8/frontend/VariableDeclaration.jrag:77")
+  public TypeDecl enclosingLambdaType() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.enclosingLambdaType()", "", "");
+    TypeDecl enclosingLambdaType_value = getParent().Define_enclosingLambdaType(this, null);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.enclosingLambdaType()", "", enclosingLambdaType_value);
+    return enclosingLambdaType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:680
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:680")
+  public String hostPackage() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.hostPackage()", "", "");
+    String hostPackage_value = getParent().Define_hostPackage(this, null);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.hostPackage()", "", hostPackage_value);
+    return hostPackage_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1404
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1404")
+  public FieldDecl fieldDecl() {
+    state().trace().computeBegin(this, "InferredParameterDeclaration.fieldDecl()", "", "");
+    FieldDecl fieldDecl_value = getParent().Define_fieldDecl(this, null);
+    state().trace().computeEnd(this, "InferredParameterDeclaration.fieldDecl()", "", fieldDecl_value);
+    return fieldDecl_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java8/frontend/NameCheck.jrag:39
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+  }
+}
@@ -0,0 +1,480 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * Default Java integer literal. Should only be used for numbers
+ * that can be stored in 32 bits binary.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Literals.ast:35
+ * @production IntegerLiteral : {@link Literal};
+
+ */
+public class IntegerLiteral extends Literal implements Cloneable, NumericLiteral {
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:62
+   */
+  public IntegerLiteral(int i) {
+    this(Integer.toString(i));
+  }
+  /** Push a constant value. 
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:87
+   */
+  public static void push(CodeGeneration gen, int value) {
+    gen.ICONST(value);
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:121
+   */
+  public void emitPushConstant(CodeGeneration gen) {
+    type().emitPushConstant(gen, constant().intValue());
+  }
+  /**
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:922
+   */
+  protected Constant constant = null;
+  /**
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:924
+   */
+  public IntegerLiteral(String literal, Constant constant) {
+    this(literal);
+    this.constant = constant;
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public IntegerLiteral() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public IntegerLiteral(String p0) {
+    setLITERAL(p0);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public IntegerLiteral(beaver.Symbol p0) {
+    setLITERAL(p0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    type_reset();
+    constant_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public IntegerLiteral clone() throws CloneNotSupportedException {
+    IntegerLiteral node = (IntegerLiteral) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public IntegerLiteral copy() {
+    try {
+      IntegerLiteral node = (IntegerLiteral) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:63
+   */
+  @Deprecated
+  public IntegerLiteral fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:73
+   */
+  public IntegerLiteral treeCopyNoTransform() {
+    IntegerLiteral tree = (IntegerLiteral) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:93
+   */
+  public IntegerLiteral treeCopy() {
+    IntegerLiteral tree = (IntegerLiteral) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:107
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_LITERAL == ((IntegerLiteral) node).tokenString_LITERAL);    
+  }
+  /**
+   * Replaces the lexeme LITERAL.
+   * @param value The new value for the lexeme LITERAL.
+   * @apilevel high-level
+   */
+  public void setLITERAL(String value) {
+    tokenString_LITERAL = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme LITERAL using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme LITERAL
+   * @apilevel internal
+   */
+  public void setLITERAL(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setLITERAL is only valid for String lexemes");
+    tokenString_LITERAL = (String)symbol.value;
+    LITERALstart = symbol.getStart();
+    LITERALend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme LITERAL.
+   * @return The value for the lexeme LITERAL.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="LITERAL")
+  public String getLITERAL() {
+    return tokenString_LITERAL != null ? tokenString_LITERAL : "";
+  }
+  /**
+   * @attribute syn
+   * @aspect PositiveLiterals
+   * @declaredat /root/project/java4/frontend/PositiveLiterals.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PositiveLiterals", declaredAt="/root/project/java4/frontend/PositiveLiterals.jrag:36")
+  public boolean isPositive() {
+    state().trace().computeBegin(this, "Expr.isPositive()", "", "");
+    boolean isPositive_value = !getLITERAL().startsWith("-");
+    state().trace().computeEnd(this, "Expr.isPositive()", "", isPositive_value);
+    return isPositive_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = typeInt();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:755
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:755")
+  public Problem sizeError() {
+    state().trace().computeBegin(this, "IntegerLiteral.sizeError()", "", "");
+    Problem sizeError_value = errorf("The integer literal \"%s\" is too large for type int.", getLITERAL());
+    state().trace().computeEnd(this, "IntegerLiteral.sizeError()", "", sizeError_value);
+    return sizeError_value;
+  }
+  /** @apilevel internal */
+  private void constant_reset() {
+    constant_computed = null;
+    constant_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constant_computed = null;
+
+  /** @apilevel internal */
+  protected Constant constant_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:38")
+  public Constant constant() {
+    ASTState state = state();
+    if (constant_computed == ASTState.NON_CYCLE || constant_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Literal.constant()", "", constant_value);
+      return constant_value;
+    }
+    state().trace().computeBegin(this, "Literal.constant()", "", "");
+    constant_value = constant_compute();
+    state().trace().computeEnd(this, "Literal.constant()", "", constant_value);
+    if (state().inCircle()) {
+      constant_computed = state().cycle();
+      state().trace().cacheWrite(this, "Literal.constant()", "", constant_value);
+    } else {
+      constant_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Literal.constant()", "", constant_value);
+    }
+    return constant_value;
+  }
+  /** @apilevel internal */
+  private Constant constant_compute() {
+      if (constant != null) {
+        return constant;
+      }
+      long l = 0;
+      try {
+        l = parseLong();
+      } catch (NumberFormatException e) {
+        Constant c = Constant.create(0L);
+        c.error = true;
+        return c;
+      }
+      int clamped = (int) l;
+      Constant c = Constant.create(clamped);
+      if (l != clamped) {
+        if (l != (0xFFFFFFFFL & clamped) || numericLiteralKind() == NumericLiteralKind.DECIMAL) {
+          c.error = true;
+        }
+      }
+      return c;
+    }
+  /**
+   * This is only meaningful for numeric literals.
+   * 
+   * @return {@code true} if this literal starts with a minus sign.
+   * @attribute syn
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:303
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java7Literals", declaredAt="/root/project/java7/frontend/Literals.jrag:303")
+  public boolean isNegative() {
+    state().trace().computeBegin(this, "Literal.isNegative()", "", "");
+    boolean isNegative_value = getLITERAL().charAt(0) == '-';
+    state().trace().computeEnd(this, "Literal.isNegative()", "", isNegative_value);
+    return isNegative_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:317
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java7Literals", declaredAt="/root/project/java7/frontend/Literals.jrag:317")
+  public boolean isHex() {
+    state().trace().computeBegin(this, "IntegerLiteral.isHex()", "", "");
+    boolean isHex_value = numericLiteralKind() == NumericLiteralKind.HEXADECIMAL;
+    state().trace().computeEnd(this, "IntegerLiteral.isHex()", "", isHex_value);
+    return isHex_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:319
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java7Literals", declaredAt="/root/project/java7/frontend/Literals.jrag:319")
+  public boolean isOctal() {
+    state().trace().computeBegin(this, "IntegerLiteral.isOctal()", "", "");
+    boolean isOctal_value = numericLiteralKind() == NumericLiteralKind.OCTAL;
+    state().trace().computeEnd(this, "IntegerLiteral.isOctal()", "", isOctal_value);
+    return isOctal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Java7Literals
+   * @declaredat /root/project/java7/frontend/Literals.jrag:321
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java7Literals", declaredAt="/root/project/java7/frontend/Literals.jrag:321")
+  public boolean isDecimal() {
+    state().trace().computeBegin(this, "IntegerLiteral.isDecimal()", "", "");
+    boolean isDecimal_value = numericLiteralKind() == NumericLiteralKind.DECIMAL;
+    state().trace().computeEnd(this, "IntegerLiteral.isDecimal()", "", isDecimal_value);
+    return isDecimal_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:759
+    if (constant().error) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (constant().error) {
+      collection.add(sizeError());
+    }
+  }
+}
@@ -0,0 +1,763 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:169
+ * @production IntegralType : {@link NumericType};
+
+ */
+public abstract class IntegralType extends NumericType implements Cloneable {
+  /**
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:125
+   */
+  public int addConstant(ConstantPool p, Constant c) {
+    return p.addConstant(c.intValue());
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:112
+   */
+  public void emitPushConstant(CodeGeneration gen, int value) { IntegerLiteral.push(gen, value); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:431
+   */
+  void byteToThis(CodeGeneration gen) { }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:438
+   */
+  void charToThis(CodeGeneration gen) { }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:446
+   */
+  void shortToThis(CodeGeneration gen) { }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:481
+   */
+  void neg(CodeGeneration gen) { gen.INEG(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:487
+   */
+  void bitNot(CodeGeneration gen) { gen.ICONST(-1); gen.IXOR(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:497
+   */
+  void add(CodeGeneration gen) { gen.IADD(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:503
+   */
+  void sub(CodeGeneration gen) { gen.ISUB(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:509
+   */
+  void mul(CodeGeneration gen) { gen.IMUL(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:515
+   */
+  void div(CodeGeneration gen) { gen.IDIV(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:521
+   */
+  void rem(CodeGeneration gen) { gen.IREM(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:525
+   */
+  void shl(CodeGeneration gen) { gen.ISHL(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:529
+   */
+  void shr(CodeGeneration gen) { gen.ISHR(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:533
+   */
+  void ushr(CodeGeneration gen) { gen.IUSHR(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:537
+   */
+  void bitand(CodeGeneration gen) { gen.IAND(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:542
+   */
+  void bitor(CodeGeneration gen) { gen.IOR(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:547
+   */
+  void bitxor(CodeGeneration gen) { gen.IXOR(); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:556
+   */
+  public void branchLT(CodeGeneration gen, int label) { gen.IF_ICMPLT(label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:568
+   */
+  public void branchLE(CodeGeneration gen, int label) { gen.IF_ICMPLE(label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:580
+   */
+  public void branchGE(CodeGeneration gen, int label) { gen.IF_ICMPGE(label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:592
+   */
+  public void branchGT(CodeGeneration gen, int label) { gen.IF_ICMPGT(label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:604
+   */
+  public void branchEQ(CodeGeneration gen, int label)  { gen.IF_ICMPEQ(label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:615
+   */
+  public void branchNE(CodeGeneration gen, int label)  { gen.IF_ICMPNE(label); }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:249
+   */
+  public int addAnnotConstant(ConstantPool p, Constant c) {
+    return addConstant(p, c);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public IntegralType() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+    setChild(new List(), 1);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public IntegralType(Modifiers p0, String p1, List<BodyDecl> p2) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+  }
+  /**
+   * @declaredat ASTNode:19
+   */
+  public IntegralType(Modifiers p0, beaver.Symbol p1, List<BodyDecl> p2) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:25
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:31
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:43
+   */
+  public IntegralType clone() throws CloneNotSupportedException {
+    IntegralType node = (IntegralType) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:54
+   */
+  @Deprecated
+  public abstract IntegralType fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:62
+   */
+  public abstract IntegralType treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:70
+   */
+  public abstract IntegralType treeCopy();
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the BodyDecl list.
+   * @param list The new list node to be used as the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void setBodyDeclList(List<BodyDecl> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="BodyDecl")
+  public List<BodyDecl> getBodyDeclList() {
+    List<BodyDecl> list = (List<BodyDecl>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:95
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:95")
+  public Constant cast(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.cast(Constant)", _parameters, "");
+    Constant cast_Constant_value = Constant.create(c.intValue());
+    state().trace().computeEnd(this, "TypeDecl.cast(Constant)", _parameters, cast_Constant_value);
+    return cast_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:118
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:118")
+  public Constant plus(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.plus(Constant)", _parameters, "");
+    Constant plus_Constant_value = c;
+    state().trace().computeEnd(this, "TypeDecl.plus(Constant)", _parameters, plus_Constant_value);
+    return plus_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:131
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:131")
+  public Constant minus(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.minus(Constant)", _parameters, "");
+    Constant minus_Constant_value = Constant.create(-c.intValue());
+    state().trace().computeEnd(this, "TypeDecl.minus(Constant)", _parameters, minus_Constant_value);
+    return minus_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:144
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:144")
+  public Constant bitNot(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.bitNot(Constant)", _parameters, "");
+    Constant bitNot_Constant_value = Constant.create(~c.intValue());
+    state().trace().computeEnd(this, "TypeDecl.bitNot(Constant)", _parameters, bitNot_Constant_value);
+    return bitNot_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:153
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:153")
+  public Constant mul(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.mul(Constant,Constant)", _parameters, "");
+    Constant mul_Constant_Constant_value = Constant.create(c1.intValue() * c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.mul(Constant,Constant)", _parameters, mul_Constant_Constant_value);
+    return mul_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:167
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:167")
+  public Constant div(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.div(Constant,Constant)", _parameters, "");
+    Constant div_Constant_Constant_value = Constant.create(c1.intValue() / c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.div(Constant,Constant)", _parameters, div_Constant_Constant_value);
+    return div_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:181
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:181")
+  public Constant mod(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.mod(Constant,Constant)", _parameters, "");
+    Constant mod_Constant_Constant_value = Constant.create(c1.intValue() % c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.mod(Constant,Constant)", _parameters, mod_Constant_Constant_value);
+    return mod_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:195
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:195")
+  public Constant add(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.add(Constant,Constant)", _parameters, "");
+    Constant add_Constant_Constant_value = Constant.create(c1.intValue() + c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.add(Constant,Constant)", _parameters, add_Constant_Constant_value);
+    return add_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:212
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:212")
+  public Constant sub(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.sub(Constant,Constant)", _parameters, "");
+    Constant sub_Constant_Constant_value = Constant.create(c1.intValue() - c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.sub(Constant,Constant)", _parameters, sub_Constant_Constant_value);
+    return sub_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:226
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:226")
+  public Constant lshift(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.lshift(Constant,Constant)", _parameters, "");
+    Constant lshift_Constant_Constant_value = Constant.create(c1.intValue() << c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.lshift(Constant,Constant)", _parameters, lshift_Constant_Constant_value);
+    return lshift_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:236
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:236")
+  public Constant rshift(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.rshift(Constant,Constant)", _parameters, "");
+    Constant rshift_Constant_Constant_value = Constant.create(c1.intValue() >> c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.rshift(Constant,Constant)", _parameters, rshift_Constant_Constant_value);
+    return rshift_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:246
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:246")
+  public Constant urshift(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.urshift(Constant,Constant)", _parameters, "");
+    Constant urshift_Constant_Constant_value = Constant.create(c1.intValue() >>> c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.urshift(Constant,Constant)", _parameters, urshift_Constant_Constant_value);
+    return urshift_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:257
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:257")
+  public Constant andBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.andBitwise(Constant,Constant)", _parameters, "");
+    Constant andBitwise_Constant_Constant_value = Constant.create(c1.intValue() & c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.andBitwise(Constant,Constant)", _parameters, andBitwise_Constant_Constant_value);
+    return andBitwise_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:271
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:271")
+  public Constant xorBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.xorBitwise(Constant,Constant)", _parameters, "");
+    Constant xorBitwise_Constant_Constant_value = Constant.create(c1.intValue() ^ c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.xorBitwise(Constant,Constant)", _parameters, xorBitwise_Constant_Constant_value);
+    return xorBitwise_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:285
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:285")
+  public Constant orBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.orBitwise(Constant,Constant)", _parameters, "");
+    Constant orBitwise_Constant_Constant_value = Constant.create(c1.intValue() | c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.orBitwise(Constant,Constant)", _parameters, orBitwise_Constant_Constant_value);
+    return orBitwise_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:299
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:299")
+  public Constant questionColon(Constant cond, Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(cond, c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.questionColon(Constant,Constant,Constant)", _parameters, "");
+    Constant questionColon_Constant_Constant_Constant_value = Constant.create(cond.booleanValue() ? c1.intValue() : c2.intValue());
+    state().trace().computeEnd(this, "TypeDecl.questionColon(Constant,Constant,Constant)", _parameters, questionColon_Constant_Constant_Constant_value);
+    return questionColon_Constant_Constant_Constant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:499
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:499")
+  public boolean eqIsTrue(Expr left, Expr right) {
+    Object _parameters = java.util.Arrays.asList(left, right);
+    state().trace().computeBegin(this, "TypeDecl.eqIsTrue(Expr,Expr)", _parameters, "");
+    boolean eqIsTrue_Expr_Expr_value = left.constant().intValue() == right.constant().intValue();
+    state().trace().computeEnd(this, "TypeDecl.eqIsTrue(Expr,Expr)", _parameters, eqIsTrue_Expr_Expr_value);
+    return eqIsTrue_Expr_Expr_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:522
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:522")
+  public boolean ltIsTrue(Expr left, Expr right) {
+    Object _parameters = java.util.Arrays.asList(left, right);
+    state().trace().computeBegin(this, "TypeDecl.ltIsTrue(Expr,Expr)", _parameters, "");
+    boolean ltIsTrue_Expr_Expr_value = left.constant().intValue() < right.constant().intValue();
+    state().trace().computeEnd(this, "TypeDecl.ltIsTrue(Expr,Expr)", _parameters, ltIsTrue_Expr_Expr_value);
+    return ltIsTrue_Expr_Expr_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:536
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:536")
+  public boolean leIsTrue(Expr left, Expr right) {
+    Object _parameters = java.util.Arrays.asList(left, right);
+    state().trace().computeBegin(this, "TypeDecl.leIsTrue(Expr,Expr)", _parameters, "");
+    boolean leIsTrue_Expr_Expr_value = left.constant().intValue() <= right.constant().intValue();
+    state().trace().computeEnd(this, "TypeDecl.leIsTrue(Expr,Expr)", _parameters, leIsTrue_Expr_Expr_value);
+    return leIsTrue_Expr_Expr_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:659
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:659")
+  public boolean assignableToInt() {
+    state().trace().computeBegin(this, "TypeDecl.assignableToInt()", "", "");
+    boolean assignableToInt_value = true;
+    state().trace().computeEnd(this, "TypeDecl.assignableToInt()", "", assignableToInt_value);
+    return assignableToInt_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:190
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:190")
+  public boolean isIntegralType() {
+    state().trace().computeBegin(this, "TypeDecl.isIntegralType()", "", "");
+    boolean isIntegralType_value = true;
+    state().trace().computeEnd(this, "TypeDecl.isIntegralType()", "", isIntegralType_value);
+    return isIntegralType_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
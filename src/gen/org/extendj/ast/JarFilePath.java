@@ -0,0 +1,265 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect PathPart
+ * @declaredat /root/project/java4/frontend/PathPart.jadd:669
+ */
+public class JarFilePath extends PathPart {
+  
+    private volatile Collection<String> packageIndex = null;
+
+  
+
+    /**
+     * The names of the class file entries in the Jar file, if known.
+     * Used to avoid failed entry lookups.
+     */
+    private volatile Collection<String> entryIndex = null;
+
+  
+    private final ZipFile jar;
+
+  
+    private final String jarPath;
+
+  
+
+    /** Modification time of the Jar file when it was opened. */
+    private final long lastModified;
+
+  
+
+    public JarFilePath(String jarPath) throws IOException {
+      super(false);
+      this.lastModified = new File(jarPath).lastModified();
+      this.jar = new ZipFile(jarPath);
+      this.jarPath = jarPath;
+    }
+
+  
+
+    public JarFilePath(File jarFile) throws IOException {
+      super(false);
+      this.lastModified = jarFile.lastModified();
+      this.jar = new ZipFile(jarFile);
+      this.jarPath = jarFile.getPath();
+    }
+
+  
+
+    @Override
+    public String getPath() {
+      return jarPath;
+    }
+
+  
+
+    /**
+     * @return {@code true} if the Jar file has been modified since it was opened
+     */
+    public boolean isModified() {
+      return new File(jarPath).lastModified() != lastModified;
+    }
+
+  
+
+    /**
+     * Close the underlying Jar file. Class sources from this path part can not
+     * be opened after this.
+     */
+    public void close() throws IOException {
+      jar.close();
+    }
+
+  
+
+    private static void scanJar(ZipFile jar, Collection<String> packages,
+        String fileSuffix) {
+      // Add all zip entries to a set so that we can quickly check if the Jar
+      // contains a given class.
+      for (Enumeration entries = jar.entries(); entries.hasMoreElements(); ) {
+        ZipEntry entry = (ZipEntry) entries.nextElement();
+        String path = entry.getName();
+        if (path.endsWith(fileSuffix)) {
+          addPackages(packages, path);
+        }
+      }
+    }
+
+  
+
+    private static void addPackages(Collection<String> packages, String path) {
+      String name = path.replace('/', '.');
+      int index = path.length();
+      do {
+        index = path.lastIndexOf('/', index-1);
+      } while (index >= 0 && packages.add(name.substring(0, index)));
+    }
+
+  
+
+    /**
+     * Scans the Jar file for class file entries.
+     *
+     * @return the names of all entries with the file suffix of this path part
+     */
+    public String[] scanEntries() {
+      Collection<String> names = new ArrayList<String>();
+      for (Enumeration entries = jar.entries(); entries.hasMoreElements(); ) {
+        ZipEntry entry = (ZipEntry) entries.nextElement();
+        if (entry.getName().endsWith(fileSuffix)) {
+          names.add(entry.getName());
+        }
+      }
+      return names.toArray(new String[names.size()]);
+    }
+
+  
+
+    /**
+     * Sets the class file entries of the Jar file, as found by scanEntries().
+     * The entries are used to build the package index, and to answer
+     * findSource() without looking up missing entries in the Jar file.
+     */
+    public synchronized void setEntries(String[] entries) {
+      Collection<String> packages = new HashSet<String>();
+      for (String entry : entries) {
+        addPackages(packages, entry);
+      }
+      packageIndex = packages;
+      entryIndex = new HashSet<String>(Arrays.asList(entries));
+    }
+
+  
+
+    /**
+     * @return the names of the class file entries in the Jar file, or
+     * {@code null} if the entries have not been set by setEntries()
+     */
+    public Collection<String> getEntries() {
+      return entryIndex;
+    }
+
+  
+
+    /**
+     * Caches the package index from the Jar file so that subsequent calls to
+     * this method are quicker.
+     */
+    @Override
+    public boolean hasPackage(String name) {
+      Collection<String> packages = packageIndex;
+      if (packages == null) {
+        synchronized (this) {
+          packages = packageIndex;
+          if (packages == null) {
+            packages = new HashSet<String>();
+            scanJar(jar, packages, fileSuffix);
+            packageIndex = packages;
+          }
+        }
+      }
+      return packages.contains(name);
+    }
+
+  
+
+    @Override
+    public ClassSource findSource(String name) {
+      // Reject types in packages that are not in the Jar file without looking
+      // up the entry.
+      int index = name.lastIndexOf('.');
+      if (index != -1 && !hasPackage(name.substring(0, index))) {
+        return ClassSource.NONE;
+      }
+      // ZipFiles always use '/' as separator
+      String jarName = name.replace('.', '/') + fileSuffix;
+      Collection<String> entries = getEntries();
+      if (entries != null && !entries.contains(jarName)) {
+        return ClassSource.NONE;
+      }
+      ZipEntry entry = jar.getEntry(jarName);
+      if (entry != null) {
+        return new JarClassSource(this, jar, entry, jarPath);
+      } else {
+        return ClassSource.NONE;
+      }
+    }
+
+  
+
+    @Override
+    public String toString() {
+      return "jar:" + jarPath;
+    }
+
+
+}
@@ -0,0 +1,121 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect BytecodeDescriptor
+ * @declaredat /root/project/java5/frontend/BytecodeDescriptor.jrag:127
+ */
+ class MethodDescriptor extends java.lang.Object {
+  
+    private AbstractClassfileParser p;
+
+  
+    private String parameterDescriptors;
+
+  
+    private String typeDescriptor;
+
+  
+
+    public MethodDescriptor(AbstractClassfileParser parser, String name) throws IOException {
+      p = parser;
+      int descriptor_index = p.u2();
+      String descriptor = ((CONSTANT_Utf8_Info) p.constantPool[descriptor_index]).string();
+      if (AbstractClassfileParser.VERBOSE) {
+        p.println("  Method: " + name + ", " + descriptor);
+      }
+      int pos = descriptor.indexOf(')');
+      parameterDescriptors = descriptor.substring(1, pos);
+      typeDescriptor = descriptor.substring(pos + 1, descriptor.length());
+    }
+
+  
+
+    public List parameterList() {
+      TypeDescriptor d = new TypeDescriptor(p, parameterDescriptors);
+      return d.parameterList();
+    }
+
+  
+
+    public List parameterListSkipFirst() {
+      TypeDescriptor d = new TypeDescriptor(p, parameterDescriptors);
+      return d.parameterListSkipFirst();
+    }
+
+  
+
+    public Access type() {
+      TypeDescriptor d = new TypeDescriptor(p, typeDescriptor);
+      return d.type();
+    }
+
+
+}
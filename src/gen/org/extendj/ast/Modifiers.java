@@ -0,0 +1,1395 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:312
+ * @production Modifiers : {@link ASTNode} ::= <span class="component">{@link Modifier}*</span>;
+
+ */
+public class Modifiers extends ASTNode<ASTNode> implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:508
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    if (hasModifier()) {
+      out.join(getModifierList(), new PrettyPrinter.Joiner() {
+        @Override
+        public void printSeparator(PrettyPrinter out) {
+          out.print(" ");
+        }
+      });
+      out.print(" ");
+    }
+  }
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:32
+   */
+  public static final int ACC_PUBLIC       = 0x0001;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:33
+   */
+  public static final int ACC_PRIVATE      = 0x0002;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:34
+   */
+  public static final int ACC_PROTECTED    = 0x0004;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:35
+   */
+  public static final int ACC_STATIC       = 0x0008;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:36
+   */
+  public static final int ACC_FINAL        = 0x0010;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:37
+   */
+  public static final int ACC_SYNCHRONIZED = 0x0020;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:38
+   */
+  public static final int ACC_SUPER        = 0x0020;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:39
+   */
+  public static final int ACC_VOLATILE     = 0x0040;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:40
+   */
+  public static final int ACC_TRANSIENT    = 0x0080;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:41
+   */
+  public static final int ACC_NATIVE       = 0x0100;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:42
+   */
+  public static final int ACC_INTERFACE    = 0x0200;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:43
+   */
+  public static final int ACC_ABSTRACT     = 0x0400;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:44
+   */
+  public static final int ACC_SYNTHETIC    = 0x1000;
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:45
+   */
+  public static final int ACC_STRICT       = 0x0800;
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:63
+   */
+  public void addRuntimeVisibleAnnotationsAttribute(Collection<Attribute> attributes) {
+    ConstantPool cp = hostType().constantPool();
+    Collection<Annotation> annotations = runtimeVisibleAnnotations();
+    if (!annotations.isEmpty()) {
+      attributes.add(new AnnotationsAttribute(cp, annotations, "RuntimeVisibleAnnotations"));
+    }
+  }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:72
+   */
+  public void addRuntimeInvisibleAnnotationsAttribute(Collection<Attribute> attributes) {
+    ConstantPool cp = hostType().constantPool();
+    Collection<Annotation> annotations = runtimeInvisibleAnnotations();
+    if (!annotations.isEmpty()) {
+      attributes.add(new AnnotationsAttribute(cp, annotations, "RuntimeInvisibleAnnotations"));
+    }
+  }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:152
+   */
+  public Collection<Annotation> runtimeVisibleAnnotations() {
+    Collection<Annotation> annotations = new ArrayList<Annotation>();
+    for (int i = 0; i < getNumModifier(); i++) {
+      if (getModifier(i).isRuntimeVisible()) {
+        annotations.add((Annotation) getModifier(i));
+      }
+    }
+    return annotations;
+  }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:181
+   */
+  public Collection<Annotation> runtimeInvisibleAnnotations() {
+    Collection<Annotation> annotations = new ArrayList<Annotation>();
+    for (int i = 0; i < getNumModifier(); i++) {
+      if (getModifier(i).isRuntimeInvisible()) {
+        annotations.add((Annotation) getModifier(i));
+      }
+    }
+    return annotations;
+  }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:206
+   */
+  public static final int ACC_ANNOTATION = 0x2000;
+  /**
+   * @aspect EnumsCodegen
+   * @declaredat /root/project/java5/backend/EnumsCodegen.jrag:34
+   */
+  public static final int ACC_ENUM = 0x4000;
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:255
+   */
+  public static final int ACC_BRIDGE = 0x0040;
+  /**
+   * @aspect VariableArityParametersCodegen
+   * @declaredat /root/project/java5/backend/VariableArityParametersCodegen.jrag:167
+   */
+  public static final int ACC_VARARGS = 0x0080;
+  /**
+   * @declaredat ASTNode:1
+   */
+  public Modifiers() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+    setChild(new List(), 0);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public Modifiers(List<Modifier> p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    isPublic_reset();
+    isPrivate_reset();
+    isProtected_reset();
+    isStatic_reset();
+    isFinal_reset();
+    isAbstract_reset();
+    isVolatile_reset();
+    isTransient_reset();
+    isStrictfp_reset();
+    isSynchronized_reset();
+    isNative_reset();
+    isSynthetic_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:48
+   */
+  public Modifiers clone() throws CloneNotSupportedException {
+    Modifiers node = (Modifiers) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:53
+   */
+  public Modifiers copy() {
+    try {
+      Modifiers node = (Modifiers) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:72
+   */
+  @Deprecated
+  public Modifiers fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:82
+   */
+  public Modifiers treeCopyNoTransform() {
+    Modifiers tree = (Modifiers) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:102
+   */
+  public Modifiers treeCopy() {
+    Modifiers tree = (Modifiers) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:116
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Modifier list.
+   * @param list The new list node to be used as the Modifier list.
+   * @apilevel high-level
+   */
+  public void setModifierList(List<Modifier> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the Modifier list.
+   * @return Number of children in the Modifier list.
+   * @apilevel high-level
+   */
+  public int getNumModifier() {
+    return getModifierList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Modifier list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Modifier list.
+   * @apilevel low-level
+   */
+  public int getNumModifierNoTransform() {
+    return getModifierListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Modifier list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Modifier list.
+   * @apilevel high-level
+   */
+  public Modifier getModifier(int i) {
+    return (Modifier) getModifierList().getChild(i);
+  }
+  /**
+   * Check whether the Modifier list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasModifier() {
+    return getModifierList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Modifier list.
+   * @param node The element to append to the Modifier list.
+   * @apilevel high-level
+   */
+  public void addModifier(Modifier node) {
+    List<Modifier> list = (parent == null) ? getModifierListNoTransform() : getModifierList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addModifierNoTransform(Modifier node) {
+    List<Modifier> list = getModifierListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Modifier list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setModifier(Modifier node, int i) {
+    List<Modifier> list = getModifierList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Modifier list.
+   * @return The node representing the Modifier list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Modifier")
+  public List<Modifier> getModifierList() {
+    List<Modifier> list = (List<Modifier>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the Modifier list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Modifier list.
+   * @apilevel low-level
+   */
+  public List<Modifier> getModifierListNoTransform() {
+    return (List<Modifier>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the Modifier list without
+   * triggering rewrites.
+   */
+  public Modifier getModifierNoTransform(int i) {
+    return (Modifier) getModifierListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Modifier list.
+   * @return The node representing the Modifier list.
+   * @apilevel high-level
+   */
+  public List<Modifier> getModifiers() {
+    return getModifierList();
+  }
+  /**
+   * Retrieves the Modifier list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Modifier list.
+   * @apilevel low-level
+   */
+  public List<Modifier> getModifiersNoTransform() {
+    return getModifierListNoTransform();
+  }
+  /**
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:366
+   */
+  private Collection<Problem> refined_Modifiers_Modifiers_modifierProblems()
+{
+    Collection<Problem> problems = new LinkedList<Problem>();
+    if (numProtectionModifiers() > 1) {
+      problems.add(error("only one public, protected, private allowed"));
+    }
+    if (numModifier("static") > 1) {
+      problems.add(error("only one static allowed"));
+    }
+    // 8.4.3.1
+    // 8.4.3.2
+    // 8.1.1.2
+    if (numCompletenessModifiers() > 1) {
+      problems.add(error("only one of final, abstract, volatile allowed"));
+    }
+    if (numModifier("synchronized") > 1) {
+      problems.add(error("only one synchronized allowed"));
+    }
+    if (numModifier("transient") > 1) {
+      problems.add(error("only one transient allowed"));
+    }
+    if (numModifier("native") > 1) {
+      problems.add(error("only one native allowed"));
+    }
+    if (numModifier("strictfp") > 1) {
+      problems.add(error("only one strictfp allowed"));
+    }
+    if (isPublic() && !mayBePublic()) {
+      problems.add(error("modifier public not allowed in this context"));
+    }
+    if (isPrivate() && !mayBePrivate()) {
+      problems.add(error("modifier private not allowed in this context"));
+    }
+    if (isProtected() && !mayBeProtected()) {
+      problems.add(error("modifier protected not allowed in this context"));
+    }
+    if (isStatic() && !mayBeStatic()) {
+      problems.add(error("modifier static not allowed in this context"));
+    }
+    if (isFinal() && !mayBeFinal()) {
+      problems.add(error("modifier final not allowed in this context"));
+    }
+    if (isAbstract() && !mayBeAbstract()) {
+      problems.add(error("modifier abstract not allowed in this context"));
+    }
+    if (isVolatile() && !mayBeVolatile()) {
+      problems.add(error("modifier volatile not allowed in this context"));
+    }
+    if (isTransient() && !mayBeTransient()) {
+      problems.add(error("modifier transient not allowed in this context"));
+    }
+    if (isStrictfp() && !mayBeStrictfp()) {
+      problems.add(error("modifier strictfp not allowed in this context"));
+    }
+    if (isSynchronized() && !mayBeSynchronized()) {
+      problems.add(error("modifier synchronized not allowed in this context"));
+    }
+    if (isNative() && !mayBeNative()) {
+      problems.add(error("modifier native not allowed in this context"));
+    }
+    return problems;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:366
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:366")
+  public Collection<Problem> modifierProblems() {
+    state().trace().computeBegin(this, "Modifiers.modifierProblems()", "", "");
+    try {
+        Collection<Problem> problems = refined_Modifiers_Modifiers_modifierProblems();
+        if (numModifier("default") > 1) {
+          problems.add(error("only one default allowed"));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "Modifiers.modifierProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void isPublic_reset() {
+    isPublic_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isPublic_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isPublic_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:442
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:442")
+  public boolean isPublic() {
+    ASTState state = state();
+    if (isPublic_computed == ASTState.NON_CYCLE || isPublic_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isPublic()", "", isPublic_value);
+      return isPublic_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isPublic()", "", "");
+    isPublic_value = hasModifier("public");
+    state().trace().computeEnd(this, "Modifiers.isPublic()", "", isPublic_value);
+    if (state().inCircle()) {
+      isPublic_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isPublic()", "", isPublic_value);
+    } else {
+      isPublic_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isPublic()", "", isPublic_value);
+    }
+    return isPublic_value;
+  }
+  /** @apilevel internal */
+  private void isPrivate_reset() {
+    isPrivate_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isPrivate_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isPrivate_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:443
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:443")
+  public boolean isPrivate() {
+    ASTState state = state();
+    if (isPrivate_computed == ASTState.NON_CYCLE || isPrivate_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isPrivate()", "", isPrivate_value);
+      return isPrivate_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isPrivate()", "", "");
+    isPrivate_value = hasModifier("private");
+    state().trace().computeEnd(this, "Modifiers.isPrivate()", "", isPrivate_value);
+    if (state().inCircle()) {
+      isPrivate_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isPrivate()", "", isPrivate_value);
+    } else {
+      isPrivate_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isPrivate()", "", isPrivate_value);
+    }
+    return isPrivate_value;
+  }
+  /** @apilevel internal */
+  private void isProtected_reset() {
+    isProtected_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isProtected_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isProtected_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:444
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:444")
+  public boolean isProtected() {
+    ASTState state = state();
+    if (isProtected_computed == ASTState.NON_CYCLE || isProtected_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isProtected()", "", isProtected_value);
+      return isProtected_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isProtected()", "", "");
+    isProtected_value = hasModifier("protected");
+    state().trace().computeEnd(this, "Modifiers.isProtected()", "", isProtected_value);
+    if (state().inCircle()) {
+      isProtected_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isProtected()", "", isProtected_value);
+    } else {
+      isProtected_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isProtected()", "", isProtected_value);
+    }
+    return isProtected_value;
+  }
+  /** @apilevel internal */
+  private void isStatic_reset() {
+    isStatic_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isStatic_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isStatic_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:445
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:445")
+  public boolean isStatic() {
+    ASTState state = state();
+    if (isStatic_computed == ASTState.NON_CYCLE || isStatic_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isStatic()", "", isStatic_value);
+      return isStatic_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isStatic()", "", "");
+    isStatic_value = hasModifier("static");
+    state().trace().computeEnd(this, "Modifiers.isStatic()", "", isStatic_value);
+    if (state().inCircle()) {
+      isStatic_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isStatic()", "", isStatic_value);
+    } else {
+      isStatic_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isStatic()", "", isStatic_value);
+    }
+    return isStatic_value;
+  }
+  /** @apilevel internal */
+  private void isFinal_reset() {
+    isFinal_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isFinal_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isFinal_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:446
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:446")
+  public boolean isFinal() {
+    ASTState state = state();
+    if (isFinal_computed == ASTState.NON_CYCLE || isFinal_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isFinal()", "", isFinal_value);
+      return isFinal_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isFinal()", "", "");
+    isFinal_value = hasModifier("final");
+    state().trace().computeEnd(this, "Modifiers.isFinal()", "", isFinal_value);
+    if (state().inCircle()) {
+      isFinal_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isFinal()", "", isFinal_value);
+    } else {
+      isFinal_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isFinal()", "", isFinal_value);
+    }
+    return isFinal_value;
+  }
+  /** @apilevel internal */
+  private void isAbstract_reset() {
+    isAbstract_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isAbstract_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isAbstract_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:447
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:447")
+  public boolean isAbstract() {
+    ASTState state = state();
+    if (isAbstract_computed == ASTState.NON_CYCLE || isAbstract_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isAbstract()", "", isAbstract_value);
+      return isAbstract_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isAbstract()", "", "");
+    isAbstract_value = hasModifier("abstract");
+    state().trace().computeEnd(this, "Modifiers.isAbstract()", "", isAbstract_value);
+    if (state().inCircle()) {
+      isAbstract_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isAbstract()", "", isAbstract_value);
+    } else {
+      isAbstract_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isAbstract()", "", isAbstract_value);
+    }
+    return isAbstract_value;
+  }
+  /** @apilevel internal */
+  private void isVolatile_reset() {
+    isVolatile_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isVolatile_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isVolatile_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:448
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:448")
+  public boolean isVolatile() {
+    ASTState state = state();
+    if (isVolatile_computed == ASTState.NON_CYCLE || isVolatile_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isVolatile()", "", isVolatile_value);
+      return isVolatile_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isVolatile()", "", "");
+    isVolatile_value = hasModifier("volatile");
+    state().trace().computeEnd(this, "Modifiers.isVolatile()", "", isVolatile_value);
+    if (state().inCircle()) {
+      isVolatile_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isVolatile()", "", isVolatile_value);
+    } else {
+      isVolatile_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isVolatile()", "", isVolatile_value);
+    }
+    return isVolatile_value;
+  }
+  /** @apilevel internal */
+  private void isTransient_reset() {
+    isTransient_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isTransient_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isTransient_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:449
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:449")
+  public boolean isTransient() {
+    ASTState state = state();
+    if (isTransient_computed == ASTState.NON_CYCLE || isTransient_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isTransient()", "", isTransient_value);
+      return isTransient_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isTransient()", "", "");
+    isTransient_value = hasModifier("transient");
+    state().trace().computeEnd(this, "Modifiers.isTransient()", "", isTransient_value);
+    if (state().inCircle()) {
+      isTransient_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isTransient()", "", isTransient_value);
+    } else {
+      isTransient_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isTransient()", "", isTransient_value);
+    }
+    return isTransient_value;
+  }
+  /** @apilevel internal */
+  private void isStrictfp_reset() {
+    isStrictfp_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isStrictfp_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isStrictfp_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:450
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:450")
+  public boolean isStrictfp() {
+    ASTState state = state();
+    if (isStrictfp_computed == ASTState.NON_CYCLE || isStrictfp_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isStrictfp()", "", isStrictfp_value);
+      return isStrictfp_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isStrictfp()", "", "");
+    isStrictfp_value = hasModifier("strictfp");
+    state().trace().computeEnd(this, "Modifiers.isStrictfp()", "", isStrictfp_value);
+    if (state().inCircle()) {
+      isStrictfp_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isStrictfp()", "", isStrictfp_value);
+    } else {
+      isStrictfp_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isStrictfp()", "", isStrictfp_value);
+    }
+    return isStrictfp_value;
+  }
+  /** @apilevel internal */
+  private void isSynchronized_reset() {
+    isSynchronized_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isSynchronized_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isSynchronized_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:451
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:451")
+  public boolean isSynchronized() {
+    ASTState state = state();
+    if (isSynchronized_computed == ASTState.NON_CYCLE || isSynchronized_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isSynchronized()", "", isSynchronized_value);
+      return isSynchronized_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isSynchronized()", "", "");
+    isSynchronized_value = hasModifier("synchronized");
+    state().trace().computeEnd(this, "Modifiers.isSynchronized()", "", isSynchronized_value);
+    if (state().inCircle()) {
+      isSynchronized_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isSynchronized()", "", isSynchronized_value);
+    } else {
+      isSynchronized_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isSynchronized()", "", isSynchronized_value);
+    }
+    return isSynchronized_value;
+  }
+  /** @apilevel internal */
+  private void isNative_reset() {
+    isNative_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isNative_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isNative_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:452
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:452")
+  public boolean isNative() {
+    ASTState state = state();
+    if (isNative_computed == ASTState.NON_CYCLE || isNative_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isNative()", "", isNative_value);
+      return isNative_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isNative()", "", "");
+    isNative_value = hasModifier("native");
+    state().trace().computeEnd(this, "Modifiers.isNative()", "", isNative_value);
+    if (state().inCircle()) {
+      isNative_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isNative()", "", isNative_value);
+    } else {
+      isNative_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isNative()", "", isNative_value);
+    }
+    return isNative_value;
+  }
+  /** @apilevel internal */
+  private void isSynthetic_reset() {
+    isSynthetic_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isSynthetic_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isSynthetic_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:454
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:454")
+  public boolean isSynthetic() {
+    ASTState state = state();
+    if (isSynthetic_computed == ASTState.NON_CYCLE || isSynthetic_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Modifiers.isSynthetic()", "", isSynthetic_value);
+      return isSynthetic_value;
+    }
+    state().trace().computeBegin(this, "Modifiers.isSynthetic()", "", "");
+    isSynthetic_value = hasModifier("synthetic");
+    state().trace().computeEnd(this, "Modifiers.isSynthetic()", "", isSynthetic_value);
+    if (state().inCircle()) {
+      isSynthetic_computed = state().cycle();
+      state().trace().cacheWrite(this, "Modifiers.isSynthetic()", "", isSynthetic_value);
+    } else {
+      isSynthetic_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Modifiers.isSynthetic()", "", isSynthetic_value);
+    }
+    return isSynthetic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:456
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:456")
+  public int numProtectionModifiers() {
+    state().trace().computeBegin(this, "Modifiers.numProtectionModifiers()", "", "");
+    int numProtectionModifiers_value = numModifier("public") + numModifier("protected") + numModifier("private");
+    state().trace().computeEnd(this, "Modifiers.numProtectionModifiers()", "", numProtectionModifiers_value);
+    return numProtectionModifiers_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:459
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:459")
+  public int numCompletenessModifiers() {
+    state().trace().computeBegin(this, "Modifiers.numCompletenessModifiers()", "", "");
+    int numCompletenessModifiers_value = numModifier("abstract") + numModifier("final") + numModifier("volatile");
+    state().trace().computeEnd(this, "Modifiers.numCompletenessModifiers()", "", numCompletenessModifiers_value);
+    return numCompletenessModifiers_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:462
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:462")
+  public int numModifier(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Modifiers.numModifier(String)", _parameters, "");
+    try {
+        int n = 0;
+        for (Modifier modifier : getModifierList()) {
+          if (modifier.getID().equals(name)) {
+            n++;
+          }
+        }
+        return n;
+      }
+    finally {
+      state().trace().computeEnd(this, "Modifiers.numModifier(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:472
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:472")
+  public boolean hasModifier(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Modifiers.hasModifier(String)", _parameters, "");
+    try {
+        for (Modifier modifier : getModifierList()) {
+          if (modifier.getID().equals(name)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "Modifiers.hasModifier(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:321
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:321")
+  public Annotation annotation(TypeDecl typeDecl) {
+    Object _parameters = typeDecl;
+    state().trace().computeBegin(this, "Modifiers.annotation(TypeDecl)", _parameters, "");
+    try {
+        for (int i = 0; i < getNumModifier(); i++) {
+          if (getModifier(i) instanceof Annotation) {
+            Annotation a = (Annotation) getModifier(i);
+            if (a.type() == typeDecl) {
+              return a;
+            }
+          }
+        }
+        return null;
+      }
+    finally {
+      state().trace().computeEnd(this, "Modifiers.annotation(TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:333
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:333")
+  public boolean hasAnnotation(String packageName, String name) {
+    Object _parameters = java.util.Arrays.asList(packageName, name);
+    state().trace().computeBegin(this, "Modifiers.hasAnnotation(String,String)", _parameters, "");
+    try {
+        for (int i = 0; i < getNumModifier(); i++) {
+          if (getModifier(i).isAnnotation(packageName, name)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "Modifiers.hasAnnotation(String,String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:439
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:439")
+  public boolean hasAnnotationSuppressWarnings(String annot) {
+    Object _parameters = annot;
+    state().trace().computeBegin(this, "Modifiers.hasAnnotationSuppressWarnings(String)", _parameters, "");
+    try {
+        Annotation a = annotation(lookupType("java.lang", "SuppressWarnings"));
+        if (a != null && a.getNumElementValuePair() == 1
+            && a.getElementValuePair(0).getName().equals("value")) {
+          return a.getElementValuePair(0).getElementValue().hasValue(annot);
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "Modifiers.hasAnnotationSuppressWarnings(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:476
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:476")
+  public boolean hasDeprecatedAnnotation() {
+    state().trace().computeBegin(this, "Modifiers.hasDeprecatedAnnotation()", "", "");
+    boolean hasDeprecatedAnnotation_value = hasAnnotation("java.lang", "Deprecated");
+    state().trace().computeEnd(this, "Modifiers.hasDeprecatedAnnotation()", "", hasDeprecatedAnnotation_value);
+    return hasDeprecatedAnnotation_value;
+  }
+  /**
+   * @return true if the modifier list includes the SafeVarargs annotation
+   * @attribute syn
+   * @aspect SafeVarargs
+   * @declaredat /root/project/java7/frontend/SafeVarargs.jrag:66
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SafeVarargs", declaredAt="/root/project/java7/frontend/SafeVarargs.jrag:66")
+  public boolean hasAnnotationSafeVarargs() {
+    state().trace().computeBegin(this, "Modifiers.hasAnnotationSafeVarargs()", "", "");
+    boolean hasAnnotationSafeVarargs_value = hasAnnotation("java.lang", "SafeVarargs");
+    state().trace().computeEnd(this, "Modifiers.hasAnnotationSafeVarargs()", "", hasAnnotationSafeVarargs_value);
+    return hasAnnotationSafeVarargs_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java8/frontend/Annotations.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java8/frontend/Annotations.jrag:46")
+  public boolean hasAnnotationFunctionalInterface() {
+    state().trace().computeBegin(this, "Modifiers.hasAnnotationFunctionalInterface()", "", "");
+    boolean hasAnnotationFunctionalInterface_value = hasAnnotation("java.lang", "FunctionalInterface");
+    state().trace().computeEnd(this, "Modifiers.hasAnnotationFunctionalInterface()", "", hasAnnotationFunctionalInterface_value);
+    return hasAnnotationFunctionalInterface_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java8/frontend/Modifiers.jrag:29
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java8/frontend/Modifiers.jrag:29")
+  public boolean isDefault() {
+    state().trace().computeBegin(this, "Modifiers.isDefault()", "", "");
+    boolean isDefault_value = hasModifier("default");
+    state().trace().computeEnd(this, "Modifiers.isDefault()", "", isDefault_value);
+    return isDefault_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:428
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:428")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "Modifiers.hostType()", "", "");
+    TypeDecl hostType_value = getParent().Define_hostType(this, null);
+    state().trace().computeEnd(this, "Modifiers.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:430
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:430")
+  public boolean mayBePublic() {
+    state().trace().computeBegin(this, "Modifiers.mayBePublic()", "", "");
+    boolean mayBePublic_value = getParent().Define_mayBePublic(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBePublic()", "", mayBePublic_value);
+    return mayBePublic_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:431
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:431")
+  public boolean mayBePrivate() {
+    state().trace().computeBegin(this, "Modifiers.mayBePrivate()", "", "");
+    boolean mayBePrivate_value = getParent().Define_mayBePrivate(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBePrivate()", "", mayBePrivate_value);
+    return mayBePrivate_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:432
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:432")
+  public boolean mayBeProtected() {
+    state().trace().computeBegin(this, "Modifiers.mayBeProtected()", "", "");
+    boolean mayBeProtected_value = getParent().Define_mayBeProtected(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeProtected()", "", mayBeProtected_value);
+    return mayBeProtected_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:433
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:433")
+  public boolean mayBeStatic() {
+    state().trace().computeBegin(this, "Modifiers.mayBeStatic()", "", "");
+    boolean mayBeStatic_value = getParent().Define_mayBeStatic(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeStatic()", "", mayBeStatic_value);
+    return mayBeStatic_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:434
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:434")
+  public boolean mayBeFinal() {
+    state().trace().computeBegin(this, "Modifiers.mayBeFinal()", "", "");
+    boolean mayBeFinal_value = getParent().Define_mayBeFinal(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeFinal()", "", mayBeFinal_value);
+    return mayBeFinal_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:435
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:435")
+  public boolean mayBeAbstract() {
+    state().trace().computeBegin(this, "Modifiers.mayBeAbstract()", "", "");
+    boolean mayBeAbstract_value = getParent().Define_mayBeAbstract(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeAbstract()", "", mayBeAbstract_value);
+    return mayBeAbstract_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:436
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:436")
+  public boolean mayBeVolatile() {
+    state().trace().computeBegin(this, "Modifiers.mayBeVolatile()", "", "");
+    boolean mayBeVolatile_value = getParent().Define_mayBeVolatile(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeVolatile()", "", mayBeVolatile_value);
+    return mayBeVolatile_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:437
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:437")
+  public boolean mayBeTransient() {
+    state().trace().computeBegin(this, "Modifiers.mayBeTransient()", "", "");
+    boolean mayBeTransient_value = getParent().Define_mayBeTransient(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeTransient()", "", mayBeTransient_value);
+    return mayBeTransient_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:438
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:438")
+  public boolean mayBeStrictfp() {
+    state().trace().computeBegin(this, "Modifiers.mayBeStrictfp()", "", "");
+    boolean mayBeStrictfp_value = getParent().Define_mayBeStrictfp(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeStrictfp()", "", mayBeStrictfp_value);
+    return mayBeStrictfp_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:439
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:439")
+  public boolean mayBeSynchronized() {
+    state().trace().computeBegin(this, "Modifiers.mayBeSynchronized()", "", "");
+    boolean mayBeSynchronized_value = getParent().Define_mayBeSynchronized(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeSynchronized()", "", mayBeSynchronized_value);
+    return mayBeSynchronized_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:440
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:440")
+  public boolean mayBeNative() {
+    state().trace().computeBegin(this, "Modifiers.mayBeNative()", "", "");
+    boolean mayBeNative_value = getParent().Define_mayBeNative(this, null);
+    state().trace().computeEnd(this, "Modifiers.mayBeNative()", "", mayBeNative_value);
+    return mayBeNative_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:109
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:109")
+  public TypeDecl lookupType(String packageName, String typeName) {
+    Object _parameters = java.util.Arrays.asList(packageName, typeName);
+    state().trace().computeBegin(this, "Modifiers.lookupType(String,String)", _parameters, "");
+    TypeDecl lookupType_String_String_value = getParent().Define_lookupType(this, null, packageName, typeName);
+    state().trace().computeEnd(this, "Modifiers.lookupType(String,String)", _parameters, lookupType_String_String_value);
+    return lookupType_String_String_value;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:604
+   * @apilevel internal
+   */
+  public Annotation Define_lookupAnnotation(ASTNode _callerNode, ASTNode _childNode, TypeDecl typeDecl) {
+    if (_callerNode == getModifierListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Annotations.jrag:606
+      int index = _callerNode.getIndexOfChild(_childNode);
+      {
+          return annotation(typeDecl);
+        }
+    }
+    else {
+      return getParent().Define_lookupAnnotation(this, _callerNode, typeDecl);
+    }
+  }
+  protected boolean canDefine_lookupAnnotation(ASTNode _callerNode, ASTNode _childNode, TypeDecl typeDecl) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/Modifiers.jrag:364
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : modifierProblems()) {
+      collection.add(value);
+    }
+  }
+}
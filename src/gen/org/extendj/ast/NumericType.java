@@ -0,0 +1,453 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:167
+ * @production NumericType : {@link PrimitiveType};
+
+ */
+public abstract class NumericType extends PrimitiveType implements Cloneable {
+  /**
+   * @declaredat ASTNode:1
+   */
+  public NumericType() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+    setChild(new List(), 1);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public NumericType(Modifiers p0, String p1, List<BodyDecl> p2) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+  }
+  /**
+   * @declaredat ASTNode:19
+   */
+  public NumericType(Modifiers p0, beaver.Symbol p1, List<BodyDecl> p2) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:25
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:31
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    unaryNumericPromotion_reset();
+    binaryNumericPromotion_TypeDecl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:45
+   */
+  public NumericType clone() throws CloneNotSupportedException {
+    NumericType node = (NumericType) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:56
+   */
+  @Deprecated
+  public abstract NumericType fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:64
+   */
+  public abstract NumericType treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:72
+   */
+  public abstract NumericType treeCopy();
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the BodyDecl list.
+   * @param list The new list node to be used as the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void setBodyDeclList(List<BodyDecl> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="BodyDecl")
+  public List<BodyDecl> getBodyDeclList() {
+    List<BodyDecl> list = (List<BodyDecl>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+  /**
+   * @aspect NumericPromotion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:167
+   */
+  private TypeDecl refined_NumericPromotion_NumericType_binaryNumericPromotion_TypeDecl(TypeDecl type)
+{
+    if (!type.isNumericType()) {
+      return unknownType();
+    }
+     return unaryNumericPromotion().subtype(type) ? type : unaryNumericPromotion();
+  }
+  /** @apilevel internal */
+  private void unaryNumericPromotion_reset() {
+    unaryNumericPromotion_computed = null;
+    unaryNumericPromotion_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle unaryNumericPromotion_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl unaryNumericPromotion_value;
+
+  /**
+   * @attribute syn
+   * @aspect NumericPromotion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:159
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NumericPromotion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:159")
+  public TypeDecl unaryNumericPromotion() {
+    ASTState state = state();
+    if (unaryNumericPromotion_computed == ASTState.NON_CYCLE || unaryNumericPromotion_computed == state().cycle()) {
+      state().trace().cacheRead(this, "NumericType.unaryNumericPromotion()", "", unaryNumericPromotion_value);
+      return unaryNumericPromotion_value;
+    }
+    state().trace().computeBegin(this, "NumericType.unaryNumericPromotion()", "", "");
+    unaryNumericPromotion_value = this;
+    state().trace().computeEnd(this, "NumericType.unaryNumericPromotion()", "", unaryNumericPromotion_value);
+    if (state().inCircle()) {
+      unaryNumericPromotion_computed = state().cycle();
+      state().trace().cacheWrite(this, "NumericType.unaryNumericPromotion()", "", unaryNumericPromotion_value);
+    } else {
+      unaryNumericPromotion_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "NumericType.unaryNumericPromotion()", "", unaryNumericPromotion_value);
+    }
+    return unaryNumericPromotion_value;
+  }
+  /** @apilevel internal */
+  private void binaryNumericPromotion_TypeDecl_reset() {
+    binaryNumericPromotion_TypeDecl_computed = new java.util.HashMap(4);
+    binaryNumericPromotion_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map binaryNumericPromotion_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map binaryNumericPromotion_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect NumericPromotion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:167
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NumericPromotion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:167")
+  public TypeDecl binaryNumericPromotion(TypeDecl type) {
+    Object _parameters = type;
+    if (binaryNumericPromotion_TypeDecl_computed == null) binaryNumericPromotion_TypeDecl_computed = new java.util.HashMap(4);
+    if (binaryNumericPromotion_TypeDecl_values == null) binaryNumericPromotion_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (binaryNumericPromotion_TypeDecl_values.containsKey(_parameters) && binaryNumericPromotion_TypeDecl_computed != null
+        && binaryNumericPromotion_TypeDecl_computed.containsKey(_parameters)
+        && (binaryNumericPromotion_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || binaryNumericPromotion_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "NumericType.binaryNumericPromotion(TypeDecl)", _parameters, binaryNumericPromotion_TypeDecl_values.get(_parameters));
+      return (TypeDecl) binaryNumericPromotion_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "NumericType.binaryNumericPromotion(TypeDecl)", _parameters, "");
+    TypeDecl binaryNumericPromotion_TypeDecl_value = binaryNumericPromotion_compute(type);
+    state().trace().computeEnd(this, "NumericType.binaryNumericPromotion(TypeDecl)", _parameters, binaryNumericPromotion_TypeDecl_value);
+    if (state().inCircle()) {
+      binaryNumericPromotion_TypeDecl_values.put(_parameters, binaryNumericPromotion_TypeDecl_value);
+      binaryNumericPromotion_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "NumericType.binaryNumericPromotion(TypeDecl)", _parameters, binaryNumericPromotion_TypeDecl_value);
+    } else {
+      binaryNumericPromotion_TypeDecl_values.put(_parameters, binaryNumericPromotion_TypeDecl_value);
+      binaryNumericPromotion_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "NumericType.binaryNumericPromotion(TypeDecl)", _parameters, binaryNumericPromotion_TypeDecl_value);
+    }
+    return binaryNumericPromotion_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl binaryNumericPromotion_compute(TypeDecl type) {
+      if (type.isReferenceType()) {
+        return refined_NumericPromotion_NumericType_binaryNumericPromotion_TypeDecl(type.unboxed());
+      } else {
+        return refined_NumericPromotion_NumericType_binaryNumericPromotion_TypeDecl(type);
+      }
+    }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:186
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:186")
+  public boolean isNumericType() {
+    state().trace().computeBegin(this, "TypeDecl.isNumericType()", "", "");
+    boolean isNumericType_value = true;
+    state().trace().computeEnd(this, "TypeDecl.isNumericType()", "", isNumericType_value);
+    return isNumericType_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
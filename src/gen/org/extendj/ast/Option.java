@@ -0,0 +1,175 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect OptionType
+ * @declaredat /root/project/java8/frontend/Option.jadd:41
+ */
+public abstract class Option<T> extends java.lang.Object {
+  
+    protected static final Option NONE = new Option() {
+      @Override public Object get() {
+        throw new NullPointerException();
+      }
+
+      @Override public Object getOrElse(Object v) {
+        return v;
+      }
+
+      @Override public boolean hasValue() {
+        return false;
+      }
+    };
+
+  
+
+    protected static class OptionSome<V> extends Option<V> {
+      private final V value;
+
+      public OptionSome(V value) {
+        assert (value != null);
+        this.value = value;
+      }
+
+      @Override public V get() {
+        return value;
+      }
+
+      @Override public V getOrElse(V v) {
+        return value;
+      }
+
+      @Override public boolean hasValue() {
+        return true;
+      }
+    }
+
+  
+
+    protected Option() { }
+
+  
+
+    /**
+     * Get the contained value.
+     * Throws an error if there is no object.
+     */
+    public abstract T get();
+
+  
+
+    /**
+     * Get the contained value.
+     * If there is no value, the argument is returned.
+     */
+    public abstract T getOrElse(T v);
+
+  
+
+    /** Test if there is a value in this option object. */
+    public abstract boolean hasValue();
+
+  
+
+    /**
+     * Convert a nullable object to an option.
+     */
+    public static <U> Option<U> maybe(U u) {
+      if (u != null) {
+        return new OptionSome(u);
+      } else {
+        return (Option<U>) NONE;
+      }
+    }
+
+  
+
+    /**
+     * Convert a nullable object to an option.
+     */
+    public static <U> Option<U> some(U u) {
+      if (u == null) {
+        throw new Error("Can't create an option containing null using Option.some(). "
+            + "Use Option.none() or Option.maybe() instead.");
+      }
+      return new OptionSome(u);
+    }
+
+  
+
+    /**
+     * Returns the empty option object.
+     */
+    public static <U> Option<U> none() {
+      return (Option<U>) NONE;
+    }
+
+
+}
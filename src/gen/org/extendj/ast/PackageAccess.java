@@ -0,0 +1,457 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * A package name in an import statement.
+ * This should not occur as part of a qualified typename or expression name (TypeAccess includes
+ * a package name part).
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:118
+ * @production PackageAccess : {@link Access} ::= <span class="component">&lt;Package:String&gt;</span>;
+
+ */
+public class PackageAccess extends Access implements Cloneable {
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:40
+   */
+  public PackageAccess(String name, int start, int end) {
+    this(name);
+    this.start = this.Packagestart = start;
+    this.end = this.Packageend = end;
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:522
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getPackage());
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public PackageAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public PackageAccess(String p0) {
+    setPackage(p0);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public PackageAccess(beaver.Symbol p0) {
+    setPackage(p0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public PackageAccess clone() throws CloneNotSupportedException {
+    PackageAccess node = (PackageAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public PackageAccess copy() {
+    try {
+      PackageAccess node = (PackageAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:61
+   */
+  @Deprecated
+  public PackageAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:71
+   */
+  public PackageAccess treeCopyNoTransform() {
+    PackageAccess tree = (PackageAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:91
+   */
+  public PackageAccess treeCopy() {
+    PackageAccess tree = (PackageAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:105
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_Package == ((PackageAccess) node).tokenString_Package);    
+  }
+  /**
+   * Replaces the lexeme Package.
+   * @param value The new value for the lexeme Package.
+   * @apilevel high-level
+   */
+  public void setPackage(String value) {
+    tokenString_Package = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_Package;
+  /**
+   */
+  public int Packagestart;
+  /**
+   */
+  public int Packageend;
+  /**
+   * JastAdd-internal setter for lexeme Package using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme Package
+   * @apilevel internal
+   */
+  public void setPackage(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setPackage is only valid for String lexemes");
+    tokenString_Package = (String)symbol.value;
+    Packagestart = symbol.getStart();
+    Packageend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme Package.
+   * @return The value for the lexeme Package.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="Package")
+  public String getPackage() {
+    return tokenString_Package != null ? tokenString_Package : "";
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:113
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:113")
+  public boolean hasQualifiedPackage(String packageName) {
+    Object _parameters = packageName;
+    state().trace().computeBegin(this, "Expr.hasQualifiedPackage(String)", _parameters, "");
+    boolean hasQualifiedPackage_String_value = hasPackage(packageName() + "." + packageName);
+    state().trace().computeEnd(this, "Expr.hasQualifiedPackage(String)", _parameters, hasQualifiedPackage_String_value);
+    return hasQualifiedPackage_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:684
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:684")
+  public SimpleSet<TypeDecl> qualifiedLookupType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.qualifiedLookupType(String)", _parameters, "");
+    try {
+        SimpleSet<TypeDecl> result = emptySet();
+        TypeDecl typeDecl = lookupType(packageName(), name);
+        if (!typeDecl.isUnknown()) {
+          if (hostType() != null && typeDecl.accessibleFrom(hostType())) {
+            result = result.add(typeDecl);
+          } else if (hostType() == null && typeDecl.accessibleFromPackage(hostPackage())) {
+            result = result.add(typeDecl);
+          }
+        }
+        return result;
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.qualifiedLookupType(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:264
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:264")
+  public SimpleSet<Variable> qualifiedLookupVariable(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.qualifiedLookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> qualifiedLookupVariable_String_value = emptySet();
+    state().trace().computeEnd(this, "Expr.qualifiedLookupVariable(String)", _parameters, qualifiedLookupVariable_String_value);
+    return qualifiedLookupVariable_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:89")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "PackageAccess.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (!hasPackage(packageName())) {
+          problems.add(errorf("package %s not found.", packageName()));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "PackageAccess.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:41")
+  public String name() {
+    state().trace().computeBegin(this, "PackageAccess.name()", "", "");
+    String name_value = getPackage();
+    state().trace().computeEnd(this, "PackageAccess.name()", "", name_value);
+    return name_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:43")
+  public String packageName() {
+    state().trace().computeBegin(this, "Expr.packageName()", "", "");
+    try {
+        StringBuilder sb = new StringBuilder();
+        if (hasPrevExpr()) {
+          sb.append(prevExpr().packageName());
+          sb.append(".");
+        }
+        sb.append(getPackage());
+        return sb.toString();
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.packageName()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:68
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:68")
+  public boolean isPackageAccess() {
+    state().trace().computeBegin(this, "Expr.isPackageAccess()", "", "");
+    boolean isPackageAccess_value = true;
+    state().trace().computeEnd(this, "Expr.isPackageAccess()", "", isPackageAccess_value);
+    return isPackageAccess_value;
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    NameType predNameType_value = NameType.PACKAGE_NAME;
+    state().trace().computeEnd(this, "Access.predNameType()", "", predNameType_value);
+    return predNameType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:47")
+  public boolean isUnknown() {
+    state().trace().computeBegin(this, "Expr.isUnknown()", "", "");
+    boolean isUnknown_value = !hasPackage(packageName());
+    state().trace().computeEnd(this, "Expr.isUnknown()", "", isUnknown_value);
+    return isUnknown_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:368
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:368")
+  public boolean hasPackage(String packageName) {
+    Object _parameters = packageName;
+    state().trace().computeBegin(this, "PackageAccess.hasPackage(String)", _parameters, "");
+    boolean hasPackage_String_value = getParent().Define_hasPackage(this, null, packageName);
+    state().trace().computeEnd(this, "PackageAccess.hasPackage(String)", _parameters, hasPackage_String_value);
+    return hasPackage_String_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:87
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+  }
+}
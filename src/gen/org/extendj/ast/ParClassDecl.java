@@ -0,0 +1,2547 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * A specific parameterization of a generic class declaration.
+ * 
+ * <p>The parameterization is specified by the Parameterization token.
+ * 
+ * <p>The members declarations of this class are constructed on demand using
+ * the BodyDecl nonterminal attribute.  The member declarations are "signature"
+ * copies of the original declarations, keeping only the information needed for
+ * type analysis.
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Generics.ast:17
+ * @production ParClassDecl : {@link ClassDecl} ::= <span class="component">TypeParameter:{@link TypeVariable}*</span> <span class="component">SubstTypeParam:{@link TypeVariable}*</span> <span class="component">&lt;Parameterization:Parameterization&gt;</span> <span class="component">[SuperClass:{@link Access}]</span> <span class="component">Implements:{@link Access}*</span> <span class="component">{@link BodyDecl}*</span>;
+
+ */
+public class ParClassDecl extends ClassDecl implements Cloneable, ParTypeDecl, MemberSubstitutor {
+  /**
+   * @aspect JavaDLInfo
+   * @declaredat /root/project/java4/frontend/JavaDLInfo.jrag:229
+   */
+  public ASTNode unwrapNTANode() {
+		return original();
+	}
+  /**
+   * @aspect PrettyPrintUtil5
+   * @declaredat /root/project/java5/frontend/PrettyPrintUtil.jrag:68
+   */
+  @Override public String toString() {
+    StringBuilder params = new StringBuilder();
+    Parameterization parameterization = getParameterization(); // Token child (no rewrites).
+    for (TypeDecl arg : parameterization.args) {
+      if (params.length() > 0) {
+        params.append(", ");
+      }
+      params.append(arg.toString());
+    }
+    return String.format("%s<%s>", getID(), params.toString());
+  }
+  /**
+   * @aspect JavaDLInfo
+   * @declaredat /root/project/java4/frontend/JavaDLInfo.jrag:6
+   */
+  public boolean isGeneric() { return true; }
+  /**
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1277
+   */
+  public int numTypeParameter() {
+    return ((GenericTypeDecl) original()).getNumTypeParameter();
+  }
+  /**
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1281
+   */
+  public TypeVariable typeParameter(int index) {
+    return ((GenericTypeDecl) original()).getTypeParameter(index);
+  }
+  /**
+   * @aspect GenericsParTypeDecl
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:107
+   */
+  public Access createQualifiedAccess() {
+    List typeArgumentList = new List();
+    for (TypeDecl arg : getParameterization().args) {
+      typeArgumentList.add(arg.createQualifiedAccess());
+    }
+    if (!isTopLevelType()) {
+      if (isRawType()) {
+        return enclosingType().createQualifiedAccess()
+            .qualifiesAccess(new TypeAccess("", getID()));
+      } else {
+        return enclosingType().createQualifiedAccess()
+            .qualifiesAccess(new ParTypeAccess(new TypeAccess("", getID()), typeArgumentList));
+      }
+    } else {
+      if (isRawType()) {
+        return new TypeAccess(packageName(), getID());
+      } else {
+        return new ParTypeAccess(new TypeAccess(packageName(), getID()), typeArgumentList);
+      }
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ParClassDecl() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[7];
+    setChild(new List(), 1);
+    setChild(new Opt(), 2);
+    setChild(new List(), 3);
+    setChild(new Opt(), 4);
+    setChild(new List(), 5);
+    setChild(new List(), 6);
+  }
+  /**
+   * @declaredat ASTNode:19
+   */
+  public ParClassDecl(Modifiers p0, String p1, List<TypeVariable> p2, Parameterization p3, Opt<Access> p4, List<Access> p5) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setParameterization(p3);
+    setChild(p4, 2);
+    setChild(p5, 3);
+  }
+  /**
+   * @declaredat ASTNode:27
+   */
+  public ParClassDecl(Modifiers p0, beaver.Symbol p1, List<TypeVariable> p2, Parameterization p3, Opt<Access> p4, List<Access> p5) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setParameterization(p3);
+    setChild(p4, 2);
+    setChild(p5, 3);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:36
+   */
+  protected int numChildren() {
+    return 4;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:42
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:46
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    involvesTypeParameters_reset();
+    erasure_reset();
+    getSubstTypeParamList_reset();
+    getBodyDeclList_reset();
+    subtype_TypeDecl_reset();
+    sameStructure_TypeDecl_reset();
+    typeDescriptor_reset();
+    constantPoolName_reset();
+    needsSignatureAttribute_reset();
+    strictSubtype_TypeDecl_reset();
+    firstTypeArgument_reset();
+    sameSignature_java_util_List_TypeDecl__reset();
+    usesTypeVariable_reset();
+    sourceTypeDecl_reset();
+    fullName_reset();
+    typeName_reset();
+    unimplementedMethods_reset();
+    uniqueIndex_reset();
+    localMethods_reset();
+    localFields_String_reset();
+    localTypeDecls_String_reset();
+    genericDecl_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:72
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:76
+   */
+  public ParClassDecl clone() throws CloneNotSupportedException {
+    ParClassDecl node = (ParClassDecl) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:81
+   */
+  public ParClassDecl copy() {
+    try {
+      ParClassDecl node = (ParClassDecl) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:100
+   */
+  @Deprecated
+  public ParClassDecl fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:110
+   */
+  public ParClassDecl treeCopyNoTransform() {
+    ParClassDecl tree = (ParClassDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 4:
+          tree.children[i] = new Opt();
+          continue;
+        case 5:
+        case 6:
+          tree.children[i] = new List();
+          continue;
+        }
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:139
+   */
+  public ParClassDecl treeCopy() {
+    ParClassDecl tree = (ParClassDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 4:
+          tree.children[i] = new Opt();
+          continue;
+        case 5:
+        case 6:
+          tree.children[i] = new List();
+          continue;
+        }
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:162
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((ParClassDecl) node).tokenString_ID) && (tokenParameterization_Parameterization == ((ParClassDecl) node).tokenParameterization_Parameterization);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the TypeParameter list.
+   * @param list The new list node to be used as the TypeParameter list.
+   * @apilevel high-level
+   */
+  public void setTypeParameterList(List<TypeVariable> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the TypeParameter list.
+   * @return Number of children in the TypeParameter list.
+   * @apilevel high-level
+   */
+  public int getNumTypeParameter() {
+    return getTypeParameterList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the TypeParameter list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the TypeParameter list.
+   * @apilevel low-level
+   */
+  public int getNumTypeParameterNoTransform() {
+    return getTypeParameterListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the TypeParameter list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the TypeParameter list.
+   * @apilevel high-level
+   */
+  public TypeVariable getTypeParameter(int i) {
+    return (TypeVariable) getTypeParameterList().getChild(i);
+  }
+  /**
+   * Check whether the TypeParameter list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasTypeParameter() {
+    return getTypeParameterList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the TypeParameter list.
+   * @param node The element to append to the TypeParameter list.
+   * @apilevel high-level
+   */
+  public void addTypeParameter(TypeVariable node) {
+    List<TypeVariable> list = (parent == null) ? getTypeParameterListNoTransform() : getTypeParameterList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addTypeParameterNoTransform(TypeVariable node) {
+    List<TypeVariable> list = getTypeParameterListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the TypeParameter list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setTypeParameter(TypeVariable node, int i) {
+    List<TypeVariable> list = getTypeParameterList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * @return The node representing the TypeParameter list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="TypeParameter")
+  public List<TypeVariable> getTypeParameterList() {
+    List<TypeVariable> list = (List<TypeVariable>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeParameter list.
+   * @apilevel low-level
+   */
+  public List<TypeVariable> getTypeParameterListNoTransform() {
+    return (List<TypeVariable>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the TypeParameter list without
+   * triggering rewrites.
+   */
+  public TypeVariable getTypeParameterNoTransform(int i) {
+    return (TypeVariable) getTypeParameterListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * @return The node representing the TypeParameter list.
+   * @apilevel high-level
+   */
+  public List<TypeVariable> getTypeParameters() {
+    return getTypeParameterList();
+  }
+  /**
+   * Retrieves the TypeParameter list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeParameter list.
+   * @apilevel low-level
+   */
+  public List<TypeVariable> getTypeParametersNoTransform() {
+    return getTypeParameterListNoTransform();
+  }
+  /**
+   * Replaces the lexeme Parameterization.
+   * @param value The new value for the lexeme Parameterization.
+   * @apilevel high-level
+   */
+  public void setParameterization(Parameterization value) {
+    tokenParameterization_Parameterization = value;
+  }
+  /** @apilevel internal 
+   */
+  protected Parameterization tokenParameterization_Parameterization;
+  /**
+   * Retrieves the value for the lexeme Parameterization.
+   * @return The value for the lexeme Parameterization.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="Parameterization")
+  public Parameterization getParameterization() {
+    return tokenParameterization_Parameterization;
+  }
+  /**
+   * Replaces the optional node for the SuperClass child. This is the <code>Opt</code>
+   * node containing the child SuperClass, not the actual child!
+   * @param opt The new node to be used as the optional node for the SuperClass child.
+   * @apilevel low-level
+   */
+  public void setSuperClassOpt(Opt<Access> opt) {
+    setChild(opt, 2);
+  }
+  /**
+   * Replaces the (optional) SuperClass child.
+   * @param node The new node to be used as the SuperClass child.
+   * @apilevel high-level
+   */
+  public void setSuperClass(Access node) {
+    getSuperClassOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional SuperClass child exists.
+   * @return {@code true} if the optional SuperClass child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasSuperClass() {
+    return getSuperClassOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) SuperClass child.
+   * @return The SuperClass child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Access getSuperClass() {
+    return (Access) getSuperClassOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the SuperClass child. This is the <code>Opt</code> node containing the child SuperClass, not the actual child!
+   * @return The optional node for child the SuperClass child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="SuperClass")
+  public Opt<Access> getSuperClassOpt() {
+    return (Opt<Access>) getChild(2);
+  }
+  /**
+   * Retrieves the optional node for child SuperClass. This is the <code>Opt</code> node containing the child SuperClass, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child SuperClass.
+   * @apilevel low-level
+   */
+  public Opt<Access> getSuperClassOptNoTransform() {
+    return (Opt<Access>) getChildNoTransform(2);
+  }
+  /**
+   * Replaces the Implements list.
+   * @param list The new list node to be used as the Implements list.
+   * @apilevel high-level
+   */
+  public void setImplementsList(List<Access> list) {
+    setChild(list, 3);
+  }
+  /**
+   * Retrieves the number of children in the Implements list.
+   * @return Number of children in the Implements list.
+   * @apilevel high-level
+   */
+  public int getNumImplements() {
+    return getImplementsList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Implements list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Implements list.
+   * @apilevel low-level
+   */
+  public int getNumImplementsNoTransform() {
+    return getImplementsListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Implements list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Implements list.
+   * @apilevel high-level
+   */
+  public Access getImplements(int i) {
+    return (Access) getImplementsList().getChild(i);
+  }
+  /**
+   * Check whether the Implements list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasImplements() {
+    return getImplementsList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Implements list.
+   * @param node The element to append to the Implements list.
+   * @apilevel high-level
+   */
+  public void addImplements(Access node) {
+    List<Access> list = (parent == null) ? getImplementsListNoTransform() : getImplementsList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addImplementsNoTransform(Access node) {
+    List<Access> list = getImplementsListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Implements list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setImplements(Access node, int i) {
+    List<Access> list = getImplementsList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Implements list.
+   * @return The node representing the Implements list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Implements")
+  public List<Access> getImplementsList() {
+    List<Access> list = (List<Access>) getChild(3);
+    return list;
+  }
+  /**
+   * Retrieves the Implements list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Implements list.
+   * @apilevel low-level
+   */
+  public List<Access> getImplementsListNoTransform() {
+    return (List<Access>) getChildNoTransform(3);
+  }
+  /**
+   * @return the element at index {@code i} in the Implements list without
+   * triggering rewrites.
+   */
+  public Access getImplementsNoTransform(int i) {
+    return (Access) getImplementsListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Implements list.
+   * @return The node representing the Implements list.
+   * @apilevel high-level
+   */
+  public List<Access> getImplementss() {
+    return getImplementsList();
+  }
+  /**
+   * Retrieves the Implements list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Implements list.
+   * @apilevel low-level
+   */
+  public List<Access> getImplementssNoTransform() {
+    return getImplementsListNoTransform();
+  }
+  /**
+   * Replaces the (optional) ImplicitConstructor child.
+   * @param node The new node to be used as the ImplicitConstructor child.
+   * @apilevel high-level
+   */
+  public void setImplicitConstructor(ConstructorDecl node) {
+    getImplicitConstructorOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional ImplicitConstructor child exists.
+   * @return {@code true} if the optional ImplicitConstructor child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasImplicitConstructor() {
+    return getImplicitConstructorOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) ImplicitConstructor child.
+   * @return The ImplicitConstructor child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public ConstructorDecl getImplicitConstructor() {
+    return (ConstructorDecl) getImplicitConstructorOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for child ImplicitConstructor. This is the <code>Opt</code> node containing the child ImplicitConstructor, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child ImplicitConstructor.
+   * @apilevel low-level
+   */
+  public Opt<ConstructorDecl> getImplicitConstructorOptNoTransform() {
+    return (Opt<ConstructorDecl>) getChildNoTransform(4);
+  }
+  /**
+   * Retrieves the child position of the optional child ImplicitConstructor.
+   * @return The the child position of the optional child ImplicitConstructor.
+   * @apilevel low-level
+   */
+  protected int getImplicitConstructorOptChildPosition() {
+    return 4;
+  }
+  /**
+   * Retrieves the number of children in the SubstTypeParam list.
+   * @return Number of children in the SubstTypeParam list.
+   * @apilevel high-level
+   */
+  public int getNumSubstTypeParam() {
+    return getSubstTypeParamList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the SubstTypeParam list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the SubstTypeParam list.
+   * @apilevel low-level
+   */
+  public int getNumSubstTypeParamNoTransform() {
+    return getSubstTypeParamListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the SubstTypeParam list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the SubstTypeParam list.
+   * @apilevel high-level
+   */
+  public TypeVariable getSubstTypeParam(int i) {
+    return (TypeVariable) getSubstTypeParamList().getChild(i);
+  }
+  /**
+   * Check whether the SubstTypeParam list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasSubstTypeParam() {
+    return getSubstTypeParamList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the SubstTypeParam list.
+   * @param node The element to append to the SubstTypeParam list.
+   * @apilevel high-level
+   */
+  public void addSubstTypeParam(TypeVariable node) {
+    List<TypeVariable> list = (parent == null) ? getSubstTypeParamListNoTransform() : getSubstTypeParamList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addSubstTypeParamNoTransform(TypeVariable node) {
+    List<TypeVariable> list = getSubstTypeParamListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the SubstTypeParam list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setSubstTypeParam(TypeVariable node, int i) {
+    List<TypeVariable> list = getSubstTypeParamList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the child position of the SubstTypeParam list.
+   * @return The the child position of the SubstTypeParam list.
+   * @apilevel low-level
+   */
+  protected int getSubstTypeParamListChildPosition() {
+    return 5;
+  }
+  /**
+   * Retrieves the SubstTypeParam list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the SubstTypeParam list.
+   * @apilevel low-level
+   */
+  public List<TypeVariable> getSubstTypeParamListNoTransform() {
+    return (List<TypeVariable>) getChildNoTransform(5);
+  }
+  /**
+   * @return the element at index {@code i} in the SubstTypeParam list without
+   * triggering rewrites.
+   */
+  public TypeVariable getSubstTypeParamNoTransform(int i) {
+    return (TypeVariable) getSubstTypeParamListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the SubstTypeParam list.
+   * @return The node representing the SubstTypeParam list.
+   * @apilevel high-level
+   */
+  public List<TypeVariable> getSubstTypeParams() {
+    return getSubstTypeParamList();
+  }
+  /**
+   * Retrieves the SubstTypeParam list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the SubstTypeParam list.
+   * @apilevel low-level
+   */
+  public List<TypeVariable> getSubstTypeParamsNoTransform() {
+    return getSubstTypeParamListNoTransform();
+  }
+  /**
+   * This method should not be called. This method throws an exception due to
+   * the corresponding child being an NTA shadowing a non-NTA child.
+   * @param node
+   * @apilevel internal
+   */
+  public void setBodyDeclList(List<BodyDecl> node) {
+    throw new Error("Can not replace NTA child BodyDeclList in ParClassDecl!");
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the child position of the BodyDecl list.
+   * @return The the child position of the BodyDecl list.
+   * @apilevel low-level
+   */
+  protected int getBodyDeclListChildPosition() {
+    return 6;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(6);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+/** @apilevel internal */
+protected ASTState.Cycle involvesTypeParameters_cycle = null;
+  /** @apilevel internal */
+  private void involvesTypeParameters_reset() {
+    involvesTypeParameters_computed = false;
+    involvesTypeParameters_initialized = false;
+    involvesTypeParameters_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_computed = false;
+
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_value;
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="GenericMethodsInference", declaredAt="/root/project/java5/frontend/GenericMethodsInference.jrag:35")
+  public boolean involvesTypeParameters() {
+    if (involvesTypeParameters_computed) {
+      state().trace().cacheRead(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      return involvesTypeParameters_value;
+    }
+    ASTState state = state();
+    if (!involvesTypeParameters_initialized) {
+      involvesTypeParameters_initialized = true;
+      involvesTypeParameters_value = false;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        involvesTypeParameters_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.involvesTypeParameters()", "", "");
+        boolean new_involvesTypeParameters_value = involvesTypeParameters_compute();
+        state().trace().computeEnd(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+        if (new_involvesTypeParameters_value != involvesTypeParameters_value) {
+          state.setChangeInCycle();
+        }
+        involvesTypeParameters_value = new_involvesTypeParameters_value;
+      } while (state.testAndClearChangeInCycle());
+      involvesTypeParameters_computed = true;
+      state().trace().cacheWrite(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      state.leaveCircle();
+    } else if (involvesTypeParameters_cycle != state.cycle()) {
+      involvesTypeParameters_cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.involvesTypeParameters()", "", "");
+      boolean new_involvesTypeParameters_value = involvesTypeParameters_compute();
+      state().trace().computeEnd(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      if (new_involvesTypeParameters_value != involvesTypeParameters_value) {
+        state.setChangeInCycle();
+      }
+      involvesTypeParameters_value = new_involvesTypeParameters_value;
+    } else {
+    }
+    return involvesTypeParameters_value;
+  }
+  /** @apilevel internal */
+  private boolean involvesTypeParameters_compute() {
+      for (TypeDecl arg : getParameterization().args) {
+        if (arg.involvesTypeParameters()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:682
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:682")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "TypeDecl.hostType()", "", "");
+    TypeDecl hostType_value = original();
+    state().trace().computeEnd(this, "TypeDecl.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:595
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:595")
+  public TypeDecl topLevelType() {
+    state().trace().computeBegin(this, "TypeDecl.topLevelType()", "", "");
+    TypeDecl topLevelType_value = erasure().topLevelType();
+    state().trace().computeEnd(this, "TypeDecl.topLevelType()", "", topLevelType_value);
+    return topLevelType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:341
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Generics", declaredAt="/root/project/java5/frontend/Generics.jrag:341")
+  public boolean isRawType() {
+    state().trace().computeBegin(this, "ParClassDecl.isRawType()", "", "");
+    boolean isRawType_value = isNestedType() && enclosingType().isRawType();
+    state().trace().computeEnd(this, "ParClassDecl.isRawType()", "", isRawType_value);
+    return isRawType_value;
+  }
+  /** @apilevel internal */
+  private void erasure_reset() {
+    erasure_computed = null;
+    erasure_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle erasure_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl erasure_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsErasure
+   * @declaredat /root/project/java5/frontend/Generics.jrag:460
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsErasure", declaredAt="/root/project/java5/frontend/Generics.jrag:460")
+  public TypeDecl erasure() {
+    ASTState state = state();
+    if (erasure_computed == ASTState.NON_CYCLE || erasure_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.erasure()", "", erasure_value);
+      return erasure_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.erasure()", "", "");
+    erasure_value = genericDecl();
+    state().trace().computeEnd(this, "TypeDecl.erasure()", "", erasure_value);
+    if (state().inCircle()) {
+      erasure_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.erasure()", "", erasure_value);
+    } else {
+      erasure_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.erasure()", "", erasure_value);
+    }
+    return erasure_value;
+  }
+  /** @apilevel internal */
+  private void getSubstTypeParamList_reset() {
+    getSubstTypeParamList_computed = false;
+    
+    getSubstTypeParamList_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean getSubstTypeParamList_computed = false;
+
+  /** @apilevel internal */
+  protected List<TypeVariable> getSubstTypeParamList_value;
+
+  /** Substituted type parameters are used when checking type argument bounds. 
+   * @attribute syn nta
+   * @aspect GenericsTypeCheck
+   * @declaredat /root/project/java5/frontend/Generics.jrag:736
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="GenericsTypeCheck", declaredAt="/root/project/java5/frontend/Generics.jrag:736")
+  public List<TypeVariable> getSubstTypeParamList() {
+    ASTState state = state();
+    if (getSubstTypeParamList_computed) {
+      state().trace().cacheRead(this, "ParClassDecl.getSubstTypeParamList()", "", getSubstTypeParamList_value);
+      return (List<TypeVariable>) getChild(getSubstTypeParamListChildPosition());
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "ParClassDecl.getSubstTypeParamList()", "", "");
+    getSubstTypeParamList_value = getSubstTypeParamList_compute();
+    state().trace().computeEnd(this, "ParClassDecl.getSubstTypeParamList()", "", getSubstTypeParamList_value);
+    setChild(getSubstTypeParamList_value, getSubstTypeParamListChildPosition());
+    getSubstTypeParamList_computed = true;
+    state().trace().cacheWrite(this, "ParClassDecl.getSubstTypeParamList()", "", getSubstTypeParamList_value);
+    state().leaveLazyAttribute();
+    List<TypeVariable> node = (List<TypeVariable>) this.getChild(getSubstTypeParamListChildPosition());
+    return node;
+  }
+  /** @apilevel internal */
+  private List<TypeVariable> getSubstTypeParamList_compute() {
+      List<TypeVariable> result = new List<TypeVariable>();
+      for (TypeVariable param : getTypeParameterList()) {
+        result.add(new SubstitutedTypeVariable(
+            new Modifiers(new List<Modifier>()),
+            param.getID(),
+            new List<BodyDecl>(),
+            param.getBoundList().treeCopy(),
+            getParameterization()));
+      }
+      return result;
+    }
+  /** @apilevel internal */
+  private void getBodyDeclList_reset() {
+    getBodyDeclList_computed = false;
+    
+    getBodyDeclList_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean getBodyDeclList_computed = false;
+
+  /** @apilevel internal */
+  protected List<BodyDecl> getBodyDeclList_value;
+
+  /**
+   * @attribute syn nta
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1712
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1712")
+  public List<BodyDecl> getBodyDeclList() {
+    ASTState state = state();
+    if (getBodyDeclList_computed) {
+      state().trace().cacheRead(this, "ParClassDecl.getBodyDeclList()", "", getBodyDeclList_value);
+      return (List<BodyDecl>) getChild(getBodyDeclListChildPosition());
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "ParClassDecl.getBodyDeclList()", "", "");
+    getBodyDeclList_value = original().substitutedBodyDecls();
+    state().trace().computeEnd(this, "ParClassDecl.getBodyDeclList()", "", getBodyDeclList_value);
+    setChild(getBodyDeclList_value, getBodyDeclListChildPosition());
+    getBodyDeclList_computed = true;
+    state().trace().cacheWrite(this, "ParClassDecl.getBodyDeclList()", "", getBodyDeclList_value);
+    state().leaveLazyAttribute();
+    List<BodyDecl> node = (List<BodyDecl>) this.getChild(getBodyDeclListChildPosition());
+    return node;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:41")
+  public boolean supertypeGenericClassDecl(GenericClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGenericClassDecl(GenericClassDecl)", _parameters, "");
+    boolean supertypeGenericClassDecl_GenericClassDecl_value = type.subtype(genericDecl().original());
+    state().trace().computeEnd(this, "TypeDecl.supertypeGenericClassDecl(GenericClassDecl)", _parameters, supertypeGenericClassDecl_GenericClassDecl_value);
+    return supertypeGenericClassDecl_GenericClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:472
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:472")
+  public boolean supertypeClassDecl(ClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeClassDecl(ClassDecl)", _parameters, "");
+    boolean supertypeClassDecl_ClassDecl_value = super.supertypeClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeClassDecl(ClassDecl)", _parameters, supertypeClassDecl_ClassDecl_value);
+    return supertypeClassDecl_ClassDecl_value;
+  }
+  /** @apilevel internal */
+  private void subtype_TypeDecl_reset() {
+    subtype_TypeDecl_values = null;
+  }
+  protected java.util.Map subtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:456")
+  public boolean subtype(TypeDecl type) {
+    Object _parameters = type;
+    if (subtype_TypeDecl_values == null) subtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (subtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = subtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.subtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      subtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_subtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+        new_subtype_TypeDecl_value = type.supertypeParClassDecl(this);
+        state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+        if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_subtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      subtype_TypeDecl_values.put(_parameters, new_subtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_subtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+      boolean new_subtype_TypeDecl_value = type.supertypeParClassDecl(this);
+      state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_subtype_TypeDecl_value;
+      }
+      return new_subtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:53")
+  public boolean supertypeRawClassDecl(RawClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeRawClassDecl(RawClassDecl)", _parameters, "");
+    boolean supertypeRawClassDecl_RawClassDecl_value = type.genericDecl().original().subtype(genericDecl().original());
+    state().trace().computeEnd(this, "TypeDecl.supertypeRawClassDecl(RawClassDecl)", _parameters, supertypeRawClassDecl_RawClassDecl_value);
+    return supertypeRawClassDecl_RawClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:57
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:57")
+  public boolean supertypeRawInterfaceDecl(RawInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeRawInterfaceDecl(RawInterfaceDecl)", _parameters, "");
+    boolean supertypeRawInterfaceDecl_RawInterfaceDecl_value = type.genericDecl().original().subtype(genericDecl().original());
+    state().trace().computeEnd(this, "TypeDecl.supertypeRawInterfaceDecl(RawInterfaceDecl)", _parameters, supertypeRawInterfaceDecl_RawInterfaceDecl_value);
+    return supertypeRawInterfaceDecl_RawInterfaceDecl_value;
+  }
+  /** @apilevel internal */
+  private void sameStructure_TypeDecl_reset() {
+    sameStructure_TypeDecl_values = null;
+  }
+  protected java.util.Map sameStructure_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:222")
+  public boolean sameStructure(TypeDecl t) {
+    Object _parameters = t;
+    if (sameStructure_TypeDecl_values == null) sameStructure_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (sameStructure_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = sameStructure_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      sameStructure_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_sameStructure_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, "");
+        new_sameStructure_TypeDecl_value = sameStructure_compute(t);
+        state().trace().computeEnd(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+        if (new_sameStructure_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_sameStructure_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      sameStructure_TypeDecl_values.put(_parameters, new_sameStructure_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_sameStructure_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, "");
+      boolean new_sameStructure_TypeDecl_value = sameStructure_compute(t);
+      state().trace().computeEnd(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+      if (new_sameStructure_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_sameStructure_TypeDecl_value;
+      }
+      return new_sameStructure_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean sameStructure_compute(TypeDecl t) {
+      if (!(t instanceof ParClassDecl)) {
+        return false;
+      }
+      ParClassDecl type = (ParClassDecl) t;
+      if (type.genericDecl().original() == genericDecl().original()) {
+        if (!getParameterization().compare(type.getParameterization(),
+            Parameterization.SAME_STRUCTURE)) {
+          return false;
+        }
+        if (isNestedType() && type.isNestedType()) {
+          return type.enclosingType().sameStructure(enclosingType());
+        }
+        return true;
+      }
+      return false;
+    }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:152
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:152")
+  public boolean supertypeParClassDecl(ParClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeParClassDecl(ParClassDecl)", _parameters, "");
+    try {
+        if (type.genericDecl().original() == genericDecl().original()) {
+          if (!type.getParameterization().compareSubstituted(getParameterization(),
+              Parameterization.CONTAINED_IN)) {
+            return false;
+          }
+          if (isNestedType() && type.isNestedType()) {
+            return type.enclosingType().subtype(enclosingType());
+          }
+          return true;
+        }
+        return supertypeClassDecl(type);
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.supertypeParClassDecl(ParClassDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:156
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:156")
+  public boolean supertypeParInterfaceDecl(ParInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, "");
+    boolean supertypeParInterfaceDecl_ParInterfaceDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.supertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, supertypeParInterfaceDecl_ParInterfaceDecl_value);
+    return supertypeParInterfaceDecl_ParInterfaceDecl_value;
+  }
+  /**
+   * A type is reifiable if it either refers to a non-parameterized type,
+   * is a raw type, is a parameterized type with only unbound wildcard
+   * parameters or is an array type with a reifiable type parameter.
+   * 
+   * @see "JLS SE7 &sect;4.7"
+   * @attribute syn
+   * @aspect ReifiableTypes
+   * @declaredat /root/project/java5/frontend/ReifiableTypes.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReifiableTypes", declaredAt="/root/project/java5/frontend/ReifiableTypes.jrag:39")
+  public boolean isReifiable() {
+    state().trace().computeBegin(this, "TypeDecl.isReifiable()", "", "");
+    try {
+        if (original().isInnerClass() && !original().enclosingType().isReifiable()) {
+          return false;
+        }
+        for (TypeDecl argument : getParameterization().args) {
+          if (!argument.isUnboundedWildcard()) {
+            return false;
+          }
+        }
+        return true;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.isReifiable()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void typeDescriptor_reset() {
+    typeDescriptor_computed = null;
+    typeDescriptor_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeDescriptor_computed = null;
+
+  /** @apilevel internal */
+  protected String typeDescriptor_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:78")
+  public String typeDescriptor() {
+    ASTState state = state();
+    if (typeDescriptor_computed == ASTState.NON_CYCLE || typeDescriptor_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+      return typeDescriptor_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeDescriptor()", "", "");
+    typeDescriptor_value = erasure().typeDescriptor();
+    state().trace().computeEnd(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    if (state().inCircle()) {
+      typeDescriptor_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    } else {
+      typeDescriptor_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    }
+    return typeDescriptor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:999
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:999")
+  public String arrayTypeDescriptor() {
+    state().trace().computeBegin(this, "TypeDecl.arrayTypeDescriptor()", "", "");
+    String arrayTypeDescriptor_value = erasure().arrayTypeDescriptor();
+    state().trace().computeEnd(this, "TypeDecl.arrayTypeDescriptor()", "", arrayTypeDescriptor_value);
+    return arrayTypeDescriptor_value;
+  }
+  /** @apilevel internal */
+  private void constantPoolName_reset() {
+    constantPoolName_computed = null;
+    constantPoolName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constantPoolName_computed = null;
+
+  /** @apilevel internal */
+  protected String constantPoolName_value;
+
+  /**
+   * For a top-level type the constant pool name of the type is the same as the
+   * canonical name but with dots replaced by solidus.
+   * 
+   * <p>For nested types the constant pool name is based on the enclosing top-level
+   * types constant pool name followed by a dollar sign and a unique index and/or
+   * the type name.
+   * 
+   * @return constant pool name of this type
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:44")
+  public String constantPoolName() {
+    ASTState state = state();
+    if (constantPoolName_computed == ASTState.NON_CYCLE || constantPoolName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+      return constantPoolName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.constantPoolName()", "", "");
+    constantPoolName_value = genericDecl().constantPoolName();
+    state().trace().computeEnd(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    if (state().inCircle()) {
+      constantPoolName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    } else {
+      constantPoolName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    }
+    return constantPoolName_value;
+  }
+  /** @apilevel internal */
+  private void needsSignatureAttribute_reset() {
+    needsSignatureAttribute_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle needsSignatureAttribute_computed = null;
+
+  /** @apilevel internal */
+  protected boolean needsSignatureAttribute_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:406
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:406")
+  public boolean needsSignatureAttribute() {
+    ASTState state = state();
+    if (needsSignatureAttribute_computed == ASTState.NON_CYCLE || needsSignatureAttribute_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+      return needsSignatureAttribute_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.needsSignatureAttribute()", "", "");
+    needsSignatureAttribute_value = true;
+    state().trace().computeEnd(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    if (state().inCircle()) {
+      needsSignatureAttribute_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    } else {
+      needsSignatureAttribute_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    }
+    return needsSignatureAttribute_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:39")
+  public boolean strictSupertypeGenericClassDecl(GenericClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGenericClassDecl(GenericClassDecl)", _parameters, "");
+    boolean strictSupertypeGenericClassDecl_GenericClassDecl_value = type.strictSubtype(genericDecl().original());
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeGenericClassDecl(GenericClassDecl)", _parameters, strictSupertypeGenericClassDecl_GenericClassDecl_value);
+    return strictSupertypeGenericClassDecl_GenericClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:376
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:376")
+  public boolean strictSupertypeClassDecl(ClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeClassDecl(ClassDecl)", _parameters, "");
+    boolean strictSupertypeClassDecl_ClassDecl_value = super.strictSupertypeClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeClassDecl(ClassDecl)", _parameters, strictSupertypeClassDecl_ClassDecl_value);
+    return strictSupertypeClassDecl_ClassDecl_value;
+  }
+  /** @apilevel internal */
+  private void strictSubtype_TypeDecl_reset() {
+    strictSubtype_TypeDecl_values = null;
+  }
+  protected java.util.Map strictSubtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:363")
+  public boolean strictSubtype(TypeDecl type) {
+    Object _parameters = type;
+    if (strictSubtype_TypeDecl_values == null) strictSubtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (strictSubtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = strictSubtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      strictSubtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_strictSubtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+        new_strictSubtype_TypeDecl_value = type.strictSupertypeParClassDecl(this);
+        state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+        if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_strictSubtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      strictSubtype_TypeDecl_values.put(_parameters, new_strictSubtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_strictSubtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+      boolean new_strictSubtype_TypeDecl_value = type.strictSupertypeParClassDecl(this);
+      state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_strictSubtype_TypeDecl_value;
+      }
+      return new_strictSubtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:52
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:52")
+  public boolean strictSupertypeRawClassDecl(RawClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeRawClassDecl(RawClassDecl)", _parameters, "");
+    boolean strictSupertypeRawClassDecl_RawClassDecl_value = type.genericDecl().original().strictSubtype(genericDecl().original());
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeRawClassDecl(RawClassDecl)", _parameters, strictSupertypeRawClassDecl_RawClassDecl_value);
+    return strictSupertypeRawClassDecl_RawClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:56
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:56")
+  public boolean strictSupertypeRawInterfaceDecl(RawInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeRawInterfaceDecl(RawInterfaceDecl)", _parameters, "");
+    boolean strictSupertypeRawInterfaceDecl_RawInterfaceDecl_value = type.genericDecl().original().strictSubtype(genericDecl().original());
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeRawInterfaceDecl(RawInterfaceDecl)", _parameters, strictSupertypeRawInterfaceDecl_RawInterfaceDecl_value);
+    return strictSupertypeRawInterfaceDecl_RawInterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:149
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:149")
+  public boolean strictSupertypeParClassDecl(ParClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeParClassDecl(ParClassDecl)", _parameters, "");
+    try {
+        if (isRawType()) {
+          return true;
+        }
+        if (type.genericDecl().original() == genericDecl().original()) {
+          if (!type.getParameterization().compare(getParameterization(),
+              Parameterization.STRICT_CONTAINED_IN)) {
+            return false;
+          }
+          if (isNestedType() && type.isNestedType()) {
+            return type.enclosingType().strictSubtype(enclosingType());
+          }
+          return true;
+        }
+        return strictSupertypeClassDecl(type);
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.strictSupertypeParClassDecl(ParClassDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:153
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:153")
+  public boolean strictSupertypeParInterfaceDecl(ParInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, "");
+    boolean strictSupertypeParInterfaceDecl_ParInterfaceDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, strictSupertypeParInterfaceDecl_ParInterfaceDecl_value);
+    return strictSupertypeParInterfaceDecl_ParInterfaceDecl_value;
+  }
+  /** @apilevel internal */
+  private void firstTypeArgument_reset() {
+    firstTypeArgument_computed = null;
+    firstTypeArgument_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle firstTypeArgument_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl firstTypeArgument_value;
+
+  /**
+   * Returns the first type argument of this type, if it is parameterized, otherwise returns
+   * java.lang.Object.
+   * @attribute syn
+   * @aspect EnhancedFor
+   * @declaredat /root/project/java5/frontend/EnhancedFor.jrag:129
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EnhancedFor", declaredAt="/root/project/java5/frontend/EnhancedFor.jrag:129")
+  public TypeDecl firstTypeArgument() {
+    ASTState state = state();
+    if (firstTypeArgument_computed == ASTState.NON_CYCLE || firstTypeArgument_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.firstTypeArgument()", "", firstTypeArgument_value);
+      return firstTypeArgument_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.firstTypeArgument()", "", "");
+    firstTypeArgument_value = getParameterization().args.get(0);
+    state().trace().computeEnd(this, "TypeDecl.firstTypeArgument()", "", firstTypeArgument_value);
+    if (state().inCircle()) {
+      firstTypeArgument_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.firstTypeArgument()", "", firstTypeArgument_value);
+    } else {
+      firstTypeArgument_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.firstTypeArgument()", "", firstTypeArgument_value);
+    }
+    return firstTypeArgument_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:340
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Generics", declaredAt="/root/project/java5/frontend/Generics.jrag:340")
+  public boolean isParameterizedType() {
+    state().trace().computeBegin(this, "ParClassDecl.isParameterizedType()", "", "");
+    boolean isParameterizedType_value = true;
+    state().trace().computeEnd(this, "ParClassDecl.isParameterizedType()", "", isParameterizedType_value);
+    return isParameterizedType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsTypeCheck
+   * @declaredat /root/project/java5/frontend/Generics.jrag:628
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsTypeCheck", declaredAt="/root/project/java5/frontend/Generics.jrag:628")
+  public boolean sameArguments(ParTypeDecl decl) {
+    Object _parameters = decl;
+    state().trace().computeBegin(this, "ParClassDecl.sameArguments(ParTypeDecl)", _parameters, "");
+    try {
+        if (this == decl) {
+          return true;
+        }
+        if (genericDecl() != decl.genericDecl()) {
+          return false;
+        }
+        return getParameterization().sameArguments(decl.getParameterization());
+      }
+    finally {
+      state().trace().computeEnd(this, "ParClassDecl.sameArguments(ParTypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:876
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:876")
+  public boolean sameSignature(Access a) {
+    Object _parameters = a;
+    state().trace().computeBegin(this, "ParClassDecl.sameSignature(Access)", _parameters, "");
+    try {
+        if (a instanceof ParTypeAccess) {
+          ParTypeAccess ta = (ParTypeAccess) a;
+          if (genericDecl() != ta.genericDecl()) {
+            return false;
+          }
+          Parameterization par = getParameterization();
+          if (par.args.size() != ta.getNumTypeArgument()) {
+            return false;
+          }
+          for (int i = 0; i < par.args.size(); i++) {
+            if (!par.args.get(i).sameSignature(ta.getTypeArgument(i))) {
+              return false;
+            }
+          }
+          return true;
+        } else if (a instanceof TypeAccess && ((TypeAccess) a).isRaw()) {
+          return false;
+        }
+        return super.sameSignature(a);
+      }
+    finally {
+      state().trace().computeEnd(this, "ParClassDecl.sameSignature(Access)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void sameSignature_java_util_List_TypeDecl__reset() {
+    sameSignature_java_util_List_TypeDecl__values = null;
+  }
+  protected java.util.Map sameSignature_java_util_List_TypeDecl__values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:923")
+  public boolean sameSignature(java.util.List<TypeDecl> list) {
+    Object _parameters = list;
+    if (sameSignature_java_util_List_TypeDecl__values == null) sameSignature_java_util_List_TypeDecl__values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (sameSignature_java_util_List_TypeDecl__values.containsKey(_parameters)) {
+      Object _cache = sameSignature_java_util_List_TypeDecl__values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ParClassDecl.sameSignature(java_util_List_TypeDecl_)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      sameSignature_java_util_List_TypeDecl__values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_sameSignature_java_util_List_TypeDecl__value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ParClassDecl.sameSignature(java_util_List_TypeDecl_)", _parameters, "");
+        new_sameSignature_java_util_List_TypeDecl__value = sameSignature_compute(list);
+        state().trace().computeEnd(this, "ParClassDecl.sameSignature(java_util_List_TypeDecl_)", _parameters, _value.value);
+        if (new_sameSignature_java_util_List_TypeDecl__value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_sameSignature_java_util_List_TypeDecl__value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      sameSignature_java_util_List_TypeDecl__values.put(_parameters, new_sameSignature_java_util_List_TypeDecl__value);
+      state().trace().cacheWrite(this, "ParClassDecl.sameSignature(java_util_List_TypeDecl_)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_sameSignature_java_util_List_TypeDecl__value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ParClassDecl.sameSignature(java_util_List_TypeDecl_)", _parameters, "");
+      boolean new_sameSignature_java_util_List_TypeDecl__value = sameSignature_compute(list);
+      state().trace().computeEnd(this, "ParClassDecl.sameSignature(java_util_List_TypeDecl_)", _parameters, _value.value);
+      if (new_sameSignature_java_util_List_TypeDecl__value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_sameSignature_java_util_List_TypeDecl__value;
+      }
+      return new_sameSignature_java_util_List_TypeDecl__value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean sameSignature_compute(java.util.List<TypeDecl> list) {
+      Parameterization par = getParameterization();
+      if (par.args.size() != list.size()) {
+        return false;
+      }
+      for (int i = 0; i < list.size(); i++) {
+        if (par.args.get(i) != list.get(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+/** @apilevel internal */
+protected ASTState.Cycle usesTypeVariable_cycle = null;
+  /** @apilevel internal */
+  private void usesTypeVariable_reset() {
+    usesTypeVariable_computed = false;
+    usesTypeVariable_initialized = false;
+    usesTypeVariable_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_computed = false;
+
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_value;
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1341")
+  public boolean usesTypeVariable() {
+    if (usesTypeVariable_computed) {
+      state().trace().cacheRead(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      return usesTypeVariable_value;
+    }
+    ASTState state = state();
+    if (!usesTypeVariable_initialized) {
+      usesTypeVariable_initialized = true;
+      usesTypeVariable_value = false;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        usesTypeVariable_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.usesTypeVariable()", "", "");
+        boolean new_usesTypeVariable_value = usesTypeVariable_compute();
+        state().trace().computeEnd(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+        if (new_usesTypeVariable_value != usesTypeVariable_value) {
+          state.setChangeInCycle();
+        }
+        usesTypeVariable_value = new_usesTypeVariable_value;
+      } while (state.testAndClearChangeInCycle());
+      usesTypeVariable_computed = true;
+      state().trace().cacheWrite(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      state.leaveCircle();
+    } else if (usesTypeVariable_cycle != state.cycle()) {
+      usesTypeVariable_cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.usesTypeVariable()", "", "");
+      boolean new_usesTypeVariable_value = usesTypeVariable_compute();
+      state().trace().computeEnd(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      if (new_usesTypeVariable_value != usesTypeVariable_value) {
+        state.setChangeInCycle();
+      }
+      usesTypeVariable_value = new_usesTypeVariable_value;
+    } else {
+    }
+    return usesTypeVariable_value;
+  }
+  /** @apilevel internal */
+  private boolean usesTypeVariable_compute() {
+      if (super.usesTypeVariable()) {
+        return true;
+      }
+      for (TypeDecl argument : getParameterization().args) {
+        if (argument.usesTypeVariable()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1684
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1684")
+  public TypeDecl original() {
+    state().trace().computeBegin(this, "TypeDecl.original()", "", "");
+    TypeDecl original_value = genericDecl().original();
+    state().trace().computeEnd(this, "TypeDecl.original()", "", original_value);
+    return original_value;
+  }
+  /** @apilevel internal */
+  private void sourceTypeDecl_reset() {
+    sourceTypeDecl_computed = null;
+    sourceTypeDecl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle sourceTypeDecl_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl sourceTypeDecl_value;
+
+  /**
+   * @attribute syn
+   * @aspect SourceDeclarations
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1906
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SourceDeclarations", declaredAt="/root/project/java5/frontend/Generics.jrag:1906")
+  public TypeDecl sourceTypeDecl() {
+    ASTState state = state();
+    if (sourceTypeDecl_computed == ASTState.NON_CYCLE || sourceTypeDecl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+      return sourceTypeDecl_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.sourceTypeDecl()", "", "");
+    sourceTypeDecl_value = genericDecl().original().sourceTypeDecl();
+    state().trace().computeEnd(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    if (state().inCircle()) {
+      sourceTypeDecl_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    } else {
+      sourceTypeDecl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    }
+    return sourceTypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void fullName_reset() {
+    fullName_computed = null;
+    fullName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle fullName_computed = null;
+
+  /** @apilevel internal */
+  protected String fullName_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeName
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:84
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeName", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:84")
+  public String fullName() {
+    ASTState state = state();
+    if (fullName_computed == ASTState.NON_CYCLE || fullName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.fullName()", "", fullName_value);
+      return fullName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.fullName()", "", "");
+    fullName_value = fullName_compute();
+    state().trace().computeEnd(this, "TypeDecl.fullName()", "", fullName_value);
+    if (state().inCircle()) {
+      fullName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.fullName()", "", fullName_value);
+    } else {
+      fullName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.fullName()", "", fullName_value);
+    }
+    return fullName_value;
+  }
+  /** @apilevel internal */
+  private String fullName_compute() {
+      if (isNestedType()) {
+        return enclosingType().fullName() + "." + nameWithArgs();
+      }
+      String packageName = packageName();
+      if (packageName.equals("")) {
+        return nameWithArgs();
+      }
+      return packageName + "." + nameWithArgs();
+    }
+  /** @apilevel internal */
+  private void typeName_reset() {
+    typeName_computed = null;
+    typeName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeName_computed = null;
+
+  /** @apilevel internal */
+  protected String typeName_value;
+
+  /**
+   * The qualified typename of this type.
+   * 
+   * <p>Includes array suffix and type arguments.
+   * @attribute syn
+   * @aspect TypeName
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeName", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:100")
+  public String typeName() {
+    ASTState state = state();
+    if (typeName_computed == ASTState.NON_CYCLE || typeName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeName()", "", typeName_value);
+      return typeName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeName()", "", "");
+    typeName_value = typeName_compute();
+    state().trace().computeEnd(this, "TypeDecl.typeName()", "", typeName_value);
+    if (state().inCircle()) {
+      typeName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeName()", "", typeName_value);
+    } else {
+      typeName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeName()", "", typeName_value);
+    }
+    return typeName_value;
+  }
+  /** @apilevel internal */
+  private String typeName_compute() {
+      if (isNestedType()) {
+        return enclosingType().typeName() + "." + nameWithArgs();
+      }
+      String packageName = packageName();
+      if (packageName.equals("") || packageName.equals(PRIMITIVE_PACKAGE_NAME)) {
+        return nameWithArgs();
+      }
+      return packageName + "." + nameWithArgs();
+    }
+  /**
+   * @attribute syn
+   * @aspect GenericsParTypeDecl
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:55
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsParTypeDecl", declaredAt="/root/project/java5/frontend/GenericsParTypeDecl.jrag:55")
+  public String nameWithArgs() {
+    state().trace().computeBegin(this, "ParClassDecl.nameWithArgs()", "", "");
+    try {
+        java.util.List<TypeDecl> args = getParameterization().args;
+        StringBuilder sb = new StringBuilder();
+        sb.append(name());
+        sb.append("<");
+        for (int i = 0; i < args.size(); i++) {
+          if (i != 0) {
+            sb.append(", ");
+          }
+          sb.append(args.get(i).typeName());
+        }
+        sb.append(">");
+        return sb.toString();
+      }
+    finally {
+      state().trace().computeEnd(this, "ParClassDecl.nameWithArgs()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:613
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:613")
+  public SimpleSet<TypeDecl> localLookupType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "TypeDecl.localLookupType(String)", _parameters, "");
+    try {
+        SimpleSet<TypeDecl> result = memberTypes(name);
+        if (!result.isEmpty()) {
+          return result;
+        }
+        if (name().equals(name)) {
+          return genericDecl(); // Type lookups for this type resolve to the generic type.
+        }
+    
+        result = lookupType(name);
+        // 8.5.2
+        if (isClassDecl() && isStatic() && !isTopLevelType()) {
+          SimpleSet<TypeDecl> newSet = emptySet();
+          for (TypeDecl type : result) {
+            newSet = newSet.add(type);
+          }
+          result = newSet;
+        }
+        return result;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.localLookupType(String)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void unimplementedMethods_reset() {
+    unimplementedMethods_computed = null;
+    unimplementedMethods_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle unimplementedMethods_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<MethodDecl> unimplementedMethods_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:35")
+  public Collection<MethodDecl> unimplementedMethods() {
+    ASTState state = state();
+    if (unimplementedMethods_computed == ASTState.NON_CYCLE || unimplementedMethods_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.unimplementedMethods()", "", unimplementedMethods_value);
+      return unimplementedMethods_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.unimplementedMethods()", "", "");
+    unimplementedMethods_value = unimplementedMethods_compute();
+    state().trace().computeEnd(this, "TypeDecl.unimplementedMethods()", "", unimplementedMethods_value);
+    if (state().inCircle()) {
+      unimplementedMethods_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.unimplementedMethods()", "", unimplementedMethods_value);
+    } else {
+      unimplementedMethods_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.unimplementedMethods()", "", unimplementedMethods_value);
+    }
+    return unimplementedMethods_value;
+  }
+  /** @apilevel internal */
+  private Collection<MethodDecl> unimplementedMethods_compute() {
+      Collection<MethodDecl> set = new HashSet<MethodDecl>();
+      Collection<MethodDecl> result = new HashSet<MethodDecl>();
+      for (MethodDecl m : genericDecl().unimplementedMethods()) {
+        set.add(m.sourceMethodDecl());
+      }
+      for (MethodDecl m : super.unimplementedMethods()) {
+        if (set.contains(m.sourceMethodDecl())) {
+          result.add(m);
+        }
+      }
+      return result;
+    }
+  /** @apilevel internal */
+  private void uniqueIndex_reset() {
+    uniqueIndex_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle uniqueIndex_computed = null;
+
+  /** @apilevel internal */
+  protected int uniqueIndex_value;
+
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:35")
+  public int uniqueIndex() {
+    ASTState state = state();
+    if (uniqueIndex_computed == ASTState.NON_CYCLE || uniqueIndex_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+      return uniqueIndex_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.uniqueIndex()", "", "");
+    uniqueIndex_value = genericDecl().uniqueIndex();
+    state().trace().computeEnd(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    if (state().inCircle()) {
+      uniqueIndex_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    } else {
+      uniqueIndex_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    }
+    return uniqueIndex_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:541
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:541")
+  public String typeArgumentsOpt() {
+    state().trace().computeBegin(this, "TypeDecl.typeArgumentsOpt()", "", "");
+    try {
+        StringBuilder buf = new StringBuilder();
+        buf.append("<");
+        for (TypeDecl argument : getParameterization().args) {
+          buf.append(argument.fieldTypeSignature());
+        }
+        buf.append(">");
+        return buf.toString();
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.typeArgumentsOpt()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void localMethods_reset() {
+    localMethods_computed = null;
+    localMethods_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localMethods_computed = null;
+
+  /** @apilevel internal */
+  protected java.util.List<MethodDecl> localMethods_value;
+
+  /**
+   * Substituted local methods.
+   * 
+   * <p>Includes all non-substitutable original methods plus all substituted methods.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1368
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1368")
+  public java.util.List<MethodDecl> localMethods() {
+    ASTState state = state();
+    if (localMethods_computed == ASTState.NON_CYCLE || localMethods_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ParClassDecl.localMethods()", "", localMethods_value);
+      return localMethods_value;
+    }
+    state().trace().computeBegin(this, "ParClassDecl.localMethods()", "", "");
+    localMethods_value = localMethods_compute();
+    state().trace().computeEnd(this, "ParClassDecl.localMethods()", "", localMethods_value);
+    if (state().inCircle()) {
+      localMethods_computed = state().cycle();
+      state().trace().cacheWrite(this, "ParClassDecl.localMethods()", "", localMethods_value);
+    } else {
+      localMethods_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ParClassDecl.localMethods()", "", localMethods_value);
+    }
+    return localMethods_value;
+  }
+  /** @apilevel internal */
+  private java.util.List<MethodDecl> localMethods_compute() {
+      ArrayList<MethodDecl> methods = new ArrayList<MethodDecl>();
+      for (MethodDecl m : original().localMethods()) {
+        if (!m.isSubstitutable()) {
+          methods.add(m);
+        }
+      }
+      for (BodyDecl decl : getBodyDeclList()) {
+        if (decl instanceof MethodDecl) {
+          methods.add((MethodDecl) decl);
+        }
+      }
+      return methods;
+    }
+  /** @apilevel internal */
+  private void localFields_String_reset() {
+    localFields_String_computed = new java.util.HashMap(4);
+    localFields_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map localFields_String_values;
+  /** @apilevel internal */
+  protected java.util.Map localFields_String_computed;
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1383
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1383")
+  public SimpleSet<Variable> localFields(String name) {
+    Object _parameters = name;
+    if (localFields_String_computed == null) localFields_String_computed = new java.util.HashMap(4);
+    if (localFields_String_values == null) localFields_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (localFields_String_values.containsKey(_parameters) && localFields_String_computed != null
+        && localFields_String_computed.containsKey(_parameters)
+        && (localFields_String_computed.get(_parameters) == ASTState.NON_CYCLE || localFields_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ParClassDecl.localFields(String)", _parameters, localFields_String_values.get(_parameters));
+      return (SimpleSet<Variable>) localFields_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ParClassDecl.localFields(String)", _parameters, "");
+    SimpleSet<Variable> localFields_String_value = localFields_compute(name);
+    state().trace().computeEnd(this, "ParClassDecl.localFields(String)", _parameters, localFields_String_value);
+    if (state().inCircle()) {
+      localFields_String_values.put(_parameters, localFields_String_value);
+      localFields_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ParClassDecl.localFields(String)", _parameters, localFields_String_value);
+    } else {
+      localFields_String_values.put(_parameters, localFields_String_value);
+      localFields_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ParClassDecl.localFields(String)", _parameters, localFields_String_value);
+    }
+    return localFields_String_value;
+  }
+  /** @apilevel internal */
+  private SimpleSet<Variable> localFields_compute(String name) {
+      SimpleSet<Variable> set = emptySet();
+      for (Variable field : original().localFields(name)) {
+        if (field.name().equals(name)
+            && field.fieldDecl() != null && !field.fieldDecl().isSubstitutable()) {
+          set = set.add(field);
+        }
+      }
+      for (BodyDecl decl : getBodyDeclList()) {
+        if (decl instanceof FieldDecl) {
+          FieldDecl field = (FieldDecl) decl;
+          for (FieldDeclarator f : field.getDeclaratorList()) {
+            if (f.name().equals(name)) {
+              set = set.add(f);
+            }
+          }
+        }
+      }
+      return set;
+    }
+  /** @apilevel internal */
+  private void localTypeDecls_String_reset() {
+    localTypeDecls_String_values = null;
+  }
+  protected java.util.Map localTypeDecls_String_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1414")
+  public SimpleSet<TypeDecl> localTypeDecls(String name) {
+    Object _parameters = name;
+    if (localTypeDecls_String_values == null) localTypeDecls_String_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (localTypeDecls_String_values.containsKey(_parameters)) {
+      Object _cache = localTypeDecls_String_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ParClassDecl.localTypeDecls(String)", _parameters, _cache);
+        return (SimpleSet<TypeDecl>) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      localTypeDecls_String_values.put(_parameters, _value);
+      _value.value = emptySet();
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      SimpleSet<TypeDecl> new_localTypeDecls_String_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ParClassDecl.localTypeDecls(String)", _parameters, "");
+        new_localTypeDecls_String_value = localTypeDecls_compute(name);
+        state().trace().computeEnd(this, "ParClassDecl.localTypeDecls(String)", _parameters, _value.value);
+        if ((new_localTypeDecls_String_value == null && ((SimpleSet<TypeDecl>)_value.value) != null) || (new_localTypeDecls_String_value != null && !new_localTypeDecls_String_value.equals(((SimpleSet<TypeDecl>)_value.value)))) {
+          state.setChangeInCycle();
+          _value.value = new_localTypeDecls_String_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      localTypeDecls_String_values.put(_parameters, new_localTypeDecls_String_value);
+      state().trace().cacheWrite(this, "ParClassDecl.localTypeDecls(String)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_localTypeDecls_String_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ParClassDecl.localTypeDecls(String)", _parameters, "");
+      SimpleSet<TypeDecl> new_localTypeDecls_String_value = localTypeDecls_compute(name);
+      state().trace().computeEnd(this, "ParClassDecl.localTypeDecls(String)", _parameters, _value.value);
+      if ((new_localTypeDecls_String_value == null && ((SimpleSet<TypeDecl>)_value.value) != null) || (new_localTypeDecls_String_value != null && !new_localTypeDecls_String_value.equals(((SimpleSet<TypeDecl>)_value.value)))) {
+        state.setChangeInCycle();
+        _value.value = new_localTypeDecls_String_value;
+      }
+      return new_localTypeDecls_String_value;
+    } else {
+      return (SimpleSet<TypeDecl>) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private SimpleSet<TypeDecl> localTypeDecls_compute(String name) {
+      SimpleSet<TypeDecl> set = emptySet();
+      for (TypeDecl type : original().localTypeDecls(name)) {
+        if (type.isStatic()) {
+          set = set.add(type);
+        }
+      }
+      for (BodyDecl decl : getBodyDeclList()) {
+        if (decl instanceof MemberClassDecl) {
+          ClassDecl typeDecl = ((MemberClassDecl) decl).getClassDecl();
+          if (typeDecl.name().equals(name)) {
+            set = set.add(typeDecl);
+          }
+        }
+      }
+      return set;
+    }
+  /**
+   * @attribute inh
+   * @aspect GenericsParTypeDecl
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:74
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="GenericsParTypeDecl", declaredAt="/root/project/java5/frontend/GenericsParTypeDecl.jrag:74")
+  public TypeDecl genericDecl() {
+    ASTState state = state();
+    if (genericDecl_computed == ASTState.NON_CYCLE || genericDecl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ParClassDecl.genericDecl()", "", genericDecl_value);
+      return genericDecl_value;
+    }
+    state().trace().computeBegin(this, "ParClassDecl.genericDecl()", "", "");
+    genericDecl_value = getParent().Define_genericDecl(this, null);
+    state().trace().computeEnd(this, "ParClassDecl.genericDecl()", "", genericDecl_value);
+    if (state().inCircle()) {
+      genericDecl_computed = state().cycle();
+      state().trace().cacheWrite(this, "ParClassDecl.genericDecl()", "", genericDecl_value);
+    } else {
+      genericDecl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ParClassDecl.genericDecl()", "", genericDecl_value);
+    }
+    return genericDecl_value;
+  }
+  /** @apilevel internal */
+  private void genericDecl_reset() {
+    genericDecl_computed = null;
+    genericDecl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle genericDecl_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl genericDecl_value;
+
+  /**
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:74
+   * @apilevel internal
+   */
+  public TypeDecl Define_genericDecl(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:82
+      int index = _callerNode.getIndexOfChild(_childNode);
+      {
+          if (getBodyDecl(index) instanceof MemberTypeDecl) {
+            MemberTypeDecl m = (MemberTypeDecl) getBodyDecl(index);
+            return extractSingleType(genericDecl().memberTypes(m.typeDecl().name()));
+          }
+          return genericDecl();
+        }
+    }
+    else {
+      return getParent().Define_genericDecl(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_genericDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:231
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Generics.jrag:1003
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      {
+          TypeDecl paramType = getParameterization().substitute(name);
+          if (paramType != null) {
+            return paramType;
+          }
+          return localLookupType(name);
+        }
+    }
+    else {
+      int childIndex = this.getIndexOfChild(_callerNode);
+      {
+          TypeDecl paramType = getParameterization().substitute(name);
+          if (paramType != null) {
+            return paramType;
+          }
+          return lookupType(name);
+        }
+    }
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,1284 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * A parameter declaration as used in either method parameter lists
+ * or as a catch clause parameter.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:207
+ * @production ParameterDeclaration : {@link ASTNode} ::= <span class="component">{@link Modifiers}</span> <span class="component">TypeAccess:{@link Access}</span> <span class="component">&lt;ID:String&gt;</span>;
+
+ */
+public class ParameterDeclaration extends ASTNode<ASTNode> implements Cloneable, SimpleSet<Variable>, Variable {
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:469
+   */
+  @Override
+  public int size() {
+    return 1;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:474
+   */
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:479
+   */
+  @Override
+  public SimpleSet<Variable> add(Variable o) {
+    return new SimpleSetImpl<Variable>(this, o);
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:484
+   */
+  @Override
+  public boolean contains(Object o) {
+    return this == o;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:489
+   */
+  @Override
+  public boolean isSingleton() {
+    return true;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:494
+   */
+  @Override
+  public boolean isSingleton(Variable o) {
+    return contains(o);
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:499
+   */
+  @Override
+  public Variable singletonValue() {
+    return this;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:504
+   */
+  @Override
+  public Iterator<Variable> iterator() {
+    return new SingleItemIterator(this);
+  }
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:32
+   */
+  public ParameterDeclaration(Access type, String name) {
+    this(new Modifiers(new List()), type, name);
+  }
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:36
+   */
+  public ParameterDeclaration(TypeDecl type, String name) {
+    this(new Modifiers(new List()), type.createQualifiedAccess(), name);
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:530
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getModifiers());
+    out.print(getTypeAccess());
+    out.print(" ");
+    out.print(getID());
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:141
+   */
+  @Override public String toString() {
+    return String.format("%s %s",
+        getTypeAccessNoTransform().toString(),
+        getID());
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:611
+   */
+  public void emitLoadVariable(CodeGeneration gen, Access access) {
+    if (hostType() == access.hostType()) {
+      type().emitLoadLocal(gen, localNum());
+    } else {
+      access.emitLoadLocalInNestedClass(gen, this);
+    }
+  }
+  /**
+   * Builds a copy of this ParameterDeclaration node where all occurrences
+   * of type variables in the original type parameter list have been replaced
+   * by the substitution type parameters.
+   * 
+   * <p>This should only be used to generate candidate methods for Diamond type
+   * inference.
+   * 
+   * @return the substituted ParameterDeclaration node
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:224
+   */
+  public ParameterDeclaration substituted(
+      Map<TypeVariable, String>  substitution) {
+    return new ParameterDeclaration(
+        (Modifiers) getModifiers().treeCopyNoTransform(),
+        getTypeAccess().substituted(substitution),
+        getID());
+  }
+  /** Generate bytecode to load this field. 
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:208
+   */
+  public void emitLoadField(CodeGeneration gen, TypeDecl hostType) {
+    if (hostType().isArrayDecl() && name().equals("length")) {
+      gen.ARRAYLENGTH();
+      return;
+    }
+    String classname = hostType.constantPoolName();
+    String name = name();
+    int index = gen.constantPool().addFieldref(classname, name, type());
+    if (isStatic()) {
+      gen.GETSTATIC(index, type());
+    } else {
+      gen.GETFIELD(index, type());
+    }
+  }
+  /** Generate bytecode to store a field in the given hostType. 
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:270
+   */
+  public void emitStoreField(CodeGeneration gen, TypeDecl hostType) {
+    String classname = hostType.constantPoolName();
+    String name = name();
+    int index = gen.constantPool().addFieldref(classname, name, type());
+    if (isStatic()) {
+      gen.PUTSTATIC(index);
+    } else {
+      gen.PUTFIELD(index);
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ParameterDeclaration() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public ParameterDeclaration(Modifiers p0, Access p1, String p2) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+    setID(p2);
+  }
+  /**
+   * @declaredat ASTNode:18
+   */
+  public ParameterDeclaration(Modifiers p0, Access p1, beaver.Symbol p2) {
+    setChild(p0, 0);
+    setChild(p1, 1);
+    setID(p2);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:24
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:30
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:34
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    type_reset();
+    throwTypes_reset();
+    inferredReferenceAccess_TypeAccess_reset();
+    localNum_reset();
+    enclosingLambda_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:43
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:47
+   */
+  public ParameterDeclaration clone() throws CloneNotSupportedException {
+    ParameterDeclaration node = (ParameterDeclaration) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:52
+   */
+  public ParameterDeclaration copy() {
+    try {
+      ParameterDeclaration node = (ParameterDeclaration) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:71
+   */
+  @Deprecated
+  public ParameterDeclaration fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:81
+   */
+  public ParameterDeclaration treeCopyNoTransform() {
+    ParameterDeclaration tree = (ParameterDeclaration) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:101
+   */
+  public ParameterDeclaration treeCopy() {
+    ParameterDeclaration tree = (ParameterDeclaration) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:115
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((ParameterDeclaration) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the TypeAccess child.
+   * @param node The new node to replace the TypeAccess child.
+   * @apilevel high-level
+   */
+  public void setTypeAccess(Access node) {
+    setChild(node, 1);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * @return The current node used as the TypeAccess child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="TypeAccess")
+  public Access getTypeAccess() {
+    return (Access) getChild(1);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(1);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_ID;
+  /**
+   */
+  public int IDstart;
+  /**
+   */
+  public int IDend;
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:253
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:253")
+  public boolean isSynthetic() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isSynthetic()", "", "");
+    boolean isSynthetic_value = getModifiers().isSynthetic();
+    state().trace().computeEnd(this, "ParameterDeclaration.isSynthetic()", "", isSynthetic_value);
+    return isSynthetic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:486
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:486")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "ParameterDeclaration.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        SimpleSet<Variable> decls = outerScope().lookupVariable(name());
+        for (Variable var : decls) {
+          if (var instanceof VariableDeclarator) {
+            VariableDeclarator decl = (VariableDeclarator) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of parameter %s", name()));
+            }
+          } else if (var instanceof ParameterDeclaration) {
+            ParameterDeclaration decl = (ParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of parameter %s", name()));
+            }
+          } else if (var instanceof InferredParameterDeclaration) {
+            InferredParameterDeclaration decl = (InferredParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of parameter %s", name()));
+            }
+          } else if (var instanceof CatchParameterDeclaration) {
+            CatchParameterDeclaration decl = (CatchParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of parameter %s", name()));
+            }
+          }
+        }
+    
+        // 8.4.1
+        if (!lookupVariable(name()).contains(this)) {
+          problems.add(errorf("duplicate declaration of parameter %s", name()));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "ParameterDeclaration.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:340
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PrettyPrintUtil", declaredAt="/root/project/java4/frontend/PrettyPrintUtil.jrag:340")
+  public boolean hasModifiers() {
+    state().trace().computeBegin(this, "ParameterDeclaration.hasModifiers()", "", "");
+    boolean hasModifiers_value = getModifiers().getNumModifier() > 0;
+    state().trace().computeEnd(this, "ParameterDeclaration.hasModifiers()", "", hasModifiers_value);
+    return hasModifiers_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:272
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:272")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ParameterDeclaration.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "ParameterDeclaration.type()", "", "");
+    type_value = getTypeAccess().type();
+    state().trace().computeEnd(this, "ParameterDeclaration.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "ParameterDeclaration.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ParameterDeclaration.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:73
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:73")
+  public boolean isParameter() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isParameter()", "", "");
+    boolean isParameter_value = true;
+    state().trace().computeEnd(this, "ParameterDeclaration.isParameter()", "", isParameter_value);
+    return isParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:75
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:75")
+  public boolean isConstant() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isConstant()", "", "");
+    boolean isConstant_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.isConstant()", "", isConstant_value);
+    return isConstant_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:76
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:76")
+  public boolean isPublic() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isPublic()", "", "");
+    boolean isPublic_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.isPublic()", "", isPublic_value);
+    return isPublic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:77")
+  public boolean accessibleFrom(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "ParameterDeclaration.accessibleFrom(TypeDecl)", _parameters, "");
+    boolean accessibleFrom_TypeDecl_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    return accessibleFrom_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:80
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:80")
+  public boolean isClassVariable() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isClassVariable()", "", "");
+    boolean isClassVariable_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.isClassVariable()", "", isClassVariable_value);
+    return isClassVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:81
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:81")
+  public boolean isInstanceVariable() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isInstanceVariable()", "", "");
+    boolean isInstanceVariable_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.isInstanceVariable()", "", isInstanceVariable_value);
+    return isInstanceVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:85
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:85")
+  public boolean isLocalVariable() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isLocalVariable()", "", "");
+    boolean isLocalVariable_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.isLocalVariable()", "", isLocalVariable_value);
+    return isLocalVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:86")
+  public boolean isField() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isField()", "", "");
+    boolean isField_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.isField()", "", isField_value);
+    return isField_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:104
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:104")
+  public boolean isFinal() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isFinal()", "", "");
+    boolean isFinal_value = getModifiers().isFinal();
+    state().trace().computeEnd(this, "ParameterDeclaration.isFinal()", "", isFinal_value);
+    return isFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:105
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:105")
+  public boolean isVolatile() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isVolatile()", "", "");
+    boolean isVolatile_value = getModifiers().isVolatile();
+    state().trace().computeEnd(this, "ParameterDeclaration.isVolatile()", "", isVolatile_value);
+    return isVolatile_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:106
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:106")
+  public boolean isBlank() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isBlank()", "", "");
+    boolean isBlank_value = true;
+    state().trace().computeEnd(this, "ParameterDeclaration.isBlank()", "", isBlank_value);
+    return isBlank_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:107
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:107")
+  public boolean isStatic() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isStatic()", "", "");
+    boolean isStatic_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.isStatic()", "", isStatic_value);
+    return isStatic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:109
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:109")
+  public String name() {
+    state().trace().computeBegin(this, "ParameterDeclaration.name()", "", "");
+    String name_value = getID();
+    state().trace().computeEnd(this, "ParameterDeclaration.name()", "", name_value);
+    return name_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:111
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:111")
+  public boolean hasInit() {
+    state().trace().computeBegin(this, "ParameterDeclaration.hasInit()", "", "");
+    boolean hasInit_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.hasInit()", "", hasInit_value);
+    return hasInit_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:112
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:112")
+  public Expr getInit() {
+    state().trace().computeBegin(this, "ParameterDeclaration.getInit()", "", "");
+    try {
+        throw new UnsupportedOperationException();
+      }
+    finally {
+      state().trace().computeEnd(this, "ParameterDeclaration.getInit()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:115
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:115")
+  public Constant constant() {
+    state().trace().computeBegin(this, "ParameterDeclaration.constant()", "", "");
+    try {
+        throw new UnsupportedOperationException();
+      }
+    finally {
+      state().trace().computeEnd(this, "ParameterDeclaration.constant()", "", "");
+    }
+  }
+  /**
+   * Creates a copy of this parameter declaration where parameterized types have been erased.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1629
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1629")
+  public ParameterDeclaration erasedCopy() {
+    state().trace().computeBegin(this, "ParameterDeclaration.erasedCopy()", "", "");
+    ParameterDeclaration erasedCopy_value = new ParameterDeclaration(
+              getModifiers().treeCopyNoTransform(),
+              getTypeAccess().erasedCopy(),
+              getID());
+    state().trace().computeEnd(this, "ParameterDeclaration.erasedCopy()", "", erasedCopy_value);
+    return erasedCopy_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect VariableArityParameters
+   * @declaredat /root/project/java5/frontend/VariableArityParameters.jrag:59
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableArityParameters", declaredAt="/root/project/java5/frontend/VariableArityParameters.jrag:59")
+  public boolean isVariableArity() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isVariableArity()", "", "");
+    boolean isVariableArity_value = false;
+    state().trace().computeEnd(this, "ParameterDeclaration.isVariableArity()", "", isVariableArity_value);
+    return isVariableArity_value;
+  }
+  /** @apilevel internal */
+  private void throwTypes_reset() {
+    throwTypes_computed = null;
+    throwTypes_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle throwTypes_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<TypeDecl> throwTypes_value;
+
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:47")
+  public Collection<TypeDecl> throwTypes() {
+    ASTState state = state();
+    if (throwTypes_computed == ASTState.NON_CYCLE || throwTypes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ParameterDeclaration.throwTypes()", "", throwTypes_value);
+      return throwTypes_value;
+    }
+    state().trace().computeBegin(this, "ParameterDeclaration.throwTypes()", "", "");
+    throwTypes_value = throwTypes_compute();
+    state().trace().computeEnd(this, "ParameterDeclaration.throwTypes()", "", throwTypes_value);
+    if (state().inCircle()) {
+      throwTypes_computed = state().cycle();
+      state().trace().cacheWrite(this, "ParameterDeclaration.throwTypes()", "", throwTypes_value);
+    } else {
+      throwTypes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ParameterDeclaration.throwTypes()", "", throwTypes_value);
+    }
+    return throwTypes_value;
+  }
+  /** @apilevel internal */
+  private Collection<TypeDecl> throwTypes_compute() {
+      if (isCatchParam() && isEffectivelyFinal()) {
+        // The catch parameter must be final to refine the throw type.
+        return catchClause().caughtExceptions();
+      } else {
+        return Collections.singleton(type());
+      }
+    }
+  /**
+   * Note: this attribute deviates from what the JLS says about "effectively final",
+   * simply because the attribute name would be too confusing if it did not return true
+   * when the variable was explicitly declared final. The JLS considers declared final
+   * and effectively final to be mutually exclusive, we don't.
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:65
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:65")
+  public boolean isEffectivelyFinal() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isEffectivelyFinal()", "", "");
+    boolean isEffectivelyFinal_value = isFinal() || !inhModifiedInScope(this);
+    state().trace().computeEnd(this, "ParameterDeclaration.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    return isEffectivelyFinal_value;
+  }
+  /** @apilevel internal */
+  private void inferredReferenceAccess_TypeAccess_reset() {
+    inferredReferenceAccess_TypeAccess_values = null;
+    inferredReferenceAccess_TypeAccess_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode inferredReferenceAccess_TypeAccess_proxy;
+  /** @apilevel internal */
+  protected java.util.Map inferredReferenceAccess_TypeAccess_values;
+
+  /**
+   * @attribute syn
+   * @aspect MethodReference
+   * @declaredat /root/project/java8/frontend/MethodReference.jrag:116
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="MethodReference", declaredAt="/root/project/java8/frontend/MethodReference.jrag:116")
+  public ParTypeAccess inferredReferenceAccess(TypeAccess typeAccess) {
+    Object _parameters = typeAccess;
+    if (inferredReferenceAccess_TypeAccess_values == null) inferredReferenceAccess_TypeAccess_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (inferredReferenceAccess_TypeAccess_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "ParameterDeclaration.inferredReferenceAccess(TypeAccess)", _parameters, inferredReferenceAccess_TypeAccess_values.get(_parameters));
+      return (ParTypeAccess) inferredReferenceAccess_TypeAccess_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "ParameterDeclaration.inferredReferenceAccess(TypeAccess)", _parameters, "");
+    ParTypeAccess inferredReferenceAccess_TypeAccess_value = inferredReferenceAccess_compute(typeAccess);
+    state().trace().computeEnd(this, "ParameterDeclaration.inferredReferenceAccess(TypeAccess)", _parameters, inferredReferenceAccess_TypeAccess_value);
+    if (inferredReferenceAccess_TypeAccess_proxy == null) {
+      inferredReferenceAccess_TypeAccess_proxy = new ASTNode();
+      inferredReferenceAccess_TypeAccess_proxy.setParent(this);
+    }
+    if (inferredReferenceAccess_TypeAccess_value != null) {
+      inferredReferenceAccess_TypeAccess_value.setParent(inferredReferenceAccess_TypeAccess_proxy);
+      if (inferredReferenceAccess_TypeAccess_value.mayHaveRewrite()) {
+        inferredReferenceAccess_TypeAccess_value = (ParTypeAccess) inferredReferenceAccess_TypeAccess_value.rewrittenNode();
+        inferredReferenceAccess_TypeAccess_value.setParent(inferredReferenceAccess_TypeAccess_proxy);
+      }
+    }
+    inferredReferenceAccess_TypeAccess_values.put(_parameters, inferredReferenceAccess_TypeAccess_value);
+    state().trace().cacheWrite(this, "ParameterDeclaration.inferredReferenceAccess(TypeAccess)", _parameters, inferredReferenceAccess_TypeAccess_value);
+    state().leaveLazyAttribute();
+    return inferredReferenceAccess_TypeAccess_value;
+  }
+  /** @apilevel internal */
+  private ParTypeAccess inferredReferenceAccess_compute(TypeAccess typeAccess) {
+      if (!(getTypeAccess() instanceof ParTypeAccess)) {
+        return new ParTypeAccess((TypeAccess) typeAccess.treeCopy(), new List<Access>());
+      }
+      ParTypeAccess parTypeAccess = (ParTypeAccess) getTypeAccess();
+      return new ParTypeAccess((TypeAccess) typeAccess.treeCopy(),
+          (List<Access>) parTypeAccess.getTypeArgumentList().treeCopy());
+    }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:278
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:278")
+  public boolean isProtected() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isProtected()", "", "");
+    boolean isProtected_value = getModifiers().isProtected();
+    state().trace().computeEnd(this, "ParameterDeclaration.isProtected()", "", isProtected_value);
+    return isProtected_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:280
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:280")
+  public boolean isPrivate() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isPrivate()", "", "");
+    boolean isPrivate_value = getModifiers().isPrivate();
+    state().trace().computeEnd(this, "ParameterDeclaration.isPrivate()", "", isPrivate_value);
+    return isPrivate_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:157
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:157")
+  public TypeDecl erasedType() {
+    state().trace().computeBegin(this, "ParameterDeclaration.erasedType()", "", "");
+    TypeDecl erasedType_value = type();
+    state().trace().computeEnd(this, "ParameterDeclaration.erasedType()", "", erasedType_value);
+    return erasedType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:46")
+  public SimpleSet<Variable> lookupVariable(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "ParameterDeclaration.lookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> lookupVariable_String_value = getParent().Define_lookupVariable(this, null, name);
+    state().trace().computeEnd(this, "ParameterDeclaration.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    return lookupVariable_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:441
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:441")
+  public VariableScope outerScope() {
+    state().trace().computeBegin(this, "ParameterDeclaration.outerScope()", "", "");
+    VariableScope outerScope_value = getParent().Define_outerScope(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.outerScope()", "", outerScope_value);
+    return outerScope_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:510
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:510")
+  public BodyDecl enclosingBodyDecl() {
+    state().trace().computeBegin(this, "ParameterDeclaration.enclosingBodyDecl()", "", "");
+    BodyDecl enclosingBodyDecl_value = getParent().Define_enclosingBodyDecl(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.enclosingBodyDecl()", "", enclosingBodyDecl_value);
+    return enclosingBodyDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:698
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:698")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "ParameterDeclaration.hostType()", "", "");
+    TypeDecl hostType_value = getParent().Define_hostType(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:82
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:82")
+  public boolean isMethodParameter() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isMethodParameter()", "", "");
+    boolean isMethodParameter_value = getParent().Define_isMethodParameter(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.isMethodParameter()", "", isMethodParameter_value);
+    return isMethodParameter_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:83
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:83")
+  public boolean isConstructorParameter() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isConstructorParameter()", "", "");
+    boolean isConstructorParameter_value = getParent().Define_isConstructorParameter(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.isConstructorParameter()", "", isConstructorParameter_value);
+    return isConstructorParameter_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:84
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:84")
+  public boolean isExceptionHandlerParameter() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isExceptionHandlerParameter()", "", "");
+    boolean isExceptionHandlerParameter_value = getParent().Define_isExceptionHandlerParameter(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.isExceptionHandlerParameter()", "", isExceptionHandlerParameter_value);
+    return isExceptionHandlerParameter_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LocalNum
+   * @declaredat /root/project/java4/backend/LocalNum.jrag:65
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LocalNum", declaredAt="/root/project/java4/backend/LocalNum.jrag:65")
+  public int localNum() {
+    ASTState state = state();
+    if (localNum_computed == ASTState.NON_CYCLE || localNum_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ParameterDeclaration.localNum()", "", localNum_value);
+      return localNum_value;
+    }
+    state().trace().computeBegin(this, "ParameterDeclaration.localNum()", "", "");
+    localNum_value = getParent().Define_localNum(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.localNum()", "", localNum_value);
+    if (state().inCircle()) {
+      localNum_computed = state().cycle();
+      state().trace().cacheWrite(this, "ParameterDeclaration.localNum()", "", localNum_value);
+    } else {
+      localNum_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ParameterDeclaration.localNum()", "", localNum_value);
+    }
+    return localNum_value;
+  }
+  /** @apilevel internal */
+  private void localNum_reset() {
+    localNum_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localNum_computed = null;
+
+  /** @apilevel internal */
+  protected int localNum_value;
+
+  /**
+   * @return true if the variable var is modified in the local scope
+   * @attribute inh
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:70
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:70")
+  public boolean inhModifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "ParameterDeclaration.inhModifiedInScope(Variable)", _parameters, "");
+    boolean inhModifiedInScope_Variable_value = getParent().Define_inhModifiedInScope(this, null, var);
+    state().trace().computeEnd(this, "ParameterDeclaration.inhModifiedInScope(Variable)", _parameters, inhModifiedInScope_Variable_value);
+    return inhModifiedInScope_Variable_value;
+  }
+  /**
+   * @return true if this is the parameter declaration of a catch clause
+   * @attribute inh
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:202
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:202")
+  public boolean isCatchParam() {
+    state().trace().computeBegin(this, "ParameterDeclaration.isCatchParam()", "", "");
+    boolean isCatchParam_value = getParent().Define_isCatchParam(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.isCatchParam()", "", isCatchParam_value);
+    return isCatchParam_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:208
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:208")
+  public CatchClause catchClause() {
+    state().trace().computeBegin(this, "ParameterDeclaration.catchClause()", "", "");
+    CatchClause catchClause_value = getParent().Define_catchClause(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.catchClause()", "", catchClause_value);
+    return catchClause_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect EnclosingLambda
+   * @declaredat /root/project/java8/frontend/EnclosingLambda.jrag:34
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="EnclosingLambda", declaredAt="/root/project/java8/frontend/EnclosingLambda.jrag:34")
+  public LambdaExpr enclosingLambda() {
+    ASTState state = state();
+    if (enclosingLambda_computed == ASTState.NON_CYCLE || enclosingLambda_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ParameterDeclaration.enclosingLambda()", "", enclosingLambda_value);
+      return enclosingLambda_value;
+    }
+    state().trace().computeBegin(this, "ParameterDeclaration.enclosingLambda()", "", "");
+    enclosingLambda_value = getParent().Define_enclosingLambda(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.enclosingLambda()", "", enclosingLambda_value);
+    if (state().inCircle()) {
+      enclosingLambda_computed = state().cycle();
+      state().trace().cacheWrite(this, "ParameterDeclaration.enclosingLambda()", "", enclosingLambda_value);
+    } else {
+      enclosingLambda_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ParameterDeclaration.enclosingLambda()", "", enclosingLambda_value);
+    }
+    return enclosingLambda_value;
+  }
+  /** @apilevel internal */
+  private void enclosingLambda_reset() {
+    enclosingLambda_computed = null;
+    enclosingLambda_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle enclosingLambda_computed = null;
+
+  /** @apilevel internal */
+  protected LambdaExpr enclosingLambda_value;
+
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:680
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:680")
+  public String hostPackage() {
+    state().trace().computeBegin(this, "ParameterDeclaration.hostPackage()", "", "");
+    String hostPackage_value = getParent().Define_hostPackage(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.hostPackage()", "", hostPackage_value);
+    return hostPackage_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1404
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1404")
+  public FieldDecl fieldDecl() {
+    state().trace().computeBegin(this, "ParameterDeclaration.fieldDecl()", "", "");
+    FieldDecl fieldDecl_value = getParent().Define_fieldDecl(this, null);
+    state().trace().computeEnd(this, "ParameterDeclaration.fieldDecl()", "", fieldDecl_value);
+    return fieldDecl_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:434
+   * @apilevel internal
+   */
+  public boolean Define_mayBeFinal(ASTNode _callerNode, ASTNode _childNode) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:339
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeFinal(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeFinal(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:131
+   * @apilevel internal
+   */
+  public boolean Define_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java5/frontend/Annotations.jrag:150
+      return name.equals("PARAMETER");
+    }
+    else {
+      return getParent().Define_mayUseAnnotationTarget(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getTypeAccessNoTransform() != null && _callerNode == getTypeAccess()) {
+      // @declaredat /root/project/java5/frontend/Enums.jrag:99
+      return NameType.TYPE_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:484
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+  }
+}
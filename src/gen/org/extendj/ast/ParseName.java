@@ -0,0 +1,543 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * An unclassified parse name.
+ * 
+ * <p>Parse names are classified automatically using the JastAdd rewrite
+ * mechanism.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:135
+ * @production ParseName : {@link Access};
+
+ */
+public class ParseName extends Access implements Cloneable {
+  /**
+   * @aspect DumpTree
+   * @declaredat /root/project/java4/frontend/DumpTree.jadd:112
+   */
+  @Override
+  public String getTokens() {
+    return " " + name();
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:536
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(name());
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:117
+   */
+  @Override public String toString() {
+    return name();
+  }
+  /**
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:218
+   */
+  public Access qualifiesAccess(Access access) {
+    if (access instanceof ParseName) {
+      ParseName name = (ParseName) access;
+      ArrayList<NamePart> parts = new ArrayList<NamePart>(nameParts);
+      parts.addAll(name.nameParts);
+      return new ParseName(parts);
+    } else {
+      Access result = new Dot(this, access);
+      result.setStart(getStart());
+      result.setEnd(access.getEnd());
+      return result;
+    }
+  }
+  /**
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:439
+   */
+  private ArrayList<NamePart> nameParts = new ArrayList<NamePart>();
+  /**
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:441
+   */
+  public ParseName(ArrayList<NamePart> nameParts) {
+    this.nameParts.addAll(nameParts);
+  }
+  /**
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:445
+   */
+  public ParseName(Symbol name) {
+    nameParts.add(new NamePart(name));
+  }
+  /**
+   * @aspect QualifiedNames
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:457
+   */
+  public Access buildMethodAccess(List<Expr> arguments) {
+    if (nameParts.isEmpty()) {
+      throw new Error("Can not build method access using empty parse name!");
+    }
+    int num = nameParts.size();
+    NamePart methodName = nameParts.get(nameParts.size() - 1);
+    ArrayList<NamePart> head = new ArrayList<NamePart>();
+    for (int i = 0; i < nameParts.size() - 1; ++i) {
+      head.add(nameParts.get(i));
+    }
+    MethodAccess call = new MethodAccess(methodName.toString(), arguments);
+    if (head.isEmpty()) {
+      return call;
+    } else {
+      return new Dot(new ParseName(head), call);
+    }
+  }
+  /**
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:509
+   */
+  protected NamePart resolvePackageOrTypeName(NamePart qualifier, NamePart name) {
+    if (qualifier.isPackageQualifier()) {
+      if (!qualifier.hasType(this, name)) {
+        return new NamePart.Package(qualifier, name);
+      }
+    }
+    return new NamePart.Type(qualifier, name);
+  }
+  /**
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:518
+   */
+  protected NamePart resolveAmbiguousName(NamePart qualifier, NamePart name) {
+    if (qualifier == NamePart.EMPTY) {
+      SimpleSet<Variable> var = lookupVariable(name.toString());
+      if (!var.isEmpty()) {
+        return new NamePart.VarName(qualifier, name);
+      }
+    } else {
+      TypeDecl hostType = qualifier.lookupType(this);
+      if (hostType != null) {
+        SimpleSet<Variable> var = hostType().keepAccessibleFields(hostType,
+            hostType.memberFields(name.toString()));
+        if (!var.isEmpty()) {
+          return new NamePart.VarName(qualifier, name);
+        }
+      }
+    }
+    return resolvePackageOrTypeName(qualifier, name);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ParseName() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return true;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    rewrittenNode_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:32
+   */
+  public ParseName clone() throws CloneNotSupportedException {
+    ParseName node = (ParseName) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public ParseName copy() {
+    try {
+      ParseName node = (ParseName) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:56
+   */
+  @Deprecated
+  public ParseName fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:66
+   */
+  public ParseName treeCopyNoTransform() {
+    ParseName tree = (ParseName) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:86
+   */
+  public ParseName treeCopy() {
+    ParseName tree = (ParseName) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:100
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:684
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:684")
+  public SimpleSet<TypeDecl> qualifiedLookupType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.qualifiedLookupType(String)", _parameters, "");
+    SimpleSet<TypeDecl> qualifiedLookupType_String_value = emptySet();
+    state().trace().computeEnd(this, "Expr.qualifiedLookupType(String)", _parameters, qualifiedLookupType_String_value);
+    return qualifiedLookupType_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:264
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:264")
+  public SimpleSet<Variable> qualifiedLookupVariable(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.qualifiedLookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> qualifiedLookupVariable_String_value = emptySet();
+    state().trace().computeEnd(this, "Expr.qualifiedLookupVariable(String)", _parameters, qualifiedLookupVariable_String_value);
+    return qualifiedLookupVariable_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:494
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameResolution", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:494")
+  public boolean isParseName() {
+    state().trace().computeBegin(this, "Expr.isParseName()", "", "");
+    boolean isParseName_value = true;
+    state().trace().computeEnd(this, "Expr.isParseName()", "", isParseName_value);
+    return isParseName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:498
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameResolution", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:498")
+  public String name() {
+    state().trace().computeBegin(this, "ParseName.name()", "", "");
+    try {
+        StringBuilder sb = new StringBuilder();
+        for (NamePart part : nameParts) {
+          if (sb.length() != 0) {
+            sb.append(".");
+          }
+          sb.append(part.toString());
+        }
+        return sb.toString();
+      }
+    finally {
+      state().trace().computeEnd(this, "ParseName.name()", "", "");
+    }
+  }
+  /**
+   * Test if an expression contains an unresolved parse name.
+   * @attribute syn
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:556
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameResolution", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:556")
+  public boolean containsParseName() {
+    state().trace().computeBegin(this, "Expr.containsParseName()", "", "");
+    boolean containsParseName_value = true;
+    state().trace().computeEnd(this, "Expr.containsParseName()", "", containsParseName_value);
+    return containsParseName_value;
+  }
+  /**
+   * A parse name can only be disambiguated if it is not qualified by an
+   * expression containing another unresolved parse name.
+   * @attribute inh
+   * @aspect NameResolution
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:541
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameResolution", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:541")
+  public boolean canResolve() {
+    state().trace().computeBegin(this, "ParseName.canResolve()", "", "");
+    boolean canResolve_value = getParent().Define_canResolve(this, null);
+    state().trace().computeEnd(this, "ParseName.canResolve()", "", canResolve_value);
+    return canResolve_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    // Declared at /root/project/java4/frontend/ResolveAmbiguousNames.jrag:569
+    if (canResolve()) {
+      return rewriteRule0();
+    }
+    return super.rewriteTo();
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:569
+   * @apilevel internal
+   */
+  private Access rewriteRule0() {
+{
+      NamePart name = NamePart.EMPTY;
+      switch (nameType()) {
+        case PACKAGE_NAME:
+          for (NamePart next : nameParts) {
+            name = new NamePart.Package(name, next);
+          }
+          break;
+        case TYPE_NAME:
+          // The first part of the name is the package part.
+          for (int i = 0; i < nameParts.size() - 1; ++i) {
+            name = resolvePackageOrTypeName(name, nameParts.get(i));
+          }
+          // The rest of the name is the type name.
+          name = new NamePart.Type(name, nameParts.get(nameParts.size() - 1));
+          break;
+        case PACKAGE_OR_TYPE_NAME:
+          for (NamePart next : nameParts) {
+            name = resolvePackageOrTypeName(name, next);
+          }
+          break;
+        case AMBIGUOUS_NAME:
+          for (NamePart next : nameParts) {
+            name = resolveAmbiguousName(name, next);
+          }
+          break;
+        case EXPRESSION_NAME:
+          // The first part of the name is the package part.
+          for (int i = 0; i < nameParts.size() - 1; ++i) {
+            name = resolveAmbiguousName(name, nameParts.get(i));
+          }
+          name = new NamePart.VarName(name, nameParts.get(nameParts.size() - 1));
+          break;
+        case NOT_CLASSIFIED:
+        default:
+          throw new Error("Failure in name classification: unknown name type encountered");
+      }
+      Access result = null;
+      while (name != NamePart.EMPTY) {
+        if (result == null) {
+          result = name.buildAccess();
+        } else {
+          result = new Dot(name.buildAccess(), result);
+        }
+        name = name.pred;
+      }
+      return result;
+    }  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    // Declared at /root/project/java4/frontend/ResolveAmbiguousNames.jrag:569
+    if (canResolve()) {
+      return true;
+    }
+    return false;
+  }
+  /** @apilevel internal */
+  private void rewrittenNode_reset() {
+    rewrittenNode_computed = false;
+    rewrittenNode_initialized = false;
+    rewrittenNode_value = null;
+    rewrittenNode_cycle = null;
+  }
+/** @apilevel internal */
+protected ASTState.Cycle rewrittenNode_cycle = null;
+  /** @apilevel internal */
+  protected boolean rewrittenNode_computed = false;
+
+  /** @apilevel internal */
+  protected ASTNode rewrittenNode_value;
+  /** @apilevel internal */
+  protected boolean rewrittenNode_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="", declaredAt=":0")
+  public ASTNode rewrittenNode() {
+    if (rewrittenNode_computed) {
+      state().trace().cacheRead(this, "ParseName.rewrittenNode()", "", rewrittenNode_value);
+      return rewrittenNode_value;
+    }
+    ASTState state = state();
+    if (!rewrittenNode_initialized) {
+      rewrittenNode_initialized = true;
+      rewrittenNode_value = this;
+      if (rewrittenNode_value != null) {
+        rewrittenNode_value.setParent(getParent());
+      }
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        rewrittenNode_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ParseName.rewrittenNode()", "", "");
+        ASTNode new_rewrittenNode_value = rewrittenNode_value.rewriteTo();
+        state().trace().computeEnd(this, "ParseName.rewrittenNode()", "", rewrittenNode_value);
+        if (new_rewrittenNode_value != rewrittenNode_value || new_rewrittenNode_value.canRewrite()) {
+          state.setChangeInCycle();
+        }
+        rewrittenNode_value = new_rewrittenNode_value;
+        if (rewrittenNode_value != null) {
+          rewrittenNode_value.setParent(getParent());
+        }
+      } while (state.testAndClearChangeInCycle());
+      rewrittenNode_computed = true;
+      state().trace().cacheWrite(this, "ParseName.rewrittenNode()", "", rewrittenNode_value);
+      state.leaveCircle();
+    } else if (rewrittenNode_cycle != state.cycle()) {
+      rewrittenNode_cycle = state.cycle();
+      state().trace().computeBegin(this, "ParseName.rewrittenNode()", "", "");
+      ASTNode new_rewrittenNode_value = rewrittenNode_value.rewriteTo();
+      state().trace().computeEnd(this, "ParseName.rewrittenNode()", "", rewrittenNode_value);
+      if (new_rewrittenNode_value != rewrittenNode_value || new_rewrittenNode_value.canRewrite()) {
+        state.setChangeInCycle();
+      }
+      rewrittenNode_value = new_rewrittenNode_value;
+      if (rewrittenNode_value != null) {
+        rewrittenNode_value.setParent(getParent());
+      }
+    } else {
+    }
+    return rewrittenNode_value;
+  }
+}
@@ -0,0 +1,139 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect ClassPath
+ * @declaredat /root/project/java4/frontend/ClassPath.jrag:862
+ */
+ class ParseSynchronizer extends java.lang.Object {
+  
+    private AtomicBoolean first = new AtomicBoolean(true);
+
+  
+    private CompilationUnit result = null;
+
+  
+    private Throwable failure = null;
+
+  
+
+    /**
+     * @return {@code true} in only one thread calling this method.
+     * Returns {@code false} in all other threads.
+     */
+    public boolean first() {
+      return first.getAndSet(false);
+    }
+
+  
+
+    /**
+     * Share a parsed compilation unit with other threads.
+     * The compilation unit must not be null!
+     */
+    public synchronized void set(CompilationUnit result) {
+      this.result = result;
+      notifyAll();
+    }
+
+  
+
+    /**
+     * Share an exception thrown while parsing with other threads.
+     */
+    public synchronized void fail(Throwable failure) {
+      this.failure = failure;
+      notifyAll();
+    }
+
+  
+
+    /**
+     * Read the stored compilation unit. This blocks until the result has been
+     * stored by another thread. If parsing failed, the exception is thrown
+     * again.
+     */
+    public synchronized CompilationUnit get() {
+      try {
+        while (result == null && failure == null) {
+          wait();
+        }
+      } catch (InterruptedException e) {
+      }
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      } else if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      return result;
+    }
+
+
+}
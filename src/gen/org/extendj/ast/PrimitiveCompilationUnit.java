@@ -0,0 +1,979 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * A synthetic type of compilation unit containing the
+ * synthetic type declarations for primitive types.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:51
+ * @production PrimitiveCompilationUnit : {@link CompilationUnit};
+
+ */
+public class PrimitiveCompilationUnit extends CompilationUnit implements Cloneable {
+  /**
+   * @declaredat ASTNode:1
+   */
+  public PrimitiveCompilationUnit() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+    setChild(new List(), 0);
+    setChild(new List(), 1);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public PrimitiveCompilationUnit(String p0, List<ImportDecl> p1, List<TypeDecl> p2) {
+    setPackageDecl(p0);
+    setChild(p1, 0);
+    setChild(p2, 1);
+  }
+  /**
+   * @declaredat ASTNode:20
+   */
+  public PrimitiveCompilationUnit(beaver.Symbol p0, List<ImportDecl> p1, List<TypeDecl> p2) {
+    setPackageDecl(p0);
+    setChild(p1, 0);
+    setChild(p2, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:26
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:32
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    typeBoolean_reset();
+    typeByte_reset();
+    typeShort_reset();
+    typeChar_reset();
+    typeInt_reset();
+    typeLong_reset();
+    typeFloat_reset();
+    typeDouble_reset();
+    typeVoid_reset();
+    typeNull_reset();
+    unknownType_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:51
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:55
+   */
+  public PrimitiveCompilationUnit clone() throws CloneNotSupportedException {
+    PrimitiveCompilationUnit node = (PrimitiveCompilationUnit) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:60
+   */
+  public PrimitiveCompilationUnit copy() {
+    try {
+      PrimitiveCompilationUnit node = (PrimitiveCompilationUnit) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:79
+   */
+  @Deprecated
+  public PrimitiveCompilationUnit fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:89
+   */
+  public PrimitiveCompilationUnit treeCopyNoTransform() {
+    PrimitiveCompilationUnit tree = (PrimitiveCompilationUnit) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:109
+   */
+  public PrimitiveCompilationUnit treeCopy() {
+    PrimitiveCompilationUnit tree = (PrimitiveCompilationUnit) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:123
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_PackageDecl == ((PrimitiveCompilationUnit) node).tokenString_PackageDecl);    
+  }
+  /**
+   * Replaces the lexeme PackageDecl.
+   * @param value The new value for the lexeme PackageDecl.
+   * @apilevel high-level
+   */
+  public void setPackageDecl(String value) {
+    tokenString_PackageDecl = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme PackageDecl using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme PackageDecl
+   * @apilevel internal
+   */
+  public void setPackageDecl(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setPackageDecl is only valid for String lexemes");
+    tokenString_PackageDecl = (String)symbol.value;
+    PackageDeclstart = symbol.getStart();
+    PackageDeclend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme PackageDecl.
+   * @return The value for the lexeme PackageDecl.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="PackageDecl")
+  public String getPackageDecl() {
+    return tokenString_PackageDecl != null ? tokenString_PackageDecl : "";
+  }
+  /**
+   * Replaces the ImportDecl list.
+   * @param list The new list node to be used as the ImportDecl list.
+   * @apilevel high-level
+   */
+  public void setImportDeclList(List<ImportDecl> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the ImportDecl list.
+   * @return Number of children in the ImportDecl list.
+   * @apilevel high-level
+   */
+  public int getNumImportDecl() {
+    return getImportDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the ImportDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the ImportDecl list.
+   * @apilevel low-level
+   */
+  public int getNumImportDeclNoTransform() {
+    return getImportDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the ImportDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the ImportDecl list.
+   * @apilevel high-level
+   */
+  public ImportDecl getImportDecl(int i) {
+    return (ImportDecl) getImportDeclList().getChild(i);
+  }
+  /**
+   * Check whether the ImportDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasImportDecl() {
+    return getImportDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the ImportDecl list.
+   * @param node The element to append to the ImportDecl list.
+   * @apilevel high-level
+   */
+  public void addImportDecl(ImportDecl node) {
+    List<ImportDecl> list = (parent == null) ? getImportDeclListNoTransform() : getImportDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addImportDeclNoTransform(ImportDecl node) {
+    List<ImportDecl> list = getImportDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the ImportDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setImportDecl(ImportDecl node, int i) {
+    List<ImportDecl> list = getImportDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the ImportDecl list.
+   * @return The node representing the ImportDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="ImportDecl")
+  public List<ImportDecl> getImportDeclList() {
+    List<ImportDecl> list = (List<ImportDecl>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the ImportDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the ImportDecl list.
+   * @apilevel low-level
+   */
+  public List<ImportDecl> getImportDeclListNoTransform() {
+    return (List<ImportDecl>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the ImportDecl list without
+   * triggering rewrites.
+   */
+  public ImportDecl getImportDeclNoTransform(int i) {
+    return (ImportDecl) getImportDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the ImportDecl list.
+   * @return The node representing the ImportDecl list.
+   * @apilevel high-level
+   */
+  public List<ImportDecl> getImportDecls() {
+    return getImportDeclList();
+  }
+  /**
+   * Retrieves the ImportDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the ImportDecl list.
+   * @apilevel low-level
+   */
+  public List<ImportDecl> getImportDeclsNoTransform() {
+    return getImportDeclListNoTransform();
+  }
+  /**
+   * Replaces the TypeDecl list.
+   * @param list The new list node to be used as the TypeDecl list.
+   * @apilevel high-level
+   */
+  public void setTypeDeclList(List<TypeDecl> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the TypeDecl list.
+   * @return Number of children in the TypeDecl list.
+   * @apilevel high-level
+   */
+  public int getNumTypeDecl() {
+    return getTypeDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the TypeDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the TypeDecl list.
+   * @apilevel low-level
+   */
+  public int getNumTypeDeclNoTransform() {
+    return getTypeDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the TypeDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the TypeDecl list.
+   * @apilevel high-level
+   */
+  public TypeDecl getTypeDecl(int i) {
+    return (TypeDecl) getTypeDeclList().getChild(i);
+  }
+  /**
+   * Check whether the TypeDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasTypeDecl() {
+    return getTypeDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the TypeDecl list.
+   * @param node The element to append to the TypeDecl list.
+   * @apilevel high-level
+   */
+  public void addTypeDecl(TypeDecl node) {
+    List<TypeDecl> list = (parent == null) ? getTypeDeclListNoTransform() : getTypeDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addTypeDeclNoTransform(TypeDecl node) {
+    List<TypeDecl> list = getTypeDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the TypeDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setTypeDecl(TypeDecl node, int i) {
+    List<TypeDecl> list = getTypeDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the TypeDecl list.
+   * @return The node representing the TypeDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="TypeDecl")
+  public List<TypeDecl> getTypeDeclList() {
+    List<TypeDecl> list = (List<TypeDecl>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the TypeDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeDecl list.
+   * @apilevel low-level
+   */
+  public List<TypeDecl> getTypeDeclListNoTransform() {
+    return (List<TypeDecl>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the TypeDecl list without
+   * triggering rewrites.
+   */
+  public TypeDecl getTypeDeclNoTransform(int i) {
+    return (TypeDecl) getTypeDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the TypeDecl list.
+   * @return The node representing the TypeDecl list.
+   * @apilevel high-level
+   */
+  public List<TypeDecl> getTypeDecls() {
+    return getTypeDeclList();
+  }
+  /**
+   * Retrieves the TypeDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the TypeDecl list.
+   * @apilevel low-level
+   */
+  public List<TypeDecl> getTypeDeclsNoTransform() {
+    return getTypeDeclListNoTransform();
+  }
+  /** @apilevel internal */
+  private void typeBoolean_reset() {
+    typeBoolean_computed = false;
+    
+    typeBoolean_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeBoolean_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeBoolean_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:37
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:37")
+  public TypeDecl typeBoolean() {
+    ASTState state = state();
+    if (typeBoolean_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeBoolean()", "", typeBoolean_value);
+      return typeBoolean_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeBoolean()", "", "");
+    typeBoolean_value = typeBoolean_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeBoolean()", "", typeBoolean_value);
+    typeBoolean_value.setParent(this);
+    typeBoolean_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeBoolean()", "", typeBoolean_value);
+    state().leaveLazyAttribute();
+    return typeBoolean_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeBoolean_compute() {
+      BooleanType type = new BooleanType();
+      type.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      type.setID("boolean");
+      return type;
+    }
+  /** @apilevel internal */
+  private void typeByte_reset() {
+    typeByte_computed = false;
+    
+    typeByte_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeByte_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeByte_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:44")
+  public TypeDecl typeByte() {
+    ASTState state = state();
+    if (typeByte_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeByte()", "", typeByte_value);
+      return typeByte_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeByte()", "", "");
+    typeByte_value = typeByte_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeByte()", "", typeByte_value);
+    typeByte_value.setParent(this);
+    typeByte_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeByte()", "", typeByte_value);
+    state().leaveLazyAttribute();
+    return typeByte_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeByte_compute() {
+      ByteType type = new ByteType();
+      type.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      type.setID("byte");
+      return type;
+    }
+  /** @apilevel internal */
+  private void typeShort_reset() {
+    typeShort_computed = false;
+    
+    typeShort_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeShort_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeShort_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:51
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:51")
+  public TypeDecl typeShort() {
+    ASTState state = state();
+    if (typeShort_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeShort()", "", typeShort_value);
+      return typeShort_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeShort()", "", "");
+    typeShort_value = typeShort_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeShort()", "", typeShort_value);
+    typeShort_value.setParent(this);
+    typeShort_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeShort()", "", typeShort_value);
+    state().leaveLazyAttribute();
+    return typeShort_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeShort_compute() {
+      ShortType type = new ShortType();
+      type.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      type.setID("short");
+      return type;
+    }
+  /** @apilevel internal */
+  private void typeChar_reset() {
+    typeChar_computed = false;
+    
+    typeChar_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeChar_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeChar_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:58")
+  public TypeDecl typeChar() {
+    ASTState state = state();
+    if (typeChar_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeChar()", "", typeChar_value);
+      return typeChar_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeChar()", "", "");
+    typeChar_value = typeChar_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeChar()", "", typeChar_value);
+    typeChar_value.setParent(this);
+    typeChar_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeChar()", "", typeChar_value);
+    state().leaveLazyAttribute();
+    return typeChar_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeChar_compute() {
+      CharType type = new CharType();
+      type.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      type.setID("char");
+      return type;
+    }
+  /** @apilevel internal */
+  private void typeInt_reset() {
+    typeInt_computed = false;
+    
+    typeInt_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeInt_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeInt_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:65
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:65")
+  public TypeDecl typeInt() {
+    ASTState state = state();
+    if (typeInt_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeInt()", "", typeInt_value);
+      return typeInt_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeInt()", "", "");
+    typeInt_value = typeInt_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeInt()", "", typeInt_value);
+    typeInt_value.setParent(this);
+    typeInt_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeInt()", "", typeInt_value);
+    state().leaveLazyAttribute();
+    return typeInt_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeInt_compute() {
+      IntType type = new IntType();
+      type.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      type.setID("int");
+      return type;
+    }
+  /** @apilevel internal */
+  private void typeLong_reset() {
+    typeLong_computed = false;
+    
+    typeLong_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeLong_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeLong_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:72")
+  public TypeDecl typeLong() {
+    ASTState state = state();
+    if (typeLong_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeLong()", "", typeLong_value);
+      return typeLong_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeLong()", "", "");
+    typeLong_value = typeLong_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeLong()", "", typeLong_value);
+    typeLong_value.setParent(this);
+    typeLong_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeLong()", "", typeLong_value);
+    state().leaveLazyAttribute();
+    return typeLong_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeLong_compute() {
+      LongType type = new LongType();
+      type.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      type.setID("long");
+      return type;
+    }
+  /** @apilevel internal */
+  private void typeFloat_reset() {
+    typeFloat_computed = false;
+    
+    typeFloat_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeFloat_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeFloat_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:79
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:79")
+  public TypeDecl typeFloat() {
+    ASTState state = state();
+    if (typeFloat_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeFloat()", "", typeFloat_value);
+      return typeFloat_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeFloat()", "", "");
+    typeFloat_value = typeFloat_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeFloat()", "", typeFloat_value);
+    typeFloat_value.setParent(this);
+    typeFloat_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeFloat()", "", typeFloat_value);
+    state().leaveLazyAttribute();
+    return typeFloat_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeFloat_compute() {
+      FloatType type = new FloatType();
+      type.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      type.setID("float");
+      return type;
+    }
+  /** @apilevel internal */
+  private void typeDouble_reset() {
+    typeDouble_computed = false;
+    
+    typeDouble_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeDouble_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeDouble_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:86")
+  public TypeDecl typeDouble() {
+    ASTState state = state();
+    if (typeDouble_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeDouble()", "", typeDouble_value);
+      return typeDouble_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeDouble()", "", "");
+    typeDouble_value = typeDouble_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeDouble()", "", typeDouble_value);
+    typeDouble_value.setParent(this);
+    typeDouble_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeDouble()", "", typeDouble_value);
+    state().leaveLazyAttribute();
+    return typeDouble_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeDouble_compute() {
+      DoubleType type = new DoubleType();
+      type.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      type.setID("double");
+      return type;
+    }
+  /** @apilevel internal */
+  private void typeVoid_reset() {
+    typeVoid_computed = false;
+    
+    typeVoid_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeVoid_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeVoid_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:93
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:93")
+  public TypeDecl typeVoid() {
+    ASTState state = state();
+    if (typeVoid_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeVoid()", "", typeVoid_value);
+      return typeVoid_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeVoid()", "", "");
+    typeVoid_value = typeVoid_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeVoid()", "", typeVoid_value);
+    typeVoid_value.setParent(this);
+    typeVoid_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeVoid()", "", typeVoid_value);
+    state().leaveLazyAttribute();
+    return typeVoid_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeVoid_compute() {
+      VoidType classDecl = new VoidType();
+      classDecl.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      classDecl.setID("void");
+      return classDecl;
+    }
+  /** @apilevel internal */
+  private void typeNull_reset() {
+    typeNull_computed = false;
+    
+    typeNull_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean typeNull_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl typeNull_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:100")
+  public TypeDecl typeNull() {
+    ASTState state = state();
+    if (typeNull_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.typeNull()", "", typeNull_value);
+      return typeNull_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.typeNull()", "", "");
+    typeNull_value = typeNull_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.typeNull()", "", typeNull_value);
+    typeNull_value.setParent(this);
+    typeNull_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.typeNull()", "", typeNull_value);
+    state().leaveLazyAttribute();
+    return typeNull_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl typeNull_compute() {
+      NullType classDecl = new NullType();
+      classDecl.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      classDecl.setID("null");
+      return classDecl;
+    }
+  /** @apilevel internal */
+  private void unknownType_reset() {
+    unknownType_computed = false;
+    
+    unknownType_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean unknownType_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl unknownType_value;
+
+  /**
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:107
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:107")
+  public TypeDecl unknownType() {
+    ASTState state = state();
+    if (unknownType_computed) {
+      state().trace().cacheRead(this, "PrimitiveCompilationUnit.unknownType()", "", unknownType_value);
+      return unknownType_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "PrimitiveCompilationUnit.unknownType()", "", "");
+    unknownType_value = unknownType_compute();
+    state().trace().computeEnd(this, "PrimitiveCompilationUnit.unknownType()", "", unknownType_value);
+    unknownType_value.setParent(this);
+    unknownType_computed = true;
+    state().trace().cacheWrite(this, "PrimitiveCompilationUnit.unknownType()", "", unknownType_value);
+    state().leaveLazyAttribute();
+    return unknownType_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl unknownType_compute() {
+      ClassDecl classDecl = new UnknownType();
+      classDecl.setModifiers(new Modifiers(new List().add(new Modifier("public"))));
+      classDecl.setID("Unknown");
+      MethodDecl methodDecl = new MethodDecl(
+          new Modifiers(new List().add(
+            new Modifier("public")
+          )),
+          new PrimitiveTypeAccess("Unknown"),
+          "unknown",
+          new List(),
+          new List(),
+          new Opt()
+      );
+      classDecl.addBodyDecl(methodDecl);
+      FieldDeclarator unknown = new FieldDeclarator(
+          "unknown",
+          new List<Dims>(),
+          new Opt<Expr>());
+      FieldDecl fieldDecl = new FieldDecl(
+          new Modifiers(new List<Modifier>(new Modifier("public"))),
+          new PrimitiveTypeAccess("Unknown"),
+          new List<FieldDeclarator>(unknown)
+      );
+      classDecl.addBodyDecl(fieldDecl);
+      ConstructorDecl constrDecl = new ConstructorDecl(
+        new Modifiers(new List().add(new Modifier("public"))),
+        "Unknown",
+        new List(),
+        new List(),
+        new Opt(),
+        new Block()
+      );
+      classDecl.addBodyDecl(constrDecl);
+      return classDecl;
+    }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
@@ -0,0 +1,3338 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * The root of a Java AST.
+ * 
+ * <p>A Java program consists of multiple compilation units that represent the
+ * source files of the program.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:37
+ * @production Program : {@link ASTNode} ::= <span class="component">{@link CompilationUnit}*</span>;
+
+ */
+public class Program extends ASTNode<ASTNode> implements Cloneable {
+  /**
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:65
+   */
+  protected BytecodeReader bytecodeReader = defaultBytecodeReader();
+  /**
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:67
+   */
+  public void initBytecodeReader(BytecodeReader r) {
+    bytecodeReader = r;
+  }
+  /**
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:71
+   */
+  public static BytecodeReader defaultBytecodeReader() {
+    return new BytecodeReader() {
+      @Override
+      public CompilationUnit read(InputStream is, String fullName, Program p)
+          throws FileNotFoundException, IOException {
+        return new BytecodeParser(is, fullName).parse(null, null, p);
+      }
+    };
+  }
+  /**
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:81
+   */
+  protected JavaParser javaParser = defaultJavaParser();
+  /**
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:83
+   */
+  public void initJavaParser(JavaParser p) {
+    javaParser = p;
+  }
+  /**
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:87
+   */
+  public static JavaParser defaultJavaParser() {
+    return new JavaParser() {
+      @Override
+      public CompilationUnit parse(InputStream is, String fileName)
+          throws IOException, beaver.Parser.Exception {
+        return new org.extendj.parser.JavaParser().parse(is, fileName);
+      }
+    };
+  }
+  /**
+   * Parse the source file and add the compilation unit to the list of
+   * compilation units in the program.
+   * 
+   * <p>This method modifies the AST. It may not be called after any attribute
+   * evaluation starts.
+   * 
+   * @param fileName file name of the source file
+   * @return The CompilationUnit representing the source file,
+   * or <code>null</code> if the source file could not be parsed
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:131
+   */
+  public CompilationUnit addSourceFile(String fileName) throws IOException {
+    SourceFilePath pathPart = new SourceFilePath(fileName);
+    CompilationUnit cu = pathPart.getCompilationUnit(this, fileName);
+    addParsedSourceFile(cu);
+    return cu;
+  }
+  /**
+   * Parse the source file without adding it to the program.
+   * 
+   * <p>This method does not modify the AST, so several source files can be
+   * parsed concurrently. The resulting compilation units are added to the
+   * program using addParsedSourceFile(CompilationUnit).
+   * 
+   * @param fileName file name of the source file
+   * @return The CompilationUnit representing the source file
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:148
+   */
+  public CompilationUnit parseSourceFile(String fileName) throws IOException {
+    SourceFilePath pathPart = new SourceFilePath(fileName);
+    ClassSource source = pathPart.findSource(fileName);
+    if (source == ClassSource.NONE) {
+      throw new IOException("Source file not found: " + fileName);
+    }
+    return source.parseSource(this, true);
+  }
+  /**
+   * Add a compilation unit parsed by parseSourceFile(String) to the list of
+   * compilation units in the program.
+   * 
+   * <p>This method modifies the AST. It may not be called after any attribute
+   * evaluation starts, except to add a pending source file, see
+   * addPendingSourceFile(String, Collection, Future).
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:165
+   */
+  public void addParsedSourceFile(CompilationUnit cu) {
+    if (cu != emptyCompilationUnit()) {
+      classPath.addPackage(cu.packageName());
+      // In parallel execution, multiple source files could be added concurrently.
+      // However, the Program class is not thread-safe for modification, so we use
+      // a synchronized block to ensure sequential updating of the Program node.
+      synchronized (this) {
+        addCompilationUnit(cu);
+        if (sourceTypeMapInitialized) {
+          // A pending source file is added after type lookups have started.
+          for (int i = 0; i < cu.getNumTypeDecl(); i++) {
+            TypeDecl type = cu.getTypeDecl(i);
+            sourceTypeMap.put(type.fullName(), type);
+          }
+        }
+      }
+    }
+  }
+  /**
+   * Source files that are parsed in the background and have not yet been
+   * added to the program, in the order in which they are to be added.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:188
+   */
+  private final LinkedList<Future<CompilationUnit>> pendingSourceFiles =
+      new LinkedList<Future<CompilationUnit>>();
+  /** The number of pending source files that have been added to the program. 
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:192
+   */
+  private int numAddedPendingSourceFiles = 0;
+  /**
+   * Maps the name of each type declared in a pending source file to the
+   * position of the last pending source file that declares it. The position
+   * counts all pending source files, including those that have been added.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:199
+   */
+  private final ConcurrentMap<String, Integer> pendingSourceTypes =
+      new ConcurrentHashMap<String, Integer>();
+  /**
+   * Guards the pending source files. The Program node itself is not used as
+   * the lock, because the parser threads lock it to update statistics while
+   * the lock is held to wait for them.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:207
+   */
+  private final Object pendingSourceFilesLock = new Object();
+  /**
+   * Registers a source file that is being parsed in the background.
+   * 
+   * <p>The package and type names must be known before the source file is
+   * parsed, for example from a DeclarationScanner. All source files must be
+   * registered before attribute evaluation starts. A lookup of a type
+   * declared in a pending source file adds that file, and the pending files
+   * before it, to the program, waiting for them to be parsed. Other type
+   * lookups do not wait. Use addPendingSourceFile() to add the remaining
+   * pending source files in order.
+   * 
+   * @param packageName the package declared in the source file
+   * @param typeNames the simple names of the top-level types in the file
+   * @param unit the result of parsing the file with parseSourceFile(String)
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:224
+   */
+  public void addPendingSourceFile(String packageName,
+      Collection<String> typeNames, Future<CompilationUnit> unit) {
+    synchronized (pendingSourceFilesLock) {
+      int position = numAddedPendingSourceFiles + pendingSourceFiles.size();
+      pendingSourceFiles.add(unit);
+      classPath.addPackage(packageName);
+      for (String name : typeNames) {
+        String fullName = packageName.isEmpty() ? name : packageName + "." + name;
+        pendingSourceTypes.put(fullName, position);
+      }
+    }
+  }
+  /**
+   * Adds the next pending source file to the program, after waiting for it
+   * to be parsed.
+   * 
+   * @return {@code false} if there are no pending source files
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:243
+   */
+  public boolean addPendingSourceFile() {
+    synchronized (pendingSourceFilesLock) {
+      while (!pendingSourceFiles.isEmpty()) {
+        Future<CompilationUnit> unit = pendingSourceFiles.removeFirst();
+        numAddedPendingSourceFiles += 1;
+        CompilationUnit cu;
+        try {
+          cu = unit.get();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new Error("Interrupted while parsing source files", e);
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (cause instanceof Error) {
+            throw (Error) cause;
+          } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          }
+          throw new Error(cause.getMessage(), cause);
+        }
+        if (cu != emptyCompilationUnit()) {
+          addParsedSourceFile(cu);
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+  /**
+   * Adds the pending source files up to and including the last one that
+   * declares the given type.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:277
+   */
+  protected void addPendingSourceFiles(String fullName) {
+    synchronized (pendingSourceFilesLock) {
+      Integer position = pendingSourceTypes.get(fullName);
+      if (position != null) {
+        while (numAddedPendingSourceFiles <= position && addPendingSourceFile()) {
+          // Wait for the source file to be parsed.
+        }
+        pendingSourceTypes.remove(fullName);
+      }
+    }
+  }
+  /**
+   * Creates an iterator to iterate over compilation units parsed from source files.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:292
+   */
+  public Iterator<CompilationUnit> compilationUnitIterator() {
+    return new Iterator<CompilationUnit>() {
+      int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < getNumCompilationUnit();
+      }
+
+      @Override
+      public CompilationUnit next() {
+        if (getNumCompilationUnit() == index) {
+          throw new java.util.NoSuchElementException();
+        }
+        return getCompilationUnit(index++);
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+  /**
+   * Get the input stream for a compilation unit specified using a canonical
+   * name. This is used by the bytecode reader to load nested types.
+   * @param name The canonical name of the compilation unit.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:321
+   */
+  public InputStream getInputStream(String name) {
+    return classPath.getInputStream(name);
+  }
+  /**
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:325
+   */
+  private final ClassPath classPath = new ClassPath(this);
+  /**
+   * Cache for parsed compilation units.
+   * 
+   * <p>Should only be accessed via Program.getCompilationUnit(String).
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:918
+   */
+  private ConcurrentMap<String, ParseSynchronizer> parseLocks =
+      new ConcurrentSkipListMap<String, ParseSynchronizer>();
+  /**
+   * Load a compilation unit from disk, or wait for another thread that is
+   * loading the same compilation unit.
+   * 
+   * <p>Unlike the getCompilationUnit attribute, this method can be called
+   * concurrently. It returns the same compilation unit for each call with the
+   * same type name.
+   * 
+   * @return the loaded compilation unit, or the empty compilation unit if no
+   * compilation unit was found.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:946
+   */
+  protected CompilationUnit loadCompilationUnit(String typeName) {
+    final ParseSynchronizer synchronizer;
+    ParseSynchronizer old = parseLocks.get(typeName);
+    if (old != null) {
+      synchronizer = old;
+    } else {
+      ParseSynchronizer fresh = new ParseSynchronizer();
+      old = parseLocks.putIfAbsent(typeName, fresh);
+      if (old == null) {
+        synchronizer = fresh;
+      } else {
+        synchronizer = old;
+      }
+    }
+    if (synchronizer.first()) {
+      CompilationUnit result;
+      try {
+        result = classPath.getCompilationUnit(typeName, emptyCompilationUnit());
+      } catch (RuntimeException e) {
+        synchronizer.fail(e);
+        throw e;
+      } catch (Error e) {
+        synchronizer.fail(e);
+        throw e;
+      }
+      synchronizer.set(result);
+      return result;
+    } else {
+      return synchronizer.get();
+    }
+  }
+  /**
+   * @return <code>true</code> if there is a package with the given name on
+   * the classpath
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:982
+   */
+  public boolean isPackage(String packageName) {
+    return classPath.isPackage(packageName);
+  }
+  /**
+   * Add a path part to the library class path.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:1005
+   */
+  public void addClassPath(PathPart pathPart) {
+    classPath.addClassPath(pathPart);
+  }
+  /**
+   * Add a path part to the user class path.
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:1012
+   */
+  public void addSourcePath(PathPart pathPart) {
+    classPath.addSourcePath(pathPart);
+  }
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:50
+   */
+  public long javaParseTime;
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:51
+   */
+  public long bytecodeParseTime;
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:52
+   */
+  public long codeGenTime;
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:53
+   */
+  public long errorCheckTime;
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:54
+   */
+  public int numJavaFiles;
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:55
+   */
+  public int numClassFiles;
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:56
+   */
+  public final TraceReceiver trace = new TraceReceiver("ExtendJ");
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:57
+   */
+  public final ProvenanceStackMachine provenance = new ProvenanceStackMachine();
+  /**
+   * Reset the profile statistics.
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:62
+   */
+  public void resetStatistics() {
+    javaParseTime = 0;
+    bytecodeParseTime = 0;
+    codeGenTime = 0;
+    errorCheckTime = 0;
+    numJavaFiles = 0;
+    numClassFiles = 0;
+  }
+  /**
+   * @aspect FrontendMain
+   * @declaredat /root/project/java4/frontend/FrontendMain.jrag:71
+   */
+  public void printStatistics(PrintStream out) {
+    out.println("javaParseTime: " + javaParseTime);
+    out.println("numJavaFiles: " + numJavaFiles);
+    out.println("bytecodeParseTime: " + bytecodeParseTime);
+    out.println("numClassFiles: " + numClassFiles);
+    out.println("errorCheckTime: " + errorCheckTime);
+    out.println("codeGenTime: " + codeGenTime);
+  }
+  /**
+   * @aspect JavaDLInfo
+   * @declaredat /root/project/java4/frontend/JavaDLInfo.jrag:250
+   */
+  public FileIdStorage fileIdStorage = null;
+  /**
+   * Returns a robust iterator that can be iterated while the colleciton is updated.
+   * @aspect LibraryCompilationUnits
+   * @declaredat /root/project/java4/frontend/LibCompilationUnits.jadd:35
+   */
+  public Iterator<CompilationUnit> libraryCompilationUnitIterator() {
+    return libraryCompilationUnitSet.iterator();
+  }
+  /**
+   * Prepares the program for compiling a new set of source files, keeping the
+   * library compilation units that are still up to date.
+   * 
+   * <p>All source compilation units are removed and all attribute caches are
+   * flushed. Library compilation units loaded from class files are kept unless
+   * the class file, or the enclosing Jar file, has been modified since it was
+   * loaded. Library compilation units parsed from source files are always
+   * removed. Type lookups that previously failed will be retried if the class
+   * path or source path has been modified. The symbol table is cleared, so
+   * that the names interned by removed compilation units are not kept.
+   * 
+   * <p>This is used by the compile server to avoid loading the same library
+   * classes for each compilation.
+   * @aspect LibraryCompilationUnits
+   * @declaredat /root/project/java4/frontend/LibCompilationUnits.jadd:54
+   */
+  public void flushSourceCompilationUnits() {
+    Collection<PathPart> replaced = classPath.flush();
+    CompilationUnit empty = emptyCompilationUnit();
+    Set<CompilationUnit> kept = new HashSet<CompilationUnit>();
+    Iterator<CompilationUnit> iter = libraryCompilationUnitIterator();
+    while (iter.hasNext()) {
+      CompilationUnit unit = iter.next();
+      ClassSource source = unit.getClassSource();
+      if (unit != empty && !unit.fromSource()
+          && !replaced.contains(source.getSourcePath()) && !source.isModified()) {
+        kept.add(unit);
+      }
+    }
+
+    setCompilationUnitList(new List<CompilationUnit>());
+    flushTreeCache();
+    state().reset();
+    provenance.reset();
+
+    // The library compilation units are not children of this node,
+    // so they are flushed separately.
+    for (CompilationUnit unit : kept) {
+      unit.flushTreeCache();
+    }
+    libraryCompilationUnitSet.clear();
+    libraryCompilationUnitSet.addAll(kept);
+
+    // Forget parsed compilation units that were not kept, including failed lookups.
+    for (Iterator<ParseSynchronizer> locks = parseLocks.values().iterator(); locks.hasNext(); ) {
+      if (!kept.contains(locks.next().get())) {
+        locks.remove();
+      }
+    }
+
+    sourceTypeMap.clear();
+    sourceTypeMapInitialized = false;
+    pendingSourceFiles.clear();
+    pendingSourceTypes.clear();
+    numAddedPendingSourceFiles = 0;
+
+    // Rebuild the library type map from the kept compilation units.
+    // The primitive types are added again on the next lookup.
+    libraryTypeMap.clear();
+    libraryTypeMapInitialized = false;
+    for (CompilationUnit unit : kept) {
+      for (int i = 0; i < unit.getNumTypeDecl(); i++) {
+        TypeDecl type = unit.getTypeDecl(i);
+        if (!libraryTypeMap.containsKey(type.fullName())) {
+          libraryTypeMap.put(type.fullName(), type);
+        }
+      }
+    }
+  }
+  /**
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:136
+   */
+  public int classFileReadTime;
+  /**
+   * Cache for source type lookups.
+   * 
+   * <p>Should only be accessed via Program.lookupSourceType(String,String)!
+   * 
+   * <p>This cache is important in order to make all source types shadow
+   * library types with matching names, even when the source type lives in a
+   * compilation unit with a different name.
+   * 
+   * <p>When loading a compilation unit, all additional types in the compilation unit
+   * must become visible after the type lookup for the type with the same name as the
+   * compilation unit. This map ensures that additional types become visible.
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:173
+   */
+  private final ConcurrentMap<String, TypeDecl> sourceTypeMap =
+      new ConcurrentHashMap<String, TypeDecl>();
+  /**
+   * Flag indictating if the source type map has already been initialized.
+   * 
+   * <p>Should only be accessed via Program.lookupSourceType(String,String)!
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:181
+   */
+  private volatile boolean sourceTypeMapInitialized = false;
+  /**
+   * Lookup a type among source classes.
+   * 
+   * <p>Invoking this method may cause more than just the specified type to be
+   * loaded, for example if there exists other types in the same source file,
+   * the additional types are also loaded and memoized for the next lookup.
+   * 
+   * <p>This is a method rather than an attribute because it uses side-effects
+   * to memoize additional types. The side effects are only observable via the
+   * fields Program.sourceTypeMapInitialized and Program.sourceTypeMap.
+   * These fields should only be used by this method to ensure that it is
+   * observationally pure.
+   * 
+   * <p>Concurrent type lookups do not block each other. Only the
+   * initialization of the source type map is synchronized.
+   * 
+   * <p>A lookup of a type declared in a pending source file waits until that
+   * file has been parsed and added to the program.
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:202
+   */
+  protected TypeDecl lookupSourceType(String packageName, String typeName) {
+    String fullName = packageName.equals("") ? typeName : packageName + "." + typeName;
+
+    if (!sourceTypeMapInitialized) {
+      initializeSourceTypeMap();
+    }
+
+    if (pendingSourceTypes.containsKey(fullName)) {
+      // The type is declared in a source file that may not have been parsed yet.
+      addPendingSourceFiles(fullName);
+    }
+
+    TypeDecl type = sourceTypeMap.get(fullName);
+    if (type != null) {
+      if (!type.isUnknown() && provenance.isEnabled())
+        provenance.fileRead(type.sourceFile());
+      return type;
+    } else {
+      sourceTypeMap.putIfAbsent(fullName, unknownType());
+    }
+
+    // Source type not found: lookup library type instead.
+    return unknownType();
+  }
+  /**
+   * Initialize source types in the source type map.  This puts all the types provided by
+   * Program.addSourceFile() in a map for lookup by Program.lookupSourceType.
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:231
+   */
+  private synchronized void initializeSourceTypeMap() {
+    if (sourceTypeMapInitialized) {
+      return;
+    }
+    // The unknown type is computed here so that concurrent lookups share it.
+    unknownType();
+    // Initialize source type map with the compilation units supplied by Program.addSourceFile.
+    for (int i = 0; i < getNumCompilationUnit(); i++) {
+      CompilationUnit unit = getCompilationUnit(i);
+
+      for (int j = 0; j < unit.getNumTypeDecl(); j++) {
+        TypeDecl type = unit.getTypeDecl(j);
+        sourceTypeMap.put(type.fullName(), type);
+      }
+    }
+    sourceTypeMapInitialized = true;
+  }
+  /**
+   * @return the fully qualified names of the types that were looked up but
+   * not found, neither among source types nor among library types
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:253
+   */
+  public Collection<String> missingTypes() {
+    Collection<String> missing = new ArrayList<String>();
+    for (Map.Entry<String, TypeDecl> entry : libraryTypeMap.entrySet()) {
+      if (entry.getValue().isUnknown()) {
+        missing.add(entry.getKey());
+      }
+    }
+    return missing;
+  }
+  /**
+   * Extra cache for library type lookups.
+   * 
+   * <p>Should only be accessed via Program.lookupLibraryType(String,String)!
+   * 
+   * <p>This cache is needed to be able to track library types that are
+   * declared in compilation units with a different name than the type itself.
+   * Note that this only affects library types loaded from source (unfortunately easy
+   * to confuse with sourceTypeMap).
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:273
+   */
+  private final ConcurrentMap<String, TypeDecl> libraryTypeMap =
+      new ConcurrentHashMap<String, TypeDecl>();
+  /**
+   * The loaded library compilation units, in load order.
+   * 
+   * <p>Units can be added concurrently without locking the set, and the
+   * library units can be iterated while more units are loaded.
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:282
+   */
+  private final Set<CompilationUnit> libraryCompilationUnitSet =
+      new ConcurrentRobustSet<CompilationUnit>();
+  /**
+   * Flag indictating if the library type map has already been initialized.
+   * 
+   * <p>Should only be accessed via Program.lookupLibraryType(String,String)!
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:290
+   */
+  private volatile boolean libraryTypeMapInitialized = false;
+  /**
+   * Lock for adding loaded library compilation units to the AST.
+   * 
+   * <p>Should only be accessed via Program.lookupLibraryType(String,String)!
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:297
+   */
+  private final Object libraryUnitLock = new Object();
+  /**
+   * Lookup a type among library classes. The lookup includes Jar and source files.
+   * 
+   * <p>Invoking this method may cause more than just the specified type to be loaded, for
+   * example if there exists other types in the same source file, the additional
+   * types are also loaded and memoized for the next lookup.
+   * 
+   * <p>This is a method rather than an attribute because it uses side-effects
+   * to memoize additional types. The side effects are only observable via the
+   * fields Program.libraryTypeMapInitialized and Program.libraryTypeMap.
+   * These fields should only be used by this method to ensure that it is
+   * observationally pure.
+   * 
+   * <p>Types that are already in the library type map are found without
+   * locking. A compilation unit that is not yet loaded is parsed by one
+   * thread, while other threads wait only for the same compilation unit.
+   * Adding the parsed compilation unit to the AST is synchronized.
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:317
+   */
+  protected TypeDecl lookupLibraryType(String packageName, String typeName) {
+    String fullName = packageName.isEmpty() ? typeName : packageName + "." + typeName;
+
+    if (!libraryTypeMapInitialized) {
+      initializeLibraryTypeMap();
+    }
+
+    TypeDecl type = libraryTypeMap.get(fullName);
+    if (type != null) {
+      if (provenance.isEnabled()) {
+        provenance.fileRead(type.sourceFile());
+      }
+      return type;
+    }
+
+    if (classPath.isMissing(fullName)) {
+      // Known missing type: no compilation unit needs to be loaded.
+      libraryTypeMap.putIfAbsent(fullName, unknownType());
+      return libraryTypeMap.get(fullName);
+    }
+
+    // Parse the compilation unit outside the lock. Parsing can look up other
+    // types, and concurrent lookups of other types should not wait for it.
+    loadCompilationUnit(fullName);
+
+    synchronized (libraryUnitLock) {
+      if (!libraryTypeMap.containsKey(fullName)) {
+        // Lookup the type in the library class path. The NTA reuses the
+        // compilation unit that was parsed above.
+        CompilationUnit libraryUnit = getLibCompilationUnit(fullName);
+        // Store the compilation unit in a set for later introspection of loaded compilation units.
+        libraryCompilationUnitSet.add(libraryUnit);
+
+        // Add all types from the compilation unit in the library type map so that we can find them
+        // on the next type lookup. If we don't do this lookup might incorrectly miss a type that is
+        // not declared in a Java source file with a matching name.
+        for (int j = 0; j < libraryUnit.getNumTypeDecl(); j++) {
+          TypeDecl decl = libraryUnit.getTypeDecl(j);
+          libraryTypeMap.putIfAbsent(decl.fullName(), decl);
+        }
+        libraryTypeMap.putIfAbsent(fullName, unknownType());
+      }
+    }
+
+    type = libraryTypeMap.get(fullName);
+    if (!type.isUnknown() && provenance.isEnabled()) {
+      provenance.fileRead(type.sourceFile());
+    }
+    return type;
+  }
+  /** Initialize primitive types in the library type map.  
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:369
+   */
+  private synchronized void initializeLibraryTypeMap() {
+    if (libraryTypeMapInitialized) {
+      return;
+    }
+    // The empty compilation unit is computed here so that concurrent loads share it.
+    emptyCompilationUnit();
+    PrimitiveCompilationUnit unit = getPrimitiveCompilationUnit();
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".boolean", unit.typeBoolean());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".byte", unit.typeByte());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".short", unit.typeShort());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".char", unit.typeChar());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".int", unit.typeInt());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".long", unit.typeLong());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".float", unit.typeFloat());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".double", unit.typeDouble());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".null", unit.typeNull());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".void", unit.typeVoid());
+    libraryTypeMap.put(PRIMITIVE_PACKAGE_NAME + ".Unknown", unit.unknownType());
+    libraryTypeMapInitialized = true;
+  }
+  /**
+   * @aspect AddOptionsToProgram
+   * @declaredat /root/project/java4/frontend/Options.jadd:35
+   */
+  public Options options = new Options();
+  /**
+   * @aspect AddOptionsToProgram
+   * @declaredat /root/project/java4/frontend/Options.jadd:37
+   */
+  public Options options() {
+    return options;
+  }
+  /** The maximum number of queued types. 
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:54
+   */
+  private static final int PREFETCH_QUEUE_SIZE = 256;
+  /** The threads that load library compilation units, or {@code null}. 
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:57
+   */
+  private ThreadPoolExecutor prefetchPool = null;
+  /** The names of the types that have been queued. 
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:60
+   */
+  private Set<String> prefetchedTypes = null;
+  /** Set on the prefetch threads. 
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:63
+   */
+  private static final ThreadLocal<Boolean> isPrefetchThread =
+      new ThreadLocal<Boolean>();
+  /**
+   * Starts the prefetch threads. Types are only prefetched between this call
+   * and the next call to stopPrefetch().
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:70
+   */
+  public void startPrefetch(int numThreads) {
+    prefetchedTypes = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    prefetchPool = new ThreadPoolExecutor(numThreads, numThreads,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<Runnable>(PREFETCH_QUEUE_SIZE),
+        new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "prefetch");
+            thread.setDaemon(true);
+            return thread;
+          }
+        },
+        new ThreadPoolExecutor.DiscardPolicy());
+  }
+  /**
+   * Drops the queued types, and waits for the types that are being loaded.
+   * Loads are not interrupted, because interrupting a thread that reads a
+   * file channel closes the channel.
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:91
+   */
+  public void stopPrefetch() {
+    if (prefetchPool != null) {
+      prefetchPool.getQueue().clear();
+      prefetchPool.shutdown();
+      try {
+        prefetchPool.awaitTermination(1, TimeUnit.MINUTES);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      prefetchPool = null;
+      prefetchedTypes = null;
+    }
+  }
+  /**
+   * Queues the superclass and interfaces of a type parsed from a class file.
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:108
+   */
+  public void prefetchSupertypes(TypeDecl decl) {
+    if (prefetchPool != null) {
+      prefetchTypeAccesses(decl);
+    }
+  }
+  /**
+   * Queues the types in the field and method signatures of a type parsed
+   * from a class file. This is skipped for class files that are loaded by a
+   * prefetch thread.
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:119
+   */
+  public void prefetchSignatureTypes(TypeDecl decl) {
+    if (prefetchPool != null && isPrefetchThread.get() == null) {
+      for (BodyDecl member : decl.getBodyDeclListNoTransform()) {
+        prefetchTypeAccesses(member);
+      }
+    }
+  }
+  /**
+   * Queues the top-level types named by the type accesses in the subtree.
+   * The subtree is not yet attached to the program, so it is traversed
+   * without rewrites.
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:132
+   */
+  private void prefetchTypeAccesses(ASTNode<?> node) {
+    if (node instanceof TypeAccess
+        && !(node instanceof ArrayTypeAccess)
+        && !(node instanceof PrimitiveTypeAccess)) {
+      TypeAccess access = (TypeAccess) node;
+      if (!access.getPackage().isEmpty()) {
+        prefetch(access.getPackage() + "." + access.getID());
+      }
+    }
+    for (int i = 0; i < node.getNumChildNoTransform(); ++i) {
+      ASTNode<?> child = node.getChildNoTransform(i);
+      if (child != null) {
+        prefetchTypeAccesses(child);
+      }
+    }
+  }
+  /**
+   * @aspect PrefetchLibraryTypes
+   * @declaredat /root/project/java4/frontend/PrefetchLibraryTypes.jadd:149
+   */
+  private void prefetch(final String typeName) {
+    if (parseLocks.containsKey(typeName)
+        || libraryTypeMap.containsKey(typeName)
+        || sourceTypeMap.containsKey(typeName)
+        || classPath.isMissing(typeName)
+        || !prefetchedTypes.add(typeName)) {
+      return;
+    }
+    prefetchPool.execute(new Runnable() {
+      @Override
+      public void run() {
+        isPrefetchThread.set(Boolean.TRUE);
+        try {
+          loadCompilationUnit(typeName);
+        } catch (Throwable t) {
+          // The exception is thrown again in the thread that looks up the type.
+        }
+      }
+    });
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:192
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    for (Iterator iter = compilationUnitIterator(); iter.hasNext(); ) {
+      CompilationUnit cu = (CompilationUnit) iter.next();
+      if (cu.fromSource()) {
+        out.print(cu);
+      }
+    }
+  }
+  /**
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:33
+   */
+  public void generateClassfile() {
+    for (Iterator iter = compilationUnitIterator(); iter.hasNext(); ) {
+      CompilationUnit cu = (CompilationUnit) iter.next();
+      cu.generateClassfile();
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public Program() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+    setChild(new List(), 0);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public Program(List<CompilationUnit> p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:18
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:24
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:28
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    getCompilationUnit_String_reset();
+    typeObject_reset();
+    typeCloneable_reset();
+    typeSerializable_reset();
+    typeBoolean_reset();
+    typeByte_reset();
+    typeShort_reset();
+    typeChar_reset();
+    typeInt_reset();
+    typeLong_reset();
+    typeFloat_reset();
+    typeDouble_reset();
+    typeString_reset();
+    typeVoid_reset();
+    typeNull_reset();
+    unknownType_reset();
+    hasPackage_String_reset();
+    lookupType_String_String_reset();
+    getLibCompilationUnit_String_reset();
+    emptyCompilationUnit_reset();
+    getPrimitiveCompilationUnit_reset();
+    unknownConstructor_reset();
+    wildcards_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:55
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:59
+   */
+  public Program clone() throws CloneNotSupportedException {
+    Program node = (Program) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:64
+   */
+  public Program copy() {
+    try {
+      Program node = (Program) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:83
+   */
+  @Deprecated
+  public Program fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:93
+   */
+  public Program treeCopyNoTransform() {
+    Program tree = (Program) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:113
+   */
+  public Program treeCopy() {
+    Program tree = (Program) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:127
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the CompilationUnit list.
+   * @param list The new list node to be used as the CompilationUnit list.
+   * @apilevel high-level
+   */
+  public void setCompilationUnitList(List<CompilationUnit> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the CompilationUnit list.
+   * @return Number of children in the CompilationUnit list.
+   * @apilevel high-level
+   */
+  public int getNumCompilationUnit() {
+    return getCompilationUnitList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the CompilationUnit list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the CompilationUnit list.
+   * @apilevel low-level
+   */
+  public int getNumCompilationUnitNoTransform() {
+    return getCompilationUnitListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the CompilationUnit list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the CompilationUnit list.
+   * @apilevel high-level
+   */
+  public CompilationUnit getCompilationUnit(int i) {
+    return (CompilationUnit) getCompilationUnitList().getChild(i);
+  }
+  /**
+   * Check whether the CompilationUnit list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasCompilationUnit() {
+    return getCompilationUnitList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the CompilationUnit list.
+   * @param node The element to append to the CompilationUnit list.
+   * @apilevel high-level
+   */
+  public void addCompilationUnit(CompilationUnit node) {
+    List<CompilationUnit> list = (parent == null) ? getCompilationUnitListNoTransform() : getCompilationUnitList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addCompilationUnitNoTransform(CompilationUnit node) {
+    List<CompilationUnit> list = getCompilationUnitListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the CompilationUnit list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setCompilationUnit(CompilationUnit node, int i) {
+    List<CompilationUnit> list = getCompilationUnitList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the CompilationUnit list.
+   * @return The node representing the CompilationUnit list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="CompilationUnit")
+  public List<CompilationUnit> getCompilationUnitList() {
+    List<CompilationUnit> list = (List<CompilationUnit>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the CompilationUnit list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the CompilationUnit list.
+   * @apilevel low-level
+   */
+  public List<CompilationUnit> getCompilationUnitListNoTransform() {
+    return (List<CompilationUnit>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the CompilationUnit list without
+   * triggering rewrites.
+   */
+  public CompilationUnit getCompilationUnitNoTransform(int i) {
+    return (CompilationUnit) getCompilationUnitListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the CompilationUnit list.
+   * @return The node representing the CompilationUnit list.
+   * @apilevel high-level
+   */
+  public List<CompilationUnit> getCompilationUnits() {
+    return getCompilationUnitList();
+  }
+  /**
+   * Retrieves the CompilationUnit list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the CompilationUnit list.
+   * @apilevel low-level
+   */
+  public List<CompilationUnit> getCompilationUnitsNoTransform() {
+    return getCompilationUnitListNoTransform();
+  }
+  /** @apilevel internal */
+  private void getCompilationUnit_String_reset() {
+    getCompilationUnit_String_computed = new java.util.HashMap(4);
+    getCompilationUnit_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map getCompilationUnit_String_values;
+  /** @apilevel internal */
+  protected java.util.Map getCompilationUnit_String_computed;
+  /**
+   * Load a compilation unit from disk, selecting a class file
+   * if one exists that is not older than a corresponding source
+   * file, otherwise the source file is selected.
+   * 
+   * <p>This attribute is used by the LibCompilationUnit NTA.  Internally this
+   * attribute memoizes its results via the parseLocks map.
+   * 
+   * @return the loaded compilation unit, or the empty compilation unit if no
+   * compilation unit was found.
+   * @attribute syn
+   * @aspect ClassPath
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:932
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ClassPath", declaredAt="/root/project/java4/frontend/ClassPath.jrag:932")
+  public CompilationUnit getCompilationUnit(String typeName) {
+    Object _parameters = typeName;
+    if (getCompilationUnit_String_computed == null) getCompilationUnit_String_computed = new java.util.HashMap(4);
+    if (getCompilationUnit_String_values == null) getCompilationUnit_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (getCompilationUnit_String_values.containsKey(_parameters) && getCompilationUnit_String_computed != null
+        && getCompilationUnit_String_computed.containsKey(_parameters)
+        && (getCompilationUnit_String_computed.get(_parameters) == ASTState.NON_CYCLE || getCompilationUnit_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Program.getCompilationUnit(String)", _parameters, getCompilationUnit_String_values.get(_parameters));
+      return (CompilationUnit) getCompilationUnit_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Program.getCompilationUnit(String)", _parameters, "");
+    CompilationUnit getCompilationUnit_String_value = loadCompilationUnit(typeName);
+    state().trace().computeEnd(this, "Program.getCompilationUnit(String)", _parameters, getCompilationUnit_String_value);
+    if (state().inCircle()) {
+      getCompilationUnit_String_values.put(_parameters, getCompilationUnit_String_value);
+      getCompilationUnit_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Program.getCompilationUnit(String)", _parameters, getCompilationUnit_String_value);
+    } else {
+      getCompilationUnit_String_values.put(_parameters, getCompilationUnit_String_value);
+      getCompilationUnit_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Program.getCompilationUnit(String)", _parameters, getCompilationUnit_String_value);
+    }
+    return getCompilationUnit_String_value;
+  }
+  /** @apilevel internal */
+  private void typeObject_reset() {
+    typeObject_computed = null;
+    typeObject_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeObject_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeObject_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:44")
+  public TypeDecl typeObject() {
+    ASTState state = state();
+    if (typeObject_computed == ASTState.NON_CYCLE || typeObject_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeObject()", "", typeObject_value);
+      return typeObject_value;
+    }
+    state().trace().computeBegin(this, "Program.typeObject()", "", "");
+    typeObject_value = lookupType("java.lang", "Object");
+    state().trace().computeEnd(this, "Program.typeObject()", "", typeObject_value);
+    if (state().inCircle()) {
+      typeObject_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeObject()", "", typeObject_value);
+    } else {
+      typeObject_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeObject()", "", typeObject_value);
+    }
+    return typeObject_value;
+  }
+  /** @apilevel internal */
+  private void typeCloneable_reset() {
+    typeCloneable_computed = null;
+    typeCloneable_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeCloneable_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeCloneable_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:45
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:45")
+  public TypeDecl typeCloneable() {
+    ASTState state = state();
+    if (typeCloneable_computed == ASTState.NON_CYCLE || typeCloneable_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeCloneable()", "", typeCloneable_value);
+      return typeCloneable_value;
+    }
+    state().trace().computeBegin(this, "Program.typeCloneable()", "", "");
+    typeCloneable_value = lookupType("java.lang", "Cloneable");
+    state().trace().computeEnd(this, "Program.typeCloneable()", "", typeCloneable_value);
+    if (state().inCircle()) {
+      typeCloneable_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeCloneable()", "", typeCloneable_value);
+    } else {
+      typeCloneable_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeCloneable()", "", typeCloneable_value);
+    }
+    return typeCloneable_value;
+  }
+  /** @apilevel internal */
+  private void typeSerializable_reset() {
+    typeSerializable_computed = null;
+    typeSerializable_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeSerializable_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeSerializable_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:46")
+  public TypeDecl typeSerializable() {
+    ASTState state = state();
+    if (typeSerializable_computed == ASTState.NON_CYCLE || typeSerializable_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeSerializable()", "", typeSerializable_value);
+      return typeSerializable_value;
+    }
+    state().trace().computeBegin(this, "Program.typeSerializable()", "", "");
+    typeSerializable_value = lookupType("java.io", "Serializable");
+    state().trace().computeEnd(this, "Program.typeSerializable()", "", typeSerializable_value);
+    if (state().inCircle()) {
+      typeSerializable_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeSerializable()", "", typeSerializable_value);
+    } else {
+      typeSerializable_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeSerializable()", "", typeSerializable_value);
+    }
+    return typeSerializable_value;
+  }
+  /** @apilevel internal */
+  private void typeBoolean_reset() {
+    typeBoolean_computed = null;
+    typeBoolean_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeBoolean_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeBoolean_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:52
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:52")
+  public TypeDecl typeBoolean() {
+    ASTState state = state();
+    if (typeBoolean_computed == ASTState.NON_CYCLE || typeBoolean_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeBoolean()", "", typeBoolean_value);
+      return typeBoolean_value;
+    }
+    state().trace().computeBegin(this, "Program.typeBoolean()", "", "");
+    typeBoolean_value = getPrimitiveCompilationUnit().typeBoolean();
+    state().trace().computeEnd(this, "Program.typeBoolean()", "", typeBoolean_value);
+    if (state().inCircle()) {
+      typeBoolean_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeBoolean()", "", typeBoolean_value);
+    } else {
+      typeBoolean_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeBoolean()", "", typeBoolean_value);
+    }
+    return typeBoolean_value;
+  }
+  /** @apilevel internal */
+  private void typeByte_reset() {
+    typeByte_computed = null;
+    typeByte_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeByte_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeByte_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:53")
+  public TypeDecl typeByte() {
+    ASTState state = state();
+    if (typeByte_computed == ASTState.NON_CYCLE || typeByte_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeByte()", "", typeByte_value);
+      return typeByte_value;
+    }
+    state().trace().computeBegin(this, "Program.typeByte()", "", "");
+    typeByte_value = getPrimitiveCompilationUnit().typeByte();
+    state().trace().computeEnd(this, "Program.typeByte()", "", typeByte_value);
+    if (state().inCircle()) {
+      typeByte_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeByte()", "", typeByte_value);
+    } else {
+      typeByte_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeByte()", "", typeByte_value);
+    }
+    return typeByte_value;
+  }
+  /** @apilevel internal */
+  private void typeShort_reset() {
+    typeShort_computed = null;
+    typeShort_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeShort_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeShort_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:54
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:54")
+  public TypeDecl typeShort() {
+    ASTState state = state();
+    if (typeShort_computed == ASTState.NON_CYCLE || typeShort_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeShort()", "", typeShort_value);
+      return typeShort_value;
+    }
+    state().trace().computeBegin(this, "Program.typeShort()", "", "");
+    typeShort_value = getPrimitiveCompilationUnit().typeShort();
+    state().trace().computeEnd(this, "Program.typeShort()", "", typeShort_value);
+    if (state().inCircle()) {
+      typeShort_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeShort()", "", typeShort_value);
+    } else {
+      typeShort_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeShort()", "", typeShort_value);
+    }
+    return typeShort_value;
+  }
+  /** @apilevel internal */
+  private void typeChar_reset() {
+    typeChar_computed = null;
+    typeChar_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeChar_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeChar_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:55
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:55")
+  public TypeDecl typeChar() {
+    ASTState state = state();
+    if (typeChar_computed == ASTState.NON_CYCLE || typeChar_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeChar()", "", typeChar_value);
+      return typeChar_value;
+    }
+    state().trace().computeBegin(this, "Program.typeChar()", "", "");
+    typeChar_value = getPrimitiveCompilationUnit().typeChar();
+    state().trace().computeEnd(this, "Program.typeChar()", "", typeChar_value);
+    if (state().inCircle()) {
+      typeChar_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeChar()", "", typeChar_value);
+    } else {
+      typeChar_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeChar()", "", typeChar_value);
+    }
+    return typeChar_value;
+  }
+  /** @apilevel internal */
+  private void typeInt_reset() {
+    typeInt_computed = null;
+    typeInt_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeInt_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeInt_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:56
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:56")
+  public TypeDecl typeInt() {
+    ASTState state = state();
+    if (typeInt_computed == ASTState.NON_CYCLE || typeInt_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeInt()", "", typeInt_value);
+      return typeInt_value;
+    }
+    state().trace().computeBegin(this, "Program.typeInt()", "", "");
+    typeInt_value = getPrimitiveCompilationUnit().typeInt();
+    state().trace().computeEnd(this, "Program.typeInt()", "", typeInt_value);
+    if (state().inCircle()) {
+      typeInt_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeInt()", "", typeInt_value);
+    } else {
+      typeInt_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeInt()", "", typeInt_value);
+    }
+    return typeInt_value;
+  }
+  /** @apilevel internal */
+  private void typeLong_reset() {
+    typeLong_computed = null;
+    typeLong_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeLong_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeLong_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:57
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:57")
+  public TypeDecl typeLong() {
+    ASTState state = state();
+    if (typeLong_computed == ASTState.NON_CYCLE || typeLong_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeLong()", "", typeLong_value);
+      return typeLong_value;
+    }
+    state().trace().computeBegin(this, "Program.typeLong()", "", "");
+    typeLong_value = getPrimitiveCompilationUnit().typeLong();
+    state().trace().computeEnd(this, "Program.typeLong()", "", typeLong_value);
+    if (state().inCircle()) {
+      typeLong_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeLong()", "", typeLong_value);
+    } else {
+      typeLong_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeLong()", "", typeLong_value);
+    }
+    return typeLong_value;
+  }
+  /** @apilevel internal */
+  private void typeFloat_reset() {
+    typeFloat_computed = null;
+    typeFloat_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeFloat_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeFloat_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:58")
+  public TypeDecl typeFloat() {
+    ASTState state = state();
+    if (typeFloat_computed == ASTState.NON_CYCLE || typeFloat_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeFloat()", "", typeFloat_value);
+      return typeFloat_value;
+    }
+    state().trace().computeBegin(this, "Program.typeFloat()", "", "");
+    typeFloat_value = getPrimitiveCompilationUnit().typeFloat();
+    state().trace().computeEnd(this, "Program.typeFloat()", "", typeFloat_value);
+    if (state().inCircle()) {
+      typeFloat_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeFloat()", "", typeFloat_value);
+    } else {
+      typeFloat_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeFloat()", "", typeFloat_value);
+    }
+    return typeFloat_value;
+  }
+  /** @apilevel internal */
+  private void typeDouble_reset() {
+    typeDouble_computed = null;
+    typeDouble_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeDouble_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeDouble_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:59
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:59")
+  public TypeDecl typeDouble() {
+    ASTState state = state();
+    if (typeDouble_computed == ASTState.NON_CYCLE || typeDouble_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeDouble()", "", typeDouble_value);
+      return typeDouble_value;
+    }
+    state().trace().computeBegin(this, "Program.typeDouble()", "", "");
+    typeDouble_value = getPrimitiveCompilationUnit().typeDouble();
+    state().trace().computeEnd(this, "Program.typeDouble()", "", typeDouble_value);
+    if (state().inCircle()) {
+      typeDouble_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeDouble()", "", typeDouble_value);
+    } else {
+      typeDouble_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeDouble()", "", typeDouble_value);
+    }
+    return typeDouble_value;
+  }
+  /** @apilevel internal */
+  private void typeString_reset() {
+    typeString_computed = null;
+    typeString_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeString_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeString_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:60")
+  public TypeDecl typeString() {
+    ASTState state = state();
+    if (typeString_computed == ASTState.NON_CYCLE || typeString_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeString()", "", typeString_value);
+      return typeString_value;
+    }
+    state().trace().computeBegin(this, "Program.typeString()", "", "");
+    typeString_value = lookupType("java.lang", "String");
+    state().trace().computeEnd(this, "Program.typeString()", "", typeString_value);
+    if (state().inCircle()) {
+      typeString_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeString()", "", typeString_value);
+    } else {
+      typeString_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeString()", "", typeString_value);
+    }
+    return typeString_value;
+  }
+  /** @apilevel internal */
+  private void typeVoid_reset() {
+    typeVoid_computed = null;
+    typeVoid_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeVoid_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeVoid_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:72")
+  public TypeDecl typeVoid() {
+    ASTState state = state();
+    if (typeVoid_computed == ASTState.NON_CYCLE || typeVoid_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeVoid()", "", typeVoid_value);
+      return typeVoid_value;
+    }
+    state().trace().computeBegin(this, "Program.typeVoid()", "", "");
+    typeVoid_value = getPrimitiveCompilationUnit().typeVoid();
+    state().trace().computeEnd(this, "Program.typeVoid()", "", typeVoid_value);
+    if (state().inCircle()) {
+      typeVoid_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeVoid()", "", typeVoid_value);
+    } else {
+      typeVoid_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeVoid()", "", typeVoid_value);
+    }
+    return typeVoid_value;
+  }
+  /** @apilevel internal */
+  private void typeNull_reset() {
+    typeNull_computed = null;
+    typeNull_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeNull_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeNull_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:75
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:75")
+  public TypeDecl typeNull() {
+    ASTState state = state();
+    if (typeNull_computed == ASTState.NON_CYCLE || typeNull_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.typeNull()", "", typeNull_value);
+      return typeNull_value;
+    }
+    state().trace().computeBegin(this, "Program.typeNull()", "", "");
+    typeNull_value = getPrimitiveCompilationUnit().typeNull();
+    state().trace().computeEnd(this, "Program.typeNull()", "", typeNull_value);
+    if (state().inCircle()) {
+      typeNull_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.typeNull()", "", typeNull_value);
+    } else {
+      typeNull_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.typeNull()", "", typeNull_value);
+    }
+    return typeNull_value;
+  }
+  /** @apilevel internal */
+  private void unknownType_reset() {
+    unknownType_computed = null;
+    unknownType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle unknownType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl unknownType_value;
+
+  /**
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:78")
+  public TypeDecl unknownType() {
+    ASTState state = state();
+    if (unknownType_computed == ASTState.NON_CYCLE || unknownType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.unknownType()", "", unknownType_value);
+      return unknownType_value;
+    }
+    state().trace().computeBegin(this, "Program.unknownType()", "", "");
+    unknownType_value = getPrimitiveCompilationUnit().unknownType();
+    state().trace().computeEnd(this, "Program.unknownType()", "", unknownType_value);
+    if (state().inCircle()) {
+      unknownType_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.unknownType()", "", unknownType_value);
+    } else {
+      unknownType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.unknownType()", "", unknownType_value);
+    }
+    return unknownType_value;
+  }
+  /** @apilevel internal */
+  private void hasPackage_String_reset() {
+    hasPackage_String_computed = new java.util.HashMap(4);
+    hasPackage_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map hasPackage_String_values;
+  /** @apilevel internal */
+  protected java.util.Map hasPackage_String_computed;
+  /**
+   * @attribute syn
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:108
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:108")
+  public boolean hasPackage(String packageName) {
+    Object _parameters = packageName;
+    if (hasPackage_String_computed == null) hasPackage_String_computed = new java.util.HashMap(4);
+    if (hasPackage_String_values == null) hasPackage_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (hasPackage_String_values.containsKey(_parameters) && hasPackage_String_computed != null
+        && hasPackage_String_computed.containsKey(_parameters)
+        && (hasPackage_String_computed.get(_parameters) == ASTState.NON_CYCLE || hasPackage_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Program.hasPackage(String)", _parameters, hasPackage_String_values.get(_parameters));
+      return (Boolean) hasPackage_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Program.hasPackage(String)", _parameters, "");
+    boolean hasPackage_String_value = isPackage(packageName);
+    state().trace().computeEnd(this, "Program.hasPackage(String)", _parameters, hasPackage_String_value);
+    if (state().inCircle()) {
+      hasPackage_String_values.put(_parameters, hasPackage_String_value);
+      hasPackage_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Program.hasPackage(String)", _parameters, hasPackage_String_value);
+    } else {
+      hasPackage_String_values.put(_parameters, hasPackage_String_value);
+      hasPackage_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Program.hasPackage(String)", _parameters, hasPackage_String_value);
+    }
+    return hasPackage_String_value;
+  }
+  /** @apilevel internal */
+  private void lookupType_String_String_reset() {
+    lookupType_String_String_computed = new java.util.HashMap(4);
+    lookupType_String_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupType_String_String_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupType_String_String_computed;
+  /**
+   * Checks from-source compilation units for the given type.
+   * If no matching compilation unit is found the library compliation units
+   * will be searched.
+   * @attribute syn
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:149
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:149")
+  public TypeDecl lookupType(String packageName, String typeName) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(packageName);
+    _parameters.add(typeName);
+    if (lookupType_String_String_computed == null) lookupType_String_String_computed = new java.util.HashMap(4);
+    if (lookupType_String_String_values == null) lookupType_String_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupType_String_String_values.containsKey(_parameters) && lookupType_String_String_computed != null
+        && lookupType_String_String_computed.containsKey(_parameters)
+        && (lookupType_String_String_computed.get(_parameters) == ASTState.NON_CYCLE || lookupType_String_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Program.lookupType(String,String)", _parameters, lookupType_String_String_values.get(_parameters));
+      return (TypeDecl) lookupType_String_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Program.lookupType(String,String)", _parameters, "");
+    TypeDecl lookupType_String_String_value = lookupType_compute(packageName, typeName);
+    state().trace().computeEnd(this, "Program.lookupType(String,String)", _parameters, lookupType_String_String_value);
+    if (state().inCircle()) {
+      lookupType_String_String_values.put(_parameters, lookupType_String_String_value);
+      lookupType_String_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Program.lookupType(String,String)", _parameters, lookupType_String_String_value);
+    } else {
+      lookupType_String_String_values.put(_parameters, lookupType_String_String_value);
+      lookupType_String_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Program.lookupType(String,String)", _parameters, lookupType_String_String_value);
+    }
+    return lookupType_String_String_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl lookupType_compute(String packageName, String typeName) {
+      // Look for a matching source type.
+      TypeDecl sourceType = lookupSourceType(packageName, typeName);
+      if (!sourceType.isUnknown()) {
+        return sourceType;
+      }
+  
+      // Look for a matching library type.
+      return lookupLibraryType(packageName, typeName);
+    }
+  /** @apilevel internal */
+  private void getLibCompilationUnit_String_reset() {
+    getLibCompilationUnit_String_values = null;
+    getLibCompilationUnit_String_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode getLibCompilationUnit_String_proxy;
+  /** @apilevel internal */
+  protected java.util.Map getLibCompilationUnit_String_values;
+
+  /**
+   * This attribute is used to cache library compilation units, by storing the compilation units in
+   * a parameterized NTA.
+   * @attribute syn
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:394
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:394")
+  public CompilationUnit getLibCompilationUnit(String typeName) {
+    Object _parameters = typeName;
+    if (getLibCompilationUnit_String_values == null) getLibCompilationUnit_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (getLibCompilationUnit_String_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "Program.getLibCompilationUnit(String)", _parameters, getLibCompilationUnit_String_values.get(_parameters));
+      return (CompilationUnit) getLibCompilationUnit_String_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "Program.getLibCompilationUnit(String)", _parameters, "");
+    CompilationUnit getLibCompilationUnit_String_value = getCompilationUnit(typeName);
+    state().trace().computeEnd(this, "Program.getLibCompilationUnit(String)", _parameters, getLibCompilationUnit_String_value);
+    if (getLibCompilationUnit_String_proxy == null) {
+      getLibCompilationUnit_String_proxy = new ASTNode();
+      getLibCompilationUnit_String_proxy.setParent(this);
+    }
+    if (getLibCompilationUnit_String_value != null) {
+      getLibCompilationUnit_String_value.setParent(getLibCompilationUnit_String_proxy);
+      if (getLibCompilationUnit_String_value.mayHaveRewrite()) {
+        getLibCompilationUnit_String_value = (CompilationUnit) getLibCompilationUnit_String_value.rewrittenNode();
+        getLibCompilationUnit_String_value.setParent(getLibCompilationUnit_String_proxy);
+      }
+    }
+    getLibCompilationUnit_String_values.put(_parameters, getLibCompilationUnit_String_value);
+    state().trace().cacheWrite(this, "Program.getLibCompilationUnit(String)", _parameters, getLibCompilationUnit_String_value);
+    state().leaveLazyAttribute();
+    return getLibCompilationUnit_String_value;
+  }
+  /** @apilevel internal */
+  private void emptyCompilationUnit_reset() {
+    emptyCompilationUnit_computed = false;
+    
+    emptyCompilationUnit_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean emptyCompilationUnit_computed = false;
+
+  /** @apilevel internal */
+  protected CompilationUnit emptyCompilationUnit_value;
+
+  /**
+   * @attribute syn
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:397
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:397")
+  public CompilationUnit emptyCompilationUnit() {
+    ASTState state = state();
+    if (emptyCompilationUnit_computed) {
+      state().trace().cacheRead(this, "Program.emptyCompilationUnit()", "", emptyCompilationUnit_value);
+      return emptyCompilationUnit_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "Program.emptyCompilationUnit()", "", "");
+    emptyCompilationUnit_value = new CompilationUnit();
+    state().trace().computeEnd(this, "Program.emptyCompilationUnit()", "", emptyCompilationUnit_value);
+    emptyCompilationUnit_value.setParent(this);
+    emptyCompilationUnit_computed = true;
+    state().trace().cacheWrite(this, "Program.emptyCompilationUnit()", "", emptyCompilationUnit_value);
+    state().leaveLazyAttribute();
+    return emptyCompilationUnit_value;
+  }
+  /** @apilevel internal */
+  private void getPrimitiveCompilationUnit_reset() {
+    getPrimitiveCompilationUnit_computed = false;
+    
+    getPrimitiveCompilationUnit_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean getPrimitiveCompilationUnit_computed = false;
+
+  /** @apilevel internal */
+  protected PrimitiveCompilationUnit getPrimitiveCompilationUnit_value;
+
+  /** Creates a compilation unit with primitive types. 
+   * @attribute syn
+   * @aspect PrimitiveTypes
+   * @declaredat /root/project/java4/frontend/PrimitiveTypes.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="PrimitiveTypes", declaredAt="/root/project/java4/frontend/PrimitiveTypes.jrag:145")
+  public PrimitiveCompilationUnit getPrimitiveCompilationUnit() {
+    ASTState state = state();
+    if (getPrimitiveCompilationUnit_computed) {
+      state().trace().cacheRead(this, "Program.getPrimitiveCompilationUnit()", "", getPrimitiveCompilationUnit_value);
+      return getPrimitiveCompilationUnit_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "Program.getPrimitiveCompilationUnit()", "", "");
+    getPrimitiveCompilationUnit_value = getPrimitiveCompilationUnit_compute();
+    state().trace().computeEnd(this, "Program.getPrimitiveCompilationUnit()", "", getPrimitiveCompilationUnit_value);
+    getPrimitiveCompilationUnit_value.setParent(this);
+    getPrimitiveCompilationUnit_computed = true;
+    state().trace().cacheWrite(this, "Program.getPrimitiveCompilationUnit()", "", getPrimitiveCompilationUnit_value);
+    state().leaveLazyAttribute();
+    return getPrimitiveCompilationUnit_value;
+  }
+  /** @apilevel internal */
+  private PrimitiveCompilationUnit getPrimitiveCompilationUnit_compute() {
+      PrimitiveCompilationUnit u = new PrimitiveCompilationUnit();
+      u.setPackageDecl(PRIMITIVE_PACKAGE_NAME);
+      return u;
+    }
+  /** @apilevel internal */
+  private void unknownConstructor_reset() {
+    unknownConstructor_computed = null;
+    unknownConstructor_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle unknownConstructor_computed = null;
+
+  /** @apilevel internal */
+  protected ConstructorDecl unknownConstructor_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:263
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:263")
+  public ConstructorDecl unknownConstructor() {
+    ASTState state = state();
+    if (unknownConstructor_computed == ASTState.NON_CYCLE || unknownConstructor_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Program.unknownConstructor()", "", unknownConstructor_value);
+      return unknownConstructor_value;
+    }
+    state().trace().computeBegin(this, "Program.unknownConstructor()", "", "");
+    unknownConstructor_value = unknownType().constructors().iterator().next();
+    state().trace().computeEnd(this, "Program.unknownConstructor()", "", unknownConstructor_value);
+    if (state().inCircle()) {
+      unknownConstructor_computed = state().cycle();
+      state().trace().cacheWrite(this, "Program.unknownConstructor()", "", unknownConstructor_value);
+    } else {
+      unknownConstructor_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Program.unknownConstructor()", "", unknownConstructor_value);
+    }
+    return unknownConstructor_value;
+  }
+  /** @apilevel internal */
+  private void wildcards_reset() {
+    wildcards_computed = false;
+    
+    wildcards_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean wildcards_computed = false;
+
+  /** @apilevel internal */
+  protected WildcardsCompilationUnit wildcards_value;
+
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1740
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1740")
+  public WildcardsCompilationUnit wildcards() {
+    ASTState state = state();
+    if (wildcards_computed) {
+      state().trace().cacheRead(this, "Program.wildcards()", "", wildcards_value);
+      return wildcards_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "Program.wildcards()", "", "");
+    wildcards_value = new WildcardsCompilationUnit(
+              "wildcards",
+              new List(),
+              new List());
+    state().trace().computeEnd(this, "Program.wildcards()", "", wildcards_value);
+    wildcards_value.setParent(this);
+    wildcards_computed = true;
+    state().trace().cacheWrite(this, "Program.wildcards()", "", wildcards_value);
+    state().leaveLazyAttribute();
+    return wildcards_value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/AnonymousClasses.jrag:33
+   * @apilevel internal
+   */
+  public TypeDecl Define_superType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_superType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/AnonymousClasses.jrag:39
+   * @apilevel internal
+   */
+  public ConstructorDecl Define_constructorDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unknownConstructor();
+  }
+  protected boolean canDefine_constructorDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:56
+   * @apilevel internal
+   */
+  public TypeDecl Define_componentType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unknownType();
+  }
+  protected boolean canDefine_componentType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:255
+   * @apilevel internal
+   */
+  public LabeledStmt Define_lookupLabel(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_lookupLabel(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ClassPath.jrag:114
+   * @apilevel internal
+   */
+  public CompilationUnit Define_compilationUnit(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_compilationUnit(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:35
+   * @apilevel internal
+   */
+  public int Define_blockIndex(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return -1;
+  }
+  protected boolean canDefine_blockIndex(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:58
+   * @apilevel internal
+   */
+  public boolean Define_declaredBefore(ASTNode _callerNode, ASTNode _childNode, Variable decl) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_declaredBefore(ASTNode _callerNode, ASTNode _childNode, Variable decl) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:34
+   * @apilevel internal
+   */
+  public boolean Define_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:44
+   * @apilevel internal
+   */
+  public boolean Define_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return true;
+  }
+  protected boolean canDefine_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:66
+   * @apilevel internal
+   */
+  public boolean Define_isIncOrDec(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isIncOrDec(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return true;
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:47
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeException(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return lookupType("java.lang", "Exception");
+  }
+  protected boolean canDefine_typeException(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/TryWithResources.jrag:122
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeRuntimeException(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return lookupType("java.lang", "RuntimeException");
+  }
+  protected boolean canDefine_typeRuntimeException(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/TryWithResources.jrag:120
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeError(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return lookupType("java.lang", "Error");
+  }
+  protected boolean canDefine_typeError(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:56
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeNullPointerException(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return lookupType("java.lang", "NullPointerException");
+  }
+  protected boolean canDefine_typeNullPointerException(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:100
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeThrowable(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return lookupType("java.lang", "Throwable");
+  }
+  protected boolean canDefine_typeThrowable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/TryWithResources.jrag:112
+   * @apilevel internal
+   */
+  public boolean Define_handlesException(ASTNode _callerNode, ASTNode _childNode, TypeDecl exceptionType) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new Error("Operation handlesException not supported");
+      }
+  }
+  protected boolean canDefine_handlesException(ASTNode _callerNode, ASTNode _childNode, TypeDecl exceptionType) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:35
+   * @apilevel internal
+   */
+  public Collection<ConstructorDecl> Define_lookupConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return Collections.emptyList();
+  }
+  protected boolean canDefine_lookupConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:43
+   * @apilevel internal
+   */
+  public Collection<ConstructorDecl> Define_lookupSuperConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return Collections.emptyList();
+  }
+  protected boolean canDefine_lookupSuperConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:98
+   * @apilevel internal
+   */
+  public Expr Define_nestedScope(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new UnsupportedOperationException(
+            "Can not evaluate nestedScope() on unqualified access.");
+      }
+  }
+  protected boolean canDefine_nestedScope(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:116
+   * @apilevel internal
+   */
+  public Collection<MethodDecl> Define_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return Collections.EMPTY_LIST;
+  }
+  protected boolean canDefine_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1301
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeObject(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeObject();
+  }
+  protected boolean canDefine_typeObject(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:151
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeCloneable(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeCloneable();
+  }
+  protected boolean canDefine_typeCloneable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:150
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeSerializable(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeSerializable();
+  }
+  protected boolean canDefine_typeSerializable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:81
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeBoolean(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeBoolean();
+  }
+  protected boolean canDefine_typeBoolean(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:82
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeByte(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeByte();
+  }
+  protected boolean canDefine_typeByte(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:83
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeShort(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeShort();
+  }
+  protected boolean canDefine_typeShort(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:84
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeChar(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeChar();
+  }
+  protected boolean canDefine_typeChar(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:93
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeInt(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeInt();
+  }
+  protected boolean canDefine_typeInt(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:95
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeLong(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeLong();
+  }
+  protected boolean canDefine_typeLong(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:87
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeFloat(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeFloat();
+  }
+  protected boolean canDefine_typeFloat(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:88
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeDouble(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeDouble();
+  }
+  protected boolean canDefine_typeDouble(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Enums.jrag:538
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeString(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeString();
+  }
+  protected boolean canDefine_typeString(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:90
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeVoid(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeVoid();
+  }
+  protected boolean canDefine_typeVoid(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1320
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeNull(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeNull();
+  }
+  protected boolean canDefine_typeNull(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:32
+   * @apilevel internal
+   */
+  public TypeDecl Define_unknownType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unknownType();
+  }
+  protected boolean canDefine_unknownType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:116
+   * @apilevel internal
+   */
+  public boolean Define_hasPackage(ASTNode _callerNode, ASTNode _childNode, String packageName) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return hasPackage(packageName);
+  }
+  protected boolean canDefine_hasPackage(ASTNode _callerNode, ASTNode _childNode, String packageName) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/TryWithResources.jrag:40
+   * @apilevel internal
+   */
+  public TypeDecl Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String packageName, String typeName) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return lookupType(packageName, typeName);
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String packageName, String typeName) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:231
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return emptySet();
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return emptySet();
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:430
+   * @apilevel internal
+   */
+  public boolean Define_mayBePublic(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBePublic(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:432
+   * @apilevel internal
+   */
+  public boolean Define_mayBeProtected(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeProtected(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:431
+   * @apilevel internal
+   */
+  public boolean Define_mayBePrivate(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBePrivate(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:433
+   * @apilevel internal
+   */
+  public boolean Define_mayBeStatic(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeStatic(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:434
+   * @apilevel internal
+   */
+  public boolean Define_mayBeFinal(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeFinal(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:435
+   * @apilevel internal
+   */
+  public boolean Define_mayBeAbstract(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeAbstract(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:436
+   * @apilevel internal
+   */
+  public boolean Define_mayBeVolatile(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeVolatile(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:437
+   * @apilevel internal
+   */
+  public boolean Define_mayBeTransient(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeTransient(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:438
+   * @apilevel internal
+   */
+  public boolean Define_mayBeStrictfp(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeStrictfp(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:439
+   * @apilevel internal
+   */
+  public boolean Define_mayBeSynchronized(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeSynchronized(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:440
+   * @apilevel internal
+   */
+  public boolean Define_mayBeNative(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayBeNative(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:378
+   * @apilevel internal
+   */
+  public BodyDecl Define_enclosingMemberDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_enclosingMemberDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:31
+   * @apilevel internal
+   */
+  public VariableScope Define_outerScope(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new UnsupportedOperationException("outerScope() not defined");
+      }
+  }
+  protected boolean canDefine_outerScope(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:525
+   * @apilevel internal
+   */
+  public boolean Define_insideLoop(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_insideLoop(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:533
+   * @apilevel internal
+   */
+  public boolean Define_insideSwitch(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_insideSwitch(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:594
+   * @apilevel internal
+   */
+  public Case Define_previousCase(ASTNode _callerNode, ASTNode _childNode, Case c) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new Error("Missing enclosing switch for case label.");
+      }
+  }
+  protected boolean canDefine_previousCase(ASTNode _callerNode, ASTNode _childNode, Case c) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/VerificationTypes.jrag:35
+   * @apilevel internal
+   */
+  public Program Define_program(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return this;
+  }
+  protected boolean canDefine_program(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return NameType.NOT_CLASSIFIED;
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:231
+   * @apilevel internal
+   */
+  public boolean Define_isAnonymous(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isAnonymous(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:386
+   * @apilevel internal
+   */
+  public Variable Define_unknownField(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unknownType().findSingleVariable("unknown");
+  }
+  protected boolean canDefine_unknownField(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/MethodReference.jrag:31
+   * @apilevel internal
+   */
+  public MethodDecl Define_unknownMethod(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        for (MethodDecl m : unknownType().memberMethods("unknown")) {
+          return m;
+        }
+        throw new Error("Could not find method unknown in type Unknown");
+      }
+  }
+  protected boolean canDefine_unknownMethod(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/ConstructorReference.jrag:30
+   * @apilevel internal
+   */
+  public ConstructorDecl Define_unknownConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unknownConstructor();
+  }
+  protected boolean canDefine_unknownConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:723
+   * @apilevel internal
+   */
+  public TypeDecl Define_declType(ASTNode _callerNode, ASTNode _childNode) {
+    int i = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_declType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:30
+   * @apilevel internal
+   */
+  public BodyDecl Define_enclosingBodyDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_enclosingBodyDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:627
+   * @apilevel internal
+   */
+  public boolean Define_isMemberType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isMemberType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/MultiCatch.jrag:76
+   * @apilevel internal
+   */
+  public TypeDecl Define_hostType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_hostType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:485
+   * @apilevel internal
+   */
+  public TypeDecl Define_switchType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unknownType();
+  }
+  protected boolean canDefine_switchType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:537
+   * @apilevel internal
+   */
+  public TypeDecl Define_returnType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeVoid();
+  }
+  protected boolean canDefine_returnType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:672
+   * @apilevel internal
+   */
+  public TypeDecl Define_enclosingInstance(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_enclosingInstance(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:33
+   * @apilevel internal
+   */
+  public String Define_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new Error("Needs extra equation for methodHost()");
+      }
+  }
+  protected boolean canDefine_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:204
+   * @apilevel internal
+   */
+  public boolean Define_inExplicitConstructorInvocation(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inExplicitConstructorInvocation(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:212
+   * @apilevel internal
+   */
+  public TypeDecl Define_enclosingExplicitConstructorHostType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_enclosingExplicitConstructorHostType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:223
+   * @apilevel internal
+   */
+  public boolean Define_inStaticContext(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inStaticContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:280
+   * @apilevel internal
+   */
+  public boolean Define_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return true;
+  }
+  protected boolean canDefine_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/MultiCatch.jrag:44
+   * @apilevel internal
+   */
+  public boolean Define_isMethodParameter(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isMethodParameter(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/MultiCatch.jrag:45
+   * @apilevel internal
+   */
+  public boolean Define_isConstructorParameter(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isConstructorParameter(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/MultiCatch.jrag:46
+   * @apilevel internal
+   */
+  public boolean Define_isExceptionHandlerParameter(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isExceptionHandlerParameter(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:71
+   * @apilevel internal
+   */
+  public int Define_variableScopeEndLabel(ASTNode _callerNode, ASTNode _childNode, CodeGeneration gen) {
+    int i = this.getIndexOfChild(_callerNode);
+    {
+        throw new Error("variableScopeEndLabel not valid from here");
+      }
+  }
+  protected boolean canDefine_variableScopeEndLabel(ASTNode _callerNode, ASTNode _childNode, CodeGeneration gen) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:104
+   * @apilevel internal
+   */
+  public TypeDecl Define_expectedType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_expectedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:431
+   * @apilevel internal
+   */
+  public ClassInstanceExpr Define_classInstanceExpression(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new Error("Missing enclosing class instance.");
+      }
+  }
+  protected boolean canDefine_classInstanceExpression(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/backend/MultiCatch.jrag:53
+   * @apilevel internal
+   */
+  public int Define_localNum(ASTNode _callerNode, ASTNode _childNode) {
+    int index = this.getIndexOfChild(_callerNode);
+    return 0;
+  }
+  protected boolean canDefine_localNum(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/LocalNum.jrag:100
+   * @apilevel internal
+   */
+  public int Define_resultSaveLocalNum(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        throw new Error("Unsupported operation resultSaveLocalNum");
+      }
+  }
+  protected boolean canDefine_resultSaveLocalNum(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:131
+   * @apilevel internal
+   */
+  public boolean Define_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:278
+   * @apilevel internal
+   */
+  public ElementValue Define_lookupElementTypeValue(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_lookupElementTypeValue(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/SuppressWarnings.jrag:37
+   * @apilevel internal
+   */
+  public boolean Define_withinSuppressWarnings(ASTNode _callerNode, ASTNode _childNode, String annot) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_withinSuppressWarnings(ASTNode _callerNode, ASTNode _childNode, String annot) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:533
+   * @apilevel internal
+   */
+  public boolean Define_withinDeprecatedAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_withinDeprecatedAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:604
+   * @apilevel internal
+   */
+  public Annotation Define_lookupAnnotation(ASTNode _callerNode, ASTNode _childNode, TypeDecl typeDecl) {
+    int i = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_lookupAnnotation(ASTNode _callerNode, ASTNode _childNode, TypeDecl typeDecl) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:648
+   * @apilevel internal
+   */
+  public TypeDecl Define_enclosingAnnotationDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return unknownType();
+  }
+  protected boolean canDefine_enclosingAnnotationDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:39
+   * @apilevel internal
+   */
+  public TypeDecl Define_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeNull();
+  }
+  protected boolean canDefine_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:383
+   * @apilevel internal
+   */
+  public boolean Define_inExtendsOrImplements(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inExtendsOrImplements(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1404
+   * @apilevel internal
+   */
+  public FieldDecl Define_fieldDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_fieldDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1761
+   * @apilevel internal
+   */
+  public TypeDecl Define_typeWildcard(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return wildcards().typeWildcard();
+  }
+  protected boolean canDefine_typeWildcard(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1760
+   * @apilevel internal
+   */
+  public TypeDecl Define_lookupWildcardExtends(ASTNode _callerNode, ASTNode _childNode, TypeDecl typeDecl) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return wildcards().lookupWildcardExtends(typeDecl);
+  }
+  protected boolean canDefine_lookupWildcardExtends(ASTNode _callerNode, ASTNode _childNode, TypeDecl typeDecl) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1759
+   * @apilevel internal
+   */
+  public TypeDecl Define_lookupWildcardSuper(ASTNode _callerNode, ASTNode _childNode, TypeDecl typeDecl) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return wildcards().lookupWildcardSuper(typeDecl);
+  }
+  protected boolean canDefine_lookupWildcardSuper(ASTNode _callerNode, ASTNode _childNode, TypeDecl typeDecl) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/MultiCatch.jrag:210
+   * @apilevel internal
+   */
+  public LUBType Define_lookupLUBType(ASTNode _callerNode, ASTNode _childNode, Collection<TypeDecl> bounds) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return wildcards().lookupLUBType(bounds);
+  }
+  protected boolean canDefine_lookupLUBType(ASTNode _callerNode, ASTNode _childNode, Collection<TypeDecl> bounds) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1861
+   * @apilevel internal
+   */
+  public GLBType Define_lookupGLBType(ASTNode _callerNode, ASTNode _childNode, Collection<TypeDecl> bounds) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return wildcards().lookupGLBType(bounds);
+  }
+  protected boolean canDefine_lookupGLBType(ASTNode _callerNode, ASTNode _childNode, Collection<TypeDecl> bounds) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:74
+   * @apilevel internal
+   */
+  public TypeDecl Define_genericDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_genericDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/VariableArityParameters.jrag:46
+   * @apilevel internal
+   */
+  public boolean Define_variableArityValid(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_variableArityValid(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:99
+   * @apilevel internal
+   */
+  public ClassInstanceExpr Define_getClassInstanceExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_getClassInstanceExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:284
+   * @apilevel internal
+   */
+  public boolean Define_isAnonymousDecl(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isAnonymousDecl(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:300
+   * @apilevel internal
+   */
+  public boolean Define_isExplicitGenericConstructorAccess(ASTNode _callerNode, ASTNode _childNode) {
+    int i = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isExplicitGenericConstructorAccess(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:202
+   * @apilevel internal
+   */
+  public boolean Define_isCatchParam(ASTNode _callerNode, ASTNode _childNode) {
+    int i = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isCatchParam(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:209
+   * @apilevel internal
+   */
+  public CatchClause Define_catchClause(ASTNode _callerNode, ASTNode _childNode) {
+    int i = this.getIndexOfChild(_callerNode);
+    {
+        throw new IllegalStateException("Could not find parent " + "catch clause");
+      }
+  }
+  protected boolean canDefine_catchClause(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/TryWithResources.jrag:178
+   * @apilevel internal
+   */
+  public boolean Define_resourcePreviouslyDeclared(ASTNode _callerNode, ASTNode _childNode, String name) {
+    int i = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_resourcePreviouslyDeclared(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   * @apilevel internal
+   */
+  public TypeDecl Define_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeNull();
+  }
+  protected boolean canDefine_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+}
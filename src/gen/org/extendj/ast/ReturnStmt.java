@@ -0,0 +1,1075 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:353
+ * @production ReturnStmt : {@link Stmt} ::= <span class="component">[Result:{@link Expr}]</span> <span class="component">[Finally:{@link Block}]</span>;
+
+ */
+public class ReturnStmt extends Stmt implements Cloneable {
+  /**
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:108
+   */
+  public void collectBranches(Collection<Stmt> c) {
+    c.add(this);
+  }
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:76
+   */
+  public ReturnStmt(Expr expr) {
+    this(new Opt(expr));
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:539
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("return");
+    if (hasResult()) {
+      out.print(" ");
+      out.print(getResult());
+    }
+    out.print(";");
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1774
+   */
+  public void createBCode(CodeGeneration gen) {
+    super.createBCode(gen);
+    if (hasResult()) {
+      TypeDecl type = null;
+      BodyDecl b = enclosingBodyDecl();
+      if (b instanceof MethodDecl) {
+        type = ((MethodDecl) b).type();
+      } else {
+        throw new Error("Can not create code that returns value within non method");
+      }
+      getResult().createBCode(gen);
+      getResult().emitCastTo(gen, type);
+      if (hasFinally()) {
+        int nextRange = gen.constantPool().newLabel();
+        type.emitStoreLocal(gen, resultSaveLocalNum());
+        getFinally().createBCode(gen);
+        type.emitLoadLocal(gen, resultSaveLocalNum());
+        type.emitReturn(gen);
+        gen.addLabel(nextRange);
+        gen.monitorRangesStart(this, nextRange);
+      } else {
+        type.emitReturn(gen);
+      }
+    } else {
+      if (hasFinally()) {
+        int nextRange = gen.constantPool().newLabel();
+        getFinally().createBCode(gen);
+        gen.RETURN();
+        gen.addLabel(nextRange);
+        gen.monitorRangesStart(this, nextRange);
+      } else {
+        gen.RETURN();
+      }
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public ReturnStmt() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+    setChild(new Opt(), 0);
+    setChild(new Opt(), 1);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public ReturnStmt(Opt<Expr> p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    assignedAfter_Variable_reset();
+    unassignedAfterReachedFinallyBlocks_Variable_reset();
+    assignedAfterReachedFinallyBlocks_Variable_reset();
+    unassignedAfter_Variable_reset();
+    getFinallyOpt_reset();
+    canCompleteNormally_reset();
+    resultSaveLocalNum_reset();
+    enclosingLambda_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:41
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:45
+   */
+  public ReturnStmt clone() throws CloneNotSupportedException {
+    ReturnStmt node = (ReturnStmt) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:50
+   */
+  public ReturnStmt copy() {
+    try {
+      ReturnStmt node = (ReturnStmt) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:69
+   */
+  @Deprecated
+  public ReturnStmt fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:79
+   */
+  public ReturnStmt treeCopyNoTransform() {
+    ReturnStmt tree = (ReturnStmt) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 1:
+          tree.children[i] = new Opt();
+          continue;
+        }
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:104
+   */
+  public ReturnStmt treeCopy() {
+    ReturnStmt tree = (ReturnStmt) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 1:
+          tree.children[i] = new Opt();
+          continue;
+        }
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:123
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the optional node for the Result child. This is the <code>Opt</code>
+   * node containing the child Result, not the actual child!
+   * @param opt The new node to be used as the optional node for the Result child.
+   * @apilevel low-level
+   */
+  public void setResultOpt(Opt<Expr> opt) {
+    setChild(opt, 0);
+  }
+  /**
+   * Replaces the (optional) Result child.
+   * @param node The new node to be used as the Result child.
+   * @apilevel high-level
+   */
+  public void setResult(Expr node) {
+    getResultOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional Result child exists.
+   * @return {@code true} if the optional Result child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasResult() {
+    return getResultOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) Result child.
+   * @return The Result child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Expr getResult() {
+    return (Expr) getResultOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the Result child. This is the <code>Opt</code> node containing the child Result, not the actual child!
+   * @return The optional node for child the Result child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="Result")
+  public Opt<Expr> getResultOpt() {
+    return (Opt<Expr>) getChild(0);
+  }
+  /**
+   * Retrieves the optional node for child Result. This is the <code>Opt</code> node containing the child Result, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child Result.
+   * @apilevel low-level
+   */
+  public Opt<Expr> getResultOptNoTransform() {
+    return (Opt<Expr>) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the (optional) Finally child.
+   * @param node The new node to be used as the Finally child.
+   * @apilevel high-level
+   */
+  public void setFinally(Block node) {
+    getFinallyOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional Finally child exists.
+   * @return {@code true} if the optional Finally child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasFinally() {
+    return getFinallyOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) Finally child.
+   * @return The Finally child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Block getFinally() {
+    return (Block) getFinallyOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for child Finally. This is the <code>Opt</code> node containing the child Finally, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child Finally.
+   * @apilevel low-level
+   */
+  public Opt<Block> getFinallyOptNoTransform() {
+    return (Opt<Block>) getChildNoTransform(1);
+  }
+  /**
+   * Retrieves the child position of the optional child Finally.
+   * @return The the child position of the optional child Finally.
+   * @apilevel low-level
+   */
+  protected int getFinallyOptChildPosition() {
+    return 1;
+  }
+  /** @apilevel internal */
+  private void assignedAfter_Variable_reset() {
+    assignedAfter_Variable_values = null;
+  }
+  protected java.util.Map assignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:264")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    if (assignedAfter_Variable_values == null) assignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.assignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+        new_assignedAfter_Variable_value = true;
+        state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+        if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfter_Variable_values.put(_parameters, new_assignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+      boolean new_assignedAfter_Variable_value = true;
+      state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfter_Variable_value;
+      }
+      return new_assignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfterReachedFinallyBlocks_Variable_reset() {
+    unassignedAfterReachedFinallyBlocks_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfterReachedFinallyBlocks_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1279")
+  public boolean unassignedAfterReachedFinallyBlocks(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfterReachedFinallyBlocks_Variable_values == null) unassignedAfterReachedFinallyBlocks_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfterReachedFinallyBlocks_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfterReachedFinallyBlocks_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ReturnStmt.unassignedAfterReachedFinallyBlocks(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfterReachedFinallyBlocks_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfterReachedFinallyBlocks_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ReturnStmt.unassignedAfterReachedFinallyBlocks(Variable)", _parameters, "");
+        new_unassignedAfterReachedFinallyBlocks_Variable_value = unassignedAfterReachedFinallyBlocks_compute(v);
+        state().trace().computeEnd(this, "ReturnStmt.unassignedAfterReachedFinallyBlocks(Variable)", _parameters, _value.value);
+        if (new_unassignedAfterReachedFinallyBlocks_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfterReachedFinallyBlocks_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfterReachedFinallyBlocks_Variable_values.put(_parameters, new_unassignedAfterReachedFinallyBlocks_Variable_value);
+      state().trace().cacheWrite(this, "ReturnStmt.unassignedAfterReachedFinallyBlocks(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfterReachedFinallyBlocks_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ReturnStmt.unassignedAfterReachedFinallyBlocks(Variable)", _parameters, "");
+      boolean new_unassignedAfterReachedFinallyBlocks_Variable_value = unassignedAfterReachedFinallyBlocks_compute(v);
+      state().trace().computeEnd(this, "ReturnStmt.unassignedAfterReachedFinallyBlocks(Variable)", _parameters, _value.value);
+      if (new_unassignedAfterReachedFinallyBlocks_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfterReachedFinallyBlocks_Variable_value;
+      }
+      return new_unassignedAfterReachedFinallyBlocks_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean unassignedAfterReachedFinallyBlocks_compute(Variable v) {
+      Iterator<FinallyHost> iter = finallyIterator();
+      if (!unassignedBefore(v) && !iter.hasNext()) {
+        return false;
+      }
+      while (iter.hasNext()) {
+        FinallyHost f = iter.next();
+        if (!f.unassignedAfterFinally(v)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void assignedAfterReachedFinallyBlocks_Variable_reset() {
+    assignedAfterReachedFinallyBlocks_Variable_values = null;
+  }
+  protected java.util.Map assignedAfterReachedFinallyBlocks_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:1327")
+  public boolean assignedAfterReachedFinallyBlocks(Variable v) {
+    Object _parameters = v;
+    if (assignedAfterReachedFinallyBlocks_Variable_values == null) assignedAfterReachedFinallyBlocks_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfterReachedFinallyBlocks_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfterReachedFinallyBlocks_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "ReturnStmt.assignedAfterReachedFinallyBlocks(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfterReachedFinallyBlocks_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfterReachedFinallyBlocks_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "ReturnStmt.assignedAfterReachedFinallyBlocks(Variable)", _parameters, "");
+        new_assignedAfterReachedFinallyBlocks_Variable_value = assignedAfterReachedFinallyBlocks_compute(v);
+        state().trace().computeEnd(this, "ReturnStmt.assignedAfterReachedFinallyBlocks(Variable)", _parameters, _value.value);
+        if (new_assignedAfterReachedFinallyBlocks_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfterReachedFinallyBlocks_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfterReachedFinallyBlocks_Variable_values.put(_parameters, new_assignedAfterReachedFinallyBlocks_Variable_value);
+      state().trace().cacheWrite(this, "ReturnStmt.assignedAfterReachedFinallyBlocks(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfterReachedFinallyBlocks_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "ReturnStmt.assignedAfterReachedFinallyBlocks(Variable)", _parameters, "");
+      boolean new_assignedAfterReachedFinallyBlocks_Variable_value = assignedAfterReachedFinallyBlocks_compute(v);
+      state().trace().computeEnd(this, "ReturnStmt.assignedAfterReachedFinallyBlocks(Variable)", _parameters, _value.value);
+      if (new_assignedAfterReachedFinallyBlocks_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfterReachedFinallyBlocks_Variable_value;
+      }
+      return new_assignedAfterReachedFinallyBlocks_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean assignedAfterReachedFinallyBlocks_compute(Variable v) {
+      if (hasResult() ? getResult().assignedAfter(v) : assignedBefore(v)) {
+        return true;
+      }
+      Iterator<FinallyHost> iter = finallyIterator();
+      if (!iter.hasNext()) {
+        return false;
+      }
+      while (iter.hasNext()) {
+        FinallyHost f = iter.next();
+        if (!f.assignedAfterFinally(v)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:895")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = true;
+        state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = true;
+      state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void getFinallyOpt_reset() {
+    getFinallyOpt_computed = false;
+    
+    getFinallyOpt_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean getFinallyOpt_computed = false;
+
+  /** @apilevel internal */
+  protected Opt<Block> getFinallyOpt_value;
+
+  /**
+   * @attribute syn nta
+   * @aspect NTAFinally
+   * @declaredat /root/project/java4/frontend/NTAFinally.jrag:54
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="NTAFinally", declaredAt="/root/project/java4/frontend/NTAFinally.jrag:54")
+  public Opt<Block> getFinallyOpt() {
+    ASTState state = state();
+    if (getFinallyOpt_computed) {
+      state().trace().cacheRead(this, "ReturnStmt.getFinallyOpt()", "", getFinallyOpt_value);
+      return (Opt<Block>) getChild(getFinallyOptChildPosition());
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "ReturnStmt.getFinallyOpt()", "", "");
+    getFinallyOpt_value = getFinallyOpt_compute();
+    state().trace().computeEnd(this, "ReturnStmt.getFinallyOpt()", "", getFinallyOpt_value);
+    setChild(getFinallyOpt_value, getFinallyOptChildPosition());
+    getFinallyOpt_computed = true;
+    state().trace().cacheWrite(this, "ReturnStmt.getFinallyOpt()", "", getFinallyOpt_value);
+    state().leaveLazyAttribute();
+    Opt<Block> node = (Opt<Block>) this.getChild(getFinallyOptChildPosition());
+    return node;
+  }
+  /** @apilevel internal */
+  private Opt<Block> getFinallyOpt_compute() {
+      return branchFinallyOpt();
+    }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:544
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:544")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "ReturnStmt.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (enclosingLambda() == null || enclosingLambda().hostType() != hostType()) {
+          if (hasResult() && !returnType().isVoid()) {
+            TypeDecl resultType = getResult().type();
+            if (!resultType.isUnknown()
+                && !resultType.assignConversionTo(returnType(), getResult())) {
+              problems.add(errorf("return value must be an instance of %s which %s is not",
+                  returnType().typeName(), resultType.typeName()));
+            }
+          }
+          // 8.4.5 8.8.5
+          if (returnType().isVoid() && hasResult()) {
+            problems.add(error("return statement may not have an expression in void methods"));
+          }
+          // 8.4.5
+          if (!returnType().isVoid() && !hasResult()) {
+            problems.add(error("return statement must have an expression in non void methods"));
+          }
+          if (enclosingBodyDecl() instanceof InstanceInitializer
+              || enclosingBodyDecl() instanceof StaticInitializer) {
+            problems.add(error("Initializers may not return"));
+          }
+        } else {
+          if (hasResult() && !returnType().isVoid() && !(getResult() instanceof LambdaExpr)) {
+            TypeDecl resultType = getResult().type();
+            if (!resultType.isUnknown()
+                && !resultType.assignConversionTo(returnType(), getResult())) {
+              problems.add(errorf("return value must be an instance of %s which %s is not",
+                  returnType().typeName(), resultType.typeName()));
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "ReturnStmt.typeProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void canCompleteNormally_reset() {
+    canCompleteNormally_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle canCompleteNormally_computed = null;
+
+  /** @apilevel internal */
+  protected boolean canCompleteNormally_value;
+
+  /**
+   * @attribute syn
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:50")
+  public boolean canCompleteNormally() {
+    ASTState state = state();
+    if (canCompleteNormally_computed == ASTState.NON_CYCLE || canCompleteNormally_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+      return canCompleteNormally_value;
+    }
+    state().trace().computeBegin(this, "Stmt.canCompleteNormally()", "", "");
+    canCompleteNormally_value = false;
+    state().trace().computeEnd(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    if (state().inCircle()) {
+      canCompleteNormally_computed = state().cycle();
+      state().trace().cacheWrite(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    } else {
+      canCompleteNormally_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    }
+    return canCompleteNormally_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CodeGeneration", declaredAt="/root/project/java4/backend/CodeGeneration.jrag:38")
+  public int sourceLineNumber() {
+    state().trace().computeBegin(this, "ASTNode.sourceLineNumber()", "", "");
+    try {
+        int num = super.sourceLineNumber();
+        if (num != -1) {
+          return num;
+        }
+        if (hasResult()) {
+          num = getResult().findFirstSourceLineNumber();
+          if (num != -1) {
+            return num;
+          }
+        }
+        return getLine(getParent().getParent().getEnd());
+      }
+    finally {
+      state().trace().computeEnd(this, "ASTNode.sourceLineNumber()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:78")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Stmt.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = false;
+    state().trace().computeEnd(this, "Stmt.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:537
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:537")
+  public TypeDecl returnType() {
+    state().trace().computeBegin(this, "ReturnStmt.returnType()", "", "");
+    TypeDecl returnType_value = getParent().Define_returnType(this, null);
+    state().trace().computeEnd(this, "ReturnStmt.returnType()", "", returnType_value);
+    return returnType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LocalNum
+   * @declaredat /root/project/java4/backend/LocalNum.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LocalNum", declaredAt="/root/project/java4/backend/LocalNum.jrag:100")
+  public int resultSaveLocalNum() {
+    ASTState state = state();
+    if (resultSaveLocalNum_computed == ASTState.NON_CYCLE || resultSaveLocalNum_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ReturnStmt.resultSaveLocalNum()", "", resultSaveLocalNum_value);
+      return resultSaveLocalNum_value;
+    }
+    state().trace().computeBegin(this, "ReturnStmt.resultSaveLocalNum()", "", "");
+    resultSaveLocalNum_value = getParent().Define_resultSaveLocalNum(this, null);
+    state().trace().computeEnd(this, "ReturnStmt.resultSaveLocalNum()", "", resultSaveLocalNum_value);
+    if (state().inCircle()) {
+      resultSaveLocalNum_computed = state().cycle();
+      state().trace().cacheWrite(this, "ReturnStmt.resultSaveLocalNum()", "", resultSaveLocalNum_value);
+    } else {
+      resultSaveLocalNum_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ReturnStmt.resultSaveLocalNum()", "", resultSaveLocalNum_value);
+    }
+    return resultSaveLocalNum_value;
+  }
+  /** @apilevel internal */
+  private void resultSaveLocalNum_reset() {
+    resultSaveLocalNum_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle resultSaveLocalNum_computed = null;
+
+  /** @apilevel internal */
+  protected int resultSaveLocalNum_value;
+
+  /**
+   * @attribute inh
+   * @aspect EnclosingLambda
+   * @declaredat /root/project/java8/frontend/EnclosingLambda.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="EnclosingLambda", declaredAt="/root/project/java8/frontend/EnclosingLambda.jrag:33")
+  public LambdaExpr enclosingLambda() {
+    ASTState state = state();
+    if (enclosingLambda_computed == ASTState.NON_CYCLE || enclosingLambda_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ReturnStmt.enclosingLambda()", "", enclosingLambda_value);
+      return enclosingLambda_value;
+    }
+    state().trace().computeBegin(this, "ReturnStmt.enclosingLambda()", "", "");
+    enclosingLambda_value = getParent().Define_enclosingLambda(this, null);
+    state().trace().computeEnd(this, "ReturnStmt.enclosingLambda()", "", enclosingLambda_value);
+    if (state().inCircle()) {
+      enclosingLambda_computed = state().cycle();
+      state().trace().cacheWrite(this, "ReturnStmt.enclosingLambda()", "", enclosingLambda_value);
+    } else {
+      enclosingLambda_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ReturnStmt.enclosingLambda()", "", enclosingLambda_value);
+    }
+    return enclosingLambda_value;
+  }
+  /** @apilevel internal */
+  private void enclosingLambda_reset() {
+    enclosingLambda_computed = null;
+    enclosingLambda_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle enclosingLambda_computed = null;
+
+  /** @apilevel internal */
+  protected LambdaExpr enclosingLambda_value;
+
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:837
+      return assignedBefore(v);
+    }
+    else {
+      return getParent().Define_assignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:1560
+      return unassignedBefore(v);
+    }
+    else {
+      return getParent().Define_unassignedBefore(this, _callerNode, v);
+    }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:39
+   * @apilevel internal
+   */
+  public TypeDecl Define_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java5/frontend/AssignConvertedType.jrag:50
+      return returnType();
+    }
+    else {
+      return getParent().Define_assignConvertedType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignConvertedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:44
+   * @apilevel internal
+   */
+  public TypeDecl Define_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:57
+      return returnType();
+    }
+    else {
+      return getParent().Define_targetType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_targetType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:252
+   * @apilevel internal
+   */
+  public boolean Define_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:386
+      return true;
+    }
+    else {
+      return getParent().Define_assignmentContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_assignmentContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:253
+   * @apilevel internal
+   */
+  public boolean Define_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:387
+      return false;
+    }
+    else {
+      return getParent().Define_invocationContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_invocationContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:254
+   * @apilevel internal
+   */
+  public boolean Define_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:388
+      return false;
+    }
+    else {
+      return getParent().Define_castContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_castContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:255
+   * @apilevel internal
+   */
+  public boolean Define_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:389
+      return false;
+    }
+    else {
+      return getParent().Define_stringContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_stringContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/TargetType.jrag:256
+   * @apilevel internal
+   */
+  public boolean Define_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getResultOptNoTransform()) {
+      // @declaredat /root/project/java8/frontend/TargetType.jrag:390
+      return false;
+    }
+    else {
+      return getParent().Define_numericContext(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_numericContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:542
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void collect_contributors_BlockLambdaBody_lambdaReturns(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java8/frontend/LambdaBody.jrag:55
+    if ((enclosingLambda() != null) && (enclosingLambda().hostType() == hostType())) {
+      {
+        BlockLambdaBody target = (BlockLambdaBody) ((BlockLambdaBody) enclosingLambda().getLambdaBody());
+        java.util.Set<ASTNode> contributors = _map.get(target);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) target, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_BlockLambdaBody_lambdaReturns(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+  }
+  protected void contributeTo_BlockLambdaBody_lambdaReturns(ArrayList<ReturnStmt> collection) {
+    super.contributeTo_BlockLambdaBody_lambdaReturns(collection);
+    if ((enclosingLambda() != null) && (enclosingLambda().hostType() == hostType())) {
+      collection.add(this);
+    }
+  }
+}
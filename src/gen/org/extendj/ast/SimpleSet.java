@@ -0,0 +1,474 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast interface
+ * @aspect DataStructures
+ * @declaredat /root/project/java4/frontend/DataStructures.jrag:40
+ */
+public interface SimpleSet<T> extends Iterable<T> {
+
+     
+    int size();
+
+
+     
+
+    boolean isEmpty();
+
+
+     
+
+    SimpleSet<T> add(T o);
+
+
+     
+
+    Iterator<T> iterator();
+
+
+    /** @return {@code true} if this set contains the given object. */
+     
+
+    /** @return {@code true} if this set contains the given object. */
+    boolean contains(Object o);
+
+
+    /** @return {@code true} if this set is a singleton set (size == 1). */
+     
+
+    /** @return {@code true} if this set is a singleton set (size == 1). */
+    boolean isSingleton();
+
+
+    /** @return {@code true} if this set is a singleton set containing the given object. */
+     
+
+    /** @return {@code true} if this set is a singleton set containing the given object. */
+    boolean isSingleton(T o);
+
+
+    /** @return the single value in the set. Throws an error if the set is not a singleton. */
+     
+
+    /** @return the single value in the set. Throws an error if the set is not a singleton. */
+    T singletonValue();
+
+
+     
+
+    SimpleSet<Object> EMPTY_SET = new SimpleSet<Object>() {
+      @Override
+      public int size() {
+        return 0;
+      }
+
+      @Override
+      public boolean isEmpty() {
+        return true;
+      }
+
+      @Override
+      public SimpleSet<Object> add(Object o) {
+        if (o instanceof SimpleSet) {
+          return (SimpleSet<Object>) o;
+        }
+        return new SimpleSetImpl<Object>(o);
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return false;
+      }
+
+      @Override
+      public Iterator<Object> iterator() {
+        return (Iterator<Object>) Collections.EMPTY_LIST.iterator();
+      }
+
+      @Override
+      public boolean isSingleton() {
+        return false;
+      }
+
+      @Override
+      public boolean isSingleton(Object o) {
+        return false;
+      }
+
+      @Override
+      public Object singletonValue() {
+        throw new Error("The empty set has no singleton value.");
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        if (o == this) {
+          return true;
+        }
+        if (o instanceof SimpleSet) {
+          return ((SimpleSet) o).isEmpty();
+        }
+        return false;
+      }
+
+      @Override public String toString() {
+        return "{}";
+      }
+    };
+
+
+    /**
+     * This class is used for sets of more than one object.
+     *
+     * <p>Sets with at most SMALL_SIZE elements store the elements in an
+     * array, which is copied when an element is added.
+     *
+     * <p>Larger sets store the elements in an ElementLog, shared by all sets
+     * that were built by adding elements to the same set. Each set is a
+     * prefix of the log. Adding an element to the largest set of a log
+     * appends the element to the log, so building a large set by repeated
+     * adds takes linear time. Adding an element to a smaller set of a log
+     * copies the prefix to a new log.
+     *
+     * <p>Elements are iterated in insertion order.
+     */
+     
+
+    /**
+     * This class is used for sets of more than one object.
+     *
+     * <p>Sets with at most SMALL_SIZE elements store the elements in an
+     * array, which is copied when an element is added.
+     *
+     * <p>Larger sets store the elements in an ElementLog, shared by all sets
+     * that were built by adding elements to the same set. Each set is a
+     * prefix of the log. Adding an element to the largest set of a log
+     * appends the element to the log, so building a large set by repeated
+     * adds takes linear time. Adding an element to a smaller set of a log
+     * copies the prefix to a new log.
+     *
+     * <p>Elements are iterated in insertion order.
+     */
+    class SimpleSetImpl<T> implements SimpleSet<T> {
+      /** The maximum size of sets stored in an array. */
+      static final int SMALL_SIZE = 8;
+
+      private static final Object[] NO_ELEMENTS = new Object[0];
+
+      /** The elements of a small set, or {@code null} for a large set. */
+      private final Object[] elements;
+
+      /** The elements of a large set, or {@code null} for a small set. */
+      private final ElementLog log;
+
+      private final int size;
+
+      public SimpleSetImpl() {
+        this(NO_ELEMENTS, null, 0);
+      }
+
+      public SimpleSetImpl(T a) {
+        this(new Object[] { a }, null, 1);
+      }
+
+      public SimpleSetImpl(T a, T b) {
+        this(same(a, b) ? new Object[] { a } : new Object[] { a, b }, null, same(a, b) ? 1 : 2);
+      }
+
+      public SimpleSetImpl(T... set) {
+        this(java.util.Arrays.asList(set));
+      }
+
+      public SimpleSetImpl(java.util.Collection<? extends T> c) {
+        java.util.Set<T> distinct = new LinkedHashSet<T>(c);
+        if (distinct.size() <= SMALL_SIZE) {
+          this.elements = distinct.toArray();
+          this.log = null;
+        } else {
+          this.elements = null;
+          this.log = new ElementLog(distinct.toArray(), distinct.size());
+        }
+        this.size = distinct.size();
+      }
+
+      private SimpleSetImpl(Object[] elements, ElementLog log, int size) {
+        this.elements = elements;
+        this.log = log;
+        this.size = size;
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean isEmpty() {
+        return size == 0;
+      }
+
+      @Override
+      public SimpleSet<T> add(T o) {
+        if (contains(o)) {
+          return this;
+        }
+        if (log == null) {
+          Object[] array = java.util.Arrays.copyOf(elements, size + 1);
+          array[size] = o;
+          if (size < SMALL_SIZE) {
+            return new SimpleSetImpl<T>(array, null, size + 1);
+          } else {
+            return new SimpleSetImpl<T>(null, new ElementLog(array, size + 1), size + 1);
+          }
+        }
+        if (log.append(size, o)) {
+          return new SimpleSetImpl<T>(null, log, size + 1);
+        }
+        // Another set has been built from this set: copy the shared prefix.
+        Object[] array = java.util.Arrays.copyOf(log.elements(), size + 1);
+        array[size] = o;
+        return new SimpleSetImpl<T>(null, new ElementLog(array, size + 1), size + 1);
+      }
+
+      @Override
+      public Iterator<T> iterator() {
+        final Object[] array = log == null ? elements : log.elements();
+        return new Iterator<T>() {
+          private int index = 0;
+
+          @Override
+          public boolean hasNext() {
+            return index < size;
+          }
+
+          @Override
+          public T next() {
+            if (index >= size) {
+              throw new java.util.NoSuchElementException();
+            }
+            return (T) array[index++];
+          }
+
+          @Override
+          public void remove() {
+            throw new UnsupportedOperationException();
+          }
+        };
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        if (log != null) {
+          return log.indexOf(o) < size;
+        }
+        for (int i = 0; i < size; ++i) {
+          if (same(o, elements[i])) {
+            return true;
+          }
+        }
+        return false;
+      }
+
+      /** Compares elements as in a hash set. */
+      private static boolean same(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+      }
+
+      @Override
+      public boolean isSingleton() {
+        return size == 1;
+      }
+
+      @Override
+      public boolean isSingleton(T o) {
+        return isSingleton() && contains(o);
+      }
+
+      @Override
+      public T singletonValue() {
+        if (!isSingleton()) {
+          throw new Error("This set has no singleton value.");
+        }
+        return (T) elements[0];
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        if (o instanceof SimpleSet) {
+          SimpleSet<?> other = (SimpleSet<?>) o;
+          if (size() != other.size()) {
+            return false;
+          }
+          return isEqualCollection(this, other);
+        } else {
+          return false;
+        }
+      }
+
+      // See http://llbit.se/?p=2009 for algorithm description.
+      private static boolean isEqualCollection(Iterable<?> a, Iterable<?> b) {
+        Map<Object, Integer> map = new java.util.IdentityHashMap<Object, Integer>();
+        for (Object o : a) {
+          Integer val = map.get(o);
+          int count = (val == null) ? 0 : val;
+          map.put(o, count + 1);
+        }
+        for (Object o : b) {
+          Integer val = map.get(o);
+          int count;
+          if (val != null) {
+            count = val;
+            if (count == 0) {
+              return false;
+            }
+          } else {
+            return false;
+          }
+          map.put(o, count - 1);
+        }
+        for (Integer count : map.values()) {
+          if (count != 0) {
+            return false;
+          }
+        }
+        return true;
+      }
+    }
+
+
+    /**
+     * The elements of large SimpleSetImpl sets, in insertion order, with an
+     * index for membership tests. Elements are only appended, so a set that
+     * is a prefix of the log is not affected by later appends.
+     *
+     * <p>Sets can be shared between threads evaluating attributes, so the
+     * log is synchronized.
+     */
+     
+
+    /**
+     * The elements of large SimpleSetImpl sets, in insertion order, with an
+     * index for membership tests. Elements are only appended, so a set that
+     * is a prefix of the log is not affected by later appends.
+     *
+     * <p>Sets can be shared between threads evaluating attributes, so the
+     * log is synchronized.
+     */
+    class ElementLog {
+      private Object[] elements;
+      private int length;
+      private final Map<Object, Integer> index;
+
+      /** Creates a log with the first length elements of the array, which must be distinct. */
+      ElementLog(Object[] array, int length) {
+        this.elements = array;
+        this.length = length;
+        this.index = new HashMap<Object, Integer>(length * 2);
+        for (int i = 0; i < length; ++i) {
+          index.put(array[i], i);
+        }
+      }
+
+      /**
+       * Appends an element, if the log has the given length.
+       *
+       * @return {@code true} if the element was appended
+       */
+      synchronized boolean append(int expectedLength, Object o) {
+        if (length != expectedLength) {
+          return false;
+        }
+        if (length == elements.length) {
+          elements = java.util.Arrays.copyOf(elements, length * 2);
+        }
+        elements[length] = o;
+        index.put(o, length);
+        length += 1;
+        return true;
+      }
+
+      /**
+       * @return the position of the element in the log, or
+       * Integer.MAX_VALUE if the log does not contain the element
+       */
+      synchronized int indexOf(Object o) {
+        Integer i = index.get(o);
+        return i == null ? Integer.MAX_VALUE : i;
+      }
+
+      /**
+       * @return the element array. The elements before the current length
+       * of the log are never modified.
+       */
+      synchronized Object[] elements() {
+        return elements;
+      }
+    }
+}
@@ -0,0 +1,399 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:62
+ * @production SingleTypeImportDecl : {@link ImportDecl};
+
+ */
+public class SingleTypeImportDecl extends ImportDecl implements Cloneable {
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:550
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("import ");
+    out.print(getAccess());
+    out.print(";");
+    out.println();
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public SingleTypeImportDecl() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[1];
+  }
+  /**
+   * @declaredat ASTNode:13
+   */
+  public SingleTypeImportDecl(Access p0) {
+    setChild(p0, 0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:17
+   */
+  protected int numChildren() {
+    return 1;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:23
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:27
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    importedTypes_String_reset();
+    importedTypes_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:37
+   */
+  public SingleTypeImportDecl clone() throws CloneNotSupportedException {
+    SingleTypeImportDecl node = (SingleTypeImportDecl) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:42
+   */
+  public SingleTypeImportDecl copy() {
+    try {
+      SingleTypeImportDecl node = (SingleTypeImportDecl) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:61
+   */
+  @Deprecated
+  public SingleTypeImportDecl fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:71
+   */
+  public SingleTypeImportDecl treeCopyNoTransform() {
+    SingleTypeImportDecl tree = (SingleTypeImportDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:91
+   */
+  public SingleTypeImportDecl treeCopy() {
+    SingleTypeImportDecl tree = (SingleTypeImportDecl) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:105
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * Replaces the Access child.
+   * @param node The new node to replace the Access child.
+   * @apilevel high-level
+   */
+  public void setAccess(Access node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Access child.
+   * @return The current node used as the Access child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Access")
+  public Access getAccess() {
+    return (Access) getChild(0);
+  }
+  /**
+   * Retrieves the Access child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Access child.
+   * @apilevel low-level
+   */
+  public Access getAccessNoTransform() {
+    return (Access) getChildNoTransform(0);
+  }
+  /** @apilevel internal */
+  private void importedTypes_String_reset() {
+    importedTypes_String_computed = new java.util.HashMap(4);
+    importedTypes_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map importedTypes_String_values;
+  /** @apilevel internal */
+  protected java.util.Map importedTypes_String_computed;
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:555
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:555")
+  public SimpleSet<TypeDecl> importedTypes(String name) {
+    Object _parameters = name;
+    if (importedTypes_String_computed == null) importedTypes_String_computed = new java.util.HashMap(4);
+    if (importedTypes_String_values == null) importedTypes_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (importedTypes_String_values.containsKey(_parameters) && importedTypes_String_computed != null
+        && importedTypes_String_computed.containsKey(_parameters)
+        && (importedTypes_String_computed.get(_parameters) == ASTState.NON_CYCLE || importedTypes_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "ImportDecl.importedTypes(String)", _parameters, importedTypes_String_values.get(_parameters));
+      return (SimpleSet<TypeDecl>) importedTypes_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "ImportDecl.importedTypes(String)", _parameters, "");
+    SimpleSet<TypeDecl> importedTypes_String_value = importedTypes_compute(name);
+    state().trace().computeEnd(this, "ImportDecl.importedTypes(String)", _parameters, importedTypes_String_value);
+    if (state().inCircle()) {
+      importedTypes_String_values.put(_parameters, importedTypes_String_value);
+      importedTypes_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "ImportDecl.importedTypes(String)", _parameters, importedTypes_String_value);
+    } else {
+      importedTypes_String_values.put(_parameters, importedTypes_String_value);
+      importedTypes_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "ImportDecl.importedTypes(String)", _parameters, importedTypes_String_value);
+    }
+    return importedTypes_String_value;
+  }
+  /** @apilevel internal */
+  private SimpleSet<TypeDecl> importedTypes_compute(String name) {
+      SimpleSet<TypeDecl> result = emptySet();
+      TypeDecl type = getAccess().type();
+      if (type.name().equals(name)) {
+        result = result.add(type);
+      }
+      return result;
+    }
+  /** @apilevel internal */
+  private void importedTypes_reset() {
+    importedTypes_computed = null;
+    importedTypes_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle importedTypes_computed = null;
+
+  /** @apilevel internal */
+  protected SimpleSet<TypeDecl> importedTypes_value;
+
+  /**
+   * For a single-import declaration this will return a SimpleSet
+   * containing the TypeDecl for the imported type. For dynamic
+   * import declarations this returns the empty set.
+   * @return TypeDecl of imported type wrapped in SimpleSet
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:572
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:572")
+  public SimpleSet<TypeDecl> importedTypes() {
+    ASTState state = state();
+    if (importedTypes_computed == ASTState.NON_CYCLE || importedTypes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "ImportDecl.importedTypes()", "", importedTypes_value);
+      return importedTypes_value;
+    }
+    state().trace().computeBegin(this, "ImportDecl.importedTypes()", "", "");
+    importedTypes_value = getAccess().type();
+    state().trace().computeEnd(this, "ImportDecl.importedTypes()", "", importedTypes_value);
+    if (state().inCircle()) {
+      importedTypes_computed = state().cycle();
+      state().trace().cacheWrite(this, "ImportDecl.importedTypes()", "", importedTypes_value);
+    } else {
+      importedTypes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "ImportDecl.importedTypes()", "", importedTypes_value);
+    }
+    return importedTypes_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:39")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "SingleTypeImportDecl.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (!getAccess().type().typeName().equals(typeName())
+            && !getAccess().type().isUnknown()) {
+          problems.add(errorf("single-type import %s is not the canonical name of type %s.",
+              typeName(), getAccess().type().typeName()));
+        } else if (allImportedTypes(getAccess().type().name()).size() > 1) {
+          problems.add(errorf("%s is imported multiple times", getAccess().type().name()));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "SingleTypeImportDecl.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (getAccessNoTransform() != null && _callerNode == getAccess()) {
+      // @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:96
+      return NameType.TYPE_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:37
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+  }
+}
@@ -0,0 +1,870 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * Abstract supertype for statements.
+ * Subclasses include all the regular imperative statements (for, while, try, etc.).
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:321
+ * @production Stmt : {@link ASTNode};
+
+ */
+public abstract class Stmt extends ASTNode<ASTNode> implements Cloneable {
+  /**
+   * @return An Opt node containing the finally and monitor exit blocks
+   * from the list of enclosing try-statements and synchronized blocks.
+   * @aspect NTAFinally
+   * @declaredat /root/project/java4/frontend/NTAFinally.jrag:73
+   */
+  public Opt<Block> branchFinallyOpt() {
+    FinallyHost enclosing = enclosingFinally(this);
+    if (enclosing != null) {
+      return new Opt<Block>(ntaFinallyBlock(enclosing, this, enclosing.getFinallyBlock()));
+    } else {
+      return new Opt<Block>();
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1540
+   */
+  public void createBCode(CodeGeneration gen) {
+    gen.addLineNumberEntryAtCurrentPC(this);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public Stmt() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    finallyIterator_reset();
+    assignedAfter_Variable_reset();
+    unassignedAfter_Variable_reset();
+    canCompleteNormally_reset();
+    localSize_reset();
+    enclosingFinally_Stmt_reset();
+    localNum_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:34
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public Stmt clone() throws CloneNotSupportedException {
+    Stmt node = (Stmt) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:49
+   */
+  @Deprecated
+  public abstract Stmt fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:57
+   */
+  public abstract Stmt treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:65
+   */
+  public abstract Stmt treeCopy();
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:78")
+  public abstract boolean modifiedInScope(Variable var);
+  /** @apilevel internal */
+  private void finallyIterator_reset() {
+    finallyIterator_computed = null;
+    finallyIterator_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle finallyIterator_computed = null;
+
+  /** @apilevel internal */
+  protected Iterator<FinallyHost> finallyIterator_value;
+
+  /**
+   * Finds enclosing finally and monitor exit blocks.
+   * @return an iterator for finally (and monitor exit) blocks that are
+   * reached before the final target of this statement is reached
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:80
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:80")
+  public Iterator<FinallyHost> finallyIterator() {
+    ASTState state = state();
+    if (finallyIterator_computed == ASTState.NON_CYCLE || finallyIterator_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Stmt.finallyIterator()", "", finallyIterator_value);
+      return finallyIterator_value;
+    }
+    state().trace().computeBegin(this, "Stmt.finallyIterator()", "", "");
+    finallyIterator_value = finallyIterator_compute();
+    state().trace().computeEnd(this, "Stmt.finallyIterator()", "", finallyIterator_value);
+    if (state().inCircle()) {
+      finallyIterator_computed = state().cycle();
+      state().trace().cacheWrite(this, "Stmt.finallyIterator()", "", finallyIterator_value);
+    } else {
+      finallyIterator_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Stmt.finallyIterator()", "", finallyIterator_value);
+    }
+    return finallyIterator_value;
+  }
+  /** @apilevel internal */
+  private Iterator<FinallyHost> finallyIterator_compute() {
+      return new LazyFinallyIterator(this);
+    }
+  /**
+   * @return <code>true</code> if this statement can branch to
+   * the target statement.
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:182
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:182")
+  public boolean canBranchTo(BranchTargetStmt target) {
+    Object _parameters = target;
+    state().trace().computeBegin(this, "Stmt.canBranchTo(BranchTargetStmt)", _parameters, "");
+    boolean canBranchTo_BranchTargetStmt_value = false;
+    state().trace().computeEnd(this, "Stmt.canBranchTo(BranchTargetStmt)", _parameters, canBranchTo_BranchTargetStmt_value);
+    return canBranchTo_BranchTargetStmt_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:184
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:184")
+  public boolean canBranchTo(LabeledStmt target) {
+    Object _parameters = target;
+    state().trace().computeBegin(this, "Stmt.canBranchTo(LabeledStmt)", _parameters, "");
+    boolean canBranchTo_LabeledStmt_value = false;
+    state().trace().computeEnd(this, "Stmt.canBranchTo(LabeledStmt)", _parameters, canBranchTo_LabeledStmt_value);
+    return canBranchTo_LabeledStmt_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:186
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:186")
+  public boolean canBranchTo(SwitchStmt target) {
+    Object _parameters = target;
+    state().trace().computeBegin(this, "Stmt.canBranchTo(SwitchStmt)", _parameters, "");
+    boolean canBranchTo_SwitchStmt_value = false;
+    state().trace().computeEnd(this, "Stmt.canBranchTo(SwitchStmt)", _parameters, canBranchTo_SwitchStmt_value);
+    return canBranchTo_SwitchStmt_value;
+  }
+  /** @apilevel internal */
+  private void assignedAfter_Variable_reset() {
+    assignedAfter_Variable_values = null;
+  }
+  protected java.util.Map assignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:264")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    if (assignedAfter_Variable_values == null) assignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (assignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = assignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.assignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      assignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_assignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+        new_assignedAfter_Variable_value = assignedBefore(v);
+        state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+        if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_assignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      assignedAfter_Variable_values.put(_parameters, new_assignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_assignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.assignedAfter(Variable)", _parameters, "");
+      boolean new_assignedAfter_Variable_value = assignedBefore(v);
+      state().trace().computeEnd(this, "Stmt.assignedAfter(Variable)", _parameters, _value.value);
+      if (new_assignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_assignedAfter_Variable_value;
+      }
+      return new_assignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:895")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Stmt.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = unassignedAfter_compute(v);
+        state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Stmt.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = unassignedAfter_compute(v);
+      state().trace().computeEnd(this, "Stmt.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean unassignedAfter_compute(Variable v) {
+      throw new Error("unassignedAfter in " + getClass().getName());
+    }
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:219
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:219")
+  public VariableDeclarator variableDeclaration(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Stmt.variableDeclaration(String)", _parameters, "");
+    VariableDeclarator variableDeclaration_String_value = null;
+    state().trace().computeEnd(this, "Stmt.variableDeclaration(String)", _parameters, variableDeclaration_String_value);
+    return variableDeclaration_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:569
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:569")
+  public boolean continueLabel() {
+    state().trace().computeBegin(this, "Stmt.continueLabel()", "", "");
+    boolean continueLabel_value = false;
+    state().trace().computeEnd(this, "Stmt.continueLabel()", "", continueLabel_value);
+    return continueLabel_value;
+  }
+  /** @apilevel internal */
+  private void canCompleteNormally_reset() {
+    canCompleteNormally_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle canCompleteNormally_computed = null;
+
+  /** @apilevel internal */
+  protected boolean canCompleteNormally_value;
+
+  /**
+   * @attribute syn
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:50")
+  public boolean canCompleteNormally() {
+    ASTState state = state();
+    if (canCompleteNormally_computed == ASTState.NON_CYCLE || canCompleteNormally_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+      return canCompleteNormally_value;
+    }
+    state().trace().computeBegin(this, "Stmt.canCompleteNormally()", "", "");
+    canCompleteNormally_value = true;
+    state().trace().computeEnd(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    if (state().inCircle()) {
+      canCompleteNormally_computed = state().cycle();
+      state().trace().cacheWrite(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    } else {
+      canCompleteNormally_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Stmt.canCompleteNormally()", "", canCompleteNormally_value);
+    }
+    return canCompleteNormally_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1725
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1725")
+  public int break_label() {
+    state().trace().computeBegin(this, "Stmt.break_label()", "", "");
+    try {
+        throw new UnsupportedOperationException("Can not break at this statement of type "
+            + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "Stmt.break_label()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1750
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1750")
+  public int continue_label() {
+    state().trace().computeBegin(this, "Stmt.continue_label()", "", "");
+    try {
+        throw new UnsupportedOperationException("Can not continue at this statement");
+      }
+    finally {
+      state().trace().computeEnd(this, "Stmt.continue_label()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void localSize_reset() {
+    localSize_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localSize_computed = null;
+
+  /** @apilevel internal */
+  protected int localSize_value;
+
+  /**
+   * Computes size required for local variables of this statement.
+   * NB: only relevant for variable declaration statements.
+   * @return local size for declared variables
+   * @attribute syn
+   * @aspect LocalNum
+   * @declaredat /root/project/java4/backend/LocalNum.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LocalNum", declaredAt="/root/project/java4/backend/LocalNum.jrag:38")
+  public int localSize() {
+    ASTState state = state();
+    if (localSize_computed == ASTState.NON_CYCLE || localSize_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Stmt.localSize()", "", localSize_value);
+      return localSize_value;
+    }
+    state().trace().computeBegin(this, "Stmt.localSize()", "", "");
+    localSize_value = 0;
+    state().trace().computeEnd(this, "Stmt.localSize()", "", localSize_value);
+    if (state().inCircle()) {
+      localSize_computed = state().cycle();
+      state().trace().cacheWrite(this, "Stmt.localSize()", "", localSize_value);
+    } else {
+      localSize_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Stmt.localSize()", "", localSize_value);
+    }
+    return localSize_value;
+  }
+  /**
+   * @return the target statement for a break or continue
+   * @attribute inh
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:230
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:230")
+  public Stmt branchTarget(Stmt branch) {
+    Object _parameters = branch;
+    state().trace().computeBegin(this, "Stmt.branchTarget(Stmt)", _parameters, "");
+    Stmt branchTarget_Stmt_value = getParent().Define_branchTarget(this, null, branch);
+    state().trace().computeEnd(this, "Stmt.branchTarget(Stmt)", _parameters, branchTarget_Stmt_value);
+    return branchTarget_Stmt_value;
+  }
+  /**
+   * Finds the finally block of an enclosing try-statement, or monitor exit
+   * block of an enclosing synchronized block.
+   * 
+   * @param branch the source branch
+   * @return a finally block, or <code>null</code> if there is no enclosing
+   * try-statement or synchronized block.
+   * @attribute inh
+   * @aspect BranchTarget
+   * @declaredat /root/project/java4/frontend/BranchTarget.jrag:273
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="BranchTarget", declaredAt="/root/project/java4/frontend/BranchTarget.jrag:273")
+  public FinallyHost enclosingFinally(Stmt branch) {
+    Object _parameters = branch;
+    if (enclosingFinally_Stmt_computed == null) enclosingFinally_Stmt_computed = new java.util.HashMap(4);
+    if (enclosingFinally_Stmt_values == null) enclosingFinally_Stmt_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (enclosingFinally_Stmt_values.containsKey(_parameters) && enclosingFinally_Stmt_computed != null
+        && enclosingFinally_Stmt_computed.containsKey(_parameters)
+        && (enclosingFinally_Stmt_computed.get(_parameters) == ASTState.NON_CYCLE || enclosingFinally_Stmt_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "Stmt.enclosingFinally(Stmt)", _parameters, enclosingFinally_Stmt_values.get(_parameters));
+      return (FinallyHost) enclosingFinally_Stmt_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "Stmt.enclosingFinally(Stmt)", _parameters, "");
+    FinallyHost enclosingFinally_Stmt_value = getParent().Define_enclosingFinally(this, null, branch);
+    state().trace().computeEnd(this, "Stmt.enclosingFinally(Stmt)", _parameters, enclosingFinally_Stmt_value);
+    if (state().inCircle()) {
+      enclosingFinally_Stmt_values.put(_parameters, enclosingFinally_Stmt_value);
+      enclosingFinally_Stmt_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "Stmt.enclosingFinally(Stmt)", _parameters, enclosingFinally_Stmt_value);
+    } else {
+      enclosingFinally_Stmt_values.put(_parameters, enclosingFinally_Stmt_value);
+      enclosingFinally_Stmt_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "Stmt.enclosingFinally(Stmt)", _parameters, enclosingFinally_Stmt_value);
+    }
+    return enclosingFinally_Stmt_value;
+  }
+  /** @apilevel internal */
+  private void enclosingFinally_Stmt_reset() {
+    enclosingFinally_Stmt_computed = new java.util.HashMap(4);
+    enclosingFinally_Stmt_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map enclosingFinally_Stmt_values;
+  /** @apilevel internal */
+  protected java.util.Map enclosingFinally_Stmt_computed;
+  /**
+   * @attribute inh
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:256
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:256")
+  public boolean assignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Stmt.assignedBefore(Variable)", _parameters, "");
+    boolean assignedBefore_Variable_value = getParent().Define_assignedBefore(this, null, v);
+    state().trace().computeEnd(this, "Stmt.assignedBefore(Variable)", _parameters, assignedBefore_Variable_value);
+    return assignedBefore_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteUnassignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:887
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:887")
+  public boolean unassignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Stmt.unassignedBefore(Variable)", _parameters, "");
+    boolean unassignedBefore_Variable_value = getParent().Define_unassignedBefore(this, null, v);
+    state().trace().computeEnd(this, "Stmt.unassignedBefore(Variable)", _parameters, unassignedBefore_Variable_value);
+    return unassignedBefore_Variable_value;
+  }
+  /**
+   * Find all visible methods with the given name in the local scope.
+   * @attribute inh
+   * @aspect LookupMethod
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:116
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupMethod", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:116")
+  public Collection<MethodDecl> lookupMethod(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Stmt.lookupMethod(String)", _parameters, "");
+    Collection<MethodDecl> lookupMethod_String_value = getParent().Define_lookupMethod(this, null, name);
+    state().trace().computeEnd(this, "Stmt.lookupMethod(String)", _parameters, lookupMethod_String_value);
+    return lookupMethod_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:131
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:131")
+  public TypeDecl lookupType(String packageName, String typeName) {
+    Object _parameters = java.util.Arrays.asList(packageName, typeName);
+    state().trace().computeBegin(this, "Stmt.lookupType(String,String)", _parameters, "");
+    TypeDecl lookupType_String_String_value = getParent().Define_lookupType(this, null, packageName, typeName);
+    state().trace().computeEnd(this, "Stmt.lookupType(String,String)", _parameters, lookupType_String_String_value);
+    return lookupType_String_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:471
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:471")
+  public SimpleSet<TypeDecl> lookupType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Stmt.lookupType(String)", _parameters, "");
+    SimpleSet<TypeDecl> lookupType_String_value = getParent().Define_lookupType(this, null, name);
+    state().trace().computeEnd(this, "Stmt.lookupType(String)", _parameters, lookupType_String_value);
+    return lookupType_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:40
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:40")
+  public SimpleSet<Variable> lookupVariable(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Stmt.lookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> lookupVariable_String_value = getParent().Define_lookupVariable(this, null, name);
+    state().trace().computeEnd(this, "Stmt.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    return lookupVariable_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:611
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:611")
+  public BodyDecl enclosingBodyDecl() {
+    state().trace().computeBegin(this, "Stmt.enclosingBodyDecl()", "", "");
+    BodyDecl enclosingBodyDecl_value = getParent().Define_enclosingBodyDecl(this, null);
+    state().trace().computeEnd(this, "Stmt.enclosingBodyDecl()", "", enclosingBodyDecl_value);
+    return enclosingBodyDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:696
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:696")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "Stmt.hostType()", "", "");
+    TypeDecl hostType_value = getParent().Define_hostType(this, null);
+    state().trace().computeEnd(this, "Stmt.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:48
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:48")
+  public boolean reachable() {
+    state().trace().computeBegin(this, "Stmt.reachable()", "", "");
+    boolean reachable_value = getParent().Define_reachable(this, null);
+    state().trace().computeEnd(this, "Stmt.reachable()", "", reachable_value);
+    return reachable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect UnreachableStatements
+   * @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:207
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="UnreachableStatements", declaredAt="/root/project/java4/frontend/UnreachableStatements.jrag:207")
+  public boolean reportUnreachable() {
+    state().trace().computeBegin(this, "Stmt.reportUnreachable()", "", "");
+    boolean reportUnreachable_value = getParent().Define_reportUnreachable(this, null);
+    state().trace().computeEnd(this, "Stmt.reportUnreachable()", "", reportUnreachable_value);
+    return reportUnreachable_value;
+  }
+  /**
+   * Checks if the branch statement leaves the monitor.
+   * @return <code>true</code> if the branch leaves the monitor
+   * @attribute inh
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1935
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1935")
+  public boolean leavesMonitor(Stmt branch, SynchronizedStmt monitor) {
+    Object _parameters = java.util.Arrays.asList(branch, monitor);
+    state().trace().computeBegin(this, "Stmt.leavesMonitor(Stmt,SynchronizedStmt)", _parameters, "");
+    boolean leavesMonitor_Stmt_SynchronizedStmt_value = getParent().Define_leavesMonitor(this, null, branch, monitor);
+    state().trace().computeEnd(this, "Stmt.leavesMonitor(Stmt,SynchronizedStmt)", _parameters, leavesMonitor_Stmt_SynchronizedStmt_value);
+    return leavesMonitor_Stmt_SynchronizedStmt_value;
+  }
+  /**
+   * @return The next available local variable index.
+   * @attribute inh
+   * @aspect LocalNum
+   * @declaredat /root/project/java4/backend/LocalNum.jrag:63
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LocalNum", declaredAt="/root/project/java4/backend/LocalNum.jrag:63")
+  public int localNum() {
+    ASTState state = state();
+    if (localNum_computed == ASTState.NON_CYCLE || localNum_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Stmt.localNum()", "", localNum_value);
+      return localNum_value;
+    }
+    state().trace().computeBegin(this, "Stmt.localNum()", "", "");
+    localNum_value = getParent().Define_localNum(this, null);
+    state().trace().computeEnd(this, "Stmt.localNum()", "", localNum_value);
+    if (state().inCircle()) {
+      localNum_computed = state().cycle();
+      state().trace().cacheWrite(this, "Stmt.localNum()", "", localNum_value);
+    } else {
+      localNum_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Stmt.localNum()", "", localNum_value);
+    }
+    return localNum_value;
+  }
+  /** @apilevel internal */
+  private void localNum_reset() {
+    localNum_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localNum_computed = null;
+
+  /** @apilevel internal */
+  protected int localNum_value;
+
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:86
+   * @apilevel internal
+   */
+  public boolean Define_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:101
+   * @apilevel internal
+   */
+  public boolean Define_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:118
+   * @apilevel internal
+   */
+  public Expr Define_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return prevExprError();
+  }
+  protected boolean canDefine_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:142
+   * @apilevel internal
+   */
+  public Access Define_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return nextAccessError();
+  }
+  protected boolean canDefine_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1116
+   * @apilevel internal
+   */
+  public boolean Define_inStringAdd(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inStringAdd(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:95
+   * @apilevel internal
+   */
+  public boolean Define_inComplexAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inComplexAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/UnreachableStatements.jrag:33
+    if (!reachable() && reportUnreachable()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    if (!reachable() && reportUnreachable()) {
+      collection.add(error("statement is unreachable"));
+    }
+  }
+}
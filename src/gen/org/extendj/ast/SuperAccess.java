@@ -0,0 +1,603 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * Represent explicit superclass references ({@code super}).
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:111
+ * @production SuperAccess : {@link Access};
+
+ */
+public class SuperAccess extends Access implements Cloneable {
+  /**
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:294
+   */
+  public SimpleSet<Variable> keepAccessibleFields(SimpleSet<Variable> fields) {
+    return hostType().keepAccessibleFields(hostType(), fields);
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:567
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print("super");
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:167
+   */
+  @Override public String toString() {
+    return "super";
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public SuperAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:13
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:19
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:23
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    decl_reset();
+    type_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:33
+   */
+  public SuperAccess clone() throws CloneNotSupportedException {
+    SuperAccess node = (SuperAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public SuperAccess copy() {
+    try {
+      SuperAccess node = (SuperAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:57
+   */
+  @Deprecated
+  public SuperAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:67
+   */
+  public SuperAccess treeCopyNoTransform() {
+    SuperAccess tree = (SuperAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:87
+   */
+  public SuperAccess treeCopy() {
+    SuperAccess tree = (SuperAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:101
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node);    
+  }
+  /**
+   * @aspect Java8CreateBCode
+   * @declaredat /root/project/java8/backend/CreateBCode.jrag:46
+   */
+   
+  public void createBCode(CodeGeneration gen) {
+    if (decl().isInterfaceDecl()) {
+      emitThis(gen, hostType());
+    } else {
+      emitThis(gen, decl());
+    }
+  }
+  /**
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:455
+   */
+  private TypeDecl refined_TypeScopePropagation_SuperAccess_decl()
+{ return isQualified() ? qualifier().type() : hostType(); }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:445
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:445")
+  public SimpleSet<TypeDecl> decls() {
+    state().trace().computeBegin(this, "SuperAccess.decls()", "", "");
+    SimpleSet<TypeDecl> decls_value = emptySet();
+    state().trace().computeEnd(this, "SuperAccess.decls()", "", decls_value);
+    return decls_value;
+  }
+  /** @apilevel internal */
+  private void decl_reset() {
+    decl_computed = null;
+    decl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle decl_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl decl_value;
+
+  /**
+   * @return the type whose supertype this super access references.
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:455
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:455")
+  public TypeDecl decl() {
+    ASTState state = state();
+    if (decl_computed == ASTState.NON_CYCLE || decl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "SuperAccess.decl()", "", decl_value);
+      return decl_value;
+    }
+    state().trace().computeBegin(this, "SuperAccess.decl()", "", "");
+    decl_value = decl_compute();
+    state().trace().computeEnd(this, "SuperAccess.decl()", "", decl_value);
+    if (state().inCircle()) {
+      decl_computed = state().cycle();
+      state().trace().cacheWrite(this, "SuperAccess.decl()", "", decl_value);
+    } else {
+      decl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "SuperAccess.decl()", "", decl_value);
+    }
+    return decl_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl decl_compute() {
+      TypeDecl typeDecl;
+      if (isQualified()) {
+        typeDecl = qualifier().type();
+      } else {
+        typeDecl = hostType();
+        while (typeDecl instanceof LambdaAnonymousDecl) {
+          typeDecl = typeDecl.enclosingType();
+        }
+      }
+  
+      if (typeDecl instanceof ParTypeDecl) {
+        typeDecl = ((ParTypeDecl) typeDecl).genericDecl();
+      }
+      return typeDecl;
+    }
+  /**
+   * Test if this expression may access the given field.
+   * 
+   * @see <a href="https://docs.oracle.com/javase/specs/jls/se6/html/names.html#6.6.1">JLS6 \ufffd\ufffd6.6.1</a>
+   * @return true if the expression may access the given field
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:333
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:333")
+  public boolean mayAccess(Variable f) {
+    Object _parameters = f;
+    state().trace().computeBegin(this, "Expr.mayAccess(Variable)", _parameters, "");
+    boolean mayAccess_Variable_value = hostType().mayAccess(hostType(), f);
+    state().trace().computeEnd(this, "Expr.mayAccess(Variable)", _parameters, mayAccess_Variable_value);
+    return mayAccess_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:56
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:56")
+  public boolean isSuperAccess() {
+    state().trace().computeBegin(this, "Expr.isSuperAccess()", "", "");
+    boolean isSuperAccess_value = true;
+    state().trace().computeEnd(this, "Expr.isSuperAccess()", "", isSuperAccess_value);
+    return isSuperAccess_value;
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    NameType predNameType_value = NameType.TYPE_NAME;
+    state().trace().computeEnd(this, "Access.predNameType()", "", predNameType_value);
+    return predNameType_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = type_compute();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl type_compute() {
+      TypeDecl typeDecl = decl();
+      if (typeDecl.isInterfaceDecl()) {
+        if (isQualified() && qualifier().type() == typeDecl) {
+          return typeDecl;
+        }
+      }
+      if (!typeDecl.isClassDecl()) {
+        return unknownType();
+      }
+      ClassDecl classDecl = (ClassDecl) typeDecl;
+      if (!classDecl.hasSuperclass()) {
+        return unknownType();
+      }
+      return classDecl.superclass();
+    }
+  /**
+   * @attribute syn
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:151
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:151")
+  public Collection<Problem> typeHierarchyProblems() {
+    state().trace().computeBegin(this, "SuperAccess.typeHierarchyProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (isQualified()) {
+          if (decl().isInterfaceDecl()) {
+            InterfaceDecl decl = (InterfaceDecl) decl();
+            if (hostType().isClassDecl()) {
+              ClassDecl hostDecl = (ClassDecl) hostType();
+              InterfaceDecl found = null;
+              for (int i = 0; i < hostDecl.getNumImplements(); i++) {
+                if (hostDecl.getImplements(i).type() == decl) {
+                  found = (InterfaceDecl) hostDecl.getImplements(i).type();
+                  break;
+                }
+              }
+              if (found == null) {
+                // 15.12.1 - fourth bullet
+                problems.add(errorf("Type %s is not a direct superinterface of %s",
+                    decl().typeName(), hostType().typeName()));
+                return problems;
+              }
+              InterfaceDecl foundRedundant = null;
+              for (int i = 0; i < hostDecl.getNumImplements(); i++) {
+                if (hostDecl.getImplements(i).type() != found && hostDecl.getImplements(i).type().strictSubtype(found)) {
+                  foundRedundant = (InterfaceDecl) hostDecl.getImplements(i).type();
+                  break;
+                }
+              }
+              if (foundRedundant != null) {
+                // 15.12.1 - fourth bullet
+                problems.add(errorf("Type %s cannot be used as qualifier, it is extended by implemented interface %s and is redundant",
+                    decl().typeName(), foundRedundant.typeName()));
+                return problems;
+              }
+              if (hasNextAccess() && nextAccess() instanceof MethodAccess) {
+                MethodAccess methodAccess = (MethodAccess) nextAccess();
+                if (hostDecl.hasOverridingMethodInSuper(methodAccess.decl())) {
+                  problems.add(errorf("Cannot make a super reference to method %s,"
+                      + " there is a more specific override",
+                      methodAccess.decl().fullSignature()));
+                }
+              }
+            } else if (hostType().isInterfaceDecl()) {
+              InterfaceDecl hostDecl = (InterfaceDecl) hostType();
+              InterfaceDecl found = null;
+              for (int i = 0; i < hostDecl.getNumSuperInterface(); i++) {
+                if (hostDecl.getSuperInterface(i).type() == decl) {
+                  found = (InterfaceDecl) hostDecl.getSuperInterface(i).type();
+                  break;
+                }
+              }
+              if (found == null) {
+                // 15.12.1 - fourth bullet
+                problems.add(errorf("Type %s is not a direct superinterface of %s",
+                    decl().typeName(), hostType().typeName()));
+                return problems;
+              }
+              InterfaceDecl foundRedundant = null;
+              for (int i = 0; i < hostDecl.getNumSuperInterface(); i++) {
+                if (hostDecl.getSuperInterface(i).type() != found && hostDecl.getSuperInterface(i).type().strictSubtype(found)) {
+                  foundRedundant = (InterfaceDecl) hostDecl.getSuperInterface(i).type();
+                  break;
+                }
+              }
+              if (foundRedundant != null) {
+                // 15.12.1 - fourth bullet
+                problems.add(errorf("Type %s cannot be used as qualifier, it is extended by"
+                    + " implemented interface %s and is redundant",
+                    decl().typeName(), foundRedundant.typeName()));
+                return problems;
+              }
+              if (hasNextAccess() && nextAccess() instanceof MethodAccess) {
+                MethodAccess methodAccess = (MethodAccess) nextAccess();
+                if (hostDecl.hasOverridingMethodInSuper(methodAccess.decl())) {
+                  problems.add(errorf("Cannot make a super reference to method %s,"
+                      + " there is a more specific override",
+                      methodAccess.decl().fullSignature()));
+                }
+              }
+            } else {
+              problems.add(error("Illegal context for super access"));
+            }
+    
+            if (hasNextAccess() && nextAccess() instanceof MethodAccess) {
+              if (((MethodAccess) nextAccess()).decl().isStatic()) {
+                problems.add(error("Cannot reference static interface methods with super"));
+              }
+            }
+    
+            if (!hostType().strictSubtype(decl())) {
+              problems.add(errorf("Type %s is not a superinterface for %s",
+                  decl().typeName(), hostType().typeName()));
+            }
+          } else if (!hostType().isInnerTypeOf(decl()) && hostType() != decl()) {
+            problems.add(error("qualified super must name an enclosing type"));
+          }
+          if (inStaticContext()) {
+            problems.add(error("*** Qualified super may not occur in static context"));
+          }
+        }
+        // 8.8.5.1
+        // JLSv7 8.8.7.1
+        TypeDecl constructorHostType = enclosingExplicitConstructorHostType();
+        if (constructorHostType != null && (constructorHostType == decl())) {
+          problems.add(error("super may not be accessed in an explicit constructor invocation"));
+        }
+        // 8.4.3.2
+        if (inStaticContext()) {
+          problems.add(error("super may not be accessed in a static context"));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "SuperAccess.typeHierarchyProblems()", "", "");
+    }
+  }
+  /** @return the host type that needs an implicit super accessor for this super access. 
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:139
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:139")
+  public TypeDecl superAccessorTarget() {
+    state().trace().computeBegin(this, "SuperAccess.superAccessorTarget()", "", "");
+    try {
+        TypeDecl targetDecl = type();
+        TypeDecl enclosing = hostType();
+        do {
+          enclosing = enclosing.enclosingType();
+        } while (!enclosing.subtype(targetDecl));
+        return enclosing;
+      }
+    finally {
+      state().trace().computeEnd(this, "SuperAccess.superAccessorTarget()", "", "");
+    }
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:201
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:201")
+  public boolean inExplicitConstructorInvocation() {
+    state().trace().computeBegin(this, "SuperAccess.inExplicitConstructorInvocation()", "", "");
+    boolean inExplicitConstructorInvocation_value = getParent().Define_inExplicitConstructorInvocation(this, null);
+    state().trace().computeEnd(this, "SuperAccess.inExplicitConstructorInvocation()", "", inExplicitConstructorInvocation_value);
+    return inExplicitConstructorInvocation_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:212
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:212")
+  public TypeDecl enclosingExplicitConstructorHostType() {
+    state().trace().computeBegin(this, "SuperAccess.enclosingExplicitConstructorHostType()", "", "");
+    TypeDecl enclosingExplicitConstructorHostType_value = getParent().Define_enclosingExplicitConstructorHostType(this, null);
+    state().trace().computeEnd(this, "SuperAccess.enclosingExplicitConstructorHostType()", "", enclosingExplicitConstructorHostType_value);
+    return enclosingExplicitConstructorHostType_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:149
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : typeHierarchyProblems()) {
+      collection.add(value);
+    }
+  }
+}
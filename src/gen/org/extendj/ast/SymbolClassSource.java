@@ -0,0 +1,139 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect SymbolFile
+ * @declaredat /root/project/java4/frontend/SymbolFile.jadd:561
+ */
+public class SymbolClassSource extends BytecodeClassSource {
+  
+    private final String className;
+
+  
+    private final int index;
+
+  
+    private final String jarPath;
+
+  
+
+    public SymbolClassSource(SymbolFilePath sourcePath, String className, int index,
+        String jarPath) {
+      super(sourcePath);
+      this.className = className;
+      this.index = index;
+      this.jarPath = jarPath;
+    }
+
+  
+
+    @Override
+    public long lastModified() {
+      return new File(sourcePath.getPath()).lastModified();
+    }
+
+  
+
+    @Override
+    public InputStream openInputStream() throws IOException {
+      return new AbstractClassfileParser.BufferInputStream(
+          ((SymbolFilePath) sourcePath).classfile(index));
+    }
+
+  
+
+    @Override
+    public boolean isModified() {
+      return ((SymbolFilePath) sourcePath).isModified();
+    }
+
+  
+
+    @Override
+    public String pathName() {
+      return jarPath;
+    }
+
+  
+
+    @Override
+    public String relativeName() {
+      return className + ".class";
+    }
+
+  
+
+    @Override
+    public String sourceName() {
+      return pathName() + ":" + relativeName();
+    }
+
+
+}
@@ -0,0 +1,564 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect SymbolFile
+ * @declaredat /root/project/java4/frontend/SymbolFile.jadd:77
+ */
+public class SymbolFile extends java.lang.Object {
+  
+    private static final int MAGIC = 0x454A5346;
+
+   // "EJSF"
+    private static final int VERSION = 1;
+
+  
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  
+
+    /** The size of a class table entry: name, Jar file, offset and length. */
+    private static final int CLASS_ENTRY_SIZE = 16;
+
+  
+
+    /**
+     * Attributes that are not used by the bytecode reader. Code is the
+     * largest, and contains the debug attributes LineNumberTable,
+     * LocalVariableTable and LocalVariableTypeTable.
+     */
+    private static final Set<String> STRIPPED_ATTRIBUTES = new HashSet<String>(Arrays.asList(
+        "Code", "SourceFile", "SourceDebugExtension", "BootstrapMethods"));
+
+  
+
+    private final File file;
+
+  
+    private final long lastModified;
+
+  
+    private final String[] jarPaths;
+
+  
+    private final long[] jarSizes;
+
+  
+    private final long[] jarLastModified;
+
+  
+    private final ByteBuffer buffer;
+
+  
+    private final int packageTable;
+
+  
+    private final int numPackages;
+
+  
+    private final int classTable;
+
+  
+    private final int numClasses;
+
+  
+
+    private SymbolFile(File file, ByteBuffer buffer) throws IOException {
+      this.file = file;
+      this.lastModified = file.lastModified();
+      this.buffer = buffer;
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IOException("not a symbol file: " + file);
+      }
+      int numJars = buffer.getInt();
+      jarPaths = new String[numJars];
+      jarSizes = new long[numJars];
+      jarLastModified = new long[numJars];
+      for (int i = 0; i < numJars; ++i) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        jarPaths[i] = new String(bytes, UTF8);
+        jarSizes[i] = buffer.getLong();
+        jarLastModified[i] = buffer.getLong();
+      }
+      numPackages = buffer.getInt();
+      packageTable = buffer.position();
+      numClasses = buffer.getInt(packageTable + 4 * numPackages);
+      classTable = packageTable + 4 * numPackages + 4;
+      if (numPackages < 0 || numClasses < 0
+          || classTable + (long) CLASS_ENTRY_SIZE * numClasses > buffer.limit()) {
+        throw new IOException("symbol file is truncated: " + file);
+      }
+    }
+
+  
+
+    /**
+     * Opens and memory-maps a symbol file.
+     *
+     * @throws IOException if the file can not be read or is not a symbol file
+     */
+    public static SymbolFile open(File file) throws IOException {
+      RandomAccessFile in = new RandomAccessFile(file, "r");
+      try {
+        FileChannel channel = in.getChannel();
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        return new SymbolFile(file, buffer);
+      } catch (BufferUnderflowException e) {
+        throw new IOException("symbol file is truncated: " + file);
+      } catch (IndexOutOfBoundsException e) {
+        throw new IOException("symbol file is truncated: " + file);
+      } finally {
+        // The mapping stays valid after the file is closed.
+        in.close();
+      }
+    }
+
+  
+
+    /**
+     * @return the symbol file
+     */
+    public File getFile() {
+      return file;
+    }
+
+  
+
+    /**
+     * @return {@code true} if the symbol file has been modified since it was
+     * opened
+     */
+    public boolean isModified() {
+      return file.lastModified() != lastModified;
+    }
+
+  
+
+    /**
+     * @return the canonical paths of the Jar files in this symbol file, in
+     * class path order
+     */
+    public java.util.List<String> getJarPaths() {
+      return Collections.unmodifiableList(Arrays.asList(jarPaths));
+    }
+
+  
+
+    /**
+     * @return {@code true} if the Jar file at the given position in the symbol
+     * file has the same size and modification time as when the symbol file
+     * was written
+     */
+    public boolean isUpToDate(int jar) {
+      File jarFile = new File(jarPaths[jar]);
+      return jarFile.length() == jarSizes[jar] && jarFile.lastModified() == jarLastModified[jar];
+    }
+
+  
+
+    /**
+     * @param packageName the package name, using '.' as separator
+     */
+    public boolean hasPackage(String packageName) {
+      byte[] key = packageName.replace('.', '/').getBytes(UTF8);
+      return search(packageTable, numPackages, 4, key) >= 0;
+    }
+
+  
+
+    /**
+     * @param name the class name, using '/' as the package separator
+     * @return the position of the class in the class table, or -1 if the
+     * symbol file does not contain the class
+     */
+    public int indexOf(String name) {
+      return search(classTable, numClasses, CLASS_ENTRY_SIZE, name.getBytes(UTF8));
+    }
+
+  
+
+    /**
+     * @param index the position of a class in the class table
+     * @return the position of the Jar file containing the class
+     */
+    public int jar(int index) {
+      return buffer.getInt(classTable + CLASS_ENTRY_SIZE * index + 4);
+    }
+
+  
+
+    /**
+     * Copies a stripped class file from the mapped file. Parsing from a heap
+     * buffer is faster than parsing from the mapped file.
+     *
+     * @param index the position of a class in the class table
+     * @return a buffer with the stripped class file
+     */
+    public ByteBuffer classfile(int index) {
+      int entry = classTable + CLASS_ENTRY_SIZE * index;
+      ByteBuffer slice = buffer.duplicate();
+      ((java.nio.Buffer) slice).position(buffer.getInt(entry + 8));
+      byte[] bytes = new byte[buffer.getInt(entry + 12)];
+      slice.get(bytes);
+      return ByteBuffer.wrap(bytes);
+    }
+
+  
+
+    /**
+     * Binary search in a table of entries starting with a name offset. Uses
+     * only absolute reads, so the buffer can be shared by multiple threads.
+     *
+     * @return the position of the entry, or -1 if the name is not found
+     */
+    private int search(int table, int size, int entrySize, byte[] key) {
+      int low = 0;
+      int high = size - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        int name = buffer.getInt(table + entrySize * mid);
+        int length = buffer.getShort(name) & 0xFFFF;
+        int cmp = 0;
+        for (int i = 0; i < length && i < key.length && cmp == 0; ++i) {
+          cmp = (buffer.get(name + 2 + i) & 0xFF) - (key[i] & 0xFF);
+        }
+        if (cmp == 0) {
+          cmp = length - key.length;
+        }
+        if (cmp < 0) {
+          low = mid + 1;
+        } else if (cmp > 0) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -1;
+    }
+
+  
+
+    /** Orders strings by their UTF-8 bytes, as in the symbol file tables. */
+    private static final Comparator<String> UTF8_ORDER = new Comparator<String>() {
+      @Override
+      public int compare(String a, String b) {
+        byte[] x = a.getBytes(UTF8);
+        byte[] y = b.getBytes(UTF8);
+        for (int i = 0; i < x.length && i < y.length; ++i) {
+          if (x[i] != y[i]) {
+            return (x[i] & 0xFF) - (y[i] & 0xFF);
+          }
+        }
+        return x.length - y.length;
+      }
+    };
+
+  
+
+    /**
+     * Writes a symbol file with the classes of the given Jar files. If a class
+     * occurs in more than one Jar file, the first one is used.
+     */
+    public static void write(java.util.List<File> jars, File file) throws IOException {
+      Map<String, byte[]> classes = new TreeMap<String, byte[]>(UTF8_ORDER);
+      Map<String, Integer> classJar = new HashMap<String, Integer>();
+      Set<String> packages = new TreeSet<String>(UTF8_ORDER);
+      String[] jarPaths = new String[jars.size()];
+      for (int i = 0; i < jars.size(); ++i) {
+        File jarFile = jars.get(i);
+        jarPaths[i] = jarFile.getCanonicalPath();
+        ZipFile zip = new ZipFile(jarFile);
+        try {
+          for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements(); ) {
+            ZipEntry entry = e.nextElement();
+            String entryName = entry.getName();
+            if (!entryName.endsWith(".class")) {
+              continue;
+            }
+            String name = entryName.substring(0, entryName.length() - ".class".length());
+            if (classes.containsKey(name)) {
+              continue;
+            }
+            InputStream in = zip.getInputStream(entry);
+            try {
+              classes.put(name, strip(readAll(in)));
+            } catch (IOException e2) {
+              throw new IOException("could not read " + jarFile + ":" + entryName
+                  + ": " + e2.getMessage());
+            } finally {
+              in.close();
+            }
+            classJar.put(name, i);
+            int index = name.lastIndexOf('/');
+            while (index > 0 && packages.add(name.substring(0, index))) {
+              index = name.lastIndexOf('/', index - 1);
+            }
+          }
+        } finally {
+          zip.close();
+        }
+      }
+
+      // The offsets of the names and class files are computed from the sizes
+      // of the preceding parts.
+      int offset = 12;
+      for (String path : jarPaths) {
+        offset += 2 + path.getBytes(UTF8).length + 16;
+      }
+      offset += 4 + 4 * packages.size() + 4 + CLASS_ENTRY_SIZE * classes.size();
+      int nameTable = offset;
+      for (String name : packages) {
+        offset += 2 + name.getBytes(UTF8).length;
+      }
+      for (String name : classes.keySet()) {
+        offset += 2 + name.getBytes(UTF8).length;
+      }
+
+      File dir = file.getAbsoluteFile().getParentFile();
+      File temp = File.createTempFile(file.getName(), ".tmp", dir);
+      DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(new FileOutputStream(temp)));
+      try {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(jarPaths.length);
+        for (int i = 0; i < jarPaths.length; ++i) {
+          writeString(out, jarPaths[i]);
+          out.writeLong(jars.get(i).length());
+          out.writeLong(jars.get(i).lastModified());
+        }
+        int name = nameTable;
+        out.writeInt(packages.size());
+        for (String packageName : packages) {
+          out.writeInt(name);
+          name += 2 + packageName.getBytes(UTF8).length;
+        }
+        out.writeInt(classes.size());
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+          out.writeInt(name);
+          out.writeInt(classJar.get(entry.getKey()));
+          out.writeInt(offset);
+          out.writeInt(entry.getValue().length);
+          name += 2 + entry.getKey().getBytes(UTF8).length;
+          offset += entry.getValue().length;
+        }
+        for (String packageName : packages) {
+          writeString(out, packageName);
+        }
+        for (String className : classes.keySet()) {
+          writeString(out, className);
+        }
+        for (byte[] bytes : classes.values()) {
+          out.write(bytes);
+        }
+      } finally {
+        out.close();
+      }
+      if (!temp.renameTo(file)) {
+        file.delete();
+        if (!temp.renameTo(file)) {
+          temp.delete();
+          throw new IOException("could not replace " + file);
+        }
+      }
+    }
+
+  
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+      byte[] bytes = value.getBytes(UTF8);
+      out.writeShort(bytes.length);
+      out.write(bytes);
+    }
+
+  
+
+    private static byte[] readAll(InputStream in) throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] bytes = new byte[8192];
+      int length;
+      while ((length = in.read(bytes)) != -1) {
+        out.write(bytes, 0, length);
+      }
+      return out.toByteArray();
+    }
+
+  
+
+    /**
+     * Removes the attributes in STRIPPED_ATTRIBUTES from a class file. The
+     * constant pool is kept unchanged.
+     */
+    public static byte[] strip(byte[] classfile) throws IOException {
+      ByteBuffer in = ByteBuffer.wrap(classfile);
+      if (in.getInt() != 0xCAFEBABE) {
+        throw new IOException("not a class file");
+      }
+      in.getInt(); // minor_version, major_version
+      int count = in.getShort() & 0xFFFF;
+      String[] utf8 = new String[count];
+      for (int i = 1; i < count; ++i) {
+        int tag = in.get();
+        switch (tag) {
+          case 1: // Utf8
+            int length = in.getShort() & 0xFFFF;
+            if (length < 32) {
+              // Attribute names are short. Longer strings are not decoded.
+              utf8[i] = new String(classfile, in.position(), length, UTF8);
+            }
+            seek(in, in.position() + length);
+            break;
+          case 7: // Class
+          case 8: // String
+          case 16: // MethodType
+          case 19: // Module
+          case 20: // Package
+            in.getShort();
+            break;
+          case 15: // MethodHandle
+            in.get();
+            in.getShort();
+            break;
+          case 3: // Integer
+          case 4: // Float
+          case 9: // Fieldref
+          case 10: // Methodref
+          case 11: // InterfaceMethodref
+          case 12: // NameAndType
+          case 17: // Dynamic
+          case 18: // InvokeDynamic
+            in.getInt();
+            break;
+          case 5: // Long
+          case 6: // Double
+            in.getLong();
+            i += 1;
+            break;
+          default:
+            throw new IOException("unknown constant pool tag " + tag);
+        }
+      }
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(classfile.length);
+      DataOutputStream out = new DataOutputStream(bytes);
+      // Header and constant pool.
+      out.write(classfile, 0, in.position());
+      // access_flags, this_class, super_class, interfaces.
+      int start = in.position();
+      seek(in, start + 6);
+      int interfaces = in.getShort() & 0xFFFF;
+      seek(in, in.position() + 2 * interfaces);
+      out.write(classfile, start, in.position() - start);
+      for (int member = 0; member < 2; ++member) {
+        // Fields, then methods.
+        int members = in.getShort() & 0xFFFF;
+        out.writeShort(members);
+        for (int i = 0; i < members; ++i) {
+          out.write(classfile, in.position(), 6);
+          seek(in, in.position() + 6);
+          stripAttributes(in, out, utf8);
+        }
+      }
+      stripAttributes(in, out, utf8);
+      out.flush();
+      return bytes.toByteArray();
+    }
+
+  
+
+    // The buffer is accessed as a Buffer so that the class runs on Java 8 even
+    // when compiled by a newer JDK.
+    private static void seek(ByteBuffer in, int position) {
+      ((java.nio.Buffer) in).position(position);
+    }
+
+  
+
+    private static void stripAttributes(ByteBuffer in, DataOutputStream out, String[] utf8)
+        throws IOException {
+      int count = in.getShort() & 0xFFFF;
+      java.util.List<int[]> kept = new ArrayList<int[]>(count);
+      for (int i = 0; i < count; ++i) {
+        int start = in.position();
+        int nameIndex = in.getShort() & 0xFFFF;
+        int length = in.getInt();
+        seek(in, in.position() + length);
+        if (nameIndex >= utf8.length || !STRIPPED_ATTRIBUTES.contains(utf8[nameIndex])) {
+          kept.add(new int[] { start, in.position() - start });
+        }
+      }
+      out.writeShort(kept.size());
+      for (int[] range : kept) {
+        out.write(in.array(), range[0], range[1]);
+      }
+    }
+
+
+}
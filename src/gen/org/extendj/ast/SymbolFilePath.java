@@ -0,0 +1,143 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect SymbolFile
+ * @declaredat /root/project/java4/frontend/SymbolFile.jadd:504
+ */
+public class SymbolFilePath extends PathPart {
+  
+    private final SymbolFile symbolFile;
+
+  
+
+    /** The Jar file paths as given on the class path. */
+    private final String[] jarPaths;
+
+  
+
+    /**
+     * @param jarPaths the class path entries of the Jar files in the symbol
+     * file, in the same order as in the symbol file
+     */
+    public SymbolFilePath(SymbolFile symbolFile, java.util.List<String> jarPaths) {
+      super(false);
+      this.symbolFile = symbolFile;
+      this.jarPaths = jarPaths.toArray(new String[jarPaths.size()]);
+    }
+
+  
+
+    @Override
+    public String getPath() {
+      return symbolFile.getFile().getPath();
+    }
+
+  
+
+    /**
+     * @return {@code true} if the symbol file has been modified since it was
+     * opened
+     */
+    public boolean isModified() {
+      return symbolFile.isModified();
+    }
+
+  
+
+    @Override
+    public boolean hasPackage(String name) {
+      return symbolFile.hasPackage(name);
+    }
+
+  
+
+    @Override
+    public ClassSource findSource(String name) {
+      String className = name.replace('.', '/');
+      int index = symbolFile.indexOf(className);
+      if (index == -1) {
+        return ClassSource.NONE;
+      }
+      return new SymbolClassSource(this, className, index, jarPaths[symbolFile.jar(index)]);
+    }
+
+  
+
+    /**
+     * @return a buffer with the stripped class file at the given position in
+     * the class table
+     */
+    protected ByteBuffer classfile(int index) {
+      return symbolFile.classfile(index);
+    }
+
+
+}
@@ -0,0 +1,809 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:98
+ * @production TypeAccess : {@link Access} ::= <span class="component">&lt;Package:String&gt;</span> <span class="component">&lt;ID:String&gt;</span>;
+
+ */
+public class TypeAccess extends Access implements Cloneable {
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:46
+   */
+  public TypeAccess(String name, int start, int end) {
+    this(name);
+    this.start = this.IDstart = start;
+    this.end = this.IDend = end;
+  }
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:58
+   */
+  public TypeAccess(String typeName) {
+    this("", typeName);
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:605
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    if (hasPackage()) {
+      out.print(getPackage());
+      out.print(".");
+    }
+    out.print(getID());
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:71
+   */
+  @Override public String toString() {
+    if (getPackage().isEmpty()) {
+      return getID();
+    } else {
+      return getPackage() + "." + getID();
+    }
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:363
+   */
+  void emitCastTo(CodeGeneration gen, TypeDecl type) {
+    // Nothing to do for a type access.
+  }
+  /** This method assumes that the bound type is generic. 
+   * @aspect GenericsTypeAnalysis
+   * @declaredat /root/project/java5/frontend/Generics.jrag:417
+   */
+  public boolean isRaw() {
+    ASTNode parent = getParent();
+    while (parent instanceof Dot) {
+      parent = parent.getParent();
+    }
+    if (parent instanceof ParTypeAccess) {
+      return false;
+    }
+    if (parent instanceof ImportDecl) {
+      return false;
+    }
+    return true;
+  }
+  /**
+   * @aspect Diamond
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:263
+   */
+  @Override
+  public Access substituted(Map<TypeVariable, String>  substitution) {
+    String substName = substitution.get(decl());
+    if (substName != null) {
+      return new TypeAccess(substName);
+    }
+    return super.substituted(substitution);
+  }
+  /**
+   * @aspect FunctionalInterface
+   * @declaredat /root/project/java8/frontend/FunctionalInterface.jrag:186
+   */
+  public boolean sameType(TypeAccess t) {
+    // First, two type variables that are to be compared are checked to see if
+    // they are both declared by methods and that one of the methods is not
+    // inside the scope of the other method. If this is the case it is enough
+    // to simply check that the positions are equal.  Otherwise the types has
+    // to equal.
+
+    if (type() instanceof TypeVariable && t.type() instanceof TypeVariable) {
+      TypeVariable t1 = (TypeVariable) type();
+      TypeVariable t2 = (TypeVariable) t.type();
+      if (t1.typeVarInMethod() && t2.typeVarInMethod()
+          && t1.genericMethodLevel() == t2.genericMethodLevel()) {
+        return t1.typeVarPosition() == t2.typeVarPosition();
+      } else {
+        if (t1.enclosingType() == t2.enclosingType()) {
+          return t1 == t2;
+        } else {
+          return t1.sameType(t2);
+        }
+      }
+    } else if (type() instanceof TypeVariable && !(t.type() instanceof TypeVariable)) {
+      TypeVariable t1 = (TypeVariable) type();
+      TypeDecl t2 = t.type().erasure();
+      for (Access bound : t1.getTypeBoundList()) {
+        if (bound.type() != t2) {
+          return false;
+        }
+      }
+      return true;
+    } else if (t.type() instanceof TypeVariable && !(type() instanceof TypeVariable)) {
+      TypeDecl t1 = type().erasure();
+      TypeVariable t2 = (TypeVariable) t.type();
+      for (Access bound : t2.getTypeBoundList()) {
+        if (bound.type() != t1) {
+          return false;
+        }
+      }
+      return true;
+    } else if (type() == t.type()) {
+      return true;
+    } else {
+      return false;
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public TypeAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public TypeAccess(String p0, String p1) {
+    setPackage(p0);
+    setID(p1);
+  }
+  /**
+   * @declaredat ASTNode:16
+   */
+  public TypeAccess(beaver.Symbol p0, beaver.Symbol p1) {
+    setPackage(p0);
+    setID(p1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:21
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:27
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:31
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:39
+   */
+  public TypeAccess clone() throws CloneNotSupportedException {
+    TypeAccess node = (TypeAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public TypeAccess copy() {
+    try {
+      TypeAccess node = (TypeAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:63
+   */
+  @Deprecated
+  public TypeAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:73
+   */
+  public TypeAccess treeCopyNoTransform() {
+    TypeAccess tree = (TypeAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:93
+   */
+  public TypeAccess treeCopy() {
+    TypeAccess tree = (TypeAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:107
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_Package == ((TypeAccess) node).tokenString_Package) && (tokenString_ID == ((TypeAccess) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the lexeme Package.
+   * @param value The new value for the lexeme Package.
+   * @apilevel high-level
+   */
+  public void setPackage(String value) {
+    tokenString_Package = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_Package;
+  /**
+   */
+  public int Packagestart;
+  /**
+   */
+  public int Packageend;
+  /**
+   * JastAdd-internal setter for lexeme Package using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme Package
+   * @apilevel internal
+   */
+  public void setPackage(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setPackage is only valid for String lexemes");
+    tokenString_Package = (String)symbol.value;
+    Packagestart = symbol.getStart();
+    Packageend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme Package.
+   * @return The value for the lexeme Package.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="Package")
+  public String getPackage() {
+    return tokenString_Package != null ? tokenString_Package : "";
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_ID;
+  /**
+   */
+  public int IDstart;
+  /**
+   */
+  public int IDend;
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:433
+   */
+  private TypeDecl refined_TypeScopePropagation_TypeAccess_decl()
+{
+    SimpleSet<TypeDecl> decls = decls();
+    if (decls.isSingleton()) {
+      return decls.singletonValue();
+    }
+    return unknownType();
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessControl
+   * @declaredat /root/project/java4/frontend/AccessControl.jrag:158
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessControl", declaredAt="/root/project/java4/frontend/AccessControl.jrag:158")
+  public Collection<Problem> accessControlProblems() {
+    state().trace().computeBegin(this, "TypeAccess.accessControlProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        TypeDecl hostType = hostType();
+        if (hostType != null && !hostType.isUnknown() && !type().accessibleFrom(hostType)) {
+          problems.add(errorf("%s in %s can not access type %s",
+              this.prettyPrint(), hostType().fullName(), type().fullName()));
+        } else if ((hostType == null || hostType.isUnknown())
+            && !type().accessibleFromPackage(hostPackage())
+            && !type().isUnknown()) {
+          problems.add(errorf("%s can not access type %s", this.prettyPrint(), type().fullName()));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeAccess.accessControlProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:404
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:404")
+  public SimpleSet<TypeDecl> decls() {
+    state().trace().computeBegin(this, "TypeAccess.decls()", "", "");
+    SimpleSet<TypeDecl> decls_value = packageName().equals("")
+          ? lookupType(name())
+          : toSet(lookupType(packageName(), name()));
+    state().trace().computeEnd(this, "TypeAccess.decls()", "", decls_value);
+    return decls_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:433
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:433")
+  public TypeDecl decl() {
+    state().trace().computeBegin(this, "TypeAccess.decl()", "", "");
+    try {
+        TypeDecl decl = refined_TypeScopePropagation_TypeAccess_decl();
+        if (decl instanceof GenericTypeDecl && isRaw()) {
+          return ((GenericTypeDecl) decl).lookupParTypeDecl(Collections.<TypeDecl>emptyList());
+        }
+        return decl;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeAccess.decl()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:264
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:264")
+  public SimpleSet<Variable> qualifiedLookupVariable(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "Expr.qualifiedLookupVariable(String)", _parameters, "");
+    try {
+        if (type().accessibleFrom(hostType())) {
+          SimpleSet<Variable> c = type().memberFields(name);
+          c = keepAccessibleFields(c);
+          if (type().isClassDecl() && c.isSingleton()) {
+            c = removeInstanceVariables(c);
+          }
+          return c;
+        }
+        return emptySet();
+      }
+    finally {
+      state().trace().computeEnd(this, "Expr.qualifiedLookupVariable(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:236
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:236")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "TypeAccess.nameProblems()", "", "");
+    try {
+        if (isQualified() && !qualifier().isTypeAccess() && !qualifier().isPackageAccess()) {
+          return Collections.singletonList(
+              errorf("the type %s is not accessible in this context", decl().typeName()));
+        }
+        // Type lookup for an unknown type can result in either an empty set or
+        // a set containing the unknown type.
+        // The empty set is returned for an unqualified type lookup, and the
+        // unknown type is returned for qualified type lookup.
+        // TODO(joqvist): Make qualified and unqualified type lookup behave the same on failure.
+        SimpleSet<TypeDecl> decls = decls();
+        if (decls.isSingleton()) {
+          if (decls.singletonValue().isUnknown()) {
+            return Collections.singletonList(
+                errorf("no visible type named %s", typeName()));
+          } else {
+            return Collections.emptyList();
+          }
+        } else if (decls.isEmpty()) {
+          return Collections.singletonList(
+              errorf("no visible type named %s", typeName()));
+        } else {
+          StringBuilder sb = new StringBuilder();
+          sb.append("multiple types named " + name() + " are visible:");
+          for (TypeDecl type : decls) {
+            sb.append(" " + type.typeName());
+          }
+          return Collections.singletonList(error(sb.toString()));
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeAccess.nameProblems()", "", "");
+    }
+  }
+  /**
+   * Has package name (not @primitive)
+   * @attribute syn
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:300
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PrettyPrintUtil", declaredAt="/root/project/java4/frontend/PrettyPrintUtil.jrag:300")
+  public boolean hasPackage() {
+    state().trace().computeBegin(this, "TypeAccess.hasPackage()", "", "");
+    boolean hasPackage_value = !getPackage().isEmpty() && decl().isReferenceType();
+    state().trace().computeEnd(this, "TypeAccess.hasPackage()", "", hasPackage_value);
+    return hasPackage_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:39")
+  public String name() {
+    state().trace().computeBegin(this, "TypeAccess.name()", "", "");
+    String name_value = getID();
+    state().trace().computeEnd(this, "TypeAccess.name()", "", name_value);
+    return name_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:43")
+  public String packageName() {
+    state().trace().computeBegin(this, "Expr.packageName()", "", "");
+    String packageName_value = getPackage();
+    state().trace().computeEnd(this, "Expr.packageName()", "", packageName_value);
+    return packageName_value;
+  }
+  /** @return the qualified type name including the package name. 
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:57
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:57")
+  public String nameWithPackage() {
+    state().trace().computeBegin(this, "TypeAccess.nameWithPackage()", "", "");
+    String nameWithPackage_value = getPackage().equals("") ? name() : (getPackage() + "." + name());
+    state().trace().computeEnd(this, "TypeAccess.nameWithPackage()", "", nameWithPackage_value);
+    return nameWithPackage_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:73
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:73")
+  public String typeName() {
+    state().trace().computeBegin(this, "Expr.typeName()", "", "");
+    String typeName_value = isQualified() ? (qualifier().typeName() + "." + name()) : nameWithPackage();
+    state().trace().computeEnd(this, "Expr.typeName()", "", typeName_value);
+    return typeName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:35")
+  public boolean isTypeAccess() {
+    state().trace().computeBegin(this, "Expr.isTypeAccess()", "", "");
+    boolean isTypeAccess_value = true;
+    state().trace().computeEnd(this, "Expr.isTypeAccess()", "", isTypeAccess_value);
+    return isTypeAccess_value;
+  }
+  /**
+   * Tests if this is a qualified type access expression for
+   * the given type.
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:43")
+  public boolean isTypeAccess(String packageName, String type) {
+    Object _parameters = java.util.Arrays.asList(packageName, type);
+    state().trace().computeBegin(this, "Expr.isTypeAccess(String,String)", _parameters, "");
+    boolean isTypeAccess_String_String_value = getID().equals(type) && getPackage().equals(packageName());
+    state().trace().computeEnd(this, "Expr.isTypeAccess(String,String)", _parameters, isTypeAccess_String_String_value);
+    return isTypeAccess_String_String_value;
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    NameType predNameType_value = NameType.PACKAGE_OR_TYPE_NAME;
+    state().trace().computeEnd(this, "Access.predNameType()", "", predNameType_value);
+    return predNameType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:298
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:298")
+  public TypeDecl type() {
+    state().trace().computeBegin(this, "TypeAccess.type()", "", "");
+    TypeDecl type_value = decl();
+    state().trace().computeEnd(this, "TypeAccess.type()", "", type_value);
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:240
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:240")
+  public boolean staticContextQualifier() {
+    state().trace().computeBegin(this, "Expr.staticContextQualifier()", "", "");
+    boolean staticContextQualifier_value = true;
+    state().trace().computeEnd(this, "Expr.staticContextQualifier()", "", staticContextQualifier_value);
+    return staticContextQualifier_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1322
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1322")
+  public boolean usesTypeVariable() {
+    state().trace().computeBegin(this, "ASTNode.usesTypeVariable()", "", "");
+    boolean usesTypeVariable_value = decl().usesTypeVariable() || super.usesTypeVariable();
+    state().trace().computeEnd(this, "ASTNode.usesTypeVariable()", "", usesTypeVariable_value);
+    return usesTypeVariable_value;
+  }
+  /**
+   * Finds the host type declaration of a class access.
+   * 
+   * <p>Call this attribute only on expressions that return {@code true} for
+   * isClassAccess or it may throw an error!
+   * 
+   * @return the TypeDecl corresponding to the accesssed class.
+   * @attribute syn
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:278
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AnnotationsCodegen", declaredAt="/root/project/java5/backend/AnnotationsCodegen.jrag:278")
+  public TypeDecl classAccess() {
+    state().trace().computeBegin(this, "Expr.classAccess()", "", "");
+    TypeDecl classAccess_value = type();
+    state().trace().computeEnd(this, "Expr.classAccess()", "", classAccess_value);
+    return classAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LambdaParametersInference
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:624
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaParametersInference", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:624")
+  public boolean mentionsTypeVariable(TypeVariable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Access.mentionsTypeVariable(TypeVariable)", _parameters, "");
+    boolean mentionsTypeVariable_TypeVariable_value = getPackage().isEmpty() && getID().equals(var.getID());
+    state().trace().computeEnd(this, "Access.mentionsTypeVariable(TypeVariable)", _parameters, mentionsTypeVariable_TypeVariable_value);
+    return mentionsTypeVariable_TypeVariable_value;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/AccessControl.jrag:156
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:234
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java5/frontend/Annotations.jrag:488
+    if (decl().isDeprecated()
+              && !withinDeprecatedAnnotation()
+              && (hostType() == null || hostType().topLevelType() != decl().topLevelType())
+              && !withinSuppressWarnings("deprecation")) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    // @declaredat /root/project/java5/frontend/Generics.jrag:679
+    if (type().isRawType() && type().isNestedType()
+              && type().enclosingType().isParameterizedType()
+              && !type().enclosingType().isRawType()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : accessControlProblems()) {
+      collection.add(value);
+    }
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+    if (decl().isDeprecated()
+              && !withinDeprecatedAnnotation()
+              && (hostType() == null || hostType().topLevelType() != decl().topLevelType())
+              && !withinSuppressWarnings("deprecation")) {
+      collection.add(warning(decl().typeName() + " has been deprecated"));
+    }
+    if (type().isRawType() && type().isNestedType()
+              && type().enclosingType().isParameterizedType()
+              && !type().enclosingType().isRawType()) {
+      collection.add(error("Can not access a member type of a paramterized type as a raw type"));
+    }
+  }
+}
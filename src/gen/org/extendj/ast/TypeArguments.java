@@ -0,0 +1,155 @@
+package org.extendj.ast;
+
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast class
+ * @aspect LookupParTypeDecl
+ * @declaredat /root/project/java5/frontend/Generics.jrag:962
+ */
+public final class TypeArguments extends AbstractList<TypeDecl> {
+  
+    public static final TypeArguments EMPTY = new TypeArguments(new TypeDecl[0]);
+
+  
+
+    private final TypeDecl[] args;
+
+  
+    private final int hash;
+
+  
+
+    private TypeArguments(TypeDecl[] args) {
+      this.args = args;
+      this.hash = Arrays.hashCode(args);
+    }
+
+  
+
+    /**
+     * The array must not be modified after this call.
+     */
+    public static TypeArguments of(TypeDecl[] args) {
+      return args.length == 0 ? EMPTY : new TypeArguments(args);
+    }
+
+  
+
+    public static TypeArguments of(Collection<TypeDecl> args) {
+      if (args instanceof TypeArguments) {
+        return (TypeArguments) args;
+      }
+      return of(args.toArray(new TypeDecl[args.size()]));
+    }
+
+  
+
+    @Override
+    public TypeDecl get(int index) {
+      return args[index];
+    }
+
+  
+
+    @Override
+    public int size() {
+      return args.length;
+    }
+
+  
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+  
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) {
+        return true;
+      }
+      if (other instanceof TypeArguments) {
+        TypeArguments list = (TypeArguments) other;
+        if (hash != list.hash || args.length != list.args.length) {
+          return false;
+        }
+        for (int i = 0; i < args.length; ++i) {
+          if (args[i] != list.args[i]) {
+            return false;
+          }
+        }
+        return true;
+      }
+      return super.equals(other);
+    }
+
+
+}
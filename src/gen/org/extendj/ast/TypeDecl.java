@@ -0,0 +1,10716 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:148
+ * @production TypeDecl : {@link ASTNode} ::= <span class="component">{@link Modifiers}</span> <span class="component">&lt;ID:String&gt;</span> <span class="component">{@link BodyDecl}*</span>;
+
+ */
+public abstract class TypeDecl extends ASTNode<ASTNode> implements Cloneable, SimpleSet<TypeDecl>, VariableScope {
+  /**
+   * @aspect AnonymousClasses
+   * @declaredat /root/project/java4/frontend/AnonymousClasses.jrag:52
+   */
+  public int anonymousIndex = 0;
+  /**
+   * @aspect AnonymousClasses
+   * @declaredat /root/project/java4/frontend/AnonymousClasses.jrag:72
+   */
+  public int nextAnonymousIndex() {
+    if (isNestedType()) {
+      return enclosingType().nextAnonymousIndex();
+    }
+    return anonymousIndex++;
+  }
+  /**
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:41
+   */
+  public ConstructorDecl addConstructor(ConstructorDecl c) {
+    addBodyDecl(c);
+    return (ConstructorDecl) getBodyDecl(getNumBodyDecl()-1);
+  }
+  /**
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:46
+   */
+  public ClassDecl addMemberClass(ClassDecl c) {
+    addBodyDecl(new MemberClassDecl(c));
+    return ((MemberClassDecl) getBodyDecl(getNumBodyDecl()-1)).getClassDecl();
+  }
+  /**
+   * Adds a new field to this type declaration.
+   * It is an error if the new field is not unique.
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:55
+   */
+  public FieldDecl addMemberField(FieldDecl f) {
+    addBodyDecl(f);
+    return (FieldDecl) getBodyDecl(getNumBodyDecl() - 1);
+  }
+  /**
+   * Creates a bound access to this type.
+   * 
+   * <p>Note: this a helper method - not an NTA. The result is not attached to
+   * the AST. To get an access that exists in the AST, use the boundAccess()
+   * attribute instead.
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:115
+   */
+  public TypeAccess createBoundAccess() {
+    return new BoundTypeAccess("", name(), this);
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:512
+   */
+  @Override
+  public int size() {
+    return 1;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:517
+   */
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:522
+   */
+  @Override
+  public SimpleSet<TypeDecl> add(TypeDecl o) {
+    return new SimpleSetImpl<TypeDecl>(this, o);
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:527
+   */
+  @Override
+  public boolean contains(Object o) {
+    return this == o;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:532
+   */
+  @Override
+  public boolean isSingleton() {
+    return true;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:537
+   */
+  @Override
+  public boolean isSingleton(TypeDecl o) {
+    return contains(o);
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:542
+   */
+  @Override
+  public TypeDecl singletonValue() {
+    return this;
+  }
+  /**
+   * @aspect DataStructures
+   * @declaredat /root/project/java4/frontend/DataStructures.jrag:547
+   */
+  @Override
+  public Iterator<TypeDecl> iterator() {
+    return new SingleItemIterator(this);
+  }
+  /**
+   * @aspect DocumentationComments
+   * @declaredat /root/project/java4/frontend/DocumentationComments.jadd:38
+   */
+  public String docComment = "";
+  /**
+   * @aspect ConstructorLookup
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:130
+   */
+  public ConstructorDecl lookupConstructor(ConstructorDecl signature) {
+    for (ConstructorDecl decl : constructors()) {
+      if (decl.sameSignature(signature)) {
+        return decl;
+      }
+    }
+    return null;
+  }
+  /**
+   * Determine if a method invocation may access a given method declaration
+   * with protected access modifier from within a body declaration of this
+   * type.
+   * @aspect MethodDecl
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:434
+   */
+  public boolean mayAccess(MethodAccess access, MethodDecl method) {
+    if (subtype(method.hostType())
+        && access.qualifier().type().subtype(this)) {
+      return true;
+    }
+
+    if (isNestedType()) {
+      return enclosingType().mayAccess(access, method);
+    } else {
+      return false;
+    }
+  }
+  /**
+   * Utility method to add a method to a method collection map.
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:515
+   */
+  protected static void addMethodToMap(MethodDecl method,
+      Map<String, Collection<MethodDecl>> map) {
+    String name = method.name();
+    Collection<MethodDecl> methods = map.get(name);
+    if (methods == null) {
+      methods = new ArrayList<MethodDecl>(2);
+      map.put(name, methods);
+    }
+    methods.add(method);
+  }
+  /**
+   * Test if all methods in the collection with the given signature are abstract.
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:711
+   */
+  protected boolean allMethodsAbstract(Collection<MethodDecl> methods, String signature) {
+    for (MethodDecl method : methods) {
+      if (!method.isAbstract() && method.signature().equals(signature)) {
+        return false;
+      }
+    }
+    return true;
+  }
+  /**
+   * Test if the method collection contains a method with the given signature.
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:723
+   */
+  protected boolean containsSignature(Collection<MethodDecl> methods, String signature) {
+    for (MethodDecl method : methods) {
+      if (method.signature().equals(signature)) {
+        return true;
+      }
+    }
+    return false;
+  }
+  /**
+   * Remove fields that are not accessible when accessed by the given qualifier type
+   * from this type.
+   * 
+   * @param qualifier the qualifying expression type.
+   * @param fields the visible fields.
+   * @return a set containing the accessible fields.
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:306
+   */
+  public SimpleSet<Variable> keepAccessibleFields(TypeDecl qualifier,
+      SimpleSet<Variable> fields) {
+    SimpleSet<Variable> newSet = emptySet();
+    for (Variable f : fields) {
+      if (mayAccess(qualifier, f)) {
+        newSet = newSet.add(f);
+      }
+    }
+    return newSet;
+  }
+  /**
+   * @aspect Fields
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:476
+   */
+  public Iterator<Variable> fieldsIterator() {
+    return new Iterator<Variable>() {
+      private Iterator<SimpleSet<Variable>> outer = memberFieldsMap().values().iterator();
+
+      private Iterator<Variable> inner = null;
+
+      @Override
+      public boolean hasNext() {
+        if ((inner == null || !inner.hasNext()) && outer.hasNext()) {
+          inner = outer.next().iterator();
+        }
+        return inner != null ? inner.hasNext() : false;
+      }
+
+      @Override
+      public FieldDeclarator next() {
+        return (FieldDeclarator) inner.next();
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:97
+   */
+  @Override public String toString() {
+    return getID();
+  }
+  /**
+   * @aspect CreateQualifiedAccesses
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:121
+   */
+  public Access createQualifiedAccess() {
+    if (isLocalClass() || isAnonymous()) {
+      return new TypeAccess(name());
+    } else if (!isTopLevelType()) {
+      return enclosingType().createQualifiedAccess().qualifiesAccess(new TypeAccess(name()));
+    } else {
+      return new TypeAccess(packageName(), name());
+    }
+  }
+  /**
+   * @aspect ReleaseBodies
+   * @declaredat /root/project/java4/frontend/ReleaseBodies.jadd:54
+   */
+  public void refined_ReleaseBodies_TypeDecl_releaseBodies() {
+    for (BodyDecl decl : getBodyDeclList()) {
+      decl.releaseBody();
+    }
+  }
+  /**
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:250
+   */
+  public Variable findSingleVariable(String name) {
+    return memberFields(name).iterator().next();
+  }
+  /**
+   * Error-check two interface method declarations.
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:552
+   */
+  protected void refined_TypeHierarchyCheck_TypeDecl_checkAbstractMethodDecls(Collection<Problem> problems,
+      MethodDecl m1, MethodDecl m2) {
+    if (!m1.mayOverride(m2) && !m2.mayOverride(m1)) {
+      String inh1 = "";
+      TypeDecl host1 = m1.hostType();
+      TypeDecl host2 = m2.hostType();
+      if (host1 != this || host2 != this) {
+        inh1 = "inherited ";
+      }
+      problems.add(errorf("%smethod %s is multiply declared with incompatible return types in %s",
+          inh1, m1.fullSignature(), fullName()));
+    }
+  }
+  /**
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:114
+   */
+  public int addConstant(ConstantPool p, Constant c) {
+    if (isString()) {
+      return p.addConstant(c.stringValue());
+    }
+    throw new Error("Not supported");
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:111
+   */
+  public void emitPushConstant(CodeGeneration gen, int value) { }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:179
+   */
+  public void emitReturn(CodeGeneration gen)      { codeGenError("return"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:188
+   */
+  public void emitArrayLoad(CodeGeneration gen)      { codeGenError("array load"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:199
+   */
+  public void emitLoadLocal(CodeGeneration gen, int pos)       { codeGenError("load local"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:258
+   */
+  public void emitArrayStore(CodeGeneration gen)       { codeGenError("array load"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:281
+   */
+  public void emitStoreLocal(CodeGeneration gen, int pos)      { codeGenError("store local"); }
+  /**
+   * Generates, if necessary, a checkcast instruction to convert an expression of this
+   * type to the target type.
+   * 
+   * @param gen bytecode output.
+   * @param type the type to cast to.
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:378
+   */
+  void emitCastTo(CodeGeneration gen, TypeDecl type)      { codeGenError("type cast"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:394
+   */
+  void intToThis(CodeGeneration gen)   { codeGenError("intToThis"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:403
+   */
+  void floatToThis(CodeGeneration gen)   { codeGenError("floatToThis"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:412
+   */
+  void doubleToThis(CodeGeneration gen)   { codeGenError("doubleToThis"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:421
+   */
+  void longToThis(CodeGeneration gen)   { codeGenError("longToThis"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:430
+   */
+  void byteToThis(CodeGeneration gen)   { codeGenError("byteToThis"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:437
+   */
+  void charToThis(CodeGeneration gen)   { codeGenError("charToThis"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:445
+   */
+  void shortToThis(CodeGeneration gen)   { codeGenError("shortToThis"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:480
+   */
+  void neg(CodeGeneration gen)     { codeGenError("boolean negation"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:486
+   */
+  void bitNot(CodeGeneration gen)     { codeGenError("binary negation"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:490
+   */
+  void logNot(CodeGeneration gen)    { codeGenError("boolean negation"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:493
+   */
+  void add(CodeGeneration gen)     { codeGenError("addition"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:499
+   */
+  void sub(CodeGeneration gen)     { codeGenError("subtraction"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:505
+   */
+  void mul(CodeGeneration gen)     { codeGenError("multiplication"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:511
+   */
+  void div(CodeGeneration gen)     { codeGenError("division"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:517
+   */
+  void rem(CodeGeneration gen)     { codeGenError("modulo"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:523
+   */
+  void shl(CodeGeneration gen)     { codeGenError("shift left"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:527
+   */
+  void shr(CodeGeneration gen)     { codeGenError("shift right"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:531
+   */
+  void ushr(CodeGeneration gen)     { codeGenError("unsigned shift right"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:535
+   */
+  void bitand(CodeGeneration gen)     { codeGenError("binary AND"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:540
+   */
+  void bitor(CodeGeneration gen)     { codeGenError("binary OR"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:545
+   */
+  void bitxor(CodeGeneration gen)     { codeGenError("binary XOR"); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:550
+   */
+  public void branchLT(CodeGeneration gen, int label) {
+    codeGenError("branch LT");
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:558
+   */
+  public void branchLTInv(CodeGeneration gen, int label)   { branchLT(gen, label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:562
+   */
+  public void branchLE(CodeGeneration gen, int label) {
+    codeGenError("branch LE");
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:570
+   */
+  public void branchLEInv(CodeGeneration gen, int label)   { branchLE(gen, label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:574
+   */
+  public void branchGE(CodeGeneration gen, int label) {
+    codeGenError("branch GE");
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:582
+   */
+  public void branchGEInv(CodeGeneration gen, int label)   { branchGE(gen, label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:586
+   */
+  public void branchGT(CodeGeneration gen, int label) {
+    codeGenError("branch GT");
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:594
+   */
+  public void branchGTInv(CodeGeneration gen, int label)   { branchGT(gen, label); }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:598
+   */
+  public void branchEQ(CodeGeneration gen, int label) {
+    codeGenError("branch EQ");
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:609
+   */
+  public void branchNE(CodeGeneration gen, int label) {
+    codeGenError("branch NE");
+  }
+  /**
+   * Generates static initializer bytecode.
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:91
+   */
+  protected void generateBytecodes(CodeGeneration gen) {
+    for (BodyDecl b : getBodyDeclList()) {
+      if (b instanceof FieldDecl) {
+        FieldDecl field = (FieldDecl) b;
+        if (field.isStatic()) {
+          for (FieldDeclarator decl : field.getDeclaratorList()) {
+            if (decl.hasInit()) {
+              decl.emitInitializerBCode(gen);
+              decl.emitStoreField(gen, this);
+            }
+          }
+        }
+      } else if (b instanceof StaticInitializer) {
+        b.createBCode(gen);
+      }
+    }
+    if (hasAssertStatement()) {
+      assertionsDisabled().emitInitializerBCode(gen);
+      assertionsDisabled().emitStoreField(gen, this);
+    }
+    gen.RETURN();
+  }
+  /**
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:49
+   */
+  public int mangledFlags(int flags) {
+    boolean privateFlag = (flags & Modifiers.ACC_PRIVATE) != 0;
+    boolean protectedFlag = (flags & Modifiers.ACC_PROTECTED) != 0;
+    flags &= ~ Modifiers.ACC_PRIVATE;
+    flags &= ~ Modifiers.ACC_PROTECTED;
+    if (protectedFlag) {
+      flags |= Modifiers.ACC_PUBLIC;
+    }
+    return flags;
+  }
+  /**
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:48
+   */
+  public void generateClassfile() {
+    for (TypeDecl typeDecl : nestedTypes()) {
+      typeDecl.generateClassfile();
+    }
+  }
+  /**
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:66
+   */
+  public void classfilePaths(Collection<String> paths) {
+    for (TypeDecl typeDecl : nestedTypes()) {
+      typeDecl.classfilePaths(paths);
+    }
+  }
+  /** Generate bytecode attributes for the fields in this type. 
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:189
+   */
+  protected void generateFields(DataOutputStream out, ConstantPool cp) throws IOException {
+    Collection<FieldDeclarator> fields = fieldDeclarations();
+    out.writeChar(fields.size() + (needsEnclosing() ? 1 : 0) + enclosingVariables().size());
+    for (FieldDeclarator field : fields) {
+      out.writeChar(field.flags());
+      out.writeChar(cp.addUtf8(field.name()));
+      out.writeChar(cp.addUtf8(field.type().typeDescriptor()));
+      out.writeChar(field.attributes().size());
+      for (Attribute attribute : field.attributes()) {
+        attribute.emit(out);
+      }
+    }
+    // Add fields to store enclosing variables.
+    for (Variable var : enclosingVariables()) {
+      out.writeChar(Modifiers.ACC_FINAL | Modifiers.ACC_SYNTHETIC);
+      out.writeChar(cp.addUtf8("val$" + var.name()));
+      out.writeChar(cp.addUtf8(var.type().typeDescriptor()));
+      out.writeChar(0);
+    }
+  }
+  /**
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:216
+   */
+  private java.util.concurrent.atomic.AtomicInteger nextUniqueId =
+      new java.util.concurrent.atomic.AtomicInteger(0);
+  /**
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:219
+   */
+  private int uniqueId() {
+    return nextUniqueId.getAndIncrement();
+  }
+  /**
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:33
+   */
+  int uniqueIndexCounter = 1;
+  /**
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:266
+   */
+  public TypeDecl makeGeneric(Signatures.ClassSignature s) {
+    return this;
+  }
+  /**
+   * Merge the source map into the destination map.
+   * @param dest destination map
+   * @param src source map
+   * @aspect GenericsTypeCheck
+   * @declaredat /root/project/java5/frontend/Generics.jrag:589
+   */
+  protected void mergeMap(Map<String, SimpleSet<MethodDecl>> dest,
+      Map<String, SimpleSet<MethodDecl>> src) {
+    for (Map.Entry<String, SimpleSet<MethodDecl>> entry : src.entrySet()) {
+      String signature = entry.getKey();
+      for (MethodDecl method : entry.getValue()) {
+        putSimpleSetElement(dest, signature, method);
+      }
+    }
+  }
+  /**
+   * Builds a list of erased members in a raw type.
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1701
+   */
+  protected List<BodyDecl> erasedBodyDecls() {
+    List<BodyDecl> list = new List<BodyDecl>();
+    for (BodyDecl decl : getBodyDeclList()) {
+      if (decl.isSubstitutable()) {
+        list.add(decl.erasedCopy());
+      }
+    }
+    return list;
+  }
+  /**
+   * Add an annotation parameter constant to the constant pool.
+   * @see AST.TypeDecl#addConstant(ConstantPool, Constant) TypeDecl.addConstant(ConstantPool, Constant)
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:238
+   */
+  public int addAnnotConstant(ConstantPool p, Constant c)     {
+    if (isString()) {
+      return p.addUtf8(c.stringValue());
+    }
+    throw new Error("Not supported");
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:129
+   */
+  protected void emitBoxingOperation(CodeGeneration gen) {
+    // Box the value on the stack into this Reference type.
+    String classname = constantPoolName();
+    String desc = "(" + unboxed().typeDescriptor() + ")" + typeDescriptor();
+    String name = "valueOf";
+    int index = gen.constantPool().addMethodref(classname, name, desc);
+    gen.INVOKESTATIC(index, 1, this);
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:157
+   */
+  protected void emitUnboxingOperation(CodeGeneration gen) {
+    // Unbox the value on the stack from this Reference type.
+    String classname = constantPoolName();
+    String desc = "(" + ")" + unboxed().typeDescriptor();
+    String name = unboxed().name() + "Value";
+    int index = gen.constantPool().addMethodref(classname, name, desc);
+    gen.INVOKEVIRTUAL(index, 1, unboxed());
+  }
+  /**
+   * @aspect Java8NameCheck
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:288
+   */
+  protected void checkInterfaceMethodDecls(Collection<Problem> problems,
+      MethodDecl m1, MethodDecl m2) {
+    if (m1.isAbstract() && m2.isAbstract()) {
+      checkAbstractMethodDecls(problems, m1, m2);
+      return;
+    } else {
+      TypeDecl host1 = m1.hostType();
+      TypeDecl host2 = m2.hostType();
+      String inh1 = "";
+      String inh2 = "";
+      if (host1 != this) {
+        inh1 = "inherited ";
+      }
+      if (host2 != this) {
+        inh2 = "inherited ";
+      }
+
+      //9.4
+      problems.add(errorf("%smethod %s and %smethod %s are multiply declared in %s",
+          inh1, m1.fullSignature(), inh2, m2.fullSignature(), fullName()));
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public TypeDecl() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[2];
+    setChild(new List(), 1);
+  }
+  /**
+   * @declaredat ASTNode:14
+   */
+  public TypeDecl(Modifiers p0, String p1, List<BodyDecl> p2) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+  }
+  /**
+   * @declaredat ASTNode:19
+   */
+  public TypeDecl(Modifiers p0, beaver.Symbol p1, List<BodyDecl> p2) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:25
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:31
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:35
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    accessibleFromPackage_String_reset();
+    accessibleFromExtend_TypeDecl_reset();
+    accessibleFrom_TypeDecl_reset();
+    dimension_reset();
+    elementType_reset();
+    arrayType_reset();
+    boundAccess_reset();
+    isException_reset();
+    isCheckedException_reset();
+    isUncheckedException_reset();
+    mayCatch_TypeDecl_reset();
+    constructors_reset();
+    unqualifiedLookupMethod_String_reset();
+    methodsNameMap_reset();
+    localMethods_reset();
+    localMethodsSignatureMap_reset();
+    interfacesMethods_reset();
+    interfacesMethodsSignatureMap_reset();
+    methods_reset();
+    methodsSignatureMap_reset();
+    ancestorMethods_String_reset();
+    localTypeDecls_String_reset();
+    localFields_String_reset();
+    localFieldsMap_reset();
+    memberFieldsMap_reset();
+    memberFields_String_reset();
+    hasAbstract_reset();
+    unimplementedMethods_reset();
+    isPublic_reset();
+    isStatic_reset();
+    fullName_reset();
+    typeName_reset();
+    narrowingConversionTo_TypeDecl_reset();
+    methodInvocationConversionTo_TypeDecl_reset();
+    castingConversionTo_TypeDecl_reset();
+    isString_reset();
+    isObject_reset();
+    subtype_TypeDecl_reset();
+    superInterfaces_reset();
+    isCircular_reset();
+    innerClassesAttributeEntries_reset();
+    attributes_reset();
+    clinit_attributes_reset();
+    constantPool_reset();
+    constantPoolName_reset();
+    uniqueName_reset();
+    typeDescriptor_reset();
+    destinationPath_reset();
+    hasClinit_reset();
+    bytecodes_ConstantPool_reset();
+    flags_reset();
+    fieldDeclarations_reset();
+    enclosingVariables_reset();
+    methodAccessor_MethodDecl_reset();
+    superAccessor_MethodDecl_reset();
+    fieldAccessor_Variable_reset();
+    fieldWriteAccessor_Variable_reset();
+    needsEnclosing_reset();
+    needsSuperEnclosing_reset();
+    getAccessor_ConstructorSignatureMapper_reset();
+    uniqueIndex_reset();
+    jvmName_reset();
+    hasAssertStatement_reset();
+    assertionsDisabledField_reset();
+    verificationType_reset();
+    boxed_reset();
+    unboxed_reset();
+    isIterable_reset();
+    iterableElementType_reset();
+    firstTypeArgument_reset();
+    involvesTypeParameters_reset();
+    erasure_reset();
+    erasedAncestorMethodsMap_reset();
+    implementedInterfaces_reset();
+    usesTypeVariable_reset();
+    sourceTypeDecl_reset();
+    containedIn_TypeDecl_reset();
+    sameStructure_TypeDecl_reset();
+    enumIndices_TypeDecl_reset();
+    createEnumMethod_TypeDecl_reset();
+    createEnumArrayField_TypeDecl_reset();
+    bridgeMethods_reset();
+    bridgeCandidates_String_reset();
+    bridgeMethods_MethodDecl_reset();
+    bridgeMethod_MethodDecl_MethodDecl_reset();
+    needsSignatureAttribute_reset();
+    classSignature_reset();
+    fieldTypeSignature_reset();
+    classTypeSignature_reset();
+    isFunctionalInterface_reset();
+    strictContainedIn_TypeDecl_reset();
+    strictSubtype_TypeDecl_reset();
+    componentType_reset();
+    typeException_reset();
+    typeRuntimeException_reset();
+    typeError_reset();
+    lookupMethod_String_reset();
+    typeObject_reset();
+    lookupType_String_reset();
+    lookupVariable_String_reset();
+    packageName_reset();
+    isAnonymous_reset();
+    unknownType_reset();
+    inExplicitConstructorInvocation_reset();
+    inStaticContext_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:144
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+    TypeDecl_accessors_computed = null;
+    TypeDecl_accessors_value = null;
+    TypeDecl_nestedTypes_computed = null;
+    TypeDecl_nestedTypes_value = null;
+    TypeDecl_enumSwitchStatements_computed = null;
+    TypeDecl_enumSwitchStatements_value = null;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:154
+   */
+  public TypeDecl clone() throws CloneNotSupportedException {
+    TypeDecl node = (TypeDecl) super.clone();
+    return node;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:165
+   */
+  @Deprecated
+  public abstract TypeDecl fullCopy();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:173
+   */
+  public abstract TypeDecl treeCopyNoTransform();
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:181
+   */
+  public abstract TypeDecl treeCopy();
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_ID;
+  /**
+   */
+  public int IDstart;
+  /**
+   */
+  public int IDend;
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the BodyDecl list.
+   * @param list The new list node to be used as the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void setBodyDeclList(List<BodyDecl> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="BodyDecl")
+  public List<BodyDecl> getBodyDeclList() {
+    List<BodyDecl> list = (List<BodyDecl>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+  /**
+   * Also drops the cached constant pool and class file attributes, which
+   * are not needed once the class file has been written.
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:489
+   */
+    public void releaseBodies() {
+    refined_ReleaseBodies_TypeDecl_releaseBodies();
+    flushCollectionCache();
+    innerClassesAttributeEntries_reset();
+    attributes_reset();
+    clinit_attributes_reset();
+    bytecodes_ConstantPool_reset();
+    constantPool_reset();
+  }
+  /**
+   * @aspect AutoBoxingCodegen
+   * @declaredat /root/project/java5/backend/AutoBoxingCodegen.jrag:323
+   */
+   
+  void emitAssignConvTo(CodeGeneration gen, TypeDecl type) {
+    if (!type.isIntegralType() || !isIntegralType() || type.isLong()
+        || type.isReferenceType() || isReferenceType()) {
+      emitCastTo(gen, type);
+    }
+  }
+  /**
+   * @aspect TypeCheck
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:190
+   */
+   
+  protected void refined_TypeCheck_TypeDecl_checkAbstractMethodDecls(Collection<Problem> problems,
+      MethodDecl m1, MethodDecl m2) {
+    if (!m1.sameSignature(m2)) {
+      problems.add(errorf("method declarations %s and %s in interface %s are incompatible",
+          m1.fullSignature(), m2.fullSignature(), fullName()));
+    } else {
+      refined_TypeHierarchyCheck_TypeDecl_checkAbstractMethodDecls(problems, m1, m2);
+    }
+  }
+  /**
+   * @aspect Java8NameCheck
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:254
+   */
+   
+  protected void checkAbstractMethodDecls(Collection<Problem> problems,
+      MethodDecl m1, MethodDecl m2) {
+    if (!m1.subsignatureTo(m2) && !m2.subsignatureTo(m1)) {
+      TypeDecl host1 = m1.hostType();
+      TypeDecl host2 = m2.hostType();
+      String inh1 = "";
+      String inh2 = "";
+      if (host1 != this) {
+        inh1 = "inherited ";
+      }
+      if (host2 != this) {
+        inh2 = "inherited ";
+      }
+
+      //8.4.8.3
+      problems.add(errorf("%smethod %s and %smethod %s are multiply declared with"
+          + " the same erasure but not override-equivalent signatures in %s",
+          inh1, m1.fullSignature(), inh2, m2.fullSignature(), fullName()));
+    }
+    // DON'T FORGET TO CHECK THIS, REALLY OK TO CHECK BOTH WAYS???
+    if (!m1.returnTypeSubstitutableFor(m2) && !m2.returnTypeSubstitutableFor(m1)) {
+      String inh1 = "";
+      TypeDecl host1 = m1.hostType();
+      TypeDecl host2 = m2.hostType();
+      if (host1 != this || host2 != this) {
+        inh1 = "inherited ";
+      }
+
+      problems.add(errorf("%smethod %s is multiply declared with incompatible return types in %s",
+          inh1, m1.fullSignature(), fullName()));
+    }
+  }
+  /**
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:88
+   */
+  private Collection<Problem> refined_Modifiers_TypeDecl_modifierProblems()
+{
+    Collection<Problem> problems = new LinkedList<Problem>();
+    // 8.1.1
+    if (isPublic() && !isTopLevelType() && !isMemberType()) {
+      problems.add(error("public pertains only to top level types and member types"));
+    }
+
+    // 8.1.1
+    if ((isProtected() || isPrivate()) && !(isMemberType() && enclosingType().isClassDecl())) {
+      problems.add(error("protected and private may only be used on member types within "
+          + "a directly enclosing class declaration"));
+    }
+
+    // 8.1.1
+    if (isStatic() && !isMemberType()) {
+      problems.add(error("static pertains only to member types"));
+    }
+
+
+    // 8.4.3.1
+    // 8.1.1.1
+    if (!isAbstract() && hasAbstract()) {
+      StringBuilder sb = new StringBuilder();
+      sb.append("" + name() + " is not declared abstract but contains abstract members: \n");
+      for (MethodDecl m : unimplementedMethods()) {
+        sb.append("  " + m.signature() + " in " + m.hostType().typeName() + "\n");
+      }
+      problems.add(error(sb.toString()));
+    }
+    return problems;
+  }
+  /**
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:83
+   */
+  private boolean refined_TypeConversion_TypeDecl_assignConversionTo_TypeDecl_Expr(TypeDecl type, Expr expr)
+{
+    if (identityConversionTo(type) || wideningConversionTo(type)) {
+      return true;
+    }
+    boolean sourceIsConstant = expr != null ? expr.isConstant() : false;
+    return sourceIsConstant
+        && (isInt() || isChar() || isShort() || isByte())
+        && (type.isByte() || type.isShort() || type.isChar())
+        && narrowingConversionTo(type)
+        && expr.representableIn(type);
+  }
+  /**
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:96
+   */
+  private boolean refined_TypeConversion_TypeDecl_methodInvocationConversionTo_TypeDecl(TypeDecl type)
+{ return identityConversionTo(type) || wideningConversionTo(type); }
+  /**
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:100
+   */
+  private boolean refined_TypeConversion_TypeDecl_castingConversionTo_TypeDecl(TypeDecl type)
+{ return identityConversionTo(type) || wideningConversionTo(type) || narrowingConversionTo(type); }
+  /**
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:249
+   */
+  private Collection<Problem> refined_TypeHierarchyCheck_TypeDecl_typeProblems()
+{
+    Collection<Problem> problems = new LinkedList<Problem>();
+    // 8.4.6.4 & 9.4.1
+    for (MethodDecl m : localMethods()) {
+      ASTNode target = m.hostType() == this ? (ASTNode) m : (ASTNode) this;
+
+      for (MethodDecl decl : ancestorMethods(m.signature())) {
+        if (m.overrides(decl)) {
+          // 8.4.6.1
+          if (!m.isStatic() && decl.isStatic()) {
+            problems.add(target.error("an instance method may not override a static method"));
+          }
+
+          // Regardless of overriding.
+          // 8.4.6.3
+          if (!m.mayOverride(decl)) {
+            problems.add(target.errorf(
+                "the return type of method %s in %s does not match the return type of"
+                + " method %s in %s and may thus not be overridden",
+                m.fullSignature(), m.hostType().typeName(), decl.fullSignature(),
+                decl.hostType().typeName()));
+          }
+
+          // Regardless of overriding.
+          // 8.4.4
+          for (Access e: m.getExceptionList()) {
+            if (e.type().isCheckedException()) {
+              boolean found = false;
+              for (Access declException: decl.getExceptionList()) {
+                if (e.type().subtype(declException.type())) {
+                  found = true;
+                  break;
+                }
+              }
+              if (!found) {
+                problems.add(target.errorf("%s in %s may not throw more checked exceptions than"
+                    + " overridden method %s in %s",
+                    m.fullSignature(), m.hostType().typeName(), decl.fullSignature(),
+                    decl.hostType().typeName()));
+              }
+            }
+          }
+
+          // 8.4.6.3
+          if (decl.isPublic() && !m.isPublic()) {
+            problems.add(target.error("overriding access modifier error"));
+          }
+          // 8.4.6.3
+          if (decl.isProtected() && !(m.isPublic() || m.isProtected())) {
+            problems.add(target.error("overriding access modifier error"));
+          }
+          // 8.4.6.3
+          if ((!decl.isPrivate() && !decl.isProtected() && !decl.isPublic()) && m.isPrivate()) {
+            problems.add(target.error("overriding access modifier error"));
+          }
+          // Regardless of overriding.
+          if (decl.isFinal()) {
+            problems.add(target.errorf("method %s in %s can not override final method %s in %s",
+                m.fullSignature(), hostType().typeName(), decl.fullSignature(),
+                decl.hostType().typeName()));
+          }
+        }
+        if (m.hides(decl)) {
+          // 8.4.6.2
+          if (m.isStatic() && !decl.isStatic()) {
+            problems.add(target.error("a static method may not hide an instance method"));
+          }
+          // 8.4.6.3
+          if (!m.mayOverride(decl)) {
+            problems.add(target.error("can not hide a method with a different return type"));
+          }
+          // 8.4.4
+          for (int i = 0; i < m.getNumException(); i++) {
+            Access e = m.getException(i);
+            boolean found = false;
+            for (int j = 0; !found && j < decl.getNumException(); j++) {
+              if (e.type().subtype(decl.getException(j).type())) {
+                found = true;
+              }
+            }
+            if (!found) {
+              problems.add(target.error(
+                  "may not throw more checked exceptions than hidden method"));
+            }
+          }
+          // 8.4.6.3
+          if (decl.isPublic() && !m.isPublic()) {
+            problems.add(target.errorf("hiding access modifier:"
+                + " public method %s in %s is hidden by non public method %s in %s",
+                decl.fullSignature(), decl.hostType().typeName(), m.fullSignature(),
+                m.hostType().typeName()));
+          }
+          // 8.4.6.3
+          if (decl.isProtected() && !(m.isPublic() || m.isProtected())) {
+            problems.add(target.errorf("hiding access modifier:"
+                + " protected method %s in %s is hidden by non (public|protected) method %s in %s",
+                decl.fullSignature(), decl.hostType().typeName(), m.fullSignature(),
+                m.hostType().typeName()));
+          }
+          // 8.4.6.3
+          if ((!decl.isPrivate() && !decl.isProtected() && !decl.isPublic()) && m.isPrivate()) {
+            problems.add(target.errorf("hiding access modifier:"
+                + " default method %s in %s is hidden by private method %s in %s",
+                decl.fullSignature(), decl.hostType().typeName(), m.fullSignature(),
+                m.hostType().typeName()));
+          }
+          if (decl.isFinal()) {
+            problems.add(target.errorf("method %s in %s can not hide final method %s in %s",
+                m.fullSignature(), hostType().typeName(), decl.fullSignature(),
+                decl.hostType().typeName()));
+          }
+        }
+      }
+    }
+    return problems;
+  }
+  /**
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:252
+   */
+  private Collection<Attribute> refined_Attributes_TypeDecl_attributes()
+{
+    Collection<Attribute> attributes = new ArrayList<Attribute>();
+    if (!innerClassesAttributeEntries().isEmpty()) {
+      attributes.add(new InnerClassesAttribute(this));
+    }
+    if (isSynthetic()) {
+      attributes.add(new SyntheticAttribute(constantPool()));
+    }
+    if (compilationUnit().fromSource()) {
+      String relativeName = compilationUnit().relativeName();
+      if (relativeName != null) {
+        String splitToken = java.io.File.separator;
+        if (splitToken.equals("\\")) {
+          splitToken = "\\\\";
+        }
+        String[] strings = relativeName.split(splitToken);
+        attributes.add(new SourceFileAttribute(constantPool(), strings[strings.length-1]));
+      }
+    }
+    return attributes;
+  }
+  /**
+   * @aspect AnnotationsCodegen
+   * @declaredat /root/project/java5/backend/AnnotationsCodegen.jrag:32
+   */
+  private Collection<Attribute> refined_AnnotationsCodegen_TypeDecl_attributes()
+{
+    Collection<Attribute> attributes = refined_Attributes_TypeDecl_attributes();
+    getModifiers().addRuntimeVisibleAnnotationsAttribute(attributes);
+    getModifiers().addRuntimeInvisibleAnnotationsAttribute(attributes);
+    return attributes;
+  }
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:365
+   */
+  private Collection<Attribute> refined_GenericsCodegen_TypeDecl_attributes()
+{
+    Collection<Attribute> attributes = refined_AnnotationsCodegen_TypeDecl_attributes();
+    if (needsSignatureAttribute()) {
+      attributes.add(new SignatureAttribute(constantPool(), classSignature()));
+    }
+    return attributes;
+  }
+  /** @apilevel internal */
+  private void accessibleFromPackage_String_reset() {
+    accessibleFromPackage_String_computed = new java.util.HashMap(4);
+    accessibleFromPackage_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map accessibleFromPackage_String_values;
+  /** @apilevel internal */
+  protected java.util.Map accessibleFromPackage_String_computed;
+  /**
+   * @attribute syn
+   * @aspect AccessControl
+   * @declaredat /root/project/java4/frontend/AccessControl.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessControl", declaredAt="/root/project/java4/frontend/AccessControl.jrag:39")
+  public boolean accessibleFromPackage(String packageName) {
+    Object _parameters = packageName;
+    if (accessibleFromPackage_String_computed == null) accessibleFromPackage_String_computed = new java.util.HashMap(4);
+    if (accessibleFromPackage_String_values == null) accessibleFromPackage_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (accessibleFromPackage_String_values.containsKey(_parameters) && accessibleFromPackage_String_computed != null
+        && accessibleFromPackage_String_computed.containsKey(_parameters)
+        && (accessibleFromPackage_String_computed.get(_parameters) == ASTState.NON_CYCLE || accessibleFromPackage_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.accessibleFromPackage(String)", _parameters, accessibleFromPackage_String_values.get(_parameters));
+      return (Boolean) accessibleFromPackage_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.accessibleFromPackage(String)", _parameters, "");
+    boolean accessibleFromPackage_String_value = !isPrivate() && (isPublic() || hostPackage().equals(packageName));
+    state().trace().computeEnd(this, "TypeDecl.accessibleFromPackage(String)", _parameters, accessibleFromPackage_String_value);
+    if (state().inCircle()) {
+      accessibleFromPackage_String_values.put(_parameters, accessibleFromPackage_String_value);
+      accessibleFromPackage_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.accessibleFromPackage(String)", _parameters, accessibleFromPackage_String_value);
+    } else {
+      accessibleFromPackage_String_values.put(_parameters, accessibleFromPackage_String_value);
+      accessibleFromPackage_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.accessibleFromPackage(String)", _parameters, accessibleFromPackage_String_value);
+    }
+    return accessibleFromPackage_String_value;
+  }
+  /** @apilevel internal */
+  private void accessibleFromExtend_TypeDecl_reset() {
+    accessibleFromExtend_TypeDecl_computed = new java.util.HashMap(4);
+    accessibleFromExtend_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map accessibleFromExtend_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map accessibleFromExtend_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect AccessControl
+   * @declaredat /root/project/java4/frontend/AccessControl.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessControl", declaredAt="/root/project/java4/frontend/AccessControl.jrag:44")
+  public boolean accessibleFromExtend(TypeDecl type) {
+    Object _parameters = type;
+    if (accessibleFromExtend_TypeDecl_computed == null) accessibleFromExtend_TypeDecl_computed = new java.util.HashMap(4);
+    if (accessibleFromExtend_TypeDecl_values == null) accessibleFromExtend_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (accessibleFromExtend_TypeDecl_values.containsKey(_parameters) && accessibleFromExtend_TypeDecl_computed != null
+        && accessibleFromExtend_TypeDecl_computed.containsKey(_parameters)
+        && (accessibleFromExtend_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || accessibleFromExtend_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.accessibleFromExtend(TypeDecl)", _parameters, accessibleFromExtend_TypeDecl_values.get(_parameters));
+      return (Boolean) accessibleFromExtend_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.accessibleFromExtend(TypeDecl)", _parameters, "");
+    boolean accessibleFromExtend_TypeDecl_value = accessibleFromExtend_compute(type);
+    state().trace().computeEnd(this, "TypeDecl.accessibleFromExtend(TypeDecl)", _parameters, accessibleFromExtend_TypeDecl_value);
+    if (state().inCircle()) {
+      accessibleFromExtend_TypeDecl_values.put(_parameters, accessibleFromExtend_TypeDecl_value);
+      accessibleFromExtend_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.accessibleFromExtend(TypeDecl)", _parameters, accessibleFromExtend_TypeDecl_value);
+    } else {
+      accessibleFromExtend_TypeDecl_values.put(_parameters, accessibleFromExtend_TypeDecl_value);
+      accessibleFromExtend_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.accessibleFromExtend(TypeDecl)", _parameters, accessibleFromExtend_TypeDecl_value);
+    }
+    return accessibleFromExtend_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean accessibleFromExtend_compute(TypeDecl type) {
+      if (type == this) {
+        return true;
+      }
+      if (isInnerType()) {
+        if (!enclosingType().accessibleFrom(type)) {
+          return false;
+        }
+      }
+      if (isPublic()) {
+        return true;
+      } else if (isProtected()) {
+        // If isProtected == true it implies a nested type.
+        if (hostPackage().equals(type.hostPackage())) {
+          return true;
+        }
+        if (type.isNestedType()
+            && type.enclosingType().withinBodyThatSubclasses(enclosingType()) != null) {
+          return true;
+        }
+        return false;
+      } else if (isPrivate()) {
+        return topLevelType() == type.topLevelType();
+      } else {
+        return hostPackage().equals(type.hostPackage());
+      }
+    }
+  /** @apilevel internal */
+  private void accessibleFrom_TypeDecl_reset() {
+    accessibleFrom_TypeDecl_computed = new java.util.HashMap(4);
+    accessibleFrom_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map accessibleFrom_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map accessibleFrom_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect AccessControl
+   * @declaredat /root/project/java4/frontend/AccessControl.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessControl", declaredAt="/root/project/java4/frontend/AccessControl.jrag:72")
+  public boolean accessibleFrom(TypeDecl type) {
+    Object _parameters = type;
+    if (accessibleFrom_TypeDecl_computed == null) accessibleFrom_TypeDecl_computed = new java.util.HashMap(4);
+    if (accessibleFrom_TypeDecl_values == null) accessibleFrom_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (accessibleFrom_TypeDecl_values.containsKey(_parameters) && accessibleFrom_TypeDecl_computed != null
+        && accessibleFrom_TypeDecl_computed.containsKey(_parameters)
+        && (accessibleFrom_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || accessibleFrom_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_values.get(_parameters));
+      return (Boolean) accessibleFrom_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, "");
+    boolean accessibleFrom_TypeDecl_value = accessibleFrom_compute(type);
+    state().trace().computeEnd(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    if (state().inCircle()) {
+      accessibleFrom_TypeDecl_values.put(_parameters, accessibleFrom_TypeDecl_value);
+      accessibleFrom_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    } else {
+      accessibleFrom_TypeDecl_values.put(_parameters, accessibleFrom_TypeDecl_value);
+      accessibleFrom_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    }
+    return accessibleFrom_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean accessibleFrom_compute(TypeDecl type) {
+      if (type == this) {
+        return true;
+      }
+      if (isInnerType()) {
+        if (!enclosingType().accessibleFrom(type)) {
+          return false;
+        }
+      }
+      if (isPublic()) {
+        return true;
+      } else if (isProtected()) {
+        if (hostPackage().equals(type.hostPackage())) {
+          return true;
+        }
+        if (isMemberType()) {
+          TypeDecl typeDecl = type;
+          while (typeDecl != null && !typeDecl.subtype(enclosingType())) {
+            typeDecl = typeDecl.enclosingType();
+          }
+          if (typeDecl != null) {
+            return true;
+          }
+        }
+        return false;
+      } else if (isPrivate()) {
+        return topLevelType() == type.topLevelType();
+      } else {
+        return hostPackage().equals(type.hostPackage());
+      }
+    }
+  /** @apilevel internal */
+  private void dimension_reset() {
+    dimension_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle dimension_computed = null;
+
+  /** @apilevel internal */
+  protected int dimension_value;
+
+  /**
+   * Dimension of this type, if it is an array type.
+   * @return 0 for non-array types, and the array dimension for an array type.
+   * @attribute syn
+   * @aspect Arrays
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Arrays", declaredAt="/root/project/java4/frontend/Arrays.jrag:36")
+  public int dimension() {
+    ASTState state = state();
+    if (dimension_computed == ASTState.NON_CYCLE || dimension_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.dimension()", "", dimension_value);
+      return dimension_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.dimension()", "", "");
+    dimension_value = 0;
+    state().trace().computeEnd(this, "TypeDecl.dimension()", "", dimension_value);
+    if (state().inCircle()) {
+      dimension_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.dimension()", "", dimension_value);
+    } else {
+      dimension_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.dimension()", "", dimension_value);
+    }
+    return dimension_value;
+  }
+  /** @apilevel internal */
+  private void elementType_reset() {
+    elementType_computed = null;
+    elementType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle elementType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl elementType_value;
+
+  /**
+   * @return the base type that the array is based on. For example, returns int
+   * for an int[][] array type.
+   * @attribute syn
+   * @aspect Arrays
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Arrays", declaredAt="/root/project/java4/frontend/Arrays.jrag:44")
+  public TypeDecl elementType() {
+    ASTState state = state();
+    if (elementType_computed == ASTState.NON_CYCLE || elementType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.elementType()", "", elementType_value);
+      return elementType_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.elementType()", "", "");
+    elementType_value = this;
+    state().trace().computeEnd(this, "TypeDecl.elementType()", "", elementType_value);
+    if (state().inCircle()) {
+      elementType_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.elementType()", "", elementType_value);
+    } else {
+      elementType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.elementType()", "", elementType_value);
+    }
+    return elementType_value;
+  }
+  /** @apilevel internal */
+  private void arrayType_reset() {
+    arrayType_computed = false;
+    
+    arrayType_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean arrayType_computed = false;
+
+  /** @apilevel internal */
+  protected TypeDecl arrayType_value;
+
+  /**
+   * Nonterminal that builds an array type out of this type.
+   * @attribute syn
+   * @aspect Arrays
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:61
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="Arrays", declaredAt="/root/project/java4/frontend/Arrays.jrag:61")
+  public TypeDecl arrayType() {
+    ASTState state = state();
+    if (arrayType_computed) {
+      state().trace().cacheRead(this, "TypeDecl.arrayType()", "", arrayType_value);
+      return arrayType_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.arrayType()", "", "");
+    arrayType_value = arrayType_compute();
+    state().trace().computeEnd(this, "TypeDecl.arrayType()", "", arrayType_value);
+    arrayType_value.setParent(this);
+    arrayType_computed = true;
+    state().trace().cacheWrite(this, "TypeDecl.arrayType()", "", arrayType_value);
+    state().leaveLazyAttribute();
+    return arrayType_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl arrayType_compute() {
+      String name = name() + "[]";
+  
+      List body = new List();
+      FieldDeclarator length = new FieldDeclarator(
+          "length",
+          new List<Dims>(),
+          new Opt<Expr>());
+      body.add(
+        new FieldDecl(
+            new Modifiers(new List<Modifier>(
+                new Modifier("public"),
+                new Modifier("final"))),
+            new PrimitiveTypeAccess("int"),
+            new List<FieldDeclarator>(length)
+        )
+      );
+      MethodDecl clone = null;
+      TypeDecl typeObject = typeObject();
+      for (int i = 0; clone == null && i < typeObject.getNumBodyDecl(); i++) {
+        if (typeObject.getBodyDecl(i) instanceof MethodDecl) {
+          MethodDecl m = (MethodDecl) typeObject.getBodyDecl(i);
+          if (m.name().equals("clone")) {
+            clone = m;
+          }
+        }
+      }
+      if (clone != null) {
+        body.add(
+            // We create a substituted method that substitutes the clone method in object
+            // this has the following two consequences: the return value will be cast to the
+            // expected return type rather than object, and the invoked method will be the
+            // method in object rather in the array.
+            new MethodDeclSubstituted(
+              new Modifiers(new List().add(new Modifier("public"))),
+              new ArrayTypeAccess(createQualifiedAccess()),
+              "clone",
+              new List(),
+              new List(),
+              new Opt(new Block()),
+              typeObject().memberMethods("clone").iterator().next()
+            )
+        );
+      }
+      TypeDecl typeDecl = new ArrayDecl(
+          new Modifiers(new List().add(new Modifier("public"))),
+          name,
+          new Opt(typeObject().createQualifiedAccess()),
+          new List().add(typeCloneable().createQualifiedAccess())
+              .add(typeSerializable().createQualifiedAccess()),
+          body
+        );
+      return typeDecl;
+    }
+  /** @apilevel internal */
+  private void boundAccess_reset() {
+    boundAccess_computed = false;
+    
+    boundAccess_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean boundAccess_computed = false;
+
+  /** @apilevel internal */
+  protected Access boundAccess_value;
+
+  /** Creates a type access bound to this type. 
+   * @attribute syn
+   * @aspect BoundNames
+   * @declaredat /root/project/java4/frontend/BoundNames.jrag:120
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="BoundNames", declaredAt="/root/project/java4/frontend/BoundNames.jrag:120")
+  public Access boundAccess() {
+    ASTState state = state();
+    if (boundAccess_computed) {
+      state().trace().cacheRead(this, "TypeDecl.boundAccess()", "", boundAccess_value);
+      return boundAccess_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.boundAccess()", "", "");
+    boundAccess_value = createBoundAccess();
+    state().trace().computeEnd(this, "TypeDecl.boundAccess()", "", boundAccess_value);
+    boundAccess_value.setParent(this);
+    boundAccess_computed = true;
+    state().trace().cacheWrite(this, "TypeDecl.boundAccess()", "", boundAccess_value);
+    state().leaveLazyAttribute();
+    return boundAccess_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:95
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:95")
+  public Constant cast(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.cast(Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation cast"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.cast(Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:118
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:118")
+  public Constant plus(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.plus(Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation plus"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.plus(Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:131
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:131")
+  public Constant minus(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.minus(Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation minus"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.minus(Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:144
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:144")
+  public Constant bitNot(Constant c) {
+    Object _parameters = c;
+    state().trace().computeBegin(this, "TypeDecl.bitNot(Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation bitNot"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.bitNot(Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:153
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:153")
+  public Constant mul(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.mul(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation mul"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.mul(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:167
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:167")
+  public Constant div(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.div(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation div"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.div(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:181
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:181")
+  public Constant mod(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.mod(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation mod"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.mod(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:195
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:195")
+  public Constant add(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.add(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation add"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.add(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:212
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:212")
+  public Constant sub(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.sub(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation sub"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.sub(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:226
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:226")
+  public Constant lshift(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.lshift(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation lshift"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.lshift(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:236
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:236")
+  public Constant rshift(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.rshift(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation rshift"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.rshift(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:246
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:246")
+  public Constant urshift(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.urshift(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation urshift"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.urshift(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:257
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:257")
+  public Constant andBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.andBitwise(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation andBitwise"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.andBitwise(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:271
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:271")
+  public Constant xorBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.xorBitwise(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation xorBitwise"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.xorBitwise(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:285
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:285")
+  public Constant orBitwise(Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.orBitwise(Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation orBitwise"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.orBitwise(Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:299
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:299")
+  public Constant questionColon(Constant cond, Constant c1, Constant c2) {
+    Object _parameters = java.util.Arrays.asList(cond, c1, c2);
+    state().trace().computeBegin(this, "TypeDecl.questionColon(Constant,Constant,Constant)", _parameters, "");
+    try {
+        throw new UnsupportedOperationException("ConstantExpression operation questionColon"
+            + " not supported for type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.questionColon(Constant,Constant,Constant)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:499
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:499")
+  public boolean eqIsTrue(Expr left, Expr right) {
+    Object _parameters = java.util.Arrays.asList(left, right);
+    state().trace().computeBegin(this, "TypeDecl.eqIsTrue(Expr,Expr)", _parameters, "");
+    try {
+        System.err.println("Evaluation eqIsTrue for unknown type: " + getClass().getName());
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.eqIsTrue(Expr,Expr)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:522
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:522")
+  public boolean ltIsTrue(Expr left, Expr right) {
+    Object _parameters = java.util.Arrays.asList(left, right);
+    state().trace().computeBegin(this, "TypeDecl.ltIsTrue(Expr,Expr)", _parameters, "");
+    boolean ltIsTrue_Expr_Expr_value = false;
+    state().trace().computeEnd(this, "TypeDecl.ltIsTrue(Expr,Expr)", _parameters, ltIsTrue_Expr_Expr_value);
+    return ltIsTrue_Expr_Expr_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:536
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:536")
+  public boolean leIsTrue(Expr left, Expr right) {
+    Object _parameters = java.util.Arrays.asList(left, right);
+    state().trace().computeBegin(this, "TypeDecl.leIsTrue(Expr,Expr)", _parameters, "");
+    boolean leIsTrue_Expr_Expr_value = false;
+    state().trace().computeEnd(this, "TypeDecl.leIsTrue(Expr,Expr)", _parameters, leIsTrue_Expr_Expr_value);
+    return leIsTrue_Expr_Expr_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DocumentationComments
+   * @declaredat /root/project/java4/frontend/DocumentationComments.jadd:40
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DocumentationComments", declaredAt="/root/project/java4/frontend/DocumentationComments.jadd:40")
+  public String docComment() {
+    state().trace().computeBegin(this, "TypeDecl.docComment()", "", "");
+    String docComment_value = docComment;
+    state().trace().computeEnd(this, "TypeDecl.docComment()", "", docComment_value);
+    return docComment_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DocumentationComments
+   * @declaredat /root/project/java4/frontend/DocumentationComments.jadd:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DocumentationComments", declaredAt="/root/project/java4/frontend/DocumentationComments.jadd:44")
+  public boolean hasDocComment() {
+    state().trace().computeBegin(this, "TypeDecl.hasDocComment()", "", "");
+    boolean hasDocComment_value = !docComment.isEmpty();
+    state().trace().computeEnd(this, "TypeDecl.hasDocComment()", "", hasDocComment_value);
+    return hasDocComment_value;
+  }
+  /** @apilevel internal */
+  private void isException_reset() {
+    isException_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isException_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isException_value;
+
+  /**
+   * @attribute syn
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:63
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:63")
+  public boolean isException() {
+    ASTState state = state();
+    if (isException_computed == ASTState.NON_CYCLE || isException_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isException()", "", isException_value);
+      return isException_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isException()", "", "");
+    isException_value = subtype(typeException());
+    state().trace().computeEnd(this, "TypeDecl.isException()", "", isException_value);
+    if (state().inCircle()) {
+      isException_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isException()", "", isException_value);
+    } else {
+      isException_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isException()", "", isException_value);
+    }
+    return isException_value;
+  }
+  /** @apilevel internal */
+  private void isCheckedException_reset() {
+    isCheckedException_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isCheckedException_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isCheckedException_value;
+
+  /**
+   * Checked exceptions must be declared thrown or caught in
+   * an enclosing try-statement.
+   * 
+   * <p>Note that this attribute is the opposite of isUncheckedException, i.e.
+   * the type is not tested for being a subclass of java.lang.Exception.
+   * 
+   * @return {@code true} if this type is not a subtype of java.lang.RuntimException
+   * or java.lang.Error
+   * @attribute syn
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:75
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:75")
+  public boolean isCheckedException() {
+    ASTState state = state();
+    if (isCheckedException_computed == ASTState.NON_CYCLE || isCheckedException_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isCheckedException()", "", isCheckedException_value);
+      return isCheckedException_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isCheckedException()", "", "");
+    isCheckedException_value = !(subtype(typeRuntimeException()) || subtype(typeError()));
+    state().trace().computeEnd(this, "TypeDecl.isCheckedException()", "", isCheckedException_value);
+    if (state().inCircle()) {
+      isCheckedException_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isCheckedException()", "", isCheckedException_value);
+    } else {
+      isCheckedException_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isCheckedException()", "", isCheckedException_value);
+    }
+    return isCheckedException_value;
+  }
+  /** @apilevel internal */
+  private void isUncheckedException_reset() {
+    isUncheckedException_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isUncheckedException_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isUncheckedException_value;
+
+  /**
+   * Unchecked exceptions need not be declared thrown or caught in
+   * an enclosing try-statement.
+   * 
+   * @return {@code true} if this type is a subtype of java.lang.RuntimException
+   * or java.lang.Error
+   * @attribute syn
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:85
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:85")
+  public boolean isUncheckedException() {
+    ASTState state = state();
+    if (isUncheckedException_computed == ASTState.NON_CYCLE || isUncheckedException_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isUncheckedException()", "", isUncheckedException_value);
+      return isUncheckedException_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isUncheckedException()", "", "");
+    isUncheckedException_value = subtype(typeRuntimeException()) || subtype(typeError());
+    state().trace().computeEnd(this, "TypeDecl.isUncheckedException()", "", isUncheckedException_value);
+    if (state().inCircle()) {
+      isUncheckedException_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isUncheckedException()", "", isUncheckedException_value);
+    } else {
+      isUncheckedException_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isUncheckedException()", "", isUncheckedException_value);
+    }
+    return isUncheckedException_value;
+  }
+  /** @apilevel internal */
+  private void mayCatch_TypeDecl_reset() {
+    mayCatch_TypeDecl_computed = new java.util.HashMap(4);
+    mayCatch_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map mayCatch_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map mayCatch_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:332
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:332")
+  public boolean mayCatch(TypeDecl thrownType) {
+    Object _parameters = thrownType;
+    if (mayCatch_TypeDecl_computed == null) mayCatch_TypeDecl_computed = new java.util.HashMap(4);
+    if (mayCatch_TypeDecl_values == null) mayCatch_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (mayCatch_TypeDecl_values.containsKey(_parameters) && mayCatch_TypeDecl_computed != null
+        && mayCatch_TypeDecl_computed.containsKey(_parameters)
+        && (mayCatch_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || mayCatch_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.mayCatch(TypeDecl)", _parameters, mayCatch_TypeDecl_values.get(_parameters));
+      return (Boolean) mayCatch_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.mayCatch(TypeDecl)", _parameters, "");
+    boolean mayCatch_TypeDecl_value = thrownType.subtype(this) || this.subtype(thrownType);
+    state().trace().computeEnd(this, "TypeDecl.mayCatch(TypeDecl)", _parameters, mayCatch_TypeDecl_value);
+    if (state().inCircle()) {
+      mayCatch_TypeDecl_values.put(_parameters, mayCatch_TypeDecl_value);
+      mayCatch_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.mayCatch(TypeDecl)", _parameters, mayCatch_TypeDecl_value);
+    } else {
+      mayCatch_TypeDecl_values.put(_parameters, mayCatch_TypeDecl_value);
+      mayCatch_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.mayCatch(TypeDecl)", _parameters, mayCatch_TypeDecl_value);
+    }
+    return mayCatch_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstructScope
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructScope", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:47")
+  public Collection<ConstructorDecl> lookupSuperConstructor() {
+    state().trace().computeBegin(this, "TypeDecl.lookupSuperConstructor()", "", "");
+    Collection<ConstructorDecl> lookupSuperConstructor_value = Collections.emptyList();
+    state().trace().computeEnd(this, "TypeDecl.lookupSuperConstructor()", "", lookupSuperConstructor_value);
+    return lookupSuperConstructor_value;
+  }
+  /** @apilevel internal */
+  private void constructors_reset() {
+    constructors_computed = null;
+    constructors_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constructors_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<ConstructorDecl> constructors_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstructorLookup
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:139
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstructorLookup", declaredAt="/root/project/java4/frontend/LookupConstructor.jrag:139")
+  public Collection<ConstructorDecl> constructors() {
+    ASTState state = state();
+    if (constructors_computed == ASTState.NON_CYCLE || constructors_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.constructors()", "", constructors_value);
+      return constructors_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.constructors()", "", "");
+    constructors_value = constructors_compute();
+    state().trace().computeEnd(this, "TypeDecl.constructors()", "", constructors_value);
+    if (state().inCircle()) {
+      constructors_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.constructors()", "", constructors_value);
+    } else {
+      constructors_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.constructors()", "", constructors_value);
+    }
+    return constructors_value;
+  }
+  /** @apilevel internal */
+  private Collection<ConstructorDecl> constructors_compute() {
+      Collection<ConstructorDecl> c = new ArrayList<ConstructorDecl>();
+      for (int i = 0; i < getNumBodyDecl(); i++) {
+        if (getBodyDecl(i) instanceof ConstructorDecl) {
+          c.add((ConstructorDecl) getBodyDecl(i));
+        }
+      }
+      return c;
+    }
+  /** @apilevel internal */
+  private void unqualifiedLookupMethod_String_reset() {
+    unqualifiedLookupMethod_String_computed = new java.util.HashMap(4);
+    unqualifiedLookupMethod_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map unqualifiedLookupMethod_String_values;
+  /** @apilevel internal */
+  protected java.util.Map unqualifiedLookupMethod_String_computed;
+  /**
+   * Find all visible methods with the given name in this type or an enclosing
+   * type.
+   * @attribute syn
+   * @aspect LookupMethod
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupMethod", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:145")
+  public Collection<MethodDecl> unqualifiedLookupMethod(String name) {
+    Object _parameters = name;
+    if (unqualifiedLookupMethod_String_computed == null) unqualifiedLookupMethod_String_computed = new java.util.HashMap(4);
+    if (unqualifiedLookupMethod_String_values == null) unqualifiedLookupMethod_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (unqualifiedLookupMethod_String_values.containsKey(_parameters) && unqualifiedLookupMethod_String_computed != null
+        && unqualifiedLookupMethod_String_computed.containsKey(_parameters)
+        && (unqualifiedLookupMethod_String_computed.get(_parameters) == ASTState.NON_CYCLE || unqualifiedLookupMethod_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.unqualifiedLookupMethod(String)", _parameters, unqualifiedLookupMethod_String_values.get(_parameters));
+      return (Collection<MethodDecl>) unqualifiedLookupMethod_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.unqualifiedLookupMethod(String)", _parameters, "");
+    Collection<MethodDecl> unqualifiedLookupMethod_String_value = unqualifiedLookupMethod_compute(name);
+    state().trace().computeEnd(this, "TypeDecl.unqualifiedLookupMethod(String)", _parameters, unqualifiedLookupMethod_String_value);
+    if (state().inCircle()) {
+      unqualifiedLookupMethod_String_values.put(_parameters, unqualifiedLookupMethod_String_value);
+      unqualifiedLookupMethod_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.unqualifiedLookupMethod(String)", _parameters, unqualifiedLookupMethod_String_value);
+    } else {
+      unqualifiedLookupMethod_String_values.put(_parameters, unqualifiedLookupMethod_String_value);
+      unqualifiedLookupMethod_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.unqualifiedLookupMethod(String)", _parameters, unqualifiedLookupMethod_String_value);
+    }
+    return unqualifiedLookupMethod_String_value;
+  }
+  /** @apilevel internal */
+  private Collection<MethodDecl> unqualifiedLookupMethod_compute(String name) {
+      Collection<MethodDecl> methods = memberMethods(name);
+      if (!methods.isEmpty()) {
+        return methods;
+      }
+      if (isInnerType()) {
+        return lookupMethod(name);
+      }
+      return keepStaticMethods(lookupMethod(name));
+    }
+  /**
+   * Find all member method declarations with the given name.
+   * This includes methods inherited from supertypes.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:484
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:484")
+  public Collection<MethodDecl> memberMethods(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "TypeDecl.memberMethods(String)", _parameters, "");
+    try {
+        Collection<MethodDecl> methods = methodsNameMap().get(name);
+        if (methods != null) {
+          return methods;
+        } else {
+          return Collections.emptyList();
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.memberMethods(String)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void methodsNameMap_reset() {
+    methodsNameMap_computed = null;
+    methodsNameMap_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle methodsNameMap_computed = null;
+
+  /** @apilevel internal */
+  protected Map<String, Collection<MethodDecl>> methodsNameMap_value;
+
+  /**
+   * Maps method names to method declarations for methods declared
+   * in this type and inherited from supertypes.
+   * 
+   * <p>Each method name can map to multiple declarations.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:499
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:499")
+  public Map<String, Collection<MethodDecl>> methodsNameMap() {
+    ASTState state = state();
+    if (methodsNameMap_computed == ASTState.NON_CYCLE || methodsNameMap_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.methodsNameMap()", "", methodsNameMap_value);
+      return methodsNameMap_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.methodsNameMap()", "", "");
+    methodsNameMap_value = methodsNameMap_compute();
+    state().trace().computeEnd(this, "TypeDecl.methodsNameMap()", "", methodsNameMap_value);
+    if (state().inCircle()) {
+      methodsNameMap_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.methodsNameMap()", "", methodsNameMap_value);
+    } else {
+      methodsNameMap_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.methodsNameMap()", "", methodsNameMap_value);
+    }
+    return methodsNameMap_value;
+  }
+  /** @apilevel internal */
+  private Map<String, Collection<MethodDecl>> methodsNameMap_compute() {
+      Map<String, Collection<MethodDecl>> map = new HashMap<String, Collection<MethodDecl>>();
+      for (MethodDecl m : methods()) {
+        Collection<MethodDecl> methods = map.get(m.name());
+        if (methods == null) {
+          methods = new ArrayList<MethodDecl>(4);
+          map.put(m.name(), methods);
+        }
+        methods.add(m);
+      }
+      return map;
+    }
+  /**
+   * Find local method declarations for the given method signature.
+   * 
+   * <p>Does not include supertype methods. The result can contain multiple
+   * method declarations.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:532
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:532")
+  public SimpleSet<MethodDecl> localMethodsSignature(String signature) {
+    Object _parameters = signature;
+    state().trace().computeBegin(this, "TypeDecl.localMethodsSignature(String)", _parameters, "");
+    try {
+        SimpleSet<MethodDecl> result = localMethodsSignatureMap().get(signature);
+        if (result != null) {
+          return result;
+        } else {
+          return emptySet();
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.localMethodsSignature(String)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void localMethods_reset() {
+    localMethods_computed = null;
+    localMethods_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localMethods_computed = null;
+
+  /** @apilevel internal */
+  protected java.util.List<MethodDecl> localMethods_value;
+
+  /**
+   * All local method declarations in this type.
+   * 
+   * <p>Does not include supertype methods.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:546
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:546")
+  public java.util.List<MethodDecl> localMethods() {
+    ASTState state = state();
+    if (localMethods_computed == ASTState.NON_CYCLE || localMethods_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.localMethods()", "", localMethods_value);
+      return localMethods_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.localMethods()", "", "");
+    localMethods_value = localMethods_compute();
+    state().trace().computeEnd(this, "TypeDecl.localMethods()", "", localMethods_value);
+    if (state().inCircle()) {
+      localMethods_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.localMethods()", "", localMethods_value);
+    } else {
+      localMethods_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.localMethods()", "", localMethods_value);
+    }
+    return localMethods_value;
+  }
+  /** @apilevel internal */
+  private java.util.List<MethodDecl> localMethods_compute() {
+      if (getNumBodyDecl() == 0) {
+        return Collections.emptyList();
+      }
+      ArrayList<MethodDecl> methods = new ArrayList<MethodDecl>(getNumBodyDecl());
+      for (BodyDecl decl : getBodyDeclList()) {
+        if (decl instanceof MethodDecl) {
+          methods.add((MethodDecl) decl);
+        }
+      }
+      return methods;
+    }
+  /** @apilevel internal */
+  private void localMethodsSignatureMap_reset() {
+    localMethodsSignatureMap_computed = null;
+    localMethodsSignatureMap_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localMethodsSignatureMap_computed = null;
+
+  /** @apilevel internal */
+  protected Map<String, SimpleSet<MethodDecl>> localMethodsSignatureMap_value;
+
+  /**
+   * Maps method signatures to local method declarations.
+   * 
+   * <p>Does not include supertype methods.
+   * Each signature can map to multiple declarations.
+   * 
+   * @return a mapping of method signature to method declarations
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:567
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:567")
+  public Map<String, SimpleSet<MethodDecl>> localMethodsSignatureMap() {
+    ASTState state = state();
+    if (localMethodsSignatureMap_computed == ASTState.NON_CYCLE || localMethodsSignatureMap_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.localMethodsSignatureMap()", "", localMethodsSignatureMap_value);
+      return localMethodsSignatureMap_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.localMethodsSignatureMap()", "", "");
+    localMethodsSignatureMap_value = localMethodsSignatureMap_compute();
+    state().trace().computeEnd(this, "TypeDecl.localMethodsSignatureMap()", "", localMethodsSignatureMap_value);
+    if (state().inCircle()) {
+      localMethodsSignatureMap_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.localMethodsSignatureMap()", "", localMethodsSignatureMap_value);
+    } else {
+      localMethodsSignatureMap_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.localMethodsSignatureMap()", "", localMethodsSignatureMap_value);
+    }
+    return localMethodsSignatureMap_value;
+  }
+  /** @apilevel internal */
+  private Map<String, SimpleSet<MethodDecl>> localMethodsSignatureMap_compute() {
+      Map<String, SimpleSet<MethodDecl>> map = new HashMap<String, SimpleSet<MethodDecl>>(
+          localMethods().size());
+      for (MethodDecl m : localMethods()) {
+        putSimpleSetElement(map, m.signature(), m);
+      }
+      return map;
+    }
+  /** @apilevel internal */
+  private void interfacesMethods_reset() {
+    interfacesMethods_computed = null;
+    interfacesMethods_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle interfacesMethods_computed = null;
+
+  /** @apilevel internal */
+  protected java.util.List<MethodDecl> interfacesMethods_value;
+
+  /**
+   * A list of all methods inherited from (transitive) superinterfaces of this type.
+   * 
+   * <p>The result is sorted according to a preorder traversal of the inheritance
+   * graph. If one type in the graph has mutliple superinterfaces, then their contributions
+   * are added according to the order of the implements clause.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:597
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:597")
+  public java.util.List<MethodDecl> interfacesMethods() {
+    ASTState state = state();
+    if (interfacesMethods_computed == ASTState.NON_CYCLE || interfacesMethods_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.interfacesMethods()", "", interfacesMethods_value);
+      return interfacesMethods_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.interfacesMethods()", "", "");
+    interfacesMethods_value = interfacesMethods_compute();
+    state().trace().computeEnd(this, "TypeDecl.interfacesMethods()", "", interfacesMethods_value);
+    if (state().inCircle()) {
+      interfacesMethods_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.interfacesMethods()", "", interfacesMethods_value);
+    } else {
+      interfacesMethods_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.interfacesMethods()", "", interfacesMethods_value);
+    }
+    return interfacesMethods_value;
+  }
+  /** @apilevel internal */
+  private java.util.List<MethodDecl> interfacesMethods_compute() {
+      ArrayList<MethodDecl> methods = new ArrayList<MethodDecl>();
+      for (InterfaceDecl iface : superInterfaces()) {
+        methods.addAll(iface.localMethods());
+        methods.addAll(iface.interfacesMethods());
+      }
+      return methods;
+    }
+  /** @apilevel internal */
+  private void interfacesMethodsSignatureMap_reset() {
+    interfacesMethodsSignatureMap_computed = null;
+    interfacesMethodsSignatureMap_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle interfacesMethodsSignatureMap_computed = null;
+
+  /** @apilevel internal */
+  protected Map<String, SimpleSet<MethodDecl>> interfacesMethodsSignatureMap_value;
+
+  /**
+   * Maps method signatures to sets of method declarations
+   * inherited from superinterfaces of this type.
+   * Each signature can map to multiple declarations.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:611
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:611")
+  public Map<String, SimpleSet<MethodDecl>> interfacesMethodsSignatureMap() {
+    ASTState state = state();
+    if (interfacesMethodsSignatureMap_computed == ASTState.NON_CYCLE || interfacesMethodsSignatureMap_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.interfacesMethodsSignatureMap()", "", interfacesMethodsSignatureMap_value);
+      return interfacesMethodsSignatureMap_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.interfacesMethodsSignatureMap()", "", "");
+    interfacesMethodsSignatureMap_value = interfacesMethodsSignatureMap_compute();
+    state().trace().computeEnd(this, "TypeDecl.interfacesMethodsSignatureMap()", "", interfacesMethodsSignatureMap_value);
+    if (state().inCircle()) {
+      interfacesMethodsSignatureMap_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.interfacesMethodsSignatureMap()", "", interfacesMethodsSignatureMap_value);
+    } else {
+      interfacesMethodsSignatureMap_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.interfacesMethodsSignatureMap()", "", interfacesMethodsSignatureMap_value);
+    }
+    return interfacesMethodsSignatureMap_value;
+  }
+  /** @apilevel internal */
+  private Map<String, SimpleSet<MethodDecl>> interfacesMethodsSignatureMap_compute() {
+      Map<String, SimpleSet<MethodDecl>> map = new HashMap<String, SimpleSet<MethodDecl>>();
+      for (MethodDecl m : interfacesMethods()) {
+        putSimpleSetElement(map, m.signature(), m);
+      }
+      return map;
+    }
+  /**
+   * Finds visible methods matching the given signature.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:622
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:622")
+  public SimpleSet<MethodDecl> methodsSignature(String signature) {
+    Object _parameters = signature;
+    state().trace().computeBegin(this, "TypeDecl.methodsSignature(String)", _parameters, "");
+    try {
+        SimpleSet<MethodDecl> result = methodsSignatureMap().get(signature);
+        if (result != null) {
+          return result;
+        } else {
+          return emptySet();
+        }
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.methodsSignature(String)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void methods_reset() {
+    methods_computed = null;
+    methods_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle methods_computed = null;
+
+  /** @apilevel internal */
+  protected java.util.List<MethodDecl> methods_value;
+
+  /**
+   * Finds all visible methods for this type (includes inherited methods).
+   * 
+   * <p>Shadowed declarations are not included in the result.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:636
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:636")
+  public java.util.List<MethodDecl> methods() {
+    ASTState state = state();
+    if (methods_computed == ASTState.NON_CYCLE || methods_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.methods()", "", methods_value);
+      return methods_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.methods()", "", "");
+    methods_value = localMethods();
+    state().trace().computeEnd(this, "TypeDecl.methods()", "", methods_value);
+    if (state().inCircle()) {
+      methods_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.methods()", "", methods_value);
+    } else {
+      methods_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.methods()", "", methods_value);
+    }
+    return methods_value;
+  }
+  /** @apilevel internal */
+  private void methodsSignatureMap_reset() {
+    methodsSignatureMap_computed = null;
+    methodsSignatureMap_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle methodsSignatureMap_computed = null;
+
+  /** @apilevel internal */
+  protected Map<String, SimpleSet<MethodDecl>> methodsSignatureMap_value;
+
+  /**
+   * Map method signatures to sets of visible method declarations
+   * for this type.
+   * 
+   * <p>Includes inherited method declarations from supertypes.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:688
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:688")
+  public Map<String, SimpleSet<MethodDecl>> methodsSignatureMap() {
+    ASTState state = state();
+    if (methodsSignatureMap_computed == ASTState.NON_CYCLE || methodsSignatureMap_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.methodsSignatureMap()", "", methodsSignatureMap_value);
+      return methodsSignatureMap_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.methodsSignatureMap()", "", "");
+    methodsSignatureMap_value = methodsSignatureMap_compute();
+    state().trace().computeEnd(this, "TypeDecl.methodsSignatureMap()", "", methodsSignatureMap_value);
+    if (state().inCircle()) {
+      methodsSignatureMap_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.methodsSignatureMap()", "", methodsSignatureMap_value);
+    } else {
+      methodsSignatureMap_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.methodsSignatureMap()", "", methodsSignatureMap_value);
+    }
+    return methodsSignatureMap_value;
+  }
+  /** @apilevel internal */
+  private Map<String, SimpleSet<MethodDecl>> methodsSignatureMap_compute() {
+      Map<String, SimpleSet<MethodDecl>> map = new HashMap<String, SimpleSet<MethodDecl>>();
+      for (MethodDecl m : methods()) {
+        putSimpleSetElement(map, m.signature(), m);
+      }
+      return map;
+    }
+  /** @apilevel internal */
+  private void ancestorMethods_String_reset() {
+    ancestorMethods_String_computed = new java.util.HashMap(4);
+    ancestorMethods_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map ancestorMethods_String_values;
+  /** @apilevel internal */
+  protected java.util.Map ancestorMethods_String_computed;
+  /**
+   * Finds methods with the same signature declared in ancestors types.  This
+   * is used when checking correct overriding, hiding, and implementation of
+   * abstract methods.
+   * @attribute syn
+   * @aspect AncestorMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:743
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AncestorMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:743")
+  public SimpleSet<MethodDecl> ancestorMethods(String signature) {
+    Object _parameters = signature;
+    if (ancestorMethods_String_computed == null) ancestorMethods_String_computed = new java.util.HashMap(4);
+    if (ancestorMethods_String_values == null) ancestorMethods_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (ancestorMethods_String_values.containsKey(_parameters) && ancestorMethods_String_computed != null
+        && ancestorMethods_String_computed.containsKey(_parameters)
+        && (ancestorMethods_String_computed.get(_parameters) == ASTState.NON_CYCLE || ancestorMethods_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.ancestorMethods(String)", _parameters, ancestorMethods_String_values.get(_parameters));
+      return (SimpleSet<MethodDecl>) ancestorMethods_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.ancestorMethods(String)", _parameters, "");
+    SimpleSet<MethodDecl> ancestorMethods_String_value = emptySet();
+    state().trace().computeEnd(this, "TypeDecl.ancestorMethods(String)", _parameters, ancestorMethods_String_value);
+    if (state().inCircle()) {
+      ancestorMethods_String_values.put(_parameters, ancestorMethods_String_value);
+      ancestorMethods_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.ancestorMethods(String)", _parameters, ancestorMethods_String_value);
+    } else {
+      ancestorMethods_String_values.put(_parameters, ancestorMethods_String_value);
+      ancestorMethods_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.ancestorMethods(String)", _parameters, ancestorMethods_String_value);
+    }
+    return ancestorMethods_String_value;
+  }
+  /** Test if this type has the given package name and type name. 
+   * @attribute syn
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:41")
+  public boolean isType(String packageName, String name) {
+    Object _parameters = java.util.Arrays.asList(packageName, name);
+    state().trace().computeBegin(this, "TypeDecl.isType(String,String)", _parameters, "");
+    boolean isType_String_String_value = getID().equals(name) && packageName().equals(packageName);
+    state().trace().computeEnd(this, "TypeDecl.isType(String,String)", _parameters, isType_String_String_value);
+    return isType_String_String_value;
+  }
+  /**
+   * @return a set containing this type, unless this is the unknown type in
+   * which case an empty set is returned
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:413
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:413")
+  public SimpleSet<TypeDecl> asSet() {
+    state().trace().computeBegin(this, "TypeDecl.asSet()", "", "");
+    SimpleSet<TypeDecl> asSet_value = this;
+    state().trace().computeEnd(this, "TypeDecl.asSet()", "", asSet_value);
+    return asSet_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:613
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:613")
+  public SimpleSet<TypeDecl> localLookupType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "TypeDecl.localLookupType(String)", _parameters, "");
+    try {
+        SimpleSet<TypeDecl> result = memberTypes(name);
+        if (!result.isEmpty()) {
+          return result;
+        }
+        if (name().equals(name)) {
+          return this;
+        }
+    
+        result = lookupType(name);
+        // 8.5.2
+        if (isClassDecl() && isStatic() && !isTopLevelType()) {
+          SimpleSet<TypeDecl> newSet = emptySet();
+          for (TypeDecl type : result) {
+            newSet = newSet.add(type);
+          }
+          result = newSet;
+        }
+        return result;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.localLookupType(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:728
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:728")
+  public boolean hasType(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "TypeDecl.hasType(String)", _parameters, "");
+    boolean hasType_String_value = !memberTypes(name).isEmpty();
+    state().trace().computeEnd(this, "TypeDecl.hasType(String)", _parameters, hasType_String_value);
+    return hasType_String_value;
+  }
+  /** @apilevel internal */
+  private void localTypeDecls_String_reset() {
+    localTypeDecls_String_computed = new java.util.HashMap(4);
+    localTypeDecls_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map localTypeDecls_String_values;
+  /** @apilevel internal */
+  protected java.util.Map localTypeDecls_String_computed;
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:739
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:739")
+  public SimpleSet<TypeDecl> localTypeDecls(String name) {
+    Object _parameters = name;
+    if (localTypeDecls_String_computed == null) localTypeDecls_String_computed = new java.util.HashMap(4);
+    if (localTypeDecls_String_values == null) localTypeDecls_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (localTypeDecls_String_values.containsKey(_parameters) && localTypeDecls_String_computed != null
+        && localTypeDecls_String_computed.containsKey(_parameters)
+        && (localTypeDecls_String_computed.get(_parameters) == ASTState.NON_CYCLE || localTypeDecls_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.localTypeDecls(String)", _parameters, localTypeDecls_String_values.get(_parameters));
+      return (SimpleSet<TypeDecl>) localTypeDecls_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.localTypeDecls(String)", _parameters, "");
+    SimpleSet<TypeDecl> localTypeDecls_String_value = localTypeDecls_compute(name);
+    state().trace().computeEnd(this, "TypeDecl.localTypeDecls(String)", _parameters, localTypeDecls_String_value);
+    if (state().inCircle()) {
+      localTypeDecls_String_values.put(_parameters, localTypeDecls_String_value);
+      localTypeDecls_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.localTypeDecls(String)", _parameters, localTypeDecls_String_value);
+    } else {
+      localTypeDecls_String_values.put(_parameters, localTypeDecls_String_value);
+      localTypeDecls_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.localTypeDecls(String)", _parameters, localTypeDecls_String_value);
+    }
+    return localTypeDecls_String_value;
+  }
+  /** @apilevel internal */
+  private SimpleSet<TypeDecl> localTypeDecls_compute(String name) {
+      SimpleSet<TypeDecl> result = emptySet();
+      for (int i = 0; i < getNumBodyDecl(); i++) {
+        if (getBodyDecl(i).declaresType(name)) {
+          result = result.add(getBodyDecl(i).type(name));
+        }
+      }
+      return result;
+    }
+  /**
+   * @attribute syn
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:750
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:750")
+  public SimpleSet<TypeDecl> memberTypes(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "TypeDecl.memberTypes(String)", _parameters, "");
+    SimpleSet<TypeDecl> memberTypes_String_value = emptySet();
+    state().trace().computeEnd(this, "TypeDecl.memberTypes(String)", _parameters, memberTypes_String_value);
+    return memberTypes_String_value;
+  }
+  /**
+   * Test if a qualified field access in this type may access the given field.
+   * 
+   * @param qualifier the type of the qualifying expression.
+   * @param field the field being accessed.
+   * @see <a href="https://docs.oracle.com/javase/specs/jls/se6/html/names.html#6.6.1">JLS6 \ufffd\ufffd6.6.1</a>
+   * @return true if the expression may access the given field
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:345
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:345")
+  public boolean mayAccess(TypeDecl qualifier, Variable field) {
+    Object _parameters = java.util.Arrays.asList(qualifier, field);
+    state().trace().computeBegin(this, "TypeDecl.mayAccess(TypeDecl,Variable)", _parameters, "");
+    try {
+        if (field.isPublic()) {
+          return true;
+        }
+        if (field.isPrivate()) {
+          return field.hostType().topLevelType() == hostType().topLevelType();
+        }
+    
+        if (field.hostPackage().equals(hostPackage())) {
+          // Protected and package-private access is allowed from any type inside the same package
+          // (JLS6 \ufffd\ufffd6.6.1, bullet 4.2.1).
+          return true;
+        }
+    
+        TypeDecl C = field.hostType(); // C is the type in which the field is declared.
+        if (field.isProtected()) {
+          // Test protected field access according to JLS6 \ufffd\ufffd6.6.2.1.
+          // We need to iterate over enclosing types since each enclosing type is a
+          // candidate for accessing the field.
+          for (TypeDecl S = this; S != null; S = S.isNestedType() ? S.enclosingType() : null) {
+            if (S.subtype(C)) {
+              if (!field.isInstanceVariable() || qualifier.subtype(S)) {
+                return true;
+              }
+            }
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.mayAccess(TypeDecl,Variable)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void localFields_String_reset() {
+    localFields_String_computed = new java.util.HashMap(4);
+    localFields_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map localFields_String_values;
+  /** @apilevel internal */
+  protected java.util.Map localFields_String_computed;
+  /**
+   * @attribute syn
+   * @aspect Fields
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:416
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Fields", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:416")
+  public SimpleSet<Variable> localFields(String name) {
+    Object _parameters = name;
+    if (localFields_String_computed == null) localFields_String_computed = new java.util.HashMap(4);
+    if (localFields_String_values == null) localFields_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (localFields_String_values.containsKey(_parameters) && localFields_String_computed != null
+        && localFields_String_computed.containsKey(_parameters)
+        && (localFields_String_computed.get(_parameters) == ASTState.NON_CYCLE || localFields_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.localFields(String)", _parameters, localFields_String_values.get(_parameters));
+      return (SimpleSet<Variable>) localFields_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.localFields(String)", _parameters, "");
+    SimpleSet<Variable> localFields_String_value = localFieldsMap().containsKey(name)
+          ? localFieldsMap().get(name)
+          : ASTNode.<Variable>emptySet();
+    state().trace().computeEnd(this, "TypeDecl.localFields(String)", _parameters, localFields_String_value);
+    if (state().inCircle()) {
+      localFields_String_values.put(_parameters, localFields_String_value);
+      localFields_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.localFields(String)", _parameters, localFields_String_value);
+    } else {
+      localFields_String_values.put(_parameters, localFields_String_value);
+      localFields_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.localFields(String)", _parameters, localFields_String_value);
+    }
+    return localFields_String_value;
+  }
+  /** @apilevel internal */
+  private void localFieldsMap_reset() {
+    localFieldsMap_computed = null;
+    localFieldsMap_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localFieldsMap_computed = null;
+
+  /** @apilevel internal */
+  protected Map<String, SimpleSet<Variable>> localFieldsMap_value;
+
+  /**
+   * @attribute syn
+   * @aspect Fields
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:421
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Fields", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:421")
+  public Map<String, SimpleSet<Variable>> localFieldsMap() {
+    ASTState state = state();
+    if (localFieldsMap_computed == ASTState.NON_CYCLE || localFieldsMap_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.localFieldsMap()", "", localFieldsMap_value);
+      return localFieldsMap_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.localFieldsMap()", "", "");
+    localFieldsMap_value = localFieldsMap_compute();
+    state().trace().computeEnd(this, "TypeDecl.localFieldsMap()", "", localFieldsMap_value);
+    if (state().inCircle()) {
+      localFieldsMap_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.localFieldsMap()", "", localFieldsMap_value);
+    } else {
+      localFieldsMap_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.localFieldsMap()", "", localFieldsMap_value);
+    }
+    return localFieldsMap_value;
+  }
+  /** @apilevel internal */
+  private Map<String, SimpleSet<Variable>> localFieldsMap_compute() {
+      Map<String, SimpleSet<Variable>> map = new HashMap<String, SimpleSet<Variable>>();
+      for (BodyDecl decl : getBodyDeclList()) {
+        if (decl instanceof FieldDecl) {
+          for (FieldDeclarator field : ((FieldDecl) decl).getDeclaratorList()) {
+            putSimpleSetElement(map, field.name(), field);
+          }
+        }
+      }
+      return map;
+    }
+  /** @apilevel internal */
+  private void memberFieldsMap_reset() {
+    memberFieldsMap_computed = null;
+    memberFieldsMap_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle memberFieldsMap_computed = null;
+
+  /** @apilevel internal */
+  protected Map<String, SimpleSet<Variable>> memberFieldsMap_value;
+
+  /**
+   * @attribute syn
+   * @aspect Fields
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:433
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Fields", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:433")
+  public Map<String, SimpleSet<Variable>> memberFieldsMap() {
+    ASTState state = state();
+    if (memberFieldsMap_computed == ASTState.NON_CYCLE || memberFieldsMap_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.memberFieldsMap()", "", memberFieldsMap_value);
+      return memberFieldsMap_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.memberFieldsMap()", "", "");
+    memberFieldsMap_value = localFieldsMap();
+    state().trace().computeEnd(this, "TypeDecl.memberFieldsMap()", "", memberFieldsMap_value);
+    if (state().inCircle()) {
+      memberFieldsMap_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.memberFieldsMap()", "", memberFieldsMap_value);
+    } else {
+      memberFieldsMap_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.memberFieldsMap()", "", memberFieldsMap_value);
+    }
+    return memberFieldsMap_value;
+  }
+  /** @apilevel internal */
+  private void memberFields_String_reset() {
+    memberFields_String_computed = new java.util.HashMap(4);
+    memberFields_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map memberFields_String_values;
+  /** @apilevel internal */
+  protected java.util.Map memberFields_String_computed;
+  /**
+   * @attribute syn
+   * @aspect Fields
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:502
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Fields", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:502")
+  public SimpleSet<Variable> memberFields(String name) {
+    Object _parameters = name;
+    if (memberFields_String_computed == null) memberFields_String_computed = new java.util.HashMap(4);
+    if (memberFields_String_values == null) memberFields_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (memberFields_String_values.containsKey(_parameters) && memberFields_String_computed != null
+        && memberFields_String_computed.containsKey(_parameters)
+        && (memberFields_String_computed.get(_parameters) == ASTState.NON_CYCLE || memberFields_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.memberFields(String)", _parameters, memberFields_String_values.get(_parameters));
+      return (SimpleSet<Variable>) memberFields_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.memberFields(String)", _parameters, "");
+    SimpleSet<Variable> memberFields_String_value = localFields(name);
+    state().trace().computeEnd(this, "TypeDecl.memberFields(String)", _parameters, memberFields_String_value);
+    if (state().inCircle()) {
+      memberFields_String_values.put(_parameters, memberFields_String_value);
+      memberFields_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.memberFields(String)", _parameters, memberFields_String_value);
+    } else {
+      memberFields_String_values.put(_parameters, memberFields_String_value);
+      memberFields_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.memberFields(String)", _parameters, memberFields_String_value);
+    }
+    return memberFields_String_value;
+  }
+  /** @apilevel internal */
+  private void hasAbstract_reset() {
+    hasAbstract_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle hasAbstract_computed = null;
+
+  /** @apilevel internal */
+  protected boolean hasAbstract_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:33")
+  public boolean hasAbstract() {
+    ASTState state = state();
+    if (hasAbstract_computed == ASTState.NON_CYCLE || hasAbstract_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.hasAbstract()", "", hasAbstract_value);
+      return hasAbstract_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.hasAbstract()", "", "");
+    hasAbstract_value = false;
+    state().trace().computeEnd(this, "TypeDecl.hasAbstract()", "", hasAbstract_value);
+    if (state().inCircle()) {
+      hasAbstract_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.hasAbstract()", "", hasAbstract_value);
+    } else {
+      hasAbstract_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.hasAbstract()", "", hasAbstract_value);
+    }
+    return hasAbstract_value;
+  }
+  /** @apilevel internal */
+  private void unimplementedMethods_reset() {
+    unimplementedMethods_computed = null;
+    unimplementedMethods_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle unimplementedMethods_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<MethodDecl> unimplementedMethods_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:35")
+  public Collection<MethodDecl> unimplementedMethods() {
+    ASTState state = state();
+    if (unimplementedMethods_computed == ASTState.NON_CYCLE || unimplementedMethods_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.unimplementedMethods()", "", unimplementedMethods_value);
+      return unimplementedMethods_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.unimplementedMethods()", "", "");
+    unimplementedMethods_value = Collections.emptyList();
+    state().trace().computeEnd(this, "TypeDecl.unimplementedMethods()", "", unimplementedMethods_value);
+    if (state().inCircle()) {
+      unimplementedMethods_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.unimplementedMethods()", "", unimplementedMethods_value);
+    } else {
+      unimplementedMethods_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.unimplementedMethods()", "", unimplementedMethods_value);
+    }
+    return unimplementedMethods_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:88
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:88")
+  public Collection<Problem> modifierProblems() {
+    state().trace().computeBegin(this, "TypeDecl.modifierProblems()", "", "");
+    try {
+        Collection<Problem> problems = refined_Modifiers_TypeDecl_modifierProblems();
+        if (getModifiers().hasModifier("default")) {
+          problems.add(error("the default modifier is only legal for interface method declarations"));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.modifierProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void isPublic_reset() {
+    isPublic_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isPublic_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isPublic_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:231
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:231")
+  public boolean isPublic() {
+    ASTState state = state();
+    if (isPublic_computed == ASTState.NON_CYCLE || isPublic_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isPublic()", "", isPublic_value);
+      return isPublic_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isPublic()", "", "");
+    isPublic_value = getModifiers().isPublic() || isMemberType() && enclosingType().isInterfaceDecl();
+    state().trace().computeEnd(this, "TypeDecl.isPublic()", "", isPublic_value);
+    if (state().inCircle()) {
+      isPublic_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isPublic()", "", isPublic_value);
+    } else {
+      isPublic_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isPublic()", "", isPublic_value);
+    }
+    return isPublic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:233
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:233")
+  public boolean isPrivate() {
+    state().trace().computeBegin(this, "TypeDecl.isPrivate()", "", "");
+    boolean isPrivate_value = getModifiers().isPrivate();
+    state().trace().computeEnd(this, "TypeDecl.isPrivate()", "", isPrivate_value);
+    return isPrivate_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:234
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:234")
+  public boolean isProtected() {
+    state().trace().computeBegin(this, "TypeDecl.isProtected()", "", "");
+    boolean isProtected_value = getModifiers().isProtected();
+    state().trace().computeEnd(this, "TypeDecl.isProtected()", "", isProtected_value);
+    return isProtected_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:235
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:235")
+  public boolean isAbstract() {
+    state().trace().computeBegin(this, "TypeDecl.isAbstract()", "", "");
+    boolean isAbstract_value = getModifiers().isAbstract();
+    state().trace().computeEnd(this, "TypeDecl.isAbstract()", "", isAbstract_value);
+    return isAbstract_value;
+  }
+  /** @apilevel internal */
+  private void isStatic_reset() {
+    isStatic_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isStatic_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isStatic_value;
+
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:237
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:237")
+  public boolean isStatic() {
+    ASTState state = state();
+    if (isStatic_computed == ASTState.NON_CYCLE || isStatic_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isStatic()", "", isStatic_value);
+      return isStatic_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isStatic()", "", "");
+    isStatic_value = getModifiers().isStatic() || isMemberType() && enclosingType().isInterfaceDecl();
+    state().trace().computeEnd(this, "TypeDecl.isStatic()", "", isStatic_value);
+    if (state().inCircle()) {
+      isStatic_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isStatic()", "", isStatic_value);
+    } else {
+      isStatic_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isStatic()", "", isStatic_value);
+    }
+    return isStatic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:242
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:242")
+  public boolean isFinal() {
+    state().trace().computeBegin(this, "TypeDecl.isFinal()", "", "");
+    boolean isFinal_value = getModifiers().isFinal();
+    state().trace().computeEnd(this, "TypeDecl.isFinal()", "", isFinal_value);
+    return isFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:243
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:243")
+  public boolean isStrictfp() {
+    state().trace().computeBegin(this, "TypeDecl.isStrictfp()", "", "");
+    boolean isStrictfp_value = getModifiers().isStrictfp();
+    state().trace().computeEnd(this, "TypeDecl.isStrictfp()", "", isStrictfp_value);
+    return isStrictfp_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Modifiers
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:245
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Modifiers", declaredAt="/root/project/java4/frontend/Modifiers.jrag:245")
+  public boolean isSynthetic() {
+    state().trace().computeBegin(this, "TypeDecl.isSynthetic()", "", "");
+    boolean isSynthetic_value = getModifiers().isSynthetic();
+    state().trace().computeEnd(this, "TypeDecl.isSynthetic()", "", isSynthetic_value);
+    return isSynthetic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:385
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:385")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "TypeDecl.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (isTopLevelType() && lookupType(packageName(), name()) != this) {
+          problems.add(errorf("duplicate type %s in package %s", name(), packageName()));
+        }
+    
+        if (!isTopLevelType() && !isAnonymous() && !isLocalClass()
+            && extractSingleType(enclosingType().memberTypes(name())) != this) {
+          problems.add(errorf("duplicate member type %s in type %s",
+              name(), enclosingType().typeName()));
+        }
+    
+        // 14.3
+        if (isLocalClass()) {
+          TypeDecl typeDecl = extractSingleType(lookupType(name()));
+          if (typeDecl != null && typeDecl != this && typeDecl.isLocalClass()
+              && enclosingMemberDecl() == typeDecl.enclosingMemberDecl()) {
+            problems.add(errorf(
+                "local class named %s may not be redeclared as a local class in the same block",
+                name()));
+          }
+        }
+    
+        if (!packageName().equals("") && hasPackage(fullName())) {
+          problems.add(errorf("type name conflicts with a package using the same name: %s", name()));
+        }
+    
+        // 8.1 & 9.1
+        if (hasEnclosingTypeDecl(name())) {
+          problems.add(error(
+              "type may not have the same simple name as an enclosing type declaration"));
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:420
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:420")
+  public boolean hasEnclosingTypeDecl(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "TypeDecl.hasEnclosingTypeDecl(String)", _parameters, "");
+    try {
+        TypeDecl enclosingType = enclosingType();
+        if (enclosingType != null) {
+          return enclosingType.name().equals(name) || enclosingType.hasEnclosingTypeDecl(name);
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.hasEnclosingTypeDecl(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:659
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:659")
+  public boolean assignableToInt() {
+    state().trace().computeBegin(this, "TypeDecl.assignableToInt()", "", "");
+    boolean assignableToInt_value = false;
+    state().trace().computeEnd(this, "TypeDecl.assignableToInt()", "", assignableToInt_value);
+    return assignableToInt_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeName
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:82
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeName", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:82")
+  public String name() {
+    state().trace().computeBegin(this, "TypeDecl.name()", "", "");
+    String name_value = getID();
+    state().trace().computeEnd(this, "TypeDecl.name()", "", name_value);
+    return name_value;
+  }
+  /** @apilevel internal */
+  private void fullName_reset() {
+    fullName_computed = null;
+    fullName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle fullName_computed = null;
+
+  /** @apilevel internal */
+  protected String fullName_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeName
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:84
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeName", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:84")
+  public String fullName() {
+    ASTState state = state();
+    if (fullName_computed == ASTState.NON_CYCLE || fullName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.fullName()", "", fullName_value);
+      return fullName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.fullName()", "", "");
+    fullName_value = fullName_compute();
+    state().trace().computeEnd(this, "TypeDecl.fullName()", "", fullName_value);
+    if (state().inCircle()) {
+      fullName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.fullName()", "", fullName_value);
+    } else {
+      fullName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.fullName()", "", fullName_value);
+    }
+    return fullName_value;
+  }
+  /** @apilevel internal */
+  private String fullName_compute() {
+      if (isNestedType()) {
+        return enclosingType().fullName() + "." + name();
+      }
+      String packageName = packageName();
+      if (packageName.equals("")) {
+        return name();
+      }
+      return packageName + "." + name();
+    }
+  /** @apilevel internal */
+  private void typeName_reset() {
+    typeName_computed = null;
+    typeName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeName_computed = null;
+
+  /** @apilevel internal */
+  protected String typeName_value;
+
+  /**
+   * The qualified typename of this type.
+   * 
+   * <p>Includes array suffix and type arguments.
+   * @attribute syn
+   * @aspect TypeName
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeName", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:100")
+  public String typeName() {
+    ASTState state = state();
+    if (typeName_computed == ASTState.NON_CYCLE || typeName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeName()", "", typeName_value);
+      return typeName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeName()", "", "");
+    typeName_value = typeName_compute();
+    state().trace().computeEnd(this, "TypeDecl.typeName()", "", typeName_value);
+    if (state().inCircle()) {
+      typeName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeName()", "", typeName_value);
+    } else {
+      typeName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeName()", "", typeName_value);
+    }
+    return typeName_value;
+  }
+  /** @apilevel internal */
+  private String typeName_compute() {
+      if (isNestedType()) {
+        return enclosingType().typeName() + "." + name();
+      }
+      String packageName = packageName();
+      if (packageName.equals("") || packageName.equals(PRIMITIVE_PACKAGE_NAME)) {
+        return name();
+      }
+      return packageName + "." + name();
+    }
+  /**
+   * @attribute syn
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeConversion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:36")
+  public boolean identityConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.identityConversionTo(TypeDecl)", _parameters, "");
+    boolean identityConversionTo_TypeDecl_value = this == type;
+    state().trace().computeEnd(this, "TypeDecl.identityConversionTo(TypeDecl)", _parameters, identityConversionTo_TypeDecl_value);
+    return identityConversionTo_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeConversion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:38")
+  public boolean wideningConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.wideningConversionTo(TypeDecl)", _parameters, "");
+    boolean wideningConversionTo_TypeDecl_value = subtype(type);
+    state().trace().computeEnd(this, "TypeDecl.wideningConversionTo(TypeDecl)", _parameters, wideningConversionTo_TypeDecl_value);
+    return wideningConversionTo_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void narrowingConversionTo_TypeDecl_reset() {
+    narrowingConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    narrowingConversionTo_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map narrowingConversionTo_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map narrowingConversionTo_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeConversion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:39")
+  public boolean narrowingConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    if (narrowingConversionTo_TypeDecl_computed == null) narrowingConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    if (narrowingConversionTo_TypeDecl_values == null) narrowingConversionTo_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (narrowingConversionTo_TypeDecl_values.containsKey(_parameters) && narrowingConversionTo_TypeDecl_computed != null
+        && narrowingConversionTo_TypeDecl_computed.containsKey(_parameters)
+        && (narrowingConversionTo_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || narrowingConversionTo_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.narrowingConversionTo(TypeDecl)", _parameters, narrowingConversionTo_TypeDecl_values.get(_parameters));
+      return (Boolean) narrowingConversionTo_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.narrowingConversionTo(TypeDecl)", _parameters, "");
+    boolean narrowingConversionTo_TypeDecl_value = subtype(type);
+    state().trace().computeEnd(this, "TypeDecl.narrowingConversionTo(TypeDecl)", _parameters, narrowingConversionTo_TypeDecl_value);
+    if (state().inCircle()) {
+      narrowingConversionTo_TypeDecl_values.put(_parameters, narrowingConversionTo_TypeDecl_value);
+      narrowingConversionTo_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.narrowingConversionTo(TypeDecl)", _parameters, narrowingConversionTo_TypeDecl_value);
+    } else {
+      narrowingConversionTo_TypeDecl_values.put(_parameters, narrowingConversionTo_TypeDecl_value);
+      narrowingConversionTo_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.narrowingConversionTo(TypeDecl)", _parameters, narrowingConversionTo_TypeDecl_value);
+    }
+    return narrowingConversionTo_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:79
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeConversion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:79")
+  public boolean stringConversion() {
+    state().trace().computeBegin(this, "TypeDecl.stringConversion()", "", "");
+    boolean stringConversion_value = true;
+    state().trace().computeEnd(this, "TypeDecl.stringConversion()", "", stringConversion_value);
+    return stringConversion_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:83
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeConversion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:83")
+  public boolean assignConversionTo(TypeDecl type, Expr expr) {
+    Object _parameters = java.util.Arrays.asList(type, expr);
+    state().trace().computeBegin(this, "TypeDecl.assignConversionTo(TypeDecl,Expr)", _parameters, "");
+    try {
+        if (refined_TypeConversion_TypeDecl_assignConversionTo_TypeDecl_Expr(type, expr)) {
+          return true;
+        }
+        boolean canBoxThis = this instanceof PrimitiveType;
+        boolean canBoxType = type instanceof PrimitiveType;
+        boolean canUnboxThis = !unboxed().isUnknown();
+        boolean canUnboxType = !type.unboxed().isUnknown();
+        TypeDecl t = !canUnboxThis && canUnboxType ? type.unboxed() : type;
+        boolean sourceIsConstant = expr != null ? expr.isConstant() : false;
+        if (sourceIsConstant && (isInt() || isChar() || isShort() || isByte()) &&
+            (t.isByte() || t.isShort() || t.isChar()) &&
+            narrowingConversionTo(t) && expr.representableIn(t))
+          return true;
+        if (canBoxThis && !canBoxType && boxed().wideningConversionTo(type)) {
+          return true;
+        } else if (canUnboxThis && !canUnboxType && unboxed().wideningConversionTo(type)) {
+          return true;
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.assignConversionTo(TypeDecl,Expr)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void methodInvocationConversionTo_TypeDecl_reset() {
+    methodInvocationConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    methodInvocationConversionTo_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map methodInvocationConversionTo_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map methodInvocationConversionTo_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:96
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeConversion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:96")
+  public boolean methodInvocationConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    if (methodInvocationConversionTo_TypeDecl_computed == null) methodInvocationConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    if (methodInvocationConversionTo_TypeDecl_values == null) methodInvocationConversionTo_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (methodInvocationConversionTo_TypeDecl_values.containsKey(_parameters) && methodInvocationConversionTo_TypeDecl_computed != null
+        && methodInvocationConversionTo_TypeDecl_computed.containsKey(_parameters)
+        && (methodInvocationConversionTo_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || methodInvocationConversionTo_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.methodInvocationConversionTo(TypeDecl)", _parameters, methodInvocationConversionTo_TypeDecl_values.get(_parameters));
+      return (Boolean) methodInvocationConversionTo_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.methodInvocationConversionTo(TypeDecl)", _parameters, "");
+    boolean methodInvocationConversionTo_TypeDecl_value = methodInvocationConversionTo_compute(type);
+    state().trace().computeEnd(this, "TypeDecl.methodInvocationConversionTo(TypeDecl)", _parameters, methodInvocationConversionTo_TypeDecl_value);
+    if (state().inCircle()) {
+      methodInvocationConversionTo_TypeDecl_values.put(_parameters, methodInvocationConversionTo_TypeDecl_value);
+      methodInvocationConversionTo_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.methodInvocationConversionTo(TypeDecl)", _parameters, methodInvocationConversionTo_TypeDecl_value);
+    } else {
+      methodInvocationConversionTo_TypeDecl_values.put(_parameters, methodInvocationConversionTo_TypeDecl_value);
+      methodInvocationConversionTo_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.methodInvocationConversionTo(TypeDecl)", _parameters, methodInvocationConversionTo_TypeDecl_value);
+    }
+    return methodInvocationConversionTo_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean methodInvocationConversionTo_compute(TypeDecl type) {
+      if (refined_TypeConversion_TypeDecl_methodInvocationConversionTo_TypeDecl(type)) {
+        return true;
+      }
+      boolean canBoxThis = this instanceof PrimitiveType;
+      boolean canBoxType = type instanceof PrimitiveType;
+      boolean canUnboxThis = !unboxed().isUnknown();
+      boolean canUnboxType = !type.unboxed().isUnknown();
+      if (canBoxThis && !canBoxType) {
+        return boxed().wideningConversionTo(type);
+      } else if (canUnboxThis && !canUnboxType) {
+        return unboxed().wideningConversionTo(type);
+      }
+      return false;
+    }
+  /** @apilevel internal */
+  private void castingConversionTo_TypeDecl_reset() {
+    castingConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    castingConversionTo_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map castingConversionTo_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map castingConversionTo_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeConversion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:100")
+  public boolean castingConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    if (castingConversionTo_TypeDecl_computed == null) castingConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    if (castingConversionTo_TypeDecl_values == null) castingConversionTo_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (castingConversionTo_TypeDecl_values.containsKey(_parameters) && castingConversionTo_TypeDecl_computed != null
+        && castingConversionTo_TypeDecl_computed.containsKey(_parameters)
+        && (castingConversionTo_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || castingConversionTo_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, castingConversionTo_TypeDecl_values.get(_parameters));
+      return (Boolean) castingConversionTo_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, "");
+    boolean castingConversionTo_TypeDecl_value = castingConversionTo_compute(type);
+    state().trace().computeEnd(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, castingConversionTo_TypeDecl_value);
+    if (state().inCircle()) {
+      castingConversionTo_TypeDecl_values.put(_parameters, castingConversionTo_TypeDecl_value);
+      castingConversionTo_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, castingConversionTo_TypeDecl_value);
+    } else {
+      castingConversionTo_TypeDecl_values.put(_parameters, castingConversionTo_TypeDecl_value);
+      castingConversionTo_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, castingConversionTo_TypeDecl_value);
+    }
+    return castingConversionTo_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean castingConversionTo_compute(TypeDecl type) {
+      if (refined_TypeConversion_TypeDecl_castingConversionTo_TypeDecl(type)) {
+        return true;
+      }
+      boolean thisIsPrimitive = this instanceof PrimitiveType;
+      boolean typeIsPrimitive = type instanceof PrimitiveType;
+      if (thisIsPrimitive && !typeIsPrimitive) {
+        return boxed().wideningConversionTo(type);
+      } else if (!thisIsPrimitive && typeIsPrimitive) {
+        return type.boxed().wideningConversionTo(this);
+      }
+      return false;
+    }
+  /**
+   * @attribute syn
+   * @aspect NumericPromotion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:156
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NumericPromotion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:156")
+  public TypeDecl unaryNumericPromotion() {
+    state().trace().computeBegin(this, "TypeDecl.unaryNumericPromotion()", "", "");
+    TypeDecl unaryNumericPromotion_value = this;
+    state().trace().computeEnd(this, "TypeDecl.unaryNumericPromotion()", "", unaryNumericPromotion_value);
+    return unaryNumericPromotion_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NumericPromotion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:165
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NumericPromotion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:165")
+  public TypeDecl binaryNumericPromotion(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.binaryNumericPromotion(TypeDecl)", _parameters, "");
+    TypeDecl binaryNumericPromotion_TypeDecl_value = unknownType();
+    state().trace().computeEnd(this, "TypeDecl.binaryNumericPromotion(TypeDecl)", _parameters, binaryNumericPromotion_TypeDecl_value);
+    return binaryNumericPromotion_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:177
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:177")
+  public boolean isReferenceType() {
+    state().trace().computeBegin(this, "TypeDecl.isReferenceType()", "", "");
+    boolean isReferenceType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isReferenceType()", "", isReferenceType_value);
+    return isReferenceType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:181
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:181")
+  public boolean isPrimitiveType() {
+    state().trace().computeBegin(this, "TypeDecl.isPrimitiveType()", "", "");
+    boolean isPrimitiveType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isPrimitiveType()", "", isPrimitiveType_value);
+    return isPrimitiveType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:186
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:186")
+  public boolean isNumericType() {
+    state().trace().computeBegin(this, "TypeDecl.isNumericType()", "", "");
+    boolean isNumericType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isNumericType()", "", isNumericType_value);
+    return isNumericType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:190
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:190")
+  public boolean isIntegralType() {
+    state().trace().computeBegin(this, "TypeDecl.isIntegralType()", "", "");
+    boolean isIntegralType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isIntegralType()", "", isIntegralType_value);
+    return isIntegralType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:194
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:194")
+  public boolean isBoolean() {
+    state().trace().computeBegin(this, "TypeDecl.isBoolean()", "", "");
+    boolean isBoolean_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isBoolean()", "", isBoolean_value);
+    return isBoolean_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:198
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:198")
+  public boolean isByte() {
+    state().trace().computeBegin(this, "TypeDecl.isByte()", "", "");
+    boolean isByte_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isByte()", "", isByte_value);
+    return isByte_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:200
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:200")
+  public boolean isChar() {
+    state().trace().computeBegin(this, "TypeDecl.isChar()", "", "");
+    boolean isChar_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isChar()", "", isChar_value);
+    return isChar_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:202
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:202")
+  public boolean isShort() {
+    state().trace().computeBegin(this, "TypeDecl.isShort()", "", "");
+    boolean isShort_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isShort()", "", isShort_value);
+    return isShort_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:204
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:204")
+  public boolean isInt() {
+    state().trace().computeBegin(this, "TypeDecl.isInt()", "", "");
+    boolean isInt_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isInt()", "", isInt_value);
+    return isInt_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:208
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:208")
+  public boolean isFloat() {
+    state().trace().computeBegin(this, "TypeDecl.isFloat()", "", "");
+    boolean isFloat_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isFloat()", "", isFloat_value);
+    return isFloat_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:210
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:210")
+  public boolean isLong() {
+    state().trace().computeBegin(this, "TypeDecl.isLong()", "", "");
+    boolean isLong_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isLong()", "", isLong_value);
+    return isLong_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:212
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:212")
+  public boolean isDouble() {
+    state().trace().computeBegin(this, "TypeDecl.isDouble()", "", "");
+    boolean isDouble_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isDouble()", "", isDouble_value);
+    return isDouble_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:215
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:215")
+  public boolean isVoid() {
+    state().trace().computeBegin(this, "TypeDecl.isVoid()", "", "");
+    boolean isVoid_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isVoid()", "", isVoid_value);
+    return isVoid_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:218
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:218")
+  public boolean isNull() {
+    state().trace().computeBegin(this, "TypeDecl.isNull()", "", "");
+    boolean isNull_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isNull()", "", isNull_value);
+    return isNull_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:222
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:222")
+  public boolean isClassDecl() {
+    state().trace().computeBegin(this, "TypeDecl.isClassDecl()", "", "");
+    boolean isClassDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isClassDecl()", "", isClassDecl_value);
+    return isClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:226
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:226")
+  public boolean isInterfaceDecl() {
+    state().trace().computeBegin(this, "TypeDecl.isInterfaceDecl()", "", "");
+    boolean isInterfaceDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isInterfaceDecl()", "", isInterfaceDecl_value);
+    return isInterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:228
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:228")
+  public boolean isArrayDecl() {
+    state().trace().computeBegin(this, "TypeDecl.isArrayDecl()", "", "");
+    boolean isArrayDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isArrayDecl()", "", isArrayDecl_value);
+    return isArrayDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:236
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:236")
+  public boolean isPrimitive() {
+    state().trace().computeBegin(this, "TypeDecl.isPrimitive()", "", "");
+    boolean isPrimitive_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isPrimitive()", "", isPrimitive_value);
+    return isPrimitive_value;
+  }
+  /** @apilevel internal */
+  private void isString_reset() {
+    isString_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isString_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isString_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:239
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:239")
+  public boolean isString() {
+    ASTState state = state();
+    if (isString_computed == ASTState.NON_CYCLE || isString_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isString()", "", isString_value);
+      return isString_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isString()", "", "");
+    isString_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isString()", "", isString_value);
+    if (state().inCircle()) {
+      isString_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isString()", "", isString_value);
+    } else {
+      isString_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isString()", "", isString_value);
+    }
+    return isString_value;
+  }
+  /** @apilevel internal */
+  private void isObject_reset() {
+    isObject_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isObject_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isObject_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:242
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:242")
+  public boolean isObject() {
+    ASTState state = state();
+    if (isObject_computed == ASTState.NON_CYCLE || isObject_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isObject()", "", isObject_value);
+      return isObject_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isObject()", "", "");
+    isObject_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isObject()", "", isObject_value);
+    if (state().inCircle()) {
+      isObject_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isObject()", "", isObject_value);
+    } else {
+      isObject_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isObject()", "", isObject_value);
+    }
+    return isObject_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:245
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:245")
+  public boolean isUnknown() {
+    state().trace().computeBegin(this, "TypeDecl.isUnknown()", "", "");
+    boolean isUnknown_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isUnknown()", "", isUnknown_value);
+    return isUnknown_value;
+  }
+  /**
+   * Deprecated variant of the subtype attribute.
+   * @deprecated use the subtype attribute instead.
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:446
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:446")
+  public boolean instanceOf(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.instanceOf(TypeDecl)", _parameters, "");
+    boolean instanceOf_TypeDecl_value = subtype(type);
+    state().trace().computeEnd(this, "TypeDecl.instanceOf(TypeDecl)", _parameters, instanceOf_TypeDecl_value);
+    return instanceOf_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void subtype_TypeDecl_reset() {
+    subtype_TypeDecl_values = null;
+  }
+  protected java.util.Map subtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:456")
+  public boolean subtype(TypeDecl type) {
+    Object _parameters = type;
+    if (subtype_TypeDecl_values == null) subtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (subtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = subtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.subtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      subtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_subtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+        new_subtype_TypeDecl_value = type == this;
+        state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+        if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_subtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      subtype_TypeDecl_values.put(_parameters, new_subtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_subtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+      boolean new_subtype_TypeDecl_value = type == this;
+      state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_subtype_TypeDecl_value;
+      }
+      return new_subtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:472
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:472")
+  public boolean supertypeClassDecl(ClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeClassDecl(ClassDecl)", _parameters, "");
+    boolean supertypeClassDecl_ClassDecl_value = type == this;
+    state().trace().computeEnd(this, "TypeDecl.supertypeClassDecl(ClassDecl)", _parameters, supertypeClassDecl_ClassDecl_value);
+    return supertypeClassDecl_ClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:487
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:487")
+  public boolean supertypeInterfaceDecl(InterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeInterfaceDecl(InterfaceDecl)", _parameters, "");
+    boolean supertypeInterfaceDecl_InterfaceDecl_value = type == this;
+    state().trace().computeEnd(this, "TypeDecl.supertypeInterfaceDecl(InterfaceDecl)", _parameters, supertypeInterfaceDecl_InterfaceDecl_value);
+    return supertypeInterfaceDecl_InterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:501
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:501")
+  public boolean supertypeArrayDecl(ArrayDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeArrayDecl(ArrayDecl)", _parameters, "");
+    boolean supertypeArrayDecl_ArrayDecl_value = this == type;
+    state().trace().computeEnd(this, "TypeDecl.supertypeArrayDecl(ArrayDecl)", _parameters, supertypeArrayDecl_ArrayDecl_value);
+    return supertypeArrayDecl_ArrayDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:526
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:526")
+  public boolean supertypePrimitiveType(PrimitiveType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypePrimitiveType(PrimitiveType)", _parameters, "");
+    boolean supertypePrimitiveType_PrimitiveType_value = type == this;
+    state().trace().computeEnd(this, "TypeDecl.supertypePrimitiveType(PrimitiveType)", _parameters, supertypePrimitiveType_PrimitiveType_value);
+    return supertypePrimitiveType_PrimitiveType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:569
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:569")
+  public boolean supertypeNullType(NullType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeNullType(NullType)", _parameters, "");
+    boolean supertypeNullType_NullType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.supertypeNullType(NullType)", _parameters, supertypeNullType_NullType_value);
+    return supertypeNullType_NullType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:573
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:573")
+  public boolean supertypeVoidType(VoidType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeVoidType(VoidType)", _parameters, "");
+    boolean supertypeVoidType_VoidType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.supertypeVoidType(VoidType)", _parameters, supertypeVoidType_VoidType_value);
+    return supertypeVoidType_VoidType_value;
+  }
+  /**
+   * @return {@code true} if this type has an enclosing type which is
+   * a subtype of the given type, or equal to the given type.
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:590
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:590")
+  public boolean hasEnclosingType(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.hasEnclosingType(TypeDecl)", _parameters, "");
+    boolean hasEnclosingType_TypeDecl_value = isInnerType() && (enclosingType().subtype(type)
+              || enclosingType().hasEnclosingType(type));
+    state().trace().computeEnd(this, "TypeDecl.hasEnclosingType(TypeDecl)", _parameters, hasEnclosingType_TypeDecl_value);
+    return hasEnclosingType_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:595
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:595")
+  public TypeDecl topLevelType() {
+    state().trace().computeBegin(this, "TypeDecl.topLevelType()", "", "");
+    try {
+        if (isTopLevelType()) {
+          return this;
+        }
+        return enclosingType().topLevelType();
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.topLevelType()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:624
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:624")
+  public boolean isTopLevelType() {
+    state().trace().computeBegin(this, "TypeDecl.isTopLevelType()", "", "");
+    boolean isTopLevelType_value = !isNestedType();
+    state().trace().computeEnd(this, "TypeDecl.isTopLevelType()", "", isTopLevelType_value);
+    return isTopLevelType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:635
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:635")
+  public boolean isInnerClass() {
+    state().trace().computeBegin(this, "TypeDecl.isInnerClass()", "", "");
+    boolean isInnerClass_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isInnerClass()", "", isInnerClass_value);
+    return isInnerClass_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:639
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:639")
+  public boolean isInnerType() {
+    state().trace().computeBegin(this, "TypeDecl.isInnerType()", "", "");
+    boolean isInnerType_value = (isLocalClass() || isAnonymous() || (isMemberType() && !isStatic())) && !inStaticContext();
+    state().trace().computeEnd(this, "TypeDecl.isInnerType()", "", isInnerType_value);
+    return isInnerType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:642
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:642")
+  public boolean isInnerTypeOf(TypeDecl typeDecl) {
+    Object _parameters = typeDecl;
+    state().trace().computeBegin(this, "TypeDecl.isInnerTypeOf(TypeDecl)", _parameters, "");
+    boolean isInnerTypeOf_TypeDecl_value = typeDecl == this || (isInnerType() && enclosingType().isInnerTypeOf(typeDecl));
+    state().trace().computeEnd(this, "TypeDecl.isInnerTypeOf(TypeDecl)", _parameters, isInnerTypeOf_TypeDecl_value);
+    return isInnerTypeOf_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:653
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:653")
+  public TypeDecl withinBodyThatSubclasses(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.withinBodyThatSubclasses(TypeDecl)", _parameters, "");
+    try {
+        if (subtype(type)) {
+          return this;
+        }
+        if (!isTopLevelType()) {
+          return enclosingType().withinBodyThatSubclasses(type);
+        }
+        return null;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.withinBodyThatSubclasses(TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:663
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:663")
+  public boolean encloses(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.encloses(TypeDecl)", _parameters, "");
+    boolean encloses_TypeDecl_value = type.enclosedBy(this);
+    state().trace().computeEnd(this, "TypeDecl.encloses(TypeDecl)", _parameters, encloses_TypeDecl_value);
+    return encloses_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:665
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:665")
+  public boolean enclosedBy(TypeDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.enclosedBy(TypeDecl)", _parameters, "");
+    try {
+        if (this == type) {
+          return true;
+        }
+        if (isTopLevelType()) {
+          return false;
+        }
+        return enclosingType().enclosedBy(type);
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.enclosedBy(TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:682
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:682")
+  public TypeDecl hostType() {
+    state().trace().computeBegin(this, "TypeDecl.hostType()", "", "");
+    TypeDecl hostType_value = this;
+    state().trace().computeEnd(this, "TypeDecl.hostType()", "", hostType_value);
+    return hostType_value;
+  }
+  /** @apilevel internal */
+  private void superInterfaces_reset() {
+    superInterfaces_computed = null;
+    superInterfaces_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle superInterfaces_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<InterfaceDecl> superInterfaces_value;
+
+  /**
+   * The direct superinterfaces of this type, in the order of the implements clause.
+   * 
+   * @return the interfaces directly implemented by this type.
+   * @attribute syn
+   * @aspect SuperClasses
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:726
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SuperClasses", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:726")
+  public Collection<InterfaceDecl> superInterfaces() {
+    ASTState state = state();
+    if (superInterfaces_computed == ASTState.NON_CYCLE || superInterfaces_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.superInterfaces()", "", superInterfaces_value);
+      return superInterfaces_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.superInterfaces()", "", "");
+    superInterfaces_value = Collections.emptyList();
+    state().trace().computeEnd(this, "TypeDecl.superInterfaces()", "", superInterfaces_value);
+    if (state().inCircle()) {
+      superInterfaces_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.superInterfaces()", "", superInterfaces_value);
+    } else {
+      superInterfaces_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.superInterfaces()", "", superInterfaces_value);
+    }
+    return superInterfaces_value;
+  }
+/** @apilevel internal */
+protected ASTState.Cycle isCircular_cycle = null;
+  /** @apilevel internal */
+  private void isCircular_reset() {
+    isCircular_computed = false;
+    isCircular_initialized = false;
+    isCircular_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean isCircular_computed = false;
+
+  /** @apilevel internal */
+  protected boolean isCircular_value;
+  /** @apilevel internal */
+  protected boolean isCircular_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="Circularity", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:760")
+  public boolean isCircular() {
+    if (isCircular_computed) {
+      state().trace().cacheRead(this, "TypeDecl.isCircular()", "", isCircular_value);
+      return isCircular_value;
+    }
+    ASTState state = state();
+    if (!isCircular_initialized) {
+      isCircular_initialized = true;
+      isCircular_value = true;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        isCircular_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.isCircular()", "", "");
+        boolean new_isCircular_value = false;
+        state().trace().computeEnd(this, "TypeDecl.isCircular()", "", isCircular_value);
+        if (new_isCircular_value != isCircular_value) {
+          state.setChangeInCycle();
+        }
+        isCircular_value = new_isCircular_value;
+      } while (state.testAndClearChangeInCycle());
+      isCircular_computed = true;
+      state().trace().cacheWrite(this, "TypeDecl.isCircular()", "", isCircular_value);
+      state.leaveCircle();
+    } else if (isCircular_cycle != state.cycle()) {
+      isCircular_cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.isCircular()", "", "");
+      boolean new_isCircular_value = false;
+      state().trace().computeEnd(this, "TypeDecl.isCircular()", "", isCircular_value);
+      if (new_isCircular_value != isCircular_value) {
+        state.setChangeInCycle();
+      }
+      isCircular_value = new_isCircular_value;
+    } else {
+    }
+    return isCircular_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:249
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:249")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "TypeDecl.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        for (MethodDecl m : localMethods()) {
+          ASTNode target = m.hostType() == this ? (ASTNode) m : (ASTNode) this;
+    
+          for (MethodDecl decl : ancestorMethods(m.signature())) {
+            if (m.overrides(decl)) {
+              // 8.4.6.1
+              if (!decl.hostType().isInterfaceDecl() && !m.isStatic() && decl.isStatic()) {
+                problems.add(target.error("an instance method may not override a static method"));
+              }
+    
+              // Regardless of overriding.
+              // 8.4.6.3
+              if (!m.mayOverride(decl)) {
+                // 9.4.3
+                if (m.isDefault() && decl.hostType() == m.type().typeObject() && !decl.isPrivate()) {
+                  problems.add(target.error("default methods may not override methods in Object"));
+                } else {
+                  problems.add(target.errorf(
+                      "the return type of method %s in %s does not match the return type of"
+                      + " method %s in %s and may thus not be overridden",
+                      m.fullSignature(), m.hostType().typeName(), decl.fullSignature(),
+                      decl.hostType().typeName()));
+                }
+              }
+    
+              // Regardless of overriding.
+              // 8.4.4
+              for (Access e: m.getExceptionList()) {
+                if (e.type().isCheckedException()) {
+                  boolean found = false;
+                  for (Access declException: decl.getExceptionList()) {
+                    if (e.type().subtype(declException.type())) {
+                      found = true;
+                      break;
+                    }
+                  }
+                  if (!found) {
+                    problems.add(target.errorf("%s in %s may not throw more checked exceptions than"
+                        + " overridden method %s in %s",
+                        m.fullSignature(), m.hostType().typeName(), decl.fullSignature(),
+                        decl.hostType().typeName()));
+                  }
+                }
+              }
+    
+              // 8.4.6.3
+              if (decl.isPublic() && !m.isPublic()) {
+                problems.add(target.error("overriding access modifier error"));
+              }
+              // 8.4.6.3
+              if (decl.isProtected() && !(m.isPublic() || m.isProtected())) {
+                problems.add(target.error("overriding access modifier error"));
+              }
+              // 8.4.6.3
+              if ((!decl.isPrivate() && !decl.isProtected() && !decl.isPublic()) && m.isPrivate()) {
+                problems.add(target.error("overriding access modifier error"));
+              }
+              // Regardless of overriding.
+              if (decl.isFinal()) {
+                problems.add(target.errorf("method %s in %s can not override final method %s in %s",
+                    m.fullSignature(), hostType().typeName(), decl.fullSignature(),
+                    decl.hostType().typeName()));
+              }
+            }
+            if (m.hides(decl)) {
+              // 8.4.6.2
+              if (m.isStatic() && !decl.isStatic()) {
+                problems.add(target.error("a static method may not hide an instance method"));
+              }
+              // 8.4.6.3
+              if (!m.mayOverride(decl)) {
+                problems.add(target.error("can not hide a method with a different return type"));
+              }
+              // 8.4.4
+              for (int i = 0; i < m.getNumException(); i++) {
+                Access e = m.getException(i);
+                boolean found = false;
+                for (int j = 0; !found && j < decl.getNumException(); j++) {
+                  if (e.type().subtype(decl.getException(j).type())) {
+                    found = true;
+                  }
+                }
+                if (!found) {
+                  problems.add(target.error(
+                      "may not throw more checked exceptions than hidden method"));
+                }
+              }
+              // 8.4.6.3
+              if (decl.isPublic() && !m.isPublic()) {
+                problems.add(target.errorf("hiding access modifier:"
+                    + " public method %s in %s is hidden by non public method %s in %s",
+                    decl.fullSignature(), decl.hostType().typeName(), m.fullSignature(),
+                    m.hostType().typeName()));
+              }
+              // 8.4.6.3
+              if (decl.isProtected() && !(m.isPublic() || m.isProtected())) {
+                problems.add(target.errorf("hiding access modifier:"
+                    + " protected method %s in %s is hidden by non (public|protected) method %s in %s",
+                    decl.fullSignature(), decl.hostType().typeName(), m.fullSignature(),
+                    m.hostType().typeName()));
+              }
+              // 8.4.6.3
+              if ((!decl.isPrivate() && !decl.isProtected() && !decl.isPublic()) && m.isPrivate()) {
+                problems.add(target.errorf("hiding access modifier:"
+                    + " default method %s in %s is hidden by private method %s in %s",
+                    decl.fullSignature(), decl.hostType().typeName(), m.fullSignature(),
+                    m.hostType().typeName()));
+              }
+              if (decl.isFinal()) {
+                problems.add(target.errorf("method %s in %s can not hide final method %s in %s",
+                    m.fullSignature(), hostType().typeName(), decl.fullSignature(),
+                    decl.hostType().typeName()));
+              }
+            }
+          }
+        }
+    
+        // Different parameterizations of the same generic interface may not be implemented.
+        ArrayList<InterfaceDecl> interfaceList = new ArrayList<InterfaceDecl>();
+        interfaceList.addAll(implementedInterfaces());
+        for (int i = 0; i < interfaceList.size(); i++) {
+          InterfaceDecl decl = interfaceList.get(i);
+          if (decl instanceof ParInterfaceDecl) {
+            ParInterfaceDecl p = (ParInterfaceDecl) decl;
+            for (Iterator<InterfaceDecl> i2 = interfaceList.listIterator(i); i2.hasNext(); ) {
+              InterfaceDecl decl2 = i2.next();
+              if (decl2 instanceof ParInterfaceDecl) {
+                ParInterfaceDecl q = (ParInterfaceDecl) decl2;
+                if (p != q && p.genericDecl() == q.genericDecl() && !p.sameArguments(q)) {
+                  problems.add(errorf("%s cannot be inherited with different type arguments: %s and %s",
+                      p.genericDecl().name(), p.typeName(), q.typeName()));
+                }
+              }
+            }
+          }
+        }
+    
+        // Check if a method has same signature as another in a supertype but does not override it.
+        Map<String, SimpleSet<MethodDecl>> map = erasedAncestorMethodsMap();
+        for (MethodDecl localMethod : localMethods()) {
+          String signature = localMethod.signature();
+    
+          SimpleSet<MethodDecl> set = map.get(signature);
+          if (set != null) {
+            for (MethodDecl decl : set) {
+              if (!decl.signature().equals(signature)) {
+                problems.add(localMethod.errorf("method %s in %s has the same erased signature as"
+                    + " %s declared in %s but does not override it",
+                    signature, typeName(), decl.signature(), decl.hostType().typeName()));
+              }
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.typeProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void innerClassesAttributeEntries_reset() {
+    innerClassesAttributeEntries_computed = null;
+    innerClassesAttributeEntries_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle innerClassesAttributeEntries_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<TypeDecl> innerClassesAttributeEntries_value;
+
+  /**
+   * @attribute syn
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:158
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Attributes", declaredAt="/root/project/java4/backend/Attributes.jrag:158")
+  public Collection<TypeDecl> innerClassesAttributeEntries() {
+    ASTState state = state();
+    if (innerClassesAttributeEntries_computed == ASTState.NON_CYCLE || innerClassesAttributeEntries_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.innerClassesAttributeEntries()", "", innerClassesAttributeEntries_value);
+      return innerClassesAttributeEntries_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.innerClassesAttributeEntries()", "", "");
+    innerClassesAttributeEntries_value = innerClassesAttributeEntries_compute();
+    state().trace().computeEnd(this, "TypeDecl.innerClassesAttributeEntries()", "", innerClassesAttributeEntries_value);
+    if (state().inCircle()) {
+      innerClassesAttributeEntries_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.innerClassesAttributeEntries()", "", innerClassesAttributeEntries_value);
+    } else {
+      innerClassesAttributeEntries_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.innerClassesAttributeEntries()", "", innerClassesAttributeEntries_value);
+    }
+    return innerClassesAttributeEntries_value;
+  }
+  /** @apilevel internal */
+  private Collection<TypeDecl> innerClassesAttributeEntries_compute() {
+      Collection<TypeDecl> list = new LinkedHashSet<TypeDecl>();
+      if (isNestedType()) {
+        list.add(this);
+      }
+      for (TypeDecl decl : nestedTypes()) {
+        list.add(decl);
+      }
+      return list;
+    }
+  /** @apilevel internal */
+  private void attributes_reset() {
+    attributes_computed = null;
+    attributes_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle attributes_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<Attribute> attributes_value;
+
+  /**
+   * @attribute syn
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:252
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Attributes", declaredAt="/root/project/java4/backend/Attributes.jrag:252")
+  public Collection<Attribute> attributes() {
+    ASTState state = state();
+    if (attributes_computed == ASTState.NON_CYCLE || attributes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.attributes()", "", attributes_value);
+      return attributes_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.attributes()", "", "");
+    attributes_value = attributes_compute();
+    state().trace().computeEnd(this, "TypeDecl.attributes()", "", attributes_value);
+    if (state().inCircle()) {
+      attributes_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.attributes()", "", attributes_value);
+    } else {
+      attributes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.attributes()", "", attributes_value);
+    }
+    return attributes_value;
+  }
+  /** @apilevel internal */
+  private Collection<Attribute> attributes_compute() {
+      Collection<Attribute> attributes = refined_GenericsCodegen_TypeDecl_attributes();
+      if (isLocalClass() || isAnonymous()) {
+        attributes.add(new EnclosingMethod(constantPool(), this));
+      }
+      return attributes;
+    }
+  /** @apilevel internal */
+  private void clinit_attributes_reset() {
+    clinit_attributes_computed = null;
+    clinit_attributes_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle clinit_attributes_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<Attribute> clinit_attributes_value;
+
+  /**
+   * @attribute syn
+   * @aspect Attributes
+   * @declaredat /root/project/java4/backend/Attributes.jrag:319
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Attributes", declaredAt="/root/project/java4/backend/Attributes.jrag:319")
+  public Collection<Attribute> clinit_attributes() {
+    ASTState state = state();
+    if (clinit_attributes_computed == ASTState.NON_CYCLE || clinit_attributes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.clinit_attributes()", "", clinit_attributes_value);
+      return clinit_attributes_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.clinit_attributes()", "", "");
+    clinit_attributes_value = clinit_attributes_compute();
+    state().trace().computeEnd(this, "TypeDecl.clinit_attributes()", "", clinit_attributes_value);
+    if (state().inCircle()) {
+      clinit_attributes_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.clinit_attributes()", "", clinit_attributes_value);
+    } else {
+      clinit_attributes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.clinit_attributes()", "", clinit_attributes_value);
+    }
+    return clinit_attributes_value;
+  }
+  /** @apilevel internal */
+  private Collection<Attribute> clinit_attributes_compute() {
+      Collection<Attribute> attributes = new ArrayList<Attribute>();
+      attributes.add(new CodeAttribute(bytecodes(constantPool()), null));
+      return attributes;
+    }
+  /** @apilevel internal */
+  private void constantPool_reset() {
+    constantPool_computed = null;
+    constantPool_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constantPool_computed = null;
+
+  /** @apilevel internal */
+  protected ConstantPool constantPool_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantPool
+   * @declaredat /root/project/java4/backend/ConstantPool.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPool", declaredAt="/root/project/java4/backend/ConstantPool.jrag:36")
+  public ConstantPool constantPool() {
+    ASTState state = state();
+    if (constantPool_computed == ASTState.NON_CYCLE || constantPool_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.constantPool()", "", constantPool_value);
+      return constantPool_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.constantPool()", "", "");
+    constantPool_value = new ConstantPool(this);
+    state().trace().computeEnd(this, "TypeDecl.constantPool()", "", constantPool_value);
+    if (state().inCircle()) {
+      constantPool_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.constantPool()", "", constantPool_value);
+    } else {
+      constantPool_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.constantPool()", "", constantPool_value);
+    }
+    return constantPool_value;
+  }
+  /** @apilevel internal */
+  private void constantPoolName_reset() {
+    constantPoolName_computed = null;
+    constantPoolName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constantPoolName_computed = null;
+
+  /** @apilevel internal */
+  protected String constantPoolName_value;
+
+  /**
+   * For a top-level type the constant pool name of the type is the same as the
+   * canonical name but with dots replaced by solidus.
+   * 
+   * <p>For nested types the constant pool name is based on the enclosing top-level
+   * types constant pool name followed by a dollar sign and a unique index and/or
+   * the type name.
+   * 
+   * @return constant pool name of this type
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:44")
+  public String constantPoolName() {
+    ASTState state = state();
+    if (constantPoolName_computed == ASTState.NON_CYCLE || constantPoolName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+      return constantPoolName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.constantPoolName()", "", "");
+    constantPoolName_value = constantPoolName_compute();
+    state().trace().computeEnd(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    if (state().inCircle()) {
+      constantPoolName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    } else {
+      constantPoolName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    }
+    return constantPoolName_value;
+  }
+  /** @apilevel internal */
+  private String constantPoolName_compute() {
+      String packageName = packageName();
+      if (!packageName.equals("")) {
+        packageName = packageName.replace('.', '/') + "/";
+      }
+      return packageName + uniqueName();
+    }
+  /** @apilevel internal */
+  private void uniqueName_reset() {
+    uniqueName_computed = null;
+    uniqueName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle uniqueName_computed = null;
+
+  /** @apilevel internal */
+  protected String uniqueName_value;
+
+  /**
+   * Computes a unique name for this type in the enclosing package.
+   * 
+   * <p>For top-level types the unique name is just the type name.  For nested
+   * types it is the enclosing types unique name followed by a dollar sign and
+   * a unique index and/or the type name.
+   * 
+   * @return a name for this type that is unique in the enclosing package
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:61
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:61")
+  public String uniqueName() {
+    ASTState state = state();
+    if (uniqueName_computed == ASTState.NON_CYCLE || uniqueName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.uniqueName()", "", uniqueName_value);
+      return uniqueName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.uniqueName()", "", "");
+    uniqueName_value = uniqueName_compute();
+    state().trace().computeEnd(this, "TypeDecl.uniqueName()", "", uniqueName_value);
+    if (state().inCircle()) {
+      uniqueName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.uniqueName()", "", uniqueName_value);
+    } else {
+      uniqueName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.uniqueName()", "", uniqueName_value);
+    }
+    return uniqueName_value;
+  }
+  /** @apilevel internal */
+  private String uniqueName_compute() {
+      if (!isNestedType()) {
+        return getID();
+      } else {
+        String prefix = enclosingType().uniqueName();
+        if (isAnonymous()) {
+          return prefix + "$" + uniqueIndex();
+        } else if (isLocalClass()) {
+          return prefix + "$" + uniqueIndex() + getID();
+        } else {
+          return prefix + "$" + getID();
+        }
+      }
+    }
+  /** @apilevel internal */
+  private void typeDescriptor_reset() {
+    typeDescriptor_computed = null;
+    typeDescriptor_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeDescriptor_computed = null;
+
+  /** @apilevel internal */
+  protected String typeDescriptor_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:78")
+  public String typeDescriptor() {
+    ASTState state = state();
+    if (typeDescriptor_computed == ASTState.NON_CYCLE || typeDescriptor_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+      return typeDescriptor_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeDescriptor()", "", "");
+    typeDescriptor_value = typeDescriptor_compute();
+    state().trace().computeEnd(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    if (state().inCircle()) {
+      typeDescriptor_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    } else {
+      typeDescriptor_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    }
+    return typeDescriptor_value;
+  }
+  /** @apilevel internal */
+  private String typeDescriptor_compute() {
+      throw new Error("Can not compute typeDescriptor for " + getClass().getName());
+    }
+  /** @apilevel internal */
+  private void destinationPath_reset() {
+    destinationPath_computed = null;
+    destinationPath_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle destinationPath_computed = null;
+
+  /** @apilevel internal */
+  protected String destinationPath_value;
+
+  /**
+   * @return The path to the classfiles that should be generated for this type.
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:177
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:177")
+  public String destinationPath() {
+    ASTState state = state();
+    if (destinationPath_computed == ASTState.NON_CYCLE || destinationPath_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.destinationPath()", "", destinationPath_value);
+      return destinationPath_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.destinationPath()", "", "");
+    destinationPath_value = destinationPath_compute();
+    state().trace().computeEnd(this, "TypeDecl.destinationPath()", "", destinationPath_value);
+    if (state().inCircle()) {
+      destinationPath_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.destinationPath()", "", destinationPath_value);
+    } else {
+      destinationPath_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.destinationPath()", "", destinationPath_value);
+    }
+    return destinationPath_value;
+  }
+  /** @apilevel internal */
+  private String destinationPath_compute() {
+      if (program().options().hasValueForOption("-d")) {
+        return program().options().getValueForOption("-d") + File.separator
+            + constantPoolName() + ".class";
+      } else {
+        return compilationUnit().destinationPath() + File.separator
+            + uniqueName() + ".class";
+      }
+    }
+  /** @apilevel internal */
+  private void hasClinit_reset() {
+    hasClinit_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle hasClinit_computed = null;
+
+  /** @apilevel internal */
+  protected boolean hasClinit_value;
+
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:46")
+  public boolean hasClinit() {
+    ASTState state = state();
+    if (hasClinit_computed == ASTState.NON_CYCLE || hasClinit_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.hasClinit()", "", hasClinit_value);
+      return hasClinit_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.hasClinit()", "", "");
+    hasClinit_value = hasClinit_compute();
+    state().trace().computeEnd(this, "TypeDecl.hasClinit()", "", hasClinit_value);
+    if (state().inCircle()) {
+      hasClinit_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.hasClinit()", "", hasClinit_value);
+    } else {
+      hasClinit_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.hasClinit()", "", hasClinit_value);
+    }
+    return hasClinit_value;
+  }
+  /** @apilevel internal */
+  private boolean hasClinit_compute() {
+      for (BodyDecl b : getBodyDeclList()) {
+        if (b instanceof FieldDecl) {
+          FieldDecl field = (FieldDecl) b;
+          if (field.isStatic() && field.hasInit()) {
+            return true;
+          }
+        } else if (b instanceof StaticInitializer) {
+          return true;
+        }
+      }
+      return hasAssertStatement(); // Check if we need to initialize the $assertionsDisabled field.
+    }
+  /** @apilevel internal */
+  private void bytecodes_ConstantPool_reset() {
+    bytecodes_ConstantPool_computed = new java.util.HashMap(4);
+    bytecodes_ConstantPool_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map bytecodes_ConstantPool_values;
+  /** @apilevel internal */
+  protected java.util.Map bytecodes_ConstantPool_computed;
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:73
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:73")
+  public CodeGeneration bytecodes(ConstantPool constantPool) {
+    Object _parameters = constantPool;
+    if (bytecodes_ConstantPool_computed == null) bytecodes_ConstantPool_computed = new java.util.HashMap(4);
+    if (bytecodes_ConstantPool_values == null) bytecodes_ConstantPool_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (bytecodes_ConstantPool_values.containsKey(_parameters) && bytecodes_ConstantPool_computed != null
+        && bytecodes_ConstantPool_computed.containsKey(_parameters)
+        && (bytecodes_ConstantPool_computed.get(_parameters) == ASTState.NON_CYCLE || bytecodes_ConstantPool_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.bytecodes(ConstantPool)", _parameters, bytecodes_ConstantPool_values.get(_parameters));
+      return (CodeGeneration) bytecodes_ConstantPool_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.bytecodes(ConstantPool)", _parameters, "");
+    CodeGeneration bytecodes_ConstantPool_value = bytecodes_compute(constantPool);
+    state().trace().computeEnd(this, "TypeDecl.bytecodes(ConstantPool)", _parameters, bytecodes_ConstantPool_value);
+    if (state().inCircle()) {
+      bytecodes_ConstantPool_values.put(_parameters, bytecodes_ConstantPool_value);
+      bytecodes_ConstantPool_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.bytecodes(ConstantPool)", _parameters, bytecodes_ConstantPool_value);
+    } else {
+      bytecodes_ConstantPool_values.put(_parameters, bytecodes_ConstantPool_value);
+      bytecodes_ConstantPool_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.bytecodes(ConstantPool)", _parameters, bytecodes_ConstantPool_value);
+    }
+    return bytecodes_ConstantPool_value;
+  }
+  /** @apilevel internal */
+  private CodeGeneration bytecodes_compute(ConstantPool constantPool) {
+      CodeGeneration gen = new CodeGeneration(constantPool, this);
+      try {
+        generateBytecodes(gen);
+      } catch (CodeGeneration.JumpOffsetError e) {
+        // Retry with wide gotos.
+        gen = new CodeGeneration(constantPool, this, true);
+        generateBytecodes(gen);
+      } catch (Error e) {
+        System.err.println("Error while processing " + sourceLocation());
+        throw e;
+      }
+      return gen;
+    }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:619
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:619")
+  public boolean needsAccessorFor(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "TypeDecl.needsAccessorFor(Variable)", _parameters, "");
+    try {
+        if (!(v instanceof FieldDeclarator)) {
+          return false;
+        }
+        if (v.isConstant() && (v.type().isPrimitive() || v.type().isString())) {
+          return false;
+        }
+        return v.isPrivate() && !hasField(v.name());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.needsAccessorFor(Variable)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:999
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:999")
+  public String arrayTypeDescriptor() {
+    state().trace().computeBegin(this, "TypeDecl.arrayTypeDescriptor()", "", "");
+    try { throw new Error("Operation not supported"); }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.arrayTypeDescriptor()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:1004
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:1004")
+  public int arrayPrimitiveTypeDescriptor() {
+    state().trace().computeBegin(this, "TypeDecl.arrayPrimitiveTypeDescriptor()", "", "");
+    try {
+        codeGenError("primitive array type descriptor");
+        // Unreachable:
+        return -1;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.arrayPrimitiveTypeDescriptor()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void flags_reset() {
+    flags_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle flags_computed = null;
+
+  /** @apilevel internal */
+  protected int flags_value;
+
+  /**
+   * @attribute syn
+   * @aspect Flags
+   * @declaredat /root/project/java4/backend/Flags.jrag:112
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Flags", declaredAt="/root/project/java4/backend/Flags.jrag:112")
+  public int flags() {
+    ASTState state = state();
+    if (flags_computed == ASTState.NON_CYCLE || flags_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.flags()", "", flags_value);
+      return flags_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.flags()", "", "");
+    flags_value = flags_compute();
+    state().trace().computeEnd(this, "TypeDecl.flags()", "", flags_value);
+    if (state().inCircle()) {
+      flags_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.flags()", "", flags_value);
+    } else {
+      flags_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.flags()", "", flags_value);
+    }
+    return flags_value;
+  }
+  /** @apilevel internal */
+  private int flags_compute() {
+      int res = 0;
+      if (isPublic()) {
+        res |= Modifiers.ACC_PUBLIC;
+      }
+      if (isPrivate()) {
+        res |= Modifiers.ACC_PRIVATE;
+      }
+      if (isProtected()) {
+        res |= Modifiers.ACC_PROTECTED;
+      }
+      if (isStatic()) {
+        res |= Modifiers.ACC_STATIC;
+      }
+      if (isFinal()) {
+        res |= Modifiers.ACC_FINAL;
+      }
+      if (isAbstract()) {
+        res |= Modifiers.ACC_ABSTRACT;
+      }
+      if (isSynthetic()) {
+        res |= Modifiers.ACC_SYNTHETIC;
+      }
+      return res;
+    }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:82
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:82")
+  public int magicHeader() {
+    state().trace().computeBegin(this, "TypeDecl.magicHeader()", "", "");
+    int magicHeader_value = 0xCAFEBABE;
+    state().trace().computeEnd(this, "TypeDecl.magicHeader()", "", magicHeader_value);
+    return magicHeader_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:83
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:83")
+  public int minorVersion() {
+    state().trace().computeBegin(this, "TypeDecl.minorVersion()", "", "");
+    int minorVersion_value = 0;
+    state().trace().computeEnd(this, "TypeDecl.minorVersion()", "", minorVersion_value);
+    return minorVersion_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:84
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:84")
+  public int majorVersion() {
+    state().trace().computeBegin(this, "TypeDecl.majorVersion()", "", "");
+    try {
+        return 52;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.majorVersion()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void fieldDeclarations_reset() {
+    fieldDeclarations_computed = null;
+    fieldDeclarations_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle fieldDeclarations_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<FieldDeclarator> fieldDeclarations_value;
+
+  /** @return a collection of the fields declared in this type. 
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:354
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:354")
+  public Collection<FieldDeclarator> fieldDeclarations() {
+    ASTState state = state();
+    if (fieldDeclarations_computed == ASTState.NON_CYCLE || fieldDeclarations_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.fieldDeclarations()", "", fieldDeclarations_value);
+      return fieldDeclarations_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.fieldDeclarations()", "", "");
+    fieldDeclarations_value = Collections.emptyList();
+    state().trace().computeEnd(this, "TypeDecl.fieldDeclarations()", "", fieldDeclarations_value);
+    if (state().inCircle()) {
+      fieldDeclarations_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.fieldDeclarations()", "", fieldDeclarations_value);
+    } else {
+      fieldDeclarations_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.fieldDeclarations()", "", fieldDeclarations_value);
+    }
+    return fieldDeclarations_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:33")
+  public boolean hasField(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "TypeDecl.hasField(String)", _parameters, "");
+    try {
+        if (!memberFields(name).isEmpty()) {
+          return true;
+        }
+        // TODO(joqvist): use memberFields() instead?
+        for (BodyDecl decl : getBodyDeclList()) {
+          if (decl instanceof FieldDecl) {
+            if (((FieldDecl) decl).hasField(name)) {
+              return true;
+            }
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.hasField(String)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:76
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:76")
+  public boolean hasMethod(MethodDecl decl) {
+    Object _parameters = decl;
+    state().trace().computeBegin(this, "TypeDecl.hasMethod(MethodDecl)", _parameters, "");
+    try {
+        String name = decl.name();
+        String signature = decl.signature();
+        return !memberMethods(name).isEmpty();
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.hasMethod(MethodDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:122
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:122")
+  public TypeDecl stringPromotion() {
+    state().trace().computeBegin(this, "TypeDecl.stringPromotion()", "", "");
+    TypeDecl stringPromotion_value = this;
+    state().trace().computeEnd(this, "TypeDecl.stringPromotion()", "", stringPromotion_value);
+    return stringPromotion_value;
+  }
+  /** @apilevel internal */
+  private void enclosingVariables_reset() {
+    enclosingVariables_computed = null;
+    enclosingVariables_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle enclosingVariables_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<Variable> enclosingVariables_value;
+
+  /** Collect the set of variables used in the enclosing class(es). 
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:182
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:182")
+  public Collection<Variable> enclosingVariables() {
+    ASTState state = state();
+    if (enclosingVariables_computed == ASTState.NON_CYCLE || enclosingVariables_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.enclosingVariables()", "", enclosingVariables_value);
+      return enclosingVariables_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.enclosingVariables()", "", "");
+    enclosingVariables_value = enclosingVariables_compute();
+    state().trace().computeEnd(this, "TypeDecl.enclosingVariables()", "", enclosingVariables_value);
+    if (state().inCircle()) {
+      enclosingVariables_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.enclosingVariables()", "", enclosingVariables_value);
+    } else {
+      enclosingVariables_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.enclosingVariables()", "", enclosingVariables_value);
+    }
+    return enclosingVariables_value;
+  }
+  /** @apilevel internal */
+  private Collection<Variable> enclosingVariables_compute() {
+      // Insertion order keeps the synthetic fields and constructor parameters
+      // independent of hash codes.
+      Collection<Variable> vars = new LinkedHashSet<Variable>();
+      for (TypeDecl e = this; e != null; e = e.enclosingType()) {
+        if (e.isLocalClass() || e.isAnonymous()) {
+          collectEnclosingVariables(vars, e.enclosingType());
+        }
+      }
+      if (isClassDecl()) {
+        ClassDecl classDecl = (ClassDecl) this;
+        if (classDecl.isNestedType() && classDecl.hasSuperclass()) {
+          vars.addAll(classDecl.superclass().enclosingVariables());
+        }
+      }
+      return vars;
+    }
+  /** @apilevel internal */
+  private void methodAccessor_MethodDecl_reset() {
+    methodAccessor_MethodDecl_values = null;
+    methodAccessor_MethodDecl_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode methodAccessor_MethodDecl_proxy;
+  /** @apilevel internal */
+  protected java.util.Map methodAccessor_MethodDecl_values;
+
+  /**
+   * Creates a synthetic public method to access a private or protected
+   * method from another class.
+   * 
+   * <p>The method is stored as an NTA in order to not modify the body
+   * declaration list of this type.
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:230
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:230")
+  public MethodDecl methodAccessor(MethodDecl decl) {
+    Object _parameters = decl;
+    if (methodAccessor_MethodDecl_values == null) methodAccessor_MethodDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (methodAccessor_MethodDecl_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeDecl.methodAccessor(MethodDecl)", _parameters, methodAccessor_MethodDecl_values.get(_parameters));
+      return (MethodDecl) methodAccessor_MethodDecl_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.methodAccessor(MethodDecl)", _parameters, "");
+    MethodDecl methodAccessor_MethodDecl_value = methodAccessor_compute(decl);
+    state().trace().computeEnd(this, "TypeDecl.methodAccessor(MethodDecl)", _parameters, methodAccessor_MethodDecl_value);
+    if (methodAccessor_MethodDecl_proxy == null) {
+      methodAccessor_MethodDecl_proxy = new ASTNode();
+      methodAccessor_MethodDecl_proxy.setParent(this);
+    }
+    if (methodAccessor_MethodDecl_value != null) {
+      methodAccessor_MethodDecl_value.setParent(methodAccessor_MethodDecl_proxy);
+      if (methodAccessor_MethodDecl_value.mayHaveRewrite()) {
+        methodAccessor_MethodDecl_value = (MethodDecl) methodAccessor_MethodDecl_value.rewrittenNode();
+        methodAccessor_MethodDecl_value.setParent(methodAccessor_MethodDecl_proxy);
+      }
+    }
+    methodAccessor_MethodDecl_values.put(_parameters, methodAccessor_MethodDecl_value);
+    state().trace().cacheWrite(this, "TypeDecl.methodAccessor(MethodDecl)", _parameters, methodAccessor_MethodDecl_value);
+    state().leaveLazyAttribute();
+    return methodAccessor_MethodDecl_value;
+  }
+  /** @apilevel internal */
+  private MethodDecl methodAccessor_compute(MethodDecl decl) {
+      List<ParameterDeclaration> parameterList = new List<ParameterDeclaration>();
+      for (ParameterDeclaration param : decl.getParameterList()) {
+        // We need to create a qualified access in case the
+        // method we are generating an access for is not declared
+        // in the methodQualifier type.
+        parameterList.add(new ParameterDeclaration(
+            param.type().createQualifiedAccess(),
+            param.name()));
+      }
+  
+      List<Access> exceptionList = new List<Access>();
+      for (Access exception : decl.getExceptionList()) {
+        exceptionList.add((Access) exception.treeCopyNoTransform());
+      }
+  
+      // Add synthetic flag to modifiers.
+      Modifiers modifiers = new Modifiers(new List<Modifier>(
+          new Modifier("synthetic"),
+          new Modifier("public")));
+      if (decl.getModifiers().isStatic()) {
+        modifiers.addModifier(new Modifier("static"));
+      }
+  
+      // Build accessor declaration.
+      return new MethodDecl(
+          modifiers,
+          decl.getTypeAccess().type().createQualifiedAccess(),
+          name() + "$access$" + uniqueId(),
+          parameterList,
+          exceptionList,
+          new Opt<Block>(new Block(new List<Stmt>(decl.createAccessorStmt()))));
+    }
+  /** @apilevel internal */
+  private void superAccessor_MethodDecl_reset() {
+    superAccessor_MethodDecl_values = null;
+    superAccessor_MethodDecl_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode superAccessor_MethodDecl_proxy;
+  /** @apilevel internal */
+  protected java.util.Map superAccessor_MethodDecl_values;
+
+  /**
+   * Builds a super accessor for a target method declaration.
+   * 
+   * <p>Super accessors are static methods used to call a non-static method in an
+   * enclosing type via a super access.
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:304
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:304")
+  public MethodDecl superAccessor(MethodDecl decl) {
+    Object _parameters = decl;
+    if (superAccessor_MethodDecl_values == null) superAccessor_MethodDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (superAccessor_MethodDecl_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeDecl.superAccessor(MethodDecl)", _parameters, superAccessor_MethodDecl_values.get(_parameters));
+      return (MethodDecl) superAccessor_MethodDecl_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.superAccessor(MethodDecl)", _parameters, "");
+    MethodDecl superAccessor_MethodDecl_value = superAccessor_compute(decl);
+    state().trace().computeEnd(this, "TypeDecl.superAccessor(MethodDecl)", _parameters, superAccessor_MethodDecl_value);
+    if (superAccessor_MethodDecl_proxy == null) {
+      superAccessor_MethodDecl_proxy = new ASTNode();
+      superAccessor_MethodDecl_proxy.setParent(this);
+    }
+    if (superAccessor_MethodDecl_value != null) {
+      superAccessor_MethodDecl_value.setParent(superAccessor_MethodDecl_proxy);
+      if (superAccessor_MethodDecl_value.mayHaveRewrite()) {
+        superAccessor_MethodDecl_value = (MethodDecl) superAccessor_MethodDecl_value.rewrittenNode();
+        superAccessor_MethodDecl_value.setParent(superAccessor_MethodDecl_proxy);
+      }
+    }
+    superAccessor_MethodDecl_values.put(_parameters, superAccessor_MethodDecl_value);
+    state().trace().cacheWrite(this, "TypeDecl.superAccessor(MethodDecl)", _parameters, superAccessor_MethodDecl_value);
+    state().leaveLazyAttribute();
+    return superAccessor_MethodDecl_value;
+  }
+  /** @apilevel internal */
+  private MethodDecl superAccessor_compute(MethodDecl decl) {
+      List<ParameterDeclaration> parameters = new List<ParameterDeclaration>();
+      List<Expr> args = new List<Expr>();
+      parameters.add(new ParameterDeclaration(this, "this$0$super"));
+      for (ParameterDeclaration param : decl.getParameterList()) {
+        parameters.add(new ParameterDeclaration(param.type(), param.name()));
+        args.add(new VarAccess(param.name()));
+      }
+      Stmt stmt;
+      if (decl.type().isVoid()) {
+        stmt = new ExprStmt(new VarAccess("this$0$super")
+            .qualifiesAccess(decl.createBoundSuperAccessor(args)));
+      } else {
+        stmt = new ReturnStmt(new Opt<Expr>(new VarAccess("this$0$super")
+            .qualifiesAccess(decl.createBoundSuperAccessor(args))));
+      }
+      return new MethodDecl(
+          new Modifiers(new List<Modifier>(
+              new Modifier("synthetic"),
+              new Modifier("static"))),
+          decl.type().createQualifiedAccess(),
+          decl.name() + "$access$" + uniqueId(),
+          parameters,
+          new List(),
+          new Opt<Block>(new Block(new List<Stmt>(stmt))));
+    }
+  /** @apilevel internal */
+  private void fieldAccessor_Variable_reset() {
+    fieldAccessor_Variable_values = null;
+    fieldAccessor_Variable_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode fieldAccessor_Variable_proxy;
+  /** @apilevel internal */
+  protected java.util.Map fieldAccessor_Variable_values;
+
+  /** On demand construction of an accessor method for the given field. 
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:332
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:332")
+  public MethodDecl fieldAccessor(Variable field) {
+    Object _parameters = field;
+    if (fieldAccessor_Variable_values == null) fieldAccessor_Variable_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (fieldAccessor_Variable_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeDecl.fieldAccessor(Variable)", _parameters, fieldAccessor_Variable_values.get(_parameters));
+      return (MethodDecl) fieldAccessor_Variable_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.fieldAccessor(Variable)", _parameters, "");
+    MethodDecl fieldAccessor_Variable_value = fieldAccessor_compute(field);
+    state().trace().computeEnd(this, "TypeDecl.fieldAccessor(Variable)", _parameters, fieldAccessor_Variable_value);
+    if (fieldAccessor_Variable_proxy == null) {
+      fieldAccessor_Variable_proxy = new ASTNode();
+      fieldAccessor_Variable_proxy.setParent(this);
+    }
+    if (fieldAccessor_Variable_value != null) {
+      fieldAccessor_Variable_value.setParent(fieldAccessor_Variable_proxy);
+      if (fieldAccessor_Variable_value.mayHaveRewrite()) {
+        fieldAccessor_Variable_value = (MethodDecl) fieldAccessor_Variable_value.rewrittenNode();
+        fieldAccessor_Variable_value.setParent(fieldAccessor_Variable_proxy);
+      }
+    }
+    fieldAccessor_Variable_values.put(_parameters, fieldAccessor_Variable_value);
+    state().trace().cacheWrite(this, "TypeDecl.fieldAccessor(Variable)", _parameters, fieldAccessor_Variable_value);
+    state().leaveLazyAttribute();
+    return fieldAccessor_Variable_value;
+  }
+  /** @apilevel internal */
+  private MethodDecl fieldAccessor_compute(Variable field) {
+      Modifiers modifiers = new Modifiers(new List<Modifier>(
+          new Modifier("static"),
+          new Modifier("synthetic"),
+          new Modifier("public")));
+  
+      List<ParameterDeclaration> parameters = new List<ParameterDeclaration>();
+      if (!field.isStatic()) {
+        parameters.add(new ParameterDeclaration(createQualifiedAccess(), "that"));
+      }
+  
+      return new MethodDecl(
+          modifiers,
+          field.type().createQualifiedAccess(),
+          "get$" + field.name() + "$access$" + uniqueId(),
+          parameters,
+          new List<Access>(),
+          new Opt<Block>(new Block(new List<Stmt>(new ReturnStmt(createAccess(field))))));
+    }
+  /** @apilevel internal */
+  private void fieldWriteAccessor_Variable_reset() {
+    fieldWriteAccessor_Variable_values = null;
+    fieldWriteAccessor_Variable_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode fieldWriteAccessor_Variable_proxy;
+  /** @apilevel internal */
+  protected java.util.Map fieldWriteAccessor_Variable_values;
+
+  /** On demand construction of an accessor method for the given field. 
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:353
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:353")
+  public MethodDecl fieldWriteAccessor(Variable field) {
+    Object _parameters = field;
+    if (fieldWriteAccessor_Variable_values == null) fieldWriteAccessor_Variable_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (fieldWriteAccessor_Variable_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeDecl.fieldWriteAccessor(Variable)", _parameters, fieldWriteAccessor_Variable_values.get(_parameters));
+      return (MethodDecl) fieldWriteAccessor_Variable_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.fieldWriteAccessor(Variable)", _parameters, "");
+    MethodDecl fieldWriteAccessor_Variable_value = fieldWriteAccessor_compute(field);
+    state().trace().computeEnd(this, "TypeDecl.fieldWriteAccessor(Variable)", _parameters, fieldWriteAccessor_Variable_value);
+    if (fieldWriteAccessor_Variable_proxy == null) {
+      fieldWriteAccessor_Variable_proxy = new ASTNode();
+      fieldWriteAccessor_Variable_proxy.setParent(this);
+    }
+    if (fieldWriteAccessor_Variable_value != null) {
+      fieldWriteAccessor_Variable_value.setParent(fieldWriteAccessor_Variable_proxy);
+      if (fieldWriteAccessor_Variable_value.mayHaveRewrite()) {
+        fieldWriteAccessor_Variable_value = (MethodDecl) fieldWriteAccessor_Variable_value.rewrittenNode();
+        fieldWriteAccessor_Variable_value.setParent(fieldWriteAccessor_Variable_proxy);
+      }
+    }
+    fieldWriteAccessor_Variable_values.put(_parameters, fieldWriteAccessor_Variable_value);
+    state().trace().cacheWrite(this, "TypeDecl.fieldWriteAccessor(Variable)", _parameters, fieldWriteAccessor_Variable_value);
+    state().leaveLazyAttribute();
+    return fieldWriteAccessor_Variable_value;
+  }
+  /** @apilevel internal */
+  private MethodDecl fieldWriteAccessor_compute(Variable field) {
+      Modifiers modifiers = new Modifiers(new List<Modifier>(
+          new Modifier("static"),
+          new Modifier("synthetic"),
+          new Modifier("public")));
+  
+      List<ParameterDeclaration> parameters = new List<ParameterDeclaration>();
+      if (!field.isStatic()) {
+        parameters.add(new ParameterDeclaration(createQualifiedAccess(), "that"));
+      }
+      parameters.add(new ParameterDeclaration(field.type().createQualifiedAccess(), "value"));
+  
+      return new MethodDecl(
+        modifiers,
+        field.type().createQualifiedAccess(),
+        "set$" + field.name() + "$access$" + uniqueId(),
+        parameters,
+        new List<Access>(),
+        new Opt<Block>(
+            new Block(new List<Stmt>(
+                new ExprStmt(new AssignSimpleExpr(createAccess(field), new VarAccess("value"))),
+                new ReturnStmt(new Opt<Expr>(new VarAccess("value")))))));
+    }
+  /** @apilevel internal */
+  private void needsEnclosing_reset() {
+    needsEnclosing_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle needsEnclosing_computed = null;
+
+  /** @apilevel internal */
+  protected boolean needsEnclosing_value;
+
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:439
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:439")
+  public boolean needsEnclosing() {
+    ASTState state = state();
+    if (needsEnclosing_computed == ASTState.NON_CYCLE || needsEnclosing_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.needsEnclosing()", "", needsEnclosing_value);
+      return needsEnclosing_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.needsEnclosing()", "", "");
+    needsEnclosing_value = needsEnclosing_compute();
+    state().trace().computeEnd(this, "TypeDecl.needsEnclosing()", "", needsEnclosing_value);
+    if (state().inCircle()) {
+      needsEnclosing_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.needsEnclosing()", "", needsEnclosing_value);
+    } else {
+      needsEnclosing_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.needsEnclosing()", "", needsEnclosing_value);
+    }
+    return needsEnclosing_value;
+  }
+  /** @apilevel internal */
+  private boolean needsEnclosing_compute() {
+      if (isAnonymous()) {
+        return classInstanceExpression().isAnonymousInNonStaticContext();
+      } else if (isLocalClass()) {
+        return !inStaticContext();
+      } else if (isInnerType()) {
+        return true;
+      }
+      return false;
+    }
+  /** @apilevel internal */
+  private void needsSuperEnclosing_reset() {
+    needsSuperEnclosing_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle needsSuperEnclosing_computed = null;
+
+  /** @apilevel internal */
+  protected boolean needsSuperEnclosing_value;
+
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:450
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:450")
+  public boolean needsSuperEnclosing() {
+    ASTState state = state();
+    if (needsSuperEnclosing_computed == ASTState.NON_CYCLE || needsSuperEnclosing_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.needsSuperEnclosing()", "", needsSuperEnclosing_value);
+      return needsSuperEnclosing_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.needsSuperEnclosing()", "", "");
+    needsSuperEnclosing_value = needsSuperEnclosing_compute();
+    state().trace().computeEnd(this, "TypeDecl.needsSuperEnclosing()", "", needsSuperEnclosing_value);
+    if (state().inCircle()) {
+      needsSuperEnclosing_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.needsSuperEnclosing()", "", needsSuperEnclosing_value);
+    } else {
+      needsSuperEnclosing_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.needsSuperEnclosing()", "", needsSuperEnclosing_value);
+    }
+    return needsSuperEnclosing_value;
+  }
+  /** @apilevel internal */
+  private boolean needsSuperEnclosing_compute() {
+      if (!isAnonymous()) {
+        return false;
+      }
+      TypeDecl superClass = ((ClassDecl) this).superclass();
+      if (superClass.isLocalClass()) {
+        return !superClass.inStaticContext();
+      } else if (superClass.isInnerType()) {
+        return true;
+      } if (needsEnclosing() && enclosing() == superEnclosing()) {
+        return false;
+      }
+      return false;
+    }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:465
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:465")
+  public TypeDecl enclosing() {
+    state().trace().computeBegin(this, "TypeDecl.enclosing()", "", "");
+    try {
+        if (!needsEnclosing()) {
+          return null;
+        }
+        TypeDecl typeDecl = enclosingType();
+        if (isAnonymous() && inExplicitConstructorInvocation()) {
+          typeDecl = typeDecl.enclosingType();
+        }
+        return typeDecl;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.enclosing()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:476
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:476")
+  public TypeDecl superEnclosing() {
+    state().trace().computeBegin(this, "TypeDecl.superEnclosing()", "", "");
+    TypeDecl superEnclosing_value = null;
+    state().trace().computeEnd(this, "TypeDecl.superEnclosing()", "", superEnclosing_value);
+    return superEnclosing_value;
+  }
+  /** @apilevel internal */
+  private void getAccessor_ConstructorSignatureMapper_reset() {
+    getAccessor_ConstructorSignatureMapper_values = null;
+    getAccessor_ConstructorSignatureMapper_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode getAccessor_ConstructorSignatureMapper_proxy;
+  /** @apilevel internal */
+  protected java.util.Map getAccessor_ConstructorSignatureMapper_values;
+
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:516
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:516")
+  public ConstructorDecl getAccessor(ConstructorSignatureMapper constructor) {
+    Object _parameters = constructor;
+    if (getAccessor_ConstructorSignatureMapper_values == null) getAccessor_ConstructorSignatureMapper_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (getAccessor_ConstructorSignatureMapper_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeDecl.getAccessor(ConstructorSignatureMapper)", _parameters, getAccessor_ConstructorSignatureMapper_values.get(_parameters));
+      return (ConstructorDecl) getAccessor_ConstructorSignatureMapper_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.getAccessor(ConstructorSignatureMapper)", _parameters, "");
+    ConstructorDecl getAccessor_ConstructorSignatureMapper_value = getAccessor_compute(constructor);
+    state().trace().computeEnd(this, "TypeDecl.getAccessor(ConstructorSignatureMapper)", _parameters, getAccessor_ConstructorSignatureMapper_value);
+    if (getAccessor_ConstructorSignatureMapper_proxy == null) {
+      getAccessor_ConstructorSignatureMapper_proxy = new ASTNode();
+      getAccessor_ConstructorSignatureMapper_proxy.setParent(this);
+    }
+    if (getAccessor_ConstructorSignatureMapper_value != null) {
+      getAccessor_ConstructorSignatureMapper_value.setParent(getAccessor_ConstructorSignatureMapper_proxy);
+      if (getAccessor_ConstructorSignatureMapper_value.mayHaveRewrite()) {
+        getAccessor_ConstructorSignatureMapper_value = (ConstructorDecl) getAccessor_ConstructorSignatureMapper_value.rewrittenNode();
+        getAccessor_ConstructorSignatureMapper_value.setParent(getAccessor_ConstructorSignatureMapper_proxy);
+      }
+    }
+    getAccessor_ConstructorSignatureMapper_values.put(_parameters, getAccessor_ConstructorSignatureMapper_value);
+    state().trace().cacheWrite(this, "TypeDecl.getAccessor(ConstructorSignatureMapper)", _parameters, getAccessor_ConstructorSignatureMapper_value);
+    state().leaveLazyAttribute();
+    return getAccessor_ConstructorSignatureMapper_value;
+  }
+  /** @apilevel internal */
+  private ConstructorDecl getAccessor_compute(ConstructorSignatureMapper constructor) {
+      Modifiers modifiers = new Modifiers(new List<Modifier>(new Modifier("synthetic")));
+  
+      List<ParameterDeclaration> parameters = constructor.decl.createAccessorParameters();
+  
+      List<Access> exceptionList = new List<Access>();
+      for (Access exception : constructor.decl.getExceptionList()) {
+        exceptionList.add(exception.type().createQualifiedAccess());
+      }
+  
+      // Add all parameters as arguments except for the dummy parameter.
+      List<Expr> args = new List<Expr>();
+      for (int i = 0; i < parameters.getNumChildNoTransform() - 1; i++) {
+        args.add(new VarAccess(((ParameterDeclaration) parameters.getChildNoTransform(i)).name()));
+      }
+      return new ConstructorDecl(
+          modifiers,
+          name(),
+          parameters,
+          exceptionList,
+          new Opt<Stmt>(new ExprStmt(new ConstructorAccess("this", args))),
+          new Block());
+    }
+  /** @apilevel internal */
+  private void uniqueIndex_reset() {
+    uniqueIndex_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle uniqueIndex_computed = null;
+
+  /** @apilevel internal */
+  protected int uniqueIndex_value;
+
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:35")
+  public int uniqueIndex() {
+    ASTState state = state();
+    if (uniqueIndex_computed == ASTState.NON_CYCLE || uniqueIndex_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+      return uniqueIndex_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.uniqueIndex()", "", "");
+    uniqueIndex_value = topLevelType().uniqueIndexCounter++;
+    state().trace().computeEnd(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    if (state().inCircle()) {
+      uniqueIndex_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    } else {
+      uniqueIndex_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.uniqueIndex()", "", uniqueIndex_value);
+    }
+    return uniqueIndex_value;
+  }
+  /** @apilevel internal */
+  private void jvmName_reset() {
+    jvmName_computed = null;
+    jvmName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle jvmName_computed = null;
+
+  /** @apilevel internal */
+  protected String jvmName_value;
+
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:37
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:37")
+  public String jvmName() {
+    ASTState state = state();
+    if (jvmName_computed == ASTState.NON_CYCLE || jvmName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.jvmName()", "", jvmName_value);
+      return jvmName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.jvmName()", "", "");
+    jvmName_value = jvmName_compute();
+    state().trace().computeEnd(this, "TypeDecl.jvmName()", "", jvmName_value);
+    if (state().inCircle()) {
+      jvmName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.jvmName()", "", jvmName_value);
+    } else {
+      jvmName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.jvmName()", "", jvmName_value);
+    }
+    return jvmName_value;
+  }
+  /** @apilevel internal */
+  private String jvmName_compute() {
+      throw new Error("Jvm name only supported for reference types and not " + getClass().getName());
+    }
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:75
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:75")
+  public String primitiveClassName() {
+    state().trace().computeBegin(this, "TypeDecl.primitiveClassName()", "", "");
+    try {
+        throw new Error("primitiveClassName not supported for "
+            + name() + " of type " + getClass().getName());
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.primitiveClassName()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void hasAssertStatement_reset() {
+    hasAssertStatement_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle hasAssertStatement_computed = null;
+
+  /** @apilevel internal */
+  protected boolean hasAssertStatement_value;
+
+  /** @return {@code true} if this type uses an assert statement. 
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:91
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:91")
+  public boolean hasAssertStatement() {
+    ASTState state = state();
+    if (hasAssertStatement_computed == ASTState.NON_CYCLE || hasAssertStatement_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.hasAssertStatement()", "", hasAssertStatement_value);
+      return hasAssertStatement_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.hasAssertStatement()", "", "");
+    hasAssertStatement_value = hasAssertStatement_compute();
+    state().trace().computeEnd(this, "TypeDecl.hasAssertStatement()", "", hasAssertStatement_value);
+    if (state().inCircle()) {
+      hasAssertStatement_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.hasAssertStatement()", "", hasAssertStatement_value);
+    } else {
+      hasAssertStatement_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.hasAssertStatement()", "", hasAssertStatement_value);
+    }
+    return hasAssertStatement_value;
+  }
+  /** @apilevel internal */
+  private boolean hasAssertStatement_compute() {
+      for (ASTNode child : astChildren()) {
+        if (child.hasAssertStatementRecursive()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:100")
+  public boolean hasAssertStatementRecursive() {
+    state().trace().computeBegin(this, "ASTNode.hasAssertStatementRecursive()", "", "");
+    boolean hasAssertStatementRecursive_value = false;
+    state().trace().computeEnd(this, "ASTNode.hasAssertStatementRecursive()", "", hasAssertStatementRecursive_value);
+    return hasAssertStatementRecursive_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:113
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:113")
+  public FieldDeclarator assertionsDisabled() {
+    state().trace().computeBegin(this, "TypeDecl.assertionsDisabled()", "", "");
+    FieldDeclarator assertionsDisabled_value = assertionsDisabledField().getDeclarator(0);
+    state().trace().computeEnd(this, "TypeDecl.assertionsDisabled()", "", assertionsDisabled_value);
+    return assertionsDisabled_value;
+  }
+  /** @apilevel internal */
+  private void assertionsDisabledField_reset() {
+    assertionsDisabledField_computed = false;
+    
+    assertionsDisabledField_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean assertionsDisabledField_computed = false;
+
+  /** @apilevel internal */
+  protected FieldDecl assertionsDisabledField_value;
+
+  /**
+   * @attribute syn
+   * @aspect Java2Rewrites
+   * @declaredat /root/project/java4/backend/Java2Rewrites.jrag:116
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="Java2Rewrites", declaredAt="/root/project/java4/backend/Java2Rewrites.jrag:116")
+  public FieldDecl assertionsDisabledField() {
+    ASTState state = state();
+    if (assertionsDisabledField_computed) {
+      state().trace().cacheRead(this, "TypeDecl.assertionsDisabledField()", "", assertionsDisabledField_value);
+      return assertionsDisabledField_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.assertionsDisabledField()", "", "");
+    assertionsDisabledField_value = assertionsDisabledField_compute();
+    state().trace().computeEnd(this, "TypeDecl.assertionsDisabledField()", "", assertionsDisabledField_value);
+    assertionsDisabledField_value.setParent(this);
+    assertionsDisabledField_computed = true;
+    state().trace().cacheWrite(this, "TypeDecl.assertionsDisabledField()", "", assertionsDisabledField_value);
+    state().leaveLazyAttribute();
+    return assertionsDisabledField_value;
+  }
+  /** @apilevel internal */
+  private FieldDecl assertionsDisabledField_compute() {
+      Access desiredAssertionStatus =
+          topLevelType()
+          .createQualifiedAccess()
+          .qualifiesAccess(new ClassAccess()
+              .qualifiesAccess(new MethodAccess(
+                  "desiredAssertionStatus",
+                  new List<Expr>())));
+      FieldDeclarator assertionDisabled = new FieldDeclarator(
+          "$assertiosDisabled",
+          new List<Dims>(),
+          new Opt<Expr>(new LogNotExpr(desiredAssertionStatus)));
+      return new FieldDecl(
+          new Modifiers(new List<Modifier>(
+              new Modifier("static"),
+              new Modifier("final"),
+              new Modifier("synthetic"))),
+          new PrimitiveTypeAccess("boolean"),
+          new List<FieldDeclarator>(assertionDisabled));
+    }
+  /**
+   * The number of local variable slots that a variable of this type occupies.
+   * @attribute syn
+   * @aspect LocalNum
+   * @declaredat /root/project/java4/backend/LocalNum.jrag:201
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LocalNum", declaredAt="/root/project/java4/backend/LocalNum.jrag:201")
+  public int variableSize() {
+    state().trace().computeBegin(this, "TypeDecl.variableSize()", "", "");
+    int variableSize_value = 1;
+    state().trace().computeEnd(this, "TypeDecl.variableSize()", "", variableSize_value);
+    return variableSize_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect VerificationTypes
+   * @declaredat /root/project/java4/backend/VerificationTypes.jrag:37
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VerificationTypes", declaredAt="/root/project/java4/backend/VerificationTypes.jrag:37")
+  public TypeDecl supertype() {
+    state().trace().computeBegin(this, "TypeDecl.supertype()", "", "");
+    TypeDecl supertype_value = unknownType();
+    state().trace().computeEnd(this, "TypeDecl.supertype()", "", supertype_value);
+    return supertype_value;
+  }
+  /** @apilevel internal */
+  private void verificationType_reset() {
+    verificationType_computed = null;
+    verificationType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle verificationType_computed = null;
+
+  /** @apilevel internal */
+  protected VerificationType verificationType_value;
+
+  /**
+   * @attribute syn
+   * @aspect VerificationTypes
+   * @declaredat /root/project/java4/backend/VerificationTypes.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VerificationTypes", declaredAt="/root/project/java4/backend/VerificationTypes.jrag:41")
+  public VerificationType verificationType() {
+    ASTState state = state();
+    if (verificationType_computed == ASTState.NON_CYCLE || verificationType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.verificationType()", "", verificationType_value);
+      return verificationType_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.verificationType()", "", "");
+    verificationType_value = VerificationTypes.TOP;
+    state().trace().computeEnd(this, "TypeDecl.verificationType()", "", verificationType_value);
+    if (state().inCircle()) {
+      verificationType_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.verificationType()", "", verificationType_value);
+    } else {
+      verificationType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.verificationType()", "", verificationType_value);
+    }
+    return verificationType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:199
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:199")
+  public boolean isValidAnnotationMethodReturnType() {
+    state().trace().computeBegin(this, "TypeDecl.isValidAnnotationMethodReturnType()", "", "");
+    boolean isValidAnnotationMethodReturnType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isValidAnnotationMethodReturnType()", "", isValidAnnotationMethodReturnType_value);
+    return isValidAnnotationMethodReturnType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:347
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:347")
+  public Annotation annotation(TypeDecl typeDecl) {
+    Object _parameters = typeDecl;
+    state().trace().computeBegin(this, "TypeDecl.annotation(TypeDecl)", _parameters, "");
+    Annotation annotation_TypeDecl_value = getModifiers().annotation(typeDecl);
+    state().trace().computeEnd(this, "TypeDecl.annotation(TypeDecl)", _parameters, annotation_TypeDecl_value);
+    return annotation_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:422
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:422")
+  public boolean hasAnnotationSuppressWarnings(String annot) {
+    Object _parameters = annot;
+    state().trace().computeBegin(this, "TypeDecl.hasAnnotationSuppressWarnings(String)", _parameters, "");
+    boolean hasAnnotationSuppressWarnings_String_value = getModifiers().hasAnnotationSuppressWarnings(annot);
+    state().trace().computeEnd(this, "TypeDecl.hasAnnotationSuppressWarnings(String)", _parameters, hasAnnotationSuppressWarnings_String_value);
+    return hasAnnotationSuppressWarnings_String_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:478
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:478")
+  public boolean isDeprecated() {
+    state().trace().computeBegin(this, "TypeDecl.isDeprecated()", "", "");
+    boolean isDeprecated_value = getModifiers().hasDeprecatedAnnotation();
+    state().trace().computeEnd(this, "TypeDecl.isDeprecated()", "", isDeprecated_value);
+    return isDeprecated_value;
+  }
+  /**
+   * An element type T is commensurate with an element value V if and only if one of the following conditions is true:
+   * <ul>
+   * <li> T is an array type E[] and either:
+   * <ul>
+   * <li> V is an ElementValueArrayInitializer and each ElementValueInitializer
+   * (analogous to a variable initializer in an array initializer) in V is
+   * commensurate with E, or,
+   * <li> V is an ElementValue that is commensurate with T.
+   * </ul>
+   * <li> The type of V is assignment compatible (\ufffd5.2) with T and, furthermore:
+   * <ul>
+   * <li> If T is a primitive type or String, V is a constant expression (\ufffd15.28).
+   * <li> V is not null.
+   * <li> if T is Class, or an invocation of Class, and V is a class literal (\ufffd15.8.2).
+   * <li> If T is an enum type, and V is an enum constant.
+   * </ul>
+   * </ul>
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:673
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:673")
+  public boolean commensurateWith(ElementValue value) {
+    Object _parameters = value;
+    state().trace().computeBegin(this, "TypeDecl.commensurateWith(ElementValue)", _parameters, "");
+    boolean commensurateWith_ElementValue_value = value.commensurateWithTypeDecl(this);
+    state().trace().computeEnd(this, "TypeDecl.commensurateWith(ElementValue)", _parameters, commensurateWith_ElementValue_value);
+    return commensurateWith_ElementValue_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:771
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:771")
+  public boolean isAnnotationDecl() {
+    state().trace().computeBegin(this, "TypeDecl.isAnnotationDecl()", "", "");
+    boolean isAnnotationDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isAnnotationDecl()", "", isAnnotationDecl_value);
+    return isAnnotationDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AutoBoxing
+   * @declaredat /root/project/java5/frontend/AutoBoxing.jrag:48
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AutoBoxing", declaredAt="/root/project/java5/frontend/AutoBoxing.jrag:48")
+  public boolean boxingConversionTo(TypeDecl typeDecl) {
+    Object _parameters = typeDecl;
+    state().trace().computeBegin(this, "TypeDecl.boxingConversionTo(TypeDecl)", _parameters, "");
+    boolean boxingConversionTo_TypeDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.boxingConversionTo(TypeDecl)", _parameters, boxingConversionTo_TypeDecl_value);
+    return boxingConversionTo_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void boxed_reset() {
+    boxed_computed = null;
+    boxed_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle boxed_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl boxed_value;
+
+  /** Mapping between Primitive type and corresponding boxed Reference type. 
+   * @attribute syn
+   * @aspect AutoBoxing
+   * @declaredat /root/project/java5/frontend/AutoBoxing.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AutoBoxing", declaredAt="/root/project/java5/frontend/AutoBoxing.jrag:53")
+  public TypeDecl boxed() {
+    ASTState state = state();
+    if (boxed_computed == ASTState.NON_CYCLE || boxed_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.boxed()", "", boxed_value);
+      return boxed_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.boxed()", "", "");
+    boxed_value = unknownType();
+    state().trace().computeEnd(this, "TypeDecl.boxed()", "", boxed_value);
+    if (state().inCircle()) {
+      boxed_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.boxed()", "", boxed_value);
+    } else {
+      boxed_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.boxed()", "", boxed_value);
+    }
+    return boxed_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect AutoBoxing
+   * @declaredat /root/project/java5/frontend/AutoBoxing.jrag:73
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AutoBoxing", declaredAt="/root/project/java5/frontend/AutoBoxing.jrag:73")
+  public boolean unboxingConversionTo(TypeDecl typeDecl) {
+    Object _parameters = typeDecl;
+    state().trace().computeBegin(this, "TypeDecl.unboxingConversionTo(TypeDecl)", _parameters, "");
+    boolean unboxingConversionTo_TypeDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.unboxingConversionTo(TypeDecl)", _parameters, unboxingConversionTo_TypeDecl_value);
+    return unboxingConversionTo_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void unboxed_reset() {
+    unboxed_computed = null;
+    unboxed_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle unboxed_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl unboxed_value;
+
+  /** Mapping between Reference type and corresponding unboxed Primitive type. 
+   * @attribute syn
+   * @aspect AutoBoxing
+   * @declaredat /root/project/java5/frontend/AutoBoxing.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AutoBoxing", declaredAt="/root/project/java5/frontend/AutoBoxing.jrag:77")
+  public TypeDecl unboxed() {
+    ASTState state = state();
+    if (unboxed_computed == ASTState.NON_CYCLE || unboxed_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.unboxed()", "", unboxed_value);
+      return unboxed_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.unboxed()", "", "");
+    unboxed_value = unknownType();
+    state().trace().computeEnd(this, "TypeDecl.unboxed()", "", unboxed_value);
+    if (state().inCircle()) {
+      unboxed_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.unboxed()", "", unboxed_value);
+    } else {
+      unboxed_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.unboxed()", "", unboxed_value);
+    }
+    return unboxed_value;
+  }
+  /** @apilevel internal */
+  private void isIterable_reset() {
+    isIterable_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isIterable_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isIterable_value;
+
+  /**
+   * True if type is java.lang.Iterable or subtype
+   * As long as we use the 1.4 API we check for java.util.Collection instead.
+   * @attribute syn
+   * @aspect EnhancedFor
+   * @declaredat /root/project/java5/frontend/EnhancedFor.jrag:71
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EnhancedFor", declaredAt="/root/project/java5/frontend/EnhancedFor.jrag:71")
+  public boolean isIterable() {
+    ASTState state = state();
+    if (isIterable_computed == ASTState.NON_CYCLE || isIterable_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isIterable()", "", isIterable_value);
+      return isIterable_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isIterable()", "", "");
+    isIterable_value = subtype(lookupType("java.lang", "Iterable"));
+    state().trace().computeEnd(this, "TypeDecl.isIterable()", "", isIterable_value);
+    if (state().inCircle()) {
+      isIterable_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isIterable()", "", isIterable_value);
+    } else {
+      isIterable_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isIterable()", "", isIterable_value);
+    }
+    return isIterable_value;
+  }
+  /** @apilevel internal */
+  private void iterableElementType_reset() {
+    iterableElementType_computed = null;
+    iterableElementType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle iterableElementType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl iterableElementType_value;
+
+  /**
+   * Computes the element type of a type implementing java.lang.Iterable.
+   * Returns UnknownType if this type does not implement java.lang.Iterable.
+   * @attribute syn
+   * @aspect EnhancedFor
+   * @declaredat /root/project/java5/frontend/EnhancedFor.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EnhancedFor", declaredAt="/root/project/java5/frontend/EnhancedFor.jrag:77")
+  public TypeDecl iterableElementType() {
+    ASTState state = state();
+    if (iterableElementType_computed == ASTState.NON_CYCLE || iterableElementType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.iterableElementType()", "", iterableElementType_value);
+      return iterableElementType_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.iterableElementType()", "", "");
+    iterableElementType_value = iterableElementType_compute();
+    state().trace().computeEnd(this, "TypeDecl.iterableElementType()", "", iterableElementType_value);
+    if (state().inCircle()) {
+      iterableElementType_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.iterableElementType()", "", iterableElementType_value);
+    } else {
+      iterableElementType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.iterableElementType()", "", iterableElementType_value);
+    }
+    return iterableElementType_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl iterableElementType_compute() {
+      if (isType("java.lang", "Iterable")) {
+        return firstTypeArgument();
+      } else {
+        return unknownType();
+      }
+    }
+  /** @apilevel internal */
+  private void firstTypeArgument_reset() {
+    firstTypeArgument_computed = null;
+    firstTypeArgument_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle firstTypeArgument_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl firstTypeArgument_value;
+
+  /**
+   * Returns the first type argument of this type, if it is parameterized, otherwise returns
+   * java.lang.Object.
+   * @attribute syn
+   * @aspect EnhancedFor
+   * @declaredat /root/project/java5/frontend/EnhancedFor.jrag:129
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EnhancedFor", declaredAt="/root/project/java5/frontend/EnhancedFor.jrag:129")
+  public TypeDecl firstTypeArgument() {
+    ASTState state = state();
+    if (firstTypeArgument_computed == ASTState.NON_CYCLE || firstTypeArgument_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.firstTypeArgument()", "", firstTypeArgument_value);
+      return firstTypeArgument_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.firstTypeArgument()", "", "");
+    firstTypeArgument_value = typeObject();
+    state().trace().computeEnd(this, "TypeDecl.firstTypeArgument()", "", firstTypeArgument_value);
+    if (state().inCircle()) {
+      firstTypeArgument_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.firstTypeArgument()", "", firstTypeArgument_value);
+    } else {
+      firstTypeArgument_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.firstTypeArgument()", "", firstTypeArgument_value);
+    }
+    return firstTypeArgument_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:38")
+  public boolean isEnumDecl() {
+    state().trace().computeBegin(this, "TypeDecl.isEnumDecl()", "", "");
+    boolean isEnumDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isEnumDecl()", "", isEnumDecl_value);
+    return isEnumDecl_value;
+  }
+  /**
+   * @param bound the bounded type variable
+   * @return {@code true} if this type is within the bounds of the parameter type
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:40
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:40")
+  public boolean withinBounds(TypeDecl bound) {
+    Object _parameters = bound;
+    state().trace().computeBegin(this, "TypeDecl.withinBounds(TypeDecl)", _parameters, "");
+    boolean withinBounds_TypeDecl_value = bound.boundOf(this);
+    state().trace().computeEnd(this, "TypeDecl.withinBounds(TypeDecl)", _parameters, withinBounds_TypeDecl_value);
+    return withinBounds_TypeDecl_value;
+  }
+  /**
+   * Check if a given type is within the bound of this type, given a specific
+   * parameterization of this type.
+   * 
+   * See JLS SE7 $4.5
+   * 
+   * @param argument argument type
+   * @return {@code true} if the argument type is in the bound of this type
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:61
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:61")
+  public boolean boundOf(TypeDecl argument) {
+    Object _parameters = argument;
+    state().trace().computeBegin(this, "TypeDecl.boundOf(TypeDecl)", _parameters, "");
+    boolean boundOf_TypeDecl_value = !isPrimitive() && argument.subtype(this);
+    state().trace().computeEnd(this, "TypeDecl.boundOf(TypeDecl)", _parameters, boundOf_TypeDecl_value);
+    return boundOf_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:72")
+  public boolean boundOfWildcard(WildcardType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.boundOfWildcard(WildcardType)", _parameters, "");
+    boolean boundOfWildcard_WildcardType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.boundOfWildcard(WildcardType)", _parameters, boundOfWildcard_WildcardType_value);
+    return boundOfWildcard_WildcardType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:76
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:76")
+  public boolean boundOfWildcardExtends(WildcardExtendsType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.boundOfWildcardExtends(WildcardExtendsType)", _parameters, "");
+    boolean boundOfWildcardExtends_WildcardExtendsType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.boundOfWildcardExtends(WildcardExtendsType)", _parameters, boundOfWildcardExtends_WildcardExtendsType_value);
+    return boundOfWildcardExtends_WildcardExtendsType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:81
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:81")
+  public boolean boundOfWildcardSuper(WildcardSuperType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.boundOfWildcardSuper(WildcardSuperType)", _parameters, "");
+    boolean boundOfWildcardSuper_WildcardSuperType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.boundOfWildcardSuper(WildcardSuperType)", _parameters, boundOfWildcardSuper_WildcardSuperType_value);
+    return boundOfWildcardSuper_WildcardSuperType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:86")
+  public boolean boundOfArray(ArrayDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.boundOfArray(ArrayDecl)", _parameters, "");
+    boolean boundOfArray_ArrayDecl_value = this == typeObject();
+    state().trace().computeEnd(this, "TypeDecl.boundOfArray(ArrayDecl)", _parameters, boundOfArray_ArrayDecl_value);
+    return boundOfArray_ArrayDecl_value;
+  }
+/** @apilevel internal */
+protected ASTState.Cycle involvesTypeParameters_cycle = null;
+  /** @apilevel internal */
+  private void involvesTypeParameters_reset() {
+    involvesTypeParameters_computed = false;
+    involvesTypeParameters_initialized = false;
+    involvesTypeParameters_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_computed = false;
+
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_value;
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="GenericMethodsInference", declaredAt="/root/project/java5/frontend/GenericMethodsInference.jrag:35")
+  public boolean involvesTypeParameters() {
+    if (involvesTypeParameters_computed) {
+      state().trace().cacheRead(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      return involvesTypeParameters_value;
+    }
+    ASTState state = state();
+    if (!involvesTypeParameters_initialized) {
+      involvesTypeParameters_initialized = true;
+      involvesTypeParameters_value = false;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        involvesTypeParameters_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.involvesTypeParameters()", "", "");
+        boolean new_involvesTypeParameters_value = false;
+        state().trace().computeEnd(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+        if (new_involvesTypeParameters_value != involvesTypeParameters_value) {
+          state.setChangeInCycle();
+        }
+        involvesTypeParameters_value = new_involvesTypeParameters_value;
+      } while (state.testAndClearChangeInCycle());
+      involvesTypeParameters_computed = true;
+      state().trace().cacheWrite(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      state.leaveCircle();
+    } else if (involvesTypeParameters_cycle != state.cycle()) {
+      involvesTypeParameters_cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.involvesTypeParameters()", "", "");
+      boolean new_involvesTypeParameters_value = false;
+      state().trace().computeEnd(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      if (new_involvesTypeParameters_value != involvesTypeParameters_value) {
+        state.setChangeInCycle();
+      }
+      involvesTypeParameters_value = new_involvesTypeParameters_value;
+    } else {
+    }
+    return involvesTypeParameters_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:260
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Generics", declaredAt="/root/project/java5/frontend/Generics.jrag:260")
+  public boolean isGenericType() {
+    state().trace().computeBegin(this, "TypeDecl.isGenericType()", "", "");
+    boolean isGenericType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isGenericType()", "", isGenericType_value);
+    return isGenericType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:352
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Generics", declaredAt="/root/project/java5/frontend/Generics.jrag:352")
+  public boolean isParameterizedType() {
+    state().trace().computeBegin(this, "TypeDecl.isParameterizedType()", "", "");
+    boolean isParameterizedType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isParameterizedType()", "", isParameterizedType_value);
+    return isParameterizedType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:360
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Generics", declaredAt="/root/project/java5/frontend/Generics.jrag:360")
+  public boolean isRawType() {
+    state().trace().computeBegin(this, "TypeDecl.isRawType()", "", "");
+    boolean isRawType_value = isNestedType() && enclosingType().isRawType();
+    state().trace().computeEnd(this, "TypeDecl.isRawType()", "", isRawType_value);
+    return isRawType_value;
+  }
+  /** @apilevel internal */
+  private void erasure_reset() {
+    erasure_computed = null;
+    erasure_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle erasure_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl erasure_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsErasure
+   * @declaredat /root/project/java5/frontend/Generics.jrag:460
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsErasure", declaredAt="/root/project/java5/frontend/Generics.jrag:460")
+  public TypeDecl erasure() {
+    ASTState state = state();
+    if (erasure_computed == ASTState.NON_CYCLE || erasure_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.erasure()", "", erasure_value);
+      return erasure_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.erasure()", "", "");
+    erasure_value = this;
+    state().trace().computeEnd(this, "TypeDecl.erasure()", "", erasure_value);
+    if (state().inCircle()) {
+      erasure_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.erasure()", "", erasure_value);
+    } else {
+      erasure_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.erasure()", "", erasure_value);
+    }
+    return erasure_value;
+  }
+  /** @apilevel internal */
+  private void erasedAncestorMethodsMap_reset() {
+    erasedAncestorMethodsMap_computed = null;
+    erasedAncestorMethodsMap_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle erasedAncestorMethodsMap_computed = null;
+
+  /** @apilevel internal */
+  protected Map<String, SimpleSet<MethodDecl>> erasedAncestorMethodsMap_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsTypeCheck
+   * @declaredat /root/project/java5/frontend/Generics.jrag:535
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsTypeCheck", declaredAt="/root/project/java5/frontend/Generics.jrag:535")
+  public Map<String, SimpleSet<MethodDecl>> erasedAncestorMethodsMap() {
+    ASTState state = state();
+    if (erasedAncestorMethodsMap_computed == ASTState.NON_CYCLE || erasedAncestorMethodsMap_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.erasedAncestorMethodsMap()", "", erasedAncestorMethodsMap_value);
+      return erasedAncestorMethodsMap_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.erasedAncestorMethodsMap()", "", "");
+    erasedAncestorMethodsMap_value = original().localMethodsSignatureMap();
+    state().trace().computeEnd(this, "TypeDecl.erasedAncestorMethodsMap()", "", erasedAncestorMethodsMap_value);
+    if (state().inCircle()) {
+      erasedAncestorMethodsMap_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.erasedAncestorMethodsMap()", "", erasedAncestorMethodsMap_value);
+    } else {
+      erasedAncestorMethodsMap_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.erasedAncestorMethodsMap()", "", erasedAncestorMethodsMap_value);
+    }
+    return erasedAncestorMethodsMap_value;
+  }
+  /** @apilevel internal */
+  private void implementedInterfaces_reset() {
+    implementedInterfaces_computed = null;
+    implementedInterfaces_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle implementedInterfaces_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<InterfaceDecl> implementedInterfaces_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsTypeCheck
+   * @declaredat /root/project/java5/frontend/Generics.jrag:640
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsTypeCheck", declaredAt="/root/project/java5/frontend/Generics.jrag:640")
+  public Collection<InterfaceDecl> implementedInterfaces() {
+    ASTState state = state();
+    if (implementedInterfaces_computed == ASTState.NON_CYCLE || implementedInterfaces_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.implementedInterfaces()", "", implementedInterfaces_value);
+      return implementedInterfaces_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.implementedInterfaces()", "", "");
+    implementedInterfaces_value = Collections.emptySet();
+    state().trace().computeEnd(this, "TypeDecl.implementedInterfaces()", "", implementedInterfaces_value);
+    if (state().inCircle()) {
+      implementedInterfaces_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.implementedInterfaces()", "", implementedInterfaces_value);
+    } else {
+      implementedInterfaces_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.implementedInterfaces()", "", implementedInterfaces_value);
+    }
+    return implementedInterfaces_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:864
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:864")
+  public boolean sameSignature(Access a) {
+    Object _parameters = a;
+    state().trace().computeBegin(this, "TypeDecl.sameSignature(Access)", _parameters, "");
+    try {
+        if (a instanceof ParTypeAccess) {
+          return false;
+        }
+        if (a instanceof AbstractWildcard) {
+          return false;
+        }
+        return this == a.type();
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.sameSignature(Access)", _parameters, "");
+    }
+  }
+  /**
+   * Replaces wildcards in generic type arguments by ? extends with the
+   * type bound of the corresponding type parameter.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1263
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1263")
+  public TypeDecl expandWildcard(TypeVariable param) {
+    Object _parameters = param;
+    state().trace().computeBegin(this, "TypeDecl.expandWildcard(TypeVariable)", _parameters, "");
+    TypeDecl expandWildcard_TypeVariable_value = this;
+    state().trace().computeEnd(this, "TypeDecl.expandWildcard(TypeVariable)", _parameters, expandWildcard_TypeVariable_value);
+    return expandWildcard_TypeVariable_value;
+  }
+/** @apilevel internal */
+protected ASTState.Cycle usesTypeVariable_cycle = null;
+  /** @apilevel internal */
+  private void usesTypeVariable_reset() {
+    usesTypeVariable_computed = false;
+    usesTypeVariable_initialized = false;
+    usesTypeVariable_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_computed = false;
+
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_value;
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1341")
+  public boolean usesTypeVariable() {
+    if (usesTypeVariable_computed) {
+      state().trace().cacheRead(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      return usesTypeVariable_value;
+    }
+    ASTState state = state();
+    if (!usesTypeVariable_initialized) {
+      usesTypeVariable_initialized = true;
+      usesTypeVariable_value = false;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        usesTypeVariable_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.usesTypeVariable()", "", "");
+        boolean new_usesTypeVariable_value = isNestedType() && enclosingType().usesTypeVariable();
+        state().trace().computeEnd(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+        if (new_usesTypeVariable_value != usesTypeVariable_value) {
+          state.setChangeInCycle();
+        }
+        usesTypeVariable_value = new_usesTypeVariable_value;
+      } while (state.testAndClearChangeInCycle());
+      usesTypeVariable_computed = true;
+      state().trace().cacheWrite(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      state.leaveCircle();
+    } else if (usesTypeVariable_cycle != state.cycle()) {
+      usesTypeVariable_cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.usesTypeVariable()", "", "");
+      boolean new_usesTypeVariable_value = isNestedType() && enclosingType().usesTypeVariable();
+      state().trace().computeEnd(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      if (new_usesTypeVariable_value != usesTypeVariable_value) {
+        state.setChangeInCycle();
+      }
+      usesTypeVariable_value = new_usesTypeVariable_value;
+    } else {
+    }
+    return usesTypeVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1684
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1684")
+  public TypeDecl original() {
+    state().trace().computeBegin(this, "TypeDecl.original()", "", "");
+    TypeDecl original_value = this;
+    state().trace().computeEnd(this, "TypeDecl.original()", "", original_value);
+    return original_value;
+  }
+  /**
+   * Builds a list of substituted members in a parameterized type.
+   * 
+   * <p>The bodies of methods are not copied to the substituted version.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1724
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1724")
+  public List<BodyDecl> substitutedBodyDecls() {
+    state().trace().computeBegin(this, "TypeDecl.substitutedBodyDecls()", "", "");
+    try {
+        List<BodyDecl> list = new List<BodyDecl>();
+        for (BodyDecl decl : getBodyDeclList()) {
+          if (decl.isSubstitutable()) {
+            list.add(decl.signatureCopy());
+          }
+        }
+        return list;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.substitutedBodyDecls()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1785
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1785")
+  public TypeDecl asWildcardExtends() {
+    state().trace().computeBegin(this, "TypeDecl.asWildcardExtends()", "", "");
+    TypeDecl asWildcardExtends_value = lookupWildcardExtends(this);
+    state().trace().computeEnd(this, "TypeDecl.asWildcardExtends()", "", asWildcardExtends_value);
+    return asWildcardExtends_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1799
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1799")
+  public TypeDecl asWildcardSuper() {
+    state().trace().computeBegin(this, "TypeDecl.asWildcardSuper()", "", "");
+    TypeDecl asWildcardSuper_value = lookupWildcardSuper(this);
+    state().trace().computeEnd(this, "TypeDecl.asWildcardSuper()", "", asWildcardSuper_value);
+    return asWildcardSuper_value;
+  }
+  /** @apilevel internal */
+  private void sourceTypeDecl_reset() {
+    sourceTypeDecl_computed = null;
+    sourceTypeDecl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle sourceTypeDecl_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl sourceTypeDecl_value;
+
+  /**
+   * @attribute syn
+   * @aspect SourceDeclarations
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1906
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SourceDeclarations", declaredAt="/root/project/java5/frontend/Generics.jrag:1906")
+  public TypeDecl sourceTypeDecl() {
+    ASTState state = state();
+    if (sourceTypeDecl_computed == ASTState.NON_CYCLE || sourceTypeDecl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+      return sourceTypeDecl_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.sourceTypeDecl()", "", "");
+    sourceTypeDecl_value = this;
+    state().trace().computeEnd(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    if (state().inCircle()) {
+      sourceTypeDecl_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    } else {
+      sourceTypeDecl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.sourceTypeDecl()", "", sourceTypeDecl_value);
+    }
+    return sourceTypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsParTypeDecl
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:104
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsParTypeDecl", declaredAt="/root/project/java5/frontend/GenericsParTypeDecl.jrag:104")
+  public boolean isTypeVariable() {
+    state().trace().computeBegin(this, "TypeDecl.isTypeVariable()", "", "");
+    boolean isTypeVariable_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isTypeVariable()", "", isTypeVariable_value);
+    return isTypeVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:41")
+  public boolean supertypeGenericClassDecl(GenericClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGenericClassDecl(GenericClassDecl)", _parameters, "");
+    boolean supertypeGenericClassDecl_GenericClassDecl_value = supertypeClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeGenericClassDecl(GenericClassDecl)", _parameters, supertypeGenericClassDecl_GenericClassDecl_value);
+    return supertypeGenericClassDecl_GenericClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:47")
+  public boolean supertypeGenericInterfaceDecl(GenericInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGenericInterfaceDecl(GenericInterfaceDecl)", _parameters, "");
+    boolean supertypeGenericInterfaceDecl_GenericInterfaceDecl_value = this == type || supertypeInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeGenericInterfaceDecl(GenericInterfaceDecl)", _parameters, supertypeGenericInterfaceDecl_GenericInterfaceDecl_value);
+    return supertypeGenericInterfaceDecl_GenericInterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:53")
+  public boolean supertypeRawClassDecl(RawClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeRawClassDecl(RawClassDecl)", _parameters, "");
+    boolean supertypeRawClassDecl_RawClassDecl_value = supertypeParClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeRawClassDecl(RawClassDecl)", _parameters, supertypeRawClassDecl_RawClassDecl_value);
+    return supertypeRawClassDecl_RawClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:57
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:57")
+  public boolean supertypeRawInterfaceDecl(RawInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeRawInterfaceDecl(RawInterfaceDecl)", _parameters, "");
+    boolean supertypeRawInterfaceDecl_RawInterfaceDecl_value = supertypeParInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeRawInterfaceDecl(RawInterfaceDecl)", _parameters, supertypeRawInterfaceDecl_RawInterfaceDecl_value);
+    return supertypeRawInterfaceDecl_RawInterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:73
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:73")
+  public boolean supertypeWildcard(WildcardType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeWildcard(WildcardType)", _parameters, "");
+    boolean supertypeWildcard_WildcardType_value = this == typeObject();
+    state().trace().computeEnd(this, "TypeDecl.supertypeWildcard(WildcardType)", _parameters, supertypeWildcard_WildcardType_value);
+    return supertypeWildcard_WildcardType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:80
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:80")
+  public boolean supertypeWildcardExtends(WildcardExtendsType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeWildcardExtends(WildcardExtendsType)", _parameters, "");
+    boolean supertypeWildcardExtends_WildcardExtendsType_value = type.extendsType().subtype(this);
+    state().trace().computeEnd(this, "TypeDecl.supertypeWildcardExtends(WildcardExtendsType)", _parameters, supertypeWildcardExtends_WildcardExtendsType_value);
+    return supertypeWildcardExtends_WildcardExtendsType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:89")
+  public boolean supertypeWildcardSuper(WildcardSuperType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeWildcardSuper(WildcardSuperType)", _parameters, "");
+    boolean supertypeWildcardSuper_WildcardSuperType_value = this == typeObject();
+    state().trace().computeEnd(this, "TypeDecl.supertypeWildcardSuper(WildcardSuperType)", _parameters, supertypeWildcardSuper_WildcardSuperType_value);
+    return supertypeWildcardSuper_WildcardSuperType_value;
+  }
+  /** @return {@code true} if this type is a wildcard type, possibly with type bounds. 
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:126
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:126")
+  public boolean isWildcard() {
+    state().trace().computeBegin(this, "TypeDecl.isWildcard()", "", "");
+    boolean isWildcard_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isWildcard()", "", isWildcard_value);
+    return isWildcard_value;
+  }
+  /** @return {@code true} if this type is the unbounded wildcard type. 
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:131
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:131")
+  public boolean isUnboundedWildcard() {
+    state().trace().computeBegin(this, "TypeDecl.isUnboundedWildcard()", "", "");
+    boolean isUnboundedWildcard_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isUnboundedWildcard()", "", isUnboundedWildcard_value);
+    return isUnboundedWildcard_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:152
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:152")
+  public boolean supertypeParClassDecl(ParClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeParClassDecl(ParClassDecl)", _parameters, "");
+    boolean supertypeParClassDecl_ParClassDecl_value = supertypeClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeParClassDecl(ParClassDecl)", _parameters, supertypeParClassDecl_ParClassDecl_value);
+    return supertypeParClassDecl_ParClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:156
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:156")
+  public boolean supertypeParInterfaceDecl(ParInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, "");
+    boolean supertypeParInterfaceDecl_ParInterfaceDecl_value = supertypeInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, supertypeParInterfaceDecl_ParInterfaceDecl_value);
+    return supertypeParInterfaceDecl_ParInterfaceDecl_value;
+  }
+  /** @apilevel internal */
+  private void containedIn_TypeDecl_reset() {
+    containedIn_TypeDecl_values = null;
+  }
+  protected java.util.Map containedIn_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:168")
+  public boolean containedIn(TypeDecl type) {
+    Object _parameters = type;
+    if (containedIn_TypeDecl_values == null) containedIn_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (containedIn_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = containedIn_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.containedIn(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      containedIn_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_containedIn_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.containedIn(TypeDecl)", _parameters, "");
+        new_containedIn_TypeDecl_value = containedIn_compute(type);
+        state().trace().computeEnd(this, "TypeDecl.containedIn(TypeDecl)", _parameters, _value.value);
+        if (new_containedIn_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_containedIn_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      containedIn_TypeDecl_values.put(_parameters, new_containedIn_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.containedIn(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_containedIn_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.containedIn(TypeDecl)", _parameters, "");
+      boolean new_containedIn_TypeDecl_value = containedIn_compute(type);
+      state().trace().computeEnd(this, "TypeDecl.containedIn(TypeDecl)", _parameters, _value.value);
+      if (new_containedIn_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_containedIn_TypeDecl_value;
+      }
+      return new_containedIn_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean containedIn_compute(TypeDecl type) {
+      if (type == this || type instanceof WildcardType) {
+        return true;
+      } else if (type instanceof WildcardExtendsType) {
+        return this.subtype(((WildcardExtendsType) type).extendsType());
+      } else if (type instanceof WildcardSuperType) {
+        return ((WildcardSuperType) type).superType().subtype(this);
+      } else if (type instanceof TypeVariable) {
+        return subtype(type);
+      }
+      return sameStructure(type);
+    }
+  /** @apilevel internal */
+  private void sameStructure_TypeDecl_reset() {
+    sameStructure_TypeDecl_values = null;
+  }
+  protected java.util.Map sameStructure_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:222")
+  public boolean sameStructure(TypeDecl t) {
+    Object _parameters = t;
+    if (sameStructure_TypeDecl_values == null) sameStructure_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (sameStructure_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = sameStructure_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      sameStructure_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_sameStructure_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, "");
+        new_sameStructure_TypeDecl_value = t == this;
+        state().trace().computeEnd(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+        if (new_sameStructure_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_sameStructure_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      sameStructure_TypeDecl_values.put(_parameters, new_sameStructure_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_sameStructure_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, "");
+      boolean new_sameStructure_TypeDecl_value = t == this;
+      state().trace().computeEnd(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+      if (new_sameStructure_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_sameStructure_TypeDecl_value;
+      }
+      return new_sameStructure_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:368
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:368")
+  public boolean supertypeTypeVariable(TypeVariable type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeTypeVariable(TypeVariable)", _parameters, "");
+    try {
+        if (type == this) {
+          return true;
+        }
+        for (int i = 0; i < type.getNumTypeBound(); i++) {
+          if (type.getTypeBound(i).type().subtype(this)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.supertypeTypeVariable(TypeVariable)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:414
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:414")
+  public boolean supertypeLUBType(LUBType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeLUBType(LUBType)", _parameters, "");
+    try {
+        for (int i = 0; i < type.getNumTypeBound(); i++) {
+          if (!type.getTypeBound(i).type().subtype(this)) {
+            return false;
+          }
+        }
+        return true;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.supertypeLUBType(LUBType)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:438
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:438")
+  public boolean supertypeGLBType(GLBType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGLBType(GLBType)", _parameters, "");
+    try {
+        // T1 && .. && Tn <: this, if exists  0 < i <= n Ti <: this
+        for (int i = 0; i < type.getNumTypeBound(); i++) {
+          if (type.getTypeBound(i).type().subtype(this)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.supertypeGLBType(GLBType)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:463
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:463")
+  public boolean supertypeClassDeclSubstituted(ClassDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeClassDeclSubstituted(ClassDeclSubstituted)", _parameters, "");
+    boolean supertypeClassDeclSubstituted_ClassDeclSubstituted_value = type.original() == this || supertypeClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeClassDeclSubstituted(ClassDeclSubstituted)", _parameters, supertypeClassDeclSubstituted_ClassDeclSubstituted_value);
+    return supertypeClassDeclSubstituted_ClassDeclSubstituted_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:476
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:476")
+  public boolean supertypeInterfaceDeclSubstituted(InterfaceDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeInterfaceDeclSubstituted(InterfaceDeclSubstituted)", _parameters, "");
+    boolean supertypeInterfaceDeclSubstituted_InterfaceDeclSubstituted_value = type.original() == this || supertypeInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeInterfaceDeclSubstituted(InterfaceDeclSubstituted)", _parameters, supertypeInterfaceDeclSubstituted_InterfaceDeclSubstituted_value);
+    return supertypeInterfaceDeclSubstituted_InterfaceDeclSubstituted_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:489
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:489")
+  public boolean supertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted)", _parameters, "");
+    boolean supertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value = type.original() == this || supertypeGenericClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted)", _parameters, supertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value);
+    return supertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:503
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:503")
+  public boolean supertypeGenericInterfaceDeclSubstituted(GenericInterfaceDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeGenericInterfaceDeclSubstituted(GenericInterfaceDeclSubstituted)", _parameters, "");
+    boolean supertypeGenericInterfaceDeclSubstituted_GenericInterfaceDeclSubstituted_value = type.original() == this || supertypeGenericInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.supertypeGenericInterfaceDeclSubstituted(GenericInterfaceDeclSubstituted)", _parameters, supertypeGenericInterfaceDeclSubstituted_GenericInterfaceDeclSubstituted_value);
+    return supertypeGenericInterfaceDeclSubstituted_GenericInterfaceDeclSubstituted_value;
+  }
+  /**
+   * A type is reifiable if it either refers to a non-parameterized type,
+   * is a raw type, is a parameterized type with only unbound wildcard
+   * parameters or is an array type with a reifiable type parameter.
+   * 
+   * @see "JLS SE7 &sect;4.7"
+   * @attribute syn
+   * @aspect ReifiableTypes
+   * @declaredat /root/project/java5/frontend/ReifiableTypes.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReifiableTypes", declaredAt="/root/project/java5/frontend/ReifiableTypes.jrag:39")
+  public boolean isReifiable() {
+    state().trace().computeBegin(this, "TypeDecl.isReifiable()", "", "");
+    boolean isReifiable_value = true;
+    state().trace().computeEnd(this, "TypeDecl.isReifiable()", "", isReifiable_value);
+    return isReifiable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Java5Utilities
+   * @declaredat /root/project/java5/frontend/Utilities.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Java5Utilities", declaredAt="/root/project/java5/frontend/Utilities.jrag:35")
+  public boolean isUnboxedPrimitive() {
+    state().trace().computeBegin(this, "TypeDecl.isUnboxedPrimitive()", "", "");
+    boolean isUnboxedPrimitive_value = this instanceof PrimitiveType && isPrimitive();
+    state().trace().computeEnd(this, "TypeDecl.isUnboxedPrimitive()", "", isUnboxedPrimitive_value);
+    return isUnboxedPrimitive_value;
+  }
+  /** @apilevel internal */
+  private void enumIndices_TypeDecl_reset() {
+    enumIndices_TypeDecl_computed = new java.util.HashMap(4);
+    enumIndices_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map enumIndices_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map enumIndices_TypeDecl_computed;
+  /**
+   * Builds a mapping from enum constants to switch indices for all switch
+   * statements that use the same enum type in this class.
+   * 
+   * <p>The map iterates in the order the constants first occur in the switch
+   * statements, so that the switch map initializer does not depend on the
+   * identity hash codes of the enum constants.
+   * @attribute syn
+   * @aspect EnumsCodegen
+   * @declaredat /root/project/java5/backend/EnumsCodegen.jrag:167
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EnumsCodegen", declaredAt="/root/project/java5/backend/EnumsCodegen.jrag:167")
+  public Map<EnumConstant, Integer> enumIndices(TypeDecl enumType) {
+    Object _parameters = enumType;
+    if (enumIndices_TypeDecl_computed == null) enumIndices_TypeDecl_computed = new java.util.HashMap(4);
+    if (enumIndices_TypeDecl_values == null) enumIndices_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (enumIndices_TypeDecl_values.containsKey(_parameters) && enumIndices_TypeDecl_computed != null
+        && enumIndices_TypeDecl_computed.containsKey(_parameters)
+        && (enumIndices_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || enumIndices_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.enumIndices(TypeDecl)", _parameters, enumIndices_TypeDecl_values.get(_parameters));
+      return (Map<EnumConstant, Integer>) enumIndices_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.enumIndices(TypeDecl)", _parameters, "");
+    Map<EnumConstant, Integer> enumIndices_TypeDecl_value = enumIndices_compute(enumType);
+    state().trace().computeEnd(this, "TypeDecl.enumIndices(TypeDecl)", _parameters, enumIndices_TypeDecl_value);
+    if (state().inCircle()) {
+      enumIndices_TypeDecl_values.put(_parameters, enumIndices_TypeDecl_value);
+      enumIndices_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.enumIndices(TypeDecl)", _parameters, enumIndices_TypeDecl_value);
+    } else {
+      enumIndices_TypeDecl_values.put(_parameters, enumIndices_TypeDecl_value);
+      enumIndices_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.enumIndices(TypeDecl)", _parameters, enumIndices_TypeDecl_value);
+    }
+    return enumIndices_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private Map<EnumConstant, Integer> enumIndices_compute(TypeDecl enumType) {
+      Map<EnumConstant, Integer> indexMap = new LinkedHashMap<EnumConstant, Integer>();
+      int next = 1;
+  
+      // Find all switch statements in this class that use the same enum type:
+      for (SwitchStmt enumSwitch : enumSwitchStatements()) {
+        if (enumSwitch.getExpr().type() == enumType) {
+          for (ConstCase cc : enumSwitch.constCases()) {
+            EnumConstant constant = (EnumConstant) cc.getValue().varDecl();
+            if (!indexMap.containsKey(constant)) {
+              indexMap.put(constant, next);
+              next += 1;
+            }
+          }
+        }
+      }
+      return indexMap;
+    }
+  /** @apilevel internal */
+  private void createEnumMethod_TypeDecl_reset() {
+    createEnumMethod_TypeDecl_values = null;
+    createEnumMethod_TypeDecl_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode createEnumMethod_TypeDecl_proxy;
+  /** @apilevel internal */
+  protected java.util.Map createEnumMethod_TypeDecl_values;
+
+  /**
+   * Generates a method to initialize the enum switch index map.
+   * @param enumSwitch the switch statement to generate an enum index map for.
+   * @attribute syn
+   * @aspect EnumsCodegen
+   * @declaredat /root/project/java5/backend/EnumsCodegen.jrag:190
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="EnumsCodegen", declaredAt="/root/project/java5/backend/EnumsCodegen.jrag:190")
+  public MethodDecl createEnumMethod(TypeDecl enumType) {
+    Object _parameters = enumType;
+    if (createEnumMethod_TypeDecl_values == null) createEnumMethod_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (createEnumMethod_TypeDecl_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeDecl.createEnumMethod(TypeDecl)", _parameters, createEnumMethod_TypeDecl_values.get(_parameters));
+      return (MethodDecl) createEnumMethod_TypeDecl_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.createEnumMethod(TypeDecl)", _parameters, "");
+    MethodDecl createEnumMethod_TypeDecl_value = createEnumMethod_compute(enumType);
+    state().trace().computeEnd(this, "TypeDecl.createEnumMethod(TypeDecl)", _parameters, createEnumMethod_TypeDecl_value);
+    if (createEnumMethod_TypeDecl_proxy == null) {
+      createEnumMethod_TypeDecl_proxy = new ASTNode();
+      createEnumMethod_TypeDecl_proxy.setParent(this);
+    }
+    if (createEnumMethod_TypeDecl_value != null) {
+      createEnumMethod_TypeDecl_value.setParent(createEnumMethod_TypeDecl_proxy);
+      if (createEnumMethod_TypeDecl_value.mayHaveRewrite()) {
+        createEnumMethod_TypeDecl_value = (MethodDecl) createEnumMethod_TypeDecl_value.rewrittenNode();
+        createEnumMethod_TypeDecl_value.setParent(createEnumMethod_TypeDecl_proxy);
+      }
+    }
+    createEnumMethod_TypeDecl_values.put(_parameters, createEnumMethod_TypeDecl_value);
+    state().trace().cacheWrite(this, "TypeDecl.createEnumMethod(TypeDecl)", _parameters, createEnumMethod_TypeDecl_value);
+    state().leaveLazyAttribute();
+    return createEnumMethod_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private MethodDecl createEnumMethod_compute(TypeDecl enumType) {
+      List<Stmt> stmts = new List<Stmt>();
+      stmts.add(
+          new IfStmt(
+              new EQExpr(enumArrayDecl(enumType).createBoundAccess(), new NullLiteral("null")),
+              AssignExpr.asStmt(
+                  enumArrayDecl(enumType).createBoundAccess(),
+                  new ArrayCreationExpr(
+                      new ArrayTypeWithSizeAccess(
+                          typeInt().createQualifiedAccess(),
+                          enumType.createQualifiedAccess()
+                              .qualifiesAccess(new MethodAccess("values", new List()))
+                              .qualifiesAccess(new VarAccess("length"))),
+                      new Opt())),
+              new Opt()));
+      for (Map.Entry<EnumConstant, Integer> entry : enumIndices(enumType).entrySet()) {
+        EnumConstant enumConstant = entry.getKey();
+        int index = entry.getValue();
+        stmts.add(
+            new TryStmt(
+                new Block(
+                  new List().add(
+                    AssignExpr.asStmt(
+                      enumArrayDecl(enumType)
+                          .createBoundAccess()
+                          .qualifiesAccess(new ArrayAccess(enumConstant.createBoundAccess()
+                              .qualifiesAccess(new MethodAccess("ordinal", new List())))),
+                      Literal.buildIntegerLiteral(index)))),
+                new List<CatchClause>(
+                  new BasicCatch(
+                    new ParameterDeclaration(
+                      lookupType("java.lang", "NoSuchFieldError").createQualifiedAccess(), "e"),
+                    new Block(new List<Stmt>()))),
+                new Opt()));
+      }
+      stmts.add(new ReturnStmt(enumArrayDecl(enumType).createBoundAccess()));
+      return new MethodDecl(
+          new Modifiers(new List<Modifier>(
+              new Modifier("static"),
+              new Modifier("final"),
+              new Modifier("private"))),
+          typeInt().arrayType().createQualifiedAccess(),
+          "$SwitchMap$" + enumType.fullName().replace('.', '$'),
+          new List(),
+          new List(),
+          new Opt<Block>(new Block(stmts)));
+    }
+  /**
+   * @attribute syn
+   * @aspect EnumsCodegen
+   * @declaredat /root/project/java5/backend/EnumsCodegen.jrag:238
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EnumsCodegen", declaredAt="/root/project/java5/backend/EnumsCodegen.jrag:238")
+  public FieldDeclarator enumArrayDecl(TypeDecl enumType) {
+    Object _parameters = enumType;
+    state().trace().computeBegin(this, "TypeDecl.enumArrayDecl(TypeDecl)", _parameters, "");
+    FieldDeclarator enumArrayDecl_TypeDecl_value = createEnumArrayField(enumType).getDeclarator(0);
+    state().trace().computeEnd(this, "TypeDecl.enumArrayDecl(TypeDecl)", _parameters, enumArrayDecl_TypeDecl_value);
+    return enumArrayDecl_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void createEnumArrayField_TypeDecl_reset() {
+    createEnumArrayField_TypeDecl_values = null;
+    createEnumArrayField_TypeDecl_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode createEnumArrayField_TypeDecl_proxy;
+  /** @apilevel internal */
+  protected java.util.Map createEnumArrayField_TypeDecl_values;
+
+  /**
+   * Creates the field declaration for the enum switch map.
+   * @attribute syn
+   * @aspect EnumsCodegen
+   * @declaredat /root/project/java5/backend/EnumsCodegen.jrag:244
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="EnumsCodegen", declaredAt="/root/project/java5/backend/EnumsCodegen.jrag:244")
+  public FieldDecl createEnumArrayField(TypeDecl enumType) {
+    Object _parameters = enumType;
+    if (createEnumArrayField_TypeDecl_values == null) createEnumArrayField_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (createEnumArrayField_TypeDecl_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeDecl.createEnumArrayField(TypeDecl)", _parameters, createEnumArrayField_TypeDecl_values.get(_parameters));
+      return (FieldDecl) createEnumArrayField_TypeDecl_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.createEnumArrayField(TypeDecl)", _parameters, "");
+    FieldDecl createEnumArrayField_TypeDecl_value = createEnumArrayField_compute(enumType);
+    state().trace().computeEnd(this, "TypeDecl.createEnumArrayField(TypeDecl)", _parameters, createEnumArrayField_TypeDecl_value);
+    if (createEnumArrayField_TypeDecl_proxy == null) {
+      createEnumArrayField_TypeDecl_proxy = new ASTNode();
+      createEnumArrayField_TypeDecl_proxy.setParent(this);
+    }
+    if (createEnumArrayField_TypeDecl_value != null) {
+      createEnumArrayField_TypeDecl_value.setParent(createEnumArrayField_TypeDecl_proxy);
+      if (createEnumArrayField_TypeDecl_value.mayHaveRewrite()) {
+        createEnumArrayField_TypeDecl_value = (FieldDecl) createEnumArrayField_TypeDecl_value.rewrittenNode();
+        createEnumArrayField_TypeDecl_value.setParent(createEnumArrayField_TypeDecl_proxy);
+      }
+    }
+    createEnumArrayField_TypeDecl_values.put(_parameters, createEnumArrayField_TypeDecl_value);
+    state().trace().cacheWrite(this, "TypeDecl.createEnumArrayField(TypeDecl)", _parameters, createEnumArrayField_TypeDecl_value);
+    state().leaveLazyAttribute();
+    return createEnumArrayField_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private FieldDecl createEnumArrayField_compute(TypeDecl enumType) {
+      FieldDeclarator decl = new FieldDeclarator(
+          "$SwitchMap$" + enumType.fullName().replace('.', '$'),
+          new List<Dims>(),
+          new Opt<Expr>());
+      return new FieldDecl(
+          new Modifiers(new List<Modifier>(
+              new Modifier("static"),
+              new Modifier("final"),
+              new Modifier("synthetic"))),
+          typeInt().arrayType().createQualifiedAccess(),
+          new List<FieldDeclarator>(decl));
+    }
+  /** @apilevel internal */
+  private void bridgeMethods_reset() {
+    bridgeMethods_computed = null;
+    bridgeMethods_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle bridgeMethods_computed = null;
+
+  /** @apilevel internal */
+  protected Collection<MethodDecl> bridgeMethods_value;
+
+  /**
+   * Collects bridge methods that should be generated for methods in this type.
+   * 
+   * <p>Bridge methods are synthetic methods that are needed when a subtype
+   * overrides a method with a different return type than the overriden method
+   * return type. Bridge methods are also needed for polymorphism to work correctly
+   * with erased return types.
+   * 
+   * <p>Bridge methods are not needed for Java 4 which does not allow overriding a
+   * method with a new return type.
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:275
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:275")
+  public Collection<MethodDecl> bridgeMethods() {
+    ASTState state = state();
+    if (bridgeMethods_computed == ASTState.NON_CYCLE || bridgeMethods_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.bridgeMethods()", "", bridgeMethods_value);
+      return bridgeMethods_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.bridgeMethods()", "", "");
+    bridgeMethods_value = bridgeMethods_compute();
+    state().trace().computeEnd(this, "TypeDecl.bridgeMethods()", "", bridgeMethods_value);
+    if (state().inCircle()) {
+      bridgeMethods_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.bridgeMethods()", "", bridgeMethods_value);
+    } else {
+      bridgeMethods_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.bridgeMethods()", "", bridgeMethods_value);
+    }
+    return bridgeMethods_value;
+  }
+  /** @apilevel internal */
+  private Collection<MethodDecl> bridgeMethods_compute() {
+      Collection<MethodDecl> bridgeMethods = new LinkedList<MethodDecl>();
+      for (Map.Entry<String, SimpleSet<MethodDecl>> entry : methodsSignatureMap().entrySet()) {
+        String signature = entry.getKey();
+        SimpleSet<MethodDecl> methods = entry.getValue();
+        for (MethodDecl method : methods) {
+          if (!method.isStatic() && !method.isAbstract()) {
+            bridgeMethods.addAll(bridgeMethods(method));
+            break;
+          }
+        }
+      }
+      return bridgeMethods;
+    }
+  /** @apilevel internal */
+  private void bridgeCandidates_String_reset() {
+    bridgeCandidates_String_computed = new java.util.HashMap(4);
+    bridgeCandidates_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map bridgeCandidates_String_values;
+  /** @apilevel internal */
+  protected java.util.Map bridgeCandidates_String_computed;
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:290
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:290")
+  public SimpleSet<MethodDecl> bridgeCandidates(String signature) {
+    Object _parameters = signature;
+    if (bridgeCandidates_String_computed == null) bridgeCandidates_String_computed = new java.util.HashMap(4);
+    if (bridgeCandidates_String_values == null) bridgeCandidates_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (bridgeCandidates_String_values.containsKey(_parameters) && bridgeCandidates_String_computed != null
+        && bridgeCandidates_String_computed.containsKey(_parameters)
+        && (bridgeCandidates_String_computed.get(_parameters) == ASTState.NON_CYCLE || bridgeCandidates_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.bridgeCandidates(String)", _parameters, bridgeCandidates_String_values.get(_parameters));
+      return (SimpleSet<MethodDecl>) bridgeCandidates_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.bridgeCandidates(String)", _parameters, "");
+    SimpleSet<MethodDecl> bridgeCandidates_String_value = emptySet();
+    state().trace().computeEnd(this, "TypeDecl.bridgeCandidates(String)", _parameters, bridgeCandidates_String_value);
+    if (state().inCircle()) {
+      bridgeCandidates_String_values.put(_parameters, bridgeCandidates_String_value);
+      bridgeCandidates_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.bridgeCandidates(String)", _parameters, bridgeCandidates_String_value);
+    } else {
+      bridgeCandidates_String_values.put(_parameters, bridgeCandidates_String_value);
+      bridgeCandidates_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.bridgeCandidates(String)", _parameters, bridgeCandidates_String_value);
+    }
+    return bridgeCandidates_String_value;
+  }
+  /** @apilevel internal */
+  private void bridgeMethods_MethodDecl_reset() {
+    bridgeMethods_MethodDecl_computed = new java.util.HashMap(4);
+    bridgeMethods_MethodDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map bridgeMethods_MethodDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map bridgeMethods_MethodDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:302
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:302")
+  public Collection<MethodDecl> bridgeMethods(MethodDecl decl) {
+    Object _parameters = decl;
+    if (bridgeMethods_MethodDecl_computed == null) bridgeMethods_MethodDecl_computed = new java.util.HashMap(4);
+    if (bridgeMethods_MethodDecl_values == null) bridgeMethods_MethodDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (bridgeMethods_MethodDecl_values.containsKey(_parameters) && bridgeMethods_MethodDecl_computed != null
+        && bridgeMethods_MethodDecl_computed.containsKey(_parameters)
+        && (bridgeMethods_MethodDecl_computed.get(_parameters) == ASTState.NON_CYCLE || bridgeMethods_MethodDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.bridgeMethods(MethodDecl)", _parameters, bridgeMethods_MethodDecl_values.get(_parameters));
+      return (Collection<MethodDecl>) bridgeMethods_MethodDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.bridgeMethods(MethodDecl)", _parameters, "");
+    Collection<MethodDecl> bridgeMethods_MethodDecl_value = bridgeMethods_compute(decl);
+    state().trace().computeEnd(this, "TypeDecl.bridgeMethods(MethodDecl)", _parameters, bridgeMethods_MethodDecl_value);
+    if (state().inCircle()) {
+      bridgeMethods_MethodDecl_values.put(_parameters, bridgeMethods_MethodDecl_value);
+      bridgeMethods_MethodDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.bridgeMethods(MethodDecl)", _parameters, bridgeMethods_MethodDecl_value);
+    } else {
+      bridgeMethods_MethodDecl_values.put(_parameters, bridgeMethods_MethodDecl_value);
+      bridgeMethods_MethodDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.bridgeMethods(MethodDecl)", _parameters, bridgeMethods_MethodDecl_value);
+    }
+    return bridgeMethods_MethodDecl_value;
+  }
+  /** @apilevel internal */
+  private Collection<MethodDecl> bridgeMethods_compute(MethodDecl decl) {
+      Collection<MethodDecl> bridgeMethods = new LinkedList<MethodDecl>();
+      Collection<String> processed = new HashSet<String>();
+      for (MethodDecl m : bridgeCandidates(decl.signature())) {
+        if (m != decl && !m.isPrivate() && m.accessibleFrom(this)) {
+          MethodDecl erased = m.erasedMethod();
+          if (!erased.signature().equals(decl.signature())
+              || erased.type().erasure() != decl.type().erasure()) {
+            StringBuilder keyBuffer = new StringBuilder();
+            for (ParameterDeclaration param : erased.getParameterList()) {
+              keyBuffer.append(param.type().erasure().fullName());
+            }
+            keyBuffer.append(erased.type().erasure().fullName());
+            String key = keyBuffer.toString();
+            if (!processed.contains(key)) {
+              processed.add(key);
+              bridgeMethods.add(bridgeMethod(decl, erased));
+            }
+          }
+        }
+      }
+      return bridgeMethods;
+    }
+  /** @apilevel internal */
+  private void bridgeMethod_MethodDecl_MethodDecl_reset() {
+    bridgeMethod_MethodDecl_MethodDecl_values = null;
+    bridgeMethod_MethodDecl_MethodDecl_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode bridgeMethod_MethodDecl_MethodDecl_proxy;
+  /** @apilevel internal */
+  protected java.util.Map bridgeMethod_MethodDecl_MethodDecl_values;
+
+  /**
+   * Builds a bridge method, bridging from the erased method to the
+   * overriding method decl.
+   * @param decl the overriding method declaration
+   * @param erased the erased method that needs a matching bridge method
+   * @return bridge method declaration
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:333
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:333")
+  public MethodDecl bridgeMethod(MethodDecl decl, MethodDecl erased) {
+    java.util.List _parameters = new java.util.ArrayList(2);
+    _parameters.add(decl);
+    _parameters.add(erased);
+    if (bridgeMethod_MethodDecl_MethodDecl_values == null) bridgeMethod_MethodDecl_MethodDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (bridgeMethod_MethodDecl_MethodDecl_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeDecl.bridgeMethod(MethodDecl,MethodDecl)", _parameters, bridgeMethod_MethodDecl_MethodDecl_values.get(_parameters));
+      return (MethodDecl) bridgeMethod_MethodDecl_MethodDecl_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeDecl.bridgeMethod(MethodDecl,MethodDecl)", _parameters, "");
+    MethodDecl bridgeMethod_MethodDecl_MethodDecl_value = bridgeMethod_compute(decl, erased);
+    state().trace().computeEnd(this, "TypeDecl.bridgeMethod(MethodDecl,MethodDecl)", _parameters, bridgeMethod_MethodDecl_MethodDecl_value);
+    if (bridgeMethod_MethodDecl_MethodDecl_proxy == null) {
+      bridgeMethod_MethodDecl_MethodDecl_proxy = new ASTNode();
+      bridgeMethod_MethodDecl_MethodDecl_proxy.setParent(this);
+    }
+    if (bridgeMethod_MethodDecl_MethodDecl_value != null) {
+      bridgeMethod_MethodDecl_MethodDecl_value.setParent(bridgeMethod_MethodDecl_MethodDecl_proxy);
+      if (bridgeMethod_MethodDecl_MethodDecl_value.mayHaveRewrite()) {
+        bridgeMethod_MethodDecl_MethodDecl_value = (MethodDecl) bridgeMethod_MethodDecl_MethodDecl_value.rewrittenNode();
+        bridgeMethod_MethodDecl_MethodDecl_value.setParent(bridgeMethod_MethodDecl_MethodDecl_proxy);
+      }
+    }
+    bridgeMethod_MethodDecl_MethodDecl_values.put(_parameters, bridgeMethod_MethodDecl_MethodDecl_value);
+    state().trace().cacheWrite(this, "TypeDecl.bridgeMethod(MethodDecl,MethodDecl)", _parameters, bridgeMethod_MethodDecl_MethodDecl_value);
+    state().leaveLazyAttribute();
+    return bridgeMethod_MethodDecl_MethodDecl_value;
+  }
+  /** @apilevel internal */
+  private MethodDecl bridgeMethod_compute(MethodDecl decl, MethodDecl erased) {
+      List<Expr> args = new List<Expr>();
+      List<ParameterDeclaration> parameters = new List<ParameterDeclaration>();
+      for (int i = 0; i < decl.getNumParameter(); i++) {
+        args.add(new CastExpr(decl.getParameter(i).type().erasure().createBoundAccess(),
+            new VarAccess("p" + i)));
+        parameters.add(new ParameterDeclaration(erased.paramType(i).erasure(), "p" + i));
+      }
+      Stmt stmt;
+      if (decl.type().isVoid()) {
+        stmt = new ExprStmt(decl.createBoundAccess(args, this));
+      } else {
+        stmt = new ReturnStmt(decl.createBoundAccess(args, this));
+      }
+      List<Modifier> modifiers = new List<Modifier>();
+      if (decl.isPublic()) {
+        modifiers.add(new Modifier("public"));
+      } else if (decl.isProtected()) {
+        modifiers.add(new Modifier("protected"));
+      } else if (decl.isPrivate()) {
+        modifiers.add(new Modifier("private"));
+      }
+      return new BridgeMethodDecl(
+          new Modifiers(modifiers),
+          erased.type().erasure().createBoundAccess(),
+          erased.name(),
+          parameters,
+          decl.getExceptionList().treeCopyNoTransform(),
+          new Opt<Block>(new Block(new List<Stmt>(stmt))));
+    }
+  /** @apilevel internal */
+  private void needsSignatureAttribute_reset() {
+    needsSignatureAttribute_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle needsSignatureAttribute_computed = null;
+
+  /** @apilevel internal */
+  protected boolean needsSignatureAttribute_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:406
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:406")
+  public boolean needsSignatureAttribute() {
+    ASTState state = state();
+    if (needsSignatureAttribute_computed == ASTState.NON_CYCLE || needsSignatureAttribute_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+      return needsSignatureAttribute_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.needsSignatureAttribute()", "", "");
+    needsSignatureAttribute_value = false;
+    state().trace().computeEnd(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    if (state().inCircle()) {
+      needsSignatureAttribute_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    } else {
+      needsSignatureAttribute_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    }
+    return needsSignatureAttribute_value;
+  }
+  /** @apilevel internal */
+  private void classSignature_reset() {
+    classSignature_computed = null;
+    classSignature_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle classSignature_computed = null;
+
+  /** @apilevel internal */
+  protected String classSignature_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:465
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:465")
+  public String classSignature() {
+    ASTState state = state();
+    if (classSignature_computed == ASTState.NON_CYCLE || classSignature_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.classSignature()", "", classSignature_value);
+      return classSignature_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.classSignature()", "", "");
+    classSignature_value = "";
+    state().trace().computeEnd(this, "TypeDecl.classSignature()", "", classSignature_value);
+    if (state().inCircle()) {
+      classSignature_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.classSignature()", "", classSignature_value);
+    } else {
+      classSignature_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.classSignature()", "", classSignature_value);
+    }
+    return classSignature_value;
+  }
+  /** @apilevel internal */
+  private void fieldTypeSignature_reset() {
+    fieldTypeSignature_computed = null;
+    fieldTypeSignature_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle fieldTypeSignature_computed = null;
+
+  /** @apilevel internal */
+  protected String fieldTypeSignature_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:524
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:524")
+  public String fieldTypeSignature() {
+    ASTState state = state();
+    if (fieldTypeSignature_computed == ASTState.NON_CYCLE || fieldTypeSignature_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.fieldTypeSignature()", "", fieldTypeSignature_value);
+      return fieldTypeSignature_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.fieldTypeSignature()", "", "");
+    fieldTypeSignature_value = classTypeSignature();
+    state().trace().computeEnd(this, "TypeDecl.fieldTypeSignature()", "", fieldTypeSignature_value);
+    if (state().inCircle()) {
+      fieldTypeSignature_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.fieldTypeSignature()", "", fieldTypeSignature_value);
+    } else {
+      fieldTypeSignature_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.fieldTypeSignature()", "", fieldTypeSignature_value);
+    }
+    return fieldTypeSignature_value;
+  }
+  /** @apilevel internal */
+  private void classTypeSignature_reset() {
+    classTypeSignature_computed = null;
+    classTypeSignature_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle classTypeSignature_computed = null;
+
+  /** @apilevel internal */
+  protected String classTypeSignature_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:533
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:533")
+  public String classTypeSignature() {
+    ASTState state = state();
+    if (classTypeSignature_computed == ASTState.NON_CYCLE || classTypeSignature_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.classTypeSignature()", "", classTypeSignature_value);
+      return classTypeSignature_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.classTypeSignature()", "", "");
+    classTypeSignature_value = "L" + classTypeSignatureContents() + ";";
+    state().trace().computeEnd(this, "TypeDecl.classTypeSignature()", "", classTypeSignature_value);
+    if (state().inCircle()) {
+      classTypeSignature_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.classTypeSignature()", "", classTypeSignature_value);
+    } else {
+      classTypeSignature_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.classTypeSignature()", "", classTypeSignature_value);
+    }
+    return classTypeSignature_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:539
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:539")
+  public String classTypeSignatureContents() {
+    state().trace().computeBegin(this, "TypeDecl.classTypeSignatureContents()", "", "");
+    String classTypeSignatureContents_value = constantPoolName() + typeArgumentsOpt();
+    state().trace().computeEnd(this, "TypeDecl.classTypeSignatureContents()", "", classTypeSignatureContents_value);
+    return classTypeSignatureContents_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:541
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:541")
+  public String typeArgumentsOpt() {
+    state().trace().computeBegin(this, "TypeDecl.typeArgumentsOpt()", "", "");
+    String typeArgumentsOpt_value = "";
+    state().trace().computeEnd(this, "TypeDecl.typeArgumentsOpt()", "", typeArgumentsOpt_value);
+    return typeArgumentsOpt_value;
+  }
+  /**
+   * @return true if the modifier list includes the SafeVarargs annotation
+   * @attribute syn
+   * @aspect SafeVarargs
+   * @declaredat /root/project/java7/frontend/SafeVarargs.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SafeVarargs", declaredAt="/root/project/java7/frontend/SafeVarargs.jrag:36")
+  public boolean hasAnnotationSafeVarargs() {
+    state().trace().computeBegin(this, "TypeDecl.hasAnnotationSafeVarargs()", "", "");
+    boolean hasAnnotationSafeVarargs_value = getModifiers().hasAnnotationSafeVarargs();
+    state().trace().computeEnd(this, "TypeDecl.hasAnnotationSafeVarargs()", "", hasAnnotationSafeVarargs_value);
+    return hasAnnotationSafeVarargs_value;
+  }
+  /**
+   * An unchecked conversion occurs when converting from a
+   * raw type to a parameterized type.
+   * @attribute syn
+   * @aspect UncheckedConversion
+   * @declaredat /root/project/java7/frontend/UncheckedConversion.jrag:75
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="UncheckedConversion", declaredAt="/root/project/java7/frontend/UncheckedConversion.jrag:75")
+  public boolean isUncheckedConversionTo(TypeDecl dest) {
+    Object _parameters = dest;
+    state().trace().computeBegin(this, "TypeDecl.isUncheckedConversionTo(TypeDecl)", _parameters, "");
+    boolean isUncheckedConversionTo_TypeDecl_value = (dest.isParameterizedType()) && this.isRawType();
+    state().trace().computeEnd(this, "TypeDecl.isUncheckedConversionTo(TypeDecl)", _parameters, isUncheckedConversionTo_TypeDecl_value);
+    return isUncheckedConversionTo_TypeDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:41")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "TypeDecl.modifiedInScope(Variable)", _parameters, "");
+    try {
+        for (int i = 0; i < getNumBodyDecl(); i++) {
+          BodyDecl body = getBodyDecl(i);
+          if (body.modifiedInScope(var)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.modifiedInScope(Variable)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void isFunctionalInterface_reset() {
+    isFunctionalInterface_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isFunctionalInterface_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isFunctionalInterface_value;
+
+  /**
+   * @attribute syn
+   * @aspect FunctionalInterface
+   * @declaredat /root/project/java8/frontend/FunctionalInterface.jrag:30
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="FunctionalInterface", declaredAt="/root/project/java8/frontend/FunctionalInterface.jrag:30")
+  public boolean isFunctionalInterface() {
+    ASTState state = state();
+    if (isFunctionalInterface_computed == ASTState.NON_CYCLE || isFunctionalInterface_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isFunctionalInterface()", "", isFunctionalInterface_value);
+      return isFunctionalInterface_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isFunctionalInterface()", "", "");
+    isFunctionalInterface_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isFunctionalInterface()", "", isFunctionalInterface_value);
+    if (state().inCircle()) {
+      isFunctionalInterface_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isFunctionalInterface()", "", isFunctionalInterface_value);
+    } else {
+      isFunctionalInterface_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isFunctionalInterface()", "", isFunctionalInterface_value);
+    }
+    return isFunctionalInterface_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:39")
+  public boolean strictSupertypeGenericClassDecl(GenericClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGenericClassDecl(GenericClassDecl)", _parameters, "");
+    boolean strictSupertypeGenericClassDecl_GenericClassDecl_value = strictSupertypeClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeGenericClassDecl(GenericClassDecl)", _parameters, strictSupertypeGenericClassDecl_GenericClassDecl_value);
+    return strictSupertypeGenericClassDecl_GenericClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:46")
+  public boolean strictSupertypeGenericInterfaceDecl(GenericInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGenericInterfaceDecl(GenericInterfaceDecl)", _parameters, "");
+    boolean strictSupertypeGenericInterfaceDecl_GenericInterfaceDecl_value = this == type || strictSupertypeInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeGenericInterfaceDecl(GenericInterfaceDecl)", _parameters, strictSupertypeGenericInterfaceDecl_GenericInterfaceDecl_value);
+    return strictSupertypeGenericInterfaceDecl_GenericInterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:52
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:52")
+  public boolean strictSupertypeRawClassDecl(RawClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeRawClassDecl(RawClassDecl)", _parameters, "");
+    boolean strictSupertypeRawClassDecl_RawClassDecl_value = strictSupertypeParClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeRawClassDecl(RawClassDecl)", _parameters, strictSupertypeRawClassDecl_RawClassDecl_value);
+    return strictSupertypeRawClassDecl_RawClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:56
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:56")
+  public boolean strictSupertypeRawInterfaceDecl(RawInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeRawInterfaceDecl(RawInterfaceDecl)", _parameters, "");
+    boolean strictSupertypeRawInterfaceDecl_RawInterfaceDecl_value = strictSupertypeParInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeRawInterfaceDecl(RawInterfaceDecl)", _parameters, strictSupertypeRawInterfaceDecl_RawInterfaceDecl_value);
+    return strictSupertypeRawInterfaceDecl_RawInterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:68
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:68")
+  public boolean strictSupertypeWildcard(WildcardType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeWildcard(WildcardType)", _parameters, "");
+    boolean strictSupertypeWildcard_WildcardType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeWildcard(WildcardType)", _parameters, strictSupertypeWildcard_WildcardType_value);
+    return strictSupertypeWildcard_WildcardType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:79
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:79")
+  public boolean strictSupertypeWildcardSuper(WildcardSuperType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeWildcardSuper(WildcardSuperType)", _parameters, "");
+    boolean strictSupertypeWildcardSuper_WildcardSuperType_value = false;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeWildcardSuper(WildcardSuperType)", _parameters, strictSupertypeWildcardSuper_WildcardSuperType_value);
+    return strictSupertypeWildcardSuper_WildcardSuperType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:149
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:149")
+  public boolean strictSupertypeParClassDecl(ParClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeParClassDecl(ParClassDecl)", _parameters, "");
+    boolean strictSupertypeParClassDecl_ParClassDecl_value = strictSupertypeClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeParClassDecl(ParClassDecl)", _parameters, strictSupertypeParClassDecl_ParClassDecl_value);
+    return strictSupertypeParClassDecl_ParClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:153
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:153")
+  public boolean strictSupertypeParInterfaceDecl(ParInterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, "");
+    boolean strictSupertypeParInterfaceDecl_ParInterfaceDecl_value = strictSupertypeInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeParInterfaceDecl(ParInterfaceDecl)", _parameters, strictSupertypeParInterfaceDecl_ParInterfaceDecl_value);
+    return strictSupertypeParInterfaceDecl_ParInterfaceDecl_value;
+  }
+  /** @apilevel internal */
+  private void strictContainedIn_TypeDecl_reset() {
+    strictContainedIn_TypeDecl_values = null;
+  }
+  protected java.util.Map strictContainedIn_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:165")
+  public boolean strictContainedIn(TypeDecl type) {
+    Object _parameters = type;
+    if (strictContainedIn_TypeDecl_values == null) strictContainedIn_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (strictContainedIn_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = strictContainedIn_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.strictContainedIn(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      strictContainedIn_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_strictContainedIn_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.strictContainedIn(TypeDecl)", _parameters, "");
+        new_strictContainedIn_TypeDecl_value = strictContainedIn_compute(type);
+        state().trace().computeEnd(this, "TypeDecl.strictContainedIn(TypeDecl)", _parameters, _value.value);
+        if (new_strictContainedIn_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_strictContainedIn_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      strictContainedIn_TypeDecl_values.put(_parameters, new_strictContainedIn_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.strictContainedIn(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_strictContainedIn_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.strictContainedIn(TypeDecl)", _parameters, "");
+      boolean new_strictContainedIn_TypeDecl_value = strictContainedIn_compute(type);
+      state().trace().computeEnd(this, "TypeDecl.strictContainedIn(TypeDecl)", _parameters, _value.value);
+      if (new_strictContainedIn_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_strictContainedIn_TypeDecl_value;
+      }
+      return new_strictContainedIn_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean strictContainedIn_compute(TypeDecl type) {
+      if (type == this || type instanceof WildcardType) {
+        return true;
+      } else if (type instanceof WildcardExtendsType) {
+        return this.strictSubtype(((WildcardExtendsType) type).extendsType());
+      } else if (type instanceof WildcardSuperType) {
+        return ((WildcardSuperType) type).superType().strictSubtype(this);
+      } else if (type instanceof TypeVariable) {
+        return strictSubtype(type);
+      }
+      return sameStructure(type);
+    }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:281
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:281")
+  public boolean strictSupertypeTypeVariable(TypeVariable type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeTypeVariable(TypeVariable)", _parameters, "");
+    try {
+        if (type == this) {
+          return true;
+        }
+        for (int i = 0; i < type.getNumTypeBound(); i++) {
+          if (type.getTypeBound(i).type().strictSubtype(this)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.strictSupertypeTypeVariable(TypeVariable)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:321
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:321")
+  public boolean strictSupertypeLUBType(LUBType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeLUBType(LUBType)", _parameters, "");
+    try {
+        for (int i = 0; i < type.getNumTypeBound(); i++) {
+          if (!type.getTypeBound(i).type().strictSubtype(this)) {
+            return false;
+          }
+        }
+        return true;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.strictSupertypeLUBType(LUBType)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:342
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:342")
+  public boolean strictSupertypeGLBType(GLBType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGLBType(GLBType)", _parameters, "");
+    try {
+        // T1 && .. && Tn <: this, if exists  0 < i <= n Ti <: this
+        for (int i = 0; i < type.getNumTypeBound(); i++) {
+          if (type.getTypeBound(i).type().strictSubtype(this)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.strictSupertypeGLBType(GLBType)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void strictSubtype_TypeDecl_reset() {
+    strictSubtype_TypeDecl_values = null;
+  }
+  protected java.util.Map strictSubtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:363")
+  public boolean strictSubtype(TypeDecl type) {
+    Object _parameters = type;
+    if (strictSubtype_TypeDecl_values == null) strictSubtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (strictSubtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = strictSubtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      strictSubtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_strictSubtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+        new_strictSubtype_TypeDecl_value = type == this;
+        state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+        if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_strictSubtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      strictSubtype_TypeDecl_values.put(_parameters, new_strictSubtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_strictSubtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+      boolean new_strictSubtype_TypeDecl_value = type == this;
+      state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_strictSubtype_TypeDecl_value;
+      }
+      return new_strictSubtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:376
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:376")
+  public boolean strictSupertypeClassDecl(ClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeClassDecl(ClassDecl)", _parameters, "");
+    boolean strictSupertypeClassDecl_ClassDecl_value = type == this;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeClassDecl(ClassDecl)", _parameters, strictSupertypeClassDecl_ClassDecl_value);
+    return strictSupertypeClassDecl_ClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:395
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:395")
+  public boolean strictSupertypeInterfaceDecl(InterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeInterfaceDecl(InterfaceDecl)", _parameters, "");
+    boolean strictSupertypeInterfaceDecl_InterfaceDecl_value = type == this;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeInterfaceDecl(InterfaceDecl)", _parameters, strictSupertypeInterfaceDecl_InterfaceDecl_value);
+    return strictSupertypeInterfaceDecl_InterfaceDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:411
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:411")
+  public boolean strictSupertypeArrayDecl(ArrayDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeArrayDecl(ArrayDecl)", _parameters, "");
+    boolean strictSupertypeArrayDecl_ArrayDecl_value = this == type;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeArrayDecl(ArrayDecl)", _parameters, strictSupertypeArrayDecl_ArrayDecl_value);
+    return strictSupertypeArrayDecl_ArrayDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:442
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:442")
+  public boolean strictSupertypeClassDeclSubstituted(ClassDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeClassDeclSubstituted(ClassDeclSubstituted)", _parameters, "");
+    boolean strictSupertypeClassDeclSubstituted_ClassDeclSubstituted_value = type.original() == this || strictSupertypeClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeClassDeclSubstituted(ClassDeclSubstituted)", _parameters, strictSupertypeClassDeclSubstituted_ClassDeclSubstituted_value);
+    return strictSupertypeClassDeclSubstituted_ClassDeclSubstituted_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:453
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:453")
+  public boolean strictSupertypeInterfaceDeclSubstituted(InterfaceDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeInterfaceDeclSubstituted(InterfaceDeclSubstituted)", _parameters, "");
+    boolean strictSupertypeInterfaceDeclSubstituted_InterfaceDeclSubstituted_value = type.original() == this || strictSupertypeInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeInterfaceDeclSubstituted(InterfaceDeclSubstituted)", _parameters, strictSupertypeInterfaceDeclSubstituted_InterfaceDeclSubstituted_value);
+    return strictSupertypeInterfaceDeclSubstituted_InterfaceDeclSubstituted_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:465
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:465")
+  public boolean strictSupertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted)", _parameters, "");
+    boolean strictSupertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value = type.original() == this || strictSupertypeGenericClassDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeGenericClassDeclSubstituted(GenericClassDeclSubstituted)", _parameters, strictSupertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value);
+    return strictSupertypeGenericClassDeclSubstituted_GenericClassDeclSubstituted_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:479
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:479")
+  public boolean strictSupertypeGenericInterfaceDeclSubstituted(GenericInterfaceDeclSubstituted type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeGenericInterfaceDeclSubstituted(GenericInterfaceDeclSubstituted)", _parameters, "");
+    boolean strictSupertypeGenericInterfaceDeclSubstituted_GenericInterfaceDeclSubstituted_value = type.original() == this || strictSupertypeGenericInterfaceDecl(type);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeGenericInterfaceDeclSubstituted(GenericInterfaceDeclSubstituted)", _parameters, strictSupertypeGenericInterfaceDeclSubstituted_GenericInterfaceDeclSubstituted_value);
+    return strictSupertypeGenericInterfaceDeclSubstituted_GenericInterfaceDeclSubstituted_value;
+  }
+  /**
+   * If this type is parameterized, this returns the non-wildcard parameterization
+   * of the type according to the rules specified in JLS 8 &sect;9.9.
+   * @attribute syn
+   * @aspect LambdaParametersInference
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:573
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaParametersInference", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:573")
+  public Option<TypeDecl> nonWildcardParameterization() {
+    state().trace().computeBegin(this, "TypeDecl.nonWildcardParameterization()", "", "");
+    Option<TypeDecl> nonWildcardParameterization_value = Option.some(this);
+    state().trace().computeEnd(this, "TypeDecl.nonWildcardParameterization()", "", nonWildcardParameterization_value);
+    return nonWildcardParameterization_value;
+  }
+  /**
+   * For a wildcard type this gives the bound of the wildcard.
+   * For non-wildcard types this is just the same type.
+   * @attribute syn
+   * @aspect LambdaParametersInference
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:639
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaParametersInference", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:639")
+  public TypeDecl boundType() {
+    state().trace().computeBegin(this, "TypeDecl.boundType()", "", "");
+    TypeDecl boundType_value = this;
+    state().trace().computeEnd(this, "TypeDecl.boundType()", "", boundType_value);
+    return boundType_value;
+  }
+  /**
+   * This computes the non-wildcard parameterization type of a parameter
+   * in a generic function type according to the rules in JLS 8 &sect;9.9.
+   * @attribute syn
+   * @aspect LambdaParametersInference
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:651
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaParametersInference", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:651")
+  public TypeDecl nonWildcardParamType(TypeVariable bound) {
+    Object _parameters = bound;
+    state().trace().computeBegin(this, "TypeDecl.nonWildcardParamType(TypeVariable)", _parameters, "");
+    TypeDecl nonWildcardParamType_TypeVariable_value = this;
+    state().trace().computeEnd(this, "TypeDecl.nonWildcardParamType(TypeVariable)", _parameters, nonWildcardParamType_TypeVariable_value);
+    return nonWildcardParamType_TypeVariable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Arrays
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:56
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Arrays", declaredAt="/root/project/java4/frontend/Arrays.jrag:56")
+  public TypeDecl componentType() {
+    ASTState state = state();
+    if (componentType_computed == ASTState.NON_CYCLE || componentType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.componentType()", "", componentType_value);
+      return componentType_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.componentType()", "", "");
+    componentType_value = getParent().Define_componentType(this, null);
+    state().trace().computeEnd(this, "TypeDecl.componentType()", "", componentType_value);
+    if (state().inCircle()) {
+      componentType_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.componentType()", "", componentType_value);
+    } else {
+      componentType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.componentType()", "", componentType_value);
+    }
+    return componentType_value;
+  }
+  /** @apilevel internal */
+  private void componentType_reset() {
+    componentType_computed = null;
+    componentType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle componentType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl componentType_value;
+
+  /**
+   * @attribute inh
+   * @aspect Arrays
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:87
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Arrays", declaredAt="/root/project/java4/frontend/Arrays.jrag:87")
+  public TypeDecl typeCloneable() {
+    state().trace().computeBegin(this, "TypeDecl.typeCloneable()", "", "");
+    TypeDecl typeCloneable_value = getParent().Define_typeCloneable(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeCloneable()", "", typeCloneable_value);
+    return typeCloneable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Arrays
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Arrays", declaredAt="/root/project/java4/frontend/Arrays.jrag:89")
+  public TypeDecl typeSerializable() {
+    state().trace().computeBegin(this, "TypeDecl.typeSerializable()", "", "");
+    TypeDecl typeSerializable_value = getParent().Define_typeSerializable(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeSerializable()", "", typeSerializable_value);
+    return typeSerializable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:270
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:270")
+  public boolean assignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "TypeDecl.assignedBefore(Variable)", _parameters, "");
+    boolean assignedBefore_Variable_value = getParent().Define_assignedBefore(this, null, v);
+    state().trace().computeEnd(this, "TypeDecl.assignedBefore(Variable)", _parameters, assignedBefore_Variable_value);
+    return assignedBefore_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DefiniteUnassignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:909
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:909")
+  public boolean unassignedBefore(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "TypeDecl.unassignedBefore(Variable)", _parameters, "");
+    boolean unassignedBefore_Variable_value = getParent().Define_unassignedBefore(this, null, v);
+    state().trace().computeEnd(this, "TypeDecl.unassignedBefore(Variable)", _parameters, unassignedBefore_Variable_value);
+    return unassignedBefore_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:47")
+  public TypeDecl typeException() {
+    ASTState state = state();
+    if (typeException_computed == ASTState.NON_CYCLE || typeException_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeException()", "", typeException_value);
+      return typeException_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeException()", "", "");
+    typeException_value = getParent().Define_typeException(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeException()", "", typeException_value);
+    if (state().inCircle()) {
+      typeException_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeException()", "", typeException_value);
+    } else {
+      typeException_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeException()", "", typeException_value);
+    }
+    return typeException_value;
+  }
+  /** @apilevel internal */
+  private void typeException_reset() {
+    typeException_computed = null;
+    typeException_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeException_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeException_value;
+
+  /**
+   * @attribute inh
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:50")
+  public TypeDecl typeRuntimeException() {
+    ASTState state = state();
+    if (typeRuntimeException_computed == ASTState.NON_CYCLE || typeRuntimeException_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeRuntimeException()", "", typeRuntimeException_value);
+      return typeRuntimeException_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeRuntimeException()", "", "");
+    typeRuntimeException_value = getParent().Define_typeRuntimeException(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeRuntimeException()", "", typeRuntimeException_value);
+    if (state().inCircle()) {
+      typeRuntimeException_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeRuntimeException()", "", typeRuntimeException_value);
+    } else {
+      typeRuntimeException_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeRuntimeException()", "", typeRuntimeException_value);
+    }
+    return typeRuntimeException_value;
+  }
+  /** @apilevel internal */
+  private void typeRuntimeException_reset() {
+    typeRuntimeException_computed = null;
+    typeRuntimeException_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeRuntimeException_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeRuntimeException_value;
+
+  /**
+   * @attribute inh
+   * @aspect ExceptionHandling
+   * @declaredat /root/project/java4/frontend/ExceptionHandling.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="ExceptionHandling", declaredAt="/root/project/java4/frontend/ExceptionHandling.jrag:53")
+  public TypeDecl typeError() {
+    ASTState state = state();
+    if (typeError_computed == ASTState.NON_CYCLE || typeError_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeError()", "", typeError_value);
+      return typeError_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeError()", "", "");
+    typeError_value = getParent().Define_typeError(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeError()", "", typeError_value);
+    if (state().inCircle()) {
+      typeError_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeError()", "", typeError_value);
+    } else {
+      typeError_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeError()", "", typeError_value);
+    }
+    return typeError_value;
+  }
+  /** @apilevel internal */
+  private void typeError_reset() {
+    typeError_computed = null;
+    typeError_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeError_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeError_value;
+
+  /**
+   * Find all visible methods with the given name in the local scope.
+   * @attribute inh
+   * @aspect LookupMethod
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:126
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupMethod", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:126")
+  public Collection<MethodDecl> lookupMethod(String name) {
+    Object _parameters = name;
+    if (lookupMethod_String_computed == null) lookupMethod_String_computed = new java.util.HashMap(4);
+    if (lookupMethod_String_values == null) lookupMethod_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupMethod_String_values.containsKey(_parameters) && lookupMethod_String_computed != null
+        && lookupMethod_String_computed.containsKey(_parameters)
+        && (lookupMethod_String_computed.get(_parameters) == ASTState.NON_CYCLE || lookupMethod_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.lookupMethod(String)", _parameters, lookupMethod_String_values.get(_parameters));
+      return (Collection<MethodDecl>) lookupMethod_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.lookupMethod(String)", _parameters, "");
+    Collection<MethodDecl> lookupMethod_String_value = getParent().Define_lookupMethod(this, null, name);
+    state().trace().computeEnd(this, "TypeDecl.lookupMethod(String)", _parameters, lookupMethod_String_value);
+    if (state().inCircle()) {
+      lookupMethod_String_values.put(_parameters, lookupMethod_String_value);
+      lookupMethod_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.lookupMethod(String)", _parameters, lookupMethod_String_value);
+    } else {
+      lookupMethod_String_values.put(_parameters, lookupMethod_String_value);
+      lookupMethod_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.lookupMethod(String)", _parameters, lookupMethod_String_value);
+    }
+    return lookupMethod_String_value;
+  }
+  /** @apilevel internal */
+  private void lookupMethod_String_reset() {
+    lookupMethod_String_computed = new java.util.HashMap(4);
+    lookupMethod_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupMethod_String_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupMethod_String_computed;
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:94
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:94")
+  public TypeDecl typeInt() {
+    state().trace().computeBegin(this, "TypeDecl.typeInt()", "", "");
+    TypeDecl typeInt_value = getParent().Define_typeInt(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeInt()", "", typeInt_value);
+    return typeInt_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect SpecialClasses
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:97
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="SpecialClasses", declaredAt="/root/project/java4/frontend/LookupType.jrag:97")
+  public TypeDecl typeObject() {
+    ASTState state = state();
+    if (typeObject_computed == ASTState.NON_CYCLE || typeObject_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeObject()", "", typeObject_value);
+      return typeObject_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeObject()", "", "");
+    typeObject_value = getParent().Define_typeObject(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeObject()", "", typeObject_value);
+    if (state().inCircle()) {
+      typeObject_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeObject()", "", typeObject_value);
+    } else {
+      typeObject_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeObject()", "", typeObject_value);
+    }
+    return typeObject_value;
+  }
+  /** @apilevel internal */
+  private void typeObject_reset() {
+    typeObject_computed = null;
+    typeObject_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeObject_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl typeObject_value;
+
+  /**
+   * @attribute inh
+   * @aspect LookupFullyQualifiedTypes
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:133
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupFullyQualifiedTypes", declaredAt="/root/project/java4/frontend/LookupType.jrag:133")
+  public TypeDecl lookupType(String packageName, String typeName) {
+    Object _parameters = java.util.Arrays.asList(packageName, typeName);
+    state().trace().computeBegin(this, "TypeDecl.lookupType(String,String)", _parameters, "");
+    TypeDecl lookupType_String_String_value = getParent().Define_lookupType(this, null, packageName, typeName);
+    state().trace().computeEnd(this, "TypeDecl.lookupType(String,String)", _parameters, lookupType_String_String_value);
+    return lookupType_String_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupType.jrag:469
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeScopePropagation", declaredAt="/root/project/java4/frontend/LookupType.jrag:469")
+  public SimpleSet<TypeDecl> lookupType(String name) {
+    Object _parameters = name;
+    if (lookupType_String_computed == null) lookupType_String_computed = new java.util.HashMap(4);
+    if (lookupType_String_values == null) lookupType_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupType_String_values.containsKey(_parameters) && lookupType_String_computed != null
+        && lookupType_String_computed.containsKey(_parameters)
+        && (lookupType_String_computed.get(_parameters) == ASTState.NON_CYCLE || lookupType_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.lookupType(String)", _parameters, lookupType_String_values.get(_parameters));
+      return (SimpleSet<TypeDecl>) lookupType_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.lookupType(String)", _parameters, "");
+    SimpleSet<TypeDecl> lookupType_String_value = getParent().Define_lookupType(this, null, name);
+    state().trace().computeEnd(this, "TypeDecl.lookupType(String)", _parameters, lookupType_String_value);
+    if (state().inCircle()) {
+      lookupType_String_values.put(_parameters, lookupType_String_value);
+      lookupType_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.lookupType(String)", _parameters, lookupType_String_value);
+    } else {
+      lookupType_String_values.put(_parameters, lookupType_String_value);
+      lookupType_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.lookupType(String)", _parameters, lookupType_String_value);
+    }
+    return lookupType_String_value;
+  }
+  /** @apilevel internal */
+  private void lookupType_String_reset() {
+    lookupType_String_computed = new java.util.HashMap(4);
+    lookupType_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupType_String_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupType_String_computed;
+  /**
+   * Finds the variables in the current scope with the given name.
+   * @attribute inh
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:38")
+  public SimpleSet<Variable> lookupVariable(String name) {
+    Object _parameters = name;
+    if (lookupVariable_String_computed == null) lookupVariable_String_computed = new java.util.HashMap(4);
+    if (lookupVariable_String_values == null) lookupVariable_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (lookupVariable_String_values.containsKey(_parameters) && lookupVariable_String_computed != null
+        && lookupVariable_String_computed.containsKey(_parameters)
+        && (lookupVariable_String_computed.get(_parameters) == ASTState.NON_CYCLE || lookupVariable_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.lookupVariable(String)", _parameters, lookupVariable_String_values.get(_parameters));
+      return (SimpleSet<Variable>) lookupVariable_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.lookupVariable(String)", _parameters, "");
+    SimpleSet<Variable> lookupVariable_String_value = getParent().Define_lookupVariable(this, null, name);
+    state().trace().computeEnd(this, "TypeDecl.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    if (state().inCircle()) {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    } else {
+      lookupVariable_String_values.put(_parameters, lookupVariable_String_value);
+      lookupVariable_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.lookupVariable(String)", _parameters, lookupVariable_String_value);
+    }
+    return lookupVariable_String_value;
+  }
+  /** @apilevel internal */
+  private void lookupVariable_String_reset() {
+    lookupVariable_String_computed = new java.util.HashMap(4);
+    lookupVariable_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_values;
+  /** @apilevel internal */
+  protected java.util.Map lookupVariable_String_computed;
+  /**
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:366
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:366")
+  public boolean hasPackage(String packageName) {
+    Object _parameters = packageName;
+    state().trace().computeBegin(this, "TypeDecl.hasPackage(String)", _parameters, "");
+    boolean hasPackage_String_value = getParent().Define_hasPackage(this, null, packageName);
+    state().trace().computeEnd(this, "TypeDecl.hasPackage(String)", _parameters, hasPackage_String_value);
+    return hasPackage_String_value;
+  }
+  /**
+   * @return the directly enclosing member declaration, or {@code null} if there is none.
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:373
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:373")
+  public BodyDecl enclosingMemberDecl() {
+    state().trace().computeBegin(this, "TypeDecl.enclosingMemberDecl()", "", "");
+    BodyDecl enclosingMemberDecl_value = getParent().Define_enclosingMemberDecl(this, null);
+    state().trace().computeEnd(this, "TypeDecl.enclosingMemberDecl()", "", enclosingMemberDecl_value);
+    return enclosingMemberDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeName
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:113
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeName", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:113")
+  public String packageName() {
+    ASTState state = state();
+    if (packageName_computed == ASTState.NON_CYCLE || packageName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.packageName()", "", packageName_value);
+      return packageName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.packageName()", "", "");
+    packageName_value = getParent().Define_packageName(this, null);
+    state().trace().computeEnd(this, "TypeDecl.packageName()", "", packageName_value);
+    if (state().inCircle()) {
+      packageName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.packageName()", "", packageName_value);
+    } else {
+      packageName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.packageName()", "", packageName_value);
+    }
+    return packageName_value;
+  }
+  /** @apilevel internal */
+  private void packageName_reset() {
+    packageName_computed = null;
+    packageName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle packageName_computed = null;
+
+  /** @apilevel internal */
+  protected String packageName_value;
+
+  /**
+   * @attribute inh
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:231
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:231")
+  public boolean isAnonymous() {
+    ASTState state = state();
+    if (isAnonymous_computed == ASTState.NON_CYCLE || isAnonymous_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.isAnonymous()", "", isAnonymous_value);
+      return isAnonymous_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.isAnonymous()", "", "");
+    isAnonymous_value = getParent().Define_isAnonymous(this, null);
+    state().trace().computeEnd(this, "TypeDecl.isAnonymous()", "", isAnonymous_value);
+    if (state().inCircle()) {
+      isAnonymous_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.isAnonymous()", "", isAnonymous_value);
+    } else {
+      isAnonymous_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.isAnonymous()", "", isAnonymous_value);
+    }
+    return isAnonymous_value;
+  }
+  /** @apilevel internal */
+  private void isAnonymous_reset() {
+    isAnonymous_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isAnonymous_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isAnonymous_value;
+
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:594
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:594")
+  public TypeDecl enclosingType() {
+    state().trace().computeBegin(this, "TypeDecl.enclosingType()", "", "");
+    TypeDecl enclosingType_value = getParent().Define_enclosingType(this, null);
+    state().trace().computeEnd(this, "TypeDecl.enclosingType()", "", enclosingType_value);
+    return enclosingType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:612
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:612")
+  public BodyDecl enclosingBodyDecl() {
+    state().trace().computeBegin(this, "TypeDecl.enclosingBodyDecl()", "", "");
+    BodyDecl enclosingBodyDecl_value = getParent().Define_enclosingBodyDecl(this, null);
+    state().trace().computeEnd(this, "TypeDecl.enclosingBodyDecl()", "", enclosingBodyDecl_value);
+    return enclosingBodyDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:619
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:619")
+  public boolean isNestedType() {
+    state().trace().computeBegin(this, "TypeDecl.isNestedType()", "", "");
+    boolean isNestedType_value = getParent().Define_isNestedType(this, null);
+    state().trace().computeEnd(this, "TypeDecl.isNestedType()", "", isNestedType_value);
+    return isNestedType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:627
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:627")
+  public boolean isMemberType() {
+    state().trace().computeBegin(this, "TypeDecl.isMemberType()", "", "");
+    boolean isMemberType_value = getParent().Define_isMemberType(this, null);
+    state().trace().computeEnd(this, "TypeDecl.isMemberType()", "", isMemberType_value);
+    return isMemberType_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:645
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:645")
+  public boolean isLocalClass() {
+    state().trace().computeBegin(this, "TypeDecl.isLocalClass()", "", "");
+    boolean isLocalClass_value = getParent().Define_isLocalClass(this, null);
+    state().trace().computeEnd(this, "TypeDecl.isLocalClass()", "", isLocalClass_value);
+    return isLocalClass_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:677
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:677")
+  public String hostPackage() {
+    state().trace().computeBegin(this, "TypeDecl.hostPackage()", "", "");
+    String hostPackage_value = getParent().Define_hostPackage(this, null);
+    state().trace().computeEnd(this, "TypeDecl.hostPackage()", "", hostPackage_value);
+    return hostPackage_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Circularity
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:758
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Circularity", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:758")
+  public TypeDecl unknownType() {
+    ASTState state = state();
+    if (unknownType_computed == ASTState.NON_CYCLE || unknownType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.unknownType()", "", unknownType_value);
+      return unknownType_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.unknownType()", "", "");
+    unknownType_value = getParent().Define_unknownType(this, null);
+    state().trace().computeEnd(this, "TypeDecl.unknownType()", "", unknownType_value);
+    if (state().inCircle()) {
+      unknownType_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.unknownType()", "", unknownType_value);
+    } else {
+      unknownType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.unknownType()", "", unknownType_value);
+    }
+    return unknownType_value;
+  }
+  /** @apilevel internal */
+  private void unknownType_reset() {
+    unknownType_computed = null;
+    unknownType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle unknownType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl unknownType_value;
+
+  /**
+   * @attribute inh
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:536
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:536")
+  public TypeDecl typeVoid() {
+    state().trace().computeBegin(this, "TypeDecl.typeVoid()", "", "");
+    TypeDecl typeVoid_value = getParent().Define_typeVoid(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeVoid()", "", typeVoid_value);
+    return typeVoid_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:672
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:672")
+  public TypeDecl enclosingInstance() {
+    state().trace().computeBegin(this, "TypeDecl.enclosingInstance()", "", "");
+    TypeDecl enclosingInstance_value = getParent().Define_enclosingInstance(this, null);
+    state().trace().computeEnd(this, "TypeDecl.enclosingInstance()", "", enclosingInstance_value);
+    return enclosingInstance_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:204
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:204")
+  public boolean inExplicitConstructorInvocation() {
+    ASTState state = state();
+    if (inExplicitConstructorInvocation_computed == ASTState.NON_CYCLE || inExplicitConstructorInvocation_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.inExplicitConstructorInvocation()", "", inExplicitConstructorInvocation_value);
+      return inExplicitConstructorInvocation_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.inExplicitConstructorInvocation()", "", "");
+    inExplicitConstructorInvocation_value = getParent().Define_inExplicitConstructorInvocation(this, null);
+    state().trace().computeEnd(this, "TypeDecl.inExplicitConstructorInvocation()", "", inExplicitConstructorInvocation_value);
+    if (state().inCircle()) {
+      inExplicitConstructorInvocation_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.inExplicitConstructorInvocation()", "", inExplicitConstructorInvocation_value);
+    } else {
+      inExplicitConstructorInvocation_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.inExplicitConstructorInvocation()", "", inExplicitConstructorInvocation_value);
+    }
+    return inExplicitConstructorInvocation_value;
+  }
+  /** @apilevel internal */
+  private void inExplicitConstructorInvocation_reset() {
+    inExplicitConstructorInvocation_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle inExplicitConstructorInvocation_computed = null;
+
+  /** @apilevel internal */
+  protected boolean inExplicitConstructorInvocation_value;
+
+  /**
+   * @attribute inh
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:224
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:224")
+  public boolean inStaticContext() {
+    ASTState state = state();
+    if (inStaticContext_computed == ASTState.NON_CYCLE || inStaticContext_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.inStaticContext()", "", inStaticContext_value);
+      return inStaticContext_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.inStaticContext()", "", "");
+    inStaticContext_value = getParent().Define_inStaticContext(this, null);
+    state().trace().computeEnd(this, "TypeDecl.inStaticContext()", "", inStaticContext_value);
+    if (state().inCircle()) {
+      inStaticContext_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.inStaticContext()", "", inStaticContext_value);
+    } else {
+      inStaticContext_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.inStaticContext()", "", inStaticContext_value);
+    }
+    return inStaticContext_value;
+  }
+  /** @apilevel internal */
+  private void inStaticContext_reset() {
+    inStaticContext_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle inStaticContext_computed = null;
+
+  /** @apilevel internal */
+  protected boolean inStaticContext_value;
+
+  /**
+   * Finds the directly enclosing class instance expression, i.e. the expression
+   * defining this type. Throws an error if this type is not defined by a class instance
+   * expression.
+   * @attribute inh
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:431
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:431")
+  public ClassInstanceExpr classInstanceExpression() {
+    state().trace().computeBegin(this, "TypeDecl.classInstanceExpression()", "", "");
+    ClassInstanceExpr classInstanceExpression_value = getParent().Define_classInstanceExpression(this, null);
+    state().trace().computeEnd(this, "TypeDecl.classInstanceExpression()", "", classInstanceExpression_value);
+    return classInstanceExpression_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:420
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:420")
+  public boolean withinSuppressWarnings(String annot) {
+    Object _parameters = annot;
+    state().trace().computeBegin(this, "TypeDecl.withinSuppressWarnings(String)", _parameters, "");
+    boolean withinSuppressWarnings_String_value = getParent().Define_withinSuppressWarnings(this, null, annot);
+    state().trace().computeEnd(this, "TypeDecl.withinSuppressWarnings(String)", _parameters, withinSuppressWarnings_String_value);
+    return withinSuppressWarnings_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect Annotations
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:550
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Annotations", declaredAt="/root/project/java5/frontend/Annotations.jrag:550")
+  public boolean withinDeprecatedAnnotation() {
+    state().trace().computeBegin(this, "TypeDecl.withinDeprecatedAnnotation()", "", "");
+    boolean withinDeprecatedAnnotation_value = getParent().Define_withinDeprecatedAnnotation(this, null);
+    state().trace().computeEnd(this, "TypeDecl.withinDeprecatedAnnotation()", "", withinDeprecatedAnnotation_value);
+    return withinDeprecatedAnnotation_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1769
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1769")
+  public TypeDecl typeWildcard() {
+    state().trace().computeBegin(this, "TypeDecl.typeWildcard()", "", "");
+    TypeDecl typeWildcard_value = getParent().Define_typeWildcard(this, null);
+    state().trace().computeEnd(this, "TypeDecl.typeWildcard()", "", typeWildcard_value);
+    return typeWildcard_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1783
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1783")
+  public TypeDecl lookupWildcardExtends(TypeDecl typeDecl) {
+    Object _parameters = typeDecl;
+    state().trace().computeBegin(this, "TypeDecl.lookupWildcardExtends(TypeDecl)", _parameters, "");
+    TypeDecl lookupWildcardExtends_TypeDecl_value = getParent().Define_lookupWildcardExtends(this, null, typeDecl);
+    state().trace().computeEnd(this, "TypeDecl.lookupWildcardExtends(TypeDecl)", _parameters, lookupWildcardExtends_TypeDecl_value);
+    return lookupWildcardExtends_TypeDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1797
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1797")
+  public TypeDecl lookupWildcardSuper(TypeDecl typeDecl) {
+    Object _parameters = typeDecl;
+    state().trace().computeBegin(this, "TypeDecl.lookupWildcardSuper(TypeDecl)", _parameters, "");
+    TypeDecl lookupWildcardSuper_TypeDecl_value = getParent().Define_lookupWildcardSuper(this, null, typeDecl);
+    state().trace().computeEnd(this, "TypeDecl.lookupWildcardSuper(TypeDecl)", _parameters, lookupWildcardSuper_TypeDecl_value);
+    return lookupWildcardSuper_TypeDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1820
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1820")
+  public LUBType lookupLUBType(Collection<TypeDecl> bounds) {
+    Object _parameters = bounds;
+    state().trace().computeBegin(this, "TypeDecl.lookupLUBType(Collection_TypeDecl_)", _parameters, "");
+    LUBType lookupLUBType_Collection_TypeDecl__value = getParent().Define_lookupLUBType(this, null, bounds);
+    state().trace().computeEnd(this, "TypeDecl.lookupLUBType(Collection_TypeDecl_)", _parameters, lookupLUBType_Collection_TypeDecl__value);
+    return lookupLUBType_Collection_TypeDecl__value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1861
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1861")
+  public GLBType lookupGLBType(Collection<TypeDecl> bounds) {
+    Object _parameters = bounds;
+    state().trace().computeBegin(this, "TypeDecl.lookupGLBType(Collection_TypeDecl_)", _parameters, "");
+    GLBType lookupGLBType_Collection_TypeDecl__value = getParent().Define_lookupGLBType(this, null, bounds);
+    state().trace().computeEnd(this, "TypeDecl.lookupGLBType(Collection_TypeDecl_)", _parameters, lookupGLBType_Collection_TypeDecl__value);
+    return lookupGLBType_Collection_TypeDecl__value;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Arrays.jrag:56
+   * @apilevel internal
+   */
+  public TypeDecl Define_componentType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == arrayType_value) {
+      // @declaredat /root/project/java4/frontend/Arrays.jrag:54
+      return this;
+    }
+    else {
+      return getParent().Define_componentType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_componentType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:58
+   * @apilevel internal
+   */
+  public boolean Define_declaredBefore(ASTNode _callerNode, ASTNode _childNode, Variable decl) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:71
+      int index = _callerNode.getIndexOfChild(_childNode);
+      return index == 0 ? declaredBefore(decl) : getBodyDecl(index - 1).declaredIn(decl);
+    }
+    else {
+      return getParent().Define_declaredBefore(this, _callerNode, decl);
+    }
+  }
+  protected boolean canDefine_declaredBefore(ASTNode _callerNode, ASTNode _childNode, Variable decl) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:34
+   * @apilevel internal
+   */
+  public boolean Define_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isDest(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:44
+   * @apilevel internal
+   */
+  public boolean Define_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return true;
+  }
+  protected boolean canDefine_isSource(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:280
+   * @apilevel internal
+   */
+  public boolean Define_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v, BodyDecl b) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        if (!v.isField()) {
+          if (v.hostType() != this) {
+            return assignedBefore(v);
+          }
+          return false;
+        }
+        if (b instanceof FieldDecl && !((FieldDecl) b).isStatic() && v.isClassVariable()) {
+          return true;
+        }
+        if (b instanceof MemberTypeDecl && v.isBlank() && v.isFinal() && v.hostType() == this) {
+          return true;
+        }
+        if (v.isField()) {
+          if (v.isFinal() && v.hostType() != this && subtype(v.hostType())) {
+            return true;
+          }
+          boolean skip = !(b instanceof ConstructorDecl);
+          for (int i = getNumBodyDecl() - 1; i >= 0; --i) {
+            BodyDecl decl = getBodyDecl(i);
+            if (skip && b == decl) {
+              skip = false;
+            } else if (!skip) {
+              if (decl instanceof FieldDecl) {
+                FieldDecl f = (FieldDecl) decl;
+                if ((v.isClassVariable() && f.isStatic())
+                    || (v.isInstanceVariable() && !f.isStatic())) {
+                  return f.assignedAfter(v);
+                }
+              } else if (decl instanceof StaticInitializer && v.isClassVariable()) {
+                StaticInitializer si = (StaticInitializer) decl;
+                return si.assignedAfter(v);
+              } else if (decl instanceof InstanceInitializer && v.isInstanceVariable()) {
+                InstanceInitializer ii = (InstanceInitializer) decl;
+                return ii.assignedAfter(v);
+              }
+            }
+          }
+        }
+        return assignedBefore(v);
+      }
+  }
+  protected boolean canDefine_assignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v, BodyDecl b) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:923
+   * @apilevel internal
+   */
+  public boolean Define_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v, BodyDecl b) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    {
+        if (v.isField()) {
+          boolean skip = !(b instanceof ConstructorDecl);
+          for (int i = getNumBodyDecl() - 1; i >= 0; --i) {
+            BodyDecl decl = getBodyDecl(i);
+            if (skip && b == decl) {
+              skip = false;
+            } else if (!skip) {
+              if (decl instanceof FieldDecl) {
+                FieldDecl f = (FieldDecl) decl;
+                if ((v.isClassVariable() && f.isStatic())
+                    || (v.isInstanceVariable() && !f.isStatic())) {
+                  return f.unassignedAfter(v);
+                }
+              } else if (decl instanceof StaticInitializer && v.isClassVariable()) {
+                StaticInitializer si = (StaticInitializer) decl;
+                return si.unassignedAfter(v);
+              } else if (decl instanceof InstanceInitializer && v.isInstanceVariable()) {
+                InstanceInitializer ii = (InstanceInitializer) decl;
+                return ii.unassignedAfter(v);
+              }
+            }
+          }
+        }
+        return unassignedBefore(v);
+      }
+  }
+  protected boolean canDefine_unassignedBefore(ASTNode _callerNode, ASTNode _childNode, Variable v, BodyDecl b) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:35
+   * @apilevel internal
+   */
+  public Collection<ConstructorDecl> Define_lookupConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return constructors();
+  }
+  protected boolean canDefine_lookupConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupConstructor.jrag:43
+   * @apilevel internal
+   */
+  public Collection<ConstructorDecl> Define_lookupSuperConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return lookupSuperConstructor();
+  }
+  protected boolean canDefine_lookupSuperConstructor(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:116
+   * @apilevel internal
+   */
+  public Collection<MethodDecl> Define_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupMethod.jrag:139
+      int i = _callerNode.getIndexOfChild(_childNode);
+      return unqualifiedLookupMethod(name);
+    }
+    else {
+      return getParent().Define_lookupMethod(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupMethod(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/GenericMethods.jrag:231
+   * @apilevel internal
+   */
+  public SimpleSet<TypeDecl> Define_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupType.jrag:609
+      int index = _callerNode.getIndexOfChild(_childNode);
+      return localLookupType(name);
+    }
+    else {
+      return getParent().Define_lookupType(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupType(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:51
+      int i = _callerNode.getIndexOfChild(_childNode);
+      {
+          SimpleSet<Variable> list = memberFields(name);
+          if (!list.isEmpty()) {
+            return list;
+          }
+          list = lookupVariable(name);
+          if (inStaticContext() || isStatic()) {
+            list = removeInstanceVariables(list);
+          }
+          return list;
+        }
+    }
+    else {
+      return getParent().Define_lookupVariable(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:430
+   * @apilevel internal
+   */
+  public boolean Define_mayBePublic(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:352
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:301
+      return true;
+    }
+    else {
+      return getParent().Define_mayBePublic(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBePublic(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:432
+   * @apilevel internal
+   */
+  public boolean Define_mayBeProtected(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:353
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:302
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeProtected(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeProtected(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:431
+   * @apilevel internal
+   */
+  public boolean Define_mayBePrivate(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:354
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:303
+      return true;
+    }
+    else {
+      return getParent().Define_mayBePrivate(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBePrivate(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:435
+   * @apilevel internal
+   */
+  public boolean Define_mayBeAbstract(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:357
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:304
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeAbstract(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeAbstract(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:433
+   * @apilevel internal
+   */
+  public boolean Define_mayBeStatic(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:355
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:305
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeStatic(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeStatic(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:438
+   * @apilevel internal
+   */
+  public boolean Define_mayBeStrictfp(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:360
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:306
+      return true;
+    }
+    else {
+      return getParent().Define_mayBeStrictfp(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeStrictfp(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:434
+   * @apilevel internal
+   */
+  public boolean Define_mayBeFinal(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:356
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_mayBeFinal(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeFinal(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:436
+   * @apilevel internal
+   */
+  public boolean Define_mayBeVolatile(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:358
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_mayBeVolatile(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeVolatile(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:437
+   * @apilevel internal
+   */
+  public boolean Define_mayBeTransient(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:359
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_mayBeTransient(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeTransient(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:439
+   * @apilevel internal
+   */
+  public boolean Define_mayBeSynchronized(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:361
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_mayBeSynchronized(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeSynchronized(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/Modifiers.jrag:440
+   * @apilevel internal
+   */
+  public boolean Define_mayBeNative(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/Modifiers.jrag:362
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_mayBeNative(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_mayBeNative(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java8/frontend/NameCheck.jrag:31
+   * @apilevel internal
+   */
+  public VariableScope Define_outerScope(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return this;
+  }
+  protected boolean canDefine_outerScope(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:525
+   * @apilevel internal
+   */
+  public boolean Define_insideLoop(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/NameCheck.jrag:528
+      int i = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_insideLoop(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_insideLoop(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:533
+   * @apilevel internal
+   */
+  public boolean Define_insideSwitch(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/NameCheck.jrag:535
+      int i = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_insideSwitch(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_insideSwitch(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:86
+   * @apilevel internal
+   */
+  public boolean Define_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isLeftChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:101
+   * @apilevel internal
+   */
+  public boolean Define_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isRightChildOfDot(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:118
+   * @apilevel internal
+   */
+  public Expr Define_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return prevExprError();
+  }
+  protected boolean canDefine_prevExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:142
+   * @apilevel internal
+   */
+  public Access Define_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return nextAccessError();
+  }
+  protected boolean canDefine_nextAccess(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:541
+   * @apilevel internal
+   */
+  public boolean Define_canResolve(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return true;
+  }
+  protected boolean canDefine_canResolve(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:137
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return NameType.EXPRESSION_NAME;
+    }
+    else {
+      return getParent().Define_nameType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:231
+   * @apilevel internal
+   */
+  public boolean Define_isAnonymous(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_isAnonymous(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:594
+   * @apilevel internal
+   */
+  public TypeDecl Define_enclosingType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:582
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return this;
+    }
+    else {
+      return getParent().Define_enclosingType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_enclosingType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:619
+   * @apilevel internal
+   */
+  public boolean Define_isNestedType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:621
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return true;
+    }
+    else {
+      return getParent().Define_isNestedType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isNestedType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:645
+   * @apilevel internal
+   */
+  public boolean Define_isLocalClass(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:649
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return false;
+    }
+    else {
+      return getParent().Define_isLocalClass(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_isLocalClass(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/MultiCatch.jrag:76
+   * @apilevel internal
+   */
+  public TypeDecl Define_hostType(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return this;
+  }
+  protected boolean canDefine_hostType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:537
+   * @apilevel internal
+   */
+  public TypeDecl Define_returnType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeCheck.jrag:538
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return typeVoid();
+    }
+    else {
+      return getParent().Define_returnType(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_returnType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:672
+   * @apilevel internal
+   */
+  public TypeDecl Define_enclosingInstance(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java4/frontend/TypeCheck.jrag:678
+      int index = _callerNode.getIndexOfChild(_childNode);
+      {
+          if (getBodyDecl(index) instanceof MemberTypeDecl
+              && !((MemberTypeDecl) getBodyDecl(index)).typeDecl().isInnerType()) {
+            return null;
+          }
+          if (getBodyDecl(index) instanceof ConstructorDecl) {
+            return enclosingInstance();
+          }
+          return this;
+        }
+    }
+    else {
+      return getParent().Define_enclosingInstance(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_enclosingInstance(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:33
+   * @apilevel internal
+   */
+  public String Define_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return typeName();
+  }
+  protected boolean canDefine_methodHost(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:223
+   * @apilevel internal
+   */
+  public boolean Define_inStaticContext(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return isStatic() || inStaticContext();
+  }
+  protected boolean canDefine_inStaticContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:280
+   * @apilevel internal
+   */
+  public boolean Define_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return true;
+  }
+  protected boolean canDefine_reportUnreachable(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:95
+   * @apilevel internal
+   */
+  public boolean Define_inComplexAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inComplexAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:131
+   * @apilevel internal
+   */
+  public boolean Define_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (getModifiersNoTransform() != null && _callerNode == getModifiers()) {
+      // @declaredat /root/project/java5/frontend/Annotations.jrag:138
+      return name.equals("TYPE");
+    }
+    else {
+      return getParent().Define_mayUseAnnotationTarget(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_mayUseAnnotationTarget(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Annotations.jrag:533
+   * @apilevel internal
+   */
+  public boolean Define_withinDeprecatedAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBodyDeclListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/Annotations.jrag:547
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return isDeprecated() || withinDeprecatedAnnotation();
+    }
+    else {
+      return getParent().Define_withinDeprecatedAnnotation(this, _callerNode);
+    }
+  }
+  protected boolean canDefine_withinDeprecatedAnnotation(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Enums.jrag:563
+   * @apilevel internal
+   */
+  public boolean Define_inEnumInitializer(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return false;
+  }
+  protected boolean canDefine_inEnumInitializer(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java5/frontend/Generics.jrag:852
+   * @apilevel internal
+   */
+  public String Define_typeVariableContext(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return fullName();
+  }
+  protected boolean canDefine_typeVariableContext(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /**
+   * @declaredat /root/project/java7/frontend/Diamond.jrag:99
+   * @apilevel internal
+   */
+  public ClassInstanceExpr Define_getClassInstanceExpr(ASTNode _callerNode, ASTNode _childNode) {
+    int childIndex = this.getIndexOfChild(_callerNode);
+    return null;
+  }
+  protected boolean canDefine_getClassInstanceExpr(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  /**
+   * A collection of accessor methods and constructors that should be generated
+   * in this type declaration. Accessors are used by inner classes to
+   * read/write/call protected or private fields/methods/constructors in this
+   * type or its supertypes.
+   * 
+   * <p>The accessors are kept in the order in which they are found in the
+   * tree, so that the generated class file does not depend on hash codes.
+   * @attribute coll
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:378
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.COLL)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:378")
+  public LinkedHashSet<BodyDecl> accessors() {
+    ASTState state = state();
+    if (TypeDecl_accessors_computed == ASTState.NON_CYCLE || TypeDecl_accessors_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.accessors()", "", TypeDecl_accessors_value);
+      return TypeDecl_accessors_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.accessors()", "", "");
+    TypeDecl_accessors_value = accessors_compute();
+    state().trace().computeEnd(this, "TypeDecl.accessors()", "", TypeDecl_accessors_value);
+    if (state().inCircle()) {
+      TypeDecl_accessors_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.accessors()", "", TypeDecl_accessors_value);
+    } else {
+      TypeDecl_accessors_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.accessors()", "", TypeDecl_accessors_value);
+    }
+    return TypeDecl_accessors_value;
+  }
+  /** @apilevel internal */
+  private LinkedHashSet<BodyDecl> accessors_compute() {
+    ASTNode node = this;
+    while (node != null && !(node instanceof CompilationUnit)) {
+      node = node.getParent();
+    }
+    CompilationUnit root = (CompilationUnit) node;
+    root.survey_TypeDecl_accessors();
+    LinkedHashSet<BodyDecl> _computedValue = new LinkedHashSet<BodyDecl>();
+    if (root.contributorMap_TypeDecl_accessors.containsKey(this)) {
+      for (ASTNode contributor : root.contributorMap_TypeDecl_accessors.get(this)) {
+        contributor.contributeTo_TypeDecl_accessors(_computedValue);
+      }
+    }
+    return _computedValue;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle TypeDecl_accessors_computed = null;
+
+  /** @apilevel internal */
+  protected LinkedHashSet<BodyDecl> TypeDecl_accessors_value;
+
+  /** The set of nested types that has this TypeDecl as their directly enclosing type. 
+   * @attribute coll
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:149
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.COLL)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:149")
+  public LinkedList<TypeDecl> nestedTypes() {
+    ASTState state = state();
+    if (TypeDecl_nestedTypes_computed == ASTState.NON_CYCLE || TypeDecl_nestedTypes_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.nestedTypes()", "", TypeDecl_nestedTypes_value);
+      return TypeDecl_nestedTypes_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.nestedTypes()", "", "");
+    TypeDecl_nestedTypes_value = nestedTypes_compute();
+    state().trace().computeEnd(this, "TypeDecl.nestedTypes()", "", TypeDecl_nestedTypes_value);
+    if (state().inCircle()) {
+      TypeDecl_nestedTypes_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.nestedTypes()", "", TypeDecl_nestedTypes_value);
+    } else {
+      TypeDecl_nestedTypes_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.nestedTypes()", "", TypeDecl_nestedTypes_value);
+    }
+    return TypeDecl_nestedTypes_value;
+  }
+  /** @apilevel internal */
+  private LinkedList<TypeDecl> nestedTypes_compute() {
+    ASTNode node = this;
+    while (node != null && !(node instanceof CompilationUnit)) {
+      node = node.getParent();
+    }
+    CompilationUnit root = (CompilationUnit) node;
+    root.survey_TypeDecl_nestedTypes();
+    LinkedList<TypeDecl> _computedValue = new LinkedList<TypeDecl>();
+    if (root.contributorMap_TypeDecl_nestedTypes.containsKey(this)) {
+      for (ASTNode contributor : root.contributorMap_TypeDecl_nestedTypes.get(this)) {
+        contributor.contributeTo_TypeDecl_nestedTypes(_computedValue);
+      }
+    }
+    return _computedValue;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle TypeDecl_nestedTypes_computed = null;
+
+  /** @apilevel internal */
+  protected LinkedList<TypeDecl> TypeDecl_nestedTypes_value;
+
+  /** Collects the switch statements in this type which use an enum expression. 
+   * @attribute coll
+   * @aspect EnumsCodegen
+   * @declaredat /root/project/java5/backend/EnumsCodegen.jrag:130
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.COLL)
+  @ASTNodeAnnotation.Source(aspect="EnumsCodegen", declaredAt="/root/project/java5/backend/EnumsCodegen.jrag:130")
+  public LinkedList<SwitchStmt> enumSwitchStatements() {
+    ASTState state = state();
+    if (TypeDecl_enumSwitchStatements_computed == ASTState.NON_CYCLE || TypeDecl_enumSwitchStatements_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.enumSwitchStatements()", "", TypeDecl_enumSwitchStatements_value);
+      return TypeDecl_enumSwitchStatements_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.enumSwitchStatements()", "", "");
+    TypeDecl_enumSwitchStatements_value = enumSwitchStatements_compute();
+    state().trace().computeEnd(this, "TypeDecl.enumSwitchStatements()", "", TypeDecl_enumSwitchStatements_value);
+    if (state().inCircle()) {
+      TypeDecl_enumSwitchStatements_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.enumSwitchStatements()", "", TypeDecl_enumSwitchStatements_value);
+    } else {
+      TypeDecl_enumSwitchStatements_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.enumSwitchStatements()", "", TypeDecl_enumSwitchStatements_value);
+    }
+    return TypeDecl_enumSwitchStatements_value;
+  }
+  /** @apilevel internal */
+  private LinkedList<SwitchStmt> enumSwitchStatements_compute() {
+    ASTNode node = this;
+    while (node != null && !(node instanceof CompilationUnit)) {
+      node = node.getParent();
+    }
+    CompilationUnit root = (CompilationUnit) node;
+    root.survey_TypeDecl_enumSwitchStatements();
+    LinkedList<SwitchStmt> _computedValue = new LinkedList<SwitchStmt>();
+    if (root.contributorMap_TypeDecl_enumSwitchStatements.containsKey(this)) {
+      for (ASTNode contributor : root.contributorMap_TypeDecl_enumSwitchStatements.get(this)) {
+        contributor.contributeTo_TypeDecl_enumSwitchStatements(_computedValue);
+      }
+    }
+    return _computedValue;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle TypeDecl_enumSwitchStatements_computed = null;
+
+  /** @apilevel internal */
+  protected LinkedList<SwitchStmt> TypeDecl_enumSwitchStatements_value;
+
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/Modifiers.jrag:86
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:383
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:247
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void collect_contributors_TypeDecl_nestedTypes(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/backend/InnerClasses.jrag:151
+    if (isNestedType()) {
+      {
+        TypeDecl target = (TypeDecl) (enclosingType());
+        java.util.Set<ASTNode> contributors = _map.get(target);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) target, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_TypeDecl_nestedTypes(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : modifierProblems()) {
+      collection.add(value);
+    }
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+  }
+  protected void contributeTo_TypeDecl_nestedTypes(LinkedList<TypeDecl> collection) {
+    super.contributeTo_TypeDecl_nestedTypes(collection);
+    if (isNestedType()) {
+      collection.add(this);
+    }
+  }
+}
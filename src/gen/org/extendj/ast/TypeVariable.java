@@ -0,0 +1,2535 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/** Represents a type variable of a parameterized type. 
+ * @ast node
+ * @declaredat /root/project/java5/grammar/Generics.ast:56
+ * @production TypeVariable : {@link ReferenceType} ::= <span class="component">{@link Modifiers}</span> <span class="component">&lt;ID:String&gt;</span> <span class="component">{@link BodyDecl}*</span> <span class="component">Bound:{@link Access}*</span>;
+
+ */
+public class TypeVariable extends ReferenceType implements Cloneable {
+  /**
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:71
+   */
+  @Override public String toString() {
+    return name();
+  }
+  /**
+   * @aspect NewGenerics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1890
+   */
+  public Access createQualifiedAccess() {
+    return createBoundAccess();
+  }
+  /**
+   * @aspect Java5PrettyPrint
+   * @declaredat /root/project/java5/frontend/PrettyPrint.jadd:355
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getID());
+    if (hasBound()) {
+      out.print(" extends ");
+      out.join(getBoundList(), new PrettyPrinter.Joiner() {
+        @Override
+        public void printSeparator(PrettyPrinter out) {
+          out.print(" & ");
+        }
+      });
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public TypeVariable() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[3];
+    setChild(new List(), 1);
+    setChild(new List(), 2);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public TypeVariable(Modifiers p0, String p1, List<BodyDecl> p2, List<Access> p3) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+  }
+  /**
+   * @declaredat ASTNode:21
+   */
+  public TypeVariable(Modifiers p0, beaver.Symbol p1, List<BodyDecl> p2, List<Access> p3) {
+    setChild(p0, 0);
+    setID(p1);
+    setChild(p2, 1);
+    setChild(p3, 2);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:28
+   */
+  protected int numChildren() {
+    return 3;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:34
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:38
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    unboxed_reset();
+    iterableElementType_reset();
+    toInterface_reset();
+    involvesTypeParameters_reset();
+    getTypeBoundList_reset();
+    substituted_Parameterization_reset();
+    memberFields_String_reset();
+    castingConversionTo_TypeDecl_reset();
+    erasure_reset();
+    fullName_reset();
+    lubType_reset();
+    usesTypeVariable_reset();
+    accessibleFrom_TypeDecl_reset();
+    typeName_reset();
+    sameStructure_TypeDecl_reset();
+    subtype_TypeDecl_reset();
+    typeDescriptor_reset();
+    constantPoolName_reset();
+    needsSignatureAttribute_reset();
+    fieldTypeSignature_reset();
+    classTypeSignature_reset();
+    interfaceBounds_reset();
+    sameType_TypeVariable_reset();
+    strictSubtype_TypeDecl_reset();
+    typeVarPosition_reset();
+    genericMethodLevel_reset();
+    typeVarInMethod_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:69
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:73
+   */
+  public TypeVariable clone() throws CloneNotSupportedException {
+    TypeVariable node = (TypeVariable) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:78
+   */
+  public TypeVariable copy() {
+    try {
+      TypeVariable node = (TypeVariable) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:97
+   */
+  @Deprecated
+  public TypeVariable fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:107
+   */
+  public TypeVariable treeCopyNoTransform() {
+    TypeVariable tree = (TypeVariable) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:127
+   */
+  public TypeVariable treeCopy() {
+    TypeVariable tree = (TypeVariable) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:141
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((TypeVariable) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the Modifiers child.
+   * @param node The new node to replace the Modifiers child.
+   * @apilevel high-level
+   */
+  public void setModifiers(Modifiers node) {
+    setChild(node, 0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * @return The current node used as the Modifiers child.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Child(name="Modifiers")
+  public Modifiers getModifiers() {
+    return (Modifiers) getChild(0);
+  }
+  /**
+   * Retrieves the Modifiers child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the Modifiers child.
+   * @apilevel low-level
+   */
+  public Modifiers getModifiersNoTransform() {
+    return (Modifiers) getChildNoTransform(0);
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the BodyDecl list.
+   * @param list The new list node to be used as the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void setBodyDeclList(List<BodyDecl> list) {
+    setChild(list, 1);
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public int getNumBodyDecl() {
+    return getBodyDeclList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the BodyDecl list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the BodyDecl list.
+   * @apilevel low-level
+   */
+  public int getNumBodyDeclNoTransform() {
+    return getBodyDeclListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the BodyDecl list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the BodyDecl list.
+   * @apilevel high-level
+   */
+  public BodyDecl getBodyDecl(int i) {
+    return (BodyDecl) getBodyDeclList().getChild(i);
+  }
+  /**
+   * Check whether the BodyDecl list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBodyDecl() {
+    return getBodyDeclList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the BodyDecl list.
+   * @param node The element to append to the BodyDecl list.
+   * @apilevel high-level
+   */
+  public void addBodyDecl(BodyDecl node) {
+    List<BodyDecl> list = (parent == null) ? getBodyDeclListNoTransform() : getBodyDeclList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBodyDeclNoTransform(BodyDecl node) {
+    List<BodyDecl> list = getBodyDeclListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the BodyDecl list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBodyDecl(BodyDecl node, int i) {
+    List<BodyDecl> list = getBodyDeclList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="BodyDecl")
+  public List<BodyDecl> getBodyDeclList() {
+    List<BodyDecl> list = (List<BodyDecl>) getChild(1);
+    return list;
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclListNoTransform() {
+    return (List<BodyDecl>) getChildNoTransform(1);
+  }
+  /**
+   * @return the element at index {@code i} in the BodyDecl list without
+   * triggering rewrites.
+   */
+  public BodyDecl getBodyDeclNoTransform(int i) {
+    return (BodyDecl) getBodyDeclListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * @return The node representing the BodyDecl list.
+   * @apilevel high-level
+   */
+  public List<BodyDecl> getBodyDecls() {
+    return getBodyDeclList();
+  }
+  /**
+   * Retrieves the BodyDecl list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the BodyDecl list.
+   * @apilevel low-level
+   */
+  public List<BodyDecl> getBodyDeclsNoTransform() {
+    return getBodyDeclListNoTransform();
+  }
+  /**
+   * Replaces the Bound list.
+   * @param list The new list node to be used as the Bound list.
+   * @apilevel high-level
+   */
+  public void setBoundList(List<Access> list) {
+    setChild(list, 2);
+  }
+  /**
+   * Retrieves the number of children in the Bound list.
+   * @return Number of children in the Bound list.
+   * @apilevel high-level
+   */
+  public int getNumBound() {
+    return getBoundList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Bound list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Bound list.
+   * @apilevel low-level
+   */
+  public int getNumBoundNoTransform() {
+    return getBoundListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Bound list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Bound list.
+   * @apilevel high-level
+   */
+  public Access getBound(int i) {
+    return (Access) getBoundList().getChild(i);
+  }
+  /**
+   * Check whether the Bound list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasBound() {
+    return getBoundList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Bound list.
+   * @param node The element to append to the Bound list.
+   * @apilevel high-level
+   */
+  public void addBound(Access node) {
+    List<Access> list = (parent == null) ? getBoundListNoTransform() : getBoundList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addBoundNoTransform(Access node) {
+    List<Access> list = getBoundListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Bound list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setBound(Access node, int i) {
+    List<Access> list = getBoundList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Bound list.
+   * @return The node representing the Bound list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Bound")
+  public List<Access> getBoundList() {
+    List<Access> list = (List<Access>) getChild(2);
+    return list;
+  }
+  /**
+   * Retrieves the Bound list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Bound list.
+   * @apilevel low-level
+   */
+  public List<Access> getBoundListNoTransform() {
+    return (List<Access>) getChildNoTransform(2);
+  }
+  /**
+   * @return the element at index {@code i} in the Bound list without
+   * triggering rewrites.
+   */
+  public Access getBoundNoTransform(int i) {
+    return (Access) getBoundListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Bound list.
+   * @return The node representing the Bound list.
+   * @apilevel high-level
+   */
+  public List<Access> getBounds() {
+    return getBoundList();
+  }
+  /**
+   * Retrieves the Bound list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Bound list.
+   * @apilevel low-level
+   */
+  public List<Access> getBoundsNoTransform() {
+    return getBoundListNoTransform();
+  }
+  /** @apilevel internal */
+  private void unboxed_reset() {
+    unboxed_computed = null;
+    unboxed_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle unboxed_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl unboxed_value;
+
+  /** Mapping between Reference type and corresponding unboxed Primitive type. 
+   * @attribute syn
+   * @aspect AutoBoxing
+   * @declaredat /root/project/java5/frontend/AutoBoxing.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AutoBoxing", declaredAt="/root/project/java5/frontend/AutoBoxing.jrag:77")
+  public TypeDecl unboxed() {
+    ASTState state = state();
+    if (unboxed_computed == ASTState.NON_CYCLE || unboxed_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.unboxed()", "", unboxed_value);
+      return unboxed_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.unboxed()", "", "");
+    unboxed_value = unboxed_compute();
+    state().trace().computeEnd(this, "TypeDecl.unboxed()", "", unboxed_value);
+    if (state().inCircle()) {
+      unboxed_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.unboxed()", "", unboxed_value);
+    } else {
+      unboxed_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.unboxed()", "", unboxed_value);
+    }
+    return unboxed_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl unboxed_compute() {
+      for (Access bound: getTypeBoundList()) {
+        TypeDecl unboxed = bound.type().unboxed();
+        if (!unboxed.isUnknown()) {
+          return unboxed;
+        }
+      }
+      return unknownType();
+    }
+  /** @apilevel internal */
+  private void iterableElementType_reset() {
+    iterableElementType_computed = null;
+    iterableElementType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle iterableElementType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl iterableElementType_value;
+
+  /**
+   * Computes the element type of a type implementing java.lang.Iterable.
+   * Returns UnknownType if this type does not implement java.lang.Iterable.
+   * @attribute syn
+   * @aspect EnhancedFor
+   * @declaredat /root/project/java5/frontend/EnhancedFor.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EnhancedFor", declaredAt="/root/project/java5/frontend/EnhancedFor.jrag:77")
+  public TypeDecl iterableElementType() {
+    ASTState state = state();
+    if (iterableElementType_computed == ASTState.NON_CYCLE || iterableElementType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.iterableElementType()", "", iterableElementType_value);
+      return iterableElementType_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.iterableElementType()", "", "");
+    iterableElementType_value = iterableElementType_compute();
+    state().trace().computeEnd(this, "TypeDecl.iterableElementType()", "", iterableElementType_value);
+    if (state().inCircle()) {
+      iterableElementType_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.iterableElementType()", "", iterableElementType_value);
+    } else {
+      iterableElementType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.iterableElementType()", "", iterableElementType_value);
+    }
+    return iterableElementType_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl iterableElementType_compute() {
+      for (Access bound : getBoundList()) {
+        TypeDecl boundType = bound.type();
+        if (boundType.subtype(lookupType("java.lang", "Iterable"))) {
+          return boundType.iterableElementType();
+        }
+      }
+      return unknownType();
+    }
+  /** @apilevel internal */
+  private void toInterface_reset() {
+    toInterface_computed = false;
+    
+    toInterface_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean toInterface_computed = false;
+
+  /** @apilevel internal */
+  protected InterfaceDecl toInterface_value;
+
+  /** Convert var to interface. 
+   * @attribute syn
+   * @aspect GreatestLowerBoundFactory
+   * @declaredat /root/project/java5/frontend/GLBTypeFactory.jadd:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="GreatestLowerBoundFactory", declaredAt="/root/project/java5/frontend/GLBTypeFactory.jadd:35")
+  public InterfaceDecl toInterface() {
+    ASTState state = state();
+    if (toInterface_computed) {
+      state().trace().cacheRead(this, "TypeVariable.toInterface()", "", toInterface_value);
+      return toInterface_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeVariable.toInterface()", "", "");
+    toInterface_value = toInterface_compute();
+    state().trace().computeEnd(this, "TypeVariable.toInterface()", "", toInterface_value);
+    toInterface_value.setParent(this);
+    toInterface_computed = true;
+    state().trace().cacheWrite(this, "TypeVariable.toInterface()", "", toInterface_value);
+    state().leaveLazyAttribute();
+    return toInterface_value;
+  }
+  /** @apilevel internal */
+  private InterfaceDecl toInterface_compute() {
+      InterfaceDecl ITj = new InterfaceDecl();
+      ITj.setID("ITj_" + hashCode());
+      // I'm assuming that TypeVariable has no members of its own.
+      // TODO: would it be enough to add only public members of a bound
+      // that is TypeVariable or ClassDecl and add other (interface)
+      // bounds as superinterfaces to ITj?
+      // TODO: Is it really necessary to add public members to the new
+      // interface? Or is an empty interface more than enough since java
+      // has a nominal type system.
+      for (int i = 0; i < getNumTypeBound(); i++) {
+        TypeDecl bound = getTypeBound(i).type();
+        for (int j = 0; j < bound.getNumBodyDecl(); j++) {
+          BodyDecl bd = bound.getBodyDecl(j);
+          if (bd instanceof FieldDecl) {
+            if (((FieldDecl) bd).isPublic()) {
+              ITj.addBodyDecl(bd.treeCopyNoTransform());
+            }
+          } else if (bd instanceof MethodDecl) {
+            if (((MethodDecl) bd).isPublic()) {
+              ITj.addBodyDecl(bd.treeCopyNoTransform());
+            }
+          }
+        }
+      }
+      return ITj;
+    }
+  /**
+   * Check if a given type is within the bound of this type, given a specific
+   * parameterization of this type.
+   * 
+   * See JLS SE7 $4.5
+   * 
+   * @param argument argument type
+   * @return {@code true} if the argument type is in the bound of this type
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:61
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:61")
+  public boolean boundOf(TypeDecl argument) {
+    Object _parameters = argument;
+    state().trace().computeBegin(this, "TypeDecl.boundOf(TypeDecl)", _parameters, "");
+    try {
+        for (Access bound : getBoundList()) {
+          if (!argument.subtype(bound.type())) {
+            return false;
+          }
+        }
+        return true;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.boundOf(TypeDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:72")
+  public boolean boundOfWildcard(WildcardType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.boundOfWildcard(WildcardType)", _parameters, "");
+    boolean boundOfWildcard_WildcardType_value = true;
+    state().trace().computeEnd(this, "TypeDecl.boundOfWildcard(WildcardType)", _parameters, boundOfWildcard_WildcardType_value);
+    return boundOfWildcard_WildcardType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:76
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:76")
+  public boolean boundOfWildcardExtends(WildcardExtendsType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.boundOfWildcardExtends(WildcardExtendsType)", _parameters, "");
+    boolean boundOfWildcardExtends_WildcardExtendsType_value = type.extendsType().subtype(this);
+    state().trace().computeEnd(this, "TypeDecl.boundOfWildcardExtends(WildcardExtendsType)", _parameters, boundOfWildcardExtends_WildcardExtendsType_value);
+    return boundOfWildcardExtends_WildcardExtendsType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:81
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:81")
+  public boolean boundOfWildcardSuper(WildcardSuperType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.boundOfWildcardSuper(WildcardSuperType)", _parameters, "");
+    boolean boundOfWildcardSuper_WildcardSuperType_value = type.superType().subtype(this);
+    state().trace().computeEnd(this, "TypeDecl.boundOfWildcardSuper(WildcardSuperType)", _parameters, boundOfWildcardSuper_WildcardSuperType_value);
+    return boundOfWildcardSuper_WildcardSuperType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericBoundCheck
+   * @declaredat /root/project/java5/frontend/GenericBoundCheck.jrag:86
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericBoundCheck", declaredAt="/root/project/java5/frontend/GenericBoundCheck.jrag:86")
+  public boolean boundOfArray(ArrayDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.boundOfArray(ArrayDecl)", _parameters, "");
+    try {
+        // An array type is within the bounds of a type variable if the
+        // type variable has a single type bound that is an array type bound,
+        // or if there are no type bounds for the type variable.
+        if (getNumBound() == 1) {
+          return firstBound().type().boundOfArray(type);
+        }
+        return getNumBound() == 0;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.boundOfArray(ArrayDecl)", _parameters, "");
+    }
+  }
+/** @apilevel internal */
+protected ASTState.Cycle involvesTypeParameters_cycle = null;
+  /** @apilevel internal */
+  private void involvesTypeParameters_reset() {
+    involvesTypeParameters_computed = false;
+    involvesTypeParameters_initialized = false;
+    involvesTypeParameters_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_computed = false;
+
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_value;
+  /** @apilevel internal */
+  protected boolean involvesTypeParameters_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="GenericMethodsInference", declaredAt="/root/project/java5/frontend/GenericMethodsInference.jrag:35")
+  public boolean involvesTypeParameters() {
+    if (involvesTypeParameters_computed) {
+      state().trace().cacheRead(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      return involvesTypeParameters_value;
+    }
+    ASTState state = state();
+    if (!involvesTypeParameters_initialized) {
+      involvesTypeParameters_initialized = true;
+      involvesTypeParameters_value = false;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        involvesTypeParameters_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.involvesTypeParameters()", "", "");
+        boolean new_involvesTypeParameters_value = true;
+        state().trace().computeEnd(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+        if (new_involvesTypeParameters_value != involvesTypeParameters_value) {
+          state.setChangeInCycle();
+        }
+        involvesTypeParameters_value = new_involvesTypeParameters_value;
+      } while (state.testAndClearChangeInCycle());
+      involvesTypeParameters_computed = true;
+      state().trace().cacheWrite(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      state.leaveCircle();
+    } else if (involvesTypeParameters_cycle != state.cycle()) {
+      involvesTypeParameters_cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.involvesTypeParameters()", "", "");
+      boolean new_involvesTypeParameters_value = true;
+      state().trace().computeEnd(this, "TypeDecl.involvesTypeParameters()", "", involvesTypeParameters_value);
+      if (new_involvesTypeParameters_value != involvesTypeParameters_value) {
+        state.setChangeInCycle();
+      }
+      involvesTypeParameters_value = new_involvesTypeParameters_value;
+    } else {
+    }
+    return involvesTypeParameters_value;
+  }
+  /**
+   * The first type bound of this type variable.
+   * 
+   * <p>If no explicit bound is set, this returns a bound access to the Object type.
+   * @attribute syn
+   * @aspect GenericTypeVariables
+   * @declaredat /root/project/java5/frontend/GenericTypeVariables.jrag:42
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericTypeVariables", declaredAt="/root/project/java5/frontend/GenericTypeVariables.jrag:42")
+  public Access firstBound() {
+    state().trace().computeBegin(this, "TypeVariable.firstBound()", "", "");
+    Access firstBound_value = hasBound() ? getBound(0) : typeObject().boundAccess();
+    state().trace().computeEnd(this, "TypeVariable.firstBound()", "", firstBound_value);
+    return firstBound_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericTypeVariables
+   * @declaredat /root/project/java5/frontend/GenericTypeVariables.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericTypeVariables", declaredAt="/root/project/java5/frontend/GenericTypeVariables.jrag:53")
+  public int getNumTypeBound() {
+    state().trace().computeBegin(this, "TypeVariable.getNumTypeBound()", "", "");
+    int getNumTypeBound_value = Math.max(1, getNumBound());
+    state().trace().computeEnd(this, "TypeVariable.getNumTypeBound()", "", getNumTypeBound_value);
+    return getNumTypeBound_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericTypeVariables
+   * @declaredat /root/project/java5/frontend/GenericTypeVariables.jrag:55
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericTypeVariables", declaredAt="/root/project/java5/frontend/GenericTypeVariables.jrag:55")
+  public Access getTypeBound(int i) {
+    Object _parameters = i;
+    state().trace().computeBegin(this, "TypeVariable.getTypeBound(int)", _parameters, "");
+    Access getTypeBound_int_value = i == 0 ? firstBound() : getBound(i);
+    state().trace().computeEnd(this, "TypeVariable.getTypeBound(int)", _parameters, getTypeBound_int_value);
+    return getTypeBound_int_value;
+  }
+  /** @apilevel internal */
+  private void getTypeBoundList_reset() {
+    getTypeBoundList_computed = false;
+    
+    getTypeBoundList_value = null;
+  }
+  /** @apilevel internal */
+  protected boolean getTypeBoundList_computed = false;
+
+  /** @apilevel internal */
+  protected List<Access> getTypeBoundList_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericTypeVariables
+   * @declaredat /root/project/java5/frontend/GenericTypeVariables.jrag:58
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="GenericTypeVariables", declaredAt="/root/project/java5/frontend/GenericTypeVariables.jrag:58")
+  public List<Access> getTypeBoundList() {
+    ASTState state = state();
+    if (getTypeBoundList_computed) {
+      state().trace().cacheRead(this, "TypeVariable.getTypeBoundList()", "", getTypeBoundList_value);
+      return getTypeBoundList_value;
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeVariable.getTypeBoundList()", "", "");
+    getTypeBoundList_value = getTypeBoundList_compute();
+    state().trace().computeEnd(this, "TypeVariable.getTypeBoundList()", "", getTypeBoundList_value);
+    getTypeBoundList_value.setParent(this);
+    getTypeBoundList_computed = true;
+    state().trace().cacheWrite(this, "TypeVariable.getTypeBoundList()", "", getTypeBoundList_value);
+    state().leaveLazyAttribute();
+    return getTypeBoundList_value;
+  }
+  /** @apilevel internal */
+  private List<Access> getTypeBoundList_compute() {
+      List<Access> bounds = new List<Access>();
+      for (int i = 0; i < getNumTypeBound(); ++i) {
+        bounds.add(getTypeBound(i).treeCopyNoTransform());
+      }
+      return bounds;
+    }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:385
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:385")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "TypeDecl.nameProblems()", "", "");
+    try {
+          if (extractSingleType(lookupType(name())) != this) {
+            return Collections.singletonList(
+                errorf("*** Semantic Error: type variable %s is multiply declared", name()));
+          }
+          return Collections.emptySet();
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.nameProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void substituted_Parameterization_reset() {
+    substituted_Parameterization_values = null;
+    substituted_Parameterization_proxy = null;
+  }
+  /** @apilevel internal */
+  protected ASTNode substituted_Parameterization_proxy;
+  /** @apilevel internal */
+  protected java.util.Map substituted_Parameterization_values;
+
+  /**
+   * @attribute syn
+   * @aspect GenericTypeVariables
+   * @declaredat /root/project/java5/frontend/GenericTypeVariables.jrag:74
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isNTA=true)
+  @ASTNodeAnnotation.Source(aspect="GenericTypeVariables", declaredAt="/root/project/java5/frontend/GenericTypeVariables.jrag:74")
+  public TypeVariable substituted(Parameterization par) {
+    Object _parameters = par;
+    if (substituted_Parameterization_values == null) substituted_Parameterization_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (substituted_Parameterization_values.containsKey(_parameters)) {
+      state().trace().cacheRead(this, "TypeVariable.substituted(Parameterization)", _parameters, substituted_Parameterization_values.get(_parameters));
+      return (TypeVariable) substituted_Parameterization_values.get(_parameters);
+    }
+    state().enterLazyAttribute();
+    state().trace().computeBegin(this, "TypeVariable.substituted(Parameterization)", _parameters, "");
+    TypeVariable substituted_Parameterization_value = new SubstitutedTypeVariable(
+              new Modifiers(new List<Modifier>()),
+              getID(),
+              new List<BodyDecl>(),
+              getBoundList().treeCopy(),
+              par);
+    state().trace().computeEnd(this, "TypeVariable.substituted(Parameterization)", _parameters, substituted_Parameterization_value);
+    if (substituted_Parameterization_proxy == null) {
+      substituted_Parameterization_proxy = new ASTNode();
+      substituted_Parameterization_proxy.setParent(this);
+    }
+    if (substituted_Parameterization_value != null) {
+      substituted_Parameterization_value.setParent(substituted_Parameterization_proxy);
+      if (substituted_Parameterization_value.mayHaveRewrite()) {
+        substituted_Parameterization_value = (TypeVariable) substituted_Parameterization_value.rewrittenNode();
+        substituted_Parameterization_value.setParent(substituted_Parameterization_proxy);
+      }
+    }
+    substituted_Parameterization_values.put(_parameters, substituted_Parameterization_value);
+    state().trace().cacheWrite(this, "TypeVariable.substituted(Parameterization)", _parameters, substituted_Parameterization_value);
+    state().leaveLazyAttribute();
+    return substituted_Parameterization_value;
+  }
+  /**
+   * Find all member method declarations with the given name.
+   * This includes methods inherited from supertypes.
+   * @attribute syn
+   * @aspect MemberMethods
+   * @declaredat /root/project/java4/frontend/LookupMethod.jrag:484
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="MemberMethods", declaredAt="/root/project/java4/frontend/LookupMethod.jrag:484")
+  public Collection<MethodDecl> memberMethods(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "TypeDecl.memberMethods(String)", _parameters, "");
+    try {
+        Collection<MethodDecl> methods = new HashSet<MethodDecl>();
+        for (int i = 0; i < getNumTypeBound(); i++) {
+          for (MethodDecl method : getTypeBound(i).type().memberMethods(name)) {
+            methods.add(method);
+          }
+        }
+        return methods;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.memberMethods(String)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void memberFields_String_reset() {
+    memberFields_String_computed = new java.util.HashMap(4);
+    memberFields_String_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map memberFields_String_values;
+  /** @apilevel internal */
+  protected java.util.Map memberFields_String_computed;
+  /**
+   * @attribute syn
+   * @aspect Fields
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:502
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Fields", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:502")
+  public SimpleSet<Variable> memberFields(String name) {
+    Object _parameters = name;
+    if (memberFields_String_computed == null) memberFields_String_computed = new java.util.HashMap(4);
+    if (memberFields_String_values == null) memberFields_String_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (memberFields_String_values.containsKey(_parameters) && memberFields_String_computed != null
+        && memberFields_String_computed.containsKey(_parameters)
+        && (memberFields_String_computed.get(_parameters) == ASTState.NON_CYCLE || memberFields_String_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.memberFields(String)", _parameters, memberFields_String_values.get(_parameters));
+      return (SimpleSet<Variable>) memberFields_String_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.memberFields(String)", _parameters, "");
+    SimpleSet<Variable> memberFields_String_value = memberFields_compute(name);
+    state().trace().computeEnd(this, "TypeDecl.memberFields(String)", _parameters, memberFields_String_value);
+    if (state().inCircle()) {
+      memberFields_String_values.put(_parameters, memberFields_String_value);
+      memberFields_String_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.memberFields(String)", _parameters, memberFields_String_value);
+    } else {
+      memberFields_String_values.put(_parameters, memberFields_String_value);
+      memberFields_String_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.memberFields(String)", _parameters, memberFields_String_value);
+    }
+    return memberFields_String_value;
+  }
+  /** @apilevel internal */
+  private SimpleSet<Variable> memberFields_compute(String name) {
+      SimpleSet<Variable> fields = emptySet();
+      for (int i = 0; i < getNumTypeBound(); i++) {
+        for (Variable field : getTypeBound(i).type().memberFields(name)) {
+          fields = fields.add(field);
+        }
+      }
+      return fields;
+    }
+  /**
+   * @attribute syn
+   * @aspect GenricTypeVariablesTypeAnalysis
+   * @declaredat /root/project/java5/frontend/GenericTypeVariables.jrag:115
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenricTypeVariablesTypeAnalysis", declaredAt="/root/project/java5/frontend/GenericTypeVariables.jrag:115")
+  public Collection<Problem> typeProblems() {
+    state().trace().computeBegin(this, "TypeVariable.typeProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        TypeDecl first = firstBound().type();
+        if (!first.isTypeVariable()
+            && !first.isClassDecl()
+            && !first.isInterfaceDecl()) {
+          problems.add(errorf("the first type bound must be either a type variable,"
+              + " or a class or interface type which %s is not",
+              first.fullName()));
+        }
+        for (int i = 1; i < getNumTypeBound(); i++) {
+          if (!getTypeBound(i).type().isInterfaceDecl()) {
+            problems.add(errorf("type bound %s must be an interface type which %s is not",
+                i, getTypeBound(i).type().fullName()));
+          }
+        }
+        Collection<TypeDecl> typeSet = new HashSet<TypeDecl>();
+        for (int i = 0; i < getNumTypeBound(); i++) {
+          TypeDecl type = getTypeBound(i).type();
+          TypeDecl erasure = type.erasure();
+          if (typeSet.contains(erasure)) {
+            if (type != erasure) {
+              problems.add(errorf("the erasure %s of typebound %s is multiply declared in %s",
+                  erasure.fullName(), getTypeBound(i).prettyPrint(), this));
+            } else {
+              problems.add(errorf("%s is multiply declared", type.fullName()));
+            }
+          }
+          typeSet.add(erasure);
+        }
+    
+        for (int i = 0; i < getNumTypeBound(); i++) {
+          TypeDecl type = getTypeBound(i).type();
+          for (MethodDecl m : type.methods()) {
+            for (int j = i + 1; j < getNumTypeBound(); j++) {
+              TypeDecl destType = getTypeBound(j).type();
+              for (MethodDecl n : destType.memberMethods(m.name())) {
+                if (m.sameSignature(n) && m.type() != n.type()) {
+                  problems.add(errorf("the two bounds, %s and %s, in type variable %s have"
+                      + " a method %s with conflicting return types %s and %s",
+                      type.name(), destType.name(), name(), m.signature(),
+                      m.type().name(), n.type().name()));
+                }
+              }
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeVariable.typeProblems()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void castingConversionTo_TypeDecl_reset() {
+    castingConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    castingConversionTo_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map castingConversionTo_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map castingConversionTo_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect TypeConversion
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeConversion", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:100")
+  public boolean castingConversionTo(TypeDecl type) {
+    Object _parameters = type;
+    if (castingConversionTo_TypeDecl_computed == null) castingConversionTo_TypeDecl_computed = new java.util.HashMap(4);
+    if (castingConversionTo_TypeDecl_values == null) castingConversionTo_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (castingConversionTo_TypeDecl_values.containsKey(_parameters) && castingConversionTo_TypeDecl_computed != null
+        && castingConversionTo_TypeDecl_computed.containsKey(_parameters)
+        && (castingConversionTo_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || castingConversionTo_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, castingConversionTo_TypeDecl_values.get(_parameters));
+      return (Boolean) castingConversionTo_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, "");
+    boolean castingConversionTo_TypeDecl_value = castingConversionTo_compute(type);
+    state().trace().computeEnd(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, castingConversionTo_TypeDecl_value);
+    if (state().inCircle()) {
+      castingConversionTo_TypeDecl_values.put(_parameters, castingConversionTo_TypeDecl_value);
+      castingConversionTo_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, castingConversionTo_TypeDecl_value);
+    } else {
+      castingConversionTo_TypeDecl_values.put(_parameters, castingConversionTo_TypeDecl_value);
+      castingConversionTo_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.castingConversionTo(TypeDecl)", _parameters, castingConversionTo_TypeDecl_value);
+    }
+    return castingConversionTo_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private boolean castingConversionTo_compute(TypeDecl type) {
+      if (!type.isReferenceType()) {
+        return false;
+      }
+      if (getNumTypeBound() == 0) {
+        return true;
+      }
+      for (int i = 0; i < getNumTypeBound(); i++) {
+        if (getTypeBound(i).type().castingConversionTo(type)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  /**
+   * @attribute syn
+   * @aspect Generics
+   * @declaredat /root/project/java5/frontend/Generics.jrag:234
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Generics", declaredAt="/root/project/java5/frontend/Generics.jrag:234")
+  public boolean isNestedType() {
+    state().trace().computeBegin(this, "TypeVariable.isNestedType()", "", "");
+    boolean isNestedType_value = false;
+    state().trace().computeEnd(this, "TypeVariable.isNestedType()", "", isNestedType_value);
+    return isNestedType_value;
+  }
+  /** @apilevel internal */
+  private void erasure_reset() {
+    erasure_computed = null;
+    erasure_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle erasure_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl erasure_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsErasure
+   * @declaredat /root/project/java5/frontend/Generics.jrag:460
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsErasure", declaredAt="/root/project/java5/frontend/Generics.jrag:460")
+  public TypeDecl erasure() {
+    ASTState state = state();
+    if (erasure_computed == ASTState.NON_CYCLE || erasure_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.erasure()", "", erasure_value);
+      return erasure_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.erasure()", "", "");
+    erasure_value = firstBound().type().erasure();
+    state().trace().computeEnd(this, "TypeDecl.erasure()", "", erasure_value);
+    if (state().inCircle()) {
+      erasure_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.erasure()", "", erasure_value);
+    } else {
+      erasure_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.erasure()", "", erasure_value);
+    }
+    return erasure_value;
+  }
+  /** @apilevel internal */
+  private void fullName_reset() {
+    fullName_computed = null;
+    fullName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle fullName_computed = null;
+
+  /** @apilevel internal */
+  protected String fullName_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeName
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:84
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeName", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:84")
+  public String fullName() {
+    ASTState state = state();
+    if (fullName_computed == ASTState.NON_CYCLE || fullName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.fullName()", "", fullName_value);
+      return fullName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.fullName()", "", "");
+    fullName_value = typeVariableContext() + "@" + name();
+    state().trace().computeEnd(this, "TypeDecl.fullName()", "", fullName_value);
+    if (state().inCircle()) {
+      fullName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.fullName()", "", fullName_value);
+    } else {
+      fullName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.fullName()", "", fullName_value);
+    }
+    return fullName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:864
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:864")
+  public boolean sameSignature(Access a) {
+    Object _parameters = a;
+    state().trace().computeBegin(this, "TypeDecl.sameSignature(Access)", _parameters, "");
+    boolean sameSignature_Access_value = a.type() == this;
+    state().trace().computeEnd(this, "TypeDecl.sameSignature(Access)", _parameters, sameSignature_Access_value);
+    return sameSignature_Access_value;
+  }
+  /** @apilevel internal */
+  private void lubType_reset() {
+    lubType_computed = null;
+    lubType_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle lubType_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl lubType_value;
+
+  /**
+   * Computes the least upper bound of this type variable.
+   * @attribute syn
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1306
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1306")
+  public TypeDecl lubType() {
+    ASTState state = state();
+    if (lubType_computed == ASTState.NON_CYCLE || lubType_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeVariable.lubType()", "", lubType_value);
+      return lubType_value;
+    }
+    state().trace().computeBegin(this, "TypeVariable.lubType()", "", "");
+    lubType_value = lubType_compute();
+    state().trace().computeEnd(this, "TypeVariable.lubType()", "", lubType_value);
+    if (state().inCircle()) {
+      lubType_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeVariable.lubType()", "", lubType_value);
+    } else {
+      lubType_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeVariable.lubType()", "", lubType_value);
+    }
+    return lubType_value;
+  }
+  /** @apilevel internal */
+  private TypeDecl lubType_compute() {
+      if (getNumBound() == 0) {
+        return typeObject();
+      } else if (getNumBound() == 1) {
+        return getBound(0).type();
+      } else {
+        ArrayList<TypeDecl> list = new ArrayList<TypeDecl>();
+        for (Access bound : getBoundList()) {
+          list.add(bound.type());
+        }
+        return lookupLUBType(list);
+      }
+    }
+/** @apilevel internal */
+protected ASTState.Cycle usesTypeVariable_cycle = null;
+  /** @apilevel internal */
+  private void usesTypeVariable_reset() {
+    usesTypeVariable_computed = false;
+    usesTypeVariable_initialized = false;
+    usesTypeVariable_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_computed = false;
+
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_value;
+  /** @apilevel internal */
+  protected boolean usesTypeVariable_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1341")
+  public boolean usesTypeVariable() {
+    if (usesTypeVariable_computed) {
+      state().trace().cacheRead(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      return usesTypeVariable_value;
+    }
+    ASTState state = state();
+    if (!usesTypeVariable_initialized) {
+      usesTypeVariable_initialized = true;
+      usesTypeVariable_value = false;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        usesTypeVariable_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.usesTypeVariable()", "", "");
+        boolean new_usesTypeVariable_value = true;
+        state().trace().computeEnd(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+        if (new_usesTypeVariable_value != usesTypeVariable_value) {
+          state.setChangeInCycle();
+        }
+        usesTypeVariable_value = new_usesTypeVariable_value;
+      } while (state.testAndClearChangeInCycle());
+      usesTypeVariable_computed = true;
+      state().trace().cacheWrite(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      state.leaveCircle();
+    } else if (usesTypeVariable_cycle != state.cycle()) {
+      usesTypeVariable_cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.usesTypeVariable()", "", "");
+      boolean new_usesTypeVariable_value = true;
+      state().trace().computeEnd(this, "TypeDecl.usesTypeVariable()", "", usesTypeVariable_value);
+      if (new_usesTypeVariable_value != usesTypeVariable_value) {
+        state.setChangeInCycle();
+      }
+      usesTypeVariable_value = new_usesTypeVariable_value;
+    } else {
+    }
+    return usesTypeVariable_value;
+  }
+  /** @apilevel internal */
+  private void accessibleFrom_TypeDecl_reset() {
+    accessibleFrom_TypeDecl_computed = new java.util.HashMap(4);
+    accessibleFrom_TypeDecl_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map accessibleFrom_TypeDecl_values;
+  /** @apilevel internal */
+  protected java.util.Map accessibleFrom_TypeDecl_computed;
+  /**
+   * @attribute syn
+   * @aspect AccessControl
+   * @declaredat /root/project/java4/frontend/AccessControl.jrag:72
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessControl", declaredAt="/root/project/java4/frontend/AccessControl.jrag:72")
+  public boolean accessibleFrom(TypeDecl type) {
+    Object _parameters = type;
+    if (accessibleFrom_TypeDecl_computed == null) accessibleFrom_TypeDecl_computed = new java.util.HashMap(4);
+    if (accessibleFrom_TypeDecl_values == null) accessibleFrom_TypeDecl_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (accessibleFrom_TypeDecl_values.containsKey(_parameters) && accessibleFrom_TypeDecl_computed != null
+        && accessibleFrom_TypeDecl_computed.containsKey(_parameters)
+        && (accessibleFrom_TypeDecl_computed.get(_parameters) == ASTState.NON_CYCLE || accessibleFrom_TypeDecl_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_values.get(_parameters));
+      return (Boolean) accessibleFrom_TypeDecl_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, "");
+    boolean accessibleFrom_TypeDecl_value = true;
+    state().trace().computeEnd(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    if (state().inCircle()) {
+      accessibleFrom_TypeDecl_values.put(_parameters, accessibleFrom_TypeDecl_value);
+      accessibleFrom_TypeDecl_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    } else {
+      accessibleFrom_TypeDecl_values.put(_parameters, accessibleFrom_TypeDecl_value);
+      accessibleFrom_TypeDecl_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeDecl.accessibleFrom(TypeDecl)", _parameters, accessibleFrom_TypeDecl_value);
+    }
+    return accessibleFrom_TypeDecl_value;
+  }
+  /** @apilevel internal */
+  private void typeName_reset() {
+    typeName_computed = null;
+    typeName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeName_computed = null;
+
+  /** @apilevel internal */
+  protected String typeName_value;
+
+  /**
+   * The qualified typename of this type.
+   * 
+   * <p>Includes array suffix and type arguments.
+   * @attribute syn
+   * @aspect TypeName
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:100
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeName", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:100")
+  public String typeName() {
+    ASTState state = state();
+    if (typeName_computed == ASTState.NON_CYCLE || typeName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeName()", "", typeName_value);
+      return typeName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeName()", "", "");
+    typeName_value = name();
+    state().trace().computeEnd(this, "TypeDecl.typeName()", "", typeName_value);
+    if (state().inCircle()) {
+      typeName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeName()", "", typeName_value);
+    } else {
+      typeName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeName()", "", typeName_value);
+    }
+    return typeName_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsParTypeDecl
+   * @declaredat /root/project/java5/frontend/GenericsParTypeDecl.jrag:104
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsParTypeDecl", declaredAt="/root/project/java5/frontend/GenericsParTypeDecl.jrag:104")
+  public boolean isTypeVariable() {
+    state().trace().computeBegin(this, "TypeDecl.isTypeVariable()", "", "");
+    boolean isTypeVariable_value = true;
+    state().trace().computeEnd(this, "TypeDecl.isTypeVariable()", "", isTypeVariable_value);
+    return isTypeVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:73
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:73")
+  public boolean supertypeWildcard(WildcardType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeWildcard(WildcardType)", _parameters, "");
+    boolean supertypeWildcard_WildcardType_value = true;
+    state().trace().computeEnd(this, "TypeDecl.supertypeWildcard(WildcardType)", _parameters, supertypeWildcard_WildcardType_value);
+    return supertypeWildcard_WildcardType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:80
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:80")
+  public boolean supertypeWildcardExtends(WildcardExtendsType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeWildcardExtends(WildcardExtendsType)", _parameters, "");
+    boolean supertypeWildcardExtends_WildcardExtendsType_value = type.extendsType().subtype(this);
+    state().trace().computeEnd(this, "TypeDecl.supertypeWildcardExtends(WildcardExtendsType)", _parameters, supertypeWildcardExtends_WildcardExtendsType_value);
+    return supertypeWildcardExtends_WildcardExtendsType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:89")
+  public boolean supertypeWildcardSuper(WildcardSuperType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeWildcardSuper(WildcardSuperType)", _parameters, "");
+    boolean supertypeWildcardSuper_WildcardSuperType_value = type.superType().subtype(this);
+    state().trace().computeEnd(this, "TypeDecl.supertypeWildcardSuper(WildcardSuperType)", _parameters, supertypeWildcardSuper_WildcardSuperType_value);
+    return supertypeWildcardSuper_WildcardSuperType_value;
+  }
+  /** @apilevel internal */
+  private void sameStructure_TypeDecl_reset() {
+    sameStructure_TypeDecl_values = null;
+  }
+  protected java.util.Map sameStructure_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:222")
+  public boolean sameStructure(TypeDecl t) {
+    Object _parameters = t;
+    if (sameStructure_TypeDecl_values == null) sameStructure_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (sameStructure_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = sameStructure_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      sameStructure_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_sameStructure_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, "");
+        new_sameStructure_TypeDecl_value = sameStructure_compute(t);
+        state().trace().computeEnd(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+        if (new_sameStructure_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_sameStructure_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      sameStructure_TypeDecl_values.put(_parameters, new_sameStructure_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_sameStructure_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, "");
+      boolean new_sameStructure_TypeDecl_value = sameStructure_compute(t);
+      state().trace().computeEnd(this, "TypeDecl.sameStructure(TypeDecl)", _parameters, _value.value);
+      if (new_sameStructure_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_sameStructure_TypeDecl_value;
+      }
+      return new_sameStructure_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private boolean sameStructure_compute(TypeDecl t) {
+      if (this == t) {
+        return true;
+      }
+      if (t instanceof TypeVariable) {
+        TypeVariable type = (TypeVariable) t;
+        if (type.getNumTypeBound() != getNumTypeBound()) {
+          return false;
+        }
+        for (int i = 0; i < getNumTypeBound(); i++) {
+          boolean found = false;
+          for (int j = i; !found && j < getNumTypeBound(); j++) {
+            if (getTypeBound(i).type().sameStructure(type.getTypeBound(j).type())) {
+              found = true;
+            }
+          }
+          if (!found) {
+            return false;
+          }
+        }
+        return true;
+      } else if (t.usesTypeVariable()) {
+        if (getNumBound() > 0) {
+          return getBound(0).type().sameStructure(t);
+        }
+      }
+      return false;
+    }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:501
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:501")
+  public boolean supertypeArrayDecl(ArrayDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeArrayDecl(ArrayDecl)", _parameters, "");
+    try {
+        for (Access bound : getBoundList()) {
+          if (type.subtype(bound.type())) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.supertypeArrayDecl(ArrayDecl)", _parameters, "");
+    }
+  }
+  /** @apilevel internal */
+  private void subtype_TypeDecl_reset() {
+    subtype_TypeDecl_values = null;
+  }
+  protected java.util.Map subtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:456")
+  public boolean subtype(TypeDecl type) {
+    Object _parameters = type;
+    if (subtype_TypeDecl_values == null) subtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (subtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = subtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.subtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      subtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_subtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+        new_subtype_TypeDecl_value = type.supertypeTypeVariable(this);
+        state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+        if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_subtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      subtype_TypeDecl_values.put(_parameters, new_subtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_subtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.subtype(TypeDecl)", _parameters, "");
+      boolean new_subtype_TypeDecl_value = type.supertypeTypeVariable(this);
+      state().trace().computeEnd(this, "TypeDecl.subtype(TypeDecl)", _parameters, _value.value);
+      if (new_subtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_subtype_TypeDecl_value;
+      }
+      return new_subtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsSubtype
+   * @declaredat /root/project/java5/frontend/GenericsSubtype.jrag:368
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsSubtype", declaredAt="/root/project/java5/frontend/GenericsSubtype.jrag:368")
+  public boolean supertypeTypeVariable(TypeVariable type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeTypeVariable(TypeVariable)", _parameters, "");
+    try {
+        if (type == this) {
+          return true;
+        }
+        for (Access bound : getBoundList()) {
+          TypeDecl boundType = bound.type();
+          if (boundType.isObject()) {
+            continue;
+          }
+          boolean foundSubtype = false;
+          for (int j = 0; !foundSubtype && j < type.getNumBound(); j++) {
+            if (type.getBound(j).type().subtype(boundType)) {
+              foundSubtype = true;
+              break;
+            }
+          }
+          if (!foundSubtype) {
+            return false;
+          }
+        }
+        return true;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.supertypeTypeVariable(TypeVariable)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:472
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:472")
+  public boolean supertypeClassDecl(ClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeClassDecl(ClassDecl)", _parameters, "");
+    boolean supertypeClassDecl_ClassDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.supertypeClassDecl(ClassDecl)", _parameters, supertypeClassDecl_ClassDecl_value);
+    return supertypeClassDecl_ClassDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Subtyping
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:487
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Subtyping", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:487")
+  public boolean supertypeInterfaceDecl(InterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.supertypeInterfaceDecl(InterfaceDecl)", _parameters, "");
+    boolean supertypeInterfaceDecl_InterfaceDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.supertypeInterfaceDecl(InterfaceDecl)", _parameters, supertypeInterfaceDecl_InterfaceDecl_value);
+    return supertypeInterfaceDecl_InterfaceDecl_value;
+  }
+  /**
+   * A type is reifiable if it either refers to a non-parameterized type,
+   * is a raw type, is a parameterized type with only unbound wildcard
+   * parameters or is an array type with a reifiable type parameter.
+   * 
+   * @see "JLS SE7 &sect;4.7"
+   * @attribute syn
+   * @aspect ReifiableTypes
+   * @declaredat /root/project/java5/frontend/ReifiableTypes.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ReifiableTypes", declaredAt="/root/project/java5/frontend/ReifiableTypes.jrag:39")
+  public boolean isReifiable() {
+    state().trace().computeBegin(this, "TypeDecl.isReifiable()", "", "");
+    boolean isReifiable_value = false;
+    state().trace().computeEnd(this, "TypeDecl.isReifiable()", "", isReifiable_value);
+    return isReifiable_value;
+  }
+  /** @apilevel internal */
+  private void typeDescriptor_reset() {
+    typeDescriptor_computed = null;
+    typeDescriptor_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeDescriptor_computed = null;
+
+  /** @apilevel internal */
+  protected String typeDescriptor_value;
+
+  /**
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:78
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:78")
+  public String typeDescriptor() {
+    ASTState state = state();
+    if (typeDescriptor_computed == ASTState.NON_CYCLE || typeDescriptor_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+      return typeDescriptor_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.typeDescriptor()", "", "");
+    typeDescriptor_value = erasure().typeDescriptor();
+    state().trace().computeEnd(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    if (state().inCircle()) {
+      typeDescriptor_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    } else {
+      typeDescriptor_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.typeDescriptor()", "", typeDescriptor_value);
+    }
+    return typeDescriptor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:999
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:999")
+  public String arrayTypeDescriptor() {
+    state().trace().computeBegin(this, "TypeDecl.arrayTypeDescriptor()", "", "");
+    String arrayTypeDescriptor_value = erasure().arrayTypeDescriptor();
+    state().trace().computeEnd(this, "TypeDecl.arrayTypeDescriptor()", "", arrayTypeDescriptor_value);
+    return arrayTypeDescriptor_value;
+  }
+  /** @apilevel internal */
+  private void constantPoolName_reset() {
+    constantPoolName_computed = null;
+    constantPoolName_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constantPoolName_computed = null;
+
+  /** @apilevel internal */
+  protected String constantPoolName_value;
+
+  /**
+   * For a top-level type the constant pool name of the type is the same as the
+   * canonical name but with dots replaced by solidus.
+   * 
+   * <p>For nested types the constant pool name is based on the enclosing top-level
+   * types constant pool name followed by a dollar sign and a unique index and/or
+   * the type name.
+   * 
+   * @return constant pool name of this type
+   * @attribute syn
+   * @aspect ConstantPoolNames
+   * @declaredat /root/project/java4/backend/ConstantPoolNames.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantPoolNames", declaredAt="/root/project/java4/backend/ConstantPoolNames.jrag:44")
+  public String constantPoolName() {
+    ASTState state = state();
+    if (constantPoolName_computed == ASTState.NON_CYCLE || constantPoolName_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+      return constantPoolName_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.constantPoolName()", "", "");
+    constantPoolName_value = erasure().constantPoolName();
+    state().trace().computeEnd(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    if (state().inCircle()) {
+      constantPoolName_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    } else {
+      constantPoolName_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.constantPoolName()", "", constantPoolName_value);
+    }
+    return constantPoolName_value;
+  }
+  /** @apilevel internal */
+  private void needsSignatureAttribute_reset() {
+    needsSignatureAttribute_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle needsSignatureAttribute_computed = null;
+
+  /** @apilevel internal */
+  protected boolean needsSignatureAttribute_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:406
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:406")
+  public boolean needsSignatureAttribute() {
+    ASTState state = state();
+    if (needsSignatureAttribute_computed == ASTState.NON_CYCLE || needsSignatureAttribute_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+      return needsSignatureAttribute_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.needsSignatureAttribute()", "", "");
+    needsSignatureAttribute_value = true;
+    state().trace().computeEnd(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    if (state().inCircle()) {
+      needsSignatureAttribute_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    } else {
+      needsSignatureAttribute_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.needsSignatureAttribute()", "", needsSignatureAttribute_value);
+    }
+    return needsSignatureAttribute_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:508
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:508")
+  public String formalTypeParameter() {
+    state().trace().computeBegin(this, "TypeVariable.formalTypeParameter()", "", "");
+    try {
+        StringBuilder buf = new StringBuilder();
+        buf.append(name());
+        buf.append(":");
+        TypeDecl firstBound = firstBound().type();
+        if (firstBound.isClassDecl()) {
+          buf.append(firstBound.fieldTypeSignature());
+        } else {
+          buf.append(":" + firstBound.fieldTypeSignature());
+        }
+        for (int i = 1; i < getNumTypeBound(); i++) {
+          buf.append(":" + getTypeBound(i).type().fieldTypeSignature());
+        }
+        return buf.toString();
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeVariable.formalTypeParameter()", "", "");
+    }
+  }
+  /** @apilevel internal */
+  private void fieldTypeSignature_reset() {
+    fieldTypeSignature_computed = null;
+    fieldTypeSignature_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle fieldTypeSignature_computed = null;
+
+  /** @apilevel internal */
+  protected String fieldTypeSignature_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:524
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:524")
+  public String fieldTypeSignature() {
+    ASTState state = state();
+    if (fieldTypeSignature_computed == ASTState.NON_CYCLE || fieldTypeSignature_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.fieldTypeSignature()", "", fieldTypeSignature_value);
+      return fieldTypeSignature_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.fieldTypeSignature()", "", "");
+    fieldTypeSignature_value = classTypeSignature();
+    state().trace().computeEnd(this, "TypeDecl.fieldTypeSignature()", "", fieldTypeSignature_value);
+    if (state().inCircle()) {
+      fieldTypeSignature_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.fieldTypeSignature()", "", fieldTypeSignature_value);
+    } else {
+      fieldTypeSignature_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.fieldTypeSignature()", "", fieldTypeSignature_value);
+    }
+    return fieldTypeSignature_value;
+  }
+  /** @apilevel internal */
+  private void classTypeSignature_reset() {
+    classTypeSignature_computed = null;
+    classTypeSignature_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle classTypeSignature_computed = null;
+
+  /** @apilevel internal */
+  protected String classTypeSignature_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:533
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:533")
+  public String classTypeSignature() {
+    ASTState state = state();
+    if (classTypeSignature_computed == ASTState.NON_CYCLE || classTypeSignature_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeDecl.classTypeSignature()", "", classTypeSignature_value);
+      return classTypeSignature_value;
+    }
+    state().trace().computeBegin(this, "TypeDecl.classTypeSignature()", "", "");
+    classTypeSignature_value = "T" + name() + ";";
+    state().trace().computeEnd(this, "TypeDecl.classTypeSignature()", "", classTypeSignature_value);
+    if (state().inCircle()) {
+      classTypeSignature_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeDecl.classTypeSignature()", "", classTypeSignature_value);
+    } else {
+      classTypeSignature_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeDecl.classTypeSignature()", "", classTypeSignature_value);
+    }
+    return classTypeSignature_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:611
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:611")
+  public String classBound() {
+    state().trace().computeBegin(this, "TypeVariable.classBound()", "", "");
+    String classBound_value = firstBound().type().fieldTypeSignature();
+    state().trace().computeEnd(this, "TypeVariable.classBound()", "", classBound_value);
+    return classBound_value;
+  }
+  /** @apilevel internal */
+  private void interfaceBounds_reset() {
+    interfaceBounds_computed = null;
+    interfaceBounds_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle interfaceBounds_computed = null;
+
+  /** @apilevel internal */
+  protected String interfaceBounds_value;
+
+  /**
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:613
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:613")
+  public String interfaceBounds() {
+    ASTState state = state();
+    if (interfaceBounds_computed == ASTState.NON_CYCLE || interfaceBounds_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeVariable.interfaceBounds()", "", interfaceBounds_value);
+      return interfaceBounds_value;
+    }
+    state().trace().computeBegin(this, "TypeVariable.interfaceBounds()", "", "");
+    interfaceBounds_value = interfaceBounds_compute();
+    state().trace().computeEnd(this, "TypeVariable.interfaceBounds()", "", interfaceBounds_value);
+    if (state().inCircle()) {
+      interfaceBounds_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeVariable.interfaceBounds()", "", interfaceBounds_value);
+    } else {
+      interfaceBounds_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeVariable.interfaceBounds()", "", interfaceBounds_value);
+    }
+    return interfaceBounds_value;
+  }
+  /** @apilevel internal */
+  private String interfaceBounds_compute() {
+      StringBuilder buf = new StringBuilder();
+      for (int i = 1; i < getNumTypeBound(); ++i) {
+        buf.append(":");
+        buf.append(getTypeBound(i).type().fieldTypeSignature());
+      }
+      return buf.toString();
+    }
+  /** @apilevel internal */
+  private void sameType_TypeVariable_reset() {
+    sameType_TypeVariable_computed = new java.util.HashMap(4);
+    sameType_TypeVariable_values = null;
+  }
+  /** @apilevel internal */
+  protected java.util.Map sameType_TypeVariable_values;
+  /** @apilevel internal */
+  protected java.util.Map sameType_TypeVariable_computed;
+  /**
+   * @attribute syn
+   * @aspect FunctionalInterface
+   * @declaredat /root/project/java8/frontend/FunctionalInterface.jrag:126
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="FunctionalInterface", declaredAt="/root/project/java8/frontend/FunctionalInterface.jrag:126")
+  public boolean sameType(TypeVariable tv2) {
+    Object _parameters = tv2;
+    if (sameType_TypeVariable_computed == null) sameType_TypeVariable_computed = new java.util.HashMap(4);
+    if (sameType_TypeVariable_values == null) sameType_TypeVariable_values = new java.util.HashMap(4);
+    ASTState state = state();
+    if (sameType_TypeVariable_values.containsKey(_parameters) && sameType_TypeVariable_computed != null
+        && sameType_TypeVariable_computed.containsKey(_parameters)
+        && (sameType_TypeVariable_computed.get(_parameters) == ASTState.NON_CYCLE || sameType_TypeVariable_computed.get(_parameters) == state().cycle())) {
+      state().trace().cacheRead(this, "TypeVariable.sameType(TypeVariable)", _parameters, sameType_TypeVariable_values.get(_parameters));
+      return (Boolean) sameType_TypeVariable_values.get(_parameters);
+    }
+    state().trace().computeBegin(this, "TypeVariable.sameType(TypeVariable)", _parameters, "");
+    boolean sameType_TypeVariable_value = sameType_compute(tv2);
+    state().trace().computeEnd(this, "TypeVariable.sameType(TypeVariable)", _parameters, sameType_TypeVariable_value);
+    if (state().inCircle()) {
+      sameType_TypeVariable_values.put(_parameters, sameType_TypeVariable_value);
+      sameType_TypeVariable_computed.put(_parameters, state().cycle());
+      state().trace().cacheWrite(this, "TypeVariable.sameType(TypeVariable)", _parameters, sameType_TypeVariable_value);
+    } else {
+      sameType_TypeVariable_values.put(_parameters, sameType_TypeVariable_value);
+      sameType_TypeVariable_computed.put(_parameters, ASTState.NON_CYCLE);
+      state().trace().cacheWrite(this, "TypeVariable.sameType(TypeVariable)", _parameters, sameType_TypeVariable_value);
+    }
+    return sameType_TypeVariable_value;
+  }
+  /** @apilevel internal */
+  private boolean sameType_compute(TypeVariable tv2) {
+      TypeVariable tv1 = this;
+      if (tv1.getNumTypeBound() != tv2.getNumTypeBound()) {
+        return false;
+      }
+  
+      // The bounds have to be the same in the way that a bound
+      // that exists in type variable tv1 must exist exactly the same
+      // number of times in tv2, but the order doesn't matter.
+  
+      boolean[] checkedBound = new boolean[tv1.getNumTypeBound()];
+  
+      for (int j = 0; j < tv1.getNumTypeBound(); j++) {
+        boolean found = false;
+        for (int k = 0; k < tv2.getNumTypeBound(); k++) {
+          if (checkedBound[k]) {
+            continue;
+          }
+          Access a1 = tv1.getTypeBound(j);
+          Access a2 = tv2.getTypeBound(k);
+  
+          if (a1.sameType(a2)) {
+            checkedBound[k] = true;
+            found = true;
+            break;
+          }
+        }
+        if (!found) {
+          return false;
+        }
+      }
+      return true;
+    }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:68
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:68")
+  public boolean strictSupertypeWildcard(WildcardType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeWildcard(WildcardType)", _parameters, "");
+    boolean strictSupertypeWildcard_WildcardType_value = true;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeWildcard(WildcardType)", _parameters, strictSupertypeWildcard_WildcardType_value);
+    return strictSupertypeWildcard_WildcardType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:79
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:79")
+  public boolean strictSupertypeWildcardSuper(WildcardSuperType type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeWildcardSuper(WildcardSuperType)", _parameters, "");
+    boolean strictSupertypeWildcardSuper_WildcardSuperType_value = type.superType().strictSubtype(this);
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeWildcardSuper(WildcardSuperType)", _parameters, strictSupertypeWildcardSuper_WildcardSuperType_value);
+    return strictSupertypeWildcardSuper_WildcardSuperType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:411
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:411")
+  public boolean strictSupertypeArrayDecl(ArrayDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeArrayDecl(ArrayDecl)", _parameters, "");
+    boolean strictSupertypeArrayDecl_ArrayDecl_value = false;
+    state().trace().computeEnd(this, "TypeDecl.strictSupertypeArrayDecl(ArrayDecl)", _parameters, strictSupertypeArrayDecl_ArrayDecl_value);
+    return strictSupertypeArrayDecl_ArrayDecl_value;
+  }
+  /** @apilevel internal */
+  private void strictSubtype_TypeDecl_reset() {
+    strictSubtype_TypeDecl_values = null;
+  }
+  protected java.util.Map strictSubtype_TypeDecl_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:363")
+  public boolean strictSubtype(TypeDecl type) {
+    Object _parameters = type;
+    if (strictSubtype_TypeDecl_values == null) strictSubtype_TypeDecl_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (strictSubtype_TypeDecl_values.containsKey(_parameters)) {
+      Object _cache = strictSubtype_TypeDecl_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      strictSubtype_TypeDecl_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_strictSubtype_TypeDecl_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+        new_strictSubtype_TypeDecl_value = type.strictSupertypeTypeVariable(this);
+        state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+        if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_strictSubtype_TypeDecl_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      strictSubtype_TypeDecl_values.put(_parameters, new_strictSubtype_TypeDecl_value);
+      state().trace().cacheWrite(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_strictSubtype_TypeDecl_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, "");
+      boolean new_strictSubtype_TypeDecl_value = type.strictSupertypeTypeVariable(this);
+      state().trace().computeEnd(this, "TypeDecl.strictSubtype(TypeDecl)", _parameters, _value.value);
+      if (new_strictSubtype_TypeDecl_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_strictSubtype_TypeDecl_value;
+      }
+      return new_strictSubtype_TypeDecl_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:281
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:281")
+  public boolean strictSupertypeTypeVariable(TypeVariable type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeTypeVariable(TypeVariable)", _parameters, "");
+    try {
+        if (typeVarInMethod() && type.typeVarInMethod()
+            && genericMethodLevel() == type.genericMethodLevel()) {
+          if (typeVarPosition() == type.typeVarPosition() || this == type) {
+            return true;
+          }
+        } else {
+          if (this == type) {
+            return true;
+          }
+        }
+        for (int i = 0; i < type.getNumTypeBound(); i++) {
+          if (type.getTypeBound(i).type().strictSubtype(this)) {
+            return true;
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.strictSupertypeTypeVariable(TypeVariable)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:376
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:376")
+  public boolean strictSupertypeClassDecl(ClassDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeClassDecl(ClassDecl)", _parameters, "");
+    try {
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.strictSupertypeClassDecl(ClassDecl)", _parameters, "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect StrictSubtype
+   * @declaredat /root/project/java8/frontend/GenericsSubtype.jrag:395
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="StrictSubtype", declaredAt="/root/project/java8/frontend/GenericsSubtype.jrag:395")
+  public boolean strictSupertypeInterfaceDecl(InterfaceDecl type) {
+    Object _parameters = type;
+    state().trace().computeBegin(this, "TypeDecl.strictSupertypeInterfaceDecl(InterfaceDecl)", _parameters, "");
+    try {
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeDecl.strictSupertypeInterfaceDecl(InterfaceDecl)", _parameters, "");
+    }
+  }
+  /**
+   * Returns true if this type variable contains a mention of any of the
+   * given type variables.
+   * @attribute syn
+   * @aspect LambdaParametersInference
+   * @declaredat /root/project/java8/frontend/TypeCheck.jrag:613
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LambdaParametersInference", declaredAt="/root/project/java8/frontend/TypeCheck.jrag:613")
+  public boolean mentionsTypeVariable(List<TypeVariable> vars) {
+    Object _parameters = vars;
+    state().trace().computeBegin(this, "TypeVariable.mentionsTypeVariable(List_TypeVariable_)", _parameters, "");
+    try {
+        for (Access bound : getBoundList()) {
+          for (TypeVariable var : vars) {
+            if (bound.mentionsTypeVariable(var)) {
+              return true;
+            }
+          }
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "TypeVariable.mentionsTypeVariable(List_TypeVariable_)", _parameters, "");
+    }
+  }
+  /**
+   * Returns a string describing the context of a type variable. If the type
+   * variable is part of a type declaration then the context string is the
+   * qualified name of the type. If the type variable is declared in a method
+   * or constructor declaration then the context string is the qualified
+   * signature of the method or constructor.
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:852
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:852")
+  public String typeVariableContext() {
+    state().trace().computeBegin(this, "TypeVariable.typeVariableContext()", "", "");
+    String typeVariableContext_value = getParent().Define_typeVariableContext(this, null);
+    state().trace().computeEnd(this, "TypeVariable.typeVariableContext()", "", typeVariableContext_value);
+    return typeVariableContext_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1301
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1301")
+  public TypeDecl typeObject() {
+    state().trace().computeBegin(this, "TypeVariable.typeObject()", "", "");
+    TypeDecl typeObject_value = getParent().Define_typeObject(this, null);
+    state().trace().computeEnd(this, "TypeVariable.typeObject()", "", typeObject_value);
+    return typeObject_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LookupParTypeDecl
+   * @declaredat /root/project/java5/frontend/Generics.jrag:1320
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LookupParTypeDecl", declaredAt="/root/project/java5/frontend/Generics.jrag:1320")
+  public TypeDecl typeNull() {
+    state().trace().computeBegin(this, "TypeVariable.typeNull()", "", "");
+    TypeDecl typeNull_value = getParent().Define_typeNull(this, null);
+    state().trace().computeEnd(this, "TypeVariable.typeNull()", "", typeNull_value);
+    return typeNull_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeVariablePositions
+   * @declaredat /root/project/java8/frontend/TypeVariablePositions.jrag:29
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeVariablePositions", declaredAt="/root/project/java8/frontend/TypeVariablePositions.jrag:29")
+  public int typeVarPosition() {
+    ASTState state = state();
+    if (typeVarPosition_computed == ASTState.NON_CYCLE || typeVarPosition_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeVariable.typeVarPosition()", "", typeVarPosition_value);
+      return typeVarPosition_value;
+    }
+    state().trace().computeBegin(this, "TypeVariable.typeVarPosition()", "", "");
+    typeVarPosition_value = getParent().Define_typeVarPosition(this, null);
+    state().trace().computeEnd(this, "TypeVariable.typeVarPosition()", "", typeVarPosition_value);
+    if (state().inCircle()) {
+      typeVarPosition_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeVariable.typeVarPosition()", "", typeVarPosition_value);
+    } else {
+      typeVarPosition_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeVariable.typeVarPosition()", "", typeVarPosition_value);
+    }
+    return typeVarPosition_value;
+  }
+  /** @apilevel internal */
+  private void typeVarPosition_reset() {
+    typeVarPosition_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeVarPosition_computed = null;
+
+  /** @apilevel internal */
+  protected int typeVarPosition_value;
+
+  /**
+   * @attribute inh
+   * @aspect TypeVariablePositions
+   * @declaredat /root/project/java8/frontend/TypeVariablePositions.jrag:30
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeVariablePositions", declaredAt="/root/project/java8/frontend/TypeVariablePositions.jrag:30")
+  public int genericMethodLevel() {
+    ASTState state = state();
+    if (genericMethodLevel_computed == ASTState.NON_CYCLE || genericMethodLevel_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeVariable.genericMethodLevel()", "", genericMethodLevel_value);
+      return genericMethodLevel_value;
+    }
+    state().trace().computeBegin(this, "TypeVariable.genericMethodLevel()", "", "");
+    genericMethodLevel_value = getParent().Define_genericMethodLevel(this, null);
+    state().trace().computeEnd(this, "TypeVariable.genericMethodLevel()", "", genericMethodLevel_value);
+    if (state().inCircle()) {
+      genericMethodLevel_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeVariable.genericMethodLevel()", "", genericMethodLevel_value);
+    } else {
+      genericMethodLevel_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeVariable.genericMethodLevel()", "", genericMethodLevel_value);
+    }
+    return genericMethodLevel_value;
+  }
+  /** @apilevel internal */
+  private void genericMethodLevel_reset() {
+    genericMethodLevel_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle genericMethodLevel_computed = null;
+
+  /** @apilevel internal */
+  protected int genericMethodLevel_value;
+
+  /**
+   * @attribute inh
+   * @aspect TypeVariablePositions
+   * @declaredat /root/project/java8/frontend/TypeVariablePositions.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeVariablePositions", declaredAt="/root/project/java8/frontend/TypeVariablePositions.jrag:32")
+  public boolean typeVarInMethod() {
+    ASTState state = state();
+    if (typeVarInMethod_computed == ASTState.NON_CYCLE || typeVarInMethod_computed == state().cycle()) {
+      state().trace().cacheRead(this, "TypeVariable.typeVarInMethod()", "", typeVarInMethod_value);
+      return typeVarInMethod_value;
+    }
+    state().trace().computeBegin(this, "TypeVariable.typeVarInMethod()", "", "");
+    typeVarInMethod_value = getParent().Define_typeVarInMethod(this, null);
+    state().trace().computeEnd(this, "TypeVariable.typeVarInMethod()", "", typeVarInMethod_value);
+    if (state().inCircle()) {
+      typeVarInMethod_computed = state().cycle();
+      state().trace().cacheWrite(this, "TypeVariable.typeVarInMethod()", "", typeVarInMethod_value);
+    } else {
+      typeVarInMethod_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "TypeVariable.typeVarInMethod()", "", typeVarInMethod_value);
+    }
+    return typeVarInMethod_value;
+  }
+  /** @apilevel internal */
+  private void typeVarInMethod_reset() {
+    typeVarInMethod_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle typeVarInMethod_computed = null;
+
+  /** @apilevel internal */
+  protected boolean typeVarInMethod_value;
+
+  /**
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:36
+   * @apilevel internal
+   */
+  public NameType Define_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    if (_callerNode == getBoundListNoTransform()) {
+      // @declaredat /root/project/java5/frontend/GenericTypeVariables.jrag:35
+      int childIndex = _callerNode.getIndexOfChild(_childNode);
+      return NameType.TYPE_NAME;
+    }
+    else {
+      return super.Define_nameType(_callerNode, _childNode);
+    }
+  }
+  protected boolean canDefine_nameType(ASTNode _callerNode, ASTNode _childNode) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java5/frontend/GenericTypeVariables.jrag:113
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : typeProblems()) {
+      collection.add(value);
+    }
+  }
+}
@@ -0,0 +1,1440 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * A reference to a local variable, parameter, or field.
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:84
+ * @production VarAccess : {@link Access} ::= <span class="component">&lt;ID:String&gt;</span>;
+
+ */
+public class VarAccess extends Access implements Cloneable {
+  /**
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:579
+   */
+  protected boolean checkDUeverywhere(Variable v) {
+    if (isDest() && decl() == v) {
+      return false;
+    }
+    return super.checkDUeverywhere(v);
+  }
+  /**
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:332
+   */
+  public BodyDecl closestBodyDecl(TypeDecl t) {
+    ASTNode node = this;
+    while (!(node.getParent().getParent() instanceof Program)
+        && node.getParent().getParent() != t) {
+      node = node.getParent();
+    }
+    if (node instanceof BodyDecl) {
+      return (BodyDecl) node;
+    }
+    return null;
+  }
+  /**
+   * @aspect NodeConstructors
+   * @declaredat /root/project/java4/frontend/NodeConstructors.jrag:52
+   */
+  public VarAccess(String name, int start, int end) {
+    this(name);
+    this.start = this.IDstart = start;
+    this.end = this.IDend = end;
+  }
+  /**
+   * @aspect Java4PrettyPrint
+   * @declaredat /root/project/java4/frontend/PrettyPrint.jadd:623
+   */
+  public void prettyPrint(PrettyPrinter out) {
+    out.print(getID());
+  }
+  /**
+   * @aspect PrettyPrintUtil
+   * @declaredat /root/project/java4/frontend/PrettyPrintUtil.jrag:101
+   */
+  @Override public String toString() {
+    return name();
+  }
+  /**
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:231
+   */
+  public void refined_CodeGeneration_VarAccess_emitStore(CodeGeneration gen) {
+    Variable v = decl();
+    if (v instanceof VariableDeclarator) {
+      VariableDeclarator var = (VariableDeclarator) v;
+      if (unassignedBefore(v)) {
+         gen.addLocalVariableEntryAtCurrentPC(var.name(), var.type(),
+             var.localNum(), var.variableScopeEndLabel(gen));
+      }
+      var.type().emitStoreLocal(gen, var.localNum());
+    } else if (v.isField()) {
+      if (v.isPrivate() && !hostType().hasField(v.name())) {
+        fieldQualifierType()
+            .fieldWriteAccessor(v)
+            .emitInvokeMethod(gen, fieldQualifierType());
+      } else {
+        v.emitStoreField(gen, fieldQualifierType());
+      }
+    } else if (v instanceof ParameterDeclaration) {
+      ParameterDeclaration decl = (ParameterDeclaration) v;
+      decl.type().emitStoreLocal(gen, decl.localNum());
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:469
+   */
+  public void createAssignSimpleLoadDest(CodeGeneration gen) {
+    createLoadQualifier(gen, decl());
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:488
+   */
+  public void createPushAssignmentResult(CodeGeneration gen) {
+    if (hostType().needsAccessorFor(decl())) {
+      return;
+    }
+    if (decl().isInstanceVariable()) {
+      gen.DUP_X1(type());
+    } else {
+      gen.DUP(type());
+    }
+  }
+  /**
+   * Generates bytecode to access the target for an assignment operation.
+   * 
+   * <p>This may involve loading an object reference to store a field in the object.
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:516
+   */
+  public void refined_CreateBCode_VarAccess_createAssignLoadDest(CodeGeneration gen) {
+    createLoadQualifier(gen, decl());
+    Variable v = decl();
+    if (v.isInstanceVariable()) {
+      gen.DUP();
+    }
+    if (v instanceof VariableDeclarator) {
+      VariableDeclarator var = (VariableDeclarator) v;
+      var.type().emitLoadLocal(gen, var.localNum());
+    } else if (v.isField()) {
+      if (requiresAccessor()) {
+        fieldQualifierType().fieldAccessor(v).emitInvokeMethod(gen, fieldQualifierType());
+      } else {
+        v.emitLoadField(gen, fieldQualifierType());
+      }
+    } else if (v instanceof ParameterDeclaration) {
+      ParameterDeclaration decl = (ParameterDeclaration) v;
+      decl.type().emitLoadLocal(gen, decl.localNum());
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:570
+   */
+  public void createBCode(CodeGeneration gen) {
+    decl().emitLoadVariable(gen, this);
+  }
+  /**
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:206
+   */
+  public void collectEnclosingVariables(Collection<Variable> vars, TypeDecl typeDecl) {
+    Variable v = decl();
+    if (!v.isInstanceVariable() && !v.isClassVariable() && v.hostType() == typeDecl) {
+      vars.add(v);
+    }
+    super.collectEnclosingVariables(vars, typeDecl);
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public VarAccess() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+  }
+  /**
+   * @declaredat ASTNode:12
+   */
+  public VarAccess(String p0) {
+    setID(p0);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public VarAccess(beaver.Symbol p0) {
+    setID(p0);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:19
+   */
+  protected int numChildren() {
+    return 0;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:25
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:29
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    isConstant_reset();
+    unassignedAfter_Variable_reset();
+    decls_reset();
+    decl_reset();
+    isFieldAccess_reset();
+    type_reset();
+    enclosingLambda_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:40
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:44
+   */
+  public VarAccess clone() throws CloneNotSupportedException {
+    VarAccess node = (VarAccess) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:49
+   */
+  public VarAccess copy() {
+    try {
+      VarAccess node = (VarAccess) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:68
+   */
+  @Deprecated
+  public VarAccess fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:78
+   */
+  public VarAccess treeCopyNoTransform() {
+    VarAccess tree = (VarAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:98
+   */
+  public VarAccess treeCopy() {
+    VarAccess tree = (VarAccess) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:112
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((VarAccess) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /** @apilevel internal 
+   */
+  protected String tokenString_ID;
+  /**
+   */
+  public int IDstart;
+  /**
+   */
+  public int IDend;
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:73
+   */
+   
+  public void emitStore(CodeGeneration gen) {
+    Variable v = decl();
+    if (v.isField()) {
+      if (v instanceof FieldDeclarator) {
+        v = ((FieldDeclarator) v).erasedField();
+      }
+      if (requiresAccessor()) {
+        fieldQualifierType().fieldWriteAccessor(v).emitInvokeMethod(gen, fieldQualifierType());
+      } else {
+        v.emitStoreField(gen, fieldQualifierType());
+      }
+    } else {
+      refined_CodeGeneration_VarAccess_emitStore(gen);
+    }
+  }
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:90
+   */
+    public void refined_GenericsCodegen_VarAccess_createAssignLoadDest(CodeGeneration gen) {
+    Variable v = decl();
+    if (v.isField()) {
+      createLoadQualifier(gen, v);
+      if (v.isInstanceVariable()) {
+        gen.DUP();
+      }
+      if (v instanceof FieldDeclarator) {
+        v = ((FieldDeclarator) v).erasedField();
+      }
+      if (requiresAccessor()) {
+        fieldQualifierType().fieldAccessor(v).emitInvokeMethod(gen, fieldQualifierType());
+      } else {
+        v.emitLoadField(gen, fieldQualifierType());
+      }
+    } else {
+      refined_CreateBCode_VarAccess_createAssignLoadDest(gen);
+    }
+  }
+  /**
+   * @aspect MultiCatch
+   * @declaredat /root/project/java7/backend/MultiCatch.jrag:59
+   */
+   
+  public void createAssignLoadDest(CodeGeneration gen) {
+    Variable v = decl();
+    if (v instanceof CatchParameterDeclaration) {
+      if (v.isInstanceVariable()) {
+        gen.DUP();
+      }
+      CatchParameterDeclaration decl = (CatchParameterDeclaration) v;
+      decl.type().emitLoadLocal(gen, decl.localNum());
+    } else {
+      refined_GenericsCodegen_VarAccess_createAssignLoadDest(gen);
+    }
+  }
+  /**
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:62
+   */
+  private TypeDecl refined_InnerClasses_VarAccess_fieldQualifierType()
+{
+    if (hasPrevExpr()) {
+      return prevExpr().type();
+    }
+    TypeDecl typeDecl = hostType();
+    while (typeDecl != null && !typeDecl.hasField(name())) {
+      typeDecl = typeDecl.enclosingType();
+    }
+    if (typeDecl != null) {
+      return typeDecl;
+    }
+    return decl().hostType();
+  }
+  /**
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:234
+   */
+  private TypeDecl refined_GenericsCodegen_VarAccess_fieldQualifierType()
+{
+    TypeDecl typeDecl = refined_InnerClasses_VarAccess_fieldQualifierType();
+    return typeDecl == null ? null : typeDecl.erasure();
+  }
+  /**
+   * @attribute syn
+   * @aspect ConstantExpression
+   * @declaredat /root/project/java4/frontend/ConstantExpression.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:32")
+  public Constant constant() {
+    state().trace().computeBegin(this, "Expr.constant()", "", "");
+    Constant constant_value = type().cast(decl().constant());
+    state().trace().computeEnd(this, "Expr.constant()", "", constant_value);
+    return constant_value;
+  }
+/** @apilevel internal */
+protected ASTState.Cycle isConstant_cycle = null;
+  /** @apilevel internal */
+  private void isConstant_reset() {
+    isConstant_computed = false;
+    isConstant_initialized = false;
+    isConstant_cycle = null;
+  }
+  /** @apilevel internal */
+  protected boolean isConstant_computed = false;
+
+  /** @apilevel internal */
+  protected boolean isConstant_value;
+  /** @apilevel internal */
+  protected boolean isConstant_initialized = false;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="ConstantExpression", declaredAt="/root/project/java4/frontend/ConstantExpression.jrag:423")
+  public boolean isConstant() {
+    if (isConstant_computed) {
+      state().trace().cacheRead(this, "VarAccess.isConstant()", "", isConstant_value);
+      return isConstant_value;
+    }
+    ASTState state = state();
+    if (!isConstant_initialized) {
+      isConstant_initialized = true;
+      isConstant_value = false;
+    }
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      do {
+        isConstant_cycle = state.nextCycle();
+        state().trace().computeBegin(this, "VarAccess.isConstant()", "", "");
+        boolean new_isConstant_value = isConstant_compute();
+        state().trace().computeEnd(this, "VarAccess.isConstant()", "", isConstant_value);
+        if (new_isConstant_value != isConstant_value) {
+          state.setChangeInCycle();
+        }
+        isConstant_value = new_isConstant_value;
+      } while (state.testAndClearChangeInCycle());
+      isConstant_computed = true;
+      state().trace().cacheWrite(this, "VarAccess.isConstant()", "", isConstant_value);
+      state.leaveCircle();
+    } else if (isConstant_cycle != state.cycle()) {
+      isConstant_cycle = state.cycle();
+      state().trace().computeBegin(this, "VarAccess.isConstant()", "", "");
+      boolean new_isConstant_value = isConstant_compute();
+      state().trace().computeEnd(this, "VarAccess.isConstant()", "", isConstant_value);
+      if (new_isConstant_value != isConstant_value) {
+        state.setChangeInCycle();
+      }
+      isConstant_value = new_isConstant_value;
+    } else {
+    }
+    return isConstant_value;
+  }
+  /** @apilevel internal */
+  private boolean isConstant_compute() {
+      Variable v = decl();
+      if (v.isField()) {
+        return v.isConstant() && (!isQualified() || (isQualified() && qualifier().isTypeAccess()));
+      } else {
+        return v.isFinal() && v.hasInit()
+            && v.getInit().isConstant() && (v.type().isPrimitive() || v.type().isString())
+            && (!isQualified() || (isQualified() && qualifier().isTypeAccess()));
+      }
+    }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:77
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:77")
+  public Variable varDecl() {
+    state().trace().computeBegin(this, "Expr.varDecl()", "", "");
+    Variable varDecl_value = decl();
+    state().trace().computeEnd(this, "Expr.varDecl()", "", varDecl_value);
+    return varDecl_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:111
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:111")
+  public Collection<Problem> definiteAssignmentProblems() {
+    state().trace().computeBegin(this, "VarAccess.definiteAssignmentProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (isSource()) {
+          if (decl() instanceof Declarator) {
+            Declarator v = (Declarator) decl();
+            if (v.isField()) {
+              if (v.isFinal() && !v.hasInit() && !isQualified() && !assignedBefore(v)) {
+                problems.add(errorf("Final field %s is not assigned before used", v.name()));
+              }
+            } else if (!v.isValue()) {
+              if (v.isBlankFinal()) {
+                if (!assignedBefore(v)) {
+                  problems.add(errorf("Final variable %s is not assigned before used", v.name()));
+                }
+              } else {
+                // We can not use v.hasInit() here as a quick test for assignedness, because
+                // v is a variable and the initialization may not have been reached from the
+                // current access, e.g., if declared in a previous switch branch.
+                if (!assignedBefore(v)) {
+                  problems.add(errorf("Local variable %s is not assigned before used", v.name()));
+                }
+              }
+            }
+          }
+        }
+        if (isDest()) {
+          Variable v = decl();
+          if (v.isFinal() && v.isBlank() && !hostType().subtype(v.hostType())) {
+            // Blank final field.
+            problems.add(error("The final variable is not a blank final in this context, "
+                + "so it may not be assigned."));
+          } else if (v.isFinal() && isQualified()
+              && (!qualifier().isThisAccess() || ((Access) qualifier()).isQualified())) {
+            problems.add(errorf("the blank final field %s may only be assigned by simple name",
+                  v.name()));
+          } else if (v instanceof VariableDeclarator) {
+            // Local variable.
+            VariableDeclarator var = (VariableDeclarator) v;
+            if (!var.isValue()
+                // TODO(joqvist): use inherited attribute instead.
+                && var.getParent().getParent().getParent() instanceof SwitchStmt
+                && var.isFinal()) {
+              if (!unassignedBefore(var)) {
+                problems.add(errorf("Final variable %s may only be assigned once", var.name()));
+              }
+            } else if (var.isValue()) {
+              if (var.hasInit() || !unassignedBefore(var)) {
+                problems.add(errorf("Final variable %s may only be assigned once", var.name()));
+              }
+            } else if (var.isBlankFinal()) {
+              if (var.hasInit() || !unassignedBefore(var)) {
+                problems.add(errorf("Final variable %s may only be assigned once", var.name()));
+              }
+            }
+          } else if (v.isField()) {
+            // Field.
+            if (v.isFinal()) {
+              if (v.hasInit()) {
+                problems.add(errorf("already initialized final field %s can not be assigned",
+                      v.name()));
+              } else {
+                BodyDecl bodyDecl = enclosingBodyDecl();
+                if (!(bodyDecl instanceof ConstructorDecl)
+                    && !(bodyDecl instanceof InstanceInitializer)
+                    && !(bodyDecl instanceof StaticInitializer)
+                    && !(bodyDecl instanceof FieldDecl)) {
+                  problems.add(errorf(
+                      "final field %s may only be assigned in constructors and initializers",
+                      v.name()));
+                } else if (!unassignedBefore(v)) {
+                  problems.add(errorf("blank final field %s may only be assigned once", v.name()));
+                }
+              }
+            }
+          } else if (v.isParameter()) {
+            // 8.4.1
+            if (v.isFinal()) {
+              problems.add(errorf("Final parameter %s may not be assigned", v.name()));
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "VarAccess.definiteAssignmentProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect DefiniteAssignment
+   * @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:268
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="DefiniteAssignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:268")
+  public boolean assignedAfter(Variable v) {
+    Object _parameters = v;
+    state().trace().computeBegin(this, "Expr.assignedAfter(Variable)", _parameters, "");
+    boolean assignedAfter_Variable_value = assignedBefore(v);
+    state().trace().computeEnd(this, "Expr.assignedAfter(Variable)", _parameters, assignedAfter_Variable_value);
+    return assignedAfter_Variable_value;
+  }
+  /** @apilevel internal */
+  private void unassignedAfter_Variable_reset() {
+    unassignedAfter_Variable_values = null;
+  }
+  protected java.util.Map unassignedAfter_Variable_values;
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN, isCircular=true)
+  @ASTNodeAnnotation.Source(aspect="DefiniteUnassignment", declaredAt="/root/project/java4/frontend/DefiniteAssignment.jrag:899")
+  public boolean unassignedAfter(Variable v) {
+    Object _parameters = v;
+    if (unassignedAfter_Variable_values == null) unassignedAfter_Variable_values = new java.util.HashMap(4);
+    ASTState.CircularValue _value;
+    if (unassignedAfter_Variable_values.containsKey(_parameters)) {
+      Object _cache = unassignedAfter_Variable_values.get(_parameters);
+      if (!(_cache instanceof ASTState.CircularValue)) {
+        state().trace().cacheRead(this, "Expr.unassignedAfter(Variable)", _parameters, _cache);
+        return (Boolean) _cache;
+      } else {
+        _value = (ASTState.CircularValue) _cache;
+      }
+    } else {
+      _value = new ASTState.CircularValue();
+      unassignedAfter_Variable_values.put(_parameters, _value);
+      _value.value = true;
+    }
+    ASTState state = state();
+    if (!state.inCircle() || state.calledByLazyAttribute()) {
+      state.enterCircle();
+      boolean new_unassignedAfter_Variable_value;
+      do {
+        _value.cycle = state.nextCycle();
+        state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+        new_unassignedAfter_Variable_value = unassignedBefore(v);
+        state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+        if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+          state.setChangeInCycle();
+          _value.value = new_unassignedAfter_Variable_value;
+        }
+      } while (state.testAndClearChangeInCycle());
+      unassignedAfter_Variable_values.put(_parameters, new_unassignedAfter_Variable_value);
+      state().trace().cacheWrite(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      state.leaveCircle();
+      return new_unassignedAfter_Variable_value;
+    } else if (_value.cycle != state.cycle()) {
+      _value.cycle = state.cycle();
+      state().trace().computeBegin(this, "Expr.unassignedAfter(Variable)", _parameters, "");
+      boolean new_unassignedAfter_Variable_value = unassignedBefore(v);
+      state().trace().computeEnd(this, "Expr.unassignedAfter(Variable)", _parameters, _value.value);
+      if (new_unassignedAfter_Variable_value != ((Boolean)_value.value)) {
+        state.setChangeInCycle();
+        _value.value = new_unassignedAfter_Variable_value;
+      }
+      return new_unassignedAfter_Variable_value;
+    } else {
+      return (Boolean) _value.value;
+    }
+  }
+  /** @apilevel internal */
+  private void decls_reset() {
+    decls_computed = null;
+    decls_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle decls_computed = null;
+
+  /** @apilevel internal */
+  protected SimpleSet<Variable> decls_value;
+
+  /**
+   * @attribute syn
+   * @aspect VariableScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:388
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScopePropagation", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:388")
+  public SimpleSet<Variable> decls() {
+    ASTState state = state();
+    if (decls_computed == ASTState.NON_CYCLE || decls_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VarAccess.decls()", "", decls_value);
+      return decls_value;
+    }
+    state().trace().computeBegin(this, "VarAccess.decls()", "", "");
+    decls_value = decls_compute();
+    state().trace().computeEnd(this, "VarAccess.decls()", "", decls_value);
+    if (state().inCircle()) {
+      decls_computed = state().cycle();
+      state().trace().cacheWrite(this, "VarAccess.decls()", "", decls_value);
+    } else {
+      decls_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VarAccess.decls()", "", decls_value);
+    }
+    return decls_value;
+  }
+  /** @apilevel internal */
+  private SimpleSet<Variable> decls_compute() {
+      SimpleSet<Variable> result = lookupVariable(name());
+      if (result.isSingleton()) {
+        Variable v = result.singletonValue();
+        if (!isQualified() && inStaticContext()) {
+          if (v.isInstanceVariable() && !hostType().memberFields(v.name()).isEmpty()) {
+            return emptySet();
+          }
+        } else if (isQualified() && qualifier().staticContextQualifier()) {
+          if (v.isInstanceVariable()) {
+            return emptySet();
+          }
+        }
+      }
+      return result;
+    }
+  /** @apilevel internal */
+  private void decl_reset() {
+    decl_computed = null;
+    decl_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle decl_computed = null;
+
+  /** @apilevel internal */
+  protected Variable decl_value;
+
+  /**
+   * @attribute syn
+   * @aspect VariableScopePropagation
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:405
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScopePropagation", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:405")
+  public Variable decl() {
+    ASTState state = state();
+    if (decl_computed == ASTState.NON_CYCLE || decl_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VarAccess.decl()", "", decl_value);
+      return decl_value;
+    }
+    state().trace().computeBegin(this, "VarAccess.decl()", "", "");
+    decl_value = decl_compute();
+    state().trace().computeEnd(this, "VarAccess.decl()", "", decl_value);
+    if (state().inCircle()) {
+      decl_computed = state().cycle();
+      state().trace().cacheWrite(this, "VarAccess.decl()", "", decl_value);
+    } else {
+      decl_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VarAccess.decl()", "", decl_value);
+    }
+    return decl_value;
+  }
+  /** @apilevel internal */
+  private Variable decl_compute() {
+      SimpleSet<Variable> decls = decls();
+      if (decls.isSingleton()) {
+        return decls.singletonValue();
+      }
+      return unknownField();
+    }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:282
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:282")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "VarAccess.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        if (decls().isEmpty() && (!isQualified() || !qualifier().type().isUnknown()
+              || qualifier().isPackageAccess())) {
+          problems.add(errorf("no field named %s is accessible", name()));
+        }
+    
+        if (decls().size() > 1) {
+          StringBuilder sb = new StringBuilder();
+          sb.append("several fields named " + name());
+          ArrayList<String> fields = new ArrayList<String>();
+          for (Variable v : decls()) {
+            fields.add(String.format("%n    %s %s declared in %s",
+                v.type().typeName(), v.name(), v.hostType().typeName()));
+          }
+          Collections.sort(fields);
+          for (String line : fields) {
+            sb.append(line);
+          }
+          problems.add(error(sb.toString()));
+        }
+    
+        // 8.8.5.1
+        if (inExplicitConstructorInvocation() && !isQualified() && decl().isInstanceVariable()
+            && hostType() == decl().hostType()) {
+          problems.add(errorf("instance variable %s may not be accessed in an explicit constructor invocation",
+              name()));
+        }
+    
+        Variable var = decl();
+        if (!var.isClassVariable() && !var.isInstanceVariable() && var.hostType() != hostType()
+            && !var.isEffectivelyFinal()) {
+          problems.add(error("A parameter/variable used but not declared in an inner class must be"
+              + " final or effectively final"));
+        }
+    
+        // 8.3.2.3
+        if ((decl().isInstanceVariable() || decl().isClassVariable()) && !isQualified()) {
+          if (hostType() != null && !declaredBefore(decl())) {
+            if (inSameInitializer() && !simpleAssignment() && inDeclaringClass()) {
+              BodyDecl b = closestBodyDecl(hostType());
+              problems.add(errorf("variable %s is used in %s before it is declared",
+                  decl().name(), b.prettyPrint()));
+            }
+          }
+        }
+    
+        if (!var.isClassVariable() && !var.isInstanceVariable() && enclosingLambda() != null) {
+          if (var instanceof ParameterDeclaration) {
+            ParameterDeclaration decl = (ParameterDeclaration) var;
+            if (decl.enclosingLambda() != enclosingLambda()) {
+              // 15.27.2
+              if (!decl.isEffectivelyFinal()) {
+                problems.add(errorf("Parameter %s must be effectively final", var.name()));
+              }
+            }
+          } else if (var instanceof InferredParameterDeclaration) {
+            InferredParameterDeclaration decl = (InferredParameterDeclaration) var;
+            if (decl.enclosingLambda() != enclosingLambda()) {
+              // 15.27.2
+              if (!decl.isEffectivelyFinal()) {
+                problems.add(errorf("Parameter %s must be effectively final", var.name()));
+              }
+            }
+          } else if (var instanceof VariableDeclarator) {
+            VariableDeclarator decl = (VariableDeclarator) var;
+            if (decl.enclosingLambda() != enclosingLambda()) {
+              // 15.27.2
+              if (!decl.isEffectivelyFinal()) {
+                problems.add(errorf("Variable %s must be effectively final", var.name()));
+              }
+              // 15.27.2
+              if (!enclosingLambda().assignedBefore(decl)) {
+                problems.add(errorf("Variable %s must be definitely assigned before used in a lambda",
+                    var.name()));
+              }
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "VarAccess.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:344
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:344")
+  public boolean inSameInitializer() {
+    state().trace().computeBegin(this, "VarAccess.inSameInitializer()", "", "");
+    try {
+        BodyDecl b = closestBodyDecl(decl().hostType());
+        if (b == null) {
+          return false;
+        }
+        if (b instanceof FieldDecl && ((FieldDecl) b).isStatic() == decl().isStatic()) {
+          // TODO(joqvist): fixme
+          return true;
+        }
+        if (b instanceof InstanceInitializer && !decl().isStatic()) {
+          return true;
+        }
+        if (b instanceof StaticInitializer && decl().isStatic()) {
+          return true;
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "VarAccess.inSameInitializer()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:362
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:362")
+  public boolean simpleAssignment() {
+    state().trace().computeBegin(this, "VarAccess.simpleAssignment()", "", "");
+    boolean simpleAssignment_value = isDest() && getParent() instanceof AssignSimpleExpr;
+    state().trace().computeEnd(this, "VarAccess.simpleAssignment()", "", simpleAssignment_value);
+    return simpleAssignment_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:364
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:364")
+  public boolean inDeclaringClass() {
+    state().trace().computeBegin(this, "VarAccess.inDeclaringClass()", "", "");
+    boolean inDeclaringClass_value = hostType() == decl().hostType();
+    state().trace().computeEnd(this, "VarAccess.inDeclaringClass()", "", inDeclaringClass_value);
+    return inDeclaringClass_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Names
+   * @declaredat /root/project/java4/frontend/QualifiedNames.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Names", declaredAt="/root/project/java4/frontend/QualifiedNames.jrag:35")
+  public String name() {
+    state().trace().computeBegin(this, "VarAccess.name()", "", "");
+    String name_value = getID();
+    state().trace().computeEnd(this, "VarAccess.name()", "", name_value);
+    return name_value;
+  }
+  /** @apilevel internal */
+  private void isFieldAccess_reset() {
+    isFieldAccess_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isFieldAccess_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isFieldAccess_value;
+
+  /**
+   * @attribute syn
+   * @aspect AccessTypes
+   * @declaredat /root/project/java4/frontend/ResolveAmbiguousNames.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="AccessTypes", declaredAt="/root/project/java4/frontend/ResolveAmbiguousNames.jrag:53")
+  public boolean isFieldAccess() {
+    ASTState state = state();
+    if (isFieldAccess_computed == ASTState.NON_CYCLE || isFieldAccess_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VarAccess.isFieldAccess()", "", isFieldAccess_value);
+      return isFieldAccess_value;
+    }
+    state().trace().computeBegin(this, "VarAccess.isFieldAccess()", "", "");
+    isFieldAccess_value = decl().isClassVariable() || decl().isInstanceVariable();
+    state().trace().computeEnd(this, "VarAccess.isFieldAccess()", "", isFieldAccess_value);
+    if (state().inCircle()) {
+      isFieldAccess_computed = state().cycle();
+      state().trace().cacheWrite(this, "VarAccess.isFieldAccess()", "", isFieldAccess_value);
+    } else {
+      isFieldAccess_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VarAccess.isFieldAccess()", "", isFieldAccess_value);
+    }
+    return isFieldAccess_value;
+  }
+  /**
+   * Defines the expected kind of name for the left hand side in a qualified
+   * expression.
+   * @attribute syn
+   * @aspect SyntacticClassification
+   * @declaredat /root/project/java4/frontend/SyntacticClassification.jrag:60
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="SyntacticClassification", declaredAt="/root/project/java4/frontend/SyntacticClassification.jrag:60")
+  public NameType predNameType() {
+    state().trace().computeBegin(this, "Access.predNameType()", "", "");
+    NameType predNameType_value = NameType.AMBIGUOUS_NAME;
+    state().trace().computeEnd(this, "Access.predNameType()", "", predNameType_value);
+    return predNameType_value;
+  }
+  /** @apilevel internal */
+  private void type_reset() {
+    type_computed = null;
+    type_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle type_computed = null;
+
+  /** @apilevel internal */
+  protected TypeDecl type_value;
+
+  /**
+   * @attribute syn
+   * @aspect TypeAnalysis
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:295
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeAnalysis", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:295")
+  public TypeDecl type() {
+    ASTState state = state();
+    if (type_computed == ASTState.NON_CYCLE || type_computed == state().cycle()) {
+      state().trace().cacheRead(this, "Expr.type()", "", type_value);
+      return type_value;
+    }
+    state().trace().computeBegin(this, "Expr.type()", "", "");
+    type_value = decl().type();
+    state().trace().computeEnd(this, "Expr.type()", "", type_value);
+    if (state().inCircle()) {
+      type_computed = state().cycle();
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    } else {
+      type_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "Expr.type()", "", type_value);
+    }
+    return type_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect TypeCheck
+   * @declaredat /root/project/java4/frontend/TypeCheck.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="TypeCheck", declaredAt="/root/project/java4/frontend/TypeCheck.jrag:33")
+  public boolean isVariable() {
+    state().trace().computeBegin(this, "Expr.isVariable()", "", "");
+    boolean isVariable_value = true;
+    state().trace().computeEnd(this, "Expr.isVariable()", "", isVariable_value);
+    return isVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:313
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="CreateBCode", declaredAt="/root/project/java4/backend/CreateBCode.jrag:313")
+  public boolean isVarAccessWithAccessor() {
+    state().trace().computeBegin(this, "Expr.isVarAccessWithAccessor()", "", "");
+    boolean isVarAccessWithAccessor_value = decl().isInstanceVariable() && requiresAccessor();
+    state().trace().computeEnd(this, "Expr.isVarAccessWithAccessor()", "", isVarAccessWithAccessor_value);
+    return isVarAccessWithAccessor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:386
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:386")
+  public boolean requiresFieldAccessor() {
+    state().trace().computeBegin(this, "VarAccess.requiresFieldAccessor()", "", "");
+    boolean requiresFieldAccessor_value = requiresAccessor() && isSource();
+    state().trace().computeEnd(this, "VarAccess.requiresFieldAccessor()", "", requiresFieldAccessor_value);
+    return requiresFieldAccessor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect GenerateClassfile
+   * @declaredat /root/project/java4/backend/GenerateClassfile.jrag:395
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenerateClassfile", declaredAt="/root/project/java4/backend/GenerateClassfile.jrag:395")
+  public boolean requiresFieldWriteAccessor() {
+    state().trace().computeBegin(this, "VarAccess.requiresFieldWriteAccessor()", "", "");
+    boolean requiresFieldWriteAccessor_value = requiresAccessor() && isDest();
+    state().trace().computeEnd(this, "VarAccess.requiresFieldWriteAccessor()", "", requiresFieldWriteAccessor_value);
+    return requiresFieldWriteAccessor_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:57
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:57")
+  public TypeDecl fieldQualifierType() {
+    state().trace().computeBegin(this, "Access.fieldQualifierType()", "", "");
+    try {
+        TypeDecl typeDecl = refined_GenericsCodegen_VarAccess_fieldQualifierType();
+        if (typeDecl != null) {
+          return typeDecl;
+        }
+        return decl().hostType();
+      }
+    finally {
+      state().trace().computeEnd(this, "Access.fieldQualifierType()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect InnerClasses
+   * @declaredat /root/project/java4/backend/InnerClasses.jrag:395
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="InnerClasses", declaredAt="/root/project/java4/backend/InnerClasses.jrag:395")
+  public boolean requiresAccessor() {
+    state().trace().computeBegin(this, "VarAccess.requiresAccessor()", "", "");
+    try {
+        Variable v = decl();
+        if (!(v instanceof FieldDeclarator)) {
+          return false;
+        }
+        FieldDeclarator f = (FieldDeclarator) v;
+        if (f.isPrivate() && v.hostType().original() != hostType().original()) {
+          return true;
+        }
+        if (f.isProtected()
+            && !f.hostPackage().equals(hostPackage())
+            && !hostType().hasField(v.name())) {
+          return true;
+        }
+        return false;
+      }
+    finally {
+      state().trace().computeEnd(this, "VarAccess.requiresAccessor()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:645
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:645")
+  public boolean isEnumConstant() {
+    state().trace().computeBegin(this, "Expr.isEnumConstant()", "", "");
+    boolean isEnumConstant_value = varDecl() instanceof EnumConstant;
+    state().trace().computeEnd(this, "Expr.isEnumConstant()", "", isEnumConstant_value);
+    return isEnumConstant_value;
+  }
+  /**
+   * This finds the erased runtime type of this expression.
+   * 
+   * <p>The erased type of a field or method depends on the original
+   * declaration of the field or method (without generic type substitution).
+   * 
+   * <p>The erased type is used to determine when a checkcast conversion is
+   * needed to cast a generic type to the expected type.
+   * @attribute syn
+   * @aspect GenericsCodegen
+   * @declaredat /root/project/java5/backend/GenericsCodegen.jrag:147
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="GenericsCodegen", declaredAt="/root/project/java5/backend/GenericsCodegen.jrag:147")
+  public TypeDecl erasedType() {
+    state().trace().computeBegin(this, "Expr.erasedType()", "", "");
+    TypeDecl erasedType_value = decl().erasedType();
+    state().trace().computeEnd(this, "Expr.erasedType()", "", erasedType_value);
+    return erasedType_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:33
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:33")
+  public Collection<TypeDecl> throwTypes() {
+    state().trace().computeBegin(this, "Expr.throwTypes()", "", "");
+    Collection<TypeDecl> throwTypes_value = decl().throwTypes();
+    state().trace().computeEnd(this, "Expr.throwTypes()", "", throwTypes_value);
+    return throwTypes_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:145
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:145")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = false;
+    state().trace().computeEnd(this, "Expr.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:196
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:196")
+  public boolean isVariable(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "Expr.isVariable(Variable)", _parameters, "");
+    boolean isVariable_Variable_value = decl() == var;
+    state().trace().computeEnd(this, "Expr.isVariable(Variable)", _parameters, isVariable_Variable_value);
+    return isVariable_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect TypeHierarchyCheck
+   * @declaredat /root/project/java4/frontend/TypeHierarchyCheck.jrag:199
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TypeHierarchyCheck", declaredAt="/root/project/java4/frontend/TypeHierarchyCheck.jrag:199")
+  public boolean inExplicitConstructorInvocation() {
+    state().trace().computeBegin(this, "VarAccess.inExplicitConstructorInvocation()", "", "");
+    boolean inExplicitConstructorInvocation_value = getParent().Define_inExplicitConstructorInvocation(this, null);
+    state().trace().computeEnd(this, "VarAccess.inExplicitConstructorInvocation()", "", inExplicitConstructorInvocation_value);
+    return inExplicitConstructorInvocation_value;
+  }
+  /** Checks if this var access is inside an instance initializer for an enum type. 
+   * @attribute inh
+   * @aspect Enums
+   * @declaredat /root/project/java5/frontend/Enums.jrag:563
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="Enums", declaredAt="/root/project/java5/frontend/Enums.jrag:563")
+  public boolean inEnumInitializer() {
+    state().trace().computeBegin(this, "VarAccess.inEnumInitializer()", "", "");
+    boolean inEnumInitializer_value = getParent().Define_inEnumInitializer(this, null);
+    state().trace().computeEnd(this, "VarAccess.inEnumInitializer()", "", inEnumInitializer_value);
+    return inEnumInitializer_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect EnclosingLambda
+   * @declaredat /root/project/java8/frontend/EnclosingLambda.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="EnclosingLambda", declaredAt="/root/project/java8/frontend/EnclosingLambda.jrag:32")
+  public LambdaExpr enclosingLambda() {
+    ASTState state = state();
+    if (enclosingLambda_computed == ASTState.NON_CYCLE || enclosingLambda_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VarAccess.enclosingLambda()", "", enclosingLambda_value);
+      return enclosingLambda_value;
+    }
+    state().trace().computeBegin(this, "VarAccess.enclosingLambda()", "", "");
+    enclosingLambda_value = getParent().Define_enclosingLambda(this, null);
+    state().trace().computeEnd(this, "VarAccess.enclosingLambda()", "", enclosingLambda_value);
+    if (state().inCircle()) {
+      enclosingLambda_computed = state().cycle();
+      state().trace().cacheWrite(this, "VarAccess.enclosingLambda()", "", enclosingLambda_value);
+    } else {
+      enclosingLambda_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VarAccess.enclosingLambda()", "", enclosingLambda_value);
+    }
+    return enclosingLambda_value;
+  }
+  /** @apilevel internal */
+  private void enclosingLambda_reset() {
+    enclosingLambda_computed = null;
+    enclosingLambda_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle enclosingLambda_computed = null;
+
+  /** @apilevel internal */
+  protected LambdaExpr enclosingLambda_value;
+
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/DefiniteAssignment.jrag:109
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:280
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java5/frontend/Annotations.jrag:504
+    if (decl().isField()
+              && decl().getModifiers().hasDeprecatedAnnotation()
+              && !withinDeprecatedAnnotation()
+              && hostType().topLevelType() != decl().hostType().topLevelType()
+              && !withinSuppressWarnings("deprecation")) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    // @declaredat /root/project/java5/frontend/Enums.jrag:577
+    if (decl().isStatic()
+              && decl().hostType() == hostType()
+              && !isConstant()
+              && inEnumInitializer()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void collect_contributors_TypeDecl_accessors(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/backend/GenerateClassfile.jrag:380
+    if (requiresFieldAccessor()) {
+      {
+        TypeDecl target = (TypeDecl) (fieldQualifierType());
+        java.util.Set<ASTNode> contributors = _map.get(target);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) target, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    // @declaredat /root/project/java4/backend/GenerateClassfile.jrag:389
+    if (requiresFieldWriteAccessor()) {
+      {
+        TypeDecl target = (TypeDecl) (fieldQualifierType());
+        java.util.Set<ASTNode> contributors = _map.get(target);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) target, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_TypeDecl_accessors(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : definiteAssignmentProblems()) {
+      collection.add(value);
+    }
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+    if (decl().isField()
+              && decl().getModifiers().hasDeprecatedAnnotation()
+              && !withinDeprecatedAnnotation()
+              && hostType().topLevelType() != decl().hostType().topLevelType()
+              && !withinSuppressWarnings("deprecation")) {
+      collection.add(warning(decl().name() + " in " + decl().hostType().typeName() + " has been deprecated"));
+    }
+    if (decl().isStatic()
+              && decl().hostType() == hostType()
+              && !isConstant()
+              && inEnumInitializer()) {
+      collection.add(error("may not reference a static field of an enum type from here"));
+    }
+  }
+  protected void contributeTo_TypeDecl_accessors(LinkedHashSet<BodyDecl> collection) {
+    super.contributeTo_TypeDecl_accessors(collection);
+    if (requiresFieldAccessor()) {
+      collection.add(fieldQualifierType().fieldAccessor(decl()));
+    }
+    if (requiresFieldWriteAccessor()) {
+      collection.add(fieldQualifierType().fieldWriteAccessor(decl()));
+    }
+  }
+}
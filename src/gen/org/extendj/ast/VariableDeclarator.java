@@ -0,0 +1,1051 @@
+/* This file was generated with JastAdd2 (http://jastadd.org) version 2.2.2-18-gb8c958c */
+package org.extendj.ast;
+import java.util.HashSet;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import beaver.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.util.LinkedHashMap;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import org.jastadd.util.*;
+import org.extendj.AttributeProfiler;
+import org.extendj.ChromeTraceWriter;
+import org.extendj.FileDependencies;
+import org.extendj.TraceDispatcher;
+import org.extendj.TraceReceiver;
+import org.extendj.ProvenanceStackMachine;
+import org.extendj.scanner.DeclarationScanner;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.*;
+import java.io.*;
+import org.extendj.ConcurrentRobustSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jastadd.util.PrettyPrintable;
+import org.jastadd.util.PrettyPrinter;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+/**
+ * @ast node
+ * @declaredat /root/project/java4/grammar/Java.ast:199
+ * @production VariableDeclarator : {@link Declarator};
+
+ */
+public class VariableDeclarator extends Declarator implements Cloneable {
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:325
+   */
+  public void createBCode(CodeGeneration gen) {
+    if (hasInit()) {
+      gen.addLocalVariableEntryAtCurrentPC(name(), type(), localNum(), variableScopeEndLabel(gen));
+      emitInitializerBCode(gen);
+      type().emitStoreLocal(gen, localNum());
+    }
+  }
+  /**
+   * @aspect CreateBCode
+   * @declaredat /root/project/java4/backend/CreateBCode.jrag:588
+   */
+  public void emitLoadVariable(CodeGeneration gen, Access access) {
+    if (hostType() == access.hostType()) {
+      type().emitLoadLocal(gen, localNum());
+    } else {
+      access.emitLoadLocalInNestedClass(gen, this);
+    }
+  }
+  /**
+   * @declaredat ASTNode:1
+   */
+  public VariableDeclarator() {
+    super();
+  }
+  /**
+   * Initializes the child array to the correct size.
+   * Initializes List and Opt nta children.
+   * @apilevel internal
+   * @ast method
+   * @declaredat ASTNode:10
+   */
+  public void init$Children() {
+    children = new ASTNode[3];
+    setChild(new List(), 0);
+    setChild(new Opt(), 1);
+  }
+  /**
+   * @declaredat ASTNode:15
+   */
+  public VariableDeclarator(String p0, List<Dims> p1, Opt<Expr> p2) {
+    setID(p0);
+    setChild(p1, 0);
+    setChild(p2, 1);
+  }
+  /**
+   * @declaredat ASTNode:20
+   */
+  public VariableDeclarator(beaver.Symbol p0, List<Dims> p1, Opt<Expr> p2) {
+    setID(p0);
+    setChild(p1, 0);
+    setChild(p2, 1);
+  }
+  /** @apilevel low-level 
+   * @declaredat ASTNode:26
+   */
+  protected int numChildren() {
+    return 2;
+  }
+  /**
+   * @apilevel internal
+   * @declaredat ASTNode:32
+   */
+  public boolean mayHaveRewrite() {
+    return false;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:36
+   */
+  public void flushAttrCache() {
+    super.flushAttrCache();
+    constant_reset();
+    localSize_reset();
+    isEffectivelyFinal_reset();
+    blockIndex_reset();
+    localNum_reset();
+    enclosingLambda_reset();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:46
+   */
+  public void flushCollectionCache() {
+    super.flushCollectionCache();
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:50
+   */
+  public VariableDeclarator clone() throws CloneNotSupportedException {
+    VariableDeclarator node = (VariableDeclarator) super.clone();
+    return node;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:55
+   */
+  public VariableDeclarator copy() {
+    try {
+      VariableDeclarator node = (VariableDeclarator) clone();
+      node.parent = null;
+      if (children != null) {
+        node.children = (ASTNode[]) children.clone();
+      }
+      return node;
+    } catch (CloneNotSupportedException e) {
+      throw new Error("Error: clone not supported for " + getClass().getName());
+    }
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @deprecated Please use treeCopy or treeCopyNoTransform instead
+   * @declaredat ASTNode:74
+   */
+  @Deprecated
+  public VariableDeclarator fullCopy() {
+    return treeCopyNoTransform();
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:84
+   */
+  public VariableDeclarator treeCopyNoTransform() {
+    VariableDeclarator tree = (VariableDeclarator) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 2:
+          tree.children[i] = null;
+          continue;
+        }
+        ASTNode child = (ASTNode) children[i];
+        if (child != null) {
+          child = child.treeCopyNoTransform();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /**
+   * Create a deep copy of the AST subtree at this node.
+   * The subtree of this node is traversed to trigger rewrites before copy.
+   * The copy is dangling, i.e. has no parent.
+   * @return dangling copy of the subtree at this node
+   * @apilevel low-level
+   * @declaredat ASTNode:109
+   */
+  public VariableDeclarator treeCopy() {
+    VariableDeclarator tree = (VariableDeclarator) copy();
+    if (children != null) {
+      for (int i = 0; i < children.length; ++i) {
+        switch (i) {
+        case 2:
+          tree.children[i] = null;
+          continue;
+        }
+        ASTNode child = (ASTNode) getChild(i);
+        if (child != null) {
+          child = child.treeCopy();
+          tree.setChild(child, i);
+        }
+      }
+    }
+    return tree;
+  }
+  /** @apilevel internal 
+   * @declaredat ASTNode:128
+   */
+  protected boolean is$Equal(ASTNode node) {
+    return super.is$Equal(node) && (tokenString_ID == ((VariableDeclarator) node).tokenString_ID);    
+  }
+  /**
+   * Replaces the lexeme ID.
+   * @param value The new value for the lexeme ID.
+   * @apilevel high-level
+   */
+  public void setID(String value) {
+    tokenString_ID = value;
+  }
+  /**
+   * JastAdd-internal setter for lexeme ID using the Beaver parser.
+   * @param symbol Symbol containing the new value for the lexeme ID
+   * @apilevel internal
+   */
+  public void setID(beaver.Symbol symbol) {
+    if (symbol.value != null && !(symbol.value instanceof String))
+    throw new UnsupportedOperationException("setID is only valid for String lexemes");
+    tokenString_ID = (String)symbol.value;
+    IDstart = symbol.getStart();
+    IDend = symbol.getEnd();
+  }
+  /**
+   * Retrieves the value for the lexeme ID.
+   * @return The value for the lexeme ID.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.Token(name="ID")
+  public String getID() {
+    return tokenString_ID != null ? tokenString_ID : "";
+  }
+  /**
+   * Replaces the Dims list.
+   * @param list The new list node to be used as the Dims list.
+   * @apilevel high-level
+   */
+  public void setDimsList(List<Dims> list) {
+    setChild(list, 0);
+  }
+  /**
+   * Retrieves the number of children in the Dims list.
+   * @return Number of children in the Dims list.
+   * @apilevel high-level
+   */
+  public int getNumDims() {
+    return getDimsList().getNumChild();
+  }
+  /**
+   * Retrieves the number of children in the Dims list.
+   * Calling this method will not trigger rewrites.
+   * @return Number of children in the Dims list.
+   * @apilevel low-level
+   */
+  public int getNumDimsNoTransform() {
+    return getDimsListNoTransform().getNumChildNoTransform();
+  }
+  /**
+   * Retrieves the element at index {@code i} in the Dims list.
+   * @param i Index of the element to return.
+   * @return The element at position {@code i} in the Dims list.
+   * @apilevel high-level
+   */
+  public Dims getDims(int i) {
+    return (Dims) getDimsList().getChild(i);
+  }
+  /**
+   * Check whether the Dims list has any children.
+   * @return {@code true} if it has at least one child, {@code false} otherwise.
+   * @apilevel high-level
+   */
+  public boolean hasDims() {
+    return getDimsList().getNumChild() != 0;
+  }
+  /**
+   * Append an element to the Dims list.
+   * @param node The element to append to the Dims list.
+   * @apilevel high-level
+   */
+  public void addDims(Dims node) {
+    List<Dims> list = (parent == null) ? getDimsListNoTransform() : getDimsList();
+    list.addChild(node);
+  }
+  /** @apilevel low-level 
+   */
+  public void addDimsNoTransform(Dims node) {
+    List<Dims> list = getDimsListNoTransform();
+    list.addChild(node);
+  }
+  /**
+   * Replaces the Dims list element at index {@code i} with the new node {@code node}.
+   * @param node The new node to replace the old list element.
+   * @param i The list index of the node to be replaced.
+   * @apilevel high-level
+   */
+  public void setDims(Dims node, int i) {
+    List<Dims> list = getDimsList();
+    list.setChild(node, i);
+  }
+  /**
+   * Retrieves the Dims list.
+   * @return The node representing the Dims list.
+   * @apilevel high-level
+   */
+  @ASTNodeAnnotation.ListChild(name="Dims")
+  public List<Dims> getDimsList() {
+    List<Dims> list = (List<Dims>) getChild(0);
+    return list;
+  }
+  /**
+   * Retrieves the Dims list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Dims list.
+   * @apilevel low-level
+   */
+  public List<Dims> getDimsListNoTransform() {
+    return (List<Dims>) getChildNoTransform(0);
+  }
+  /**
+   * @return the element at index {@code i} in the Dims list without
+   * triggering rewrites.
+   */
+  public Dims getDimsNoTransform(int i) {
+    return (Dims) getDimsListNoTransform().getChildNoTransform(i);
+  }
+  /**
+   * Retrieves the Dims list.
+   * @return The node representing the Dims list.
+   * @apilevel high-level
+   */
+  public List<Dims> getDimss() {
+    return getDimsList();
+  }
+  /**
+   * Retrieves the Dims list.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The node representing the Dims list.
+   * @apilevel low-level
+   */
+  public List<Dims> getDimssNoTransform() {
+    return getDimsListNoTransform();
+  }
+  /**
+   * Replaces the optional node for the Init child. This is the <code>Opt</code>
+   * node containing the child Init, not the actual child!
+   * @param opt The new node to be used as the optional node for the Init child.
+   * @apilevel low-level
+   */
+  public void setInitOpt(Opt<Expr> opt) {
+    setChild(opt, 1);
+  }
+  /**
+   * Replaces the (optional) Init child.
+   * @param node The new node to be used as the Init child.
+   * @apilevel high-level
+   */
+  public void setInit(Expr node) {
+    getInitOpt().setChild(node, 0);
+  }
+  /**
+   * Check whether the optional Init child exists.
+   * @return {@code true} if the optional Init child exists, {@code false} if it does not.
+   * @apilevel high-level
+   */
+  public boolean hasInit() {
+    return getInitOpt().getNumChild() != 0;
+  }
+  /**
+   * Retrieves the (optional) Init child.
+   * @return The Init child, if it exists. Returns {@code null} otherwise.
+   * @apilevel low-level
+   */
+  public Expr getInit() {
+    return (Expr) getInitOpt().getChild(0);
+  }
+  /**
+   * Retrieves the optional node for the Init child. This is the <code>Opt</code> node containing the child Init, not the actual child!
+   * @return The optional node for child the Init child.
+   * @apilevel low-level
+   */
+  @ASTNodeAnnotation.OptChild(name="Init")
+  public Opt<Expr> getInitOpt() {
+    return (Opt<Expr>) getChild(1);
+  }
+  /**
+   * Retrieves the optional node for child Init. This is the <code>Opt</code> node containing the child Init, not the actual child!
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The optional node for child Init.
+   * @apilevel low-level
+   */
+  public Opt<Expr> getInitOptNoTransform() {
+    return (Opt<Expr>) getChildNoTransform(1);
+  }
+  /**
+   * Retrieves the TypeAccess child.
+   * <p><em>This method does not invoke AST transformations.</em></p>
+   * @return The current node used as the TypeAccess child.
+   * @apilevel low-level
+   */
+  public Access getTypeAccessNoTransform() {
+    return (Access) getChildNoTransform(2);
+  }
+  /**
+   * Retrieves the child position of the optional child TypeAccess.
+   * @return The the child position of the optional child TypeAccess.
+   * @apilevel low-level
+   */
+  protected int getTypeAccessChildPosition() {
+    return 2;
+  }
+  /** @return {@code true} if this declarator declares a local variable with the given name. 
+   * @attribute syn
+   * @aspect VariableScope
+   * @declaredat /root/project/java4/frontend/LookupVariable.jrag:238
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="VariableScope", declaredAt="/root/project/java4/frontend/LookupVariable.jrag:238")
+  public boolean declaresVariable(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "VariableDeclarator.declaresVariable(String)", _parameters, "");
+    boolean declaresVariable_String_value = getID().equals(name);
+    state().trace().computeEnd(this, "VariableDeclarator.declaresVariable(String)", _parameters, declaresVariable_String_value);
+    return declaresVariable_String_value;
+  }
+  /**
+   * Check for illegal duplicate variable declarations and parameter shadowing.
+   * See JLS8 $6.4.
+   * @attribute syn
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:465
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:465")
+  public Collection<Problem> nameProblems() {
+    state().trace().computeBegin(this, "VariableDeclarator.nameProblems()", "", "");
+    try {
+        Collection<Problem> problems = new LinkedList<Problem>();
+        for (Variable var : lookupVariable(name())) {
+          if (var instanceof VariableDeclarator) {
+            VariableDeclarator decl = (VariableDeclarator) var;
+            if (decl != this && decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("duplicate declaration of local variable %s", name()));
+            }
+          } else if (var instanceof ParameterDeclaration) {
+            ParameterDeclaration decl = (ParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("formal parameter is shadowed by local variable %s", name()));
+            }
+          } else if (var instanceof CatchParameterDeclaration) {
+            CatchParameterDeclaration decl = (CatchParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("catch parameter is shadowed by local variable %s", name()));
+            }
+          } else if (var instanceof InferredParameterDeclaration) {
+            InferredParameterDeclaration decl = (InferredParameterDeclaration) var;
+            if (decl.enclosingBodyDecl() == enclosingBodyDecl()) {
+              problems.add(errorf("lambda parameter is shadowed by local variable %s", name()));
+            }
+          }
+        }
+        return problems;
+      }
+    finally {
+      state().trace().computeEnd(this, "VariableDeclarator.nameProblems()", "", "");
+    }
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:35")
+  public boolean isParameter() {
+    state().trace().computeBegin(this, "VariableDeclarator.isParameter()", "", "");
+    boolean isParameter_value = false;
+    state().trace().computeEnd(this, "VariableDeclarator.isParameter()", "", isParameter_value);
+    return isParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:38
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:38")
+  public boolean isClassVariable() {
+    state().trace().computeBegin(this, "VariableDeclarator.isClassVariable()", "", "");
+    boolean isClassVariable_value = false;
+    state().trace().computeEnd(this, "VariableDeclarator.isClassVariable()", "", isClassVariable_value);
+    return isClassVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:39
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:39")
+  public boolean isInstanceVariable() {
+    state().trace().computeBegin(this, "VariableDeclarator.isInstanceVariable()", "", "");
+    boolean isInstanceVariable_value = false;
+    state().trace().computeEnd(this, "VariableDeclarator.isInstanceVariable()", "", isInstanceVariable_value);
+    return isInstanceVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:40
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:40")
+  public boolean isMethodParameter() {
+    state().trace().computeBegin(this, "VariableDeclarator.isMethodParameter()", "", "");
+    boolean isMethodParameter_value = false;
+    state().trace().computeEnd(this, "VariableDeclarator.isMethodParameter()", "", isMethodParameter_value);
+    return isMethodParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:41
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:41")
+  public boolean isConstructorParameter() {
+    state().trace().computeBegin(this, "VariableDeclarator.isConstructorParameter()", "", "");
+    boolean isConstructorParameter_value = false;
+    state().trace().computeEnd(this, "VariableDeclarator.isConstructorParameter()", "", isConstructorParameter_value);
+    return isConstructorParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:42
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:42")
+  public boolean isExceptionHandlerParameter() {
+    state().trace().computeBegin(this, "VariableDeclarator.isExceptionHandlerParameter()", "", "");
+    boolean isExceptionHandlerParameter_value = false;
+    state().trace().computeEnd(this, "VariableDeclarator.isExceptionHandlerParameter()", "", isExceptionHandlerParameter_value);
+    return isExceptionHandlerParameter_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:43
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:43")
+  public boolean isLocalVariable() {
+    state().trace().computeBegin(this, "VariableDeclarator.isLocalVariable()", "", "");
+    boolean isLocalVariable_value = true;
+    state().trace().computeEnd(this, "VariableDeclarator.isLocalVariable()", "", isLocalVariable_value);
+    return isLocalVariable_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:44
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:44")
+  public boolean isField() {
+    state().trace().computeBegin(this, "VariableDeclarator.isField()", "", "");
+    boolean isField_value = false;
+    state().trace().computeEnd(this, "VariableDeclarator.isField()", "", isField_value);
+    return isField_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:46
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:46")
+  public boolean isFinal() {
+    state().trace().computeBegin(this, "VariableDeclarator.isFinal()", "", "");
+    boolean isFinal_value = getModifiers().isFinal();
+    state().trace().computeEnd(this, "VariableDeclarator.isFinal()", "", isFinal_value);
+    return isFinal_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:47
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:47")
+  public boolean isVolatile() {
+    state().trace().computeBegin(this, "VariableDeclarator.isVolatile()", "", "");
+    boolean isVolatile_value = getModifiers().isVolatile();
+    state().trace().computeEnd(this, "VariableDeclarator.isVolatile()", "", isVolatile_value);
+    return isVolatile_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:48
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:48")
+  public boolean isBlank() {
+    state().trace().computeBegin(this, "VariableDeclarator.isBlank()", "", "");
+    boolean isBlank_value = !hasInit();
+    state().trace().computeEnd(this, "VariableDeclarator.isBlank()", "", isBlank_value);
+    return isBlank_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:49
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:49")
+  public boolean isStatic() {
+    state().trace().computeBegin(this, "VariableDeclarator.isStatic()", "", "");
+    boolean isStatic_value = false;
+    state().trace().computeEnd(this, "VariableDeclarator.isStatic()", "", isStatic_value);
+    return isStatic_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:51
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:51")
+  public String name() {
+    state().trace().computeBegin(this, "VariableDeclarator.name()", "", "");
+    String name_value = getID();
+    state().trace().computeEnd(this, "VariableDeclarator.name()", "", name_value);
+    return name_value;
+  }
+  /** @apilevel internal */
+  private void constant_reset() {
+    constant_computed = null;
+    constant_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle constant_computed = null;
+
+  /** @apilevel internal */
+  protected Constant constant_value;
+
+  /**
+   * @attribute syn
+   * @aspect Variables
+   * @declaredat /root/project/java4/frontend/VariableDeclaration.jrag:53
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="Variables", declaredAt="/root/project/java4/frontend/VariableDeclaration.jrag:53")
+  public Constant constant() {
+    ASTState state = state();
+    if (constant_computed == ASTState.NON_CYCLE || constant_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VariableDeclarator.constant()", "", constant_value);
+      return constant_value;
+    }
+    state().trace().computeBegin(this, "VariableDeclarator.constant()", "", "");
+    constant_value = type().cast(getInit().constant());
+    state().trace().computeEnd(this, "VariableDeclarator.constant()", "", constant_value);
+    if (state().inCircle()) {
+      constant_computed = state().cycle();
+      state().trace().cacheWrite(this, "VariableDeclarator.constant()", "", constant_value);
+    } else {
+      constant_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VariableDeclarator.constant()", "", constant_value);
+    }
+    return constant_value;
+  }
+  /** @apilevel internal */
+  private void localSize_reset() {
+    localSize_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localSize_computed = null;
+
+  /** @apilevel internal */
+  protected int localSize_value;
+
+  /**
+   * @attribute syn
+   * @aspect LocalNum
+   * @declaredat /root/project/java4/backend/LocalNum.jrag:48
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="LocalNum", declaredAt="/root/project/java4/backend/LocalNum.jrag:48")
+  public int localSize() {
+    ASTState state = state();
+    if (localSize_computed == ASTState.NON_CYCLE || localSize_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VariableDeclarator.localSize()", "", localSize_value);
+      return localSize_value;
+    }
+    state().trace().computeBegin(this, "VariableDeclarator.localSize()", "", "");
+    localSize_value = type().variableSize();
+    state().trace().computeEnd(this, "VariableDeclarator.localSize()", "", localSize_value);
+    if (state().inCircle()) {
+      localSize_computed = state().cycle();
+      state().trace().cacheWrite(this, "VariableDeclarator.localSize()", "", localSize_value);
+    } else {
+      localSize_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VariableDeclarator.localSize()", "", localSize_value);
+    }
+    return localSize_value;
+  }
+  /**
+   * @attribute syn
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java7/frontend/PreciseRethrow.jrag:89
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java7/frontend/PreciseRethrow.jrag:89")
+  public boolean modifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "VariableDeclarator.modifiedInScope(Variable)", _parameters, "");
+    boolean modifiedInScope_Variable_value = hasInit() && getInit().modifiedInScope(var);
+    state().trace().computeEnd(this, "VariableDeclarator.modifiedInScope(Variable)", _parameters, modifiedInScope_Variable_value);
+    return modifiedInScope_Variable_value;
+  }
+  /** @apilevel internal */
+  private void isEffectivelyFinal_reset() {
+    isEffectivelyFinal_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle isEffectivelyFinal_computed = null;
+
+  /** @apilevel internal */
+  protected boolean isEffectivelyFinal_value;
+
+  /**
+   * Note: this attribute deviates from what the JLS says about effectively finalness,
+   * simply because the attribute name would be confusing if it did not return true
+   * when the variable was explicitly declared final. The JLS considers declared final
+   * and effectively final to be mutually exclusive, we don't.
+   * @attribute syn
+   * @aspect EffectivelyFinal
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:152
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.SYN)
+  @ASTNodeAnnotation.Source(aspect="EffectivelyFinal", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:152")
+  public boolean isEffectivelyFinal() {
+    ASTState state = state();
+    if (isEffectivelyFinal_computed == ASTState.NON_CYCLE || isEffectivelyFinal_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VariableDeclarator.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+      return isEffectivelyFinal_value;
+    }
+    state().trace().computeBegin(this, "VariableDeclarator.isEffectivelyFinal()", "", "");
+    isEffectivelyFinal_value = isFinal() || !inhModifiedInScope(this);
+    state().trace().computeEnd(this, "VariableDeclarator.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    if (state().inCircle()) {
+      isEffectivelyFinal_computed = state().cycle();
+      state().trace().cacheWrite(this, "VariableDeclarator.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    } else {
+      isEffectivelyFinal_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VariableDeclarator.isEffectivelyFinal()", "", isEffectivelyFinal_value);
+    }
+    return isEffectivelyFinal_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect DeclareBeforeUse
+   * @declaredat /root/project/java4/frontend/DeclareBeforeUse.jrag:35
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="DeclareBeforeUse", declaredAt="/root/project/java4/frontend/DeclareBeforeUse.jrag:35")
+  public int blockIndex() {
+    ASTState state = state();
+    if (blockIndex_computed == ASTState.NON_CYCLE || blockIndex_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VariableDeclarator.blockIndex()", "", blockIndex_value);
+      return blockIndex_value;
+    }
+    state().trace().computeBegin(this, "VariableDeclarator.blockIndex()", "", "");
+    blockIndex_value = getParent().Define_blockIndex(this, null);
+    state().trace().computeEnd(this, "VariableDeclarator.blockIndex()", "", blockIndex_value);
+    if (state().inCircle()) {
+      blockIndex_computed = state().cycle();
+      state().trace().cacheWrite(this, "VariableDeclarator.blockIndex()", "", blockIndex_value);
+    } else {
+      blockIndex_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VariableDeclarator.blockIndex()", "", blockIndex_value);
+    }
+    return blockIndex_value;
+  }
+  /** @apilevel internal */
+  private void blockIndex_reset() {
+    blockIndex_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle blockIndex_computed = null;
+
+  /** @apilevel internal */
+  protected int blockIndex_value;
+
+  /**
+   * @attribute inh
+   * @aspect NameCheck
+   * @declaredat /root/project/java4/frontend/NameCheck.jrag:443
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NameCheck", declaredAt="/root/project/java4/frontend/NameCheck.jrag:443")
+  public VariableScope outerScope() {
+    state().trace().computeBegin(this, "VariableDeclarator.outerScope()", "", "");
+    VariableScope outerScope_value = getParent().Define_outerScope(this, null);
+    state().trace().computeEnd(this, "VariableDeclarator.outerScope()", "", outerScope_value);
+    return outerScope_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect NestedTypes
+   * @declaredat /root/project/java4/frontend/TypeAnalysis.jrag:613
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="NestedTypes", declaredAt="/root/project/java4/frontend/TypeAnalysis.jrag:613")
+  public BodyDecl enclosingBodyDecl() {
+    state().trace().computeBegin(this, "VariableDeclarator.enclosingBodyDecl()", "", "");
+    BodyDecl enclosingBodyDecl_value = getParent().Define_enclosingBodyDecl(this, null);
+    state().trace().computeEnd(this, "VariableDeclarator.enclosingBodyDecl()", "", enclosingBodyDecl_value);
+    return enclosingBodyDecl_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect CodeGeneration
+   * @declaredat /root/project/java4/backend/CodeGeneration.jrag:71
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="CodeGeneration", declaredAt="/root/project/java4/backend/CodeGeneration.jrag:71")
+  public int variableScopeEndLabel(CodeGeneration gen) {
+    Object _parameters = gen;
+    state().trace().computeBegin(this, "VariableDeclarator.variableScopeEndLabel(CodeGeneration)", _parameters, "");
+    int variableScopeEndLabel_CodeGeneration_value = getParent().Define_variableScopeEndLabel(this, null, gen);
+    state().trace().computeEnd(this, "VariableDeclarator.variableScopeEndLabel(CodeGeneration)", _parameters, variableScopeEndLabel_CodeGeneration_value);
+    return variableScopeEndLabel_CodeGeneration_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect LocalNum
+   * @declaredat /root/project/java4/backend/LocalNum.jrag:50
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="LocalNum", declaredAt="/root/project/java4/backend/LocalNum.jrag:50")
+  public int localNum() {
+    ASTState state = state();
+    if (localNum_computed == ASTState.NON_CYCLE || localNum_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VariableDeclarator.localNum()", "", localNum_value);
+      return localNum_value;
+    }
+    state().trace().computeBegin(this, "VariableDeclarator.localNum()", "", "");
+    localNum_value = getParent().Define_localNum(this, null);
+    state().trace().computeEnd(this, "VariableDeclarator.localNum()", "", localNum_value);
+    if (state().inCircle()) {
+      localNum_computed = state().cycle();
+      state().trace().cacheWrite(this, "VariableDeclarator.localNum()", "", localNum_value);
+    } else {
+      localNum_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VariableDeclarator.localNum()", "", localNum_value);
+    }
+    return localNum_value;
+  }
+  /** @apilevel internal */
+  private void localNum_reset() {
+    localNum_computed = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle localNum_computed = null;
+
+  /** @apilevel internal */
+  protected int localNum_value;
+
+  /**
+   * @attribute inh
+   * @aspect TryWithResources
+   * @declaredat /root/project/java7/frontend/TryWithResources.jrag:176
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="TryWithResources", declaredAt="/root/project/java7/frontend/TryWithResources.jrag:176")
+  public boolean resourcePreviouslyDeclared(String name) {
+    Object _parameters = name;
+    state().trace().computeBegin(this, "VariableDeclarator.resourcePreviouslyDeclared(String)", _parameters, "");
+    boolean resourcePreviouslyDeclared_String_value = getParent().Define_resourcePreviouslyDeclared(this, null, name);
+    state().trace().computeEnd(this, "VariableDeclarator.resourcePreviouslyDeclared(String)", _parameters, resourcePreviouslyDeclared_String_value);
+    return resourcePreviouslyDeclared_String_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect PreciseRethrow
+   * @declaredat /root/project/java8/frontend/EffectivelyFinal.jrag:32
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="PreciseRethrow", declaredAt="/root/project/java8/frontend/EffectivelyFinal.jrag:32")
+  public boolean inhModifiedInScope(Variable var) {
+    Object _parameters = var;
+    state().trace().computeBegin(this, "VariableDeclarator.inhModifiedInScope(Variable)", _parameters, "");
+    boolean inhModifiedInScope_Variable_value = getParent().Define_inhModifiedInScope(this, null, var);
+    state().trace().computeEnd(this, "VariableDeclarator.inhModifiedInScope(Variable)", _parameters, inhModifiedInScope_Variable_value);
+    return inhModifiedInScope_Variable_value;
+  }
+  /**
+   * @attribute inh
+   * @aspect EnclosingLambda
+   * @declaredat /root/project/java8/frontend/EnclosingLambda.jrag:36
+   */
+  @ASTNodeAnnotation.Attribute(kind=ASTNodeAnnotation.Kind.INH)
+  @ASTNodeAnnotation.Source(aspect="EnclosingLambda", declaredAt="/root/project/java8/frontend/EnclosingLambda.jrag:36")
+  public LambdaExpr enclosingLambda() {
+    ASTState state = state();
+    if (enclosingLambda_computed == ASTState.NON_CYCLE || enclosingLambda_computed == state().cycle()) {
+      state().trace().cacheRead(this, "VariableDeclarator.enclosingLambda()", "", enclosingLambda_value);
+      return enclosingLambda_value;
+    }
+    state().trace().computeBegin(this, "VariableDeclarator.enclosingLambda()", "", "");
+    enclosingLambda_value = getParent().Define_enclosingLambda(this, null);
+    state().trace().computeEnd(this, "VariableDeclarator.enclosingLambda()", "", enclosingLambda_value);
+    if (state().inCircle()) {
+      enclosingLambda_computed = state().cycle();
+      state().trace().cacheWrite(this, "VariableDeclarator.enclosingLambda()", "", enclosingLambda_value);
+    } else {
+      enclosingLambda_computed = ASTState.NON_CYCLE;
+      state().trace().cacheWrite(this, "VariableDeclarator.enclosingLambda()", "", enclosingLambda_value);
+    }
+    return enclosingLambda_value;
+  }
+  /** @apilevel internal */
+  private void enclosingLambda_reset() {
+    enclosingLambda_computed = null;
+    enclosingLambda_value = null;
+  }
+  /** @apilevel internal */
+  protected ASTState.Cycle enclosingLambda_computed = null;
+
+  /** @apilevel internal */
+  protected LambdaExpr enclosingLambda_value;
+
+  /**
+   * @declaredat /root/project/java8/frontend/LookupVariable.jrag:30
+   * @apilevel internal
+   */
+  public SimpleSet<Variable> Define_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    if (_callerNode == getInitOptNoTransform()) {
+      // @declaredat /root/project/java4/frontend/LookupVariable.jrag:230
+      {
+          if (declaresVariable(name)) {
+            return this;
+          }
+          return lookupVariable(name);
+        }
+    }
+    else {
+      return getParent().Define_lookupVariable(this, _callerNode, name);
+    }
+  }
+  protected boolean canDefine_lookupVariable(ASTNode _callerNode, ASTNode _childNode, String name) {
+    return true;
+  }
+  /** @apilevel internal */
+  public ASTNode rewriteTo() {
+    return super.rewriteTo();
+  }
+  /** @apilevel internal */
+  public boolean canRewrite() {
+    return false;
+  }
+  protected void collect_contributors_CompilationUnit_problems(CompilationUnit _root, java.util.Map<ASTNode, java.util.Set<ASTNode>> _map) {
+    // @declaredat /root/project/java4/frontend/NameCheck.jrag:459
+    {
+      java.util.Set<ASTNode> contributors = _map.get(_root);
+      if (contributors == null) {
+        contributors = new java.util.LinkedHashSet<ASTNode>();
+        _map.put((ASTNode) _root, contributors);
+      }
+      contributors.add(this);
+    }
+    // @declaredat /root/project/java4/frontend/TypeCheck.jrag:40
+    if (hasInit()
+              && !getInit().type().assignConversionTo(type(), getInit())
+              && !getInit().type().isUnknown()) {
+      {
+        java.util.Set<ASTNode> contributors = _map.get(_root);
+        if (contributors == null) {
+          contributors = new java.util.LinkedHashSet<ASTNode>();
+          _map.put((ASTNode) _root, contributors);
+        }
+        contributors.add(this);
+      }
+    }
+    super.collect_contributors_CompilationUnit_problems(_root, _map);
+  }
+  protected void contributeTo_CompilationUnit_problems(LinkedList<Problem> collection) {
+    super.contributeTo_CompilationUnit_problems(collection);
+    for (Problem value : nameProblems()) {
+      collection.add(value);
+    }
+    if (hasInit()
+              && !getInit().type().assignConversionTo(type(), getInit())
+              && !getInit().type().isUnknown()) {
+      collection.add(errorf("can not assign variable %s of type %s a value of type %s",
+                name(), type().typeName(), getInit().type().typeName()));
+    }
+  }
+}
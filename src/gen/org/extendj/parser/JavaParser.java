@@ -0,0 +1,7908 @@
+// Generated from /root/project/src/tmp/parser/JavaParser.all
+package org.extendj.parser;
+
+ import org.extendj.ast.*;
+ import org.extendj.scanner.JavaScanner;
+ import org.extendj.scanner.UnicodeEscapeReader; 
+import beaver.*;
+import java.util.ArrayList;
+
+/**
+ * This class is a LALR parser generated by
+ * <a href="http://beaver.sourceforge.net">Beaver</a> v0.9.6.1
+ * from the grammar specification "JavaParser.beaver".
+ */
+public class JavaParser extends Parser {
+	static public class Terminals {
+		static public final short EOF = 0;
+		static public final short IDENTIFIER = 1;
+		static public final short SEMICOLON = 2;
+		static public final short RPAREN = 3;
+		static public final short PLUSPLUS = 4;
+		static public final short MINUSMINUS = 5;
+		static public final short BOOLEAN = 6;
+		static public final short BYTE = 7;
+		static public final short SHORT = 8;
+		static public final short INT = 9;
+		static public final short LONG = 10;
+		static public final short CHAR = 11;
+		static public final short FLOAT = 12;
+		static public final short DOUBLE = 13;
+		static public final short RBRACE = 14;
+		static public final short VOID = 15;
+		static public final short PLUS = 16;
+		static public final short MINUS = 17;
+		static public final short LT = 18;
+		static public final short LPAREN = 19;
+		static public final short COMMA = 20;
+		static public final short LBRACE = 21;
+		static public final short LBRACK = 22;
+		static public final short NEW = 23;
+		static public final short SUPER = 24;
+		static public final short THIS = 25;
+		static public final short SYNCHRONIZED = 26;
+		static public final short AT = 27;
+		static public final short OR = 28;
+		static public final short DEFAULT = 29;
+		static public final short QUESTION = 30;
+		static public final short STATIC = 31;
+		static public final short INFERRED_LAMBDA = 32;
+		static public final short PACKAGE = 33;
+		static public final short PUBLIC = 34;
+		static public final short PROTECTED = 35;
+		static public final short PRIVATE = 36;
+		static public final short ABSTRACT = 37;
+		static public final short FINAL = 38;
+		static public final short NATIVE = 39;
+		static public final short TRANSIENT = 40;
+		static public final short VOLATILE = 41;
+		static public final short STRICTFP = 42;
+		static public final short NUMERIC_LITERAL = 43;
+		static public final short BOOLEAN_LITERAL = 44;
+		static public final short CHARACTER_LITERAL = 45;
+		static public final short STRING_LITERAL = 46;
+		static public final short NULL_LITERAL = 47;
+		static public final short AND = 48;
+		static public final short OROR = 49;
+		static public final short ANDAND = 50;
+		static public final short DOT = 51;
+		static public final short XOR = 52;
+		static public final short GT = 53;
+		static public final short EQEQ = 54;
+		static public final short NOTEQ = 55;
+		static public final short RSHIFT = 56;
+		static public final short URSHIFT = 57;
+		static public final short CLASS = 58;
+		static public final short LTEQ = 59;
+		static public final short GTEQ = 60;
+		static public final short LSHIFT = 61;
+		static public final short EQ = 62;
+		static public final short INSTANCEOF = 63;
+		static public final short MULT = 64;
+		static public final short DIV = 65;
+		static public final short MOD = 66;
+		static public final short DOUBLECOLON = 67;
+		static public final short MULTEQ = 68;
+		static public final short DIVEQ = 69;
+		static public final short MODEQ = 70;
+		static public final short PLUSEQ = 71;
+		static public final short MINUSEQ = 72;
+		static public final short LSHIFTEQ = 73;
+		static public final short RSHIFTEQ = 74;
+		static public final short URSHIFTEQ = 75;
+		static public final short ANDEQ = 76;
+		static public final short XOREQ = 77;
+		static public final short OREQ = 78;
+		static public final short COLON = 79;
+		static public final short RBRACK = 80;
+		static public final short INTERFACE = 81;
+		static public final short ENUM = 82;
+		static public final short INTERCAST = 83;
+		static public final short COMP = 84;
+		static public final short NOT = 85;
+		static public final short DOCUMENTATION_COMMENT = 86;
+		static public final short WHILE = 87;
+		static public final short DO = 88;
+		static public final short FOR = 89;
+		static public final short IF = 90;
+		static public final short SWITCH = 91;
+		static public final short BREAK = 92;
+		static public final short CONTINUE = 93;
+		static public final short ASSERT = 94;
+		static public final short TRY = 95;
+		static public final short RETURN = 96;
+		static public final short THROW = 97;
+		static public final short ELLIPSIS = 98;
+		static public final short CASE = 99;
+		static public final short IMPLEMENTS = 100;
+		static public final short ELSE = 101;
+		static public final short RARROW = 102;
+		static public final short EXTENDS = 103;
+		static public final short THROWS = 104;
+		static public final short IMPORT = 105;
+		static public final short LTTYPE = 106;
+		static public final short CATCH = 107;
+		static public final short FINALLY = 108;
+
+		static public final String[] NAMES = {
+			"EOF",
+			"IDENTIFIER",
+			"SEMICOLON",
+			"RPAREN",
+			"PLUSPLUS",
+			"MINUSMINUS",
+			"BOOLEAN",
+			"BYTE",
+			"SHORT",
+			"INT",
+			"LONG",
+			"CHAR",
+			"FLOAT",
+			"DOUBLE",
+			"RBRACE",
+			"VOID",
+			"PLUS",
+			"MINUS",
+			"LT",
+			"LPAREN",
+			"COMMA",
+			"LBRACE",
+			"LBRACK",
+			"NEW",
+			"SUPER",
+			"THIS",
+			"SYNCHRONIZED",
+			"AT",
+			"OR",
+			"DEFAULT",
+			"QUESTION",
+			"STATIC",
+			"INFERRED_LAMBDA",
+			"PACKAGE",
+			"PUBLIC",
+			"PROTECTED",
+			"PRIVATE",
+			"ABSTRACT",
+			"FINAL",
+			"NATIVE",
+			"TRANSIENT",
+			"VOLATILE",
+			"STRICTFP",
+			"NUMERIC_LITERAL",
+			"BOOLEAN_LITERAL",
+			"CHARACTER_LITERAL",
+			"STRING_LITERAL",
+			"NULL_LITERAL",
+			"AND",
+			"OROR",
+			"ANDAND",
+			"DOT",
+			"XOR",
+			"GT",
+			"EQEQ",
+			"NOTEQ",
+			"RSHIFT",
+			"URSHIFT",
+			"CLASS",
+			"LTEQ",
+			"GTEQ",
+			"LSHIFT",
+			"EQ",
+			"INSTANCEOF",
+			"MULT",
+			"DIV",
+			"MOD",
+			"DOUBLECOLON",
+			"MULTEQ",
+			"DIVEQ",
+			"MODEQ",
+			"PLUSEQ",
+			"MINUSEQ",
+			"LSHIFTEQ",
+			"RSHIFTEQ",
+			"URSHIFTEQ",
+			"ANDEQ",
+			"XOREQ",
+			"OREQ",
+			"COLON",
+			"RBRACK",
+			"INTERFACE",
+			"ENUM",
+			"INTERCAST",
+			"COMP",
+			"NOT",
+			"DOCUMENTATION_COMMENT",
+			"WHILE",
+			"DO",
+			"FOR",
+			"IF",
+			"SWITCH",
+			"BREAK",
+			"CONTINUE",
+			"ASSERT",
+			"TRY",
+			"RETURN",
+			"THROW",
+			"ELLIPSIS",
+			"CASE",
+			"IMPLEMENTS",
+			"ELSE",
+			"RARROW",
+			"EXTENDS",
+			"THROWS",
+			"IMPORT",
+			"LTTYPE",
+			"CATCH",
+			"FINALLY"
+		};
+	}
+
+	static final ParsingTables PARSING_TABLES = new ParsingTables(
+		"U9piNGUur4JNdabPmO85BiNU2nPGgjZ5tW0x5bHK115xxxrYnuu5nOwzTq75tjjdGr5HKL6" +
+		"nO66J$EVCcTbaCZExsSkz7$BzD#zpaiavSygRITlTx2xZ3Uybs$pxmUTZ6oUtEkq9z1YMRC" +
+		"FwiwtO0F#Ti8JQ#8P$Fw3Y$TW0ftL#a4$Z6yA8$yDdyZBx3BN9s3a1h3zVbmrmMXjWVjES0" +
+		"E0H0m#NjHtCnym9a3nSrbLWVkES0Cd3OOqzc7zN7FmAri2wP3LieAqV7AUtGDQR0NL4TuCj" +
+		"nVgnJTbcoSXa93kVNSGkPfUmIzaeTXcxdAq9FKP2RSFOqgnlD1BRoTJYY4Rogy0hes7hsFg" +
+		"n7wAHq7TBlM$Z4Ju6stAJw6ksHfvH#5Ru0EHRFPdgJsVlHbz7vx6tmEE7ueZEAtyVdPVLi0" +
+		"rj$O3JUMRVneFrAqzZ$Kidim5vJlpwqkB93tmRa8$PDcnuT3w3Tl9zSKJdXsz6vsSrh9#jd" +
+		"tzOT7vqFX#gzsqys1li4Vu7NL7yUzZ3h9$NYGyf7L4wbJtAvaw#Bsq6VUPXyxBvma7XjEHx" +
+		"FY1wav3V1j6Rl3jPU6#mzeFbvdmttgjqT70ph2yKlHdkmOUpXrW9zlQ6qb7#AtGS1RVpdVZ" +
+		"EV23VXU#gOcV1sjgqBl1Rs6PyRHxokLZ$S468VWWRoIvW5$Azmu0lvsyPN15S6LmLNCrNuf" +
+		"tvAhmltvXlmZVbcmMN1PUpVOBXyN9GNL$#VZ2AtMySY$tOxlnyjRNuLlnlDiZhv4UiZpyJ$" +
+		"7goFVo$WZtYvVZhqHZMYx$j$#h$vl$k$#7FyF$qOpy9MC03B$2380Y3KZ1NqCh$s$y7Zm9s" +
+		"PpJ6BqTZmiM3vM0BzKusOGt1yi6Fh0SSHVtPkMm0$ujuH6CGuM#GuMriiNk3lnh1DCCZ68K" +
+		"ys5h1x#7DGH##DHkNt9BSakrHyZIc7Z3jYqnX2$MDhcEzsFt5cBB7sHDmR5p71aRNXOkpmz" +
+		"Wfh7UuMRXsE1sPXhrpJAz3i1sYw$YzehLrk4lJC0rtZBuA3uydnPFuV77hR8#OPva6wxEUV" +
+		"1WovVD6t$dl0DEN2Z8T4OR8ZD$9NWeN1sOmfcnWk7SyIOnflrA3ln$cDq77HFXy$KmhB6$n" +
+		"Ui7UkvR$EbylV9RVmuTwox7DeY#YhxIzzrfjJ9TWFQCla6duYTSb6irwUTsACUMNHL$0#8o" +
+		"6CHsjnZHPEbcQ3RNklQCHOJaQdIoDhN9Sse$rzuxDCkLpDsPCItj3hZVvLQMRsLFi6Qt7RH" +
+		"hJnLdFv2VM5SRq6jXxBuJZT9#2J1TDVWhs0u#1qON9TCbqet8S$YEOxfzZAi0EWBuRiMdyK" +
+		"DQNTMiAfbudTZ3$ca#2Sr7$qfbm9ShqO2TccS8TGq$$LXnJ$q6#iFygC1rRSE$LcB3X$4RM" +
+		"cz$4kxBrW$rP3$vv8tXiW7MACzrgmIY$Z7MAg$#XGM$sLldBu5wDwMFvymrVI9nltW6F2rY" +
+		"lwD1YF4hNbiQKRWIFWT45V28x3AxUlODX$3F#9OvOSbjkn2v0bAT1$#5YnCu9PZJDlbcUvk" +
+		"t1f$1xahxi8pPCEmf7vu$2XCwivoMtHHVLCMB3WitONU0nCBees9mTnk$04MCDyTnYttmln" +
+		"$GY11or5mNB#aVwHxExmvsRXYcEQJ2GR#sNyqo3B$97eRg6U0EYQ#7CUdj1fWr1VxY6N0jC" +
+		"hqMctkR0T15lQ$QGk8RidMDwBS8V1tstmHPVBPpGX4mVBV$0tkABmPads#FR$54eho7x9b5" +
+		"q3UiLVbBmV3CPho3HDUWLdXdWlQUuMj9zWN6rl0O1U#yri7MWnRyexTiqvvloD3hVy6$u7a" +
+		"cadM$kiJFr7mpRDlvyuwteFqRdc$0yrXtstlfPm3sjg7EoDpmO5Tx16h3Ey7p#7Niqs2Yys" +
+		"lj2EmQ7Pbbu6mEBUyHuVUlj3VjmBs#$OYp2gtGUV1omkCSxmLkuyIpu9rXfic4mghHri44I" +
+		"YttlFlQezrDuPn9dMIGRPbd06QmdwuSiWhxGRpYCnQ36Z0KSBuprfdkInh7WkxCdiSxovzx" +
+		"7mIYeHPpRsPFUNsopKllo3tnKbaNvSssFkh1ox4pste5ZhPVtGMDO#Dt3ThF8OX5lAh7mFT" +
+		"YZEdidOPtHBy6DmA97z8C$pit2Ev7rz2OZ2s#AzmzR05Z4ZM5H6iw7ijx#WgKHS9re50l$3" +
+		"L$SxVhpiO78WYqeZWiufvH$B6tZdHQUcMKHpgkDnSUmHz5O3FCVPklMUtIpi#NTn6t#q#BQ" +
+		"T4VqRUDOOBqq5d1M70Nxzdfy91i4LOs7w#pVRA3tjdiiu1pQamqNrvtXV3LnN3IAXVUd$po" +
+		"o2B#6ArdZzgXX$dl4WiOY#jaR2omMy9SeJ$DN3B$o1XTX0L4#RpoBO8p$Ch88LWfMQEpHxP" +
+		"qXzgYVatx8edIs3sEHzFD$Bl$W7LoEzAFREpr$lV3UH1PmP0#FVYpEel9#nMj#DxOrN8i$5" +
+		"7lKqwLpaKNqJxs0U#aNed$uFT3AlU8lHxbxuMTj$k7UzMHBDiXk4xy7RHC#DEmMha7dAEmJ" +
+		"$UC$51q2$V#k6uTu2qH$XpsYluEVmoxUWlZEedTE#0datIP$Ps$pvqlMaosvK6Fp3B7nJis" +
+		"mWJxHt$wxuLlHtt5OByAEyV4mxm7ID#mI7uzi#8hivN0TE79qDiDi$kNFwydclwAn#KooEI" +
+		"jb4uVyPP1xWZNYCFghNWIzuXEYls1i$Wgt0ZOd89lIgk7Wi3E#iwXTULUt#SE8rP4jEL#xp" +
+		"#bARC8FaGtl4dGFtyC#q9C5Qy4yhXT1h$3zA0OsSJW0zhILuKxg7hXh#pGvFpysV5wRV$dp" +
+		"UhBvGpKstRB73J1OXqCTV394JShOl#w9T$NNYo9W4uL7XLtyTSDvWYtykzYgC3PvDZrj$i2" +
+		"cZYdPM6DpdsIp3h911gmVzi6emIPH57Ug5q5VV$su4nmtdSAxmox1jj7mQ6WqbAzlOREDpH" +
+		"#EcpgomRr4bar$oMOmiadwH$j5#yMT#EIuKzA$F2Nk5FrPBy8B$5zWtWFauR1BD0GmB1h6z" +
+		"p6F6pWNM$pXkAaZMxAfncO$oUO0P1ES59p2Hq34jwC$WzE2Cw8$OxzUX9$0jl1XRFpmYR1B" +
+		"k6ouHBXMk7QuLxXti4PkR0wq#GVTwigsalPUhhm6yuF4sEoTx1rCZtsi9rWhl2psendrWby" +
+		"Kz8ncmDZC25#6FQrxwHJ$NkGIdbyw9tS7UvtDF#nKJpQTJJ9LihbOZCqwfUl3RQ2YoT6Cyk" +
+		"VbAT2$N2$22uArOTu3P2gC3V18zadsmMLvKcviBhNvboVLbKqxRfANY4togZX3Nnx#XryPb" +
+		"O5DENc5NmVzPzQByADWFPZtY6QM5Wgxy379I$0w$bR#LF8glrrdaxnYzT#uhcpQs8IRIZOl" +
+		"2pPtbJOFjujc0fkPKCCZqSouVRqeRH5i6BU7uwPzgHEmUHokQEFvA$oDvENarDpOl6dpJqw" +
+		"j9vlEXhyZzxHt1PiF#8VXet5xE6xQmxtvLz2$OxtW$masZJi2cuwbfO3DL7OEw#TnRoxFJq" +
+		"xFlIDIiladfzUJJT$Jl5RopgO1sNYBUajwYqD5a#EEtbAi7$Hlg1VUqi73SGEmQIYj0FS2g" +
+		"tXTlUvURszrhqToSexDcZR$vEHwiYLjD3Pz91jnzVGsyDRpDemRWd5GLLzl4#Y$SBtmje1j" +
+		"iJ2mMRYqEh3Pqjl6w#TjwstdRU$jb6Epgyq$NB#URE6Q6fk1airkWitktfxUFj2d3rIrhpS" +
+		"K#dUe5zumODC1s7GezGOs1tWZl0EzGxmZlCEy8tDiZhBv0viwiYKNQMoEaspE56pEzKPw3s" +
+		"6Vk4DqilSez2$L2#znO5C2DgNI#i3cUUzfxpdlMUzbxqNl5PqDtCDO$85D7TcI2pGshyfNi" +
+		"Ai7QmQhUvzxxteVOX#ewZtl4#WVr0lMB#mS1y7AqCf$dhvJQHsTZyq$sgcURCbvoNdQMMso" +
+		"F4UV5#mSRE$zn$iK#yG1zpdslXTH$e6M9iBrlSzmoOSbzmORfte#ERatNihbbI9UoliIpdb" +
+		"VnKiXU4FyMtIAYFgDlvM$ZT$VtzRVtj$HtzdVnT$D7#Jl6QmM$qQlmlWMyge5KRnl$Kszxr" +
+		"qvFAp#ReI$CIrDyAlPPhXa4q2UJ$Mb0vExmnDSNYc2tSDVmfk3Y$nMuJ5ySdccztFfCD2V7" +
+		"KttVWp715locwFfEjYmQ3gFsB1WG78st9jEnoZXSU7eS7rNZj91CBy3mPwZfGdselURMBu0" +
+		"ydog3ovExeZESNcb2E$rstk$itxbcVvSuQlHEULfw0Nr$XHsXfhxHWEZdtJmZwEVeFvpedF" +
+		"2#zdKw2UC4WqCN$UcktB4wy7y7WIRI4iJx4Ne1Ki#Dhcdj4Ygz$v8xedETdcby3yDH$ERl9" +
+		"cbnRoobqHdbtz4BwXtMlc7w2UVHJoQfWDuJ8CnEJiwcmy37jD4jhFZ3TXmPvRZGEv2n1lGq" +
+		"aIu2lI29V2u2uw9YfxrJUwApdLvfV2$P0ty9jyF$mxNBnqSdGlZ0LvGx$V8m0$APMXf01xV" +
+		"mtYS6vtB8$$Ww7kCKZeaNeSDSsOv1kHsHBmEBIqu1W1Bu76x7wPwu75xTARJgmB$Mtzku35" +
+		"FlAtVfhGI#nR60xoWtgd885o9lnPDrG4yfi9ud1cT6MyRFXLD5TdwbLO67guinuBSYO3prP" +
+		"qE70k09PolxeotI$N#$CcTqHbEhmhYxKfz$8Nyjdw7qdP#E#0n3RsWtYdU8j7KS9AtMJH51" +
+		"$2O0kDnHdI6lqXfxMWAHYdju2yA#vKhoyMGPmr4#GTQcaWkzZlXaW#Bru2xjOhUNonU8phB" +
+		"vPNfjwI$hB#IltJf37yvVtb$18m7U46zNtexHbF2bRpLeYzr08ylOJpEYixoLmr$YBuKKLR" +
+		"pOJnSEKAieoi2AkngHzZ7xu9BuD7Lxvdg$Tvnr#HdbrUAvEVav#XuVuFeH7$pw8JefFAqvB" +
+		"IuAzGxsLix#jA$FJaZcgm3U4o6RN#QFyo$CtmxcYoYdE7Vvj$joi5MXVag2E2nYXt#lVvzk" +
+		"0GUg$WFf7hWi4fqciihu$#u$wZ$XFyKw#S$wx$WFmVZ0LvGx#Vnxz7aSANabEXp7S3ZSnYF" +
+		"qzYK#FTIE#Y7sKw9Tl0dkd94MyDyDKIq0orD#2z1Bro#0V9cHlysU9tgyihq#u$$WV#H$md" +
+		"mcEH$vK#6umEyeDvleeMYpyELedxGqW0yle7ZurGsXNzQMYRwHjJNBzhI$zgL8zevNYqPXu" +
+		"YsfAK9$vjePx7y7cHQgcV79UFYvLnUcNvh#3y7yyNB8OBvawMIfOA58DytvMb10zIuNBHBS" +
+		"YRQsERK1s8k9P$RsX3wT80z3Ek3Nd2#SkJ0Ek9kY61XMffW3xBDS5cU5dUBJa$rqOtWjQZB" +
+		"AuFbm6ivsCztZ6va$Q8ROGIsWQZvvt4xHwVx#x1LenrB45bWc#Z6O75iYIgEz8$tJtJbYFh" +
+		"3V7L4j1KjJGHBGYzSBgFtWcDhzM15brV6ltEqUx0gUo1O9Vc9zMEhibM3Bk1jF9qPxGvR$Y" +
+		"VeaxC4NKMsq#DrWnwk7CbFC5zLO5svD12i6ns6o#XmQ6#LwXdErtTvPVotZjSFTWmxm$6z0" +
+		"EiNx13i4kmAtYQF#U6uM80DCtZiARBj4QyTpU$CCHZcNGJMbai3mJx14B7S5sH4glT6nbqY" +
+		"xlBAuAPer#18DZnUCfeFNh#inCO6HyHTB3nsXNFKVAKDZQUbLyCeR0yOoT7E6e#17lrvHxZ" +
+		"NNxNuvv71iS7n4GzEuDF3pu9HV4RKXazZU$8$#VVy1$uZ$ud$p7$Xl$BV#E$9aicImSd1wL" +
+		"6RiBCV1MUNVmeE2yuFBXNFhxp6sWGt10j0Z$65dlnu9vmCutaJNvsrjjNCFRuqNuPln3VCr" +
+		"yp#P7$nrd13UY8$YP$ApmqMvEVmi$aXV4U#Cb#MTs1VUWy74uBdWkU35uA9YPTumQqujo4u" +
+		"kFnhy10ixmDv8AD7tUCkhqo$9ylV9FC5hmQl9wicgoGh9vtZmnElSNpO34UMPI7Fcx1S8NW" +
+		"dU2zPADuOFtkEOGe#Z1rJy56yCUnhSV09o6UfFfaVrXzoUMNy9mTVnOS43mNVnGS7tmU$1B" +
+		"y6KHmtajS$ZXmWy3e#3htG3#SAMyTzXJgAet1krmTQuNnnNxX$YiBvGHP8zTvniDw#zWTYO" +
+		"OTmuN3HSB5moN3fS9bmkN25SCKuQYIliZq7tFD4m0kMuGRXUk4coJdYexKZeYF2BN1kGxXH" +
+		"SWvSquy8jmJPEgFV5cHxbrUct#xXdf3lYF3OyCJmwF3ayAJmrEY8Hl9A73dE1kaCScuuiln" +
+		"rV7vo5chZ94x2It1kGpWgEGl6Amal1xaoenyDSetBAzCl2MzYJuRZmhl2#y9xmWV3XyAduw" +
+		"IHvmlkoF48I6UG9yCNmrV2ry9tKLl$UJJy8FmOnk2NyEPurs2KySxKlE6ryQxnxj3Zy$3a4" +
+		"eztPGtX5#6NVWIlkoFGxn7DAvub$ntQ3S4yuPHYvz56rFbj#5tuQxna#OlmUwWJxdB2cT5s" +
+		"9HQydA$P2zFpg1#L$6WxDhmKb4fOPsa1DhhK8LY0NTjSTPOMBBLbHoLp9tENEWQZIWl3Qzb" +
+		"5em6b9O8tydKcSsVhX7rq01jMMhAqjAXpkTAAfSv1srANPgkpQscDKgzadcIUKa#eSoseSy" +
+		"reK6dTu2sZpdboTGw2xRbUQGDHvvRioLA$e6EfVxFLkMrf#zBEfPtYCqjxGPsxG9rxHBl1l" +
+		"lP#lixup5oTky7sF80rY3eFPGsbmuEbs3RDLkTfKDbPR9luZD9vKESDSFSgfc2IKUSPUfrC" +
+		"Jk9PDV9v4AIPwbJPuhCWnoXeY3gJgS7NHfrdPUk47ZzHpqgTUmHF5QwJiMsJgVAvJ9pwymU" +
+		"XxZNbKvk3$I5Ojx#$FznsBlIlzg$nRv7RvWVOKdt3M3wNpF2LKrfdvNbbCNcTeWMzrwE3ee" +
+		"COmxaL2yAsM99wi2jIlLXtUsNwYMcqc5$BhiC5Q1jthY$PSuGtYZnd0AF5H9v#U2yLhXJlO" +
+		"Bp2MvL$7FuLx#2lmrXfLtzDlq#y0$HYV3gFmh5yXhyHd#QzOBjBXgrwYN##Vx9$d7#4VwX$" +
+		"a7#0lxVQLxn7$1lyCVvL$h7#XlxQqO7HWS3nG3l8WtfaU#NNg$lh4sWRjprRkNBayuZd8li" +
+		"7ezc0O6mz#wItRcatSJHjx$SrncAbqexnzlpZoZVEje#tntqocUgzdlH9#fJsnBaLKyF#SA" +
+		"J1CkaZbXBOpgwxW4TfVXk2jd7RS2rd3Y7bQTxEj4zwXqRxmvROnNWD#37$6ExgT$7NWIKJ#" +
+		"#Gkh87sIPWtoJwPh9ci2TMiQOVS0cigIVNLlFB#kUsvPYEtvt6k732V2j8xwGtjtWvC3HyN" +
+		"rgbwBsnNyShsC$UCteraSe8pXwWlwPNqWdOl1wQMTXVMgNelR5VnolOpcVHg99C7d3bwbN#" +
+		"4Li#a9xHxse5xDHj6FRAzykikMFUkderZubtWof7qB4#3Le#a1xHxs26O3ASUsLxvTHUiJ7" +
+		"eqaib5hXn93nYJ7adtf3kqkziXnqJqoFRAhxjWPTAzaKmkSUL8kiEOT4#w9TsWtSsEyZGn9" +
+		"g97jbT#tGKhaswDO#AFSkN0Eg6rHh86jDUmGp8HFRAzykikM9ciqKWcbxjoO9tGMZrP7Tgh" +
+		"so6PY1xPNlbr5wnCLcyaaojTER1EQ7LDkaAxgnsIYUYHxPLVTy7Af6iZcLphoe5rGgjBqWN" +
+		"QNUoGJ4IFRA$ykWjM9jRtfGimkTwL0#k45aimkWEIYUYHxPLVTy7AX3MIoKsk70dpdabON8" +
+		"xXjHRERV0cO6xgaUsLNtV1nWIqZMDoioj7N8xQnkM49nnOSJkYjc8hSYKA#NKNh6F2wsJ2e" +
+		"dQyDTyWlDcU8xmUwcm7hUMJvSCRS6w3pBsyabIlhrVtpp5PlbuctaHWSdSyo9u3zVnZQ2sJ" +
+		"B0FjPUoGkPTHakhrzUh#EIRBrCta5s3oPBoJFGVgWSaooIB98j1Un0wPUn4bgLvVh#wVOx9" +
+		"8lKpyZi3acNYWFGVgWSaYoSB9mj1Us0wPUs4bgLvVh#wVOx9mtKoM0YOln3lQSw0Uc2oS#8" +
+		"aFRTyEcTjNakhrzUh#EIP#tKmw0vENuftjEL0FJFnamMH1Q2zeXyoze99KhwzNzyynMR1U9" +
+		"kM$WSchyHxs7AWl$msjrabhQBUsG#PkhIJLw#lL$NDCwlqSbvN$vAsz5LpvK5$#4rgjabRG" +
+		"RcM7pDrAIQglvfNtpp5fLJUJVu19PrS#r9V$WTPSoLpGdiiEcNik9Qc#cbVUFyTahhgPm3N" +
+		"UMzML3$Nblw1LIahGBjaXSvUKfFfgNdd$79DIlKoI4u39fgvyGdy2I9Y4q0xjaBb39Qc#cb" +
+		"VUFySahFjkvMDWifSh7#gZZw4L906q0pjaxa29GdH7DQzCl#sXZcqnHdG7wmT2qVAVScxFX" +
+		"aElOTGF8VgBDZ#IdvmSBtJJNJN2$FWaY6V6C#5kSgOTn8HwP7j5jrNpoc2Zi7Ey8NvQ5Dq6" +
+		"J6wJqVAVsMp4XiSRIYQt8KH$qKOcqKT2DzrL8zJp4RJ#YV#1zZzsI2R$A568RgdcbVKFEoV" +
+		"pXftBlqUt09DRPBJy4r3Ze9zyVHdTWi0bjSMOd2Xqqrqvud#I4q4w9PrWV3hP8VUkJaeKeh" +
+		"7Ll7J$vAHm1bGr5fYCbT7odv#Un1TIHr4q5Y7wYpOoeHRiNOuSCFynwHHV7ryFhAwtGsJ#4" +
+		"PR3z5xHpTMyilxysNYtv4UevMOIz08v7I0#uIZ3tX7#3kq6OJizkXc1VQajcQ1kkYj7V7qo" +
+		"3MJzP7seTdqx19Dfi1oczufkgkQLzUVuBWwyXevk8a4lo7rQV1gDGLbxNHcV5js4mBxKban" +
+		"GDzsL0#OR9Al5ryNNGOJhx81U6w1LYK9qUpMl34u5d1AV0hNSJe9UoGRngR0yHLQVQMCVH7" +
+		"mGzOzkbqoW1MFYg14YRfbi2RLkQOSyHhPKeX3TMiqhHNmouCJuHAZZLXAA54Dbg1KiCctiW" +
+		"r3zerib2zHDTzK8yosIBM2vXHsInHPAKdqrhnJnIV59eZPu9S$xfD58ArbGMtxkpuORJqbM" +
+		"9aUDHy9yysHplXhERP3UcmlPDgidgGN583kfgBcfNwNbPc7FSJhCDqlmJcOpEwItw04iClf" +
+		"gNdb$iSLRAMIrPCbQKwIs2Wj7ZcGpkxzDwqAcdhaKydM2hbLgrVl1l5$5mpaEsUWP$priMX" +
+		"VOjfLO5UGgdIicCK1UpF20ANtUmuYUzRTfNS3dFIXMb2ZaAWLBdB7g$N2Uzx1DTd#RreLCH" +
+		"Oigv7F4YwAO82#IQbEuMZPwrj#cTI5JwI8AMfQLeTSYGWoG5qcjoUvlqxgGYRMOWf5ZCI46" +
+		"o8kaPgLMVvlMXTftETW7HRlBkRxeNOwQekj9w2x7FKNN8rH$yb1JbRkSzPBrOBcU7T9xFIK" +
+		"AqGtLlFB#eheRI2XI5HOt85H$ygYmSEI0#Rh9kh1SrmxflQwIL5$DA#$FNqlA$CL4t5kMfo" +
+		"cjTHgMbCCZwLCUY9$xbCEUWzyBytK0PJ6tGEQ59KcgrzVT$juYITdRB9dfBP$CJACvf#79p" +
+		"F2S2ekPEHRM7C1YdMHjm4mnjq3cXIL9gjVNtVxUZi1WjUGVRwNadpHQbR7u9xoqmkAV70jh" +
+		"3c2nTh8Mu1ynjq3cXIL9gjVNtVxUsbXByZU9YkQUah$3boei$ixP73cIjU8ZuYEIlt5k0#N" +
+		"59KcgrzUh#Gi6Vv6eQ5LO$5LQliBYBztcoX4V4HqS7PpyXNCRA2ykILAzlbxDNp3uamGdqZ" +
+		"fP$6blawSz1p1O3l2dc5iWeosd9DNhwzNy1OCP92fQ5HOpx6tojEU0#Kg06M9kWVHUIKcgr" +
+		"zUh#Gi6Vv2eQ5LO$65lawSz1ynN1FmXvXP8xnMLf7fzlPg$OF0xYOfMXSNlzZPvsdF0l2tW" +
+		"Tp6tG7gtLPBgzVLg$eB1RoGgMXKMlzdRv6dF0VC50B#9kGNIUm4bgLvVh#Ol6FnAeg9LOV6" +
+		"hlKsUzXp90j41qG79hpYtWRnnIPBgzVLg$lbQLDJw9rSEc8#8Hi1oX1tIUuIIL5$DA##Vgy" +
+		"MgBSJ2aICQ4RGE1a67c1klgOEXN3xv5rm3irNXhaxyhqrmA3wf71m4wzFuSDkJokd$sbYBQ" +
+		"TDO5a6xuAYWKp1li5TmOd1gS46mT71cS1xeXoSTaWumwXti86$gaUsLNw$khqzsRP79bGFc" +
+		"xPFsi6nlX$HkhoJLL$FA##TgiMeBiN3aW7b3qW3B1ZkaTuEIL5$DA##VgyMgBSJ2aGFcxP9" +
+		"si6ndX$HkfoJLL$FA##TgiMeBiN3aW7d7f2CiEzeXlJigIVNLlFB#kLgisa8i73cIZl5XyM" +
+		"5mYZhC3lAc7jbU#VNg$lfarnQPN3bWVcXyA2mFjKDw7wearLVpolldQh5g2x5mv8WFhNAz#" +
+		"8sk5tnOUhq8ak0Vl5vuW$aC$doXwyLmgY3ptRKs#3qXnahqQcbkMQBuRpPOpWLzxqM5jsoU" +
+		"XVrw8HYqiZ48TwZ2u60#exuhNZqCN5FT39vnCy1l5$tx6PG6p#aCojEhtJVD4Gn#QKe6cQc" +
+		"9x$oIhPAjuFgmbHtaIJsolVBhrVtroQujCZcoR9ri3RQjxP2UMoj9zTMyylwvEgpQGWoiEQ" +
+		"fS3$wOC$QYAWp#dECP$3rdC4WEIE0rDSvj84$gaUsLNw$khqzsRP79aMLuWk$J3hT3UWvNa" +
+		"kghUUNzStLOjOKOsBFid#mFjltja9xxAqdrrRpo$hawhDf23AmvuYrZV9PcIpl8atfaU#NN" +
+		"g$lharrRPBBdI8Obmu3TC3iazs5AKdqrhxn$RajQjKKcUuvuYnYV1Dh23ibz2oMflffNtZ#" +
+		"t9QtQ8fCZozOnN2DnReFqt5f9gg$cbVVFrT7eQx8ZorOntAVWt0RfkPMIL5$DA##VgwFHzq" +
+		"Ns7EuhMhZJd755gy9Wu1pFODSvdi7uEPx1StCyWnVcT0QbVUPu1aFcU0PLFwMgXq5qd4AU0" +
+		"MfIQwL7nbQRWUwlejYqBjJUThAMMVebLjXU#LzYbUyqUVF8TwBg$fMrP8baYVZJ#5EnTKRP" +
+		"Qq#Mo3yVwqUPTlfhSFF0Mh7$$6IGSLFrV2pcD#5vthpMxTMkyFQQdDzUx0ikFrNpEZJ#5#d" +
+		"qRUKnBwYeRpMtdcDRjIsyhPgeJfWsiezlrJexpeOwgqwEEfUQG#eyUWwfyy7chxFyO$b7h5" +
+		"CyIUUOoZ$2R1ZsWJehxwfawdogQ9tnTmeY9alpnj#X8DGoxK6wsbinZPx2hdKX4skgWf5ZQ" +
+		"iNwNRu7sGfKEjM4NUi2nKccAkGp9D0djOhsuidYyIVn9qpy5fhf8RmMrsEOi6jT45m$oV3#" +
+		"n0Qqy6rLpkQ#FYVJ5Gpsqr78eaItrHxPD7esZqthGkxVYzF8lrHGgSDh3zTdi2YhQcUzX6J" +
+		"#smksaFXlByR4lnURqIkmQrq8Up1M6X1sWL5ULY6xPRpvarzGeop2cdcFjgAhCKd$8McMD6" +
+		"eno3ZBAnWPbeTUqg8ajUdhpYgNDs7NkY3ZBADWP5W6UacBajIchpkhNCQ4NUk2ZBEqWf5XQ" +
+		"UWbBS8wB6kJkbfLBct2hdM1uYJJ5F8PacdnqieYhCEoDgchCQNHitbiMXSasnKKZEsm0jGf" +
+		"BSAQFNgKhjQs9F#jqopaMHoIxOyAndRu4UgKbkJ7tBPKkloKE#UbqRDvR5eN8ARrd8V$PrY" +
+		"ffSbVsR3$mBRyZ00fFj2s$6VAnX$2DdyqRoimUkJVIUMWFDarX7TyNfFjpJvK$quK6y$qem" +
+		"Rr$0BLzd$oJbQsO3lJmxnQfT6pUMnQ5yoHO#BxBC4tsJfpqoUputNz71K$Ctcjc#DrFUxzC" +
+		"dvRYFz1ysK8ByJx7ltuiksBEENka3zCzSh6s#JlY2lhxxlsnR1xDhPsp$jXNNV8dpVFLafP" +
+		"ywMocoZ3Ud4dwoeJNv3FtmIl2vfntnDLBjLqHnFx1ZWlqLmLgot2Tv2LgwlJLBwTjEpPc75" +
+		"oxft$i#FatGlZj5UpLvmR9sWTF2Tj9NzVs4gND4$5vQc4$3a7DSe2qb2UchTLtu#XuXjKx2" +
+		"pIZ4Kmnt6#xT$AkJdsJFQTuFpmR3X#tveDET#R3Ja$#k$dz9hjkbabf$rNUPitf$sNvPitf" +
+		"$rV7vetvrgp8UVwio7dHhCXvrQp8MV$sP1pXzcGSvVPa7FGRCWvP3Rat7ysvBJ$PrhpvZny" +
+		"DkGykhdU7QYy2s3cV4Az#lEUglcwi#exBerxtUbynwLNDh6geyRdXiqxEkDdGywNPaFErsP" +
+		"3plTdGyxPSOSyQJRa$7esvFnkDkISDXjo$ZeRSiwO3Jdj$oZUh3bz#t$WD6zE#s$oDs$EPl" +
+		"rinf5pWTcGis4svBJ$FqppvbnyDkIS3U#2#2lCXfohp8QSzl#i#rU#h#hTZU#h#dVCEHNx1" +
+		"ugAxv$Jtg$t7$ctlb$VZ9oV$7$8USB$Gyul$bivPwfieZCG#rvoRgRFXPfnbDx$juvICtB#" +
+		"#FyXvo$#7tAUyc$bd9cQyOctIWPzihx$6eyboDKFKxsogNOQIAq7EpdVVxqu6piBzg5DwqA" +
+		"msvno9V36qRuNs9$D$1TMx1z25OVD$qv9arJCVbJ7TsZ$Fyf$NSNU7PMAsymP5Vk7Lofk$l" +
+		"TRcg1YxvPAj0L3#$yI$ziglYrJiJtUlwnY$wXCnVR$uvx5YfFj2I99vgg56cLHejjOpKd5p" +
+		"iAkTK64#J3PZc34tmw5B4h2TREs0ZLkPyAkTM80mOWy08KiIdHRWUe6cB1hNOZl9#GZeqPP" +
+		"bEYssjMfs5dOjKxSHp0YtuT25YMwhK1rzvcmQvrua614VX25B4goDh$8Tw0VP5#f#6cUlAO" +
+		"g7Y8OaHz28OiItLQWElIUeZAaqUh08mGZyYCeP55IcRxDhRkgUyI4NUl4OmGZycCeP56Ysm" +
+		"fKfs9FLQqqQa4yGJ0YFu525YMwhNPrx0SLFOMAMX1F4Opgda8XYnBTLc3RFPM2JUE7gcZ54" +
+		"Lr2o4T6ZT3$hDfvM#tgLEpe4dvuceUVniz8BJLm5S68V1KAMPJejWBLNQL3$iCgnfoUjzaH" +
+		"ZoSOeuAQt$ZHk5IIjPaUvgHYPs7NEl4ymOZyF0fPbEYs0jKzRoAhPN$mO$dnjbuLl4Gm8h#" +
+		"4GXObkgr0TI#Pi6kT#0$1Y8pVWvKM9RgjG7N$CM7NEl4XmOZy8GfPbEYs0jLzQCAkTU83WX" +
+		"7v0nIoAD5j1Qhxm8HTwyJx12Fo#oXaKQBR2bJtlWcxredt24Razr38eaIt5QZkFHDshHFl4" +
+		"ep8xwAGHObkAr3TkoRiMYVU8HYHtq4XYnBTLg2wTqpOjKwy7R$DVHuOaTz6GQXstbQWkhTD" +
+		"sBLEV4mm8d#CGXObkgr0TH#Ri6kT#8XWHFu8XInAT5k1wZuoOTSwyHR1YFmM2bcKwBO2rRr" +
+		"bmgvruas24VbD5B8eqMq5gdlJX5thn1i48$8RA6HHejiALFU62RlMYKa48$8a5B8eqMq5gX" +
+		"F#V1wLGqNJuU#NrsJmBS68ZAyAfKM9RYjGtRScx5edlY8OaRz28OiItLQWkgzCsBLEpAQpC" +
+		"Mz8TVvM$ZP#VtzRVtj$HtzdVnT$Dt#GlwUmtKim8j#BGXObkgr0TVUQi6kTU9XWH7uOXInA" +
+		"T5k1wj1xYigGHgi3KmX6v2aeP56YsmfKDyM4NUl4P88HUJ8AMPJejWBLJJPXrpeXVntLYFm" +
+		"fOygYHBSLgCxoAwnshHEPNzNJ8d$2cB8eqMq5ghF#Uf$zL$qSU9HWH7uKXInAAjEtkNLNTO" +
+		"#Qi6kT#9jWHFuRXImeVFcyhK1rVvkmQvtud614$Xo5B4fqMu7gFZTXrphn5y68$1SAMPJej" +
+		"WBL$MN2hdNYJu8H#KyKiYZHRGMg#zE4NUl4umGZykCeP56YsmfKfs9FLQqqQZ54$o7a8wD6" +
+		"MPJejjhLgTXPsBLEV4Wm8d#8GXObkgr0TH#Qi6jTY6SGZ56PWK8M9RgjTdKgTXPshGlH1mI" +
+		"3zmSeP56YsmfikmzCsBLEl4im8h#BGXObkgr0TU#Qi6kTU8TWH7u7XInAT5k1wjunOTUw4B" +
+		"zEo4T6ZR8eqMsrgrEnix1hNOWs9XYyDqOXYnBTLc3RRMp2hdNY3O8H#GqKiYZHRGMgUyE4N" +
+		"Ul4wmGZykieP56YsmfKzxe9kzQ9rmX6vDTGoA94jnMexZKJTgqJhnACoA#Ya4M9RYjGtQic" +
+		"x5edzYKOaVT58OiItLQWkdrDsBLEz2KOaVkYa4M9RYjGNLyJTgqJhGb6vDOeP56YsmfKrzg" +
+		"4NUj2$2iX7naroeB2jydRQbUdOcTXrpendM14dev25c4TbhSLg6ww2RlMYHy8HkGVKCYYHB" +
+		"SLgEu74tQj4zyJZCZVev15YMuhKDtt9knQ5w8D2Fd8g54M9RgjTdKgTXPshHFp48p8yw2GH" +
+		"ObkAr3TF2RiMYVc9XYHvqOXYnBTLg2wkKtOjIx4JnBoaL6ZB4fqM#tgs0ygUWeLjHYYOma6" +
+		"xsDHoA94jnNOTiUQi6kTE8PWH3u6XInAT5k1weunOTSwSJJ1Y7mq2bcKwBO2rHrjmgvruYY" +
+		"24Vae5B8eqMq5gZlAX5thn9448$AHA6HHejiAL7Ua2RlMXVWRGZuoQfH5YMwhNPsAdOLTwy" +
+		"IN12FoboXaKQBR2bJtfGcxreLeCC4ObS4eP56YssfNfs9dOTSw4HACo24AMPJejWBLXIRiM" +
+		"YVM9nYHrqSXYnBTLg2wzKtOjIx4JnFoaL6ZB4fqM#tgL6mH1P$xV3gDMWpHnGI3zyKeCFzP" +
+		"jVEs0jlkOWL#U9f7FFTvSK5SIJ0YNub25YMwhK1rL#gGptrYpEbvcntnimHZL523ptq#I#r" +
+		"iZ$owQrAnix1hdNYEO4H#3eKiIdHRWUgUCv7LokS#BRqgU95WH7uHXInAT5k1wbuqOTSwCP" +
+		"5WH9w8GXObkgr0THDDsBLEl4mm8h#CGXObkgr0TI#Ri6kTU85WH7u1XInAT5k1wbumaTNA$" +
+		"SxIgu9d24ParE0n#moriptowyxgdZ5XrpenWM14dY2hcq3jR8$ykhEw2IRiMXUYAmZvoAXH" +
+		"5YMwhNPrAhQ2F1jZpEbvcmEN4up8bwEGHObkAr3TvJfaTHXpUjxcmDK48$BLA6HHejiAL7U" +
+		"r3baTnfoUjpbmAS68V2aAMPJejWBLNMh2hdNYCe8H#J8KcF#isdbRWUekKu1xb4eUSOzoMK" +
+		"7Cjf7bvnKOsL448$8e5B8eqMq5gXjbmgvr8TwKa8#C6cLHejjgLwTYPs7NkX2L20Rl4WfPb" +
+		"EYs0jkkPCAkTI7#YM3m$Wc5B4fqMu5jzvC9kzQ97mb6v1zHoA94jnMexaSJTgqJln2CoB#W" +
+		"a0L5#xn2wcfMzui9kzQ9dmb6v9zHo2Aim$As0jNzRCAkTM8QmOWy3OKiIdHRWUgccR1hdMX" +
+		"7C2AtGo6B4jrMeBfs9knQ5yhV4VAHKQCiIdHRxUfKx2piMXVYFmW6xpzGoA94jnNOTd#Oi6" +
+		"kTQ4im8hT58OiItLQWkhOcx5eNeeq8#SYeKHObkgrsTIfs5dQj2$5h18FtQoXaKQBR2coxr" +
+		"qpOjKvyJJ0YVur25YMwhK1rNvkmQvtuWc14$WA5B4fqMu7glZ1XrphnAi68$2eAMPJejWBL" +
+		"lMh2hdNY5O8H#HKKiYZHRGMgUyM4NUj2z1uX7narog94jzMkJiNEmgvruW#24VaF5B8eqMq" +
+		"5gll3X5thnEy48$BlA6HHejiALFUx2RlMYSq8HkJDKCYYHBSLg6up4tQj4tq8HkG#A6HHej" +
+		"iALDV7X5thH4#24Rad2bcKwBO2rVKqOTSwiGR1YBm62bcKwBO2rQrXmgvrOcc24Nbf5B8eq" +
+		"Mq5gblQX5thnE848$BYA6HHejiALBUu2RlMYTy8HkJVKCYYHBSLgEut4tQj4xyIZCY$ef15" +
+		"YMuhKDsl9knQ9pOX694tGI6B4jrMeBfDJDYrJgn6C2AlXa8M9RgjG7MhcR1hdUXCC29tHY6" +
+		"B4jrMeBhE9knQ9vOd696NHo6B4jrMeBhbJTYrJYnCC28lZ48M9RgjG7KBcx1hdMXFC2AtHo" +
+		"6B4jrMeBhs9knQ9pOb694tHI6B4jrMeBfDJTYrJdGb696xef15YMuhK5rN4tQj4wiGZCYhe" +
+		"915YMuhKDqg9knQ9rOa695NH26B4jrMeBeLJTYrJYnAC28lYa8M9RgjG7MBch1hdUX8C29t" +
+		"H26B4jrMeBgE9knQ9pOd694tHo6B4jrMeBhDJTYrJgnDC2AlZK8M9RgjG7Lhcx1hdUXDC2B" +
+		"tHY6B4jrMeBhU9knQ9xeJZCZTKSYYHBSLgAwx2RlMYMK9HkHbKSYYHBSLg6vP4tQj4qiIZC" +
+		"XBef15YMuhKDsI9knQ9$OX697tGI6B4jrMeBfzJDYrJdW48xA7GXObkgr0TPu9kzQ9lGb6v" +
+		"BrHoA94jnMeRcyJTgqJ0S687A2GHObkAr1TOCAkTM8lWX5vBnIoAD5j1QhRouHTwuHFC2Bx" +
+		"A6HHejiALEURi6kTU8jWH7uBXInAT5k1wjuoOTSwiI71YBmX2bcKwBO2rMremgvrOZs24Na" +
+		"z5B8eqMq5gblFX5thnBe48$AwA6HHejiALBUk2RlMYNK8HkHrKCYYHBSLg6uT4tQj4siHZC" +
+		"XheP15YMuhKDrQ9knQ9teHZCYzKCYYHBSLgAwN2RlMYMu48t8t5B8eqMq5gkjcmgvrOas24" +
+		"NbD5B8eqMq5gblJX5thH0#24Ra72bcKwBO2rVKmOTSwiJh1YBmw2bcKwBO2rQrkmgvrOYc2" +
+		"4Naf5B8eqMq5gblAX5thn6848$9YA6HHejiALBUO2RlMYIu48t8N5B8eqMq5gkjYmgvrOcM" +
+		"24Nbb5B8eqMq5gblPX5thn0e48$8AA6HHejiALBU22RlMYLK9HkHLKSYYHBSLg6vL4tQj4o" +
+		"iHZCWheP15YMuhKDrA9knQ9vOZ696NGo6B4jrMeBhbJDYrJdGY694xeP15YMuhK5qd4tQj4" +
+		"mq48t832bcKwBO2rJMOi6kTM8HWH5u4XInAT5k1wXOnOTSwqO5WHEw0GXObkgr0THrCsBLE" +
+		"B4Cm8Y#3GXObkgr0TSkOi6kTM89WH5u2XInAT5k1wfOmOTUw4Dz3o4T6ZR8eqMsrgrEnix1" +
+		"hdRYRO4I#6uKiIdHRWUhkDc7NEd4NmOXy5mfPbEYs0jNTPSAkTM8SmOWy3eKiIdHRWUh6cR" +
+		"1hdRYJO4I#4uKiIdHRWUhkD67NEd47mOXy1mfPbEYs0jNTOSAkTU9sWX7vTXIoAD5j1Qgxt" +
+		"OHTwyHj12FoRIXaKQBR2bHtcmcxrebR2KRaMr78eaIt5QZkLXDshHEt48p8jw2GHObkAr3T" +
+		"BIRiMYTk9XYHRqOXYnBTLg2wcqtOjIv4hGZvoAXH5YMwhNPrAdOMTgqByIO4W$ScA6HHeji" +
+		"ARBjDJDYrBaHp4GpUSw6GHObkAx3jvZ9XrxeGRqOmU6#6GXObkgt0jjlCX5thH1k24RaD2b" +
+		"cKwBO2rRKnOTSwCH$1Y3mV2bcKwBO2rSrdmgvrObw24NbU5B8eqMq5gflNX5thn3m48$8yA" +
+		"6HHejiAL3UF2RlMXUXzGZuoQfH5YMwhNPsAdOLTwyJR12FosoXaKQBR2bJtjWcxreLuSu8n" +
+		"AfkZa4M9RgjTdOgTXLthn4848$92A6HHejiALBUG2RlMYGK9HkG5KSYYHBSLg6v14tQj4mi" +
+		"GZCWBe915YMuhKDq29knQ9#Od697dHo6B4jrMeBhvJTYrJZn0C28$W48M9RgjG7KFcB1hNK" +
+		"Ys9UGZeqPPbEYssjMfs5dOjIuqzp#Z1#SqUuO3$miSAbCOyt$uJ5wkFJRWjzX$fR9coH6zW" +
+		"l$JLGg3itZkKxte5OJ9Ddeb$0lrmG5vIobpjnt#GVvy7bggQBIC9ocDwz$38C9rall7pRrr" +
+		"UTjcpx12SsGeHn3vYVYp#3DOzikFXdUfTncVmCK$W$FCF$XuTu4KE2DwjtltUVVmJjwTthN" +
+		"UpTwjtbNUDQ2ztXlZNH5$vjtadUzTw5ti7O$vJTIEZnCoq7AUtEmZyLXpP$0UREuC$cRDdc" +
+		"5giv$HsZHxXlRDdc7lPizmUBDdEAxPCunizWmNDjVPDRYMpcM1yK$oU7ODhcivk#P6ulvcp" +
+		"$14isTuhTaplDli6RvitWpUay5Kxp4MSyREPnUnYzabx58sYbt6BeUZeRi$seTxDow$6yCt" +
+		"vxlnNdmwnxkL6I3J#73#9$#U$y1$v3$nd$al$5V#6$#TxyHtvWFvBdnNrjyxbWtmpjDgzuh" +
+		"LxedVYI$3VJjVsx$H7rifUNUMVUv$PpO8UamFZsV3g2OGIqsgUxm2IEx8usim#TqaOLc1Fu" +
+		"IznBbWLwe1UuECOTknNTXkuMwXzbkJNFsMxVOKcNV2AEe8Hs#LaPQpTYx8JyrnBl2tReQO$" +
+		"PeXve1cYBbTCyJSeHbYxjGCCGSsGynTco7cxiqGSuzcYBaNdG63Gx8n$Is3Au8hWwk2g$Cn" +
+		"Wyi2xNTY0$llO#xEp#T$g7Sr#DziaDS9#ZuIL9wK2IfFfNXFWZJg$1uyM#3ypcRz36#StxK" +
+		"pVF0Cdk7BvUH1VZzfaWTrL7ek4Xp6ChzMIBPKJ8Xkkwh#77#xHPxXoHzYob$73wwdAn7Rlh" +
+		"7ZARph6yyfGUKVP#LuslRFWjkQdmlZcTi$$IrcBIBKcezOyz#YWWA$S2rx$gSfgsFYLznWF" +
+		"9imfcU$HsvaD7yJFg3yBHJfE5RbLhb6xgrrtuirRtJMdvqBM#8lsXAplbtyOnp7HUUmPuY$" +
+		"Vu$F6Iy9iZnRaQt4M3YjiJdPxz7Bwd$8IyEOzgHcz3B2t3THH$hmn$0DjYXRZ2tEbc3cDwU" +
+		"bFotrjVXJfGb$jly7UVIIxH$8HToN41b51wKdgJKfVrhgQ$4dgSR#x#D1ws1GeJrfLRKd1U" +
+		"UckVbmMqNPFMaMzfsp89JsoyD1k#2ee5CmRx1NS69mQd11i7HmPd1UyEA$cG4$J6FmDZ3u8" +
+		"7Wbn#1VEmRC#FLYnnZyQndm8#Pu1gVFyGpEdDCPUDVDyGnkACZWNtiszMuq6DZFflzQ1lu9" +
+		"Spo3a#Pu1cVFyGpEpSTjLWRYjG0xMrRQ10pOhsntblrNqwFPe6PaaFktG#tz3dtIN$MufcF" +
+		"ilUqCwdpLKrzlQytXJwpczzFACo7wqsBPYIrZlEh9LZ5CLZ4ix1QAtyErlqOAVyvNmf#Ls$" +
+		"jPCtzuQzYZFBCqCEn2jGYTxRi8pkq1Nc9xm5BV7fafUZDwCn6WzUHD4z6Rg2UhgE8sjWnvf" +
+		"6A2eikwjUsHniFiDkIhn7ZXhQg2v6s4jBnjGlH$cwoL2AIlYCshsfIy7H#7m3QrT92U9zIY" +
+		"UAX7FsovlRGwjyxc1E#t4BBFMoP8JtCLZ$IfsBsOyqXMTl494rEVC9L6spzXojR7z7rnRTk" +
+		"n2RtaliYqxpUeJvYI$H0ouducI9$EOLg6zAdOlIhJ8lbZiv9lNqIshKFgCUA#oe$qgTYzt6" +
+		"TDbQ$ObAtF$XvgU5W9E8No#RPmH7XGUF2il5S4rzAZai48s0Ss3W#XjWvHZvoNv1M7zAbOl" +
+		"VfxRx01VY#goHU$fXFkh$nJrgNSVtcKLWd5LIiyjB9T1gl#k4otYfX4t9ByTTTaBqIshOFq" +
+		"wLpre$Laht1VbrULKLFvza1aspga7YFkeVn8duhTopxvQw27lwRV1yubLo58JsqTfCTurCQ" +
+		"uf4$5xkMUAlckH6JREgGU8rwf$4YVYjshIcwLRtz4jgr3wZ7Y$igFzAdOlQhaLlc68h9j7L" +
+		"AF4OSgFzAdOlUgablbsm#HRUkGUeoud$8ZVIfshogvLRuXY6nRXzHZn27AZ$IfsBsgv5Rvz" +
+		"a5aspga7YFke$n8duhTgqfkbMzFHBQjG#enufxAZ$IfsBtSrm#LJvkqLoDwxxI#UkwZuLgj" +
+		"lnev4vz1IOOYI45j7QHFvmolrKAVYjKhFVURrsgLRmWYszOXzHXn2BuQ4Tc4FXMxbtKwY#B" +
+		"9RRSo8jlMGNgCHstq8tqgTY$tLCct4YBRrY7r674bvKVwLEnULNAhV5SZicqTKeyHhrP#f4" +
+		"$5xbKbjyet795jwv1wZ3XS#P4#5RjNbTmgtp14jgr3wZ7YCEL7#bJiNbMEws7CdDp7TQQ#M" +
+		"JgkhyJZEXwCaF46co1zEeTf6TAdOlLAxnUCuxgIRrz4jgr3wZ7YlkngcKteKx5xMQThA9xC" +
+		"jnSYszOXzHXnB#L7#bJiNkwfaczlHBQjG#enujxAZ$IfsBsgv9RsP4z4jgs3z1YFskX7#bJ" +
+		"iNkv9sUFEY6nR1#an7hNHZ$IfsBsgy5RvLaHaspga7YEkgFn8duhTotYVft8yeXrVfvNe4x" +
+		"UvPKdpi7aPVYiyzvt$R7rLZkjMbkCwCvMEBHrNEhvqGkd4O1fJlqENVw#mVVWDgaFw7HFrU" +
+		"t3ByEdXP$Gk05kv#dEcOZAEQzQcIiwE#PpXE#5aySx3PwnruPpcL2tdmisLCxaskPQQsCg3" +
+		"z6fEEOM#DQwJsBtS4$GOdOoMxT4cIA$c54zOhXNhezrULNAEJgv9v3CpsCg3z6fEyOHbj5Y" +
+		"$nkrL9USroTM9l0$0LXwaLtEA9opNYFMhtLvLSbwTN9N8wnMsyY2zcbCyORbQh5$bzggIyw" +
+		"hunbX#VeUjF4YlvXGFzUX7EfUNUu8UO#8niZt61EdLdE89ourYVOpRgqhECScLYNnzZgqyI" +
+		"A$c50$rw4SwbrULRNjbSaKYds77LXwaLtEA9onNYlKht5vLSbwHN9x8fo6nbGVfrPpY2SiL" +
+		"OlrojrULd9SdboMNoVPb9aYlvXHFM2uNwvUvlQhal2mPbSZdFB6L1#dLdE89osLYVPJRgqh" +
+		"EKV4riJnlO2iFqgivnKCz#f7EvUMUeCS1iNnd5Ljva5xDAPwmN2FM3t1xLSbvG7948f$EmL" +
+		"OUf5TpYeTwz2ETowlAjZqYEJ8vKhQFD45wDQTumdA4M3$IxLKbvv7nUGZ1#JmJf2UX#DGF$" +
+		"PJ5xbLbsvuNduiGxNDDa9w4ubE$LElogfBptFWSX6YVOuBq99LivoWDYTshIivpuhCHedss" +
+		"2TAJLBAThJGaTgygES#EZqM8zh4cI4zIoNQiqf3OlQhaF3OvF3cSsjZAW$HgJl58duhTopr" +
+		"1ZqCJ#Ja4jl8WlPhBR6WvNAmVwlQgalFGvC3aGDa#q0JfrPpY2SkXOlr0jrULd0Sc1oS7o$" +
+		"R19aYlvXHFM0uKwmUxlQhaF3Yv997VNiLM7gHNSuedB0UBzKlSNbLoNf8SbiYdKR6L1#dLd" +
+		"E89ooLY$J2tLvMSXoM798V8zY4cIA$c54zO3XFhXxYzgkGy91cHZ93j4IP8h#OKJrWE4UiZ" +
+		"t5vLSev83aeEaks3J91UpIcUi8mGwmUvlQfyldfGzPfo5MRg#wzzldeAPBiqkHIYx1SUWgq" +
+		"yH3roNlbyLUXJiNkPK#NprOozmEUh48zUKmk$t6lgU43uJQclyTu1g$Ez0tEgyZe#xjzih#" +
+		"ElJwwNhAytGNerbw$ZKTyQrqdiNkufkRuApstoF2aUyaokdnMUyLgn$FyQREL1UZKddaBV6" +
+		"jT9x5xk2Ngi6Sj$Li5M7gHNSuedB6k9zJNTNbLohXdtYEN$fM0h3zAhESKJbZN5UW#tLvMS" +
+		"FU9UiVpt7MpbGNerftZ2qaEizt9xLSdPApataVUUsCg3z6fEyL2FVgHpURadw75qShHi7ss" +
+		"2z6fEyOJbNB5#jDkhIiwZawEIesJxA1EaLtEA9on7Y$MZt5vLSXwLN9V8PzknbGVfrPpY2S" +
+		"jHOlqwjrULdDTLEIVqCyu98fuu9rmtI#U#6v8RPFuRJ91UpUMv3$MjSPt4xbM5vmrndxWFj" +
+		"R6L1#dLdEAX7lr8v$9oJz2ZToo$0OojF4YlvXHFMFg8zTvkhoevUyVTOtdjnbOUf5TpYYSi" +
+		"lSLwTxTNbPpTuvvnJzdkQOBqQaxnXAMxME$fzggIiwTxlotjdzzlAHxkjt7F#lVRojsP#BL" +
+		"VzwSg#bElyZvX03HRsvwQzjhmxknlDhDqDE$jjVFcKqzDbux1xuQMBX2PuVweTA7wL2LU7f" +
+		"5zQZgPYiXibUKLo48sCG#fHpArD3Bh8RAipKC#Lqp$EB#rwcT2QRrMMPqszGlLwxiSst2Vq" +
+		"cfO7tierlxP7iU4RqjFVoPJ6tCkgP9p2EQ4wQ7Sc5JktMhzfaaZSWvjhfp9hebyIXvRUP1U" +
+		"podqhL5BOlToJz1ZbsGNsTx51EaplNUL$NP5BOdTgqhENPA1oK3P7cY2z9dUkyX#kw2MnEv" +
+		"L9UV0PETaPzdUsGJfCxq7odu3KKjYzwgIS#TafsGdsTx91EaplNUM$NP6BOdTgqhEdP8Tan" +
+		"rbUqSJfC$qtadssmcr97QlAZbtZ4V7yhC#REL1#hGtnaCz#f75vUMUeCU8MBv7WAqyI9$fF" +
+		"Lhs6urQ4hjNbPmZaXsI7IIB7KoGFksDyL2FVcHnULNPjZj4UqPxKXjRUP0#xOtnK8z#P75v" +
+		"kIVeiKSadmN6LXwap$JUK$RR4xKaTgygEVT8TazsbonsDq7wj3V6GptwaSNbLMNRxfxibkm" +
+		"csxkP87scz#wot#we9R5xLScvc$kwKjeaVrsXUE9UVBTPkguCIWR9Y8DCa5vrbjSLrBT6BO" +
+		"dTYrcV8yFx8R3RlaNsCTqFGP$U$e$i8tK$bAqFxeVqvyXk4hzHLhaVyZeoLfxi$8wQZ0xtS" +
+		"9MxBLXMVW5GVSkExeUOV8ui#piVmcoxbrkeKFIhjUXCZzxuT$Qyp6VICdhZOrqz2xwZ6#$h" +
+		"dpeBlgVFWk#PDj#wVaUgKVxgTwJGlz0t7NEJyCzv9eibYqMlHQynn#yUuNlAoMBX0Q97vJt" +
+		"btBDWLT#Djda6Tqhj8N3kVSqE2btg7Yp1ZBD2S6Tu21vPvT$Stot5TwE3QyBzWq$J8qlalY" +
+		"CS9ewiokzQYVUKzsA3maEptoqDBT#aGCyWyrzVw9aygjwDJXxLWHhIYwV6A#yzfpOI4xAZw" +
+		"rpug9NrfEpv97CkJEDfhCLqitukRFGnSKmcfZoVGALuBfp5ywe#pNgbdlRingoT#RpB6#lf" +
+		"D$etcVoBtLUK9jckpYbvCctfKBQq1stNr4PYGktHTZx9a$OzMgjyUBOgauyuItnLUsi9BsT" +
+		"qr$Mt#QFRjyn$DVggZkW7p05RnbNxR1xLbkZ$ultTZBv7iVszKFH6xv5pQdJcd98dqfOEPK" +
+		"jxo2jAnKPYmfrDvdcyqdvS1sf8dwsA#f6Mn4IDd8ydZrNQZ#b03UcpLL4$qfAOg97piVIUh" +
+		"yfTQQQgEkvANJaVJHwfj1$HWHhIPwkYVgGbCL4ZvoF9mvNsmpfGG$fiLTIFj2GcQkHyE4dV" +
+		"Jtb81sf8dwsA#f6Mn4IDd0#blwnh$cuksJ8zA5knNznrvtmmgVpVGlA03jIGFbiLzICjYOa" +
+		"QEHz8xg#qxzU16j9dgw9#f2KnKIFd$SbzbVPzEb13#cnLr8#q92PgvBml7gdQyKWTg25zjY" +
+		"hgHreI4zLpnYEZBLGxsa87QaYVhOhwaPR4HFMSqHRb6QfTdg43DQJFLaNzI4jYedhEyepag" +
+		"SgMUqe7QaYVhOhwaPR41FQjyahbgUBNIPLDQlydhl4jqLkYjqHlYTuIlILwI$IMw2tHMwAt" +
+		"H6#9tXBzVplwdFn9GqlqbkWjqPicUlbdDli$jwlwVC3iYlwls39cz3t#3RNFkVjxI$IMw4t" +
+		"rANZOhz8qyeQRexgqLIKUFLcd$Vgzw$djAcU7jUjvhYhx$yf5#B0gV4hp2ttbqyvw#5IPrc" +
+		"RzIlFPSvQD$t4cFkdt$nl$VIvdpa#DdEdtkMOfPtnvB9yanfOEUqwof5BRJv#WnsMn$8qjR" +
+		"EcmzBwS#k5SIMs$N9JBub6nV4uJMpeilI#ZVZXNOlV3OoByqtPCnAEA7#CgczGME2RYI#DB" +
+		"qvQEV5$vpKfXIQMsdv7nabZ#dWosTDZh8qigjVroKIw9BuulbksByx3qleJwuLn9RRzSb8l" +
+		"ZY#ABPFkYF2ozBwP#E5TIsoyNvQBumbW#Zuqj7PRU5r4$d2kfxPUBSc5yGNo1R5#GXwNtXT" +
+		"GFvqfg##MYN11V4SjpFxPqM7fVGFrmhiJkvxusnLVKTHncwfW3dYDiYTuIlILwI$IMw2tHM" +
+		"wAtH6#9tXAz9NfBz9ReBT5RehT4RudU4hqbUalqbkWjqLkYjqHlYTuIlILwI$IMw2tHMwAt" +
+		"H6#9tXBzln1zbd$TD1EzUAN1NTMUzD6q$nDRkIMwU$zp$KCvJkA$DCQAPjN$qj2ZEtwZzgB" +
+		"mZDBHfTRKfJHtQTxIF2NnYykb2#8L4Dd$qiZ$7Ylre5ws2N$TLasbAoijyUIczDcwyjlK$H" +
+		"Wh$y5EPeFCBGe#S4oLxjIZy#ayAhMgzZGnvj1gopoX6jt9nh3js2vC$trn7sHVM9m5onDAR" +
+		"R9RFhhJwnJTMJg2UPKjVpXj#V8dsIqVtOd0fNyEjlpJ$3F2qqJh58Xy7dIH$pbMEfgToiI$" +
+		"eeIdY7Nnh6VfABKzv6JP7cAwWMd$2wazHNvQtKzN7y$M5hznz4xqZkttaMWAPWg6xwYdo0l" +
+		"yFfAsBwDdTfA$kbJHOdOR87Fs$oYT#p9ilTQqxMXVTcwxt8Jx4glwP3hioxI7saTaRMRvjU" +
+		"BQKTL8OznIAqlSLxLVAtwD3QeZBij63q#lkIrUARejgcu9#wysPsE#t8YO#gysZnU$sZohT" +
+		"RhsWzUR8MPprDaIioLcIynYCItdf5cEgP#JTcQ3YiQKTuzMxbp#RrpkxZ5pvm9tZpkodV9t" +
+		"BiQzQJtHit6AtVcsHFylHsVkgVQTOff5Vj#mo5vVDAQCt1nxlMNxvBB#Jupjd1oTMIVn7uV" +
+		"zAlzrQDc7jFzPBBvVvdFOCpELmOQ0NhiLtCFvjYhQx3bg$Z$75Dz8h$8FDpW5ryXewPuhAu" +
+		"4zrrA9RS$z5sunw$rAWIrclbEK$kigljEIlbDqA1kKgRRw#rboIvUErhTqINmVjdI1EaTat" +
+		"YdQLTlIjdTQSDfNBW$AAaiNnSiYr3j5OZhSUEzfMTKhDmNHKvcrxB#x7n4zXP0#Myej0XDw" +
+		"W9oStIAvwK3gXr1BVItLYWsvB0bDqHDCU#y99da75ps1IDLg$50NFU7#rrms5smH4PdyQQc" +
+		"lPRJgr$9RWQJloPqAM#GnX5AKZbNZXxgesc$idoIPINzQohNJPElXYYOtWGMWtfkBFui$Kt" +
+		"gIqZMgPxm25x#Lm1#r#TDIui5Ko$xWn$BZgM#u45W0UWMO4NNHWzxncDz49flqfwN4Gwasc" +
+		"yqx6Im0R2UB9ej6RqHlo2WFaUXJiYXetz2uINzQIZoGQhFP8Fe3YDpMXNYe0yiRTcJwIdzQ" +
+		"IZoIQhFPOFqHH9u3wacqoN86K$wqb7WorVgN#fVvbUypWmMWnHIlk50dz3jNELup$hIKU3o" +
+		"lhVH#795ntrNfXRZEOEgTqUsLFoqb7irhAzaUHLXgVfIavfQK$hIKU3glhKHz6c7Paa#JrD" +
+		"oIqf#M4Y$cjPNUBo8iM$958OujoTM$pMsl$6afCJ6lhMIRYB3KF96avfQK$hIKU26lhKHz0" +
+		"M7PaY#GrDoIqf#M4i$djPNUpoCiM$9v8RMkgjihVrfAF9VNLh8zXx3K$1n9pIqf$MafCI6l" +
+		"hKITWB1ioGaaDRUazAUbnFYyjj9xFCAo9SSBSMn9xvJAbfJ#j9HuDg#jP7iMOQdvMP9Qa$A" +
+		"dfSGpUMsbzpC8PdnA63rJEWBrrJybJFrfgQ#bMhptIpw7Q$Fvv5MwNSmhlw2HkVVJ9lMRFy" +
+		"ctV5hf$DBewg$fIfN$biHxF#7RflZl1PLkeT$y4HD#3jH6lEBx9grQdvAffPFILunPtoA$L" +
+		"5GwINhc$r4KjMqelkCLw4io$qIINDKuPJxXujlI9rp9rB1Rk4OoCPa8cISgRnCsfXdEqfwy" +
+		"4FP8NYWD2hjKxrtfZzbUI5uGy#Ubc71cX$x22rjoBGV3GsIZ5dd1tZY9n7R#IJBdvJHUydm" +
+		"qYRoYpwGOaD7rVqaMhu#Wl$32bbpB8LyrnQlKAkp919BCj6lQdwMl1Yhnei#I2UILF2V5W8" +
+		"ekfiErBVSSUM5BhkLGwIfV3OXuHrHg5VReKnBRb6MJnakUYpubh#WJAGPKT7E2$i8BMt8j1" +
+		"yFZKrMVo2hioGSarWmPDccyw9Fa0$9ANfHYG4MtR8aNoGjRSYq7m#C3LP$8Akp9XoJM31as" +
+		"QJneVKXUoQJamzBvk9Q7YcvEuX$GFwpdbzWedgeLpszLtsl0NfNhZUNyvfYIrr7mh4plDQH" +
+		"JIRmki5rlajV9Iua9TxxIPUG5hP79Qz36VrrsV5QaAbJnHBRNo2i#9daDnk0r2wYtvRCYCG" +
+		"QlrJK68XkrcBp6n4SRLxTTq$uma$Ss#QkRzvRClBthwbPbV4Lcr$r4VifcJk2rPo9UVnhZM" +
+		"xcVA8dt5ZBZ#uRo8Z7XpbswjP9lPF8rp8#iNYl5LwtCtSkpV1g8PKkvioVF9i$27SYpsAAr" +
+		"FAfjAVA2#JCaDUkkn8FMC#ILF2t5G9KuJvCNjkHQ3eP79Px8AkpnjIGrgwx4IvwEhoMl#40" +
+		"f1jnneB$mmfPSoy7mgCGJMOKzUPUarfJ6YmzCtYMlv1qf1ggmVuUyi2NNSZ0yAl54Lc5Fnf" +
+		"FKcj9uq1fFNicNScd07KUSjyRNTTwgn1DBkZT#dwJMf9qztYUlv3qf1jJPmyB#FVB2bbpBm" +
+		"V1uNzKdiWfxCgN8EOJYgrRb7F9L$RzwMkyh8EEr16thJujLRNi5b7nSxHLGirRzsInK$Sci" +
+		"LbthbQghwlZ8nbST7mMlaO#SBTlwYzeLkwgkbJcwpn6i3VkD7ntT5zsJDw27y4BxFMPcr0c" +
+		"v3w6M#ffOtYDmbrmAeATQYlXtHVSQ#UyY4NR32hPxfTo5K4jzJIpl5RXRBWNGKor5$BkZSK" +
+		"Rykqc4tR22RPoKkn5ggQ#9vJY1##LI03tLqh$0loYo$3iiwa1oxslO#Y7KKbzB9jiYEvxSx" +
+		"HQkWSRYlm$jk3TjWwyzmjMJ$sG#9tDE#d5GENDy1BbRLJ#Eqi$9P3MpV0pMyylOsZ6ejaER" +
+		"qatcQp36xDk18eX$VcrTzNzcMqc#rdDFUOQn7Qgy8XJnAjLKV#t8CgyjCZrRLU#PLcEyjg3" +
+		"l41nbSf2VQ5TobAx27AMZ2bHJe#vyZipwRTMhiVJap6C#2rZ8IZ2IhM2VcLjcQiFcPmkm1T" +
+		"b2h2rhnnfOUzQ1TMITsC9i4ROeMumjpfPWIxAbsD9i6ROiMuujprPWAxALM6UsCbk5hSfMO" +
+		"rrOLxOwMuDrOzrP3zQJzMAzsPgi3rkBhStMOUkozTZwR0Es8UlBDc8RiqtOfcmpjZdRWct9" +
+		"jc9RisrOFpXF363RGesO7z$9sfaDX5USkxBTu5Nl8BO7svFj1JJsXXhtPIFOWUmWKUDmTi0" +
+		"SmOigTl7YmAiDyBgANSskOQEXLkJ5$WUODOXtBEPy7kF$HtYC#H$XqGvurCDYBCpRQ2nwM5" +
+		"bGLlHf6XOUL7a5kr9Kcg$IOuEXfdsWoWQO#v1r$xeuBShd1oPPJjpAIJ3Xom6JfZf7Dt0EL" +
+		"Nf6ZMEWHkBqD$i7glHPL2ydwArp6k$c1Fjcqt7ovTZdQsmhEBK7JksWHtlHhzvnMhNuEB4N" +
+		"cueJNuYthLnHNkIT8EiDR0QxaQtFbs0t0wSlWTFjx0vs9$kMtLK79ruvAxm4baLXX1RdhU2" +
+		"ii11x2$SDzYwBvRPShCPPOL9TdF0usevjptQGqGzcXx13sM7iS7O4Ev8TnOvcnx1ZsN7iU7" +
+		"O2Ev6Tn4vcfx1JsMdiT7O6rBQtg7mVE1ECPFiP3EaeLLjhBBkENGzRQmnihPkWyfjXr6vbj" +
+		"q7bpy4M6iScihlPFUnUTX#xdpt07cGFiOVP8#nHzXXxd3t1dcHFiQVPC#nPSHICXoqKWV#B" +
+		"l3LKyGfiumRUXht1teGjfVEWBJGUjb0xiOKciScDO9hbCP9uy12otiJdvtE9FJBReut6j1q" +
+		"mtKSmtK#SaSR1iX1JiQ$XqTi3cOgnVONzoVxYAmgcPIlJTc9FHwRTcf1fE#21#p3UIMPxjC" +
+		"iovPs1wKA2wGYmT02cNGkEwLYe5fZ1iYimBOinxG5RTLt1bCDHvTg7YM5Zc2eEjugzzmR8#" +
+		"nKmdG9BPEW3t7ilZcaxEQRrxRqpW67Nt9ZY6M9ieRsND#6ODeYzTr6#7n#QxS6xs9d2jOxs" +
+		"thu5cOvWNVaEaccF2jF1Sk$jRsNQly9qdwPY2l6G1vVHd7ilx7CtmuZWcD9vU1nizw9CitM" +
+		"sPvy1qy$XsZ9UxhtryvWaweGp7Ty7U4IYJZplSQWpOZulQIDMSkoRw84ZjcZ1yyrUV33VMu" +
+		"xOM1WnZxt2k$0DuAhctZVnVDDUZDZO9XknTTbNm6CAdjKXTf6ZSApSDukEM7kuRemdfd3Tw" +
+		"2r7h06Y8TDrhKoxikvysQQzXeWHWgCGnZJ7r3AcwXeojYwc3S2qVORfSy2q6voj5geofdqh" +
+		"J9li6a9COV#DnDsCc#b2bMj81t7$MFXg2Ti5ho2B0XPdPM3joQjbcnfNIzfxdsl2lPVEDuZ" +
+		"1Me$nJgQpShuPgyutV7d1j6uMuZu3wnoBLqAufst0EldMSAvU0kgSbBkFUr5ZyHMmc29OF0" +
+		"TeN$nAoEVELVeLi9Z2Pi3vfj4i#1xoTU58SMVEHQNZWSLWCIBkStzxOC452zn$aCM8Her5D" +
+		"xYNVqNg6iK28gZNjdXNCbZMIJhaq5TZqQ2nUB6oHus5iUXGnrs9NkTpJS1YR8R5K3aIxIIB" +
+		"TbLPT00MpmaM4s4vlj4i9i7sU0NoVodFwlMpu90Vwvm8PqzW0NVwM2UUPNoeSmQSKx8iEXf" +
+		"dxFQ21Rw#6z$eetkIFBeRpmBhfR4e0ulsaWLMvGF37hdZei71eZsCQVj6i#WcMKngD0kibr" +
+		"Y8iP37XGz720YSIugnm2YppWBVHvwrevl3QyJiSK7NYlpHtS5vlMWFFiLPf7TF72guGRBem" +
+		"TQNzwVrlc$9uLozA9oh5pSy1kUsoNxMToWQwdg7mjEsoM2vJLuKsuIouLbo7sXpo5S$cqN5" +
+		"#oql0vjNsMlo73K38k5TOFxEtiR6dmKswbhQry9cJAFOl6XXqvzpgCuhnAQ#iOaBiFaAs4n" +
+		"fkh7XgmARePLt5jEx81kRzhCmDdqacoy5cnYOV2l7XZUM3M#LOVCLRAyfSDTc6viHJJ0sCp" +
+		"GsiNRS30Pq0nax2spwmDKnPSCXSbl8sG1ZasSJD$bPGBqER5jXm#NOD3HwJnkSOUE9T#BnF" +
+		"I2JJLCSDzexBh1ER7p1fet8J6FJ3jgDOREODZQAJL$BSMF$J6PMZXkkZGqNdzQeuwPnRF0r" +
+		"Rye6DNXFqqwCjSx6jx9vhYus4pGsdcGpHDv9DB1tr743hxSQmuPhOpDOt1E07LvlvVSqpyg" +
+		"cuoomwPOxRhfLs3GqoPxMJho7Gf9dOn#RMJbkrDXuSa$xbdqdsNZGQWGRE3zdsVXYRDgATw" +
+		"VpnqqtAvknip0s4pGsFh2fx6cmDkji#iCPEnRdj6x6s0nfWh7HsVZQSJCHrjCzhN5dw26vw" +
+		"yrOiLteCrED3L#ZoVUqTIMRDd9FcmZL39RlEZO56ry0emvfbkD6FqCFaMou79iXudg3P#WX" +
+		"ZTlJnESNAHkCCaIC#H3Z33sn2SxGTZPqzHmYjkIiiHcYiL4yQ3iLEMvcXOswinahzxInq8V" +
+		"O#4t2XlD146E8bOtzNg0fneROZDN6Pc8Zhvv39HlpoO$vhU$npjfnO$yKi4rbNoCso60$#G" +
+		"mGT$9v3ZoGpq9mjU#SUGPeB5n5UO5dWEWTco7ISrsnDVk8pn#j3FXkukcAx1R1fpA6mBQRw" +
+		"7m6oAyyoxIwamTk4UJn5MpDAHaUuu77WDey#FeYlYVsxh7YzSSauE49RcruFtWbaS$Q7h8k" +
+		"mjhptSMUq21uJ83bSouUV2x5W$TqyU1znUSW9ez#mCClC1vZnRjFN5m9y1ZpOSls4TVheUA" +
+		"pVlDPddR0extOAoV0Naay6g0zn3aUNY4U3V9TnWQe8#Knf22Fpy3lS#WvGUpHMHvuRSDpdv" +
+		"l7GXKU7Q3MzhLvG6$NVjNEmMEVkdXC57VOupKUWu67NvN78XKUavgKnv16yV21nn1nRpFMu" +
+		"36X1ezt90yEFOlmS9#l58#5n3rR$ViLdjacYkq#5dpoF0PKvJ5H7DzqdFkpp6F8BF7WOfyQ" +
+		"0Zrz2u$gup6nCXxespmyyFhX5U21uqbtpFta7QUNuT7MURvga7VPwdo5vuNQpoQxUN31WNZ" +
+		"uZJW#NeHUT2qS8ThfUFXYFAgTTzjLnWDVeRQTfUFSbyS7VgBTDiF3dqDvz1FFywOy5W8UxG" +
+		"hmyCI8SlcE6Sxt5JomhltWtWklzNZlbTxBgVkIjk9vrlQIHqELuwDhXKVRclSbw#RsAx$Wy" +
+		"J4Ojly#ebfwOdQ2E3xocOQAxTyWtWdgAjlTeIVUOIAFnSKTPktny6gEnnYH9UNH03p65BfF" +
+		"zDWOlhWO3IvY#1OUN8v4W#M9O#BXLJdEknROht0$fiyPzV5eA3WUOyGJW4Cb3yIwLXxub7S" +
+		"xu6A#8b0ysZbvj2r#VF3jOTcl4VVj$N0ynBRsnLMvOzNnUCUmT9Cy6k1OSl7O2NZK$tbaM$" +
+		"4AnXDiHigprdvMDlGUCcx9eS354ySXpkbfWpuWuy1MxFD8kZl1U#OT6r7pcUmiTZOxXvtBp" +
+		"cFViFF5Do2plulw2vlEVcM$iT$5gBPnZce$CHfqrilkdHosGxy2e#hBhO1dEuK#ZUPZ7zLz" +
+		"OLGfCkNnAj$DSfy5wQcvjcAPvRLluRqLCt5OxYkEF3fxD2qlF0iE5V5f2wQyt6V5jfANBwv" +
+		"u#b5Ov6ghCcNdJSsBIrvqjfgGuUM#6$8bhxQMgrP3eRlJRsKsF1CsyAuGjRbuqJxlrSNBoz" +
+		"sjmjcVprtWNO8580eNH#W4UQGsD3allyABYzU$NF2gFyUtSWnmoumqjeOFJDg8RSN5PoFjn" +
+		"2XnSNrR12oBowTOwUve76oTnZoTKko99dnLsauSroDXH3YiuJdo6ykTPdeU7GDZWME9BB1E" +
+		"Ucfe7DpJDLUTRSKTi2VkZqVAgoPklnfrmbYgSmJLYMCw3fRDMMTRKIU7EYV8rqdrradxpZX" +
+		"ORwuwSJkqfVE3t9xqUgvOdVW#1jQ9o$6DVZQoI9suxRg1do#E8zWgYPXgrvd82UkKhN4WpL" +
+		"Hd9PiFCX94r5bWtE4kKlHih#g4OxzmdT2lXzWwKAtmRSIvK6rFh5kzgmrjVEMKrbdHYxxqo" +
+		"GgSsw3jV6S2REsG6#mX7TDpFQmlzd$jdGUO54KMWAjtDkUTpJEpIyx1W1XMnNpg6J1YLaH5" +
+		"yTGxprFFd37dd1N5X5aKynb0YGgOCoegc32XgEZSNrqrqzqpFREp2NQnbk$nggkhNdwlgiF" +
+		"C0CtMUirfkFq$LuesRkTQJmqx0Ae7Aw$PtfArtkSgcokdAgkVABMaxFEjxbOFMPTfev4rZD" +
+		"LhWEXc3VBJA1grrh7MjTQpcgprhGsi3QqHraQnMB4sZ$qggRMrzVVqzjJsiEq9jDAUth$sj" +
+		"YSK3qZWqBgrSxoiH$PylxNp1QAh5FixxsrNsp5fgPZaQYbLJDgvPh$lsKeRYc4hnePgdwrZ" +
+		"qcxvtlcHLxZ4fCmrRqnAZKnCnko95WSrKwswI6IiGfe4cjMaobuLEtzq6KsC9aOJeudHn6Y" +
+		"omZJf4lkkBg49CmAs9bafxWYMsjzfOci2xiHxOQE9qSHeOZJfofg0KwydLSsj9qOJeudHfF" +
+		"MQo2VCcMXYqywoQTZlHMbD4ZcfDxDhxBFsUr7WjO34pqclL4tiptCUqlKrOOnyBqf2Eativ" +
+		"pAQLwVLn8xoG3C#gOhfuQy9hUOqQVPkgasxAlbkQWjy8ZzPDrng0cXDPEx8Dm3ieysafTIT" +
+		"UrgbZYQYghDf4etwQw9zi9cdhhLMawpcDR5Zk2qP7r1IkpKH8wG$b4yqXuJe4YDR75qTMxT" +
+		"yj50QfDEY5JdIWIjYB7haqxvu73Kv6iIqY4RZp$sJtkbqZVJV0pVgxp0UbeaMOdZhrdKn9k" +
+		"hvarea$yMqeDLABJBpHMkrY4afOf$1Iz32ZYwVp#3Pv#9nc5eBEw9yFeCNZyECFeFd9sc2d" +
+		"EhRaLDA6bjLqlaXdlVUJmisjkZJWiFRAgdRfl4vyVSzqadQCflAzptQNzBalyxW$UObjHfN" +
+		"XAJMZdybcxQFf1diSiOWtu6jttbgIJshQdCQEQkgvznAsXjqRYrQjXxPxq76teN9IgS5yIZ" +
+		"VdxIVyYZDczV2$inAiti38hCDMkZl8Z9QT18jegxTPdejR3rQg4KiBpfIYsXqLTIYsHfLus" +
+		"gtenPjhL562wE5qM9Lri8ZIrejqcguKlTHHWkZXT72Q66qC5fq5ItqPncyzq2ip3xRxUmeN" +
+		"9zfaqyMRW4csFqJzNdxjzd0zm6hspt9du18zHdeB36znHgCQV5Td1Peq38$j4w3baUIqQ0j" +
+		"6hHFDdTz3Lnoj7CzwleLrMXWD30Q60sC1aO3eu7Hm6XWD30Q60sC1aO3ey6ArS3x3frRW#J" +
+		"tPrtdajwXI$cUJBkzxPVITlBPxO5j#oPMA2Hz4wkc7llcfjPy6vnZrmjIo5wL#7wikDNLRi" +
+		"MtmKNbcoxE#x7#lwmHiBBR#Csr5$XyS#rLYgUrPkk$aSvhAsitQ$Tusuec$RNLLkqb9zAbZ" +
+		"TFE8sVwFoFdgYAdNNlaDpjcfP4kzfPTbVnsxpR9wNm6OuIU6yFnDSJc8z$37gdFZEniRup7" +
+		"Lxj3cb$jEbRIL59AUoAfioOVWZtZ8rDBwNokglsaZ7dORlkEjC#CrICExV3rEOtDt34OJNf" +
+		"xQmLz5i2ZlukoaplnjxVa#fo9tExVzkBO$cqly0HnMplAFOFniyJiL55fxU7EdPLfuKHx9d" +
+		"68vuwHqaXffEnuAHDhNdj8sLpDGyeEkR9nhRCtUkqITLqbhpplYKKjMG45At9CHclZL9$QT" +
+		"AzMxVEfpMJFqN9Mgp69SbWxTyBh#av5tsEj3hskr$HlxC0x1shVuyallrYqUpsnBXObnthg" +
+		"V1GfgaWi5dq$IxseHR7Ugc#tNtbLI4mLqzfxZzk#iMTBsSROIyWcgNC7IHpVqsilnUu4i8h" +
+		"UiV9N2#EdP8czVg9rXx5IfZKd6ctD7PFEN7F#YZftJ6HgdLV9$3Ky3K$3q$0qF0rFmzFmND" +
+		"ayrJSO#5rtsZmplkvCSSUbRVlMPk$#sKVw3c1xFJViJDunF0rFmzFmD3mDJyFJy3Gy$teyk" +
+		"zvzrQuXyL$nVhtHsUYygkhiahBTAb1SP#CbexFHsUYyWYfGvdlH#74httYBfdmpj#k#yTP#" +
+		"VbXHAu6HM5piocyZiP7ObZXEpKZSPINsVARTjMfrda#0iMgru7E0OeNBsCa$fMYaCz8PwOn" +
+		"qHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6" +
+		"UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqH" +
+		"ZeZdP7EI6UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6Ua" +
+		"Cz8PwOnqHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqHZeZdP7EI6UaCz8PwOnqHZe" +
+		"ZdP7EI6UaQxjqdVoNqJi71rVxMd6Tk5xSqBnleb4hl28awnWUAcQjSdIuqQjLB6QJOZ5YzP" +
+		"CnQnsKP8TXhb5JsnQpKDjpnLctQt8GLin$tjXr#qzKskqLNdEQfs$p69DmV6ZNz8JXO3WO3" +
+		"giM1rDTEuid38VEna5OSB1pG#IAF94l2aIXA1B5eeHpPJ8tm9LwRAse4$KY9CAq6u1kehle" +
+		"8NgANgAtw2FwYdwYlnWW1ef1Oh0O8eQArTeckv8Fs5di8dQDItorkCOb$qtYPlv79b6ZP09" +
+		"yP7BqTMf1l6#OQD8jNGjYLtTYZjsxcQe5udNnXdXJl2Ls53jvVBH0uuL#jK2CYTK2HhH3BK" +
+		"ZywvXQO6WQceRcog3foUqBV3EU2kZSrP0LKDm2dY1kYu#uAxdUjRI#YvdDr$UstilGV3trt" +
+		"LlXhH9RFuj$0NqsIGyzigVKmzd1kTUfr6k2gl1sQnYWAxnzp9fWRQlFBP2hW5tXM#bFjODh" +
+		"cp$R69ypVUApZTvBfkYdd$lFAcbkXCkVxIgTJNFRTjQuVQbP8ek#5Bcg8w7rUx6EfUwrH3l" +
+		"OnJylnAqgByH4u4xWRd6Fc0I#hmqyu$j1CLVCysHcoZkdiMj3iLXyARuINujlnBTYIT8uUp" +
+		"y8JdjjQ1MbkDll#nJ2JovhSA9SwVyoauiUVxaoZ2HHxKIIYtTtNudQxPf1NEYXkvlONUmXz" +
+		"XHxYRt5Fc9ViPyOBVOt6dIi1WbqZGP60wE1qS1eO3Gm6gpo6YH8sZuQ9DtrxJWDd7i2YJv8" +
+		"ig978p$$sQEM#ezEeK7BhdfQDDfVviIh7byTxFj84ilHYLSzRYb4ZPQY9dO7m$yQYQkUH7l" +
+		"ejqx4i6J#Z9uXDXEpnEoeVIV6xXli8sTAUuWnoXvWZpqyisNS21L3zd5238bIKMO$5x2llM" +
+		"GCAUjbUAyfff$77lPp0VlvGwRF1UJp1wl8Req2cf6Ntd5kUUrMHlAc$XDDagUw8#VFKzf8F" +
+		"KTHyYgUObH6psZ6QJmiWMUpcZgUYJsZoLJJL9aSVpAKcOVZJuPipxYpeialD$6CRop6fM#1" +
+		"ndfKXh4OvvIKct6DC#8j9TLvC2fZAwMicZ7UcVsvhPtk7ggqjJsgFUuLdHUpYvttpKNX9vb" +
+		"7Jw9CSfuLix$BBbQnrmfMbMNRtwhpiqiquVr7QHN63cs9ZvKkSUekNQoTMbCxMiAxDV7b$s" +
+		"V9MKrMTwl7YkUzClKsl0tlLOjtozQFDAERMJ$IxxfTTDGxA1sqLhkUKBRBMYslHjhcPwjcn" +
+		"VWvzP$XlIhoDdbjyjhmNlLu9ztdSV8HtkewpHwNT9sM86b6UIsc#z$tYbDvMxmZtXNlYVTN" +
+		"nhLrItYszBv9AlyQdeQduMbu6fw6f#7PTNWsztmb6ctTyvNsvHdjyET8XkUAZDkLmRDhvgV" +
+		"XQNXsHfvT#$bgDDenprVz$bh$V5NBEChVT$BvQiUySw7RNJv63K$3q$0qF0rFmzFmR0#Upf" +
+		"k6zb66JrKqJ$bsxoY$jwRjDrxbfmsdoxSvNMzDpxLtCw$PDBf74vwgs6yAE#zz9txVHb3H4" +
+		"ZM9txqZVjSZ8fP8$1oZ#fIuMDrknzwapV2xTn8eDVU#x1XaEj0pG$fahFuaxA4T6GSkdwom" +
+		"s3Cy3K$3q$0qF0tFlnvFlxjbzdweATr#YFFU$P3xNbbtt$V8ND$44SteEtaSwk1md5hiKtR" +
+		"wMtFqTvHvg4TzFm7dbZqrTVLfjOJlN6kNp$2vBABsSctv58QPswBlaMhT$DZtI2NEJv#jBh" +
+		"vt9UUNy#tggUyfaraJrJSvfRXgINitMbqTU6TQ9V9pTXpDYpRpEJlnYTKhMMhcpqkVjtAcp" +
+		"2mhovwlCylclOsyf#ok2lAUifJQgdD$jZHsDzhz9sTQsxYEvKmhTZSwrMTSkNwP4st5lUVM" +
+		"rq9tFN5$FsApjR3LEU691rLFB5lhDjRLX0Zk64bRNmbMnioKAqfxsDNlh1DvkfKopXFicjd" +
+		"xgAbNoAPK#hYaYklZYVCMh#xsh9JKKww$7Kuz4qztBFLKTXSxT7xBf8#PbIUxeTvvupsPkh" +
+		"ptcKcyTsn4TbNgqPH$7RMYfE7Or2AUxVOMbk5fU1gUXgVXsPLvTloLYZ$rQATVumrrGzrGD" +
+		"zGDTKFTK3VK3NL3tL0tr0trLPjwLtxIOAWRwePw#r1FzotldVzPRqTIxmoMIQQkdcYkRDcx" +
+		"RhmRwePwPtyAth5FArQyFcaufdqVFMdq2lXk5SEpS$9CdUFUdB37jcjEj40VanE6vohECzE" +
+		"roHxLOK$IqrFlQcyf6kg6kg5kg1lgXhgXRgWRweQweMwe6#g6kg5kg1lgXhgXRgWRweQweM" +
+		"we6#g6kg5kg1lgXhgXRgWRweQwfjx6RpTrKyzSKd5NkZTzFBshXfKDzOpYB#hwXN9xt2tHp" +
+		"7vBmqizzRVRJlVI4NFjzclnNyvmVaiZKQxuBsT4VV$ajzl6sx$7MfQmZ$KlPyI#ZrM$cIhb" +
+		"Ih8eSq90985wI8Ijh7HlseanzBj#EKDzDxLk1yJhuWtnfdZBJTFQdZCBekhNBnTQQxWjBoB" +
+		"Y5j4e9bYZOvONIvN5h75kowjV0G6xVWN46gL#1OJUZU1IeKTEjsgiMfllMFjOMpvc3ptAnn" +
+		"xsdBMiuOdsYEet3wrDM$gsexMN#juW6TEfUUfA9NyR9SEt7HDgwR047wfVXnaHFqxvNSXYf" +
+		"6jMCx$#P#kXOZc57eb$6UYXls$PtoDIZ#HlAsx9Ezdo#vPzwFfyMt6cTFMS6FKrchD5B3io" +
+		"i4KQI$ZP8I4shLRGzFlMvZRAcIeEn9psfzaHSXgQXgQXcHdDLByNq2QQlhKvKvfwhC$kKP$" +
+		"nx1uzEvVkVZkNnBrfIwXxw6IqypNKLpJrQCg$vdUAhh4PVhQg9JJrk0w8UZ$x971T9NpRbQ" +
+		"b7VV$igccfQmd$67B$pcBcSUdXaN0jeNkRlPPGLnAPHhWOg$6XdIzh$Weqq$t2ZKqbAN9Za" +
+		"h1E#iMTJ#HsFelvxrSoe9dcJf5zrHo$K#JiLnoRDMTfCJt1qh4xHR4QuTmfckEfG3xx5Nly" +
+		"0eqNUdf$ZzrvKdUAxBwbIVUUKjnvia9gjwQFAbpjMdbVZheJ$ytM#Bsd2D3ejKW2LVjEYz#" +
+		"TdMZKkREZVj$L7kcvysJVHPlZfXUpY9B8rH$xrLmbKPexVVftqJAIA6OHwJ$78lBUavU$ot" +
+		"ys$rJMaFUUz0o$UrsRwb#y3RWjuj5UStMYJlThhiwTFkyg4U$ruGet7pz8FoVQsEuT4VTws" +
+		"b$VQZ6tGnrkpY#BkNLBaAEgw#Zc#2r92n$TVEy2jP6RojSOjtJvsdPkyRjXofBDLZ1ZIMD9" +
+		"OqbZoPPQilrqIzpxYOYOO5ioxLD2VsxHv3q4UmSXvAgcPxcULTcj#DuXWRhUimeXkh4YDdT" +
+		"DvtbAQD#DRyhy#plO#xb#zpOQ#vr8bzG9ibMAST7u#klvpTmChaJ5EFtBdeaxKxd#gkTQQQ" +
+		"z07NjwfRQnwmcN6AkUSB6ta4zhfKt6jUKxJMAynGpyCKlCJZlQQyzcVIdjcO9I2tsPnBl9O" +
+		"p6$#ZFEVsuc4MZ7GOfdJEqdjMjK$6h0vXox6cY5r7hyqjRPElua6ixgINGwgLqSscXhNveT" +
+		"P6iZTST8dVwj56gKSwsQLDzI$Iaxs3anFU5ColMcBT$o9DSRvG5BfAijAUsGOKNiVBL5B52" +
+		"SsTkaMjrI#bTpJh6VI2Ur8srg$sgBTPX$CvSsS$$wKkhmof1gRilsN4RglxRKBSwfJY5rvr" +
+		"kdCv6wQzew5UUkQUlEBVNAY#jC$bfwZMoF3AIWrQIVnoITZzy3Sjr7yN2EdM$kpeLzNWHId" +
+		"cy1Vz$pgmJ$LFJJxuFjSMdu4yiR#Sn8y#Pkj0NljVhlJOae#Pnp1hmps9kcsUbDR#QTseHx" +
+		"NMtFmHQzqUlEXDWz8lNkTgQV38Y$kms5T4#JzHxTl$R0Cz4EwPu#mzDrHPZn9nfSqJAzcP7" +
+		"E5KCpruwkCzEzSikHuXRnMlFID2Tt8e$CfKaUAKJklQSIcC8ggkF$$S5h0qS9g#nOOLNc2F" +
+		"7eVDfN2l7OGB1iVoUiyY70DeoVBKHsen1LkK9a7Ge6h3xWLuHuzYNElot4$oJn3S1Du5l0$" +
+		"m7k1nO9yLnFO6$cFWw#2fWhnFE5mER0oG3zp$yWn0k3WR40y#SpvuLtXTYWbdd$jhKGWRum" +
+		"#OSGGpY$mN#1TuGO6W2OCvISpKAMrQ3n9sDUWq$MTyZzW13LQw9$44nVe1py6rZUlzo8yxq" +
+		"OTveGzTiAKNScgPibh5nqpbv3Y5b7WY$a$C70FEQi3qmKOWkchZPQY9orE8zPSmxa#576x2" +
+		"H4iUo7$#hej$f#GcpDkQsV4oAKnRdZX2Xyblx9p3iCcUyHuk$LZ7y8V0Zm578YnrRedhiR#" +
+		"5WXjYbbtiiSFuDyNmbHCbI8lE5WV5MoN8ZI0uHe#1loOzyyw9NEP1pjrKg4A4E7N8xhHzA#" +
+		"1fv$WD6x77kLpq5NzAj7jfmlXAX0bzmVuRS$W7pRvWcnvfr234EFOOS3#6ojOG0sNEjN8OR" +
+		"3OpXENnjPrpuB$Nepdxur2g1rlH11z5rZN$0uWBcLwm0t8IEns41$VZVmmq8KOVC$q37xM$" +
+		"gmRmtdiXy1lm2zhOIenUVvqAyzJuY2NS6CArW87UnSkodsx4ySufDg#1P607nTU3h7o5pCk" +
+		"SBnjF5T3JPh97vpY9kY7XnVInl$192x1hlKedVZdlGjfZqDtiXHD0XR3W3V1QqGSZqFbhx1" +
+		"zddt4cF8M30Tlp#DRj#GLgyByIhw7LH3W33s87mwVm$m5EQXurZuZqM7iRSBiPWvOx7tOdn" +
+		"wC7fy2Vs3BmLl3Lu0Hiv3LWFZWqF8aI$V1EEphyZLSUZv5VuQHvnzXV$7FId4eUX$wEuSNm" +
+		"PcpbVmF$HdqeLW$Oey#CSLGdoDpV$ngH27OQF3YFd3yClNsmjnEFrVdmG#0Y3EZYZ63iU0z" +
+		"n9YU#2rxx41yXv1VENXnw$HlGfV7K4SVFsU4F$4J$#ycfYv7DkWVtu$W7Zxv#VCH#xNkwF$" +
+		"dqBy2n$KJWNZytynxaXiUIGn#0qnLaAy74ai$hiCmFR$lWyWllEfAIN4mr7av57NiIn3jmI" +
+		"wH#6dqe70PaByPrtWRCuXnr3y#irw7CEt53bBNqGNR5lwjR0iykjewjRHrAQZwJ#6cd0CVZ" +
+		"$cGO2yE1PRP67BKcnqx8t0rqBy5prV9tzAvzCc1hSYdrx77$#bzXn7V1r7ZXv7tJcUF3wUN" +
+		"3yUMKz0bnDsn6R4QG5vU0BrQYIsUnsTogWt9om1Lw8RkNJY2DhdWAap0Uf7FVEh65DsF40y" +
+		"b66liekO#pvZW9E8oM#8gvCu$mqsFucwzmtyJwQkVxCKJAtwbfW##J7mpaASGhoSiWjm6yV" +
+		"anIdKsLCteKtDEVKICB5swaT2d4PTEOqOE8rQVtgONA1sdqwTt$OpQWdvKmxzSkpxHX6O63" +
+		"lz2UJCfuryPu3pyCqPrAmpxa0Fz3a3MSwalkVZppE9YpTO5yg9zHsflsT#8iHPrAQpg9tbs" +
+		"AByGyvJ9yg9insnyLclGeySh1Y0pxuKOZnhJmwuWZdtKbkMG7Cy#JqHMTuW7YfMvvZuV8Cw" +
+		"MO6#PzEVpPYpoUT7znPMLZtjkpb7tfozZ77aHTFzzAFFELjIv#wWZH$FmHyLkz96XtFGEt0" +
+		"1nwEGY$hm9d5pBZbNSIv0tBs9JSyzW$e2lGhyL46ClCdnkSH9D$nKrnyww5bFREMXSn5vL4" +
+		"#zt5BgGOo6geGL8CyAW2BMX12nKq5yDY3tcunxaznwYthx5dg#HJw$zJ7BB7vvc$hnziK0V" +
+		"d#7jUyTzidl8Fix#BE0#f1FZBrO1H3BB#A72lBvCMZF9IOhiD6BrAmA#Br8RZLGBohWrOWk" +
+		"5QnVy$5v8xLk2F8EEHfWVPz5tWsXJXHJsuPY$xd0KEGg8IygoC6Xr9MI2So3tYngrZlukDi" +
+		"$EOVytTu2OzDtMSFFe#PMOCSAul9Trglp$iMwG9aSLe0TrkOOEOOTHliW8SwdLWQxquRs#V" +
+		"jGlz4pAETJqzv5hlF9wo2rem9TtgMMdlyxOuZx835SyHDzr9OB$iunSxlVJ1#olOV#5s3t8" +
+		"Ej6qE8OFIvWRn8y23xKWWkfQzMpE2OcW#JFUuoxaBKZY0s3h47lOVCBts2je2O7pmTO5zx3" +
+		"ZXSnDiYv7iWNnCVliGvST1HjP0kE4U9zOkuYsNu9FkJUnHNG81#2n6gGF7uV#ruiPIBlWjJ" +
+		"5zydhYzcprFp2CRaHf2wyJ#nUJFqCibxq80w3vEtxxBaksOus#WRHwmFMwqjk468GCjnD7H" +
+		"sClmgnQo6vUWa#kPJy2#67OlAzcFfIJFjIOlbIw9IG0zNK$ikesvNOy39gVn5hqX3gw98Hx" +
+		"8UGSydXO69ioGrWydJ9B67biTTQyXkODUWxShMIFFnkT$36uBF1#FWx$3q8URuZdmOZ#$V4" +
+		"vc1oV10ncqrT$9xwdKFj$FxVO6hmzxUoXb2VloVcih39z$HL4MS$85SDutx0fxMizp#Gcq7" +
+		"owmToffBrh9AOl8oQ4KJN3z3xSlYCOfsef2RrvPeiI3twWDYw75ahMPFxKWlxiaRq8uw3sF" +
+		"e3OkrozYELsAyIttv0J5nX2IiRliN8tP2DJUIUGvvdR2KyFi2VL#n0c$r09NNeGsBW2kAjb" +
+		"bYk9EOgiTU7dBz2xbbOv#gmUnKrf9Bu$F0K8QuaTwlOWrRYrm$9lIlHgHxVLo5d5JNwmm$e" +
+		"OtsjmYRzi5KLkVmHzU8gwayLkLH5$7w4$5UnhyGqeeXrimThRJLnLqsCVqJzlehzIJNqggc" +
+		"97n4dL#FtdiHFDNMgcZNf8yvVpNwmYlMk9pQgOKsh9ZO$mYPNKnDgy74Djbn03bo33NfHKs" +
+		"jOZsgmom9gqJMiCJNKl$xKtHfgrG9Y#1hgGOsCOUh10jQpQuYN6g0$yjIGAmlmsxN4I0snM" +
+		"qDyVanEN4j$3NReJ#sleMP#pFbhMHTgAH8rh3yVKrEk6uASsA6OcjmB6m$0bhNeFm2zgh5l" +
+		"DVbPGjqfnK#bhEkro5TAJUvDZWuWVsgfTmFnVoqnKKiCLB6t#85wNCVUwKVMY5fi#wFSSw9" +
+		"Z9N7t8p5wtObWreFhg0q$GlzwzX8$OOVhMQz#8kQkvzhb9#nz0$dt4tQu0Tb#8jvl84P$8d" +
+		"zlGCUbh5yt4kTBoTSRqJUNsAcZVY#5TWs#kvqrlKR65Zbm8tN#Vdpo03QlmVzB9w4Nywg9f" +
+		"QLS3ybQ6S06FoDp7lrvr9QVsV$aKxz#fWRcKnlNm7zrsF5dQkzWPFYPl1X2ZV$Z1De$aPVK" +
+		"k5zwWR7pBpk1aVSNzeD3MDD$eMyeDMiGQzYQN0jMidVyvIDodFLzMIbudh3oMU#NRGWcTfT" +
+		"Hi$Ef5ykk1zy7B1HMGHXWBxDi9fWQi#nNy7F0By8g96v#PMqi92P$tGrCFIaa7sgnGorpFk" +
+		"OQeHPVtaGjgM5lKKizl8bSgSN7jTJYZrdZQedLcrYRQkN#7ZzzJAxLueTzyCFDv7ejzV8JR" +
+		"5hBNcuVzBYPQwrQSgU8DU4JV5jBtTuNFzrCxQYbndo2ZBMi8VjISsvXBteBiN4Bw#2Z#AIE" +
+		"FAebTZ#1VXq#leMyg2LFYuZnJxXkgiDM#x6tkfKrhOwztgVi$UlmzsZak9MwK4TDACB#dx8" +
+		"FhsFD6isUxLRsXNNezobrhevhaFs9$md4qg#iDtNavw$atGJgKnsoJY3sorZtyz2Xc9mgfK" +
+		"QjGQrOapbhCdzDrjXXrFPXsAGElv8IOYrYl8xvPHntH#yUsBe7#zQUh5qzgLqzoP5Ur8fUr" +
+		"BZUsB0tQqnlQbaV$95DlZ#07TTYJrc77twLidBzzG1ZXrCNwwW33v9Fmx517V7x6$lOEdps" +
+		"86E64sjrvChzhDzrr9TFiKizw#uyyhYUjUL1wl7Q#BYKzR68V0$XopxiISAiC$NOgIzGlmu" +
+		"oi0#jPrsi9p$3v54zDRIUMXb1vnBMpjxuQo0vKi#QrPlQEeYwC9XwcRSsSzahbN1ztuUwD8" +
+		"XSgqUtFlXk47uhmDSbn7WziWz6pcByKWgTCkf4FVBqnVwHaw21pUl9vNfqweQitR7$slXa7" +
+		"VR0fQn5FR11AUjCFTV9zUJif#XQHand4qFrZAidbXSIDsN8NOQ#VULOUFUJUg3pRwojzTYg" +
+		"7hlqOtmsCRGEkTcVsh8EVUkYos$osfmuNfVzJJss$vFOMmyeO5s$btN#Dsf027b2sAm$#V4" +
+		"GQtWzUu$GjfmZzqEiao7Yjp$#AvEs9bO6S6qvWDYHztb2xAC6uhk1rEY5n688cGTIRqBaMu" +
+		"Ww$HlrCeH$1o7hxxBkikyUX6r$vne$X7y6KojpMMlgkEuAOOCjg3jRSHqnxrHg17lGUwb9T" +
+		"v9$ZwBtGcAy21rgy7C8EZN4QYtsgITt1wDdY1escBLuFVY6M5j2h7c3rsUVGPrjW2xf94BO" +
+		"9OG$VwSEXjZ3F4H#heSjjyJ$GsuKLWvhT8ZrC8HjVkTyY1Xuc1hP97MZFWIv7WknPWvXlGZ" +
+		"1FqJCXbYhGzAEjmghYBNhOScVF0bXn#NimqFOu67gVWWT7Y4lGjISCFPUpZLRc3t78yHMY5" +
+		"W9anVt4vzXVB0G#SFR80$N0s5yyGZoXQYXOUfD6FykXq#OEZrPdizb73p3NCU7KN8vieV9y" +
+		"ydKu32oRqXUTsDT$OFQ4MPUAMjf6FitaGDJMGSsn9PJsMDjY7vJMSj7uFEf#FlFNEGWxyEi" +
+		"cM7gvWZgNG5h#qAkPyEI1xfln3L$3hONs2MCp9yHus7i4IOlDg9k56A3C3NkCsfcc3rScBp" +
+		"Pw6DyIyqlO2zHo5hw6J4JPkq8Kxyt9axAiKqOFt#6RyB4QHYVRamDA6F$4gQUV4Qj2alWsd" +
+		"aJV1jc3VmSMSEiQs7gz2RKgNBsrX7wgl5rX5fSpRLQ3NLmCEjD3hLhCFgNFKiRdShGUp3##" +
+		"npU4MGAakVJi6E4sAn4ln9gyUVKY4hoEXy$biXQHkx$oReOaVSpaQrENhjHxolGemQQ4N8Y" +
+		"mfxZJs8oGfqhPAyLf7PrPwtuatKWmd4vlelWooRMzcdOOHDqcuQycp9k6h6oAUlKI#WGOG#" +
+		"JW$sdaATbvF8KOY22h6MVSgq4$IdiWsQXm#FiEMRZpyUHSpR#d8qlPoFh76IS0$qvq9u3tL" +
+		"UW#GeqNo57FsTCX3t5ckmFelWkmhLsFVaTeaPMueDgR535dY12x4HOMnvdBVqScX5gwXFKv" +
+		"2#W$GMq8#HkBUlII$0OHjsEK2VAMACZhEbVI1#m1teD#qUe4t#GRn5gpJ3Y9i8Ulfnr9a9j" +
+		"#GBP8eojGiSda2$27l29aybTOlS9wdjV$Fi4#LZ57k99wa84dpq9$Nx4qal8z3Aol8miBqj" +
+		"#rAS0##G8Qrs4E8rA#MK#30U8esfaguP#X5o849zHOZn2x1IIYzNaVm$gUHIRHwW15N8SSz" +
+		"Qdlhyi$KBjdeuDDoEcfoFdPjXkEhQCu8zXn6iKkqNmIOHrF2Bt8$9QWsldMjQ0wTJwwUJo3" +
+		"DRB2EjOFZIUvBYSEl4KjQ6OjU8fShcSiKyH$mrioCkfiJNKW0RYi85hsAUOrq2jh#RQ$6bY" +
+		"gu7uVfgrje6uQ43FA3dNG2mMiNRLeiSCpZr6JiuWPsUGImt4PWFozsDDw4zz#68PyOz#tQY" +
+		"xtUch9f#6SBu7zQW$ST#VlAoXTjSWKmFxlwVnGpRnzWpnsC0rtJEIB$lOPyYh0VXb4Pk7HS" +
+		"nRXFoBiCDYP5tCcCLSBpHWZuPhX2NOdpJWvo9gGYrs3s3t1jQk1cgmODrgm6yDrFi6$5Chz" +
+		"zROfe4rhc4Avwbp3UXLWdvrsB#1U5gBzLwm7ZNWdqRMjqQkh#gmJnqywzXVlOBT6wYn3Lyp" +
+		"ZZr$0pMyb3fJXwyhfp0UkpPyopbysqYy3I9$1X7JTTYo7hitOgV68c5PsAuHVKh9pNhovHL" +
+		"yzog#V1KRFyFw$IesBcFFyMmvVYFcdqM6HlAYkxotGJmsLaA36j$86Zw8wu11rB5wQdKzCT" +
+		"r8V3LkoddgUYFN5gLoRMSlsNC8VTINHdnQIPrj95$NnsupuR4v#JcJ6DgSkZwJEDsSjMKcz" +
+		"MScFisYDZQIotNi7TXlYphcLBFlgwVcDB9lgoUt6f6x7X$TVPcmoiy1xW0#5LO5rwn5xBMB" +
+		"$XHMSGJO0q2V6kGjG#S0TQ1n8dsJ0VHkP4rl91UBoS7oti8g8PuRxm4ZUycXqEFwls9lsl2" +
+		"ek5POLKF1#B9a6Y3vSJrHnJL0C0YCf7qU#71XbMvDcsl#yi6qsICqiYSefnQKKsVBYTCAQk" +
+		"LZBt8EMKe$OGxrB2JdJA8zNLXbwzdFgyJozTLpgnpiFfCu2N1TrxIQx4i7h55B50xyGs7nW" +
+		"SBtw$EJBrFuiT7DqSe4471$XNDc#v$FFoxrt9odd7RXJWhdRgTmrdKARx6BFkxZcMlbFIzn" +
+		"D1fTflLTAwsSbfMVkKxp3l7EpHbD$P3FpOZbd5ERdMyLVPUQzkHSx$7oIIu#YrFFUt8xfvt" +
+		"xiS9vtJBLoPdxz7gPZtrr7uNdVUhjppj1uS1l#ZYYSFwk2XUKArotcZCdwtClZUo8g$sRzz" +
+		"oVr8FAwvtZocZ2#QRKCcTjg73khaxVTYScZzlc3#$nTlVvqxjleCBRVwNmZZShlEzd2e#vG" +
+		"U47#cZyXSAJWmhVlud2eRW#wZYSf$5HhhwF58viaon7Dqsdss9lVqwZqzv#O##vsokTzXQN" +
+		"EEqYQcfW7TNExUwQ$wIV3LpqDazzhgGxjVJdXBvHhlOLJhkHsbxAUjhzVATFuFESW6httIM" +
+		"T76fC9NiNIzuN#jubtz7UCIChcwFZZ2qunJNl8k#vG77IU2j$h3#TaLyuxGV6A$pWLWfFsK" +
+		"tX#JfVUWpJ#1elZPVodFQ3TolyKA4$lyAd7PaAYfp#7NeuxPoUJhli8rS$QqjUfUvVgESTh" +
+		"t3ka0GRpD3dVr8uBrVX$1SKxlk4maNN40UwblVuG#5ozXGx7k7GcbZWjFkvuhVV6Nhy7WhV" +
+		"pRLDBlkcVelKSJ5xvFwkEjZ$OIsRIwSTN$RAlPEbQSvnzQslPJz4wxgwSow$Xtk#rhN0hMj" +
+		"RWJr0VNAVrLFXpPVvpoc$ncblkp3v$5RJlSVRLRL0dk4AxvIGFpize70E#zRy6zahrwhZ4g" +
+		"xF1vpeZ1kWrwES4Qwv2NLgvrwQrsXNtpuk6QxNVLSdp9ldj0V#JU6yAvs#NOgyutVPGjDxs" +
+		"TNdoksA#RhlYOHvFxhuJ58u$qMdRzU4VDZrO8M3Wrnzjphju6gwxptll57LhZ5dQZuFUyPO" +
+		"1G#gvs#5UUv#DRPegVSuU872FSTe$BB2lGOhFFz8ZQzM#5MTltD36g#hy4Dwl$ZGR8KV7gB" +
+		"vTLFuW3iLFb3p7RDKuVs$L7ZlRHGU#J#5xzFxjebD2eU69UioQgJJhlZTrRymUMpmAeLtQ$" +
+		"JsxxQxmbDkjPyRMgNivuC$KC$FTOsvB66ErZ7ubjEtUwxJBbZawj$OEtTtNHyhNJ6u#sIdN" +
+		"LMl#xxrpjkZlwPD7bLndLZmjUlSc8InUazH7N3rlUcq2mSxxJtBlNFt$BkUEzFLTwRJhlvS" +
+		"zpsRC6#PqwxHljzhJU#OlGvpZT5yzheZOSm2xt71dTxZcflSnzvp9K#bFdUVtdDEr75wxyF" +
+		"EkRkVrLYl4$VelTSz6sWyLkDBD7vIuuKAJohLMEV2f0H$xB2JIyRT$ENR#tQdFMOpftt0za" +
+		"xxGBsktP$ddVlmHHelSVhcZjBuFnhhwxP7Tj3u8OMBJdVcp9#iiQjczhfKuvyLxhrNikozd" +
+		"rEuZ$SQI$GvJ#CboNFs3ZdjaajzphlsjSMxgsUSU#kyop$8ERUFhkc5kbx8Ps4rlzAlPIgS" +
+		"uepTLzUIeZZlPBxxkdAn#7$gcUT#9NhUISwv$SvMkEeipVSnTTzhjDulL2rsnexMiLUjhqq" +
+		"dwloyrrFRLL$fkObzwO2zotCj6U#TkqL$fprnZiBrxxZEF#iw$wV2VmiwVPFqsZ7XKONdFg" +
+		"Z7w7ofkr2zrnPm#Q3kQgST$47tJNATd#6qoyfSRRttpRrIuUozTRzBnl8#hhQMBT#rRokFh" +
+		"z7gk79FhNC9UuAjW1UzvxTvmNiyMgzPUISxVVltTO$nZhz3h#5r4nJEOT#Jkubtp8JF$UVM" +
+		"Qzdk6AsFZrBuRqywO#v8ofjq8CHjjJuolk1gk$OmT$REZAPynbV$eMfFMavxWMeNIfb$rRB" +
+		"$bfx6xzsSTgxUIzxvkC9RwjfQeUsHHnt8rNNvpiLwZAVUDYzpn9N7T#bzJ6IUmWsk6BfBxq" +
+		"aQZdFwxjNrzBO35PuxLu$H#PFNLyyzKU767WflUpFdz1xrhllqkOJzSd5OuR9#2WVqlQdSY" +
+		"GhdlwzmmKREdFqz#r3LDoQOt5UYrxWn$qWyf$kdUe$33SXpcceVqE0$vu1ZKlI$cjntOF$a" +
+		"ljMcAjpekVSdhCe9pfZjFdFQesuYxpTnZakdEkq3jQmLElw2MoB$wQejdxU4j$MNjLZ7KDb" +
+		"5Jb#9NYFBTOt9FbpXF1qh1JgV2tESEG7jz$1Ucgw#dfrIe$2qbnIUc$BUdhzyyfbwDjUjGQ" +
+		"1aYkgh$1q#PpXZB7sV8AptZiltSyxzCKtB$ghJLxcpmldTlRossrpX$VTb$DkCEraTbxxj7" +
+		"PT$kUQdzmQtwHWFtwXmuxHaFIQV8CIZsdvFhWsD7R3Z6ixvqaQ5g$Q4JfADEA$NsNBNDLNf" +
+		"rmfN7wjmzYTQruiLBjJNvuMpDCvIxvULQVshHijdbGwzhFWzBgUlf4pXYBxdKXQxnzQWptT" +
+		"NsDBNCM7NlhnGnq0amSvbUlzOiv6t$sbz3PyTP8xhUlssgxpZnBhg6NJavaHvdJ6H0rATom" +
+		"JaCsc5Q$LzneBBNUVEKRZgTlZyu3DNFqEerNljGdnQdI$V2LR7rHTGBqkTySKNUETNFADmd" +
+		"Ru6BVZPEHVihMby1OtData7prUuVZTl$xmIbtnwpzWGku$p23BkuPpVMjzlgrx26C#rd#gV" +
+		"$8R2tPnxJrRHshhlMuLpz7ubFrlXeg4QwvnvLgzh3NeVNgdpjBf8z#izLOFE#QA4#mtFV9a" +
+		"eb#eFwFiaZINU$boT2uqR#itpZbs#J8YcIwZ3KvLk9UE59NtTz3ruA#098TRVILZglXUqSz" +
+		"BJozbSM8NRSsrz37Fns$gFW2yMLdKidgNSlQrnmXAtQVYNXYCr$Di7Zj9mamAh4R1etoooR" +
+		"3Y2jeJ3WN#AW3MQywD5beQ02ql81eGU4nld7H$YE0HT#Isf2h9ik8$sN1koBBG4igm8u$Ud" +
+		"BM4CS037yYaIHKQypLW9xuY0U5VasB$tynhzqy4I9jYG9Mu1PmeJeJLHP6l8SM49kLOUz3v" +
+		"4hXsGOGV6Fi$nypQMa6qDfdymv#KJtoBEBRQV33lmbG$CO#uy#2odlPpsB#1VmCkOBx#3Mi" +
+		"8IsbyYmvSYLqEU2ql8Zn$FPlnivi#m8LkyW3mx8i#Es4u#4GR4Dz2JJxI$PVotp5LGuC8I2" +
+		"gqSaQCXJuAu6vftGrD1ZfKFxNpwle3U5pQMa6qHrK2MDHGy55mCJeGi#2zYtYBcACYsTgP$" +
+		"Pzgt0Xzp$cFElmAEmQiSpxGX8FxW#0$mh#1VmR$HVozjFxY$XV2v3po8$H$21jy3apb#09x" +
+		"V0O$2zowEKy5Zs6aNRByBTjWL$NQrSPQr6dshCVTXwFu0J87k8zZzHr5WRSiu2Ti09JO4nE" +
+		"CsP8adm4#0dmG$3Jp5t6V02hAjtepl3VrI#1OmxbdwdsNCqSWIWp#1Zu2fDWJ4IJPan$692" +
+		"gm#qEe3hJBwRuVMxU1Juf0ZZcVSySITWdmAKRODnqBN3Vzbxd70ERGLP6cmn9dWiu2pQPzj" +
+		"OzKU3vtny8ZXS#ax5xunE8$ZysmS4EVJFj$62gYwG41S2huKV1duCl3buCl1Lu2l05zfl$s" +
+		"H8wu2IxY0lfR0ZTZd83ktisourVPpW9Ypwv2CSpl7xq67U$37wfmVHVyeRBe6zMGDyceDZl" +
+		"rWErsxhdN1TT3OdNExGsTD840x1jdGpAPFGRQr1trx8ClrqBc1UGbrsiuB6TV$ms$$8#v#0" +
+		"lz4xEKco3u96fCOho37AeHE8JGKPBkmX1nhJ#RkITymy336AWYui8Higp#uFttz6DSFN0uk" +
+		"jx640FKcLqE#1E8hpmK5hhedeS259HJ6ZtKjqr3amXAA4sky2ql8YzKw3Rb2leLq3UshmLT" +
+		"Z6$bxRpSpvcNizYPzRz8duIsEtx9nmAf5freR1wnDQMzguu0uWRadmEC4P3q1EHKK9XqlXE" +
+		"v2nYy0Bs3kS6mr7BmNU2$xb#0i6zvGO5LeM4k1c8CiSnYt5BoKUJNWyV0U3#$ny1eFdq#Gg" +
+		"nldkZ6dteQ05GG7wQ$KSB0D0UiGy27G#nGwdp9cROxNXizduCrSQ$Dxy7WVaElG36p6pWK8" +
+		"0Da9EDOVS1t7mVgR2xQCGvO6ozh2XYmDbhME3G5VM9TpwzhOWVNeMy$6oT34kIORfmPsSq3" +
+		"0XlLfhs$ZE8WBqUD26pjm4NqNWTd10H87h0sOku6D0zQ6zXjV0Hj6q1vXuu2r4UsDR1omv2" +
+		"SK1zWuO6rDUsloJyBVQKlONCVeoU04iDU7lPctDxau43pGhbkMU0u$FOVF5EHP8nax4hlk0" +
+		"zw7SHipVcFjozFmtscCEusvOBQYbbN7s2feLt6i8C#59UIdwOzX2GMnOxiEkcDrF3aHYryf" +
+		"n#d8SJeod4xVwVITZdogNG0KQYZoEOvX2SKkBA74vpY69PIsWfvdlhKlzjeNkL$2PllHtW$" +
+		"xRc93TWoBEz3l3fqBPt1y1def76ldoRRLm7m9tJNqOFn$o4N06WIjGOpHsBRdB2uNPZ6k5n" +
+		"lgNk03mGU2m#0mvr$a$8lWdy4$Wpy0Vy3vdl8fERWlk2$zq#YVnl5k7E$6yNoEvtCybkEn7" +
+		"D$vVn3KjJC=");
+ // Generated from /root/project/src/tmp/parser/JavaParser.all
+class Events extends Parser.Events {
+    public void scannerError(Scanner.Exception e) {
+      errors.add(new Problem(null, e.getMessage(), e.line, e.column,
+          Problem.Severity.ERROR, Problem.Kind.LEXICAL));
+    }
+    public void syntaxError(Symbol token) {
+      if (!canSkipToken(token)) {
+        int line = token.getLine(token.getStart());
+        int column = token.getColumn(token.getStart());
+        int endLine = token.getLine(token.getEnd());
+        int endColumn = token.getColumn(token.getEnd());
+        String value = token.value != null ? token.value.toString() : Terminals.NAMES[token.getId()];
+        errors.add(new Problem(null, "unexpected token \"" + value + "\"",
+            line, column, endLine, endColumn, Problem.Severity.ERROR, Problem.Kind.SYNTACTIC));
+      }
+    }
+    public void unexpectedTokenRemoved(Symbol token) {
+    }
+    public void missingTokenInserted(Symbol token) {
+    }
+    public void misspelledTokenReplaced(Symbol token) {
+    }
+    public void errorPhraseRemoved(Symbol error) {
+    }
+  }
+
+  {
+    report = new Events(); // Use error handler in parser
+  }
+
+  public CompilationUnit parse(java.io.InputStream is, String fileName)
+      throws java.io.IOException, beaver.Parser.Exception {
+    CompilationUnit cu;
+    errors = new ArrayList();
+    try {
+      JavaScanner scanner = new JavaScanner(new UnicodeEscapeReader(is));
+      cu = (CompilationUnit) parse(scanner);
+    } catch(Parser.Exception e) {
+      // build empty compilation unit for failed error recovery
+      cu = new CompilationUnit();
+    } catch(Error e) {
+      cu = new CompilationUnit();
+      errors.add(new Problem(null, e.getMessage(), 0, 0,
+          Problem.Severity.ERROR, Problem.Kind.LEXICAL));
+    }
+    for (java.util.Iterator iter = errors.iterator(); iter.hasNext(); ) {
+      Problem p = (Problem) iter.next();
+      p.setFileName(fileName);
+      cu.addParseError(p);
+    }
+    return cu;
+  }
+
+  @Override
+  protected void recoverFromError(Symbol token, TokenStream in)
+      throws java.io.IOException, Parser.Exception {
+    if (!canSkipToken(token)) {
+      super.recoverFromError(token, in);
+    }
+  }
+
+  protected static boolean canSkipToken(Symbol token) {
+    return token.getId() == Terminals.DOCUMENTATION_COMMENT;
+  }
+
+  protected java.util.Collection errors = new ArrayList();
+
+	public JavaParser() {
+		super(PARSING_TABLES);
+	}
+
+	protected Symbol invokeReduceAction(int rule_num, int offset) {
+		switch(rule_num) {
+			case 4: // primitive_type = BOOLEAN.BOOLEAN
+			{
+					final Symbol BOOLEAN = _symbols[offset + 1];
+					 return new PrimitiveTypeAccess("boolean");
+			}
+			case 7: // integral_type = BYTE.BYTE
+			{
+					final Symbol BYTE = _symbols[offset + 1];
+					 return new PrimitiveTypeAccess("byte");
+			}
+			case 8: // integral_type = SHORT.SHORT
+			{
+					final Symbol SHORT = _symbols[offset + 1];
+					 return new PrimitiveTypeAccess("short");
+			}
+			case 9: // integral_type = INT.INT
+			{
+					final Symbol INT = _symbols[offset + 1];
+					 return new PrimitiveTypeAccess("int");
+			}
+			case 10: // integral_type = LONG.LONG
+			{
+					final Symbol LONG = _symbols[offset + 1];
+					 return new PrimitiveTypeAccess("long");
+			}
+			case 11: // integral_type = CHAR.CHAR
+			{
+					final Symbol CHAR = _symbols[offset + 1];
+					 return new PrimitiveTypeAccess("char");
+			}
+			case 12: // floating_point_type = FLOAT.FLOAT
+			{
+					final Symbol FLOAT = _symbols[offset + 1];
+					 return new PrimitiveTypeAccess("float");
+			}
+			case 13: // floating_point_type = DOUBLE.DOUBLE
+			{
+					final Symbol DOUBLE = _symbols[offset + 1];
+					 return new PrimitiveTypeAccess("double");
+			}
+			case 18: // array_type = primitive_type.t dims.dims
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_dims = _symbols[offset + 2];
+					final List dims = (List) _symbol_dims.value;
+					 return t.addArrayDims(dims);
+			}
+			case 19: // array_type = name.name dims.dims
+			{
+					final Symbol _symbol_name = _symbols[offset + 1];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol _symbol_dims = _symbols[offset + 2];
+					final List dims = (List) _symbol_dims.value;
+					 return name.addArrayDims(dims);
+			}
+			case 22: // simple_name = IDENTIFIER.IDENTIFIER
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					 return new ParseName(IDENTIFIER);
+			}
+			case 23: // qualified_name = name.n DOT.DOT simple_name.i
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final Access i = (Access) _symbol_i.value;
+					 return n.qualifiesAccess(i);
+			}
+			case 24: // compilation_unit = package_with_comment.p
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final IdUse p = (IdUse) _symbol_p.value;
+					 return new CompilationUnit(p.getID(), new List(), new List());
+			}
+			case 25: // compilation_unit = package_with_comment.p import_declarations.i
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final List i = (List) _symbol_i.value;
+					 return new CompilationUnit(p.getID(), i, new List());
+			}
+			case 26: // compilation_unit = package_with_comment.p type_declarations.t
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final List t = (List) _symbol_t.value;
+					 return new CompilationUnit(p.getID(), new List(), t);
+			}
+			case 27: // compilation_unit = package_with_comment.p import_declarations.i type_declarations.t
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final List t = (List) _symbol_t.value;
+					 return new CompilationUnit(p.getID(), i, t);
+			}
+			case 28: // compilation_unit = package_with_comment.p doc_comment_list.doc_comment_list
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 2];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new CompilationUnit(p.getID(), new List(), new List());
+			}
+			case 29: // compilation_unit = package_with_comment.p import_declarations.i doc_comment_list.doc_comment_list
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 3];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new CompilationUnit(p.getID(), i, new List());
+			}
+			case 30: // compilation_unit = package_with_comment.p type_declarations.t doc_comment_list.doc_comment_list
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final List t = (List) _symbol_t.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 3];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new CompilationUnit(p.getID(), new List(), t);
+			}
+			case 31: // compilation_unit = package_with_comment.p import_declarations.i type_declarations.t doc_comment_list.doc_comment_list
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final List t = (List) _symbol_t.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 4];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new CompilationUnit(p.getID(), i, t);
+			}
+			case 32: // compilation_unit = 
+			{
+					 return new CompilationUnit("", new List(), new List());
+			}
+			case 33: // compilation_unit = import_declarations.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final List i = (List) _symbol_i.value;
+					 return new CompilationUnit("", i, new List());
+			}
+			case 34: // compilation_unit = type_declarations.t
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final List t = (List) _symbol_t.value;
+					 return new CompilationUnit("", new List(), t);
+			}
+			case 35: // compilation_unit = import_declarations.i type_declarations.t
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final List t = (List) _symbol_t.value;
+					 return new CompilationUnit("", i, t);
+			}
+			case 36: // compilation_unit = doc_comment_list.doc_comment_list
+			{
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 1];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new CompilationUnit("", new List(), new List());
+			}
+			case 37: // compilation_unit = import_declarations.i doc_comment_list.doc_comment_list
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 2];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new CompilationUnit("", i, new List());
+			}
+			case 38: // compilation_unit = type_declarations.t doc_comment_list.doc_comment_list
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final List t = (List) _symbol_t.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 2];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new CompilationUnit("", new List(), t);
+			}
+			case 39: // compilation_unit = import_declarations.i type_declarations.t doc_comment_list.doc_comment_list
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final List t = (List) _symbol_t.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 3];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new CompilationUnit("", i, t);
+			}
+			case 40: // import_declarations = import_with_comment.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final ImportDecl i = (ImportDecl) _symbol_i.value;
+					 return new List().add(i);
+			}
+			case 41: // import_declarations = import_declarations.l import_with_comment.i
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final ImportDecl i = (ImportDecl) _symbol_i.value;
+					 return l.add(i);
+			}
+			case 42: // type_declarations = SEMICOLON.SEMICOLON
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					 return new List();
+			}
+			case 43: // type_declarations = type_with_comment.t
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final TypeDecl t = (TypeDecl) _symbol_t.value;
+					 return new List().add(t);
+			}
+			case 44: // type_declarations = type_declarations.l SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					 return l;
+			}
+			case 45: // type_declarations = type_declarations.l type_with_comment.t
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final TypeDecl t = (TypeDecl) _symbol_t.value;
+					 return l.add(t);
+			}
+			case 46: // doc_comment = DOCUMENTATION_COMMENT.dc
+			{
+					final Symbol dc = _symbols[offset + 1];
+					 return new Symbol(Terminals.DOCUMENTATION_COMMENT, ((String)dc.value));
+			}
+			case 48: // doc_comment_list = doc_comment_list.doc_comment_list doc_comment.dc
+			{
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 1];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					final Symbol _symbol_dc = _symbols[offset + 2];
+					final String dc = (String) _symbol_dc.value;
+					 return new Symbol(Terminals.DOCUMENTATION_COMMENT, dc);
+			}
+			case 51: // package_declaration = PACKAGE.PACKAGE name_decl.name_decl SEMICOLON.SEMICOLON
+			{
+					final Symbol PACKAGE = _symbols[offset + 1];
+					final Symbol _symbol_name_decl = _symbols[offset + 2];
+					final IdUse name_decl = (IdUse) _symbol_name_decl.value;
+					final Symbol SEMICOLON = _symbols[offset + 3];
+					 return name_decl;
+			}
+			case 54: // simple_name_decl = IDENTIFIER.IDENTIFIER
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					 return new IdUse(IDENTIFIER);
+			}
+			case 55: // qualified_name_decl = name_decl.n DOT.DOT IDENTIFIER.i
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final IdUse n = (IdUse) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol i = _symbols[offset + 3];
+					 return new IdUse(n.getID() + "." + ((String)i.value));
+			}
+			case 60: // single_type_import_declaration = IMPORT.IMPORT name.name SEMICOLON.SEMICOLON
+			{
+					final Symbol IMPORT = _symbols[offset + 1];
+					final Symbol _symbol_name = _symbols[offset + 2];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol SEMICOLON = _symbols[offset + 3];
+					 return new SingleTypeImportDecl(name);
+			}
+			case 61: // type_import_on_demand_declaration = IMPORT.IMPORT name.name DOT.DOT MULT.MULT SEMICOLON.SEMICOLON
+			{
+					final Symbol IMPORT = _symbols[offset + 1];
+					final Symbol _symbol_name = _symbols[offset + 2];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol DOT = _symbols[offset + 3];
+					final Symbol MULT = _symbols[offset + 4];
+					final Symbol SEMICOLON = _symbols[offset + 5];
+					 return new TypeImportOnDemandDecl(name);
+			}
+			case 63: // type_with_comment = doc_comment_list.dc type_declaration.d
+			{
+					final Symbol _symbol_dc = _symbols[offset + 1];
+					final String dc = (String) _symbol_dc.value;
+					final Symbol _symbol_d = _symbols[offset + 2];
+					final TypeDecl d = (TypeDecl) _symbol_d.value;
+					 d.docComment = dc;
+      return d;
+			}
+			case 66: // modifiers = modifier.m
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final Modifier m = (Modifier) _symbol_m.value;
+					 return new List().add(m);
+			}
+			case 67: // modifiers = modifiers.l modifier.m
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final Modifier m = (Modifier) _symbol_m.value;
+					 return l.add(m);
+			}
+			case 68: // modifier = PUBLIC.PUBLIC
+			{
+					final Symbol PUBLIC = _symbols[offset + 1];
+					 return new Modifier("public");
+			}
+			case 69: // modifier = PROTECTED.PROTECTED
+			{
+					final Symbol PROTECTED = _symbols[offset + 1];
+					 return new Modifier("protected");
+			}
+			case 70: // modifier = PRIVATE.PRIVATE
+			{
+					final Symbol PRIVATE = _symbols[offset + 1];
+					 return new Modifier("private");
+			}
+			case 71: // modifier = STATIC.STATIC
+			{
+					final Symbol STATIC = _symbols[offset + 1];
+					 return new Modifier("static");
+			}
+			case 72: // modifier = ABSTRACT.ABSTRACT
+			{
+					final Symbol ABSTRACT = _symbols[offset + 1];
+					 return new Modifier("abstract");
+			}
+			case 73: // modifier = FINAL.FINAL
+			{
+					final Symbol FINAL = _symbols[offset + 1];
+					 return new Modifier("final");
+			}
+			case 74: // modifier = NATIVE.NATIVE
+			{
+					final Symbol NATIVE = _symbols[offset + 1];
+					 return new Modifier("native");
+			}
+			case 75: // modifier = SYNCHRONIZED.SYNCHRONIZED
+			{
+					final Symbol SYNCHRONIZED = _symbols[offset + 1];
+					 return new Modifier("synchronized");
+			}
+			case 76: // modifier = TRANSIENT.TRANSIENT
+			{
+					final Symbol TRANSIENT = _symbols[offset + 1];
+					 return new Modifier("transient");
+			}
+			case 77: // modifier = VOLATILE.VOLATILE
+			{
+					final Symbol VOLATILE = _symbols[offset + 1];
+					 return new Modifier("volatile");
+			}
+			case 78: // modifier = STRICTFP.STRICTFP
+			{
+					final Symbol STRICTFP = _symbols[offset + 1];
+					 return new Modifier("strictfp");
+			}
+			case 79: // class_declaration = CLASS.CLASS IDENTIFIER.IDENTIFIER class_body.b
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_b = _symbols[offset + 3];
+					final List b = (List) _symbol_b.value;
+					 return new ClassDecl(new Modifiers(new List()), IDENTIFIER, new Opt(), new List(), b);
+			}
+			case 80: // class_declaration = modifiers.m CLASS.CLASS IDENTIFIER.IDENTIFIER class_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol CLASS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new ClassDecl(new Modifiers(m), IDENTIFIER, new Opt(), new List(), b);
+			}
+			case 81: // class_declaration = CLASS.CLASS IDENTIFIER.IDENTIFIER super.s class_body.b
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_s = _symbols[offset + 3];
+					final Opt s = (Opt) _symbol_s.value;
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new ClassDecl(new Modifiers(new List()), IDENTIFIER, s, new List(), b);
+			}
+			case 82: // class_declaration = modifiers.m CLASS.CLASS IDENTIFIER.IDENTIFIER super.s class_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol CLASS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_s = _symbols[offset + 4];
+					final Opt s = (Opt) _symbol_s.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new ClassDecl(new Modifiers(m), IDENTIFIER, s, new List(), b);
+			}
+			case 83: // class_declaration = CLASS.CLASS IDENTIFIER.IDENTIFIER interfaces.i class_body.b
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new ClassDecl(new Modifiers(new List()), IDENTIFIER, new Opt(), i, b);
+			}
+			case 84: // class_declaration = modifiers.m CLASS.CLASS IDENTIFIER.IDENTIFIER interfaces.i class_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol CLASS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new ClassDecl(new Modifiers(m), IDENTIFIER, new Opt(), i, b);
+			}
+			case 85: // class_declaration = CLASS.CLASS IDENTIFIER.IDENTIFIER super.s interfaces.i class_body.b
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_s = _symbols[offset + 3];
+					final Opt s = (Opt) _symbol_s.value;
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new ClassDecl(new Modifiers(new List()), IDENTIFIER, s, i, b);
+			}
+			case 86: // class_declaration = modifiers.m CLASS.CLASS IDENTIFIER.IDENTIFIER super.s interfaces.i class_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol CLASS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_s = _symbols[offset + 4];
+					final Opt s = (Opt) _symbol_s.value;
+					final Symbol _symbol_i = _symbols[offset + 5];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final List b = (List) _symbol_b.value;
+					 return new ClassDecl(new Modifiers(m), IDENTIFIER, s, i, b);
+			}
+			case 87: // super = EXTENDS.EXTENDS class_type.class_type
+			{
+					final Symbol EXTENDS = _symbols[offset + 1];
+					final Symbol _symbol_class_type = _symbols[offset + 2];
+					final Access class_type = (Access) _symbol_class_type.value;
+					 return new Opt(class_type);
+			}
+			case 88: // interfaces = IMPLEMENTS.IMPLEMENTS interface_type_list.i
+			{
+					final Symbol IMPLEMENTS = _symbols[offset + 1];
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final List i = (List) _symbol_i.value;
+					 return i;
+			}
+			case 89: // interface_type_list = interface_type.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final Access i = (Access) _symbol_i.value;
+					 return new List().add(i);
+			}
+			case 90: // interface_type_list = interface_type_list.l COMMA.COMMA interface_type.i
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final Access i = (Access) _symbol_i.value;
+					 return l.add(i);
+			}
+			case 91: // class_body = LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol RBRACE = _symbols[offset + 2];
+					 return new List();
+			}
+			case 92: // class_body = LBRACE.LBRACE class_body_declarations.c RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_c = _symbols[offset + 2];
+					final List c = (List) _symbol_c.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return c;
+			}
+			case 93: // class_body = LBRACE.LBRACE doc_comment_list.doc_comment_list RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 2];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new List();
+			}
+			case 94: // class_body = LBRACE.LBRACE class_body_declarations.c doc_comment_list.doc_comment_list RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_c = _symbols[offset + 2];
+					final List c = (List) _symbol_c.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 3];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					final Symbol RBRACE = _symbols[offset + 4];
+					 return c;
+			}
+			case 95: // class_body_declarations = body_decl_with_comment.c
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final BodyDecl c = (BodyDecl) _symbol_c.value;
+					 return new List().add(c);
+			}
+			case 96: // class_body_declarations = class_body_declarations.l body_decl_with_comment.c
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_c = _symbols[offset + 2];
+					final BodyDecl c = (BodyDecl) _symbol_c.value;
+					 return l.add(c);
+			}
+			case 98: // body_decl_with_comment = doc_comment_list.dc class_body_declaration.d
+			{
+					final Symbol _symbol_dc = _symbols[offset + 1];
+					final String dc = (String) _symbol_dc.value;
+					final Symbol _symbol_d = _symbols[offset + 2];
+					final BodyDecl d = (BodyDecl) _symbol_d.value;
+					 d.docComment = dc;
+      return d;
+			}
+			case 105: // class_member_declaration = class_declaration.c
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final ClassDecl c = (ClassDecl) _symbol_c.value;
+					 return new MemberClassDecl(c);
+			}
+			case 106: // class_member_declaration = interface_declaration.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final InterfaceDecl i = (InterfaceDecl) _symbol_i.value;
+					 return new MemberInterfaceDecl(i);
+			}
+			case 107: // class_member_declaration = SEMICOLON.SEMICOLON
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					 return new InstanceInitializer(new Block());
+			}
+			case 108: // field_declaration = type.t field_declarators.v SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_v = _symbols[offset + 2];
+					final List v = (List) _symbol_v.value;
+					final Symbol SEMICOLON = _symbols[offset + 3];
+					 return new FieldDecl(new Modifiers(new List()), t, v);
+			}
+			case 109: // field_declaration = modifiers.m type.t field_declarators.v SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_v = _symbols[offset + 3];
+					final List v = (List) _symbol_v.value;
+					final Symbol SEMICOLON = _symbols[offset + 4];
+					 return new FieldDecl(new Modifiers(m), t, v);
+			}
+			case 110: // field_declarators = field_declarator.v
+			{
+					final Symbol _symbol_v = _symbols[offset + 1];
+					final FieldDeclarator v = (FieldDeclarator) _symbol_v.value;
+					 return new List().add(v);
+			}
+			case 111: // field_declarators = field_declarators.l COMMA.COMMA field_declarator.v
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_v = _symbols[offset + 3];
+					final FieldDeclarator v = (FieldDeclarator) _symbol_v.value;
+					 return l.add(v);
+			}
+			case 113: // field_declarator = field_declarator_id.v EQ.EQ variable_initializer.i
+			{
+					final Symbol _symbol_v = _symbols[offset + 1];
+					final FieldDeclarator v = (FieldDeclarator) _symbol_v.value;
+					final Symbol EQ = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final Expr i = (Expr) _symbol_i.value;
+					 v.setInit(i); return v;
+			}
+			case 114: // field_declarator_id = IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol _symbol_d = _symbols[offset + 2];
+					final List d = (List) _symbol_d.value;
+					 return new FieldDeclarator(IDENTIFIER, d, new Opt());
+			}
+			case 117: // method_declaration = method_header.m method_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final MethodDecl m = (MethodDecl) _symbol_m.value;
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Opt b = (Opt) _symbol_b.value;
+					 m.setBlockOpt(b); return m;
+			}
+			case 118: // method_header = type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					 return new MethodDecl(new Modifiers(new List()), t.addArrayDims(new List()), IDENTIFIER, l, new List(), new Opt());
+			}
+			case 119: // method_header = modifiers.m type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					 return new MethodDecl(new Modifiers(m), t.addArrayDims(new List()), IDENTIFIER, l, new List(), new Opt());
+			}
+			case 120: // method_header = type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_d = _symbols[offset + 6];
+					final List d = (List) _symbol_d.value;
+					 return new MethodDecl(new Modifiers(new List()), t.addArrayDims(d), IDENTIFIER, l, new List(), new Opt());
+			}
+			case 121: // method_header = modifiers.m type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final List d = (List) _symbol_d.value;
+					 return new MethodDecl(new Modifiers(m), t.addArrayDims(d), IDENTIFIER, l, new List(), new Opt());
+			}
+			case 122: // method_header = type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws.tl
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_tl = _symbols[offset + 6];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(new List()), t.addArrayDims(new List()), IDENTIFIER, l, tl, new Opt());
+			}
+			case 123: // method_header = modifiers.m type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(m), t.addArrayDims(new List()), IDENTIFIER, l, tl, new Opt());
+			}
+			case 124: // method_header = type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d throws.tl
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_d = _symbols[offset + 6];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(new List()), t.addArrayDims(d), IDENTIFIER, l, tl, new Opt());
+			}
+			case 125: // method_header = modifiers.m type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d throws.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(m), t.addArrayDims(d), IDENTIFIER, l, tl, new Opt());
+			}
+			case 126: // method_header = VOID.VOID IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws_opt.tl
+			{
+					final Symbol VOID = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_tl = _symbols[offset + 6];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(new List()), new PrimitiveTypeAccess("void"), IDENTIFIER, l, tl, new Opt());
+			}
+			case 127: // method_header = modifiers.m VOID.VOID IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws_opt.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol VOID = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(m), new PrimitiveTypeAccess("void"), IDENTIFIER, l, tl, new Opt());
+			}
+			case 128: // formal_parameter_list = formal_parameter.f
+			{
+					final Symbol _symbol_f = _symbols[offset + 1];
+					final ParameterDeclaration f = (ParameterDeclaration) _symbol_f.value;
+					 return new List().add(f);
+			}
+			case 129: // formal_parameter_list = formal_parameter_list.l COMMA.COMMA formal_parameter.f
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_f = _symbols[offset + 3];
+					final ParameterDeclaration f = (ParameterDeclaration) _symbol_f.value;
+					 return l.add(f);
+			}
+			case 130: // formal_parameter = type.t IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					 return new ParameterDeclaration(new Modifiers(new List()), t.addArrayDims(d), IDENTIFIER);
+			}
+			case 131: // formal_parameter = modifiers.m type.t IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					 return new ParameterDeclaration(new Modifiers(m), t.addArrayDims(d), IDENTIFIER);
+			}
+			case 132: // throws = THROWS.THROWS class_type_list.l
+			{
+					final Symbol THROWS = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					 return l;
+			}
+			case 133: // class_type_list = class_type.c
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final Access c = (Access) _symbol_c.value;
+					 return new List().add(c);
+			}
+			case 134: // class_type_list = class_type_list.l COMMA.COMMA class_type.c
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_c = _symbols[offset + 3];
+					final Access c = (Access) _symbol_c.value;
+					 return l.add(c);
+			}
+			case 135: // method_body = block.block
+			{
+					final Symbol _symbol_block = _symbols[offset + 1];
+					final Block block = (Block) _symbol_block.value;
+					 return new Opt(block);
+			}
+			case 136: // method_body = SEMICOLON.SEMICOLON
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					 return new Opt();
+			}
+			case 137: // static_initializer = STATIC.STATIC block.block
+			{
+					final Symbol STATIC = _symbols[offset + 1];
+					final Symbol _symbol_block = _symbols[offset + 2];
+					final Block block = (Block) _symbol_block.value;
+					 return new StaticInitializer(block);
+			}
+			case 138: // instance_initializer = block.block
+			{
+					final Symbol _symbol_block = _symbols[offset + 1];
+					final Block block = (Block) _symbol_block.value;
+					 return new InstanceInitializer(block);
+			}
+			case 139: // constructor_declaration = IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_pl = _symbols[offset + 3];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_tl = _symbols[offset + 5];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 6];
+					final Symbol RBRACE = _symbols[offset + 7];
+					 Block b = new Block(new List()); new List().setStart(LBRACE.getStart() + 1); b.setStart(LBRACE.getStart()); b.setEnd(RBRACE.getEnd());
+       return new ConstructorDecl(new Modifiers(new List()), IDENTIFIER, pl, tl, new Opt(), b);
+			}
+			case 140: // constructor_declaration = modifiers.m IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_pl = _symbols[offset + 4];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_tl = _symbols[offset + 6];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 7];
+					final Symbol RBRACE = _symbols[offset + 8];
+					 Block b = new Block(new List()); new List().setStart(LBRACE.getStart() + 1); b.setStart(LBRACE.getStart()); b.setEnd(RBRACE.getEnd());
+       return new ConstructorDecl(new Modifiers(m), IDENTIFIER, pl, tl, new Opt(), b);
+			}
+			case 141: // constructor_declaration = IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE explicit_constructor_invocation.c RBRACE.RBRACE
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_pl = _symbols[offset + 3];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_tl = _symbols[offset + 5];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 6];
+					final Symbol _symbol_c = _symbols[offset + 7];
+					final ExprStmt c = (ExprStmt) _symbol_c.value;
+					final Symbol RBRACE = _symbols[offset + 8];
+					 Block b = new Block(new List()); new List().setStart(LBRACE.getStart() + 1); b.setStart(LBRACE.getStart()); b.setEnd(RBRACE.getEnd());
+       return new ConstructorDecl(new Modifiers(new List()), IDENTIFIER, pl, tl, new Opt(c), b);
+			}
+			case 142: // constructor_declaration = modifiers.m IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE explicit_constructor_invocation.c RBRACE.RBRACE
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_pl = _symbols[offset + 4];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_tl = _symbols[offset + 6];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 7];
+					final Symbol _symbol_c = _symbols[offset + 8];
+					final ExprStmt c = (ExprStmt) _symbol_c.value;
+					final Symbol RBRACE = _symbols[offset + 9];
+					 Block b = new Block(new List()); new List().setStart(LBRACE.getStart() + 1); b.setStart(LBRACE.getStart()); b.setEnd(RBRACE.getEnd());
+       return new ConstructorDecl(new Modifiers(m), IDENTIFIER, pl, tl, new Opt(c), b);
+			}
+			case 143: // constructor_declaration = IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE block_statements.l RBRACE.RBRACE
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_pl = _symbols[offset + 3];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_tl = _symbols[offset + 5];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RBRACE = _symbols[offset + 8];
+					 Block b = new Block(l); l.setStart(LBRACE.getStart() + 1); b.setStart(LBRACE.getStart()); b.setEnd(RBRACE.getEnd());
+       return new ConstructorDecl(new Modifiers(new List()), IDENTIFIER, pl, tl, new Opt(), b);
+			}
+			case 144: // constructor_declaration = modifiers.m IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE block_statements.l RBRACE.RBRACE
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_pl = _symbols[offset + 4];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_tl = _symbols[offset + 6];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 7];
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RBRACE = _symbols[offset + 9];
+					 Block b = new Block(l); l.setStart(LBRACE.getStart() + 1); b.setStart(LBRACE.getStart()); b.setEnd(RBRACE.getEnd());
+       return new ConstructorDecl(new Modifiers(m), IDENTIFIER, pl, tl, new Opt(), b);
+			}
+			case 145: // constructor_declaration = IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE explicit_constructor_invocation.c block_statements.l RBRACE.RBRACE
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_pl = _symbols[offset + 3];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_tl = _symbols[offset + 5];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 6];
+					final Symbol _symbol_c = _symbols[offset + 7];
+					final ExprStmt c = (ExprStmt) _symbol_c.value;
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RBRACE = _symbols[offset + 9];
+					 Block b = new Block(l); l.setStart(LBRACE.getStart() + 1); b.setStart(LBRACE.getStart()); b.setEnd(RBRACE.getEnd());
+       return new ConstructorDecl(new Modifiers(new List()), IDENTIFIER, pl, tl, new Opt(c), b);
+			}
+			case 146: // constructor_declaration = modifiers.m IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE explicit_constructor_invocation.c block_statements.l RBRACE.RBRACE
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_pl = _symbols[offset + 4];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_tl = _symbols[offset + 6];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 7];
+					final Symbol _symbol_c = _symbols[offset + 8];
+					final ExprStmt c = (ExprStmt) _symbol_c.value;
+					final Symbol _symbol_l = _symbols[offset + 9];
+					final List l = (List) _symbol_l.value;
+					final Symbol RBRACE = _symbols[offset + 10];
+					 Block b = new Block(l); l.setStart(LBRACE.getStart() + 1); b.setStart(LBRACE.getStart()); b.setEnd(RBRACE.getEnd());
+       return new ConstructorDecl(new Modifiers(m), IDENTIFIER, pl, tl, new Opt(c), b);
+			}
+			case 147: // explicit_constructor_invocation = THIS.THIS LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol THIS = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol SEMICOLON = _symbols[offset + 5];
+					 ConstructorAccess c = new ConstructorAccess("this", l);
+       c.setStart(THIS.getStart());
+       c.setEnd(RPAREN.getEnd());
+       return new ExprStmt(c);
+			}
+			case 148: // explicit_constructor_invocation = SUPER.SUPER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol SUPER = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol SEMICOLON = _symbols[offset + 5];
+					 SuperConstructorAccess c = new SuperConstructorAccess("super", l);
+       c.setStart(SUPER.getStart());
+       c.setEnd(RPAREN.getEnd());
+       return new ExprStmt(c);
+			}
+			case 149: // explicit_constructor_invocation = primary.p DOT.DOT SUPER.SUPER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final Expr p = (Expr) _symbol_p.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol SUPER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol SEMICOLON = _symbols[offset + 7];
+					 SuperConstructorAccess c = new SuperConstructorAccess("super", l);
+       c.setStart(SUPER.getStart());
+       c.setEnd(RPAREN.getEnd());
+       return new ExprStmt(p.qualifiesAccess(c));
+			}
+			case 150: // explicit_constructor_invocation = name.n DOT.DOT SUPER.SUPER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol SUPER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol SEMICOLON = _symbols[offset + 7];
+					 SuperConstructorAccess c = new SuperConstructorAccess("super", l);
+       c.setStart(SUPER.getStart());
+       c.setEnd(RPAREN.getEnd());
+       return new ExprStmt(n.qualifiesAccess(c));
+			}
+			case 151: // interface_declaration = INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER interface_body.b
+			{
+					final Symbol INTERFACE = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_b = _symbols[offset + 3];
+					final List b = (List) _symbol_b.value;
+					 return new InterfaceDecl(new Modifiers(new List()), IDENTIFIER, new List(), b);
+			}
+			case 152: // interface_declaration = modifiers.m INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER interface_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol INTERFACE = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new InterfaceDecl(new Modifiers(m), IDENTIFIER, new List(), b);
+			}
+			case 153: // interface_declaration = INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER extends_interfaces.i interface_body.b
+			{
+					final Symbol INTERFACE = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new InterfaceDecl(new Modifiers(new List()), IDENTIFIER, i, b);
+			}
+			case 154: // interface_declaration = modifiers.m INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER extends_interfaces.i interface_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol INTERFACE = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new InterfaceDecl(new Modifiers(m), IDENTIFIER, i, b);
+			}
+			case 155: // extends_interfaces = EXTENDS.EXTENDS interface_type.i
+			{
+					final Symbol EXTENDS = _symbols[offset + 1];
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final Access i = (Access) _symbol_i.value;
+					 return new List().add(i);
+			}
+			case 156: // extends_interfaces = extends_interfaces.l COMMA.COMMA interface_type.i
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final Access i = (Access) _symbol_i.value;
+					 return l.add(i);
+			}
+			case 157: // interface_body = LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol RBRACE = _symbols[offset + 2];
+					 return new List();
+			}
+			case 158: // interface_body = LBRACE.LBRACE interface_member_declarations.i RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final List i = (List) _symbol_i.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return i;
+			}
+			case 159: // interface_body = LBRACE.LBRACE doc_comment_list.doc_comment_list RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 2];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new List();
+			}
+			case 160: // interface_body = LBRACE.LBRACE interface_member_declarations.i doc_comment_list.doc_comment_list RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 3];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					final Symbol RBRACE = _symbols[offset + 4];
+					 return i;
+			}
+			case 161: // interface_member_declarations = interface_member_with_comment.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final BodyDecl i = (BodyDecl) _symbol_i.value;
+					 return new List().add(i);
+			}
+			case 162: // interface_member_declarations = interface_member_declarations.l interface_member_with_comment.i
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final BodyDecl i = (BodyDecl) _symbol_i.value;
+					 return l.add(i);
+			}
+			case 164: // interface_member_with_comment = doc_comment_list.dc interface_member_declaration.d
+			{
+					final Symbol _symbol_dc = _symbols[offset + 1];
+					final String dc = (String) _symbol_dc.value;
+					final Symbol _symbol_d = _symbols[offset + 2];
+					final BodyDecl d = (BodyDecl) _symbol_d.value;
+					 d.docComment = dc;
+      return d;
+			}
+			case 167: // interface_member_declaration = class_declaration.c
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final ClassDecl c = (ClassDecl) _symbol_c.value;
+					 return new MemberClassDecl(c);
+			}
+			case 168: // interface_member_declaration = interface_declaration.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final InterfaceDecl i = (InterfaceDecl) _symbol_i.value;
+					 return new MemberInterfaceDecl(i);
+			}
+			case 169: // interface_member_declaration = SEMICOLON.SEMICOLON
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					 return new StaticInitializer(new Block());
+			}
+			case 171: // array_initializer = LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol RBRACE = _symbols[offset + 2];
+					 return new ArrayInit(new List());
+			}
+			case 172: // array_initializer = LBRACE.LBRACE variable_initializers.v RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_v = _symbols[offset + 2];
+					final List v = (List) _symbol_v.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new ArrayInit(v);
+			}
+			case 173: // array_initializer = LBRACE.LBRACE COMMA.COMMA RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new ArrayInit(new List());
+			}
+			case 174: // array_initializer = LBRACE.LBRACE variable_initializers.v COMMA.COMMA RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_v = _symbols[offset + 2];
+					final List v = (List) _symbol_v.value;
+					final Symbol COMMA = _symbols[offset + 3];
+					final Symbol RBRACE = _symbols[offset + 4];
+					 return new ArrayInit(v);
+			}
+			case 175: // variable_initializers = variable_initializer.v
+			{
+					final Symbol _symbol_v = _symbols[offset + 1];
+					final Expr v = (Expr) _symbol_v.value;
+					 return new List().add(v);
+			}
+			case 176: // variable_initializers = variable_initializers.l COMMA.COMMA variable_initializer.v
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_v = _symbols[offset + 3];
+					final Expr v = (Expr) _symbol_v.value;
+					 return l.add(v);
+			}
+			case 177: // block = LBRACE.LBRACE block_statements_opt.l RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new Block(l);
+			}
+			case 178: // block_statements = block_statement.b
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final Stmt b = (Stmt) _symbol_b.value;
+					 return new List().add(b);
+			}
+			case 179: // block_statements = block_statements.l block_statement.b
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Stmt b = (Stmt) _symbol_b.value;
+					 return l.add(b);
+			}
+			case 181: // block_statement = class_declaration.c
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final ClassDecl c = (ClassDecl) _symbol_c.value;
+					 return new LocalClassDeclStmt(c);
+			}
+			case 183: // local_variable_declaration_statement = local_variable_declaration.l SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final VarDeclStmt l = (VarDeclStmt) _symbol_l.value;
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					 return l;
+			}
+			case 184: // local_variable_declaration = type.t variable_declarators.l
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					 return new VarDeclStmt(new Modifiers(new List()), t, l);
+			}
+			case 185: // local_variable_declaration = modifiers.m type.t variable_declarators.l
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					 return new VarDeclStmt(new Modifiers(m), t, l);
+			}
+			case 186: // variable_declarators = variable_declarator.v
+			{
+					final Symbol _symbol_v = _symbols[offset + 1];
+					final VariableDeclarator v = (VariableDeclarator) _symbol_v.value;
+					 return new List().add(v);
+			}
+			case 187: // variable_declarators = variable_declarators.l COMMA.COMMA variable_declarator.v
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_v = _symbols[offset + 3];
+					final VariableDeclarator v = (VariableDeclarator) _symbol_v.value;
+					 return l.add(v);
+			}
+			case 189: // variable_declarator = variable_declarator_id.v EQ.EQ variable_initializer.i
+			{
+					final Symbol _symbol_v = _symbols[offset + 1];
+					final VariableDeclarator v = (VariableDeclarator) _symbol_v.value;
+					final Symbol EQ = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final Expr i = (Expr) _symbol_i.value;
+					 v.setInit(i); return v;
+			}
+			case 190: // variable_declarator_id = IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol _symbol_d = _symbols[offset + 2];
+					final List d = (List) _symbol_d.value;
+					 return new VariableDeclarator(IDENTIFIER, d, new Opt());
+			}
+			case 214: // if_then_statement = IF.IF LPAREN.LPAREN expression.e RPAREN.RPAREN statement.s
+			{
+					final Symbol IF = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_s = _symbols[offset + 5];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new IfStmt(e, s, new Opt());
+			}
+			case 215: // if_then_else_statement = IF.IF LPAREN.LPAREN expression.e RPAREN.RPAREN statement_no_short_if.t ELSE.ELSE statement.els
+			{
+					final Symbol IF = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_t = _symbols[offset + 5];
+					final Stmt t = (Stmt) _symbol_t.value;
+					final Symbol ELSE = _symbols[offset + 6];
+					final Symbol _symbol_els = _symbols[offset + 7];
+					final Stmt els = (Stmt) _symbol_els.value;
+					 return new IfStmt(e, t, new Opt(els));
+			}
+			case 216: // if_then_else_statement_no_short_if = IF.IF LPAREN.LPAREN expression.e RPAREN.RPAREN statement_no_short_if.t ELSE.ELSE statement_no_short_if.els
+			{
+					final Symbol IF = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_t = _symbols[offset + 5];
+					final Stmt t = (Stmt) _symbol_t.value;
+					final Symbol ELSE = _symbols[offset + 6];
+					final Symbol _symbol_els = _symbols[offset + 7];
+					final Stmt els = (Stmt) _symbol_els.value;
+					 return new IfStmt(e, t, new Opt(els));
+			}
+			case 217: // empty_statement = SEMICOLON.SEMICOLON
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					 return new EmptyStmt();
+			}
+			case 218: // labeled_statement = IDENTIFIER.id COLON.COLON statement.s
+			{
+					final Symbol id = _symbols[offset + 1];
+					final Symbol COLON = _symbols[offset + 2];
+					final Symbol _symbol_s = _symbols[offset + 3];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new LabeledStmt(((String)id.value), s);
+			}
+			case 219: // labeled_statement_no_short_if = IDENTIFIER.id COLON.COLON statement_no_short_if.s
+			{
+					final Symbol id = _symbols[offset + 1];
+					final Symbol COLON = _symbols[offset + 2];
+					final Symbol _symbol_s = _symbols[offset + 3];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new LabeledStmt(((String)id.value), s);
+			}
+			case 220: // expression_statement = statement_expression.e SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final ExprStmt e = (ExprStmt) _symbol_e.value;
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					 return e;
+			}
+			case 221: // statement_expression = assignment.a
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final Expr a = (Expr) _symbol_a.value;
+					 return new ExprStmt(a);
+			}
+			case 222: // statement_expression = preincrement_expression.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new ExprStmt(e);
+			}
+			case 223: // statement_expression = predecrement_expression.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new ExprStmt(e);
+			}
+			case 224: // statement_expression = postincrement_expression.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new ExprStmt(e);
+			}
+			case 225: // statement_expression = postdecrement_expression.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new ExprStmt(e);
+			}
+			case 226: // statement_expression = method_invocation.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final Access i = (Access) _symbol_i.value;
+					 return new ExprStmt(i);
+			}
+			case 227: // statement_expression = class_instance_creation_expression.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new ExprStmt(e);
+			}
+			case 228: // switch_statement = SWITCH.SWITCH LPAREN.LPAREN expression.e RPAREN.RPAREN switch_block.l
+			{
+					final Symbol SWITCH = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final Block l = (Block) _symbol_l.value;
+					 return new SwitchStmt(e, l);
+			}
+			case 229: // switch_block = LBRACE.LBRACE switch_statements.l RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new Block(l);
+			}
+			case 230: // switch_block = LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol RBRACE = _symbols[offset + 2];
+					 return new Block(new List());
+			}
+			case 231: // switch_statements = switch_label.s
+			{
+					final Symbol _symbol_s = _symbols[offset + 1];
+					final Case s = (Case) _symbol_s.value;
+					 return new List().add(s);
+			}
+			case 232: // switch_statements = switch_statements.l switch_label.s
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_s = _symbols[offset + 2];
+					final Case s = (Case) _symbol_s.value;
+					 return l.add(s);
+			}
+			case 233: // switch_statements = switch_statements.l block_statement.b
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Stmt b = (Stmt) _symbol_b.value;
+					 return l.add(b);
+			}
+			case 234: // switch_label = CASE.CASE constant_expression.e COLON.COLON
+			{
+					final Symbol CASE = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol COLON = _symbols[offset + 3];
+					 return new ConstCase(e);
+			}
+			case 235: // switch_label = DEFAULT.DEFAULT COLON.COLON
+			{
+					final Symbol DEFAULT = _symbols[offset + 1];
+					final Symbol COLON = _symbols[offset + 2];
+					 return new DefaultCase();
+			}
+			case 236: // while_statement = WHILE.WHILE LPAREN.LPAREN expression.e RPAREN.RPAREN statement.s
+			{
+					final Symbol WHILE = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_s = _symbols[offset + 5];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new WhileStmt(e, s);
+			}
+			case 237: // while_statement_no_short_if = WHILE.WHILE LPAREN.LPAREN expression.e RPAREN.RPAREN statement_no_short_if.s
+			{
+					final Symbol WHILE = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_s = _symbols[offset + 5];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new WhileStmt(e, s);
+			}
+			case 238: // do_statement = DO.DO statement.s WHILE.WHILE LPAREN.LPAREN expression.e RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol DO = _symbols[offset + 1];
+					final Symbol _symbol_s = _symbols[offset + 2];
+					final Stmt s = (Stmt) _symbol_s.value;
+					final Symbol WHILE = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_e = _symbols[offset + 5];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol SEMICOLON = _symbols[offset + 7];
+					 return new DoStmt(s, e);
+			}
+			case 239: // for_statement = FOR.FOR LPAREN.LPAREN for_init_opt.i SEMICOLON.SEMICOLON expression_opt.e SEMICOLON.SEMICOLON_ for_update_opt.u RPAREN.RPAREN statement.s
+			{
+					final Symbol FOR = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final List i = (List) _symbol_i.value;
+					final Symbol SEMICOLON = _symbols[offset + 4];
+					final Symbol _symbol_e = _symbols[offset + 5];
+					final Opt e = (Opt) _symbol_e.value;
+					final Symbol SEMICOLON_ = _symbols[offset + 6];
+					final Symbol _symbol_u = _symbols[offset + 7];
+					final List u = (List) _symbol_u.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_s = _symbols[offset + 9];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new ForStmt(i, e, u, s);
+			}
+			case 240: // for_statement_no_short_if = FOR.FOR LPAREN.LPAREN for_init_opt.i SEMICOLON.SEMICOLON expression_opt.e SEMICOLON.SEMICOLON_ for_update_opt.u RPAREN.RPAREN statement_no_short_if.s
+			{
+					final Symbol FOR = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final List i = (List) _symbol_i.value;
+					final Symbol SEMICOLON = _symbols[offset + 4];
+					final Symbol _symbol_e = _symbols[offset + 5];
+					final Opt e = (Opt) _symbol_e.value;
+					final Symbol SEMICOLON_ = _symbols[offset + 6];
+					final Symbol _symbol_u = _symbols[offset + 7];
+					final List u = (List) _symbol_u.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_s = _symbols[offset + 9];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new ForStmt(i, e, u, s);
+			}
+			case 242: // for_init = local_variable_declaration.d
+			{
+					final Symbol _symbol_d = _symbols[offset + 1];
+					final VarDeclStmt d = (VarDeclStmt) _symbol_d.value;
+					 return new List().add(d);
+			}
+			case 244: // statement_expression_list = statement_expression.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final ExprStmt e = (ExprStmt) _symbol_e.value;
+					 return new List().add(e);
+			}
+			case 245: // statement_expression_list = statement_expression_list.l COMMA.COMMA statement_expression.e
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final ExprStmt e = (ExprStmt) _symbol_e.value;
+					 return l.add(e);
+			}
+			case 246: // break_statement = BREAK.BREAK IDENTIFIER.id SEMICOLON.SEMICOLON
+			{
+					final Symbol BREAK = _symbols[offset + 1];
+					final Symbol id = _symbols[offset + 2];
+					final Symbol SEMICOLON = _symbols[offset + 3];
+					 return new BreakStmt(((String)id.value));
+			}
+			case 247: // break_statement = BREAK.BREAK SEMICOLON.SEMICOLON
+			{
+					final Symbol BREAK = _symbols[offset + 1];
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					 return new BreakStmt("");
+			}
+			case 248: // continue_statement = CONTINUE.CONTINUE IDENTIFIER.id SEMICOLON.SEMICOLON
+			{
+					final Symbol CONTINUE = _symbols[offset + 1];
+					final Symbol id = _symbols[offset + 2];
+					final Symbol SEMICOLON = _symbols[offset + 3];
+					 return new ContinueStmt(((String)id.value));
+			}
+			case 249: // continue_statement = CONTINUE.CONTINUE SEMICOLON.SEMICOLON
+			{
+					final Symbol CONTINUE = _symbols[offset + 1];
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					 return new ContinueStmt("");
+			}
+			case 250: // return_statement = RETURN.RETURN expression_opt.expression SEMICOLON.SEMICOLON
+			{
+					final Symbol RETURN = _symbols[offset + 1];
+					final Symbol _symbol_expression = _symbols[offset + 2];
+					final Opt expression = (Opt) _symbol_expression.value;
+					final Symbol SEMICOLON = _symbols[offset + 3];
+					 return new ReturnStmt(expression);
+			}
+			case 251: // throw_statement = THROW.THROW expression.expression SEMICOLON.SEMICOLON
+			{
+					final Symbol THROW = _symbols[offset + 1];
+					final Symbol _symbol_expression = _symbols[offset + 2];
+					final Expr expression = (Expr) _symbol_expression.value;
+					final Symbol SEMICOLON = _symbols[offset + 3];
+					 return new ThrowStmt(expression);
+			}
+			case 252: // synchronized_statement = SYNCHRONIZED.SYNCHRONIZED LPAREN.LPAREN expression.e RPAREN.RPAREN block.b
+			{
+					final Symbol SYNCHRONIZED = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final Block b = (Block) _symbol_b.value;
+					 return new SynchronizedStmt(e, b);
+			}
+			case 253: // try_statement = TRY.TRY block.b catches.c
+			{
+					final Symbol TRY = _symbols[offset + 1];
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Block b = (Block) _symbol_b.value;
+					final Symbol _symbol_c = _symbols[offset + 3];
+					final List c = (List) _symbol_c.value;
+					 return new TryStmt(b, c, new Opt());
+			}
+			case 254: // try_statement = TRY.TRY block.b finally.f
+			{
+					final Symbol TRY = _symbols[offset + 1];
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Block b = (Block) _symbol_b.value;
+					final Symbol _symbol_f = _symbols[offset + 3];
+					final Block f = (Block) _symbol_f.value;
+					 return new TryStmt(b, new List(), new Opt(f));
+			}
+			case 255: // try_statement = TRY.TRY block.b catches.c finally.f
+			{
+					final Symbol TRY = _symbols[offset + 1];
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Block b = (Block) _symbol_b.value;
+					final Symbol _symbol_c = _symbols[offset + 3];
+					final List c = (List) _symbol_c.value;
+					final Symbol _symbol_f = _symbols[offset + 4];
+					final Block f = (Block) _symbol_f.value;
+					 return new TryStmt(b, c, new Opt(f));
+			}
+			case 256: // catches = catch_clause.c
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final CatchClause c = (CatchClause) _symbol_c.value;
+					 return new List().add(c);
+			}
+			case 257: // catches = catches.l catch_clause.c
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_c = _symbols[offset + 2];
+					final CatchClause c = (CatchClause) _symbol_c.value;
+					 return l.add(c);
+			}
+			case 258: // catch_clause = CATCH.CATCH LPAREN.LPAREN formal_parameter.p RPAREN.RPAREN block.b
+			{
+					final Symbol CATCH = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final ParameterDeclaration p = (ParameterDeclaration) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final Block b = (Block) _symbol_b.value;
+					 return new BasicCatch(p, b);
+			}
+			case 259: // finally = FINALLY.FINALLY block.b
+			{
+					final Symbol FINALLY = _symbols[offset + 1];
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Block b = (Block) _symbol_b.value;
+					 return b;
+			}
+			case 260: // assert_statement = ASSERT.ASSERT expression.e SEMICOLON.SEMICOLON
+			{
+					final Symbol ASSERT = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol SEMICOLON = _symbols[offset + 3];
+					 return new AssertStmt(e, new Opt());
+			}
+			case 261: // assert_statement = ASSERT.ASSERT expression.e COLON.COLON expression.s SEMICOLON.SEMICOLON
+			{
+					final Symbol ASSERT = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol COLON = _symbols[offset + 3];
+					final Symbol _symbol_s = _symbols[offset + 4];
+					final Expr s = (Expr) _symbol_s.value;
+					final Symbol SEMICOLON = _symbols[offset + 5];
+					 return new AssertStmt(e, new Opt(s));
+			}
+			case 265: // class_literal = CLASS.CLASS
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					 return new ClassAccess();
+			}
+			case 266: // subclass_body = class_body.b
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final List b = (List) _symbol_b.value;
+					 return new Opt(new AnonymousDecl(new Modifiers(), "Anonymous", b));
+			}
+			case 267: // argument_list = expression.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new List().add(e);
+			}
+			case 268: // argument_list = argument_list.l COMMA.COMMA expression.e
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					 return l.add(e);
+			}
+			case 269: // array_creation_uninit = NEW.NEW primitive_type.t dim_exprs.d
+			{
+					final Symbol NEW = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					 return new ArrayCreationExpr(t.addArrayDims(d), new Opt());
+			}
+			case 270: // array_creation_uninit = NEW.NEW primitive_type.t dim_exprs.d dims.e
+			{
+					final Symbol NEW = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_e = _symbols[offset + 4];
+					final List e = (List) _symbol_e.value;
+					 return new ArrayCreationExpr(t.addArrayDims(d).addArrayDims(e), new Opt());
+			}
+			case 271: // array_creation_uninit = NEW.NEW class_or_interface_type.t dim_exprs.d
+			{
+					final Symbol NEW = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					 return new ArrayCreationExpr(t.addArrayDims(d), new Opt());
+			}
+			case 272: // array_creation_uninit = NEW.NEW class_or_interface_type.t dim_exprs.d dims.e
+			{
+					final Symbol NEW = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_e = _symbols[offset + 4];
+					final List e = (List) _symbol_e.value;
+					 return new ArrayCreationExpr(t.addArrayDims(d).addArrayDims(e), new Opt());
+			}
+			case 273: // array_creation_init = NEW.NEW primitive_type.t dims.d array_initializer.i
+			{
+					final Symbol NEW = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final ArrayInit i = (ArrayInit) _symbol_i.value;
+					 return new ArrayCreationExpr(t.addArrayDims(d), new Opt(i));
+			}
+			case 274: // array_creation_init = NEW.NEW class_or_interface_type.t dims.d array_initializer.i
+			{
+					final Symbol NEW = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final ArrayInit i = (ArrayInit) _symbol_i.value;
+					 return new ArrayCreationExpr(t.addArrayDims(d), new Opt(i));
+			}
+			case 275: // dim_exprs = dim_expr.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Dims e = (Dims) _symbol_e.value;
+					 return new List().add(e);
+			}
+			case 276: // dim_exprs = dim_exprs.l dim_expr.e
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Dims e = (Dims) _symbol_e.value;
+					 return l.add(e);
+			}
+			case 277: // dim_expr = LBRACK.LBRACK expression.e RBRACK.RBRACK
+			{
+					final Symbol LBRACK = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RBRACK = _symbols[offset + 3];
+					 return new Dims(new Opt(e));
+			}
+			case 278: // dims = LBRACK.LBRACK RBRACK.RBRACK
+			{
+					final Symbol LBRACK = _symbols[offset + 1];
+					final Symbol RBRACK = _symbols[offset + 2];
+					 Dims d = new Dims(new Opt()); d.setStart(LBRACK.getStart()); d.setEnd(RBRACK.getEnd());
+                                                  return new List().add(d);
+			}
+			case 279: // dims = dims.l LBRACK.LBRACK RBRACK.RBRACK
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol LBRACK = _symbols[offset + 2];
+					final Symbol RBRACK = _symbols[offset + 3];
+					 Dims d = new Dims(new Opt()); d.setStart(LBRACK.getStart()); d.setEnd(RBRACK.getEnd());
+                                                  return l.add(d);
+			}
+			case 280: // field_access = primary.p DOT.DOT simple_name.id
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final Expr p = (Expr) _symbol_p.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_id = _symbols[offset + 3];
+					final Access id = (Access) _symbol_id.value;
+					 return p.qualifiesAccess(id);
+			}
+			case 281: // field_access = SUPER.SUPER DOT.DOT simple_name.id
+			{
+					final Symbol SUPER = _symbols[offset + 1];
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_id = _symbols[offset + 3];
+					final Access id = (Access) _symbol_id.value;
+					 SuperAccess s = new SuperAccess();
+       s.setStart(SUPER.getStart());
+       s.setEnd(SUPER.getEnd());
+       return s.qualifiesAccess(id);
+			}
+			case 282: // field_access = name.n DOT.DOT SUPER.SUPER DOT.DOT_ simple_name.id
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol SUPER = _symbols[offset + 3];
+					final Symbol DOT_ = _symbols[offset + 4];
+					final Symbol _symbol_id = _symbols[offset + 5];
+					final Access id = (Access) _symbol_id.value;
+					 SuperAccess s = new SuperAccess();
+       s.setStart(SUPER.getStart());
+       s.setEnd(SUPER.getEnd());
+       return n.qualifiesAccess(s).qualifiesAccess(id);
+			}
+			case 283: // method_invocation = name.name LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_name = _symbols[offset + 1];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					 Access result = name.buildMethodAccess(l);
+      result.setStart(name.getStart());
+      result.setEnd(RPAREN.getEnd());
+      return result;
+			}
+			case 284: // method_invocation = primary.p DOT.DOT IDENTIFIER.IDENTIFIER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final Expr p = (Expr) _symbol_p.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					 MethodAccess m = new MethodAccess(IDENTIFIER, l);
+     m.setStart(IDENTIFIER.getStart()); // add location information
+     m.setEnd(RPAREN.getEnd()); // add location information
+     return p.qualifiesAccess(m);
+			}
+			case 285: // method_invocation = SUPER.SUPER DOT.DOT IDENTIFIER.IDENTIFIER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol SUPER = _symbols[offset + 1];
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					 SuperAccess s = new SuperAccess();
+     s.setStart(SUPER.getStart());
+     s.setEnd(SUPER.getEnd());
+     MethodAccess m = new MethodAccess(IDENTIFIER, l);
+     m.setStart(IDENTIFIER.getStart());
+     m.setEnd(RPAREN.getEnd());
+     return s.qualifiesAccess(m);
+			}
+			case 286: // method_invocation = name.name DOT.DOT SUPER.SUPER DOT.DOT_ IDENTIFIER.IDENTIFIER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_name = _symbols[offset + 1];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol SUPER = _symbols[offset + 3];
+					final Symbol DOT_ = _symbols[offset + 4];
+					final Symbol IDENTIFIER = _symbols[offset + 5];
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					 SuperAccess s = new SuperAccess();
+     s.setStart(SUPER.getStart());
+     s.setEnd(SUPER.getEnd());
+     MethodAccess m = new MethodAccess(IDENTIFIER, l);
+     m.setStart(IDENTIFIER.getStart());
+     m.setEnd(RPAREN.getEnd());
+     return name.qualifiesAccess(s).qualifiesAccess(m);
+			}
+			case 287: // array_access = name.name LBRACK.LBRACK expression.e RBRACK.RBRACK
+			{
+					final Symbol _symbol_name = _symbols[offset + 1];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol LBRACK = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RBRACK = _symbols[offset + 4];
+					 ArrayAccess a = new ArrayAccess(e);
+     a.setStart(LBRACK.getStart());
+     a.setEnd(RBRACK.getEnd());
+     return name.qualifiesAccess(a);
+			}
+			case 288: // array_access = primary_no_new_array.p LBRACK.LBRACK expression.e RBRACK.RBRACK
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final Expr p = (Expr) _symbol_p.value;
+					final Symbol LBRACK = _symbols[offset + 2];
+					final Symbol _symbol_e = _symbols[offset + 3];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RBRACK = _symbols[offset + 4];
+					 ArrayAccess a = new ArrayAccess(e);
+     a.setStart(LBRACK.getStart());
+     a.setEnd(RBRACK.getEnd());
+     return p.qualifiesAccess(a);
+			}
+			case 293: // postincrement_expression = postfix_expression.e PLUSPLUS.PLUSPLUS
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol PLUSPLUS = _symbols[offset + 2];
+					 return new PostIncExpr(e);
+			}
+			case 294: // postdecrement_expression = postfix_expression.e MINUSMINUS.MINUSMINUS
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol MINUSMINUS = _symbols[offset + 2];
+					 return new PostDecExpr(e);
+			}
+			case 297: // unary_expression = PLUS.PLUS unary_expression.e
+			{
+					final Symbol PLUS = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new PlusExpr(e);
+			}
+			case 298: // unary_expression = MINUS.MINUS unary_expression.e
+			{
+					final Symbol MINUS = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new MinusExpr(e);
+			}
+			case 300: // preincrement_expression = PLUSPLUS.PLUSPLUS unary_expression.e
+			{
+					final Symbol PLUSPLUS = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new PreIncExpr(e);
+			}
+			case 301: // predecrement_expression = MINUSMINUS.MINUSMINUS unary_expression.e
+			{
+					final Symbol MINUSMINUS = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new PreDecExpr(e);
+			}
+			case 303: // unary_expression_not_plus_minus = COMP.COMP unary_expression.e
+			{
+					final Symbol COMP = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new BitNotExpr(e);
+			}
+			case 304: // unary_expression_not_plus_minus = NOT.NOT unary_expression.e
+			{
+					final Symbol NOT = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new LogNotExpr(e);
+			}
+			case 306: // cast_expression = LPAREN.LPAREN primitive_type.t RPAREN.RPAREN unary_expression.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol RPAREN = _symbols[offset + 3];
+					final Symbol _symbol_e = _symbols[offset + 4];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new CastExpr(t.addArrayDims(new List()), e);
+			}
+			case 307: // cast_expression = LPAREN.LPAREN primitive_type.t dims.d RPAREN.RPAREN unary_expression.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_e = _symbols[offset + 5];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new CastExpr(t.addArrayDims(d), e);
+			}
+			case 308: // cast_expression = LPAREN.LPAREN name.t RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol RPAREN = _symbols[offset + 3];
+					final Symbol _symbol_e = _symbols[offset + 4];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new CastExpr(t.addArrayDims(new List()), e);
+			}
+			case 309: // cast_expression = LPAREN.LPAREN name.t dims.d RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_e = _symbols[offset + 5];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new CastExpr(t.addArrayDims(d), e);
+			}
+			case 311: // multiplicative_expression = multiplicative_expression.e1 MULT.MULT unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol MULT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new MulExpr(e1, e2);
+			}
+			case 312: // multiplicative_expression = multiplicative_expression.e1 DIV.DIV unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol DIV = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new DivExpr(e1, e2);
+			}
+			case 313: // multiplicative_expression = multiplicative_expression.e1 MOD.MOD unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol MOD = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new ModExpr(e1, e2);
+			}
+			case 315: // additive_expression = additive_expression.e1 PLUS.PLUS multiplicative_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol PLUS = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AddExpr(e1, e2);
+			}
+			case 316: // additive_expression = additive_expression.e1 MINUS.MINUS multiplicative_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol MINUS = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new SubExpr(e1, e2);
+			}
+			case 318: // shift_expression = shift_expression.e1 LSHIFT.LSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol LSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LShiftExpr(e1, e2);
+			}
+			case 319: // shift_expression = shift_expression.e1 RSHIFT.RSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol RSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new RShiftExpr(e1, e2);
+			}
+			case 320: // shift_expression = shift_expression.e1 URSHIFT.URSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol URSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new URShiftExpr(e1, e2);
+			}
+			case 322: // and_expression = and_expression.e1 AND.AND equality_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol AND = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AndBitwiseExpr(e1, e2);
+			}
+			case 324: // exclusive_or_expression = exclusive_or_expression.e1 XOR.XOR and_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol XOR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new XorBitwiseExpr(e1, e2);
+			}
+			case 326: // inclusive_or_expression = inclusive_or_expression.e1 OR.OR exclusive_or_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol OR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new OrBitwiseExpr(e1, e2);
+			}
+			case 328: // conditional_and_expression = conditional_and_expression.e1 ANDAND.ANDAND inclusive_or_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol ANDAND = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AndLogicalExpr(e1, e2);
+			}
+			case 330: // conditional_or_expression = conditional_or_expression.e1 OROR.OROR conditional_and_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol OROR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new OrLogicalExpr(e1, e2);
+			}
+			case 332: // conditional_expression = conditional_or_expression.c QUESTION.QUESTION expression.e1 COLON.COLON conditional_expression.e2
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final Expr c = (Expr) _symbol_c.value;
+					final Symbol QUESTION = _symbols[offset + 2];
+					final Symbol _symbol_e1 = _symbols[offset + 3];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol COLON = _symbols[offset + 4];
+					final Symbol _symbol_e2 = _symbols[offset + 5];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new ConditionalExpr(c, e1, e2);
+			}
+			case 335: // assignment = postfix_expression.dest EQ.EQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol EQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignSimpleExpr(dest, source);
+			}
+			case 336: // assignment = postfix_expression.dest MULTEQ.MULTEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol MULTEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignMulExpr(dest, source);
+			}
+			case 337: // assignment = postfix_expression.dest DIVEQ.DIVEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol DIVEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignDivExpr(dest, source);
+			}
+			case 338: // assignment = postfix_expression.dest MODEQ.MODEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol MODEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignModExpr(dest, source);
+			}
+			case 339: // assignment = postfix_expression.dest PLUSEQ.PLUSEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol PLUSEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignPlusExpr(dest, source);
+			}
+			case 340: // assignment = postfix_expression.dest MINUSEQ.MINUSEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol MINUSEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignMinusExpr(dest, source);
+			}
+			case 341: // assignment = postfix_expression.dest LSHIFTEQ.LSHIFTEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol LSHIFTEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignLShiftExpr(dest, source);
+			}
+			case 342: // assignment = postfix_expression.dest RSHIFTEQ.RSHIFTEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol RSHIFTEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignRShiftExpr(dest, source);
+			}
+			case 343: // assignment = postfix_expression.dest URSHIFTEQ.URSHIFTEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol URSHIFTEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignURShiftExpr(dest, source);
+			}
+			case 344: // assignment = postfix_expression.dest ANDEQ.ANDEQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol ANDEQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignAndExpr(dest, source);
+			}
+			case 345: // assignment = postfix_expression.dest XOREQ.XOREQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol XOREQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignXorExpr(dest, source);
+			}
+			case 346: // assignment = postfix_expression.dest OREQ.OREQ assignment_expression.source
+			{
+					final Symbol _symbol_dest = _symbols[offset + 1];
+					final Expr dest = (Expr) _symbol_dest.value;
+					final Symbol OREQ = _symbols[offset + 2];
+					final Symbol _symbol_source = _symbols[offset + 3];
+					final Expr source = (Expr) _symbol_source.value;
+					 return new AssignOrExpr(dest, source);
+			}
+			case 349: // class_body_declaration = error.error SEMICOLON.SEMICOLON
+			{
+					final Symbol error = _symbols[offset + 1];
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					 return new InstanceInitializer(new Block());
+			}
+			case 350: // class_body_declaration = error.error LBRACE.LBRACE
+			{
+					final Symbol error = _symbols[offset + 1];
+					final Symbol LBRACE = _symbols[offset + 2];
+					 return new InstanceInitializer(new Block());
+			}
+			case 351: // block = LBRACE.LBRACE error.error RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol error = _symbols[offset + 2];
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new Block(new List());
+			}
+			case 352: // switch_block = LBRACE.LBRACE error.error RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol error = _symbols[offset + 2];
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new Block(new List());
+			}
+			case 353: // statement = error.error SEMICOLON.SEMICOLON
+			{
+					final Symbol error = _symbols[offset + 1];
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					 return new EmptyStmt();
+			}
+			case 355: // interface_member_declaration = annotation_type_declaration.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final AnnotationDecl i = (AnnotationDecl) _symbol_i.value;
+					 MemberInterfaceDecl mid = new MemberInterfaceDecl(i);
+     mid.setStart(i.getStart());
+     mid.setEnd(i.getEnd());
+     return mid;
+			}
+			case 356: // class_member_declaration = annotation_type_declaration.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final AnnotationDecl i = (AnnotationDecl) _symbol_i.value;
+					 MemberInterfaceDecl mid = new MemberInterfaceDecl(i);
+     mid.setStart(i.getStart());
+     mid.setEnd(i.getEnd());
+     return mid;
+			}
+			case 357: // annotation_type_declaration = AT.AT INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER annotation_type_body.b
+			{
+					final Symbol AT = _symbols[offset + 1];
+					final Symbol INTERFACE = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 AnnotationDecl a = new AnnotationDecl(new Modifiers(new List()), IDENTIFIER, b);
+   a.setStart(new List().getStart());
+   a.setEnd(b.getEnd());
+   return a;
+			}
+			case 358: // annotation_type_declaration = modifiers.m AT.AT INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER annotation_type_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol AT = _symbols[offset + 2];
+					final Symbol INTERFACE = _symbols[offset + 3];
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 AnnotationDecl a = new AnnotationDecl(new Modifiers(m), IDENTIFIER, b);
+   a.setStart(m.getStart());
+   a.setEnd(b.getEnd());
+   return a;
+			}
+			case 359: // annotation_type_body = LBRACE.LBRACE annotation_type_element_declarations_opt.i RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final List i = (List) _symbol_i.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return i;
+			}
+			case 360: // annotation_type_element_declarations = annotation_type_element_declaration.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final BodyDecl i = (BodyDecl) _symbol_i.value;
+					 return new List().add(i);
+			}
+			case 361: // annotation_type_element_declarations = annotation_type_element_declarations.l annotation_type_element_declaration.i
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_i = _symbols[offset + 2];
+					final BodyDecl i = (BodyDecl) _symbol_i.value;
+					 return l.add(i);
+			}
+			case 362: // annotation_type_element_declaration = type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN RPAREN.RPAREN default_value_opt.default_value SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_default_value = _symbols[offset + 5];
+					final Opt default_value = (Opt) _symbol_default_value.value;
+					final Symbol SEMICOLON = _symbols[offset + 6];
+					 AnnotationMethodDecl a = new AnnotationMethodDecl(new Modifiers(new List()), t, IDENTIFIER, new List(), new List(), new Opt(), default_value);
+       a.setStart(new List().getStart());
+       a.setEnd(SEMICOLON.getEnd());
+       return a;
+			}
+			case 363: // annotation_type_element_declaration = modifiers.m type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN RPAREN.RPAREN default_value_opt.default_value SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_default_value = _symbols[offset + 6];
+					final Opt default_value = (Opt) _symbol_default_value.value;
+					final Symbol SEMICOLON = _symbols[offset + 7];
+					 AnnotationMethodDecl a = new AnnotationMethodDecl(new Modifiers(m), t, IDENTIFIER, new List(), new List(), new Opt(), default_value);
+       a.setStart(m.getStart());
+       a.setEnd(SEMICOLON.getEnd());
+       return a;
+			}
+			case 365: // annotation_type_element_declaration = class_declaration.class_declaration
+			{
+					final Symbol _symbol_class_declaration = _symbols[offset + 1];
+					final ClassDecl class_declaration = (ClassDecl) _symbol_class_declaration.value;
+					 MemberClassDecl m = new MemberClassDecl(class_declaration);
+       m.setStart(class_declaration.getStart());
+       m.setEnd(class_declaration.getEnd());
+       return m;
+			}
+			case 366: // annotation_type_element_declaration = interface_declaration.interface_declaration
+			{
+					final Symbol _symbol_interface_declaration = _symbols[offset + 1];
+					final InterfaceDecl interface_declaration = (InterfaceDecl) _symbol_interface_declaration.value;
+					 MemberInterfaceDecl m = new MemberInterfaceDecl(interface_declaration);
+       m.setStart(interface_declaration.getStart());
+       m.setEnd(interface_declaration.getEnd());
+       return m;
+			}
+			case 367: // annotation_type_element_declaration = enum_declaration.enum_declaration
+			{
+					final Symbol _symbol_enum_declaration = _symbols[offset + 1];
+					final EnumDecl enum_declaration = (EnumDecl) _symbol_enum_declaration.value;
+					 MemberClassDecl m = new MemberClassDecl(enum_declaration);
+       m.setStart(enum_declaration.getStart());
+       m.setEnd(enum_declaration.getEnd());
+       return m;
+			}
+			case 368: // annotation_type_element_declaration = annotation_type_declaration.annotation_type_declaration
+			{
+					final Symbol _symbol_annotation_type_declaration = _symbols[offset + 1];
+					final AnnotationDecl annotation_type_declaration = (AnnotationDecl) _symbol_annotation_type_declaration.value;
+					 MemberInterfaceDecl m = new MemberInterfaceDecl(annotation_type_declaration);
+       m.setStart(annotation_type_declaration.getStart());
+       m.setEnd(annotation_type_declaration.getEnd());
+       return m;
+			}
+			case 369: // annotation_type_element_declaration = SEMICOLON.SEMICOLON
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					 return new StaticInitializer(new Block());
+			}
+			case 370: // default_value = DEFAULT.DEFAULT element_value.element_value
+			{
+					final Symbol DEFAULT = _symbols[offset + 1];
+					final Symbol _symbol_element_value = _symbols[offset + 2];
+					final ElementValue element_value = (ElementValue) _symbol_element_value.value;
+					 return element_value;
+			}
+			case 375: // normal_annotation = AT.AT name.name LPAREN.LPAREN element_value_pairs_opt.element_value_pairs RPAREN.RPAREN
+			{
+					final Symbol AT = _symbols[offset + 1];
+					final Symbol _symbol_name = _symbols[offset + 2];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_element_value_pairs = _symbols[offset + 4];
+					final List element_value_pairs = (List) _symbol_element_value_pairs.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					 Annotation a = new Annotation("annotation", name, element_value_pairs);
+     a.setStart(AT.getStart());
+     a.setEnd(RPAREN.getEnd());
+     return a;
+			}
+			case 376: // element_value_pairs = element_value_pair.element_value_pair
+			{
+					final Symbol _symbol_element_value_pair = _symbols[offset + 1];
+					final ElementValuePair element_value_pair = (ElementValuePair) _symbol_element_value_pair.value;
+					 return new List().add(element_value_pair);
+			}
+			case 377: // element_value_pairs = element_value_pairs.element_value_pairs COMMA.COMMA element_value_pair.element_value_pair
+			{
+					final Symbol _symbol_element_value_pairs = _symbols[offset + 1];
+					final List element_value_pairs = (List) _symbol_element_value_pairs.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_element_value_pair = _symbols[offset + 3];
+					final ElementValuePair element_value_pair = (ElementValuePair) _symbol_element_value_pair.value;
+					 return element_value_pairs.add(element_value_pair);
+			}
+			case 378: // element_value_pair = IDENTIFIER.IDENTIFIER EQ.EQ element_value.element_value
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol EQ = _symbols[offset + 2];
+					final Symbol _symbol_element_value = _symbols[offset + 3];
+					final ElementValue element_value = (ElementValue) _symbol_element_value.value;
+					 ElementValuePair evp = new ElementValuePair(IDENTIFIER, element_value);
+     evp.setStart(IDENTIFIER.getStart());
+     evp.setEnd(element_value.getEnd());
+     return evp;
+			}
+			case 379: // element_value = conditional_expression.conditional_expression
+			{
+					final Symbol _symbol_conditional_expression = _symbols[offset + 1];
+					final Expr conditional_expression = (Expr) _symbol_conditional_expression.value;
+					 ElementConstantValue e = new ElementConstantValue(conditional_expression);
+       e.setStart(conditional_expression.getStart());
+       e.setEnd(conditional_expression.getEnd());
+       return e;
+			}
+			case 380: // element_value = annotation.annotation
+			{
+					final Symbol _symbol_annotation = _symbols[offset + 1];
+					final Annotation annotation = (Annotation) _symbol_annotation.value;
+					 return new ElementAnnotationValue(annotation);
+			}
+			case 382: // element_value_array_initializer = LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol RBRACE = _symbols[offset + 2];
+					 return new ElementArrayValue(new List());
+			}
+			case 383: // element_value_array_initializer = LBRACE.LBRACE element_values.element_values RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_element_values = _symbols[offset + 2];
+					final List element_values = (List) _symbol_element_values.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new ElementArrayValue(element_values);
+			}
+			case 384: // element_value_array_initializer = LBRACE.LBRACE COMMA.COMMA RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new ElementArrayValue(new List());
+			}
+			case 385: // element_value_array_initializer = LBRACE.LBRACE element_values.element_values COMMA.COMMA RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_element_values = _symbols[offset + 2];
+					final List element_values = (List) _symbol_element_values.value;
+					final Symbol COMMA = _symbols[offset + 3];
+					final Symbol RBRACE = _symbols[offset + 4];
+					 return new ElementArrayValue(element_values);
+			}
+			case 386: // element_values = element_value.element_value
+			{
+					final Symbol _symbol_element_value = _symbols[offset + 1];
+					final ElementValue element_value = (ElementValue) _symbol_element_value.value;
+					 return new List().add(element_value);
+			}
+			case 387: // element_values = element_values.element_values COMMA.COMMA element_value.element_value
+			{
+					final Symbol _symbol_element_values = _symbols[offset + 1];
+					final List element_values = (List) _symbol_element_values.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_element_value = _symbols[offset + 3];
+					final ElementValue element_value = (ElementValue) _symbol_element_value.value;
+					 return element_values.add(element_value);
+			}
+			case 388: // marker_annotation = AT.AT name.name
+			{
+					final Symbol AT = _symbols[offset + 1];
+					final Symbol _symbol_name = _symbols[offset + 2];
+					final Access name = (Access) _symbol_name.value;
+					 return new Annotation("annotation", name, new List());
+			}
+			case 389: // single_element_annotation = AT.AT name.name LPAREN.LPAREN element_value.element_value RPAREN.RPAREN
+			{
+					final Symbol AT = _symbols[offset + 1];
+					final Symbol _symbol_name = _symbols[offset + 2];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_element_value = _symbols[offset + 4];
+					final ElementValue element_value = (ElementValue) _symbol_element_value.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					 Annotation a = new Annotation("annotation", name, new List().add(new ElementValuePair("value", element_value)));
+     a.setStart(AT.getStart());
+     a.setEnd(RPAREN.getEnd());
+     return a;
+			}
+			case 390: // compilation_unit = modifiers.a package_declaration.p
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final IdUse p = (IdUse) _symbol_p.value;
+					 return new AnnotatedCompilationUnit(p.getID(), new List(), new List(), new Modifiers(a));
+			}
+			case 391: // compilation_unit = modifiers.a package_declaration.p import_declarations.i
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final List i = (List) _symbol_i.value;
+					 return new AnnotatedCompilationUnit(p.getID(), i, new List(), new Modifiers(a));
+			}
+			case 392: // compilation_unit = modifiers.a package_declaration.p type_declarations.t
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final List t = (List) _symbol_t.value;
+					 return new AnnotatedCompilationUnit(p.getID(), new List(), t, new Modifiers(a));
+			}
+			case 393: // compilation_unit = modifiers.a package_declaration.p import_declarations.i type_declarations.t
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final IdUse p = (IdUse) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_t = _symbols[offset + 4];
+					final List t = (List) _symbol_t.value;
+					 return new AnnotatedCompilationUnit(p.getID(), i, t, new Modifiers(a));
+			}
+			case 396: // enhanced_for_statement = FOR.FOR LPAREN.LPAREN type.t enhanced_for_parameter.p COLON.COLON expression.e RPAREN.RPAREN statement.s
+			{
+					final Symbol FOR = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_p = _symbols[offset + 4];
+					final VariableDeclarator p = (VariableDeclarator) _symbol_p.value;
+					final Symbol COLON = _symbols[offset + 5];
+					final Symbol _symbol_e = _symbols[offset + 6];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_s = _symbols[offset + 8];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new EnhancedForStmt(new Modifiers(new List()), t, p, e, s);
+			}
+			case 397: // enhanced_for_statement = FOR.FOR LPAREN.LPAREN modifiers.m type.t enhanced_for_parameter.p COLON.COLON expression.e RPAREN.RPAREN statement.s
+			{
+					final Symbol FOR = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_m = _symbols[offset + 3];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 4];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_p = _symbols[offset + 5];
+					final VariableDeclarator p = (VariableDeclarator) _symbol_p.value;
+					final Symbol COLON = _symbols[offset + 6];
+					final Symbol _symbol_e = _symbols[offset + 7];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_s = _symbols[offset + 9];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new EnhancedForStmt(new Modifiers(m), t, p, e, s);
+			}
+			case 398: // enhanced_for_statement_no_short_if = FOR.FOR LPAREN.LPAREN type.t enhanced_for_parameter.p COLON.COLON expression.e RPAREN.RPAREN statement_no_short_if.s
+			{
+					final Symbol FOR = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_p = _symbols[offset + 4];
+					final VariableDeclarator p = (VariableDeclarator) _symbol_p.value;
+					final Symbol COLON = _symbols[offset + 5];
+					final Symbol _symbol_e = _symbols[offset + 6];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_s = _symbols[offset + 8];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new EnhancedForStmt(new Modifiers(new List()), t, p, e, s);
+			}
+			case 399: // enhanced_for_statement_no_short_if = FOR.FOR LPAREN.LPAREN modifiers.m type.t enhanced_for_parameter.p COLON.COLON expression.e RPAREN.RPAREN statement_no_short_if.s
+			{
+					final Symbol FOR = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_m = _symbols[offset + 3];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 4];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_p = _symbols[offset + 5];
+					final VariableDeclarator p = (VariableDeclarator) _symbol_p.value;
+					final Symbol COLON = _symbols[offset + 6];
+					final Symbol _symbol_e = _symbols[offset + 7];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_s = _symbols[offset + 9];
+					final Stmt s = (Stmt) _symbol_s.value;
+					 return new EnhancedForStmt(new Modifiers(m), t, p, e, s);
+			}
+			case 400: // enhanced_for_parameter = IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol _symbol_d = _symbols[offset + 2];
+					final List d = (List) _symbol_d.value;
+					 return new VariableDeclarator(IDENTIFIER, d, new Opt());
+			}
+			case 402: // interface_member_declaration = enum_declaration.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final EnumDecl i = (EnumDecl) _symbol_i.value;
+					 return new MemberClassDecl(i);
+			}
+			case 403: // class_member_declaration = enum_declaration.i
+			{
+					final Symbol _symbol_i = _symbols[offset + 1];
+					final EnumDecl i = (EnumDecl) _symbol_i.value;
+					 return new MemberClassDecl(i);
+			}
+			case 404: // enum_declaration = ENUM.ENUM IDENTIFIER.id enum_body.b
+			{
+					final Symbol ENUM = _symbols[offset + 1];
+					final Symbol id = _symbols[offset + 2];
+					final Symbol _symbol_b = _symbols[offset + 3];
+					final List b = (List) _symbol_b.value;
+					 return new EnumDecl(new Modifiers(new List()), ((String)id.value), new List(), b);
+			}
+			case 405: // enum_declaration = modifiers.m ENUM.ENUM IDENTIFIER.id enum_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol ENUM = _symbols[offset + 2];
+					final Symbol id = _symbols[offset + 3];
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new EnumDecl(new Modifiers(m), ((String)id.value), new List(), b);
+			}
+			case 406: // enum_declaration = ENUM.ENUM IDENTIFIER.id interfaces.i enum_body.b
+			{
+					final Symbol ENUM = _symbols[offset + 1];
+					final Symbol id = _symbols[offset + 2];
+					final Symbol _symbol_i = _symbols[offset + 3];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new EnumDecl(new Modifiers(new List()), ((String)id.value), i, b);
+			}
+			case 407: // enum_declaration = modifiers.m ENUM.ENUM IDENTIFIER.id interfaces.i enum_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol ENUM = _symbols[offset + 2];
+					final Symbol id = _symbols[offset + 3];
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new EnumDecl(new Modifiers(m), ((String)id.value), i, b);
+			}
+			case 408: // enum_body = LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol RBRACE = _symbols[offset + 2];
+					 return new List();
+			}
+			case 409: // enum_body = LBRACE.LBRACE enum_constants.enum_constants RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_enum_constants = _symbols[offset + 2];
+					final List enum_constants = (List) _symbol_enum_constants.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return enum_constants;
+			}
+			case 410: // enum_body = LBRACE.LBRACE COMMA.COMMA RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return new List();
+			}
+			case 411: // enum_body = LBRACE.LBRACE enum_constants.enum_constants COMMA.COMMA RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_enum_constants = _symbols[offset + 2];
+					final List enum_constants = (List) _symbol_enum_constants.value;
+					final Symbol COMMA = _symbols[offset + 3];
+					final Symbol RBRACE = _symbols[offset + 4];
+					 return enum_constants;
+			}
+			case 412: // enum_body = LBRACE.LBRACE enum_body_declarations.enum_body_declarations RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_enum_body_declarations = _symbols[offset + 2];
+					final List enum_body_declarations = (List) _symbol_enum_body_declarations.value;
+					final Symbol RBRACE = _symbols[offset + 3];
+					 return enum_body_declarations;
+			}
+			case 413: // enum_body = LBRACE.LBRACE enum_constants.c enum_body_declarations.d RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_c = _symbols[offset + 2];
+					final List c = (List) _symbol_c.value;
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					final Symbol RBRACE = _symbols[offset + 4];
+					 for(int i = 0; i < d.getNumChildNoTransform(); i++) c.add(d.getChildNoTransform(i)); return c;
+			}
+			case 414: // enum_body = LBRACE.LBRACE COMMA.COMMA enum_body_declarations.enum_body_declarations RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_enum_body_declarations = _symbols[offset + 3];
+					final List enum_body_declarations = (List) _symbol_enum_body_declarations.value;
+					final Symbol RBRACE = _symbols[offset + 4];
+					 return enum_body_declarations;
+			}
+			case 415: // enum_body = LBRACE.LBRACE enum_constants.c COMMA.COMMA enum_body_declarations.d RBRACE.RBRACE
+			{
+					final Symbol LBRACE = _symbols[offset + 1];
+					final Symbol _symbol_c = _symbols[offset + 2];
+					final List c = (List) _symbol_c.value;
+					final Symbol COMMA = _symbols[offset + 3];
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					final Symbol RBRACE = _symbols[offset + 5];
+					 for(int i = 0; i < d.getNumChildNoTransform(); i++) c.add(d.getChildNoTransform(i)); return c;
+			}
+			case 416: // enum_constants = enum_constant.enum_constant
+			{
+					final Symbol _symbol_enum_constant = _symbols[offset + 1];
+					final BodyDecl enum_constant = (BodyDecl) _symbol_enum_constant.value;
+					 return new List().add(enum_constant);
+			}
+			case 417: // enum_constants = enum_constants.enum_constants COMMA.COMMA enum_constant.enum_constant
+			{
+					final Symbol _symbol_enum_constants = _symbols[offset + 1];
+					final List enum_constants = (List) _symbol_enum_constants.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_enum_constant = _symbols[offset + 3];
+					final BodyDecl enum_constant = (BodyDecl) _symbol_enum_constant.value;
+					 return enum_constants.add(enum_constant);
+			}
+			case 418: // enum_constant = IDENTIFIER.id
+			{
+					final Symbol id = _symbols[offset + 1];
+					 return new EnumConstant(new Modifiers(new List()), ((String)id.value), new List(), new List());
+			}
+			case 419: // enum_constant = annotations.annotations IDENTIFIER.id
+			{
+					final Symbol _symbol_annotations = _symbols[offset + 1];
+					final List annotations = (List) _symbol_annotations.value;
+					final Symbol id = _symbols[offset + 2];
+					 return new EnumConstant(new Modifiers(annotations), ((String)id.value), new List(), new List());
+			}
+			case 420: // enum_constant = IDENTIFIER.id arguments.arguments
+			{
+					final Symbol id = _symbols[offset + 1];
+					final Symbol _symbol_arguments = _symbols[offset + 2];
+					final List arguments = (List) _symbol_arguments.value;
+					 return new EnumConstant(new Modifiers(new List()), ((String)id.value), arguments, new List());
+			}
+			case 421: // enum_constant = annotations.annotations IDENTIFIER.id arguments.arguments
+			{
+					final Symbol _symbol_annotations = _symbols[offset + 1];
+					final List annotations = (List) _symbol_annotations.value;
+					final Symbol id = _symbols[offset + 2];
+					final Symbol _symbol_arguments = _symbols[offset + 3];
+					final List arguments = (List) _symbol_arguments.value;
+					 return new EnumConstant(new Modifiers(annotations), ((String)id.value), arguments, new List());
+			}
+			case 422: // enum_constant = IDENTIFIER.id class_body.class_body
+			{
+					final Symbol id = _symbols[offset + 1];
+					final Symbol _symbol_class_body = _symbols[offset + 2];
+					final List class_body = (List) _symbol_class_body.value;
+					 return new EnumConstant(new Modifiers(new List()), ((String)id.value), new List(), class_body);
+			}
+			case 423: // enum_constant = annotations.annotations IDENTIFIER.id class_body.class_body
+			{
+					final Symbol _symbol_annotations = _symbols[offset + 1];
+					final List annotations = (List) _symbol_annotations.value;
+					final Symbol id = _symbols[offset + 2];
+					final Symbol _symbol_class_body = _symbols[offset + 3];
+					final List class_body = (List) _symbol_class_body.value;
+					 return new EnumConstant(new Modifiers(annotations), ((String)id.value), new List(), class_body);
+			}
+			case 424: // enum_constant = IDENTIFIER.id arguments.arguments class_body.class_body
+			{
+					final Symbol id = _symbols[offset + 1];
+					final Symbol _symbol_arguments = _symbols[offset + 2];
+					final List arguments = (List) _symbol_arguments.value;
+					final Symbol _symbol_class_body = _symbols[offset + 3];
+					final List class_body = (List) _symbol_class_body.value;
+					 return new EnumConstant(new Modifiers(new List()), ((String)id.value), arguments, class_body);
+			}
+			case 425: // enum_constant = annotations.annotations IDENTIFIER.id arguments.arguments class_body.class_body
+			{
+					final Symbol _symbol_annotations = _symbols[offset + 1];
+					final List annotations = (List) _symbol_annotations.value;
+					final Symbol id = _symbols[offset + 2];
+					final Symbol _symbol_arguments = _symbols[offset + 3];
+					final List arguments = (List) _symbol_arguments.value;
+					final Symbol _symbol_class_body = _symbols[offset + 4];
+					final List class_body = (List) _symbol_class_body.value;
+					 return new EnumConstant(new Modifiers(annotations), ((String)id.value), arguments, class_body);
+			}
+			case 426: // arguments = LPAREN.LPAREN argument_list.argument_list RPAREN.RPAREN
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_argument_list = _symbols[offset + 2];
+					final List argument_list = (List) _symbol_argument_list.value;
+					final Symbol RPAREN = _symbols[offset + 3];
+					 return argument_list;
+			}
+			case 427: // arguments = LPAREN.LPAREN RPAREN.RPAREN
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol RPAREN = _symbols[offset + 2];
+					 return new List();
+			}
+			case 428: // annotations = annotation.annotation
+			{
+					final Symbol _symbol_annotation = _symbols[offset + 1];
+					final Annotation annotation = (Annotation) _symbol_annotation.value;
+					 return new List().add(annotation);
+			}
+			case 429: // annotations = annotations.annotations annotation.annotation
+			{
+					final Symbol _symbol_annotations = _symbols[offset + 1];
+					final List annotations = (List) _symbol_annotations.value;
+					final Symbol _symbol_annotation = _symbols[offset + 2];
+					final Annotation annotation = (Annotation) _symbol_annotation.value;
+					 return annotations.add(annotation);
+			}
+			case 430: // enum_body_declarations = SEMICOLON.SEMICOLON
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					 return new List();
+			}
+			case 431: // enum_body_declarations = SEMICOLON.SEMICOLON class_body_declarations.class_body_declarations
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					final Symbol _symbol_class_body_declarations = _symbols[offset + 2];
+					final List class_body_declarations = (List) _symbol_class_body_declarations.value;
+					 return class_body_declarations;
+			}
+			case 432: // enum_body_declarations = SEMICOLON.SEMICOLON doc_comment_list.doc_comment_list
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 2];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return new List();
+			}
+			case 433: // enum_body_declarations = SEMICOLON.SEMICOLON class_body_declarations.class_body_declarations doc_comment_list.doc_comment_list
+			{
+					final Symbol SEMICOLON = _symbols[offset + 1];
+					final Symbol _symbol_class_body_declarations = _symbols[offset + 2];
+					final List class_body_declarations = (List) _symbol_class_body_declarations.value;
+					final Symbol _symbol_doc_comment_list = _symbols[offset + 3];
+					final String doc_comment_list = (String) _symbol_doc_comment_list.value;
+					 return class_body_declarations;
+			}
+			case 434: // explicit_constructor_invocation = type_arguments.a THIS.THIS LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol THIS = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol SEMICOLON = _symbols[offset + 6];
+					 return new ExprStmt(new ParConstructorAccess("this", l, a));
+			}
+			case 435: // explicit_constructor_invocation = type_arguments.a SUPER.SUPER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol SUPER = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol SEMICOLON = _symbols[offset + 6];
+					 return new ExprStmt(new ParSuperConstructorAccess("super", l, a));
+			}
+			case 436: // explicit_constructor_invocation = primary.p DOT.DOT type_arguments.a SUPER.SUPER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final Expr p = (Expr) _symbol_p.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol SUPER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol SEMICOLON = _symbols[offset + 8];
+					 return new ExprStmt(p.qualifiesAccess(new ParSuperConstructorAccess("super", l, a)));
+			}
+			case 437: // explicit_constructor_invocation = name.n DOT.DOT type_arguments.a SUPER.SUPER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol SUPER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol SEMICOLON = _symbols[offset + 8];
+					 return new ExprStmt(n.qualifiesAccess(new ParSuperConstructorAccess("super", l, a)));
+			}
+			case 438: // method_invocation = primary.p DOT.DOT type_arguments.a IDENTIFIER.IDENTIFIER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final Expr p = (Expr) _symbol_p.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					 return p.qualifiesAccess(new ParMethodAccess(IDENTIFIER, l, a));
+			}
+			case 439: // method_invocation = name.n DOT.DOT type_arguments.a IDENTIFIER.IDENTIFIER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					 return n.qualifiesAccess(new ParMethodAccess(IDENTIFIER, l, a));
+			}
+			case 440: // method_invocation = SUPER.SUPER DOT.DOT type_arguments.a IDENTIFIER.IDENTIFIER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol SUPER = _symbols[offset + 1];
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					 return new SuperAccess().qualifiesAccess(
+                        new ParMethodAccess(IDENTIFIER, l, a));
+			}
+			case 441: // method_invocation = name.n DOT.d1 SUPER.SUPER DOT.d2 type_arguments.a IDENTIFIER.IDENTIFIER LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol d1 = _symbols[offset + 2];
+					final Symbol SUPER = _symbols[offset + 3];
+					final Symbol d2 = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol IDENTIFIER = _symbols[offset + 6];
+					final Symbol LPAREN = _symbols[offset + 7];
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					 return n.qualifiesAccess(new SuperAccess()).qualifiesAccess(
+                            new ParMethodAccess(IDENTIFIER, l, a));
+			}
+			case 442: // method_header = LT.LT type_parameter_list_1.l type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_p = _symbols[offset + 6];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					 return new GenericMethodDecl(new Modifiers(new List()), t.addArrayDims(new List()), IDENTIFIER, p, new List(), new Opt(), l);
+			}
+			case 443: // method_header = modifiers.m LT.LT type_parameter_list_1.l type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 4];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 5];
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_p = _symbols[offset + 7];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					 return new GenericMethodDecl(new Modifiers(m), t.addArrayDims(new List()), IDENTIFIER, p, new List(), new Opt(), l);
+			}
+			case 444: // method_header = LT.LT type_parameter_list_1.l type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN dims.d
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_p = _symbols[offset + 6];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_d = _symbols[offset + 8];
+					final List d = (List) _symbol_d.value;
+					 return new GenericMethodDecl(new Modifiers(new List()), t.addArrayDims(d), IDENTIFIER, p, new List(), new Opt(), l);
+			}
+			case 445: // method_header = modifiers.m LT.LT type_parameter_list_1.l type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN dims.d
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 4];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 5];
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_p = _symbols[offset + 7];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_d = _symbols[offset + 9];
+					final List d = (List) _symbol_d.value;
+					 return new GenericMethodDecl(new Modifiers(m), t.addArrayDims(d), IDENTIFIER, p, new List(), new Opt(), l);
+			}
+			case 446: // method_header = LT.LT type_parameter_list_1.l type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN throws.tl
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_p = _symbols[offset + 6];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(new List()), t.addArrayDims(new List()), IDENTIFIER, p, tl, new Opt(), l);
+			}
+			case 447: // method_header = modifiers.m LT.LT type_parameter_list_1.l type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN throws.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 4];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 5];
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_p = _symbols[offset + 7];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_tl = _symbols[offset + 9];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(m), t.addArrayDims(new List()), IDENTIFIER, p, tl, new Opt(), l);
+			}
+			case 448: // method_header = LT.LT type_parameter_list_1.l type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN dims.d throws.tl
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_p = _symbols[offset + 6];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_d = _symbols[offset + 8];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_tl = _symbols[offset + 9];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(new List()), t.addArrayDims(d), IDENTIFIER, p, tl, new Opt(), l);
+			}
+			case 449: // method_header = modifiers.m LT.LT type_parameter_list_1.l type.t IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN dims.d throws.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_t = _symbols[offset + 4];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 5];
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_p = _symbols[offset + 7];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_d = _symbols[offset + 9];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_tl = _symbols[offset + 10];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(m), t.addArrayDims(d), IDENTIFIER, p, tl, new Opt(), l);
+			}
+			case 450: // method_header = LT.LT type_parameter_list_1.l VOID.VOID IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN throws_opt.tl
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol VOID = _symbols[offset + 3];
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_p = _symbols[offset + 6];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(new List()), new PrimitiveTypeAccess("void"), IDENTIFIER, p, tl, new Opt(), l);
+			}
+			case 451: // method_header = modifiers.m LT.LT type_parameter_list_1.l VOID.VOID IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.p RPAREN.RPAREN throws_opt.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol VOID = _symbols[offset + 4];
+					final Symbol IDENTIFIER = _symbols[offset + 5];
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_p = _symbols[offset + 7];
+					final List p = (List) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_tl = _symbols[offset + 9];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(m), new PrimitiveTypeAccess("void"), IDENTIFIER, p, tl, new Opt(), l);
+			}
+			case 452: // constructor_declaration = LT.LT type_parameter_list_1.l IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_pl = _symbols[offset + 5];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 8];
+					final Symbol RBRACE = _symbols[offset + 9];
+					 return new GenericConstructorDecl(new Modifiers(new List()), IDENTIFIER, pl, tl, new Opt(), new Block(new List()), l);
+			}
+			case 453: // constructor_declaration = modifiers.m LT.LT type_parameter_list_1.l IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE RBRACE.RBRACE
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_pl = _symbols[offset + 6];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 9];
+					final Symbol RBRACE = _symbols[offset + 10];
+					 return new GenericConstructorDecl(new Modifiers(m), IDENTIFIER, pl, tl, new Opt(), new Block(new List()), l);
+			}
+			case 454: // constructor_declaration = LT.LT type_parameter_list_1.l IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE explicit_constructor_invocation.c RBRACE.RBRACE
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_pl = _symbols[offset + 5];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 8];
+					final Symbol _symbol_c = _symbols[offset + 9];
+					final ExprStmt c = (ExprStmt) _symbol_c.value;
+					final Symbol RBRACE = _symbols[offset + 10];
+					 return new GenericConstructorDecl(new Modifiers(new List()), IDENTIFIER, pl, tl, new Opt(c), new Block(new List()), l);
+			}
+			case 455: // constructor_declaration = modifiers.m LT.LT type_parameter_list_1.l IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE explicit_constructor_invocation.c RBRACE.RBRACE
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_pl = _symbols[offset + 6];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 9];
+					final Symbol _symbol_c = _symbols[offset + 10];
+					final ExprStmt c = (ExprStmt) _symbol_c.value;
+					final Symbol RBRACE = _symbols[offset + 11];
+					 return new GenericConstructorDecl(new Modifiers(m), IDENTIFIER, pl, tl, new Opt(c), new Block(new List()), l);
+			}
+			case 456: // constructor_declaration = LT.LT type_parameter_list_1.l IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE block_statements.bl RBRACE.RBRACE
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_pl = _symbols[offset + 5];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 8];
+					final Symbol _symbol_bl = _symbols[offset + 9];
+					final List bl = (List) _symbol_bl.value;
+					final Symbol RBRACE = _symbols[offset + 10];
+					 return new GenericConstructorDecl(new Modifiers(new List()), IDENTIFIER, pl, tl, new Opt(), new Block(bl), l);
+			}
+			case 457: // constructor_declaration = modifiers.m LT.LT type_parameter_list_1.l IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE block_statements.bl RBRACE.RBRACE
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_pl = _symbols[offset + 6];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 9];
+					final Symbol _symbol_bl = _symbols[offset + 10];
+					final List bl = (List) _symbol_bl.value;
+					final Symbol RBRACE = _symbols[offset + 11];
+					 return new GenericConstructorDecl(new Modifiers(m), IDENTIFIER, pl, tl, new Opt(), new Block(bl), l);
+			}
+			case 458: // constructor_declaration = LT.LT type_parameter_list_1.l IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE explicit_constructor_invocation.c block_statements.bl RBRACE.RBRACE
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_pl = _symbols[offset + 5];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 8];
+					final Symbol _symbol_c = _symbols[offset + 9];
+					final ExprStmt c = (ExprStmt) _symbol_c.value;
+					final Symbol _symbol_bl = _symbols[offset + 10];
+					final List bl = (List) _symbol_bl.value;
+					final Symbol RBRACE = _symbols[offset + 11];
+					 return new GenericConstructorDecl(new Modifiers(new List()), IDENTIFIER, pl, tl, new Opt(c), new Block(bl), l);
+			}
+			case 459: // constructor_declaration = modifiers.m LT.LT type_parameter_list_1.l IDENTIFIER.IDENTIFIER LPAREN.LPAREN formal_parameter_list_opt.pl RPAREN.RPAREN throws_opt.tl LBRACE.LBRACE explicit_constructor_invocation.c block_statements.bl RBRACE.RBRACE
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_pl = _symbols[offset + 6];
+					final List pl = (List) _symbol_pl.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					final Symbol LBRACE = _symbols[offset + 9];
+					final Symbol _symbol_c = _symbols[offset + 10];
+					final ExprStmt c = (ExprStmt) _symbol_c.value;
+					final Symbol _symbol_bl = _symbols[offset + 11];
+					final List bl = (List) _symbol_bl.value;
+					final Symbol RBRACE = _symbols[offset + 12];
+					 return new GenericConstructorDecl(new Modifiers(m), IDENTIFIER, pl, tl, new Opt(c), new Block(bl), l);
+			}
+			case 460: // class_declaration = CLASS.CLASS IDENTIFIER.IDENTIFIER type_parameters.p class_body.b
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new GenericClassDecl(new Modifiers(new List()), IDENTIFIER, new Opt(), new List(), b, p);
+			}
+			case 461: // class_declaration = modifiers.m CLASS.CLASS IDENTIFIER.IDENTIFIER type_parameters.p class_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol CLASS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_p = _symbols[offset + 4];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new GenericClassDecl(new Modifiers(m), IDENTIFIER, new Opt(), new List(), b, p);
+			}
+			case 462: // class_declaration = CLASS.CLASS IDENTIFIER.IDENTIFIER type_parameters.p super.s class_body.b
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_s = _symbols[offset + 4];
+					final Opt s = (Opt) _symbol_s.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new GenericClassDecl(new Modifiers(new List()), IDENTIFIER, s, new List(), b, p);
+			}
+			case 463: // class_declaration = modifiers.m CLASS.CLASS IDENTIFIER.IDENTIFIER type_parameters.p super.s class_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol CLASS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_p = _symbols[offset + 4];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_s = _symbols[offset + 5];
+					final Opt s = (Opt) _symbol_s.value;
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final List b = (List) _symbol_b.value;
+					 return new GenericClassDecl(new Modifiers(m), IDENTIFIER, s, new List(), b, p);
+			}
+			case 464: // class_declaration = CLASS.CLASS IDENTIFIER.IDENTIFIER type_parameters.p interfaces.i class_body.b
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new GenericClassDecl(new Modifiers(new List()), IDENTIFIER, new Opt(), i, b, p);
+			}
+			case 465: // class_declaration = modifiers.m CLASS.CLASS IDENTIFIER.IDENTIFIER type_parameters.p interfaces.i class_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol CLASS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_p = _symbols[offset + 4];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 5];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final List b = (List) _symbol_b.value;
+					 return new GenericClassDecl(new Modifiers(m), IDENTIFIER, new Opt(), i, b, p);
+			}
+			case 466: // class_declaration = CLASS.CLASS IDENTIFIER.IDENTIFIER type_parameters.p super.s interfaces.i class_body.b
+			{
+					final Symbol CLASS = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_s = _symbols[offset + 4];
+					final Opt s = (Opt) _symbol_s.value;
+					final Symbol _symbol_i = _symbols[offset + 5];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final List b = (List) _symbol_b.value;
+					 return new GenericClassDecl(new Modifiers(new List()), IDENTIFIER, s, i, b, p);
+			}
+			case 467: // class_declaration = modifiers.m CLASS.CLASS IDENTIFIER.IDENTIFIER type_parameters.p super.s interfaces.i class_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol CLASS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_p = _symbols[offset + 4];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_s = _symbols[offset + 5];
+					final Opt s = (Opt) _symbol_s.value;
+					final Symbol _symbol_i = _symbols[offset + 6];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 7];
+					final List b = (List) _symbol_b.value;
+					 return new GenericClassDecl(new Modifiers(m), IDENTIFIER, s, i, b, p);
+			}
+			case 468: // interface_declaration = INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER type_parameters.p interface_body.b
+			{
+					final Symbol INTERFACE = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					 return new GenericInterfaceDecl(new Modifiers(new List()), IDENTIFIER, new List(), b, p);
+			}
+			case 469: // interface_declaration = modifiers.m INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER type_parameters.p interface_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol INTERFACE = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_p = _symbols[offset + 4];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new GenericInterfaceDecl(new Modifiers(m), IDENTIFIER, new List(), b, p);
+			}
+			case 470: // interface_declaration = INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER type_parameters.p extends_interfaces.i interface_body.b
+			{
+					final Symbol INTERFACE = _symbols[offset + 1];
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					 return new GenericInterfaceDecl(new Modifiers(new List()), IDENTIFIER, i, b, p);
+			}
+			case 471: // interface_declaration = modifiers.m INTERFACE.INTERFACE IDENTIFIER.IDENTIFIER type_parameters.p extends_interfaces.i interface_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol INTERFACE = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_p = _symbols[offset + 4];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_i = _symbols[offset + 5];
+					final List i = (List) _symbol_i.value;
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final List b = (List) _symbol_b.value;
+					 return new GenericInterfaceDecl(new Modifiers(m), IDENTIFIER, i, b, p);
+			}
+			case 473: // class_or_interface = class_or_interface.n LT.LT type_argument_list_1.l DOT.DOT name.end
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol DOT = _symbols[offset + 4];
+					final Symbol _symbol_end = _symbols[offset + 5];
+					final Access end = (Access) _symbol_end.value;
+					 return new ParTypeAccess(n, l).qualifiesAccess(end);
+			}
+			case 475: // class_or_interface_type = class_or_interface.n LT.LT type_argument_list_1.l
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					 return new ParTypeAccess(n, l);
+			}
+			case 476: // array_type = class_or_interface.t LT.LT type_argument_list_1.l DOT.DOT name.n dims.d
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol DOT = _symbols[offset + 4];
+					final Symbol _symbol_n = _symbols[offset + 5];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol _symbol_d = _symbols[offset + 6];
+					final List d = (List) _symbol_d.value;
+					 return new ParTypeAccess(t, l).qualifiesAccess(n).addArrayDims(d);
+			}
+			case 477: // array_type = class_or_interface.t LT.LT type_argument_list_1.l dims.d
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					 return new ParTypeAccess(t, l).addArrayDims(d);
+			}
+			case 478: // type_arguments = LT.LT type_argument_list_1.l
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					 return l;
+			}
+			case 479: // wildcard = QUESTION.QUESTION
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					 return new Wildcard();
+			}
+			case 480: // wildcard = QUESTION.QUESTION EXTENDS.EXTENDS reference_type.t
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol EXTENDS = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new WildcardExtends(t);
+			}
+			case 481: // wildcard = QUESTION.QUESTION SUPER.SUPER reference_type.t
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol SUPER = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new WildcardSuper(t);
+			}
+			case 482: // wildcard_1 = QUESTION.QUESTION GT.GT
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol GT = _symbols[offset + 2];
+					 return new Wildcard();
+			}
+			case 483: // wildcard_1 = QUESTION.QUESTION EXTENDS.EXTENDS reference_type_1.t
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol EXTENDS = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new WildcardExtends(t);
+			}
+			case 484: // wildcard_1 = QUESTION.QUESTION SUPER.SUPER reference_type_1.t
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol SUPER = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new WildcardSuper(t);
+			}
+			case 485: // wildcard_2 = QUESTION.QUESTION RSHIFT.RSHIFT
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol RSHIFT = _symbols[offset + 2];
+					 return new Wildcard();
+			}
+			case 486: // wildcard_2 = QUESTION.QUESTION EXTENDS.EXTENDS reference_type_2.t
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol EXTENDS = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new WildcardExtends(t);
+			}
+			case 487: // wildcard_2 = QUESTION.QUESTION SUPER.SUPER reference_type_2.t
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol SUPER = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new WildcardSuper(t);
+			}
+			case 488: // wildcard_3 = QUESTION.QUESTION URSHIFT.URSHIFT
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol URSHIFT = _symbols[offset + 2];
+					 return new Wildcard();
+			}
+			case 489: // wildcard_3 = QUESTION.QUESTION EXTENDS.EXTENDS reference_type_3.t
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol EXTENDS = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new WildcardExtends(t);
+			}
+			case 490: // wildcard_3 = QUESTION.QUESTION SUPER.SUPER reference_type_3.t
+			{
+					final Symbol QUESTION = _symbols[offset + 1];
+					final Symbol SUPER = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new WildcardSuper(t);
+			}
+			case 491: // class_instance_creation_expression = NEW.NEW class_or_interface_type.t LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol NEW = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final Opt b = (Opt) _symbol_b.value;
+					 return new ClassInstanceExpr(t, l, b);
+			}
+			case 492: // class_instance_creation_expression = NEW.NEW type_arguments.a class_or_interface_type.t LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol NEW = _symbols[offset + 1];
+					final Symbol _symbol_a = _symbols[offset + 2];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_b = _symbols[offset + 7];
+					final Opt b = (Opt) _symbol_b.value;
+					 return new ParClassInstanceExpr(t, l, b, a);
+			}
+			case 493: // class_instance_creation_expression = primary.n DOT.DOT NEW.NEW simple_name.id LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Expr n = (Expr) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					final Symbol _symbol_id = _symbols[offset + 4];
+					final Access id = (Access) _symbol_id.value;
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_b = _symbols[offset + 8];
+					final Opt b = (Opt) _symbol_b.value;
+					 ClassInstanceExpr e = new ClassInstanceExpr(id, l, b);
+        e.setStart(NEW.getStart());
+        e.setEnd(RPAREN.getEnd());
+        return n.qualifiesAccess(e);
+			}
+			case 494: // class_instance_creation_expression = primary.n DOT.DOT NEW.NEW simple_name.id type_arguments.a LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Expr n = (Expr) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					final Symbol _symbol_id = _symbols[offset + 4];
+					final Access id = (Access) _symbol_id.value;
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_b = _symbols[offset + 9];
+					final Opt b = (Opt) _symbol_b.value;
+					 ClassInstanceExpr e = new ClassInstanceExpr(new ParTypeAccess(id, a), l, b);
+        e.setStart(NEW.getStart());
+        e.setEnd(RPAREN.getEnd());
+        return n.qualifiesAccess(e);
+			}
+			case 495: // class_instance_creation_expression = primary.n DOT.DOT NEW.NEW type_arguments.ca simple_name.id LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Expr n = (Expr) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					final Symbol _symbol_ca = _symbols[offset + 4];
+					final List ca = (List) _symbol_ca.value;
+					final Symbol _symbol_id = _symbols[offset + 5];
+					final Access id = (Access) _symbol_id.value;
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_b = _symbols[offset + 9];
+					final Opt b = (Opt) _symbol_b.value;
+					 return n.qualifiesAccess(new ParClassInstanceExpr(id, l, b, ca));
+			}
+			case 496: // class_instance_creation_expression = primary.n DOT.DOT NEW.NEW type_arguments.ca simple_name.id type_arguments.ta LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Expr n = (Expr) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					final Symbol _symbol_ca = _symbols[offset + 4];
+					final List ca = (List) _symbol_ca.value;
+					final Symbol _symbol_id = _symbols[offset + 5];
+					final Access id = (Access) _symbol_id.value;
+					final Symbol _symbol_ta = _symbols[offset + 6];
+					final List ta = (List) _symbol_ta.value;
+					final Symbol LPAREN = _symbols[offset + 7];
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final Opt b = (Opt) _symbol_b.value;
+					 return n.qualifiesAccess(new ParClassInstanceExpr(new ParTypeAccess(id, ta), l, b, ca));
+			}
+			case 497: // class_instance_creation_expression = name.n DOT.DOT NEW.NEW simple_name.id LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					final Symbol _symbol_id = _symbols[offset + 4];
+					final Access id = (Access) _symbol_id.value;
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_b = _symbols[offset + 8];
+					final Opt b = (Opt) _symbol_b.value;
+					 ClassInstanceExpr e = new ClassInstanceExpr(id, l, b);
+        e.setStart(NEW.getStart());
+        e.setEnd(RPAREN.getEnd());
+        return n.qualifiesAccess(e);
+			}
+			case 498: // class_instance_creation_expression = name.n DOT.DOT NEW.NEW simple_name.id type_arguments.a LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					final Symbol _symbol_id = _symbols[offset + 4];
+					final Access id = (Access) _symbol_id.value;
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_b = _symbols[offset + 9];
+					final Opt b = (Opt) _symbol_b.value;
+					 ClassInstanceExpr e = new ClassInstanceExpr(new ParTypeAccess(id, a), l, b);
+        e.setStart(NEW.getStart());
+        e.setEnd(RPAREN.getEnd());
+        return n.qualifiesAccess(e);
+			}
+			case 499: // class_instance_creation_expression = name.n DOT.DOT NEW.NEW type_arguments.ca simple_name.id LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					final Symbol _symbol_ca = _symbols[offset + 4];
+					final List ca = (List) _symbol_ca.value;
+					final Symbol _symbol_id = _symbols[offset + 5];
+					final Access id = (Access) _symbol_id.value;
+					final Symbol LPAREN = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_b = _symbols[offset + 9];
+					final Opt b = (Opt) _symbol_b.value;
+					 return n.qualifiesAccess(new ParClassInstanceExpr(id, l, b, ca));
+			}
+			case 500: // class_instance_creation_expression = name.n DOT.DOT NEW.NEW type_arguments.ca simple_name.id type_arguments.ta LPAREN.LPAREN argument_list_opt.l RPAREN.RPAREN subclass_body_opt.b
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					final Symbol _symbol_ca = _symbols[offset + 4];
+					final List ca = (List) _symbol_ca.value;
+					final Symbol _symbol_id = _symbols[offset + 5];
+					final Access id = (Access) _symbol_id.value;
+					final Symbol _symbol_ta = _symbols[offset + 6];
+					final List ta = (List) _symbol_ta.value;
+					final Symbol LPAREN = _symbols[offset + 7];
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final Opt b = (Opt) _symbol_b.value;
+					 return n.qualifiesAccess(new ParClassInstanceExpr(new ParTypeAccess(id, ta), l, b, ca));
+			}
+			case 501: // type_argument_list = type_argument.a
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final Access a = (Access) _symbol_a.value;
+					 return new List().add(a);
+			}
+			case 502: // type_argument_list = type_argument_list.l COMMA.COMMA type_argument.a
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final Access a = (Access) _symbol_a.value;
+					 return l.add(a);
+			}
+			case 503: // type_argument_list_1 = type_argument_1.a
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final Access a = (Access) _symbol_a.value;
+					 return new List().add(a);
+			}
+			case 504: // type_argument_list_1 = type_argument_list.l COMMA.COMMA type_argument_1.a
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final Access a = (Access) _symbol_a.value;
+					 return l.add(a);
+			}
+			case 505: // type_argument_list_2 = type_argument_2.a
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final Access a = (Access) _symbol_a.value;
+					 return new List().add(a);
+			}
+			case 506: // type_argument_list_2 = type_argument_list.l COMMA.COMMA type_argument_2.a
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final Access a = (Access) _symbol_a.value;
+					 return l.add(a);
+			}
+			case 507: // type_argument_list_3 = type_argument_3.a
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final Access a = (Access) _symbol_a.value;
+					 return new List().add(a);
+			}
+			case 508: // type_argument_list_3 = type_argument_list.l COMMA.COMMA type_argument_3.a
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final Access a = (Access) _symbol_a.value;
+					 return l.add(a);
+			}
+			case 509: // type_argument = reference_type.t
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					 return t;
+			}
+			case 510: // type_argument = wildcard.w
+			{
+					final Symbol _symbol_w = _symbols[offset + 1];
+					final Access w = (Access) _symbol_w.value;
+					 return w;
+			}
+			case 511: // type_argument_1 = reference_type_1.t
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					 return t;
+			}
+			case 512: // type_argument_1 = wildcard_1.w
+			{
+					final Symbol _symbol_w = _symbols[offset + 1];
+					final Access w = (Access) _symbol_w.value;
+					 return w;
+			}
+			case 513: // type_argument_2 = reference_type_2.t
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					 return t;
+			}
+			case 514: // type_argument_2 = wildcard_2.w
+			{
+					final Symbol _symbol_w = _symbols[offset + 1];
+					final Access w = (Access) _symbol_w.value;
+					 return w;
+			}
+			case 515: // type_argument_3 = reference_type_3.t
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					 return t;
+			}
+			case 516: // type_argument_3 = wildcard_3.w
+			{
+					final Symbol _symbol_w = _symbols[offset + 1];
+					final Access w = (Access) _symbol_w.value;
+					 return w;
+			}
+			case 517: // reference_type_1 = reference_type.t GT.GT
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol GT = _symbols[offset + 2];
+					 return t;
+			}
+			case 518: // reference_type_1 = class_or_interface.t LT.LT type_argument_list_2.l
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					 return new ParTypeAccess(t, l);
+			}
+			case 519: // reference_type_2 = reference_type.t RSHIFT.RSHIFT
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol RSHIFT = _symbols[offset + 2];
+					 return t;
+			}
+			case 520: // reference_type_2 = class_or_interface.t LT.LT type_argument_list_3.l
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					 return new ParTypeAccess(t, l);
+			}
+			case 521: // reference_type_3 = reference_type.t URSHIFT.URSHIFT
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol URSHIFT = _symbols[offset + 2];
+					 return t;
+			}
+			case 522: // cast_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_e = _symbols[offset + 6];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new CastExpr(new ParTypeAccess(n, a).addArrayDims(new List()), e);
+			}
+			case 523: // cast_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a dims.d RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d = _symbols[offset + 5];
+					final List d = (List) _symbol_d.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_e = _symbols[offset + 7];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new CastExpr(new ParTypeAccess(n, a).addArrayDims(d), e);
+			}
+			case 524: // cast_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_e = _symbols[offset + 8];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new CastExpr(new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()), e);
+			}
+			case 525: // cast_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final List d = (List) _symbol_d.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_e = _symbols[offset + 9];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new CastExpr(new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d), e);
+			}
+			case 526: // type_parameters = LT.LT type_parameter_list_1.l
+			{
+					final Symbol LT = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					 return l;
+			}
+			case 527: // type_parameter_list = type_parameter_list.l COMMA.COMMA type_parameter.p
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final TypeVariable p = (TypeVariable) _symbol_p.value;
+					 return l.add(p);
+			}
+			case 528: // type_parameter_list = type_parameter.p
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final TypeVariable p = (TypeVariable) _symbol_p.value;
+					 return new List().add(p);
+			}
+			case 529: // type_parameter_list_1 = type_parameter_1.p
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final TypeVariable p = (TypeVariable) _symbol_p.value;
+					 return new List().add(p);
+			}
+			case 530: // type_parameter_list_1 = type_parameter_list.l COMMA.COMMA type_parameter_1.p
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final TypeVariable p = (TypeVariable) _symbol_p.value;
+					 return l.add(p);
+			}
+			case 531: // type_parameter = IDENTIFIER.IDENTIFIER
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					 return new TypeVariable(new Modifiers(), IDENTIFIER, new List(), new List());
+			}
+			case 532: // type_parameter = IDENTIFIER.IDENTIFIER type_bound.l
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					 return new TypeVariable(new Modifiers(), IDENTIFIER, new List(), l);
+			}
+			case 533: // type_parameter_1 = IDENTIFIER.IDENTIFIER GT.GT
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol GT = _symbols[offset + 2];
+					 return new TypeVariable(new Modifiers(), IDENTIFIER, new List(), new List());
+			}
+			case 534: // type_parameter_1 = IDENTIFIER.IDENTIFIER type_bound_1.l
+			{
+					final Symbol IDENTIFIER = _symbols[offset + 1];
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					 return new TypeVariable(new Modifiers(), IDENTIFIER, new List(), l);
+			}
+			case 535: // type_bound = EXTENDS.EXTENDS reference_type.t
+			{
+					final Symbol EXTENDS = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					 return new List().add(t);
+			}
+			case 536: // type_bound = EXTENDS.EXTENDS reference_type.t additional_bound_list.l
+			{
+					final Symbol EXTENDS = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					 l.insertChild(t,0); return l;
+			}
+			case 537: // type_bound_1 = EXTENDS.EXTENDS reference_type_1.t
+			{
+					final Symbol EXTENDS = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					 return new List().add(t);
+			}
+			case 538: // type_bound_1 = EXTENDS.EXTENDS reference_type.t additional_bound_list_1.l
+			{
+					final Symbol EXTENDS = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					 l.insertChild(t,0); return l;
+			}
+			case 539: // additional_bound_list = additional_bound.b additional_bound_list.l
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final Access b = (Access) _symbol_b.value;
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					 l.insertChild(b,0); return l;
+			}
+			case 540: // additional_bound_list = additional_bound.b
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final Access b = (Access) _symbol_b.value;
+					 return new List().add(b);
+			}
+			case 541: // additional_bound_list_1 = additional_bound.b additional_bound_list_1.l
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final Access b = (Access) _symbol_b.value;
+					final Symbol _symbol_l = _symbols[offset + 2];
+					final List l = (List) _symbol_l.value;
+					 l.insertChild(b,0); return l;
+			}
+			case 542: // additional_bound_list_1 = additional_bound_1.b
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final Access b = (Access) _symbol_b.value;
+					 return new List().add(b);
+			}
+			case 543: // additional_bound = AND.AND interface_type.t
+			{
+					final Symbol AND = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					 return t;
+			}
+			case 544: // additional_bound_1 = AND.AND reference_type_1.t
+			{
+					final Symbol AND = _symbols[offset + 1];
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					 return t;
+			}
+			case 547: // single_static_import_declaration = IMPORT.IMPORT STATIC.STATIC name.n DOT.DOT IDENTIFIER.IDENTIFIER SEMICOLON.SEMICOLON
+			{
+					final Symbol IMPORT = _symbols[offset + 1];
+					final Symbol STATIC = _symbols[offset + 2];
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 4];
+					final Symbol IDENTIFIER = _symbols[offset + 5];
+					final Symbol SEMICOLON = _symbols[offset + 6];
+					 return new SingleStaticImportDecl(n, IDENTIFIER);
+			}
+			case 548: // static_import_on_demand_declaration = IMPORT.IMPORT STATIC.STATIC name.n DOT.DOT MULT.MULT SEMICOLON.SEMICOLON
+			{
+					final Symbol IMPORT = _symbols[offset + 1];
+					final Symbol STATIC = _symbols[offset + 2];
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 4];
+					final Symbol MULT = _symbols[offset + 5];
+					final Symbol SEMICOLON = _symbols[offset + 6];
+					 return new StaticImportOnDemandDecl(n);
+			}
+			case 549: // formal_parameter = type.t ELLIPSIS.ELLIPSIS IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 2];
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					 return new VariableArityParameterDeclaration(new Modifiers(new List()), t.addArrayDims(d), IDENTIFIER);
+			}
+			case 550: // formal_parameter = modifiers.m type.t ELLIPSIS.ELLIPSIS IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 3];
+					final Symbol IDENTIFIER = _symbols[offset + 4];
+					final Symbol _symbol_d = _symbols[offset + 5];
+					final List d = (List) _symbol_d.value;
+					 return new VariableArityParameterDeclaration(new Modifiers(m), t.addArrayDims(d), IDENTIFIER);
+			}
+			case 552: // primary_no_new_array = primitive_type.n DOT.DOT class_literal.c
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_c = _symbols[offset + 3];
+					final ClassAccess c = (ClassAccess) _symbol_c.value;
+					 return n.addArrayDims(new List()).qualifiesAccess(c);
+			}
+			case 553: // primary_no_new_array = primitive_type.n dims.d DOT.DOT class_literal.c
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol _symbol_d = _symbols[offset + 2];
+					final List d = (List) _symbol_d.value;
+					final Symbol DOT = _symbols[offset + 3];
+					final Symbol _symbol_c = _symbols[offset + 4];
+					final ClassAccess c = (ClassAccess) _symbol_c.value;
+					 return n.addArrayDims(d).qualifiesAccess(c);
+			}
+			case 554: // primary_no_new_array = name.n DOT.DOT class_literal.c
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_c = _symbols[offset + 3];
+					final ClassAccess c = (ClassAccess) _symbol_c.value;
+					 return n.addArrayDims(new List()).qualifiesAccess(c);
+			}
+			case 555: // primary_no_new_array = name.n dims.d DOT.DOT class_literal.c
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol _symbol_d = _symbols[offset + 2];
+					final List d = (List) _symbol_d.value;
+					final Symbol DOT = _symbols[offset + 3];
+					final Symbol _symbol_c = _symbols[offset + 4];
+					final ClassAccess c = (ClassAccess) _symbol_c.value;
+					 return n.addArrayDims(d).qualifiesAccess(c);
+			}
+			case 556: // primary_no_new_array = VOID.VOID DOT.DOT class_literal.c
+			{
+					final Symbol VOID = _symbols[offset + 1];
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol _symbol_c = _symbols[offset + 3];
+					final ClassAccess c = (ClassAccess) _symbol_c.value;
+					 PrimitiveTypeAccess v = new PrimitiveTypeAccess("void");
+       v.setStart(VOID.getStart());
+       v.setEnd(VOID.getEnd());
+       return v.qualifiesAccess(c);
+			}
+			case 557: // primary_no_new_array = THIS.THIS
+			{
+					final Symbol THIS = _symbols[offset + 1];
+					 return new ThisAccess();
+			}
+			case 558: // primary_no_new_array = name.n DOT.DOT THIS.THIS
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol THIS = _symbols[offset + 3];
+					 ThisAccess t = new ThisAccess();
+       t.setStart(THIS.getStart()); t.setEnd(THIS.getEnd());
+       return n.qualifiesAccess(t);
+			}
+			case 559: // primary_no_new_array = LPAREN.LPAREN expression_nn.e RPAREN.RPAREN
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol RPAREN = _symbols[offset + 3];
+					 return new ParExpr(e);
+			}
+			case 560: // primary_no_new_array = LPAREN.LPAREN name.n RPAREN.RPAREN
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol RPAREN = _symbols[offset + 3];
+					 return new ParExpr(n);
+			}
+			case 570: // unary_expression_nn = PLUS.PLUS unary_expression.e
+			{
+					final Symbol PLUS = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new PlusExpr(e);
+			}
+			case 571: // unary_expression_nn = MINUS.MINUS unary_expression.e
+			{
+					final Symbol MINUS = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new MinusExpr(e);
+			}
+			case 574: // unary_expression_not_plus_minus_nn = COMP.COMP unary_expression.e
+			{
+					final Symbol COMP = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new BitNotExpr(e);
+			}
+			case 575: // unary_expression_not_plus_minus_nn = NOT.NOT unary_expression.e
+			{
+					final Symbol NOT = _symbols[offset + 1];
+					final Symbol _symbol_e = _symbols[offset + 2];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new LogNotExpr(e);
+			}
+			case 578: // multiplicative_expression_nn = name.e1 MULT.MULT unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol MULT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new MulExpr(e1, e2);
+			}
+			case 579: // multiplicative_expression_nn = multiplicative_expression_nn.e1 MULT.MULT unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol MULT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new MulExpr(e1, e2);
+			}
+			case 580: // multiplicative_expression_nn = name.e1 DIV.DIV unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol DIV = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new DivExpr(e1, e2);
+			}
+			case 581: // multiplicative_expression_nn = multiplicative_expression_nn.e1 DIV.DIV unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol DIV = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new DivExpr(e1, e2);
+			}
+			case 582: // multiplicative_expression_nn = name.e1 MOD.MOD unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol MOD = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new ModExpr(e1, e2);
+			}
+			case 583: // multiplicative_expression_nn = multiplicative_expression_nn.e1 MOD.MOD unary_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol MOD = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new ModExpr(e1, e2);
+			}
+			case 585: // additive_expression_nn = name.e1 PLUS.PLUS multiplicative_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol PLUS = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AddExpr(e1, e2);
+			}
+			case 586: // additive_expression_nn = additive_expression_nn.e1 PLUS.PLUS multiplicative_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol PLUS = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AddExpr(e1, e2);
+			}
+			case 587: // additive_expression_nn = name.e1 MINUS.MINUS multiplicative_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol MINUS = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new SubExpr(e1, e2);
+			}
+			case 588: // additive_expression_nn = additive_expression_nn.e1 MINUS.MINUS multiplicative_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol MINUS = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new SubExpr(e1, e2);
+			}
+			case 590: // shift_expression_nn = name.e1 LSHIFT.LSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol LSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LShiftExpr(e1, e2);
+			}
+			case 591: // shift_expression_nn = shift_expression_nn.e1 LSHIFT.LSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol LSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LShiftExpr(e1, e2);
+			}
+			case 592: // shift_expression_nn = name.e1 RSHIFT.RSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol RSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new RShiftExpr(e1, e2);
+			}
+			case 593: // shift_expression_nn = shift_expression_nn.e1 RSHIFT.RSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol RSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new RShiftExpr(e1, e2);
+			}
+			case 594: // shift_expression_nn = name.e1 URSHIFT.URSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol URSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new URShiftExpr(e1, e2);
+			}
+			case 595: // shift_expression_nn = shift_expression_nn.e1 URSHIFT.URSHIFT additive_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol URSHIFT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new URShiftExpr(e1, e2);
+			}
+			case 597: // relational_expression_nn = name.e1 LT.LT shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LTExpr(e1, e2);
+			}
+			case 598: // relational_expression_nn = shift_expression_nn.e1 LT.LT shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LTExpr(e1, e2);
+			}
+			case 599: // relational_expression_nn = name.e1 GT.GT shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol GT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new GTExpr(e1, e2);
+			}
+			case 600: // relational_expression_nn = shift_expression_nn.e1 GT.GT shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol GT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new GTExpr(e1, e2);
+			}
+			case 601: // relational_expression_nn = name.e1 LTEQ.LTEQ shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol LTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LEExpr(e1, e2);
+			}
+			case 602: // relational_expression_nn = relational_expression_nn.e1 LTEQ.LTEQ shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol LTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LEExpr(e1, e2);
+			}
+			case 603: // relational_expression_nn = name.e1 GTEQ.GTEQ shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol GTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new GEExpr(e1, e2);
+			}
+			case 604: // relational_expression_nn = relational_expression_nn.e1 GTEQ.GTEQ shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol GTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new GEExpr(e1, e2);
+			}
+			case 606: // instanceof_expression_nn = name.e INSTANCEOF.INSTANCEOF reference_type.t
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Access e = (Access) _symbol_e.value;
+					final Symbol INSTANCEOF = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new InstanceOfExpr(e, t);
+			}
+			case 607: // instanceof_expression_nn = shift_expression_nn.e INSTANCEOF.INSTANCEOF reference_type.t
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol INSTANCEOF = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new InstanceOfExpr(e, t);
+			}
+			case 609: // equality_expression_nn = name.e1 EQEQ.EQEQ instanceof_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol EQEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new EQExpr(e1, e2);
+			}
+			case 610: // equality_expression_nn = equality_expression_nn.e1 EQEQ.EQEQ instanceof_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol EQEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new EQExpr(e1, e2);
+			}
+			case 611: // equality_expression_nn = name.e1 NOTEQ.NOTEQ instanceof_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol NOTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new NEExpr(e1, e2);
+			}
+			case 612: // equality_expression_nn = equality_expression_nn.e1 NOTEQ.NOTEQ instanceof_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol NOTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new NEExpr(e1, e2);
+			}
+			case 614: // relational_expression = relational_expression.e1 LT.LT shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LTExpr(e1, e2);
+			}
+			case 615: // relational_expression = relational_expression.e1 GT.GT shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol GT = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new GTExpr(e1, e2);
+			}
+			case 616: // relational_expression = relational_expression.e1 LTEQ.LTEQ shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol LTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new LEExpr(e1, e2);
+			}
+			case 617: // relational_expression = relational_expression.e1 GTEQ.GTEQ shift_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol GTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new GEExpr(e1, e2);
+			}
+			case 619: // instanceof_expression = shift_expression.e INSTANCEOF.INSTANCEOF reference_type.t
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					final Symbol INSTANCEOF = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					 return new InstanceOfExpr(e, t);
+			}
+			case 621: // equality_expression = equality_expression.e1 EQEQ.EQEQ relational_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol EQEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new EQExpr(e1, e2);
+			}
+			case 622: // equality_expression = equality_expression.e1 NOTEQ.NOTEQ relational_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol NOTEQ = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new NEExpr(e1, e2);
+			}
+			case 624: // and_expression_nn = name.e1 AND.AND equality_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol AND = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AndBitwiseExpr(e1, e2);
+			}
+			case 625: // and_expression_nn = and_expression_nn.e1 AND.AND equality_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol AND = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AndBitwiseExpr(e1, e2);
+			}
+			case 627: // exclusive_or_expression_nn = name.e1 XOR.XOR and_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol XOR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new XorBitwiseExpr(e1, e2);
+			}
+			case 628: // exclusive_or_expression_nn = exclusive_or_expression_nn.e1 XOR.XOR and_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol XOR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new XorBitwiseExpr(e1, e2);
+			}
+			case 630: // inclusive_or_expression_nn = name.e1 OR.OR exclusive_or_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol OR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new OrBitwiseExpr(e1, e2);
+			}
+			case 631: // inclusive_or_expression_nn = inclusive_or_expression_nn.e1 OR.OR exclusive_or_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol OR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new OrBitwiseExpr(e1, e2);
+			}
+			case 633: // conditional_and_expression_nn = name.e1 ANDAND.ANDAND inclusive_or_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol ANDAND = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AndLogicalExpr(e1, e2);
+			}
+			case 634: // conditional_and_expression_nn = conditional_and_expression_nn.e1 ANDAND.ANDAND inclusive_or_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol ANDAND = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new AndLogicalExpr(e1, e2);
+			}
+			case 635: // conditional_or_expression_nn = conditional_and_expression_nn.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					 return e;
+			}
+			case 636: // conditional_or_expression_nn = name.e1 OROR.OROR conditional_and_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Access e1 = (Access) _symbol_e1.value;
+					final Symbol OROR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new OrLogicalExpr(e1, e2);
+			}
+			case 637: // conditional_or_expression_nn = conditional_or_expression_nn.e1 OROR.OROR conditional_and_expression.e2
+			{
+					final Symbol _symbol_e1 = _symbols[offset + 1];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol OROR = _symbols[offset + 2];
+					final Symbol _symbol_e2 = _symbols[offset + 3];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new OrLogicalExpr(e1, e2);
+			}
+			case 639: // conditional_expression_nn = name.c QUESTION.QUESTION expression.e1 COLON.COLON conditional_expression.e2
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final Access c = (Access) _symbol_c.value;
+					final Symbol QUESTION = _symbols[offset + 2];
+					final Symbol _symbol_e1 = _symbols[offset + 3];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol COLON = _symbols[offset + 4];
+					final Symbol _symbol_e2 = _symbols[offset + 5];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new ConditionalExpr(c, e1, e2);
+			}
+			case 640: // conditional_expression_nn = conditional_or_expression_nn.c QUESTION.QUESTION expression.e1 COLON.COLON conditional_expression.e2
+			{
+					final Symbol _symbol_c = _symbols[offset + 1];
+					final Expr c = (Expr) _symbol_c.value;
+					final Symbol QUESTION = _symbols[offset + 2];
+					final Symbol _symbol_e1 = _symbols[offset + 3];
+					final Expr e1 = (Expr) _symbol_e1.value;
+					final Symbol COLON = _symbols[offset + 4];
+					final Symbol _symbol_e2 = _symbols[offset + 5];
+					final Expr e2 = (Expr) _symbol_e2.value;
+					 return new ConditionalExpr(c, e1, e2);
+			}
+			case 644: // class_or_interface_type = class_or_interface.class_or_interface LT.LT GT.GT
+			{
+					final Symbol _symbol_class_or_interface = _symbols[offset + 1];
+					final Access class_or_interface = (Access) _symbol_class_or_interface.value;
+					final Symbol LT = _symbols[offset + 2];
+					final Symbol GT = _symbols[offset + 3];
+					 return new DiamondAccess(class_or_interface);
+			}
+			case 645: // literal = NUMERIC_LITERAL.NUMERIC_LITERAL
+			{
+					final Symbol NUMERIC_LITERAL = _symbols[offset + 1];
+					 return NumericLiteralParser.parse("" + NUMERIC_LITERAL.value);
+			}
+			case 646: // literal = BOOLEAN_LITERAL.BOOLEAN_LITERAL
+			{
+					final Symbol BOOLEAN_LITERAL = _symbols[offset + 1];
+					 return new BooleanLiteral(BOOLEAN_LITERAL);
+			}
+			case 647: // literal = CHARACTER_LITERAL.CHARACTER_LITERAL
+			{
+					final Symbol CHARACTER_LITERAL = _symbols[offset + 1];
+					 return new CharacterLiteral(CHARACTER_LITERAL);
+			}
+			case 648: // literal = STRING_LITERAL.STRING_LITERAL
+			{
+					final Symbol STRING_LITERAL = _symbols[offset + 1];
+					 return new StringLiteral(STRING_LITERAL);
+			}
+			case 649: // literal = NULL_LITERAL.NULL_LITERAL
+			{
+					final Symbol NULL_LITERAL = _symbols[offset + 1];
+					 return new NullLiteral(NULL_LITERAL);
+			}
+			case 650: // catch_clause = CATCH.CATCH LPAREN.LPAREN multi_catch_param.p RPAREN.RPAREN block.b
+			{
+					final Symbol CATCH = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_p = _symbols[offset + 3];
+					final CatchParameterDeclaration p = (CatchParameterDeclaration) _symbol_p.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final Block b = (Block) _symbol_b.value;
+					 return new MultiCatch(p, b);
+			}
+			case 651: // multi_catch_param = multi_catch_type.b IDENTIFIER.IDENTIFIER dims_opt.c
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final List b = (List) _symbol_b.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_c = _symbols[offset + 3];
+					final List c = (List) _symbol_c.value;
+					 return new CatchParameterDeclaration(new Modifiers(new List()), b, IDENTIFIER);
+			}
+			case 652: // multi_catch_param = modifiers.a multi_catch_type.b IDENTIFIER.IDENTIFIER dims_opt.c
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final List b = (List) _symbol_b.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_c = _symbols[offset + 4];
+					final List c = (List) _symbol_c.value;
+					 return new CatchParameterDeclaration(new Modifiers(a), b, IDENTIFIER);
+			}
+			case 653: // multi_catch_type = type.a OR.OR type.b
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final Access a = (Access) _symbol_a.value;
+					final Symbol OR = _symbols[offset + 2];
+					final Symbol _symbol_b = _symbols[offset + 3];
+					final Access b = (Access) _symbol_b.value;
+					 return new List().add(a).add(b);
+			}
+			case 654: // multi_catch_type = multi_catch_type.a OR.OR type.b
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol OR = _symbols[offset + 2];
+					final Symbol _symbol_b = _symbols[offset + 3];
+					final Access b = (Access) _symbol_b.value;
+					 return a.add(b);
+			}
+			case 656: // try_with_resource = TRY.TRY LPAREN.LPAREN resource_declaration_list.a RPAREN.RPAREN block.b
+			{
+					final Symbol TRY = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final Block b = (Block) _symbol_b.value;
+					 return new TryWithResources(a, b, new List(), new Opt());
+			}
+			case 657: // try_with_resource = TRY.TRY LPAREN.LPAREN resource_declaration_list.a RPAREN.RPAREN block.b catches.c
+			{
+					final Symbol TRY = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final Block b = (Block) _symbol_b.value;
+					final Symbol _symbol_c = _symbols[offset + 6];
+					final List c = (List) _symbol_c.value;
+					 return new TryWithResources(a, b, c, new Opt());
+			}
+			case 658: // try_with_resource = TRY.TRY LPAREN.LPAREN resource_declaration_list.a RPAREN.RPAREN block.b finally.c
+			{
+					final Symbol TRY = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final Block b = (Block) _symbol_b.value;
+					final Symbol _symbol_c = _symbols[offset + 6];
+					final Block c = (Block) _symbol_c.value;
+					 return new TryWithResources(a, b, new List(), new Opt(c));
+			}
+			case 659: // try_with_resource = TRY.TRY LPAREN.LPAREN resource_declaration_list.a RPAREN.RPAREN block.b catches.c finally.d
+			{
+					final Symbol TRY = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final Block b = (Block) _symbol_b.value;
+					final Symbol _symbol_c = _symbols[offset + 6];
+					final List c = (List) _symbol_c.value;
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final Block d = (Block) _symbol_d.value;
+					 return new TryWithResources(a, b, c, new Opt(d));
+			}
+			case 660: // resource_declaration_list = resource_declarations.a
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					 return a;
+			}
+			case 661: // resource_declaration_list = resource_declarations.a SEMICOLON.SEMICOLON
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					 return a;
+			}
+			case 662: // resource_declarations = resource_declaration.a
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final ResourceDeclaration a = (ResourceDeclaration) _symbol_a.value;
+					 return new List().add(a);
+			}
+			case 663: // resource_declarations = resource_declarations.a SEMICOLON.SEMICOLON resource_declaration.b
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol SEMICOLON = _symbols[offset + 2];
+					final Symbol _symbol_b = _symbols[offset + 3];
+					final ResourceDeclaration b = (ResourceDeclaration) _symbol_b.value;
+					 return a.add(b);
+			}
+			case 664: // resource_declaration = type.b IDENTIFIER.IDENTIFIER EQ.EQ variable_initializer.i
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final Access b = (Access) _symbol_b.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol EQ = _symbols[offset + 3];
+					final Symbol _symbol_i = _symbols[offset + 4];
+					final Expr i = (Expr) _symbol_i.value;
+					 return new ResourceDeclaration(IDENTIFIER, new List(), new Opt(i), new ResourceModifiers(new List()), b);
+			}
+			case 665: // resource_declaration = modifiers.a type.b IDENTIFIER.IDENTIFIER EQ.EQ variable_initializer.i
+			{
+					final Symbol _symbol_a = _symbols[offset + 1];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Access b = (Access) _symbol_b.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol EQ = _symbols[offset + 4];
+					final Symbol _symbol_i = _symbols[offset + 5];
+					final Expr i = (Expr) _symbol_i.value;
+					 return new ResourceDeclaration(IDENTIFIER, new List(), new Opt(i), new ResourceModifiers(a), b);
+			}
+			case 667: // constructor_reference = name.n DOUBLECOLON.DOUBLECOLON type_arguments_opt.a NEW.NEW
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol NEW = _symbols[offset + 4];
+					 return new ClassReference(n, a);
+			}
+			case 668: // constructor_reference = name.n LTTYPE.LTTYPE type_argument_list_1.a1 DOUBLECOLON.DOUBLECOLON type_arguments_opt.a2 NEW.NEW
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LTTYPE = _symbols[offset + 2];
+					final Symbol _symbol_a1 = _symbols[offset + 3];
+					final List a1 = (List) _symbol_a1.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 4];
+					final Symbol _symbol_a2 = _symbols[offset + 5];
+					final List a2 = (List) _symbol_a2.value;
+					final Symbol NEW = _symbols[offset + 6];
+					 return new ClassReference(new ParTypeAccess(n, a1), a2);
+			}
+			case 669: // constructor_reference = nongeneric_array_type.r DOUBLECOLON.DOUBLECOLON NEW.NEW
+			{
+					final Symbol _symbol_r = _symbols[offset + 1];
+					final Access r = (Access) _symbol_r.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 2];
+					final Symbol NEW = _symbols[offset + 3];
+					 return new ArrayReference(r);
+			}
+			case 670: // constructor_reference = name.n LTTYPE.LTTYPE type_argument_list_1.a dims.d DOUBLECOLON.DOUBLECOLON NEW.NEW
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LTTYPE = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 5];
+					final Symbol NEW = _symbols[offset + 6];
+					 return new ArrayReference(new ParTypeAccess(n, a).addArrayDims(d));
+			}
+			case 672: // interface_method_declaration = interface_method_header.m method_body.b
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final MethodDecl m = (MethodDecl) _symbol_m.value;
+					final Symbol _symbol_b = _symbols[offset + 2];
+					final Opt b = (Opt) _symbol_b.value;
+					 m.setBlockOpt(b); return m;
+			}
+			case 673: // interface_method_header = type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					 return new MethodDecl(new Modifiers(new List()), t.addArrayDims(new List()), ((String)i.value), l, new List(), new Opt());
+			}
+			case 674: // interface_method_header = modifiers.m type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					 return new MethodDecl(new Modifiers(m), t.addArrayDims(new List()), ((String)i.value), l, new List(), new Opt());
+			}
+			case 675: // interface_method_header = type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_d = _symbols[offset + 6];
+					final List d = (List) _symbol_d.value;
+					 return new MethodDecl(new Modifiers(new List()), t.addArrayDims(d), ((String)i.value), l, new List(), new Opt());
+			}
+			case 676: // interface_method_header = modifiers.m type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final List d = (List) _symbol_d.value;
+					 return new MethodDecl(new Modifiers(m), t.addArrayDims(d), ((String)i.value), l, new List(), new Opt());
+			}
+			case 677: // interface_method_header = type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws.tl
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_tl = _symbols[offset + 6];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(new List()), t.addArrayDims(new List()), ((String)i.value), l, tl, new Opt());
+			}
+			case 678: // interface_method_header = modifiers.m type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(m), t.addArrayDims(new List()), ((String)i.value), l, tl, new Opt());
+			}
+			case 679: // interface_method_header = type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d throws.tl
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_d = _symbols[offset + 6];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(new List()), t.addArrayDims(d), ((String)i.value), l, tl, new Opt());
+			}
+			case 680: // interface_method_header = modifiers.m type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d throws.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(m), t.addArrayDims(d), ((String)i.value), l, tl, new Opt());
+			}
+			case 681: // interface_method_header = VOID.VOID IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws_opt.tl
+			{
+					final Symbol VOID = _symbols[offset + 1];
+					final Symbol i = _symbols[offset + 2];
+					final Symbol LPAREN = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_tl = _symbols[offset + 6];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(new List()), new PrimitiveTypeAccess("void"), ((String)i.value), l, tl, new Opt());
+			}
+			case 682: // interface_method_header = modifiers.m VOID.VOID IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws_opt.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol VOID = _symbols[offset + 2];
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					 return new MethodDecl(new Modifiers(m), new PrimitiveTypeAccess("void"), ((String)i.value), l, tl, new Opt());
+			}
+			case 683: // interface_method_header = type_parameters.p type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					 return new GenericMethodDecl(new Modifiers(new List()), t.addArrayDims(new List()), ((String)i.value), l, new List(), new Opt(), p);
+			}
+			case 684: // interface_method_header = modifiers.m type_parameters.p type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					 return new GenericMethodDecl(new Modifiers(m), t.addArrayDims(new List()), ((String)i.value), l, new List(), new Opt(), p);
+			}
+			case 685: // interface_method_header = type_parameters.p type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final List d = (List) _symbol_d.value;
+					 return new GenericMethodDecl(new Modifiers(new List()), t.addArrayDims(d), ((String)i.value), l, new List(), new Opt(), p);
+			}
+			case 686: // interface_method_header = modifiers.m type_parameters.p type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_d = _symbols[offset + 8];
+					final List d = (List) _symbol_d.value;
+					 return new GenericMethodDecl(new Modifiers(m), t.addArrayDims(d), ((String)i.value), l, new List(), new Opt(), p);
+			}
+			case 687: // interface_method_header = type_parameters.p type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws.tl
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(new List()), t.addArrayDims(new List()), ((String)i.value), l, tl, new Opt(), p);
+			}
+			case 688: // interface_method_header = modifiers.m type_parameters.p type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(m), t.addArrayDims(new List()), ((String)i.value), l, tl, new Opt(), p);
+			}
+			case 689: // interface_method_header = type_parameters.p type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d throws.tl
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(new List()), t.addArrayDims(d), ((String)i.value), l, tl, new Opt(), p);
+			}
+			case 690: // interface_method_header = modifiers.m type_parameters.p type.t IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN dims.d throws.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final List p = (List) _symbol_p.value;
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_d = _symbols[offset + 8];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_tl = _symbols[offset + 9];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(m), t.addArrayDims(d), ((String)i.value), l, tl, new Opt(), p);
+			}
+			case 691: // interface_method_header = type_parameters.p VOID.VOID IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws_opt.tl
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final List p = (List) _symbol_p.value;
+					final Symbol VOID = _symbols[offset + 2];
+					final Symbol i = _symbols[offset + 3];
+					final Symbol LPAREN = _symbols[offset + 4];
+					final Symbol _symbol_l = _symbols[offset + 5];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_tl = _symbols[offset + 7];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(new List()), new PrimitiveTypeAccess("void"), ((String)i.value), l, tl, new Opt(), p);
+			}
+			case 692: // interface_method_header = modifiers.m type_parameters.p VOID.VOID IDENTIFIER.i LPAREN.LPAREN formal_parameter_list_opt.l RPAREN.RPAREN throws_opt.tl
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_p = _symbols[offset + 2];
+					final List p = (List) _symbol_p.value;
+					final Symbol VOID = _symbols[offset + 3];
+					final Symbol i = _symbols[offset + 4];
+					final Symbol LPAREN = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_tl = _symbols[offset + 8];
+					final List tl = (List) _symbol_tl.value;
+					 return new GenericMethodDecl(new Modifiers(m), new PrimitiveTypeAccess("void"), ((String)i.value), l, tl, new Opt(), p);
+			}
+			case 693: // modifier = DEFAULT.DEFAULT
+			{
+					final Symbol DEFAULT = _symbols[offset + 1];
+					 return new Modifier("default");
+			}
+			case 694: // cast_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a additional_bound_list.b RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_e = _symbols[offset + 7];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new IntersectionCastExpr(new ParTypeAccess(n, a).addArrayDims(new List()), b, e);
+			}
+			case 695: // cast_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a dims.d additional_bound_list.b RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d = _symbols[offset + 5];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final List b = (List) _symbol_b.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol _symbol_e = _symbols[offset + 8];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new IntersectionCastExpr(new ParTypeAccess(n, a).addArrayDims(d), b, e);
+			}
+			case 696: // cast_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t additional_bound_list.b RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_b = _symbols[offset + 7];
+					final List b = (List) _symbol_b.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol _symbol_e = _symbols[offset + 9];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new IntersectionCastExpr(new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()), b, e);
+			}
+			case 697: // cast_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d additional_bound_list.b RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 7];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_b = _symbols[offset + 8];
+					final List b = (List) _symbol_b.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol _symbol_e = _symbols[offset + 10];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new IntersectionCastExpr(new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d), b, e);
+			}
+			case 698: // cast_expression = INTERCAST.INTERCAST LPAREN.LPAREN name.t additional_bound_list.b RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol INTERCAST = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final List b = (List) _symbol_b.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol _symbol_e = _symbols[offset + 6];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new IntersectionCastExpr(t.addArrayDims(new List()), b, e);
+			}
+			case 699: // cast_expression = INTERCAST.INTERCAST LPAREN.LPAREN name.t dims.d additional_bound_list.b RPAREN.RPAREN unary_expression_not_plus_minus.e
+			{
+					final Symbol INTERCAST = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol _symbol_t = _symbols[offset + 3];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final List b = (List) _symbol_b.value;
+					final Symbol RPAREN = _symbols[offset + 6];
+					final Symbol _symbol_e = _symbols[offset + 7];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new IntersectionCastExpr(t.addArrayDims(d), b, e);
+			}
+			case 701: // lambda_expression = LPAREN.LPAREN RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol RPAREN = _symbols[offset + 2];
+					final Symbol RARROW = _symbols[offset + 3];
+					final Symbol _symbol_b = _symbols[offset + 4];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(new List()), b);
+			}
+			case 702: // lambda_expression = IDENTIFIER.i RARROW.RARROW lambda_body.b
+			{
+					final Symbol i = _symbols[offset + 1];
+					final Symbol RARROW = _symbols[offset + 2];
+					final Symbol _symbol_b = _symbols[offset + 3];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new InferredLambdaParameters(new List().add(new InferredParameterDeclaration(((String)i.value)))), b);
+			}
+			case 703: // lambda_expression = INFERRED_LAMBDA.INFERRED_LAMBDA LPAREN.LPAREN IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol INFERRED_LAMBDA = _symbols[offset + 1];
+					final Symbol LPAREN = _symbols[offset + 2];
+					final Symbol i = _symbols[offset + 3];
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol RARROW = _symbols[offset + 5];
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new InferredLambdaParameters(new List().add(new InferredParameterDeclaration(((String)i.value)))), b);
+			}
+			case 704: // lambda_expression = LPAREN.LPAREN IDENTIFIER.i COMMA.COMMA inferred_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol i = _symbols[offset + 2];
+					final Symbol COMMA = _symbols[offset + 3];
+					final Symbol _symbol_l = _symbols[offset + 4];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 5];
+					final Symbol RARROW = _symbols[offset + 6];
+					final Symbol _symbol_b = _symbols[offset + 7];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new InferredParameterDeclaration(((String)i.value)));
+			for(Object o : l) list.add((InferredParameterDeclaration)o);
+		return new LambdaExpr(new InferredLambdaParameters(list), b);
+			}
+			case 705: // lambda_expression = LPAREN.LPAREN nongeneric_formal_parameter.f RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_f = _symbols[offset + 2];
+					final ParameterDeclaration f = (ParameterDeclaration) _symbol_f.value;
+					final Symbol RPAREN = _symbols[offset + 3];
+					final Symbol RARROW = _symbols[offset + 4];
+					final Symbol _symbol_b = _symbols[offset + 5];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(new List().add(f)), b);
+			}
+			case 706: // lambda_expression = LPAREN.LPAREN nongeneric_formal_parameter.f comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_f = _symbols[offset + 2];
+					final ParameterDeclaration f = (ParameterDeclaration) _symbol_f.value;
+					final Symbol _symbol_l = _symbols[offset + 3];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 4];
+					final Symbol RARROW = _symbols[offset + 5];
+					final Symbol _symbol_b = _symbols[offset + 6];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(f);
+			for(Object o : l) list.add((ParameterDeclaration)o); 
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 707: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a IDENTIFIER.i dims_opt.d2 RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 5];
+					final Symbol _symbol_d2 = _symbols[offset + 6];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol RARROW = _symbols[offset + 8];
+					final Symbol _symbol_b = _symbols[offset + 9];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(new List()).addArrayDims(d2), ((String)i.value)))), b);
+			}
+			case 708: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a IDENTIFIER.i dims_opt.d2 RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 6];
+					final Symbol _symbol_d2 = _symbols[offset + 7];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol RARROW = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(new List()).addArrayDims(d2), ((String)i.value)))), b);
+			}
+			case 709: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a dims.d1 IDENTIFIER.i dims_opt.d2 RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 5];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 6];
+					final Symbol _symbol_d2 = _symbols[offset + 7];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol RARROW = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(d1).addArrayDims(d2), ((String)i.value)))), b);
+			}
+			case 710: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a dims.d1 IDENTIFIER.i dims_opt.d2 RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 6];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 7];
+					final Symbol _symbol_d2 = _symbols[offset + 8];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(d1).addArrayDims(d2), ((String)i.value)))), b);
+			}
+			case 711: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 5];
+					final Symbol _symbol_l = _symbols[offset + 6];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol RARROW = _symbols[offset + 8];
+					final Symbol _symbol_b = _symbols[offset + 9];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(new List()).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 712: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol RARROW = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(new List()).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 713: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a dims.d1 IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 5];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol RARROW = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(d1).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 714: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a dims.d1 IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 6];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 7];
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(d1).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 715: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a IDENTIFIER.i dims.d2 comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 5];
+					final Symbol _symbol_d2 = _symbols[offset + 6];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol RARROW = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(new List()).addArrayDims(d2), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 716: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a IDENTIFIER.i dims.d2 comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 6];
+					final Symbol _symbol_d2 = _symbols[offset + 7];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(new List()).addArrayDims(d2), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 717: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a dims.d1 IDENTIFIER.i dims.d2 comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 5];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 6];
+					final Symbol _symbol_d2 = _symbols[offset + 7];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(d1).addArrayDims(d2), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 718: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a dims.d1 IDENTIFIER.i dims.d2 comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 6];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 7];
+					final Symbol _symbol_d2 = _symbols[offset + 8];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol _symbol_l = _symbols[offset + 9];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(d1).addArrayDims(d2), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 719: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t IDENTIFIER.i dims_opt.d2 RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 7];
+					final Symbol _symbol_d2 = _symbols[offset + 8];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()).addArrayDims(d2), ((String)i.value)))), b);
+			}
+			case 720: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t IDENTIFIER.i dims_opt.d2 RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 8];
+					final Symbol _symbol_d2 = _symbols[offset + 9];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()).addArrayDims(d2), ((String)i.value)))), b);
+			}
+			case 721: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 IDENTIFIER.i dims_opt.d2 RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 7];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 8];
+					final Symbol _symbol_d2 = _symbols[offset + 9];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1).addArrayDims(d2), ((String)i.value)))), b);
+			}
+			case 722: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 IDENTIFIER.i dims_opt.d2 RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 8];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 9];
+					final Symbol _symbol_d2 = _symbols[offset + 10];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol RPAREN = _symbols[offset + 11];
+					final Symbol RARROW = _symbols[offset + 12];
+					final Symbol _symbol_b = _symbols[offset + 13];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1).addArrayDims(d2), ((String)i.value)))), b);
+			}
+			case 723: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 7];
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 724: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 8];
+					final Symbol _symbol_l = _symbols[offset + 9];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 725: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 7];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 8];
+					final Symbol _symbol_l = _symbols[offset + 9];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 726: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 8];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 9];
+					final Symbol _symbol_l = _symbols[offset + 10];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 11];
+					final Symbol RARROW = _symbols[offset + 12];
+					final Symbol _symbol_b = _symbols[offset + 13];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 727: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t IDENTIFIER.i dims.d2 comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 7];
+					final Symbol _symbol_d2 = _symbols[offset + 8];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol _symbol_l = _symbols[offset + 9];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()).addArrayDims(d2), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 728: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t IDENTIFIER.i dims.d2 comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 8];
+					final Symbol _symbol_d2 = _symbols[offset + 9];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol _symbol_l = _symbols[offset + 10];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 11];
+					final Symbol RARROW = _symbols[offset + 12];
+					final Symbol _symbol_b = _symbols[offset + 13];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()).addArrayDims(d2), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 729: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 IDENTIFIER.i dims.d2 comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 7];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 8];
+					final Symbol _symbol_d2 = _symbols[offset + 9];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol _symbol_l = _symbols[offset + 10];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 11];
+					final Symbol RARROW = _symbols[offset + 12];
+					final Symbol _symbol_b = _symbols[offset + 13];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1).addArrayDims(d2), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 730: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 IDENTIFIER.i dims.d2 comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 8];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol i = _symbols[offset + 9];
+					final Symbol _symbol_d2 = _symbols[offset + 10];
+					final List d2 = (List) _symbol_d2.value;
+					final Symbol _symbol_l = _symbols[offset + 11];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 12];
+					final Symbol RARROW = _symbols[offset + 13];
+					final Symbol _symbol_b = _symbols[offset + 14];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new ParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1).addArrayDims(d2), ((String)i.value)));
+			for(Object o : l) list.add((ParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 731: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a ELLIPSIS.ELLIPSIS IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol ELLIPSIS = _symbols[offset + 5];
+					final Symbol i = _symbols[offset + 6];
+					final Symbol RPAREN = _symbols[offset + 7];
+					final Symbol RARROW = _symbols[offset + 8];
+					final Symbol _symbol_b = _symbols[offset + 9];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new VariableArityParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(new List()), ((String)i.value)))), b);
+			}
+			case 732: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a ELLIPSIS.ELLIPSIS IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol ELLIPSIS = _symbols[offset + 6];
+					final Symbol i = _symbols[offset + 7];
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol RARROW = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new VariableArityParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(new List()), ((String)i.value)))), b);
+			}
+			case 733: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a dims.d1 ELLIPSIS.ELLIPSIS IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 5];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol ELLIPSIS = _symbols[offset + 6];
+					final Symbol i = _symbols[offset + 7];
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol RARROW = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new VariableArityParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(d1), ((String)i.value)))), b);
+			}
+			case 734: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a dims.d1 ELLIPSIS.ELLIPSIS IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 6];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol ELLIPSIS = _symbols[offset + 7];
+					final Symbol i = _symbols[offset + 8];
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new VariableArityParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(d1), ((String)i.value)))), b);
+			}
+			case 735: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a ELLIPSIS.ELLIPSIS IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol ELLIPSIS = _symbols[offset + 5];
+					final Symbol i = _symbols[offset + 6];
+					final Symbol _symbol_l = _symbols[offset + 7];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 8];
+					final Symbol RARROW = _symbols[offset + 9];
+					final Symbol _symbol_b = _symbols[offset + 10];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new VariableArityParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((VariableArityParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 736: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a ELLIPSIS.ELLIPSIS IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol ELLIPSIS = _symbols[offset + 6];
+					final Symbol i = _symbols[offset + 7];
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new VariableArityParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(new List()), ((String)i.value)));
+			for(Object o : l) list.add((VariableArityParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 737: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a dims.d1 ELLIPSIS.ELLIPSIS IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 5];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol ELLIPSIS = _symbols[offset + 6];
+					final Symbol i = _symbols[offset + 7];
+					final Symbol _symbol_l = _symbols[offset + 8];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new VariableArityParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).addArrayDims(d1), ((String)i.value)));
+			for(Object o : l) list.add((VariableArityParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 738: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a dims.d1 ELLIPSIS.ELLIPSIS IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol _symbol_d1 = _symbols[offset + 6];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol ELLIPSIS = _symbols[offset + 7];
+					final Symbol i = _symbols[offset + 8];
+					final Symbol _symbol_l = _symbols[offset + 9];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new VariableArityParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).addArrayDims(d1), ((String)i.value)));
+			for(Object o : l) list.add((VariableArityParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 739: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t ELLIPSIS.ELLIPSIS IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 7];
+					final Symbol i = _symbols[offset + 8];
+					final Symbol RPAREN = _symbols[offset + 9];
+					final Symbol RARROW = _symbols[offset + 10];
+					final Symbol _symbol_b = _symbols[offset + 11];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new VariableArityParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()), ((String)i.value)))), b);
+			}
+			case 740: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t ELLIPSIS.ELLIPSIS IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 8];
+					final Symbol i = _symbols[offset + 9];
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new VariableArityParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()), ((String)i.value)))), b);
+			}
+			case 741: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 ELLIPSIS.ELLIPSIS IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 7];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol ELLIPSIS = _symbols[offset + 8];
+					final Symbol i = _symbols[offset + 9];
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new VariableArityParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1), ((String)i.value)))), b);
+			}
+			case 742: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 ELLIPSIS.ELLIPSIS IDENTIFIER.i RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 8];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol ELLIPSIS = _symbols[offset + 9];
+					final Symbol i = _symbols[offset + 10];
+					final Symbol RPAREN = _symbols[offset + 11];
+					final Symbol RARROW = _symbols[offset + 12];
+					final Symbol _symbol_b = _symbols[offset + 13];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 return new LambdaExpr(new DeclaredLambdaParameters(
+			new List().add(new VariableArityParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1), ((String)i.value)))), b);
+			}
+			case 743: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t ELLIPSIS.ELLIPSIS IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 7];
+					final Symbol i = _symbols[offset + 8];
+					final Symbol _symbol_l = _symbols[offset + 9];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 10];
+					final Symbol RARROW = _symbols[offset + 11];
+					final Symbol _symbol_b = _symbols[offset + 12];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new VariableArityParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()), ((String)i.value))); 
+			for(Object o : l) list.add((VariableArityParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 744: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t ELLIPSIS.ELLIPSIS IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 8];
+					final Symbol i = _symbols[offset + 9];
+					final Symbol _symbol_l = _symbols[offset + 10];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 11];
+					final Symbol RARROW = _symbols[offset + 12];
+					final Symbol _symbol_b = _symbols[offset + 13];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new VariableArityParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(new List()), ((String)i.value))); 
+			for(Object o : l) list.add((VariableArityParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 745: // lambda_expression = LPAREN.LPAREN name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 ELLIPSIS.ELLIPSIS IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_n = _symbols[offset + 2];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 3];
+					final Symbol _symbol_a = _symbols[offset + 4];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 5];
+					final Symbol _symbol_t = _symbols[offset + 6];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 7];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol ELLIPSIS = _symbols[offset + 8];
+					final Symbol i = _symbols[offset + 9];
+					final Symbol _symbol_l = _symbols[offset + 10];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 11];
+					final Symbol RARROW = _symbols[offset + 12];
+					final Symbol _symbol_b = _symbols[offset + 13];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new VariableArityParameterDeclaration(new Modifiers(new List()), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1), ((String)i.value))); 
+			for(Object o : l) list.add((VariableArityParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 746: // lambda_expression = LPAREN.LPAREN modifiers.m name.n LT.LT type_argument_list_1.a DOT.DOT class_or_interface_type.t dims.d1 ELLIPSIS.ELLIPSIS IDENTIFIER.i comma_formal_parameter_list.l RPAREN.RPAREN RARROW.RARROW lambda_body.b
+			{
+					final Symbol LPAREN = _symbols[offset + 1];
+					final Symbol _symbol_m = _symbols[offset + 2];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_n = _symbols[offset + 3];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LT = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol DOT = _symbols[offset + 6];
+					final Symbol _symbol_t = _symbols[offset + 7];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_d1 = _symbols[offset + 8];
+					final List d1 = (List) _symbol_d1.value;
+					final Symbol ELLIPSIS = _symbols[offset + 9];
+					final Symbol i = _symbols[offset + 10];
+					final Symbol _symbol_l = _symbols[offset + 11];
+					final List l = (List) _symbol_l.value;
+					final Symbol RPAREN = _symbols[offset + 12];
+					final Symbol RARROW = _symbols[offset + 13];
+					final Symbol _symbol_b = _symbols[offset + 14];
+					final LambdaBody b = (LambdaBody) _symbol_b.value;
+					 List list = new List().add(new VariableArityParameterDeclaration(new Modifiers(m), new ParTypeAccess(n, a).qualifiesAccess(t).addArrayDims(d1), ((String)i.value))); 
+			for(Object o : l) list.add((VariableArityParameterDeclaration)o);
+		return new LambdaExpr(new DeclaredLambdaParameters(list), b);
+			}
+			case 747: // inferred_list = IDENTIFIER.i
+			{
+					final Symbol i = _symbols[offset + 1];
+					 return new List().add(new InferredParameterDeclaration(((String)i.value)));
+			}
+			case 748: // inferred_list = inferred_list.l COMMA.COMMA IDENTIFIER.i
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol i = _symbols[offset + 3];
+					 return l.add(new InferredParameterDeclaration(((String)i.value)));
+			}
+			case 750: // formal_parameter_list_no_vararg_mixed_array = formal_parameter_no_vararg_mixed_array.f
+			{
+					final Symbol _symbol_f = _symbols[offset + 1];
+					final ParameterDeclaration f = (ParameterDeclaration) _symbol_f.value;
+					 return new List().add(f);
+			}
+			case 751: // formal_parameter_list_no_vararg_mixed_array = formal_parameter_list_no_vararg_mixed_array.l COMMA.COMMA formal_parameter_no_vararg_mixed_array.f
+			{
+					final Symbol _symbol_l = _symbols[offset + 1];
+					final List l = (List) _symbol_l.value;
+					final Symbol COMMA = _symbols[offset + 2];
+					final Symbol _symbol_f = _symbols[offset + 3];
+					final ParameterDeclaration f = (ParameterDeclaration) _symbol_f.value;
+					 return l.add(f);
+			}
+			case 752: // formal_parameter_no_vararg_mixed_array = type.t IDENTIFIER.i dims_opt.d
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 2];
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					 return new ParameterDeclaration(new Modifiers(new List()), t.addArrayDims(d), ((String)i.value));
+			}
+			case 753: // formal_parameter_no_vararg_mixed_array = modifiers.m type.t IDENTIFIER.i dims_opt.d
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol i = _symbols[offset + 3];
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					 return new ParameterDeclaration(new Modifiers(m), t.addArrayDims(d), ((String)i.value));
+			}
+			case 754: // formal_parameter_no_vararg_mixed_array = type.t ELLIPSIS.ELLIPSIS IDENTIFIER.i
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 2];
+					final Symbol i = _symbols[offset + 3];
+					 return new VariableArityParameterDeclaration(new Modifiers(new List()), t, ((String)i.value));
+			}
+			case 755: // formal_parameter_no_vararg_mixed_array = modifiers.m type.t ELLIPSIS.ELLIPSIS IDENTIFIER.i
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 3];
+					final Symbol i = _symbols[offset + 4];
+					 return new VariableArityParameterDeclaration(new Modifiers(m), t, ((String)i.value));
+			}
+			case 756: // lambda_body = block.b
+			{
+					final Symbol _symbol_b = _symbols[offset + 1];
+					final Block b = (Block) _symbol_b.value;
+					 return new BlockLambdaBody(b);
+			}
+			case 757: // lambda_body = expression.e
+			{
+					final Symbol _symbol_e = _symbols[offset + 1];
+					final Expr e = (Expr) _symbol_e.value;
+					 return new ExprLambdaBody(e);
+			}
+			case 759: // method_reference = primary.p DOUBLECOLON.DOUBLECOLON type_arguments_opt.a IDENTIFIER.i
+			{
+					final Symbol _symbol_p = _symbols[offset + 1];
+					final Expr p = (Expr) _symbol_p.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 4];
+					 return new ExprMethodReference(a, ((String)i.value), p);
+			}
+			case 760: // method_reference = name.n DOT.DOT SUPER.SUPER DOUBLECOLON.DOUBLECOLON type_arguments_opt.a IDENTIFIER.i
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOT = _symbols[offset + 2];
+					final Symbol SUPER = _symbols[offset + 3];
+					final Symbol DOUBLECOLON = _symbols[offset + 4];
+					final Symbol _symbol_a = _symbols[offset + 5];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 6];
+					 SuperAccess s = new SuperAccess();
+           s.setStart(SUPER.getStart());
+           s.setEnd(SUPER.getEnd()); 
+		   return new ExprMethodReference(a, ((String)i.value), n.qualifiesAccess(s));
+			}
+			case 761: // method_reference = SUPER.SUPER DOUBLECOLON.DOUBLECOLON type_arguments_opt.a IDENTIFIER.i
+			{
+					final Symbol SUPER = _symbols[offset + 1];
+					final Symbol DOUBLECOLON = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 4];
+					 SuperAccess s = new SuperAccess();
+		   s.setStart(SUPER.getStart());
+		   s.setEnd(SUPER.getEnd());
+		   return new ExprMethodReference(a, ((String)i.value), s);
+			}
+			case 762: // method_reference = nongeneric_array_type.r DOUBLECOLON.DOUBLECOLON type_arguments_opt.a IDENTIFIER.i
+			{
+					final Symbol _symbol_r = _symbols[offset + 1];
+					final Access r = (Access) _symbol_r.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 4];
+					 return new TypeMethodReference(a, ((String)i.value), r);
+			}
+			case 763: // method_reference = name.n LTTYPE.LTTYPE type_argument_list_1.a1 DOUBLECOLON.DOUBLECOLON type_arguments_opt.a2 IDENTIFIER.i
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LTTYPE = _symbols[offset + 2];
+					final Symbol _symbol_a1 = _symbols[offset + 3];
+					final List a1 = (List) _symbol_a1.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 4];
+					final Symbol _symbol_a2 = _symbols[offset + 5];
+					final List a2 = (List) _symbol_a2.value;
+					final Symbol i = _symbols[offset + 6];
+					 return new TypeMethodReference(a2, ((String)i.value), new ParTypeAccess(n, a1).addArrayDims(new List()));
+			}
+			case 764: // method_reference = name.n LTTYPE.LTTYPE type_argument_list_1.a1 dims.d DOUBLECOLON.DOUBLECOLON type_arguments_opt.a2 IDENTIFIER.i
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol LTTYPE = _symbols[offset + 2];
+					final Symbol _symbol_a1 = _symbols[offset + 3];
+					final List a1 = (List) _symbol_a1.value;
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 5];
+					final Symbol _symbol_a2 = _symbols[offset + 6];
+					final List a2 = (List) _symbol_a2.value;
+					final Symbol i = _symbols[offset + 7];
+					 return new TypeMethodReference(a2, ((String)i.value), new ParTypeAccess(n, a1).addArrayDims(d));
+			}
+			case 765: // method_reference = name.n DOUBLECOLON.DOUBLECOLON type_arguments_opt.a IDENTIFIER.i
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Access n = (Access) _symbol_n.value;
+					final Symbol DOUBLECOLON = _symbols[offset + 2];
+					final Symbol _symbol_a = _symbols[offset + 3];
+					final List a = (List) _symbol_a.value;
+					final Symbol i = _symbols[offset + 4];
+					 return new AmbiguousMethodReference(a, ((String)i.value), n);
+			}
+			case 771: // nongeneric_array_type = primitive_type.t dims.dims
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol _symbol_dims = _symbols[offset + 2];
+					final List dims = (List) _symbol_dims.value;
+					 return t.addArrayDims(dims);
+			}
+			case 772: // nongeneric_array_type = name.name dims.dims
+			{
+					final Symbol _symbol_name = _symbols[offset + 1];
+					final Access name = (Access) _symbol_name.value;
+					final Symbol _symbol_dims = _symbols[offset + 2];
+					final List dims = (List) _symbol_dims.value;
+					 return name.addArrayDims(dims);
+			}
+			case 773: // nongeneric_formal_parameter = nongeneric_type.t IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 2];
+					final Symbol _symbol_d = _symbols[offset + 3];
+					final List d = (List) _symbol_d.value;
+					 return new ParameterDeclaration(new Modifiers(new List()), t.addArrayDims(d), IDENTIFIER);
+			}
+			case 774: // nongeneric_formal_parameter = modifiers.m nongeneric_type.t IDENTIFIER.IDENTIFIER dims_opt.d
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol IDENTIFIER = _symbols[offset + 3];
+					final Symbol _symbol_d = _symbols[offset + 4];
+					final List d = (List) _symbol_d.value;
+					 return new ParameterDeclaration(new Modifiers(m), t.addArrayDims(d), IDENTIFIER);
+			}
+			case 775: // nongeneric_formal_parameter = nongeneric_type.t ELLIPSIS.ELLIPSIS IDENTIFIER.i
+			{
+					final Symbol _symbol_t = _symbols[offset + 1];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 2];
+					final Symbol i = _symbols[offset + 3];
+					 return new VariableArityParameterDeclaration(new Modifiers(new List()), t, ((String)i.value));
+			}
+			case 776: // nongeneric_formal_parameter = modifiers.m nongeneric_type.t ELLIPSIS.ELLIPSIS IDENTIFIER.i
+			{
+					final Symbol _symbol_m = _symbols[offset + 1];
+					final List m = (List) _symbol_m.value;
+					final Symbol _symbol_t = _symbols[offset + 2];
+					final Access t = (Access) _symbol_t.value;
+					final Symbol ELLIPSIS = _symbols[offset + 3];
+					final Symbol i = _symbols[offset + 4];
+					 return new VariableArityParameterDeclaration(new Modifiers(m), t, ((String)i.value));
+			}
+			case 777: // modifier = PACKAGE.PACKAGE
+			{
+					final Symbol PACKAGE = _symbols[offset + 1];
+					 return new Modifier("package");
+			}
+			case 778: // formal_parameter_list_opt = 
+			{
+					 return new List();
+			}
+			case 779: // formal_parameter_list_opt = formal_parameter_list.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 780: // for_update_opt = 
+			{
+					 return new List();
+			}
+			case 781: // for_update_opt = for_update.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 782: // block_statements_opt = 
+			{
+					 return new List();
+			}
+			case 783: // block_statements_opt = block_statements.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 784: // expression_opt = 
+			{
+					 return new Opt();
+			}
+			case 785: // expression_opt = expression.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Expr n = (Expr) _symbol_n.value;
+					 return new Opt(n);
+			}
+			case 786: // dims_opt = 
+			{
+					 return new List();
+			}
+			case 787: // dims_opt = dims.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 788: // type_arguments_opt = 
+			{
+					 return new List();
+			}
+			case 789: // type_arguments_opt = type_arguments.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 790: // subclass_body_opt = 
+			{
+					 return new Opt();
+			}
+			case 791: // subclass_body_opt = subclass_body.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final Opt n = (Opt) _symbol_n.value;
+					 return n;
+			}
+			case 792: // for_init_opt = 
+			{
+					 return new List();
+			}
+			case 793: // for_init_opt = for_init.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 794: // default_value_opt = 
+			{
+					 return new Opt();
+			}
+			case 795: // default_value_opt = default_value.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final ElementValue n = (ElementValue) _symbol_n.value;
+					 return new Opt(n);
+			}
+			case 796: // argument_list_opt = 
+			{
+					 return new List();
+			}
+			case 797: // argument_list_opt = argument_list.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 798: // element_value_pairs_opt = 
+			{
+					 return new List();
+			}
+			case 799: // element_value_pairs_opt = element_value_pairs.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 800: // throws_opt = 
+			{
+					 return new List();
+			}
+			case 801: // throws_opt = throws.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 802: // annotation_type_element_declarations_opt = 
+			{
+					 return new List();
+			}
+			case 803: // annotation_type_element_declarations_opt = annotation_type_element_declarations.n
+			{
+					final Symbol _symbol_n = _symbols[offset + 1];
+					final List n = (List) _symbol_n.value;
+					 return n;
+			}
+			case 0: // goal = compilation_unit.compilation_unit
+			case 1: // type = primitive_type.primitive_type
+			case 2: // type = reference_type.reference_type
+			case 3: // primitive_type = numeric_type.numeric_type
+			case 5: // numeric_type = integral_type.integral_type
+			case 6: // numeric_type = floating_point_type.floating_point_type
+			case 14: // reference_type = class_or_interface_type.class_or_interface_type
+			case 15: // reference_type = array_type.array_type
+			case 16: // class_type = class_or_interface_type.class_or_interface_type
+			case 17: // interface_type = class_or_interface_type.class_or_interface_type
+			case 20: // name = simple_name.simple_name
+			case 21: // name = qualified_name.qualified_name
+			case 47: // doc_comment_list = doc_comment.doc_comment
+			case 49: // package_with_comment = package_declaration.package_declaration
+			case 52: // name_decl = simple_name_decl.simple_name_decl
+			case 53: // name_decl = qualified_name_decl.qualified_name_decl
+			case 56: // import_with_comment = import_declaration.import_declaration
+			case 58: // import_declaration = single_type_import_declaration.single_type_import_declaration
+			case 59: // import_declaration = type_import_on_demand_declaration.type_import_on_demand_declaration
+			case 62: // type_with_comment = type_declaration.type_declaration
+			case 64: // type_declaration = class_declaration.class_declaration
+			case 65: // type_declaration = interface_declaration.interface_declaration
+			case 97: // body_decl_with_comment = class_body_declaration.class_body_declaration
+			case 99: // class_body_declaration = class_member_declaration.class_member_declaration
+			case 100: // class_body_declaration = instance_initializer.instance_initializer
+			case 101: // class_body_declaration = static_initializer.static_initializer
+			case 102: // class_body_declaration = constructor_declaration.constructor_declaration
+			case 103: // class_member_declaration = field_declaration.field_declaration
+			case 104: // class_member_declaration = method_declaration.method_declaration
+			case 112: // field_declarator = field_declarator_id.field_declarator_id
+			case 115: // variable_initializer = expression.expression
+			case 116: // variable_initializer = array_initializer.array_initializer
+			case 163: // interface_member_with_comment = interface_member_declaration.interface_member_declaration
+			case 165: // interface_member_declaration = constant_declaration.constant_declaration
+			case 166: // interface_member_declaration = abstract_method_declaration.abstract_method_declaration
+			case 170: // constant_declaration = field_declaration.field_declaration
+			case 180: // block_statement = local_variable_declaration_statement.local_variable_declaration_statement
+			case 182: // block_statement = statement.statement
+			case 188: // variable_declarator = variable_declarator_id.variable_declarator_id
+			case 191: // statement = statement_without_trailing_substatement.statement_without_trailing_substatement
+			case 192: // statement = labeled_statement.labeled_statement
+			case 193: // statement = if_then_statement.if_then_statement
+			case 194: // statement = if_then_else_statement.if_then_else_statement
+			case 195: // statement = while_statement.while_statement
+			case 196: // statement = for_statement.for_statement
+			case 197: // statement_without_trailing_substatement = block.block
+			case 198: // statement_without_trailing_substatement = empty_statement.empty_statement
+			case 199: // statement_without_trailing_substatement = expression_statement.expression_statement
+			case 200: // statement_without_trailing_substatement = switch_statement.switch_statement
+			case 201: // statement_without_trailing_substatement = do_statement.do_statement
+			case 202: // statement_without_trailing_substatement = break_statement.break_statement
+			case 203: // statement_without_trailing_substatement = continue_statement.continue_statement
+			case 204: // statement_without_trailing_substatement = return_statement.return_statement
+			case 205: // statement_without_trailing_substatement = synchronized_statement.synchronized_statement
+			case 206: // statement_without_trailing_substatement = throw_statement.throw_statement
+			case 207: // statement_without_trailing_substatement = try_statement.try_statement
+			case 208: // statement_without_trailing_substatement = assert_statement.assert_statement
+			case 209: // statement_no_short_if = statement_without_trailing_substatement.statement_without_trailing_substatement
+			case 210: // statement_no_short_if = labeled_statement_no_short_if.labeled_statement_no_short_if
+			case 211: // statement_no_short_if = if_then_else_statement_no_short_if.if_then_else_statement_no_short_if
+			case 212: // statement_no_short_if = while_statement_no_short_if.while_statement_no_short_if
+			case 213: // statement_no_short_if = for_statement_no_short_if.for_statement_no_short_if
+			case 241: // for_init = statement_expression_list.statement_expression_list
+			case 243: // for_update = statement_expression_list.statement_expression_list
+			case 262: // primary = primary_no_new_array.primary_no_new_array
+			case 263: // primary = array_creation_init.array_creation_init
+			case 264: // primary = array_creation_uninit.array_creation_uninit
+			case 289: // postfix_expression = primary.primary
+			case 290: // postfix_expression = name.name
+			case 291: // postfix_expression = postincrement_expression.postincrement_expression
+			case 292: // postfix_expression = postdecrement_expression.postdecrement_expression
+			case 295: // unary_expression = preincrement_expression.preincrement_expression
+			case 296: // unary_expression = predecrement_expression.predecrement_expression
+			case 299: // unary_expression = unary_expression_not_plus_minus.unary_expression_not_plus_minus
+			case 302: // unary_expression_not_plus_minus = postfix_expression.postfix_expression
+			case 305: // unary_expression_not_plus_minus = cast_expression.cast_expression
+			case 310: // multiplicative_expression = unary_expression.unary_expression
+			case 314: // additive_expression = multiplicative_expression.multiplicative_expression
+			case 317: // shift_expression = additive_expression.additive_expression
+			case 321: // and_expression = equality_expression.equality_expression
+			case 323: // exclusive_or_expression = and_expression.and_expression
+			case 325: // inclusive_or_expression = exclusive_or_expression.exclusive_or_expression
+			case 327: // conditional_and_expression = inclusive_or_expression.inclusive_or_expression
+			case 329: // conditional_or_expression = conditional_and_expression.conditional_and_expression
+			case 331: // conditional_expression = conditional_or_expression.conditional_or_expression
+			case 333: // assignment_expression = conditional_expression.conditional_expression
+			case 334: // assignment_expression = assignment.assignment
+			case 347: // expression = assignment_expression.assignment_expression
+			case 348: // constant_expression = expression.expression
+			case 354: // type_declaration = annotation_type_declaration.annotation_type_declaration
+			case 364: // annotation_type_element_declaration = constant_declaration.constant_declaration
+			case 371: // modifier = annotation.annotation
+			case 372: // annotation = normal_annotation.normal_annotation
+			case 373: // annotation = marker_annotation.marker_annotation
+			case 374: // annotation = single_element_annotation.single_element_annotation
+			case 381: // element_value = element_value_array_initializer.element_value_array_initializer
+			case 394: // statement = enhanced_for_statement.enhanced_for_statement
+			case 395: // statement_no_short_if = enhanced_for_statement_no_short_if.enhanced_for_statement_no_short_if
+			case 401: // type_declaration = enum_declaration.enum_declaration
+			case 472: // class_or_interface = name.name
+			case 474: // class_or_interface_type = class_or_interface.class_or_interface
+			case 545: // import_declaration = single_static_import_declaration.single_static_import_declaration
+			case 546: // import_declaration = static_import_on_demand_declaration.static_import_on_demand_declaration
+			case 551: // primary_no_new_array = literal.literal
+			case 561: // primary_no_new_array = class_instance_creation_expression.class_instance_creation_expression
+			case 562: // primary_no_new_array = field_access.field_access
+			case 563: // primary_no_new_array = method_invocation.method_invocation
+			case 564: // primary_no_new_array = array_access.array_access
+			case 565: // postfix_expression_nn = primary.primary
+			case 566: // postfix_expression_nn = postincrement_expression.postincrement_expression
+			case 567: // postfix_expression_nn = postdecrement_expression.postdecrement_expression
+			case 568: // unary_expression_nn = preincrement_expression.preincrement_expression
+			case 569: // unary_expression_nn = predecrement_expression.predecrement_expression
+			case 572: // unary_expression_nn = unary_expression_not_plus_minus_nn.unary_expression_not_plus_minus_nn
+			case 573: // unary_expression_not_plus_minus_nn = postfix_expression_nn.postfix_expression_nn
+			case 576: // unary_expression_not_plus_minus_nn = cast_expression.cast_expression
+			case 577: // multiplicative_expression_nn = unary_expression_nn.unary_expression_nn
+			case 584: // additive_expression_nn = multiplicative_expression_nn.multiplicative_expression_nn
+			case 589: // shift_expression_nn = additive_expression_nn.additive_expression_nn
+			case 596: // relational_expression_nn = shift_expression_nn.shift_expression_nn
+			case 605: // instanceof_expression_nn = relational_expression_nn.relational_expression_nn
+			case 608: // equality_expression_nn = instanceof_expression_nn.instanceof_expression_nn
+			case 613: // relational_expression = shift_expression.shift_expression
+			case 618: // instanceof_expression = relational_expression.relational_expression
+			case 620: // equality_expression = instanceof_expression.instanceof_expression
+			case 623: // and_expression_nn = equality_expression_nn.equality_expression_nn
+			case 626: // exclusive_or_expression_nn = and_expression_nn.and_expression_nn
+			case 629: // inclusive_or_expression_nn = exclusive_or_expression_nn.exclusive_or_expression_nn
+			case 632: // conditional_and_expression_nn = inclusive_or_expression_nn.inclusive_or_expression_nn
+			case 638: // conditional_expression_nn = conditional_or_expression_nn.conditional_or_expression_nn
+			case 641: // assignment_expression_nn = conditional_expression_nn.conditional_expression_nn
+			case 642: // assignment_expression_nn = assignment.assignment
+			case 643: // expression_nn = assignment_expression_nn.assignment_expression_nn
+			case 655: // statement = try_with_resource.try_with_resource
+			case 666: // primary_no_new_array = constructor_reference.constructor_reference
+			case 671: // abstract_method_declaration = interface_method_declaration.interface_method_declaration
+			case 700: // primary_no_new_array = lambda_expression.lambda_expression
+			case 758: // primary_no_new_array = method_reference.method_reference
+			case 766: // nongeneric_type = primitive_type.primitive_type
+			case 767: // nongeneric_type = nongeneric_reference_type.nongeneric_reference_type
+			case 768: // nongeneric_reference_type = nongeneric_class_or_interface_type.nongeneric_class_or_interface_type
+			case 769: // nongeneric_reference_type = nongeneric_array_type.nongeneric_array_type
+			case 770: // nongeneric_class_or_interface_type = name.name
+			{
+				return _symbols[offset + 1];
+			}
+			case 50: // package_with_comment = doc_comment_list.doc_comment_list package_declaration.package_declaration
+			case 57: // import_with_comment = doc_comment_list.doc_comment_list import_declaration.import_declaration
+			case 749: // comma_formal_parameter_list = COMMA.COMMA formal_parameter_list_no_vararg_mixed_array.l
+			{
+				return _symbols[offset + 2];
+			}
+			default:
+				throw new IllegalArgumentException("unknown production #" + rule_num);
+		}
+	}
+}